@@ -48,6 +48,7 @@ import com.android.dialer.BackScrollManager.ScrollableHeader;
 import com.android.dialer.calllog.CallDetailHistoryAdapter;
 import com.android.dialer.calllog.CallTypeHelper;
 import com.android.dialer.calllog.ContactInfo;
+import com.android.dialer.calllog.ContactInfoCache;
 import com.android.dialer.calllog.ContactInfoHelper;
 import com.android.dialer.calllog.PhoneNumberHelper;
 import com.android.dialer.util.AsyncTaskExecutor;
@@ -97,6 +98,7 @@ public class CallDetailActivity extends Activity implements ProximitySensorAware
     private TextView mHeaderTextView;
     private AsyncTaskExecutor mAsyncTaskExecutor;
     private ContactInfoHelper mContactInfoHelper;
+    private ContactInfoCache mContactInfoCache;
 
     private String mNumber = null;
     private String mDefaultCountryIso;
@@ -215,6 +217,7 @@ public class CallDetailActivity extends Activity implements ProximitySensorAware
         mDefaultCountryIso = GeoUtil.getCurrentCountryIso(this);
         mProximitySensorManager = new ProximitySensorManager(this, mProximitySensorListener);
         mContactInfoHelper = new ContactInfoHelper(this, GeoUtil.getCurrentCountryIso(this));
+        mContactInfoCache = ContactInfoCache.getInstance(this);
         configureActionBar();
         optionallyHandleVoicemail();
         if (getIntent().getBooleanExtra(EXTRA_FROM_NOTIFICATION, false)) {
@@ -434,7 +437,7 @@ public class CallDetailActivity extends Activity implements ProximitySensorAware
             ContactInfo info =
                     mPhoneNumberHelper.canPlaceCallsTo(number)
                     && !mPhoneNumberHelper.isVoicemailNumber(number)
-                            ? mContactInfoHelper.lookupNumber(number, countryIso)
+                            ? mContactInfoCache.lookupNumber(mContactInfoHelper, number, countryIso)
                             : null;
             if (info == null) {
                 formattedNumber = mPhoneNumberHelper.getDisplayNumber(number, null);
@@ -19,10 +19,17 @@ package com.android.dialer;
 import android.app.Application;
 
 import com.android.contacts.common.ContactPhotoManager;
+import com.android.dialer.util.HanziToPinyin;
 
 public final class DialerApplication extends Application {
     private ContactPhotoManager mContactPhotoManager;
 
+    @Override
+    public void onCreate() {
+        super.onCreate();
+        HanziToPinyin.init(this);
+    }
+
     @Override
     public Object getSystemService(String name) {
         if (ContactPhotoManager.CONTACT_PHOTO_SERVICE.equals(name)) {
@@ -38,13 +38,13 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Objects;
 
 import java.util.LinkedList;
-import com.android.phone.location.PhoneLocation;
 
 /**
  * Adapter class to fill in data for the Call Log.
  */
 /*package*/ class CallLogAdapter extends GroupingListAdapter
-        implements CallLogAdapterHelper.Callback, CallLogGroupBuilder.GroupCreator {
+        implements CallLogAdapterHelper.Callback, CallLogGroupBuilder.GroupCreator,
+        CallLogGeocoder.Listener {
     /** Interface used to initiate a refresh of the content. */
     public interface CallFetcher {
         public void fetchCalls();
@@ -68,6 +68,12 @@ import com.android.phone.location.PhoneLocation;
 
     private final CallLogAdapterHelper mAdapterHelper;
 
+    /** Writes the contact info of the numbers back to the call log. */
+    private final CallLogCacheWriter mCacheWriter;
+
+    /** Looks up the locations of numbers in China and Taiwan, null in other locales. */
+    private final CallLogGeocoder mGeocoder;
+
     /** Listener for the primary action in the list, opens the call details. */
     private final View.OnClickListener mPrimaryActionListener = new View.OnClickListener() {
         @Override
@@ -110,14 +116,31 @@ import com.android.phone.location.PhoneLocation;
                 new CallLogListItemHelper(
                         phoneCallDetailsHelper, mPhoneNumberHelper, resources);
         mCallLogGroupBuilder = new CallLogGroupBuilder(this);
+        mCacheWriter = new CallLogCacheWriter(context.getContentResolver());
+
+        final String country = resources.getConfiguration().locale.getCountry();
+        mGeocoder = (country.equals("CN") || country.equals("TW"))
+                ? new CallLogGeocoder(this) : null;
     }
 
+    /** Fetches the calls once the contact info written back to the call log was notified. */
+    private final Runnable mDeferredContentChanged = new Runnable() {
+        @Override
+        public void run() {
+            onContentChanged();
+        }
+    };
+
     /**
      * Requery on background thread when {@link Cursor} changes.
      */
     @Override
     protected void onContentChanged() {
-        mCallFetcher.fetchCalls();
+        // Every row the contact info is written back to is notified: fetch the calls once for
+        // all of them, and for the new calls notified meanwhile, after they were written.
+        if (!mCacheWriter.deferIfSelfChange(mDeferredContentChanged)) {
+            mCallFetcher.fetchCalls();
+        }
     }
 
     void setLoading(boolean loading) {
@@ -256,10 +279,13 @@ import com.android.phone.location.PhoneLocation;
         final long photoId = info.photoId;
         CharSequence formattedNumber = info.formattedNumber;
         final int[] callTypes = getCallTypes(c, count);
-        final String geocode;
-        if (mContext.getResources().getConfiguration().locale.getCountry().equals("CN") || mContext.getResources().getConfiguration().locale.getCountry().equals("TW")) {
-            geocode = PhoneLocation.getCityFromPhone(c.getString(CallLogQuery.NUMBER).trim());
-        } else {
+        String geocode = null;
+        if (mGeocoder != null && TextUtils.isEmpty(name) && number != null) {
+            // Only rows without a name show the location. Until it is looked up, or if it is
+            // not known, show the one stored in the call log.
+            geocode = mGeocoder.getLocation(number);
+        }
+        if (TextUtils.isEmpty(geocode)) {
             geocode = c.getString(CallLogQuery.GEOCODED_LOCATION);
         }
         final PhoneCallDetails details;
@@ -297,7 +323,15 @@ import com.android.phone.location.PhoneLocation;
         notifyDataSetChanged();
     }
 
-    /** Stores the updated contact info in the call log if it is different from the current one. */
+    @Override
+    public void onLocationsLoaded() {
+        notifyDataSetChanged();
+    }
+
+    /**
+     * Stores the updated contact info in the call log if it is different from the current one.
+     * The updates are written in batches, see {@link CallLogCacheWriter}.
+     */
     @Override
     public void updateContactInfo(String number, String countryIso,
             ContactInfo updatedInfo, ContactInfo callLogInfo) {
@@ -354,15 +388,22 @@ import com.android.phone.location.PhoneLocation;
 
         if (!needsUpdate) return;
 
-        if (countryIso == null) {
-            mContext.getContentResolver().update(Calls.CONTENT_URI_WITH_VOICEMAIL, values,
-                    Calls.NUMBER + " = ? AND " + Calls.COUNTRY_ISO + " IS NULL",
-                    new String[]{ number });
-        } else {
-            mContext.getContentResolver().update(Calls.CONTENT_URI_WITH_VOICEMAIL, values,
-                    Calls.NUMBER + " = ? AND " + Calls.COUNTRY_ISO + " = ?",
-                    new String[]{ number, countryIso });
-        }
+        mCacheWriter.enqueueUpdate(number, countryIso, values);
+    }
+
+    /**
+     * Defers a task handling a change to the call log until the contact info being written back
+     * to it by this adapter was notified, see {@link CallLogCacheWriter#deferIfSelfChange}.
+     *
+     * @return true if the task was deferred, false if the caller has to handle the change now
+     */
+    public boolean deferIfSelfChange(Runnable task) {
+        return mCacheWriter.deferIfSelfChange(task);
+    }
+
+    /** Cancels a task deferred by {@link #deferIfSelfChange}, if it did not run yet. */
+    public void cancelDeferred(Runnable task) {
+        mCacheWriter.cancelDeferred(task);
     }
 
     /** Returns the contact information as stored in the call log. */
@@ -433,6 +474,12 @@ import com.android.phone.location.PhoneLocation;
 
     public void stopRequestProcessing() {
         mAdapterHelper.stopRequestProcessing();
+        mCacheWriter.flushSoon();
+        // The fragment fetches the calls that changed meanwhile when it is resumed
+        mCacheWriter.cancelDeferred(mDeferredContentChanged);
+        if (mGeocoder != null) {
+            mGeocoder.cancel();
+        }
     }
 
     public void invalidateCache() {
@@ -21,6 +21,7 @@ import android.database.Cursor;
 import android.net.Uri;
 import android.os.Handler;
 import android.os.Message;
+import android.os.Process;
 import android.provider.ContactsContract.PhoneLookup;
 import android.text.TextUtils;
 import android.view.View;
@@ -28,9 +29,19 @@ import android.view.ViewTreeObserver;
 
 import com.android.dialer.util.ExpirableCache;
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.base.Objects;
-
-import java.util.LinkedList;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Adapter class to fill in data for the Call Log.
@@ -82,105 +93,121 @@ public class CallLogAdapterHelper implements ViewTreeObserver.OnPreDrawListener
         /** The country in which a call to or from this number was placed or received. */
         public final String countryIso;
         /** The cached contact information stored in the call log. */
-        public final ContactInfo callLogInfo;
-
-        public ContactInfoRequest(String number, String countryIso, ContactInfo callLogInfo) {
+        public ContactInfo callLogInfo;
+        /** Whether the contact details are missing, rather than out of date. */
+        public boolean immediate;
+        /** Order in which the requests were last made, the latest having the largest. */
+        public long sequence;
+
+        public ContactInfoRequest(String number, String countryIso, ContactInfo callLogInfo,
+                boolean immediate) {
             this.number = number;
             this.countryIso = countryIso;
             this.callLogInfo = callLogInfo;
-        }
-
-        @Override
-        public boolean equals(Object obj) {
-            if (this == obj) return true;
-            if (obj == null) return false;
-            if (!(obj instanceof ContactInfoRequest)) return false;
-
-            ContactInfoRequest other = (ContactInfoRequest) obj;
-
-            if (!TextUtils.equals(number, other.number)) return false;
-            if (!TextUtils.equals(countryIso, other.countryIso)) return false;
-            if (!Objects.equal(callLogInfo, other.callLogInfo)) return false;
-
-            return true;
-        }
-
-        @Override
-        public int hashCode() {
-            final int prime = 31;
-            int result = 1;
-            result = prime * result + ((callLogInfo == null) ? 0 : callLogInfo.hashCode());
-            result = prime * result + ((countryIso == null) ? 0 : countryIso.hashCode());
-            result = prime * result + ((number == null) ? 0 : number.hashCode());
-            return result;
+            this.immediate = immediate;
         }
     }
 
-    /*
-     * Handles requests for contact name and number type.
+    /**
+     * Orders requests by priority, highest first: requests for missing contact details before
+     * requests for out of date ones, and within each, the latest requests first, since they were
+     * made for the rows currently on screen.
      */
-    private class QueryThread extends Thread {
-        private volatile boolean mDone = false;
+    private static final Comparator<ContactInfoRequest> REQUEST_PRIORITY =
+            new Comparator<ContactInfoRequest>() {
+                @Override
+                public int compare(ContactInfoRequest lhs, ContactInfoRequest rhs) {
+                    if (lhs.immediate != rhs.immediate) {
+                        return lhs.immediate ? -1 : 1;
+                    }
+                    return Long.compare(rhs.sequence, lhs.sequence);
+                }
+            };
 
-        public QueryThread() {
-            super("CallLogAdapter.QueryThread");
-        }
+    /*
+     * Handles requests for contact name and number type, until there are none left or the
+     * processing of requests is stopped. Requests are handled one at a time, unless so many are
+     * pending that looking them all up together is cheaper, see
+     * {@link ContactInfoHelper#lookupNumbers}.
+     */
+    private class QueryTask implements Runnable {
+        private final int mGeneration;
 
-        public void stopProcessing() {
-            mDone = true;
+        public QueryTask(int generation) {
+            mGeneration = generation;
         }
 
         @Override
         public void run() {
-            boolean needRedraw = false;
             while (true) {
-                // Check if thread is finished, and if so return immediately.
-                if (mDone) return;
-
-                // Obtain next request, if any is available.
                 // Keep synchronized section small.
-                ContactInfoRequest req = null;
+                final ArrayList<ContactInfoRequest> requests;
                 synchronized (mRequests) {
-                    if (!mRequests.isEmpty()) {
-                        req = mRequests.removeFirst();
+                    if (mGeneration != mProcessingGeneration || mRequests.isEmpty()) {
+                        mActiveQueryTasks--;
+                        if (mProcessingStarted) {
+                            // Take over from this task if processing was restarted
+                            startQueryTasksLocked();
+                        }
+                        return;
                     }
-                }
-
-                if (req != null) {
-                    // Process the request. If the lookup succeeds, schedule a
-                    // redraw.
-                    needRedraw |= queryContactInfo(req.number, req.countryIso, req.callLogInfo);
-                } else {
-                    // Throttle redraw rate by only sending them when there are
-                    // more requests.
-                    if (needRedraw) {
-                        needRedraw = false;
-                        mHandler.sendEmptyMessage(REDRAW);
+                    final int count = (mRequests.size() >= ContactInfoHelper.MIN_BULK_LOOKUP_SIZE)
+                            ? mRequests.size() : 1;
+                    requests = Lists.newArrayListWithCapacity(count);
+                    for (int i = 0; i < count; i++) {
+                        final ContactInfoRequest req = mRequests.pollFirst();
+                        mRequestsByNumber.remove(
+                                new NumberWithCountryIso(req.number, req.countryIso));
+                        requests.add(req);
                     }
+                }
 
-                    // Wait until another request is available, or until this
-                    // thread is no longer needed (as indicated by being
-                    // interrupted).
-                    try {
-                        synchronized (mRequests) {
-                            mRequests.wait(1000);
-                        }
-                    } catch (InterruptedException ie) {
-                        // Ignore, and attempt to continue processing requests.
-                    }
+                // Process the requests. If a lookup updates the cache, schedule a redraw, which
+                // covers the other lookups completing in the meantime.
+                if (queryContactInfo(requests)) {
+                    scheduleRedraw();
                 }
             }
         }
     }
 
+    /*
+     * Handles the requests made by {@link #lookupContacts}, all at once.
+     */
+    private class BulkQueryTask implements Runnable {
+        private final List<ContactInfoRequest> mBulkRequests;
+
+        public BulkQueryTask(List<ContactInfoRequest> requests) {
+            mBulkRequests = requests;
+        }
+
+        @Override
+        public void run() {
+            if (queryContactInfo(mBulkRequests)) {
+                scheduleRedraw();
+            }
+        }
+    }
+
     private static final int REDRAW = 1;
-    private static final int START_THREAD = 2;
+    private static final int START_PROCESSING = 2;
+
+    /** The time in millis redraws are delayed by, so that they cover several lookups. */
+    private static final int REDRAW_DELAY_MILLIS = 100;
 
-    /** The time in millis to delay starting the thread processing requests. */
-    private static final int START_PROCESSING_REQUESTS_DELAY_MILLIS = 1000;
+    /** The maximum number of threads looking up contact details at the same time. */
+    private static final int MAX_QUERY_THREADS = 2;
 
-    /** The size of the cache of contact info. */
-    private static final int CONTACT_INFO_CACHE_SIZE = 100;
+    /** The time in seconds after which threads with no requests left to process stop. */
+    private static final int QUERY_THREAD_KEEP_ALIVE_SECONDS = 10;
+
+    /**
+     * The maximum number of pending requests, about three screens of rows. Beyond that, the
+     * requests made for the rows that were shown the longest time ago are dropped, since those
+     * rows were most likely scrolled away.
+     */
+    @VisibleForTesting
+    static final int MAX_PENDING_REQUESTS = 64;
 
     private Callback mCb;
     private final Context mContext;
@@ -188,29 +215,41 @@ public class CallLogAdapterHelper implements ViewTreeObserver.OnPreDrawListener
     private final PhoneNumberHelper mPhoneNumberHelper;
 
     /**
-     * A cache of the contact details for the phone numbers in the call log.
+     * A cache of the contact details for the phone numbers in the call log, shared with the other
+     * screens of the process.
      * <p>
-     * The content of the cache is expired (but not purged) whenever the application comes to
-     * the foreground.
+     * The content of the cache is expired (but not purged) whenever the contacts change.
      * <p>
      * The key is number with the country in which the call was placed or received.
      */
-    private ExpirableCache<NumberWithCountryIso, ContactInfo> mContactInfoCache;
+    private final ContactInfoCache mContactInfoCache;
 
-    private QueryThread mCallerIdThread;
     /** Can be set to true by tests to disable processing of requests. */
     private volatile boolean mRequestProcessingDisabled = false;
 
     /**
-     * List of requests to update contact details.
+     * Requests to update contact details, in order of priority, see {@link #REQUEST_PRIORITY}.
      * <p>
      * Each request is made of a phone number to look up, and the contact info currently stored in
      * the call log for this number.
      * <p>
-     * The requests are added when displaying the contacts and are processed by a background
-     * thread.
+     * The requests are added when displaying the contacts and are processed by up to
+     * {@link #MAX_QUERY_THREADS} background threads. This also guards the fields below.
      */
-    private final LinkedList<ContactInfoRequest> mRequests;
+    private final TreeSet<ContactInfoRequest> mRequests =
+            new TreeSet<ContactInfoRequest>(REQUEST_PRIORITY);
+    /** The requests in {@link #mRequests} by number, at most one per number. */
+    private final HashMap<NumberWithCountryIso, ContactInfoRequest> mRequestsByNumber =
+            Maps.newHashMap();
+    private long mRequestSequence;
+    /** Whether requests are being processed, see {@link #startRequestProcessing()}. */
+    private boolean mProcessingStarted;
+    /** Incremented when processing stops, so that the tasks started before stop. */
+    private int mProcessingGeneration;
+    /** The number of {@link QueryTask}s submitted to {@link #mQueryExecutor} and not done. */
+    private int mActiveQueryTasks;
+
+    private final ThreadPoolExecutor mQueryExecutor;
 
     private ViewTreeObserver mViewTreeObserver = null;
 
@@ -221,7 +260,7 @@ public class CallLogAdapterHelper implements ViewTreeObserver.OnPreDrawListener
                 case REDRAW:
                     mCb.dataSetChanged();
                     break;
-                case START_THREAD:
+                case START_PROCESSING:
                     startRequestProcessing();
                     break;
             }
@@ -233,33 +272,88 @@ public class CallLogAdapterHelper implements ViewTreeObserver.OnPreDrawListener
      * <p>
      * It also provides the current contact info stored in the call log for this number.
      * <p>
-     * If the {@code immediate} parameter is true, it will start immediately the thread that looks
-     * up the contact information (if it has not been already started). Otherwise, it will be
-     * started with a delay. See {@link #START_PROCESSING_REQUESTS_DELAY_MILLIS}.
+     * If the {@code immediate} parameter is true, the contact details are missing: the request
+     * goes before those for out of date details, and it starts processing requests right away
+     * (if it has not been already started). Otherwise, processing starts after the next draw.
+     * <p>
+     * A request for a number that is already pending replaces it, and moves it ahead of the
+     * other requests of the same kind.
      */
     @VisibleForTesting
     void enqueueRequest(String number, String countryIso, ContactInfo callLogInfo,
             boolean immediate) {
-        ContactInfoRequest request = new ContactInfoRequest(number, countryIso, callLogInfo);
+        final NumberWithCountryIso key = new NumberWithCountryIso(number, countryIso);
         synchronized (mRequests) {
-            if (!mRequests.contains(request)) {
-                mRequests.add(request);
-                mRequests.notifyAll();
+            ContactInfoRequest request = mRequestsByNumber.get(key);
+            if (request != null) {
+                mRequests.remove(request);
+                request.callLogInfo = callLogInfo;
+                request.immediate |= immediate;
+            } else {
+                request = new ContactInfoRequest(number, countryIso, callLogInfo, immediate);
+                mRequestsByNumber.put(key, request);
+            }
+            request.sequence = ++mRequestSequence;
+            mRequests.add(request);
+
+            if (mRequests.size() > MAX_PENDING_REQUESTS) {
+                dropRequestLocked(mRequests.last());
+            }
+            if (mProcessingStarted) {
+                startQueryTasksLocked();
             }
         }
         if (immediate) startRequestProcessing();
     }
 
+    /**
+     * Schedules a redraw, unless one is already scheduled.
+     */
+    private void scheduleRedraw() {
+        if (!mHandler.hasMessages(REDRAW)) {
+            mHandler.sendEmptyMessageDelayed(REDRAW, REDRAW_DELAY_MILLIS);
+        }
+    }
+
+    /**
+     * Drops a pending request, so that the number is requested again when its row is shown.
+     */
+    private void dropRequestLocked(ContactInfoRequest request) {
+        mRequests.remove(request);
+        final NumberWithCountryIso key =
+                new NumberWithCountryIso(request.number, request.countryIso);
+        mRequestsByNumber.remove(key);
+        removePlaceholder(key);
+    }
+
+    /**
+     * Removes the placeholder put in the cache by {@link #lookupContact} while the number is
+     * looked up, if it is still there. The cache is shared with the other screens, which do not
+     * request numbers that have a placeholder, so it must not outlive the request it stands for.
+     */
+    private void removePlaceholder(NumberWithCountryIso key) {
+        if (mContactInfoCache.getPossiblyExpired(key) == ContactInfo.EMPTY) {
+            mContactInfoCache.remove(key);
+        }
+    }
+
+    /**
+     * Submits query tasks for the pending requests, up to {@link #MAX_QUERY_THREADS} of them.
+     */
+    private void startQueryTasksLocked() {
+        while (mActiveQueryTasks < MAX_QUERY_THREADS && mActiveQueryTasks < mRequests.size()) {
+            mActiveQueryTasks++;
+            mQueryExecutor.execute(new QueryTask(mProcessingGeneration));
+        }
+    }
+
     @Override
     public boolean onPreDraw() {
         // We only wanted to listen for the first draw (and this is it).
         unregisterPreDrawListener();
 
-        // Only schedule a thread-creation message if the thread hasn't been
-        // created yet. This is purely an optimization, to queue fewer messages.
-        if (mCallerIdThread == null) {
-            mHandler.sendEmptyMessageDelayed(START_THREAD, START_PROCESSING_REQUESTS_DELAY_MILLIS);
-        }
+        // Start processing the requests once the list is shown.
+        mHandler.sendEmptyMessage(START_PROCESSING);
 
         return true;
     }
@@ -282,74 +376,93 @@ public class CallLogAdapterHelper implements ViewTreeObserver.OnPreDrawListener
         mViewTreeObserver = null;
     }
 
+    /**
+     * Makes the contact details be requested again once the list is next drawn. The cache itself
+     * is expired by {@link ContactInfoCache} when the contacts change.
+     */
     public void invalidateCache() {
-        mContactInfoCache.expireAll();
-
         // Restart the request-processing thread after the next draw.
         stopRequestProcessing();
         unregisterPreDrawListener();
     }
 
     /**
-     * Starts a background thread to process contact-lookup requests, unless one
-     * has already been started.
+     * Starts processing contact-lookup requests in the background, unless it has already been
+     * started.
      */
     private synchronized void startRequestProcessing() {
         // For unit-testing.
         if (mRequestProcessingDisabled) return;
 
-        // Idempotence... if a thread is already started, don't start another.
-        if (mCallerIdThread != null) return;
+        synchronized (mRequests) {
+            // Idempotence... if processing is already started, don't start it again.
+            if (mProcessingStarted) return;
 
-        mCallerIdThread = new QueryThread();
-        mCallerIdThread.setPriority(Thread.MIN_PRIORITY);
-        mCallerIdThread.start();
+            mProcessingStarted = true;
+            startQueryTasksLocked();
+        }
     }
 
     /**
-     * Stops the background thread that processes updates and cancels any
-     * pending requests to start it.
+     * Stops processing requests once the lookups in progress complete, and cancels any pending
+     * requests to start it. The requests that were not processed are kept, but not their
+     * placeholders in the cache, since the screen may not come back to process them.
      */
     public synchronized void stopRequestProcessing() {
-        // Remove any pending requests to start the processing thread.
-        mHandler.removeMessages(START_THREAD);
-        if (mCallerIdThread != null) {
-            // Stop the thread; we are finished with it.
-            mCallerIdThread.stopProcessing();
-            mCallerIdThread.interrupt();
-            mCallerIdThread = null;
+        // Remove any pending requests to start processing.
+        mHandler.removeMessages(START_PROCESSING);
+        synchronized (mRequests) {
+            mProcessingStarted = false;
+            mProcessingGeneration++;
+            for (ContactInfoRequest request : mRequests) {
+                removePlaceholder(new NumberWithCountryIso(request.number, request.countryIso));
+            }
         }
     }
 
     /**
-     * Queries the appropriate content provider for the contact associated with the number.
+     * Queries the appropriate content provider for the contacts associated with the numbers of
+     * the given requests.
      * <p>
-     * Upon completion it also updates the cache in the call log, if it is different from
-     * {@code callLogInfo}.
+     * Upon completion it also updates the cache in the call log, for each number whose contact
+     * is different from the {@code callLogInfo} of its request.
      * <p>
-     * The number might be either a SIP address or a phone number.
+     * The numbers might be either SIP addresses or phone numbers.
      * <p>
      * It returns true if it updated the content of the cache and we should therefore tell the
      * view to update its content.
      */
-    private boolean queryContactInfo(String number, String countryIso, ContactInfo callLogInfo) {
-        final ContactInfo info = mContactInfoHelper.lookupNumber(number, countryIso);
-
-        if (info == null) {
-            // The lookup failed, just return without requesting to update the view.
-            return false;
+    private boolean queryContactInfo(List<ContactInfoRequest> requests) {
+        final ArrayList<NumberWithCountryIso> numbers =
+                Lists.newArrayListWithCapacity(requests.size());
+        for (ContactInfoRequest req : requests) {
+            numbers.add(new NumberWithCountryIso(req.number, req.countryIso));
         }
+        final Map<NumberWithCountryIso, ContactInfo> infos =
+                mContactInfoHelper.lookupNumbers(numbers);
+
+        boolean updated = false;
+        for (int i = 0; i < requests.size(); i++) {
+            final NumberWithCountryIso numberCountryIso = numbers.get(i);
+            final ContactInfo info = infos.get(numberCountryIso);
+            if (info == null) {
+                // The lookup failed, skip it without requesting to update the view. The number
+                // is requested again when its row is next shown.
+                removePlaceholder(numberCountryIso);
+                continue;
+            }
 
-        // Check the existing entry in the cache: only if it has changed we should update the
-        // view.
-        NumberWithCountryIso numberCountryIso = new NumberWithCountryIso(number, countryIso);
-        ContactInfo existingInfo = mContactInfoCache.getPossiblyExpired(numberCountryIso);
-        boolean updated = (existingInfo != ContactInfo.EMPTY) && !info.equals(existingInfo);
+            // Check the existing entry in the cache: only if it has changed we should update the
+            // view.
+            ContactInfo existingInfo = mContactInfoCache.getPossiblyExpired(numberCountryIso);
+            updated |= (existingInfo != ContactInfo.EMPTY) && !info.equals(existingInfo);
 
-        // Store the data in the cache so that the UI thread can use to display it. Store it
-        // even if it has not changed so that it is marked as not expired.
-        mContactInfoCache.put(numberCountryIso, info);
-        mCb.updateContactInfo(number, countryIso, info, callLogInfo);
+            // Store the data in the cache so that the UI thread can use to display it. Store it
+            // even if it has not changed so that it is marked as not expired.
+            mContactInfoCache.put(numberCountryIso, info);
+            mCb.updateContactInfo(numberCountryIso.number, numberCountryIso.countryIso, info,
+                    requests.get(i).callLogInfo);
+        }
         return updated;
     }
 
@@ -403,6 +516,38 @@ public class CallLogAdapterHelper implements ViewTreeObserver.OnPreDrawListener
 
 
     public ContactInfo lookupContact(String number, String countryIso, ContactInfo cachedContactInfo) {
+        return lookupContact(number, countryIso, cachedContactInfo, null);
+    }
+
+    /**
+     * Looks up the contact details of many numbers at once, for lists that do not show a row per
+     * number, such as the call stats.
+     * <p>
+     * As with {@link #lookupContact}, only the numbers whose details are missing or out of date
+     * are looked up, and the callback is told about the details of each of them. They are looked
+     * up together by a single background task, which no other requests can push out of the queue.
+     *
+     * @param callLogInfos the cached contact info stored in the call log, by number
+     */
+    public void lookupContacts(Map<NumberWithCountryIso, ContactInfo> callLogInfos) {
+        final ArrayList<ContactInfoRequest> requests = Lists.newArrayList();
+        for (Map.Entry<NumberWithCountryIso, ContactInfo> entry : callLogInfos.entrySet()) {
+            final NumberWithCountryIso key = entry.getKey();
+            lookupContact(key.number, key.countryIso, entry.getValue(), requests);
+        }
+        // Tests may have disabled the processing of requests.
+        if (!requests.isEmpty() && !mRequestProcessingDisabled) {
+            mQueryExecutor.execute(new BulkQueryTask(requests));
+        }
+    }
+
+    /**
+     * Returns the contact info to show for a number, and requests the contact details to be
+     * looked up if they are missing or out of date: into {@code bulkRequests} if it is not null,
+     * otherwise with {@link #enqueueRequest}.
+     */
+    private ContactInfo lookupContact(String number, String countryIso,
+            ContactInfo cachedContactInfo, List<ContactInfoRequest> bulkRequests) {
         NumberWithCountryIso numberCountryIso = new NumberWithCountryIso(number, countryIso);
         ExpirableCache.CachedValue<ContactInfo> cachedInfo =
                 mContactInfoCache.getCachedValue(numberCountryIso);
@@ -418,19 +563,19 @@ public class CallLogAdapterHelper implements ViewTreeObserver.OnPreDrawListener
             info = cachedContactInfo;
             // The db request should happen on a non-UI thread.
             // Request the contact details immediately since they are currently missing.
-            enqueueRequest(number, countryIso, cachedContactInfo, true);
+            requestLookup(number, countryIso, cachedContactInfo, true, bulkRequests);
             // We will format the phone number when we make the background request.
         } else {
             if (cachedInfo.isExpired()) {
                 // The contact info is no longer up to date, we should request it. However, we
                 // do not need to request them immediately.
-                enqueueRequest(number, countryIso, cachedContactInfo, false);
+                requestLookup(number, countryIso, cachedContactInfo, false, bulkRequests);
             } else  if (!callLogInfoMatches(cachedContactInfo, info)) {
                 // The call log information does not match the one we have, look it up again.
                 // We could simply update the call log directly, but that needs to be done in a
                 // background thread, so it is easier to simply request a new lookup, which will, as
                 // a side-effect, update the call log.
-                enqueueRequest(number, countryIso, cachedContactInfo, false);
+                requestLookup(number, countryIso, cachedContactInfo, false, bulkRequests);
             }
 
             if (info == ContactInfo.EMPTY) {
@@ -442,6 +587,15 @@ public class CallLogAdapterHelper implements ViewTreeObserver.OnPreDrawListener
         return info;
     }
 
+    private void requestLookup(String number, String countryIso, ContactInfo callLogInfo,
+            boolean immediate, List<ContactInfoRequest> bulkRequests) {
+        if (bulkRequests != null) {
+            bulkRequests.add(new ContactInfoRequest(number, countryIso, callLogInfo, immediate));
+        } else {
+            enqueueRequest(number, countryIso, callLogInfo, immediate);
+        }
+    }
+
     public CallLogAdapterHelper(Context context, Callback cb,
             ContactInfoHelper contactInfoHelper,
             PhoneNumberHelper phoneNumberHelper) {
@@ -450,8 +604,22 @@ public class CallLogAdapterHelper implements ViewTreeObserver.OnPreDrawListener
         mContactInfoHelper = contactInfoHelper;
         mPhoneNumberHelper = phoneNumberHelper;
 
-        mContactInfoCache = ExpirableCache.create(CONTACT_INFO_CACHE_SIZE);
-        mRequests = new LinkedList<ContactInfoRequest>();
+        mContactInfoCache = ContactInfoCache.getInstance(context);
+        mQueryExecutor = new ThreadPoolExecutor(MAX_QUERY_THREADS, MAX_QUERY_THREADS,
+                QUERY_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+                    @Override
+                    public Thread newThread(final Runnable r) {
+                        return new Thread(new Runnable() {
+                            @Override
+                            public void run() {
+                                Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+                                r.run();
+                            }
+                        }, "CallLogAdapter.QueryThread");
+                    }
+                });
+        mQueryExecutor.allowCoreThreadTimeOut(true);
     }
 
     /**
@@ -465,6 +633,20 @@ public class CallLogAdapterHelper implements ViewTreeObserver.OnPreDrawListener
         mRequestProcessingDisabled = true;
     }
 
+    /**
+     * Returns the numbers of the pending requests, in the order they are to be processed.
+     */
+    @VisibleForTesting
+    List<String> getPendingNumbersForTest() {
+        synchronized (mRequests) {
+            final ArrayList<String> numbers = Lists.newArrayListWithCapacity(mRequests.size());
+            for (ContactInfoRequest request : mRequests) {
+                numbers.add(request.number);
+            }
+            return numbers;
+        }
+    }
+
     @VisibleForTesting
     void injectContactInfoForTest(String number, String countryIso, ContactInfo contactInfo) {
         NumberWithCountryIso numberCountryIso = new NumberWithCountryIso(number, countryIso);
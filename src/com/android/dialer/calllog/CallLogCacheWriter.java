@@ -0,0 +1,228 @@
+/*
+ * Copyright (C) 2013 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.dialer.calllog;
+
+import android.content.ContentProviderOperation;
+import android.content.ContentResolver;
+import android.content.ContentValues;
+import android.content.OperationApplicationException;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.RemoteException;
+import android.os.SystemClock;
+import android.provider.CallLog;
+import android.provider.CallLog.Calls;
+import android.util.Log;
+
+import com.android.dialer.calllog.CallLogAdapterHelper.NumberWithCountryIso;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes the contact info cached in the call log back to it in batches.
+ *
+ * <p>Updates of the CACHED_* columns are queued by number, later updates of a number being merged
+ * into the queued one, and are applied by a single {@link ContentResolver#applyBatch} once
+ * {@link #FLUSH_DELAY_MILLIS} passed since the first of them was queued, or as soon as
+ * {@link #MAX_BATCH_SIZE} numbers are queued.</p>
+ *
+ * <p>Every updated row notifies the observers of the call log. Such notifications cannot be told
+ * apart from those of new calls, so {@link #deferIfSelfChange} lets observers handle the changes
+ * notified while a batch is written once, after it was written, rather than once per row.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ */
+/*package*/ class CallLogCacheWriter {
+    private static final String TAG = "CallLogCacheWriter";
+
+    /** Time the updates are queued for before they are written. */
+    @VisibleForTesting
+    static final long FLUSH_DELAY_MILLIS = 1000;
+    /** Number of queued numbers after which the updates are written right away. */
+    @VisibleForTesting
+    static final int MAX_BATCH_SIZE = 50;
+    /**
+     * Time after a batch was written during which changes to the call log are considered to be
+     * caused by it, since their notifications are delivered asynchronously.
+     */
+    @VisibleForTesting
+    static final long SELF_CHANGE_WINDOW_MILLIS = 500;
+
+    /** Writes the batches of all instances, one at a time. */
+    private static ScheduledExecutorService sExecutor;
+
+    private final ContentResolver mResolver;
+    /** Runs the deferred tasks, on the main thread. */
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
+
+    /** Queued values by number, guarded by itself. */
+    private final LinkedHashMap<NumberWithCountryIso, ContentValues> mPending =
+            Maps.newLinkedHashMap();
+    /** True while a flush is scheduled, guarded by {@link #mPending}. */
+    private boolean mFlushScheduled;
+
+    /** Number of batches being written. */
+    private volatile int mFlushesInProgress;
+    /** Time at which the last batch was written. */
+    private volatile long mLastFlushMillis = Long.MIN_VALUE / 2;
+
+    private final Runnable mFlushTask = new Runnable() {
+        @Override
+        public void run() {
+            flush();
+        }
+    };
+
+    public CallLogCacheWriter(ContentResolver resolver) {
+        mResolver = resolver;
+    }
+
+    /**
+     * Queues an update of the calls with the given number and country.
+     *
+     * @param values Values of the CACHED_* columns to write.
+     */
+    public void enqueueUpdate(String number, String countryIso, ContentValues values) {
+        synchronized (mPending) {
+            final NumberWithCountryIso key = new NumberWithCountryIso(number, countryIso);
+            final ContentValues pending = mPending.get(key);
+            if (pending != null) {
+                pending.putAll(values);
+            } else {
+                mPending.put(key, new ContentValues(values));
+            }
+            if (mPending.size() >= MAX_BATCH_SIZE) {
+                getExecutor().execute(mFlushTask);
+            } else if (!mFlushScheduled) {
+                getExecutor().schedule(mFlushTask, FLUSH_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+            } else {
+                return;
+            }
+            mFlushScheduled = true;
+        }
+    }
+
+    /**
+     * Writes the queued updates soon, rather than after the usual delay.
+     */
+    public void flushSoon() {
+        getExecutor().execute(mFlushTask);
+    }
+
+    private static synchronized ScheduledExecutorService getExecutor() {
+        if (sExecutor == null) {
+            sExecutor = Executors.newSingleThreadScheduledExecutor();
+        }
+        return sExecutor;
+    }
+
+    /**
+     * Defers a task handling a change to the call log if the change may have been caused by the
+     * updates written by this writer: a batch is being written, or was written less than
+     * {@link #SELF_CHANGE_WINDOW_MILLIS} ago. The task is then run on the main thread once that
+     * window ends, and is only run once however many times it was deferred until then. It is
+     * expected to call this method again, in case another batch was written in the meantime.
+     *
+     * <p>The change may also be a new call, or calls being marked as read, so it is never
+     * ignored: the task only handles all the changes notified during the window at once.</p>
+     *
+     * @return true if the task was deferred, false if the caller has to handle the change now
+     */
+    public boolean deferIfSelfChange(Runnable task) {
+        final long delayMillis;
+        if (mFlushesInProgress > 0) {
+            delayMillis = SELF_CHANGE_WINDOW_MILLIS;
+        } else {
+            delayMillis = mLastFlushMillis + SELF_CHANGE_WINDOW_MILLIS - SystemClock.uptimeMillis();
+            if (delayMillis <= 0) {
+                return false;
+            }
+        }
+        mHandler.removeCallbacks(task);
+        mHandler.postDelayed(task, delayMillis);
+        return true;
+    }
+
+    /**
+     * Cancels a task deferred by {@link #deferIfSelfChange}, if it did not run yet.
+     */
+    public void cancelDeferred(Runnable task) {
+        mHandler.removeCallbacks(task);
+    }
+
+    private void flush() {
+        final LinkedHashMap<NumberWithCountryIso, ContentValues> batch;
+        synchronized (mPending) {
+            mFlushScheduled = false;
+            if (mPending.isEmpty()) {
+                return;
+            }
+            batch = Maps.newLinkedHashMap(mPending);
+            mPending.clear();
+            mFlushesInProgress++;
+        }
+        try {
+            writeBatch(batch);
+        } finally {
+            mLastFlushMillis = SystemClock.uptimeMillis();
+            synchronized (mPending) {
+                mFlushesInProgress--;
+            }
+        }
+    }
+
+    /**
+     * Writes the updates of a batch to the call log with a single applyBatch.
+     *
+     * @param batch Values of the CACHED_* columns by number and country.
+     */
+    @VisibleForTesting
+    void writeBatch(Map<NumberWithCountryIso, ContentValues> batch) {
+        final ArrayList<ContentProviderOperation> operations =
+                Lists.newArrayListWithCapacity(batch.size());
+        for (Map.Entry<NumberWithCountryIso, ContentValues> entry : batch.entrySet()) {
+            final NumberWithCountryIso key = entry.getKey();
+            final ContentProviderOperation.Builder builder =
+                    ContentProviderOperation.newUpdate(Calls.CONTENT_URI_WITH_VOICEMAIL)
+                            .withValues(entry.getValue());
+            if (key.countryIso == null) {
+                builder.withSelection(
+                        Calls.NUMBER + " = ? AND " + Calls.COUNTRY_ISO + " IS NULL",
+                        new String[] { key.number });
+            } else {
+                builder.withSelection(Calls.NUMBER + " = ? AND " + Calls.COUNTRY_ISO + " = ?",
+                        new String[] { key.number, key.countryIso });
+            }
+            operations.add(builder.build());
+        }
+        try {
+            mResolver.applyBatch(CallLog.AUTHORITY, operations);
+        } catch (RemoteException e) {
+            Log.w(TAG, "Failed to update the contact info cached in the call log", e);
+        } catch (OperationApplicationException e) {
+            Log.w(TAG, "Failed to update the contact info cached in the call log", e);
+        }
+    }
+}
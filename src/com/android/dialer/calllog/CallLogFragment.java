@@ -105,7 +105,21 @@ public class CallLogFragment extends ListFragment
     }
 
     // See issue 6363009
-    private final ContentObserver mCallLogObserver = new CustomContentObserver();
+    private final ContentObserver mCallLogObserver = new ContentObserver(mHandler) {
+        @Override
+        public void onChange(boolean selfChange) {
+            // Wait for the contact info the adapter writes back to the call log to be notified
+            if (mAdapter == null || !mAdapter.deferIfSelfChange(mDeferredCallLogChange)) {
+                mRefreshDataRequired = true;
+            }
+        }
+    };
+    private final Runnable mDeferredCallLogChange = new Runnable() {
+        @Override
+        public void run() {
+            mCallLogObserver.onChange(false);
+        }
+    };
     private final ContentObserver mContactsObserver = new CustomContentObserver();
     private boolean mRefreshDataRequired = true;
 
@@ -301,6 +315,7 @@ public class CallLogFragment extends ListFragment
     public void onDestroy() {
         super.onDestroy();
         mAdapter.stopRequestProcessing();
+        mAdapter.cancelDeferred(mDeferredCallLogChange);
         mAdapter.changeCursor(null);
         getActivity().getContentResolver().unregisterContentObserver(mCallLogObserver);
         getActivity().getContentResolver().unregisterContentObserver(mContactsObserver);
@@ -514,8 +529,8 @@ public class CallLogFragment extends ListFragment
     private void refreshData() {
         // Prevent unnecessary refresh.
         if (mRefreshDataRequired) {
-            // Mark all entries in the contact info cache as out of date, so they will be looked up
-            // again once being shown.
+            // Restart the contact info lookups once the list is shown. The entries of the contact
+            // info cache are marked as out of date by the cache itself when the contacts change.
             mAdapter.invalidateCache();
             startCallsQuery();
             startVoicemailStatusQuery();
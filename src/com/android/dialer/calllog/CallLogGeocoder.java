@@ -0,0 +1,209 @@
+/*
+ * Copyright (C) 2013 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.dialer.calllog;
+
+import android.os.Handler;
+import android.os.Process;
+import android.text.TextUtils;
+import android.util.LruCache;
+
+import com.android.phone.location.PhoneLocation;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Sets;
+
+import java.util.HashSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Looks up the locations of phone numbers with {@link PhoneLocation} on a background thread, so
+ * that binding call log rows never waits for them.
+ *
+ * <p>The location of a number only depends on its first digits: the first seven digits of a
+ * mobile number, or the area code of a fixed line number. Locations are cached by those digits,
+ * see {@link #getPrefixKey(String)}, so that the numbers that share them are looked up once. The
+ * cache is shared by all instances, since locations never change while the process runs.</p>
+ *
+ * <p>All methods must be called from the UI thread.</p>
+ */
+/*package*/ class CallLogGeocoder {
+    /** Listener told when locations were looked up. */
+    public interface Listener {
+        /** Called on the UI thread when the locations of some numbers were looked up. */
+        void onLocationsLoaded();
+    }
+
+    /** Maximum number of prefixes whose location is cached. */
+    private static final int CACHE_SIZE = 500;
+
+    /** Time to wait before telling the listener about lookups completed while others run. */
+    private static final long NOTIFY_DELAY_MILLIS = 100;
+
+    /** Locations by the prefix key of the numbers, an empty string if a number has none. */
+    private static final LruCache<String, String> sLocations =
+            new LruCache<String, String>(CACHE_SIZE);
+
+    private static ExecutorService sExecutor;
+
+    private final Handler mHandler = new Handler();
+    private final Listener mListener;
+
+    /** Keys of the lookups that were requested and did not complete yet. */
+    private final HashSet<String> mPending = Sets.newHashSet();
+    /** Incremented by {@link #cancel()}, so that the lookups queued before are dropped. */
+    private int mGeneration;
+    private boolean mNotifyPosted;
+
+    private final Runnable mNotifyListener = new Runnable() {
+        @Override
+        public void run() {
+            mNotifyPosted = false;
+            mListener.onLocationsLoaded();
+        }
+    };
+
+    public CallLogGeocoder(Listener listener) {
+        mListener = listener;
+    }
+
+    /**
+     * Returns the location of a number if it was looked up already. Otherwise, starts looking it
+     * up, and tells the listener once it is known.
+     *
+     * @return The location, an empty string if the number has none, or null if it is not known
+     *         yet.
+     */
+    public String getLocation(final String number) {
+        final String key = getPrefixKey(number);
+        if (key == null) {
+            return "";
+        }
+        final String location = sLocations.get(key);
+        if (location != null || !mPending.add(key)) {
+            return location;
+        }
+        final int generation = mGeneration;
+        getExecutor().execute(new Runnable() {
+            @Override
+            public void run() {
+                // Another instance may have looked up the same prefix in the meantime
+                if (sLocations.get(key) == null) {
+                    final String city = PhoneLocation.getCityFromPhone(number.trim());
+                    sLocations.put(key, (city == null) ? "" : city);
+                }
+                mHandler.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (generation != mGeneration) {
+                            return;
+                        }
+                        mPending.remove(key);
+                        // Tell the listener once per burst of lookups rather than once per number
+                        if (mPending.isEmpty()) {
+                            mHandler.removeCallbacks(mNotifyListener);
+                            mNotifyListener.run();
+                        } else if (!mNotifyPosted) {
+                            mNotifyPosted = true;
+                            mHandler.postDelayed(mNotifyListener, NOTIFY_DELAY_MILLIS);
+                        }
+                    }
+                });
+            }
+        });
+        return null;
+    }
+
+    /**
+     * Stops telling the listener about the lookups requested so far. Numbers whose lookup did not
+     * complete are looked up again when asked for.
+     */
+    public void cancel() {
+        mGeneration++;
+        mPending.clear();
+        mHandler.removeCallbacks(mNotifyListener);
+        mNotifyPosted = false;
+    }
+
+    private static synchronized ExecutorService getExecutor() {
+        if (sExecutor == null) {
+            sExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(final Runnable r) {
+                    return new Thread(new Runnable() {
+                        @Override
+                        public void run() {
+                            Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+                            r.run();
+                        }
+                    }, "CallLogGeocoder");
+                }
+            });
+        }
+        return sExecutor;
+    }
+
+    /**
+     * Returns the digits of a number its location depends on: the first seven digits of a Chinese
+     * mobile number, the area code of a Chinese fixed line number, and all the digits of other
+     * numbers. Numbers stored with the +86 or 0086 country code get the same key as when stored
+     * without it.
+     *
+     * @return The key, or null if the number has no digits.
+     */
+    @VisibleForTesting
+    static String getPrefixKey(String number) {
+        if (TextUtils.isEmpty(number)) {
+            return null;
+        }
+        final StringBuilder builder = new StringBuilder(number.length());
+        for (int i = 0; i < number.length(); i++) {
+            final char c = number.charAt(i);
+            if (c >= '0' && c <= '9') {
+                builder.append(c);
+            }
+        }
+        String digits = builder.toString();
+        if (digits.isEmpty()) {
+            return null;
+        }
+        boolean international = false;
+        if (number.trim().startsWith("+")) {
+            if (!digits.startsWith("86")) {
+                return "+" + digits;
+            }
+            digits = digits.substring(2);
+            international = true;
+        } else if (digits.startsWith("0086")) {
+            digits = digits.substring(4);
+            international = true;
+        }
+        if (digits.length() == 11 && digits.charAt(0) == '1') {
+            return digits.substring(0, 7);
+        }
+        if (international) {
+            // Fixed line numbers are dialed with the 0 trunk prefix from within the country
+            digits = "0" + digits;
+        }
+        if (digits.length() >= 10 && digits.charAt(0) == '0') {
+            // Beijing (010) and the 02x area codes have two digits, the others three
+            final char first = digits.charAt(1);
+            return digits.substring(0, (first == '1' || first == '2') ? 3 : 4);
+        }
+        return digits;
+    }
+}
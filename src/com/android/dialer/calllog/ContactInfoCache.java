@@ -0,0 +1,243 @@
+/*
+ * Copyright (C) 2013 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.dialer.calllog;
+
+import android.content.Context;
+import android.database.ContentObserver;
+import android.provider.ContactsContract.Contacts;
+import android.util.LruCache;
+
+import com.android.dialer.R;
+import com.android.dialer.calllog.CallLogAdapterHelper.NumberWithCountryIso;
+import com.android.dialer.util.ExpirableCache;
+import com.android.dialer.util.ExpirableCache.CachedValue;
+import com.google.common.annotations.VisibleForTesting;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cache of the contact info of the numbers callers are shown for, shared by the call log, the call
+ * stats and the call details, so that a number looked up for one of them is not looked up again
+ * for the others.
+ *
+ * <p>Numbers that match no contact are cached as negative entries, which only hold the number
+ * and its formatted form, see {@link #isNegative(ContactInfo)}, so that they are not looked up
+ * again each time they are shown either.</p>
+ *
+ * <p>When the contacts change, all the entries are expired, see {@link ExpirableCache}: they can
+ * still be shown while they are looked up again. The cache keeps {@link Metrics} of how often it
+ * has the contact info asked for.</p>
+ *
+ * <p>The cache is bounded by a number of entries rather than by their size in memory: an entry
+ * only holds a few short strings and URIs, never a photo, so it takes about the same few hundred
+ * bytes whatever the number, and the call log never shows more numbers than it keeps calls.
+ * Entries are also {@link ContactInfo}s, whose fields are public and can be changed while they
+ * are cached, so a size computed by {@link LruCache#sizeOf} could change while the entry is in
+ * the cache, which {@link LruCache} does not allow.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ */
+public class ContactInfoCache {
+    /** Counters of the cache since it was created. */
+    public static class Metrics {
+        /** Lookups that found an entry which was not expired. */
+        public final int hits;
+        /** Lookups that found an expired entry. */
+        public final int expiredHits;
+        /** Lookups that found no entry. */
+        public final int misses;
+        /** Entries removed to make room for others. */
+        public final int evictions;
+        /** Entries in the cache. */
+        public final int size;
+        /** Negative entries in the cache. */
+        public final int negativeEntries;
+
+        Metrics(int hits, int expiredHits, int misses, int evictions, int size,
+                int negativeEntries) {
+            this.hits = hits;
+            this.expiredHits = expiredHits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.size = size;
+            this.negativeEntries = negativeEntries;
+        }
+
+        @Override
+        public String toString() {
+            return "hits " + hits + ", expired hits " + expiredHits + ", misses " + misses
+                    + ", evictions " + evictions + ", size " + size + " (" + negativeEntries
+                    + " negative)";
+        }
+    }
+
+    private static ContactInfoCache sInstance;
+
+    private final LruCache<NumberWithCountryIso, CachedValue<ContactInfo>> mLruCache;
+    private final ExpirableCache<NumberWithCountryIso, ContactInfo> mCache;
+
+    private final AtomicInteger mHits = new AtomicInteger();
+    private final AtomicInteger mExpiredHits = new AtomicInteger();
+    private final AtomicInteger mMisses = new AtomicInteger();
+    private final AtomicInteger mEvictions = new AtomicInteger();
+    private final AtomicInteger mSize = new AtomicInteger();
+    private final AtomicInteger mNegativeEntries = new AtomicInteger();
+
+    private final ContentObserver mContactsObserver = new ContentObserver(null) {
+        @Override
+        public void onChange(boolean selfChange) {
+            expireAll();
+        }
+    };
+
+    /**
+     * Returns the cache of the process, which holds up to config_contact_info_cache_size numbers
+     * and is expired whenever the contacts change.
+     */
+    public static synchronized ContactInfoCache getInstance(Context context) {
+        if (sInstance == null) {
+            final Context appContext = context.getApplicationContext();
+            sInstance = new ContactInfoCache(
+                    appContext.getResources().getInteger(R.integer.config_contact_info_cache_size));
+            appContext.getContentResolver().registerContentObserver(
+                    Contacts.CONTENT_URI, true, sInstance.mContactsObserver);
+        }
+        return sInstance;
+    }
+
+    /**
+     * @param capacity the maximum number of numbers in the cache
+     */
+    @VisibleForTesting
+    ContactInfoCache(int capacity) {
+        mLruCache = new LruCache<NumberWithCountryIso, CachedValue<ContactInfo>>(capacity) {
+            @Override
+            protected void entryRemoved(boolean evicted, NumberWithCountryIso key,
+                    CachedValue<ContactInfo> oldValue, CachedValue<ContactInfo> newValue) {
+                // Called for replaced entries too, which put() counted again
+                mSize.decrementAndGet();
+                if (evicted) {
+                    mEvictions.incrementAndGet();
+                }
+                if (isNegative(oldValue.getValue())) {
+                    mNegativeEntries.decrementAndGet();
+                }
+            }
+        };
+        mCache = ExpirableCache.create(mLruCache);
+    }
+
+    /**
+     * Returns whether the given contact info is that of a number that matches no contact.
+     */
+    public static boolean isNegative(ContactInfo info) {
+        return info != ContactInfo.EMPTY && info.lookupUri == null && info.name == null;
+    }
+
+    /**
+     * Returns the cached value for the given number, or null if there is none.
+     * <p>
+     * The value is {@link ContactInfo#EMPTY} while the number is being looked up for the first
+     * time.
+     */
+    public CachedValue<ContactInfo> getCachedValue(NumberWithCountryIso key) {
+        final CachedValue<ContactInfo> cachedValue = mCache.getCachedValue(key);
+        if (cachedValue == null) {
+            mMisses.incrementAndGet();
+        } else if (cachedValue.isExpired()) {
+            mExpiredHits.incrementAndGet();
+        } else {
+            mHits.incrementAndGet();
+        }
+        return cachedValue;
+    }
+
+    /**
+     * Returns the contact info of the given number if it is cached and not expired, or null
+     * otherwise.
+     */
+    public ContactInfo get(NumberWithCountryIso key) {
+        final CachedValue<ContactInfo> cachedValue = getCachedValue(key);
+        if (cachedValue == null || cachedValue.isExpired()
+                || cachedValue.getValue() == ContactInfo.EMPTY) {
+            return null;
+        }
+        return cachedValue.getValue();
+    }
+
+    /**
+     * Returns the contact info of the given number from the cache if it is not expired, and
+     * otherwise looks it up and caches it. Must be called from a background thread.
+     *
+     * @return the contact info, or null if the lookup failed
+     */
+    public ContactInfo lookupNumber(ContactInfoHelper helper, String number, String countryIso) {
+        final NumberWithCountryIso key = new NumberWithCountryIso(number, countryIso);
+        ContactInfo info = get(key);
+        if (info == null) {
+            info = helper.lookupNumber(number, countryIso);
+            if (info != null) {
+                put(key, info);
+            }
+        }
+        return info;
+    }
+
+    /**
+     * Returns the value for the given number, expired or not, or null if there is none. This is
+     * not counted in the {@link Metrics}.
+     */
+    public ContactInfo getPossiblyExpired(NumberWithCountryIso key) {
+        return mCache.getPossiblyExpired(key);
+    }
+
+    /**
+     * Caches the contact info of a number, which is not expired until the contacts next change.
+     *
+     * @param info the contact info, which is a negative entry if it has neither a contact nor a
+     *        name, or {@link ContactInfo#EMPTY} while the number is being looked up
+     */
+    public void put(NumberWithCountryIso key, ContactInfo info) {
+        // Count the entry before it is added, since adding it may evict it right away
+        mSize.incrementAndGet();
+        if (isNegative(info)) {
+            mNegativeEntries.incrementAndGet();
+        }
+        mCache.put(key, info);
+    }
+
+    /** Removes the contact info of the given number, if any. */
+    public void remove(NumberWithCountryIso key) {
+        mCache.remove(key);
+    }
+
+    /** Marks all the entries as expired, so that they are looked up again when shown. */
+    public void expireAll() {
+        mCache.expireAll();
+    }
+
+    /** Removes all the entries, so that tests do not see those of others. */
+    @VisibleForTesting
+    void clearForTest() {
+        mLruCache.evictAll();
+    }
+
+    public Metrics getMetrics() {
+        return new Metrics(mHits.get(), mExpiredHits.get(), mMisses.get(), mEvictions.get(),
+                mSize.get(), mNegativeEntries.get());
+    }
+}
@@ -21,7 +21,10 @@ import android.content.Context;
 import android.content.Intent;
 import android.database.Cursor;
 import android.net.Uri;
+import android.provider.ContactsContract.CommonDataKinds.Phone;
+import android.provider.ContactsContract.CommonDataKinds.SipAddress;
 import android.provider.ContactsContract.Contacts;
+import android.provider.ContactsContract.Data;
 import android.provider.ContactsContract.PhoneLookup;
 import android.provider.Settings;
 import android.provider.Telephony;
@@ -30,12 +33,58 @@ import android.text.TextUtils;
 import android.widget.Toast;
     
 import com.android.dialer.R;
+import com.android.dialer.calllog.CallLogAdapterHelper.NumberWithCountryIso;
+import com.android.dialer.dialpad.SmartDialCache;
 import com.android.contacts.common.util.UriUtils;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Utility class to look up the contact information for a given number.
  */
 public class ContactInfoHelper {
+    /**
+     * The number of numbers from which {@link #lookupNumbers} reads the phone numbers of all
+     * contacts with a single query, rather than looking up each number.
+     */
+    public static final int MIN_BULK_LOOKUP_SIZE = 16;
+
+    /** The query reading the phone numbers and SIP addresses of all contacts. */
+    private static final class ContactNumbersQuery {
+        // SIP addresses are stored in the same columns as phone numbers
+        public static final String[] PROJECTION = new String[] {
+                Data.CONTACT_ID,
+                Data.DISPLAY_NAME,
+                Phone.TYPE,
+                Phone.LABEL,
+                Phone.NUMBER,
+                Phone.NORMALIZED_NUMBER,
+                Data.PHOTO_ID,
+                Data.LOOKUP_KEY,
+                Data.PHOTO_URI,
+                Data.MIMETYPE};
+
+        public static final String SELECTION = Data.MIMETYPE + " IN (?, ?)";
+        public static final String[] SELECTION_ARGS = new String[] {
+                Phone.CONTENT_ITEM_TYPE, SipAddress.CONTENT_ITEM_TYPE};
+
+        public static final int CONTACT_ID = 0;
+        public static final int NAME = 1;
+        public static final int TYPE = 2;
+        public static final int LABEL = 3;
+        public static final int NUMBER = 4;
+        public static final int NORMALIZED_NUMBER = 5;
+        public static final int PHOTO_ID = 6;
+        public static final int LOOKUP_KEY = 7;
+        public static final int PHOTO_URI = 8;
+        public static final int MIMETYPE = 9;
+    }
+
     private final Context mContext;
     private final String mCurrentCountryIso;
 
@@ -94,9 +143,7 @@ public class ContactInfoHelper {
             // If we did not find a matching contact, generate an empty contact info for the number.
             if (info == ContactInfo.EMPTY) {
                 // Did not find a matching contact.
-                updatedInfo = new ContactInfo();
-                updatedInfo.number = number;
-                updatedInfo.formattedNumber = formatPhoneNumber(number, null, countryIso);
+                updatedInfo = createEmptyInfo(number, countryIso);
             } else {
                 updatedInfo = info;
             }
@@ -104,6 +151,199 @@ public class ContactInfoHelper {
         return updatedInfo;
     }
 
+    /**
+     * Returns the contact information for each of the given numbers, as
+     * {@link #lookupNumber(String, String)} does for one number.
+     * <p>
+     * The phone numbers that match the numbers of the contacts kept in memory by
+     * {@link SmartDialCache} are looked up without any query. Looking up any other number that
+     * does not match any contact takes two queries. From {@link #MIN_BULK_LOOKUP_SIZE} such
+     * numbers, the phone numbers and SIP addresses of all contacts are read by a single query
+     * instead, and the numbers are matched against them in memory, see
+     * {@link ContactNumberIndex}.
+     * <p>
+     * The numbers whose lookup failed are not in the returned map.
+     *
+     * @param numbers the numbers to look up, with the country associated with each of them
+     */
+    public Map<NumberWithCountryIso, ContactInfo> lookupNumbers(
+            Collection<NumberWithCountryIso> numbers) {
+        return lookupNumbers(numbers, true);
+    }
+
+    /**
+     * Returns the contact information for each of the given phone numbers, as
+     * {@link #lookupNumbers} does, but without querying the SIP addresses of the contacts for
+     * each number that matches no contact phone number. This saves a query per unknown number
+     * for callers that only deal with phone numbers.
+     *
+     * @param numbers the numbers to look up, with the country associated with each of them
+     */
+    public Map<NumberWithCountryIso, ContactInfo> lookupPhoneNumbers(
+            Collection<NumberWithCountryIso> numbers) {
+        return lookupNumbers(numbers, false);
+    }
+
+    /**
+     * @param sipAddresses whether the numbers looked up one at a time are also looked up among
+     *        the SIP addresses of the contacts
+     */
+    private Map<NumberWithCountryIso, ContactInfo> lookupNumbers(
+            Collection<NumberWithCountryIso> numbers, boolean sipAddresses) {
+        final HashMap<NumberWithCountryIso, ContactInfo> infos = Maps.newHashMap();
+        final ArrayList<NumberWithCountryIso> remaining =
+                Lists.newArrayListWithCapacity(numbers.size());
+        final ContactNumberIndex memoryIndex = getPhoneLookupIndex();
+        for (NumberWithCountryIso number : numbers) {
+            // SIP addresses are matched against those of the contacts first
+            final ContactInfo info =
+                    (memoryIndex != null && !PhoneNumberUtils.isUriNumber(number.number))
+                            ? findPhoneNumber(memoryIndex, number.number, number.countryIso)
+                            : null;
+            if (info != null) {
+                infos.put(number, info);
+            } else {
+                remaining.add(number);
+            }
+        }
+
+        if (remaining.size() < MIN_BULK_LOOKUP_SIZE) {
+            for (NumberWithCountryIso number : remaining) {
+                final ContactInfo info = sipAddresses
+                        ? lookupNumber(number.number, number.countryIso)
+                        : lookupPhoneNumber(number.number, number.countryIso);
+                if (info != null) {
+                    infos.put(number, info);
+                }
+            }
+            return infos;
+        }
+
+        final ContactNumberIndex index = queryContactNumbers();
+        if (index == null) {
+            // The lookup failed.
+            return infos;
+        }
+        for (NumberWithCountryIso number : remaining) {
+            infos.put(number, lookupNumber(index, number.number, number.countryIso));
+        }
+        return infos;
+    }
+
+    /**
+     * Returns the contact information for the given phone number, as
+     * {@link #lookupNumber(String, String)} does, but only among the phone numbers of contacts.
+     */
+    private ContactInfo lookupPhoneNumber(String number, String countryIso) {
+        final ContactInfo info = queryContactInfoForPhoneNumber(number, countryIso);
+        return (info == ContactInfo.EMPTY) ? createEmptyInfo(number, countryIso) : info;
+    }
+
+    /**
+     * Returns the contact information for the given number, matching it against the numbers of
+     * contacts in the given index the same way {@link #lookupNumber(String, String)} matches it
+     * against those in the contacts provider.
+     */
+    private ContactInfo lookupNumber(ContactNumberIndex index, String number, String countryIso) {
+        ContactInfo info;
+        if (PhoneNumberUtils.isUriNumber(number)) {
+            info = copyOf(index.findSipAddress(number));
+            if (info == null) {
+                String username = PhoneNumberUtils.getUsernameFromUriNumber(number);
+                if (PhoneNumberUtils.isGlobalPhoneNumber(username)) {
+                    info = findPhoneNumber(index, username, countryIso);
+                }
+            }
+        } else {
+            info = findPhoneNumber(index, number, countryIso);
+            if (info == null) {
+                info = copyOf(index.findSipAddress(number));
+            }
+        }
+        return (info != null) ? info : createEmptyInfo(number, countryIso);
+    }
+
+    private ContactInfo findPhoneNumber(ContactNumberIndex index, String number,
+            String countryIso) {
+        final ContactInfo info = copyOf(index.findPhoneNumber(number,
+                formatNumberToE164(number, countryIso)));
+        if (info != null) {
+            info.formattedNumber = formatPhoneNumber(number, null, countryIso);
+        }
+        return info;
+    }
+
+    /**
+     * Reads the phone numbers and SIP addresses of all contacts.
+     *
+     * @return the index of the numbers, or null if the query failed
+     */
+    private ContactNumberIndex queryContactNumbers() {
+        final Cursor cursor = mContext.getContentResolver().query(Data.CONTENT_URI,
+                ContactNumbersQuery.PROJECTION, ContactNumbersQuery.SELECTION,
+                ContactNumbersQuery.SELECTION_ARGS, null);
+        if (cursor == null) {
+            return null;
+        }
+        try {
+            final ContactNumberIndex index = new ContactNumberIndex();
+            while (cursor.moveToNext()) {
+                final ContactInfo info = new ContactInfo();
+                long contactId = cursor.getLong(ContactNumbersQuery.CONTACT_ID);
+                String lookupKey = cursor.getString(ContactNumbersQuery.LOOKUP_KEY);
+                info.lookupUri = Contacts.getLookupUri(contactId, lookupKey);
+                info.name = cursor.getString(ContactNumbersQuery.NAME);
+                info.type = cursor.getInt(ContactNumbersQuery.TYPE);
+                info.label = cursor.getString(ContactNumbersQuery.LABEL);
+                info.number = cursor.getString(ContactNumbersQuery.NUMBER);
+                info.normalizedNumber = cursor.getString(ContactNumbersQuery.NORMALIZED_NUMBER);
+                info.photoId = cursor.getLong(ContactNumbersQuery.PHOTO_ID);
+                info.photoUri =
+                        UriUtils.parseUriOrNull(cursor.getString(ContactNumbersQuery.PHOTO_URI));
+                if (SipAddress.CONTENT_ITEM_TYPE.equals(
+                        cursor.getString(ContactNumbersQuery.MIMETYPE))) {
+                    index.addSipAddress(contactId, info);
+                } else {
+                    index.addPhoneNumber(contactId, info);
+                }
+            }
+            return index;
+        } finally {
+            cursor.close();
+        }
+    }
+
+    /**
+     * Returns a copy of the given contact info, or null if it is null.
+     */
+    private static ContactInfo copyOf(ContactInfo info) {
+        if (info == null) {
+            return null;
+        }
+        final ContactInfo copy = new ContactInfo();
+        copy.lookupUri = info.lookupUri;
+        copy.name = info.name;
+        copy.type = info.type;
+        copy.label = info.label;
+        copy.number = info.number;
+        copy.formattedNumber = info.formattedNumber;
+        copy.normalizedNumber = info.normalizedNumber;
+        copy.photoId = info.photoId;
+        copy.photoUri = info.photoUri;
+        return copy;
+    }
+
+    /**
+     * Returns the contact info of a number that does not match any contact, which only contains
+     * the number and the formatted number.
+     */
+    private ContactInfo createEmptyInfo(String number, String countryIso) {
+        final ContactInfo info = new ContactInfo();
+        info.number = number;
+        info.formattedNumber = formatPhoneNumber(number, null, countryIso);
+        return info;
+    }
+
     /**
      * Looks up a contact using the given URI.
      * <p>
@@ -170,24 +410,29 @@ public class ContactInfoHelper {
     /**
      * Determines the contact information for the given phone number.
      * <p>
-     * It returns the contact info if found.
+     * It returns the contact info if found, from the numbers of the contacts kept in memory by
+     * {@link SmartDialCache} if they are up to date, or from the contacts provider otherwise or
+     * if none of them matches.
      * <p>
      * If no contact corresponds to the given phone number, returns {@link ContactInfo#EMPTY}.
      * <p>
      * If the lookup fails for some other reason, it returns null.
      */
     private ContactInfo queryContactInfoForPhoneNumber(String number, String countryIso) {
-        String contactNumber = number;
-        if (!TextUtils.isEmpty(countryIso)) {
-            // Normalize the number: this is needed because the PhoneLookup query below does not
-            // accept a country code as an input.
-            String numberE164 = PhoneNumberUtils.formatNumberToE164(number, countryIso);
-            if (!TextUtils.isEmpty(numberE164)) {
-                // Only use it if the number could be formatted to E164.
-                contactNumber = numberE164;
+        final ContactNumberIndex index = getPhoneLookupIndex();
+        if (index != null) {
+            final ContactInfo info = findPhoneNumber(index, number, countryIso);
+            if (info != null) {
+                return info;
             }
         }
 
+        // Normalize the number: this is needed because the PhoneLookup query below does not
+        // accept a country code as an input.
+        String numberE164 = formatNumberToE164(number, countryIso);
+        // Only use it if the number could be formatted to E164.
+        String contactNumber = (numberE164 != null) ? numberE164 : number;
+
         // The "contactNumber" is a regular phone number, so use the PhoneLookup table.
         Uri uri = Uri.withAppendedPath(PhoneLookup.CONTENT_FILTER_URI, Uri.encode(contactNumber));
         ContactInfo info = lookupContactFromUri(uri);
@@ -197,6 +442,27 @@ public class ContactInfoHelper {
         return info;
     }
 
+    /**
+     * Returns the phone numbers of the contacts kept in memory by {@link SmartDialCache}, or null
+     * if there are none or they are not up to date.
+     */
+    private static ContactNumberIndex getPhoneLookupIndex() {
+        final SmartDialCache smartDialCache = SmartDialCache.peekInstance();
+        return (smartDialCache != null) ? smartDialCache.getPhoneLookupIndex() : null;
+    }
+
+    /**
+     * Returns the E.164 form of the given number, or null if it has none or the country is not
+     * known.
+     */
+    private static String formatNumberToE164(String number, String countryIso) {
+        if (TextUtils.isEmpty(countryIso)) {
+            return null;
+        }
+        String numberE164 = PhoneNumberUtils.formatNumberToE164(number, countryIso);
+        return TextUtils.isEmpty(numberE164) ? null : numberE164;
+    }
+
     /**
      * Format the given phone number
      *
@@ -0,0 +1,172 @@
+/*
+ * Copyright (C) 2013 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.dialer.calllog;
+
+import android.provider.ContactsContract.PhoneLookup;
+import android.telephony.PhoneNumberUtils;
+import android.text.TextUtils;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+
+/**
+ * Matches phone numbers and SIP addresses against those of contacts in memory, the way
+ * {@link PhoneLookup} matches them in the contacts provider: phone numbers by their last digits,
+ * see {@link PhoneNumberUtils#toCallerIDMinMatch}, then by their E.164 form or with
+ * {@link PhoneNumberUtils#compare}; SIP addresses when they are equal.
+ *
+ * <p>Instances must not be read while they are being built. Once built, they can be read from
+ * any thread, and {@link #copyWithout} builds updated copies rather than changing them.</p>
+ */
+public class ContactNumberIndex {
+    /** A phone number or SIP address of a contact, in the order they were added. */
+    private static final class Entry {
+        public final long contactId;
+        public final ContactInfo info;
+        public final boolean isSipAddress;
+
+        public Entry(long contactId, ContactInfo info, boolean isSipAddress) {
+            this.contactId = contactId;
+            this.info = info;
+            this.isSipAddress = isSipAddress;
+        }
+    }
+
+    private final ArrayList<Entry> mEntries = Lists.newArrayList();
+    /** Contact info of the phone numbers, by the min-match key of the number. */
+    private final HashMap<String, ArrayList<ContactInfo>> mPhoneNumbers = Maps.newHashMap();
+    /** Contact info of the SIP addresses, by address. */
+    private final HashMap<String, ContactInfo> mSipAddresses = Maps.newHashMap();
+
+    /**
+     * Adds a phone number of a contact.
+     *
+     * @param contactId The id of the contact.
+     * @param info The contact info of the number, with its {@link ContactInfo#number} and
+     *        {@link ContactInfo#normalizedNumber} set.
+     */
+    public void addPhoneNumber(long contactId, ContactInfo info) {
+        if (TextUtils.isEmpty(info.number)) {
+            return;
+        }
+        mEntries.add(new Entry(contactId, info, false));
+        final String key = PhoneNumberUtils.toCallerIDMinMatch(info.number);
+        addPhoneNumber(key, info);
+        if (!TextUtils.isEmpty(info.normalizedNumber)) {
+            final String normalizedKey = PhoneNumberUtils.toCallerIDMinMatch(info.normalizedNumber);
+            if (!TextUtils.equals(key, normalizedKey)) {
+                addPhoneNumber(normalizedKey, info);
+            }
+        }
+    }
+
+    private void addPhoneNumber(String key, ContactInfo info) {
+        if (TextUtils.isEmpty(key)) {
+            return;
+        }
+        ArrayList<ContactInfo> infos = mPhoneNumbers.get(key);
+        if (infos == null) {
+            infos = Lists.newArrayListWithCapacity(1);
+            mPhoneNumbers.put(key, infos);
+        }
+        infos.add(info);
+    }
+
+    /**
+     * Adds a SIP address of a contact. The first contact added for an address is the one it
+     * matches.
+     *
+     * @param contactId The id of the contact.
+     * @param info The contact info of the address, with the address as its
+     *        {@link ContactInfo#number}.
+     */
+    public void addSipAddress(long contactId, ContactInfo info) {
+        if (TextUtils.isEmpty(info.number)) {
+            return;
+        }
+        mEntries.add(new Entry(contactId, info, true));
+        if (!mSipAddresses.containsKey(info.number)) {
+            mSipAddresses.put(info.number, info);
+        }
+    }
+
+    /**
+     * Returns a copy of this index without the numbers of the given contacts, to which the
+     * current numbers of those contacts can then be added.
+     */
+    public ContactNumberIndex copyWithout(Collection<Long> contactIds) {
+        final ContactNumberIndex copy = new ContactNumberIndex();
+        for (Entry entry : mEntries) {
+            if (contactIds.contains(entry.contactId)) {
+                continue;
+            }
+            if (entry.isSipAddress) {
+                copy.addSipAddress(entry.contactId, entry.info);
+            } else {
+                copy.addPhoneNumber(entry.contactId, entry.info);
+            }
+        }
+        return copy;
+    }
+
+    /** Returns the number of phone numbers and SIP addresses in the index. */
+    public int size() {
+        return mEntries.size();
+    }
+
+    /**
+     * Returns the contact info of the phone number of a contact that matches the given number. A
+     * number whose E.164 form is the normalized number of a contact matches it before the numbers
+     * that only {@link PhoneNumberUtils#compare} with it.
+     *
+     * @param number The number to look up.
+     * @param numberE164 The E.164 form of the number, or null if it has none.
+     * @return The contact info as it was added, or null if no number matches.
+     */
+    public ContactInfo findPhoneNumber(String number, String numberE164) {
+        final String key = PhoneNumberUtils.toCallerIDMinMatch(
+                (numberE164 != null) ? numberE164 : number);
+        final ArrayList<ContactInfo> infos = (key != null) ? mPhoneNumbers.get(key) : null;
+        if (infos == null) {
+            return null;
+        }
+        if (numberE164 != null) {
+            for (ContactInfo info : infos) {
+                if (numberE164.equals(info.normalizedNumber)) {
+                    return info;
+                }
+            }
+        }
+        for (ContactInfo info : infos) {
+            if (PhoneNumberUtils.compare(number, info.number)) {
+                return info;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the contact info of the given SIP address, or null if no contact has it.
+     */
+    public ContactInfo findSipAddress(String sipAddress) {
+        return mSipAddresses.get(sipAddress);
+    }
+}
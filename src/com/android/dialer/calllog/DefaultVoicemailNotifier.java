@@ -27,15 +27,21 @@ import android.content.res.Resources;
 import android.database.Cursor;
 import android.net.Uri;
 import android.provider.CallLog.Calls;
-import android.provider.ContactsContract.PhoneLookup;
 import android.text.TextUtils;
 import android.util.Log;
 
 import com.android.common.io.MoreCloseables;
+import com.android.contacts.common.GeoUtil;
 import com.android.dialer.CallDetailActivity;
 import com.android.dialer.R;
+import com.android.dialer.calllog.CallLogAdapterHelper.NumberWithCountryIso;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.Map;
 
 /**
@@ -67,7 +73,7 @@ public class DefaultVoicemailNotifier implements VoicemailNotifier {
             ContentResolver contentResolver = context.getContentResolver();
             sInstance = new DefaultVoicemailNotifier(context, notificationManager,
                     createNewCallsQuery(contentResolver),
-                    createNameLookupQuery(contentResolver),
+                    createNameLookupQuery(context),
                     createPhoneNumberHelper(context));
         }
         return sInstance;
@@ -106,6 +112,13 @@ public class DefaultVoicemailNotifier implements VoicemailNotifier {
         // This represents a list of names to include in the notification.
         String callers = null;
 
+        // Look up the names of all the callers at once.
+        final LinkedHashSet<String> numbers = Sets.newLinkedHashSet();
+        for (NewCall newCall : newCalls) {
+            numbers.add(newCall.number);
+        }
+        final Map<String, String> contactNames = mNameLookupQuery.query(numbers);
+
         // Maps each number into a name: if a number is in the map, it has already left a more
         // recent voicemail.
         final Map<String, String> names = Maps.newHashMap();
@@ -118,8 +131,8 @@ public class DefaultVoicemailNotifier implements VoicemailNotifier {
             // Check if we already know the name associated with this number.
             String name = names.get(newCall.number);
             if (name == null) {
-                // Look it up in the database.
-                name = mNameLookupQuery.query(newCall.number);
+                // Use the name found in the database.
+                name = contactNames.get(newCall.number);
                 // If we cannot lookup the contact, use the number instead.
                 if (name == null) {
                     name = mPhoneNumberHelper.getDisplayNumber(newCall.number, "").toString();
@@ -280,51 +293,53 @@ public class DefaultVoicemailNotifier implements VoicemailNotifier {
         }
     }
 
-    /** Allows determining the name associated with a given phone number. */
+    /** Allows determining the names associated with phone numbers. */
     public interface NameLookupQuery {
         /**
-         * Returns the name associated with the given number in the contacts database, or null if
-         * the number does not correspond to any of the contacts.
+         * Returns the names associated with the given numbers in the contacts database. The
+         * numbers that do not correspond to any of the contacts are not in the returned map.
          * <p>
          * If there are multiple contacts with the same phone number, it will return the name of one
          * of the matching contacts.
          */
-        public String query(String number);
+        public Map<String, String> query(Collection<String> numbers);
     }
 
     /** Create a new instance of {@link NameLookupQuery}. */
-    public static NameLookupQuery createNameLookupQuery(ContentResolver contentResolver) {
-        return new DefaultNameLookupQuery(contentResolver);
+    public static NameLookupQuery createNameLookupQuery(Context context) {
+        return new DefaultNameLookupQuery(
+                new ContactInfoHelper(context, GeoUtil.getCurrentCountryIso(context)));
     }
 
     /**
-     * Default implementation of {@link NameLookupQuery} that looks up the name of a contact in the
-     * contacts database.
+     * Default implementation of {@link NameLookupQuery} that looks up the names of contacts in the
+     * contacts database, see {@link ContactInfoHelper#lookupPhoneNumbers}, so that a caller
+     * who is not a contact costs a single PhoneLookup query.
      */
     private static final class DefaultNameLookupQuery implements NameLookupQuery {
-        private static final String[] PROJECTION = { PhoneLookup.DISPLAY_NAME };
-        private static final int DISPLAY_NAME_COLUMN_INDEX = 0;
+        private final ContactInfoHelper mContactInfoHelper;
 
-        private final ContentResolver mContentResolver;
-
-        private DefaultNameLookupQuery(ContentResolver contentResolver) {
-            mContentResolver = contentResolver;
+        private DefaultNameLookupQuery(ContactInfoHelper contactInfoHelper) {
+            mContactInfoHelper = contactInfoHelper;
         }
 
         @Override
-        public String query(String number) {
-            Cursor cursor = null;
-            try {
-                cursor = mContentResolver.query(
-                        Uri.withAppendedPath(PhoneLookup.CONTENT_FILTER_URI, Uri.encode(number)),
-                        PROJECTION, null, null, null);
-                if (cursor == null || !cursor.moveToFirst()) return null;
-                return cursor.getString(DISPLAY_NAME_COLUMN_INDEX);
-            } finally {
-                if (cursor != null) {
-                    cursor.close();
+        public Map<String, String> query(Collection<String> numbers) {
+            final ArrayList<NumberWithCountryIso> keys = Lists.newArrayList();
+            for (String number : numbers) {
+                if (!TextUtils.isEmpty(number)) {
+                    // The numbers are matched as they were dialed, without a country
+                    keys.add(new NumberWithCountryIso(number, null));
+                }
+            }
+            final Map<String, String> names = Maps.newHashMap();
+            for (Map.Entry<NumberWithCountryIso, ContactInfo> entry :
+                    mContactInfoHelper.lookupPhoneNumbers(keys).entrySet()) {
+                if (!TextUtils.isEmpty(entry.getValue().name)) {
+                    names.put(entry.getKey().number, entry.getValue().name);
                 }
             }
+            return names;
         }
     }
 
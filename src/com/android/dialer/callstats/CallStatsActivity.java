@@ -352,8 +352,9 @@ public class CallStatsActivity extends ListActivity implements
     private void refreshData() {
         // Prevent unnecessary refresh.
         if (mRefreshDataRequired) {
-            // Mark all entries in the contact info cache as out of date, so
-            // they will be looked up again once being shown.
+            // Restart the contact info lookups once the list is shown. The
+            // entries of the contact info cache are marked as out of date by
+            // the cache itself when the contacts change.
             mAdapter.invalidateCache();
             fetchCalls();
             mRefreshDataRequired = false;
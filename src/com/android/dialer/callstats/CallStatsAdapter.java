@@ -30,9 +30,11 @@ import com.android.contacts.common.CallUtil;
 import com.android.contacts.common.GeoUtil;
 import com.android.dialer.R;
 import com.android.dialer.calllog.CallLogAdapterHelper;
+import com.android.dialer.calllog.CallLogAdapterHelper.NumberWithCountryIso;
 import com.android.dialer.calllog.ContactInfo;
 import com.android.dialer.calllog.ContactInfoHelper;
 import com.android.dialer.calllog.PhoneNumberHelper;
+import com.google.common.collect.Maps;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -121,12 +123,15 @@ class CallStatsAdapter extends ArrayAdapter<CallStatsDetails>
         mAllItems.clear();
         mTotalItem.reset();
 
+        final Map<NumberWithCountryIso, ContactInfo> callLogInfos = Maps.newHashMap();
         for (Map.Entry<ContactInfo, CallStatsDetails> entry : calls.entrySet()) {
             final CallStatsDetails call = entry.getValue();
             mAllItems.add(call);
             mTotalItem.mergeWith(call);
-            mAdapterHelper.lookupContact(call.number, call.countryIso, entry.getKey());
+            callLogInfos.put(new NumberWithCountryIso(call.number, call.countryIso),
+                    entry.getKey());
         }
+        mAdapterHelper.lookupContacts(callLogInfos);
     }
 
     public void updateDisplayedData(int type, boolean sortByDuration) {
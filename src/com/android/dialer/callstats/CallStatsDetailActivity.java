@@ -36,6 +36,7 @@ import com.android.contacts.common.GeoUtil;
 import com.android.dialer.CallDetailHeader;
 import com.android.dialer.R;
 import com.android.dialer.calllog.ContactInfo;
+import com.android.dialer.calllog.ContactInfoCache;
 import com.android.dialer.calllog.ContactInfoHelper;
 import com.android.dialer.calllog.PhoneNumberHelper;
 
@@ -52,6 +53,7 @@ public class CallStatsDetailActivity extends Activity {
 
     private CallStatsDetailHelper mCallStatsDetailHelper;
     private ContactInfoHelper mContactInfoHelper;
+    private ContactInfoCache mContactInfoCache;
     private CallDetailHeader mCallDetailHeader;
     private Resources mResources;
 
@@ -73,7 +75,8 @@ public class CallStatsDetailActivity extends Activity {
 
     private class UpdateContactTask extends AsyncTask<String, Void, ContactInfo> {
         protected ContactInfo doInBackground(String... strings) {
-            ContactInfo info = mContactInfoHelper.lookupNumber(strings[0], strings[1]);
+            ContactInfo info = mContactInfoCache.lookupNumber(mContactInfoHelper,
+                    strings[0], strings[1]);
             return info;
         }
 
@@ -95,6 +98,7 @@ public class CallStatsDetailActivity extends Activity {
         mCallDetailHeader = new CallDetailHeader(this, phoneNumberHelper);
         mCallStatsDetailHelper = new CallStatsDetailHelper(mResources, phoneNumberHelper);
         mContactInfoHelper = new ContactInfoHelper(this, GeoUtil.getCurrentCountryIso(this));
+        mContactInfoCache = ContactInfoCache.getInstance(this);
 
         mHeaderTextView = (TextView) findViewById(R.id.header_text);
         mTotalSummary = (TextView) findViewById(R.id.total_summary);
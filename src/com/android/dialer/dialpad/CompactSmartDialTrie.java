@@ -0,0 +1,928 @@
+/*
+ * Copyright (C) 2013 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.dialer.dialpad;
+
+import android.os.CancellationSignal;
+import android.text.TextUtils;
+
+import com.android.dialer.dialpad.SmartDialCache.ContactNumber;
+import com.android.dialer.dialpad.SmartDialTrie.Node;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Read-only, array backed version of a {@link SmartDialTrie}.
+ *
+ * <p>{@link SmartDialTrie} allocates a {@link Node} object, a child array and a content list for
+ * every node, which for a few thousand contacts adds up to hundreds of thousands of small objects
+ * that stay alive for as long as the cache does. This class flattens a fully built trie into a
+ * handful of primitive arrays so that the long lived index consists of a constant number of
+ * objects, no matter how many contacts it contains.</p>
+ *
+ * <p>Nodes are numbered in depth first pre-order, with the root being node 0. Because the
+ * contents of the nodes are laid out in the same order, all contacts located at and under a node
+ * occupy a single contiguous range of {@link #mContents}, so a prefix lookup is a walk down the
+ * edge tables followed by an array copy.</p>
+ *
+ * <p>Contacts are numbered in ascending order of affinity, so comparing two entries only requires
+ * comparing their indexes. Nodes whose subtree holds more than {@link #SUMMARY_THRESHOLD} entries
+ * additionally store the best {@link #SUMMARY_SIZE} distinct contacts of their subtree, which
+ * allows {@link #getTopWithPrefix(CharSequence, int)} to answer short queries without visiting
+ * the large number of entries that lie below the top levels of the trie.</p>
+ *
+ * <p>The tables are never modified. Contacts that change afterwards are applied through
+ * {@link #withChanges(Set, CompactSmartDialTrie)}, which returns a trie sharing the same tables,
+ * with the old numbers of the changed contacts masked out and their new numbers held in a second,
+ * small trie that is searched alongside.</p>
+ */
+public class CompactSmartDialTrie {
+    /** Identifier of the root node, which corresponds to the empty prefix. */
+    static final int ROOT = 0;
+
+    /** Returned by node lookups when there is no node for the requested prefix. */
+    static final int NO_NODE = -1;
+
+    /** Maximum number of contacts stored in the summary of a node. */
+    @VisibleForTesting
+    static final int SUMMARY_SIZE = 32;
+
+    /** Nodes with fewer entries than this in their subtree are scanned instead of summarized. */
+    @VisibleForTesting
+    static final int SUMMARY_THRESHOLD = 256;
+
+    /** Number of entries scanned between two checks of the cancellation signal of a search. */
+    private static final int CANCELLATION_CHECK_INTERVAL = 1024;
+
+    /** Edges of node n are stored at [mEdgeStart[n], mEdgeStart[n + 1]), sorted by digit. */
+    private final int[] mEdgeStart;
+    private final byte[] mEdgeDigits;
+    private final int[] mEdgeTargets;
+
+    /** Contents of node n are stored at [mContentStart[n], mContentStart[n + 1]). */
+    private final int[] mContentStart;
+
+    /** The first node following the subtree rooted at node n, in pre-order. */
+    private final int[] mSubtreeEnd;
+
+    /** Entries of the trie, as indexes into {@link #mContacts}. */
+    private final int[] mContents;
+    /** All contacts in the trie, sorted by ascending affinity (lower is better). */
+    private final ContactNumber[] mContacts;
+    /**
+     * Identifies the contact each entry of {@link #mContacts} belongs to. Different numbers of
+     * the same contact share the same value.
+     */
+    private final int[] mContactKeys;
+
+    /**
+     * Best contacts of node n, one per contact key and sorted by affinity, are stored at
+     * [mSummaryStart[n], mSummaryStart[n + 1]). Only non empty for nodes with large subtrees.
+     */
+    private final int[] mSummaryStart;
+    private final int[] mSummaries;
+
+    private final int mSize;
+
+    /** Contacts in the tables above that were deleted or changed since, or null if none. */
+    private final BitSet mRemoved;
+    /** New numbers of the contacts that changed since the tables were built, or null if none. */
+    private final CompactSmartDialTrie mAdded;
+
+    /**
+     * Indexes into {@link #mContacts}, sorted by contact id and then by index. Only built when
+     * contacts are looked up by id.
+     */
+    private int[] mContactsById;
+
+    /**
+     * Index of the digits of the numbers of {@link #mContacts}, which finds the numbers that
+     * contain a query. Only built when numbers are searched for digits they contain, see
+     * {@link #getTopContaining(CharSequence, int, CancellationSignal)}.
+     */
+    private SmartDialNumberIndex mNumberIndex;
+    private boolean mNumberIndexBuilt;
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private CompactSmartDialTrie(CompactSmartDialTrie tables, BitSet removed,
+            CompactSmartDialTrie added, int[] contactsById, SmartDialNumberIndex numberIndex) {
+        this(tables.mSize, tables.mEdgeStart, tables.mEdgeDigits, tables.mEdgeTargets,
+                tables.mContentStart, tables.mSubtreeEnd, tables.mContents, tables.mContacts,
+                tables.mContactKeys, tables.mSummaryStart, tables.mSummaries, removed, added,
+                contactsById);
+        mNumberIndex = numberIndex;
+        mNumberIndexBuilt = true;
+    }
+
+    private CompactSmartDialTrie(int size, int[] edgeStart, byte[] edgeDigits, int[] edgeTargets,
+            int[] contentStart, int[] subtreeEnd, int[] contents, ContactNumber[] contacts,
+            int[] contactKeys, int[] summaryStart, int[] summaries, BitSet removed,
+            CompactSmartDialTrie added, int[] contactsById) {
+        mSize = size;
+        mEdgeStart = edgeStart;
+        mEdgeDigits = edgeDigits;
+        mEdgeTargets = edgeTargets;
+        mContentStart = contentStart;
+        mSubtreeEnd = subtreeEnd;
+        mContents = contents;
+        mContacts = contacts;
+        mContactKeys = contactKeys;
+        mSummaryStart = summaryStart;
+        mSummaries = summaries;
+        mRemoved = removed;
+        mAdded = added;
+        mContactsById = contactsById;
+    }
+
+    /**
+     * Creates a compact copy of the provided trie. The source trie is not modified and can be
+     * discarded once this constructor returns.
+     */
+    public CompactSmartDialTrie(SmartDialTrie source) {
+        final Node sourceRoot = source.mRoot;
+        mSize = source.size();
+        mRemoved = null;
+        mAdded = null;
+
+        // First pass - count nodes, edges and entries so that every table can be allocated with
+        // its exact final size.
+        int nodeCount = 0;
+        int entryCount = 0;
+        final ArrayList<Node> stack = Lists.newArrayList();
+        stack.add(sourceRoot);
+        while (!stack.isEmpty()) {
+            final Node node = stack.remove(stack.size() - 1);
+            nodeCount++;
+            if (node.getContents() != null) {
+                entryCount += node.getContents().size();
+            }
+            for (int i = 0; i < node.getChildrenSize(); i++) {
+                final Node child = node.getChild(i, false);
+                if (child != null) {
+                    stack.add(child);
+                }
+            }
+        }
+
+        mEdgeStart = new int[nodeCount + 1];
+        mEdgeDigits = new byte[nodeCount - 1];
+        mEdgeTargets = new int[nodeCount - 1];
+        mContentStart = new int[nodeCount + 1];
+        mSubtreeEnd = new int[nodeCount];
+        mContents = new int[entryCount];
+
+        // Second pass - number the nodes in pre-order and fill in the tables. Every pending node
+        // is pushed together with the edge slot of its parent that has to point to it.
+        final IdentityHashMap<ContactNumber, Integer> contactIndexes =
+                new IdentityHashMap<ContactNumber, Integer>();
+        final ArrayList<ContactNumber> contacts = Lists.newArrayList();
+        final ArrayList<Integer> slots = Lists.newArrayList();
+        stack.add(sourceRoot);
+        slots.add(-1);
+        int nextNode = 0;
+        int nextEdge = 0;
+        int nextEntry = 0;
+        while (!stack.isEmpty()) {
+            final Node node = stack.remove(stack.size() - 1);
+            final int slot = slots.remove(slots.size() - 1);
+            final int id = nextNode++;
+            if (slot >= 0) {
+                mEdgeTargets[slot] = id;
+            }
+
+            mContentStart[id] = nextEntry;
+            final ArrayList<ContactNumber> contents = node.getContents();
+            if (contents != null) {
+                for (int i = 0; i < contents.size(); i++) {
+                    final ContactNumber contact = contents.get(i);
+                    Integer index = contactIndexes.get(contact);
+                    if (index == null) {
+                        index = contacts.size();
+                        contactIndexes.put(contact, index);
+                        contacts.add(contact);
+                    }
+                    mContents[nextEntry++] = index;
+                }
+            }
+
+            mEdgeStart[id] = nextEdge;
+            final int firstEdge = nextEdge;
+            for (int i = 0; i < node.getChildrenSize(); i++) {
+                if (node.getChild(i, false) != null) {
+                    mEdgeDigits[nextEdge++] = (byte) i;
+                }
+            }
+            // Push the children in reverse order so that the smallest digit is numbered first
+            for (int edge = nextEdge - 1; edge >= firstEdge; edge--) {
+                stack.add(node.getChild(mEdgeDigits[edge], false));
+                slots.add(edge);
+            }
+        }
+        mEdgeStart[nodeCount] = nextEdge;
+        mContentStart[nodeCount] = nextEntry;
+
+        // Children are always numbered after their parent, so walking backwards guarantees that
+        // the subtree of the last child has already been measured.
+        for (int id = nodeCount - 1; id >= 0; id--) {
+            final int lastEdge = mEdgeStart[id + 1] - 1;
+            mSubtreeEnd[id] = lastEdge >= mEdgeStart[id] ? mSubtreeEnd[mEdgeTargets[lastEdge]]
+                    : id + 1;
+        }
+
+        // Renumber the contacts in order of affinity so that smaller indexes are better matches
+        final ContactNumber[] sorted = contacts.toArray(new ContactNumber[contacts.size()]);
+        Arrays.sort(sorted, new SmartDialCache.ContactAffinityComparator());
+        final int[] newIndexes = new int[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            newIndexes[contactIndexes.get(sorted[i])] = i;
+        }
+        for (int i = 0; i < mContents.length; i++) {
+            mContents[i] = newIndexes[mContents[i]];
+        }
+        mContacts = sorted;
+
+        final HashMap<ContactKey, Integer> keys = Maps.newHashMap();
+        mContactKeys = new int[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            final ContactKey key = new ContactKey(sorted[i].lookupKey, sorted[i].id);
+            Integer value = keys.get(key);
+            if (value == null) {
+                value = keys.size();
+                keys.put(key, value);
+            }
+            mContactKeys[i] = value;
+        }
+
+        // Summaries are computed bottom-up, since the summary of a node can be derived from the
+        // summaries of its children.
+        final int[][] summaries = new int[nodeCount][];
+        int summaryCount = 0;
+        for (int id = nodeCount - 1; id >= 0; id--) {
+            if (getSubtreeEntryCount(id) <= SUMMARY_THRESHOLD) {
+                continue;
+            }
+            int[] candidates = new int[SUMMARY_THRESHOLD];
+            int candidateCount = 0;
+            for (int i = mContentStart[id]; i < mContentStart[id + 1]; i++) {
+                candidates = append(candidates, candidateCount++, mContents[i]);
+            }
+            for (int edge = mEdgeStart[id]; edge < mEdgeStart[id + 1]; edge++) {
+                final int child = mEdgeTargets[edge];
+                if (summaries[child] != null) {
+                    for (int index : summaries[child]) {
+                        candidates = append(candidates, candidateCount++, index);
+                    }
+                } else {
+                    final int end = mContentStart[mSubtreeEnd[child]];
+                    for (int i = mContentStart[child]; i < end; i++) {
+                        candidates = append(candidates, candidateCount++, mContents[i]);
+                    }
+                }
+            }
+            final int[] best = new int[SUMMARY_SIZE];
+            final int bestCount = selectBest(candidates, candidateCount, best);
+            summaries[id] = Arrays.copyOf(best, bestCount);
+            summaryCount += bestCount;
+        }
+        mSummaryStart = new int[nodeCount + 1];
+        mSummaries = new int[summaryCount];
+        int nextSummary = 0;
+        for (int id = 0; id < nodeCount; id++) {
+            mSummaryStart[id] = nextSummary;
+            if (summaries[id] != null) {
+                System.arraycopy(summaries[id], 0, mSummaries, nextSummary, summaries[id].length);
+                nextSummary += summaries[id].length;
+            }
+        }
+        mSummaryStart[nodeCount] = nextSummary;
+    }
+
+    private static int[] append(int[] array, int position, int value) {
+        if (position == array.length) {
+            array = Arrays.copyOf(array, array.length * 2);
+        }
+        array[position] = value;
+        return array;
+    }
+
+    /**
+     * Sorts the first {@code count} candidates and copies the best entry of each contact into
+     * {@code result}, until it is full.
+     *
+     * @return The number of entries written to {@code result}.
+     */
+    private int selectBest(int[] candidates, int count, int[] result) {
+        Arrays.sort(candidates, 0, count);
+        int resultCount = 0;
+        for (int i = 0; i < count && resultCount < result.length; i++) {
+            final int key = mContactKeys[candidates[i]];
+            boolean duplicate = false;
+            for (int j = 0; j < resultCount; j++) {
+                if (mContactKeys[result[j]] == key) {
+                    duplicate = true;
+                    break;
+                }
+            }
+            if (!duplicate) {
+                result[resultCount++] = candidates[i];
+            }
+        }
+        return resultCount;
+    }
+
+    private int getSubtreeEntryCount(int node) {
+        return mContentStart[mSubtreeEnd[node]] - mContentStart[node];
+    }
+
+    /**
+     * Returns all contacts in the prefix tree that correspond to this prefix, in the same order
+     * as {@link SmartDialTrie#getAllWithPrefix(CharSequence)}. Contacts that changed after the
+     * trie was built follow the others.
+     */
+    public ArrayList<ContactNumber> getAllWithPrefix(CharSequence prefix) {
+        final ArrayList<ContactNumber> result = Lists.newArrayList();
+        if (TextUtils.isEmpty(prefix)) {
+            return result;
+        }
+        final int node = findNode(prefix);
+        if (node != NO_NODE) {
+            final int end = mContentStart[mSubtreeEnd[node]];
+            result.ensureCapacity(end - mContentStart[node]);
+            for (int i = mContentStart[node]; i < end; i++) {
+                if (!isRemoved(mContents[i])) {
+                    result.add(mContacts[mContents[i]]);
+                }
+            }
+        }
+        if (mAdded != null) {
+            result.addAll(mAdded.getAllWithPrefix(prefix));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the best contacts that correspond to this prefix, in ascending order of affinity.
+     * Only the entry with the best affinity is returned for each contact (as identified by its
+     * lookup key and id), so different numbers of the same contact are never returned together.
+     *
+     * @param prefix Digits to search for.
+     * @param limit Maximum number of contacts to return.
+     */
+    public ArrayList<ContactNumber> getTopWithPrefix(CharSequence prefix, int limit) {
+        if (TextUtils.isEmpty(prefix) || limit <= 0) {
+            return Lists.newArrayList();
+        }
+        final int node = findNode(prefix);
+        final int addedNode = (mAdded != null) ? mAdded.findNode(prefix) : NO_NODE;
+        return getTopForNode(node, addedNode, limit);
+    }
+
+    /**
+     * Same as {@link #getTopWithPrefix(CharSequence, int)}, but starts from nodes that were
+     * previously looked up through {@link #findNode(CharSequence)} or
+     * {@link #getChild(int, int)}.
+     *
+     * @param node Node of this trie, or {@link #NO_NODE}.
+     * @param addedNode Node of {@link #getAdded()} for the same prefix, or {@link #NO_NODE}.
+     * @param limit Maximum number of contacts to return.
+     */
+    ArrayList<ContactNumber> getTopForNode(int node, int addedNode, int limit) {
+        return getTopForNode(node, addedNode, limit, null);
+    }
+
+    /**
+     * Same as {@link #getTopForNode(int, int, int)}, checking a cancellation signal while
+     * scanning large subtrees.
+     *
+     * @param cancellationSignal Signal to check, or null.
+     * @throws android.os.OperationCanceledException If the search was canceled.
+     */
+    ArrayList<ContactNumber> getTopForNode(int node, int addedNode, int limit,
+            CancellationSignal cancellationSignal) {
+        if (limit <= 0) {
+            return Lists.newArrayList();
+        }
+        final ArrayList<ContactNumber> result = (node != NO_NODE)
+                ? getTopInTables(node, limit, cancellationSignal)
+                : Lists.<ContactNumber>newArrayList();
+        if (addedNode == NO_NODE) {
+            return result;
+        }
+        return merge(result, mAdded.getTopForNode(addedNode, NO_NODE, limit, cancellationSignal),
+                limit);
+    }
+
+    private ArrayList<ContactNumber> getTopInTables(int node, int limit,
+            CancellationSignal cancellationSignal) {
+        final int summaryStart = mSummaryStart[node];
+        final int summaryLength = mSummaryStart[node + 1] - summaryStart;
+        if (summaryLength > 0) {
+            final ArrayList<ContactNumber> result =
+                    Lists.newArrayListWithCapacity(Math.min(limit, summaryLength));
+            for (int i = 0; i < summaryLength && result.size() < limit; i++) {
+                final int index = mSummaries[summaryStart + i];
+                if (!isRemoved(index)) {
+                    result.add(mContacts[index]);
+                }
+            }
+            // The summary holds either enough contacts, or all distinct contacts of the subtree.
+            // Removed contacts do not break this, since all numbers of a contact are removed
+            // together.
+            if (result.size() == limit || summaryLength < SUMMARY_SIZE) {
+                return result;
+            }
+        }
+        final int start = mContentStart[node];
+        final int end = mContentStart[mSubtreeEnd[node]];
+        final int[] candidates = new int[end - start];
+        int candidateCount = 0;
+        for (int i = start; i < end; i++) {
+            if (cancellationSignal != null && (i - start) % CANCELLATION_CHECK_INTERVAL == 0) {
+                cancellationSignal.throwIfCanceled();
+            }
+            if (!isRemoved(mContents[i])) {
+                candidates[candidateCount++] = mContents[i];
+            }
+        }
+        final int[] best = new int[Math.min(limit, candidateCount)];
+        final int count = selectBest(candidates, candidateCount, best);
+        final ArrayList<ContactNumber> result = Lists.newArrayListWithCapacity(count);
+        for (int i = 0; i < count; i++) {
+            result.add(mContacts[best[i]]);
+        }
+        return result;
+    }
+
+    /**
+     * Merges two lists sorted by affinity. The lists never share a contact, since all contacts in
+     * {@link #mAdded} are removed from the tables of this trie.
+     */
+    private static ArrayList<ContactNumber> merge(ArrayList<ContactNumber> first,
+            ArrayList<ContactNumber> second, int limit) {
+        if (second.isEmpty()) {
+            return first;
+        }
+        final ArrayList<ContactNumber> result =
+                Lists.newArrayListWithCapacity(Math.min(limit, first.size() + second.size()));
+        int i = 0;
+        int j = 0;
+        while (result.size() < limit && (i < first.size() || j < second.size())) {
+            if (j == second.size() || (i < first.size()
+                    && first.get(i).affinity <= second.get(j).affinity)) {
+                result.add(first.get(i++));
+            } else {
+                result.add(second.get(j++));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the best contacts with a number that contains the given digits other than at its
+     * start, e.g. that ends with them, in ascending order of affinity. Like
+     * {@link #getTopWithPrefix(CharSequence, int)}, only the entry with the best affinity is
+     * returned for each contact. Numbers that start with the digits are not returned unless they
+     * also contain them further on.
+     *
+     * @param digits Digits to search for. Nothing is returned for fewer than
+     *        {@link SmartDialNumberIndex#MIN_QUERY_LENGTH} digits.
+     * @param limit Maximum number of contacts to return.
+     * @param cancellationSignal Signal to check while searching, or null.
+     * @throws android.os.OperationCanceledException If the search was canceled.
+     */
+    public ArrayList<ContactNumber> getTopContaining(CharSequence digits, int limit,
+            CancellationSignal cancellationSignal) {
+        if (digits.length() < SmartDialNumberIndex.MIN_QUERY_LENGTH || limit <= 0) {
+            return Lists.newArrayList();
+        }
+        final SmartDialNumberIndex index = getNumberIndex();
+        final ArrayList<ContactNumber> result = Lists.newArrayList();
+        if (index != null) {
+            final int[] candidates = index.getNumbersContaining(digits, cancellationSignal);
+            int candidateCount = 0;
+            for (int candidate : candidates) {
+                if (!isRemoved(candidate)) {
+                    candidates[candidateCount++] = candidate;
+                }
+            }
+            final int[] best = new int[Math.min(limit, candidateCount)];
+            final int count = selectBest(candidates, candidateCount, best);
+            result.ensureCapacity(count);
+            for (int i = 0; i < count; i++) {
+                result.add(mContacts[best[i]]);
+            }
+        }
+        if (mAdded == null) {
+            return result;
+        }
+        return merge(result, mAdded.getTopContaining(digits, limit, cancellationSignal), limit);
+    }
+
+    /**
+     * Returns the index of the digits of the numbers in the tables of this trie, building it on
+     * first use. Building it sorts every suffix of every number, so callers that are about to
+     * search numbers should call this on a background thread first.
+     *
+     * @return The index, or null if the numbers have too many digits to be indexed.
+     */
+    synchronized SmartDialNumberIndex getNumberIndex() {
+        if (!mNumberIndexBuilt) {
+            mNumberIndex = SmartDialNumberIndex.build(mContacts);
+            mNumberIndexBuilt = true;
+        }
+        return mNumberIndex;
+    }
+
+    private boolean isRemoved(int contactIndex) {
+        return mRemoved != null && mRemoved.get(contactIndex);
+    }
+
+    /**
+     * Returns a trie that shares the tables of this one, but no longer contains any number of the
+     * given contacts. The contacts of {@code added} are removed as well, and the numbers in
+     * {@code added} take their place. {@code added} replaces any trie passed to a previous call,
+     * so it has to contain all contacts that changed since the tables were built.
+     *
+     * @param removedIds Ids of the contacts that were deleted or changed.
+     * @param added Trie containing the current numbers of all changed contacts, or null.
+     */
+    CompactSmartDialTrie withChanges(Set<Long> removedIds, CompactSmartDialTrie added) {
+        Preconditions.checkArgument(added == null
+                || (added.mAdded == null && added.mRemoved == null));
+        final int[] contactsById = getContactsById();
+        final BitSet removed = (mRemoved != null) ? (BitSet) mRemoved.clone()
+                : new BitSet(mContacts.length);
+        for (long id : removedIds) {
+            for (int i = findFirstById(contactsById, id); i < contactsById.length
+                    && mContacts[contactsById[i]].id == id; i++) {
+                removed.set(contactsById[i]);
+            }
+        }
+        if (added != null) {
+            for (ContactNumber contact : added.mContacts) {
+                for (int i = findFirstById(contactsById, contact.id); i < contactsById.length
+                        && mContacts[contactsById[i]].id == contact.id; i++) {
+                    removed.set(contactsById[i]);
+                }
+            }
+        }
+        return new CompactSmartDialTrie(this, removed, added, contactsById, getNumberIndex());
+    }
+
+    /**
+     * Returns the best affinity the given contact had when the trie was built, or after it last
+     * changed.
+     *
+     * @return The affinity, or -1 if the contact was never part of the trie.
+     */
+    int getAffinity(long contactId) {
+        final int[] contactsById = getContactsById();
+        final int first = findFirstById(contactsById, contactId);
+        if (first < contactsById.length && mContacts[contactsById[first]].id == contactId) {
+            // Entries of the same contact are sorted by index, so the first one is the best
+            return mContacts[contactsById[first]].affinity;
+        }
+        return (mAdded != null) ? mAdded.getAffinity(contactId) : -1;
+    }
+
+    /**
+     * Returns the largest affinity of all contacts in the trie, or -1 if it is empty.
+     */
+    int getMaxAffinity() {
+        final int max = (mContacts.length > 0) ? mContacts[mContacts.length - 1].affinity : -1;
+        return (mAdded != null) ? Math.max(max, mAdded.getMaxAffinity()) : max;
+    }
+
+    /**
+     * Returns the trie holding the contacts that changed since the tables of this trie were
+     * built, or null if there is none.
+     */
+    CompactSmartDialTrie getAdded() {
+        return mAdded;
+    }
+
+    private synchronized int[] getContactsById() {
+        if (mContactsById == null) {
+            final Integer[] order = new Integer[mContacts.length];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, new Comparator<Integer>() {
+                @Override
+                public int compare(Integer lhs, Integer rhs) {
+                    final int result = Long.compare(mContacts[lhs].id, mContacts[rhs].id);
+                    return (result != 0) ? result : lhs.compareTo(rhs);
+                }
+            });
+            final int[] contactsById = new int[order.length];
+            for (int i = 0; i < order.length; i++) {
+                contactsById[i] = order[i];
+            }
+            mContactsById = contactsById;
+        }
+        return mContactsById;
+    }
+
+    /**
+     * Returns the position of the first entry of {@code contactsById} whose contact has the given
+     * id, or where it would be inserted.
+     */
+    private int findFirstById(int[] contactsById, long id) {
+        int low = 0;
+        int high = contactsById.length;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (mContacts[contactsById[middle]].id < id) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the node reached by following the given digits from the root, or {@link #NO_NODE}
+     * if there is no such node.
+     */
+    int findNode(CharSequence prefix) {
+        int current = ROOT;
+        for (int i = 0; i < prefix.length(); i++) {
+            current = getChild(current, prefix.charAt(i) - '0');
+            if (current == NO_NODE) {
+                return NO_NODE;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Returns the child of a node for the given digit (0 - 9), or {@link #NO_NODE} if it does not
+     * exist.
+     */
+    int getChild(int node, int digit) {
+        if (digit < 0 || digit > 9) {
+            return NO_NODE;
+        }
+        final int end = mEdgeStart[node + 1];
+        for (int edge = mEdgeStart[node]; edge < end; edge++) {
+            final int edgeDigit = mEdgeDigits[edge];
+            if (edgeDigit == digit) {
+                return mEdgeTargets[edge];
+            } else if (edgeDigit > digit) {
+                break;
+            }
+        }
+        return NO_NODE;
+    }
+
+    /* Used only for testing to verify the number of entries carried over from the source trie */
+    @VisibleForTesting
+    int numEntries() {
+        int count = 0;
+        for (int index : mContents) {
+            if (!isRemoved(index)) {
+                count++;
+            }
+        }
+        return (mAdded != null) ? count + mAdded.numEntries() : count;
+    }
+
+    @VisibleForTesting
+    int numNodes() {
+        return mSubtreeEnd.length;
+    }
+
+    public int size() {
+        final int removed = (mRemoved != null) ? mRemoved.cardinality() : 0;
+        return mSize - removed + ((mAdded != null) ? mAdded.size() : 0);
+    }
+
+    /**
+     * Writes the tables of this trie to the provided stream, in a format that can be read back
+     * with {@link #readFrom(ByteBuffer)}. Only tries without changes applied can be written.
+     */
+    void writeTo(DataOutputStream out) throws IOException {
+        Preconditions.checkState(mRemoved == null && mAdded == null,
+                "Tries with changes applied cannot be written");
+        out.writeInt(mSize);
+        writeArray(out, mEdgeStart);
+        out.writeInt(mEdgeDigits.length);
+        out.write(mEdgeDigits);
+        writeArray(out, mEdgeTargets);
+        writeArray(out, mContentStart);
+        writeArray(out, mSubtreeEnd);
+        writeArray(out, mContents);
+        out.writeInt(mContacts.length);
+        for (ContactNumber contact : mContacts) {
+            out.writeLong(contact.id);
+            out.writeInt(contact.affinity);
+            writeString(out, contact.displayName);
+            out.writeInt(contact.nameVariants.length);
+            for (String variant : contact.nameVariants) {
+                // Variants that are the display name itself are only stored once
+                writeString(out, variant.equals(contact.displayName) ? null : variant);
+            }
+            writeString(out, contact.phoneNumber);
+            writeString(out, contact.lookupKey);
+        }
+        writeArray(out, mContactKeys);
+        writeArray(out, mSummaryStart);
+        writeArray(out, mSummaries);
+    }
+
+    /**
+     * Reads a trie previously written with {@link #writeTo(DataOutputStream)}. The tables are
+     * copied out of the buffer in bulk, so the buffer can be a memory mapped file that is released
+     * once this method returns.
+     *
+     * @throws java.nio.BufferUnderflowException If the buffer is truncated.
+     * @throws IllegalArgumentException If the tables are not consistent, see
+     *         {@link #checkTables}.
+     */
+    static CompactSmartDialTrie readFrom(ByteBuffer in) {
+        final int size = in.getInt();
+        final int[] edgeStart = readIntArray(in);
+        final byte[] edgeDigits = new byte[in.getInt()];
+        in.get(edgeDigits);
+        final int[] edgeTargets = readIntArray(in);
+        final int[] contentStart = readIntArray(in);
+        final int[] subtreeEnd = readIntArray(in);
+        final int[] contents = readIntArray(in);
+        final ContactNumber[] contacts = new ContactNumber[in.getInt()];
+        for (int i = 0; i < contacts.length; i++) {
+            final long id = in.getLong();
+            final int affinity = in.getInt();
+            final String displayName = readString(in);
+            final String[] nameVariants = new String[in.getInt()];
+            for (int j = 0; j < nameVariants.length; j++) {
+                final String variant = readString(in);
+                nameVariants[j] = (variant != null) ? variant : displayName;
+            }
+            final String phoneNumber = readString(in);
+            final String lookupKey = readString(in);
+            contacts[i] = new ContactNumber(id, displayName, nameVariants, phoneNumber, lookupKey,
+                    affinity);
+        }
+        final int[] contactKeys = readIntArray(in);
+        final int[] summaryStart = readIntArray(in);
+        final int[] summaries = readIntArray(in);
+        checkTables(edgeStart, edgeDigits, edgeTargets, contentStart, subtreeEnd, contents,
+                contacts.length, contactKeys, summaryStart, summaries);
+        return new CompactSmartDialTrie(size, edgeStart, edgeDigits, edgeTargets, contentStart,
+                subtreeEnd, contents, contacts, contactKeys, summaryStart, summaries, null, null,
+                null);
+    }
+
+    /**
+     * Checks that tables read from a snapshot point within each other the way tables built from a
+     * {@link SmartDialTrie} do, so that a corrupt snapshot is rejected when it is read rather than
+     * making searches fail later: the offsets of the edges, contents and summaries of the nodes
+     * are ascending and within their tables, children are numbered after their parent and within
+     * its subtree, and entries refer to existing contacts.
+     *
+     * @throws IllegalArgumentException If the tables are not consistent.
+     */
+    private static void checkTables(int[] edgeStart, byte[] edgeDigits, int[] edgeTargets,
+            int[] contentStart, int[] subtreeEnd, int[] contents, int contactCount,
+            int[] contactKeys, int[] summaryStart, int[] summaries) {
+        final int nodeCount = subtreeEnd.length;
+        Preconditions.checkArgument(nodeCount > 0, "No root node");
+        Preconditions.checkArgument(edgeTargets.length == edgeDigits.length,
+                "Edge tables differ in length");
+        Preconditions.checkArgument(contactKeys.length == contactCount,
+                "Contact keys differ in length from contacts");
+        checkOffsets(edgeStart, nodeCount, edgeTargets.length, "edge");
+        checkOffsets(contentStart, nodeCount, contents.length, "content");
+        checkOffsets(summaryStart, nodeCount, summaries.length, "summary");
+        for (int node = 0; node < nodeCount; node++) {
+            if (subtreeEnd[node] <= node || subtreeEnd[node] > nodeCount) {
+                throw new IllegalArgumentException("Invalid subtree end of node " + node);
+            }
+            for (int edge = edgeStart[node]; edge < edgeStart[node + 1]; edge++) {
+                if (edgeTargets[edge] <= node || edgeTargets[edge] >= subtreeEnd[node]) {
+                    throw new IllegalArgumentException("Invalid child of node " + node);
+                }
+            }
+        }
+        checkIndexes(contents, contactCount, "content");
+        checkIndexes(summaries, contactCount, "summary");
+    }
+
+    /**
+     * Checks that the offsets of the ranges of a table used by each node start at 0, ascend, and
+     * end with the table.
+     */
+    private static void checkOffsets(int[] offsets, int nodeCount, int tableLength,
+            String table) {
+        if (offsets.length != nodeCount + 1 || offsets[0] != 0
+                || offsets[nodeCount] != tableLength) {
+            throw new IllegalArgumentException("Invalid " + table + " offsets");
+        }
+        for (int node = 0; node < nodeCount; node++) {
+            if (offsets[node] > offsets[node + 1]) {
+                throw new IllegalArgumentException("Descending " + table + " offsets");
+            }
+        }
+    }
+
+    /** Checks that the entries of a table are indexes of contacts. */
+    private static void checkIndexes(int[] indexes, int contactCount, String table) {
+        for (int index : indexes) {
+            if (index < 0 || index >= contactCount) {
+                throw new IllegalArgumentException("Invalid contact in " + table + " table");
+            }
+        }
+    }
+
+    private static void writeArray(DataOutputStream out, int[] array) throws IOException {
+        out.writeInt(array.length);
+        for (int value : array) {
+            out.writeInt(value);
+        }
+    }
+
+    private static int[] readIntArray(ByteBuffer in) {
+        final int[] result = new int[in.getInt()];
+        in.asIntBuffer().get(result);
+        in.position(in.position() + result.length * 4);
+        return result;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        final byte[] bytes = value.getBytes(UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        final int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        final byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    private static class ContactKey {
+        public final String lookupKey;
+        public final long id;
+
+        public ContactKey(String lookupKey, long id) {
+            this.lookupKey = lookupKey;
+            this.id = id;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(lookupKey, id);
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (this == object) {
+                return true;
+            }
+            if (object instanceof ContactKey) {
+                ContactKey that = (ContactKey) object;
+                return Objects.equal(this.lookupKey, that.lookupKey)
+                        && Objects.equal(this.id, that.id);
+            }
+            return false;
+        }
+    }
+}
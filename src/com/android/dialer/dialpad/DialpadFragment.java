@@ -33,7 +33,6 @@ import android.graphics.BitmapFactory;
 import android.media.AudioManager;
 import android.media.ToneGenerator;
 import android.net.Uri;
-import android.os.AsyncTask;
 import android.os.Bundle;
 import android.os.Handler;
 import android.os.RemoteException;
@@ -100,7 +99,7 @@ public class DialpadFragment extends Fragment
         AdapterView.OnItemClickListener, TextWatcher,
         PopupMenu.OnMenuItemClickListener,
         DialpadImageButton.OnPressedListener,
-        SmartDialLoaderTask.SmartDialLoaderCallback {
+        SmartDialLoaderTask.SmartDialLoaderCallback, SmartDialCache.CacheListener {
     private static final String TAG = DialpadFragment.class.getSimpleName();
 
     private static final boolean DEBUG = DialtactsActivity.DEBUG;
@@ -158,6 +157,11 @@ public class DialpadFragment extends Fragment
     private SmartDialController mSmartDialAdapter;
 
     private SmartDialCache mSmartDialCache;
+
+    /** Lets each smart dial search continue from the state of the previous keypress. */
+    private final SmartDialSearchSession mSmartDialSearchSession = new SmartDialSearchSession();
+    private SmartDialQueryScheduler mSmartDialScheduler;
+
     /**
      * Master switch controlling whether or not smart dialing is enabled, and whether the
      * smart dialing suggestion strip is visible.
@@ -372,6 +376,16 @@ public class DialpadFragment extends Fragment
         if (mSmartDialContainer != null) {
             mSmartDialAdapter = new SmartDialController(getActivity(), mSmartDialContainer,
                     new OnSmartDialShortClick(), new OnSmartDialLongClick());
+            if (DEBUG) {
+                mSmartDialAdapter.setFrameTimeListener(
+                        new SmartDialController.FrameTimeListener() {
+                            @Override
+                            public void onFrame(long frameNanos, boolean animated) {
+                                Log.d(TAG, "Smart dial frame: " + frameNanos / 1000 + " us"
+                                        + (animated ? "" : " (not animated)"));
+                            }
+                        });
+            }
         }
         return fragmentView;
     }
@@ -658,6 +672,16 @@ public class DialpadFragment extends Fragment
         // lookup the last dialed number has completed.
         mLastNumberDialed = EMPTY_NUMBER;  // Since we are going to query again, free stale number.
 
+        if (mSmartDialCache != null) {
+            mSmartDialCache.setCacheListener(null);
+        }
+        if (mSmartDialScheduler != null) {
+            // Don't keep searching while in the background. Canceled searches never return their
+            // results, so search the digits again when resumed.
+            mSmartDialScheduler.cancel();
+            mLastDigitsForSmartDial = null;
+        }
+
         SpecialCharSequenceMgr.cleanup();
     }
 
@@ -1700,10 +1724,10 @@ public class DialpadFragment extends Fragment
         mLastDigitsForSmartDial = digits;
 
         if (digits.length() < 1) {
+            mSmartDialScheduler.cancel();
             mSmartDialAdapter.clear();
         } else {
-            final SmartDialLoaderTask task = new SmartDialLoaderTask(this, digits, mSmartDialCache);
-            task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR, new String[] {});
+            mSmartDialScheduler.schedule(digits);
         }
     }
 
@@ -1715,12 +1739,28 @@ public class DialpadFragment extends Fragment
         mSmartDialAdapter.setEntries(data);
     }
 
+    @Override
+    public void onCacheUpdated() {
+        // The contacts changed, or were cached for the first time, so search them again
+        if (!TextUtils.isEmpty(mLastDigitsForSmartDial)) {
+            mLastDigitsForSmartDial = null;
+            loadSmartDialEntries();
+        }
+    }
+
     private void initializeSmartDialingState() {
         // Handle smart dialing related state
         if (mSmartDialEnabled) {
             mSmartDialContainer.setVisibility(View.VISIBLE);
             mSmartDialCache = SmartDialCache.getInstance(getActivity(),
                     mContactsPrefs.getDisplayOrder());
+            mSmartDialCache.setCacheListener(this);
+            if (mSmartDialScheduler != null) {
+                mSmartDialScheduler.cancel();
+            }
+            mSmartDialScheduler = new SmartDialQueryScheduler(mSmartDialCache,
+                    mSmartDialSearchSession, this);
+            loadSmartDialEntries();
             // Don't force recache if this is the first time onResume is being called, since
             // caching should already happen in setUserVisibleHint.
             if (!mFirstLaunch) {
@@ -1735,7 +1775,14 @@ public class DialpadFragment extends Fragment
             if (mSmartDialContainer != null) {
                 mSmartDialContainer.setVisibility(View.GONE);
             }
+            if (mSmartDialCache != null) {
+                mSmartDialCache.setCacheListener(null);
+            }
             mSmartDialCache = null;
+            if (mSmartDialScheduler != null) {
+                mSmartDialScheduler.cancel();
+                mSmartDialScheduler = null;
+            }
         }
     }
 
@@ -18,56 +18,104 @@ package com.android.dialer.dialpad;
 
 import static com.android.dialer.dialpad.SmartDialController.LOG_TAG;
 
+import android.content.ContentResolver;
 import android.content.Context;
 import android.content.SharedPreferences;
+import android.database.ContentObserver;
 import android.database.Cursor;
 import android.net.Uri;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Process;
+import android.os.SystemClock;
 import android.preference.PreferenceManager;
 import android.provider.ContactsContract;
 import android.provider.ContactsContract.CommonDataKinds.Phone;
 import android.provider.ContactsContract.Contacts;
 import android.provider.ContactsContract.Data;
+import android.provider.ContactsContract.DeletedContacts;
 import android.provider.ContactsContract.Directory;
 import android.telephony.TelephonyManager;
 import android.text.TextUtils;
 import android.util.Log;
 
 import com.android.contacts.common.util.StopWatch;
-import com.android.dialer.util.HanziToPinyin;
+import com.android.contacts.common.util.UriUtils;
+import com.android.dialer.calllog.ContactInfo;
+import com.android.dialer.calllog.ContactNumberIndex;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Sets;
 
+import java.io.File;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * Cache object used to cache Smart Dial contacts that handles various states of the cache at the
- * point in time when getContacts() is called
- * 1) Cache is currently empty and there is no caching thread running - getContacts() starts a
- * caching thread and returns the cache when completed
- * 2) The cache is currently empty, but a caching thread has been started - getContacts() waits
- * till the existing caching thread is completed before immediately returning the cache
- * 3) The cache has already been populated, and there is no caching thread running - getContacts()
- * returns the existing cache immediately
- * 4) The cache has already been populated, but there is another caching thread running (due to
- * a forced cache refresh due to content updates - getContacts() returns the existing cache
- * immediately
+ * Cache object used to cache Smart Dial contacts.
+ *
+ * <p>The cache is built and brought up to date by tasks that run one at a time on a single
+ * background thread owned by the cache. Requests to update the cache made while such a task is
+ * queued or running are coalesced into one more pass, and changes to the contacts are picked up by
+ * a {@link ContentObserver}, which waits for bursts of changes, such as those of a sync, to settle
+ * before requesting an update.</p>
+ *
+ * <p>Each pass builds a new trie while the previous one keeps being served, and then publishes it
+ * with a single volatile write, so getContacts() never waits for a pass to finish: it returns the
+ * last trie that was published, or an empty trie if none was published yet. Listeners set with
+ * {@link #setCacheListener} are told when a new trie is published, so that they can search it
+ * again.</p>
+ *
+ * <p>Every time the cache is built it is also saved as a {@link SmartDialSnapshot}. The first
+ * caching attempt of a process populates the cache from that snapshot. Later caching attempts,
+ * including forced ones, only apply the contacts that changed since to the existing cache, and
+ * rebuild it from scratch once it gets old or too many contacts changed.</p>
+ *
+ * <p>The phone numbers of the contacts are read by the same queries into a
+ * {@link ContactNumberIndex}, which is kept up to date along with the trie, so that the call log
+ * can look callers up in memory, see {@link #getPhoneLookupIndex}.</p>
+ *
+ * <p>The cache keeps {@link Metrics} of its builds and of how up to date the served trie is.</p>
  */
 public class SmartDialCache {
 
     public static class ContactNumber {
         public final String displayName;
+        /**
+         * Strings the name of the contact is indexed and matched by: the pinyin readings of
+         * Chinese names, their initials, and the display name itself for other names, in which
+         * case the display name instance is shared rather than copied. Never empty.
+         */
+        public final String[] nameVariants;
         public final String lookupKey;
         public final long id;
         public final int affinity;
         public final String phoneNumber;
+        /**
+         * Digits of the keys each of the name variants is typed with, as mapped by the trie the
+         * contact was last put into, so that matching queries against the name does not have to
+         * map it again. Null until the contact is put into a trie.
+         */
+        byte[][] nameDigits;
 
         public ContactNumber(long id, String displayName, String phoneNumber, String lookupKey,
                 int affinity) {
+            this(id, displayName, new String[] {displayName}, phoneNumber, lookupKey, affinity);
+        }
+
+        public ContactNumber(long id, String displayName, String[] nameVariants,
+                String phoneNumber, String lookupKey, int affinity) {
+            Preconditions.checkArgument(nameVariants.length > 0, "No name variants");
             this.displayName = displayName;
+            this.nameVariants = nameVariants;
             this.lookupKey = lookupKey;
             this.id = id;
             this.affinity = affinity;
@@ -91,6 +139,10 @@ public class SmartDialCache {
             Phone.CONTACT_ID,                   // 4
             Phone.LOOKUP_KEY,                   // 5
             Phone.DISPLAY_NAME_PRIMARY,         // 6
+            Phone.NORMALIZED_NUMBER,            // 7
+            Phone.PHOTO_ID,                     // 8
+            Phone.PHOTO_URI,                    // 9
+            Phone.DISPLAY_NAME_PRIMARY,         // 10
         };
 
         final String[] PROJECTION_ALTERNATIVE = new String[] {
@@ -101,6 +153,10 @@ public class SmartDialCache {
             Phone.CONTACT_ID,                   // 4
             Phone.LOOKUP_KEY,                   // 5
             Phone.DISPLAY_NAME_ALTERNATIVE,     // 6
+            Phone.NORMALIZED_NUMBER,            // 7
+            Phone.PHOTO_ID,                     // 8
+            Phone.PHOTO_URI,                    // 9
+            Phone.DISPLAY_NAME_PRIMARY,         // 10
         };
 
         public static final int PHONE_ID           = 0;
@@ -110,6 +166,11 @@ public class SmartDialCache {
         public static final int PHONE_CONTACT_ID   = 4;
         public static final int PHONE_LOOKUP_KEY   = 5;
         public static final int PHONE_DISPLAY_NAME = 6;
+        public static final int PHONE_NORMALIZED_NUMBER = 7;
+        public static final int PHONE_PHOTO_ID     = 8;
+        public static final int PHONE_PHOTO_URI    = 9;
+        // The name callers are shown with, whatever the name display order
+        public static final int PHONE_CALLER_NAME  = 10;
 
         // Current contacts - those contacted within the last 3 days (in milliseconds)
         final static long LAST_TIME_USED_CURRENT_MS = 3L * 24 * 60 * 60 * 1000;
@@ -140,14 +201,171 @@ public class SmartDialCache {
                 + Data.IS_PRIMARY + " DESC";
     }
 
-    // Static set used to determine which countries use NANP numbers
-    public static Set<String> sNanpCountries = null;
+    /** Listener told when the cached contacts change. */
+    public interface CacheListener {
+        /**
+         * Called on the UI thread after a new trie was published, which
+         * {@link SmartDialCache#getContacts()} returns from then on.
+         */
+        void onCacheUpdated();
+    }
+
+    /** Counters of a {@link SmartDialCache}. */
+    public static class Metrics {
+        /** Times the cache was built from scratch, including from a snapshot. */
+        public final int fullBuilds;
+        /** Times the contacts that changed were applied to the existing cache. */
+        public final int updates;
+        /** Caching attempts that failed, leaving the previous cache in place. */
+        public final int failures;
+        /** Requests to update the cache that were merged into a pass already queued. */
+        public final int coalescedRequests;
+        /** Time taken by the last full build. */
+        public final long lastBuildMillis;
+        /** Time taken by the last update. */
+        public final long lastUpdateMillis;
+        /** Time since the served trie was last brought up to date, or -1 if there is none. */
+        public final long cacheAgeMillis;
+        /**
+         * Time since the oldest change to the contacts that the served trie does not include yet
+         * was notified, or 0 if it includes all the changes notified so far.
+         */
+        public final long stalenessMillis;
+
+        Metrics(int fullBuilds, int updates, int failures, int coalescedRequests,
+                long lastBuildMillis, long lastUpdateMillis, long cacheAgeMillis,
+                long stalenessMillis) {
+            this.fullBuilds = fullBuilds;
+            this.updates = updates;
+            this.failures = failures;
+            this.coalescedRequests = coalescedRequests;
+            this.lastBuildMillis = lastBuildMillis;
+            this.lastUpdateMillis = lastUpdateMillis;
+            this.cacheAgeMillis = cacheAgeMillis;
+            this.stalenessMillis = stalenessMillis;
+        }
+
+        @Override
+        public String toString() {
+            return "builds " + fullBuilds + ", updates " + updates + ", failures " + failures
+                    + ", coalesced " + coalescedRequests + ", last build " + lastBuildMillis
+                    + " ms, last update " + lastUpdateMillis + " ms, age " + cacheAgeMillis
+                    + " ms, stale " + stalenessMillis + " ms";
+        }
+    }
+
+    /**
+     * Returned until a trie is published. Shared, so that queries typed while the cache is being
+     * built neither allocate a trie each nor reset the {@link SmartDialSearchSession} they use.
+     */
+    private static final CompactSmartDialTrie EMPTY_CONTACTS =
+            new CompactSmartDialTrie(new SmartDialTrie());
 
-    private SmartDialTrie mContactsCache;
-    private static AtomicInteger mCacheStatus;
+    /** Last trie published, only ever replaced as a whole. */
+    private volatile CompactSmartDialTrie mContactsCache;
+    /**
+     * Phone numbers of the contacts of the last trie published, or null if they were not read
+     * yet. Only ever replaced as a whole.
+     */
+    private volatile ContactNumberIndex mPhoneLookupIndex;
+    private final AtomicInteger mCacheStatus = new AtomicInteger(CACHE_NEEDS_RECACHE);
     private final int mNameDisplayOrder;
     private final Context mContext;
-    private final static Object mLock = new Object();
+    /** Guards the state of the cache, which only caching passes use. */
+    private final Object mLock = new Object();
+
+    /**
+     * Time to wait after a change to the contacts before updating the cache, so that the changes
+     * notified in the meantime are applied by the same pass.
+     */
+    private static final long CONTACTS_CHANGE_DELAY_MS = 1000;
+
+    /** Runs the caching passes, one at a time. */
+    private final ExecutorService mExecutor = Executors.newSingleThreadExecutor(
+            new ThreadFactory() {
+                @Override
+                public Thread newThread(final Runnable r) {
+                    return new Thread(new Runnable() {
+                        @Override
+                        public void run() {
+                            Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+                            r.run();
+                        }
+                    }, "SmartDialCache");
+                }
+            });
+    /** Set when a pass has to run, and cleared by the pass before it starts. */
+    private final AtomicBoolean mRecacheRequested = new AtomicBoolean();
+    /** True while a caching task is queued or running on {@link #mExecutor}. */
+    private final AtomicBoolean mCachingScheduled = new AtomicBoolean();
+
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
+    private volatile CacheListener mCacheListener;
+
+    private final Runnable mCachingTask = new Runnable() {
+        @Override
+        public void run() {
+            while (mRecacheRequested.getAndSet(false)) {
+                cacheContacts(mContext);
+                // Calls made since the last caching attempt rank their contacts higher right
+                // away, rather than after the next full rebuild.
+                mRanker.update(mContext.getContentResolver());
+            }
+            mCachingScheduled.set(false);
+            // A request made after the last check above found the task still scheduled
+            if (mRecacheRequested.get() && mCachingScheduled.compareAndSet(false, true)) {
+                mExecutor.execute(this);
+            }
+        }
+    };
+
+    private final Runnable mNotifyCacheUpdated = new Runnable() {
+        @Override
+        public void run() {
+            final CacheListener listener = mCacheListener;
+            if (listener != null) {
+                listener.onCacheUpdated();
+            }
+        }
+    };
+
+    private final Runnable mRecacheAfterChanges = new Runnable() {
+        @Override
+        public void run() {
+            // Contacts are not cached until the dialpad asks for them the first time
+            if (mContactsCache != null) {
+                cacheIfNeeded(true);
+            }
+        }
+    };
+
+    /**
+     * Notified on a binder thread rather than on the main thread, so that the numbers returned by
+     * {@link #getPhoneLookupIndex} are known to be out of date as soon as the change is notified,
+     * in particular before the call log looks the changed numbers up again.
+     */
+    private final ContentObserver mContactsObserver = new ContentObserver(null) {
+        @Override
+        public void onChange(boolean selfChange) {
+            if (mFirstPendingChangeMillis == 0) {
+                mFirstPendingChangeMillis = SystemClock.elapsedRealtime();
+            }
+            mHandler.removeCallbacks(mRecacheAfterChanges);
+            mHandler.postDelayed(mRecacheAfterChanges, CONTACTS_CHANGE_DELAY_MS);
+        }
+    };
+
+    // Counters reported by getMetrics(), only written by caching passes unless atomic
+    private volatile int mFullBuilds;
+    private volatile int mUpdates;
+    private volatile int mFailures;
+    private final AtomicInteger mCoalescedRequests = new AtomicInteger();
+    private volatile long mLastBuildMillis;
+    private volatile long mLastUpdateMillis;
+    /** Time at which the served trie was last brought up to date, or 0. */
+    private volatile long mPublishedMillis;
+    /** Time at which the oldest change not included in the served trie was notified, or 0. */
+    private volatile long mFirstPendingChangeMillis;
 
     /** The country code of the user's sim card obtained by calling getSimCountryIso*/
     private static final String PREF_USER_SIM_COUNTRY_CODE =
@@ -155,19 +373,60 @@ public class SmartDialCache {
     private static final String PREF_USER_SIM_COUNTRY_CODE_DEFAULT = null;
 
     private static String sUserSimCountryCode = PREF_USER_SIM_COUNTRY_CODE_DEFAULT;
-    private static boolean sUserInNanpRegion = false;
+    private static SmartDialNumberRules sUserNumberRules = SmartDialNumberRules.NONE;
 
     public static final int CACHE_NEEDS_RECACHE = 1;
     public static final int CACHE_IN_PROGRESS = 2;
     public static final int CACHE_COMPLETED = 3;
 
+    /** Name of the file in the cache directory the last built trie is saved to. */
+    private static final String SNAPSHOT_FILE_NAME = "smartdial_index";
+
+    /** True once the snapshot has been considered, whether or not it could be used. */
+    private boolean mSnapshotChecked = false;
+
+    /**
+     * Number of changed contacts after which the cache is rebuilt rather than updated, since the
+     * trie holding the changed contacts is rebuilt on every update.
+     */
+    private static final int MAX_CHANGED_CONTACTS = 200;
+
+    /**
+     * Maximum time between full rebuilds of the cache. Updates do not touch unchanged contacts,
+     * so their affinities only follow the call history when the cache is rebuilt. This is also
+     * well below the time for which deleted contacts are tracked by the contacts provider.
+     */
+    private static final long MAX_CACHE_AGE_MS = 24L * 60 * 60 * 1000;
+
+    /**
+     * Maximum number of full pinyin variants, and of first letter variants, indexed per name.
+     * Every polyphonic character multiplies the number of variants of a name.
+     */
+    private static final int MAX_NAME_VARIANTS = 16;
+
+    /** Map of the characters of names to digits that mContactsCache was built with. */
+    private volatile SmartDialCharMap mCharMap = SmartDialCharMap.LATIN;
+
+    /** Usage of the numbers in the call log, which the matches of queries are ranked by. */
+    private final SmartDialRanker mRanker = new SmartDialRanker();
+
+    // The following fields describe the state of mContactsCache and are guarded by mLock
+    private String mCacheLocale;
+    /** Time at which the contacts were queried for the last full rebuild. */
+    private long mBuildTimestamp;
+    /** Latest contact update and deletion applied to the cache. */
+    private long mLastUpdatedTimestamp;
+    private long mLastDeletedTimestamp;
+    /** Current numbers of the contacts that changed since the last full rebuild, or null. */
+    private SmartDialTrie mChangedContacts;
+    private final Set<Long> mChangedContactIds = Sets.newHashSet();
+
     private static final boolean DEBUG = false;
 
     private SmartDialCache(Context context, int nameDisplayOrder) {
         mNameDisplayOrder = nameDisplayOrder;
         Preconditions.checkNotNull(context, "Context must not be null");
         mContext = context.getApplicationContext();
-        mCacheStatus = new AtomicInteger(CACHE_NEEDS_RECACHE);
 
         final TelephonyManager manager = (TelephonyManager) context.getSystemService(
                 Context.TELEPHONY_SERVICE);
@@ -187,8 +446,11 @@ public class SmartDialCache {
                     PREF_USER_SIM_COUNTRY_CODE_DEFAULT);
         }
 
-        sUserInNanpRegion = isCountryNanp(sUserSimCountryCode);
+        sUserNumberRules = SmartDialNumberRules.forRegion(sUserSimCountryCode);
 
+        // The cache lives as long as the process, and so does the observer
+        mContext.getContentResolver().registerContentObserver(Contacts.CONTENT_URI, true,
+                mContactsObserver);
     }
 
     private static SmartDialCache instance;
@@ -209,18 +471,72 @@ public class SmartDialCache {
         return instance;
     }
 
+    /**
+     * Returns the instance of SmartDialCache if it was created, or null otherwise.
+     */
+    public static synchronized SmartDialCache peekInstance() {
+        return instance;
+    }
+
     /**
      * Performs a database query, iterates through the returned cursor and saves the retrieved
-     * contacts to a local cache.
+     * contacts to a local cache. If the cache was built recently, only the contacts that changed
+     * since are queried and applied to the existing cache. Only called by caching passes.
      */
     private void cacheContacts(Context context) {
         mCacheStatus.set(CACHE_IN_PROGRESS);
+        final long startMillis = SystemClock.elapsedRealtime();
+        final File snapshotFile = new File(context.getCacheDir(), SNAPSHOT_FILE_NAME);
+        final Locale defaultLocale = Locale.getDefault();
+        final String locale = defaultLocale.toString();
+        final SmartDialCharMap charMap = SmartDialCharMap.forLocale(defaultLocale);
         synchronized(mLock) {
+            if (!mSnapshotChecked) {
+                // First caching attempt of this process. Serve the trie saved by a previous
+                // process right away, and then bring it up to date.
+                mSnapshotChecked = true;
+                final SmartDialSnapshot snapshot = SmartDialSnapshot.read(snapshotFile,
+                        mNameDisplayOrder, sUserNumberRules, locale);
+                if (snapshot != null) {
+                    mCacheLocale = locale;
+                    mCharMap = charMap;
+                    mBuildTimestamp = snapshot.buildTimestamp;
+                    mLastUpdatedTimestamp = snapshot.lastUpdatedTimestamp;
+                    mLastDeletedTimestamp = snapshot.lastDeletedTimestamp;
+                    mChangedContacts = null;
+                    mChangedContactIds.clear();
+                    mFullBuilds++;
+                    publishContacts(snapshot.trie);
+                }
+            }
             if (DEBUG) {
-                Log.d(LOG_TAG, "Starting caching thread");
+                Log.d(LOG_TAG, "Starting caching pass");
             }
             final StopWatch stopWatch = DEBUG ? StopWatch.start("SmartDial Cache") : null;
-            final String millis = String.valueOf(System.currentTimeMillis());
+            final long now = System.currentTimeMillis();
+            if (mContactsCache != null && locale.equals(mCacheLocale)
+                    && now - mBuildTimestamp < MAX_CACHE_AGE_MS
+                    && updateChangedContacts(context)) {
+                if (DEBUG) {
+                    stopWatch.stopAndLog("SmartDial changed contacts applied", 0);
+                }
+                if (mPhoneLookupIndex == null) {
+                    // The trie was read from the snapshot, which does not hold the numbers
+                    queryPhoneLookupIndex(context);
+                }
+                mUpdates++;
+                mLastUpdateMillis = SystemClock.elapsedRealtime() - startMillis;
+                markUpToDate(startMillis);
+                mCacheStatus.set(CACHE_COMPLETED);
+                return;
+            }
+            // Query the timestamps first, so that contacts changing while the cache is built are
+            // picked up by the next update.
+            final long lastUpdated = queryLatestTimestamp(context, Contacts.CONTENT_URI,
+                    Contacts.CONTACT_LAST_UPDATED_TIMESTAMP);
+            final long lastDeleted = queryLatestTimestamp(context, DeletedContacts.CONTENT_URI,
+                    DeletedContacts.CONTACT_DELETED_TIMESTAMP);
+            final String millis = String.valueOf(now);
             final Cursor c = context.getContentResolver().query(PhoneQuery.URI,
                     (mNameDisplayOrder == ContactsContract.Preferences.DISPLAY_ORDER_PRIMARY)
                         ? PhoneQuery.PROJECTION_PRIMARY : PhoneQuery.PROJECTION_ALTERNATIVE,
@@ -234,119 +550,341 @@ public class SmartDialCache {
                 if (DEBUG) {
                     stopWatch.stopAndLog("SmartDial query received null for cursor", 0);
                 }
-                mCacheStatus.getAndSet(CACHE_NEEDS_RECACHE);
+                mFailures++;
+                mCacheStatus.set(CACHE_NEEDS_RECACHE);
                 return;
             }
-            final SmartDialTrie cache = new SmartDialTrie(
-                    SmartDialNameMatcher.LATIN_LETTERS_TO_DIGITS, sUserInNanpRegion);
+            final SmartDialTrieBuilder builder = new SmartDialTrieBuilder(charMap,
+                    sUserNumberRules, MAX_NAME_VARIANTS);
+            final ContactNumberIndex phoneLookupIndex = new ContactNumberIndex();
             try {
                 c.moveToPosition(-1);
-                int affinityCount = 0;
                 while (c.moveToNext()) {
-                    final String displayName = c.getString(PhoneQuery.PHONE_DISPLAY_NAME);
-                    final String phoneNumber = c.getString(PhoneQuery.PHONE_NUMBER);
-                    final long id = c.getLong(PhoneQuery.PHONE_CONTACT_ID);
-                    final String lookupKey = c.getString(PhoneQuery.PHONE_LOOKUP_KEY);
-                    String[] AllFullPinYin=HanziToPinyin.getInstance().getAllFullWordsString(displayName);
-                    String[] AllFirstPinYin=HanziToPinyin.getInstance().getAllFirstPinyin(displayName);
-                    for(int i=0;i<AllFullPinYin.length;i++){
-                    	cache.put(new ContactNumber(id, AllFullPinYin[i] + "|" + displayName, phoneNumber, lookupKey,
-                                affinityCount));
-                        affinityCount++;
-                    }
-                    for(int i=0;i<AllFirstPinYin.length;i++){
-                    	cache.put(new ContactNumber(id, AllFirstPinYin[i] + "|" + displayName, phoneNumber, lookupKey,
-                                affinityCount));
-                        affinityCount++;
-                    }
+                    addContact(builder, c, SmartDialTrieBuilder.NEXT_AFFINITY);
+                    addPhoneNumber(phoneLookupIndex, c);
                 }
             } finally {
                 c.close();
-                mContactsCache = cache;
-                if (DEBUG) {
-                    stopWatch.stopAndLog("SmartDial caching completed", 0);
-                }
+            }
+            if (DEBUG) {
+                stopWatch.lap("SmartDial cursor read");
+            }
+            final SmartDialTrie cache;
+            try {
+                cache = builder.build(0, Runtime.getRuntime().availableProcessors());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                Log.w(LOG_TAG, "SmartDial caching interrupted");
+                mFailures++;
+                mCacheStatus.set(CACHE_NEEDS_RECACHE);
+                return;
+            }
+            // Flatten the trie so that the cache that stays in memory is made up of a few
+            // primitive arrays rather than one object per node. The previous trie is served
+            // until this one is complete.
+            final CompactSmartDialTrie contacts = new CompactSmartDialTrie(cache);
+            mChangedContacts = null;
+            mChangedContactIds.clear();
+            if (DEBUG) {
+                stopWatch.lap("SmartDial caching completed");
+            }
+            mCacheLocale = locale;
+            mCharMap = charMap;
+            mLastUpdatedTimestamp = lastUpdated;
+            mLastDeletedTimestamp = lastDeleted;
+            mPhoneLookupIndex = phoneLookupIndex;
+            publishContacts(contacts);
+            mFullBuilds++;
+            mLastBuildMillis = SystemClock.elapsedRealtime() - startMillis;
+            markUpToDate(startMillis);
+            if (lastUpdated >= 0 && lastDeleted >= 0) {
+                mBuildTimestamp = now;
+                SmartDialSnapshot.write(snapshotFile, new SmartDialSnapshot(contacts, now,
+                        lastUpdated, lastDeleted), mNameDisplayOrder, sUserNumberRules, locale);
+            } else {
+                // Changes cannot be tracked without the timestamps, so rebuild next time
+                mBuildTimestamp = 0;
+            }
+            if (DEBUG) {
+                stopWatch.stopAndLog("SmartDial snapshot saved", 0);
             }
         }
         if (DEBUG) {
-            Log.d(LOG_TAG, "Caching thread completed");
+            Log.d(LOG_TAG, "Caching pass completed: " + getMetrics());
+        }
+        mCacheStatus.set(CACHE_COMPLETED);
+    }
+
+    /**
+     * Makes a trie the one that getContacts() returns, and tells the listener. The digits of its
+     * numbers are indexed first, so that searches never have to wait for the index.
+     */
+    private void publishContacts(CompactSmartDialTrie contacts) {
+        contacts.getNumberIndex();
+        mContactsCache = contacts;
+        mHandler.post(mNotifyCacheUpdated);
+    }
+
+    /**
+     * Records that the served trie includes the changes to the contacts made before a pass
+     * started.
+     */
+    private void markUpToDate(long passStartMillis) {
+        mPublishedMillis = passStartMillis;
+        if (mFirstPendingChangeMillis <= passStartMillis) {
+            mFirstPendingChangeMillis = 0;
+        }
+    }
+
+    /**
+     * Adds the contact number the cursor is positioned on to the builder.
+     *
+     * @param affinity Affinity of the first name variant, see
+     *        {@link SmartDialTrieBuilder#add(long, String, String, String, int)}.
+     */
+    private static void addContact(SmartDialTrieBuilder builder, Cursor c, int affinity) {
+        builder.add(c.getLong(PhoneQuery.PHONE_CONTACT_ID),
+                c.getString(PhoneQuery.PHONE_DISPLAY_NAME), c.getString(PhoneQuery.PHONE_NUMBER),
+                c.getString(PhoneQuery.PHONE_LOOKUP_KEY), affinity);
+    }
+
+    /**
+     * Adds the contact number the cursor is positioned on to the index of phone numbers.
+     */
+    private static void addPhoneNumber(ContactNumberIndex index, Cursor c) {
+        final ContactInfo info = new ContactInfo();
+        final long contactId = c.getLong(PhoneQuery.PHONE_CONTACT_ID);
+        info.lookupUri = Contacts.getLookupUri(contactId,
+                c.getString(PhoneQuery.PHONE_LOOKUP_KEY));
+        info.name = c.getString(PhoneQuery.PHONE_CALLER_NAME);
+        info.type = c.getInt(PhoneQuery.PHONE_TYPE);
+        info.label = c.getString(PhoneQuery.PHONE_LABEL);
+        info.number = c.getString(PhoneQuery.PHONE_NUMBER);
+        info.normalizedNumber = c.getString(PhoneQuery.PHONE_NORMALIZED_NUMBER);
+        info.photoId = c.getLong(PhoneQuery.PHONE_PHOTO_ID);
+        info.photoUri = UriUtils.parseUriOrNull(c.getString(PhoneQuery.PHONE_PHOTO_URI));
+        index.addPhoneNumber(contactId, info);
+    }
+
+    /**
+     * Reads the phone numbers of all contacts into a new index of phone numbers, for a trie that
+     * was not built from the contacts by this process.
+     */
+    private void queryPhoneLookupIndex(Context context) {
+        final Cursor c = context.getContentResolver().query(PhoneQuery.URI,
+                (mNameDisplayOrder == ContactsContract.Preferences.DISPLAY_ORDER_PRIMARY)
+                    ? PhoneQuery.PROJECTION_PRIMARY : PhoneQuery.PROJECTION_ALTERNATIVE,
+                null, null, null);
+        if (c == null) {
+            return;
         }
-        mCacheStatus.getAndSet(CACHE_COMPLETED);
+        final ContactNumberIndex index = new ContactNumberIndex();
+        try {
+            while (c.moveToNext()) {
+                addPhoneNumber(index, c);
+            }
+        } finally {
+            c.close();
+        }
+        mPhoneLookupIndex = index;
     }
 
     /**
-     * Returns the list of cached contacts. This is blocking so it should not be called from the UI
-     * thread. There are 4 possible scenarios:
+     * Queries the contacts that were changed or deleted since the cache was last updated, and
+     * applies them to the existing cache. The cost depends on the number of changed contacts
+     * rather than on the size of the address book.
      *
-     * 1) Cache is currently empty and there is no caching thread running - getContacts() starts a
-     * caching thread and returns the cache when completed
-     * 2) The cache is currently empty, but a caching thread has been started - getContacts() waits
-     * till the existing caching thread is completed before immediately returning the cache
-     * 3) The cache has already been populated, and there is no caching thread running -
-     * getContacts() returns the existing cache immediately
-     * 4) The cache has already been populated, but there is another caching thread running (due to
-     * a forced cache refresh due to content updates - getContacts() returns the existing cache
-     * immediately
+     * <p>Changed contacts keep the affinity they had when the cache was built, and new contacts
+     * are ranked after all others, until the next full rebuild recomputes the affinities.</p>
      *
-     * @return List of already cached contacts, or an empty list if the caching failed for any
-     * reason.
+     * @return False if the cache has to be rebuilt instead.
      */
-    public SmartDialTrie getContacts() {
-        // Either scenario 3 or 4 - This means just go ahead and return the existing cache
-        // immediately even if there is a caching thread currently running. We are guaranteed to
-        // have the newest value of mContactsCache at this point because it is volatile.
-        if (mContactsCache != null) {
-            return mContactsCache;
-        }
-        // At this point we are forced to wait for cacheContacts to complete in another thread(if
-        // one currently exists) because of mLock.
-        synchronized(mLock) {
-            // If mContactsCache is still null at this point, either there was never any caching
-            // process running, or it failed (Scenario 1). If so, just go ahead and try to cache
-            // the contacts again.
-            if (mContactsCache == null) {
-                cacheContacts(mContext);
-                return (mContactsCache == null) ? new SmartDialTrie() : mContactsCache;
-            } else {
-                // After waiting for the lock on mLock to be released, mContactsCache is now
-                // non-null due to the completion of the caching thread (Scenario 2). Go ahead
-                // and return the existing cache.
-                return mContactsCache;
+    private boolean updateChangedContacts(Context context) {
+        final ContentResolver resolver = context.getContentResolver();
+        final Set<Long> changedIds = Sets.newHashSet();
+
+        long lastUpdated = mLastUpdatedTimestamp;
+        final Cursor updated = resolver.query(Contacts.CONTENT_URI,
+                new String[] {Contacts._ID, Contacts.CONTACT_LAST_UPDATED_TIMESTAMP},
+                Contacts.CONTACT_LAST_UPDATED_TIMESTAMP + " > ?",
+                new String[] {String.valueOf(mLastUpdatedTimestamp)}, null);
+        if (updated == null) {
+            return false;
+        }
+        try {
+            while (updated.moveToNext()) {
+                changedIds.add(updated.getLong(0));
+                lastUpdated = Math.max(lastUpdated, updated.getLong(1));
+            }
+        } finally {
+            updated.close();
+        }
+
+        long lastDeleted = mLastDeletedTimestamp;
+        final Cursor deleted = resolver.query(DeletedContacts.CONTENT_URI,
+                new String[] {
+                        DeletedContacts.CONTACT_ID, DeletedContacts.CONTACT_DELETED_TIMESTAMP},
+                DeletedContacts.CONTACT_DELETED_TIMESTAMP + " > ?",
+                new String[] {String.valueOf(mLastDeletedTimestamp)}, null);
+        if (deleted == null) {
+            return false;
+        }
+        try {
+            while (deleted.moveToNext()) {
+                changedIds.add(deleted.getLong(0));
+                lastDeleted = Math.max(lastDeleted, deleted.getLong(1));
+            }
+        } finally {
+            deleted.close();
+        }
+
+        if (changedIds.isEmpty()) {
+            return true;
+        }
+        final Set<Long> allChangedIds = Sets.newHashSet(mChangedContactIds);
+        allChangedIds.addAll(changedIds);
+        if (allChangedIds.size() > MAX_CHANGED_CONTACTS) {
+            // The trie of changed contacts is rebuilt on every update, so stop growing it
+            return false;
+        }
+
+        final String millis = String.valueOf(System.currentTimeMillis());
+        final Cursor c = resolver.query(PhoneQuery.URI,
+                (mNameDisplayOrder == ContactsContract.Preferences.DISPLAY_ORDER_PRIMARY)
+                    ? PhoneQuery.PROJECTION_PRIMARY : PhoneQuery.PROJECTION_ALTERNATIVE,
+                Phone.CONTACT_ID + " IN (" + TextUtils.join(",", changedIds) + ")",
+                new String[] {millis, millis}, PhoneQuery.SORT_ORDER);
+        if (c == null) {
+            return false;
+        }
+        if (mChangedContacts == null) {
+            mChangedContacts = new SmartDialTrie(mCharMap, sUserNumberRules);
+        }
+        mChangedContacts.remove(changedIds);
+        final SmartDialTrieBuilder builder = new SmartDialTrieBuilder(mCharMap,
+                sUserNumberRules, MAX_NAME_VARIANTS);
+        final ContactNumberIndex phoneLookupIndex = (mPhoneLookupIndex != null)
+                ? mPhoneLookupIndex.copyWithout(changedIds) : null;
+        try {
+            while (c.moveToNext()) {
+                // Contacts that are not in the cache yet get NEXT_AFFINITY
+                addContact(builder, c, mContactsCache.getAffinity(
+                        c.getLong(PhoneQuery.PHONE_CONTACT_ID)));
+                if (phoneLookupIndex != null) {
+                    addPhoneNumber(phoneLookupIndex, c);
+                }
             }
+        } finally {
+            c.close();
+        }
+        try {
+            // Too few contacts change at a time to be worth more than one thread
+            mChangedContacts.putAll(builder.build(mContactsCache.getMaxAffinity() + 1, 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
         }
+        if (phoneLookupIndex != null) {
+            mPhoneLookupIndex = phoneLookupIndex;
+        }
+        publishContacts(mContactsCache.withChanges(changedIds,
+                new CompactSmartDialTrie(mChangedContacts)));
+        mChangedContactIds.addAll(changedIds);
+        mLastUpdatedTimestamp = lastUpdated;
+        mLastDeletedTimestamp = lastDeleted;
+        return true;
     }
 
     /**
-     * Cache contacts only if there is a need to (forced cache refresh or no attempt to cache yet).
-     * This method is called in 2 places: whenever the DialpadFragment comes into view, and in
-     * onResume.
+     * Returns the largest value of a timestamp column.
+     *
+     * @return The timestamp, 0 if there are no rows, or -1 if the query failed.
+     */
+    private static long queryLatestTimestamp(Context context, Uri uri, String column) {
+        final Cursor c = context.getContentResolver().query(
+                uri.buildUpon().appendQueryParameter(ContactsContract.LIMIT_PARAM_KEY, "1")
+                        .build(),
+                new String[] {column}, null, null, column + " DESC");
+        if (c == null) {
+            return -1;
+        }
+        try {
+            return c.moveToFirst() ? c.getLong(0) : 0;
+        } finally {
+            c.close();
+        }
+    }
+
+    /**
+     * Returns the cached contacts. This never waits for the cache to be built or updated: it
+     * returns the last trie that was published, and starts caching the contacts if no attempt to
+     * cache them was made yet. The trie returned is never modified.
+     *
+     * @return Cached contacts, or an empty trie if no trie was published yet.
+     */
+    public CompactSmartDialTrie getContacts() {
+        final CompactSmartDialTrie contacts = mContactsCache;
+        if (contacts != null) {
+            return contacts;
+        }
+        cacheIfNeeded(false);
+        return EMPTY_CONTACTS;
+    }
+
+    /**
+     * Returns the phone numbers of the cached contacts, which callers can be looked up in without
+     * querying the contacts provider. This never starts caching the contacts.
      *
-     * @param forceRecache If true, force a cache refresh.
+     * @return The numbers, or null if they were not read yet or changes to the contacts were
+     *         notified that they do not include yet.
      */
+    public ContactNumberIndex getPhoneLookupIndex() {
+        if (mFirstPendingChangeMillis != 0) {
+            return null;
+        }
+        return mPhoneLookupIndex;
+    }
 
+    /**
+     * Cache contacts only if there is a need to (forced cache refresh or no attempt to cache yet).
+     * This method is called whenever the DialpadFragment comes into view, in onResume, and when
+     * the contacts change. It returns right away, the contacts being cached in the background.
+     *
+     * @param forceRecache If true, bring the cache up to date even if it was built already.
+     */
     public void cacheIfNeeded(boolean forceRecache) {
         if (DEBUG) {
-            Log.d("SmartDial", "cacheIfNeeded called with " + String.valueOf(forceRecache));
+            Log.d(LOG_TAG, "cacheIfNeeded called with " + String.valueOf(forceRecache));
+        }
+        if (!forceRecache && mCacheStatus.get() != CACHE_NEEDS_RECACHE) {
+            return;
         }
-        if (mCacheStatus.get() == CACHE_IN_PROGRESS) {
+        // This can be called many times in rapid succession, so a request made while a pass is
+        // queued, or running but did not start reading the contacts yet, is served by that pass.
+        if (mRecacheRequested.getAndSet(true)) {
+            mCoalescedRequests.incrementAndGet();
             return;
         }
-        if (forceRecache || mCacheStatus.get() == CACHE_NEEDS_RECACHE) {
-            // Because this method can be possibly be called multiple times in rapid succession,
-            // set the cache status even before starting a caching thread to avoid unnecessarily
-            // spawning extra threads.
-            mCacheStatus.set(CACHE_IN_PROGRESS);
-            startCachingThread();
+        if (mCachingScheduled.compareAndSet(false, true)) {
+            mExecutor.execute(mCachingTask);
         }
     }
 
-    private void startCachingThread() {
-        new Thread(new Runnable() {
-            @Override
-            public void run() {
-                cacheContacts(mContext);
-            }
-        }).start();
+    /**
+     * Sets the listener told when the cached contacts change, or null.
+     */
+    public void setCacheListener(CacheListener listener) {
+        mCacheListener = listener;
+    }
+
+    public Metrics getMetrics() {
+        final long now = SystemClock.elapsedRealtime();
+        final long published = mPublishedMillis;
+        final long firstPendingChange = mFirstPendingChangeMillis;
+        return new Metrics(mFullBuilds, mUpdates, mFailures, mCoalescedRequests.get(),
+                mLastBuildMillis, mLastUpdateMillis,
+                (mContactsCache == null || published == 0) ? -1 : now - published,
+                (firstPendingChange == 0) ? 0 : now - firstPendingChange);
     }
 
     public static class ContactAffinityComparator implements Comparator<ContactNumber> {
@@ -360,8 +898,27 @@ public class SmartDialCache {
 
     }
 
-    public boolean getUserInNanpRegion() {
-        return sUserInNanpRegion;
+    /**
+     * Returns the ranker that orders the contacts matching a query.
+     */
+    public SmartDialRanker getRanker() {
+        return mRanker;
+    }
+
+    /**
+     * Returns the dialing plan of the user's region, which the cached numbers were indexed with
+     * and which queries against numbers must be matched with.
+     */
+    public SmartDialNumberRules getNumberRules() {
+        return sUserNumberRules;
+    }
+
+    /**
+     * Returns the map of the characters of names to digits that the cached contacts were indexed
+     * with, which queries against their names must be matched with.
+     */
+    public SmartDialCharMap getCharMap() {
+        return mCharMap;
     }
 
     /**
@@ -372,41 +929,6 @@ public class SmartDialCache {
      */
     @VisibleForTesting
     static boolean isCountryNanp(String country) {
-        if (TextUtils.isEmpty(country)) {
-            return false;
-        }
-        if (sNanpCountries == null) {
-            sNanpCountries = initNanpCountries();
-        }
-        return sNanpCountries.contains(country.toUpperCase());
-    }
-
-    private static Set<String> initNanpCountries() {
-        final HashSet<String> result = new HashSet<String>();
-        result.add("US"); // United States
-        result.add("CA"); // Canada
-        result.add("AS"); // American Samoa
-        result.add("AI"); // Anguilla
-        result.add("AG"); // Antigua and Barbuda
-        result.add("BS"); // Bahamas
-        result.add("BB"); // Barbados
-        result.add("BM"); // Bermuda
-        result.add("VG"); // British Virgin Islands
-        result.add("KY"); // Cayman Islands
-        result.add("DM"); // Dominica
-        result.add("DO"); // Dominican Republic
-        result.add("GD"); // Grenada
-        result.add("GU"); // Guam
-        result.add("JM"); // Jamaica
-        result.add("PR"); // Puerto Rico
-        result.add("MS"); // Montserrat
-        result.add("MP"); // Northern Mariana Islands
-        result.add("KN"); // Saint Kitts and Nevis
-        result.add("LC"); // Saint Lucia
-        result.add("VC"); // Saint Vincent and the Grenadines
-        result.add("TT"); // Trinidad and Tobago
-        result.add("TC"); // Turks and Caicos Islands
-        result.add("VI"); // U.S. Virgin Islands
-        return result;
+        return SmartDialNumberRules.forRegion(country).getCountryCode() == 1;
     }
 }
@@ -0,0 +1,548 @@
+/*
+ * Copyright (C) 2013 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.dialer.dialpad;
+
+import com.google.common.base.Preconditions;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Maps the characters of contact names to the digits of the dialpad keys they are on.
+ *
+ * <p>Accented latin characters are on the key of the letter they are based on, e.g. 'Ü' is on the
+ * key of 'u'. Letters of other scripts are on no key unless the map includes a {@link Script}
+ * for them, for users whose dialpad shows the letters of their alphabet. Characters that are on no
+ * key separate the tokens of a name.</p>
+ *
+ * <p>Both the accent folding and the mapping to digits are precomputed into tables, so that
+ * mapping a character costs a single array read.</p>
+ */
+public class SmartDialCharMap {
+    /** Digit of the characters that are on no key. */
+    public static final byte SEPARATOR = -1;
+
+    /** Last character of the Latin Extended-B block, the last one with accented latin letters. */
+    private static final char LAST_FOLDED_CHAR = '\u024f';
+
+    /** Characters up to {@link #LAST_FOLDED_CHAR} with their diacritics stripped. */
+    private static final char[] FOLDED_CHARS = new char[LAST_FOLDED_CHAR + 1];
+
+    static {
+        for (char c = 0; c <= LAST_FOLDED_CHAR; c++) {
+            FOLDED_CHARS[c] = remapAccentedChar(c);
+        }
+    }
+
+    /**
+     * Letters of a script other than latin and the keys they are on. Upper case and accented
+     * letters are on the key of the lower case letter they are based on.
+     */
+    public static class Script {
+        private final char mFirst;
+        private final char mLast;
+        private final String[] mKeys;
+
+        /**
+         * @param first First character of the Unicode block of the script.
+         * @param last Last character of the Unicode block of the script.
+         * @param keys Lower case letters on each key, indexed by the digit of the key.
+         */
+        public Script(char first, char last, String... keys) {
+            Preconditions.checkArgument(first <= last && keys.length <= 10);
+            mFirst = first;
+            mLast = last;
+            mKeys = keys;
+        }
+
+        private byte getDigit(char c) {
+            final char base = Character.toLowerCase(Normalizer.normalize(String.valueOf(c),
+                    Normalizer.Form.NFD).charAt(0));
+            for (int digit = 0; digit < mKeys.length; digit++) {
+                if (mKeys[digit].indexOf(base) >= 0) {
+                    return (byte) digit;
+                }
+            }
+            return SEPARATOR;
+        }
+    }
+
+    /** Russian keypad layout, with the additional letters of Ukrainian. */
+    public static final Script CYRILLIC = new Script('\u0400', '\u04ff', "", "", "абвгґ",
+            "деєёжз", "иіїйкл", "мноп", "рсту", "фхцч", "шщъы", "ьэюя");
+
+    /** Greek keypad layout. */
+    public static final Script GREEK = new Script('\u0370', '\u03ff', "", "", "αβγ", "δεζ",
+            "ηθι", "κλμ", "νξο", "πρσς", "τυφ", "χψω");
+
+    /** Latin letters only, the letters every dialpad shows. */
+    public static final SmartDialCharMap LATIN = new SmartDialCharMap(
+            SmartDialNameMatcher.LATIN_LETTERS_TO_DIGITS);
+
+    /** Latin and cyrillic letters. */
+    public static final SmartDialCharMap LATIN_CYRILLIC = new SmartDialCharMap(
+            SmartDialNameMatcher.LATIN_LETTERS_TO_DIGITS, CYRILLIC);
+
+    /** Latin and greek letters. */
+    public static final SmartDialCharMap LATIN_GREEK = new SmartDialCharMap(
+            SmartDialNameMatcher.LATIN_LETTERS_TO_DIGITS, GREEK);
+
+    /** Digit of each character, up to the last character of the last script of the map. */
+    private final byte[] mDigits;
+
+    /**
+     * @param latinLettersToDigits Digits of the latin letters 'a' to 'z'.
+     * @param scripts Letters of other scripts to map to digits.
+     */
+    public SmartDialCharMap(char[] latinLettersToDigits, Script... scripts) {
+        int size = LAST_FOLDED_CHAR + 1;
+        for (Script script : scripts) {
+            size = Math.max(size, script.mLast + 1);
+        }
+        mDigits = new byte[size];
+        Arrays.fill(mDigits, SEPARATOR);
+        for (char c = 0; c <= LAST_FOLDED_CHAR; c++) {
+            final char folded = FOLDED_CHARS[c];
+            if (folded >= '0' && folded <= '9') {
+                mDigits[c] = (byte) (folded - '0');
+            } else if (folded >= 'a' && folded <= 'z') {
+                mDigits[c] = (byte) (latinLettersToDigits[folded - 'a'] - '0');
+            }
+        }
+        for (Script script : scripts) {
+            for (char c = script.mFirst; c <= script.mLast; c++) {
+                mDigits[c] = script.getDigit(c);
+            }
+        }
+    }
+
+    /**
+     * Returns the map to use for the dialpad of the given locale.
+     */
+    public static SmartDialCharMap forLocale(Locale locale) {
+        final String language = locale.getLanguage();
+        if ("ru".equals(language) || "uk".equals(language) || "be".equals(language)
+                || "bg".equals(language) || "sr".equals(language) || "mk".equals(language)
+                || "kk".equals(language)) {
+            return LATIN_CYRILLIC;
+        }
+        if ("el".equals(language)) {
+            return LATIN_GREEK;
+        }
+        return LATIN;
+    }
+
+    /**
+     * Returns the digit of the key a character is on, or {@link #SEPARATOR} if it is on no key.
+     */
+    public byte getDigit(char c) {
+        return (c < mDigits.length) ? mDigits[c] : SEPARATOR;
+    }
+
+    /**
+     * Returns the digits of the keys the characters are on, with {@link #SEPARATOR} for the
+     * characters that are on no key.
+     */
+    public byte[] toDigits(CharSequence chars) {
+        final byte[] result = new byte[chars.length()];
+        toDigits(chars, result);
+        return result;
+    }
+
+    /**
+     * Writes the digits of the keys the characters are on into an existing array, which must be
+     * at least as long as the characters.
+     */
+    public void toDigits(CharSequence chars, byte[] digits) {
+        final int length = chars.length();
+        for (int i = 0; i < length; i++) {
+            digits[i] = getDigit(chars.charAt(i));
+        }
+    }
+
+    /**
+     * Strips the diacritics from accented latin characters and remaps upper case latin characters
+     * to their lower case equivalents. Other characters are returned as they are.
+     */
+    public static char foldAccents(char c) {
+        return (c <= LAST_FOLDED_CHAR) ? FOLDED_CHARS[c] : c;
+    }
+
+    /*
+     * The switch statement in this function was generated using the python code:
+     * from unidecode import unidecode
+     * for i in range(192, 564):
+     *     char = unichr(i)
+     *     decoded = unidecode(char)
+     *     # Unicode characters that decompose into multiple characters i.e.
+     *     #  into ss are not supported for now
+     *     if (len(decoded) == 1 and decoded.isalpha()):
+     *         print "case '" + char + "': return '" + unidecode(char) +  "';"
+     *
+     * This gives us a way to map characters containing accents/diacritics to their
+     * alphabetic equivalents. The unidecode library can be found at:
+     * http://pypi.python.org/pypi/Unidecode/0.04.1
+     *
+     * Also remaps all upper case latin characters to their lower case equivalents.
+     *
+     * Only used to fill {@link #FOLDED_CHARS}, see {@link #foldAccents(char)}.
+     */
+    private static char remapAccentedChar(char c) {
+        switch (c) {
+            case 'À': return 'a';
+            case 'Á': return 'a';
+            case 'Â': return 'a';
+            case 'Ã': return 'a';
+            case 'Ä': return 'a';
+            case 'Å': return 'a';
+            case 'Ç': return 'c';
+            case 'È': return 'e';
+            case 'É': return 'e';
+            case 'Ê': return 'e';
+            case 'Ë': return 'e';
+            case 'Ì': return 'i';
+            case 'Í': return 'i';
+            case 'Î': return 'i';
+            case 'Ï': return 'i';
+            case 'Ð': return 'd';
+            case 'Ñ': return 'n';
+            case 'Ò': return 'o';
+            case 'Ó': return 'o';
+            case 'Ô': return 'o';
+            case 'Õ': return 'o';
+            case 'Ö': return 'o';
+            case '×': return 'x';
+            case 'Ø': return 'o';
+            case 'Ù': return 'u';
+            case 'Ú': return 'u';
+            case 'Û': return 'u';
+            case 'Ü': return 'u';
+            case 'Ý': return 'u';
+            case 'à': return 'a';
+            case 'á': return 'a';
+            case 'â': return 'a';
+            case 'ã': return 'a';
+            case 'ä': return 'a';
+            case 'å': return 'a';
+            case 'ç': return 'c';
+            case 'è': return 'e';
+            case 'é': return 'e';
+            case 'ê': return 'e';
+            case 'ë': return 'e';
+            case 'ì': return 'i';
+            case 'í': return 'i';
+            case 'î': return 'i';
+            case 'ï': return 'i';
+            case 'ð': return 'd';
+            case 'ñ': return 'n';
+            case 'ò': return 'o';
+            case 'ó': return 'o';
+            case 'ô': return 'o';
+            case 'õ': return 'o';
+            case 'ö': return 'o';
+            case 'ø': return 'o';
+            case 'ù': return 'u';
+            case 'ú': return 'u';
+            case 'û': return 'u';
+            case 'ü': return 'u';
+            case 'ý': return 'y';
+            case 'ÿ': return 'y';
+            case 'Ā': return 'a';
+            case 'ā': return 'a';
+            case 'Ă': return 'a';
+            case 'ă': return 'a';
+            case 'Ą': return 'a';
+            case 'ą': return 'a';
+            case 'Ć': return 'c';
+            case 'ć': return 'c';
+            case 'Ĉ': return 'c';
+            case 'ĉ': return 'c';
+            case 'Ċ': return 'c';
+            case 'ċ': return 'c';
+            case 'Č': return 'c';
+            case 'č': return 'c';
+            case 'Ď': return 'd';
+            case 'ď': return 'd';
+            case 'Đ': return 'd';
+            case 'đ': return 'd';
+            case 'Ē': return 'e';
+            case 'ē': return 'e';
+            case 'Ĕ': return 'e';
+            case 'ĕ': return 'e';
+            case 'Ė': return 'e';
+            case 'ė': return 'e';
+            case 'Ę': return 'e';
+            case 'ę': return 'e';
+            case 'Ě': return 'e';
+            case 'ě': return 'e';
+            case 'Ĝ': return 'g';
+            case 'ĝ': return 'g';
+            case 'Ğ': return 'g';
+            case 'ğ': return 'g';
+            case 'Ġ': return 'g';
+            case 'ġ': return 'g';
+            case 'Ģ': return 'g';
+            case 'ģ': return 'g';
+            case 'Ĥ': return 'h';
+            case 'ĥ': return 'h';
+            case 'Ħ': return 'h';
+            case 'ħ': return 'h';
+            case 'Ĩ': return 'i';
+            case 'ĩ': return 'i';
+            case 'Ī': return 'i';
+            case 'ī': return 'i';
+            case 'Ĭ': return 'i';
+            case 'ĭ': return 'i';
+            case 'Į': return 'i';
+            case 'į': return 'i';
+            case 'İ': return 'i';
+            case 'ı': return 'i';
+            case 'Ĵ': return 'j';
+            case 'ĵ': return 'j';
+            case 'Ķ': return 'k';
+            case 'ķ': return 'k';
+            case 'ĸ': return 'k';
+            case 'Ĺ': return 'l';
+            case 'ĺ': return 'l';
+            case 'Ļ': return 'l';
+            case 'ļ': return 'l';
+            case 'Ľ': return 'l';
+            case 'ľ': return 'l';
+            case 'Ŀ': return 'l';
+            case 'ŀ': return 'l';
+            case 'Ł': return 'l';
+            case 'ł': return 'l';
+            case 'Ń': return 'n';
+            case 'ń': return 'n';
+            case 'Ņ': return 'n';
+            case 'ņ': return 'n';
+            case 'Ň': return 'n';
+            case 'ň': return 'n';
+            case 'Ō': return 'o';
+            case 'ō': return 'o';
+            case 'Ŏ': return 'o';
+            case 'ŏ': return 'o';
+            case 'Ő': return 'o';
+            case 'ő': return 'o';
+            case 'Ŕ': return 'r';
+            case 'ŕ': return 'r';
+            case 'Ŗ': return 'r';
+            case 'ŗ': return 'r';
+            case 'Ř': return 'r';
+            case 'ř': return 'r';
+            case 'Ś': return 's';
+            case 'ś': return 's';
+            case 'Ŝ': return 's';
+            case 'ŝ': return 's';
+            case 'Ş': return 's';
+            case 'ş': return 's';
+            case 'Š': return 's';
+            case 'š': return 's';
+            case 'Ţ': return 't';
+            case 'ţ': return 't';
+            case 'Ť': return 't';
+            case 'ť': return 't';
+            case 'Ŧ': return 't';
+            case 'ŧ': return 't';
+            case 'Ũ': return 'u';
+            case 'ũ': return 'u';
+            case 'Ū': return 'u';
+            case 'ū': return 'u';
+            case 'Ŭ': return 'u';
+            case 'ŭ': return 'u';
+            case 'Ů': return 'u';
+            case 'ů': return 'u';
+            case 'Ű': return 'u';
+            case 'ű': return 'u';
+            case 'Ų': return 'u';
+            case 'ų': return 'u';
+            case 'Ŵ': return 'w';
+            case 'ŵ': return 'w';
+            case 'Ŷ': return 'y';
+            case 'ŷ': return 'y';
+            case 'Ÿ': return 'y';
+            case 'Ź': return 'z';
+            case 'ź': return 'z';
+            case 'Ż': return 'z';
+            case 'ż': return 'z';
+            case 'Ž': return 'z';
+            case 'ž': return 'z';
+            case 'ſ': return 's';
+            case 'ƀ': return 'b';
+            case 'Ɓ': return 'b';
+            case 'Ƃ': return 'b';
+            case 'ƃ': return 'b';
+            case 'Ɔ': return 'o';
+            case 'Ƈ': return 'c';
+            case 'ƈ': return 'c';
+            case 'Ɖ': return 'd';
+            case 'Ɗ': return 'd';
+            case 'Ƌ': return 'd';
+            case 'ƌ': return 'd';
+            case 'ƍ': return 'd';
+            case 'Ɛ': return 'e';
+            case 'Ƒ': return 'f';
+            case 'ƒ': return 'f';
+            case 'Ɠ': return 'g';
+            case 'Ɣ': return 'g';
+            case 'Ɩ': return 'i';
+            case 'Ɨ': return 'i';
+            case 'Ƙ': return 'k';
+            case 'ƙ': return 'k';
+            case 'ƚ': return 'l';
+            case 'ƛ': return 'l';
+            case 'Ɯ': return 'w';
+            case 'Ɲ': return 'n';
+            case 'ƞ': return 'n';
+            case 'Ɵ': return 'o';
+            case 'Ơ': return 'o';
+            case 'ơ': return 'o';
+            case 'Ƥ': return 'p';
+            case 'ƥ': return 'p';
+            case 'ƫ': return 't';
+            case 'Ƭ': return 't';
+            case 'ƭ': return 't';
+            case 'Ʈ': return 't';
+            case 'Ư': return 'u';
+            case 'ư': return 'u';
+            case 'Ʊ': return 'y';
+            case 'Ʋ': return 'v';
+            case 'Ƴ': return 'y';
+            case 'ƴ': return 'y';
+            case 'Ƶ': return 'z';
+            case 'ƶ': return 'z';
+            case 'ƿ': return 'w';
+            case 'Ǎ': return 'a';
+            case 'ǎ': return 'a';
+            case 'Ǐ': return 'i';
+            case 'ǐ': return 'i';
+            case 'Ǒ': return 'o';
+            case 'ǒ': return 'o';
+            case 'Ǔ': return 'u';
+            case 'ǔ': return 'u';
+            case 'Ǖ': return 'u';
+            case 'ǖ': return 'u';
+            case 'Ǘ': return 'u';
+            case 'ǘ': return 'u';
+            case 'Ǚ': return 'u';
+            case 'ǚ': return 'u';
+            case 'Ǜ': return 'u';
+            case 'ǜ': return 'u';
+            case 'Ǟ': return 'a';
+            case 'ǟ': return 'a';
+            case 'Ǡ': return 'a';
+            case 'ǡ': return 'a';
+            case 'Ǥ': return 'g';
+            case 'ǥ': return 'g';
+            case 'Ǧ': return 'g';
+            case 'ǧ': return 'g';
+            case 'Ǩ': return 'k';
+            case 'ǩ': return 'k';
+            case 'Ǫ': return 'o';
+            case 'ǫ': return 'o';
+            case 'Ǭ': return 'o';
+            case 'ǭ': return 'o';
+            case 'ǰ': return 'j';
+            case 'ǲ': return 'd';
+            case 'Ǵ': return 'g';
+            case 'ǵ': return 'g';
+            case 'Ƿ': return 'w';
+            case 'Ǹ': return 'n';
+            case 'ǹ': return 'n';
+            case 'Ǻ': return 'a';
+            case 'ǻ': return 'a';
+            case 'Ǿ': return 'o';
+            case 'ǿ': return 'o';
+            case 'Ȁ': return 'a';
+            case 'ȁ': return 'a';
+            case 'Ȃ': return 'a';
+            case 'ȃ': return 'a';
+            case 'Ȅ': return 'e';
+            case 'ȅ': return 'e';
+            case 'Ȇ': return 'e';
+            case 'ȇ': return 'e';
+            case 'Ȉ': return 'i';
+            case 'ȉ': return 'i';
+            case 'Ȋ': return 'i';
+            case 'ȋ': return 'i';
+            case 'Ȍ': return 'o';
+            case 'ȍ': return 'o';
+            case 'Ȏ': return 'o';
+            case 'ȏ': return 'o';
+            case 'Ȑ': return 'r';
+            case 'ȑ': return 'r';
+            case 'Ȓ': return 'r';
+            case 'ȓ': return 'r';
+            case 'Ȕ': return 'u';
+            case 'ȕ': return 'u';
+            case 'Ȗ': return 'u';
+            case 'ȗ': return 'u';
+            case 'Ș': return 's';
+            case 'ș': return 's';
+            case 'Ț': return 't';
+            case 'ț': return 't';
+            case 'Ȝ': return 'y';
+            case 'ȝ': return 'y';
+            case 'Ȟ': return 'h';
+            case 'ȟ': return 'h';
+            case 'Ȥ': return 'z';
+            case 'ȥ': return 'z';
+            case 'Ȧ': return 'a';
+            case 'ȧ': return 'a';
+            case 'Ȩ': return 'e';
+            case 'ȩ': return 'e';
+            case 'Ȫ': return 'o';
+            case 'ȫ': return 'o';
+            case 'Ȭ': return 'o';
+            case 'ȭ': return 'o';
+            case 'Ȯ': return 'o';
+            case 'ȯ': return 'o';
+            case 'Ȱ': return 'o';
+            case 'ȱ': return 'o';
+            case 'Ȳ': return 'y';
+            case 'ȳ': return 'y';
+            case 'A': return 'a';
+            case 'B': return 'b';
+            case 'C': return 'c';
+            case 'D': return 'd';
+            case 'E': return 'e';
+            case 'F': return 'f';
+            case 'G': return 'g';
+            case 'H': return 'h';
+            case 'I': return 'i';
+            case 'J': return 'j';
+            case 'K': return 'k';
+            case 'L': return 'l';
+            case 'M': return 'm';
+            case 'N': return 'n';
+            case 'O': return 'o';
+            case 'P': return 'p';
+            case 'Q': return 'q';
+            case 'R': return 'r';
+            case 'S': return 's';
+            case 'T': return 't';
+            case 'U': return 'u';
+            case 'V': return 'v';
+            case 'W': return 'w';
+            case 'X': return 'x';
+            case 'Y': return 'y';
+            case 'Z': return 'z';
+            default: return c;
+        }
+    }
+}
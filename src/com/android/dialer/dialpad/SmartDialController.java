@@ -23,11 +23,13 @@ import android.text.SpannableString;
 import android.text.TextUtils;
 import android.text.style.ForegroundColorSpan;
 import android.util.Log;
+import android.view.Choreographer;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.View.OnClickListener;
 import android.view.ViewGroup;
 import android.view.View.OnLongClickListener;
+import android.view.ViewTreeObserver;
 import android.view.animation.AccelerateDecelerateInterpolator;
 import android.view.animation.DecelerateInterpolator;
 import android.view.animation.Interpolator;
@@ -41,9 +43,12 @@ import com.android.dialer.util.HanziToPinyin;
 import com.android.dialer.dialpad.SmartDialMatchPosition;
 import com.android.dialer.dialpad.SmartDialNameMatcher;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -52,18 +57,88 @@ import java.util.List;
 * It allows a list of SmartDialEntries to be assigned to the suggestion strip via
 * {@link #setEntries}, and also animates the removal of old suggestions.
 *
-* To avoid creating new views every time new entries are assigned, references to 2 *
-* {@link #NUM_SUGGESTIONS} views are kept in {@link #mViews} and {@link #mViewOverlays}.
+* Each of the {@link #NUM_SUGGESTIONS} slots of the strip that holds a suggestion has a view in
+* {@link #mSlotViews}. When new entries are assigned, only the slots whose entry changed are
+* touched, see {@link #diffEntries}: a slot that keeps the same contact keeps its view, which is
+* rebound to the new entry, while a slot that gets another contact gets a new view, and its former
+* view is moved to the overlay of the strip to provide the illusion of the former suggestion fading
+* out using the {@link View#getOverlay()} API. Views are inflated when first needed and recycled
+* afterwards.
 *
-* {@code mViews} contains the active views that are currently being displayed to the user,
-* while {@code mViewOverlays} contains the views that are used as view overlays. The view
-* overlays are used to provide the illusion of the former suggestions fading out. These two
-* lists of views are rotated each time a new set of entries is assigned to achieve the appropriate
-* cross fade animations using the new {@link View#getOverlay()} API.
+* Views are only bound to their entry, which highlights the matched characters, when their slot
+* is scrolled into view, see {@link #bindVisibleSlots}. Animations are skipped while frames are
+* being dropped, as measured by {@link FrameMonitor}.
 */
 public class SmartDialController {
     public static final String LOG_TAG = "SmartDial";
 
+    /**
+     * Receives the time between the frames drawn while the strip is being updated, e.g. to
+     * measure how smoothly suggestions are animated.
+     */
+    public interface FrameTimeListener {
+        /**
+         * @param frameNanos Time between this frame and the previous one.
+         * @param animated Whether the update being drawn is animated.
+         */
+        void onFrame(long frameNanos, boolean animated);
+    }
+
+    /**
+     * Watches the frames drawn during the {@link #ANIM_DURATION} that follows each update, and
+     * counts the frames that came late.
+     */
+    @VisibleForTesting
+    class FrameMonitor implements Choreographer.FrameCallback {
+        private boolean mRunning;
+        private boolean mAnimated;
+        private long mEndNanos;
+        private long mLastFrameNanos;
+        private int mLateFrames;
+
+        void start(boolean animated) {
+            mAnimated = animated;
+            mLateFrames = 0;
+            mEndNanos = System.nanoTime() + ANIM_DURATION * 1000000;
+            if (!mRunning) {
+                mRunning = true;
+                mLastFrameNanos = 0;
+                Choreographer.getInstance().postFrameCallback(this);
+            }
+        }
+
+        void stop() {
+            if (mRunning) {
+                mRunning = false;
+                Choreographer.getInstance().removeFrameCallback(this);
+            }
+        }
+
+        /** Whether frames came late since the last update. */
+        boolean isLate() {
+            return mLateFrames >= MAX_LATE_FRAMES;
+        }
+
+        @Override
+        public void doFrame(long frameTimeNanos) {
+            if (mLastFrameNanos != 0) {
+                final long frameNanos = frameTimeNanos - mLastFrameNanos;
+                if (frameNanos > LATE_FRAME_NANOS) {
+                    mLateFrames++;
+                }
+                if (mFrameTimeListener != null) {
+                    mFrameTimeListener.onFrame(frameNanos, mAnimated);
+                }
+            }
+            mLastFrameNanos = frameTimeNanos;
+            if (frameTimeNanos < mEndNanos) {
+                Choreographer.getInstance().postFrameCallback(this);
+            } else {
+                mRunning = false;
+            }
+        }
+    }
+
     /**
      * Handtuned interpolator used to achieve the bounce effect when suggestions slide up. It
      * uses a combination of a decelerate interpolator and overshoot interpolator to first
@@ -102,16 +177,75 @@ public class SmartDialController {
 
     private final LinearLayout mList;
     private final View mBackground;
-
-    private final List<LinearLayout> mViewOverlays = Lists.newArrayList();
-    private final List<LinearLayout> mViews = Lists.newArrayList();
+    private final LayoutInflater mInflater;
+    private final OnClickListener mShortClickListener;
+    private final OnLongClickListener mLongClickListener;
 
     private static final int NUM_SUGGESTIONS = 21;
 
+    /** View of each slot, null for the slots without a suggestion. */
+    private final LinearLayout[] mSlotViews = new LinearLayout[NUM_SUGGESTIONS];
+    /** Whether the view of each slot, if any, shows the current entry of the slot. */
+    private final boolean[] mBound = new boolean[NUM_SUGGESTIONS];
+    /** Number of slots with a view that was not bound yet. */
+    private int mUnboundSlots;
+    /** Views of the suggestions replaced in each slot, which fade out in the overlay. */
+    private final LinearLayout[] mFadingViews = new LinearLayout[NUM_SUGGESTIONS];
+    /**
+     * Used to track whether or not to animate the overlay of each slot. In the case where the
+     * suggestion at position i slides to a neighboring slot, the overlay at i should be hidden
+     * immediately.
+     */
+    private final boolean[] mDontAnimateOverlay = new boolean[NUM_SUGGESTIONS];
+    /** Views that are not in use, kept to be bound to other suggestions. */
+    private final ArrayDeque<LinearLayout> mScrapViews = new ArrayDeque<LinearLayout>();
+    /** Width of a slot, once one was laid out. */
+    private int mSlotWidth;
+
+    @VisibleForTesting
+    final FrameMonitor mFrameMonitor = new FrameMonitor();
+    private FrameTimeListener mFrameTimeListener;
+
     private static final long ANIM_DURATION = 200;
 
+    /** Frames that take longer than two refreshes of the display are late. */
+    private static final long LATE_FRAME_NANOS = 33L * 1000000;
+    /** Number of late frames after an update from which the next update is not animated. */
+    private static final int MAX_LATE_FRAMES = 2;
+
     private static final float BACKGROUND_FADE_AMOUNT = 0.25f;
 
+    /** The entry of the slot is the same. */
+    @VisibleForTesting
+    static final int SLOT_UNCHANGED = 0;
+    /** The slot keeps the same contact, whose view is rebound to the new entry. */
+    @VisibleForTesting
+    static final int SLOT_REBOUND = 1;
+    /** The slot gets a suggestion where it had none. */
+    @VisibleForTesting
+    static final int SLOT_ADDED = 2;
+    /** The slot loses its suggestion. */
+    @VisibleForTesting
+    static final int SLOT_REMOVED = 3;
+    /** The slot gets the suggestion of another contact. */
+    @VisibleForTesting
+    static final int SLOT_REPLACED = 4;
+
+    /** Change of each slot in the latest update, see {@link #diffEntries}. */
+    private final int[] mSlotChanges = new int[NUM_SUGGESTIONS];
+
+    private final ViewTreeObserver.OnPreDrawListener mPreDrawListener =
+            new ViewTreeObserver.OnPreDrawListener() {
+                @Override
+                public boolean onPreDraw() {
+                    // The slots scrolled into view are bound before they are drawn
+                    if (mUnboundSlots > 0 && bindVisibleSlots()) {
+                        return !mList.isLayoutRequested();
+                    }
+                    return true;
+                }
+            };
+
     Resources mResources;
 
     public SmartDialController(Context context, ViewGroup parent,
@@ -132,25 +266,32 @@ public class SmartDialController {
         }
 
         mOldEntries = mEntries;
+        Arrays.fill(mBound, true);
 
-        final LayoutInflater inflater = (LayoutInflater) context.getSystemService(
-                Context.LAYOUT_INFLATER_SERVICE);
+        mInflater = (LayoutInflater) context.getSystemService(Context.LAYOUT_INFLATER_SERVICE);
+        mShortClickListener = shortClickListener;
+        mLongClickListener = longClickListener;
 
-        for (int i = 0; i < NUM_SUGGESTIONS * 2; i++) {
-            final LinearLayout view = (LinearLayout) inflater.inflate(
-                    R.layout.dialpad_smartdial_item, mList, false);
-            view.setOnClickListener(shortClickListener);
-            view.setOnLongClickListener(longClickListener);
-            if (i < NUM_SUGGESTIONS) {
-                mViews.add(view);
-            } else {
-                mViewOverlays.add(view);
+        mList.addOnAttachStateChangeListener(new View.OnAttachStateChangeListener() {
+            @Override
+            public void onViewAttachedToWindow(View v) {
+                v.getViewTreeObserver().addOnPreDrawListener(mPreDrawListener);
             }
-            // Add all the views to mList so that they can get measured properly for animation
-            // purposes. Once setEntries is called they will be removed and added as appropriate.
-            view.setEnabled(false);
-            mList.addView(view);
-        }
+
+            @Override
+            public void onViewDetachedFromWindow(View v) {
+                v.getViewTreeObserver().removeOnPreDrawListener(mPreDrawListener);
+                mFrameMonitor.stop();
+            }
+        });
+    }
+
+    /**
+     * Sets the listener that receives the time between frames while the strip is being updated,
+     * or null.
+     */
+    public void setFrameTimeListener(FrameTimeListener listener) {
+        mFrameTimeListener = listener;
     }
 
     /** Remove all entries. */
@@ -192,90 +333,76 @@ public class SmartDialController {
 
     /**
      * This method is called every time a new set of SmartDialEntries is to be assigned to the
-     * suggestions view. The current set of active views are to be used as view overlays and
-     * faded out, while the former view overlays are assigned the current entries, added to
-     * {@link #mList} and faded into view.
+     * suggestions view. Only the slots whose entry changed are touched: the views of replaced
+     * suggestions are faded out, and the new suggestions get a view of their own which is faded
+     * into view.
      */
     private void updateViews() {
-        // Remove all views from the root in preparation to swap the two sets of views
-        mList.removeAllViews();
-        try {
-            mList.getOverlay().clear();
-        } catch (NullPointerException e) {
-            // Catch possible NPE b/8895794
-        }
+        // Animations are skipped while the device cannot keep up with them
+        final boolean animate = !mFrameMonitor.isLate();
+        mFrameMonitor.start(animate);
 
-        // Used to track whether or not to animate the overlay. In the case where the suggestion
-        // at position i will slide from the left or right, or if the suggestion at position i
-        // has not changed, the overlay at i should be hidden immediately. Overlay animations are
-        // set in a separate loop from the active views to avoid unnecessarily reanimating the same
-        // overlay multiple times.
-        boolean[] dontAnimateOverlay = new boolean[NUM_SUGGESTIONS];
-        boolean noSuggestions = true;
+        // Views still fading out from the previous update are done with
+        recycleFadingViews();
+        Arrays.fill(mDontAnimateOverlay, false);
 
-        // At this point in time {@link #mViews} contains the former active views with old
-        // suggestions that will be swapped out to serve as view overlays, while
-        // {@link #mViewOverlays} contains the former overlays that will now serve as active
-        // views.
+        diffEntries(mOldEntries, mEntries, mSlotChanges);
+        boolean noSuggestions = true;
+        // Position in mList of the view of the current slot
+        int childIndex = 0;
         for (int i = 0; i < NUM_SUGGESTIONS; i++) {
-            // Retrieve the former overlay to be used as the new active view
-            final LinearLayout active = mViewOverlays.get(i);
-            active.setVisibility(View.VISIBLE);
             final SmartDialEntry item = mEntries.get(i);
-
+            final int change = mSlotChanges[i];
             noSuggestions &= (item == SmartDialEntry.NULL);
 
-            assignEntryToView(active, mEntries.get(i));
-            final SmartDialEntry oldItem = mOldEntries.get(i);
-            // The former active view will now be used as an overlay for the cross-fade effect
-            final LinearLayout overlay = mViews.get(i);
-            show(active);
-            if (!containsSameContact(oldItem, item)) {
-                // Determine what kind of animation to use for the new view
-                if (i % 3 == 1) { // Middle suggestion
-                    if (containsSameContact(item, mOldEntries.get(i - 1))) {
-                        // Suggestion went from the left to the middle, slide it left to right
-                        animateSlideFromLeft(active);
-                        dontAnimateOverlay[i - 1] = true;
-                    } else if (containsSameContact(item, mOldEntries.get(i + 1))) {
-                        // Suggestion sent from the right to the middle, slide it right to left
-                        animateSlideFromRight(active);
-                        dontAnimateOverlay[i + 1] = true;
+            if (change == SLOT_REBOUND) {
+                // Since the same contact is in the same spot, don't do any animations and just
+                // show it with the new highlights.
+                show(mSlotViews[i]);
+                setUnbound(i, item);
+            } else if (change != SLOT_UNCHANGED) {
+                final LinearLayout oldView = mSlotViews[i];
+                if (oldView != null) {
+                    mSlotViews[i] = null;
+                    if (!mBound[i]) {
+                        mBound[i] = true;
+                        mUnboundSlots--;
+                    }
+                    if (change == SLOT_REPLACED && animate) {
+                        // The former view will now be used as an overlay for the cross-fade
+                        // effect. Adding it to the overlay removes it from mList.
+                        mList.getOverlay().add(oldView);
+                        mFadingViews[i] = oldView;
                     } else {
-                        animateFadeInAndSlideUp(active);
+                        mList.removeView(oldView);
+                        recycle(oldView);
                     }
-                } else { // Left/Right suggestion
-                    if (i % 3 == 2 && containsSameContact(item, mOldEntries.get(i - 1))) {
-                        // Suggestion went from middle to the right, slide it left to right
-                        animateSlideFromLeft(active);
-                        dontAnimateOverlay[i - 1] = true;
-                    } else if (i % 3 == 0 && containsSameContact(item, mOldEntries.get(i + 1))) {
-                        // Suggestion went from middle to the left, slide it right to left
-                        animateSlideFromRight(active);
-                        dontAnimateOverlay[i + 1] = true;
+                }
+                if (change != SLOT_REMOVED) {
+                    final LinearLayout active = obtainView();
+                    mSlotViews[i] = active;
+                    setUnbound(i, item);
+                    mList.addView(active, childIndex);
+                    if (animate) {
+                        animateEntering(i, active);
                     } else {
-                        animateFadeInAndSlideUp(active);
+                        show(active);
                     }
                 }
-            } else {
-                // Since the same item is in the same spot, don't do any animations and just
-                // show the new view.
-                dontAnimateOverlay[i] = true;
             }
-            if (item != SmartDialEntry.NULL) {
-                mList.getOverlay().add(overlay);
-                mList.addView(active);
-                // Keep track of active views and view overlays
-                mViews.set(i, active);
-                mViewOverlays.set(i, overlay);
+            if (mSlotViews[i] != null) {
+                childIndex++;
             }
         }
 
-        // Separate loop for overlay animations. At this point in time {@link #mViewOverlays}
-        // contains the actual overlays.
+        // Separate loop for overlay animations, since entering suggestions that slide from a
+        // neighboring slot hide the overlay of that slot
         for (int i = 0; i < NUM_SUGGESTIONS; i++) {
-            final LinearLayout overlay = mViewOverlays.get(i);
-            if (!dontAnimateOverlay[i]) {
+            final LinearLayout overlay = mFadingViews[i];
+            if (overlay == null) {
+                continue;
+            }
+            if (!mDontAnimateOverlay[i]) {
                 animateFadeOutAndSlideDown(overlay);
             } else {
                 hide(overlay);
@@ -284,7 +411,153 @@ public class SmartDialController {
 
         // Fade out the background to 25% opacity if there are suggestions. If there are no
         // suggestions, display the background as usual.
-        mBackground.animate().withLayer().alpha(noSuggestions ? 1.0f : BACKGROUND_FADE_AMOUNT);
+        final float backgroundAlpha = noSuggestions ? 1.0f : BACKGROUND_FADE_AMOUNT;
+        if (animate) {
+            mBackground.animate().withLayer().alpha(backgroundAlpha);
+        } else {
+            mBackground.animate().cancel();
+            mBackground.setAlpha(backgroundAlpha);
+        }
+    }
+
+    /**
+     * Compares the entries of each slot before and after an update.
+     *
+     * @param oldEntries Entries of the slots before the update.
+     * @param entries Entries of the slots after the update.
+     * @param changes Receives the change of each slot, one of {@link #SLOT_UNCHANGED},
+     *        {@link #SLOT_REBOUND}, {@link #SLOT_ADDED}, {@link #SLOT_REMOVED} or
+     *        {@link #SLOT_REPLACED}. Its length is the number of slots compared.
+     */
+    @VisibleForTesting
+    static void diffEntries(List<SmartDialEntry> oldEntries, List<SmartDialEntry> entries,
+            int[] changes) {
+        for (int i = 0; i < changes.length; i++) {
+            final SmartDialEntry item = entries.get(i);
+            final SmartDialEntry oldItem = oldEntries.get(i);
+            if (item == oldItem) {
+                changes[i] = SLOT_UNCHANGED;
+            } else if (item == SmartDialEntry.NULL) {
+                changes[i] = SLOT_REMOVED;
+            } else if (oldItem == SmartDialEntry.NULL) {
+                changes[i] = SLOT_ADDED;
+            } else if (containsSameContact(oldItem, item)) {
+                changes[i] = SLOT_REBOUND;
+            } else {
+                changes[i] = SLOT_REPLACED;
+            }
+        }
+    }
+
+    /**
+     * Chooses the animation of a suggestion entering a slot. A suggestion that was in a
+     * neighboring slot slides from there, others fade in and slide up.
+     */
+    private void animateEntering(int i, LinearLayout active) {
+        final SmartDialEntry item = mEntries.get(i);
+        if (i % 3 == 1) { // Middle suggestion
+            if (containsSameContact(item, mOldEntries.get(i - 1))) {
+                // Suggestion went from the left to the middle, slide it left to right
+                animateSlideFromLeft(active);
+                mDontAnimateOverlay[i - 1] = true;
+            } else if (containsSameContact(item, mOldEntries.get(i + 1))) {
+                // Suggestion sent from the right to the middle, slide it right to left
+                animateSlideFromRight(active);
+                mDontAnimateOverlay[i + 1] = true;
+            } else {
+                animateFadeInAndSlideUp(active);
+            }
+        } else { // Left/Right suggestion
+            if (i % 3 == 2 && containsSameContact(item, mOldEntries.get(i - 1))) {
+                // Suggestion went from middle to the right, slide it left to right
+                animateSlideFromLeft(active);
+                mDontAnimateOverlay[i - 1] = true;
+            } else if (i % 3 == 0 && containsSameContact(item, mOldEntries.get(i + 1))) {
+                // Suggestion went from middle to the left, slide it right to left
+                animateSlideFromRight(active);
+                mDontAnimateOverlay[i + 1] = true;
+            } else {
+                animateFadeInAndSlideUp(active);
+            }
+        }
+    }
+
+    /**
+     * Assigns an entry to the view of a slot, which is bound to it once the slot is in view.
+     * The tag is set right away, since it is what a click on the view acts upon.
+     */
+    private void setUnbound(int i, SmartDialEntry item) {
+        final LinearLayout view = mSlotViews[i];
+        view.setTag(item);
+        view.setEnabled(true);
+        if (mBound[i]) {
+            mBound[i] = false;
+            mUnboundSlots++;
+        }
+    }
+
+    /**
+     * Binds the views of the slots that are in view, or next to it, to their entry. The other
+     * slots are bound when they are scrolled into view.
+     *
+     * @return True if any view was bound.
+     */
+    private boolean bindVisibleSlots() {
+        final View scrollView = (View) mList.getParent();
+        final int left = scrollView.getScrollX() - mSlotWidth;
+        final int right = scrollView.getScrollX() + scrollView.getWidth() + mSlotWidth;
+        boolean bound = false;
+        for (int i = 0; i < NUM_SUGGESTIONS; i++) {
+            final LinearLayout view = mSlotViews[i];
+            if (view == null) {
+                continue;
+            }
+            if (view.getWidth() > 0) {
+                mSlotWidth = view.getWidth();
+            }
+            if (!mBound[i] && view.getRight() > left && view.getLeft() < right) {
+                assignEntryToView(view, mEntries.get(i));
+                mBound[i] = true;
+                mUnboundSlots--;
+                bound = true;
+            }
+        }
+        return bound;
+    }
+
+    /** Returns a view that is not in use, inflating one if there is none. */
+    private LinearLayout obtainView() {
+        LinearLayout view = mScrapViews.poll();
+        if (view == null) {
+            view = (LinearLayout) mInflater.inflate(R.layout.dialpad_smartdial_item, mList,
+                    false);
+            view.setOnClickListener(mShortClickListener);
+            view.setOnLongClickListener(mLongClickListener);
+        }
+        return view;
+    }
+
+    /** Keeps a view that was removed from the strip for another suggestion. */
+    private void recycle(LinearLayout view) {
+        show(view);
+        view.setTag(null);
+        view.setEnabled(false);
+        mScrapViews.add(view);
+    }
+
+    private void recycleFadingViews() {
+        for (int i = 0; i < NUM_SUGGESTIONS; i++) {
+            final LinearLayout view = mFadingViews[i];
+            if (view != null) {
+                try {
+                    mList.getOverlay().remove(view);
+                } catch (NullPointerException e) {
+                    // Catch possible NPE b/8895794
+                }
+                recycle(view);
+                mFadingViews[i] = null;
+            }
+        }
     }
 
     private void show(View view) {
@@ -302,7 +575,8 @@ public class SmartDialController {
     private void animateFadeInAndSlideUp(View view) {
         view.animate().cancel();
         view.setAlpha(0.2f);
-        view.setTranslationY(view.getHeight());
+        // Views that were just inflated have not been laid out yet
+        view.setTranslationY(mList.getHeight());
         view.animate().withLayer().alpha(1).translationY(0).setDuration(ANIM_DURATION).
                 setInterpolator(mDecelerateAndOvershootInterpolator);
     }
@@ -318,7 +592,7 @@ public class SmartDialController {
     private void animateSlideFromLeft(View view) {
         view.animate().cancel();
         view.setAlpha(1);
-        view.setTranslationX(-1 * view.getWidth());
+        view.setTranslationX(-1 * getSlotWidth(view));
         view.animate().withLayer().translationX(0).setDuration(ANIM_DURATION).setInterpolator(
                 mAccelerateDecelerateInterpolator);
     }
@@ -326,11 +600,15 @@ public class SmartDialController {
     private void animateSlideFromRight(View view) {
         view.animate().cancel();
         view.setAlpha(1);
-        view.setTranslationX(view.getWidth());
+        view.setTranslationX(getSlotWidth(view));
         view.animate().withLayer().translationX(0).setDuration(ANIM_DURATION).setInterpolator(
                 mAccelerateDecelerateInterpolator);
     }
 
+    private int getSlotWidth(View view) {
+        return (view.getWidth() > 0) ? view.getWidth() : mSlotWidth;
+    }
+
     // Swaps the items in pos1 and pos2 of mEntries
     private void swap(int pos1, int pos2) {
         if (pos1 == pos2) {
@@ -342,7 +620,7 @@ public class SmartDialController {
     }
 
     // Returns whether two SmartDialEntries contain the same contact
-    private boolean containsSameContact(SmartDialEntry x, SmartDialEntry y) {
+    private static boolean containsSameContact(SmartDialEntry x, SmartDialEntry y) {
         return x.contactUri.equals(y.contactUri);
     }
 
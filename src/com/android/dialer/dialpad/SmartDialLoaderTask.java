@@ -19,6 +19,8 @@ package com.android.dialer.dialpad;
 import static com.android.dialer.dialpad.SmartDialController.LOG_TAG;
 
 import android.os.AsyncTask;
+import android.os.CancellationSignal;
+import android.os.OperationCanceledException;
 import android.provider.ContactsContract;
 import android.provider.ContactsContract.Contacts;
 import android.telephony.PhoneNumberUtils;
@@ -28,14 +30,10 @@ import com.android.contacts.common.preference.ContactsPreferences;
 import com.android.contacts.common.util.StopWatch;
 import com.android.dialer.dialpad.SmartDialCache.ContactNumber;
 
-import com.google.common.base.Objects;
 import com.google.common.collect.Lists;
 
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 /**
  * This task searches through the provided cache to return the top 3 contacts(ranked by confidence)
@@ -52,12 +50,23 @@ public class SmartDialLoaderTask extends AsyncTask<String, Integer, List<SmartDi
 
     private static final int MAX_ENTRIES = 21;
 
+    /**
+     * Number of matches ranked by {@link SmartDialRanker} to choose the {@link #MAX_ENTRIES} shown
+     * from. The summaries of the trie hold this many contacts, so short queries still do not have
+     * to scan the contents of the trie.
+     */
+    private static final int MAX_CANDIDATES = CompactSmartDialTrie.SUMMARY_SIZE;
+
     private final SmartDialCache mContactsCache;
 
     private final SmartDialLoaderCallback mCallback;
 
     private final String mQuery;
 
+    private final SmartDialSearchSession mSession;
+
+    private final CancellationSignal mCancellationSignal = new CancellationSignal();
+
     /**
      * See {@link ContactsPreferences#getDisplayOrder()}.
      * {@link ContactsContract.Preferences#DISPLAY_ORDER_PRIMARY} (first name first)
@@ -67,15 +76,44 @@ public class SmartDialLoaderTask extends AsyncTask<String, Integer, List<SmartDi
 
     public SmartDialLoaderTask(SmartDialLoaderCallback callback, String query,
             SmartDialCache cache) {
+        this(callback, query, cache, null);
+    }
+
+    /**
+     * @param session Search session shared by the tasks started for consecutive queries, or null
+     *        to search the cache from scratch.
+     */
+    public SmartDialLoaderTask(SmartDialLoaderCallback callback, String query,
+            SmartDialCache cache, SmartDialSearchSession session) {
         this.mCallback = callback;
-        this.mNameMatcher = new SmartDialNameMatcher(PhoneNumberUtils.normalizeNumber(query));
+        this.mNameMatcher = new SmartDialNameMatcher(PhoneNumberUtils.normalizeNumber(query),
+                cache.getCharMap());
         this.mContactsCache = cache;
         this.mQuery = query;
+        this.mSession = session;
+    }
+
+    /**
+     * Cancels the task, and stops the search it runs as soon as possible rather than letting it
+     * finish. The callback is not called.
+     */
+    public void cancelSearch() {
+        mCancellationSignal.cancel();
+        cancel(false);
+    }
+
+    public String getQuery() {
+        return mQuery;
     }
 
     @Override
     protected List<SmartDialEntry> doInBackground(String... params) {
-        return getContactMatches();
+        try {
+            mCancellationSignal.throwIfCanceled();
+            return getContactMatches();
+        } catch (OperationCanceledException e) {
+            return null;
+        }
     }
 
     @Override
@@ -92,47 +130,82 @@ public class SmartDialLoaderTask extends AsyncTask<String, Integer, List<SmartDi
      */
     private ArrayList<SmartDialEntry> getContactMatches() {
 
-        final SmartDialTrie trie = mContactsCache.getContacts();
-        final boolean matchNanp = mContactsCache.getUserInNanpRegion();
+        final CompactSmartDialTrie trie = mContactsCache.getContacts();
+        final SmartDialNumberRules numberRules = mContactsCache.getNumberRules();
 
         if (DEBUG) {
             Log.d(LOG_TAG, "Size of cache: " + trie.size());
         }
 
         final StopWatch stopWatch = DEBUG ? StopWatch.start("Start Match") : null;
-        final ArrayList<ContactNumber> allMatches = trie.getAllWithPrefix(mNameMatcher.getQuery());
+        // The trie returns the best matches in order of ascending contact affinity (lower is
+        // better), with at most one number per contact. Take a few more than are shown, so that
+        // the ranker can move recently called contacts and better matches up.
+        final ArrayList<ContactNumber> prefixMatches = (mSession != null) ?
+                mSession.search(trie, mNameMatcher.getQuery(), MAX_CANDIDATES,
+                        mCancellationSignal) :
+                trie.getTopWithPrefix(mNameMatcher.getQuery(), MAX_CANDIDATES);
         if (DEBUG) {
             stopWatch.lap("Find matches");
         }
-        // Sort matches in order of ascending contact affinity (lower is better)
-        Collections.sort(allMatches, new SmartDialCache.ContactAffinityComparator());
+        // Numbers that contain the query further on, e.g. that end with it, follow the numbers
+        // and names that start with it
+        final ArrayList<ContactNumber> topMatches = addInfixMatches(prefixMatches,
+                trie.getTopContaining(mNameMatcher.getQuery(), MAX_CANDIDATES,
+                        mCancellationSignal));
         if (DEBUG) {
-            stopWatch.lap("Sort");
+            stopWatch.lap("Find infix matches");
         }
-        final Set<ContactMatch> duplicates = new HashSet<ContactMatch>();
-        final ArrayList<SmartDialEntry> candidates = Lists.newArrayList();
-        for (ContactNumber contact : allMatches) {
-            final ContactMatch contactMatch = new ContactMatch(contact.lookupKey, contact.id);
-            // Don't add multiple contact numbers from the same contact into suggestions if
-            // there are multiple matches. Instead, just keep the highest priority number
-            // instead.
-            if (duplicates.contains(contactMatch)) {
-                continue;
+        final int count = topMatches.size();
+        final int[] matchedVariants = new int[count];
+        final SmartDialMatchPosition[] numberMatches = new SmartDialMatchPosition[count];
+        final int[] matchTypes = new int[count];
+        for (int i = 0; i < count; i++) {
+            mCancellationSignal.throwIfCanceled();
+            final ContactNumber contact = topMatches.get(i);
+            matchedVariants[i] = matchName(contact);
+            numberMatches[i] = SmartDialNameMatcher.matchesNumber(contact.phoneNumber,
+                    mNameMatcher.getQuery(), numberRules);
+            final int spanCount = mNameMatcher.getSpanCount();
+            if (spanCount == 1) {
+                matchTypes[i] = SmartDialRanker.MATCH_NAME_WORD;
+            } else if (numberMatches[i] != null) {
+                matchTypes[i] = SmartDialRanker.MATCH_NUMBER;
+            } else if (spanCount > 1) {
+                matchTypes[i] = SmartDialRanker.MATCH_NAME_INITIALS;
+            } else if (i >= prefixMatches.size()) {
+                numberMatches[i] = SmartDialNameMatcher.matchesNumberInfix(contact.phoneNumber,
+                        mNameMatcher.getQuery());
+                matchTypes[i] = (numberMatches[i] != null) ? SmartDialRanker.MATCH_NUMBER_INFIX
+                        : SmartDialRanker.MATCH_OTHER;
+            } else {
+                matchTypes[i] = SmartDialRanker.MATCH_OTHER;
             }
-            duplicates.add(contactMatch);
-            final boolean matches = mNameMatcher.matches(contact.displayName);
+        }
+        final int[] order = new int[MAX_ENTRIES];
+        final int entryCount = mContactsCache.getRanker().rank(topMatches, matchTypes,
+                System.currentTimeMillis(), order);
+        if (DEBUG) {
+            stopWatch.lap("Rank matches");
+        }
 
+        final ArrayList<SmartDialEntry> candidates = Lists.newArrayListWithCapacity(entryCount);
+        for (int i = 0; i < entryCount; i++) {
+            final int index = order[i];
+            final ContactNumber contact = topMatches.get(index);
+            // Match the variant again to get its positions, which are only needed for the
+            // candidates that are shown
+            final ArrayList<SmartDialMatchPosition> namePositions =
+                    (matchedVariants[index] >= 0 && matchVariant(contact, matchedVariants[index]))
+                    ? mNameMatcher.getMatchPositions()
+                    : Lists.<SmartDialMatchPosition>newArrayList();
             candidates.add(new SmartDialEntry(
-                    contact.displayName.split("\\|")[1],
+                    contact.displayName,
                     Contacts.getLookupUri(contact.id, contact.lookupKey),
                     contact.phoneNumber,
-                    mNameMatcher.getMatchPositions(),
-                    SmartDialNameMatcher.matchesNumber(contact.phoneNumber,
-                            mNameMatcher.getQuery(), matchNanp)
+                    namePositions,
+                    numberMatches[index]
                     ));
-            if (candidates.size() >= MAX_ENTRIES) {
-                break;
-            }
         }
         if (DEBUG) {
             stopWatch.stopAndLog(LOG_TAG + " Match Complete", 0);
@@ -140,31 +213,52 @@ public class SmartDialLoaderTask extends AsyncTask<String, Integer, List<SmartDi
         return candidates;
     }
 
-    private class ContactMatch {
-        public final String lookupKey;
-        public final long id;
-
-        public ContactMatch(String lookupKey, long id) {
-            this.lookupKey = lookupKey;
-            this.id = id;
-        }
-
-        @Override
-        public int hashCode() {
-            return Objects.hashCode(lookupKey, id);
+    /**
+     * Appends the infix matches of contacts that are not among the prefix matches already.
+     *
+     * @return The prefix matches if there are no other infix matches, a new list otherwise.
+     */
+    private static ArrayList<ContactNumber> addInfixMatches(
+            ArrayList<ContactNumber> prefixMatches, ArrayList<ContactNumber> infixMatches) {
+        ArrayList<ContactNumber> result = prefixMatches;
+        for (ContactNumber contact : infixMatches) {
+            boolean duplicate = false;
+            for (int i = 0; i < prefixMatches.size(); i++) {
+                if (prefixMatches.get(i).id == contact.id) {
+                    duplicate = true;
+                    break;
+                }
+            }
+            if (!duplicate) {
+                if (result == prefixMatches) {
+                    // The prefix matches may be shared with the search session
+                    result = Lists.newArrayList(prefixMatches);
+                }
+                result.add(contact);
+            }
         }
+        return result;
+    }
 
-        @Override
-        public boolean equals(Object object) {
-            if (this == object) {
-                return true;
-            }
-            if (object instanceof ContactMatch) {
-                ContactMatch that = (ContactMatch) object;
-                return Objects.equal(this.lookupKey, that.lookupKey)
-                        && Objects.equal(this.id, that.id);
+    /**
+     * Matches the query against the name variants of a contact, stopping at the first variant
+     * that matches. Names indexed by this process were already mapped to digits, but not the
+     * ones read from a snapshot.
+     *
+     * @return Index of the variant that matched, or -1 if none did.
+     */
+    private int matchName(ContactNumber contact) {
+        for (int i = 0; i < contact.nameVariants.length; i++) {
+            if (matchVariant(contact, i)) {
+                return i;
             }
-            return false;
         }
+        return -1;
+    }
+
+    private boolean matchVariant(ContactNumber contact, int variant) {
+        final byte[][] nameDigits = contact.nameDigits;
+        return (nameDigits != null) ? mNameMatcher.matches(nameDigits[variant])
+                : mNameMatcher.matches(contact.nameVariants[variant]);
     }
 }
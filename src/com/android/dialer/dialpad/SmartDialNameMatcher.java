@@ -19,7 +19,6 @@ package com.android.dialer.dialpad;
 import android.text.TextUtils;
 import android.util.Log;
 
-import com.android.dialer.dialpad.SmartDialTrie.CountryCodeWithOffset;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
@@ -36,6 +35,8 @@ import java.util.ArrayList;
 public class SmartDialNameMatcher {
 
     private final String mQuery;
+    private final byte[] mQueryDigits;
+    private final SmartDialCharMap mCharMap;
 
     public static final char[] LATIN_LETTERS_TO_DIGITS = {
         '2', '2', '2', // A,B,C -> 2
@@ -55,371 +56,83 @@ public class SmartDialNameMatcher {
     // positives
     private static final int INITIAL_LENGTH_LIMIT = 1;
 
-    /*
-     * The switch statement in this function was generated using the python code:
-     * from unidecode import unidecode
-     * for i in range(192, 564):
-     *     char = unichr(i)
-     *     decoded = unidecode(char)
-     *     # Unicode characters that decompose into multiple characters i.e.
-     *     #  into ss are not supported for now
-     *     if (len(decoded) == 1 and decoded.isalpha()):
-     *         print "case '" + char + "': return '" + unidecode(char) +  "';"
-     *
-     * This gives us a way to map characters containing accents/diacritics to their
-     * alphabetic equivalents. The unidecode library can be found at:
-     * http://pypi.python.org/pypi/Unidecode/0.04.1
-     *
-     * Also remaps all upper case latin characters to their lower case equivalents.
+    /**
+     * Strips the diacritics from accented latin characters and remaps upper case latin characters
+     * to their lower case equivalents. Other characters are returned as they are.
      */
     public static char remapAccentedChars(char c) {
-        switch (c) {
-            case 'À': return 'a';
-            case 'Á': return 'a';
-            case 'Â': return 'a';
-            case 'Ã': return 'a';
-            case 'Ä': return 'a';
-            case 'Å': return 'a';
-            case 'Ç': return 'c';
-            case 'È': return 'e';
-            case 'É': return 'e';
-            case 'Ê': return 'e';
-            case 'Ë': return 'e';
-            case 'Ì': return 'i';
-            case 'Í': return 'i';
-            case 'Î': return 'i';
-            case 'Ï': return 'i';
-            case 'Ð': return 'd';
-            case 'Ñ': return 'n';
-            case 'Ò': return 'o';
-            case 'Ó': return 'o';
-            case 'Ô': return 'o';
-            case 'Õ': return 'o';
-            case 'Ö': return 'o';
-            case '×': return 'x';
-            case 'Ø': return 'o';
-            case 'Ù': return 'u';
-            case 'Ú': return 'u';
-            case 'Û': return 'u';
-            case 'Ü': return 'u';
-            case 'Ý': return 'u';
-            case 'à': return 'a';
-            case 'á': return 'a';
-            case 'â': return 'a';
-            case 'ã': return 'a';
-            case 'ä': return 'a';
-            case 'å': return 'a';
-            case 'ç': return 'c';
-            case 'è': return 'e';
-            case 'é': return 'e';
-            case 'ê': return 'e';
-            case 'ë': return 'e';
-            case 'ì': return 'i';
-            case 'í': return 'i';
-            case 'î': return 'i';
-            case 'ï': return 'i';
-            case 'ð': return 'd';
-            case 'ñ': return 'n';
-            case 'ò': return 'o';
-            case 'ó': return 'o';
-            case 'ô': return 'o';
-            case 'õ': return 'o';
-            case 'ö': return 'o';
-            case 'ø': return 'o';
-            case 'ù': return 'u';
-            case 'ú': return 'u';
-            case 'û': return 'u';
-            case 'ü': return 'u';
-            case 'ý': return 'y';
-            case 'ÿ': return 'y';
-            case 'Ā': return 'a';
-            case 'ā': return 'a';
-            case 'Ă': return 'a';
-            case 'ă': return 'a';
-            case 'Ą': return 'a';
-            case 'ą': return 'a';
-            case 'Ć': return 'c';
-            case 'ć': return 'c';
-            case 'Ĉ': return 'c';
-            case 'ĉ': return 'c';
-            case 'Ċ': return 'c';
-            case 'ċ': return 'c';
-            case 'Č': return 'c';
-            case 'č': return 'c';
-            case 'Ď': return 'd';
-            case 'ď': return 'd';
-            case 'Đ': return 'd';
-            case 'đ': return 'd';
-            case 'Ē': return 'e';
-            case 'ē': return 'e';
-            case 'Ĕ': return 'e';
-            case 'ĕ': return 'e';
-            case 'Ė': return 'e';
-            case 'ė': return 'e';
-            case 'Ę': return 'e';
-            case 'ę': return 'e';
-            case 'Ě': return 'e';
-            case 'ě': return 'e';
-            case 'Ĝ': return 'g';
-            case 'ĝ': return 'g';
-            case 'Ğ': return 'g';
-            case 'ğ': return 'g';
-            case 'Ġ': return 'g';
-            case 'ġ': return 'g';
-            case 'Ģ': return 'g';
-            case 'ģ': return 'g';
-            case 'Ĥ': return 'h';
-            case 'ĥ': return 'h';
-            case 'Ħ': return 'h';
-            case 'ħ': return 'h';
-            case 'Ĩ': return 'i';
-            case 'ĩ': return 'i';
-            case 'Ī': return 'i';
-            case 'ī': return 'i';
-            case 'Ĭ': return 'i';
-            case 'ĭ': return 'i';
-            case 'Į': return 'i';
-            case 'į': return 'i';
-            case 'İ': return 'i';
-            case 'ı': return 'i';
-            case 'Ĵ': return 'j';
-            case 'ĵ': return 'j';
-            case 'Ķ': return 'k';
-            case 'ķ': return 'k';
-            case 'ĸ': return 'k';
-            case 'Ĺ': return 'l';
-            case 'ĺ': return 'l';
-            case 'Ļ': return 'l';
-            case 'ļ': return 'l';
-            case 'Ľ': return 'l';
-            case 'ľ': return 'l';
-            case 'Ŀ': return 'l';
-            case 'ŀ': return 'l';
-            case 'Ł': return 'l';
-            case 'ł': return 'l';
-            case 'Ń': return 'n';
-            case 'ń': return 'n';
-            case 'Ņ': return 'n';
-            case 'ņ': return 'n';
-            case 'Ň': return 'n';
-            case 'ň': return 'n';
-            case 'Ō': return 'o';
-            case 'ō': return 'o';
-            case 'Ŏ': return 'o';
-            case 'ŏ': return 'o';
-            case 'Ő': return 'o';
-            case 'ő': return 'o';
-            case 'Ŕ': return 'r';
-            case 'ŕ': return 'r';
-            case 'Ŗ': return 'r';
-            case 'ŗ': return 'r';
-            case 'Ř': return 'r';
-            case 'ř': return 'r';
-            case 'Ś': return 's';
-            case 'ś': return 's';
-            case 'Ŝ': return 's';
-            case 'ŝ': return 's';
-            case 'Ş': return 's';
-            case 'ş': return 's';
-            case 'Š': return 's';
-            case 'š': return 's';
-            case 'Ţ': return 't';
-            case 'ţ': return 't';
-            case 'Ť': return 't';
-            case 'ť': return 't';
-            case 'Ŧ': return 't';
-            case 'ŧ': return 't';
-            case 'Ũ': return 'u';
-            case 'ũ': return 'u';
-            case 'Ū': return 'u';
-            case 'ū': return 'u';
-            case 'Ŭ': return 'u';
-            case 'ŭ': return 'u';
-            case 'Ů': return 'u';
-            case 'ů': return 'u';
-            case 'Ű': return 'u';
-            case 'ű': return 'u';
-            case 'Ų': return 'u';
-            case 'ų': return 'u';
-            case 'Ŵ': return 'w';
-            case 'ŵ': return 'w';
-            case 'Ŷ': return 'y';
-            case 'ŷ': return 'y';
-            case 'Ÿ': return 'y';
-            case 'Ź': return 'z';
-            case 'ź': return 'z';
-            case 'Ż': return 'z';
-            case 'ż': return 'z';
-            case 'Ž': return 'z';
-            case 'ž': return 'z';
-            case 'ſ': return 's';
-            case 'ƀ': return 'b';
-            case 'Ɓ': return 'b';
-            case 'Ƃ': return 'b';
-            case 'ƃ': return 'b';
-            case 'Ɔ': return 'o';
-            case 'Ƈ': return 'c';
-            case 'ƈ': return 'c';
-            case 'Ɖ': return 'd';
-            case 'Ɗ': return 'd';
-            case 'Ƌ': return 'd';
-            case 'ƌ': return 'd';
-            case 'ƍ': return 'd';
-            case 'Ɛ': return 'e';
-            case 'Ƒ': return 'f';
-            case 'ƒ': return 'f';
-            case 'Ɠ': return 'g';
-            case 'Ɣ': return 'g';
-            case 'Ɩ': return 'i';
-            case 'Ɨ': return 'i';
-            case 'Ƙ': return 'k';
-            case 'ƙ': return 'k';
-            case 'ƚ': return 'l';
-            case 'ƛ': return 'l';
-            case 'Ɯ': return 'w';
-            case 'Ɲ': return 'n';
-            case 'ƞ': return 'n';
-            case 'Ɵ': return 'o';
-            case 'Ơ': return 'o';
-            case 'ơ': return 'o';
-            case 'Ƥ': return 'p';
-            case 'ƥ': return 'p';
-            case 'ƫ': return 't';
-            case 'Ƭ': return 't';
-            case 'ƭ': return 't';
-            case 'Ʈ': return 't';
-            case 'Ư': return 'u';
-            case 'ư': return 'u';
-            case 'Ʊ': return 'y';
-            case 'Ʋ': return 'v';
-            case 'Ƴ': return 'y';
-            case 'ƴ': return 'y';
-            case 'Ƶ': return 'z';
-            case 'ƶ': return 'z';
-            case 'ƿ': return 'w';
-            case 'Ǎ': return 'a';
-            case 'ǎ': return 'a';
-            case 'Ǐ': return 'i';
-            case 'ǐ': return 'i';
-            case 'Ǒ': return 'o';
-            case 'ǒ': return 'o';
-            case 'Ǔ': return 'u';
-            case 'ǔ': return 'u';
-            case 'Ǖ': return 'u';
-            case 'ǖ': return 'u';
-            case 'Ǘ': return 'u';
-            case 'ǘ': return 'u';
-            case 'Ǚ': return 'u';
-            case 'ǚ': return 'u';
-            case 'Ǜ': return 'u';
-            case 'ǜ': return 'u';
-            case 'Ǟ': return 'a';
-            case 'ǟ': return 'a';
-            case 'Ǡ': return 'a';
-            case 'ǡ': return 'a';
-            case 'Ǥ': return 'g';
-            case 'ǥ': return 'g';
-            case 'Ǧ': return 'g';
-            case 'ǧ': return 'g';
-            case 'Ǩ': return 'k';
-            case 'ǩ': return 'k';
-            case 'Ǫ': return 'o';
-            case 'ǫ': return 'o';
-            case 'Ǭ': return 'o';
-            case 'ǭ': return 'o';
-            case 'ǰ': return 'j';
-            case 'ǲ': return 'd';
-            case 'Ǵ': return 'g';
-            case 'ǵ': return 'g';
-            case 'Ƿ': return 'w';
-            case 'Ǹ': return 'n';
-            case 'ǹ': return 'n';
-            case 'Ǻ': return 'a';
-            case 'ǻ': return 'a';
-            case 'Ǿ': return 'o';
-            case 'ǿ': return 'o';
-            case 'Ȁ': return 'a';
-            case 'ȁ': return 'a';
-            case 'Ȃ': return 'a';
-            case 'ȃ': return 'a';
-            case 'Ȅ': return 'e';
-            case 'ȅ': return 'e';
-            case 'Ȇ': return 'e';
-            case 'ȇ': return 'e';
-            case 'Ȉ': return 'i';
-            case 'ȉ': return 'i';
-            case 'Ȋ': return 'i';
-            case 'ȋ': return 'i';
-            case 'Ȍ': return 'o';
-            case 'ȍ': return 'o';
-            case 'Ȏ': return 'o';
-            case 'ȏ': return 'o';
-            case 'Ȑ': return 'r';
-            case 'ȑ': return 'r';
-            case 'Ȓ': return 'r';
-            case 'ȓ': return 'r';
-            case 'Ȕ': return 'u';
-            case 'ȕ': return 'u';
-            case 'Ȗ': return 'u';
-            case 'ȗ': return 'u';
-            case 'Ș': return 's';
-            case 'ș': return 's';
-            case 'Ț': return 't';
-            case 'ț': return 't';
-            case 'Ȝ': return 'y';
-            case 'ȝ': return 'y';
-            case 'Ȟ': return 'h';
-            case 'ȟ': return 'h';
-            case 'Ȥ': return 'z';
-            case 'ȥ': return 'z';
-            case 'Ȧ': return 'a';
-            case 'ȧ': return 'a';
-            case 'Ȩ': return 'e';
-            case 'ȩ': return 'e';
-            case 'Ȫ': return 'o';
-            case 'ȫ': return 'o';
-            case 'Ȭ': return 'o';
-            case 'ȭ': return 'o';
-            case 'Ȯ': return 'o';
-            case 'ȯ': return 'o';
-            case 'Ȱ': return 'o';
-            case 'ȱ': return 'o';
-            case 'Ȳ': return 'y';
-            case 'ȳ': return 'y';
-            case 'A': return 'a';
-            case 'B': return 'b';
-            case 'C': return 'c';
-            case 'D': return 'd';
-            case 'E': return 'e';
-            case 'F': return 'f';
-            case 'G': return 'g';
-            case 'H': return 'h';
-            case 'I': return 'i';
-            case 'J': return 'j';
-            case 'K': return 'k';
-            case 'L': return 'l';
-            case 'M': return 'm';
-            case 'N': return 'n';
-            case 'O': return 'o';
-            case 'P': return 'p';
-            case 'Q': return 'q';
-            case 'R': return 'r';
-            case 'S': return 's';
-            case 'T': return 't';
-            case 'U': return 'u';
-            case 'V': return 'v';
-            case 'W': return 'w';
-            case 'X': return 'x';
-            case 'Y': return 'y';
-            case 'Z': return 'z';
-            default: return c;
-        }
+        return SmartDialCharMap.foldAccents(c);
     }
 
-    private final ArrayList<SmartDialMatchPosition> mMatchPositions = Lists.newArrayList();
+    /** Digit of query characters that are not digits, which match no character of a name. */
+    private static final byte NOT_A_DIGIT = -2;
+
+    // Layout of the state of a nested match attempt in mFrames, see matchesCombination
+    private static final int FRAME_QUERY_OFFSET = 0;
+    private static final int FRAME_NAME_START = 1;
+    private static final int FRAME_QUERY_START = 2;
+    private static final int FRAME_TOKEN_START = 3;
+    private static final int FRAME_SEPERATOR_COUNT = 4;
+    private static final int FRAME_SIZE = 5;
+
+    /** Spans matched by the last call to {@link #matches}, see {@link #match}. */
+    private final int[] mSpans;
+    private int mSpanCount;
+
+    /** Digits of the last name passed to {@link #matches(String)}. */
+    private byte[] mNameDigits = new byte[0];
+
+    // Scratch space of matchesCombination, sized for queries of up to mCapacity digits: the
+    // state of each suspended attempt, and the partial match found by each attempt so far
+    private int mCapacity = -1;
+    private int[] mFrames;
+    private int[] mPartialSpans;
+    private int[] mPartialSpanCounts;
 
     public SmartDialNameMatcher(String query) {
+        this(query, SmartDialCharMap.LATIN);
+    }
+
+    /**
+     * @param charMap Map of the characters of names to the digits of the query.
+     */
+    public SmartDialNameMatcher(String query, SmartDialCharMap charMap) {
         mQuery = query;
+        mQueryDigits = toQueryDigits(query);
+        mCharMap = charMap;
+        mSpans = new int[getMaxSpans() * 2];
+        ensureCapacity(mQueryDigits.length);
+    }
+
+    /**
+     * Returns the maximum number of spans a name can match the query with: one per initial, and
+     * one for the rest of the query.
+     */
+    public int getMaxSpans() {
+        return getMaxSpans(mQueryDigits.length);
+    }
+
+    private static int getMaxSpans(int queryLength) {
+        return Math.max(1, queryLength);
+    }
+
+    private void ensureCapacity(int queryLength) {
+        if (queryLength > mCapacity) {
+            mCapacity = queryLength;
+            final int maxDepth = getMaxSpans(queryLength);
+            mFrames = new int[maxDepth * FRAME_SIZE];
+            mPartialSpans = new int[maxDepth * getMaxSpans(queryLength) * 2];
+            mPartialSpanCounts = new int[maxDepth];
+        }
+    }
+
+    private static byte[] toQueryDigits(String query) {
+        final byte[] result = new byte[query.length()];
+        for (int i = 0; i < result.length; i++) {
+            final char c = query.charAt(i);
+            result[i] = (c >= '0' && c <= '9') ? (byte) (c - '0') : NOT_A_DIGIT;
+        }
+        return result;
     }
 
     /**
@@ -452,35 +165,66 @@ public class SmartDialNameMatcher {
 
     /**
      * Matches a phone number against a query, taking care of formatting characters and also
-     * taking into account country code prefixes and special NANP number treatment.
+     * taking into account country code prefixes, trunk prefixes and area codes.
      *
      * @param phoneNumber - Raw phone number
      * @param query - Normalized query (only contains numbers from 0-9)
-     * @param matchNanp - Whether or not to do special matching for NANP numbers
+     * @param numberRules - Dialing plan the number was indexed with
      * @return {@literal null} if the number and the query don't match, a valid
      *         SmartDialMatchPosition with the matching positions otherwise
      */
     public static SmartDialMatchPosition matchesNumber(String phoneNumber, String query,
-            boolean matchNanp) {
+            SmartDialNumberRules numberRules) {
         // Try matching the number as is
         SmartDialMatchPosition matchPos = matchesNumberWithOffset(phoneNumber, query, 0);
-        if (matchPos == null) {
-            // Try matching the number without the '+' prefix, if any
-            final CountryCodeWithOffset code = SmartDialTrie.getOffsetWithoutCountryCode(
-                    phoneNumber);
-            if (code != null) {
-                matchPos = matchesNumberWithOffset(phoneNumber, query, code.offset);
+        if (matchPos == null && !TextUtils.isEmpty(phoneNumber)) {
+            // Try matching the number without its country code, trunk prefix and area code
+            final int[] offsets = new int[SmartDialNumberRules.MAX_OFFSETS];
+            final int count = numberRules.getOffsets(phoneNumber, offsets);
+            for (int i = 0; i < count && matchPos == null; i++) {
+                matchPos = matchesNumberWithOffset(phoneNumber, query, offsets[i]);
             }
-            if (matchPos == null && matchNanp) {
-                // Try matching NANP numbers
-                final int[] offsets = SmartDialTrie.getOffsetForNANPNumbers(phoneNumber);
-                for (int i = 0; i < offsets.length; i++) {
-                    matchPos = matchesNumberWithOffset(phoneNumber, query, offsets[i]);
-                    if (matchPos != null) break;
+        }
+        return matchPos;
+    }
+
+    /**
+     * Matches a query against the digits of a phone number other than the first ones, as found by
+     * {@link CompactSmartDialTrie#getTopContaining}. If the number ends with the query, the end
+     * of the number is highlighted, otherwise the first place the number contains the query.
+     *
+     * @param phoneNumber - Raw phone number
+     * @param query - Normalized query (only contains numbers from 0-9)
+     * @return {@literal null} if the number does not contain the query, a valid
+     *         SmartDialMatchPosition with the matching positions otherwise
+     */
+    public static SmartDialMatchPosition matchesNumberInfix(String phoneNumber, String query) {
+        if (TextUtils.isEmpty(phoneNumber) || TextUtils.isEmpty(query)) {
+            return null;
+        }
+        final String digits = normalizeNumber(phoneNumber);
+        int start = digits.endsWith(query) ? digits.length() - query.length()
+                : digits.indexOf(query, 1);
+        if (start <= 0) {
+            return null;
+        }
+        // Map the matched digits back to the characters of the raw number
+        final int last = start + query.length() - 1;
+        int digitAt = 0;
+        int startAt = -1;
+        for (int i = 0; i < phoneNumber.length(); i++) {
+            final char ch = phoneNumber.charAt(i);
+            if (ch >= '0' && ch <= '9') {
+                if (digitAt == start) {
+                    startAt = i;
+                }
+                if (digitAt == last) {
+                    return new SmartDialMatchPosition(startAt, i + 1);
                 }
+                digitAt++;
             }
         }
-        return matchPos;
+        return null;
     }
 
     /**
@@ -561,22 +305,50 @@ public class SmartDialNameMatcher {
     @VisibleForTesting
     boolean matchesCombination(String displayName, String query,
             ArrayList<SmartDialMatchPosition> matchList) {
-        final int nameLength = displayName.length();
-        final int queryLength = query.length();
+        final byte[] queryDigits = toQueryDigits(query);
+        final int[] spans = new int[getMaxSpans(queryDigits.length) * 2];
+        final int spanCount = matchesCombination(mCharMap.toDigits(displayName),
+                displayName.length(), queryDigits, spans);
+        addMatchPositions(spans, spanCount, matchList);
+        return spanCount > 0;
+    }
 
-        if (nameLength < queryLength) {
-            return false;
+    /**
+     * Matches the digits of a name, as mapped by {@link SmartDialCharMap#toDigits}, against the
+     * digits of a query. See {@link #matchesCombination(String, String, ArrayList)}.
+     *
+     * <p>Rather than calling itself to match the rest of the query against the rest of the name
+     * after an initial, this keeps the state of each nested attempt in {@link #mFrames} and the
+     * partial matches found by each of them in {@link #mPartialSpans}, so it only allocates when
+     * the query is longer than any query matched before.</p>
+     *
+     * @param name Digits of the name, with {@link SmartDialCharMap#SEPARATOR} for separators.
+     * @param nameEnd Number of digits of the name.
+     * @param query Digits of the query.
+     * @param spans Receives the start and end of each matched span, see
+     *        {@link #match(byte[], int, int[])}.
+     * @return Number of spans written to spans, 0 if the name does not match.
+     */
+    private int matchesCombination(byte[] name, int nameEnd, byte[] query, int[] spans) {
+        final int queryEnd = query.length;
+        if (nameEnd < queryEnd || queryEnd == 0) {
+            return 0;
         }
+        ensureCapacity(queryEnd);
+        final int stride = getMaxSpans(queryEnd) * 2;
 
-        if (queryLength == 0) {
-            return false;
-        }
+        // Depth of the current attempt: 0 for the whole query, 1 for the rest of the query after
+        // an initial, and so on
+        int depth = 0;
+
+        // The position of the first query character matched by the current attempt
+        int queryOffset = 0;
 
-        // The current character index in displayName
+        // The current character index in the name
         // E.g. 3 corresponds to 'd' in "Fred Smith"
         int nameStart = 0;
 
-        // The current character in the query we are trying to match the displayName against
+        // The current character in the query we are trying to match the name against
         int queryStart = 0;
 
         // The start position of the current token we are inspecting
@@ -588,134 +360,214 @@ public class SmartDialNameMatcher {
         // positions
         int seperatorCount = 0;
 
-        ArrayList<SmartDialMatchPosition> partial = new ArrayList<SmartDialMatchPosition>();
-        // Keep going until we reach the end of displayName
-        while (nameStart < nameLength && queryStart < queryLength) {
-            char ch = displayName.charAt(nameStart);
-            // Strip diacritics from accented characters if any
-            ch = remapAccentedChars(ch);
-            if (isLowercaseLatinLetterOrDigit(ch)) {
-                if (ch >= 'a' && ch <= 'z') {
-                    // a starts at index 0. If ch >= '0' && ch <= '9', we don't have to do anything
-                    ch = LATIN_LETTERS_TO_DIGITS[ch - 'a'];
-                }
-                if (ch != query.charAt(queryStart)) {
-                    // Failed to match the current character in the query.
-
-                    // Case 1: Failed to match the first character in the query. Skip to the next
-                    // token since there is no chance of this token matching the query.
-
-                    // Case 2: Previous characters in the query matched, but the current character
-                    // failed to match. This happened in the middle of a token. Skip to the next
-                    // token since there is no chance of this token matching the query.
-
-                    // Case 3: Previous characters in the query matched, but the current character
-                    // failed to match. This happened right at the start of the current token. In
-                    // this case, we should restart the query and try again with the current token.
-                    // Otherwise, we would fail to match a query like "964"(yog) against a name
-                    // Yo-Yoghurt because the query match would fail on the 3rd character, and
-                    // then skip to the end of the "Yoghurt" token.
-
-                    if (queryStart == 0 || isLowercaseLatinLetterOrDigit(remapAccentedChars(
-                            displayName.charAt(nameStart - 1)))) {
-                        // skip to the next token, in the case of 1 or 2.
-                        while (nameStart < nameLength &&
-                                isLowercaseLatinLetterOrDigit(remapAccentedChars(
-                                        displayName.charAt(nameStart)))) {
+        mPartialSpanCounts[0] = 0;
+        while (true) {
+            boolean nested = false;
+            boolean fullMatch = false;
+            // Keep going until we reach the end of the name
+            while (nameStart < nameEnd && queryStart < queryEnd) {
+                if (name[nameStart] != SmartDialCharMap.SEPARATOR) {
+                    if (name[nameStart] != query[queryStart]) {
+                        // Failed to match the current character in the query.
+
+                        // Case 1: Failed to match the first character in the query. Skip to the
+                        // next token since there is no chance of this token matching the query.
+
+                        // Case 2: Previous characters in the query matched, but the current
+                        // character failed to match. This happened in the middle of a token. Skip
+                        // to the next token since there is no chance of this token matching the
+                        // query.
+
+                        // Case 3: Previous characters in the query matched, but the current
+                        // character failed to match. This happened right at the start of the
+                        // current token. In this case, we should restart the query and try again
+                        // with the current token. Otherwise, we would fail to match a query like
+                        // "964"(yog) against a name Yo-Yoghurt because the query match would fail
+                        // on the 3rd character, and then skip to the end of the "Yoghurt" token.
+
+                        if (queryStart == queryOffset
+                                || name[nameStart - 1] != SmartDialCharMap.SEPARATOR) {
+                            // skip to the next token, in the case of 1 or 2.
+                            while (nameStart < nameEnd
+                                    && name[nameStart] != SmartDialCharMap.SEPARATOR) {
+                                nameStart++;
+                            }
                             nameStart++;
                         }
-                        nameStart++;
-                    }
-
-                    // Restart the query and set the correct token position
-                    queryStart = 0;
-                    seperatorCount = 0;
-                    tokenStart = nameStart;
-                } else {
-                    if (queryStart == queryLength - 1) {
 
+                        // Restart the query and set the correct token position
+                        queryStart = queryOffset;
+                        seperatorCount = 0;
+                        tokenStart = nameStart;
+                        continue;
+                    }
+                    if (queryStart == queryEnd - 1) {
                         // As much as possible, we prioritize a full token match over a sub token
                         // one so if we find a full token match, we can return right away
-                        matchList.add(new SmartDialMatchPosition(
-                                tokenStart, queryLength + tokenStart + seperatorCount));
-                        return true;
-                    } else if (ALLOW_INITIAL_MATCH && queryStart < INITIAL_LENGTH_LIMIT) {
+                        fullMatch = true;
+                        break;
+                    }
+                    if (ALLOW_INITIAL_MATCH && queryStart - queryOffset < INITIAL_LENGTH_LIMIT) {
                         // we matched the first character.
                         // branch off and see if we can find another match with the remaining
                         // characters in the query string and the remaining tokens
                         // find the next separator in the query string
                         int j;
-                        for (j = nameStart; j < nameLength; j++) {
-                            if (!isLowercaseLatinLetterOrDigit(remapAccentedChars(
-                                    displayName.charAt(j)))) {
+                        for (j = nameStart; j < nameEnd; j++) {
+                            if (name[j] == SmartDialCharMap.SEPARATOR) {
                                 break;
                             }
                         }
-                        // this means there is at least one character left after the separator
-                        if (j < nameLength - 1) {
-                            final String remainder = displayName.substring(j + 1);
-                            final ArrayList<SmartDialMatchPosition> partialTemp =
-                                    Lists.newArrayList();
-                            if (matchesCombination(
-                                    remainder, query.substring(queryStart + 1), partialTemp)) {
-
-                                // store the list of possible match positions
-                                SmartDialMatchPosition.advanceMatchPositions(partialTemp, j + 1);
-                                partialTemp.add(0,
-                                        new SmartDialMatchPosition(nameStart, nameStart + 1));
-                                // we found a partial token match, store the data in a
-                                // temp buffer and return it if we end up not finding a full
-                                // token match
-                                partial = partialTemp;
-                            }
+                        // this means there is at least one character left after the separator,
+                        // and enough of them for the rest of the query
+                        if (j < nameEnd - 1 && nameEnd - j - 1 >= queryEnd - queryStart - 1) {
+                            // Suspend this attempt, and match the rest of the query against the
+                            // tokens after the separator
+                            final int frame = depth * FRAME_SIZE;
+                            mFrames[frame + FRAME_QUERY_OFFSET] = queryOffset;
+                            mFrames[frame + FRAME_NAME_START] = nameStart;
+                            mFrames[frame + FRAME_QUERY_START] = queryStart;
+                            mFrames[frame + FRAME_TOKEN_START] = tokenStart;
+                            mFrames[frame + FRAME_SEPERATOR_COUNT] = seperatorCount;
+                            depth++;
+                            queryOffset = queryStart + 1;
+                            nameStart = j + 1;
+                            queryStart = queryOffset;
+                            tokenStart = nameStart;
+                            seperatorCount = 0;
+                            mPartialSpanCounts[depth] = 0;
+                            nested = true;
+                            break;
                         }
                     }
                     nameStart++;
                     queryStart++;
                     // we matched the current character in the name against one in the query,
                     // continue and see if the rest of the characters match
+                } else {
+                    // found a separator, we skip this character and continue to the next one
+                    nameStart++;
+                    if (queryStart == queryOffset) {
+                        // This means we found a separator before the start of a token,
+                        // so we should increment the token's start position to reflect its true
+                        // start position
+                        tokenStart = nameStart;
+                    } else {
+                        // Otherwise this separator was found in the middle of a token being
+                        // matched, so increase the separator count
+                        seperatorCount++;
+                    }
                 }
-            } else {
-                // found a separator, we skip this character and continue to the next one
-                nameStart++;
-                if (queryStart == 0) {
-                    // This means we found a separator before the start of a token,
-                    // so we should increment the token's start position to reflect its true
-                    // start position
-                    tokenStart = nameStart;
+            }
+            if (nested) {
+                continue;
+            }
+
+            // The current attempt is over. If it found no complete match, then we fall back to
+            // the partial token match(if any). If we don't allow initial matching
+            // (ALLOW_INITIAL_MATCH = false) then there is never a partial match.
+            final int matchEnd = queryEnd - queryOffset + tokenStart + seperatorCount;
+            final int partialSpanCount = mPartialSpanCounts[depth];
+            if (depth == 0) {
+                if (fullMatch) {
+                    spans[0] = tokenStart;
+                    spans[1] = matchEnd;
+                    return 1;
+                }
+                System.arraycopy(mPartialSpans, 0, spans, 0, partialSpanCount * 2);
+                return partialSpanCount;
+            }
+
+            // Resume the attempt that branched off
+            final int childSpans = depth * stride;
+            final int childTokenStart = tokenStart;
+            depth--;
+            final int frame = depth * FRAME_SIZE;
+            queryOffset = mFrames[frame + FRAME_QUERY_OFFSET];
+            nameStart = mFrames[frame + FRAME_NAME_START];
+            queryStart = mFrames[frame + FRAME_QUERY_START];
+            tokenStart = mFrames[frame + FRAME_TOKEN_START];
+            seperatorCount = mFrames[frame + FRAME_SEPERATOR_COUNT];
+            if (fullMatch || partialSpanCount > 0) {
+                // we found a partial token match, store the initial followed by the match
+                // positions of the rest of the query, and return them if we end up not finding
+                // a full token match
+                final int parentSpans = depth * stride;
+                mPartialSpans[parentSpans] = nameStart;
+                mPartialSpans[parentSpans + 1] = nameStart + 1;
+                if (fullMatch) {
+                    mPartialSpans[parentSpans + 2] = childTokenStart;
+                    mPartialSpans[parentSpans + 3] = matchEnd;
+                    mPartialSpanCounts[depth] = 2;
                 } else {
-                    // Otherwise this separator was found in the middle of a token being matched,
-                    // so increase the separator count
-                    seperatorCount++;
+                    System.arraycopy(mPartialSpans, childSpans, mPartialSpans, parentSpans + 2,
+                            partialSpanCount * 2);
+                    mPartialSpanCounts[depth] = partialSpanCount + 1;
                 }
             }
+            nameStart++;
+            queryStart++;
         }
-        // if we have no complete match at this point, then we attempt to fall back to the partial
-        // token match(if any). If we don't allow initial matching (ALLOW_INITIAL_MATCH = false)
-        // then partial will always be empty.
-        if (!partial.isEmpty()) {
-            matchList.addAll(partial);
-            return true;
-        }
-        return false;
     }
 
-    /*
-     * Returns true if the character is a lowercase latin character or digit(i.e. non-separator).
+    /**
+     * Matches the digits of a name against the query, without allocating.
+     *
+     * @param nameDigits Digits of the name as mapped by the character map of this matcher, e.g.
+     *        by {@link SmartDialTrie#put} while indexing the name.
+     * @param length Number of digits of the name.
+     * @param spans Receives the start and end of each span of the name that matched: the start of
+     *        the first span at index 0, its end at index 1, and so on. Must have room for
+     *        {@link #getMaxSpans()} spans.
+     * @return Number of spans that matched, 0 if the name does not match.
      */
-    private boolean isLowercaseLatinLetterOrDigit(char ch) {
-        return (ch >= 'a' && ch <= 'z') || (ch >= '0' && ch <= '9');
+    public int match(byte[] nameDigits, int length, int[] spans) {
+        return matchesCombination(nameDigits, length, mQueryDigits, spans);
     }
 
     public boolean matches(String displayName) {
-        mMatchPositions.clear();
-        return matchesCombination(displayName, mQuery, mMatchPositions);
+        final int length = displayName.length();
+        if (mNameDigits.length < length) {
+            mNameDigits = new byte[length];
+        }
+        mCharMap.toDigits(displayName, mNameDigits);
+        mSpanCount = match(mNameDigits, length, mSpans);
+        return mSpanCount > 0;
+    }
+
+    /**
+     * Matches a name already mapped to digits by the character map of this matcher, e.g. by
+     * {@link SmartDialTrie#put} while indexing the name.
+     */
+    public boolean matches(byte[] nameDigits) {
+        mSpanCount = match(nameDigits, nameDigits.length, mSpans);
+        return mSpanCount > 0;
     }
 
+    /**
+     * Returns the number of spans matched by the last call to {@link #matches}: 1 if the query
+     * matched the start of a word, more if it matched initials, 0 if it did not match.
+     */
+    public int getSpanCount() {
+        return mSpanCount;
+    }
+
+    /**
+     * Returns the positions matched by the last call to {@link #matches}, in a new list that the
+     * caller can keep.
+     */
     public ArrayList<SmartDialMatchPosition> getMatchPositions() {
-        // Return a clone of mMatchPositions so that the caller can use it without
-        // worrying about it changing
-        return new ArrayList<SmartDialMatchPosition>(mMatchPositions);
+        final ArrayList<SmartDialMatchPosition> result =
+                Lists.newArrayListWithCapacity(mSpanCount);
+        addMatchPositions(mSpans, mSpanCount, result);
+        return result;
+    }
+
+    private static void addMatchPositions(int[] spans, int spanCount,
+            ArrayList<SmartDialMatchPosition> matchList) {
+        for (int i = 0; i < spanCount; i++) {
+            matchList.add(new SmartDialMatchPosition(spans[i * 2], spans[i * 2 + 1]));
+        }
     }
 
     public String getQuery() {
@@ -0,0 +1,259 @@
+/*
+ * Copyright (C) 2013 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.dialer.dialpad;
+
+import android.os.CancellationSignal;
+
+import com.android.dialer.dialpad.SmartDialCache.ContactNumber;
+import com.google.common.annotations.VisibleForTesting;
+
+import java.util.Arrays;
+
+/**
+ * Index of the digits of a list of phone numbers, which finds the numbers that contain a query
+ * anywhere but at their start, e.g. the numbers that end with the last digits of an extension.
+ * Numbers that start with a query are found by the prefix trie instead.
+ *
+ * <p>This is a suffix array: the positions of all suffixes of all numbers, sorted by the digits
+ * that follow them, so that the suffixes starting with a query occupy a contiguous range that is
+ * found by binary search. Suffixes are only sorted by their first {@link #KEY_LENGTH} digits,
+ * which lets them be sorted as primitive keys; the digits of longer queries are checked against
+ * each suffix of the range.</p>
+ *
+ * <p>The index takes one byte per digit and four bytes per suffix. Suffixes shorter than
+ * {@link #MIN_QUERY_LENGTH} digits are not indexed, since such short queries would match too
+ * many numbers to be useful, and no index is built for lists with more than
+ * {@link #MAX_DIGITS} digits.</p>
+ *
+ * <p>Instances are immutable.</p>
+ */
+class SmartDialNumberIndex {
+    /** Minimum number of digits of the queries the index is searched with. */
+    static final int MIN_QUERY_LENGTH = 3;
+
+    /** Number of digits suffixes are sorted by, as base {@link #KEY_BASE} digits of a long. */
+    private static final int KEY_LENGTH = 12;
+    /** One symbol per digit, and one for the end of the number. */
+    private static final int KEY_BASE = 11;
+
+    /** Suffixes are sorted as a long holding their key followed by their position. */
+    private static final int POSITION_BITS = 21;
+    private static final long POSITION_MASK = (1L << POSITION_BITS) - 1;
+
+    /** Maximum number of digits, including one end marker per number, of an index. */
+    @VisibleForTesting
+    static final int MAX_DIGITS = 1 << POSITION_BITS;
+
+    /** Marks the end of each number in {@link #mDigits}. */
+    private static final byte END = 10;
+
+    /** Number of suffixes scanned between two checks of the cancellation signal. */
+    private static final int CANCELLATION_CHECK_INTERVAL = 1024;
+
+    private static final int[] NO_NUMBERS = new int[0];
+
+    /** Digits of all numbers, each number followed by {@link #END}. */
+    private final byte[] mDigits;
+    /** Number n is stored at [mNumberStarts[n], mNumberStarts[n + 1] - 1) of mDigits. */
+    private final int[] mNumberStarts;
+    /** Positions in mDigits of the indexed suffixes, sorted by their first digits. */
+    private final int[] mSuffixes;
+
+    private SmartDialNumberIndex(byte[] digits, int[] numberStarts, int[] suffixes) {
+        mDigits = digits;
+        mNumberStarts = numberStarts;
+        mSuffixes = suffixes;
+    }
+
+    /**
+     * Builds the index of the numbers of the given contacts. Contacts are identified by their
+     * position in the array.
+     *
+     * @return The index, or null if the numbers have too many digits in total.
+     */
+    static SmartDialNumberIndex build(ContactNumber[] contacts) {
+        long digitCount = 0;
+        for (ContactNumber contact : contacts) {
+            digitCount += countDigits(contact.phoneNumber) + 1;
+        }
+        if (digitCount > MAX_DIGITS) {
+            return null;
+        }
+
+        final byte[] digits = new byte[(int) digitCount];
+        final int[] numberStarts = new int[contacts.length + 1];
+        int position = 0;
+        int suffixCount = 0;
+        for (int i = 0; i < contacts.length; i++) {
+            numberStarts[i] = position;
+            final String number = contacts[i].phoneNumber;
+            final int length = (number != null) ? number.length() : 0;
+            for (int j = 0; j < length; j++) {
+                final char c = number.charAt(j);
+                if (c >= '0' && c <= '9') {
+                    digits[position++] = (byte) (c - '0');
+                }
+            }
+            digits[position++] = END;
+            // Suffixes other than the whole number, with at least MIN_QUERY_LENGTH digits
+            suffixCount += Math.max(0, position - 1 - numberStarts[i] - MIN_QUERY_LENGTH);
+        }
+        numberStarts[contacts.length] = position;
+
+        final long[] keys = new long[suffixCount];
+        int next = 0;
+        for (int i = 0; i < contacts.length; i++) {
+            final int last = numberStarts[i + 1] - 1 - MIN_QUERY_LENGTH;
+            for (int suffix = numberStarts[i] + 1; suffix <= last; suffix++) {
+                keys[next++] = (getKey(digits, suffix) << POSITION_BITS) | suffix;
+            }
+        }
+        Arrays.sort(keys);
+        final int[] suffixes = new int[suffixCount];
+        for (int i = 0; i < suffixCount; i++) {
+            suffixes[i] = (int) (keys[i] & POSITION_MASK);
+        }
+        return new SmartDialNumberIndex(digits, numberStarts, suffixes);
+    }
+
+    private static int countDigits(String number) {
+        int count = 0;
+        for (int i = 0; number != null && i < number.length(); i++) {
+            final char c = number.charAt(i);
+            if (c >= '0' && c <= '9') {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the first {@link #KEY_LENGTH} symbols of a suffix as a number. Suffixes compare the
+     * same way as their keys, up to their first KEY_LENGTH digits.
+     */
+    private static long getKey(byte[] digits, int suffix) {
+        long key = 0;
+        boolean ended = false;
+        for (int i = 0; i < KEY_LENGTH; i++) {
+            int symbol = 0;
+            if (!ended) {
+                final byte digit = digits[suffix + i];
+                if (digit == END) {
+                    ended = true;
+                } else {
+                    symbol = digit + 1;
+                }
+            }
+            key = key * KEY_BASE + symbol;
+        }
+        return key;
+    }
+
+    /**
+     * Returns the numbers that contain the given digits other than at their start.
+     *
+     * @param query Digits to search for, at least {@link #MIN_QUERY_LENGTH} of them.
+     * @param cancellationSignal Signal to check while collecting the numbers, or null.
+     * @return Indexes of the numbers, in no particular order. A number is returned once for each
+     *         position it contains the query at.
+     * @throws android.os.OperationCanceledException If the search was canceled.
+     */
+    int[] getNumbersContaining(CharSequence query, CancellationSignal cancellationSignal) {
+        final int length = query.length();
+        if (length < MIN_QUERY_LENGTH) {
+            return NO_NUMBERS;
+        }
+        // Keys of the suffixes starting with the query lie in [lowest, lowest + span)
+        long lowest = 0;
+        long span = 1;
+        for (int i = 0; i < KEY_LENGTH; i++) {
+            int symbol = 0;
+            if (i < length) {
+                final int digit = query.charAt(i) - '0';
+                if (digit < 0 || digit > 9) {
+                    return NO_NUMBERS;
+                }
+                symbol = digit + 1;
+            } else {
+                span *= KEY_BASE;
+            }
+            lowest = lowest * KEY_BASE + symbol;
+        }
+
+        final int start = findFirstKey(lowest);
+        final int end = findFirstKey(lowest + span);
+        final int[] result = new int[end - start];
+        int count = 0;
+        for (int i = start; i < end; i++) {
+            if (cancellationSignal != null && (i - start) % CANCELLATION_CHECK_INTERVAL == 0) {
+                cancellationSignal.throwIfCanceled();
+            }
+            final int suffix = mSuffixes[i];
+            if (length > KEY_LENGTH && !matchesRest(suffix, query)) {
+                continue;
+            }
+            result[count++] = getNumber(suffix);
+        }
+        return (count == result.length) ? result : Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Returns true if the digits of a suffix that follow its key match the rest of the query.
+     */
+    private boolean matchesRest(int suffix, CharSequence query) {
+        for (int i = KEY_LENGTH; i < query.length(); i++) {
+            // The end marker never matches a digit, so this stops at the end of the number
+            if (mDigits[suffix + i] != query.charAt(i) - '0') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the position of the first suffix whose key is at least the given one.
+     */
+    private int findFirstKey(long key) {
+        int low = 0;
+        int high = mSuffixes.length;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (getKey(mDigits, mSuffixes[middle]) < key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the number a position of {@link #mDigits} belongs to.
+     */
+    private int getNumber(int position) {
+        // Suffixes never start at the start of a number, so the search never finds the position
+        return -Arrays.binarySearch(mNumberStarts, position) - 2;
+    }
+
+    /**
+     * Returns the number of suffixes in the index.
+     */
+    @VisibleForTesting
+    int getSuffixCount() {
+        return mSuffixes.length;
+    }
+}
@@ -0,0 +1,302 @@
+/*
+ * Copyright (C) 2013 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.dialer.dialpad;
+
+import android.text.TextUtils;
+
+import com.google.common.collect.Maps;
+
+import java.util.HashMap;
+
+/**
+ * Dialing plan of the user's region, which tells from which digits phone numbers are indexed and
+ * matched besides their first one, so that a number can be found by the digits the user would
+ * dial from within the region: without the country calling code, without the trunk prefix that
+ * national numbers are dialed with, and without the area code.
+ *
+ * <p>Plans are described by {@link #PLANS}. Country calling codes are looked up in a prefix tree
+ * holding one flag byte per prefix of up to three digits. Regions without a plan only get the
+ * country calling code of international numbers stripped, see {@link #NONE}.</p>
+ *
+ * <p>Instances are immutable.</p>
+ */
+public class SmartDialNumberRules {
+    /**
+     * Dialing plans, one per string. Each holds, separated by spaces: the country calling code;
+     * the trunk prefix national numbers are dialed with, or "-" if none; the minimum and maximum
+     * number of digits of national numbers, without the trunk prefix; the length of the area code
+     * of national numbers starting with each digit from 0 to 9, or 0 where the length of area
+     * codes varies; and the ISO 3166 codes of the regions that use the plan.
+     */
+    private static final String[] PLANS = {
+        "1 1 10 10 0033333333 US CA AS AI AG BS BB BM VG KY DM DO GD GU JM PR MS MP KN LC VC TT"
+                + " TC VI",
+        "7 8 10 10 0003330033 RU KZ",
+        "31 0 9 9 0000001000 NL",
+        "33 0 9 9 0111111111 FR",
+        "41 0 9 9 0222222222 CH",
+        "44 0 9 10 0020000400 GB GG IM JE",
+        "49 0 6 11 0300000000 DE",
+        "55 0 10 11 0222222222 BR",
+        "61 0 9 9 0011300110 AU",
+        "81 0 9 10 0001001222 JP",
+        "82 0 8 10 0210000000 KR",
+        "86 0 9 11 0000000000 CN",
+        "91 0 10 10 0000000000 IN",
+    };
+
+    /** Country calling codes assigned by the ITU, none of which is a prefix of another. */
+    private static final String[] COUNTRY_CODES = {
+        "1", "7", "20", "27", "30", "31", "32", "33", "34", "36", "39", "40", "41", "43", "44",
+        "45", "46", "47", "48", "49", "51", "52", "53", "54", "55", "56", "57", "58", "60", "61",
+        "62", "63", "64", "65", "66", "81", "82", "84", "86", "90", "91", "92", "93", "94", "95",
+        "98", "211", "212", "213", "216", "218", "220", "221", "222", "223", "224", "225", "226",
+        "227", "228", "229", "230", "231", "232", "233", "234", "235", "236", "237", "238", "239",
+        "240", "241", "242", "243", "244", "245", "246", "247", "248", "249", "250", "251", "252",
+        "253", "254", "255", "256", "257", "258", "260", "261", "262", "263", "264", "265", "266",
+        "267", "268", "269", "290", "291", "297", "298", "299", "350", "351", "352", "353", "354",
+        "355", "356", "357", "358", "359", "370", "371", "372", "373", "374", "375", "376", "377",
+        "378", "379", "380", "381", "382", "385", "386", "387", "389", "420", "421", "423", "500",
+        "501", "502", "503", "504", "505", "506", "507", "508", "509", "590", "591", "592", "593",
+        "594", "595", "596", "597", "598", "599", "670", "672", "673", "674", "675", "676", "677",
+        "678", "679", "680", "681", "682", "683", "685", "686", "687", "688", "689", "690", "691",
+        "692", "800", "808", "850", "852", "853", "855", "856", "870", "878", "880", "881", "882",
+        "883", "886", "888", "960", "961", "962", "963", "964", "965", "966", "967", "968", "970",
+        "971", "972", "973", "974", "975", "976", "977", "979", "992", "993", "994", "995", "996",
+        "998",
+    };
+
+    private static final int MAX_COUNTRY_CODE_LENGTH = 3;
+    /** Position in {@link #sCountryCodeTree} of the first prefix of each length, from 1 digit. */
+    private static final int[] TREE_LEVELS = {0, 10, 110};
+    /** The prefix is a country calling code. */
+    private static final byte IS_CODE = 1;
+    /** Longer country calling codes start with the prefix. */
+    private static final byte HAS_LONGER = 2;
+
+    /**
+     * Flags of each prefix of up to {@link #MAX_COUNTRY_CODE_LENGTH} digits, the prefix p of n
+     * digits being at TREE_LEVELS[n - 1] + p. Each level is the list of the children of the
+     * previous one, so the tree needs no links between its nodes.
+     */
+    private static final byte[] sCountryCodeTree = new byte[1110];
+
+    /** Maximum number of offsets returned by {@link #getOffsets}. */
+    public static final int MAX_OFFSETS = 3;
+
+    /** Rules of regions without a plan, which only strip the country calling code. */
+    public static final SmartDialNumberRules NONE = new SmartDialNumberRules(0, "", 0, 0, null);
+
+    private static final HashMap<String, SmartDialNumberRules> sRulesByRegion =
+            Maps.newHashMap();
+
+    static {
+        for (String code : COUNTRY_CODES) {
+            int prefix = 0;
+            for (int i = 0; i < code.length(); i++) {
+                prefix = prefix * 10 + code.charAt(i) - '0';
+                sCountryCodeTree[TREE_LEVELS[i] + prefix] |=
+                        (i == code.length() - 1) ? IS_CODE : HAS_LONGER;
+            }
+        }
+        for (String plan : PLANS) {
+            final String[] fields = plan.split(" ");
+            final byte[] areaCodeLengths = new byte[10];
+            for (int i = 0; i < areaCodeLengths.length; i++) {
+                areaCodeLengths[i] = (byte) (fields[4].charAt(i) - '0');
+            }
+            final SmartDialNumberRules rules = new SmartDialNumberRules(
+                    Integer.parseInt(fields[0]), fields[1].equals("-") ? "" : fields[1],
+                    Integer.parseInt(fields[2]), Integer.parseInt(fields[3]), areaCodeLengths);
+            for (int i = 5; i < fields.length; i++) {
+                sRulesByRegion.put(fields[i], rules);
+            }
+        }
+    }
+
+    private final int mCountryCode;
+    private final String mTrunkPrefix;
+    private final int mMinNationalLength;
+    private final int mMaxNationalLength;
+    /** Area code length by first digit of the national number, or null if none are split. */
+    private final byte[] mAreaCodeLengths;
+
+    private SmartDialNumberRules(int countryCode, String trunkPrefix, int minNationalLength,
+            int maxNationalLength, byte[] areaCodeLengths) {
+        mCountryCode = countryCode;
+        mTrunkPrefix = trunkPrefix;
+        mMinNationalLength = minNationalLength;
+        mMaxNationalLength = maxNationalLength;
+        mAreaCodeLengths = areaCodeLengths;
+    }
+
+    /**
+     * Returns the rules of a region.
+     *
+     * @param region ISO 3166 code of the region (case doesn't matter), or null.
+     * @return The rules of the region, or {@link #NONE} if it has none.
+     */
+    public static SmartDialNumberRules forRegion(String region) {
+        if (TextUtils.isEmpty(region)) {
+            return NONE;
+        }
+        final SmartDialNumberRules rules = sRulesByRegion.get(region.toUpperCase());
+        return (rules != null) ? rules : NONE;
+    }
+
+    /**
+     * Returns the country calling code of the region, or 0 for {@link #NONE}. Regions with the
+     * same country calling code share the same rules.
+     */
+    public int getCountryCode() {
+        return mCountryCode;
+    }
+
+    /**
+     * Returns the position in a phone number that follows its country calling code, if the number
+     * starts with '+' and a known country calling code that is followed by other characters.
+     *
+     * @return The position, or 0 if the number has no country calling code.
+     */
+    public static int getCountryCodeEnd(CharSequence number) {
+        if (number == null || number.length() == 0 || number.charAt(0) != '+') {
+            return 0;
+        }
+        int prefix = 0;
+        for (int i = 1; i <= MAX_COUNTRY_CODE_LENGTH && i < number.length(); i++) {
+            final char ch = number.charAt(i);
+            if (ch < '0' || ch > '9') {
+                return 0;
+            }
+            prefix = prefix * 10 + ch - '0';
+            final byte flags = sCountryCodeTree[TREE_LEVELS[i - 1] + prefix];
+            if ((flags & IS_CODE) != 0) {
+                return (i + 1 < number.length()) ? i + 1 : 0;
+            }
+            if ((flags & HAS_LONGER) == 0) {
+                return 0;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Finds the positions in a phone number other than its start from which it is also indexed
+     * and matched: after the country calling code of international numbers; and for numbers of
+     * the region, after the trunk prefix and after the area code, if the number has the length of
+     * a national number of the region.
+     *
+     * @param number Raw phone number.
+     * @param offsets Receives the positions, which are those of digits, in increasing order.
+     *        Must hold at least {@link #MAX_OFFSETS} positions.
+     * @return Number of positions written to offsets.
+     */
+    public int getOffsets(String number, int[] offsets) {
+        int count = 0;
+        int start = getCountryCodeEnd(number);
+        if (start != 0) {
+            final int position = skipToDigit(number, start);
+            if (position == number.length()) {
+                // Nothing but separators follows the country calling code, e.g. "+1 "
+                return count;
+            }
+            offsets[count++] = position;
+            if (parseDigits(number, 1, start) != mCountryCode) {
+                return count;
+            }
+        }
+        if (mCountryCode == 0) {
+            return count;
+        }
+
+        int digits = 0;
+        for (int i = start; i < number.length(); i++) {
+            final char ch = number.charAt(i);
+            if (ch >= '0' && ch <= '9') {
+                digits++;
+            }
+        }
+        final int trunkEnd = matchTrunkPrefix(number, start);
+        if (trunkEnd != 0) {
+            digits -= mTrunkPrefix.length();
+            start = trunkEnd;
+        }
+        if (digits < mMinNationalLength || digits > mMaxNationalLength) {
+            return count;
+        }
+        start = skipToDigit(number, start);
+        if (trunkEnd != 0) {
+            offsets[count++] = start;
+        }
+
+        final int areaCodeLength = mAreaCodeLengths[number.charAt(start) - '0'];
+        if (areaCodeLength != 0 && areaCodeLength < digits) {
+            int position = start;
+            for (int i = 0; i < areaCodeLength; i++) {
+                position = skipToDigit(number, position + 1);
+            }
+            offsets[count++] = position;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the position that follows the trunk prefix the national number starting at the
+     * given position starts with, or 0 if it does not start with the trunk prefix.
+     */
+    private int matchTrunkPrefix(String number, int start) {
+        if (mTrunkPrefix.isEmpty()) {
+            return 0;
+        }
+        int matched = 0;
+        for (int i = start; i < number.length(); i++) {
+            final char ch = number.charAt(i);
+            if (ch >= '0' && ch <= '9') {
+                if (ch != mTrunkPrefix.charAt(matched)) {
+                    return 0;
+                }
+                if (++matched == mTrunkPrefix.length()) {
+                    return i + 1;
+                }
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the position of the first digit at or after the given position, or the length of
+     * the number if there is none.
+     */
+    private static int skipToDigit(String number, int position) {
+        while (position < number.length()) {
+            final char ch = number.charAt(position);
+            if (ch >= '0' && ch <= '9') {
+                break;
+            }
+            position++;
+        }
+        return position;
+    }
+
+    private static int parseDigits(CharSequence number, int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            value = value * 10 + number.charAt(i) - '0';
+        }
+        return value;
+    }
+}
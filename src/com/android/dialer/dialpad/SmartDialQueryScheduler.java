@@ -0,0 +1,231 @@
+/*
+ * Copyright (C) 2013 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.dialer.dialpad;
+
+import static com.android.dialer.dialpad.SmartDialController.LOG_TAG;
+
+import android.os.Handler;
+import android.os.SystemClock;
+import android.util.Log;
+
+import com.android.dialer.util.AsyncTaskExecutor;
+import com.android.dialer.util.AsyncTaskExecutors;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import java.util.List;
+
+/**
+ * Starts the smart dial searches for the queries typed on the dialpad.
+ *
+ * <p>Only the search for the latest query is useful, so a search still running when the next
+ * query is typed is canceled, and stops where it is rather than running to completion. Searches
+ * are started at most once per {@link #MIN_SEARCH_INTERVAL_MS}: queries typed faster than that
+ * are coalesced, and only the last of them is searched. The first query typed after a pause is
+ * searched right away.</p>
+ *
+ * <p>The scheduler keeps {@link Metrics} of the queries it dropped, canceled and served, and of
+ * the time from typing a query to showing its results.</p>
+ *
+ * <p>All methods must be called from the UI thread.</p>
+ */
+public class SmartDialQueryScheduler implements SmartDialLoaderTask.SmartDialLoaderCallback {
+    private static final boolean DEBUG = false;
+
+    /** Identifiers of the tasks submitted to the {@link AsyncTaskExecutor}. */
+    public enum Tasks {
+        SEARCH,
+    }
+
+    /** Minimum time between the start of two searches. */
+    @VisibleForTesting
+    static final long MIN_SEARCH_INTERVAL_MS = 50;
+
+    /** Counters of a {@link SmartDialQueryScheduler}. */
+    public static class Metrics {
+        /** Queries passed to {@link #schedule(String)}. */
+        public final int scheduledQueries;
+        /** Queries replaced by a later query before their search was started. */
+        public final int droppedQueries;
+        /** Searches started. */
+        public final int startedSearches;
+        /** Searches canceled because a later query was typed before they finished. */
+        public final int canceledSearches;
+        /** Searches whose results were shown. */
+        public final int servedQueries;
+        /** Time from typing a query to showing its results, for the last served query. */
+        public final long lastLatencyMillis;
+        /** Average time from typing a query to showing its results. */
+        public final long meanLatencyMillis;
+        /** Longest time from typing a query to showing its results. */
+        public final long maxLatencyMillis;
+
+        Metrics(int scheduledQueries, int droppedQueries, int startedSearches,
+                int canceledSearches, int servedQueries, long lastLatencyMillis,
+                long totalLatencyMillis, long maxLatencyMillis) {
+            this.scheduledQueries = scheduledQueries;
+            this.droppedQueries = droppedQueries;
+            this.startedSearches = startedSearches;
+            this.canceledSearches = canceledSearches;
+            this.servedQueries = servedQueries;
+            this.lastLatencyMillis = lastLatencyMillis;
+            this.meanLatencyMillis = (servedQueries == 0) ? 0 : totalLatencyMillis / servedQueries;
+            this.maxLatencyMillis = maxLatencyMillis;
+        }
+
+        @Override
+        public String toString() {
+            return "scheduled " + scheduledQueries + ", dropped " + droppedQueries + ", started "
+                    + startedSearches + ", canceled " + canceledSearches + ", served "
+                    + servedQueries + ", latency last " + lastLatencyMillis + " ms, mean "
+                    + meanLatencyMillis + " ms, max " + maxLatencyMillis + " ms";
+        }
+    }
+
+    private final SmartDialCache mCache;
+    private final SmartDialSearchSession mSession;
+    private final SmartDialLoaderTask.SmartDialLoaderCallback mCallback;
+    private final AsyncTaskExecutor mExecutor;
+    private final Handler mHandler = new Handler();
+
+    /** Query waiting for the next search to be started, or null. */
+    private String mPendingQuery;
+    /** Time at which {@link #mPendingQuery} was typed. */
+    private long mPendingQueryMillis;
+
+    /** Search currently running, or null. */
+    private SmartDialLoaderTask mRunningTask;
+    /** Time at which the query of {@link #mRunningTask} was typed. */
+    private long mRunningQueryMillis;
+    /** Time at which the last search was started. */
+    private long mLastStartMillis = Long.MIN_VALUE / 2;
+
+    private int mScheduledQueries;
+    private int mDroppedQueries;
+    private int mStartedSearches;
+    private int mCanceledSearches;
+    private int mServedQueries;
+    private long mLastLatencyMillis;
+    private long mTotalLatencyMillis;
+    private long mMaxLatencyMillis;
+
+    private final Runnable mStartPendingSearch = new Runnable() {
+        @Override
+        public void run() {
+            startPendingSearch();
+        }
+    };
+
+    /**
+     * @param session Search session shared by the searches, see {@link SmartDialSearchSession}.
+     * @param callback Receives the results of the searches that were not canceled.
+     */
+    public SmartDialQueryScheduler(SmartDialCache cache, SmartDialSearchSession session,
+            SmartDialLoaderTask.SmartDialLoaderCallback callback) {
+        this(cache, session, callback, AsyncTaskExecutors.createThreadPoolExecutor());
+    }
+
+    @VisibleForTesting
+    SmartDialQueryScheduler(SmartDialCache cache, SmartDialSearchSession session,
+            SmartDialLoaderTask.SmartDialLoaderCallback callback, AsyncTaskExecutor executor) {
+        mCache = cache;
+        mSession = session;
+        mCallback = callback;
+        mExecutor = executor;
+    }
+
+    /**
+     * Searches for a query, replacing the previous query if its search did not finish yet.
+     *
+     * @param query Normalized query, only containing the digits 0 - 9.
+     */
+    public void schedule(String query) {
+        final long now = SystemClock.uptimeMillis();
+        mScheduledQueries++;
+        if (mPendingQuery != null) {
+            mDroppedQueries++;
+        }
+        cancelRunningSearch();
+        mPendingQuery = query;
+        mPendingQueryMillis = now;
+
+        mHandler.removeCallbacks(mStartPendingSearch);
+        final long delay = mLastStartMillis + MIN_SEARCH_INTERVAL_MS - now;
+        if (delay <= 0) {
+            startPendingSearch();
+        } else {
+            mHandler.postDelayed(mStartPendingSearch, delay);
+        }
+    }
+
+    /**
+     * Cancels the search for the latest query, e.g. because the query was cleared.
+     */
+    public void cancel() {
+        mHandler.removeCallbacks(mStartPendingSearch);
+        if (mPendingQuery != null) {
+            mDroppedQueries++;
+            mPendingQuery = null;
+        }
+        cancelRunningSearch();
+    }
+
+    public Metrics getMetrics() {
+        return new Metrics(mScheduledQueries, mDroppedQueries, mStartedSearches,
+                mCanceledSearches, mServedQueries, mLastLatencyMillis, mTotalLatencyMillis,
+                mMaxLatencyMillis);
+    }
+
+    private void startPendingSearch() {
+        if (mPendingQuery == null) {
+            return;
+        }
+        mRunningTask = new SmartDialLoaderTask(this, mPendingQuery, mCache, mSession);
+        mRunningQueryMillis = mPendingQueryMillis;
+        mPendingQuery = null;
+        mLastStartMillis = SystemClock.uptimeMillis();
+        mStartedSearches++;
+        mExecutor.submit(Tasks.SEARCH, mRunningTask);
+    }
+
+    private void cancelRunningSearch() {
+        if (mRunningTask != null) {
+            mRunningTask.cancelSearch();
+            mRunningTask = null;
+            mCanceledSearches++;
+        }
+    }
+
+    @Override
+    public void setSmartDialAdapterEntries(List<SmartDialEntry> list, String query) {
+        // Canceled tasks never call back, so these are the results of the running task
+        if (mRunningTask == null || !mRunningTask.getQuery().equals(query)) {
+            return;
+        }
+        mRunningTask = null;
+        mCallback.setSmartDialAdapterEntries(list, query);
+
+        final long latency = SystemClock.uptimeMillis() - mRunningQueryMillis;
+        mServedQueries++;
+        mLastLatencyMillis = latency;
+        mTotalLatencyMillis += latency;
+        mMaxLatencyMillis = Math.max(mMaxLatencyMillis, latency);
+        if (DEBUG) {
+            Log.d(LOG_TAG, "Served " + query + ": " + getMetrics());
+        }
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright (C) 2013 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.dialer.dialpad;
+
+import android.content.ContentResolver;
+import android.database.Cursor;
+import android.provider.CallLog.Calls;
+
+import com.android.dialer.dialpad.SmartDialCache.ContactNumber;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Maps;
+
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Orders the contacts matching a smart dial query.
+ *
+ * <p>The trie returns its candidates in order of affinity, which is the order the contacts
+ * provider ranked the contacts in when the cache was last built. The ranker moves candidates up
+ * according to how often and how recently their number was called, as recorded in the call log
+ * since, and down according to how loosely they matched the query. Both are expressed in
+ * positions of the affinity order, so that a contact called a few minutes ago moves ahead of
+ * most other candidates, while the affinity still decides between contacts that were not called
+ * recently.</p>
+ *
+ * <p>The usage of each number is updated incrementally: every call adds to the score of its
+ * number without touching the others. Scores decay exponentially, but rather than decaying every
+ * score as time passes, each call is weighted by how long after a fixed epoch it was placed. The
+ * scores of all numbers then decay by the same factor, which is applied once per ranking.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ */
+public class SmartDialRanker {
+    /** The query matches the start of a word of the name. */
+    public static final int MATCH_NAME_WORD = 0;
+    /** The query matches the phone number. */
+    public static final int MATCH_NUMBER = 1;
+    /** The query matches the initials of several words of the name. */
+    public static final int MATCH_NAME_INITIALS = 2;
+    /** Neither the name nor the number could be highlighted. */
+    public static final int MATCH_OTHER = 3;
+    /** The phone number contains the query, but does not start with it. */
+    public static final int MATCH_NUMBER_INFIX = 4;
+
+    /** Positions a candidate moves down by for each type of match, indexed by match type. */
+    private static final float[] MATCH_PENALTIES = {0f, 2f, 4f, 8f, 4f};
+
+    /** Time after which a call counts half as much towards the frequency of a number. */
+    @VisibleForTesting
+    static final long FREQUENCY_HALF_LIFE_MS = 7L * 24 * 60 * 60 * 1000;
+    /** Positions a candidate moves up by for each recent call, up to {@link #MAX_FREQUENCY}. */
+    private static final float FREQUENCY_WEIGHT = 4f;
+    private static final double MAX_FREQUENCY = 4;
+
+    /** Time after which the last call to a number counts half as much towards its recency. */
+    @VisibleForTesting
+    static final long RECENCY_HALF_LIFE_MS = 60L * 60 * 1000;
+    /** Positions a candidate moves up by if its number was called just now. */
+    private static final float RECENCY_WEIGHT = 16f;
+
+    /** Calls older than this are not read from the call log, their weight being negligible. */
+    private static final long CALL_LOG_WINDOW_MS = 8 * FREQUENCY_HALF_LIFE_MS;
+
+    /**
+     * Number of trailing digits numbers are compared by, so that the same number matches whether
+     * or not it was stored with a country code or trunk prefix. Same as the minimum match of
+     * {@link android.telephony.PhoneNumberUtils#compare}.
+     */
+    private static final int MIN_MATCH = 7;
+
+    /**
+     * Largest number of half lives between the epoch and a call. The epoch is moved forward
+     * before call weights get close to the range of a double.
+     */
+    private static final double MAX_EPOCH_HALF_LIVES = 512;
+
+    /** Usage of a number. */
+    private static class Usage {
+        /** Sum of the weights of the calls to the number, relative to {@link #mEpochMillis}. */
+        double weightedCalls;
+        long lastCallMillis;
+    }
+
+    private final HashMap<Long, Usage> mUsage = Maps.newHashMap();
+    private long mEpochMillis = Long.MIN_VALUE;
+    /** Time of the latest call recorded, see {@link #update(ContentResolver)}. */
+    private long mLatestCallMillis = Long.MIN_VALUE;
+
+    /**
+     * Records the calls added to the call log since the last update. Calls removed from the call
+     * log keep counting until their weight decays. Must not be called from the UI thread.
+     */
+    public void update(ContentResolver resolver) {
+        final long since;
+        synchronized (this) {
+            since = Math.max(mLatestCallMillis, System.currentTimeMillis() - CALL_LOG_WINDOW_MS);
+        }
+        final Cursor c = resolver.query(Calls.CONTENT_URI,
+                new String[] {Calls.NUMBER, Calls.DATE}, Calls.DATE + " > ?",
+                new String[] {String.valueOf(since)}, Calls.DATE);
+        if (c == null) {
+            return;
+        }
+        try {
+            while (c.moveToNext()) {
+                recordCall(c.getString(0), c.getLong(1));
+            }
+        } finally {
+            c.close();
+        }
+    }
+
+    /**
+     * Records a call to or from a number.
+     */
+    public synchronized void recordCall(String number, long timeMillis) {
+        final long key = getNumberKey(number);
+        if (key < 0) {
+            return;
+        }
+        if (mEpochMillis == Long.MIN_VALUE) {
+            mEpochMillis = timeMillis;
+        }
+        double halfLives = (double) (timeMillis - mEpochMillis) / FREQUENCY_HALF_LIFE_MS;
+        if (halfLives > MAX_EPOCH_HALF_LIVES) {
+            moveEpoch(timeMillis);
+            halfLives = 0;
+        }
+        Usage usage = mUsage.get(key);
+        if (usage == null) {
+            usage = new Usage();
+            mUsage.put(key, usage);
+        }
+        usage.weightedCalls += Math.pow(2, halfLives);
+        usage.lastCallMillis = Math.max(usage.lastCallMillis, timeMillis);
+        mLatestCallMillis = Math.max(mLatestCallMillis, timeMillis);
+    }
+
+    private void moveEpoch(long epochMillis) {
+        final double scale = Math.pow(2,
+                (double) (mEpochMillis - epochMillis) / FREQUENCY_HALF_LIFE_MS);
+        for (Usage usage : mUsage.values()) {
+            usage.weightedCalls *= scale;
+        }
+        mEpochMillis = epochMillis;
+    }
+
+    /**
+     * Orders candidates, best first.
+     *
+     * @param candidates Candidates in order of affinity, as returned by the trie.
+     * @param matchTypes Type of match of each candidate, one of {@link #MATCH_NAME_WORD},
+     *        {@link #MATCH_NUMBER}, {@link #MATCH_NAME_INITIALS}, {@link #MATCH_OTHER} and
+     *        {@link #MATCH_NUMBER_INFIX}.
+     * @param nowMillis Current time.
+     * @param order Receives the indexes in candidates of the best candidates, best first. Its
+     *        length is the maximum number of candidates to return.
+     * @return Number of indexes written to order.
+     */
+    public int rank(List<ContactNumber> candidates, int[] matchTypes, long nowMillis,
+            int[] order) {
+        final int count = candidates.size();
+        final float[] scores = new float[count];
+        synchronized (this) {
+            final double decay = (mEpochMillis == Long.MIN_VALUE) ? 0 : Math.pow(2,
+                    (double) (mEpochMillis - nowMillis) / FREQUENCY_HALF_LIFE_MS);
+            for (int i = 0; i < count; i++) {
+                scores[i] = i + MATCH_PENALTIES[matchTypes[i]];
+                if (mUsage.isEmpty()) {
+                    continue;
+                }
+                final Usage usage = mUsage.get(getNumberKey(candidates.get(i).phoneNumber));
+                if (usage != null) {
+                    final double frequency = Math.min(usage.weightedCalls * decay,
+                            MAX_FREQUENCY);
+                    final double recency = Math.pow(2,
+                            (double) (usage.lastCallMillis - nowMillis) / RECENCY_HALF_LIFE_MS);
+                    scores[i] -= FREQUENCY_WEIGHT * frequency
+                            + RECENCY_WEIGHT * Math.min(recency, 1);
+                }
+            }
+        }
+
+        // Insertion sort, there are only a few dozen candidates. Ties keep the affinity order.
+        final int limit = Math.min(count, order.length);
+        int sorted = 0;
+        for (int i = 0; i < count; i++) {
+            int j = sorted;
+            while (j > 0 && scores[order[j - 1]] > scores[i]) {
+                if (j < limit) {
+                    order[j] = order[j - 1];
+                }
+                j--;
+            }
+            if (j < limit) {
+                order[j] = i;
+                sorted = Math.min(sorted + 1, limit);
+            }
+        }
+        return limit;
+    }
+
+    /**
+     * Returns the last {@link #MIN_MATCH} digits of a number as a long, or -1 if the number has
+     * no digits.
+     */
+    @VisibleForTesting
+    static long getNumberKey(String number) {
+        if (number == null) {
+            return -1;
+        }
+        long key = 0;
+        long scale = 1;
+        int digits = 0;
+        for (int i = number.length() - 1; i >= 0 && digits < MIN_MATCH; i--) {
+            final char c = number.charAt(i);
+            if (c >= '0' && c <= '9') {
+                key += (c - '0') * scale;
+                scale *= 10;
+                digits++;
+            }
+        }
+        // Tell numbers with leading zeroes apart from shorter numbers
+        return (digits == 0) ? -1 : key + scale;
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2013 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.dialer.dialpad;
+
+import android.os.CancellationSignal;
+
+import com.android.dialer.dialpad.SmartDialCache.ContactNumber;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Remembers the state of the previous smart dial search so that the next one can continue from
+ * where it left off.
+ *
+ * <p>Queries typed on the dialpad almost always differ from the previous query by a single digit
+ * added to or removed from the end. For every digit of the current query the session keeps the
+ * trie node it leads to and, once computed, the candidates found for it. Appending a digit only
+ * walks a single edge down from the previous node, and removing one returns the candidates that
+ * were already found for the shorter query, so the work per keypress does not grow with the
+ * length of the query.</p>
+ *
+ * <p>A session is tied to one {@link CompactSmartDialTrie}. It resets itself whenever it is used
+ * with a different one, e.g. after the cache was rebuilt. Instances are thread safe.</p>
+ */
+public class SmartDialSearchSession {
+    private CompactSmartDialTrie mTrie;
+    private int mLimit;
+
+    /** Digits of the query the current state corresponds to. */
+    private final StringBuilder mQuery = new StringBuilder();
+
+    /**
+     * Node reached after the first i + 1 digits of {@link #mQuery}, or
+     * {@link CompactSmartDialTrie#NO_NODE} if the query has no matches.
+     */
+    private int[] mNodes = new int[16];
+
+    /** Same as {@link #mNodes}, for the contacts that changed since the trie was built. */
+    private int[] mAddedNodes = new int[16];
+
+    /** Candidates for the first i + 1 digits of {@link #mQuery}, or null if not computed yet. */
+    private final ArrayList<ArrayList<ContactNumber>> mResults = Lists.newArrayList();
+
+    /**
+     * Returns the best contacts for the provided query, in the same way as
+     * {@link CompactSmartDialTrie#getTopWithPrefix(CharSequence, int)}, reusing as much as
+     * possible from previous searches.
+     *
+     * @param trie Trie to search.
+     * @param query Normalized query, only containing the digits 0 - 9.
+     * @param limit Maximum number of contacts to return.
+     * @return The matching contacts. The returned list is shared with the session and must not
+     *         be modified.
+     */
+    public ArrayList<ContactNumber> search(CompactSmartDialTrie trie, String query, int limit) {
+        return search(trie, query, limit, null);
+    }
+
+    /**
+     * Same as {@link #search(CompactSmartDialTrie, String, int)}, but stops early if the search
+     * is canceled, e.g. because the user typed another digit. The session stays usable: the
+     * state collected before the cancellation is kept for the next search.
+     *
+     * @param cancellationSignal Signal to check while searching, or null.
+     * @throws android.os.OperationCanceledException If the search was canceled.
+     */
+    public synchronized ArrayList<ContactNumber> search(CompactSmartDialTrie trie, String query,
+            int limit, CancellationSignal cancellationSignal) {
+        if (trie != mTrie || limit != mLimit) {
+            reset(trie, limit);
+        }
+        if (query.length() == 0) {
+            return Lists.newArrayList();
+        }
+
+        // Rewind to the longest prefix shared with the previous query
+        int depth = 0;
+        final int common = Math.min(query.length(), mQuery.length());
+        while (depth < common && query.charAt(depth) == mQuery.charAt(depth)) {
+            depth++;
+        }
+        mQuery.setLength(depth);
+        while (mResults.size() > depth) {
+            mResults.remove(mResults.size() - 1);
+        }
+
+        // Walk down from the last known node for the digits that were added
+        final CompactSmartDialTrie added = trie.getAdded();
+        int node = (depth == 0) ? CompactSmartDialTrie.ROOT : mNodes[depth - 1];
+        int addedNode = (depth == 0) ? CompactSmartDialTrie.ROOT : mAddedNodes[depth - 1];
+        for (int i = depth; i < query.length(); i++) {
+            final int digit = query.charAt(i) - '0';
+            if (node != CompactSmartDialTrie.NO_NODE) {
+                node = trie.getChild(node, digit);
+            }
+            if (addedNode != CompactSmartDialTrie.NO_NODE) {
+                addedNode = (added != null) ? added.getChild(addedNode, digit)
+                        : CompactSmartDialTrie.NO_NODE;
+            }
+            if (i == mNodes.length) {
+                mNodes = Arrays.copyOf(mNodes, mNodes.length * 2);
+                mAddedNodes = Arrays.copyOf(mAddedNodes, mAddedNodes.length * 2);
+            }
+            mNodes[i] = node;
+            mAddedNodes[i] = addedNode;
+            mQuery.append(query.charAt(i));
+            mResults.add(null);
+        }
+
+        final int last = query.length() - 1;
+        ArrayList<ContactNumber> result = mResults.get(last);
+        if (result == null) {
+            result = trie.getTopForNode(node, addedNode, limit, cancellationSignal);
+            mResults.set(last, result);
+        }
+        return result;
+    }
+
+    /**
+     * Forgets all the state collected by previous searches.
+     */
+    public synchronized void reset() {
+        reset(null, 0);
+    }
+
+    private void reset(CompactSmartDialTrie trie, int limit) {
+        mTrie = trie;
+        mLimit = limit;
+        mQuery.setLength(0);
+        mResults.clear();
+    }
+
+    @VisibleForTesting
+    synchronized int getCachedResultCount() {
+        int count = 0;
+        for (ArrayList<ContactNumber> result : mResults) {
+            if (result != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
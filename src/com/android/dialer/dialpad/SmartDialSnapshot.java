@@ -0,0 +1,179 @@
+/*
+ * Copyright (C) 2013 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.dialer.dialpad;
+
+import static com.android.dialer.dialpad.SmartDialController.LOG_TAG;
+
+import android.util.Log;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A {@link CompactSmartDialTrie} saved to disk, so that a newly started process can serve smart
+ * dial suggestions without querying the contacts provider and rebuilding the trie first.
+ *
+ * <p>Besides the trie itself, a snapshot records the settings the trie was built with (the name
+ * display order, the dialing plan numbers were indexed with and the locale), which must match
+ * for the snapshot to be used at all, and the timestamps of the latest contact update and
+ * deletion it reflects. The caller uses the timestamps to query the contacts that changed since
+ * the snapshot was saved.</p>
+ *
+ * <p>Snapshots are written to a temporary file which is then renamed, so a reader never sees a
+ * partially written snapshot. They are read through a memory mapped buffer.</p>
+ */
+public class SmartDialSnapshot {
+    private static final String TAG = LOG_TAG;
+
+    private static final int MAGIC = 0x53444958; // "SDIX"
+
+    /** Increment whenever the layout of the file or of the trie tables changes. */
+    @VisibleForTesting
+    static final int VERSION = 4;
+
+    public final CompactSmartDialTrie trie;
+    /** Time at which the contacts were queried to build the trie. */
+    public final long buildTimestamp;
+    /** Latest contact update reflected in the trie, as CONTACT_LAST_UPDATED_TIMESTAMP. */
+    public final long lastUpdatedTimestamp;
+    /** Latest contact deletion reflected in the trie, as CONTACT_DELETED_TIMESTAMP. */
+    public final long lastDeletedTimestamp;
+
+    public SmartDialSnapshot(CompactSmartDialTrie trie, long buildTimestamp,
+            long lastUpdatedTimestamp, long lastDeletedTimestamp) {
+        this.trie = trie;
+        this.buildTimestamp = buildTimestamp;
+        this.lastUpdatedTimestamp = lastUpdatedTimestamp;
+        this.lastDeletedTimestamp = lastDeletedTimestamp;
+    }
+
+    /**
+     * Reads a snapshot.
+     *
+     * @param file File the snapshot was written to.
+     * @param nameDisplayOrder Name display order the caller builds its tries with.
+     * @param numberRules Dialing plan the caller builds its tries with.
+     * @param locale Locale the caller builds its tries for.
+     * @return The snapshot, or null if there is none, it cannot be read, or it was built with
+     *         different settings.
+     */
+    public static SmartDialSnapshot read(File file, int nameDisplayOrder,
+            SmartDialNumberRules numberRules, String locale) {
+        if (!file.exists()) {
+            return null;
+        }
+        FileInputStream in = null;
+        try {
+            in = new FileInputStream(file);
+            final FileChannel channel = in.getChannel();
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0,
+                    channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION
+                    || buffer.getInt() != nameDisplayOrder
+                    || buffer.getInt() != numberRules.getCountryCode()) {
+                return null;
+            }
+            final byte[] localeBytes = new byte[buffer.getInt()];
+            buffer.get(localeBytes);
+            if (!locale.equals(new String(localeBytes, "UTF-8"))) {
+                return null;
+            }
+            final long buildTimestamp = buffer.getLong();
+            final long lastUpdatedTimestamp = buffer.getLong();
+            final long lastDeletedTimestamp = buffer.getLong();
+            final CompactSmartDialTrie trie = CompactSmartDialTrie.readFrom(buffer);
+            // The trailer guards against files that were cut short, e.g. when the disk was full
+            if (buffer.getInt() != MAGIC || buffer.hasRemaining()) {
+                Log.w(TAG, "Ignoring truncated smart dial snapshot");
+                file.delete();
+                return null;
+            }
+            return new SmartDialSnapshot(trie, buildTimestamp, lastUpdatedTimestamp,
+                    lastDeletedTimestamp);
+        } catch (IOException e) {
+            Log.w(TAG, "Unable to read smart dial snapshot", e);
+            return null;
+        } catch (RuntimeException e) {
+            // Corrupted file, e.g. BufferUnderflowException or NegativeArraySizeException
+            Log.w(TAG, "Unable to parse smart dial snapshot", e);
+            file.delete();
+            return null;
+        } finally {
+            closeQuietly(in);
+        }
+    }
+
+    /**
+     * Writes a snapshot, replacing the existing one, if any.
+     *
+     * @return True if the snapshot was written successfully.
+     */
+    public static boolean write(File file, SmartDialSnapshot snapshot, int nameDisplayOrder,
+            SmartDialNumberRules numberRules, String locale) {
+        final File temp = new File(file.getPath() + ".tmp");
+        DataOutputStream out = null;
+        try {
+            out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)));
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(nameDisplayOrder);
+            out.writeInt(numberRules.getCountryCode());
+            final byte[] localeBytes = locale.getBytes("UTF-8");
+            out.writeInt(localeBytes.length);
+            out.write(localeBytes);
+            out.writeLong(snapshot.buildTimestamp);
+            out.writeLong(snapshot.lastUpdatedTimestamp);
+            out.writeLong(snapshot.lastDeletedTimestamp);
+            snapshot.trie.writeTo(out);
+            out.writeInt(MAGIC);
+            out.close();
+            out = null;
+
+            if (!temp.renameTo(file)) {
+                Log.w(TAG, "Unable to replace smart dial snapshot");
+                temp.delete();
+                return false;
+            }
+            return true;
+        } catch (IOException e) {
+            Log.w(TAG, "Unable to write smart dial snapshot", e);
+            temp.delete();
+            return false;
+        } finally {
+            closeQuietly(out);
+        }
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        if (closeable != null) {
+            try {
+                closeable.close();
+            } catch (IOException e) {
+                // Ignore
+            }
+        }
+    }
+}
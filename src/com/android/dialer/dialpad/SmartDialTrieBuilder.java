@@ -0,0 +1,225 @@
+/*
+ * Copyright (C) 2013 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.dialer.dialpad;
+
+import com.android.dialer.dialpad.SmartDialCache.ContactNumber;
+import com.android.dialer.util.HanziToPinyin;
+
+import com.google.common.base.Throwables;
+import com.google.common.collect.Lists;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Builds a {@link SmartDialTrie} holding every name variant of a list of contact numbers, using
+ * several threads.
+ *
+ * <p>The caller adds the numbers in the order they are ranked in, typically while reading them
+ * from a cursor. {@link #build(int, int)} then splits them into one run of consecutive numbers per
+ * thread. Each thread expands the names of its run into their pinyin variants and inserts the
+ * numbers into a trie of its own. The tries are finally merged in order, so the result is the same
+ * trie that inserting every number on a single thread would produce.</p>
+ */
+public class SmartDialTrieBuilder {
+    /** Affinity of numbers that are ranked after all numbers added before them. */
+    public static final int NEXT_AFFINITY = -1;
+
+    /**
+     * Minimum number of contact numbers worth handing to a thread of its own. Below that, starting
+     * the thread and merging its trie costs more than it saves.
+     */
+    private static final int MIN_NUMBERS_PER_THREAD = 250;
+
+    private final SmartDialCharMap mCharMap;
+    private final SmartDialNumberRules mNumberRules;
+    private final int mMaxNameVariants;
+    private final ArrayList<Row> mRows = Lists.newArrayList();
+
+    /** A contact number as read from the contacts provider. */
+    private static class Row {
+        final long id;
+        final String displayName;
+        final String phoneNumber;
+        final String lookupKey;
+        final int affinity;
+
+        Row(long id, String displayName, String phoneNumber, String lookupKey, int affinity) {
+            this.id = id;
+            this.displayName = displayName;
+            this.phoneNumber = phoneNumber;
+            this.lookupKey = lookupKey;
+            this.affinity = affinity;
+        }
+    }
+
+    /**
+     * @param charMap Mapping of characters to digits, see {@link SmartDialTrie}.
+     * @param numberRules Dialing plan of the user's region, see {@link SmartDialTrie}.
+     * @param maxNameVariants Maximum number of full pinyin variants, and of first letter variants,
+     *        indexed per name.
+     */
+    public SmartDialTrieBuilder(SmartDialCharMap charMap, SmartDialNumberRules numberRules,
+            int maxNameVariants) {
+        mCharMap = charMap;
+        mNumberRules = numberRules;
+        mMaxNameVariants = maxNameVariants;
+    }
+
+    /**
+     * Adds a contact number, ranked after all numbers added before it.
+     */
+    public void add(long id, String displayName, String phoneNumber, String lookupKey) {
+        add(id, displayName, phoneNumber, lookupKey, NEXT_AFFINITY);
+    }
+
+    /**
+     * Adds a contact number.
+     *
+     * @param affinity Affinity of the number. {@link #NEXT_AFFINITY} ranks the number after all
+     *        numbers added before it without an affinity.
+     */
+    public void add(long id, String displayName, String phoneNumber, String lookupKey,
+            int affinity) {
+        mRows.add(new Row(id, displayName, phoneNumber, lookupKey, affinity));
+    }
+
+    /**
+     * Returns the number of contact numbers added so far.
+     */
+    public int size() {
+        return mRows.size();
+    }
+
+    /**
+     * Builds the trie. The builder must not be used afterwards.
+     *
+     * @param firstAffinity Affinity of the first number added without an affinity.
+     * @param maxThreads Maximum number of threads to use. Small address books use fewer threads.
+     * @throws InterruptedException If the calling thread was interrupted while waiting for the
+     *         other threads.
+     */
+    public SmartDialTrie build(int firstAffinity, int maxThreads) throws InterruptedException {
+        final int threads = Math.max(1, Math.min(maxThreads,
+                mRows.size() / MIN_NUMBERS_PER_THREAD));
+        final ArrayList<Run> runs = Lists.newArrayListWithCapacity(threads);
+        int affinity = firstAffinity;
+        int start = 0;
+        for (int i = 0; i < threads; i++) {
+            final int end = mRows.size() * (i + 1) / threads;
+            runs.add(new Run(start, end, affinity));
+            for (int j = start; j < end; j++) {
+                if (mRows.get(j).affinity == NEXT_AFFINITY) {
+                    affinity++;
+                }
+            }
+            start = end;
+        }
+
+        if (threads == 1) {
+            runs.get(0).insert();
+            return runs.get(0).mTrie;
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final ArrayList<Callable<Void>> tasks = Lists.newArrayListWithCapacity(threads);
+            for (final Run run : runs) {
+                tasks.add(new Callable<Void>() {
+                    @Override
+                    public Void call() {
+                        run.insert();
+                        return null;
+                    }
+                });
+            }
+            waitFor(executor.invokeAll(tasks));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        final SmartDialTrie result = runs.get(0).mTrie;
+        for (int i = 1; i < threads; i++) {
+            result.putAll(runs.get(i).mTrie);
+        }
+        return result;
+    }
+
+    private static void waitFor(List<Future<Void>> futures) throws InterruptedException {
+        for (Future<Void> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                throw Throwables.propagate(e.getCause());
+            }
+        }
+    }
+
+    /** Consecutive contact numbers processed by the same thread. */
+    private class Run implements HanziToPinyin.VariantListener {
+        private final int mStart;
+        private final int mEnd;
+        private final int mFirstAffinity;
+        /** Display name and name variants of the number being inserted. */
+        private String mDisplayName;
+        private final ArrayList<String> mVariants = Lists.newArrayList();
+        private SmartDialTrie mTrie;
+
+        /**
+         * @param firstAffinity Affinity of the first number of the run added without an affinity.
+         */
+        Run(int start, int end, int firstAffinity) {
+            mStart = start;
+            mEnd = end;
+            mFirstAffinity = firstAffinity;
+        }
+
+        void insert() {
+            mTrie = new SmartDialTrie(mCharMap, mNumberRules);
+            final HanziToPinyin hanziToPinyin = HanziToPinyin.getInstance();
+            final HanziToPinyin.ConversionBuffer buffer = new HanziToPinyin.ConversionBuffer();
+            int nextAffinity = mFirstAffinity;
+            for (int i = mStart; i < mEnd; i++) {
+                final Row row = mRows.get(i);
+                mDisplayName = row.displayName;
+                mVariants.clear();
+                hanziToPinyin.expandAllFullWords(row.displayName, mMaxNameVariants, this, buffer);
+                hanziToPinyin.expandAllFirstPinyin(row.displayName, mMaxNameVariants, this,
+                        buffer);
+                final int affinity = (row.affinity == NEXT_AFFINITY) ? nextAffinity++
+                        : row.affinity;
+                mTrie.put(new ContactNumber(row.id, row.displayName,
+                        mVariants.toArray(new String[mVariants.size()]), row.phoneNumber,
+                        row.lookupKey, affinity));
+            }
+        }
+
+        @Override
+        public void onVariant(String variant) {
+            // The initials of names without Chinese characters are the names themselves
+            if (!mVariants.contains(variant)) {
+                // Share the display name rather than keeping a copy of it
+                mVariants.add(variant.equals(mDisplayName) ? mDisplayName : variant);
+            }
+        }
+    }
+}
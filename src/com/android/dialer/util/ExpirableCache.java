@@ -218,6 +218,15 @@ public class ExpirableCache<K, V> {
         mCache.put(key, newCachedValue(value));
     }
 
+    /**
+     * Removes the item associated with the given key, if any.
+     *
+     * @param key the key to remove
+     */
+    public void remove(K key) {
+        mCache.remove(key);
+    }
+
     /**
      * Mark all items currently in the cache as expired.
      * <p>
@@ -16,13 +16,17 @@
  
 package com.android.dialer.util;
 
+import android.content.Context;
 import android.text.TextUtils;
 import android.util.Log;
 
+import com.android.dialer.R;
+
+import java.io.IOException;
 import java.text.Collator;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
+import java.util.HashSet;
 import java.util.Locale;
 
 /**
@@ -33,6 +37,10 @@ import java.util.Locale;
  * runtime resources with tolerable sacrifice of accuracy. This implementation
  * highly depends on zh_CN ICU collation data and must be always synchronized
  * with ICU. Currently this file is aligned to zh.txt in ICU 4.6
+ *
+ * <p>Instances hold no mutable state, so a single instance can convert strings on any number of
+ * threads at once. Scratch space for the expansion of name variants is kept in a
+ * {@link ConversionBuffer} owned by the caller.</p>
  */
 
 public class HanziToPinyin{
@@ -86,27 +94,26 @@ public class HanziToPinyin{
 			"zui", "zun", "zuo" 
 	};
 	private static HanziToPinyin sInstance;
-	public static short[][] UncodePinYin;
+	private static Context sContext;
 	private final boolean mHasChinaCollator;
-	private String[] AllFullWordsString;
-	private int index;
+	/** Readings of the characters U+4E00 to U+9FA5, or null if the table is unavailable. */
+	private final PinyinTable mTable;
 
-	protected HanziToPinyin(boolean paramBoolean)
+	protected HanziToPinyin(boolean paramBoolean, PinyinTable table)
 	{
-	  this.mHasChinaCollator = paramBoolean;
-	  if (UncodePinYin == null)
-	  {
-	  	short[][] HZPinYin = new short[20902][];
-  		init1(HZPinYin);
-	    init2(HZPinYin);
-    	init3(HZPinYin);
-        init4(HZPinYin);
-        init5(HZPinYin);
-        init6(HZPinYin);
-        init7(HZPinYin);
-        UncodePinYin = HZPinYin;
-      }
-    }
+	  this.mHasChinaCollator = paramBoolean && table != null;
+	  this.mTable = table;
+	}
+
+	/**
+	 * Sets the context whose resources hold the pinyin table. Has to be called before the first
+	 * call to {@link #getInstance()}.
+	 */
+	public static void init(Context context) {
+		synchronized (HanziToPinyin.class) {
+			sContext = context.getApplicationContext();
+		}
+	}
 
 	public static HanziToPinyin getInstance() {
       synchronized (HanziToPinyin.class) {
@@ -121,62750 +128,33 @@ public class HanziToPinyin{
 					if (DEBUG) {
 						Log.d(TAG, "");
 					}
-					sInstance = new HanziToPinyin(true);
+					sInstance = new HanziToPinyin(true, openTable());
 					return sInstance;
 				}
 			}
 			Log.w(TAG, "There is no Chinese collator, HanziToPinyin is disabled");
-			sInstance = new HanziToPinyin(false);
+			sInstance = new HanziToPinyin(false, null);
 			return sInstance;
 		}
 	}
-	
-	
-
-	private void init1(short HZPY[][]){
-		HZPY[0] = (new short[] {
-			369
-		});
-		HZPY[1] = (new short[] {
-			68, 397
-		});
-		HZPY[2] = (new short[] {
-			149
-		});
-		HZPY[3] = (new short[] {
-			256
-		});
-		HZPY[4] = (new short[] {
-			297
-		});
-		HZPY[5] = (new short[] {
-			351
-		});
-		HZPY[6] = (new short[] {
-			229
-		});
-		HZPY[7] = (new short[] {
-			343, 207
-		});
-		HZPY[8] = (new short[] {
-			392
-		});
-		HZPY[9] = (new short[] {
-			288
-		});
-		HZPY[10] = (new short[] {
-			297
-		});
-		HZPY[11] = (new short[] {
-			351
-		});
-		HZPY[12] = (new short[] {
-			131
-		});
-		HZPY[13] = (new short[] {
-			20, 90
-		});
-		HZPY[14] = (new short[] {
-			376
-		});
-		HZPY[15] = (new short[] {
-			201
-		});
-		HZPY[16] = (new short[] {
-			93
-		});
-		HZPY[17] = (new short[] {
-			39
-		});
-		HZPY[18] = (new short[] {
-			39
-		});
-		HZPY[19] = (new short[] {
-			404
-		});
-		HZPY[20] = (new short[] {
-			261, 141
-		});
-		HZPY[21] = (new short[] {
-			247
-		});
-		HZPY[22] = (new short[] {
-			303
-		});
-		HZPY[23] = (new short[] {
-			303
-		});
-		HZPY[24] = (new short[] {
-			265
-		});
-		HZPY[25] = (new short[] {
-			18
-		});
-		HZPY[26] = (new short[] {
-			368
-		});
-		HZPY[27] = (new short[] {
-			48
-		});
-		HZPY[28] = (new short[] {
-			70
-		});
-		HZPY[29] = (new short[] {
-			313
-		});
-		HZPY[30] = (new short[] {
-			36
-		});
-		HZPY[31] = (new short[] {
-			69
-		});
-		HZPY[32] = (new short[] {
-			265
-		});
-		HZPY[33] = (new short[] {
-			174
-		});
-		HZPY[34] = (new short[] {
-			69
-		});
-		HZPY[35] = (new short[] {
-			375
-		});
-		HZPY[36] = (new short[] {
-			174
-		});
-		HZPY[37] = (new short[] {
-			365
-		});
-		HZPY[38] = (new short[] {
-			18
-		});
-		HZPY[39] = (new short[] {
-			289
-		});
-		HZPY[40] = (new short[] {
-			305
-		});
-		HZPY[41] = (new short[] {
-			140
-		});
-		HZPY[42] = (new short[] {
-			97
-		});
-		HZPY[43] = (new short[] {
-			364
-		});
-		HZPY[44] = (new short[] {
-			259, 241
-		});
-		HZPY[45] = (new short[] {
-			399
-		});
-		HZPY[46] = (new short[] {
-			131
-		});
-		HZPY[47] = (new short[] {
-			136
-		});
-		HZPY[48] = (new short[] {
-			88
-		});
-		HZPY[49] = (new short[] {
-			106
-		});
-		HZPY[50] = (new short[] {
-			42
-		});
-		HZPY[51] = (new short[] {
-			31
-		});
-		HZPY[52] = (new short[] {
-			177
-		});
-		HZPY[53] = (new short[] {
-			408
-		});
-		HZPY[54] = (new short[] {
-			401, 65
-		});
-		HZPY[55] = (new short[] {
-			229
-		});
-		HZPY[56] = (new short[] {
-			343
-		});
-		HZPY[57] = (new short[] {
-			57
-		});
-		HZPY[58] = (new short[] {
-			345
-		});
-		HZPY[59] = (new short[] {
-			401
-		});
-		HZPY[60] = (new short[] {
-			138, 57
-		});
-		HZPY[61] = (new short[] {
-			171
-		});
-		HZPY[62] = (new short[] {
-			141
-		});
-		HZPY[63] = (new short[] {
-			250
-		});
-		HZPY[64] = (new short[] {
-			91
-		});
-		HZPY[65] = (new short[] {
-			369
-		});
-		HZPY[66] = (new short[] {
-			369, 1
-		});
-		HZPY[67] = (new short[] {
-			212
-		});
-		HZPY[68] = (new short[] {
-			229
-		});
-		HZPY[69] = (new short[] {
-			140
-		});
-		HZPY[70] = (new short[] {
-			140
-		});
-		HZPY[71] = (new short[] {
-			340
-		});
-		HZPY[72] = (new short[] {
-			196, 191, 367
-		});
-		HZPY[73] = (new short[] {
-			369
-		});
-		HZPY[74] = (new short[] {
-			229
-		});
-		HZPY[75] = (new short[] {
-			398
-		});
-		HZPY[76] = (new short[] {
-			349
-		});
-		HZPY[77] = (new short[] {
-			389
-		});
-		HZPY[78] = (new short[] {
-			123
-		});
-		HZPY[79] = (new short[] {
-			83
-		});
-		HZPY[80] = (new short[] {
-			168, 378
-		});
-		HZPY[81] = (new short[] {
-			399
-		});
-		HZPY[82] = (new short[] {
-			252
-		});
-		HZPY[83] = (new short[] {
-			242
-		});
-		HZPY[84] = (new short[] {
-			260
-		});
-		HZPY[85] = (new short[] {
-			123
-		});
-		HZPY[86] = (new short[] {
-			105
-		});
-		HZPY[87] = (new short[] {
-			36, 302
-		});
-		HZPY[88] = (new short[] {
-			36, 302
-		});
-		HZPY[89] = (new short[] {
-			369
-		});
-		HZPY[90] = (new short[] {
-			371
-		});
-		HZPY[91] = (new short[] {
-			229
-		});
-		HZPY[92] = (new short[] {
-			203, 225
-		});
-		HZPY[93] = (new short[] {
-			140
-		});
-		HZPY[94] = (new short[] {
-			256
-		});
-		HZPY[95] = (new short[] {
-			368
-		});
-		HZPY[96] = (new short[] {
-			350
-		});
-		HZPY[97] = (new short[] {
-			353
-		});
-		HZPY[98] = (new short[] {
-			93
-		});
-		HZPY[99] = (new short[] {
-			69
-		});
-		HZPY[100] = (new short[] {
-			229
-		});
-		HZPY[101] = (new short[] {
-			229
-		});
-		HZPY[102] = (new short[] {
-			305
-		});
-		HZPY[103] = (new short[] {
-			229
-		});
-		HZPY[104] = (new short[] {
-			303
-		});
-		HZPY[105] = (new short[] {
-			131
-		});
-		HZPY[106] = (new short[] {
-			214
-		});
-		HZPY[107] = (new short[] {
-			132
-		});
-		HZPY[108] = (new short[] {
-			229
-		});
-		HZPY[109] = (new short[] {
-			303
-		});
-		HZPY[110] = (new short[] {
-			229
-		});
-		HZPY[111] = (new short[] {
-			229
-		});
-		HZPY[112] = (new short[] {
-			192
-		});
-		HZPY[113] = (new short[] {
-			186
-		});
-		HZPY[114] = (new short[] {
-			229
-		});
-		HZPY[115] = (new short[] {
-			281
-		});
-		HZPY[116] = (new short[] {
-			350
-		});
-		HZPY[117] = (new short[] {
-			365
-		});
-		HZPY[118] = (new short[] {
-			91
-		});
-		HZPY[119] = (new short[] {
-			294
-		});
-		HZPY[120] = (new short[] {
-			211
-		});
-		HZPY[121] = (new short[] {
-			94, 258
-		});
-		HZPY[122] = (new short[] {
-			229
-		});
-		HZPY[123] = (new short[] {
-			229
-		});
-		HZPY[124] = (new short[] {
-			229
-		});
-		HZPY[125] = (new short[] {
-			229
-		});
-		HZPY[126] = (new short[] {
-			258, 94
-		});
-		HZPY[127] = (new short[] {
-			398
-		});
-		HZPY[128] = (new short[] {
-			108, 144, 265
-		});
-		HZPY[129] = (new short[] {
-			94
-		});
-		HZPY[130] = (new short[] {
-			186
-		});
-		HZPY[131] = (new short[] {
-			177
-		});
-		HZPY[132] = (new short[] {
-			369
-		});
-		HZPY[133] = (new short[] {
-			143
-		});
-		HZPY[134] = (new short[] {
-			168, 175
-		});
-		HZPY[135] = (new short[] {
-			229
-		});
-		HZPY[136] = (new short[] {
-			376
-		});
-		HZPY[137] = (new short[] {
-			397
-		});
-		HZPY[138] = (new short[] {
-			303
-		});
-		HZPY[139] = (new short[] {
-			303
-		});
-		HZPY[140] = (new short[] {
-			82
-		});
-		HZPY[141] = (new short[] {
-			40
-		});
-		HZPY[142] = (new short[] {
-			376
-		});
-		HZPY[143] = (new short[] {
-			160
-		});
-		HZPY[144] = (new short[] {
-			376
-		});
-		HZPY[145] = (new short[] {
-			379
-		});
-		HZPY[146] = (new short[] {
-			123
-		});
-		HZPY[147] = (new short[] {
-			256
-		});
-		HZPY[148] = (new short[] {
-			349
-		});
-		HZPY[149] = (new short[] {
-			138
-		});
-		HZPY[150] = (new short[] {
-			313
-		});
-		HZPY[151] = (new short[] {
-			318
-		});
-		HZPY[152] = (new short[] {
-			99
-		});
-		HZPY[153] = (new short[] {
-			99, 100
-		});
-		HZPY[154] = (new short[] {
-			364
-		});
-		HZPY[155] = (new short[] {
-			355
-		});
-		HZPY[156] = (new short[] {
-			364
-		});
-		HZPY[157] = (new short[] {
-			256
-		});
-		HZPY[158] = (new short[] {
-			364
-		});
-		HZPY[159] = (new short[] {
-			131, 256
-		});
-		HZPY[160] = (new short[] {
-			335
-		});
-		HZPY[161] = (new short[] {
-			344, 349
-		});
-		HZPY[162] = (new short[] {
-			148
-		});
-		HZPY[163] = (new short[] {
-			321
-		});
-		HZPY[164] = (new short[] {
-			135
-		});
-		HZPY[165] = (new short[] {
-			112
-		});
-		HZPY[166] = (new short[] {
-			369
-		});
-		HZPY[167] = (new short[] {
-			31
-		});
-		HZPY[168] = (new short[] {
-			119
-		});
-		HZPY[169] = (new short[] {
-			209
-		});
-		HZPY[170] = (new short[] {
-			229
-		});
-		HZPY[171] = (new short[] {
-			353
-		});
-		HZPY[172] = (new short[] {
-			138
-		});
-		HZPY[173] = (new short[] {
-			333
-		});
-		HZPY[174] = (new short[] {
-			174
-		});
-		HZPY[175] = (new short[] {
-			119
-		});
-		HZPY[176] = (new short[] {
-			138
-		});
-		HZPY[177] = (new short[] {
-			368
-		});
-		HZPY[178] = (new short[] {
-			262, 263
-		});
-		HZPY[179] = (new short[] {
-			19
-		});
-		HZPY[180] = (new short[] {
-			375
-		});
-		HZPY[181] = (new short[] {
-			355
-		});
-		HZPY[182] = (new short[] {
-			57
-		});
-		HZPY[183] = (new short[] {
-			173
-		});
-		HZPY[184] = (new short[] {
-			76
-		});
-		HZPY[185] = (new short[] {
-			345
-		});
-		HZPY[186] = (new short[] {
-			276
-		});
-		HZPY[187] = (new short[] {
-			276
-		});
-		HZPY[188] = (new short[] {
-			131
-		});
-		HZPY[189] = (new short[] {
-			229
-		});
-		HZPY[190] = (new short[] {
-			344
-		});
-		HZPY[191] = (new short[] {
-			369
-		});
-		HZPY[192] = (new short[] {
-			301, 303, 299
-		});
-		HZPY[193] = (new short[] {
-			276
-		});
-		HZPY[194] = (new short[] {
-			168
-		});
-		HZPY[195] = (new short[] {
-			68
-		});
-		HZPY[196] = (new short[] {
-			385
-		});
-		HZPY[197] = (new short[] {
-			137
-		});
-		HZPY[198] = (new short[] {
-			255
-		});
-		HZPY[199] = (new short[] {
-			39, 265
-		});
-		HZPY[200] = (new short[] {
-			5
-		});
-		HZPY[201] = (new short[] {
-			392
-		});
-		HZPY[202] = (new short[] {
-			137
-		});
-		HZPY[203] = (new short[] {
-			136
-		});
-		HZPY[204] = (new short[] {
-			18
-		});
-		HZPY[205] = (new short[] {
-			277
-		});
-		HZPY[206] = (new short[] {
-			48
-		});
-		HZPY[207] = (new short[] {
-			89, 91
-		});
-		HZPY[208] = (new short[] {
-			288
-		});
-		HZPY[209] = (new short[] {
-			188
-		});
-		HZPY[210] = (new short[] {
-			229
-		});
-		HZPY[211] = (new short[] {
-			24
-		});
-		HZPY[212] = (new short[] {
-			409, 381
-		});
-		HZPY[213] = (new short[] {
-			303
-		});
-		HZPY[214] = (new short[] {
-			321
-		});
-		HZPY[215] = (new short[] {
-			392
-		});
-		HZPY[216] = (new short[] {
-			91
-		});
-		HZPY[217] = (new short[] {
-			352
-		});
-		HZPY[218] = (new short[] {
-			352
-		});
-		HZPY[219] = (new short[] {
-			29
-		});
-		HZPY[220] = (new short[] {
-			121
-		});
-		HZPY[221] = (new short[] {
-			334
-		});
-		HZPY[222] = (new short[] {
-			276
-		});
-		HZPY[223] = (new short[] {
-			258
-		});
-		HZPY[224] = (new short[] {
-			94
-		});
-		HZPY[225] = (new short[] {
-			97, 369
-		});
-		HZPY[226] = (new short[] {
-			63
-		});
-		HZPY[227] = (new short[] {
-			56
-		});
-		HZPY[228] = (new short[] {
-			178
-		});
-		HZPY[229] = (new short[] {
-			369
-		});
-		HZPY[230] = (new short[] {
-			33
-		});
-		HZPY[231] = (new short[] {
-			32
-		});
-		HZPY[232] = (new short[] {
-			286
-		});
-		HZPY[233] = (new short[] {
-			297
-		});
-		HZPY[234] = (new short[] {
-			369
-		});
-		HZPY[235] = (new short[] {
-			209
-		});
-		HZPY[236] = (new short[] {
-			198
-		});
-		HZPY[237] = (new short[] {
-			276
-		});
-		HZPY[238] = (new short[] {
-			132
-		});
-		HZPY[239] = (new short[] {
-			33
-		});
-		HZPY[240] = (new short[] {
-			366
-		});
-		HZPY[241] = (new short[] {
-			258
-		});
-		HZPY[242] = (new short[] {
-			399
-		});
-		HZPY[243] = (new short[] {
-			247
-		});
-		HZPY[244] = (new short[] {
-			343
-		});
-		HZPY[245] = (new short[] {
-			349
-		});
-		HZPY[246] = (new short[] {
-			133
-		});
-		HZPY[247] = (new short[] {
-			132, 136
-		});
-		HZPY[248] = (new short[] {
-			367
-		});
-		HZPY[249] = (new short[] {
-			88
-		});
-		HZPY[250] = (new short[] {
-			24
-		});
-		HZPY[251] = (new short[] {
-			276
-		});
-		HZPY[252] = (new short[] {
-			344
-		});
-		HZPY[253] = (new short[] {
-			87
-		});
-		HZPY[254] = (new short[] {
-			63
-		});
-		HZPY[255] = (new short[] {
-			85
-		});
-		HZPY[256] = (new short[] {
-			399
-		});
-		HZPY[257] = (new short[] {
-			256
-		});
-		HZPY[258] = (new short[] {
-			244
-		});
-		HZPY[259] = (new short[] {
-			376
-		});
-		HZPY[260] = (new short[] {
-			66
-		});
-		HZPY[261] = (new short[] {
-			75
-		});
-		HZPY[262] = (new short[] {
-			346
-		});
-		HZPY[263] = (new short[] {
-			369
-		});
-		HZPY[264] = (new short[] {
-			356
-		});
-		HZPY[265] = (new short[] {
-			148
-		});
-		HZPY[266] = (new short[] {
-			369
-		});
-		HZPY[267] = (new short[] {
-			131
-		});
-		HZPY[268] = (new short[] {
-			1
-		});
-		HZPY[269] = (new short[] {
-			349
-		});
-		HZPY[270] = (new short[] {
-			131
-		});
-		HZPY[271] = (new short[] {
-			91
-		});
-		HZPY[272] = (new short[] {
-			83
-		});
-		HZPY[273] = (new short[] {
-			359
-		});
-		HZPY[274] = (new short[] {
-			137
-		});
-		HZPY[275] = (new short[] {
-			10
-		});
-		HZPY[276] = (new short[] {
-			35
-		});
-		HZPY[277] = (new short[] {
-			91
-		});
-		HZPY[278] = (new short[] {
-			324
-		});
-		HZPY[279] = (new short[] {
-			399
-		});
-		HZPY[280] = (new short[] {
-			375
-		});
-		HZPY[281] = (new short[] {
-			130
-		});
-		HZPY[282] = (new short[] {
-			128, 157
-		});
-		HZPY[283] = (new short[] {
-			376
-		});
-		HZPY[284] = (new short[] {
-			52, 412
-		});
-		HZPY[285] = (new short[] {
-			379
-		});
-		HZPY[286] = (new short[] {
-			288
-		});
-		HZPY[287] = (new short[] {
-			345
-		});
-		HZPY[288] = (new short[] {
-			42, 404
-		});
-		HZPY[289] = (new short[] {
-			34
-		});
-		HZPY[290] = (new short[] {
-			364
-		});
-		HZPY[291] = (new short[] {
-			352
-		});
-		HZPY[292] = (new short[] {
-			297
-		});
-		HZPY[293] = (new short[] {
-			32, 324
-		});
-		HZPY[294] = (new short[] {
-			188
-		});
-		HZPY[295] = (new short[] {
-			24, 35
-		});
-		HZPY[296] = (new short[] {
-			363
-		});
-		HZPY[297] = (new short[] {
-			356
-		});
-		HZPY[298] = (new short[] {
-			345
-		});
-		HZPY[299] = (new short[] {
-			401
-		});
-		HZPY[300] = (new short[] {
-			37
-		});
-		HZPY[301] = (new short[] {
-			361
-		});
-		HZPY[302] = (new short[] {
-			215, 232
-		});
-		HZPY[303] = (new short[] {
-			19, 6, 5
-		});
-		HZPY[304] = (new short[] {
-			103
-		});
-		HZPY[305] = (new short[] {
-			221
-		});
-		HZPY[306] = (new short[] {
-			221
-		});
-		HZPY[307] = (new short[] {
-			355
-		});
-		HZPY[308] = (new short[] {
-			7
-		});
-		HZPY[309] = (new short[] {
-			360
-		});
-		HZPY[310] = (new short[] {
-			178
-		});
-		HZPY[311] = (new short[] {
-			400
-		});
-		HZPY[312] = (new short[] {
-			301
-		});
-		HZPY[313] = (new short[] {
-			266
-		});
-		HZPY[314] = (new short[] {
-			313, 47
-		});
-		HZPY[315] = (new short[] {
-			12
-		});
-		HZPY[316] = (new short[] {
-			313, 303
-		});
-		HZPY[317] = (new short[] {
-			132, 92, 261, 257
-		});
-		HZPY[318] = (new short[] {
-			247
-		});
-		HZPY[319] = (new short[] {
-			369
-		});
-		HZPY[320] = (new short[] {
-			313, 303
-		});
-		HZPY[321] = (new short[] {
-			1
-		});
-		HZPY[322] = (new short[] {
-			397
-		});
-		HZPY[323] = (new short[] {
-			65, 330
-		});
-		HZPY[324] = (new short[] {
-			113
-		});
-		HZPY[325] = (new short[] {
-			192
-		});
-		HZPY[326] = (new short[] {
-			57
-		});
-		HZPY[327] = (new short[] {
-			401
-		});
-		HZPY[328] = (new short[] {
-			20
-		});
-		HZPY[329] = (new short[] {
-			266
-		});
-		HZPY[330] = (new short[] {
-			13
-		});
-		HZPY[331] = (new short[] {
-			298
-		});
-		HZPY[332] = (new short[] {
-			47
-		});
-		HZPY[333] = (new short[] {
-			345
-		});
-		HZPY[334] = (new short[] {
-			63
-		});
-		HZPY[335] = (new short[] {
-			401
-		});
-		HZPY[336] = (new short[] {
-			416
-		});
-		HZPY[337] = (new short[] {
-			375
-		});
-		HZPY[338] = (new short[] {
-			366
-		});
-		HZPY[339] = (new short[] {
-			329, 11
-		});
-		HZPY[340] = (new short[] {
-			391
-		});
-		HZPY[341] = (new short[] {
-			116
-		});
-		HZPY[342] = (new short[] {
-			13
-		});
-		HZPY[343] = (new short[] {
-			340
-		});
-		HZPY[344] = (new short[] {
-			299
-		});
-		HZPY[345] = (new short[] {
-			376, 336
-		});
-		HZPY[346] = (new short[] {
-			369, 67
-		});
-		HZPY[347] = (new short[] {
-			89, 91
-		});
-		HZPY[348] = (new short[] {
-			416
-		});
-		HZPY[349] = (new short[] {
-			102
-		});
-		HZPY[350] = (new short[] {
-			227
-		});
-		HZPY[351] = (new short[] {
-			334
-		});
-		HZPY[352] = (new short[] {
-			221
-		});
-		HZPY[353] = (new short[] {
-			361, 288
-		});
-		HZPY[354] = (new short[] {
-			141
-		});
-		HZPY[355] = (new short[] {
-			374
-		});
-		HZPY[356] = (new short[] {
-			341
-		});
-		HZPY[357] = (new short[] {
-			258
-		});
-		HZPY[358] = (new short[] {
-			229
-		});
-		HZPY[359] = (new short[] {
-			145
-		});
-		HZPY[360] = (new short[] {
-			229
-		});
-		HZPY[361] = (new short[] {
-			244
-		});
-		HZPY[362] = (new short[] {
-			125
-		});
-		HZPY[363] = (new short[] {
-			116
-		});
-		HZPY[364] = (new short[] {
-			167
-		});
-		HZPY[365] = (new short[] {
-			353
-		});
-		HZPY[366] = (new short[] {
-			97
-		});
-		HZPY[367] = (new short[] {
-			366
-		});
-		HZPY[368] = (new short[] {
-			6
-		});
-		HZPY[369] = (new short[] {
-			83
-		});
-		HZPY[370] = (new short[] {
-			205
-		});
-		HZPY[371] = (new short[] {
-			132
-		});
-		HZPY[372] = (new short[] {
-			212, 82
-		});
-		HZPY[373] = (new short[] {
-			18
-		});
-		HZPY[374] = (new short[] {
-			131
-		});
-		HZPY[375] = (new short[] {
-			119
-		});
-		HZPY[376] = (new short[] {
-			130
-		});
-		HZPY[377] = (new short[] {
-			108
-		});
-		HZPY[378] = (new short[] {
-			267
-		});
-		HZPY[379] = (new short[] {
-			331
-		});
-		HZPY[380] = (new short[] {
-			135, 132
-		});
-		HZPY[381] = (new short[] {
-			47
-		});
-		HZPY[382] = (new short[] {
-			369
-		});
-		HZPY[383] = (new short[] {
-			303
-		});
-		HZPY[384] = (new short[] {
-			357
-		});
-		HZPY[385] = (new short[] {
-			301
-		});
-		HZPY[386] = (new short[] {
-			340
-		});
-		HZPY[387] = (new short[] {
-			147
-		});
-		HZPY[388] = (new short[] {
-			398
-		});
-		HZPY[389] = (new short[] {
-			93, 146
-		});
-		HZPY[390] = (new short[] {
-			164
-		});
-		HZPY[391] = (new short[] {
-			369
-		});
-		HZPY[392] = (new short[] {
-			37
-		});
-		HZPY[393] = (new short[] {
-			156
-		});
-		HZPY[394] = (new short[] {
-			107
-		});
-		HZPY[395] = (new short[] {
-			171
-		});
-		HZPY[396] = (new short[] {
-			371
-		});
-		HZPY[397] = (new short[] {
-			303
-		});
-		HZPY[398] = (new short[] {
-			200
-		});
-		HZPY[399] = (new short[] {
-			401
-		});
-		HZPY[400] = (new short[] {
-			360
-		});
-		HZPY[401] = (new short[] {
-			375
-		});
-		HZPY[402] = (new short[] {
-			2
-		});
-		HZPY[403] = (new short[] {
-			183
-		});
-		HZPY[404] = (new short[] {
-			208
-		});
-		HZPY[405] = (new short[] {
-			82
-		});
-		HZPY[406] = (new short[] {
-			188
-		});
-		HZPY[407] = (new short[] {
-			70, 334
-		});
-		HZPY[408] = (new short[] {
-			29
-		});
-		HZPY[409] = (new short[] {
-			37
-		});
-		HZPY[410] = (new short[] {
-			363
-		});
-		HZPY[411] = (new short[] {
-			101
-		});
-		HZPY[412] = (new short[] {
-			400
-		});
-		HZPY[413] = (new short[] {
-			369
-		});
-		HZPY[414] = (new short[] {
-			281
-		});
-		HZPY[415] = (new short[] {
-			133
-		});
-		HZPY[416] = (new short[] {
-			351
-		});
-		HZPY[417] = (new short[] {
-			132, 136
-		});
-		HZPY[418] = (new short[] {
-			381
-		});
-		HZPY[419] = (new short[] {
-			184
-		});
-		HZPY[420] = (new short[] {
-			229
-		});
-		HZPY[421] = (new short[] {
-			135, 367, 132
-		});
-		HZPY[422] = (new short[] {
-			396
-		});
-		HZPY[423] = (new short[] {
-			26, 385, 390
-		});
-		HZPY[424] = (new short[] {
-			260
-		});
-		HZPY[425] = (new short[] {
-			157
-		});
-		HZPY[426] = (new short[] {
-			30
-		});
-		HZPY[427] = (new short[] {
-			227
-		});
-		HZPY[428] = (new short[] {
-			230
-		});
-		HZPY[429] = (new short[] {
-			137
-		});
-		HZPY[430] = (new short[] {
-			349
-		});
-		HZPY[431] = (new short[] {
-			122
-		});
-		HZPY[432] = (new short[] {
-			139
-		});
-		HZPY[433] = (new short[] {
-			36
-		});
-		HZPY[434] = (new short[] {
-			396
-		});
-		HZPY[435] = (new short[] {
-			54
-		});
-		HZPY[436] = (new short[] {
-			39
-		});
-		HZPY[437] = (new short[] {
-			262
-		});
-		HZPY[438] = (new short[] {
-			184
-		});
-		HZPY[439] = (new short[] {
-			141
-		});
-		HZPY[440] = (new short[] {
-			305
-		});
-		HZPY[441] = (new short[] {
-			333
-		});
-		HZPY[442] = (new short[] {
-			301
-		});
-		HZPY[443] = (new short[] {
-			340
-		});
-		HZPY[444] = (new short[] {
-			19
-		});
-		HZPY[445] = (new short[] {
-			213
-		});
-		HZPY[446] = (new short[] {
-			115
-		});
-		HZPY[447] = (new short[] {
-			14, 248
-		});
-		HZPY[448] = (new short[] {
-			338
-		});
-		HZPY[449] = (new short[] {
-			376
-		});
-		HZPY[450] = (new short[] {
-			350
-		});
-		HZPY[451] = (new short[] {
-			50
-		});
-		HZPY[452] = (new short[] {
-			77
-		});
-		HZPY[453] = (new short[] {
-			265
-		});
-		HZPY[454] = (new short[] {
-			360
-		});
-		HZPY[455] = (new short[] {
-			159
-		});
-		HZPY[456] = (new short[] {
-			155
-		});
-		HZPY[457] = (new short[] {
-			349
-		});
-		HZPY[458] = (new short[] {
-			144, 415, 142
-		});
-		HZPY[459] = (new short[] {
-			369
-		});
-		HZPY[460] = (new short[] {
-			91
-		});
-		HZPY[461] = (new short[] {
-			166
-		});
-		HZPY[462] = (new short[] {
-			412
-		});
-		HZPY[463] = (new short[] {
-			260
-		});
-		HZPY[464] = (new short[] {
-			171
-		});
-		HZPY[465] = (new short[] {
-			374
-		});
-		HZPY[466] = (new short[] {
-			129
-		});
-		HZPY[467] = (new short[] {
-			138
-		});
-		HZPY[468] = (new short[] {
-			352
-		});
-		HZPY[469] = (new short[] {
-			288
-		});
-		HZPY[470] = (new short[] {
-			240
-		});
-		HZPY[471] = (new short[] {
-			316
-		});
-		HZPY[472] = (new short[] {
-			91
-		});
-		HZPY[473] = (new short[] {
-			350
-		});
-		HZPY[474] = (new short[] {
-			171
-		});
-		HZPY[475] = (new short[] {
-			201
-		});
-		HZPY[476] = (new short[] {
-			252
-		});
-		HZPY[477] = (new short[] {
-			9
-		});
-		HZPY[478] = (new short[] {
-			376, 305
-		});
-		HZPY[479] = (new short[] {
-			313, 256
-		});
-		HZPY[480] = (new short[] {
-			351
-		});
-		HZPY[481] = (new short[] {
-			356, 301
-		});
-		HZPY[482] = (new short[] {
-			359
-		});
-		HZPY[483] = (new short[] {
-			376
-		});
-		HZPY[484] = (new short[] {
-			329
-		});
-		HZPY[485] = (new short[] {
-			34
-		});
-		HZPY[486] = (new short[] {
-			39
-		});
-		HZPY[487] = (new short[] {
-			229
-		});
-		HZPY[488] = (new short[] {
-			365
-		});
-		HZPY[489] = (new short[] {
-			174, 172
-		});
-		HZPY[490] = (new short[] {
-			171
-		});
-		HZPY[491] = (new short[] {
-			164
-		});
-		HZPY[492] = (new short[] {
-			313
-		});
-		HZPY[493] = (new short[] {
-			133
-		});
-		HZPY[494] = (new short[] {
-			359
-		});
-		HZPY[495] = (new short[] {
-			91
-		});
-		HZPY[496] = (new short[] {
-			116
-		});
-		HZPY[497] = (new short[] {
-			141
-		});
-		HZPY[498] = (new short[] {
-			354
-		});
-		HZPY[499] = (new short[] {
-			240
-		});
-		HZPY[500] = (new short[] {
-			133
-		});
-		HZPY[501] = (new short[] {
-			15
-		});
-		HZPY[502] = (new short[] {
-			329, 40
-		});
-		HZPY[503] = (new short[] {
-			86
-		});
-		HZPY[504] = (new short[] {
-			88
-		});
-		HZPY[505] = (new short[] {
-			364
-		});
-		HZPY[506] = (new short[] {
-			2
-		});
-		HZPY[507] = (new short[] {
-			10
-		});
-		HZPY[508] = (new short[] {
-			376, 400
-		});
-		HZPY[509] = (new short[] {
-			356
-		});
-		HZPY[510] = (new short[] {
-			13, 10
-		});
-		HZPY[511] = (new short[] {
-			37
-		});
-		HZPY[512] = (new short[] {
-			32
-		});
-		HZPY[513] = (new short[] {
-			398
-		});
-		HZPY[514] = (new short[] {
-			18
-		});
-		HZPY[515] = (new short[] {
-			382
-		});
-		HZPY[516] = (new short[] {
-			367
-		});
-		HZPY[517] = (new short[] {
-			52
-		});
-		HZPY[518] = (new short[] {
-			172, 174
-		});
-		HZPY[519] = (new short[] {
-			343
-		});
-		HZPY[520] = (new short[] {
-			164
-		});
-		HZPY[521] = (new short[] {
-			24
-		});
-		HZPY[522] = (new short[] {
-			410
-		});
-		HZPY[523] = (new short[] {
-			97
-		});
-		HZPY[524] = (new short[] {
-			106
-		});
-		HZPY[525] = (new short[] {
-			10
-		});
-		HZPY[526] = (new short[] {
-			330
-		});
-		HZPY[527] = (new short[] {
-			305
-		});
-		HZPY[528] = (new short[] {
-			305
-		});
-		HZPY[529] = (new short[] {
-			198
-		});
-		HZPY[530] = (new short[] {
-			59
-		});
-		HZPY[531] = (new short[] {
-			323
-		});
-		HZPY[532] = (new short[] {
-			143
-		});
-		HZPY[533] = (new short[] {
-			44
-		});
-		HZPY[534] = (new short[] {
-			357
-		});
-		HZPY[535] = (new short[] {
-			246
-		});
-		HZPY[536] = (new short[] {
-			324, 32
-		});
-		HZPY[537] = (new short[] {
-			122
-		});
-		HZPY[538] = (new short[] {
-			369
-		});
-		HZPY[539] = (new short[] {
-			256
-		});
-		HZPY[540] = (new short[] {
-			329
-		});
-		HZPY[541] = (new short[] {
-			94
-		});
-		HZPY[542] = (new short[] {
-			138, 174
-		});
-		HZPY[543] = (new short[] {
-			136
-		});
-		HZPY[544] = (new short[] {
-			360
-		});
-		HZPY[545] = (new short[] {
-			32
-		});
-		HZPY[546] = (new short[] {
-			136
-		});
-		HZPY[547] = (new short[] {
-			85
-		});
-		HZPY[548] = (new short[] {
-			398
-		});
-		HZPY[549] = (new short[] {
-			153
-		});
-		HZPY[550] = (new short[] {
-			142
-		});
-		HZPY[551] = (new short[] {
-			410
-		});
-		HZPY[552] = (new short[] {
-			141
-		});
-		HZPY[553] = (new short[] {
-			258
-		});
-		HZPY[554] = (new short[] {
-			221
-		});
-		HZPY[555] = (new short[] {
-			188
-		});
-		HZPY[556] = (new short[] {
-			408
-		});
-		HZPY[557] = (new short[] {
-			348
-		});
-		HZPY[558] = (new short[] {
-			189
-		});
-		HZPY[559] = (new short[] {
-			314
-		});
-		HZPY[560] = (new short[] {
-			170
-		});
-		HZPY[561] = (new short[] {
-			129
-		});
-		HZPY[562] = (new short[] {
-			70
-		});
-		HZPY[563] = (new short[] {
-			409
-		});
-		HZPY[564] = (new short[] {
-			11
-		});
-		HZPY[565] = (new short[] {
-			349
-		});
-		HZPY[566] = (new short[] {
-			141
-		});
-		HZPY[567] = (new short[] {
-			212
-		});
-		HZPY[568] = (new short[] {
-			22
-		});
-		HZPY[569] = (new short[] {
-			133
-		});
-		HZPY[570] = (new short[] {
-			390
-		});
-		HZPY[571] = (new short[] {
-			368
-		});
-		HZPY[572] = (new short[] {
-			398
-		});
-		HZPY[573] = (new short[] {
-			294
-		});
-		HZPY[574] = (new short[] {
-			263
-		});
-		HZPY[575] = (new short[] {
-			229
-		});
-		HZPY[576] = (new short[] {
-			372
-		});
-		HZPY[577] = (new short[] {
-			36
-		});
-		HZPY[578] = (new short[] {
-			258
-		});
-		HZPY[579] = (new short[] {
-			365
-		});
-		HZPY[580] = (new short[] {
-			235
-		});
-		HZPY[581] = (new short[] {
-			399
-		});
-		HZPY[582] = (new short[] {
-			45
-		});
-		HZPY[583] = (new short[] {
-			132
-		});
-		HZPY[584] = (new short[] {
-			136, 131
-		});
-		HZPY[585] = (new short[] {
-			345
-		});
-		HZPY[586] = (new short[] {
-			376
-		});
-		HZPY[587] = (new short[] {
-			18
-		});
-		HZPY[588] = (new short[] {
-			285
-		});
-		HZPY[589] = (new short[] {
-			329
-		});
-		HZPY[590] = (new short[] {
-			345
-		});
-		HZPY[591] = (new short[] {
-			248
-		});
-		HZPY[592] = (new short[] {
-			365
-		});
-		HZPY[593] = (new short[] {
-			88
-		});
-		HZPY[594] = (new short[] {
-			324
-		});
-		HZPY[595] = (new short[] {
-			348
-		});
-		HZPY[596] = (new short[] {
-			77
-		});
-		HZPY[597] = (new short[] {
-			355, 136
-		});
-		HZPY[598] = (new short[] {
-			34
-		});
-		HZPY[599] = (new short[] {
-			302
-		});
-		HZPY[600] = (new short[] {
-			147
-		});
-		HZPY[601] = (new short[] {
-			63
-		});
-		HZPY[602] = (new short[] {
-			416
-		});
-		HZPY[603] = (new short[] {
-			29
-		});
-		HZPY[604] = (new short[] {
-			333
-		});
-		HZPY[605] = (new short[] {
-			10
-		});
-		HZPY[606] = (new short[] {
-			368
-		});
-		HZPY[607] = (new short[] {
-			127
-		});
-		HZPY[608] = (new short[] {
-			367
-		});
-		HZPY[609] = (new short[] {
-			391
-		});
-		HZPY[610] = (new short[] {
-			265
-		});
-		HZPY[611] = (new short[] {
-			365
-		});
-		HZPY[612] = (new short[] {
-			375
-		});
-		HZPY[613] = (new short[] {
-			133
-		});
-		HZPY[614] = (new short[] {
-			360
-		});
-		HZPY[615] = (new short[] {
-			389
-		});
-		HZPY[616] = (new short[] {
-			30
-		});
-		HZPY[617] = (new short[] {
-			91
-		});
-		HZPY[618] = (new short[] {
-			13
-		});
-		HZPY[619] = (new short[] {
-			398
-		});
-		HZPY[620] = (new short[] {
-			410
-		});
-		HZPY[621] = (new short[] {
-			201
-		});
-		HZPY[622] = (new short[] {
-			131
-		});
-		HZPY[623] = (new short[] {
-			369
-		});
-		HZPY[624] = (new short[] {
-			355
-		});
-		HZPY[625] = (new short[] {
-			363
-		});
-		HZPY[626] = (new short[] {
-			313, 22
-		});
-		HZPY[627] = (new short[] {
-			73
-		});
-		HZPY[628] = (new short[] {
-			26, 385
-		});
-		HZPY[629] = (new short[] {
-			396
-		});
-		HZPY[630] = (new short[] {
-			238
-		});
-		HZPY[631] = (new short[] {
-			335
-		});
-		HZPY[632] = (new short[] {
-			335
-		});
-		HZPY[633] = (new short[] {
-			10
-		});
-		HZPY[634] = (new short[] {
-			380, 382
-		});
-		HZPY[635] = (new short[] {
-			182, 184
-		});
-		HZPY[636] = (new short[] {
-			136
-		});
-		HZPY[637] = (new short[] {
-			345
-		});
-		HZPY[638] = (new short[] {
-			87
-		});
-		HZPY[639] = (new short[] {
-			32
-		});
-		HZPY[640] = (new short[] {
-			160, 108
-		});
-		HZPY[641] = (new short[] {
-			315
-		});
-		HZPY[642] = (new short[] {
-			37
-		});
-		HZPY[643] = (new short[] {
-			316
-		});
-		HZPY[644] = (new short[] {
-			351
-		});
-		HZPY[645] = (new short[] {
-			91
-		});
-		HZPY[646] = (new short[] {
-			377
-		});
-		HZPY[647] = (new short[] {
-			279
-		});
-		HZPY[648] = (new short[] {
-			171
-		});
-		HZPY[649] = (new short[] {
-			281
-		});
-		HZPY[650] = (new short[] {
-			379
-		});
-		HZPY[651] = (new short[] {
-			102
-		});
-		HZPY[652] = (new short[] {
-			191
-		});
-		HZPY[653] = (new short[] {
-			8
-		});
-		HZPY[654] = (new short[] {
-			65
-		});
-		HZPY[655] = (new short[] {
-			324
-		});
-		HZPY[656] = (new short[] {
-			115
-		});
-		HZPY[657] = (new short[] {
-			136
-		});
-		HZPY[658] = (new short[] {
-			350
-		});
-		HZPY[659] = (new short[] {
-			296
-		});
-		HZPY[660] = (new short[] {
-			258
-		});
-		HZPY[661] = (new short[] {
-			143
-		});
-		HZPY[662] = (new short[] {
-			24
-		});
-		HZPY[663] = (new short[] {
-			40
-		});
-		HZPY[664] = (new short[] {
-			288
-		});
-		HZPY[665] = (new short[] {
-			10
-		});
-		HZPY[666] = (new short[] {
-			354
-		});
-		HZPY[667] = (new short[] {
-			374
-		});
-		HZPY[668] = (new short[] {
-			367
-		});
-		HZPY[669] = (new short[] {
-			321
-		});
-		HZPY[670] = (new short[] {
-			320
-		});
-		HZPY[671] = (new short[] {
-			344
-		});
-		HZPY[672] = (new short[] {
-			83
-		});
-		HZPY[673] = (new short[] {
-			18
-		});
-		HZPY[674] = (new short[] {
-			132
-		});
-		HZPY[675] = (new short[] {
-			56
-		});
-		HZPY[676] = (new short[] {
-			381
-		});
-		HZPY[677] = (new short[] {
-			324
-		});
-		HZPY[678] = (new short[] {
-			229
-		});
-		HZPY[679] = (new short[] {
-			17
-		});
-		HZPY[680] = (new short[] {
-			40
-		});
-		HZPY[681] = (new short[] {
-			236
-		});
-		HZPY[682] = (new short[] {
-			382
-		});
-		HZPY[683] = (new short[] {
-			169
-		});
-		HZPY[684] = (new short[] {
-			52
-		});
-		HZPY[685] = (new short[] {
-			374
-		});
-		HZPY[686] = (new short[] {
-			384
-		});
-		HZPY[687] = (new short[] {
-			410
-		});
-		HZPY[688] = (new short[] {
-			246
-		});
-		HZPY[689] = (new short[] {
-			314
-		});
-		HZPY[690] = (new short[] {
-			4
-		});
-		HZPY[691] = (new short[] {
-			42, 404
-		});
-		HZPY[692] = (new short[] {
-			376
-		});
-		HZPY[693] = (new short[] {
-			390
-		});
-		HZPY[694] = (new short[] {
-			412
-		});
-		HZPY[695] = (new short[] {
-			297
-		});
-		HZPY[696] = (new short[] {
-			259
-		});
-		HZPY[697] = (new short[] {
-			259
-		});
-		HZPY[698] = (new short[] {
-			37
-		});
-		HZPY[699] = (new short[] {
-			294
-		});
-		HZPY[700] = (new short[] {
-			113
-		});
-		HZPY[701] = (new short[] {
-			392
-		});
-		HZPY[702] = (new short[] {
-			263
-		});
-		HZPY[703] = (new short[] {
-			365
-		});
-		HZPY[704] = (new short[] {
-			63
-		});
-		HZPY[705] = (new short[] {
-			350
-		});
-		HZPY[706] = (new short[] {
-			182, 184
-		});
-		HZPY[707] = (new short[] {
-			10
-		});
-		HZPY[708] = (new short[] {
-			249
-		});
-		HZPY[709] = (new short[] {
-			137
-		});
-		HZPY[710] = (new short[] {
-			173
-		});
-		HZPY[711] = (new short[] {
-			183
-		});
-		HZPY[712] = (new short[] {
-			193
-		});
-		HZPY[713] = (new short[] {
-			258
-		});
-		HZPY[714] = (new short[] {
-			352
-		});
-		HZPY[715] = (new short[] {
-			265
-		});
-		HZPY[716] = (new short[] {
-			372
-		});
-		HZPY[717] = (new short[] {
-			70
-		});
-		HZPY[718] = (new short[] {
-			404
-		});
-		HZPY[719] = (new short[] {
-			353
-		});
-		HZPY[720] = (new short[] {
-			296
-		});
-		HZPY[721] = (new short[] {
-			260
-		});
-		HZPY[722] = (new short[] {
-			139
-		});
-		HZPY[723] = (new short[] {
-			338
-		});
-		HZPY[724] = (new short[] {
-			415
-		});
-		HZPY[725] = (new short[] {
-			255
-		});
-		HZPY[726] = (new short[] {
-			350
-		});
-		HZPY[727] = (new short[] {
-			167
-		});
-		HZPY[728] = (new short[] {
-			32
-		});
-		HZPY[729] = (new short[] {
-			107
-		});
-		HZPY[730] = (new short[] {
-			175
-		});
-		HZPY[731] = (new short[] {
-			256
-		});
-		HZPY[732] = (new short[] {
-			62
-		});
-		HZPY[733] = (new short[] {
-			31
-		});
-		HZPY[734] = (new short[] {
-			345
-		});
-		HZPY[735] = (new short[] {
-			392
-		});
-		HZPY[736] = (new short[] {
-			84
-		});
-		HZPY[737] = (new short[] {
-			128
-		});
-		HZPY[738] = (new short[] {
-			42
-		});
-		HZPY[739] = (new short[] {
-			332
-		});
-		HZPY[740] = (new short[] {
-			57
-		});
-		HZPY[741] = (new short[] {
-			135, 367
-		});
-		HZPY[742] = (new short[] {
-			140
-		});
-		HZPY[743] = (new short[] {
-			293
-		});
-		HZPY[744] = (new short[] {
-			87
-		});
-		HZPY[745] = (new short[] {
-			352
-		});
-		HZPY[746] = (new short[] {
-			143
-		});
-		HZPY[747] = (new short[] {
-			77
-		});
-		HZPY[748] = (new short[] {
-			135
-		});
-		HZPY[749] = (new short[] {
-			133
-		});
-		HZPY[750] = (new short[] {
-			334, 405
-		});
-		HZPY[751] = (new short[] {
-			177
-		});
-		HZPY[752] = (new short[] {
-			19
-		});
-		HZPY[753] = (new short[] {
-			103
-		});
-		HZPY[754] = (new short[] {
-			352
-		});
-		HZPY[755] = (new short[] {
-			316
-		});
-		HZPY[756] = (new short[] {
-			352
-		});
-		HZPY[757] = (new short[] {
-			134
-		});
-		HZPY[758] = (new short[] {
-			204
-		});
-		HZPY[759] = (new short[] {
-			368
-		});
-		HZPY[760] = (new short[] {
-			137
-		});
-		HZPY[761] = (new short[] {
-			132
-		});
-		HZPY[762] = (new short[] {
-			260
-		});
-		HZPY[763] = (new short[] {
-			247
-		});
-		HZPY[764] = (new short[] {
-			88
-		});
-		HZPY[765] = (new short[] {
-			400
-		});
-		HZPY[766] = (new short[] {
-			1
-		});
-		HZPY[767] = (new short[] {
-			287
-		});
-		HZPY[768] = (new short[] {
-			369
-		});
-		HZPY[769] = (new short[] {
-			144, 142
-		});
-		HZPY[770] = (new short[] {
-			230
-		});
-		HZPY[771] = (new short[] {
-			296
-		});
-		HZPY[772] = (new short[] {
-			369
-		});
-		HZPY[773] = (new short[] {
-			58
-		});
-		HZPY[774] = (new short[] {
-			138
-		});
-		HZPY[775] = (new short[] {
-			361
-		});
-		HZPY[776] = (new short[] {
-			157
-		});
-		HZPY[777] = (new short[] {
-			133
-		});
-		HZPY[778] = (new short[] {
-			40
-		});
-		HZPY[779] = (new short[] {
-			57
-		});
-		HZPY[780] = (new short[] {
-			135
-		});
-		HZPY[781] = (new short[] {
-			294
-		});
-		HZPY[782] = (new short[] {
-			381
-		});
-		HZPY[783] = (new short[] {
-			229
-		});
-		HZPY[784] = (new short[] {
-			17
-		});
-		HZPY[785] = (new short[] {
-			2
-		});
-		HZPY[786] = (new short[] {
-			281
-		});
-		HZPY[787] = (new short[] {
-			322
-		});
-		HZPY[788] = (new short[] {
-			39
-		});
-		HZPY[789] = (new short[] {
-			30
-		});
-		HZPY[790] = (new short[] {
-			165
-		});
-		HZPY[791] = (new short[] {
-			221
-		});
-		HZPY[792] = (new short[] {
-			137
-		});
-		HZPY[793] = (new short[] {
-			258
-		});
-		HZPY[794] = (new short[] {
-			199
-		});
-		HZPY[795] = (new short[] {
-			349
-		});
-		HZPY[796] = (new short[] {
-			219
-		});
-		HZPY[797] = (new short[] {
-			264
-		});
-		HZPY[798] = (new short[] {
-			221
-		});
-		HZPY[799] = (new short[] {
-			32
-		});
-		HZPY[800] = (new short[] {
-			176
-		});
-		HZPY[801] = (new short[] {
-			169
-		});
-		HZPY[802] = (new short[] {
-			184
-		});
-		HZPY[803] = (new short[] {
-			159
-		});
-		HZPY[804] = (new short[] {
-			9
-		});
-		HZPY[805] = (new short[] {
-			72
-		});
-		HZPY[806] = (new short[] {
-			15
-		});
-		HZPY[807] = (new short[] {
-			382
-		});
-		HZPY[808] = (new short[] {
-			398
-		});
-		HZPY[809] = (new short[] {
-			313
-		});
-		HZPY[810] = (new short[] {
-			375
-		});
-		HZPY[811] = (new short[] {
-			115
-		});
-		HZPY[812] = (new short[] {
-			262
-		});
-		HZPY[813] = (new short[] {
-			35
-		});
-		HZPY[814] = (new short[] {
-			171
-		});
-		HZPY[815] = (new short[] {
-			328
-		});
-		HZPY[816] = (new short[] {
-			345
-		});
-		HZPY[817] = (new short[] {
-			181
-		});
-		HZPY[818] = (new short[] {
-			40
-		});
-		HZPY[819] = (new short[] {
-			31
-		});
-		HZPY[820] = (new short[] {
-			273
-		});
-		HZPY[821] = (new short[] {
-			305
-		});
-		HZPY[822] = (new short[] {
-			128
-		});
-		HZPY[823] = (new short[] {
-			171
-		});
-		HZPY[824] = (new short[] {
-			189
-		});
-		HZPY[825] = (new short[] {
-			382, 413
-		});
-		HZPY[826] = (new short[] {
-			236
-		});
-		HZPY[827] = (new short[] {
-			324
-		});
-		HZPY[828] = (new short[] {
-			365
-		});
-		HZPY[829] = (new short[] {
-			169
-		});
-		HZPY[830] = (new short[] {
-			214
-		});
-		HZPY[831] = (new short[] {
-			82, 271
-		});
-		HZPY[832] = (new short[] {
-			349
-		});
-		HZPY[833] = (new short[] {
-			379
-		});
-		HZPY[834] = (new short[] {
-			382
-		});
-		HZPY[835] = (new short[] {
-			377
-		});
-		HZPY[836] = (new short[] {
-			358
-		});
-		HZPY[837] = (new short[] {
-			38
-		});
-		HZPY[838] = (new short[] {
-			393
-		});
-		HZPY[839] = (new short[] {
-			358
-		});
-		HZPY[840] = (new short[] {
-			352
-		});
-		HZPY[841] = (new short[] {
-			107
-		});
-		HZPY[842] = (new short[] {
-			74
-		});
-		HZPY[843] = (new short[] {
-			150
-		});
-		HZPY[844] = (new short[] {
-			74
-		});
-		HZPY[845] = (new short[] {
-			201, 346
-		});
-		HZPY[846] = (new short[] {
-			336
-		});
-		HZPY[847] = (new short[] {
-			32, 392
-		});
-		HZPY[848] = (new short[] {
-			82
-		});
-		HZPY[849] = (new short[] {
-			74
-		});
-		HZPY[850] = (new short[] {
-			82
-		});
-		HZPY[851] = (new short[] {
-			137
-		});
-		HZPY[852] = (new short[] {
-			336
-		});
-		HZPY[853] = (new short[] {
-			313
-		});
-		HZPY[854] = (new short[] {
-			365
-		});
-		HZPY[855] = (new short[] {
-			365
-		});
-		HZPY[856] = (new short[] {
-			303
-		});
-		HZPY[857] = (new short[] {
-			303, 150
-		});
-		HZPY[858] = (new short[] {
-			58
-		});
-		HZPY[859] = (new short[] {
-			258
-		});
-		HZPY[860] = (new short[] {
-			71
-		});
-		HZPY[861] = (new short[] {
-			87
-		});
-		HZPY[862] = (new short[] {
-			195
-		});
-		HZPY[863] = (new short[] {
-			356
-		});
-		HZPY[864] = (new short[] {
-			71
-		});
-		HZPY[865] = (new short[] {
-			6, 150
-		});
-		HZPY[866] = (new short[] {
-			138
-		});
-		HZPY[867] = (new short[] {
-			171
-		});
-		HZPY[868] = (new short[] {
-			159
-		});
-		HZPY[869] = (new short[] {
-			281
-		});
-		HZPY[870] = (new short[] {
-			344, 349
-		});
-		HZPY[871] = (new short[] {
-			217
-		});
-		HZPY[872] = (new short[] {
-			267
-		});
-		HZPY[873] = (new short[] {
-			174
-		});
-		HZPY[874] = (new short[] {
-			376, 305
-		});
-		HZPY[875] = (new short[] {
-			5
-		});
-		HZPY[876] = (new short[] {
-			101
-		});
-		HZPY[877] = (new short[] {
-			179, 183
-		});
-		HZPY[878] = (new short[] {
-			350
-		});
-		HZPY[879] = (new short[] {
-			229
-		});
-		HZPY[880] = (new short[] {
-			165
-		});
-		HZPY[881] = (new short[] {
-			101
-		});
-		HZPY[882] = (new short[] {
-			330
-		});
-		HZPY[883] = (new short[] {
-			106
-		});
-		HZPY[884] = (new short[] {
-			357
-		});
-		HZPY[885] = (new short[] {
-			18
-		});
-		HZPY[886] = (new short[] {
-			256, 131
-		});
-		HZPY[887] = (new short[] {
-			141
-		});
-		HZPY[888] = (new short[] {
-			65
-		});
-		HZPY[889] = (new short[] {
-			409, 47
-		});
-		HZPY[890] = (new short[] {
-			229
-		});
-		HZPY[891] = (new short[] {
-			366
-		});
-		HZPY[892] = (new short[] {
-			133
-		});
-		HZPY[893] = (new short[] {
-			304
-		});
-		HZPY[894] = (new short[] {
-			131
-		});
-		HZPY[895] = (new short[] {
-			369
-		});
-		HZPY[896] = (new short[] {
-			131
-		});
-		HZPY[897] = (new short[] {
-			31
-		});
-		HZPY[898] = (new short[] {
-			139
-		});
-		HZPY[899] = (new short[] {
-			195
-		});
-		HZPY[900] = (new short[] {
-			272
-		});
-		HZPY[901] = (new short[] {
-			217
-		});
-		HZPY[902] = (new short[] {
-			377
-		});
-		HZPY[903] = (new short[] {
-			195, 208
-		});
-		HZPY[904] = (new short[] {
-			95
-		});
-		HZPY[905] = (new short[] {
-			272
-		});
-		HZPY[906] = (new short[] {
-			26
-		});
-		HZPY[907] = (new short[] {
-			139
-		});
-		HZPY[908] = (new short[] {
-			26
-		});
-		HZPY[909] = (new short[] {
-			381
-		});
-		HZPY[910] = (new short[] {
-			104
-		});
-		HZPY[911] = (new short[] {
-			139
-		});
-		HZPY[912] = (new short[] {
-			195, 207
-		});
-		HZPY[913] = (new short[] {
-			400
-		});
-		HZPY[914] = (new short[] {
-			195, 207
-		});
-		HZPY[915] = (new short[] {
-			102
-		});
-		HZPY[916] = (new short[] {
-			360
-		});
-		HZPY[917] = (new short[] {
-			201
-		});
-		HZPY[918] = (new short[] {
-			200
-		});
-		HZPY[919] = (new short[] {
-			279
-		});
-		HZPY[920] = (new short[] {
-			371
-		});
-		HZPY[921] = (new short[] {
-			355
-		});
-		HZPY[922] = (new short[] {
-			147
-		});
-		HZPY[923] = (new short[] {
-			144
-		});
-		HZPY[924] = (new short[] {
-			230
-		});
-		HZPY[925] = (new short[] {
-			369
-		});
-		HZPY[926] = (new short[] {
-			200
-		});
-		HZPY[927] = (new short[] {
-			303
-		});
-		HZPY[928] = (new short[] {
-			106
-		});
-		HZPY[929] = (new short[] {
-			199
-		});
-		HZPY[930] = (new short[] {
-			399
-		});
-		HZPY[931] = (new short[] {
-			414
-		});
-		HZPY[932] = (new short[] {
-			377
-		});
-		HZPY[933] = (new short[] {
-			205
-		});
-		HZPY[934] = (new short[] {
-			154
-		});
-		HZPY[935] = (new short[] {
-			229
-		});
-		HZPY[936] = (new short[] {
-			91
-		});
-		HZPY[937] = (new short[] {
-			355
-		});
-		HZPY[938] = (new short[] {
-			200
-		});
-		HZPY[939] = (new short[] {
-			18
-		});
-		HZPY[940] = (new short[] {
-			70
-		});
-		HZPY[941] = (new short[] {
-			322
-		});
-		HZPY[942] = (new short[] {
-			95
-		});
-		HZPY[943] = (new short[] {
-			88, 252
-		});
-		HZPY[944] = (new short[] {
-			18
-		});
-		HZPY[945] = (new short[] {
-			123
-		});
-		HZPY[946] = (new short[] {
-			38
-		});
-		HZPY[947] = (new short[] {
-			143
-		});
-		HZPY[948] = (new short[] {
-			123
-		});
-		HZPY[949] = (new short[] {
-			159
-		});
-		HZPY[950] = (new short[] {
-			368
-		});
-		HZPY[951] = (new short[] {
-			170
-		});
-		HZPY[952] = (new short[] {
-			241
-		});
-		HZPY[953] = (new short[] {
-			91
-		});
-		HZPY[954] = (new short[] {
-			204
-		});
-		HZPY[955] = (new short[] {
-			70
-		});
-		HZPY[956] = (new short[] {
-			352
-		});
-		HZPY[957] = (new short[] {
-			176
-		});
-		HZPY[958] = (new short[] {
-			351
-		});
-		HZPY[959] = (new short[] {
-			133
-		});
-		HZPY[960] = (new short[] {
-			138
-		});
-		HZPY[961] = (new short[] {
-			305
-		});
-		HZPY[962] = (new short[] {
-			197
-		});
-		HZPY[963] = (new short[] {
-			297
-		});
-		HZPY[964] = (new short[] {
-			256
-		});
-		HZPY[965] = (new short[] {
-			103
-		});
-		HZPY[966] = (new short[] {
-			407
-		});
-		HZPY[967] = (new short[] {
-			314
-		});
-		HZPY[968] = (new short[] {
-			138
-		});
-		HZPY[969] = (new short[] {
-			174
-		});
-		HZPY[970] = (new short[] {
-			263, 138
-		});
-		HZPY[971] = (new short[] {
-			66
-		});
-		HZPY[972] = (new short[] {
-			178
-		});
-		HZPY[973] = (new short[] {
-			70
-		});
-		HZPY[974] = (new short[] {
-			94
-		});
-		HZPY[975] = (new short[] {
-			133
-		});
-		HZPY[976] = (new short[] {
-			371
-		});
-		HZPY[977] = (new short[] {
-			49
-		});
-		HZPY[978] = (new short[] {
-			1
-		});
-		HZPY[979] = (new short[] {
-			171
-		});
-		HZPY[980] = (new short[] {
-			24
-		});
-		HZPY[981] = (new short[] {
-			205
-		});
-		HZPY[982] = (new short[] {
-			407
-		});
-		HZPY[983] = (new short[] {
-			52
-		});
-		HZPY[984] = (new short[] {
-			313
-		});
-		HZPY[985] = (new short[] {
-			76
-		});
-		HZPY[986] = (new short[] {
-			137
-		});
-		HZPY[987] = (new short[] {
-			177
-		});
-		HZPY[988] = (new short[] {
-			177
-		});
-		HZPY[989] = (new short[] {
-			227
-		});
-		HZPY[990] = (new short[] {
-			350
-		});
-		HZPY[991] = (new short[] {
-			72
-		});
-		HZPY[992] = (new short[] {
-			131
-		});
-		HZPY[993] = (new short[] {
-			84
-		});
-		HZPY[994] = (new short[] {
-			84
-		});
-		HZPY[995] = (new short[] {
-			84
-		});
-		HZPY[996] = (new short[] {
-			88
-		});
-		HZPY[997] = (new short[] {
-			141
-		});
-		HZPY[998] = (new short[] {
-			40
-		});
-		HZPY[999] = (new short[] {
-			229
-		});
-		HZPY[1000] = (new short[] {
-			88
-		});
-		HZPY[1001] = (new short[] {
-			229
-		});
-		HZPY[1002] = (new short[] {
-			229
-		});
-		HZPY[1003] = (new short[] {
-			91
-		});
-		HZPY[1004] = (new short[] {
-			88
-		});
-		HZPY[1005] = (new short[] {
-			252
-		});
-		HZPY[1006] = (new short[] {
-			88
-		});
-		HZPY[1007] = (new short[] {
-			146
-		});
-		HZPY[1008] = (new short[] {
-			127
-		});
-		HZPY[1009] = (new short[] {
-			146
-		});
-		HZPY[1010] = (new short[] {
-			94
-		});
-		HZPY[1011] = (new short[] {
-			62
-		});
-		HZPY[1012] = (new short[] {
-			252
-		});
-		HZPY[1013] = (new short[] {
-			266, 147
-		});
-		HZPY[1014] = (new short[] {
-			358
-		});
-		HZPY[1015] = (new short[] {
-			157
-		});
-		HZPY[1016] = (new short[] {
-			336, 103
-		});
-		HZPY[1017] = (new short[] {
-			4, 341
-		});
-		HZPY[1018] = (new short[] {
-			40
-		});
-		HZPY[1019] = (new short[] {
-			131
-		});
-		HZPY[1020] = (new short[] {
-			58
-		});
-		HZPY[1021] = (new short[] {
-			113
-		});
-		HZPY[1022] = (new short[] {
-			113
-		});
-		HZPY[1023] = (new short[] {
-			384, 416
-		});
-		HZPY[1024] = (new short[] {
-			59
-		});
-		HZPY[1025] = (new short[] {
-			66
-		});
-		HZPY[1026] = (new short[] {
-			59
-		});
-		HZPY[1027] = (new short[] {
-			276
-		});
-		HZPY[1028] = (new short[] {
-			276
-		});
-		HZPY[1029] = (new short[] {
-			43
-		});
-		HZPY[1030] = (new short[] {
-			87
-		});
-		HZPY[1031] = (new short[] {
-			261
-		});
-		HZPY[1032] = (new short[] {
-			369
-		});
-		HZPY[1033] = (new short[] {
-			131
-		});
-		HZPY[1034] = (new short[] {
-			147
-		});
-		HZPY[1035] = (new short[] {
-			258
-		});
-		HZPY[1036] = (new short[] {
-			53
-		});
-		HZPY[1037] = (new short[] {
-			40
-		});
-		HZPY[1038] = (new short[] {
-			346
-		});
-		HZPY[1039] = (new short[] {
-			131
-		});
-		HZPY[1040] = (new short[] {
-			57
-		});
-		HZPY[1041] = (new short[] {
-			357
-		});
-		HZPY[1042] = (new short[] {
-			124, 125
-		});
-		HZPY[1043] = (new short[] {
-			343
-		});
-		HZPY[1044] = (new short[] {
-			143
-		});
-		HZPY[1045] = (new short[] {
-			171
-		});
-		HZPY[1046] = (new short[] {
-			378
-		});
-		HZPY[1047] = (new short[] {
-			176
-		});
-		HZPY[1048] = (new short[] {
-			179
-		});
-		HZPY[1049] = (new short[] {
-			385
-		});
-		HZPY[1050] = (new short[] {
-			95
-		});
-		HZPY[1051] = (new short[] {
-			43
-		});
-		HZPY[1052] = (new short[] {
-			91
-		});
-		HZPY[1053] = (new short[] {
-			40
-		});
-		HZPY[1054] = (new short[] {
-			266
-		});
-		HZPY[1055] = (new short[] {
-			141
-		});
-		HZPY[1056] = (new short[] {
-			296
-		});
-		HZPY[1057] = (new short[] {
-			204
-		});
-		HZPY[1058] = (new short[] {
-			178
-		});
-		HZPY[1059] = (new short[] {
-			399
-		});
-		HZPY[1060] = (new short[] {
-			241
-		});
-		HZPY[1061] = (new short[] {
-			16
-		});
-		HZPY[1062] = (new short[] {
-			136
-		});
-		HZPY[1063] = (new short[] {
-			136
-		});
-		HZPY[1064] = (new short[] {
-			9, 243
-		});
-		HZPY[1065] = (new short[] {
-			171
-		});
-		HZPY[1066] = (new short[] {
-			296
-		});
-		HZPY[1067] = (new short[] {
-			16
-		});
-		HZPY[1068] = (new short[] {
-			31
-		});
-		HZPY[1069] = (new short[] {
-			138
-		});
-		HZPY[1070] = (new short[] {
-			104
-		});
-		HZPY[1071] = (new short[] {
-			99
-		});
-		HZPY[1072] = (new short[] {
-			59
-		});
-		HZPY[1073] = (new short[] {
-			43
-		});
-		HZPY[1074] = (new short[] {
-			160
-		});
-		HZPY[1075] = (new short[] {
-			155
-		});
-		HZPY[1076] = (new short[] {
-			76
-		});
-		HZPY[1077] = (new short[] {
-			82
-		});
-		HZPY[1078] = (new short[] {
-			398
-		});
-		HZPY[1079] = (new short[] {
-			306
-		});
-		HZPY[1080] = (new short[] {
-			267, 361
-		});
-		HZPY[1081] = (new short[] {
-			29, 294
-		});
-		HZPY[1082] = (new short[] {
-			47
-		});
-		HZPY[1083] = (new short[] {
-			150
-		});
-		HZPY[1084] = (new short[] {
-			136
-		});
-		HZPY[1085] = (new short[] {
-			108
-		});
-		HZPY[1086] = (new short[] {
-			47
-		});
-		HZPY[1087] = (new short[] {
-			108
-		});
-		HZPY[1088] = (new short[] {
-			146
-		});
-		HZPY[1089] = (new short[] {
-			76
-		});
-		HZPY[1090] = (new short[] {
-			131
-		});
-		HZPY[1091] = (new short[] {
-			329
-		});
-		HZPY[1092] = (new short[] {
-			138
-		});
-		HZPY[1093] = (new short[] {
-			182
-		});
-		HZPY[1094] = (new short[] {
-			189
-		});
-		HZPY[1095] = (new short[] {
-			385
-		});
-		HZPY[1096] = (new short[] {
-			377
-		});
-		HZPY[1097] = (new short[] {
-			54
-		});
-		HZPY[1098] = (new short[] {
-			362, 354
-		});
-		HZPY[1099] = (new short[] {
-			150
-		});
-		HZPY[1100] = (new short[] {
-			163
-		});
-		HZPY[1101] = (new short[] {
-			258
-		});
-		HZPY[1102] = (new short[] {
-			29
-		});
-		HZPY[1103] = (new short[] {
-			42
-		});
-		HZPY[1104] = (new short[] {
-			104
-		});
-		HZPY[1105] = (new short[] {
-			133
-		});
-		HZPY[1106] = (new short[] {
-			54
-		});
-		HZPY[1107] = (new short[] {
-			171
-		});
-		HZPY[1108] = (new short[] {
-			329
-		});
-		HZPY[1109] = (new short[] {
-			86
-		});
-		HZPY[1110] = (new short[] {
-			254, 253
-		});
-		HZPY[1111] = (new short[] {
-			31
-		});
-		HZPY[1112] = (new short[] {
-			256
-		});
-		HZPY[1113] = (new short[] {
-			43
-		});
-		HZPY[1114] = (new short[] {
-			409
-		});
-		HZPY[1115] = (new short[] {
-			95
-		});
-		HZPY[1116] = (new short[] {
-			343
-		});
-		HZPY[1117] = (new short[] {
-			19
-		});
-		HZPY[1118] = (new short[] {
-			131
-		});
-		HZPY[1119] = (new short[] {
-			76
-		});
-		HZPY[1120] = (new short[] {
-			263
-		});
-		HZPY[1121] = (new short[] {
-			365, 296
-		});
-		HZPY[1122] = (new short[] {
-			408
-		});
-		HZPY[1123] = (new short[] {
-			133
-		});
-		HZPY[1124] = (new short[] {
-			131
-		});
-		HZPY[1125] = (new short[] {
-			19, 9
-		});
-		HZPY[1126] = (new short[] {
-			365
-		});
-		HZPY[1127] = (new short[] {
-			141
-		});
-		HZPY[1128] = (new short[] {
-			130
-		});
-		HZPY[1129] = (new short[] {
-			302
-		});
-		HZPY[1130] = (new short[] {
-			133
-		});
-		HZPY[1131] = (new short[] {
-			76
-		});
-		HZPY[1132] = (new short[] {
-			73
-		});
-		HZPY[1133] = (new short[] {
-			349
-		});
-		HZPY[1134] = (new short[] {
-			104
-		});
-		HZPY[1135] = (new short[] {
-			91
-		});
-		HZPY[1136] = (new short[] {
-			302
-		});
-		HZPY[1137] = (new short[] {
-			133
-		});
-		HZPY[1138] = (new short[] {
-			97
-		});
-		HZPY[1139] = (new short[] {
-			389
-		});
-		HZPY[1140] = (new short[] {
-			146
-		});
-		HZPY[1141] = (new short[] {
-			43
-		});
-		HZPY[1142] = (new short[] {
-			142
-		});
-		HZPY[1143] = (new short[] {
-			31
-		});
-		HZPY[1144] = (new short[] {
-			337, 404
-		});
-		HZPY[1145] = (new short[] {
-			183
-		});
-		HZPY[1146] = (new short[] {
-			171
-		});
-		HZPY[1147] = (new short[] {
-			90
-		});
-		HZPY[1148] = (new short[] {
-			296
-		});
-		HZPY[1149] = (new short[] {
-			249
-		});
-		HZPY[1150] = (new short[] {
-			154
-		});
-		HZPY[1151] = (new short[] {
-			135, 33, 132
-		});
-		HZPY[1152] = (new short[] {
-			104
-		});
-		HZPY[1153] = (new short[] {
-			260
-		});
-		HZPY[1154] = (new short[] {
-			143
-		});
-		HZPY[1155] = (new short[] {
-			124
-		});
-		HZPY[1156] = (new short[] {
-			389
-		});
-		HZPY[1157] = (new short[] {
-			408
-		});
-		HZPY[1158] = (new short[] {
-			173
-		});
-		HZPY[1159] = (new short[] {
-			141
-		});
-		HZPY[1160] = (new short[] {
-			247
-		});
-		HZPY[1161] = (new short[] {
-			179
-		});
-		HZPY[1162] = (new short[] {
-			108
-		});
-		HZPY[1163] = (new short[] {
-			135
-		});
-		HZPY[1164] = (new short[] {
-			108
-		});
-		HZPY[1165] = (new short[] {
-			133
-		});
-		HZPY[1166] = (new short[] {
-			133
-		});
-		HZPY[1167] = (new short[] {
-			324
-		});
-		HZPY[1168] = (new short[] {
-			130
-		});
-		HZPY[1169] = (new short[] {
-			131
-		});
-		HZPY[1170] = (new short[] {
-			133
-		});
-		HZPY[1171] = (new short[] {
-			369
-		});
-		HZPY[1172] = (new short[] {
-			133
-		});
-		HZPY[1173] = (new short[] {
-			398
-		});
-		HZPY[1174] = (new short[] {
-			31
-		});
-		HZPY[1175] = (new short[] {
-			51
-		});
-		HZPY[1176] = (new short[] {
-			207
-		});
-		HZPY[1177] = (new short[] {
-			171
-		});
-		HZPY[1178] = (new short[] {
-			401
-		});
-		HZPY[1179] = (new short[] {
-			171
-		});
-		HZPY[1180] = (new short[] {
-			364
-		});
-		HZPY[1181] = (new short[] {
-			267
-		});
-		HZPY[1182] = (new short[] {
-			7
-		});
-		HZPY[1183] = (new short[] {
-			101
-		});
-		HZPY[1184] = (new short[] {
-			132
-		});
-		HZPY[1185] = (new short[] {
-			349
-		});
-		HZPY[1186] = (new short[] {
-			192
-		});
-		HZPY[1187] = (new short[] {
-			176
-		});
-		HZPY[1188] = (new short[] {
-			138
-		});
-		HZPY[1189] = (new short[] {
-			152
-		});
-		HZPY[1190] = (new short[] {
-			355
-		});
-		HZPY[1191] = (new short[] {
-			398
-		});
-		HZPY[1192] = (new short[] {
-			70
-		});
-		HZPY[1193] = (new short[] {
-			401
-		});
-		HZPY[1194] = (new short[] {
-			232, 215
-		});
-		HZPY[1195] = (new short[] {
-			136
-		});
-		HZPY[1196] = (new short[] {
-			266
-		});
-		HZPY[1197] = (new short[] {
-			298
-		});
-		HZPY[1198] = (new short[] {
-			369
-		});
-		HZPY[1199] = (new short[] {
-			401
-		});
-		HZPY[1200] = (new short[] {
-			207
-		});
-		HZPY[1201] = (new short[] {
-			171
-		});
-		HZPY[1202] = (new short[] {
-			138, 137
-		});
-		HZPY[1203] = (new short[] {
-			167
-		});
-		HZPY[1204] = (new short[] {
-			167
-		});
-		HZPY[1205] = (new short[] {
-			142
-		});
-		HZPY[1206] = (new short[] {
-			154
-		});
-		HZPY[1207] = (new short[] {
-			366
-		});
-		HZPY[1208] = (new short[] {
-			341
-		});
-		HZPY[1209] = (new short[] {
-			354
-		});
-		HZPY[1210] = (new short[] {
-			208
-		});
-		HZPY[1211] = (new short[] {
-			159
-		});
-		HZPY[1212] = (new short[] {
-			136
-		});
-		HZPY[1213] = (new short[] {
-			176
-		});
-		HZPY[1214] = (new short[] {
-			116
-		});
-		HZPY[1215] = (new short[] {
-			303
-		});
-		HZPY[1216] = (new short[] {
-			150
-		});
-		HZPY[1217] = (new short[] {
-			138, 137
-		});
-		HZPY[1218] = (new short[] {
-			115
-		});
-		HZPY[1219] = (new short[] {
-			19
-		});
-		HZPY[1220] = (new short[] {
-			204
-		});
-		HZPY[1221] = (new short[] {
-			37
-		});
-		HZPY[1222] = (new short[] {
-			166
-		});
-		HZPY[1223] = (new short[] {
-			374
-		});
-		HZPY[1224] = (new short[] {
-			374
-		});
-		HZPY[1225] = (new short[] {
-			201
-		});
-		HZPY[1226] = (new short[] {
-			150
-		});
-		HZPY[1227] = (new short[] {
-			363
-		});
-		HZPY[1228] = (new short[] {
-			142
-		});
-		HZPY[1229] = (new short[] {
-			263
-		});
-		HZPY[1230] = (new short[] {
-			183
-		});
-		HZPY[1231] = (new short[] {
-			20
-		});
-		HZPY[1232] = (new short[] {
-			199
-		});
-		HZPY[1233] = (new short[] {
-			164
-		});
-		HZPY[1234] = (new short[] {
-			168, 169
-		});
-		HZPY[1235] = (new short[] {
-			146
-		});
-		HZPY[1236] = (new short[] {
-			201
-		});
-		HZPY[1237] = (new short[] {
-			70
-		});
-		HZPY[1238] = (new short[] {
-			360
-		});
-		HZPY[1239] = (new short[] {
-			360
-		});
-		HZPY[1240] = (new short[] {
-			147
-		});
-		HZPY[1241] = (new short[] {
-			349
-		});
-		HZPY[1242] = (new short[] {
-			369
-		});
-		HZPY[1243] = (new short[] {
-			363
-		});
-		HZPY[1244] = (new short[] {
-			347
-		});
-		HZPY[1245] = (new short[] {
-			302
-		});
-		HZPY[1246] = (new short[] {
-			167
-		});
-		HZPY[1247] = (new short[] {
-			209
-		});
-		HZPY[1248] = (new short[] {
-			183
-		});
-		HZPY[1249] = (new short[] {
-			249
-		});
-		HZPY[1250] = (new short[] {
-			303
-		});
-		HZPY[1251] = (new short[] {
-			131
-		});
-		HZPY[1252] = (new short[] {
-			262
-		});
-		HZPY[1253] = (new short[] {
-			259
-		});
-		HZPY[1254] = (new short[] {
-			135, 33
-		});
-		HZPY[1255] = (new short[] {
-			267
-		});
-		HZPY[1256] = (new short[] {
-			353
-		});
-		HZPY[1257] = (new short[] {
-			369
-		});
-		HZPY[1258] = (new short[] {
-			260
-		});
-		HZPY[1259] = (new short[] {
-			84
-		});
-		HZPY[1260] = (new short[] {
-			142
-		});
-		HZPY[1261] = (new short[] {
-			334
-		});
-		HZPY[1262] = (new short[] {
-			141
-		});
-		HZPY[1263] = (new short[] {
-			57
-		});
-		HZPY[1264] = (new short[] {
-			355
-		});
-		HZPY[1265] = (new short[] {
-			192
-		});
-		HZPY[1266] = (new short[] {
-			363
-		});
-		HZPY[1267] = (new short[] {
-			363
-		});
-		HZPY[1268] = (new short[] {
-			184
-		});
-		HZPY[1269] = (new short[] {
-			171
-		});
-		HZPY[1270] = (new short[] {
-			34
-		});
-		HZPY[1271] = (new short[] {
-			273
-		});
-		HZPY[1272] = (new short[] {
-			267
-		});
-		HZPY[1273] = (new short[] {
-			9
-		});
-		HZPY[1274] = (new short[] {
-			298, 312, 15
-		});
-		HZPY[1275] = (new short[] {
-			379
-		});
-		HZPY[1276] = (new short[] {
-			140
-		});
-		HZPY[1277] = (new short[] {
-			9
-		});
-		HZPY[1278] = (new short[] {
-			102
-		});
-		HZPY[1279] = (new short[] {
-			349
-		});
-		HZPY[1280] = (new short[] {
-			379
-		});
-		HZPY[1281] = (new short[] {
-			229
-		});
-		HZPY[1282] = (new short[] {
-			229
-		});
-		HZPY[1283] = (new short[] {
-			93
-		});
-		HZPY[1284] = (new short[] {
-			93
-		});
-		HZPY[1285] = (new short[] {
-			9
-		});
-		HZPY[1286] = (new short[] {
-			48
-		});
-		HZPY[1287] = (new short[] {
-			229
-		});
-		HZPY[1288] = (new short[] {
-			358
-		});
-		HZPY[1289] = (new short[] {
-			246
-		});
-		HZPY[1290] = (new short[] {
-			141
-		});
-		HZPY[1291] = (new short[] {
-			325
-		});
-		HZPY[1292] = (new short[] {
-			97
-		});
-		HZPY[1293] = (new short[] {
-			255
-		});
-		HZPY[1294] = (new short[] {
-			2
-		});
-		HZPY[1295] = (new short[] {
-			243
-		});
-		HZPY[1296] = (new short[] {
-			91
-		});
-		HZPY[1297] = (new short[] {
-			101
-		});
-		HZPY[1298] = (new short[] {
-			55
-		});
-		HZPY[1299] = (new short[] {
-			140
-		});
-		HZPY[1300] = (new short[] {
-			264
-		});
-		HZPY[1301] = (new short[] {
-			13
-		});
-		HZPY[1302] = (new short[] {
-			124
-		});
-		HZPY[1303] = (new short[] {
-			10
-		});
-		HZPY[1304] = (new short[] {
-			215
-		});
-		HZPY[1305] = (new short[] {
-			37, 303
-		});
-		HZPY[1306] = (new short[] {
-			85, 350
-		});
-		HZPY[1307] = (new short[] {
-			140
-		});
-		HZPY[1308] = (new short[] {
-			369
-		});
-		HZPY[1309] = (new short[] {
-			380
-		});
-		HZPY[1310] = (new short[] {
-			134
-		});
-		HZPY[1311] = (new short[] {
-			148
-		});
-		HZPY[1312] = (new short[] {
-			134
-		});
-		HZPY[1313] = (new short[] {
-			159
-		});
-		HZPY[1314] = (new short[] {
-			123
-		});
-		HZPY[1315] = (new short[] {
-			351
-		});
-		HZPY[1316] = (new short[] {
-			266
-		});
-		HZPY[1317] = (new short[] {
-			84
-		});
-		HZPY[1318] = (new short[] {
-			108
-		});
-		HZPY[1319] = (new short[] {
-			261
-		});
-		HZPY[1320] = (new short[] {
-			24, 383
-		});
-		HZPY[1321] = (new short[] {
-			159
-		});
-		HZPY[1322] = (new short[] {
-			86
-		});
-		HZPY[1323] = (new short[] {
-			123
-		});
-		HZPY[1324] = (new short[] {
-			376
-		});
-		HZPY[1325] = (new short[] {
-			108
-		});
-		HZPY[1326] = (new short[] {
-			160
-		});
-		HZPY[1327] = (new short[] {
-			128
-		});
-		HZPY[1328] = (new short[] {
-			57
-		});
-		HZPY[1329] = (new short[] {
-			160
-		});
-		HZPY[1330] = (new short[] {
-			173
-		});
-		HZPY[1331] = (new short[] {
-			173
-		});
-		HZPY[1332] = (new short[] {
-			317
-		});
-		HZPY[1333] = (new short[] {
-			72
-		});
-		HZPY[1334] = (new short[] {
-			140
-		});
-		HZPY[1335] = (new short[] {
-			266
-		});
-		HZPY[1336] = (new short[] {
-			350
-		});
-		HZPY[1337] = (new short[] {
-			247, 364
-		});
-		HZPY[1338] = (new short[] {
-			266, 238
-		});
-		HZPY[1339] = (new short[] {
-			369
-		});
-		HZPY[1340] = (new short[] {
-			2
-		});
-		HZPY[1341] = (new short[] {
-			365
-		});
-		HZPY[1342] = (new short[] {
-			14
-		});
-		HZPY[1343] = (new short[] {
-			221
-		});
-		HZPY[1344] = (new short[] {
-			266, 238
-		});
-		HZPY[1345] = (new short[] {
-			303
-		});
-		HZPY[1346] = (new short[] {
-			356
-		});
-		HZPY[1347] = (new short[] {
-			258
-		});
-		HZPY[1348] = (new short[] {
-			222
-		});
-		HZPY[1349] = (new short[] {
-			286
-		});
-		HZPY[1350] = (new short[] {
-			412
-		});
-		HZPY[1351] = (new short[] {
-			302
-		});
-		HZPY[1352] = (new short[] {
-			349
-		});
-		HZPY[1353] = (new short[] {
-			128
-		});
-		HZPY[1354] = (new short[] {
-			7
-		});
-		HZPY[1355] = (new short[] {
-			303
-		});
-		HZPY[1356] = (new short[] {
-			350
-		});
-		HZPY[1357] = (new short[] {
-			343
-		});
-		HZPY[1358] = (new short[] {
-			124
-		});
-		HZPY[1359] = (new short[] {
-			355
-		});
-		HZPY[1360] = (new short[] {
-			343
-		});
-		HZPY[1361] = (new short[] {
-			10
-		});
-		HZPY[1362] = (new short[] {
-			412, 50
-		});
-		HZPY[1363] = (new short[] {
-			408
-		});
-		HZPY[1364] = (new short[] {
-			355
-		});
-		HZPY[1365] = (new short[] {
-			57, 31, 296
-		});
-		HZPY[1366] = (new short[] {
-			192
-		});
-		HZPY[1367] = (new short[] {
-			213, 211
-		});
-		HZPY[1368] = (new short[] {
-			57, 31
-		});
-		HZPY[1369] = (new short[] {
-			131
-		});
-		HZPY[1370] = (new short[] {
-			19
-		});
-		HZPY[1371] = (new short[] {
-			307, 184
-		});
-		HZPY[1372] = (new short[] {
-			20, 19
-		});
-		HZPY[1373] = (new short[] {
-			159
-		});
-		HZPY[1374] = (new short[] {
-			14
-		});
-		HZPY[1375] = (new short[] {
-			20
-		});
-		HZPY[1376] = (new short[] {
-			391
-		});
-		HZPY[1377] = (new short[] {
-			145, 257
-		});
-		HZPY[1378] = (new short[] {
-			183
-		});
-		HZPY[1379] = (new short[] {
-			375
-		});
-		HZPY[1380] = (new short[] {
-			183
-		});
-		HZPY[1381] = (new short[] {
-			350
-		});
-		HZPY[1382] = (new short[] {
-			104
-		});
-		HZPY[1383] = (new short[] {
-			348
-		});
-		HZPY[1384] = (new short[] {
-			355
-		});
-		HZPY[1385] = (new short[] {
-			136
-		});
-		HZPY[1386] = (new short[] {
-			136
-		});
-		HZPY[1387] = (new short[] {
-			345
-		});
-		HZPY[1388] = (new short[] {
-			3, 366
-		});
-		HZPY[1389] = (new short[] {
-			264
-		});
-		HZPY[1390] = (new short[] {
-			398
-		});
-		HZPY[1391] = (new short[] {
-			195
-		});
-		HZPY[1392] = (new short[] {
-			371
-		});
-		HZPY[1393] = (new short[] {
-			345
-		});
-		HZPY[1394] = (new short[] {
-			298
-		});
-		HZPY[1395] = (new short[] {
-			131
-		});
-		HZPY[1396] = (new short[] {
-			268
-		});
-		HZPY[1397] = (new short[] {
-			186
-		});
-		HZPY[1398] = (new short[] {
-			303
-		});
-		HZPY[1399] = (new short[] {
-			142, 267
-		});
-		HZPY[1400] = (new short[] {
-			355
-		});
-		HZPY[1401] = (new short[] {
-			360
-		});
-		HZPY[1402] = (new short[] {
-			137
-		});
-		HZPY[1403] = (new short[] {
-			268
-		});
-		HZPY[1404] = (new short[] {
-			349
-		});
-		HZPY[1405] = (new short[] {
-			131
-		});
-		HZPY[1406] = (new short[] {
-			77
-		});
-		HZPY[1407] = (new short[] {
-			263
-		});
-		HZPY[1408] = (new short[] {
-			350
-		});
-		HZPY[1409] = (new short[] {
-			229
-		});
-		HZPY[1410] = (new short[] {
-			32, 113, 2
-		});
-		HZPY[1411] = (new short[] {
-			113
-		});
-		HZPY[1412] = (new short[] {
-			77
-		});
-		HZPY[1413] = (new short[] {
-			333
-		});
-		HZPY[1414] = (new short[] {
-			171
-		});
-		HZPY[1415] = (new short[] {
-			394
-		});
-		HZPY[1416] = (new short[] {
-			2, 32
-		});
-		HZPY[1417] = (new short[] {
-			171
-		});
-		HZPY[1418] = (new short[] {
-			364
-		});
-		HZPY[1419] = (new short[] {
-			364
-		});
-		HZPY[1420] = (new short[] {
-			365
-		});
-		HZPY[1421] = (new short[] {
-			299
-		});
-		HZPY[1422] = (new short[] {
-			398
-		});
-		HZPY[1423] = (new short[] {
-			389
-		});
-		HZPY[1424] = (new short[] {
-			242
-		});
-		HZPY[1425] = (new short[] {
-			229
-		});
-		HZPY[1426] = (new short[] {
-			150
-		});
-		HZPY[1427] = (new short[] {
-			364
-		});
-		HZPY[1428] = (new short[] {
-			398
-		});
-		HZPY[1429] = (new short[] {
-			26, 313
-		});
-		HZPY[1430] = (new short[] {
-			242
-		});
-		HZPY[1431] = (new short[] {
-			329
-		});
-		HZPY[1432] = (new short[] {
-			171
-		});
-		HZPY[1433] = (new short[] {
-			299
-		});
-		HZPY[1434] = (new short[] {
-			122
-		});
-		HZPY[1435] = (new short[] {
-			333
-		});
-		HZPY[1436] = (new short[] {
-			414
-		});
-		HZPY[1437] = (new short[] {
-			54
-		});
-		HZPY[1438] = (new short[] {
-			86
-		});
-		HZPY[1439] = (new short[] {
-			377
-		});
-		HZPY[1440] = (new short[] {
-			26, 313
-		});
-		HZPY[1441] = (new short[] {
-			377
-		});
-		HZPY[1442] = (new short[] {
-			353
-		});
-		HZPY[1443] = (new short[] {
-			365
-		});
-		HZPY[1444] = (new short[] {
-			171
-		});
-		HZPY[1445] = (new short[] {
-			143
-		});
-		HZPY[1446] = (new short[] {
-			294, 351
-		});
-		HZPY[1447] = (new short[] {
-			65
-		});
-		HZPY[1448] = (new short[] {
-			40
-		});
-		HZPY[1449] = (new short[] {
-			140
-		});
-		HZPY[1450] = (new short[] {
-			262, 137
-		});
-		HZPY[1451] = (new short[] {
-			4
-		});
-		HZPY[1452] = (new short[] {
-			108
-		});
-		HZPY[1453] = (new short[] {
-			365
-		});
-		HZPY[1454] = (new short[] {
-			313
-		});
-		HZPY[1455] = (new short[] {
-			171
-		});
-		HZPY[1456] = (new short[] {
-			32, 2
-		});
-		HZPY[1457] = (new short[] {
-			165
-		});
-		HZPY[1458] = (new short[] {
-			171
-		});
-		HZPY[1459] = (new short[] {
-			365
-		});
-		HZPY[1460] = (new short[] {
-			365
-		});
-		HZPY[1461] = (new short[] {
-			377
-		});
-		HZPY[1462] = (new short[] {
-			313
-		});
-		HZPY[1463] = (new short[] {
-			313
-		});
-		HZPY[1464] = (new short[] {
-			177
-		});
-		HZPY[1465] = (new short[] {
-			265
-		});
-		HZPY[1466] = (new short[] {
-			266
-		});
-		HZPY[1467] = (new short[] {
-			266
-		});
-		HZPY[1468] = (new short[] {
-			229
-		});
-		HZPY[1469] = (new short[] {
-			169
-		});
-		HZPY[1470] = (new short[] {
-			72
-		});
-		HZPY[1471] = (new short[] {
-			352
-		});
-		HZPY[1472] = (new short[] {
-			404
-		});
-		HZPY[1473] = (new short[] {
-			288
-		});
-		HZPY[1474] = (new short[] {
-			23, 27, 301
-		});
-		HZPY[1475] = (new short[] {
-			23, 27, 301, 288
-		});
-		HZPY[1476] = (new short[] {
-			288
-		});
-		HZPY[1477] = (new short[] {
-			23, 27, 301
-		});
-		HZPY[1478] = (new short[] {
-			1
-		});
-		HZPY[1479] = (new short[] {
-			56
-		});
-		HZPY[1480] = (new short[] {
-			375
-		});
-		HZPY[1481] = (new short[] {
-			29
-		});
-		HZPY[1482] = (new short[] {
-			131
-		});
-		HZPY[1483] = (new short[] {
-			375
-		});
-		HZPY[1484] = (new short[] {
-			309
-		});
-		HZPY[1485] = (new short[] {
-			84
-		});
-		HZPY[1486] = (new short[] {
-			304
-		});
-		HZPY[1487] = (new short[] {
-			105
-		});
-		HZPY[1488] = (new short[] {
-			5
-		});
-		HZPY[1489] = (new short[] {
-			83
-		});
-		HZPY[1490] = (new short[] {
-			285
-		});
-		HZPY[1491] = (new short[] {
-			303
-		});
-		HZPY[1492] = (new short[] {
-			305
-		});
-		HZPY[1493] = (new short[] {
-			406
-		});
-		HZPY[1494] = (new short[] {
-			266
-		});
-		HZPY[1495] = (new short[] {
-			304
-		});
-		HZPY[1496] = (new short[] {
-			14
-		});
-		HZPY[1497] = (new short[] {
-			360
-		});
-		HZPY[1498] = (new short[] {
-			132
-		});
-		HZPY[1499] = (new short[] {
-			241
-		});
-		HZPY[1500] = (new short[] {
-			315
-		});
-		HZPY[1501] = (new short[] {
-			131
-		});
-		HZPY[1502] = (new short[] {
-			376
-		});
-		HZPY[1503] = (new short[] {
-			315
-		});
-		HZPY[1504] = (new short[] {
-			67
-		});
-		HZPY[1505] = (new short[] {
-			283
-		});
-		HZPY[1506] = (new short[] {
-			48
-		});
-		HZPY[1507] = (new short[] {
-			154
-		});
-		HZPY[1508] = (new short[] {
-			103
-		});
-		HZPY[1509] = (new short[] {
-			141, 102
-		});
-		HZPY[1510] = (new short[] {
-			178
-		});
-		HZPY[1511] = (new short[] {
-			104
-		});
-		HZPY[1512] = (new short[] {
-			325, 59
-		});
-		HZPY[1513] = (new short[] {
-			154
-		});
-		HZPY[1514] = (new short[] {
-			398
-		});
-		HZPY[1515] = (new short[] {
-			135
-		});
-		HZPY[1516] = (new short[] {
-			393, 298
-		});
-		HZPY[1517] = (new short[] {
-			5
-		});
-		HZPY[1518] = (new short[] {
-			68
-		});
-		HZPY[1519] = (new short[] {
-			150
-		});
-		HZPY[1520] = (new short[] {
-			322
-		});
-		HZPY[1521] = (new short[] {
-			37
-		});
-		HZPY[1522] = (new short[] {
-			303
-		});
-		HZPY[1523] = (new short[] {
-			375
-		});
-		HZPY[1524] = (new short[] {
-			265
-		});
-		HZPY[1525] = (new short[] {
-			253
-		});
-		HZPY[1526] = (new short[] {
-			368, 355
-		});
-		HZPY[1527] = (new short[] {
-			115
-		});
-		HZPY[1528] = (new short[] {
-			313
-		});
-		HZPY[1529] = (new short[] {
-			323
-		});
-		HZPY[1530] = (new short[] {
-			37
-		});
-		HZPY[1531] = (new short[] {
-			168
-		});
-		HZPY[1532] = (new short[] {
-			66
-		});
-		HZPY[1533] = (new short[] {
-			131
-		});
-		HZPY[1534] = (new short[] {
-			229
-		});
-		HZPY[1535] = (new short[] {
-			121
-		});
-		HZPY[1536] = (new short[] {
-			203
-		});
-		HZPY[1537] = (new short[] {
-			376, 360
-		});
-		HZPY[1538] = (new short[] {
-			194
-		});
-		HZPY[1539] = (new short[] {
-			37, 131
-		});
-		HZPY[1540] = (new short[] {
-			97
-		});
-		HZPY[1541] = (new short[] {
-			361
-		});
-		HZPY[1542] = (new short[] {
-			367
-		});
-		HZPY[1543] = (new short[] {
-			409
-		});
-		HZPY[1544] = (new short[] {
-			116, 97
-		});
-		HZPY[1545] = (new short[] {
-			131
-		});
-		HZPY[1546] = (new short[] {
-			66
-		});
-		HZPY[1547] = (new short[] {
-			53
-		});
-		HZPY[1548] = (new short[] {
-			334
-		});
-		HZPY[1549] = (new short[] {
-			205
-		});
-		HZPY[1550] = (new short[] {
-			122
-		});
-		HZPY[1551] = (new short[] {
-			171
-		});
-		HZPY[1552] = (new short[] {
-			336
-		});
-		HZPY[1553] = (new short[] {
-			353
-		});
-		HZPY[1554] = (new short[] {
-			389
-		});
-		HZPY[1555] = (new short[] {
-			116, 351
-		});
-		HZPY[1556] = (new short[] {
-			368
-		});
-		HZPY[1557] = (new short[] {
-			184
-		});
-		HZPY[1558] = (new short[] {
-			0
-		});
-		HZPY[1559] = (new short[] {
-			191
-		});
-		HZPY[1560] = (new short[] {
-			238
-		});
-		HZPY[1561] = (new short[] {
-			362
-		});
-		HZPY[1562] = (new short[] {
-			369
-		});
-		HZPY[1563] = (new short[] {
-			144
-		});
-		HZPY[1564] = (new short[] {
-			39
-		});
-		HZPY[1565] = (new short[] {
-			177
-		});
-		HZPY[1566] = (new short[] {
-			339
-		});
-		HZPY[1567] = (new short[] {
-			371
-		});
-		HZPY[1568] = (new short[] {
-			86
-		});
-		HZPY[1569] = (new short[] {
-			13, 247
-		});
-		HZPY[1570] = (new short[] {
-			262
-		});
-		HZPY[1571] = (new short[] {
-			262
-		});
-		HZPY[1572] = (new short[] {
-			136
-		});
-		HZPY[1573] = (new short[] {
-			254
-		});
-		HZPY[1574] = (new short[] {
-			90, 247
-		});
-		HZPY[1575] = (new short[] {
-			5
-		});
-		HZPY[1576] = (new short[] {
-			75
-		});
-		HZPY[1577] = (new short[] {
-			87
-		});
-		HZPY[1578] = (new short[] {
-			77
-		});
-		HZPY[1579] = (new short[] {
-			113
-		});
-		HZPY[1580] = (new short[] {
-			333, 371
-		});
-		HZPY[1581] = (new short[] {
-			114, 152
-		});
-		HZPY[1582] = (new short[] {
-			311
-		});
-		HZPY[1583] = (new short[] {
-			256
-		});
-		HZPY[1584] = (new short[] {
-			123
-		});
-		HZPY[1585] = (new short[] {
-			398, 409
-		});
-		HZPY[1586] = (new short[] {
-			371
-		});
-		HZPY[1587] = (new short[] {
-			349
-		});
-		HZPY[1588] = (new short[] {
-			349
-		});
-		HZPY[1589] = (new short[] {
-			33
-		});
-		HZPY[1590] = (new short[] {
-			211
-		});
-		HZPY[1591] = (new short[] {
-			46
-		});
-		HZPY[1592] = (new short[] {
-			350
-		});
-		HZPY[1593] = (new short[] {
-			44
-		});
-		HZPY[1594] = (new short[] {
-			71
-		});
-		HZPY[1595] = (new short[] {
-			346
-		});
-		HZPY[1596] = (new short[] {
-			122
-		});
-		HZPY[1597] = (new short[] {
-			238, 121
-		});
-		HZPY[1598] = (new short[] {
-			349
-		});
-		HZPY[1599] = (new short[] {
-			96, 103
-		});
-		HZPY[1600] = (new short[] {
-			364
-		});
-		HZPY[1601] = (new short[] {
-			144
-		});
-		HZPY[1602] = (new short[] {
-			184
-		});
-		HZPY[1603] = (new short[] {
-			77
-		});
-		HZPY[1604] = (new short[] {
-			97
-		});
-		HZPY[1605] = (new short[] {
-			197
-		});
-		HZPY[1606] = (new short[] {
-			56, 1
-		});
-		HZPY[1607] = (new short[] {
-			256
-		});
-		HZPY[1608] = (new short[] {
-			36
-		});
-		HZPY[1609] = (new short[] {
-			349
-		});
-		HZPY[1610] = (new short[] {
-			96, 103
-		});
-		HZPY[1611] = (new short[] {
-			91
-		});
-		HZPY[1612] = (new short[] {
-			135
-		});
-		HZPY[1613] = (new short[] {
-			121
-		});
-		HZPY[1614] = (new short[] {
-			37
-		});
-		HZPY[1615] = (new short[] {
-			302
-		});
-		HZPY[1616] = (new short[] {
-			211, 216
-		});
-		HZPY[1617] = (new short[] {
-			339
-		});
-		HZPY[1618] = (new short[] {
-			190
-		});
-		HZPY[1619] = (new short[] {
-			369
-		});
-		HZPY[1620] = (new short[] {
-			56, 322
-		});
-		HZPY[1621] = (new short[] {
-			238
-		});
-		HZPY[1622] = (new short[] {
-			171
-		});
-		HZPY[1623] = (new short[] {
-			10, 6
-		});
-		HZPY[1624] = (new short[] {
-			377, 379
-		});
-		HZPY[1625] = (new short[] {
-			110
-		});
-		HZPY[1626] = (new short[] {
-			229
-		});
-		HZPY[1627] = (new short[] {
-			259
-		});
-		HZPY[1628] = (new short[] {
-			349
-		});
-		HZPY[1629] = (new short[] {
-			77
-		});
-		HZPY[1630] = (new short[] {
-			303
-		});
-		HZPY[1631] = (new short[] {
-			267
-		});
-		HZPY[1632] = (new short[] {
-			245
-		});
-		HZPY[1633] = (new short[] {
-			346
-		});
-		HZPY[1634] = (new short[] {
-			221, 216, 211
-		});
-		HZPY[1635] = (new short[] {
-			208
-		});
-		HZPY[1636] = (new short[] {
-			178
-		});
-		HZPY[1637] = (new short[] {
-			272
-		});
-		HZPY[1638] = (new short[] {
-			375
-		});
-		HZPY[1639] = (new short[] {
-			63
-		});
-		HZPY[1640] = (new short[] {
-			400
-		});
-		HZPY[1641] = (new short[] {
-			303
-		});
-		HZPY[1642] = (new short[] {
-			400
-		});
-		HZPY[1643] = (new short[] {
-			391
-		});
-		HZPY[1644] = (new short[] {
-			178
-		});
-		HZPY[1645] = (new short[] {
-			369
-		});
-		HZPY[1646] = (new short[] {
-			256
-		});
-		HZPY[1647] = (new short[] {
-			252
-		});
-		HZPY[1648] = (new short[] {
-			409
-		});
-		HZPY[1649] = (new short[] {
-			104, 103, 341
-		});
-		HZPY[1650] = (new short[] {
-			47, 409
-		});
-		HZPY[1651] = (new short[] {
-			345
-		});
-		HZPY[1652] = (new short[] {
-			360
-		});
-		HZPY[1653] = (new short[] {
-			116, 150, 0
-		});
-		HZPY[1654] = (new short[] {
-			215
-		});
-		HZPY[1655] = (new short[] {
-			351
-		});
-		HZPY[1656] = (new short[] {
-			244
-		});
-		HZPY[1657] = (new short[] {
-			369
-		});
-		HZPY[1658] = (new short[] {
-			354
-		});
-		HZPY[1659] = (new short[] {
-			301
-		});
-		HZPY[1660] = (new short[] {
-			123
-		});
-		HZPY[1661] = (new short[] {
-			205
-		});
-		HZPY[1662] = (new short[] {
-			55
-		});
-		HZPY[1663] = (new short[] {
-			266
-		});
-		HZPY[1664] = (new short[] {
-			141, 414
-		});
-		HZPY[1665] = (new short[] {
-			94
-		});
-		HZPY[1666] = (new short[] {
-			380
-		});
-		HZPY[1667] = (new short[] {
-			340
-		});
-		HZPY[1668] = (new short[] {
-			76
-		});
-		HZPY[1669] = (new short[] {
-			254
-		});
-		HZPY[1670] = (new short[] {
-			243
-		});
-		HZPY[1671] = (new short[] {
-			16
-		});
-		HZPY[1672] = (new short[] {
-			91
-		});
-		HZPY[1673] = (new short[] {
-			13, 91
-		});
-		HZPY[1674] = (new short[] {
-			116, 130
-		});
-		HZPY[1675] = (new short[] {
-			380, 385, 389
-		});
-		HZPY[1676] = (new short[] {
-			116, 130, 112, 123
-		});
-		HZPY[1677] = (new short[] {
-			112
-		});
-		HZPY[1678] = (new short[] {
-			140
-		});
-		HZPY[1679] = (new short[] {
-			374
-		});
-		HZPY[1680] = (new short[] {
-			91
-		});
-		HZPY[1681] = (new short[] {
-			55
-		});
-		HZPY[1682] = (new short[] {
-			400
-		});
-		HZPY[1683] = (new short[] {
-			341
-		});
-		HZPY[1684] = (new short[] {
-			145
-		});
-		HZPY[1685] = (new short[] {
-			103
-		});
-		HZPY[1686] = (new short[] {
-			145, 92
-		});
-		HZPY[1687] = (new short[] {
-			416
-		});
-		HZPY[1688] = (new short[] {
-			20
-		});
-		HZPY[1689] = (new short[] {
-			181
-		});
-		HZPY[1690] = (new short[] {
-			70
-		});
-		HZPY[1691] = (new short[] {
-			227
-		});
-		HZPY[1692] = (new short[] {
-			389
-		});
-		HZPY[1693] = (new short[] {
-			313
-		});
-		HZPY[1694] = (new short[] {
-			352
-		});
-		HZPY[1695] = (new short[] {
-			130
-		});
-		HZPY[1696] = (new short[] {
-			256
-		});
-		HZPY[1697] = (new short[] {
-			82
-		});
-		HZPY[1698] = (new short[] {
-			77
-		});
-		HZPY[1699] = (new short[] {
-			107
-		});
-		HZPY[1700] = (new short[] {
-			389
-		});
-		HZPY[1701] = (new short[] {
-			350, 67
-		});
-		HZPY[1702] = (new short[] {
-			369
-		});
-		HZPY[1703] = (new short[] {
-			176
-		});
-		HZPY[1704] = (new short[] {
-			409
-		});
-		HZPY[1705] = (new short[] {
-			203
-		});
-		HZPY[1706] = (new short[] {
-			200
-		});
-		HZPY[1707] = (new short[] {
-			398
-		});
-		HZPY[1708] = (new short[] {
-			367
-		});
-		HZPY[1709] = (new short[] {
-			131
-		});
-		HZPY[1710] = (new short[] {
-			400
-		});
-		HZPY[1711] = (new short[] {
-			97, 145, 180, 189
-		});
-		HZPY[1712] = (new short[] {
-			307
-		});
-		HZPY[1713] = (new short[] {
-			382, 380
-		});
-		HZPY[1714] = (new short[] {
-			354
-		});
-		HZPY[1715] = (new short[] {
-			150, 112, 145, 146
-		});
-		HZPY[1716] = (new short[] {
-			128
-		});
-		HZPY[1717] = (new short[] {
-			156
-		});
-		HZPY[1718] = (new short[] {
-			125
-		});
-		HZPY[1719] = (new short[] {
-			325
-		});
-		HZPY[1720] = (new short[] {
-			352
-		});
-		HZPY[1721] = (new short[] {
-			77
-		});
-		HZPY[1722] = (new short[] {
-			361
-		});
-		HZPY[1723] = (new short[] {
-			359
-		});
-		HZPY[1724] = (new short[] {
-			110, 157
-		});
-		HZPY[1725] = (new short[] {
-			365, 368
-		});
-		HZPY[1726] = (new short[] {
-			167
-		});
-		HZPY[1727] = (new short[] {
-			369
-		});
-		HZPY[1728] = (new short[] {
-			1
-		});
-		HZPY[1729] = (new short[] {
-			251
-		});
-		HZPY[1730] = (new short[] {
-			301
-		});
-		HZPY[1731] = (new short[] {
-			334
-		});
-		HZPY[1732] = (new short[] {
-			121
-		});
-		HZPY[1733] = (new short[] {
-			358, 121
-		});
-		HZPY[1734] = (new short[] {
-			76
-		});
-		HZPY[1735] = (new short[] {
-			341
-		});
-		HZPY[1736] = (new short[] {
-			111, 145
-		});
-		HZPY[1737] = (new short[] {
-			381
-		});
-		HZPY[1738] = (new short[] {
-			375
-		});
-		HZPY[1739] = (new short[] {
-			63
-		});
-		HZPY[1740] = (new short[] {
-			240
-		});
-		HZPY[1741] = (new short[] {
-			353
-		});
-		HZPY[1742] = (new short[] {
-			1
-		});
-		HZPY[1743] = (new short[] {
-			99
-		});
-		HZPY[1744] = (new short[] {
-			159
-		});
-		HZPY[1745] = (new short[] {
-			364
-		});
-		HZPY[1746] = (new short[] {
-			55
-		});
-		HZPY[1747] = (new short[] {
-			354
-		});
-		HZPY[1748] = (new short[] {
-			13
-		});
-		HZPY[1749] = (new short[] {
-			128, 378
-		});
-		HZPY[1750] = (new short[] {
-			229
-		});
-		HZPY[1751] = (new short[] {
-			124, 368
-		});
-		HZPY[1752] = (new short[] {
-			229
-		});
-		HZPY[1753] = (new short[] {
-			157
-		});
-		HZPY[1754] = (new short[] {
-			76
-		});
-		HZPY[1755] = (new short[] {
-			229
-		});
-		HZPY[1756] = (new short[] {
-			131
-		});
-		HZPY[1757] = (new short[] {
-			230
-		});
-		HZPY[1758] = (new short[] {
-			208
-		});
-		HZPY[1759] = (new short[] {
-			373
-		});
-		HZPY[1760] = (new short[] {
-			115
-		});
-		HZPY[1761] = (new short[] {
-			377, 379
-		});
-		HZPY[1762] = (new short[] {
-			181
-		});
-		HZPY[1763] = (new short[] {
-			254
-		});
-		HZPY[1764] = (new short[] {
-			194
-		});
-		HZPY[1765] = (new short[] {
-			97
-		});
-		HZPY[1766] = (new short[] {
-			77, 237, 348
-		});
-		HZPY[1767] = (new short[] {
-			37
-		});
-		HZPY[1768] = (new short[] {
-			298
-		});
-		HZPY[1769] = (new short[] {
-			171
-		});
-		HZPY[1770] = (new short[] {
-			211, 217, 216, 212
-		});
-		HZPY[1771] = (new short[] {
-			412
-		});
-		HZPY[1772] = (new short[] {
-			116
-		});
-		HZPY[1773] = (new short[] {
-			155
-		});
-		HZPY[1774] = (new short[] {
-			354
-		});
-		HZPY[1775] = (new short[] {
-			352
-		});
-		HZPY[1776] = (new short[] {
-			167
-		});
-		HZPY[1777] = (new short[] {
-			10
-		});
-		HZPY[1778] = (new short[] {
-			394
-		});
-		HZPY[1779] = (new short[] {
-			389
-		});
-		HZPY[1780] = (new short[] {
-			174
-		});
-		HZPY[1781] = (new short[] {
-			5
-		});
-		HZPY[1782] = (new short[] {
-			200
-		});
-		HZPY[1783] = (new short[] {
-			168
-		});
-		HZPY[1784] = (new short[] {
-			318
-		});
-		HZPY[1785] = (new short[] {
-			90
-		});
-		HZPY[1786] = (new short[] {
-			20
-		});
-		HZPY[1787] = (new short[] {
-			113
-		});
-		HZPY[1788] = (new short[] {
-			119, 120
-		});
-		HZPY[1789] = (new short[] {
-			100
-		});
-		HZPY[1790] = (new short[] {
-			312
-		});
-		HZPY[1791] = (new short[] {
-			97
-		});
-		HZPY[1792] = (new short[] {
-			375
-		});
-		HZPY[1793] = (new short[] {
-			365
-		});
-		HZPY[1794] = (new short[] {
-			103
-		});
-		HZPY[1795] = (new short[] {
-			103
-		});
-		HZPY[1796] = (new short[] {
-			6, 10
-		});
-		HZPY[1797] = (new short[] {
-			113
-		});
-		HZPY[1798] = (new short[] {
-			320
-		});
-		HZPY[1799] = (new short[] {
-			45
-		});
-		HZPY[1800] = (new short[] {
-			369
-		});
-		HZPY[1801] = (new short[] {
-			1
-		});
-		HZPY[1802] = (new short[] {
-			132
-		});
-		HZPY[1803] = (new short[] {
-			336
-		});
-		HZPY[1804] = (new short[] {
-			352
-		});
-		HZPY[1805] = (new short[] {
-			106
-		});
-		HZPY[1806] = (new short[] {
-			171
-		});
-		HZPY[1807] = (new short[] {
-			350
-		});
-		HZPY[1808] = (new short[] {
-			324
-		});
-		HZPY[1809] = (new short[] {
-			416
-		});
-		HZPY[1810] = (new short[] {
-			206
-		});
-		HZPY[1811] = (new short[] {
-			34
-		});
-		HZPY[1812] = (new short[] {
-			349, 210, 220
-		});
-		HZPY[1813] = (new short[] {
-			384
-		});
-		HZPY[1814] = (new short[] {
-			364
-		});
-		HZPY[1815] = (new short[] {
-			71
-		});
-		HZPY[1816] = (new short[] {
-			256
-		});
-		HZPY[1817] = (new short[] {
-			63
-		});
-		HZPY[1818] = (new short[] {
-			262
-		});
-		HZPY[1819] = (new short[] {
-			191
-		});
-		HZPY[1820] = (new short[] {
-			229
-		});
-		HZPY[1821] = (new short[] {
-			101
-		});
-		HZPY[1822] = (new short[] {
-			71
-		});
-		HZPY[1823] = (new short[] {
-			229
-		});
-		HZPY[1824] = (new short[] {
-			167
-		});
-		HZPY[1825] = (new short[] {
-			174
-		});
-		HZPY[1826] = (new short[] {
-			320
-		});
-		HZPY[1827] = (new short[] {
-			384
-		});
-		HZPY[1828] = (new short[] {
-			126
-		});
-		HZPY[1829] = (new short[] {
-			229
-		});
-		HZPY[1830] = (new short[] {
-			102
-		});
-		HZPY[1831] = (new short[] {
-			131
-		});
-		HZPY[1832] = (new short[] {
-			416
-		});
-		HZPY[1833] = (new short[] {
-			348
-		});
-		HZPY[1834] = (new short[] {
-			88
-		});
-		HZPY[1835] = (new short[] {
-			371
-		});
-		HZPY[1836] = (new short[] {
-			123, 351
-		});
-		HZPY[1837] = (new short[] {
-			256
-		});
-		HZPY[1838] = (new short[] {
-			304
-		});
-		HZPY[1839] = (new short[] {
-			345
-		});
-		HZPY[1840] = (new short[] {
-			306
-		});
-		HZPY[1841] = (new short[] {
-			32
-		});
-		HZPY[1842] = (new short[] {
-			82
-		});
-		HZPY[1843] = (new short[] {
-			171
-		});
-		HZPY[1844] = (new short[] {
-			259
-		});
-		HZPY[1845] = (new short[] {
-			2
-		});
-		HZPY[1846] = (new short[] {
-			136
-		});
-		HZPY[1847] = (new short[] {
-			373
-		});
-		HZPY[1848] = (new short[] {
-			222
-		});
-		HZPY[1849] = (new short[] {
-			376
-		});
-		HZPY[1850] = (new short[] {
-			330
-		});
-		HZPY[1851] = (new short[] {
-			164
-		});
-		HZPY[1852] = (new short[] {
-			294
-		});
-		HZPY[1853] = (new short[] {
-			350
-		});
-		HZPY[1854] = (new short[] {
-			340
-		});
-		HZPY[1855] = (new short[] {
-			123
-		});
-		HZPY[1856] = (new short[] {
-			1
-		});
-		HZPY[1857] = (new short[] {
-			400, 393
-		});
-		HZPY[1858] = (new short[] {
-			231
-		});
-		HZPY[1859] = (new short[] {
-			151
-		});
-		HZPY[1860] = (new short[] {
-			408
-		});
-		HZPY[1861] = (new short[] {
-			408
-		});
-		HZPY[1862] = (new short[] {
-			297
-		});
-		HZPY[1863] = (new short[] {
-			63
-		});
-		HZPY[1864] = (new short[] {
-			119
-		});
-		HZPY[1865] = (new short[] {
-			177
-		});
-		HZPY[1866] = (new short[] {
-			0
-		});
-		HZPY[1867] = (new short[] {
-			354
-		});
-		HZPY[1868] = (new short[] {
-			353
-		});
-		HZPY[1869] = (new short[] {
-			339
-		});
-		HZPY[1870] = (new short[] {
-			349
-		});
-		HZPY[1871] = (new short[] {
-			346
-		});
-		HZPY[1872] = (new short[] {
-			52
-		});
-		HZPY[1873] = (new short[] {
-			136
-		});
-		HZPY[1874] = (new short[] {
-			123
-		});
-		HZPY[1875] = (new short[] {
-			256
-		});
-		HZPY[1876] = (new short[] {
-			256
-		});
-		HZPY[1877] = (new short[] {
-			325
-		});
-		HZPY[1878] = (new short[] {
-			57
-		});
-		HZPY[1879] = (new short[] {
-			57
-		});
-		HZPY[1880] = (new short[] {
-			343
-		});
-		HZPY[1881] = (new short[] {
-			409
-		});
-		HZPY[1882] = (new short[] {
-			13
-		});
-		HZPY[1883] = (new short[] {
-			52
-		});
-		HZPY[1884] = (new short[] {
-			46, 41
-		});
-		HZPY[1885] = (new short[] {
-			116
-		});
-		HZPY[1886] = (new short[] {
-			364
-		});
-		HZPY[1887] = (new short[] {
-			256
-		});
-		HZPY[1888] = (new short[] {
-			394
-		});
-		HZPY[1889] = (new short[] {
-			86
-		});
-		HZPY[1890] = (new short[] {
-			174
-		});
-		HZPY[1891] = (new short[] {
-			352
-		});
-		HZPY[1892] = (new short[] {
-			247
-		});
-		HZPY[1893] = (new short[] {
-			294
-		});
-		HZPY[1894] = (new short[] {
-			163
-		});
-		HZPY[1895] = (new short[] {
-			385
-		});
-		HZPY[1896] = (new short[] {
-			263
-		});
-		HZPY[1897] = (new short[] {
-			104
-		});
-		HZPY[1898] = (new short[] {
-			239
-		});
-		HZPY[1899] = (new short[] {
-			394
-		});
-		HZPY[1900] = (new short[] {
-			291
-		});
-		HZPY[1901] = (new short[] {
-			404
-		});
-		HZPY[1902] = (new short[] {
-			225
-		});
-		HZPY[1903] = (new short[] {
-			110
-		});
-		HZPY[1904] = (new short[] {
-			189
-		});
-		HZPY[1905] = (new short[] {
-			365
-		});
-		HZPY[1906] = (new short[] {
-			63
-		});
-		HZPY[1907] = (new short[] {
-			267
-		});
-		HZPY[1908] = (new short[] {
-			323, 31
-		});
-		HZPY[1909] = (new short[] {
-			19
-		});
-		HZPY[1910] = (new short[] {
-			68
-		});
-		HZPY[1911] = (new short[] {
-			166
-		});
-		HZPY[1912] = (new short[] {
-			354
-		});
-		HZPY[1913] = (new short[] {
-			229
-		});
-		HZPY[1914] = (new short[] {
-			324
-		});
-		HZPY[1915] = (new short[] {
-			37
-		});
-		HZPY[1916] = (new short[] {
-			329
-		});
-		HZPY[1917] = (new short[] {
-			2
-		});
-		HZPY[1918] = (new short[] {
-			140
-		});
-		HZPY[1919] = (new short[] {
-			57
-		});
-		HZPY[1920] = (new short[] {
-			145, 150
-		});
-		HZPY[1921] = (new short[] {
-			374
-		});
-		HZPY[1922] = (new short[] {
-			345
-		});
-		HZPY[1923] = (new short[] {
-			213
-		});
-		HZPY[1924] = (new short[] {
-			296
-		});
-		HZPY[1925] = (new short[] {
-			376
-		});
-		HZPY[1926] = (new short[] {
-			394
-		});
-		HZPY[1927] = (new short[] {
-			163
-		});
-		HZPY[1928] = (new short[] {
-			136
-		});
-		HZPY[1929] = (new short[] {
-			122
-		});
-		HZPY[1930] = (new short[] {
-			113
-		});
-		HZPY[1931] = (new short[] {
-			67, 389
-		});
-		HZPY[1932] = (new short[] {
-			400
-		});
-		HZPY[1933] = (new short[] {
-			30
-		});
-		HZPY[1934] = (new short[] {
-			157
-		});
-		HZPY[1935] = (new short[] {
-			275, 236
-		});
-		HZPY[1936] = (new short[] {
-			376
-		});
-		HZPY[1937] = (new short[] {
-			371
-		});
-		HZPY[1938] = (new short[] {
-			382
-		});
-		HZPY[1939] = (new short[] {
-			367
-		});
-		HZPY[1940] = (new short[] {
-			348, 237
-		});
-		HZPY[1941] = (new short[] {
-			201
-		});
-		HZPY[1942] = (new short[] {
-			123
-		});
-		HZPY[1943] = (new short[] {
-			379
-		});
-		HZPY[1944] = (new short[] {
-			42
-		});
-		HZPY[1945] = (new short[] {
-			128
-		});
-		HZPY[1946] = (new short[] {
-			126
-		});
-		HZPY[1947] = (new short[] {
-			126
-		});
-		HZPY[1948] = (new short[] {
-			350
-		});
-		HZPY[1949] = (new short[] {
-			116
-		});
-		HZPY[1950] = (new short[] {
-			131
-		});
-		HZPY[1951] = (new short[] {
-			160
-		});
-		HZPY[1952] = (new short[] {
-			399
-		});
-		HZPY[1953] = (new short[] {
-			345
-		});
-		HZPY[1954] = (new short[] {
-			294
-		});
-		HZPY[1955] = (new short[] {
-			360
-		});
-		HZPY[1956] = (new short[] {
-			127
-		});
-		HZPY[1957] = (new short[] {
-			72
-		});
-		HZPY[1958] = (new short[] {
-			225
-		});
-		HZPY[1959] = (new short[] {
-			361
-		});
-		HZPY[1960] = (new short[] {
-			174
-		});
-		HZPY[1961] = (new short[] {
-			376
-		});
-		HZPY[1962] = (new short[] {
-			289
-		});
-		HZPY[1963] = (new short[] {
-			37
-		});
-		HZPY[1964] = (new short[] {
-			260
-		});
-		HZPY[1965] = (new short[] {
-			365
-		});
-		HZPY[1966] = (new short[] {
-			57, 31, 296
-		});
-		HZPY[1967] = (new short[] {
-			245
-		});
-		HZPY[1968] = (new short[] {
-			303, 313
-		});
-		HZPY[1969] = (new short[] {
-			171
-		});
-		HZPY[1970] = (new short[] {
-			373
-		});
-		HZPY[1971] = (new short[] {
-			389, 29
-		});
-		HZPY[1972] = (new short[] {
-			345
-		});
-		HZPY[1973] = (new short[] {
-			202
-		});
-		HZPY[1974] = (new short[] {
-			372
-		});
-		HZPY[1975] = (new short[] {
-			245
-		});
-		HZPY[1976] = (new short[] {
-			229
-		});
-		HZPY[1977] = (new short[] {
-			160
-		});
-		HZPY[1978] = (new short[] {
-			350
-		});
-		HZPY[1979] = (new short[] {
-			376
-		});
-		HZPY[1980] = (new short[] {
-			136
-		});
-		HZPY[1981] = (new short[] {
-			182
-		});
-		HZPY[1982] = (new short[] {
-			155
-		});
-		HZPY[1983] = (new short[] {
-			25
-		});
-		HZPY[1984] = (new short[] {
-			130
-		});
-		HZPY[1985] = (new short[] {
-			329
-		});
-		HZPY[1986] = (new short[] {
-			367
-		});
-		HZPY[1987] = (new short[] {
-			116
-		});
-		HZPY[1988] = (new short[] {
-			0, 294
-		});
-		HZPY[1989] = (new short[] {
-			359
-		});
-		HZPY[1990] = (new short[] {
-			259
-		});
-		HZPY[1991] = (new short[] {
-			291
-		});
-		HZPY[1992] = (new short[] {
-			374
-		});
-		HZPY[1993] = (new short[] {
-			316
-		});
-		HZPY[1994] = (new short[] {
-			121
-		});
-		HZPY[1995] = (new short[] {
-			355
-		});
-		HZPY[1996] = (new short[] {
-			1, 369
-		});
-		HZPY[1997] = (new short[] {
-			320
-		});
-		HZPY[1998] = (new short[] {
-			191
-		});
-		HZPY[1999] = (new short[] {
-			29
-		});
-		HZPY[2000] = (new short[] {
-			112
-		});
-	}
-
-	private void init2(short HZPY[][])
-	{
-		HZPY[2001] = (new short[] {
-			150
-		});
-		HZPY[2002] = (new short[] {
-			55, 321
-		});
-		HZPY[2003] = (new short[] {
-			289
-		});
-		HZPY[2004] = (new short[] {
-			35
-		});
-		HZPY[2005] = (new short[] {
-			281, 231
-		});
-		HZPY[2006] = (new short[] {
-			315
-		});
-		HZPY[2007] = (new short[] {
-			101
-		});
-		HZPY[2008] = (new short[] {
-			131
-		});
-		HZPY[2009] = (new short[] {
-			242
-		});
-		HZPY[2010] = (new short[] {
-			349
-		});
-		HZPY[2011] = (new short[] {
-			258
-		});
-		HZPY[2012] = (new short[] {
-			303
-		});
-		HZPY[2013] = (new short[] {
-			97
-		});
-		HZPY[2014] = (new short[] {
-			409
-		});
-		HZPY[2015] = (new short[] {
-			136, 143
-		});
-		HZPY[2016] = (new short[] {
-			189
-		});
-		HZPY[2017] = (new short[] {
-			347
-		});
-		HZPY[2018] = (new short[] {
-			341
-		});
-		HZPY[2019] = (new short[] {
-			313
-		});
-		HZPY[2020] = (new short[] {
-			37
-		});
-		HZPY[2021] = (new short[] {
-			115
-		});
-		HZPY[2022] = (new short[] {
-			320
-		});
-		HZPY[2023] = (new short[] {
-			132, 188
-		});
-		HZPY[2024] = (new short[] {
-			112, 117
-		});
-		HZPY[2025] = (new short[] {
-			320
-		});
-		HZPY[2026] = (new short[] {
-			262
-		});
-		HZPY[2027] = (new short[] {
-			225
-		});
-		HZPY[2028] = (new short[] {
-			116
-		});
-		HZPY[2029] = (new short[] {
-			229
-		});
-		HZPY[2030] = (new short[] {
-			287
-		});
-		HZPY[2031] = (new short[] {
-			220, 210
-		});
-		HZPY[2032] = (new short[] {
-			97
-		});
-		HZPY[2033] = (new short[] {
-			211
-		});
-		HZPY[2034] = (new short[] {
-			64
-		});
-		HZPY[2035] = (new short[] {
-			1
-		});
-		HZPY[2036] = (new short[] {
-			229
-		});
-		HZPY[2037] = (new short[] {
-			334
-		});
-		HZPY[2038] = (new short[] {
-			13
-		});
-		HZPY[2039] = (new short[] {
-			4
-		});
-		HZPY[2040] = (new short[] {
-			4
-		});
-		HZPY[2041] = (new short[] {
-			173
-		});
-		HZPY[2042] = (new short[] {
-			52
-		});
-		HZPY[2043] = (new short[] {
-			394
-		});
-		HZPY[2044] = (new short[] {
-			207
-		});
-		HZPY[2045] = (new short[] {
-			315
-		});
-		HZPY[2046] = (new short[] {
-			315, 412
-		});
-		HZPY[2047] = (new short[] {
-			323
-		});
-		HZPY[2048] = (new short[] {
-			63
-		});
-		HZPY[2049] = (new short[] {
-			256
-		});
-		HZPY[2050] = (new short[] {
-			135
-		});
-		HZPY[2051] = (new short[] {
-			38
-		});
-		HZPY[2052] = (new short[] {
-			135
-		});
-		HZPY[2053] = (new short[] {
-			146
-		});
-		HZPY[2054] = (new short[] {
-			323
-		});
-		HZPY[2055] = (new short[] {
-			288
-		});
-		HZPY[2056] = (new short[] {
-			25
-		});
-		HZPY[2057] = (new short[] {
-			132
-		});
-		HZPY[2058] = (new short[] {
-			229
-		});
-		HZPY[2059] = (new short[] {
-			354
-		});
-		HZPY[2060] = (new short[] {
-			249
-		});
-		HZPY[2061] = (new short[] {
-			182
-		});
-		HZPY[2062] = (new short[] {
-			92
-		});
-		HZPY[2063] = (new short[] {
-			103, 132
-		});
-		HZPY[2064] = (new short[] {
-			354
-		});
-		HZPY[2065] = (new short[] {
-			123
-		});
-		HZPY[2066] = (new short[] {
-			128
-		});
-		HZPY[2067] = (new short[] {
-			110
-		});
-		HZPY[2068] = (new short[] {
-			238
-		});
-		HZPY[2069] = (new short[] {
-			352
-		});
-		HZPY[2070] = (new short[] {
-			385
-		});
-		HZPY[2071] = (new short[] {
-			32
-		});
-		HZPY[2072] = (new short[] {
-			360, 303
-		});
-		HZPY[2073] = (new short[] {
-			253
-		});
-		HZPY[2074] = (new short[] {
-			60, 61
-		});
-		HZPY[2075] = (new short[] {
-			191
-		});
-		HZPY[2076] = (new short[] {
-			191, 207
-		});
-		HZPY[2077] = (new short[] {
-			123
-		});
-		HZPY[2078] = (new short[] {
-			169
-		});
-		HZPY[2079] = (new short[] {
-			72
-		});
-		HZPY[2080] = (new short[] {
-			92
-		});
-		HZPY[2081] = (new short[] {
-			324
-		});
-		HZPY[2082] = (new short[] {
-			368
-		});
-		HZPY[2083] = (new short[] {
-			12
-		});
-		HZPY[2084] = (new short[] {
-			372
-		});
-		HZPY[2085] = (new short[] {
-			229
-		});
-		HZPY[2086] = (new short[] {
-			135
-		});
-		HZPY[2087] = (new short[] {
-			200
-		});
-		HZPY[2088] = (new short[] {
-			354
-		});
-		HZPY[2089] = (new short[] {
-			124, 368
-		});
-		HZPY[2090] = (new short[] {
-			192
-		});
-		HZPY[2091] = (new short[] {
-			272
-		});
-		HZPY[2092] = (new short[] {
-			416, 41, 403
-		});
-		HZPY[2093] = (new short[] {
-			246
-		});
-		HZPY[2094] = (new short[] {
-			167
-		});
-		HZPY[2095] = (new short[] {
-			354
-		});
-		HZPY[2096] = (new short[] {
-			131
-		});
-		HZPY[2097] = (new short[] {
-			401
-		});
-		HZPY[2098] = (new short[] {
-			33, 393
-		});
-		HZPY[2099] = (new short[] {
-			160
-		});
-		HZPY[2100] = (new short[] {
-			414
-		});
-		HZPY[2101] = (new short[] {
-			354
-		});
-		HZPY[2102] = (new short[] {
-			313
-		});
-		HZPY[2103] = (new short[] {
-			115
-		});
-		HZPY[2104] = (new short[] {
-			91, 190
-		});
-		HZPY[2105] = (new short[] {
-			175
-		});
-		HZPY[2106] = (new short[] {
-			260
-		});
-		HZPY[2107] = (new short[] {
-			350
-		});
-		HZPY[2108] = (new short[] {
-			360
-		});
-		HZPY[2109] = (new short[] {
-			31
-		});
-		HZPY[2110] = (new short[] {
-			57
-		});
-		HZPY[2111] = (new short[] {
-			117, 207, 112
-		});
-		HZPY[2112] = (new short[] {
-			363
-		});
-		HZPY[2113] = (new short[] {
-			349
-		});
-		HZPY[2114] = (new short[] {
-			415
-		});
-		HZPY[2115] = (new short[] {
-			241
-		});
-		HZPY[2116] = (new short[] {
-			37
-		});
-		HZPY[2117] = (new short[] {
-			160
-		});
-		HZPY[2118] = (new short[] {
-			23
-		});
-		HZPY[2119] = (new short[] {
-			382
-		});
-		HZPY[2120] = (new short[] {
-			50
-		});
-		HZPY[2121] = (new short[] {
-			57
-		});
-		HZPY[2122] = (new short[] {
-			376
-		});
-		HZPY[2123] = (new short[] {
-			339
-		});
-		HZPY[2124] = (new short[] {
-			36, 28
-		});
-		HZPY[2125] = (new short[] {
-			135
-		});
-		HZPY[2126] = (new short[] {
-			368
-		});
-		HZPY[2127] = (new short[] {
-			350
-		});
-		HZPY[2128] = (new short[] {
-			256
-		});
-		HZPY[2129] = (new short[] {
-			115
-		});
-		HZPY[2130] = (new short[] {
-			173
-		});
-		HZPY[2131] = (new short[] {
-			360, 303
-		});
-		HZPY[2132] = (new short[] {
-			62
-		});
-		HZPY[2133] = (new short[] {
-			128
-		});
-		HZPY[2134] = (new short[] {
-			371
-		});
-		HZPY[2135] = (new short[] {
-			255
-		});
-		HZPY[2136] = (new short[] {
-			143
-		});
-		HZPY[2137] = (new short[] {
-			262
-		});
-		HZPY[2138] = (new short[] {
-			363
-		});
-		HZPY[2139] = (new short[] {
-			225
-		});
-		HZPY[2140] = (new short[] {
-			183
-		});
-		HZPY[2141] = (new short[] {
-			313
-		});
-		HZPY[2142] = (new short[] {
-			365
-		});
-		HZPY[2143] = (new short[] {
-			372
-		});
-		HZPY[2144] = (new short[] {
-			55
-		});
-		HZPY[2145] = (new short[] {
-			391
-		});
-		HZPY[2146] = (new short[] {
-			237
-		});
-		HZPY[2147] = (new short[] {
-			400
-		});
-		HZPY[2148] = (new short[] {
-			137
-		});
-		HZPY[2149] = (new short[] {
-			230
-		});
-		HZPY[2150] = (new short[] {
-			128, 378
-		});
-		HZPY[2151] = (new short[] {
-			128
-		});
-		HZPY[2152] = (new short[] {
-			256
-		});
-		HZPY[2153] = (new short[] {
-			77
-		});
-		HZPY[2154] = (new short[] {
-			384
-		});
-		HZPY[2155] = (new short[] {
-			369
-		});
-		HZPY[2156] = (new short[] {
-			303
-		});
-		HZPY[2157] = (new short[] {
-			135
-		});
-		HZPY[2158] = (new short[] {
-			377
-		});
-		HZPY[2159] = (new short[] {
-			1
-		});
-		HZPY[2160] = (new short[] {
-			374
-		});
-		HZPY[2161] = (new short[] {
-			362, 143
-		});
-		HZPY[2162] = (new short[] {
-			157
-		});
-		HZPY[2163] = (new short[] {
-			376
-		});
-		HZPY[2164] = (new short[] {
-			245
-		});
-		HZPY[2165] = (new short[] {
-			59
-		});
-		HZPY[2166] = (new short[] {
-			92
-		});
-		HZPY[2167] = (new short[] {
-			356
-		});
-		HZPY[2168] = (new short[] {
-			75
-		});
-		HZPY[2169] = (new short[] {
-			58
-		});
-		HZPY[2170] = (new short[] {
-			229
-		});
-		HZPY[2171] = (new short[] {
-			287
-		});
-		HZPY[2172] = (new short[] {
-			247
-		});
-		HZPY[2173] = (new short[] {
-			247
-		});
-		HZPY[2174] = (new short[] {
-			371
-		});
-		HZPY[2175] = (new short[] {
-			414
-		});
-		HZPY[2176] = (new short[] {
-			227
-		});
-		HZPY[2177] = (new short[] {
-			63
-		});
-		HZPY[2178] = (new short[] {
-			113
-		});
-		HZPY[2179] = (new short[] {
-			321
-		});
-		HZPY[2180] = (new short[] {
-			130, 237
-		});
-		HZPY[2181] = (new short[] {
-			281
-		});
-		HZPY[2182] = (new short[] {
-			115
-		});
-		HZPY[2183] = (new short[] {
-			351, 116
-		});
-		HZPY[2184] = (new short[] {
-			365
-		});
-		HZPY[2185] = (new short[] {
-			76
-		});
-		HZPY[2186] = (new short[] {
-			247
-		});
-		HZPY[2187] = (new short[] {
-			39
-		});
-		HZPY[2188] = (new short[] {
-			131
-		});
-		HZPY[2189] = (new short[] {
-			137
-		});
-		HZPY[2190] = (new short[] {
-			115
-		});
-		HZPY[2191] = (new short[] {
-			329
-		});
-		HZPY[2192] = (new short[] {
-			32
-		});
-		HZPY[2193] = (new short[] {
-			229
-		});
-		HZPY[2194] = (new short[] {
-			229
-		});
-		HZPY[2195] = (new short[] {
-			21, 29
-		});
-		HZPY[2196] = (new short[] {
-			329
-		});
-		HZPY[2197] = (new short[] {
-			183
-		});
-		HZPY[2198] = (new short[] {
-			128
-		});
-		HZPY[2199] = (new short[] {
-			9
-		});
-		HZPY[2200] = (new short[] {
-			375
-		});
-		HZPY[2201] = (new short[] {
-			225
-		});
-		HZPY[2202] = (new short[] {
-			371
-		});
-		HZPY[2203] = (new short[] {
-			123
-		});
-		HZPY[2204] = (new short[] {
-			207
-		});
-		HZPY[2205] = (new short[] {
-			127
-		});
-		HZPY[2206] = (new short[] {
-			394
-		});
-		HZPY[2207] = (new short[] {
-			171
-		});
-		HZPY[2208] = (new short[] {
-			179
-		});
-		HZPY[2209] = (new short[] {
-			229
-		});
-		HZPY[2210] = (new short[] {
-			214
-		});
-		HZPY[2211] = (new short[] {
-			354, 4
-		});
-		HZPY[2212] = (new short[] {
-			207
-		});
-		HZPY[2213] = (new short[] {
-			365
-		});
-		HZPY[2214] = (new short[] {
-			171
-		});
-		HZPY[2215] = (new short[] {
-			183
-		});
-		HZPY[2216] = (new short[] {
-			181
-		});
-		HZPY[2217] = (new short[] {
-			207
-		});
-		HZPY[2218] = (new short[] {
-			57
-		});
-		HZPY[2219] = (new short[] {
-			35
-		});
-		HZPY[2220] = (new short[] {
-			251
-		});
-		HZPY[2221] = (new short[] {
-			247
-		});
-		HZPY[2222] = (new short[] {
-			353
-		});
-		HZPY[2223] = (new short[] {
-			130
-		});
-		HZPY[2224] = (new short[] {
-			207
-		});
-		HZPY[2225] = (new short[] {
-			350
-		});
-		HZPY[2226] = (new short[] {
-			76
-		});
-		HZPY[2227] = (new short[] {
-			155
-		});
-		HZPY[2228] = (new short[] {
-			365
-		});
-		HZPY[2229] = (new short[] {
-			31
-		});
-		HZPY[2230] = (new short[] {
-			372
-		});
-		HZPY[2231] = (new short[] {
-			273
-		});
-		HZPY[2232] = (new short[] {
-			65
-		});
-		HZPY[2233] = (new short[] {
-			163
-		});
-		HZPY[2234] = (new short[] {
-			321
-		});
-		HZPY[2235] = (new short[] {
-			354
-		});
-		HZPY[2236] = (new short[] {
-			135, 143
-		});
-		HZPY[2237] = (new short[] {
-			46
-		});
-		HZPY[2238] = (new short[] {
-			126
-		});
-		HZPY[2239] = (new short[] {
-			130
-		});
-		HZPY[2240] = (new short[] {
-			404
-		});
-		HZPY[2241] = (new short[] {
-			225
-		});
-		HZPY[2242] = (new short[] {
-			354, 4
-		});
-		HZPY[2243] = (new short[] {
-			21
-		});
-		HZPY[2244] = (new short[] {
-			171
-		});
-		HZPY[2245] = (new short[] {
-			31
-		});
-		HZPY[2246] = (new short[] {
-			30
-		});
-		HZPY[2247] = (new short[] {
-			171
-		});
-		HZPY[2248] = (new short[] {
-			369
-		});
-		HZPY[2249] = (new short[] {
-			189
-		});
-		HZPY[2250] = (new short[] {
-			214
-		});
-		HZPY[2251] = (new short[] {
-			382
-		});
-		HZPY[2252] = (new short[] {
-			316
-		});
-		HZPY[2253] = (new short[] {
-			350
-		});
-		HZPY[2254] = (new short[] {
-			229
-		});
-		HZPY[2255] = (new short[] {
-			133
-		});
-		HZPY[2256] = (new short[] {
-			380
-		});
-		HZPY[2257] = (new short[] {
-			401
-		});
-		HZPY[2258] = (new short[] {
-			165
-		});
-		HZPY[2259] = (new short[] {
-			225
-		});
-		HZPY[2260] = (new short[] {
-			214
-		});
-		HZPY[2261] = (new short[] {
-			229
-		});
-		HZPY[2262] = (new short[] {
-			229
-		});
-		HZPY[2263] = (new short[] {
-			345
-		});
-		HZPY[2264] = (new short[] {
-			128
-		});
-		HZPY[2265] = (new short[] {
-			371
-		});
-		HZPY[2266] = (new short[] {
-			265
-		});
-		HZPY[2267] = (new short[] {
-			313
-		});
-		HZPY[2268] = (new short[] {
-			226
-		});
-		HZPY[2269] = (new short[] {
-			133, 213
-		});
-		HZPY[2270] = (new short[] {
-			128
-		});
-		HZPY[2271] = (new short[] {
-			356
-		});
-		HZPY[2272] = (new short[] {
-			371
-		});
-		HZPY[2273] = (new short[] {
-			213
-		});
-		HZPY[2274] = (new short[] {
-			337
-		});
-		HZPY[2275] = (new short[] {
-			337
-		});
-		HZPY[2276] = (new short[] {
-			75, 339
-		});
-		HZPY[2277] = (new short[] {
-			148
-		});
-		HZPY[2278] = (new short[] {
-			377
-		});
-		HZPY[2279] = (new short[] {
-			139
-		});
-		HZPY[2280] = (new short[] {
-			248
-		});
-		HZPY[2281] = (new short[] {
-			379
-		});
-		HZPY[2282] = (new short[] {
-			48, 43
-		});
-		HZPY[2283] = (new short[] {
-			123
-		});
-		HZPY[2284] = (new short[] {
-			128
-		});
-		HZPY[2285] = (new short[] {
-			377
-		});
-		HZPY[2286] = (new short[] {
-			77
-		});
-		HZPY[2287] = (new short[] {
-			110
-		});
-		HZPY[2288] = (new short[] {
-			161
-		});
-		HZPY[2289] = (new short[] {
-			48
-		});
-		HZPY[2290] = (new short[] {
-			345
-		});
-		HZPY[2291] = (new short[] {
-			336
-		});
-		HZPY[2292] = (new short[] {
-			345
-		});
-		HZPY[2293] = (new short[] {
-			188
-		});
-		HZPY[2294] = (new short[] {
-			110
-		});
-		HZPY[2295] = (new short[] {
-			144
-		});
-		HZPY[2296] = (new short[] {
-			278
-		});
-		HZPY[2297] = (new short[] {
-			178
-		});
-		HZPY[2298] = (new short[] {
-			103
-		});
-		HZPY[2299] = (new short[] {
-			110
-		});
-		HZPY[2300] = (new short[] {
-			322
-		});
-		HZPY[2301] = (new short[] {
-			110
-		});
-		HZPY[2302] = (new short[] {
-			336
-		});
-		HZPY[2303] = (new short[] {
-			375
-		});
-		HZPY[2304] = (new short[] {
-			110
-		});
-		HZPY[2305] = (new short[] {
-			371
-		});
-		HZPY[2306] = (new short[] {
-			129
-		});
-		HZPY[2307] = (new short[] {
-			255
-		});
-		HZPY[2308] = (new short[] {
-			376
-		});
-		HZPY[2309] = (new short[] {
-			113
-		});
-		HZPY[2310] = (new short[] {
-			377
-		});
-		HZPY[2311] = (new short[] {
-			188
-		});
-		HZPY[2312] = (new short[] {
-			267, 142
-		});
-		HZPY[2313] = (new short[] {
-			376
-		});
-		HZPY[2314] = (new short[] {
-			263
-		});
-		HZPY[2315] = (new short[] {
-			110
-		});
-		HZPY[2316] = (new short[] {
-			44
-		});
-		HZPY[2317] = (new short[] {
-			345
-		});
-		HZPY[2318] = (new short[] {
-			377
-		});
-		HZPY[2319] = (new short[] {
-			267, 142
-		});
-		HZPY[2320] = (new short[] {
-			155
-		});
-		HZPY[2321] = (new short[] {
-			255
-		});
-		HZPY[2322] = (new short[] {
-			377
-		});
-		HZPY[2323] = (new short[] {
-			377
-		});
-		HZPY[2324] = (new short[] {
-			77
-		});
-		HZPY[2325] = (new short[] {
-			336, 305, 106
-		});
-		HZPY[2326] = (new short[] {
-			336
-		});
-		HZPY[2327] = (new short[] {
-			336
-		});
-		HZPY[2328] = (new short[] {
-			337
-		});
-		HZPY[2329] = (new short[] {
-			185
-		});
-		HZPY[2330] = (new short[] {
-			128
-		});
-		HZPY[2331] = (new short[] {
-			369
-		});
-		HZPY[2332] = (new short[] {
-			377, 126
-		});
-		HZPY[2333] = (new short[] {
-			186
-		});
-		HZPY[2334] = (new short[] {
-			186
-		});
-		HZPY[2335] = (new short[] {
-			336
-		});
-		HZPY[2336] = (new short[] {
-			364
-		});
-		HZPY[2337] = (new short[] {
-			336
-		});
-		HZPY[2338] = (new short[] {
-			333
-		});
-		HZPY[2339] = (new short[] {
-			302
-		});
-		HZPY[2340] = (new short[] {
-			365
-		});
-		HZPY[2341] = (new short[] {
-			183
-		});
-		HZPY[2342] = (new short[] {
-			229
-		});
-		HZPY[2343] = (new short[] {
-			364
-		});
-		HZPY[2344] = (new short[] {
-			381
-		});
-		HZPY[2345] = (new short[] {
-			345, 360
-		});
-		HZPY[2346] = (new short[] {
-			97
-		});
-		HZPY[2347] = (new short[] {
-			376
-		});
-		HZPY[2348] = (new short[] {
-			349
-		});
-		HZPY[2349] = (new short[] {
-			108
-		});
-		HZPY[2350] = (new short[] {
-			247
-		});
-		HZPY[2351] = (new short[] {
-			369
-		});
-		HZPY[2352] = (new short[] {
-			63, 60
-		});
-		HZPY[2353] = (new short[] {
-			258
-		});
-		HZPY[2354] = (new short[] {
-			258
-		});
-		HZPY[2355] = (new short[] {
-			396
-		});
-		HZPY[2356] = (new short[] {
-			408, 298
-		});
-		HZPY[2357] = (new short[] {
-			58
-		});
-		HZPY[2358] = (new short[] {
-			257
-		});
-		HZPY[2359] = (new short[] {
-			229
-		});
-		HZPY[2360] = (new short[] {
-			229
-		});
-		HZPY[2361] = (new short[] {
-			159
-		});
-		HZPY[2362] = (new short[] {
-			32
-		});
-		HZPY[2363] = (new short[] {
-			256, 371
-		});
-		HZPY[2364] = (new short[] {
-			225
-		});
-		HZPY[2365] = (new short[] {
-			207
-		});
-		HZPY[2366] = (new short[] {
-			131
-		});
-		HZPY[2367] = (new short[] {
-			132
-		});
-		HZPY[2368] = (new short[] {
-			398
-		});
-		HZPY[2369] = (new short[] {
-			398
-		});
-		HZPY[2370] = (new short[] {
-			7
-		});
-		HZPY[2371] = (new short[] {
-			363
-		});
-		HZPY[2372] = (new short[] {
-			335
-		});
-		HZPY[2373] = (new short[] {
-			262
-		});
-		HZPY[2374] = (new short[] {
-			87
-		});
-		HZPY[2375] = (new short[] {
-			144, 379
-		});
-		HZPY[2376] = (new short[] {
-			152
-		});
-		HZPY[2377] = (new short[] {
-			75
-		});
-		HZPY[2378] = (new short[] {
-			85
-		});
-		HZPY[2379] = (new short[] {
-			87
-		});
-		HZPY[2380] = (new short[] {
-			11
-		});
-		HZPY[2381] = (new short[] {
-			323
-		});
-		HZPY[2382] = (new short[] {
-			147
-		});
-		HZPY[2383] = (new short[] {
-			125, 247, 244
-		});
-		HZPY[2384] = (new short[] {
-			416
-		});
-		HZPY[2385] = (new short[] {
-			152
-		});
-		HZPY[2386] = (new short[] {
-			13
-		});
-		HZPY[2387] = (new short[] {
-			357
-		});
-		HZPY[2388] = (new short[] {
-			63
-		});
-		HZPY[2389] = (new short[] {
-			138
-		});
-		HZPY[2390] = (new short[] {
-			131
-		});
-		HZPY[2391] = (new short[] {
-			157
-		});
-		HZPY[2392] = (new short[] {
-			63
-		});
-		HZPY[2393] = (new short[] {
-			138
-		});
-		HZPY[2394] = (new short[] {
-			133
-		});
-		HZPY[2395] = (new short[] {
-			323
-		});
-		HZPY[2396] = (new short[] {
-			171
-		});
-		HZPY[2397] = (new short[] {
-			5
-		});
-		HZPY[2398] = (new short[] {
-			349
-		});
-		HZPY[2399] = (new short[] {
-			87
-		});
-		HZPY[2400] = (new short[] {
-			406
-		});
-		HZPY[2401] = (new short[] {
-			253
-		});
-		HZPY[2402] = (new short[] {
-			241
-		});
-		HZPY[2403] = (new short[] {
-			324
-		});
-		HZPY[2404] = (new short[] {
-			161
-		});
-		HZPY[2405] = (new short[] {
-			266
-		});
-		HZPY[2406] = (new short[] {
-			323
-		});
-		HZPY[2407] = (new short[] {
-			398
-		});
-		HZPY[2408] = (new short[] {
-			340
-		});
-		HZPY[2409] = (new short[] {
-			94
-		});
-		HZPY[2410] = (new short[] {
-			252
-		});
-		HZPY[2411] = (new short[] {
-			65
-		});
-		HZPY[2412] = (new short[] {
-			341
-		});
-		HZPY[2413] = (new short[] {
-			221
-		});
-		HZPY[2414] = (new short[] {
-			322
-		});
-		HZPY[2415] = (new short[] {
-			247
-		});
-		HZPY[2416] = (new short[] {
-			139
-		});
-		HZPY[2417] = (new short[] {
-			366
-		});
-		HZPY[2418] = (new short[] {
-			89
-		});
-		HZPY[2419] = (new short[] {
-			4
-		});
-		HZPY[2420] = (new short[] {
-			179
-		});
-		HZPY[2421] = (new short[] {
-			265
-		});
-		HZPY[2422] = (new short[] {
-			209
-		});
-		HZPY[2423] = (new short[] {
-			150
-		});
-		HZPY[2424] = (new short[] {
-			102
-		});
-		HZPY[2425] = (new short[] {
-			362
-		});
-		HZPY[2426] = (new short[] {
-			5
-		});
-		HZPY[2427] = (new short[] {
-			37, 63
-		});
-		HZPY[2428] = (new short[] {
-			34
-		});
-		HZPY[2429] = (new short[] {
-			178
-		});
-		HZPY[2430] = (new short[] {
-			401
-		});
-		HZPY[2431] = (new short[] {
-			91
-		});
-		HZPY[2432] = (new short[] {
-			123
-		});
-		HZPY[2433] = (new short[] {
-			398
-		});
-		HZPY[2434] = (new short[] {
-			44
-		});
-		HZPY[2435] = (new short[] {
-			163
-		});
-		HZPY[2436] = (new short[] {
-			181
-		});
-		HZPY[2437] = (new short[] {
-			181
-		});
-		HZPY[2438] = (new short[] {
-			183
-		});
-		HZPY[2439] = (new short[] {
-			4
-		});
-		HZPY[2440] = (new short[] {
-			229
-		});
-		HZPY[2441] = (new short[] {
-			243
-		});
-		HZPY[2442] = (new short[] {
-			229
-		});
-		HZPY[2443] = (new short[] {
-			357
-		});
-		HZPY[2444] = (new short[] {
-			334, 70
-		});
-		HZPY[2445] = (new short[] {
-			131
-		});
-		HZPY[2446] = (new short[] {
-			150
-		});
-		HZPY[2447] = (new short[] {
-			183
-		});
-		HZPY[2448] = (new short[] {
-			47
-		});
-		HZPY[2449] = (new short[] {
-			37
-		});
-		HZPY[2450] = (new short[] {
-			169
-		});
-		HZPY[2451] = (new short[] {
-			93
-		});
-		HZPY[2452] = (new short[] {
-			371
-		});
-		HZPY[2453] = (new short[] {
-			122
-		});
-		HZPY[2454] = (new short[] {
-			74
-		});
-		HZPY[2455] = (new short[] {
-			393
-		});
-		HZPY[2456] = (new short[] {
-			91
-		});
-		HZPY[2457] = (new short[] {
-			107
-		});
-		HZPY[2458] = (new short[] {
-			367
-		});
-		HZPY[2459] = (new short[] {
-			76
-		});
-		HZPY[2460] = (new short[] {
-			76
-		});
-		HZPY[2461] = (new short[] {
-			108
-		});
-		HZPY[2462] = (new short[] {
-			29
-		});
-		HZPY[2463] = (new short[] {
-			366
-		});
-		HZPY[2464] = (new short[] {
-			371
-		});
-		HZPY[2465] = (new short[] {
-			83
-		});
-		HZPY[2466] = (new short[] {
-			102
-		});
-		HZPY[2467] = (new short[] {
-			377
-		});
-		HZPY[2468] = (new short[] {
-			67
-		});
-		HZPY[2469] = (new short[] {
-			355
-		});
-		HZPY[2470] = (new short[] {
-			151
-		});
-		HZPY[2471] = (new short[] {
-			297
-		});
-		HZPY[2472] = (new short[] {
-			304
-		});
-		HZPY[2473] = (new short[] {
-			77
-		});
-		HZPY[2474] = (new short[] {
-			229
-		});
-		HZPY[2475] = (new short[] {
-			65
-		});
-		HZPY[2476] = (new short[] {
-			121
-		});
-		HZPY[2477] = (new short[] {
-			364
-		});
-		HZPY[2478] = (new short[] {
-			156
-		});
-		HZPY[2479] = (new short[] {
-			55
-		});
-		HZPY[2480] = (new short[] {
-			229
-		});
-		HZPY[2481] = (new short[] {
-			58
-		});
-		HZPY[2482] = (new short[] {
-			146
-		});
-		HZPY[2483] = (new short[] {
-			229
-		});
-		HZPY[2484] = (new short[] {
-			215
-		});
-		HZPY[2485] = (new short[] {
-			2
-		});
-		HZPY[2486] = (new short[] {
-			357
-		});
-		HZPY[2487] = (new short[] {
-			352
-		});
-		HZPY[2488] = (new short[] {
-			126, 377
-		});
-		HZPY[2489] = (new short[] {
-			8
-		});
-		HZPY[2490] = (new short[] {
-			244
-		});
-		HZPY[2491] = (new short[] {
-			5
-		});
-		HZPY[2492] = (new short[] {
-			369
-		});
-		HZPY[2493] = (new short[] {
-			371
-		});
-		HZPY[2494] = (new short[] {
-			113
-		});
-		HZPY[2495] = (new short[] {
-			360
-		});
-		HZPY[2496] = (new short[] {
-			44
-		});
-		HZPY[2497] = (new short[] {
-			27
-		});
-		HZPY[2498] = (new short[] {
-			100
-		});
-		HZPY[2499] = (new short[] {
-			1
-		});
-		HZPY[2500] = (new short[] {
-			246
-		});
-		HZPY[2501] = (new short[] {
-			85
-		});
-		HZPY[2502] = (new short[] {
-			268
-		});
-		HZPY[2503] = (new short[] {
-			374
-		});
-		HZPY[2504] = (new short[] {
-			144
-		});
-		HZPY[2505] = (new short[] {
-			132
-		});
-		HZPY[2506] = (new short[] {
-			63
-		});
-		HZPY[2507] = (new short[] {
-			192, 193
-		});
-		HZPY[2508] = (new short[] {
-			166
-		});
-		HZPY[2509] = (new short[] {
-			361
-		});
-		HZPY[2510] = (new short[] {
-			36
-		});
-		HZPY[2511] = (new short[] {
-			296
-		});
-		HZPY[2512] = (new short[] {
-			137
-		});
-		HZPY[2513] = (new short[] {
-			394
-		});
-		HZPY[2514] = (new short[] {
-			176, 168
-		});
-		HZPY[2515] = (new short[] {
-			176
-		});
-		HZPY[2516] = (new short[] {
-			255, 20
-		});
-		HZPY[2517] = (new short[] {
-			36
-		});
-		HZPY[2518] = (new short[] {
-			229
-		});
-		HZPY[2519] = (new short[] {
-			20
-		});
-		HZPY[2520] = (new short[] {
-			303
-		});
-		HZPY[2521] = (new short[] {
-			363
-		});
-		HZPY[2522] = (new short[] {
-			110
-		});
-		HZPY[2523] = (new short[] {
-			139
-		});
-		HZPY[2524] = (new short[] {
-			368
-		});
-		HZPY[2525] = (new short[] {
-			222
-		});
-		HZPY[2526] = (new short[] {
-			63
-		});
-		HZPY[2527] = (new short[] {
-			376
-		});
-		HZPY[2528] = (new short[] {
-			20
-		});
-		HZPY[2529] = (new short[] {
-			349, 364
-		});
-		HZPY[2530] = (new short[] {
-			142
-		});
-		HZPY[2531] = (new short[] {
-			318
-		});
-		HZPY[2532] = (new short[] {
-			247, 10, 13
-		});
-		HZPY[2533] = (new short[] {
-			36
-		});
-		HZPY[2534] = (new short[] {
-			343
-		});
-		HZPY[2535] = (new short[] {
-			141
-		});
-		HZPY[2536] = (new short[] {
-			188
-		});
-		HZPY[2537] = (new short[] {
-			397
-		});
-		HZPY[2538] = (new short[] {
-			153
-		});
-		HZPY[2539] = (new short[] {
-			399
-		});
-		HZPY[2540] = (new short[] {
-			70
-		});
-		HZPY[2541] = (new short[] {
-			56
-		});
-		HZPY[2542] = (new short[] {
-			323
-		});
-		HZPY[2543] = (new short[] {
-			2
-		});
-		HZPY[2544] = (new short[] {
-			22
-		});
-		HZPY[2545] = (new short[] {
-			305
-		});
-		HZPY[2546] = (new short[] {
-			12
-		});
-		HZPY[2547] = (new short[] {
-			147
-		});
-		HZPY[2548] = (new short[] {
-			398
-		});
-		HZPY[2549] = (new short[] {
-			76
-		});
-		HZPY[2550] = (new short[] {
-			369
-		});
-		HZPY[2551] = (new short[] {
-			398
-		});
-		HZPY[2552] = (new short[] {
-			369
-		});
-		HZPY[2553] = (new short[] {
-			244
-		});
-		HZPY[2554] = (new short[] {
-			131
-		});
-		HZPY[2555] = (new short[] {
-			407
-		});
-		HZPY[2556] = (new short[] {
-			256
-		});
-		HZPY[2557] = (new short[] {
-			290
-		});
-		HZPY[2558] = (new short[] {
-			141
-		});
-		HZPY[2559] = (new short[] {
-			221
-		});
-		HZPY[2560] = (new short[] {
-			155, 143
-		});
-		HZPY[2561] = (new short[] {
-			150
-		});
-		HZPY[2562] = (new short[] {
-			324
-		});
-		HZPY[2563] = (new short[] {
-			161
-		});
-		HZPY[2564] = (new short[] {
-			221
-		});
-		HZPY[2565] = (new short[] {
-			133
-		});
-		HZPY[2566] = (new short[] {
-			74, 414
-		});
-		HZPY[2567] = (new short[] {
-			137
-		});
-		HZPY[2568] = (new short[] {
-			95
-		});
-		HZPY[2569] = (new short[] {
-			376
-		});
-		HZPY[2570] = (new short[] {
-			77, 349
-		});
-		HZPY[2571] = (new short[] {
-			246, 12
-		});
-		HZPY[2572] = (new short[] {
-			103
-		});
-		HZPY[2573] = (new short[] {
-			336
-		});
-		HZPY[2574] = (new short[] {
-			170, 178
-		});
-		HZPY[2575] = (new short[] {
-			229
-		});
-		HZPY[2576] = (new short[] {
-			364
-		});
-		HZPY[2577] = (new short[] {
-			258
-		});
-		HZPY[2578] = (new short[] {
-			229
-		});
-		HZPY[2579] = (new short[] {
-			2
-		});
-		HZPY[2580] = (new short[] {
-			35
-		});
-		HZPY[2581] = (new short[] {
-			76, 128
-		});
-		HZPY[2582] = (new short[] {
-			215
-		});
-		HZPY[2583] = (new short[] {
-			336
-		});
-		HZPY[2584] = (new short[] {
-			36
-		});
-		HZPY[2585] = (new short[] {
-			371
-		});
-		HZPY[2586] = (new short[] {
-			129
-		});
-		HZPY[2587] = (new short[] {
-			13
-		});
-		HZPY[2588] = (new short[] {
-			173
-		});
-		HZPY[2589] = (new short[] {
-			110
-		});
-		HZPY[2590] = (new short[] {
-			67
-		});
-		HZPY[2591] = (new short[] {
-			404
-		});
-		HZPY[2592] = (new short[] {
-			122
-		});
-		HZPY[2593] = (new short[] {
-			9, 20, 255
-		});
-		HZPY[2594] = (new short[] {
-			9
-		});
-		HZPY[2595] = (new short[] {
-			376
-		});
-		HZPY[2596] = (new short[] {
-			63, 329
-		});
-		HZPY[2597] = (new short[] {
-			195
-		});
-		HZPY[2598] = (new short[] {
-			136
-		});
-		HZPY[2599] = (new short[] {
-			282
-		});
-		HZPY[2600] = (new short[] {
-			77, 1
-		});
-		HZPY[2601] = (new short[] {
-			100
-		});
-		HZPY[2602] = (new short[] {
-			147
-		});
-		HZPY[2603] = (new short[] {
-			410
-		});
-		HZPY[2604] = (new short[] {
-			376
-		});
-		HZPY[2605] = (new short[] {
-			127
-		});
-		HZPY[2606] = (new short[] {
-			77
-		});
-		HZPY[2607] = (new short[] {
-			367
-		});
-		HZPY[2608] = (new short[] {
-			365
-		});
-		HZPY[2609] = (new short[] {
-			9
-		});
-		HZPY[2610] = (new short[] {
-			131
-		});
-		HZPY[2611] = (new short[] {
-			197
-		});
-		HZPY[2612] = (new short[] {
-			32
-		});
-		HZPY[2613] = (new short[] {
-			72
-		});
-		HZPY[2614] = (new short[] {
-			340
-		});
-		HZPY[2615] = (new short[] {
-			2
-		});
-		HZPY[2616] = (new short[] {
-			88
-		});
-		HZPY[2617] = (new short[] {
-			399
-		});
-		HZPY[2618] = (new short[] {
-			136
-		});
-		HZPY[2619] = (new short[] {
-			396
-		});
-		HZPY[2620] = (new short[] {
-			119
-		});
-		HZPY[2621] = (new short[] {
-			95
-		});
-		HZPY[2622] = (new short[] {
-			42
-		});
-		HZPY[2623] = (new short[] {
-			133
-		});
-		HZPY[2624] = (new short[] {
-			229
-		});
-		HZPY[2625] = (new short[] {
-			169
-		});
-		HZPY[2626] = (new short[] {
-			95
-		});
-		HZPY[2627] = (new short[] {
-			127
-		});
-		HZPY[2628] = (new short[] {
-			170
-		});
-		HZPY[2629] = (new short[] {
-			73
-		});
-		HZPY[2630] = (new short[] {
-			343
-		});
-		HZPY[2631] = (new short[] {
-			361
-		});
-		HZPY[2632] = (new short[] {
-			131
-		});
-		HZPY[2633] = (new short[] {
-			131
-		});
-		HZPY[2634] = (new short[] {
-			157
-		});
-		HZPY[2635] = (new short[] {
-			372
-		});
-		HZPY[2636] = (new short[] {
-			321
-		});
-		HZPY[2637] = (new short[] {
-			36
-		});
-		HZPY[2638] = (new short[] {
-			374
-		});
-		HZPY[2639] = (new short[] {
-			146
-		});
-		HZPY[2640] = (new short[] {
-			316
-		});
-		HZPY[2641] = (new short[] {
-			316
-		});
-		HZPY[2642] = (new short[] {
-			303
-		});
-		HZPY[2643] = (new short[] {
-			200
-		});
-		HZPY[2644] = (new short[] {
-			321, 55
-		});
-		HZPY[2645] = (new short[] {
-			347
-		});
-		HZPY[2646] = (new short[] {
-			36
-		});
-		HZPY[2647] = (new short[] {
-			336
-		});
-		HZPY[2648] = (new short[] {
-			324
-		});
-		HZPY[2649] = (new short[] {
-			260
-		});
-		HZPY[2650] = (new short[] {
-			399
-		});
-		HZPY[2651] = (new short[] {
-			171
-		});
-		HZPY[2652] = (new short[] {
-			246
-		});
-		HZPY[2653] = (new short[] {
-			8
-		});
-		HZPY[2654] = (new short[] {
-			287, 291
-		});
-		HZPY[2655] = (new short[] {
-			383
-		});
-		HZPY[2656] = (new short[] {
-			74
-		});
-		HZPY[2657] = (new short[] {
-			330
-		});
-		HZPY[2658] = (new short[] {
-			349
-		});
-		HZPY[2659] = (new short[] {
-			36
-		});
-		HZPY[2660] = (new short[] {
-			363, 361
-		});
-		HZPY[2661] = (new short[] {
-			97
-		});
-		HZPY[2662] = (new short[] {
-			396
-		});
-		HZPY[2663] = (new short[] {
-			1
-		});
-		HZPY[2664] = (new short[] {
-			101
-		});
-		HZPY[2665] = (new short[] {
-			365
-		});
-		HZPY[2666] = (new short[] {
-			147
-		});
-		HZPY[2667] = (new short[] {
-			330
-		});
-		HZPY[2668] = (new short[] {
-			377
-		});
-		HZPY[2669] = (new short[] {
-			346
-		});
-		HZPY[2670] = (new short[] {
-			355
-		});
-		HZPY[2671] = (new short[] {
-			179
-		});
-		HZPY[2672] = (new short[] {
-			229
-		});
-		HZPY[2673] = (new short[] {
-			166
-		});
-		HZPY[2674] = (new short[] {
-			32
-		});
-		HZPY[2675] = (new short[] {
-			246
-		});
-		HZPY[2676] = (new short[] {
-			12
-		});
-		HZPY[2677] = (new short[] {
-			35
-		});
-		HZPY[2678] = (new short[] {
-			183
-		});
-		HZPY[2679] = (new short[] {
-			183
-		});
-		HZPY[2680] = (new short[] {
-			238
-		});
-		HZPY[2681] = (new short[] {
-			258
-		});
-		HZPY[2682] = (new short[] {
-			197
-		});
-		HZPY[2683] = (new short[] {
-			207
-		});
-		HZPY[2684] = (new short[] {
-			404
-		});
-		HZPY[2685] = (new short[] {
-			309
-		});
-		HZPY[2686] = (new short[] {
-			305
-		});
-		HZPY[2687] = (new short[] {
-			182
-		});
-		HZPY[2688] = (new short[] {
-			37
-		});
-		HZPY[2689] = (new short[] {
-			193
-		});
-		HZPY[2690] = (new short[] {
-			15
-		});
-		HZPY[2691] = (new short[] {
-			138
-		});
-		HZPY[2692] = (new short[] {
-			26
-		});
-		HZPY[2693] = (new short[] {
-			305
-		});
-		HZPY[2694] = (new short[] {
-			63
-		});
-		HZPY[2695] = (new short[] {
-			392
-		});
-		HZPY[2696] = (new short[] {
-			147
-		});
-		HZPY[2697] = (new short[] {
-			374
-		});
-		HZPY[2698] = (new short[] {
-			65
-		});
-		HZPY[2699] = (new short[] {
-			35
-		});
-		HZPY[2700] = (new short[] {
-			398
-		});
-		HZPY[2701] = (new short[] {
-			131
-		});
-		HZPY[2702] = (new short[] {
-			110
-		});
-		HZPY[2703] = (new short[] {
-			259
-		});
-		HZPY[2704] = (new short[] {
-			137
-		});
-		HZPY[2705] = (new short[] {
-			63
-		});
-		HZPY[2706] = (new short[] {
-			297
-		});
-		HZPY[2707] = (new short[] {
-			209
-		});
-		HZPY[2708] = (new short[] {
-			52
-		});
-		HZPY[2709] = (new short[] {
-			365
-		});
-		HZPY[2710] = (new short[] {
-			321, 55
-		});
-		HZPY[2711] = (new short[] {
-			388
-		});
-		HZPY[2712] = (new short[] {
-			256
-		});
-		HZPY[2713] = (new short[] {
-			259
-		});
-		HZPY[2714] = (new short[] {
-			174
-		});
-		HZPY[2715] = (new short[] {
-			229
-		});
-		HZPY[2716] = (new short[] {
-			406
-		});
-		HZPY[2717] = (new short[] {
-			260
-		});
-		HZPY[2718] = (new short[] {
-			388
-		});
-		HZPY[2719] = (new short[] {
-			360
-		});
-		HZPY[2720] = (new short[] {
-			296
-		});
-		HZPY[2721] = (new short[] {
-			296
-		});
-		HZPY[2722] = (new short[] {
-			5
-		});
-		HZPY[2723] = (new short[] {
-			255
-		});
-		HZPY[2724] = (new short[] {
-			157
-		});
-		HZPY[2725] = (new short[] {
-			70
-		});
-		HZPY[2726] = (new short[] {
-			84
-		});
-		HZPY[2727] = (new short[] {
-			268
-		});
-		HZPY[2728] = (new short[] {
-			207
-		});
-		HZPY[2729] = (new short[] {
-			75
-		});
-		HZPY[2730] = (new short[] {
-			75
-		});
-		HZPY[2731] = (new short[] {
-			415
-		});
-		HZPY[2732] = (new short[] {
-			414
-		});
-		HZPY[2733] = (new short[] {
-			302
-		});
-		HZPY[2734] = (new short[] {
-			76, 128
-		});
-		HZPY[2735] = (new short[] {
-			76
-		});
-		HZPY[2736] = (new short[] {
-			323
-		});
-		HZPY[2737] = (new short[] {
-			62, 365
-		});
-		HZPY[2738] = (new short[] {
-			209
-		});
-		HZPY[2739] = (new short[] {
-			87
-		});
-		HZPY[2740] = (new short[] {
-			127
-		});
-		HZPY[2741] = (new short[] {
-			323
-		});
-		HZPY[2742] = (new short[] {
-			55
-		});
-		HZPY[2743] = (new short[] {
-			368
-		});
-		HZPY[2744] = (new short[] {
-			40
-		});
-		HZPY[2745] = (new short[] {
-			229
-		});
-		HZPY[2746] = (new short[] {
-			4
-		});
-		HZPY[2747] = (new short[] {
-			259
-		});
-		HZPY[2748] = (new short[] {
-			131
-		});
-		HZPY[2749] = (new short[] {
-			260
-		});
-		HZPY[2750] = (new short[] {
-			151
-		});
-		HZPY[2751] = (new short[] {
-			369
-		});
-		HZPY[2752] = (new short[] {
-			247
-		});
-		HZPY[2753] = (new short[] {
-			13
-		});
-		HZPY[2754] = (new short[] {
-			65
-		});
-		HZPY[2755] = (new short[] {
-			134
-		});
-		HZPY[2756] = (new short[] {
-			368
-		});
-		HZPY[2757] = (new short[] {
-			374
-		});
-		HZPY[2758] = (new short[] {
-			362
-		});
-		HZPY[2759] = (new short[] {
-			323
-		});
-		HZPY[2760] = (new short[] {
-			165
-		});
-		HZPY[2761] = (new short[] {
-			141
-		});
-		HZPY[2762] = (new short[] {
-			125, 247
-		});
-		HZPY[2763] = (new short[] {
-			58
-		});
-		HZPY[2764] = (new short[] {
-			273
-		});
-		HZPY[2765] = (new short[] {
-			258
-		});
-		HZPY[2766] = (new short[] {
-			361
-		});
-		HZPY[2767] = (new short[] {
-			165
-		});
-		HZPY[2768] = (new short[] {
-			200
-		});
-		HZPY[2769] = (new short[] {
-			116, 130
-		});
-		HZPY[2770] = (new short[] {
-			146
-		});
-		HZPY[2771] = (new short[] {
-			364
-		});
-		HZPY[2772] = (new short[] {
-			59
-		});
-		HZPY[2773] = (new short[] {
-			115
-		});
-		HZPY[2774] = (new short[] {
-			282
-		});
-		HZPY[2775] = (new short[] {
-			229
-		});
-		HZPY[2776] = (new short[] {
-			169
-		});
-		HZPY[2777] = (new short[] {
-			159
-		});
-		HZPY[2778] = (new short[] {
-			183
-		});
-		HZPY[2779] = (new short[] {
-			365
-		});
-		HZPY[2780] = (new short[] {
-			323
-		});
-		HZPY[2781] = (new short[] {
-			345
-		});
-		HZPY[2782] = (new short[] {
-			125, 247
-		});
-		HZPY[2783] = (new short[] {
-			181
-		});
-		HZPY[2784] = (new short[] {
-			181
-		});
-		HZPY[2785] = (new short[] {
-			283
-		});
-		HZPY[2786] = (new short[] {
-			171
-		});
-		HZPY[2787] = (new short[] {
-			177
-		});
-		HZPY[2788] = (new short[] {
-			273
-		});
-		HZPY[2789] = (new short[] {
-			31
-		});
-		HZPY[2790] = (new short[] {
-			363
-		});
-		HZPY[2791] = (new short[] {
-			365
-		});
-		HZPY[2792] = (new short[] {
-			169
-		});
-		HZPY[2793] = (new short[] {
-			5
-		});
-		HZPY[2794] = (new short[] {
-			229
-		});
-		HZPY[2795] = (new short[] {
-			303
-		});
-		HZPY[2796] = (new short[] {
-			276
-		});
-		HZPY[2797] = (new short[] {
-			229
-		});
-		HZPY[2798] = (new short[] {
-			405
-		});
-		HZPY[2799] = (new short[] {
-			405
-		});
-		HZPY[2800] = (new short[] {
-			302
-		});
-		HZPY[2801] = (new short[] {
-			369
-		});
-		HZPY[2802] = (new short[] {
-			192
-		});
-		HZPY[2803] = (new short[] {
-			260, 150
-		});
-		HZPY[2804] = (new short[] {
-			401
-		});
-		HZPY[2805] = (new short[] {
-			405
-		});
-		HZPY[2806] = (new short[] {
-			123
-		});
-		HZPY[2807] = (new short[] {
-			123
-		});
-		HZPY[2808] = (new short[] {
-			161
-		});
-		HZPY[2809] = (new short[] {
-			369
-		});
-		HZPY[2810] = (new short[] {
-			123
-		});
-		HZPY[2811] = (new short[] {
-			360
-		});
-		HZPY[2812] = (new short[] {
-			161
-		});
-		HZPY[2813] = (new short[] {
-			304
-		});
-		HZPY[2814] = (new short[] {
-			194
-		});
-		HZPY[2815] = (new short[] {
-			415
-		});
-		HZPY[2816] = (new short[] {
-			304
-		});
-		HZPY[2817] = (new short[] {
-			369
-		});
-		HZPY[2818] = (new short[] {
-			398
-		});
-		HZPY[2819] = (new short[] {
-			103
-		});
-		HZPY[2820] = (new short[] {
-			40
-		});
-		HZPY[2821] = (new short[] {
-			353
-		});
-		HZPY[2822] = (new short[] {
-			88
-		});
-		HZPY[2823] = (new short[] {
-			10
-		});
-		HZPY[2824] = (new short[] {
-			229
-		});
-		HZPY[2825] = (new short[] {
-			14
-		});
-		HZPY[2826] = (new short[] {
-			318
-		});
-		HZPY[2827] = (new short[] {
-			270
-		});
-		HZPY[2828] = (new short[] {
-			178
-		});
-		HZPY[2829] = (new short[] {
-			91
-		});
-		HZPY[2830] = (new short[] {
-			416
-		});
-		HZPY[2831] = (new short[] {
-			351, 132
-		});
-		HZPY[2832] = (new short[] {
-			358
-		});
-		HZPY[2833] = (new short[] {
-			229
-		});
-		HZPY[2834] = (new short[] {
-			215
-		});
-		HZPY[2835] = (new short[] {
-			351
-		});
-		HZPY[2836] = (new short[] {
-			160
-		});
-		HZPY[2837] = (new short[] {
-			350
-		});
-		HZPY[2838] = (new short[] {
-			342
-		});
-		HZPY[2839] = (new short[] {
-			377
-		});
-		HZPY[2840] = (new short[] {
-			195
-		});
-		HZPY[2841] = (new short[] {
-			316
-		});
-		HZPY[2842] = (new short[] {
-			76
-		});
-		HZPY[2843] = (new short[] {
-			76
-		});
-		HZPY[2844] = (new short[] {
-			368
-		});
-		HZPY[2845] = (new short[] {
-			263
-		});
-		HZPY[2846] = (new short[] {
-			229
-		});
-		HZPY[2847] = (new short[] {
-			102
-		});
-		HZPY[2848] = (new short[] {
-			102
-		});
-		HZPY[2849] = (new short[] {
-			256
-		});
-		HZPY[2850] = (new short[] {
-			199
-		});
-		HZPY[2851] = (new short[] {
-			199
-		});
-		HZPY[2852] = (new short[] {
-			371
-		});
-		HZPY[2853] = (new short[] {
-			130
-		});
-		HZPY[2854] = (new short[] {
-			35
-		});
-		HZPY[2855] = (new short[] {
-			55, 56
-		});
-		HZPY[2856] = (new short[] {
-			385
-		});
-		HZPY[2857] = (new short[] {
-			330
-		});
-		HZPY[2858] = (new short[] {
-			322
-		});
-		HZPY[2859] = (new short[] {
-			91
-		});
-		HZPY[2860] = (new short[] {
-			105
-		});
-		HZPY[2861] = (new short[] {
-			367
-		});
-		HZPY[2862] = (new short[] {
-			366
-		});
-		HZPY[2863] = (new short[] {
-			114, 11
-		});
-		HZPY[2864] = (new short[] {
-			96
-		});
-		HZPY[2865] = (new short[] {
-			303
-		});
-		HZPY[2866] = (new short[] {
-			11, 325
-		});
-		HZPY[2867] = (new short[] {
-			322
-		});
-		HZPY[2868] = (new short[] {
-			335
-		});
-		HZPY[2869] = (new short[] {
-			365
-		});
-		HZPY[2870] = (new short[] {
-			13
-		});
-		HZPY[2871] = (new short[] {
-			369
-		});
-		HZPY[2872] = (new short[] {
-			156
-		});
-		HZPY[2873] = (new short[] {
-			132, 92
-		});
-		HZPY[2874] = (new short[] {
-			76
-		});
-		HZPY[2875] = (new short[] {
-			229
-		});
-		HZPY[2876] = (new short[] {
-			159
-		});
-		HZPY[2877] = (new short[] {
-			379
-		});
-		HZPY[2878] = (new short[] {
-			132
-		});
-		HZPY[2879] = (new short[] {
-			5
-		});
-		HZPY[2880] = (new short[] {
-			80, 194
-		});
-		HZPY[2881] = (new short[] {
-			173
-		});
-		HZPY[2882] = (new short[] {
-			126
-		});
-		HZPY[2883] = (new short[] {
-			63
-		});
-		HZPY[2884] = (new short[] {
-			365
-		});
-		HZPY[2885] = (new short[] {
-			243
-		});
-		HZPY[2886] = (new short[] {
-			142
-		});
-		HZPY[2887] = (new short[] {
-			256, 131
-		});
-		HZPY[2888] = (new short[] {
-			212
-		});
-		HZPY[2889] = (new short[] {
-			88
-		});
-		HZPY[2890] = (new short[] {
-			355
-		});
-		HZPY[2891] = (new short[] {
-			87
-		});
-		HZPY[2892] = (new short[] {
-			65
-		});
-		HZPY[2893] = (new short[] {
-			229
-		});
-		HZPY[2894] = (new short[] {
-			160
-		});
-		HZPY[2895] = (new short[] {
-			411
-		});
-		HZPY[2896] = (new short[] {
-			126
-		});
-		HZPY[2897] = (new short[] {
-			256, 355, 261
-		});
-		HZPY[2898] = (new short[] {
-			146
-		});
-		HZPY[2899] = (new short[] {
-			299
-		});
-		HZPY[2900] = (new short[] {
-			11
-		});
-		HZPY[2901] = (new short[] {
-			369
-		});
-		HZPY[2902] = (new short[] {
-			134
-		});
-		HZPY[2903] = (new short[] {
-			325
-		});
-		HZPY[2904] = (new short[] {
-			405, 383
-		});
-		HZPY[2905] = (new short[] {
-			11
-		});
-		HZPY[2906] = (new short[] {
-			350
-		});
-		HZPY[2907] = (new short[] {
-			127
-		});
-		HZPY[2908] = (new short[] {
-			86
-		});
-		HZPY[2909] = (new short[] {
-			66
-		});
-		HZPY[2910] = (new short[] {
-			318
-		});
-		HZPY[2911] = (new short[] {
-			12
-		});
-		HZPY[2912] = (new short[] {
-			65
-		});
-		HZPY[2913] = (new short[] {
-			4
-		});
-		HZPY[2914] = (new short[] {
-			299
-		});
-		HZPY[2915] = (new short[] {
-			347
-		});
-		HZPY[2916] = (new short[] {
-			241
-		});
-		HZPY[2917] = (new short[] {
-			4
-		});
-		HZPY[2918] = (new short[] {
-			349
-		});
-		HZPY[2919] = (new short[] {
-			4
-		});
-		HZPY[2920] = (new short[] {
-			134
-		});
-		HZPY[2921] = (new short[] {
-			173
-		});
-		HZPY[2922] = (new short[] {
-			76
-		});
-		HZPY[2923] = (new short[] {
-			379
-		});
-		HZPY[2924] = (new short[] {
-			134
-		});
-		HZPY[2925] = (new short[] {
-			303
-		});
-		HZPY[2926] = (new short[] {
-			87
-		});
-		HZPY[2927] = (new short[] {
-			130
-		});
-		HZPY[2928] = (new short[] {
-			10
-		});
-		HZPY[2929] = (new short[] {
-			173
-		});
-		HZPY[2930] = (new short[] {
-			34
-		});
-		HZPY[2931] = (new short[] {
-			233, 281
-		});
-		HZPY[2932] = (new short[] {
-			232
-		});
-		HZPY[2933] = (new short[] {
-			68
-		});
-		HZPY[2934] = (new short[] {
-			212
-		});
-		HZPY[2935] = (new short[] {
-			258
-		});
-		HZPY[2936] = (new short[] {
-			133
-		});
-		HZPY[2937] = (new short[] {
-			321
-		});
-		HZPY[2938] = (new short[] {
-			140
-		});
-		HZPY[2939] = (new short[] {
-			213
-		});
-		HZPY[2940] = (new short[] {
-			29
-		});
-		HZPY[2941] = (new short[] {
-			115
-		});
-		HZPY[2942] = (new short[] {
-			352
-		});
-		HZPY[2943] = (new short[] {
-			84
-		});
-		HZPY[2944] = (new short[] {
-			131
-		});
-		HZPY[2945] = (new short[] {
-			312
-		});
-		HZPY[2946] = (new short[] {
-			281
-		});
-		HZPY[2947] = (new short[] {
-			86
-		});
-		HZPY[2948] = (new short[] {
-			344
-		});
-		HZPY[2949] = (new short[] {
-			121
-		});
-		HZPY[2950] = (new short[] {
-			405
-		});
-		HZPY[2951] = (new short[] {
-			91
-		});
-		HZPY[2952] = (new short[] {
-			191
-		});
-		HZPY[2953] = (new short[] {
-			57
-		});
-		HZPY[2954] = (new short[] {
-			276
-		});
-		HZPY[2955] = (new short[] {
-			91
-		});
-		HZPY[2956] = (new short[] {
-			138
-		});
-		HZPY[2957] = (new short[] {
-			365
-		});
-		HZPY[2958] = (new short[] {
-			355
-		});
-		HZPY[2959] = (new short[] {
-			346
-		});
-		HZPY[2960] = (new short[] {
-			399
-		});
-		HZPY[2961] = (new short[] {
-			239
-		});
-		HZPY[2962] = (new short[] {
-			72
-		});
-		HZPY[2963] = (new short[] {
-			131
-		});
-		HZPY[2964] = (new short[] {
-			152
-		});
-		HZPY[2965] = (new short[] {
-			399
-		});
-		HZPY[2966] = (new short[] {
-			367
-		});
-		HZPY[2967] = (new short[] {
-			137
-		});
-		HZPY[2968] = (new short[] {
-			379
-		});
-		HZPY[2969] = (new short[] {
-			202
-		});
-		HZPY[2970] = (new short[] {
-			244
-		});
-		HZPY[2971] = (new short[] {
-			37
-		});
-		HZPY[2972] = (new short[] {
-			378
-		});
-		HZPY[2973] = (new short[] {
-			405
-		});
-		HZPY[2974] = (new short[] {
-			228
-		});
-		HZPY[2975] = (new short[] {
-			365
-		});
-		HZPY[2976] = (new short[] {
-			211
-		});
-		HZPY[2977] = (new short[] {
-			356
-		});
-		HZPY[2978] = (new short[] {
-			87
-		});
-		HZPY[2979] = (new short[] {
-			13
-		});
-		HZPY[2980] = (new short[] {
-			376
-		});
-		HZPY[2981] = (new short[] {
-			340
-		});
-		HZPY[2982] = (new short[] {
-			88
-		});
-		HZPY[2983] = (new short[] {
-			377
-		});
-		HZPY[2984] = (new short[] {
-			85
-		});
-		HZPY[2985] = (new short[] {
-			349
-		});
-		HZPY[2986] = (new short[] {
-			376
-		});
-		HZPY[2987] = (new short[] {
-			108
-		});
-		HZPY[2988] = (new short[] {
-			72
-		});
-		HZPY[2989] = (new short[] {
-			5
-		});
-		HZPY[2990] = (new short[] {
-			221
-		});
-		HZPY[2991] = (new short[] {
-			400
-		});
-		HZPY[2992] = (new short[] {
-			400
-		});
-		HZPY[2993] = (new short[] {
-			393
-		});
-		HZPY[2994] = (new short[] {
-			55
-		});
-		HZPY[2995] = (new short[] {
-			212, 221
-		});
-		HZPY[2996] = (new short[] {
-			377
-		});
-		HZPY[2997] = (new short[] {
-			335
-		});
-		HZPY[2998] = (new short[] {
-			361
-		});
-		HZPY[2999] = (new short[] {
-			398
-		});
-		HZPY[3000] = (new short[] {
-			77
-		});
-		HZPY[3001] = (new short[] {
-			197
-		});
-		HZPY[3002] = (new short[] {
-			207
-		});
-		HZPY[3003] = (new short[] {
-			256
-		});
-		HZPY[3004] = (new short[] {
-			13
-		});
-		HZPY[3005] = (new short[] {
-			301
-		});
-		HZPY[3006] = (new short[] {
-			261
-		});
-		HZPY[3007] = (new short[] {
-			77
-		});
-		HZPY[3008] = (new short[] {
-			116
-		});
-		HZPY[3009] = (new short[] {
-			360
-		});
-		HZPY[3010] = (new short[] {
-			83
-		});
-		HZPY[3011] = (new short[] {
-			397
-		});
-		HZPY[3012] = (new short[] {
-			221
-		});
-		HZPY[3013] = (new short[] {
-			7
-		});
-		HZPY[3014] = (new short[] {
-			209
-		});
-		HZPY[3015] = (new short[] {
-			91
-		});
-		HZPY[3016] = (new short[] {
-			178
-		});
-		HZPY[3017] = (new short[] {
-			409
-		});
-		HZPY[3018] = (new short[] {
-			409
-		});
-		HZPY[3019] = (new short[] {
-			303
-		});
-		HZPY[3020] = (new short[] {
-			272
-		});
-		HZPY[3021] = (new short[] {
-			296
-		});
-		HZPY[3022] = (new short[] {
-			366
-		});
-		HZPY[3023] = (new short[] {
-			258
-		});
-		HZPY[3024] = (new short[] {
-			136
-		});
-		HZPY[3025] = (new short[] {
-			103
-		});
-		HZPY[3026] = (new short[] {
-			313
-		});
-		HZPY[3027] = (new short[] {
-			357
-		});
-		HZPY[3028] = (new short[] {
-			345
-		});
-		HZPY[3029] = (new short[] {
-			409
-		});
-		HZPY[3030] = (new short[] {
-			141
-		});
-		HZPY[3031] = (new short[] {
-			296
-		});
-		HZPY[3032] = (new short[] {
-			251
-		});
-		HZPY[3033] = (new short[] {
-			276
-		});
-		HZPY[3034] = (new short[] {
-			367
-		});
-		HZPY[3035] = (new short[] {
-			334
-		});
-		HZPY[3036] = (new short[] {
-			134
-		});
-		HZPY[3037] = (new short[] {
-			305
-		});
-		HZPY[3038] = (new short[] {
-			131
-		});
-		HZPY[3039] = (new short[] {
-			93
-		});
-		HZPY[3040] = (new short[] {
-			297
-		});
-		HZPY[3041] = (new short[] {
-			162
-		});
-		HZPY[3042] = (new short[] {
-			142
-		});
-		HZPY[3043] = (new short[] {
-			135
-		});
-		HZPY[3044] = (new short[] {
-			102
-		});
-		HZPY[3045] = (new short[] {
-			167, 209
-		});
-		HZPY[3046] = (new short[] {
-			133
-		});
-		HZPY[3047] = (new short[] {
-			133
-		});
-		HZPY[3048] = (new short[] {
-			369
-		});
-		HZPY[3049] = (new short[] {
-			222
-		});
-		HZPY[3050] = (new short[] {
-			398
-		});
-		HZPY[3051] = (new short[] {
-			131
-		});
-		HZPY[3052] = (new short[] {
-			131
-		});
-		HZPY[3053] = (new short[] {
-			352
-		});
-		HZPY[3054] = (new short[] {
-			119
-		});
-		HZPY[3055] = (new short[] {
-			107
-		});
-		HZPY[3056] = (new short[] {
-			144
-		});
-		HZPY[3057] = (new short[] {
-			156
-		});
-		HZPY[3058] = (new short[] {
-			365
-		});
-		HZPY[3059] = (new short[] {
-			205
-		});
-		HZPY[3060] = (new short[] {
-			176
-		});
-		HZPY[3061] = (new short[] {
-			244
-		});
-		HZPY[3062] = (new short[] {
-			365
-		});
-		HZPY[3063] = (new short[] {
-			375
-		});
-		HZPY[3064] = (new short[] {
-			365
-		});
-		HZPY[3065] = (new short[] {
-			29
-		});
-		HZPY[3066] = (new short[] {
-			352
-		});
-		HZPY[3067] = (new short[] {
-			371
-		});
-		HZPY[3068] = (new short[] {
-			37
-		});
-		HZPY[3069] = (new short[] {
-			108
-		});
-		HZPY[3070] = (new short[] {
-			267
-		});
-		HZPY[3071] = (new short[] {
-			409
-		});
-		HZPY[3072] = (new short[] {
-			314
-		});
-		HZPY[3073] = (new short[] {
-			345
-		});
-		HZPY[3074] = (new short[] {
-			121
-		});
-		HZPY[3075] = (new short[] {
-			341
-		});
-		HZPY[3076] = (new short[] {
-			182
-		});
-		HZPY[3077] = (new short[] {
-			364
-		});
-		HZPY[3078] = (new short[] {
-			274
-		});
-		HZPY[3079] = (new short[] {
-			135
-		});
-		HZPY[3080] = (new short[] {
-			186
-		});
-		HZPY[3081] = (new short[] {
-			252
-		});
-		HZPY[3082] = (new short[] {
-			352
-		});
-		HZPY[3083] = (new short[] {
-			298
-		});
-		HZPY[3084] = (new short[] {
-			171
-		});
-		HZPY[3085] = (new short[] {
-			36
-		});
-		HZPY[3086] = (new short[] {
-			355
-		});
-		HZPY[3087] = (new short[] {
-			194
-		});
-		HZPY[3088] = (new short[] {
-			229
-		});
-		HZPY[3089] = (new short[] {
-			320
-		});
-		HZPY[3090] = (new short[] {
-			209
-		});
-		HZPY[3091] = (new short[] {
-			345
-		});
-		HZPY[3092] = (new short[] {
-			150
-		});
-		HZPY[3093] = (new short[] {
-			164
-		});
-		HZPY[3094] = (new short[] {
-			46
-		});
-		HZPY[3095] = (new short[] {
-			68
-		});
-		HZPY[3096] = (new short[] {
-			223
-		});
-		HZPY[3097] = (new short[] {
-			152
-		});
-		HZPY[3098] = (new short[] {
-			213
-		});
-		HZPY[3099] = (new short[] {
-			376
-		});
-		HZPY[3100] = (new short[] {
-			211, 236
-		});
-		HZPY[3101] = (new short[] {
-			244
-		});
-		HZPY[3102] = (new short[] {
-			318
-		});
-		HZPY[3103] = (new short[] {
-			142
-		});
-		HZPY[3104] = (new short[] {
-			301, 35, 396
-		});
-		HZPY[3105] = (new short[] {
-			398
-		});
-		HZPY[3106] = (new short[] {
-			113
-		});
-		HZPY[3107] = (new short[] {
-			63
-		});
-		HZPY[3108] = (new short[] {
-			405
-		});
-		HZPY[3109] = (new short[] {
-			77
-		});
-		HZPY[3110] = (new short[] {
-			251
-		});
-		HZPY[3111] = (new short[] {
-			338
-		});
-		HZPY[3112] = (new short[] {
-			352
-		});
-		HZPY[3113] = (new short[] {
-			201, 343
-		});
-		HZPY[3114] = (new short[] {
-			349
-		});
-		HZPY[3115] = (new short[] {
-			365
-		});
-		HZPY[3116] = (new short[] {
-			349
-		});
-		HZPY[3117] = (new short[] {
-			350
-		});
-		HZPY[3118] = (new short[] {
-			365
-		});
-		HZPY[3119] = (new short[] {
-			376
-		});
-		HZPY[3120] = (new short[] {
-			313
-		});
-		HZPY[3121] = (new short[] {
-			376
-		});
-		HZPY[3122] = (new short[] {
-			341
-		});
-		HZPY[3123] = (new short[] {
-			171
-		});
-		HZPY[3124] = (new short[] {
-			352
-		});
-		HZPY[3125] = (new short[] {
-			141
-		});
-		HZPY[3126] = (new short[] {
-			266
-		});
-		HZPY[3127] = (new short[] {
-			44
-		});
-		HZPY[3128] = (new short[] {
-			256
-		});
-		HZPY[3129] = (new short[] {
-			352
-		});
-		HZPY[3130] = (new short[] {
-			406
-		});
-		HZPY[3131] = (new short[] {
-			70
-		});
-		HZPY[3132] = (new short[] {
-			32
-		});
-		HZPY[3133] = (new short[] {
-			183
-		});
-		HZPY[3134] = (new short[] {
-			1
-		});
-		HZPY[3135] = (new short[] {
-			77
-		});
-		HZPY[3136] = (new short[] {
-			77
-		});
-		HZPY[3137] = (new short[] {
-			182, 184
-		});
-		HZPY[3138] = (new short[] {
-			201
-		});
-		HZPY[3139] = (new short[] {
-			48
-		});
-		HZPY[3140] = (new short[] {
-			254
-		});
-		HZPY[3141] = (new short[] {
-			141
-		});
-		HZPY[3142] = (new short[] {
-			253
-		});
-		HZPY[3143] = (new short[] {
-			22
-		});
-		HZPY[3144] = (new short[] {
-			178
-		});
-		HZPY[3145] = (new short[] {
-			343
-		});
-		HZPY[3146] = (new short[] {
-			15
-		});
-		HZPY[3147] = (new short[] {
-			354
-		});
-		HZPY[3148] = (new short[] {
-			305
-		});
-		HZPY[3149] = (new short[] {
-			256
-		});
-		HZPY[3150] = (new short[] {
-			128
-		});
-		HZPY[3151] = (new short[] {
-			91
-		});
-		HZPY[3152] = (new short[] {
-			348
-		});
-		HZPY[3153] = (new short[] {
-			283
-		});
-		HZPY[3154] = (new short[] {
-			323
-		});
-		HZPY[3155] = (new short[] {
-			86
-		});
-		HZPY[3156] = (new short[] {
-			229
-		});
-		HZPY[3157] = (new short[] {
-			136
-		});
-		HZPY[3158] = (new short[] {
-			330
-		});
-		HZPY[3159] = (new short[] {
-			221
-		});
-		HZPY[3160] = (new short[] {
-			267
-		});
-		HZPY[3161] = (new short[] {
-			138
-		});
-		HZPY[3162] = (new short[] {
-			129
-		});
-		HZPY[3163] = (new short[] {
-			138
-		});
-		HZPY[3164] = (new short[] {
-			258
-		});
-		HZPY[3165] = (new short[] {
-			65
-		});
-		HZPY[3166] = (new short[] {
-			357
-		});
-		HZPY[3167] = (new short[] {
-			123
-		});
-		HZPY[3168] = (new short[] {
-			343
-		});
-		HZPY[3169] = (new short[] {
-			164
-		});
-		HZPY[3170] = (new short[] {
-			13
-		});
-		HZPY[3171] = (new short[] {
-			371
-		});
-		HZPY[3172] = (new short[] {
-			39, 400
-		});
-		HZPY[3173] = (new short[] {
-			46
-		});
-		HZPY[3174] = (new short[] {
-			91
-		});
-		HZPY[3175] = (new short[] {
-			138
-		});
-		HZPY[3176] = (new short[] {
-			188
-		});
-		HZPY[3177] = (new short[] {
-			365, 2
-		});
-		HZPY[3178] = (new short[] {
-			165
-		});
-		HZPY[3179] = (new short[] {
-			161
-		});
-		HZPY[3180] = (new short[] {
-			371
-		});
-		HZPY[3181] = (new short[] {
-			364
-		});
-		HZPY[3182] = (new short[] {
-			229
-		});
-		HZPY[3183] = (new short[] {
-			171
-		});
-		HZPY[3184] = (new short[] {
-			65
-		});
-		HZPY[3185] = (new short[] {
-			352
-		});
-		HZPY[3186] = (new short[] {
-			229
-		});
-		HZPY[3187] = (new short[] {
-			124
-		});
-		HZPY[3188] = (new short[] {
-			372
-		});
-		HZPY[3189] = (new short[] {
-			31
-		});
-		HZPY[3190] = (new short[] {
-			301
-		});
-		HZPY[3191] = (new short[] {
-			333
-		});
-		HZPY[3192] = (new short[] {
-			366
-		});
-		HZPY[3193] = (new short[] {
-			367
-		});
-		HZPY[3194] = (new short[] {
-			349
-		});
-		HZPY[3195] = (new short[] {
-			213
-		});
-		HZPY[3196] = (new short[] {
-			46
-		});
-		HZPY[3197] = (new short[] {
-			132
-		});
-		HZPY[3198] = (new short[] {
-			335
-		});
-		HZPY[3199] = (new short[] {
-			360
-		});
-		HZPY[3200] = (new short[] {
-			376
-		});
-		HZPY[3201] = (new short[] {
-			345
-		});
-		HZPY[3202] = (new short[] {
-			329
-		});
-		HZPY[3203] = (new short[] {
-			280
-		});
-		HZPY[3204] = (new short[] {
-			197
-		});
-		HZPY[3205] = (new short[] {
-			57
-		});
-		HZPY[3206] = (new short[] {
-			282
-		});
-		HZPY[3207] = (new short[] {
-			262
-		});
-		HZPY[3208] = (new short[] {
-			229
-		});
-		HZPY[3209] = (new short[] {
-			349
-		});
-		HZPY[3210] = (new short[] {
-			258
-		});
-		HZPY[3211] = (new short[] {
-			45
-		});
-		HZPY[3212] = (new short[] {
-			195
-		});
-		HZPY[3213] = (new short[] {
-			91
-		});
-		HZPY[3214] = (new short[] {
-			136
-		});
-		HZPY[3215] = (new short[] {
-			73
-		});
-		HZPY[3216] = (new short[] {
-			350
-		});
-		HZPY[3217] = (new short[] {
-			399
-		});
-		HZPY[3218] = (new short[] {
-			197
-		});
-		HZPY[3219] = (new short[] {
-			127
-		});
-		HZPY[3220] = (new short[] {
-			201
-		});
-		HZPY[3221] = (new short[] {
-			2
-		});
-		HZPY[3222] = (new short[] {
-			372
-		});
-		HZPY[3223] = (new short[] {
-			361
-		});
-		HZPY[3224] = (new short[] {
-			229
-		});
-		HZPY[3225] = (new short[] {
-			345
-		});
-		HZPY[3226] = (new short[] {
-			197
-		});
-		HZPY[3227] = (new short[] {
-			377
-		});
-		HZPY[3228] = (new short[] {
-			396
-		});
-		HZPY[3229] = (new short[] {
-			265
-		});
-		HZPY[3230] = (new short[] {
-			329, 303
-		});
-		HZPY[3231] = (new short[] {
-			355
-		});
-		HZPY[3232] = (new short[] {
-			340
-		});
-		HZPY[3233] = (new short[] {
-			173
-		});
-		HZPY[3234] = (new short[] {
-			195
-		});
-		HZPY[3235] = (new short[] {
-			272
-		});
-		HZPY[3236] = (new short[] {
-			313
-		});
-		HZPY[3237] = (new short[] {
-			248
-		});
-		HZPY[3238] = (new short[] {
-			345
-		});
-		HZPY[3239] = (new short[] {
-			341
-		});
-		HZPY[3240] = (new short[] {
-			140
-		});
-		HZPY[3241] = (new short[] {
-			123
-		});
-		HZPY[3242] = (new short[] {
-			4
-		});
-		HZPY[3243] = (new short[] {
-			229
-		});
-		HZPY[3244] = (new short[] {
-			9
-		});
-		HZPY[3245] = (new short[] {
-			360
-		});
-		HZPY[3246] = (new short[] {
-			335
-		});
-		HZPY[3247] = (new short[] {
-			108
-		});
-		HZPY[3248] = (new short[] {
-			411
-		});
-		HZPY[3249] = (new short[] {
-			367
-		});
-		HZPY[3250] = (new short[] {
-			247
-		});
-		HZPY[3251] = (new short[] {
-			350
-		});
-		HZPY[3252] = (new short[] {
-			377
-		});
-		HZPY[3253] = (new short[] {
-			372
-		});
-		HZPY[3254] = (new short[] {
-			279
-		});
-		HZPY[3255] = (new short[] {
-			281
-		});
-		HZPY[3256] = (new short[] {
-			37
-		});
-		HZPY[3257] = (new short[] {
-			179
-		});
-		HZPY[3258] = (new short[] {
-			197
-		});
-		HZPY[3259] = (new short[] {
-			241
-		});
-		HZPY[3260] = (new short[] {
-			4
-		});
-		HZPY[3261] = (new short[] {
-			191
-		});
-		HZPY[3262] = (new short[] {
-			102
-		});
-		HZPY[3263] = (new short[] {
-			160
-		});
-		HZPY[3264] = (new short[] {
-			262
-		});
-		HZPY[3265] = (new short[] {
-			132
-		});
-		HZPY[3266] = (new short[] {
-			290
-		});
-		HZPY[3267] = (new short[] {
-			396
-		});
-		HZPY[3268] = (new short[] {
-			377
-		});
-		HZPY[3269] = (new short[] {
-			29
-		});
-		HZPY[3270] = (new short[] {
-			374
-		});
-		HZPY[3271] = (new short[] {
-			205
-		});
-		HZPY[3272] = (new short[] {
-			372
-		});
-		HZPY[3273] = (new short[] {
-			131
-		});
-		HZPY[3274] = (new short[] {
-			316
-		});
-		HZPY[3275] = (new short[] {
-			224
-		});
-		HZPY[3276] = (new short[] {
-			352
-		});
-		HZPY[3277] = (new short[] {
-			325, 367
-		});
-		HZPY[3278] = (new short[] {
-			242
-		});
-		HZPY[3279] = (new short[] {
-			166
-		});
-		HZPY[3280] = (new short[] {
-			224
-		});
-		HZPY[3281] = (new short[] {
-			9
-		});
-		HZPY[3282] = (new short[] {
-			1
-		});
-		HZPY[3283] = (new short[] {
-			247
-		});
-		HZPY[3284] = (new short[] {
-			251
-		});
-		HZPY[3285] = (new short[] {
-			369
-		});
-		HZPY[3286] = (new short[] {
-			249
-		});
-		HZPY[3287] = (new short[] {
-			376
-		});
-		HZPY[3288] = (new short[] {
-			169
-		});
-		HZPY[3289] = (new short[] {
-			361
-		});
-		HZPY[3290] = (new short[] {
-			193
-		});
-		HZPY[3291] = (new short[] {
-			369
-		});
-		HZPY[3292] = (new short[] {
-			392
-		});
-		HZPY[3293] = (new short[] {
-			148
-		});
-		HZPY[3294] = (new short[] {
-			374
-		});
-		HZPY[3295] = (new short[] {
-			221
-		});
-		HZPY[3296] = (new short[] {
-			171
-		});
-		HZPY[3297] = (new short[] {
-			63
-		});
-		HZPY[3298] = (new short[] {
-			108
-		});
-		HZPY[3299] = (new short[] {
-			365
-		});
-		HZPY[3300] = (new short[] {
-			137
-		});
-		HZPY[3301] = (new short[] {
-			404
-		});
-		HZPY[3302] = (new short[] {
-			32
-		});
-		HZPY[3303] = (new short[] {
-			26
-		});
-		HZPY[3304] = (new short[] {
-			113, 272
-		});
-		HZPY[3305] = (new short[] {
-			218
-		});
-		HZPY[3306] = (new short[] {
-			167
-		});
-		HZPY[3307] = (new short[] {
-			207
-		});
-		HZPY[3308] = (new short[] {
-			394
-		});
-		HZPY[3309] = (new short[] {
-			123
-		});
-		HZPY[3310] = (new short[] {
-			123
-		});
-		HZPY[3311] = (new short[] {
-			4
-		});
-		HZPY[3312] = (new short[] {
-			218
-		});
-		HZPY[3313] = (new short[] {
-			259
-		});
-		HZPY[3314] = (new short[] {
-			229
-		});
-		HZPY[3315] = (new short[] {
-			13
-		});
-		HZPY[3316] = (new short[] {
-			103
-		});
-		HZPY[3317] = (new short[] {
-			349
-		});
-		HZPY[3318] = (new short[] {
-			260
-		});
-		HZPY[3319] = (new short[] {
-			340
-		});
-		HZPY[3320] = (new short[] {
-			391
-		});
-		HZPY[3321] = (new short[] {
-			195
-		});
-		HZPY[3322] = (new short[] {
-			352
-		});
-		HZPY[3323] = (new short[] {
-			352
-		});
-		HZPY[3324] = (new short[] {
-			207
-		});
-		HZPY[3325] = (new short[] {
-			175
-		});
-		HZPY[3326] = (new short[] {
-			173
-		});
-		HZPY[3327] = (new short[] {
-			124
-		});
-		HZPY[3328] = (new short[] {
-			108
-		});
-		HZPY[3329] = (new short[] {
-			62
-		});
-		HZPY[3330] = (new short[] {
-			398
-		});
-		HZPY[3331] = (new short[] {
-			360
-		});
-		HZPY[3332] = (new short[] {
-			229
-		});
-		HZPY[3333] = (new short[] {
-			124
-		});
-		HZPY[3334] = (new short[] {
-			350
-		});
-		HZPY[3335] = (new short[] {
-			128
-		});
-		HZPY[3336] = (new short[] {
-			274
-		});
-		HZPY[3337] = (new short[] {
-			350
-		});
-		HZPY[3338] = (new short[] {
-			365
-		});
-		HZPY[3339] = (new short[] {
-			31
-		});
-		HZPY[3340] = (new short[] {
-			135
-		});
-		HZPY[3341] = (new short[] {
-			197
-		});
-		HZPY[3342] = (new short[] {
-			84
-		});
-		HZPY[3343] = (new short[] {
-			84
-		});
-		HZPY[3344] = (new short[] {
-			352
-		});
-		HZPY[3345] = (new short[] {
-			369
-		});
-		HZPY[3346] = (new short[] {
-			345
-		});
-		HZPY[3347] = (new short[] {
-			31
-		});
-		HZPY[3348] = (new short[] {
-			84
-		});
-		HZPY[3349] = (new short[] {
-			303
-		});
-		HZPY[3350] = (new short[] {
-			13
-		});
-		HZPY[3351] = (new short[] {
-			296
-		});
-		HZPY[3352] = (new short[] {
-			318
-		});
-		HZPY[3353] = (new short[] {
-			259
-		});
-		HZPY[3354] = (new short[] {
-			173
-		});
-		HZPY[3355] = (new short[] {
-			126, 264, 361
-		});
-		HZPY[3356] = (new short[] {
-			229
-		});
-		HZPY[3357] = (new short[] {
-			224
-		});
-		HZPY[3358] = (new short[] {
-			70
-		});
-		HZPY[3359] = (new short[] {
-			369
-		});
-		HZPY[3360] = (new short[] {
-			23
-		});
-		HZPY[3361] = (new short[] {
-			1
-		});
-		HZPY[3362] = (new short[] {
-			223
-		});
-		HZPY[3363] = (new short[] {
-			227
-		});
-		HZPY[3364] = (new short[] {
-			191
-		});
-		HZPY[3365] = (new short[] {
-			331
-		});
-		HZPY[3366] = (new short[] {
-			39
-		});
-		HZPY[3367] = (new short[] {
-			137
-		});
-		HZPY[3368] = (new short[] {
-			47
-		});
-		HZPY[3369] = (new short[] {
-			376
-		});
-		HZPY[3370] = (new short[] {
-			251
-		});
-		HZPY[3371] = (new short[] {
-			229
-		});
-		HZPY[3372] = (new short[] {
-			360
-		});
-		HZPY[3373] = (new short[] {
-			212
-		});
-		HZPY[3374] = (new short[] {
-			365
-		});
-		HZPY[3375] = (new short[] {
-			322
-		});
-		HZPY[3376] = (new short[] {
-			372
-		});
-		HZPY[3377] = (new short[] {
-			23
-		});
-		HZPY[3378] = (new short[] {
-			224
-		});
-		HZPY[3379] = (new short[] {
-			229
-		});
-		HZPY[3380] = (new short[] {
-			372
-		});
-		HZPY[3381] = (new short[] {
-			201
-		});
-		HZPY[3382] = (new short[] {
-			229
-		});
-		HZPY[3383] = (new short[] {
-			191
-		});
-		HZPY[3384] = (new short[] {
-			301
-		});
-		HZPY[3385] = (new short[] {
-			357
-		});
-		HZPY[3386] = (new short[] {
-			221
-		});
-		HZPY[3387] = (new short[] {
-			72
-		});
-		HZPY[3388] = (new short[] {
-			179
-		});
-		HZPY[3389] = (new short[] {
-			377
-		});
-		HZPY[3390] = (new short[] {
-			165
-		});
-		HZPY[3391] = (new short[] {
-			365
-		});
-		HZPY[3392] = (new short[] {
-			309
-		});
-		HZPY[3393] = (new short[] {
-			178
-		});
-		HZPY[3394] = (new short[] {
-			135
-		});
-		HZPY[3395] = (new short[] {
-			223
-		});
-		HZPY[3396] = (new short[] {
-			165
-		});
-		HZPY[3397] = (new short[] {
-			352
-		});
-		HZPY[3398] = (new short[] {
-			372
-		});
-		HZPY[3399] = (new short[] {
-			309
-		});
-		HZPY[3400] = (new short[] {
-			307
-		});
-		HZPY[3401] = (new short[] {
-			267
-		});
-		HZPY[3402] = (new short[] {
-			200
-		});
-		HZPY[3403] = (new short[] {
-			171
-		});
-		HZPY[3404] = (new short[] {
-			186
-		});
-		HZPY[3405] = (new short[] {
-			365
-		});
-		HZPY[3406] = (new short[] {
-			401
-		});
-		HZPY[3407] = (new short[] {
-			165
-		});
-		HZPY[3408] = (new short[] {
-			409
-		});
-		HZPY[3409] = (new short[] {
-			136
-		});
-		HZPY[3410] = (new short[] {
-			143
-		});
-		HZPY[3411] = (new short[] {
-			143
-		});
-		HZPY[3412] = (new short[] {
-			153
-		});
-		HZPY[3413] = (new short[] {
-			379
-		});
-		HZPY[3414] = (new short[] {
-			409
-		});
-		HZPY[3415] = (new short[] {
-			409
-		});
-		HZPY[3416] = (new short[] {
-			53
-		});
-		HZPY[3417] = (new short[] {
-			319
-		});
-		HZPY[3418] = (new short[] {
-			91
-		});
-		HZPY[3419] = (new short[] {
-			10, 19
-		});
-		HZPY[3420] = (new short[] {
-			409
-		});
-		HZPY[3421] = (new short[] {
-			354
-		});
-		HZPY[3422] = (new short[] {
-			356
-		});
-		HZPY[3423] = (new short[] {
-			199
-		});
-		HZPY[3424] = (new short[] {
-			313
-		});
-		HZPY[3425] = (new short[] {
-			322
-		});
-		HZPY[3426] = (new short[] {
-			9
-		});
-		HZPY[3427] = (new short[] {
-			131
-		});
-		HZPY[3428] = (new short[] {
-			103
-		});
-		HZPY[3429] = (new short[] {
-			232
-		});
-		HZPY[3430] = (new short[] {
-			362
-		});
-		HZPY[3431] = (new short[] {
-			229
-		});
-		HZPY[3432] = (new short[] {
-			31
-		});
-		HZPY[3433] = (new short[] {
-			112
-		});
-		HZPY[3434] = (new short[] {
-			186
-		});
-		HZPY[3435] = (new short[] {
-			319
-		});
-		HZPY[3436] = (new short[] {
-			215
-		});
-		HZPY[3437] = (new short[] {
-			203
-		});
-		HZPY[3438] = (new short[] {
-			48
-		});
-		HZPY[3439] = (new short[] {
-			133
-		});
-		HZPY[3440] = (new short[] {
-			305
-		});
-		HZPY[3441] = (new short[] {
-			31, 23
-		});
-		HZPY[3442] = (new short[] {
-			364
-		});
-		HZPY[3443] = (new short[] {
-			409
-		});
-		HZPY[3444] = (new short[] {
-			221
-		});
-		HZPY[3445] = (new short[] {
-			91
-		});
-		HZPY[3446] = (new short[] {
-			409
-		});
-		HZPY[3447] = (new short[] {
-			171
-		});
-		HZPY[3448] = (new short[] {
-			362, 354
-		});
-		HZPY[3449] = (new short[] {
-			19
-		});
-		HZPY[3450] = (new short[] {
-			281
-		});
-		HZPY[3451] = (new short[] {
-			212
-		});
-		HZPY[3452] = (new short[] {
-			225
-		});
-		HZPY[3453] = (new short[] {
-			225
-		});
-		HZPY[3454] = (new short[] {
-			372
-		});
-		HZPY[3455] = (new short[] {
-			186
-		});
-		HZPY[3456] = (new short[] {
-			201
-		});
-		HZPY[3457] = (new short[] {
-			227
-		});
-		HZPY[3458] = (new short[] {
-			279
-		});
-		HZPY[3459] = (new short[] {
-			321
-		});
-		HZPY[3460] = (new short[] {
-			108
-		});
-		HZPY[3461] = (new short[] {
-			390, 394
-		});
-		HZPY[3462] = (new short[] {
-			264
-		});
-		HZPY[3463] = (new short[] {
-			376
-		});
-		HZPY[3464] = (new short[] {
-			304
-		});
-		HZPY[3465] = (new short[] {
-			2
-		});
-		HZPY[3466] = (new short[] {
-			336
-		});
-		HZPY[3467] = (new short[] {
-			314
-		});
-		HZPY[3468] = (new short[] {
-			343
-		});
-		HZPY[3469] = (new short[] {
-			280
-		});
-		HZPY[3470] = (new short[] {
-			367
-		});
-		HZPY[3471] = (new short[] {
-			121
-		});
-		HZPY[3472] = (new short[] {
-			369
-		});
-		HZPY[3473] = (new short[] {
-			138
-		});
-		HZPY[3474] = (new short[] {
-			407
-		});
-		HZPY[3475] = (new short[] {
-			200
-		});
-		HZPY[3476] = (new short[] {
-			105
-		});
-		HZPY[3477] = (new short[] {
-			58
-		});
-		HZPY[3478] = (new short[] {
-			121
-		});
-		HZPY[3479] = (new short[] {
-			410
-		});
-		HZPY[3480] = (new short[] {
-			106
-		});
-		HZPY[3481] = (new short[] {
-			400
-		});
-		HZPY[3482] = (new short[] {
-			68
-		});
-		HZPY[3483] = (new short[] {
-			343, 377
-		});
-		HZPY[3484] = (new short[] {
-			369
-		});
-		HZPY[3485] = (new short[] {
-			9
-		});
-		HZPY[3486] = (new short[] {
-			303
-		});
-		HZPY[3487] = (new short[] {
-			303
-		});
-		HZPY[3488] = (new short[] {
-			38
-		});
-		HZPY[3489] = (new short[] {
-			301
-		});
-		HZPY[3490] = (new short[] {
-			150
-		});
-		HZPY[3491] = (new short[] {
-			361
-		});
-		HZPY[3492] = (new short[] {
-			303
-		});
-		HZPY[3493] = (new short[] {
-			375
-		});
-		HZPY[3494] = (new short[] {
-			126
-		});
-		HZPY[3495] = (new short[] {
-			369
-		});
-		HZPY[3496] = (new short[] {
-			331
-		});
-		HZPY[3497] = (new short[] {
-			303
-		});
-		HZPY[3498] = (new short[] {
-			352
-		});
-		HZPY[3499] = (new short[] {
-			101
-		});
-		HZPY[3500] = (new short[] {
-			36
-		});
-		HZPY[3501] = (new short[] {
-			270
-		});
-		HZPY[3502] = (new short[] {
-			101
-		});
-		HZPY[3503] = (new short[] {
-			354
-		});
-		HZPY[3504] = (new short[] {
-			381
-		});
-		HZPY[3505] = (new short[] {
-			389
-		});
-		HZPY[3506] = (new short[] {
-			9
-		});
-		HZPY[3507] = (new short[] {
-			112
-		});
-		HZPY[3508] = (new short[] {
-			365
-		});
-		HZPY[3509] = (new short[] {
-			354
-		});
-		HZPY[3510] = (new short[] {
-			132, 103, 136
-		});
-		HZPY[3511] = (new short[] {
-			301
-		});
-		HZPY[3512] = (new short[] {
-			35
-		});
-		HZPY[3513] = (new short[] {
-			279
-		});
-		HZPY[3514] = (new short[] {
-			127
-		});
-		HZPY[3515] = (new short[] {
-			200
-		});
-		HZPY[3516] = (new short[] {
-			154
-		});
-		HZPY[3517] = (new short[] {
-			158
-		});
-		HZPY[3518] = (new short[] {
-			17
-		});
-		HZPY[3519] = (new short[] {
-			316, 359
-		});
-		HZPY[3520] = (new short[] {
-			22, 301
-		});
-		HZPY[3521] = (new short[] {
-			382
-		});
-		HZPY[3522] = (new short[] {
-			131
-		});
-		HZPY[3523] = (new short[] {
-			377
-		});
-		HZPY[3524] = (new short[] {
-			131
-		});
-		HZPY[3525] = (new short[] {
-			371
-		});
-		HZPY[3526] = (new short[] {
-			200
-		});
-		HZPY[3527] = (new short[] {
-			154
-		});
-		HZPY[3528] = (new short[] {
-			263
-		});
-		HZPY[3529] = (new short[] {
-			116
-		});
-		HZPY[3530] = (new short[] {
-			396
-		});
-		HZPY[3531] = (new short[] {
-			133
-		});
-		HZPY[3532] = (new short[] {
-			91
-		});
-		HZPY[3533] = (new short[] {
-			227
-		});
-		HZPY[3534] = (new short[] {
-			18
-		});
-		HZPY[3535] = (new short[] {
-			126
-		});
-		HZPY[3536] = (new short[] {
-			197
-		});
-		HZPY[3537] = (new short[] {
-			262
-		});
-		HZPY[3538] = (new short[] {
-			113
-		});
-		HZPY[3539] = (new short[] {
-			376
-		});
-		HZPY[3540] = (new short[] {
-			303
-		});
-		HZPY[3541] = (new short[] {
-			227
-		});
-		HZPY[3542] = (new short[] {
-			137
-		});
-		HZPY[3543] = (new short[] {
-			227
-		});
-		HZPY[3544] = (new short[] {
-			398
-		});
-		HZPY[3545] = (new short[] {
-			376
-		});
-		HZPY[3546] = (new short[] {
-			9
-		});
-		HZPY[3547] = (new short[] {
-			158
-		});
-		HZPY[3548] = (new short[] {
-			227
-		});
-		HZPY[3549] = (new short[] {
-			262
-		});
-		HZPY[3550] = (new short[] {
-			207
-		});
-		HZPY[3551] = (new short[] {
-			29
-		});
-		HZPY[3552] = (new short[] {
-			141
-		});
-		HZPY[3553] = (new short[] {
-			104
-		});
-		HZPY[3554] = (new short[] {
-			262
-		});
-		HZPY[3555] = (new short[] {
-			123
-		});
-		HZPY[3556] = (new short[] {
-			349
-		});
-		HZPY[3557] = (new short[] {
-			175
-		});
-		HZPY[3558] = (new short[] {
-			303
-		});
-		HZPY[3559] = (new short[] {
-			227
-		});
-		HZPY[3560] = (new short[] {
-			390
-		});
-		HZPY[3561] = (new short[] {
-			301
-		});
-		HZPY[3562] = (new short[] {
-			345
-		});
-		HZPY[3563] = (new short[] {
-			355
-		});
-		HZPY[3564] = (new short[] {
-			158
-		});
-		HZPY[3565] = (new short[] {
-			128
-		});
-		HZPY[3566] = (new short[] {
-			175
-		});
-		HZPY[3567] = (new short[] {
-			144
-		});
-		HZPY[3568] = (new short[] {
-			126
-		});
-		HZPY[3569] = (new short[] {
-			369
-		});
-		HZPY[3570] = (new short[] {
-			369
-		});
-		HZPY[3571] = (new short[] {
-			9
-		});
-		HZPY[3572] = (new short[] {
-			262
-		});
-		HZPY[3573] = (new short[] {
-			38
-		});
-		HZPY[3574] = (new short[] {
-			9
-		});
-		HZPY[3575] = (new short[] {
-			88
-		});
-		HZPY[3576] = (new short[] {
-			53
-		});
-		HZPY[3577] = (new short[] {
-			74
-		});
-		HZPY[3578] = (new short[] {
-			313
-		});
-		HZPY[3579] = (new short[] {
-			363, 356
-		});
-		HZPY[3580] = (new short[] {
-			59
-		});
-		HZPY[3581] = (new short[] {
-			184, 189
-		});
-		HZPY[3582] = (new short[] {
-			74
-		});
-		HZPY[3583] = (new short[] {
-			304
-		});
-		HZPY[3584] = (new short[] {
-			253
-		});
-		HZPY[3585] = (new short[] {
-			88
-		});
-		HZPY[3586] = (new short[] {
-			404
-		});
-		HZPY[3587] = (new short[] {
-			91
-		});
-		HZPY[3588] = (new short[] {
-			299, 303, 368
-		});
-		HZPY[3589] = (new short[] {
-			150
-		});
-		HZPY[3590] = (new short[] {
-			134, 259
-		});
-		HZPY[3591] = (new short[] {
-			134, 259
-		});
-		HZPY[3592] = (new short[] {
-			404
-		});
-		HZPY[3593] = (new short[] {
-			345, 376
-		});
-		HZPY[3594] = (new short[] {
-			415
-		});
-		HZPY[3595] = (new short[] {
-			363, 356
-		});
-		HZPY[3596] = (new short[] {
-			305
-		});
-		HZPY[3597] = (new short[] {
-			74
-		});
-		HZPY[3598] = (new short[] {
-			59
-		});
-		HZPY[3599] = (new short[] {
-			354
-		});
-		HZPY[3600] = (new short[] {
-			131
-		});
-		HZPY[3601] = (new short[] {
-			298
-		});
-		HZPY[3602] = (new short[] {
-			82
-		});
-		HZPY[3603] = (new short[] {
-			82
-		});
-		HZPY[3604] = (new short[] {
-			82
-		});
-		HZPY[3605] = (new short[] {
-			92
-		});
-		HZPY[3606] = (new short[] {
-			133
-		});
-		HZPY[3607] = (new short[] {
-			305
-		});
-		HZPY[3608] = (new short[] {
-			35
-		});
-		HZPY[3609] = (new short[] {
-			297
-		});
-		HZPY[3610] = (new short[] {
-			297
-		});
-		HZPY[3611] = (new short[] {
-			377
-		});
-		HZPY[3612] = (new short[] {
-			92
-		});
-		HZPY[3613] = (new short[] {
-			32
-		});
-		HZPY[3614] = (new short[] {
-			175
-		});
-		HZPY[3615] = (new short[] {
-			352
-		});
-		HZPY[3616] = (new short[] {
-			352
-		});
-		HZPY[3617] = (new short[] {
-			229
-		});
-		HZPY[3618] = (new short[] {
-			344, 375
-		});
-		HZPY[3619] = (new short[] {
-			344, 375
-		});
-		HZPY[3620] = (new short[] {
-			375
-		});
-		HZPY[3621] = (new short[] {
-			175
-		});
-		HZPY[3622] = (new short[] {
-			175
-		});
-		HZPY[3623] = (new short[] {
-			367
-		});
-		HZPY[3624] = (new short[] {
-			194, 242
-		});
-		HZPY[3625] = (new short[] {
-			344
-		});
-		HZPY[3626] = (new short[] {
-			344
-		});
-		HZPY[3627] = (new short[] {
-			344
-		});
-		HZPY[3628] = (new short[] {
-			92
-		});
-		HZPY[3629] = (new short[] {
-			367
-		});
-		HZPY[3630] = (new short[] {
-			76
-		});
-		HZPY[3631] = (new short[] {
-			160
-		});
-		HZPY[3632] = (new short[] {
-			399
-		});
-		HZPY[3633] = (new short[] {
-			140
-		});
-		HZPY[3634] = (new short[] {
-			94
-		});
-		HZPY[3635] = (new short[] {
-			103
-		});
-		HZPY[3636] = (new short[] {
-			94
-		});
-		HZPY[3637] = (new short[] {
-			94
-		});
-		HZPY[3638] = (new short[] {
-			94
-		});
-		HZPY[3639] = (new short[] {
-			94
-		});
-		HZPY[3640] = (new short[] {
-			303
-		});
-		HZPY[3641] = (new short[] {
-			371
-		});
-		HZPY[3642] = (new short[] {
-			37, 34
-		});
-		HZPY[3643] = (new short[] {
-			149
-		});
-		HZPY[3644] = (new short[] {
-			221
-		});
-		HZPY[3645] = (new short[] {
-			137
-		});
-		HZPY[3646] = (new short[] {
-			345, 369
-		});
-		HZPY[3647] = (new short[] {
-			224, 318, 221
-		});
-		HZPY[3648] = (new short[] {
-			141
-		});
-		HZPY[3649] = (new short[] {
-			247
-		});
-		HZPY[3650] = (new short[] {
-			28
-		});
-		HZPY[3651] = (new short[] {
-			350
-		});
-		HZPY[3652] = (new short[] {
-			13
-		});
-		HZPY[3653] = (new short[] {
-			141, 131
-		});
-		HZPY[3654] = (new short[] {
-			136
-		});
-		HZPY[3655] = (new short[] {
-			330
-		});
-		HZPY[3656] = (new short[] {
-			266
-		});
-		HZPY[3657] = (new short[] {
-			329
-		});
-		HZPY[3658] = (new short[] {
-			136
-		});
-		HZPY[3659] = (new short[] {
-			349
-		});
-		HZPY[3660] = (new short[] {
-			66
-		});
-		HZPY[3661] = (new short[] {
-			303
-		});
-		HZPY[3662] = (new short[] {
-			303
-		});
-		HZPY[3663] = (new short[] {
-			252, 18
-		});
-		HZPY[3664] = (new short[] {
-			131
-		});
-		HZPY[3665] = (new short[] {
-			355
-		});
-		HZPY[3666] = (new short[] {
-			35
-		});
-		HZPY[3667] = (new short[] {
-			350
-		});
-		HZPY[3668] = (new short[] {
-			221
-		});
-		HZPY[3669] = (new short[] {
-			391
-		});
-		HZPY[3670] = (new short[] {
-			350
-		});
-		HZPY[3671] = (new short[] {
-			229
-		});
-		HZPY[3672] = (new short[] {
-			193
-		});
-		HZPY[3673] = (new short[] {
-			77
-		});
-		HZPY[3674] = (new short[] {
-			182
-		});
-		HZPY[3675] = (new short[] {
-			252
-		});
-		HZPY[3676] = (new short[] {
-			329
-		});
-		HZPY[3677] = (new short[] {
-			86
-		});
-		HZPY[3678] = (new short[] {
-			305, 401
-		});
-		HZPY[3679] = (new short[] {
-			355
-		});
-		HZPY[3680] = (new short[] {
-			336
-		});
-		HZPY[3681] = (new short[] {
-			184
-		});
-		HZPY[3682] = (new short[] {
-			184
-		});
-		HZPY[3683] = (new short[] {
-			350
-		});
-		HZPY[3684] = (new short[] {
-			28
-		});
-		HZPY[3685] = (new short[] {
-			184
-		});
-		HZPY[3686] = (new short[] {
-			141
-		});
-		HZPY[3687] = (new short[] {
-			355
-		});
-		HZPY[3688] = (new short[] {
-			141
-		});
-		HZPY[3689] = (new short[] {
-			143
-		});
-		HZPY[3690] = (new short[] {
-			175
-		});
-		HZPY[3691] = (new short[] {
-			143
-		});
-		HZPY[3692] = (new short[] {
-			305, 401
-		});
-		HZPY[3693] = (new short[] {
-			350
-		});
-		HZPY[3694] = (new short[] {
-			34
-		});
-		HZPY[3695] = (new short[] {
-			339, 407
-		});
-		HZPY[3696] = (new short[] {
-			221
-		});
-		HZPY[3697] = (new short[] {
-			296
-		});
-		HZPY[3698] = (new short[] {
-			341
-		});
-		HZPY[3699] = (new short[] {
-			352
-		});
-		HZPY[3700] = (new short[] {
-			171
-		});
-		HZPY[3701] = (new short[] {
-			77
-		});
-		HZPY[3702] = (new short[] {
-			229
-		});
-		HZPY[3703] = (new short[] {
-			229
-		});
-		HZPY[3704] = (new short[] {
-			181
-		});
-		HZPY[3705] = (new short[] {
-			369, 97
-		});
-		HZPY[3706] = (new short[] {
-			256
-		});
-		HZPY[3707] = (new short[] {
-			276
-		});
-		HZPY[3708] = (new short[] {
-			349
-		});
-		HZPY[3709] = (new short[] {
-			113
-		});
-		HZPY[3710] = (new short[] {
-			301
-		});
-		HZPY[3711] = (new short[] {
-			376
-		});
-		HZPY[3712] = (new short[] {
-			40
-		});
-		HZPY[3713] = (new short[] {
-			318
-		});
-		HZPY[3714] = (new short[] {
-			256
-		});
-		HZPY[3715] = (new short[] {
-			229
-		});
-		HZPY[3716] = (new short[] {
-			378
-		});
-		HZPY[3717] = (new short[] {
-			7
-		});
-		HZPY[3718] = (new short[] {
-			367
-		});
-		HZPY[3719] = (new short[] {
-			3
-		});
-		HZPY[3720] = (new short[] {
-			364
-		});
-		HZPY[3721] = (new short[] {
-			349
-		});
-		HZPY[3722] = (new short[] {
-			136
-		});
-		HZPY[3723] = (new short[] {
-			77
-		});
-		HZPY[3724] = (new short[] {
-			131
-		});
-		HZPY[3725] = (new short[] {
-			258
-		});
-		HZPY[3726] = (new short[] {
-			87
-		});
-		HZPY[3727] = (new short[] {
-			343
-		});
-		HZPY[3728] = (new short[] {
-			256
-		});
-		HZPY[3729] = (new short[] {
-			27
-		});
-		HZPY[3730] = (new short[] {
-			258
-		});
-		HZPY[3731] = (new short[] {
-			256
-		});
-		HZPY[3732] = (new short[] {
-			29
-		});
-		HZPY[3733] = (new short[] {
-			136
-		});
-		HZPY[3734] = (new short[] {
-			266
-		});
-		HZPY[3735] = (new short[] {
-			95
-		});
-		HZPY[3736] = (new short[] {
-			352
-		});
-		HZPY[3737] = (new short[] {
-			4
-		});
-		HZPY[3738] = (new short[] {
-			165
-		});
-		HZPY[3739] = (new short[] {
-			59
-		});
-		HZPY[3740] = (new short[] {
-			5
-		});
-		HZPY[3741] = (new short[] {
-			390
-		});
-		HZPY[3742] = (new short[] {
-			416
-		});
-		HZPY[3743] = (new short[] {
-			366
-		});
-		HZPY[3744] = (new short[] {
-			141
-		});
-		HZPY[3745] = (new short[] {
-			95
-		});
-		HZPY[3746] = (new short[] {
-			150
-		});
-		HZPY[3747] = (new short[] {
-			102
-		});
-		HZPY[3748] = (new short[] {
-			362
-		});
-		HZPY[3749] = (new short[] {
-			19
-		});
-		HZPY[3750] = (new short[] {
-			171
-		});
-		HZPY[3751] = (new short[] {
-			331
-		});
-		HZPY[3752] = (new short[] {
-			266
-		});
-		HZPY[3753] = (new short[] {
-			365
-		});
-		HZPY[3754] = (new short[] {
-			91
-		});
-		HZPY[3755] = (new short[] {
-			359
-		});
-		HZPY[3756] = (new short[] {
-			132
-		});
-		HZPY[3757] = (new short[] {
-			178
-		});
-		HZPY[3758] = (new short[] {
-			340
-		});
-		HZPY[3759] = (new short[] {
-			244
-		});
-		HZPY[3760] = (new short[] {
-			375
-		});
-		HZPY[3761] = (new short[] {
-			56
-		});
-		HZPY[3762] = (new short[] {
-			159
-		});
-		HZPY[3763] = (new short[] {
-			378
-		});
-		HZPY[3764] = (new short[] {
-			266
-		});
-		HZPY[3765] = (new short[] {
-			123
-		});
-		HZPY[3766] = (new short[] {
-			253
-		});
-		HZPY[3767] = (new short[] {
-			204
-		});
-		HZPY[3768] = (new short[] {
-			2
-		});
-		HZPY[3769] = (new short[] {
-			331
-		});
-		HZPY[3770] = (new short[] {
-			178
-		});
-		HZPY[3771] = (new short[] {
-			37
-		});
-		HZPY[3772] = (new short[] {
-			229
-		});
-		HZPY[3773] = (new short[] {
-			70
-		});
-		HZPY[3774] = (new short[] {
-			229
-		});
-		HZPY[3775] = (new short[] {
-			160
-		});
-		HZPY[3776] = (new short[] {
-			359
-		});
-		HZPY[3777] = (new short[] {
-			195
-		});
-		HZPY[3778] = (new short[] {
-			334
-		});
-		HZPY[3779] = (new short[] {
-			362
-		});
-		HZPY[3780] = (new short[] {
-			369
-		});
-		HZPY[3781] = (new short[] {
-			229
-		});
-		HZPY[3782] = (new short[] {
-			116
-		});
-		HZPY[3783] = (new short[] {
-			150
-		});
-		HZPY[3784] = (new short[] {
-			189
-		});
-		HZPY[3785] = (new short[] {
-			77
-		});
-		HZPY[3786] = (new short[] {
-			91
-		});
-		HZPY[3787] = (new short[] {
-			363
-		});
-		HZPY[3788] = (new short[] {
-			67
-		});
-		HZPY[3789] = (new short[] {
-			183
-		});
-		HZPY[3790] = (new short[] {
-			166
-		});
-		HZPY[3791] = (new short[] {
-			82
-		});
-		HZPY[3792] = (new short[] {
-			93
-		});
-		HZPY[3793] = (new short[] {
-			267
-		});
-		HZPY[3794] = (new short[] {
-			334, 70
-		});
-		HZPY[3795] = (new short[] {
-			369
-		});
-		HZPY[3796] = (new short[] {
-			209
-		});
-		HZPY[3797] = (new short[] {
-			303
-		});
-		HZPY[3798] = (new short[] {
-			2
-		});
-		HZPY[3799] = (new short[] {
-			345
-		});
-		HZPY[3800] = (new short[] {
-			123
-		});
-		HZPY[3801] = (new short[] {
-			398, 303
-		});
-		HZPY[3802] = (new short[] {
-			200
-		});
-		HZPY[3803] = (new short[] {
-			171
-		});
-		HZPY[3804] = (new short[] {
-			131
-		});
-		HZPY[3805] = (new short[] {
-			334
-		});
-		HZPY[3806] = (new short[] {
-			160
-		});
-		HZPY[3807] = (new short[] {
-			375
-		});
-		HZPY[3808] = (new short[] {
-			229
-		});
-		HZPY[3809] = (new short[] {
-			351
-		});
-		HZPY[3810] = (new short[] {
-			171
-		});
-		HZPY[3811] = (new short[] {
-			367
-		});
-		HZPY[3812] = (new short[] {
-			135, 260
-		});
-		HZPY[3813] = (new short[] {
-			397
-		});
-		HZPY[3814] = (new short[] {
-			186
-		});
-		HZPY[3815] = (new short[] {
-			135
-		});
-		HZPY[3816] = (new short[] {
-			77
-		});
-		HZPY[3817] = (new short[] {
-			77
-		});
-		HZPY[3818] = (new short[] {
-			376
-		});
-		HZPY[3819] = (new short[] {
-			368
-		});
-		HZPY[3820] = (new short[] {
-			20
-		});
-		HZPY[3821] = (new short[] {
-			260
-		});
-		HZPY[3822] = (new short[] {
-			270
-		});
-		HZPY[3823] = (new short[] {
-			88
-		});
-		HZPY[3824] = (new short[] {
-			88
-		});
-		HZPY[3825] = (new short[] {
-			215
-		});
-		HZPY[3826] = (new short[] {
-			171
-		});
-		HZPY[3827] = (new short[] {
-			375
-		});
-		HZPY[3828] = (new short[] {
-			352
-		});
-		HZPY[3829] = (new short[] {
-			121
-		});
-		HZPY[3830] = (new short[] {
-			59
-		});
-		HZPY[3831] = (new short[] {
-			301
-		});
-		HZPY[3832] = (new short[] {
-			36
-		});
-		HZPY[3833] = (new short[] {
-			336
-		});
-		HZPY[3834] = (new short[] {
-			100
-		});
-		HZPY[3835] = (new short[] {
-			144
-		});
-		HZPY[3836] = (new short[] {
-			115
-		});
-		HZPY[3837] = (new short[] {
-			351
-		});
-		HZPY[3838] = (new short[] {
-			371
-		});
-		HZPY[3839] = (new short[] {
-			349, 376
-		});
-		HZPY[3840] = (new short[] {
-			166
-		});
-		HZPY[3841] = (new short[] {
-			147
-		});
-		HZPY[3842] = (new short[] {
-			167
-		});
-		HZPY[3843] = (new short[] {
-			164
-		});
-		HZPY[3844] = (new short[] {
-			352
-		});
-		HZPY[3845] = (new short[] {
-			268
-		});
-		HZPY[3846] = (new short[] {
-			153
-		});
-		HZPY[3847] = (new short[] {
-			38
-		});
-		HZPY[3848] = (new short[] {
-			38
-		});
-		HZPY[3849] = (new short[] {
-			321
-		});
-		HZPY[3850] = (new short[] {
-			229
-		});
-		HZPY[3851] = (new short[] {
-			124
-		});
-		HZPY[3852] = (new short[] {
-			141
-		});
-		HZPY[3853] = (new short[] {
-			164
-		});
-		HZPY[3854] = (new short[] {
-			256
-		});
-		HZPY[3855] = (new short[] {
-			204
-		});
-		HZPY[3856] = (new short[] {
-			161
-		});
-		HZPY[3857] = (new short[] {
-			161
-		});
-		HZPY[3858] = (new short[] {
-			412
-		});
-		HZPY[3859] = (new short[] {
-			103
-		});
-		HZPY[3860] = (new short[] {
-			52
-		});
-		HZPY[3861] = (new short[] {
-			364
-		});
-		HZPY[3862] = (new short[] {
-			364, 1
-		});
-		HZPY[3863] = (new short[] {
-			95
-		});
-		HZPY[3864] = (new short[] {
-			188
-		});
-		HZPY[3865] = (new short[] {
-			188
-		});
-		HZPY[3866] = (new short[] {
-			170
-		});
-		HZPY[3867] = (new short[] {
-			143
-		});
-		HZPY[3868] = (new short[] {
-			76
-		});
-		HZPY[3869] = (new short[] {
-			36
-		});
-		HZPY[3870] = (new short[] {
-			110
-		});
-		HZPY[3871] = (new short[] {
-			371
-		});
-		HZPY[3872] = (new short[] {
-			70
-		});
-		HZPY[3873] = (new short[] {
-			113
-		});
-		HZPY[3874] = (new short[] {
-			397
-		});
-		HZPY[3875] = (new short[] {
-			345
-		});
-		HZPY[3876] = (new short[] {
-			367, 354
-		});
-		HZPY[3877] = (new short[] {
-			247
-		});
-		HZPY[3878] = (new short[] {
-			365
-		});
-		HZPY[3879] = (new short[] {
-			314
-		});
-		HZPY[3880] = (new short[] {
-			136
-		});
-		HZPY[3881] = (new short[] {
-			12
-		});
-		HZPY[3882] = (new short[] {
-			412
-		});
-		HZPY[3883] = (new short[] {
-			143
-		});
-		HZPY[3884] = (new short[] {
-			70
-		});
-		HZPY[3885] = (new short[] {
-			391
-		});
-		HZPY[3886] = (new short[] {
-			103
-		});
-		HZPY[3887] = (new short[] {
-			371
-		});
-		HZPY[3888] = (new short[] {
-			409
-		});
-		HZPY[3889] = (new short[] {
-			385
-		});
-		HZPY[3890] = (new short[] {
-			127
-		});
-		HZPY[3891] = (new short[] {
-			376
-		});
-		HZPY[3892] = (new short[] {
-			345, 342
-		});
-		HZPY[3893] = (new short[] {
-			366
-		});
-		HZPY[3894] = (new short[] {
-			88
-		});
-		HZPY[3895] = (new short[] {
-			265
-		});
-		HZPY[3896] = (new short[] {
-			75
-		});
-		HZPY[3897] = (new short[] {
-			329
-		});
-		HZPY[3898] = (new short[] {
-			369
-		});
-		HZPY[3899] = (new short[] {
-			398
-		});
-		HZPY[3900] = (new short[] {
-			303
-		});
-		HZPY[3901] = (new short[] {
-			381
-		});
-		HZPY[3902] = (new short[] {
-			367
-		});
-		HZPY[3903] = (new short[] {
-			77
-		});
-		HZPY[3904] = (new short[] {
-			401
-		});
-		HZPY[3905] = (new short[] {
-			147
-		});
-		HZPY[3906] = (new short[] {
-			184
-		});
-		HZPY[3907] = (new short[] {
-			365
-		});
-		HZPY[3908] = (new short[] {
-			197
-		});
-		HZPY[3909] = (new short[] {
-			94
-		});
-		HZPY[3910] = (new short[] {
-			131
-		});
-		HZPY[3911] = (new short[] {
-			131
-		});
-		HZPY[3912] = (new short[] {
-			126
-		});
-		HZPY[3913] = (new short[] {
-			333
-		});
-		HZPY[3914] = (new short[] {
-			302
-		});
-		HZPY[3915] = (new short[] {
-			197
-		});
-		HZPY[3916] = (new short[] {
-			258, 147
-		});
-		HZPY[3917] = (new short[] {
-			349
-		});
-		HZPY[3918] = (new short[] {
-			376
-		});
-		HZPY[3919] = (new short[] {
-			410
-		});
-		HZPY[3920] = (new short[] {
-			165
-		});
-		HZPY[3921] = (new short[] {
-			136, 116
-		});
-		HZPY[3922] = (new short[] {
-			365
-		});
-		HZPY[3923] = (new short[] {
-			365
-		});
-		HZPY[3924] = (new short[] {
-			345
-		});
-		HZPY[3925] = (new short[] {
-			410
-		});
-		HZPY[3926] = (new short[] {
-			29
-		});
-		HZPY[3927] = (new short[] {
-			318
-		});
-		HZPY[3928] = (new short[] {
-			279
-		});
-		HZPY[3929] = (new short[] {
-			150
-		});
-		HZPY[3930] = (new short[] {
-			262
-		});
-		HZPY[3931] = (new short[] {
-			376
-		});
-		HZPY[3932] = (new short[] {
-			256
-		});
-		HZPY[3933] = (new short[] {
-			182
-		});
-		HZPY[3934] = (new short[] {
-			336
-		});
-		HZPY[3935] = (new short[] {
-			74
-		});
-		HZPY[3936] = (new short[] {
-			350
-		});
-		HZPY[3937] = (new short[] {
-			347
-		});
-		HZPY[3938] = (new short[] {
-			24
-		});
-		HZPY[3939] = (new short[] {
-			58
-		});
-		HZPY[3940] = (new short[] {
-			279
-		});
-		HZPY[3941] = (new short[] {
-			136
-		});
-		HZPY[3942] = (new short[] {
-			1
-		});
-		HZPY[3943] = (new short[] {
-			179
-		});
-		HZPY[3944] = (new short[] {
-			349
-		});
-		HZPY[3945] = (new short[] {
-			314
-		});
-		HZPY[3946] = (new short[] {
-			260
-		});
-		HZPY[3947] = (new short[] {
-			409
-		});
-		HZPY[3948] = (new short[] {
-			345
-		});
-		HZPY[3949] = (new short[] {
-			12
-		});
-		HZPY[3950] = (new short[] {
-			65
-		});
-		HZPY[3951] = (new short[] {
-			54
-		});
-		HZPY[3952] = (new short[] {
-			258
-		});
-		HZPY[3953] = (new short[] {
-			374
-		});
-		HZPY[3954] = (new short[] {
-			225
-		});
-		HZPY[3955] = (new short[] {
-			54
-		});
-		HZPY[3956] = (new short[] {
-			131
-		});
-		HZPY[3957] = (new short[] {
-			229
-		});
-		HZPY[3958] = (new short[] {
-			229
-		});
-		HZPY[3959] = (new short[] {
-			314
-		});
-		HZPY[3960] = (new short[] {
-			410
-		});
-		HZPY[3961] = (new short[] {
-			134
-		});
-		HZPY[3962] = (new short[] {
-			175
-		});
-		HZPY[3963] = (new short[] {
-			229
-		});
-		HZPY[3964] = (new short[] {
-			31
-		});
-		HZPY[3965] = (new short[] {
-			63
-		});
-		HZPY[3966] = (new short[] {
-			27
-		});
-		HZPY[3967] = (new short[] {
-			68
-		});
-		HZPY[3968] = (new short[] {
-			336, 67
-		});
-		HZPY[3969] = (new short[] {
-			182
-		});
-		HZPY[3970] = (new short[] {
-			392
-		});
-		HZPY[3971] = (new short[] {
-			391
-		});
-		HZPY[3972] = (new short[] {
-			391
-		});
-		HZPY[3973] = (new short[] {
-			4
-		});
-		HZPY[3974] = (new short[] {
-			25
-		});
-		HZPY[3975] = (new short[] {
-			266
-		});
-		HZPY[3976] = (new short[] {
-			259
-		});
-		HZPY[3977] = (new short[] {
-			414
-		});
-		HZPY[3978] = (new short[] {
-			414
-		});
-		HZPY[3979] = (new short[] {
-			59
-		});
-		HZPY[3980] = (new short[] {
-			59
-		});
-		HZPY[3981] = (new short[] {
-			350
-		});
-		HZPY[3982] = (new short[] {
-			376
-		});
-		HZPY[3983] = (new short[] {
-			19
-		});
-		HZPY[3984] = (new short[] {
-			181
-		});
-		HZPY[3985] = (new short[] {
-			353
-		});
-		HZPY[3986] = (new short[] {
-			28
-		});
-		HZPY[3987] = (new short[] {
-			19
-		});
-		HZPY[3988] = (new short[] {
-			262
-		});
-		HZPY[3989] = (new short[] {
-			135
-		});
-		HZPY[3990] = (new short[] {
-			365
-		});
-		HZPY[3991] = (new short[] {
-			167
-		});
-		HZPY[3992] = (new short[] {
-			391
-		});
-		HZPY[3993] = (new short[] {
-			177
-		});
-		HZPY[3994] = (new short[] {
-			175
-		});
-		HZPY[3995] = (new short[] {
-			175
-		});
-		HZPY[3996] = (new short[] {
-			137
-		});
-		HZPY[3997] = (new short[] {
-			62
-		});
-		HZPY[3998] = (new short[] {
-			76
-		});
-		HZPY[3999] = (new short[] {
-			415
-		});
-		HZPY[4000] = (new short[] {
-			135, 260
-		});
-		HZPY[4001] = (new short[] {
-			108
-		});
-		HZPY[4002] = (new short[] {
-			367
-		});
-		HZPY[4003] = (new short[] {
-			260
-		});
-		HZPY[4004] = (new short[] {
-			367
-		});
-		HZPY[4005] = (new short[] {
-			143
-		});
-		HZPY[4006] = (new short[] {
-			391
-		});
-		HZPY[4007] = (new short[] {
-			369
-		});
-		HZPY[4008] = (new short[] {
-			362
-		});
-		HZPY[4009] = (new short[] {
-			215
-		});
-		HZPY[4010] = (new short[] {
-			368
-		});
-		HZPY[4011] = (new short[] {
-			368
-		});
-		HZPY[4012] = (new short[] {
-			369
-		});
-		HZPY[4013] = (new short[] {
-			77
-		});
-		HZPY[4014] = (new short[] {
-			352
-		});
-		HZPY[4015] = (new short[] {
-			131
-		});
-		HZPY[4016] = (new short[] {
-			355
-		});
-		HZPY[4017] = (new short[] {
-			150
-		});
-		HZPY[4018] = (new short[] {
-			318
-		});
-		HZPY[4019] = (new short[] {
-			63
-		});
-		HZPY[4020] = (new short[] {
-			4
-		});
-		HZPY[4021] = (new short[] {
-			414
-		});
-		HZPY[4022] = (new short[] {
-			229
-		});
-		HZPY[4023] = (new short[] {
-			369
-		});
-		HZPY[4024] = (new short[] {
-			279
-		});
-		HZPY[4025] = (new short[] {
-			59
-		});
-		HZPY[4026] = (new short[] {
-			178
-		});
-		HZPY[4027] = (new short[] {
-			380
-		});
-		HZPY[4028] = (new short[] {
-			376
-		});
-		HZPY[4029] = (new short[] {
-			378
-		});
-		HZPY[4030] = (new short[] {
-			371
-		});
-		HZPY[4031] = (new short[] {
-			229
-		});
-		HZPY[4032] = (new short[] {
-			136
-		});
-		HZPY[4033] = (new short[] {
-			171
-		});
-		HZPY[4034] = (new short[] {
-			318, 350
-		});
-		HZPY[4035] = (new short[] {
-			181
-		});
-		HZPY[4036] = (new short[] {
-			181
-		});
-		HZPY[4037] = (new short[] {
-			65
-		});
-		HZPY[4038] = (new short[] {
-			372
-		});
-		HZPY[4039] = (new short[] {
-			350
-		});
-		HZPY[4040] = (new short[] {
-			141
-		});
-		HZPY[4041] = (new short[] {
-			31
-		});
-		HZPY[4042] = (new short[] {
-			372
-		});
-		HZPY[4043] = (new short[] {
-			160
-		});
-		HZPY[4044] = (new short[] {
-			365
-		});
-		HZPY[4045] = (new short[] {
-			345
-		});
-		HZPY[4046] = (new short[] {
-			215
-		});
-		HZPY[4047] = (new short[] {
-			267
-		});
-		HZPY[4048] = (new short[] {
-			33
-		});
-		HZPY[4049] = (new short[] {
-			51
-		});
-		HZPY[4050] = (new short[] {
-			186
-		});
-		HZPY[4051] = (new short[] {
-			65
-		});
-		HZPY[4052] = (new short[] {
-			65
-		});
-		HZPY[4053] = (new short[] {
-			225
-		});
-		HZPY[4054] = (new short[] {
-			365
-		});
-		HZPY[4055] = (new short[] {
-			365
-		});
-		HZPY[4056] = (new short[] {
-			365
-		});
-		HZPY[4057] = (new short[] {
-			215
-		});
-		HZPY[4058] = (new short[] {
-			365
-		});
-		HZPY[4059] = (new short[] {
-			42
-		});
-		HZPY[4060] = (new short[] {
-			108
-		});
-		HZPY[4061] = (new short[] {
-			42
-		});
-		HZPY[4062] = (new short[] {
-			400
-		});
-		HZPY[4063] = (new short[] {
-			127
-		});
-		HZPY[4064] = (new short[] {
-			138
-		});
-		HZPY[4065] = (new short[] {
-			363
-		});
-		HZPY[4066] = (new short[] {
-			33
-		});
-		HZPY[4067] = (new short[] {
-			33
-		});
-		HZPY[4068] = (new short[] {
-			176
-		});
-		HZPY[4069] = (new short[] {
-			101
-		});
-		HZPY[4070] = (new short[] {
-			416
-		});
-		HZPY[4071] = (new short[] {
-			260
-		});
-		HZPY[4072] = (new short[] {
-			141
-		});
-		HZPY[4073] = (new short[] {
-			101
-		});
-		HZPY[4074] = (new short[] {
-			229
-		});
-		HZPY[4075] = (new short[] {
-			349
-		});
-		HZPY[4076] = (new short[] {
-			229
-		});
-		HZPY[4077] = (new short[] {
-			229
-		});
-		HZPY[4078] = (new short[] {
-			29, 30, 47
-		});
-		HZPY[4079] = (new short[] {
-			265
-		});
-		HZPY[4080] = (new short[] {
-			265
-		});
-		HZPY[4081] = (new short[] {
-			131
-		});
-		HZPY[4082] = (new short[] {
-			369
-		});
-		HZPY[4083] = (new short[] {
-			313
-		});
-		HZPY[4084] = (new short[] {
-			5
-		});
-		HZPY[4085] = (new short[] {
-			398
-		});
-		HZPY[4086] = (new short[] {
-			393
-		});
-		HZPY[4087] = (new short[] {
-			353, 114
-		});
-		HZPY[4088] = (new short[] {
-			369
-		});
-		HZPY[4089] = (new short[] {
-			137
-		});
-		HZPY[4090] = (new short[] {
-			363
-		});
-		HZPY[4091] = (new short[] {
-			142
-		});
-		HZPY[4092] = (new short[] {
-			229
-		});
-		HZPY[4093] = (new short[] {
-			363
-		});
-		HZPY[4094] = (new short[] {
-			137
-		});
-		HZPY[4095] = (new short[] {
-			91
-		});
-		HZPY[4096] = (new short[] {
-			380
-		});
-		HZPY[4097] = (new short[] {
-			13
-		});
-		HZPY[4098] = (new short[] {
-			303
-		});
-		HZPY[4099] = (new short[] {
-			20
-		});
-		HZPY[4100] = (new short[] {
-			68
-		});
-		HZPY[4101] = (new short[] {
-			307
-		});
-		HZPY[4102] = (new short[] {
-			84
-		});
-		HZPY[4103] = (new short[] {
-			225
-		});
-		HZPY[4104] = (new short[] {
-			303
-		});
-		HZPY[4105] = (new short[] {
-			87
-		});
-		HZPY[4106] = (new short[] {
-			239
-		});
-		HZPY[4107] = (new short[] {
-			398
-		});
-		HZPY[4108] = (new short[] {
-			350
-		});
-		HZPY[4109] = (new short[] {
-			123
-		});
-		HZPY[4110] = (new short[] {
-			57
-		});
-		HZPY[4111] = (new short[] {
-			345
-		});
-		HZPY[4112] = (new short[] {
-			392
-		});
-		HZPY[4113] = (new short[] {
-			324
-		});
-		HZPY[4114] = (new short[] {
-			56
-		});
-		HZPY[4115] = (new short[] {
-			191
-		});
-		HZPY[4116] = (new short[] {
-			244
-		});
-		HZPY[4117] = (new short[] {
-			239
-		});
-		HZPY[4118] = (new short[] {
-			332
-		});
-		HZPY[4119] = (new short[] {
-			91
-		});
-		HZPY[4120] = (new short[] {
-			173
-		});
-		HZPY[4121] = (new short[] {
-			398
-		});
-		HZPY[4122] = (new short[] {
-			400
-		});
-		HZPY[4123] = (new short[] {
-			19
-		});
-		HZPY[4124] = (new short[] {
-			398
-		});
-		HZPY[4125] = (new short[] {
-			63
-		});
-		HZPY[4126] = (new short[] {
-			207
-		});
-		HZPY[4127] = (new short[] {
-			369
-		});
-		HZPY[4128] = (new short[] {
-			369
-		});
-		HZPY[4129] = (new short[] {
-			252
-		});
-		HZPY[4130] = (new short[] {
-			257
-		});
-		HZPY[4131] = (new short[] {
-			142
-		});
-		HZPY[4132] = (new short[] {
-			281
-		});
-		HZPY[4133] = (new short[] {
-			307, 312
-		});
-		HZPY[4134] = (new short[] {
-			56
-		});
-		HZPY[4135] = (new short[] {
-			396
-		});
-		HZPY[4136] = (new short[] {
-			310
-		});
-		HZPY[4137] = (new short[] {
-			260
-		});
-		HZPY[4138] = (new short[] {
-			396
-		});
-		HZPY[4139] = (new short[] {
-			303
-		});
-		HZPY[4140] = (new short[] {
-			270
-		});
-		HZPY[4141] = (new short[] {
-			350
-		});
-		HZPY[4142] = (new short[] {
-			8
-		});
-		HZPY[4143] = (new short[] {
-			56
-		});
-		HZPY[4144] = (new short[] {
-			108
-		});
-		HZPY[4145] = (new short[] {
-			39, 59
-		});
-		HZPY[4146] = (new short[] {
-			252
-		});
-		HZPY[4147] = (new short[] {
-			392
-		});
-		HZPY[4148] = (new short[] {
-			294
-		});
-		HZPY[4149] = (new short[] {
-			343
-		});
-		HZPY[4150] = (new short[] {
-			56
-		});
-		HZPY[4151] = (new short[] {
-			345
-		});
-		HZPY[4152] = (new short[] {
-			32
-		});
-		HZPY[4153] = (new short[] {
-			294
-		});
-		HZPY[4154] = (new short[] {
-			256
-		});
-		HZPY[4155] = (new short[] {
-			385
-		});
-		HZPY[4156] = (new short[] {
-			110
-		});
-		HZPY[4157] = (new short[] {
-			195
-		});
-		HZPY[4158] = (new short[] {
-			72
-		});
-		HZPY[4159] = (new short[] {
-			122
-		});
-		HZPY[4160] = (new short[] {
-			396, 397
-		});
-		HZPY[4161] = (new short[] {
-			360
-		});
-		HZPY[4162] = (new short[] {
-			200
-		});
-		HZPY[4163] = (new short[] {
-			345
-		});
-		HZPY[4164] = (new short[] {
-			348
-		});
-		HZPY[4165] = (new short[] {
-			91
-		});
-		HZPY[4166] = (new short[] {
-			369
-		});
-		HZPY[4167] = (new short[] {
-			8
-		});
-		HZPY[4168] = (new short[] {
-			252
-		});
-		HZPY[4169] = (new short[] {
-			229
-		});
-		HZPY[4170] = (new short[] {
-			101
-		});
-		HZPY[4171] = (new short[] {
-			241
-		});
-		HZPY[4172] = (new short[] {
-			127
-		});
-		HZPY[4173] = (new short[] {
-			59, 325
-		});
-		HZPY[4174] = (new short[] {
-			200
-		});
-		HZPY[4175] = (new short[] {
-			132
-		});
-		HZPY[4176] = (new short[] {
-			328
-		});
-		HZPY[4177] = (new short[] {
-			128
-		});
-		HZPY[4178] = (new short[] {
-			399
-		});
-		HZPY[4179] = (new short[] {
-			292
-		});
-		HZPY[4180] = (new short[] {
-			193
-		});
-		HZPY[4181] = (new short[] {
-			209
-		});
-		HZPY[4182] = (new short[] {
-			15
-		});
-		HZPY[4183] = (new short[] {
-			110
-		});
-		HZPY[4184] = (new short[] {
-			385
-		});
-		HZPY[4185] = (new short[] {
-			209
-		});
-		HZPY[4186] = (new short[] {
-			8
-		});
-		HZPY[4187] = (new short[] {
-			392
-		});
-		HZPY[4188] = (new short[] {
-			139
-		});
-		HZPY[4189] = (new short[] {
-			31
-		});
-		HZPY[4190] = (new short[] {
-			91
-		});
-		HZPY[4191] = (new short[] {
-			398
-		});
-		HZPY[4192] = (new short[] {
-			123
-		});
-		HZPY[4193] = (new short[] {
-			84
-		});
-		HZPY[4194] = (new short[] {
-			43, 405
-		});
-		HZPY[4195] = (new short[] {
-			13
-		});
-		HZPY[4196] = (new short[] {
-			13
-		});
-		HZPY[4197] = (new short[] {
-			229
-		});
-		HZPY[4198] = (new short[] {
-			200
-		});
-		HZPY[4199] = (new short[] {
-			260
-		});
-		HZPY[4200] = (new short[] {
-			57
-		});
-		HZPY[4201] = (new short[] {
-			87
-		});
-		HZPY[4202] = (new short[] {
-			199
-		});
-		HZPY[4203] = (new short[] {
-			8
-		});
-		HZPY[4204] = (new short[] {
-			39, 59
-		});
-		HZPY[4205] = (new short[] {
-			203
-		});
-		HZPY[4206] = (new short[] {
-			40
-		});
-		HZPY[4207] = (new short[] {
-			136
-		});
-		HZPY[4208] = (new short[] {
-			352
-		});
-		HZPY[4209] = (new short[] {
-			165
-		});
-		HZPY[4210] = (new short[] {
-			94
-		});
-		HZPY[4211] = (new short[] {
-			252
-		});
-		HZPY[4212] = (new short[] {
-			222
-		});
-		HZPY[4213] = (new short[] {
-			133
-		});
-		HZPY[4214] = (new short[] {
-			18
-		});
-		HZPY[4215] = (new short[] {
-			18
-		});
-		HZPY[4216] = (new short[] {
-			357
-		});
-		HZPY[4217] = (new short[] {
-			94
-		});
-		HZPY[4218] = (new short[] {
-			367
-		});
-		HZPY[4219] = (new short[] {
-			126
-		});
-		HZPY[4220] = (new short[] {
-			375
-		});
-		HZPY[4221] = (new short[] {
-			375
-		});
-		HZPY[4222] = (new short[] {
-			131
-		});
-		HZPY[4223] = (new short[] {
-			107, 2
-		});
-		HZPY[4224] = (new short[] {
-			247
-		});
-		HZPY[4225] = (new short[] {
-			333
-		});
-		HZPY[4226] = (new short[] {
-			385
-		});
-		HZPY[4227] = (new short[] {
-			107, 2
-		});
-		HZPY[4228] = (new short[] {
-			405
-		});
-		HZPY[4229] = (new short[] {
-			207
-		});
-		HZPY[4230] = (new short[] {
-			263
-		});
-		HZPY[4231] = (new short[] {
-			13
-		});
-		HZPY[4232] = (new short[] {
-			262
-		});
-		HZPY[4233] = (new short[] {
-			75
-		});
-		HZPY[4234] = (new short[] {
-			43
-		});
-		HZPY[4235] = (new short[] {
-			108
-		});
-		HZPY[4236] = (new short[] {
-			364
-		});
-		HZPY[4237] = (new short[] {
-			6
-		});
-		HZPY[4238] = (new short[] {
-			136
-		});
-		HZPY[4239] = (new short[] {
-			360
-		});
-		HZPY[4240] = (new short[] {
-			183
-		});
-		HZPY[4241] = (new short[] {
-			349
-		});
-		HZPY[4242] = (new short[] {
-			229
-		});
-		HZPY[4243] = (new short[] {
-			155
-		});
-		HZPY[4244] = (new short[] {
-			372
-		});
-		HZPY[4245] = (new short[] {
-			63, 60
-		});
-		HZPY[4246] = (new short[] {
-			243
-		});
-		HZPY[4247] = (new short[] {
-			65
-		});
-		HZPY[4248] = (new short[] {
-			364
-		});
-		HZPY[4249] = (new short[] {
-			202
-		});
-		HZPY[4250] = (new short[] {
-			100
-		});
-		HZPY[4251] = (new short[] {
-			47
-		});
-		HZPY[4252] = (new short[] {
-			91
-		});
-		HZPY[4253] = (new short[] {
-			334
-		});
-		HZPY[4254] = (new short[] {
-			242
-		});
-		HZPY[4255] = (new short[] {
-			86
-		});
-		HZPY[4256] = (new short[] {
-			353
-		});
-		HZPY[4257] = (new short[] {
-			369
-		});
-		HZPY[4258] = (new short[] {
-			398
-		});
-		HZPY[4259] = (new short[] {
-			331
-		});
-		HZPY[4260] = (new short[] {
-			398
-		});
-		HZPY[4261] = (new short[] {
-			359
-		});
-		HZPY[4262] = (new short[] {
-			72, 76
-		});
-		HZPY[4263] = (new short[] {
-			416
-		});
-		HZPY[4264] = (new short[] {
-			354
-		});
-		HZPY[4265] = (new short[] {
-			336
-		});
-		HZPY[4266] = (new short[] {
-			108
-		});
-		HZPY[4267] = (new short[] {
-			155
-		});
-		HZPY[4268] = (new short[] {
-			242, 194
-		});
-		HZPY[4269] = (new short[] {
-			333
-		});
-		HZPY[4270] = (new short[] {
-			375
-		});
-		HZPY[4271] = (new short[] {
-			20
-		});
-		HZPY[4272] = (new short[] {
-			18
-		});
-		HZPY[4273] = (new short[] {
-			36
-		});
-		HZPY[4274] = (new short[] {
-			164
-		});
-		HZPY[4275] = (new short[] {
-			13, 10
-		});
-		HZPY[4276] = (new short[] {
-			131
-		});
-		HZPY[4277] = (new short[] {
-			2
-		});
-		HZPY[4278] = (new short[] {
-			305
-		});
-		HZPY[4279] = (new short[] {
-			148
-		});
-		HZPY[4280] = (new short[] {
-			374
-		});
-		HZPY[4281] = (new short[] {
-			340
-		});
-		HZPY[4282] = (new short[] {
-			314
-		});
-		HZPY[4283] = (new short[] {
-			305
-		});
-		HZPY[4284] = (new short[] {
-			263
-		});
-		HZPY[4285] = (new short[] {
-			376
-		});
-		HZPY[4286] = (new short[] {
-			376
-		});
-		HZPY[4287] = (new short[] {
-			202
-		});
-		HZPY[4288] = (new short[] {
-			315
-		});
-		HZPY[4289] = (new short[] {
-			26, 47
-		});
-		HZPY[4290] = (new short[] {
-			353
-		});
-		HZPY[4291] = (new short[] {
-			86
-		});
-		HZPY[4292] = (new short[] {
-			140
-		});
-		HZPY[4293] = (new short[] {
-			116
-		});
-		HZPY[4294] = (new short[] {
-			128
-		});
-		HZPY[4295] = (new short[] {
-			179
-		});
-		HZPY[4296] = (new short[] {
-			294, 351
-		});
-		HZPY[4297] = (new short[] {
-			173
-		});
-		HZPY[4298] = (new short[] {
-			166
-		});
-		HZPY[4299] = (new short[] {
-			315
-		});
-		HZPY[4300] = (new short[] {
-			133
-		});
-		HZPY[4301] = (new short[] {
-			254
-		});
-		HZPY[4302] = (new short[] {
-			263
-		});
-		HZPY[4303] = (new short[] {
-			140
-		});
-		HZPY[4304] = (new short[] {
-			140
-		});
-		HZPY[4305] = (new short[] {
-			262, 137
-		});
-		HZPY[4306] = (new short[] {
-			4
-		});
-		HZPY[4307] = (new short[] {
-			162
-		});
-		HZPY[4308] = (new short[] {
-			182
-		});
-		HZPY[4309] = (new short[] {
-			371
-		});
-		HZPY[4310] = (new short[] {
-			175
-		});
-		HZPY[4311] = (new short[] {
-			56
-		});
-		HZPY[4312] = (new short[] {
-			183
-		});
-		HZPY[4313] = (new short[] {
-			369
-		});
-		HZPY[4314] = (new short[] {
-			40
-		});
-		HZPY[4315] = (new short[] {
-			31
-		});
-		HZPY[4316] = (new short[] {
-			336
-		});
-		HZPY[4317] = (new short[] {
-			313
-		});
-		HZPY[4318] = (new short[] {
-			356
-		});
-		HZPY[4319] = (new short[] {
-			202
-		});
-		HZPY[4320] = (new short[] {
-			32, 2
-		});
-		HZPY[4321] = (new short[] {
-			349
-		});
-		HZPY[4322] = (new short[] {
-			86
-		});
-		HZPY[4323] = (new short[] {
-			107, 2
-		});
-		HZPY[4324] = (new short[] {
-			229
-		});
-		HZPY[4325] = (new short[] {
-			105
-		});
-		HZPY[4326] = (new short[] {
-			13
-		});
-		HZPY[4327] = (new short[] {
-			259
-		});
-		HZPY[4328] = (new short[] {
-			355
-		});
-		HZPY[4329] = (new short[] {
-			177
-		});
-		HZPY[4330] = (new short[] {
-			177
-		});
-		HZPY[4331] = (new short[] {
-			175
-		});
-		HZPY[4332] = (new short[] {
-			183
-		});
-		HZPY[4333] = (new short[] {
-			229
-		});
-		HZPY[4334] = (new short[] {
-			372
-		});
-		HZPY[4335] = (new short[] {
-			352
-		});
-		HZPY[4336] = (new short[] {
-			333
-		});
-		HZPY[4337] = (new short[] {
-			374
-		});
-		HZPY[4338] = (new short[] {
-			171
-		});
-		HZPY[4339] = (new short[] {
-			333
-		});
-		HZPY[4340] = (new short[] {
-			371
-		});
-		HZPY[4341] = (new short[] {
-			363
-		});
-		HZPY[4342] = (new short[] {
-			365
-		});
-		HZPY[4343] = (new short[] {
-			333
-		});
-		HZPY[4344] = (new short[] {
-			63
-		});
-		HZPY[4345] = (new short[] {
-			253
-		});
-		HZPY[4346] = (new short[] {
-			133
-		});
-		HZPY[4347] = (new short[] {
-			128
-		});
-		HZPY[4348] = (new short[] {
-			212
-		});
-		HZPY[4349] = (new short[] {
-			128
-		});
-		HZPY[4350] = (new short[] {
-			101
-		});
-		HZPY[4351] = (new short[] {
-			222
-		});
-		HZPY[4352] = (new short[] {
-			146
-		});
-		HZPY[4353] = (new short[] {
-			14
-		});
-		HZPY[4354] = (new short[] {
-			369
-		});
-		HZPY[4355] = (new short[] {
-			256
-		});
-		HZPY[4356] = (new short[] {
-			230, 181
-		});
-		HZPY[4357] = (new short[] {
-			87
-		});
-		HZPY[4358] = (new short[] {
-			141
-		});
-		HZPY[4359] = (new short[] {
-			365
-		});
-		HZPY[4360] = (new short[] {
-			369
-		});
-		HZPY[4361] = (new short[] {
-			383, 405
-		});
-		HZPY[4362] = (new short[] {
-			13
-		});
-		HZPY[4363] = (new short[] {
-			369
-		});
-		HZPY[4364] = (new short[] {
-			369
-		});
-		HZPY[4365] = (new short[] {
-			82
-		});
-		HZPY[4366] = (new short[] {
-			288
-		});
-		HZPY[4367] = (new short[] {
-			303
-		});
-		HZPY[4368] = (new short[] {
-			82
-		});
-		HZPY[4369] = (new short[] {
-			303
-		});
-		HZPY[4370] = (new short[] {
-			303
-		});
-		HZPY[4371] = (new short[] {
-			101
-		});
-		HZPY[4372] = (new short[] {
-			66
-		});
-		HZPY[4373] = (new short[] {
-			371
-		});
-		HZPY[4374] = (new short[] {
-			123
-		});
-		HZPY[4375] = (new short[] {
-			91
-		});
-		HZPY[4376] = (new short[] {
-			121
-		});
-		HZPY[4377] = (new short[] {
-			349
-		});
-		HZPY[4378] = (new short[] {
-			338
-		});
-		HZPY[4379] = (new short[] {
-			37
-		});
-		HZPY[4380] = (new short[] {
-			259
-		});
-		HZPY[4381] = (new short[] {
-			5
-		});
-		HZPY[4382] = (new short[] {
-			301
-		});
-		HZPY[4383] = (new short[] {
-			63
-		});
-		HZPY[4384] = (new short[] {
-			392
-		});
-		HZPY[4385] = (new short[] {
-			143
-		});
-		HZPY[4386] = (new short[] {
-			325
-		});
-		HZPY[4387] = (new short[] {
-			91
-		});
-		HZPY[4388] = (new short[] {
-			63
-		});
-		HZPY[4389] = (new short[] {
-			200
-		});
-		HZPY[4390] = (new short[] {
-			352
-		});
-		HZPY[4391] = (new short[] {
-			123
-		});
-		HZPY[4392] = (new short[] {
-			33
-		});
-		HZPY[4393] = (new short[] {
-			232
-		});
-		HZPY[4394] = (new short[] {
-			138
-		});
-		HZPY[4395] = (new short[] {
-			396
-		});
-		HZPY[4396] = (new short[] {
-			369
-		});
-		HZPY[4397] = (new short[] {
-			200
-		});
-		HZPY[4398] = (new short[] {
-			267
-		});
-		HZPY[4399] = (new short[] {
-			343
-		});
-		HZPY[4400] = (new short[] {
-			298
-		});
-		HZPY[4401] = (new short[] {
-			285
-		});
-		HZPY[4402] = (new short[] {
-			361
-		});
-		HZPY[4403] = (new short[] {
-			138
-		});
-		HZPY[4404] = (new short[] {
-			66
-		});
-		HZPY[4405] = (new short[] {
-			392
-		});
-		HZPY[4406] = (new short[] {
-			134
-		});
-		HZPY[4407] = (new short[] {
-			259, 134
-		});
-		HZPY[4408] = (new short[] {
-			12
-		});
-		HZPY[4409] = (new short[] {
-			57, 323
-		});
-		HZPY[4410] = (new short[] {
-			259, 134
-		});
-		HZPY[4411] = (new short[] {
-			13
-		});
-		HZPY[4412] = (new short[] {
-			13
-		});
-		HZPY[4413] = (new short[] {
-			299
-		});
-		HZPY[4414] = (new short[] {
-			57, 323
-		});
-		HZPY[4415] = (new short[] {
-			133
-		});
-		HZPY[4416] = (new short[] {
-			102
-		});
-		HZPY[4417] = (new short[] {
-			229
-		});
-		HZPY[4418] = (new short[] {
-			83
-		});
-		HZPY[4419] = (new short[] {
-			13
-		});
-		HZPY[4420] = (new short[] {
-			154
-		});
-		HZPY[4421] = (new short[] {
-			229
-		});
-		HZPY[4422] = (new short[] {
-			16
-		});
-		HZPY[4423] = (new short[] {
-			354
-		});
-		HZPY[4424] = (new short[] {
-			57, 323
-		});
-		HZPY[4425] = (new short[] {
-			159
-		});
-		HZPY[4426] = (new short[] {
-			259, 134
-		});
-		HZPY[4427] = (new short[] {
-			121
-		});
-		HZPY[4428] = (new short[] {
-			200
-		});
-		HZPY[4429] = (new short[] {
-			162
-		});
-		HZPY[4430] = (new short[] {
-			343
-		});
-		HZPY[4431] = (new short[] {
-			143
-		});
-		HZPY[4432] = (new short[] {
-			131
-		});
-		HZPY[4433] = (new short[] {
-			131
-		});
-		HZPY[4434] = (new short[] {
-			108
-		});
-		HZPY[4435] = (new short[] {
-			58
-		});
-		HZPY[4436] = (new short[] {
-			183
-		});
-		HZPY[4437] = (new short[] {
-			183
-		});
-		HZPY[4438] = (new short[] {
-			337
-		});
-		HZPY[4439] = (new short[] {
-			128
-		});
-		HZPY[4440] = (new short[] {
-			398
-		});
-		HZPY[4441] = (new short[] {
-			128
-		});
-		HZPY[4442] = (new short[] {
-			128
-		});
-		HZPY[4443] = (new short[] {
-			369
-		});
-		HZPY[4444] = (new short[] {
-			369
-		});
-		HZPY[4445] = (new short[] {
-			369
-		});
-		HZPY[4446] = (new short[] {
-			369
-		});
-		HZPY[4447] = (new short[] {
-			130
-		});
-		HZPY[4448] = (new short[] {
-			130
-		});
-		HZPY[4449] = (new short[] {
-			296
-		});
-		HZPY[4450] = (new short[] {
-			357
-		});
-		HZPY[4451] = (new short[] {
-			392
-		});
-		HZPY[4452] = (new short[] {
-			334
-		});
-		HZPY[4453] = (new short[] {
-			365
-		});
-		HZPY[4454] = (new short[] {
-			365
-		});
-		HZPY[4455] = (new short[] {
-			376
-		});
-		HZPY[4456] = (new short[] {
-			37
-		});
-		HZPY[4457] = (new short[] {
-			22
-		});
-		HZPY[4458] = (new short[] {
-			15
-		});
-		HZPY[4459] = (new short[] {
-			66
-		});
-		HZPY[4460] = (new short[] {
-			17
-		});
-		HZPY[4461] = (new short[] {
-			246
-		});
-		HZPY[4462] = (new short[] {
-			374
-		});
-		HZPY[4463] = (new short[] {
-			249
-		});
-		HZPY[4464] = (new short[] {
-			392
-		});
-		HZPY[4465] = (new short[] {
-			372
-		});
-		HZPY[4466] = (new short[] {
-			37
-		});
-		HZPY[4467] = (new short[] {
-			37
-		});
-		HZPY[4468] = (new short[] {
-			408
-		});
-		HZPY[4469] = (new short[] {
-			340
-		});
-		HZPY[4470] = (new short[] {
-			131
-		});
-		HZPY[4471] = (new short[] {
-			242, 85
-		});
-		HZPY[4472] = (new short[] {
-			399
-		});
-		HZPY[4473] = (new short[] {
-			369
-		});
-		HZPY[4474] = (new short[] {
-			344
-		});
-		HZPY[4475] = (new short[] {
-			34
-		});
-		HZPY[4476] = (new short[] {
-			13
-		});
-		HZPY[4477] = (new short[] {
-			63
-		});
-		HZPY[4478] = (new short[] {
-			178
-		});
-		HZPY[4479] = (new short[] {
-			91
-		});
-		HZPY[4480] = (new short[] {
-			344
-		});
-		HZPY[4481] = (new short[] {
-			397
-		});
-		HZPY[4482] = (new short[] {
-			50
-		});
-		HZPY[4483] = (new short[] {
-			344
-		});
-		HZPY[4484] = (new short[] {
-			138
-		});
-		HZPY[4485] = (new short[] {
-			56
-		});
-		HZPY[4486] = (new short[] {
-			350
-		});
-		HZPY[4487] = (new short[] {
-			363
-		});
-		HZPY[4488] = (new short[] {
-			118
-		});
-		HZPY[4489] = (new short[] {
-			366
-		});
-		HZPY[4490] = (new short[] {
-			125, 128
-		});
-		HZPY[4491] = (new short[] {
-			184
-		});
-		HZPY[4492] = (new short[] {
-			122
-		});
-		HZPY[4493] = (new short[] {
-			344
-		});
-		HZPY[4494] = (new short[] {
-			36
-		});
-		HZPY[4495] = (new short[] {
-			398
-		});
-		HZPY[4496] = (new short[] {
-			360
-		});
-		HZPY[4497] = (new short[] {
-			138
-		});
-		HZPY[4498] = (new short[] {
-			336
-		});
-		HZPY[4499] = (new short[] {
-			48
-		});
-		HZPY[4500] = (new short[] {
-			229
-		});
-		HZPY[4501] = (new short[] {
-			164
-		});
-		HZPY[4502] = (new short[] {
-			48
-		});
-		HZPY[4503] = (new short[] {
-			60, 61
-		});
-		HZPY[4504] = (new short[] {
-			240
-		});
-		HZPY[4505] = (new short[] {
-			350
-		});
-		HZPY[4506] = (new short[] {
-			229
-		});
-		HZPY[4507] = (new short[] {
-			256
-		});
-		HZPY[4508] = (new short[] {
-			32
-		});
-		HZPY[4509] = (new short[] {
-			398
-		});
-		HZPY[4510] = (new short[] {
-			48, 410
-		});
-		HZPY[4511] = (new short[] {
-			400
-		});
-		HZPY[4512] = (new short[] {
-			164
-		});
-		HZPY[4513] = (new short[] {
-			376
-		});
-		HZPY[4514] = (new short[] {
-			355
-		});
-		HZPY[4515] = (new short[] {
-			136
-		});
-		HZPY[4516] = (new short[] {
-			133
-		});
-		HZPY[4517] = (new short[] {
-			37, 303
-		});
-		HZPY[4518] = (new short[] {
-			132
-		});
-		HZPY[4519] = (new short[] {
-			14
-		});
-		HZPY[4520] = (new short[] {
-			127
-		});
-		HZPY[4521] = (new short[] {
-			91
-		});
-		HZPY[4522] = (new short[] {
-			363
-		});
-		HZPY[4523] = (new short[] {
-			345
-		});
-		HZPY[4524] = (new short[] {
-			242
-		});
-		HZPY[4525] = (new short[] {
-			367
-		});
-		HZPY[4526] = (new short[] {
-			345
-		});
-		HZPY[4527] = (new short[] {
-			350
-		});
-		HZPY[4528] = (new short[] {
-			397
-		});
-		HZPY[4529] = (new short[] {
-			249
-		});
-		HZPY[4530] = (new short[] {
-			37
-		});
-		HZPY[4531] = (new short[] {
-			60
-		});
-		HZPY[4532] = (new short[] {
-			397
-		});
-		HZPY[4533] = (new short[] {
-			398, 397
-		});
-		HZPY[4534] = (new short[] {
-			16
-		});
-		HZPY[4535] = (new short[] {
-			60
-		});
-		HZPY[4536] = (new short[] {
-			38
-		});
-		HZPY[4537] = (new short[] {
-			34
-		});
-		HZPY[4538] = (new short[] {
-			135
-		});
-		HZPY[4539] = (new short[] {
-			345
-		});
-		HZPY[4540] = (new short[] {
-			135, 132
-		});
-		HZPY[4541] = (new short[] {
-			128
-		});
-		HZPY[4542] = (new short[] {
-			197
-		});
-		HZPY[4543] = (new short[] {
-			181
-		});
-		HZPY[4544] = (new short[] {
-			353
-		});
-		HZPY[4545] = (new short[] {
-			9
-		});
-		HZPY[4546] = (new short[] {
-			266
-		});
-		HZPY[4547] = (new short[] {
-			356
-		});
-		HZPY[4548] = (new short[] {
-			356
-		});
-		HZPY[4549] = (new short[] {
-			13
-		});
-		HZPY[4550] = (new short[] {
-			369
-		});
-		HZPY[4551] = (new short[] {
-			168
-		});
-		HZPY[4552] = (new short[] {
-			276
-		});
-		HZPY[4553] = (new short[] {
-			59
-		});
-		HZPY[4554] = (new short[] {
-			68
-		});
-		HZPY[4555] = (new short[] {
-			93
-		});
-		HZPY[4556] = (new short[] {
-			131
-		});
-		HZPY[4557] = (new short[] {
-			276
-		});
-		HZPY[4558] = (new short[] {
-			276
-		});
-		HZPY[4559] = (new short[] {
-			31
-		});
-		HZPY[4560] = (new short[] {
-			323
-		});
-		HZPY[4561] = (new short[] {
-			326
-		});
-		HZPY[4562] = (new short[] {
-			326, 338, 327
-		});
-		HZPY[4563] = (new short[] {
-			94
-		});
-		HZPY[4564] = (new short[] {
-			256
-		});
-		HZPY[4565] = (new short[] {
-			56
-		});
-		HZPY[4566] = (new short[] {
-			53
-		});
-		HZPY[4567] = (new short[] {
-			398
-		});
-		HZPY[4568] = (new short[] {
-			344
-		});
-		HZPY[4569] = (new short[] {
-			194
-		});
-		HZPY[4570] = (new short[] {
-			350
-		});
-		HZPY[4571] = (new short[] {
-			84
-		});
-		HZPY[4572] = (new short[] {
-			372
-		});
-		HZPY[4573] = (new short[] {
-			330
-		});
-		HZPY[4574] = (new short[] {
-			204
-		});
-		HZPY[4575] = (new short[] {
-			204
-		});
-		HZPY[4576] = (new short[] {
-			399
-		});
-		HZPY[4577] = (new short[] {
-			38
-		});
-		HZPY[4578] = (new short[] {
-			349
-		});
-		HZPY[4579] = (new short[] {
-			131
-		});
-		HZPY[4580] = (new short[] {
-			349
-		});
-		HZPY[4581] = (new short[] {
-			350
-		});
-		HZPY[4582] = (new short[] {
-			368
-		});
-		HZPY[4583] = (new short[] {
-			375
-		});
-		HZPY[4584] = (new short[] {
-			343
-		});
-		HZPY[4585] = (new short[] {
-			410
-		});
-		HZPY[4586] = (new short[] {
-			399, 314
-		});
-		HZPY[4587] = (new short[] {
-			157
-		});
-		HZPY[4588] = (new short[] {
-			376
-		});
-		HZPY[4589] = (new short[] {
-			14
-		});
-		HZPY[4590] = (new short[] {
-			398
-		});
-		HZPY[4591] = (new short[] {
-			37
-		});
-		HZPY[4592] = (new short[] {
-			52
-		});
-		HZPY[4593] = (new short[] {
-			35
-		});
-		HZPY[4594] = (new short[] {
-			322
-		});
-		HZPY[4595] = (new short[] {
-			339
-		});
-		HZPY[4596] = (new short[] {
-			258
-		});
-		HZPY[4597] = (new short[] {
-			222
-		});
-		HZPY[4598] = (new short[] {
-			129
-		});
-		HZPY[4599] = (new short[] {
-			358
-		});
-		HZPY[4600] = (new short[] {
-			228, 233
-		});
-		HZPY[4601] = (new short[] {
-			344
-		});
-		HZPY[4602] = (new short[] {
-			352
-		});
-		HZPY[4603] = (new short[] {
-			356
-		});
-		HZPY[4604] = (new short[] {
-			148
-		});
-		HZPY[4605] = (new short[] {
-			123
-		});
-		HZPY[4606] = (new short[] {
-			146
-		});
-		HZPY[4607] = (new short[] {
-			87
-		});
-		HZPY[4608] = (new short[] {
-			125
-		});
-		HZPY[4609] = (new short[] {
-			322
-		});
-		HZPY[4610] = (new short[] {
-			314
-		});
-		HZPY[4611] = (new short[] {
-			349
-		});
-		HZPY[4612] = (new short[] {
-			238
-		});
-		HZPY[4613] = (new short[] {
-			32
-		});
-		HZPY[4614] = (new short[] {
-			43
-		});
-		HZPY[4615] = (new short[] {
-			141
-		});
-		HZPY[4616] = (new short[] {
-			369
-		});
-		HZPY[4617] = (new short[] {
-			9
-		});
-		HZPY[4618] = (new short[] {
-			33
-		});
-		HZPY[4619] = (new short[] {
-			204
-		});
-		HZPY[4620] = (new short[] {
-			247
-		});
-		HZPY[4621] = (new short[] {
-			416
-		});
-		HZPY[4622] = (new short[] {
-			387, 385
-		});
-		HZPY[4623] = (new short[] {
-			366
-		});
-		HZPY[4624] = (new short[] {
-			154
-		});
-		HZPY[4625] = (new short[] {
-			7
-		});
-		HZPY[4626] = (new short[] {
-			232
-		});
-		HZPY[4627] = (new short[] {
-			215
-		});
-		HZPY[4628] = (new short[] {
-			397
-		});
-		HZPY[4629] = (new short[] {
-			239
-		});
-		HZPY[4630] = (new short[] {
-			20
-		});
-		HZPY[4631] = (new short[] {
-			332
-		});
-		HZPY[4632] = (new short[] {
-			123
-		});
-		HZPY[4633] = (new short[] {
-			123
-		});
-		HZPY[4634] = (new short[] {
-			141
-		});
-		HZPY[4635] = (new short[] {
-			55
-		});
-		HZPY[4636] = (new short[] {
-			173, 178
-		});
-		HZPY[4637] = (new short[] {
-			313, 287
-		});
-		HZPY[4638] = (new short[] {
-			400
-		});
-		HZPY[4639] = (new short[] {
-			63
-		});
-		HZPY[4640] = (new short[] {
-			56
-		});
-		HZPY[4641] = (new short[] {
-			369
-		});
-		HZPY[4642] = (new short[] {
-			336
-		});
-		HZPY[4643] = (new short[] {
-			375
-		});
-		HZPY[4644] = (new short[] {
-			91
-		});
-		HZPY[4645] = (new short[] {
-			131
-		});
-		HZPY[4646] = (new short[] {
-			246
-		});
-		HZPY[4647] = (new short[] {
-			357
-		});
-		HZPY[4648] = (new short[] {
-			377
-		});
-		HZPY[4649] = (new short[] {
-			221
-		});
-		HZPY[4650] = (new short[] {
-			105
-		});
-		HZPY[4651] = (new short[] {
-			91, 86
-		});
-		HZPY[4652] = (new short[] {
-			350
-		});
-		HZPY[4653] = (new short[] {
-			13
-		});
-		HZPY[4654] = (new short[] {
-			375
-		});
-		HZPY[4655] = (new short[] {
-			261, 268
-		});
-		HZPY[4656] = (new short[] {
-			361
-		});
-		HZPY[4657] = (new short[] {
-			410
-		});
-		HZPY[4658] = (new short[] {
-			18
-		});
-		HZPY[4659] = (new short[] {
-			127
-		});
-		HZPY[4660] = (new short[] {
-			360
-		});
-		HZPY[4661] = (new short[] {
-			40
-		});
-		HZPY[4662] = (new short[] {
-			247
-		});
-		HZPY[4663] = (new short[] {
-			350
-		});
-		HZPY[4664] = (new short[] {
-			350
-		});
-		HZPY[4665] = (new short[] {
-			323
-		});
-		HZPY[4666] = (new short[] {
-			229
-		});
-		HZPY[4667] = (new short[] {
-			410
-		});
-		HZPY[4668] = (new short[] {
-			74
-		});
-		HZPY[4669] = (new short[] {
-			229
-		});
-		HZPY[4670] = (new short[] {
-			229
-		});
-		HZPY[4671] = (new short[] {
-			369
-		});
-		HZPY[4672] = (new short[] {
-			37
-		});
-		HZPY[4673] = (new short[] {
-			218, 276, 226
-		});
-		HZPY[4674] = (new short[] {
-			363
-		});
-		HZPY[4675] = (new short[] {
-			303
-		});
-		HZPY[4676] = (new short[] {
-			350
-		});
-		HZPY[4677] = (new short[] {
-			167
-		});
-		HZPY[4678] = (new short[] {
-			119
-		});
-		HZPY[4679] = (new short[] {
-			159
-		});
-		HZPY[4680] = (new short[] {
-			208, 209
-		});
-		HZPY[4681] = (new short[] {
-			398
-		});
-		HZPY[4682] = (new short[] {
-			355
-		});
-		HZPY[4683] = (new short[] {
-			173
-		});
-		HZPY[4684] = (new short[] {
-			331
-		});
-		HZPY[4685] = (new short[] {
-			127
-		});
-		HZPY[4686] = (new short[] {
-			67
-		});
-		HZPY[4687] = (new short[] {
-			115
-		});
-		HZPY[4688] = (new short[] {
-			153
-		});
-		HZPY[4689] = (new short[] {
-			108
-		});
-		HZPY[4690] = (new short[] {
-			119
-		});
-		HZPY[4691] = (new short[] {
-			350
-		});
-		HZPY[4692] = (new short[] {
-			354
-		});
-		HZPY[4693] = (new short[] {
-			305
-		});
-		HZPY[4694] = (new short[] {
-			287, 313
-		});
-		HZPY[4695] = (new short[] {
-			123
-		});
-		HZPY[4696] = (new short[] {
-			265
-		});
-		HZPY[4697] = (new short[] {
-			366
-		});
-		HZPY[4698] = (new short[] {
-			128
-		});
-		HZPY[4699] = (new short[] {
-			128
-		});
-		HZPY[4700] = (new short[] {
-			37
-		});
-		HZPY[4701] = (new short[] {
-			132
-		});
-		HZPY[4702] = (new short[] {
-			369
-		});
-		HZPY[4703] = (new short[] {
-			358
-		});
-		HZPY[4704] = (new short[] {
-			105
-		});
-		HZPY[4705] = (new short[] {
-			177
-		});
-		HZPY[4706] = (new short[] {
-			128
-		});
-		HZPY[4707] = (new short[] {
-			409
-		});
-		HZPY[4708] = (new short[] {
-			360
-		});
-		HZPY[4709] = (new short[] {
-			37
-		});
-		HZPY[4710] = (new short[] {
-			353
-		});
-		HZPY[4711] = (new short[] {
-			233
-		});
-		HZPY[4712] = (new short[] {
-			118
-		});
-		HZPY[4713] = (new short[] {
-			80
-		});
-		HZPY[4714] = (new short[] {
-			150, 268
-		});
-		HZPY[4715] = (new short[] {
-			70, 334
-		});
-		HZPY[4716] = (new short[] {
-			330
-		});
-		HZPY[4717] = (new short[] {
-			101
-		});
-		HZPY[4718] = (new short[] {
-			267
-		});
-		HZPY[4719] = (new short[] {
-			350
-		});
-		HZPY[4720] = (new short[] {
-			257
-		});
-		HZPY[4721] = (new short[] {
-			378
-		});
-		HZPY[4722] = (new short[] {
-			246
-		});
-		HZPY[4723] = (new short[] {
-			151
-		});
-		HZPY[4724] = (new short[] {
-			60
-		});
-		HZPY[4725] = (new short[] {
-			128
-		});
-		HZPY[4726] = (new short[] {
-			77, 349
-		});
-		HZPY[4727] = (new short[] {
-			229
-		});
-		HZPY[4728] = (new short[] {
-			334
-		});
-		HZPY[4729] = (new short[] {
-			365
-		});
-		HZPY[4730] = (new short[] {
-			146
-		});
-		HZPY[4731] = (new short[] {
-			26
-		});
-		HZPY[4732] = (new short[] {
-			215
-		});
-		HZPY[4733] = (new short[] {
-			379
-		});
-		HZPY[4734] = (new short[] {
-			194
-		});
-		HZPY[4735] = (new short[] {
-			374
-		});
-		HZPY[4736] = (new short[] {
-			374
-		});
-		HZPY[4737] = (new short[] {
-			142
-		});
-		HZPY[4738] = (new short[] {
-			194
-		});
-		HZPY[4739] = (new short[] {
-			161
-		});
-		HZPY[4740] = (new short[] {
-			260
-		});
-		HZPY[4741] = (new short[] {
-			378
-		});
-		HZPY[4742] = (new short[] {
-			376
-		});
-		HZPY[4743] = (new short[] {
-			376
-		});
-		HZPY[4744] = (new short[] {
-			136
-		});
-		HZPY[4745] = (new short[] {
-			350
-		});
-		HZPY[4746] = (new short[] {
-			394, 256
-		});
-		HZPY[4747] = (new short[] {
-			177
-		});
-		HZPY[4748] = (new short[] {
-			329
-		});
-		HZPY[4749] = (new short[] {
-			113
-		});
-		HZPY[4750] = (new short[] {
-			115
-		});
-		HZPY[4751] = (new short[] {
-			261
-		});
-		HZPY[4752] = (new short[] {
-			329
-		});
-		HZPY[4753] = (new short[] {
-			20
-		});
-		HZPY[4754] = (new short[] {
-			369
-		});
-		HZPY[4755] = (new short[] {
-			258
-		});
-		HZPY[4756] = (new short[] {
-			128
-		});
-		HZPY[4757] = (new short[] {
-			350
-		});
-		HZPY[4758] = (new short[] {
-			10
-		});
-		HZPY[4759] = (new short[] {
-			193
-		});
-		HZPY[4760] = (new short[] {
-			369
-		});
-		HZPY[4761] = (new short[] {
-			119
-		});
-		HZPY[4762] = (new short[] {
-			314
-		});
-		HZPY[4763] = (new short[] {
-			267
-		});
-		HZPY[4764] = (new short[] {
-			36
-		});
-		HZPY[4765] = (new short[] {
-			160, 171
-		});
-		HZPY[4766] = (new short[] {
-			349
-		});
-		HZPY[4767] = (new short[] {
-			349
-		});
-		HZPY[4768] = (new short[] {
-			375
-		});
-		HZPY[4769] = (new short[] {
-			171
-		});
-		HZPY[4770] = (new short[] {
-			174
-		});
-		HZPY[4771] = (new short[] {
-			126
-		});
-		HZPY[4772] = (new short[] {
-			48
-		});
-		HZPY[4773] = (new short[] {
-			369
-		});
-		HZPY[4774] = (new short[] {
-			378
-		});
-		HZPY[4775] = (new short[] {
-			171
-		});
-		HZPY[4776] = (new short[] {
-			226
-		});
-		HZPY[4777] = (new short[] {
-			215
-		});
-		HZPY[4778] = (new short[] {
-			77, 349
-		});
-		HZPY[4779] = (new short[] {
-			268
-		});
-		HZPY[4780] = (new short[] {
-			361
-		});
-		HZPY[4781] = (new short[] {
-			258
-		});
-		HZPY[4782] = (new short[] {
-			349
-		});
-		HZPY[4783] = (new short[] {
-			204
-		});
-		HZPY[4784] = (new short[] {
-			48
-		});
-		HZPY[4785] = (new short[] {
-			86
-		});
-		HZPY[4786] = (new short[] {
-			10
-		});
-		HZPY[4787] = (new short[] {
-			60
-		});
-		HZPY[4788] = (new short[] {
-			52
-		});
-		HZPY[4789] = (new short[] {
-			32
-		});
-		HZPY[4790] = (new short[] {
-			198
-		});
-		HZPY[4791] = (new short[] {
-			171
-		});
-		HZPY[4792] = (new short[] {
-			131
-		});
-		HZPY[4793] = (new short[] {
-			106
-		});
-		HZPY[4794] = (new short[] {
-			106
-		});
-		HZPY[4795] = (new short[] {
-			357
-		});
-		HZPY[4796] = (new short[] {
-			59
-		});
-		HZPY[4797] = (new short[] {
-			256
-		});
-		HZPY[4798] = (new short[] {
-			153
-		});
-		HZPY[4799] = (new short[] {
-			330
-		});
-		HZPY[4800] = (new short[] {
-			188
-		});
-		HZPY[4801] = (new short[] {
-			350
-		});
-		HZPY[4802] = (new short[] {
-			147
-		});
-		HZPY[4803] = (new short[] {
-			161
-		});
-		HZPY[4804] = (new short[] {
-			221
-		});
-		HZPY[4805] = (new short[] {
-			263
-		});
-		HZPY[4806] = (new short[] {
-			39
-		});
-		HZPY[4807] = (new short[] {
-			75
-		});
-		HZPY[4808] = (new short[] {
-			110
-		});
-		HZPY[4809] = (new short[] {
-			31
-		});
-		HZPY[4810] = (new short[] {
-			138
-		});
-		HZPY[4811] = (new short[] {
-			343
-		});
-		HZPY[4812] = (new short[] {
-			377
-		});
-		HZPY[4813] = (new short[] {
-			137
-		});
-		HZPY[4814] = (new short[] {
-			131
-		});
-		HZPY[4815] = (new short[] {
-			177
-		});
-		HZPY[4816] = (new short[] {
-			376
-		});
-		HZPY[4817] = (new short[] {
-			130
-		});
-		HZPY[4818] = (new short[] {
-			116
-		});
-		HZPY[4819] = (new short[] {
-			267
-		});
-		HZPY[4820] = (new short[] {
-			365
-		});
-		HZPY[4821] = (new short[] {
-			329
-		});
-		HZPY[4822] = (new short[] {
-			329
-		});
-		HZPY[4823] = (new short[] {
-			225
-		});
-		HZPY[4824] = (new short[] {
-			344
-		});
-		HZPY[4825] = (new short[] {
-			46
-		});
-		HZPY[4826] = (new short[] {
-			123
-		});
-		HZPY[4827] = (new short[] {
-			129
-		});
-		HZPY[4828] = (new short[] {
-			350
-		});
-		HZPY[4829] = (new short[] {
-			32
-		});
-		HZPY[4830] = (new short[] {
-			356
-		});
-		HZPY[4831] = (new short[] {
-			345
-		});
-		HZPY[4832] = (new short[] {
-			128
-		});
-		HZPY[4833] = (new short[] {
-			77, 349
-		});
-		HZPY[4834] = (new short[] {
-			283
-		});
-		HZPY[4835] = (new short[] {
-			410
-		});
-		HZPY[4836] = (new short[] {
-			133
-		});
-		HZPY[4837] = (new short[] {
-			374
-		});
-		HZPY[4838] = (new short[] {
-			65
-		});
-		HZPY[4839] = (new short[] {
-			141
-		});
-		HZPY[4840] = (new short[] {
-			23
-		});
-		HZPY[4841] = (new short[] {
-			36
-		});
-		HZPY[4842] = (new short[] {
-			60
-		});
-		HZPY[4843] = (new short[] {
-			10
-		});
-		HZPY[4844] = (new short[] {
-			261
-		});
-		HZPY[4845] = (new short[] {
-			23
-		});
-		HZPY[4846] = (new short[] {
-			57
-		});
-		HZPY[4847] = (new short[] {
-			106
-		});
-		HZPY[4848] = (new short[] {
-			76
-		});
-		HZPY[4849] = (new short[] {
-			215
-		});
-		HZPY[4850] = (new short[] {
-			379
-		});
-		HZPY[4851] = (new short[] {
-			353
-		});
-		HZPY[4852] = (new short[] {
-			406
-		});
-		HZPY[4853] = (new short[] {
-			67
-		});
-		HZPY[4854] = (new short[] {
-			127
-		});
-		HZPY[4855] = (new short[] {
-			45
-		});
-		HZPY[4856] = (new short[] {
-			264
-		});
-		HZPY[4857] = (new short[] {
-			275
-		});
-		HZPY[4858] = (new short[] {
-			357
-		});
-		HZPY[4859] = (new short[] {
-			26
-		});
-		HZPY[4860] = (new short[] {
-			14
-		});
-		HZPY[4861] = (new short[] {
-			129
-		});
-		HZPY[4862] = (new short[] {
-			410
-		});
-		HZPY[4863] = (new short[] {
-			329
-		});
-		HZPY[4864] = (new short[] {
-			260
-		});
-		HZPY[4865] = (new short[] {
-			39
-		});
-		HZPY[4866] = (new short[] {
-			10
-		});
-		HZPY[4867] = (new short[] {
-			361
-		});
-		HZPY[4868] = (new short[] {
-			345
-		});
-		HZPY[4869] = (new short[] {
-			97
-		});
-		HZPY[4870] = (new short[] {
-			258
-		});
-		HZPY[4871] = (new short[] {
-			345
-		});
-		HZPY[4872] = (new short[] {
-			376
-		});
-		HZPY[4873] = (new short[] {
-			376
-		});
-		HZPY[4874] = (new short[] {
-			13
-		});
-		HZPY[4875] = (new short[] {
-			361
-		});
-		HZPY[4876] = (new short[] {
-			126
-		});
-		HZPY[4877] = (new short[] {
-			204
-		});
-		HZPY[4878] = (new short[] {
-			13
-		});
-		HZPY[4879] = (new short[] {
-			369
-		});
-		HZPY[4880] = (new short[] {
-			201
-		});
-		HZPY[4881] = (new short[] {
-			374
-		});
-		HZPY[4882] = (new short[] {
-			146, 256
-		});
-		HZPY[4883] = (new short[] {
-			58
-		});
-		HZPY[4884] = (new short[] {
-			371
-		});
-		HZPY[4885] = (new short[] {
-			77
-		});
-		HZPY[4886] = (new short[] {
-			35
-		});
-		HZPY[4887] = (new short[] {
-			208
-		});
-		HZPY[4888] = (new short[] {
-			257
-		});
-		HZPY[4889] = (new short[] {
-			150
-		});
-		HZPY[4890] = (new short[] {
-			376
-		});
-		HZPY[4891] = (new short[] {
-			1
-		});
-		HZPY[4892] = (new short[] {
-			261
-		});
-		HZPY[4893] = (new short[] {
-			365
-		});
-		HZPY[4894] = (new short[] {
-			236
-		});
-		HZPY[4895] = (new short[] {
-			94
-		});
-		HZPY[4896] = (new short[] {
-			379
-		});
-		HZPY[4897] = (new short[] {
-			410
-		});
-		HZPY[4898] = (new short[] {
-			287
-		});
-		HZPY[4899] = (new short[] {
-			170
-		});
-		HZPY[4900] = (new short[] {
-			87
-		});
-		HZPY[4901] = (new short[] {
-			229
-		});
-		HZPY[4902] = (new short[] {
-			160
-		});
-		HZPY[4903] = (new short[] {
-			160
-		});
-		HZPY[4904] = (new short[] {
-			268
-		});
-		HZPY[4905] = (new short[] {
-			101
-		});
-		HZPY[4906] = (new short[] {
-			379
-		});
-		HZPY[4907] = (new short[] {
-			316
-		});
-		HZPY[4908] = (new short[] {
-			316
-		});
-		HZPY[4909] = (new short[] {
-			256
-		});
-		HZPY[4910] = (new short[] {
-			367
-		});
-		HZPY[4911] = (new short[] {
-			314
-		});
-		HZPY[4912] = (new short[] {
-			127
-		});
-		HZPY[4913] = (new short[] {
-			229
-		});
-		HZPY[4914] = (new short[] {
-			103
-		});
-		HZPY[4915] = (new short[] {
-			141
-		});
-		HZPY[4916] = (new short[] {
-			43
-		});
-		HZPY[4917] = (new short[] {
-			321
-		});
-		HZPY[4918] = (new short[] {
-			355
-		});
-		HZPY[4919] = (new short[] {
-			146
-		});
-		HZPY[4920] = (new short[] {
-			397
-		});
-		HZPY[4921] = (new short[] {
-			374
-		});
-		HZPY[4922] = (new short[] {
-			25
-		});
-		HZPY[4923] = (new short[] {
-			319
-		});
-		HZPY[4924] = (new short[] {
-			301
-		});
-		HZPY[4925] = (new short[] {
-			19
-		});
-		HZPY[4926] = (new short[] {
-			146
-		});
-		HZPY[4927] = (new short[] {
-			377
-		});
-		HZPY[4928] = (new short[] {
-			355
-		});
-		HZPY[4929] = (new short[] {
-			129
-		});
-		HZPY[4930] = (new short[] {
-			374
-		});
-		HZPY[4931] = (new short[] {
-			366
-		});
-		HZPY[4932] = (new short[] {
-			171
-		});
-		HZPY[4933] = (new short[] {
-			290
-		});
-		HZPY[4934] = (new short[] {
-			325
-		});
-		HZPY[4935] = (new short[] {
-			371
-		});
-		HZPY[4936] = (new short[] {
-			47
-		});
-		HZPY[4937] = (new short[] {
-			360
-		});
-		HZPY[4938] = (new short[] {
-			258, 261
-		});
-		HZPY[4939] = (new short[] {
-			322
-		});
-		HZPY[4940] = (new short[] {
-			127
-		});
-		HZPY[4941] = (new short[] {
-			379
-		});
-		HZPY[4942] = (new short[] {
-			301
-		});
-		HZPY[4943] = (new short[] {
-			205
-		});
-		HZPY[4944] = (new short[] {
-			229
-		});
-		HZPY[4945] = (new short[] {
-			299
-		});
-		HZPY[4946] = (new short[] {
-			48
-		});
-		HZPY[4947] = (new short[] {
-			249
-		});
-		HZPY[4948] = (new short[] {
-			207
-		});
-		HZPY[4949] = (new short[] {
-			209
-		});
-		HZPY[4950] = (new short[] {
-			110
-		});
-		HZPY[4951] = (new short[] {
-			37
-		});
-		HZPY[4952] = (new short[] {
-			23
-		});
-		HZPY[4953] = (new short[] {
-			23
-		});
-		HZPY[4954] = (new short[] {
-			23
-		});
-		HZPY[4955] = (new short[] {
-			52
-		});
-		HZPY[4956] = (new short[] {
-			204
-		});
-		HZPY[4957] = (new short[] {
-			221, 326
-		});
-		HZPY[4958] = (new short[] {
-			392
-		});
-		HZPY[4959] = (new short[] {
-			334
-		});
-		HZPY[4960] = (new short[] {
-			4
-		});
-		HZPY[4961] = (new short[] {
-			309
-		});
-		HZPY[4962] = (new short[] {
-			193
-		});
-		HZPY[4963] = (new short[] {
-			106
-		});
-		HZPY[4964] = (new short[] {
-			268
-		});
-		HZPY[4965] = (new short[] {
-			384
-		});
-		HZPY[4966] = (new short[] {
-			140
-		});
-		HZPY[4967] = (new short[] {
-			128
-		});
-		HZPY[4968] = (new short[] {
-			146
-		});
-		HZPY[4969] = (new short[] {
-			173
-		});
-		HZPY[4970] = (new short[] {
-			238
-		});
-		HZPY[4971] = (new short[] {
-			314
-		});
-		HZPY[4972] = (new short[] {
-			137
-		});
-		HZPY[4973] = (new short[] {
-			371
-		});
-		HZPY[4974] = (new short[] {
-			184
-		});
-		HZPY[4975] = (new short[] {
-			297
-		});
-		HZPY[4976] = (new short[] {
-			345
-		});
-		HZPY[4977] = (new short[] {
-			337
-		});
-		HZPY[4978] = (new short[] {
-			193
-		});
-		HZPY[4979] = (new short[] {
-			258
-		});
-		HZPY[4980] = (new short[] {
-			394
-		});
-		HZPY[4981] = (new short[] {
-			374
-		});
-		HZPY[4982] = (new short[] {
-			263
-		});
-		HZPY[4983] = (new short[] {
-			148
-		});
-		HZPY[4984] = (new short[] {
-			63
-		});
-		HZPY[4985] = (new short[] {
-			398
-		});
-		HZPY[4986] = (new short[] {
-			184
-		});
-		HZPY[4987] = (new short[] {
-			142
-		});
-		HZPY[4988] = (new short[] {
-			256
-		});
-		HZPY[4989] = (new short[] {
-			256
-		});
-		HZPY[4990] = (new short[] {
-			376
-		});
-		HZPY[4991] = (new short[] {
-			252
-		});
-		HZPY[4992] = (new short[] {
-			175
-		});
-		HZPY[4993] = (new short[] {
-			410
-		});
-		HZPY[4994] = (new short[] {
-			375
-		});
-		HZPY[4995] = (new short[] {
-			43
-		});
-		HZPY[4996] = (new short[] {
-			398
-		});
-		HZPY[4997] = (new short[] {
-			334
-		});
-		HZPY[4998] = (new short[] {
-			36
-		});
-		HZPY[4999] = (new short[] {
-			256
-		});
-		HZPY[5000] = (new short[] {
-			266
-		});
-		HZPY[5001] = (new short[] {
-			246
-		});
-		HZPY[5002] = (new short[] {
-			10
-		});
-		HZPY[5003] = (new short[] {
-			16
-		});
-		HZPY[5004] = (new short[] {
-			45
-		});
-		HZPY[5005] = (new short[] {
-			135
-		});
-		HZPY[5006] = (new short[] {
-			388
-		});
-		HZPY[5007] = (new short[] {
-			37
-		});
-		HZPY[5008] = (new short[] {
-			173
-		});
-		HZPY[5009] = (new short[] {
-			252
-		});
-		HZPY[5010] = (new short[] {
-			160
-		});
-		HZPY[5011] = (new short[] {
-			128
-		});
-		HZPY[5012] = (new short[] {
-			260
-		});
-		HZPY[5013] = (new short[] {
-			36
-		});
-		HZPY[5014] = (new short[] {
-			371
-		});
-		HZPY[5015] = (new short[] {
-			371
-		});
-		HZPY[5016] = (new short[] {
-			350
-		});
-		HZPY[5017] = (new short[] {
-			350
-		});
-		HZPY[5018] = (new short[] {
-			57
-		});
-		HZPY[5019] = (new short[] {
-			323
-		});
-		HZPY[5020] = (new short[] {
-			76
-		});
-		HZPY[5021] = (new short[] {
-			74
-		});
-		HZPY[5022] = (new short[] {
-			74
-		});
-		HZPY[5023] = (new short[] {
-			316
-		});
-		HZPY[5024] = (new short[] {
-			143
-		});
-		HZPY[5025] = (new short[] {
-			26
-		});
-		HZPY[5026] = (new short[] {
-			354
-		});
-		HZPY[5027] = (new short[] {
-			84
-		});
-		HZPY[5028] = (new short[] {
-			87
-		});
-		HZPY[5029] = (new short[] {
-			167
-		});
-		HZPY[5030] = (new short[] {
-			167
-		});
-		HZPY[5031] = (new short[] {
-			38
-		});
-		HZPY[5032] = (new short[] {
-			113
-		});
-		HZPY[5033] = (new short[] {
-			256
-		});
-		HZPY[5034] = (new short[] {
-			352
-		});
-		HZPY[5035] = (new short[] {
-			204
-		});
-		HZPY[5036] = (new short[] {
-			138
-		});
-		HZPY[5037] = (new short[] {
-			175
-		});
-		HZPY[5038] = (new short[] {
-			349
-		});
-		HZPY[5039] = (new short[] {
-			23
-		});
-		HZPY[5040] = (new short[] {
-			143
-		});
-		HZPY[5041] = (new short[] {
-			39
-		});
-		HZPY[5042] = (new short[] {
-			352
-		});
-		HZPY[5043] = (new short[] {
-			323
-		});
-		HZPY[5044] = (new short[] {
-			302
-		});
-		HZPY[5045] = (new short[] {
-			247
-		});
-		HZPY[5046] = (new short[] {
-			369
-		});
-		HZPY[5047] = (new short[] {
-			40
-		});
-		HZPY[5048] = (new short[] {
-			352
-		});
-		HZPY[5049] = (new short[] {
-			215
-		});
-		HZPY[5050] = (new short[] {
-			57
-		});
-		HZPY[5051] = (new short[] {
-			323
-		});
-		HZPY[5052] = (new short[] {
-			138
-		});
-		HZPY[5053] = (new short[] {
-			314
-		});
-		HZPY[5054] = (new short[] {
-			113
-		});
-		HZPY[5055] = (new short[] {
-			135
-		});
-		HZPY[5056] = (new short[] {
-			345
-		});
-		HZPY[5057] = (new short[] {
-			126
-		});
-		HZPY[5058] = (new short[] {
-			70
-		});
-		HZPY[5059] = (new short[] {
-			262
-		});
-		HZPY[5060] = (new short[] {
-			262
-		});
-		HZPY[5061] = (new short[] {
-			266
-		});
-		HZPY[5062] = (new short[] {
-			25
-		});
-		HZPY[5063] = (new short[] {
-			151
-		});
-		HZPY[5064] = (new short[] {
-			355
-		});
-		HZPY[5065] = (new short[] {
-			372
-		});
-		HZPY[5066] = (new short[] {
-			4
-		});
-		HZPY[5067] = (new short[] {
-			195
-		});
-		HZPY[5068] = (new short[] {
-			369
-		});
-		HZPY[5069] = (new short[] {
-			177
-		});
-		HZPY[5070] = (new short[] {
-			291
-		});
-		HZPY[5071] = (new short[] {
-			144
-		});
-		HZPY[5072] = (new short[] {
-			125
-		});
-		HZPY[5073] = (new short[] {
-			198
-		});
-		HZPY[5074] = (new short[] {
-			165
-		});
-		HZPY[5075] = (new short[] {
-			1
-		});
-		HZPY[5076] = (new short[] {
-			177
-		});
-		HZPY[5077] = (new short[] {
-			365
-		});
-		HZPY[5078] = (new short[] {
-			104
-		});
-		HZPY[5079] = (new short[] {
-			351
-		});
-		HZPY[5080] = (new short[] {
-			37
-		});
-		HZPY[5081] = (new short[] {
-			376
-		});
-		HZPY[5082] = (new short[] {
-			371
-		});
-		HZPY[5083] = (new short[] {
-			56
-		});
-		HZPY[5084] = (new short[] {
-			199
-		});
-		HZPY[5085] = (new short[] {
-			1
-		});
-		HZPY[5086] = (new short[] {
-			199
-		});
-		HZPY[5087] = (new short[] {
-			74
-		});
-		HZPY[5088] = (new short[] {
-			256
-		});
-		HZPY[5089] = (new short[] {
-			207
-		});
-		HZPY[5090] = (new short[] {
-			165
-		});
-		HZPY[5091] = (new short[] {
-			198
-		});
-		HZPY[5092] = (new short[] {
-			39
-		});
-		HZPY[5093] = (new short[] {
-			398
-		});
-		HZPY[5094] = (new short[] {
-			236
-		});
-		HZPY[5095] = (new short[] {
-			236
-		});
-		HZPY[5096] = (new short[] {
-			365
-		});
-		HZPY[5097] = (new short[] {
-			366
-		});
-		HZPY[5098] = (new short[] {
-			19
-		});
-		HZPY[5099] = (new short[] {
-			398
-		});
-		HZPY[5100] = (new short[] {
-			357
-		});
-	}
-
-	private void init3(short HZPY[][])
-	{
-		HZPY[5101] = (new short[] {
-			159
-		});
-		HZPY[5102] = (new short[] {
-			375
-		});
-		HZPY[5103] = (new short[] {
-			91
-		});
-		HZPY[5104] = (new short[] {
-			179
-		});
-		HZPY[5105] = (new short[] {
-			203
-		});
-		HZPY[5106] = (new short[] {
-			36
-		});
-		HZPY[5107] = (new short[] {
-			229
-		});
-		HZPY[5108] = (new short[] {
-			31
-		});
-		HZPY[5109] = (new short[] {
-			199
-		});
-		HZPY[5110] = (new short[] {
-			165
-		});
-		HZPY[5111] = (new short[] {
-			125
-		});
-		HZPY[5112] = (new short[] {
-			361
-		});
-		HZPY[5113] = (new short[] {
-			273
-		});
-		HZPY[5114] = (new short[] {
-			31
-		});
-		HZPY[5115] = (new short[] {
-			131
-		});
-		HZPY[5116] = (new short[] {
-			141
-		});
-		HZPY[5117] = (new short[] {
-			126
-		});
-		HZPY[5118] = (new short[] {
-			299, 394
-		});
-		HZPY[5119] = (new short[] {
-			369
-		});
-		HZPY[5120] = (new short[] {
-			173
-		});
-		HZPY[5121] = (new short[] {
-			213
-		});
-		HZPY[5122] = (new short[] {
-			200
-		});
-		HZPY[5123] = (new short[] {
-			324
-		});
-		HZPY[5124] = (new short[] {
-			143
-		});
-		HZPY[5125] = (new short[] {
-			95
-		});
-		HZPY[5126] = (new short[] {
-			95, 405
-		});
-		HZPY[5127] = (new short[] {
-			405
-		});
-		HZPY[5128] = (new short[] {
-			97
-		});
-		HZPY[5129] = (new short[] {
-			378
-		});
-		HZPY[5130] = (new short[] {
-			349
-		});
-		HZPY[5131] = (new short[] {
-			133
-		});
-		HZPY[5132] = (new short[] {
-			360, 266
-		});
-		HZPY[5133] = (new short[] {
-			305
-		});
-		HZPY[5134] = (new short[] {
-			279
-		});
-		HZPY[5135] = (new short[] {
-			350, 123
-		});
-		HZPY[5136] = (new short[] {
-			36
-		});
-		HZPY[5137] = (new short[] {
-			348
-		});
-		HZPY[5138] = (new short[] {
-			136
-		});
-		HZPY[5139] = (new short[] {
-			97
-		});
-		HZPY[5140] = (new short[] {
-			133
-		});
-		HZPY[5141] = (new short[] {
-			259
-		});
-		HZPY[5142] = (new short[] {
-			130
-		});
-		HZPY[5143] = (new short[] {
-			259
-		});
-		HZPY[5144] = (new short[] {
-			391
-		});
-		HZPY[5145] = (new short[] {
-			70
-		});
-		HZPY[5146] = (new short[] {
-			256
-		});
-		HZPY[5147] = (new short[] {
-			132
-		});
-		HZPY[5148] = (new short[] {
-			67
-		});
-		HZPY[5149] = (new short[] {
-			22
-		});
-		HZPY[5150] = (new short[] {
-			132
-		});
-		HZPY[5151] = (new short[] {
-			131
-		});
-		HZPY[5152] = (new short[] {
-			303, 37
-		});
-		HZPY[5153] = (new short[] {
-			147
-		});
-		HZPY[5154] = (new short[] {
-			131
-		});
-		HZPY[5155] = (new short[] {
-			160
-		});
-		HZPY[5156] = (new short[] {
-			93
-		});
-		HZPY[5157] = (new short[] {
-			62
-		});
-		HZPY[5158] = (new short[] {
-			391
-		});
-		HZPY[5159] = (new short[] {
-			43, 259
-		});
-		HZPY[5160] = (new short[] {
-			97
-		});
-		HZPY[5161] = (new short[] {
-			133
-		});
-		HZPY[5162] = (new short[] {
-			136
-		});
-		HZPY[5163] = (new short[] {
-			376
-		});
-		HZPY[5164] = (new short[] {
-			133
-		});
-		HZPY[5165] = (new short[] {
-			365
-		});
-		HZPY[5166] = (new short[] {
-			183
-		});
-		HZPY[5167] = (new short[] {
-			350, 123
-		});
-		HZPY[5168] = (new short[] {
-			391
-		});
-		HZPY[5169] = (new short[] {
-			350
-		});
-		HZPY[5170] = (new short[] {
-			350, 123
-		});
-		HZPY[5171] = (new short[] {
-			46
-		});
-		HZPY[5172] = (new short[] {
-			56
-		});
-		HZPY[5173] = (new short[] {
-			266
-		});
-		HZPY[5174] = (new short[] {
-			123
-		});
-		HZPY[5175] = (new short[] {
-			123
-		});
-		HZPY[5176] = (new short[] {
-			123
-		});
-		HZPY[5177] = (new short[] {
-			77
-		});
-		HZPY[5178] = (new short[] {
-			303
-		});
-		HZPY[5179] = (new short[] {
-			171
-		});
-		HZPY[5180] = (new short[] {
-			195
-		});
-		HZPY[5181] = (new short[] {
-			123
-		});
-		HZPY[5182] = (new short[] {
-			171
-		});
-		HZPY[5183] = (new short[] {
-			85
-		});
-		HZPY[5184] = (new short[] {
-			320
-		});
-		HZPY[5185] = (new short[] {
-			14, 248
-		});
-		HZPY[5186] = (new short[] {
-			65
-		});
-		HZPY[5187] = (new short[] {
-			139
-		});
-		HZPY[5188] = (new short[] {
-			297
-		});
-		HZPY[5189] = (new short[] {
-			369
-		});
-		HZPY[5190] = (new short[] {
-			369
-		});
-		HZPY[5191] = (new short[] {
-			296
-		});
-		HZPY[5192] = (new short[] {
-			123
-		});
-		HZPY[5193] = (new short[] {
-			86
-		});
-		HZPY[5194] = (new short[] {
-			365
-		});
-		HZPY[5195] = (new short[] {
-			304
-		});
-		HZPY[5196] = (new short[] {
-			304
-		});
-		HZPY[5197] = (new short[] {
-			22
-		});
-		HZPY[5198] = (new short[] {
-			389, 380
-		});
-		HZPY[5199] = (new short[] {
-			265
-		});
-		HZPY[5200] = (new short[] {
-			168
-		});
-		HZPY[5201] = (new short[] {
-			255
-		});
-		HZPY[5202] = (new short[] {
-			5, 239
-		});
-		HZPY[5203] = (new short[] {
-			55
-		});
-		HZPY[5204] = (new short[] {
-			277
-		});
-		HZPY[5205] = (new short[] {
-			91, 13
-		});
-		HZPY[5206] = (new short[] {
-			229
-		});
-		HZPY[5207] = (new short[] {
-			381
-		});
-		HZPY[5208] = (new short[] {
-			340
-		});
-		HZPY[5209] = (new short[] {
-			392
-		});
-		HZPY[5210] = (new short[] {
-			66
-		});
-		HZPY[5211] = (new short[] {
-			148, 95
-		});
-		HZPY[5212] = (new short[] {
-			376
-		});
-		HZPY[5213] = (new short[] {
-			155
-		});
-		HZPY[5214] = (new short[] {
-			113
-		});
-		HZPY[5215] = (new short[] {
-			301
-		});
-		HZPY[5216] = (new short[] {
-			29
-		});
-		HZPY[5217] = (new short[] {
-			37
-		});
-		HZPY[5218] = (new short[] {
-			103
-		});
-		HZPY[5219] = (new short[] {
-			154
-		});
-		HZPY[5220] = (new short[] {
-			349
-		});
-		HZPY[5221] = (new short[] {
-			340
-		});
-		HZPY[5222] = (new short[] {
-			258
-		});
-		HZPY[5223] = (new short[] {
-			398
-		});
-		HZPY[5224] = (new short[] {
-			29
-		});
-		HZPY[5225] = (new short[] {
-			162
-		});
-		HZPY[5226] = (new short[] {
-			198
-		});
-		HZPY[5227] = (new short[] {
-			290
-		});
-		HZPY[5228] = (new short[] {
-			366
-		});
-		HZPY[5229] = (new short[] {
-			228
-		});
-		HZPY[5230] = (new short[] {
-			7
-		});
-		HZPY[5231] = (new short[] {
-			34
-		});
-		HZPY[5232] = (new short[] {
-			274
-		});
-		HZPY[5233] = (new short[] {
-			350
-		});
-		HZPY[5234] = (new short[] {
-			258
-		});
-		HZPY[5235] = (new short[] {
-			7, 241
-		});
-		HZPY[5236] = (new short[] {
-			132
-		});
-		HZPY[5237] = (new short[] {
-			376
-		});
-		HZPY[5238] = (new short[] {
-			91
-		});
-		HZPY[5239] = (new short[] {
-			4
-		});
-		HZPY[5240] = (new short[] {
-			350
-		});
-		HZPY[5241] = (new short[] {
-			247
-		});
-		HZPY[5242] = (new short[] {
-			398
-		});
-		HZPY[5243] = (new short[] {
-			409
-		});
-		HZPY[5244] = (new short[] {
-			77
-		});
-		HZPY[5245] = (new short[] {
-			75
-		});
-		HZPY[5246] = (new short[] {
-			393
-		});
-		HZPY[5247] = (new short[] {
-			36
-		});
-		HZPY[5248] = (new short[] {
-			131
-		});
-		HZPY[5249] = (new short[] {
-			365
-		});
-		HZPY[5250] = (new short[] {
-			159
-		});
-		HZPY[5251] = (new short[] {
-			14
-		});
-		HZPY[5252] = (new short[] {
-			33
-		});
-		HZPY[5253] = (new short[] {
-			141
-		});
-		HZPY[5254] = (new short[] {
-			346
-		});
-		HZPY[5255] = (new short[] {
-			123
-		});
-		HZPY[5256] = (new short[] {
-			378
-		});
-		HZPY[5257] = (new short[] {
-			143
-		});
-		HZPY[5258] = (new short[] {
-			5
-		});
-		HZPY[5259] = (new short[] {
-			262
-		});
-		HZPY[5260] = (new short[] {
-			396
-		});
-		HZPY[5261] = (new short[] {
-			397
-		});
-		HZPY[5262] = (new short[] {
-			379
-		});
-		HZPY[5263] = (new short[] {
-			343
-		});
-		HZPY[5264] = (new short[] {
-			211
-		});
-		HZPY[5265] = (new short[] {
-			369
-		});
-		HZPY[5266] = (new short[] {
-			305
-		});
-		HZPY[5267] = (new short[] {
-			402
-		});
-		HZPY[5268] = (new short[] {
-			254
-		});
-		HZPY[5269] = (new short[] {
-			335
-		});
-		HZPY[5270] = (new short[] {
-			71
-		});
-		HZPY[5271] = (new short[] {
-			148
-		});
-		HZPY[5272] = (new short[] {
-			394, 299
-		});
-		HZPY[5273] = (new short[] {
-			254
-		});
-		HZPY[5274] = (new short[] {
-			91
-		});
-		HZPY[5275] = (new short[] {
-			243
-		});
-		HZPY[5276] = (new short[] {
-			5
-		});
-		HZPY[5277] = (new short[] {
-			4
-		});
-		HZPY[5278] = (new short[] {
-			385, 390
-		});
-		HZPY[5279] = (new short[] {
-			337
-		});
-		HZPY[5280] = (new short[] {
-			154
-		});
-		HZPY[5281] = (new short[] {
-			188
-		});
-		HZPY[5282] = (new short[] {
-			259
-		});
-		HZPY[5283] = (new short[] {
-			229
-		});
-		HZPY[5284] = (new short[] {
-			123
-		});
-		HZPY[5285] = (new short[] {
-			9
-		});
-		HZPY[5286] = (new short[] {
-			18
-		});
-		HZPY[5287] = (new short[] {
-			398
-		});
-		HZPY[5288] = (new short[] {
-			246
-		});
-		HZPY[5289] = (new short[] {
-			323
-		});
-		HZPY[5290] = (new short[] {
-			255
-		});
-		HZPY[5291] = (new short[] {
-			247
-		});
-		HZPY[5292] = (new short[] {
-			322
-		});
-		HZPY[5293] = (new short[] {
-			367
-		});
-		HZPY[5294] = (new short[] {
-			396
-		});
-		HZPY[5295] = (new short[] {
-			389
-		});
-		HZPY[5296] = (new short[] {
-			366
-		});
-		HZPY[5297] = (new short[] {
-			9
-		});
-		HZPY[5298] = (new short[] {
-			116
-		});
-		HZPY[5299] = (new short[] {
-			221
-		});
-		HZPY[5300] = (new short[] {
-			369
-		});
-		HZPY[5301] = (new short[] {
-			63
-		});
-		HZPY[5302] = (new short[] {
-			37
-		});
-		HZPY[5303] = (new short[] {
-			247
-		});
-		HZPY[5304] = (new short[] {
-			380
-		});
-		HZPY[5305] = (new short[] {
-			207, 191
-		});
-		HZPY[5306] = (new short[] {
-			207
-		});
-		HZPY[5307] = (new short[] {
-			35, 301
-		});
-		HZPY[5308] = (new short[] {
-			364
-		});
-		HZPY[5309] = (new short[] {
-			39
-		});
-		HZPY[5310] = (new short[] {
-			266
-		});
-		HZPY[5311] = (new short[] {
-			204
-		});
-		HZPY[5312] = (new short[] {
-			40
-		});
-		HZPY[5313] = (new short[] {
-			132
-		});
-		HZPY[5314] = (new short[] {
-			91, 13
-		});
-		HZPY[5315] = (new short[] {
-			389
-		});
-		HZPY[5316] = (new short[] {
-			401
-		});
-		HZPY[5317] = (new short[] {
-			57
-		});
-		HZPY[5318] = (new short[] {
-			30, 21
-		});
-		HZPY[5319] = (new short[] {
-			209
-		});
-		HZPY[5320] = (new short[] {
-			222
-		});
-		HZPY[5321] = (new short[] {
-			163
-		});
-		HZPY[5322] = (new short[] {
-			91
-		});
-		HZPY[5323] = (new short[] {
-			243
-		});
-		HZPY[5324] = (new short[] {
-			7
-		});
-		HZPY[5325] = (new short[] {
-			240
-		});
-		HZPY[5326] = (new short[] {
-			177
-		});
-		HZPY[5327] = (new short[] {
-			211
-		});
-		HZPY[5328] = (new short[] {
-			105
-		});
-		HZPY[5329] = (new short[] {
-			258
-		});
-		HZPY[5330] = (new short[] {
-			141
-		});
-		HZPY[5331] = (new short[] {
-			340, 321
-		});
-		HZPY[5332] = (new short[] {
-			5
-		});
-		HZPY[5333] = (new short[] {
-			340
-		});
-		HZPY[5334] = (new short[] {
-			340
-		});
-		HZPY[5335] = (new short[] {
-			4, 228, 367
-		});
-		HZPY[5336] = (new short[] {
-			141
-		});
-		HZPY[5337] = (new short[] {
-			408
-		});
-		HZPY[5338] = (new short[] {
-			241, 251
-		});
-		HZPY[5339] = (new short[] {
-			393
-		});
-		HZPY[5340] = (new short[] {
-			6
-		});
-		HZPY[5341] = (new short[] {
-			6
-		});
-		HZPY[5342] = (new short[] {
-			63
-		});
-		HZPY[5343] = (new short[] {
-			221
-		});
-		HZPY[5344] = (new short[] {
-			141
-		});
-		HZPY[5345] = (new short[] {
-			162
-		});
-		HZPY[5346] = (new short[] {
-			181
-		});
-		HZPY[5347] = (new short[] {
-			133
-		});
-		HZPY[5348] = (new short[] {
-			257
-		});
-		HZPY[5349] = (new short[] {
-			374
-		});
-		HZPY[5350] = (new short[] {
-			165
-		});
-		HZPY[5351] = (new short[] {
-			227
-		});
-		HZPY[5352] = (new short[] {
-			19
-		});
-		HZPY[5353] = (new short[] {
-			385, 390
-		});
-		HZPY[5354] = (new short[] {
-			258
-		});
-		HZPY[5355] = (new short[] {
-			118
-		});
-		HZPY[5356] = (new short[] {
-			162, 104
-		});
-		HZPY[5357] = (new short[] {
-			303
-		});
-		HZPY[5358] = (new short[] {
-			136
-		});
-		HZPY[5359] = (new short[] {
-			397
-		});
-		HZPY[5360] = (new short[] {
-			226
-		});
-		HZPY[5361] = (new short[] {
-			101
-		});
-		HZPY[5362] = (new short[] {
-			101
-		});
-		HZPY[5363] = (new short[] {
-			267
-		});
-		HZPY[5364] = (new short[] {
-			308
-		});
-		HZPY[5365] = (new short[] {
-			339
-		});
-		HZPY[5366] = (new short[] {
-			382, 380
-		});
-		HZPY[5367] = (new short[] {
-			149
-		});
-		HZPY[5368] = (new short[] {
-			37
-		});
-		HZPY[5369] = (new short[] {
-			355
-		});
-		HZPY[5370] = (new short[] {
-			26
-		});
-		HZPY[5371] = (new short[] {
-			128
-		});
-		HZPY[5372] = (new short[] {
-			251
-		});
-		HZPY[5373] = (new short[] {
-			403, 368
-		});
-		HZPY[5374] = (new short[] {
-			303, 299
-		});
-		HZPY[5375] = (new short[] {
-			211
-		});
-		HZPY[5376] = (new short[] {
-			19
-		});
-		HZPY[5377] = (new short[] {
-			37
-		});
-		HZPY[5378] = (new short[] {
-			104
-		});
-		HZPY[5379] = (new short[] {
-			398
-		});
-		HZPY[5380] = (new short[] {
-			162
-		});
-		HZPY[5381] = (new short[] {
-			76
-		});
-		HZPY[5382] = (new short[] {
-			76
-		});
-		HZPY[5383] = (new short[] {
-			398
-		});
-		HZPY[5384] = (new short[] {
-			261
-		});
-		HZPY[5385] = (new short[] {
-			2
-		});
-		HZPY[5386] = (new short[] {
-			230, 181
-		});
-		HZPY[5387] = (new short[] {
-			396
-		});
-		HZPY[5388] = (new short[] {
-			97
-		});
-		HZPY[5389] = (new short[] {
-			135
-		});
-		HZPY[5390] = (new short[] {
-			156
-		});
-		HZPY[5391] = (new short[] {
-			70
-		});
-		HZPY[5392] = (new short[] {
-			281, 211
-		});
-		HZPY[5393] = (new short[] {
-			331
-		});
-		HZPY[5394] = (new short[] {
-			176
-		});
-		HZPY[5395] = (new short[] {
-			389
-		});
-		HZPY[5396] = (new short[] {
-			184
-		});
-		HZPY[5397] = (new short[] {
-			67
-		});
-		HZPY[5398] = (new short[] {
-			341
-		});
-		HZPY[5399] = (new short[] {
-			143
-		});
-		HZPY[5400] = (new short[] {
-			229
-		});
-		HZPY[5401] = (new short[] {
-			141
-		});
-		HZPY[5402] = (new short[] {
-			398
-		});
-		HZPY[5403] = (new short[] {
-			186
-		});
-		HZPY[5404] = (new short[] {
-			364
-		});
-		HZPY[5405] = (new short[] {
-			348, 402
-		});
-		HZPY[5406] = (new short[] {
-			321
-		});
-		HZPY[5407] = (new short[] {
-			355, 132
-		});
-		HZPY[5408] = (new short[] {
-			215
-		});
-		HZPY[5409] = (new short[] {
-			58
-		});
-		HZPY[5410] = (new short[] {
-			135, 132
-		});
-		HZPY[5411] = (new short[] {
-			397
-		});
-		HZPY[5412] = (new short[] {
-			131
-		});
-		HZPY[5413] = (new short[] {
-			128
-		});
-		HZPY[5414] = (new short[] {
-			352
-		});
-		HZPY[5415] = (new short[] {
-			229
-		});
-		HZPY[5416] = (new short[] {
-			1
-		});
-		HZPY[5417] = (new short[] {
-			340
-		});
-		HZPY[5418] = (new short[] {
-			236
-		});
-		HZPY[5419] = (new short[] {
-			54
-		});
-		HZPY[5420] = (new short[] {
-			19
-		});
-		HZPY[5421] = (new short[] {
-			100
-		});
-		HZPY[5422] = (new short[] {
-			329
-		});
-		HZPY[5423] = (new short[] {
-			396
-		});
-		HZPY[5424] = (new short[] {
-			36
-		});
-		HZPY[5425] = (new short[] {
-			320
-		});
-		HZPY[5426] = (new short[] {
-			320, 286, 294
-		});
-		HZPY[5427] = (new short[] {
-			152
-		});
-		HZPY[5428] = (new short[] {
-			197
-		});
-		HZPY[5429] = (new short[] {
-			181, 230
-		});
-		HZPY[5430] = (new short[] {
-			141
-		});
-		HZPY[5431] = (new short[] {
-			246
-		});
-		HZPY[5432] = (new short[] {
-			133
-		});
-		HZPY[5433] = (new short[] {
-			369
-		});
-		HZPY[5434] = (new short[] {
-			333
-		});
-		HZPY[5435] = (new short[] {
-			296
-		});
-		HZPY[5436] = (new short[] {
-			236
-		});
-		HZPY[5437] = (new short[] {
-			343
-		});
-		HZPY[5438] = (new short[] {
-			355, 132, 351
-		});
-		HZPY[5439] = (new short[] {
-			29
-		});
-		HZPY[5440] = (new short[] {
-			88
-		});
-		HZPY[5441] = (new short[] {
-			135, 132
-		});
-		HZPY[5442] = (new short[] {
-			349
-		});
-		HZPY[5443] = (new short[] {
-			144
-		});
-		HZPY[5444] = (new short[] {
-			140
-		});
-		HZPY[5445] = (new short[] {
-			334
-		});
-		HZPY[5446] = (new short[] {
-			161
-		});
-		HZPY[5447] = (new short[] {
-			130
-		});
-		HZPY[5448] = (new short[] {
-			336
-		});
-		HZPY[5449] = (new short[] {
-			408
-		});
-		HZPY[5450] = (new short[] {
-			254
-		});
-		HZPY[5451] = (new short[] {
-			184, 189
-		});
-		HZPY[5452] = (new short[] {
-			5
-		});
-		HZPY[5453] = (new short[] {
-			113
-		});
-		HZPY[5454] = (new short[] {
-			298
-		});
-		HZPY[5455] = (new short[] {
-			225
-		});
-		HZPY[5456] = (new short[] {
-			142
-		});
-		HZPY[5457] = (new short[] {
-			299
-		});
-		HZPY[5458] = (new short[] {
-			305
-		});
-		HZPY[5459] = (new short[] {
-			368
-		});
-		HZPY[5460] = (new short[] {
-			143
-		});
-		HZPY[5461] = (new short[] {
-			20
-		});
-		HZPY[5462] = (new short[] {
-			126
-		});
-		HZPY[5463] = (new short[] {
-			20
-		});
-		HZPY[5464] = (new short[] {
-			144
-		});
-		HZPY[5465] = (new short[] {
-			369
-		});
-		HZPY[5466] = (new short[] {
-			390
-		});
-		HZPY[5467] = (new short[] {
-			184
-		});
-		HZPY[5468] = (new short[] {
-			315
-		});
-		HZPY[5469] = (new short[] {
-			340
-		});
-		HZPY[5470] = (new short[] {
-			167
-		});
-		HZPY[5471] = (new short[] {
-			319
-		});
-		HZPY[5472] = (new short[] {
-			8
-		});
-		HZPY[5473] = (new short[] {
-			133
-		});
-		HZPY[5474] = (new short[] {
-			126
-		});
-		HZPY[5475] = (new short[] {
-			59
-		});
-		HZPY[5476] = (new short[] {
-			229
-		});
-		HZPY[5477] = (new short[] {
-			343
-		});
-		HZPY[5478] = (new short[] {
-			262
-		});
-		HZPY[5479] = (new short[] {
-			246
-		});
-		HZPY[5480] = (new short[] {
-			299
-		});
-		HZPY[5481] = (new short[] {
-			176
-		});
-		HZPY[5482] = (new short[] {
-			204
-		});
-		HZPY[5483] = (new short[] {
-			198
-		});
-		HZPY[5484] = (new short[] {
-			91
-		});
-		HZPY[5485] = (new short[] {
-			6
-		});
-		HZPY[5486] = (new short[] {
-			141
-		});
-		HZPY[5487] = (new short[] {
-			59
-		});
-		HZPY[5488] = (new short[] {
-			348
-		});
-		HZPY[5489] = (new short[] {
-			1
-		});
-		HZPY[5490] = (new short[] {
-			142
-		});
-		HZPY[5491] = (new short[] {
-			378
-		});
-		HZPY[5492] = (new short[] {
-			410
-		});
-		HZPY[5493] = (new short[] {
-			35
-		});
-		HZPY[5494] = (new short[] {
-			44
-		});
-		HZPY[5495] = (new short[] {
-			136
-		});
-		HZPY[5496] = (new short[] {
-			336
-		});
-		HZPY[5497] = (new short[] {
-			11
-		});
-		HZPY[5498] = (new short[] {
-			211
-		});
-		HZPY[5499] = (new short[] {
-			222
-		});
-		HZPY[5500] = (new short[] {
-			236
-		});
-		HZPY[5501] = (new short[] {
-			412
-		});
-		HZPY[5502] = (new short[] {
-			348
-		});
-		HZPY[5503] = (new short[] {
-			350, 256
-		});
-		HZPY[5504] = (new short[] {
-			352
-		});
-		HZPY[5505] = (new short[] {
-			36
-		});
-		HZPY[5506] = (new short[] {
-			65
-		});
-		HZPY[5507] = (new short[] {
-			290
-		});
-		HZPY[5508] = (new short[] {
-			188
-		});
-		HZPY[5509] = (new short[] {
-			263
-		});
-		HZPY[5510] = (new short[] {
-			95
-		});
-		HZPY[5511] = (new short[] {
-			76
-		});
-		HZPY[5512] = (new short[] {
-			304
-		});
-		HZPY[5513] = (new short[] {
-			66
-		});
-		HZPY[5514] = (new short[] {
-			254
-		});
-		HZPY[5515] = (new short[] {
-			63
-		});
-		HZPY[5516] = (new short[] {
-			392
-		});
-		HZPY[5517] = (new short[] {
-			109
-		});
-		HZPY[5518] = (new short[] {
-			131
-		});
-		HZPY[5519] = (new short[] {
-			325
-		});
-		HZPY[5520] = (new short[] {
-			257
-		});
-		HZPY[5521] = (new short[] {
-			256
-		});
-		HZPY[5522] = (new short[] {
-			240
-		});
-		HZPY[5523] = (new short[] {
-			305
-		});
-		HZPY[5524] = (new short[] {
-			258
-		});
-		HZPY[5525] = (new short[] {
-			178
-		});
-		HZPY[5526] = (new short[] {
-			368, 369
-		});
-		HZPY[5527] = (new short[] {
-			364
-		});
-		HZPY[5528] = (new short[] {
-			143
-		});
-		HZPY[5529] = (new short[] {
-			397
-		});
-		HZPY[5530] = (new short[] {
-			174
-		});
-		HZPY[5531] = (new short[] {
-			104
-		});
-		HZPY[5532] = (new short[] {
-			369
-		});
-		HZPY[5533] = (new short[] {
-			130
-		});
-		HZPY[5534] = (new short[] {
-			296
-		});
-		HZPY[5535] = (new short[] {
-			68
-		});
-		HZPY[5536] = (new short[] {
-			185
-		});
-		HZPY[5537] = (new short[] {
-			22
-		});
-		HZPY[5538] = (new short[] {
-			323
-		});
-		HZPY[5539] = (new short[] {
-			34
-		});
-		HZPY[5540] = (new short[] {
-			18
-		});
-		HZPY[5541] = (new short[] {
-			136
-		});
-		HZPY[5542] = (new short[] {
-			329
-		});
-		HZPY[5543] = (new short[] {
-			153
-		});
-		HZPY[5544] = (new short[] {
-			338
-		});
-		HZPY[5545] = (new short[] {
-			365
-		});
-		HZPY[5546] = (new short[] {
-			54
-		});
-		HZPY[5547] = (new short[] {
-			411
-		});
-		HZPY[5548] = (new short[] {
-			141
-		});
-		HZPY[5549] = (new short[] {
-			330
-		});
-		HZPY[5550] = (new short[] {
-			258
-		});
-		HZPY[5551] = (new short[] {
-			151
-		});
-		HZPY[5552] = (new short[] {
-			6, 19
-		});
-		HZPY[5553] = (new short[] {
-			304, 239
-		});
-		HZPY[5554] = (new short[] {
-			136
-		});
-		HZPY[5555] = (new short[] {
-			183
-		});
-		HZPY[5556] = (new short[] {
-			105, 110
-		});
-		HZPY[5557] = (new short[] {
-			229
-		});
-		HZPY[5558] = (new short[] {
-			229
-		});
-		HZPY[5559] = (new short[] {
-			398
-		});
-		HZPY[5560] = (new short[] {
-			57, 296
-		});
-		HZPY[5561] = (new short[] {
-			229
-		});
-		HZPY[5562] = (new short[] {
-			31, 296, 23
-		});
-		HZPY[5563] = (new short[] {
-			290
-		});
-		HZPY[5564] = (new short[] {
-			106
-		});
-		HZPY[5565] = (new short[] {
-			246
-		});
-		HZPY[5566] = (new short[] {
-			377
-		});
-		HZPY[5567] = (new short[] {
-			236
-		});
-		HZPY[5568] = (new short[] {
-			133
-		});
-		HZPY[5569] = (new short[] {
-			397
-		});
-		HZPY[5570] = (new short[] {
-			140
-		});
-		HZPY[5571] = (new short[] {
-			133
-		});
-		HZPY[5572] = (new short[] {
-			376
-		});
-		HZPY[5573] = (new short[] {
-			365
-		});
-		HZPY[5574] = (new short[] {
-			160
-		});
-		HZPY[5575] = (new short[] {
-			213
-		});
-		HZPY[5576] = (new short[] {
-			121
-		});
-		HZPY[5577] = (new short[] {
-			280
-		});
-		HZPY[5578] = (new short[] {
-			247
-		});
-		HZPY[5579] = (new short[] {
-			345
-		});
-		HZPY[5580] = (new short[] {
-			287
-		});
-		HZPY[5581] = (new short[] {
-			411
-		});
-		HZPY[5582] = (new short[] {
-			361
-		});
-		HZPY[5583] = (new short[] {
-			202
-		});
-		HZPY[5584] = (new short[] {
-			329, 63, 303
-		});
-		HZPY[5585] = (new short[] {
-			225
-		});
-		HZPY[5586] = (new short[] {
-			29
-		});
-		HZPY[5587] = (new short[] {
-			303
-		});
-		HZPY[5588] = (new short[] {
-			410
-		});
-		HZPY[5589] = (new short[] {
-			396
-		});
-		HZPY[5590] = (new short[] {
-			369
-		});
-		HZPY[5591] = (new short[] {
-			311
-		});
-		HZPY[5592] = (new short[] {
-			119
-		});
-		HZPY[5593] = (new short[] {
-			14
-		});
-		HZPY[5594] = (new short[] {
-			366
-		});
-		HZPY[5595] = (new short[] {
-			126
-		});
-		HZPY[5596] = (new short[] {
-			365
-		});
-		HZPY[5597] = (new short[] {
-			382
-		});
-		HZPY[5598] = (new short[] {
-			2
-		});
-		HZPY[5599] = (new short[] {
-			360, 141
-		});
-		HZPY[5600] = (new short[] {
-			364
-		});
-		HZPY[5601] = (new short[] {
-			348
-		});
-		HZPY[5602] = (new short[] {
-			150
-		});
-		HZPY[5603] = (new short[] {
-			41
-		});
-		HZPY[5604] = (new short[] {
-			131, 136
-		});
-		HZPY[5605] = (new short[] {
-			329
-		});
-		HZPY[5606] = (new short[] {
-			163
-		});
-		HZPY[5607] = (new short[] {
-			163
-		});
-		HZPY[5608] = (new short[] {
-			36
-		});
-		HZPY[5609] = (new short[] {
-			146
-		});
-		HZPY[5610] = (new short[] {
-			140
-		});
-		HZPY[5611] = (new short[] {
-			140
-		});
-		HZPY[5612] = (new short[] {
-			336
-		});
-		HZPY[5613] = (new short[] {
-			136
-		});
-		HZPY[5614] = (new short[] {
-			128
-		});
-		HZPY[5615] = (new short[] {
-			100
-		});
-		HZPY[5616] = (new short[] {
-			38
-		});
-		HZPY[5617] = (new short[] {
-			312
-		});
-		HZPY[5618] = (new short[] {
-			299, 67
-		});
-		HZPY[5619] = (new short[] {
-			355
-		});
-		HZPY[5620] = (new short[] {
-			377
-		});
-		HZPY[5621] = (new short[] {
-			258
-		});
-		HZPY[5622] = (new short[] {
-			368
-		});
-		HZPY[5623] = (new short[] {
-			29
-		});
-		HZPY[5624] = (new short[] {
-			389
-		});
-		HZPY[5625] = (new short[] {
-			10
-		});
-		HZPY[5626] = (new short[] {
-			367
-		});
-		HZPY[5627] = (new short[] {
-			229
-		});
-		HZPY[5628] = (new short[] {
-			229
-		});
-		HZPY[5629] = (new short[] {
-			165
-		});
-		HZPY[5630] = (new short[] {
-			346
-		});
-		HZPY[5631] = (new short[] {
-			262
-		});
-		HZPY[5632] = (new short[] {
-			31
-		});
-		HZPY[5633] = (new short[] {
-			97
-		});
-		HZPY[5634] = (new short[] {
-			182
-		});
-		HZPY[5635] = (new short[] {
-			410
-		});
-		HZPY[5636] = (new short[] {
-			100
-		});
-		HZPY[5637] = (new short[] {
-			135, 132
-		});
-		HZPY[5638] = (new short[] {
-			102
-		});
-		HZPY[5639] = (new short[] {
-			262
-		});
-		HZPY[5640] = (new short[] {
-			374
-		});
-		HZPY[5641] = (new short[] {
-			268
-		});
-		HZPY[5642] = (new short[] {
-			39
-		});
-		HZPY[5643] = (new short[] {
-			41
-		});
-		HZPY[5644] = (new short[] {
-			391
-		});
-		HZPY[5645] = (new short[] {
-			319
-		});
-		HZPY[5646] = (new short[] {
-			319
-		});
-		HZPY[5647] = (new short[] {
-			19
-		});
-		HZPY[5648] = (new short[] {
-			40
-		});
-		HZPY[5649] = (new short[] {
-			279
-		});
-		HZPY[5650] = (new short[] {
-			8, 246
-		});
-		HZPY[5651] = (new short[] {
-			54
-		});
-		HZPY[5652] = (new short[] {
-			290
-		});
-		HZPY[5653] = (new short[] {
-			150
-		});
-		HZPY[5654] = (new short[] {
-			367
-		});
-		HZPY[5655] = (new short[] {
-			59
-		});
-		HZPY[5656] = (new short[] {
-			398
-		});
-		HZPY[5657] = (new short[] {
-			232
-		});
-		HZPY[5658] = (new short[] {
-			355
-		});
-		HZPY[5659] = (new short[] {
-			133
-		});
-		HZPY[5660] = (new short[] {
-			315
-		});
-		HZPY[5661] = (new short[] {
-			265
-		});
-		HZPY[5662] = (new short[] {
-			96
-		});
-		HZPY[5663] = (new short[] {
-			352
-		});
-		HZPY[5664] = (new short[] {
-			312
-		});
-		HZPY[5665] = (new short[] {
-			289
-		});
-		HZPY[5666] = (new short[] {
-			137
-		});
-		HZPY[5667] = (new short[] {
-			203
-		});
-		HZPY[5668] = (new short[] {
-			77
-		});
-		HZPY[5669] = (new short[] {
-			44
-		});
-		HZPY[5670] = (new short[] {
-			236
-		});
-		HZPY[5671] = (new short[] {
-			296
-		});
-		HZPY[5672] = (new short[] {
-			321
-		});
-		HZPY[5673] = (new short[] {
-			136
-		});
-		HZPY[5674] = (new short[] {
-			324
-		});
-		HZPY[5675] = (new short[] {
-			241
-		});
-		HZPY[5676] = (new short[] {
-			7
-		});
-		HZPY[5677] = (new short[] {
-			55
-		});
-		HZPY[5678] = (new short[] {
-			171
-		});
-		HZPY[5679] = (new short[] {
-			325
-		});
-		HZPY[5680] = (new short[] {
-			123
-		});
-		HZPY[5681] = (new short[] {
-			398
-		});
-		HZPY[5682] = (new short[] {
-			341
-		});
-		HZPY[5683] = (new short[] {
-			351
-		});
-		HZPY[5684] = (new short[] {
-			258
-		});
-		HZPY[5685] = (new short[] {
-			346
-		});
-		HZPY[5686] = (new short[] {
-			259, 43
-		});
-		HZPY[5687] = (new short[] {
-			35
-		});
-		HZPY[5688] = (new short[] {
-			396
-		});
-		HZPY[5689] = (new short[] {
-			77
-		});
-		HZPY[5690] = (new short[] {
-			355
-		});
-		HZPY[5691] = (new short[] {
-			236
-		});
-		HZPY[5692] = (new short[] {
-			267
-		});
-		HZPY[5693] = (new short[] {
-			29
-		});
-		HZPY[5694] = (new short[] {
-			389
-		});
-		HZPY[5695] = (new short[] {
-			97
-		});
-		HZPY[5696] = (new short[] {
-			349
-		});
-		HZPY[5697] = (new short[] {
-			80
-		});
-		HZPY[5698] = (new short[] {
-			299
-		});
-		HZPY[5699] = (new short[] {
-			101
-		});
-		HZPY[5700] = (new short[] {
-			299
-		});
-		HZPY[5701] = (new short[] {
-			305
-		});
-		HZPY[5702] = (new short[] {
-			6
-		});
-		HZPY[5703] = (new short[] {
-			367
-		});
-		HZPY[5704] = (new short[] {
-			17
-		});
-		HZPY[5705] = (new short[] {
-			315
-		});
-		HZPY[5706] = (new short[] {
-			323
-		});
-		HZPY[5707] = (new short[] {
-			294
-		});
-		HZPY[5708] = (new short[] {
-			31
-		});
-		HZPY[5709] = (new short[] {
-			320
-		});
-		HZPY[5710] = (new short[] {
-			175
-		});
-		HZPY[5711] = (new short[] {
-			38
-		});
-		HZPY[5712] = (new short[] {
-			43
-		});
-		HZPY[5713] = (new short[] {
-			110, 105
-		});
-		HZPY[5714] = (new short[] {
-			18
-		});
-		HZPY[5715] = (new short[] {
-			88
-		});
-		HZPY[5716] = (new short[] {
-			307
-		});
-		HZPY[5717] = (new short[] {
-			63
-		});
-		HZPY[5718] = (new short[] {
-			256
-		});
-		HZPY[5719] = (new short[] {
-			229
-		});
-		HZPY[5720] = (new short[] {
-			390, 394
-		});
-		HZPY[5721] = (new short[] {
-			173
-		});
-		HZPY[5722] = (new short[] {
-			36
-		});
-		HZPY[5723] = (new short[] {
-			37
-		});
-		HZPY[5724] = (new short[] {
-			106
-		});
-		HZPY[5725] = (new short[] {
-			183
-		});
-		HZPY[5726] = (new short[] {
-			189
-		});
-		HZPY[5727] = (new short[] {
-			182
-		});
-		HZPY[5728] = (new short[] {
-			410
-		});
-		HZPY[5729] = (new short[] {
-			93, 350
-		});
-		HZPY[5730] = (new short[] {
-			123
-		});
-		HZPY[5731] = (new short[] {
-			389
-		});
-		HZPY[5732] = (new short[] {
-			43
-		});
-		HZPY[5733] = (new short[] {
-			324
-		});
-		HZPY[5734] = (new short[] {
-			124
-		});
-		HZPY[5735] = (new short[] {
-			52
-		});
-		HZPY[5736] = (new short[] {
-			212
-		});
-		HZPY[5737] = (new short[] {
-			207, 191
-		});
-		HZPY[5738] = (new short[] {
-			134
-		});
-		HZPY[5739] = (new short[] {
-			108
-		});
-		HZPY[5740] = (new short[] {
-			372
-		});
-		HZPY[5741] = (new short[] {
-			398
-		});
-		HZPY[5742] = (new short[] {
-			4
-		});
-		HZPY[5743] = (new short[] {
-			398
-		});
-		HZPY[5744] = (new short[] {
-			37
-		});
-		HZPY[5745] = (new short[] {
-			193
-		});
-		HZPY[5746] = (new short[] {
-			296
-		});
-		HZPY[5747] = (new short[] {
-			154
-		});
-		HZPY[5748] = (new short[] {
-			305
-		});
-		HZPY[5749] = (new short[] {
-			320
-		});
-		HZPY[5750] = (new short[] {
-			337
-		});
-		HZPY[5751] = (new short[] {
-			393
-		});
-		HZPY[5752] = (new short[] {
-			207
-		});
-		HZPY[5753] = (new short[] {
-			207
-		});
-		HZPY[5754] = (new short[] {
-			394
-		});
-		HZPY[5755] = (new short[] {
-			31, 296
-		});
-		HZPY[5756] = (new short[] {
-			152
-		});
-		HZPY[5757] = (new short[] {
-			15
-		});
-		HZPY[5758] = (new short[] {
-			134
-		});
-		HZPY[5759] = (new short[] {
-			371
-		});
-		HZPY[5760] = (new short[] {
-			102
-		});
-		HZPY[5761] = (new short[] {
-			258
-		});
-		HZPY[5762] = (new short[] {
-			175
-		});
-		HZPY[5763] = (new short[] {
-			131
-		});
-		HZPY[5764] = (new short[] {
-			372
-		});
-		HZPY[5765] = (new short[] {
-			143
-		});
-		HZPY[5766] = (new short[] {
-			250
-		});
-		HZPY[5767] = (new short[] {
-			250
-		});
-		HZPY[5768] = (new short[] {
-			167
-		});
-		HZPY[5769] = (new short[] {
-			75
-		});
-		HZPY[5770] = (new short[] {
-			352
-		});
-		HZPY[5771] = (new short[] {
-			282
-		});
-		HZPY[5772] = (new short[] {
-			160
-		});
-		HZPY[5773] = (new short[] {
-			382
-		});
-		HZPY[5774] = (new short[] {
-			369
-		});
-		HZPY[5775] = (new short[] {
-			352
-		});
-		HZPY[5776] = (new short[] {
-			36
-		});
-		HZPY[5777] = (new short[] {
-			36
-		});
-		HZPY[5778] = (new short[] {
-			286
-		});
-		HZPY[5779] = (new short[] {
-			215
-		});
-		HZPY[5780] = (new short[] {
-			119
-		});
-		HZPY[5781] = (new short[] {
-			313
-		});
-		HZPY[5782] = (new short[] {
-			113
-		});
-		HZPY[5783] = (new short[] {
-			127
-		});
-		HZPY[5784] = (new short[] {
-			55
-		});
-		HZPY[5785] = (new short[] {
-			415
-		});
-		HZPY[5786] = (new short[] {
-			222
-		});
-		HZPY[5787] = (new short[] {
-			177
-		});
-		HZPY[5788] = (new short[] {
-			397
-		});
-		HZPY[5789] = (new short[] {
-			128
-		});
-		HZPY[5790] = (new short[] {
-			405, 43
-		});
-		HZPY[5791] = (new short[] {
-			135, 132
-		});
-		HZPY[5792] = (new short[] {
-			131
-		});
-		HZPY[5793] = (new short[] {
-			25
-		});
-		HZPY[5794] = (new short[] {
-			57
-		});
-		HZPY[5795] = (new short[] {
-			57, 296
-		});
-		HZPY[5796] = (new short[] {
-			34
-		});
-		HZPY[5797] = (new short[] {
-			19
-		});
-		HZPY[5798] = (new short[] {
-			34
-		});
-		HZPY[5799] = (new short[] {
-			143
-		});
-		HZPY[5800] = (new short[] {
-			354
-		});
-		HZPY[5801] = (new short[] {
-			175
-		});
-		HZPY[5802] = (new short[] {
-			11
-		});
-		HZPY[5803] = (new short[] {
-			91
-		});
-		HZPY[5804] = (new short[] {
-			260
-		});
-		HZPY[5805] = (new short[] {
-			19
-		});
-		HZPY[5806] = (new short[] {
-			54, 416
-		});
-		HZPY[5807] = (new short[] {
-			408
-		});
-		HZPY[5808] = (new short[] {
-			404
-		});
-		HZPY[5809] = (new short[] {
-			340
-		});
-		HZPY[5810] = (new short[] {
-			255
-		});
-		HZPY[5811] = (new short[] {
-			262
-		});
-		HZPY[5812] = (new short[] {
-			75
-		});
-		HZPY[5813] = (new short[] {
-			222
-		});
-		HZPY[5814] = (new short[] {
-			229
-		});
-		HZPY[5815] = (new short[] {
-			355
-		});
-		HZPY[5816] = (new short[] {
-			183
-		});
-		HZPY[5817] = (new short[] {
-			135, 132
-		});
-		HZPY[5818] = (new short[] {
-			51
-		});
-		HZPY[5819] = (new short[] {
-			321
-		});
-		HZPY[5820] = (new short[] {
-			113
-		});
-		HZPY[5821] = (new short[] {
-			260
-		});
-		HZPY[5822] = (new short[] {
-			402, 348
-		});
-		HZPY[5823] = (new short[] {
-			133
-		});
-		HZPY[5824] = (new short[] {
-			94
-		});
-		HZPY[5825] = (new short[] {
-			374
-		});
-		HZPY[5826] = (new short[] {
-			169
-		});
-		HZPY[5827] = (new short[] {
-			162
-		});
-		HZPY[5828] = (new short[] {
-			183
-		});
-		HZPY[5829] = (new short[] {
-			296
-		});
-		HZPY[5830] = (new short[] {
-			408
-		});
-		HZPY[5831] = (new short[] {
-			385, 390
-		});
-		HZPY[5832] = (new short[] {
-			255
-		});
-		HZPY[5833] = (new short[] {
-			46
-		});
-		HZPY[5834] = (new short[] {
-			131
-		});
-		HZPY[5835] = (new short[] {
-			58
-		});
-		HZPY[5836] = (new short[] {
-			291
-		});
-		HZPY[5837] = (new short[] {
-			25
-		});
-		HZPY[5838] = (new short[] {
-			263
-		});
-		HZPY[5839] = (new short[] {
-			138
-		});
-		HZPY[5840] = (new short[] {
-			126
-		});
-		HZPY[5841] = (new short[] {
-			136
-		});
-		HZPY[5842] = (new short[] {
-			262
-		});
-		HZPY[5843] = (new short[] {
-			157
-		});
-		HZPY[5844] = (new short[] {
-			57
-		});
-		HZPY[5845] = (new short[] {
-			355
-		});
-		HZPY[5846] = (new short[] {
-			97
-		});
-		HZPY[5847] = (new short[] {
-			247
-		});
-		HZPY[5848] = (new short[] {
-			19, 6
-		});
-		HZPY[5849] = (new short[] {
-			4
-		});
-		HZPY[5850] = (new short[] {
-			141
-		});
-		HZPY[5851] = (new short[] {
-			368
-		});
-		HZPY[5852] = (new short[] {
-			229
-		});
-		HZPY[5853] = (new short[] {
-			229
-		});
-		HZPY[5854] = (new short[] {
-			315
-		});
-		HZPY[5855] = (new short[] {
-			200
-		});
-		HZPY[5856] = (new short[] {
-			131
-		});
-		HZPY[5857] = (new short[] {
-			322
-		});
-		HZPY[5858] = (new short[] {
-			408
-		});
-		HZPY[5859] = (new short[] {
-			59
-		});
-		HZPY[5860] = (new short[] {
-			357
-		});
-		HZPY[5861] = (new short[] {
-			165
-		});
-		HZPY[5862] = (new short[] {
-			21
-		});
-		HZPY[5863] = (new short[] {
-			141
-		});
-		HZPY[5864] = (new short[] {
-			368
-		});
-		HZPY[5865] = (new short[] {
-			281
-		});
-		HZPY[5866] = (new short[] {
-			368
-		});
-		HZPY[5867] = (new short[] {
-			368
-		});
-		HZPY[5868] = (new short[] {
-			221
-		});
-		HZPY[5869] = (new short[] {
-			130
-		});
-		HZPY[5870] = (new short[] {
-			131
-		});
-		HZPY[5871] = (new short[] {
-			17
-		});
-		HZPY[5872] = (new short[] {
-			227
-		});
-		HZPY[5873] = (new short[] {
-			97
-		});
-		HZPY[5874] = (new short[] {
-			398
-		});
-		HZPY[5875] = (new short[] {
-			136
-		});
-		HZPY[5876] = (new short[] {
-			162
-		});
-		HZPY[5877] = (new short[] {
-			207, 191
-		});
-		HZPY[5878] = (new short[] {
-			133
-		});
-		HZPY[5879] = (new short[] {
-			355
-		});
-		HZPY[5880] = (new short[] {
-			176
-		});
-		HZPY[5881] = (new short[] {
-			323
-		});
-		HZPY[5882] = (new short[] {
-			6
-		});
-		HZPY[5883] = (new short[] {
-			315
-		});
-		HZPY[5884] = (new short[] {
-			183
-		});
-		HZPY[5885] = (new short[] {
-			185
-		});
-		HZPY[5886] = (new short[] {
-			274
-		});
-		HZPY[5887] = (new short[] {
-			398
-		});
-		HZPY[5888] = (new short[] {
-			241
-		});
-		HZPY[5889] = (new short[] {
-			366
-		});
-		HZPY[5890] = (new short[] {
-			169
-		});
-		HZPY[5891] = (new short[] {
-			286
-		});
-		HZPY[5892] = (new short[] {
-			305
-		});
-		HZPY[5893] = (new short[] {
-			382, 51
-		});
-		HZPY[5894] = (new short[] {
-			222
-		});
-		HZPY[5895] = (new short[] {
-			352
-		});
-		HZPY[5896] = (new short[] {
-			144
-		});
-		HZPY[5897] = (new short[] {
-			130
-		});
-		HZPY[5898] = (new short[] {
-			185
-		});
-		HZPY[5899] = (new short[] {
-			163
-		});
-		HZPY[5900] = (new short[] {
-			113
-		});
-		HZPY[5901] = (new short[] {
-			372
-		});
-		HZPY[5902] = (new short[] {
-			183
-		});
-		HZPY[5903] = (new short[] {
-			181
-		});
-		HZPY[5904] = (new short[] {
-			258
-		});
-		HZPY[5905] = (new short[] {
-			258
-		});
-		HZPY[5906] = (new short[] {
-			382, 51
-		});
-		HZPY[5907] = (new short[] {
-			258
-		});
-		HZPY[5908] = (new short[] {
-			165
-		});
-		HZPY[5909] = (new short[] {
-			288
-		});
-		HZPY[5910] = (new short[] {
-			372
-		});
-		HZPY[5911] = (new short[] {
-			197
-		});
-		HZPY[5912] = (new short[] {
-			273
-		});
-		HZPY[5913] = (new short[] {
-			31
-		});
-		HZPY[5914] = (new short[] {
-			229
-		});
-		HZPY[5915] = (new short[] {
-			51
-		});
-		HZPY[5916] = (new short[] {
-			355, 350
-		});
-		HZPY[5917] = (new short[] {
-			299
-		});
-		HZPY[5918] = (new short[] {
-			189
-		});
-		HZPY[5919] = (new short[] {
-			144
-		});
-		HZPY[5920] = (new short[] {
-			200
-		});
-		HZPY[5921] = (new short[] {
-			171
-		});
-		HZPY[5922] = (new short[] {
-			382, 51
-		});
-		HZPY[5923] = (new short[] {
-			186
-		});
-		HZPY[5924] = (new short[] {
-			323
-		});
-		HZPY[5925] = (new short[] {
-			413
-		});
-		HZPY[5926] = (new short[] {
-			171
-		});
-		HZPY[5927] = (new short[] {
-			65
-		});
-		HZPY[5928] = (new short[] {
-			341
-		});
-		HZPY[5929] = (new short[] {
-			58
-		});
-		HZPY[5930] = (new short[] {
-			135, 96, 132
-		});
-		HZPY[5931] = (new short[] {
-			143
-		});
-		HZPY[5932] = (new short[] {
-			165
-		});
-		HZPY[5933] = (new short[] {
-			171
-		});
-		HZPY[5934] = (new short[] {
-			214
-		});
-		HZPY[5935] = (new short[] {
-			398
-		});
-		HZPY[5936] = (new short[] {
-			108
-		});
-		HZPY[5937] = (new short[] {
-			108
-		});
-		HZPY[5938] = (new short[] {
-			256
-		});
-		HZPY[5939] = (new short[] {
-			356
-		});
-		HZPY[5940] = (new short[] {
-			253
-		});
-		HZPY[5941] = (new short[] {
-			253
-		});
-		HZPY[5942] = (new short[] {
-			304
-		});
-		HZPY[5943] = (new short[] {
-			149
-		});
-		HZPY[5944] = (new short[] {
-			375
-		});
-		HZPY[5945] = (new short[] {
-			93
-		});
-		HZPY[5946] = (new short[] {
-			93
-		});
-		HZPY[5947] = (new short[] {
-			101
-		});
-		HZPY[5948] = (new short[] {
-			94
-		});
-		HZPY[5949] = (new short[] {
-			7
-		});
-		HZPY[5950] = (new short[] {
-			85
-		});
-		HZPY[5951] = (new short[] {
-			397
-		});
-		HZPY[5952] = (new short[] {
-			19
-		});
-		HZPY[5953] = (new short[] {
-			65
-		});
-		HZPY[5954] = (new short[] {
-			154
-		});
-		HZPY[5955] = (new short[] {
-			204
-		});
-		HZPY[5956] = (new short[] {
-			349
-		});
-		HZPY[5957] = (new short[] {
-			103
-		});
-		HZPY[5958] = (new short[] {
-			97
-		});
-		HZPY[5959] = (new short[] {
-			26
-		});
-		HZPY[5960] = (new short[] {
-			354
-		});
-		HZPY[5961] = (new short[] {
-			200
-		});
-		HZPY[5962] = (new short[] {
-			40
-		});
-		HZPY[5963] = (new short[] {
-			97
-		});
-		HZPY[5964] = (new short[] {
-			63
-		});
-		HZPY[5965] = (new short[] {
-			360
-		});
-		HZPY[5966] = (new short[] {
-			135
-		});
-		HZPY[5967] = (new short[] {
-			204
-		});
-		HZPY[5968] = (new short[] {
-			35
-		});
-		HZPY[5969] = (new short[] {
-			140
-		});
-		HZPY[5970] = (new short[] {
-			301
-		});
-		HZPY[5971] = (new short[] {
-			76
-		});
-		HZPY[5972] = (new short[] {
-			376
-		});
-		HZPY[5973] = (new short[] {
-			37
-		});
-		HZPY[5974] = (new short[] {
-			4
-		});
-		HZPY[5975] = (new short[] {
-			6
-		});
-		HZPY[5976] = (new short[] {
-			360
-		});
-		HZPY[5977] = (new short[] {
-			135
-		});
-		HZPY[5978] = (new short[] {
-			76
-		});
-		HZPY[5979] = (new short[] {
-			173
-		});
-		HZPY[5980] = (new short[] {
-			225
-		});
-		HZPY[5981] = (new short[] {
-			13
-		});
-		HZPY[5982] = (new short[] {
-			32, 324
-		});
-		HZPY[5983] = (new short[] {
-			65
-		});
-		HZPY[5984] = (new short[] {
-			76
-		});
-		HZPY[5985] = (new short[] {
-			369
-		});
-		HZPY[5986] = (new short[] {
-			94
-		});
-		HZPY[5987] = (new short[] {
-			288
-		});
-		HZPY[5988] = (new short[] {
-			150
-		});
-		HZPY[5989] = (new short[] {
-			365
-		});
-		HZPY[5990] = (new short[] {
-			75, 74
-		});
-		HZPY[5991] = (new short[] {
-			256
-		});
-		HZPY[5992] = (new short[] {
-			71
-		});
-		HZPY[5993] = (new short[] {
-			354
-		});
-		HZPY[5994] = (new short[] {
-			76
-		});
-		HZPY[5995] = (new short[] {
-			135, 132
-		});
-		HZPY[5996] = (new short[] {
-			138
-		});
-		HZPY[5997] = (new short[] {
-			366
-		});
-		HZPY[5998] = (new short[] {
-			351
-		});
-		HZPY[5999] = (new short[] {
-			129, 204
-		});
-		HZPY[6000] = (new short[] {
-			305, 312
-		});
-		HZPY[6001] = (new short[] {
-			1
-		});
-		HZPY[6002] = (new short[] {
-			260
-		});
-		HZPY[6003] = (new short[] {
-			1
-		});
-		HZPY[6004] = (new short[] {
-			397
-		});
-		HZPY[6005] = (new short[] {
-			63
-		});
-		HZPY[6006] = (new short[] {
-			396
-		});
-		HZPY[6007] = (new short[] {
-			91
-		});
-		HZPY[6008] = (new short[] {
-			305, 312
-		});
-		HZPY[6009] = (new short[] {
-			175
-		});
-		HZPY[6010] = (new short[] {
-			266
-		});
-		HZPY[6011] = (new short[] {
-			358
-		});
-		HZPY[6012] = (new short[] {
-			350
-		});
-		HZPY[6013] = (new short[] {
-			135
-		});
-		HZPY[6014] = (new short[] {
-			229
-		});
-		HZPY[6015] = (new short[] {
-			260
-		});
-		HZPY[6016] = (new short[] {
-			408
-		});
-		HZPY[6017] = (new short[] {
-			369, 72
-		});
-		HZPY[6018] = (new short[] {
-			173
-		});
-		HZPY[6019] = (new short[] {
-			13
-		});
-		HZPY[6020] = (new short[] {
-			171
-		});
-		HZPY[6021] = (new short[] {
-			362
-		});
-		HZPY[6022] = (new short[] {
-			354
-		});
-		HZPY[6023] = (new short[] {
-			346
-		});
-		HZPY[6024] = (new short[] {
-			362
-		});
-		HZPY[6025] = (new short[] {
-			256, 131
-		});
-		HZPY[6026] = (new short[] {
-			256, 131
-		});
-		HZPY[6027] = (new short[] {
-			390
-		});
-		HZPY[6028] = (new short[] {
-			17
-		});
-		HZPY[6029] = (new short[] {
-			143
-		});
-		HZPY[6030] = (new short[] {
-			390
-		});
-		HZPY[6031] = (new short[] {
-			166
-		});
-		HZPY[6032] = (new short[] {
-			86
-		});
-		HZPY[6033] = (new short[] {
-			7
-		});
-		HZPY[6034] = (new short[] {
-			7
-		});
-		HZPY[6035] = (new short[] {
-			165
-		});
-		HZPY[6036] = (new short[] {
-			376
-		});
-		HZPY[6037] = (new short[] {
-			165
-		});
-		HZPY[6038] = (new short[] {
-			345
-		});
-		HZPY[6039] = (new short[] {
-			71
-		});
-		HZPY[6040] = (new short[] {
-			302
-		});
-		HZPY[6041] = (new short[] {
-			175
-		});
-		HZPY[6042] = (new short[] {
-			132
-		});
-		HZPY[6043] = (new short[] {
-			123
-		});
-		HZPY[6044] = (new short[] {
-			355, 351
-		});
-		HZPY[6045] = (new short[] {
-			132
-		});
-		HZPY[6046] = (new short[] {
-			376
-		});
-		HZPY[6047] = (new short[] {
-			396
-		});
-		HZPY[6048] = (new short[] {
-			135
-		});
-		HZPY[6049] = (new short[] {
-			348
-		});
-		HZPY[6050] = (new short[] {
-			331, 335
-		});
-		HZPY[6051] = (new short[] {
-			71
-		});
-		HZPY[6052] = (new short[] {
-			137
-		});
-		HZPY[6053] = (new short[] {
-			37
-		});
-		HZPY[6054] = (new short[] {
-			371
-		});
-		HZPY[6055] = (new short[] {
-			91
-		});
-		HZPY[6056] = (new short[] {
-			259
-		});
-		HZPY[6057] = (new short[] {
-			391
-		});
-		HZPY[6058] = (new short[] {
-			266, 141
-		});
-		HZPY[6059] = (new short[] {
-			408
-		});
-		HZPY[6060] = (new short[] {
-			391
-		});
-		HZPY[6061] = (new short[] {
-			73
-		});
-		HZPY[6062] = (new short[] {
-			408
-		});
-		HZPY[6063] = (new short[] {
-			313
-		});
-		HZPY[6064] = (new short[] {
-			356
-		});
-		HZPY[6065] = (new short[] {
-			408
-		});
-		HZPY[6066] = (new short[] {
-			408
-		});
-		HZPY[6067] = (new short[] {
-			262
-		});
-		HZPY[6068] = (new short[] {
-			177
-		});
-		HZPY[6069] = (new short[] {
-			408
-		});
-		HZPY[6070] = (new short[] {
-			40
-		});
-		HZPY[6071] = (new short[] {
-			73
-		});
-		HZPY[6072] = (new short[] {
-			401
-		});
-		HZPY[6073] = (new short[] {
-			85
-		});
-		HZPY[6074] = (new short[] {
-			355
-		});
-		HZPY[6075] = (new short[] {
-			114
-		});
-		HZPY[6076] = (new short[] {
-			349, 376
-		});
-		HZPY[6077] = (new short[] {
-			303
-		});
-		HZPY[6078] = (new short[] {
-			244
-		});
-		HZPY[6079] = (new short[] {
-			375
-		});
-		HZPY[6080] = (new short[] {
-			229
-		});
-		HZPY[6081] = (new short[] {
-			242, 8
-		});
-		HZPY[6082] = (new short[] {
-			256
-		});
-		HZPY[6083] = (new short[] {
-			391
-		});
-		HZPY[6084] = (new short[] {
-			195
-		});
-		HZPY[6085] = (new short[] {
-			184
-		});
-		HZPY[6086] = (new short[] {
-			244
-		});
-		HZPY[6087] = (new short[] {
-			247
-		});
-		HZPY[6088] = (new short[] {
-			179
-		});
-		HZPY[6089] = (new short[] {
-			91
-		});
-		HZPY[6090] = (new short[] {
-			85
-		});
-		HZPY[6091] = (new short[] {
-			361
-		});
-		HZPY[6092] = (new short[] {
-			138
-		});
-		HZPY[6093] = (new short[] {
-			138
-		});
-		HZPY[6094] = (new short[] {
-			221
-		});
-		HZPY[6095] = (new short[] {
-			412
-		});
-		HZPY[6096] = (new short[] {
-			393
-		});
-		HZPY[6097] = (new short[] {
-			369
-		});
-		HZPY[6098] = (new short[] {
-			179
-		});
-		HZPY[6099] = (new short[] {
-			298
-		});
-		HZPY[6100] = (new short[] {
-			133
-		});
-		HZPY[6101] = (new short[] {
-			229
-		});
-		HZPY[6102] = (new short[] {
-			369
-		});
-		HZPY[6103] = (new short[] {
-			256
-		});
-		HZPY[6104] = (new short[] {
-			398
-		});
-		HZPY[6105] = (new short[] {
-			84
-		});
-		HZPY[6106] = (new short[] {
-			249
-		});
-		HZPY[6107] = (new short[] {
-			84
-		});
-		HZPY[6108] = (new short[] {
-			391
-		});
-		HZPY[6109] = (new short[] {
-			105
-		});
-		HZPY[6110] = (new short[] {
-			318
-		});
-		HZPY[6111] = (new short[] {
-			376
-		});
-		HZPY[6112] = (new short[] {
-			349, 207
-		});
-		HZPY[6113] = (new short[] {
-			131
-		});
-		HZPY[6114] = (new short[] {
-			131
-		});
-		HZPY[6115] = (new short[] {
-			131
-		});
-		HZPY[6116] = (new short[] {
-			130
-		});
-		HZPY[6117] = (new short[] {
-			278
-		});
-		HZPY[6118] = (new short[] {
-			57
-		});
-		HZPY[6119] = (new short[] {
-			140
-		});
-		HZPY[6120] = (new short[] {
-			398
-		});
-		HZPY[6121] = (new short[] {
-			384
-		});
-		HZPY[6122] = (new short[] {
-			355
-		});
-		HZPY[6123] = (new short[] {
-			331
-		});
-		HZPY[6124] = (new short[] {
-			363
-		});
-		HZPY[6125] = (new short[] {
-			360
-		});
-		HZPY[6126] = (new short[] {
-			92
-		});
-		HZPY[6127] = (new short[] {
-			163
-		});
-		HZPY[6128] = (new short[] {
-			94
-		});
-		HZPY[6129] = (new short[] {
-			113
-		});
-		HZPY[6130] = (new short[] {
-			322
-		});
-		HZPY[6131] = (new short[] {
-			63
-		});
-		HZPY[6132] = (new short[] {
-			360
-		});
-		HZPY[6133] = (new short[] {
-			31
-		});
-		HZPY[6134] = (new short[] {
-			303
-		});
-		HZPY[6135] = (new short[] {
-			159
-		});
-		HZPY[6136] = (new short[] {
-			366
-		});
-		HZPY[6137] = (new short[] {
-			303
-		});
-		HZPY[6138] = (new short[] {
-			344
-		});
-		HZPY[6139] = (new short[] {
-			204
-		});
-		HZPY[6140] = (new short[] {
-			204
-		});
-		HZPY[6141] = (new short[] {
-			339
-		});
-		HZPY[6142] = (new short[] {
-			45
-		});
-		HZPY[6143] = (new short[] {
-			349
-		});
-		HZPY[6144] = (new short[] {
-			379
-		});
-		HZPY[6145] = (new short[] {
-			10
-		});
-		HZPY[6146] = (new short[] {
-			3
-		});
-		HZPY[6147] = (new short[] {
-			385
-		});
-		HZPY[6148] = (new short[] {
-			7
-		});
-		HZPY[6149] = (new short[] {
-			136
-		});
-		HZPY[6150] = (new short[] {
-			161
-		});
-		HZPY[6151] = (new short[] {
-			302
-		});
-		HZPY[6152] = (new short[] {
-			123
-		});
-		HZPY[6153] = (new short[] {
-			85
-		});
-		HZPY[6154] = (new short[] {
-			115
-		});
-		HZPY[6155] = (new short[] {
-			108
-		});
-		HZPY[6156] = (new short[] {
-			32
-		});
-		HZPY[6157] = (new short[] {
-			361
-		});
-		HZPY[6158] = (new short[] {
-			205
-		});
-		HZPY[6159] = (new short[] {
-			129
-		});
-		HZPY[6160] = (new short[] {
-			87
-		});
-		HZPY[6161] = (new short[] {
-			262
-		});
-		HZPY[6162] = (new short[] {
-			123
-		});
-		HZPY[6163] = (new short[] {
-			369
-		});
-		HZPY[6164] = (new short[] {
-			350
-		});
-		HZPY[6165] = (new short[] {
-			356
-		});
-		HZPY[6166] = (new short[] {
-			365
-		});
-		HZPY[6167] = (new short[] {
-			385
-		});
-		HZPY[6168] = (new short[] {
-			85
-		});
-		HZPY[6169] = (new short[] {
-			323
-		});
-		HZPY[6170] = (new short[] {
-			301
-		});
-		HZPY[6171] = (new short[] {
-			141
-		});
-		HZPY[6172] = (new short[] {
-			366
-		});
-		HZPY[6173] = (new short[] {
-			382
-		});
-		HZPY[6174] = (new short[] {
-			18
-		});
-		HZPY[6175] = (new short[] {
-			357
-		});
-		HZPY[6176] = (new short[] {
-			372
-		});
-		HZPY[6177] = (new short[] {
-			361
-		});
-		HZPY[6178] = (new short[] {
-			244
-		});
-		HZPY[6179] = (new short[] {
-			396
-		});
-		HZPY[6180] = (new short[] {
-			178
-		});
-		HZPY[6181] = (new short[] {
-			45
-		});
-		HZPY[6182] = (new short[] {
-			115
-		});
-		HZPY[6183] = (new short[] {
-			197
-		});
-		HZPY[6184] = (new short[] {
-			416
-		});
-		HZPY[6185] = (new short[] {
-			207
-		});
-		HZPY[6186] = (new short[] {
-			14
-		});
-		HZPY[6187] = (new short[] {
-			360
-		});
-		HZPY[6188] = (new short[] {
-			129
-		});
-		HZPY[6189] = (new short[] {
-			393
-		});
-		HZPY[6190] = (new short[] {
-			410
-		});
-		HZPY[6191] = (new short[] {
-			303
-		});
-		HZPY[6192] = (new short[] {
-			303
-		});
-		HZPY[6193] = (new short[] {
-			376
-		});
-		HZPY[6194] = (new short[] {
-			86, 91
-		});
-		HZPY[6195] = (new short[] {
-			67
-		});
-		HZPY[6196] = (new short[] {
-			195
-		});
-		HZPY[6197] = (new short[] {
-			221
-		});
-		HZPY[6198] = (new short[] {
-			32
-		});
-		HZPY[6199] = (new short[] {
-			346
-		});
-		HZPY[6200] = (new short[] {
-			70
-		});
-		HZPY[6201] = (new short[] {
-			1
-		});
-		HZPY[6202] = (new short[] {
-			18
-		});
-		HZPY[6203] = (new short[] {
-			3
-		});
-		HZPY[6204] = (new short[] {
-			400
-		});
-		HZPY[6205] = (new short[] {
-			181
-		});
-		HZPY[6206] = (new short[] {
-			352
-		});
-		HZPY[6207] = (new short[] {
-			159
-		});
-		HZPY[6208] = (new short[] {
-			331
-		});
-		HZPY[6209] = (new short[] {
-			33, 393
-		});
-		HZPY[6210] = (new short[] {
-			303
-		});
-		HZPY[6211] = (new short[] {
-			127
-		});
-		HZPY[6212] = (new short[] {
-			127
-		});
-		HZPY[6213] = (new short[] {
-			361
-		});
-		HZPY[6214] = (new short[] {
-			160
-		});
-		HZPY[6215] = (new short[] {
-			360, 156
-		});
-		HZPY[6216] = (new short[] {
-			135
-		});
-		HZPY[6217] = (new short[] {
-			137
-		});
-		HZPY[6218] = (new short[] {
-			398
-		});
-		HZPY[6219] = (new short[] {
-			137
-		});
-		HZPY[6220] = (new short[] {
-			297
-		});
-		HZPY[6221] = (new short[] {
-			334
-		});
-		HZPY[6222] = (new short[] {
-			121
-		});
-		HZPY[6223] = (new short[] {
-			365
-		});
-		HZPY[6224] = (new short[] {
-			93
-		});
-		HZPY[6225] = (new short[] {
-			353
-		});
-		HZPY[6226] = (new short[] {
-			295
-		});
-		HZPY[6227] = (new short[] {
-			354
-		});
-		HZPY[6228] = (new short[] {
-			368
-		});
-		HZPY[6229] = (new short[] {
-			379
-		});
-		HZPY[6230] = (new short[] {
-			128
-		});
-		HZPY[6231] = (new short[] {
-			113
-		});
-		HZPY[6232] = (new short[] {
-			113
-		});
-		HZPY[6233] = (new short[] {
-			144
-		});
-		HZPY[6234] = (new short[] {
-			343
-		});
-		HZPY[6235] = (new short[] {
-			352
-		});
-		HZPY[6236] = (new short[] {
-			161
-		});
-		HZPY[6237] = (new short[] {
-			400
-		});
-		HZPY[6238] = (new short[] {
-			350
-		});
-		HZPY[6239] = (new short[] {
-			302, 36
-		});
-		HZPY[6240] = (new short[] {
-			302
-		});
-		HZPY[6241] = (new short[] {
-			20
-		});
-		HZPY[6242] = (new short[] {
-			394
-		});
-		HZPY[6243] = (new short[] {
-			394
-		});
-		HZPY[6244] = (new short[] {
-			349
-		});
-		HZPY[6245] = (new short[] {
-			113
-		});
-		HZPY[6246] = (new short[] {
-			128
-		});
-		HZPY[6247] = (new short[] {
-			115
-		});
-		HZPY[6248] = (new short[] {
-			35
-		});
-		HZPY[6249] = (new short[] {
-			343
-		});
-		HZPY[6250] = (new short[] {
-			330
-		});
-		HZPY[6251] = (new short[] {
-			408
-		});
-		HZPY[6252] = (new short[] {
-			414
-		});
-		HZPY[6253] = (new short[] {
-			400
-		});
-		HZPY[6254] = (new short[] {
-			255
-		});
-		HZPY[6255] = (new short[] {
-			138, 372
-		});
-		HZPY[6256] = (new short[] {
-			350
-		});
-		HZPY[6257] = (new short[] {
-			296
-		});
-		HZPY[6258] = (new short[] {
-			369
-		});
-		HZPY[6259] = (new short[] {
-			350
-		});
-		HZPY[6260] = (new short[] {
-			263
-		});
-		HZPY[6261] = (new short[] {
-			256
-		});
-		HZPY[6262] = (new short[] {
-			138
-		});
-		HZPY[6263] = (new short[] {
-			108
-		});
-		HZPY[6264] = (new short[] {
-			396
-		});
-		HZPY[6265] = (new short[] {
-			369
-		});
-		HZPY[6266] = (new short[] {
-			398
-		});
-		HZPY[6267] = (new short[] {
-			2
-		});
-		HZPY[6268] = (new short[] {
-			343
-		});
-		HZPY[6269] = (new short[] {
-			177
-		});
-		HZPY[6270] = (new short[] {
-			174
-		});
-		HZPY[6271] = (new short[] {
-			32
-		});
-		HZPY[6272] = (new short[] {
-			344
-		});
-		HZPY[6273] = (new short[] {
-			354
-		});
-		HZPY[6274] = (new short[] {
-			382
-		});
-		HZPY[6275] = (new short[] {
-			229
-		});
-		HZPY[6276] = (new short[] {
-			361
-		});
-		HZPY[6277] = (new short[] {
-			100
-		});
-		HZPY[6278] = (new short[] {
-			369
-		});
-		HZPY[6279] = (new short[] {
-			351
-		});
-		HZPY[6280] = (new short[] {
-			379
-		});
-		HZPY[6281] = (new short[] {
-			128
-		});
-		HZPY[6282] = (new short[] {
-			91
-		});
-		HZPY[6283] = (new short[] {
-			204
-		});
-		HZPY[6284] = (new short[] {
-			160
-		});
-		HZPY[6285] = (new short[] {
-			116
-		});
-		HZPY[6286] = (new short[] {
-			372
-		});
-		HZPY[6287] = (new short[] {
-			72
-		});
-		HZPY[6288] = (new short[] {
-			345
-		});
-		HZPY[6289] = (new short[] {
-			305
-		});
-		HZPY[6290] = (new short[] {
-			263
-		});
-		HZPY[6291] = (new short[] {
-			195
-		});
-		HZPY[6292] = (new short[] {
-			213
-		});
-		HZPY[6293] = (new short[] {
-			133
-		});
-		HZPY[6294] = (new short[] {
-			235
-		});
-		HZPY[6295] = (new short[] {
-			2
-		});
-		HZPY[6296] = (new short[] {
-			366
-		});
-		HZPY[6297] = (new short[] {
-			45
-		});
-		HZPY[6298] = (new short[] {
-			367
-		});
-		HZPY[6299] = (new short[] {
-			320
-		});
-		HZPY[6300] = (new short[] {
-			255
-		});
-		HZPY[6301] = (new short[] {
-			205
-		});
-		HZPY[6302] = (new short[] {
-			135
-		});
-		HZPY[6303] = (new short[] {
-			146
-		});
-		HZPY[6304] = (new short[] {
-			96
-		});
-		HZPY[6305] = (new short[] {
-			347
-		});
-		HZPY[6306] = (new short[] {
-			32
-		});
-		HZPY[6307] = (new short[] {
-			256
-		});
-		HZPY[6308] = (new short[] {
-			115
-		});
-		HZPY[6309] = (new short[] {
-			365
-		});
-		HZPY[6310] = (new short[] {
-			171
-		});
-		HZPY[6311] = (new short[] {
-			1
-		});
-		HZPY[6312] = (new short[] {
-			131
-		});
-		HZPY[6313] = (new short[] {
-			108
-		});
-		HZPY[6314] = (new short[] {
-			198
-		});
-		HZPY[6315] = (new short[] {
-			382, 391
-		});
-		HZPY[6316] = (new short[] {
-			355
-		});
-		HZPY[6317] = (new short[] {
-			115
-		});
-		HZPY[6318] = (new short[] {
-			209
-		});
-		HZPY[6319] = (new short[] {
-			207
-		});
-		HZPY[6320] = (new short[] {
-			48
-		});
-		HZPY[6321] = (new short[] {
-			221
-		});
-		HZPY[6322] = (new short[] {
-			392
-		});
-		HZPY[6323] = (new short[] {
-			128
-		});
-		HZPY[6324] = (new short[] {
-			9, 255
-		});
-		HZPY[6325] = (new short[] {
-			113
-		});
-		HZPY[6326] = (new short[] {
-			361
-		});
-		HZPY[6327] = (new short[] {
-			42
-		});
-		HZPY[6328] = (new short[] {
-			175
-		});
-		HZPY[6329] = (new short[] {
-			352
-		});
-		HZPY[6330] = (new short[] {
-			57
-		});
-		HZPY[6331] = (new short[] {
-			138
-		});
-		HZPY[6332] = (new short[] {
-			250
-		});
-		HZPY[6333] = (new short[] {
-			177
-		});
-		HZPY[6334] = (new short[] {
-			339
-		});
-		HZPY[6335] = (new short[] {
-			350
-		});
-		HZPY[6336] = (new short[] {
-			369
-		});
-		HZPY[6337] = (new short[] {
-			131
-		});
-		HZPY[6338] = (new short[] {
-			159
-		});
-		HZPY[6339] = (new short[] {
-			56
-		});
-		HZPY[6340] = (new short[] {
-			368
-		});
-		HZPY[6341] = (new short[] {
-			368
-		});
-		HZPY[6342] = (new short[] {
-			171
-		});
-		HZPY[6343] = (new short[] {
-			323
-		});
-		HZPY[6344] = (new short[] {
-			334
-		});
-		HZPY[6345] = (new short[] {
-			354
-		});
-		HZPY[6346] = (new short[] {
-			86
-		});
-		HZPY[6347] = (new short[] {
-			262
-		});
-		HZPY[6348] = (new short[] {
-			393
-		});
-		HZPY[6349] = (new short[] {
-			115
-		});
-		HZPY[6350] = (new short[] {
-			369
-		});
-		HZPY[6351] = (new short[] {
-			353
-		});
-		HZPY[6352] = (new short[] {
-			357
-		});
-		HZPY[6353] = (new short[] {
-			292
-		});
-		HZPY[6354] = (new short[] {
-			135
-		});
-		HZPY[6355] = (new short[] {
-			9
-		});
-		HZPY[6356] = (new short[] {
-			138
-		});
-		HZPY[6357] = (new short[] {
-			229
-		});
-		HZPY[6358] = (new short[] {
-			1
-		});
-		HZPY[6359] = (new short[] {
-			368
-		});
-		HZPY[6360] = (new short[] {
-			281
-		});
-		HZPY[6361] = (new short[] {
-			305
-		});
-		HZPY[6362] = (new short[] {
-			199
-		});
-		HZPY[6363] = (new short[] {
-			363
-		});
-		HZPY[6364] = (new short[] {
-			367, 378
-		});
-		HZPY[6365] = (new short[] {
-			255, 9
-		});
-		HZPY[6366] = (new short[] {
-			171
-		});
-		HZPY[6367] = (new short[] {
-			35
-		});
-		HZPY[6368] = (new short[] {
-			159
-		});
-		HZPY[6369] = (new short[] {
-			67
-		});
-		HZPY[6370] = (new short[] {
-			229
-		});
-		HZPY[6371] = (new short[] {
-			365
-		});
-		HZPY[6372] = (new short[] {
-			130
-		});
-		HZPY[6373] = (new short[] {
-			183
-		});
-		HZPY[6374] = (new short[] {
-			350
-		});
-		HZPY[6375] = (new short[] {
-			279
-		});
-		HZPY[6376] = (new short[] {
-			181
-		});
-		HZPY[6377] = (new short[] {
-			214
-		});
-		HZPY[6378] = (new short[] {
-			189
-		});
-		HZPY[6379] = (new short[] {
-			186
-		});
-		HZPY[6380] = (new short[] {
-			295
-		});
-		HZPY[6381] = (new short[] {
-			324
-		});
-		HZPY[6382] = (new short[] {
-			365
-		});
-		HZPY[6383] = (new short[] {
-			40
-		});
-		HZPY[6384] = (new short[] {
-			378
-		});
-		HZPY[6385] = (new short[] {
-			378
-		});
-		HZPY[6386] = (new short[] {
-			266
-		});
-		HZPY[6387] = (new short[] {
-			368, 403, 369
-		});
-		HZPY[6388] = (new short[] {
-			100
-		});
-		HZPY[6389] = (new short[] {
-			403
-		});
-		HZPY[6390] = (new short[] {
-			123
-		});
-		HZPY[6391] = (new short[] {
-			116
-		});
-		HZPY[6392] = (new short[] {
-			305
-		});
-		HZPY[6393] = (new short[] {
-			25
-		});
-		HZPY[6394] = (new short[] {
-			25
-		});
-		HZPY[6395] = (new short[] {
-			302
-		});
-		HZPY[6396] = (new short[] {
-			193
-		});
-		HZPY[6397] = (new short[] {
-			28, 388
-		});
-		HZPY[6398] = (new short[] {
-			28, 388
-		});
-		HZPY[6399] = (new short[] {
-			329
-		});
-		HZPY[6400] = (new short[] {
-			414
-		});
-		HZPY[6401] = (new short[] {
-			23
-		});
-		HZPY[6402] = (new short[] {
-			360
-		});
-		HZPY[6403] = (new short[] {
-			128, 157
-		});
-		HZPY[6404] = (new short[] {
-			371
-		});
-		HZPY[6405] = (new short[] {
-			261
-		});
-		HZPY[6406] = (new short[] {
-			87
-		});
-		HZPY[6407] = (new short[] {
-			247, 13
-		});
-		HZPY[6408] = (new short[] {
-			378
-		});
-		HZPY[6409] = (new short[] {
-			375
-		});
-		HZPY[6410] = (new short[] {
-			282
-		});
-		HZPY[6411] = (new short[] {
-			246
-		});
-		HZPY[6412] = (new short[] {
-			7
-		});
-		HZPY[6413] = (new short[] {
-			91
-		});
-		HZPY[6414] = (new short[] {
-			178
-		});
-		HZPY[6415] = (new short[] {
-			86
-		});
-		HZPY[6416] = (new short[] {
-			266
-		});
-		HZPY[6417] = (new short[] {
-			229
-		});
-		HZPY[6418] = (new short[] {
-			233
-		});
-		HZPY[6419] = (new short[] {
-			331
-		});
-		HZPY[6420] = (new short[] {
-			312
-		});
-		HZPY[6421] = (new short[] {
-			396
-		});
-		HZPY[6422] = (new short[] {
-			166
-		});
-		HZPY[6423] = (new short[] {
-			166
-		});
-		HZPY[6424] = (new short[] {
-			142, 414
-		});
-		HZPY[6425] = (new short[] {
-			205
-		});
-		HZPY[6426] = (new short[] {
-			127
-		});
-		HZPY[6427] = (new short[] {
-			344
-		});
-		HZPY[6428] = (new short[] {
-			339
-		});
-		HZPY[6429] = (new short[] {
-			33, 393
-		});
-		HZPY[6430] = (new short[] {
-			131, 256
-		});
-		HZPY[6431] = (new short[] {
-			256, 131
-		});
-		HZPY[6432] = (new short[] {
-			372
-		});
-		HZPY[6433] = (new short[] {
-			410
-		});
-		HZPY[6434] = (new short[] {
-			344
-		});
-		HZPY[6435] = (new short[] {
-			334
-		});
-		HZPY[6436] = (new short[] {
-			166
-		});
-		HZPY[6437] = (new short[] {
-			229
-		});
-		HZPY[6438] = (new short[] {
-			199
-		});
-		HZPY[6439] = (new short[] {
-			181
-		});
-		HZPY[6440] = (new short[] {
-			209
-		});
-		HZPY[6441] = (new short[] {
-			62
-		});
-		HZPY[6442] = (new short[] {
-			345
-		});
-		HZPY[6443] = (new short[] {
-			207
-		});
-		HZPY[6444] = (new short[] {
-			11
-		});
-		HZPY[6445] = (new short[] {
-			389
-		});
-		HZPY[6446] = (new short[] {
-			401
-		});
-		HZPY[6447] = (new short[] {
-			305, 401
-		});
-		HZPY[6448] = (new short[] {
-			229
-		});
-		HZPY[6449] = (new short[] {
-			401
-		});
-		HZPY[6450] = (new short[] {
-			276
-		});
-		HZPY[6451] = (new short[] {
-			5
-		});
-		HZPY[6452] = (new short[] {
-			253, 249, 255
-		});
-		HZPY[6453] = (new short[] {
-			76
-		});
-		HZPY[6454] = (new short[] {
-			76
-		});
-		HZPY[6455] = (new short[] {
-			59
-		});
-		HZPY[6456] = (new short[] {
-			171
-		});
-		HZPY[6457] = (new short[] {
-			265
-		});
-		HZPY[6458] = (new short[] {
-			131
-		});
-		HZPY[6459] = (new short[] {
-			140
-		});
-		HZPY[6460] = (new short[] {
-			13
-		});
-		HZPY[6461] = (new short[] {
-			359
-		});
-		HZPY[6462] = (new short[] {
-			333
-		});
-		HZPY[6463] = (new short[] {
-			47
-		});
-		HZPY[6464] = (new short[] {
-			294
-		});
-		HZPY[6465] = (new short[] {
-			229
-		});
-		HZPY[6466] = (new short[] {
-			380
-		});
-		HZPY[6467] = (new short[] {
-			267
-		});
-		HZPY[6468] = (new short[] {
-			258
-		});
-		HZPY[6469] = (new short[] {
-			376
-		});
-		HZPY[6470] = (new short[] {
-			94
-		});
-		HZPY[6471] = (new short[] {
-			349
-		});
-		HZPY[6472] = (new short[] {
-			29
-		});
-		HZPY[6473] = (new short[] {
-			296, 294
-		});
-		HZPY[6474] = (new short[] {
-			363
-		});
-		HZPY[6475] = (new short[] {
-			84
-		});
-		HZPY[6476] = (new short[] {
-			349
-		});
-		HZPY[6477] = (new short[] {
-			409
-		});
-		HZPY[6478] = (new short[] {
-			171
-		});
-		HZPY[6479] = (new short[] {
-			357
-		});
-		HZPY[6480] = (new short[] {
-			22
-		});
-		HZPY[6481] = (new short[] {
-			53
-		});
-		HZPY[6482] = (new short[] {
-			276
-		});
-		HZPY[6483] = (new short[] {
-			298, 15
-		});
-		HZPY[6484] = (new short[] {
-			394
-		});
-		HZPY[6485] = (new short[] {
-			63
-		});
-		HZPY[6486] = (new short[] {
-			392
-		});
-		HZPY[6487] = (new short[] {
-			194
-		});
-		HZPY[6488] = (new short[] {
-			37
-		});
-		HZPY[6489] = (new short[] {
-			369
-		});
-		HZPY[6490] = (new short[] {
-			103
-		});
-		HZPY[6491] = (new short[] {
-			101
-		});
-		HZPY[6492] = (new short[] {
-			72
-		});
-		HZPY[6493] = (new short[] {
-			369
-		});
-		HZPY[6494] = (new short[] {
-			256
-		});
-		HZPY[6495] = (new short[] {
-			305
-		});
-		HZPY[6496] = (new short[] {
-			95
-		});
-		HZPY[6497] = (new short[] {
-			331
-		});
-		HZPY[6498] = (new short[] {
-			229
-		});
-		HZPY[6499] = (new short[] {
-			229
-		});
-		HZPY[6500] = (new short[] {
-			229
-		});
-		HZPY[6501] = (new short[] {
-			164
-		});
-		HZPY[6502] = (new short[] {
-			296
-		});
-		HZPY[6503] = (new short[] {
-			194
-		});
-		HZPY[6504] = (new short[] {
-			366
-		});
-		HZPY[6505] = (new short[] {
-			191
-		});
-		HZPY[6506] = (new short[] {
-			202
-		});
-		HZPY[6507] = (new short[] {
-			313
-		});
-		HZPY[6508] = (new short[] {
-			377
-		});
-		HZPY[6509] = (new short[] {
-			114
-		});
-		HZPY[6510] = (new short[] {
-			86
-		});
-		HZPY[6511] = (new short[] {
-			10
-		});
-		HZPY[6512] = (new short[] {
-			136
-		});
-		HZPY[6513] = (new short[] {
-			70
-		});
-		HZPY[6514] = (new short[] {
-			96
-		});
-		HZPY[6515] = (new short[] {
-			367, 202
-		});
-		HZPY[6516] = (new short[] {
-			352
-		});
-		HZPY[6517] = (new short[] {
-			40
-		});
-		HZPY[6518] = (new short[] {
-			45
-		});
-		HZPY[6519] = (new short[] {
-			239, 5
-		});
-		HZPY[6520] = (new short[] {
-			305
-		});
-		HZPY[6521] = (new short[] {
-			124
-		});
-		HZPY[6522] = (new short[] {
-			356
-		});
-		HZPY[6523] = (new short[] {
-			39, 228
-		});
-		HZPY[6524] = (new short[] {
-			401
-		});
-		HZPY[6525] = (new short[] {
-			39
-		});
-		HZPY[6526] = (new short[] {
-			314
-		});
-		HZPY[6527] = (new short[] {
-			7
-		});
-		HZPY[6528] = (new short[] {
-			314
-		});
-		HZPY[6529] = (new short[] {
-			131
-		});
-		HZPY[6530] = (new short[] {
-			378
-		});
-		HZPY[6531] = (new short[] {
-			379
-		});
-		HZPY[6532] = (new short[] {
-			102
-		});
-		HZPY[6533] = (new short[] {
-			131
-		});
-		HZPY[6534] = (new short[] {
-			195
-		});
-		HZPY[6535] = (new short[] {
-			247
-		});
-		HZPY[6536] = (new short[] {
-			13
-		});
-		HZPY[6537] = (new short[] {
-			344
-		});
-		HZPY[6538] = (new short[] {
-			3
-		});
-		HZPY[6539] = (new short[] {
-			85
-		});
-		HZPY[6540] = (new short[] {
-			87
-		});
-		HZPY[6541] = (new short[] {
-			369
-		});
-		HZPY[6542] = (new short[] {
-			91
-		});
-		HZPY[6543] = (new short[] {
-			213
-		});
-		HZPY[6544] = (new short[] {
-			350
-		});
-		HZPY[6545] = (new short[] {
-			123
-		});
-		HZPY[6546] = (new short[] {
-			364
-		});
-		HZPY[6547] = (new short[] {
-			71
-		});
-		HZPY[6548] = (new short[] {
-			363
-		});
-		HZPY[6549] = (new short[] {
-			396
-		});
-		HZPY[6550] = (new short[] {
-			367
-		});
-		HZPY[6551] = (new short[] {
-			177
-		});
-		HZPY[6552] = (new short[] {
-			283
-		});
-		HZPY[6553] = (new short[] {
-			77
-		});
-		HZPY[6554] = (new short[] {
-			197
-		});
-		HZPY[6555] = (new short[] {
-			393
-		});
-		HZPY[6556] = (new short[] {
-			110
-		});
-		HZPY[6557] = (new short[] {
-			398, 256
-		});
-		HZPY[6558] = (new short[] {
-			410, 48
-		});
-		HZPY[6559] = (new short[] {
-			379
-		});
-		HZPY[6560] = (new short[] {
-			229
-		});
-		HZPY[6561] = (new short[] {
-			71
-		});
-		HZPY[6562] = (new short[] {
-			305
-		});
-		HZPY[6563] = (new short[] {
-			384
-		});
-		HZPY[6564] = (new short[] {
-			229
-		});
-		HZPY[6565] = (new short[] {
-			171
-		});
-		HZPY[6566] = (new short[] {
-			183
-		});
-		HZPY[6567] = (new short[] {
-			133
-		});
-		HZPY[6568] = (new short[] {
-			36
-		});
-		HZPY[6569] = (new short[] {
-			314
-		});
-		HZPY[6570] = (new short[] {
-			259
-		});
-		HZPY[6571] = (new short[] {
-			88
-		});
-		HZPY[6572] = (new short[] {
-			213
-		});
-		HZPY[6573] = (new short[] {
-			354
-		});
-		HZPY[6574] = (new short[] {
-			352
-		});
-		HZPY[6575] = (new short[] {
-			155
-		});
-		HZPY[6576] = (new short[] {
-			252
-		});
-		HZPY[6577] = (new short[] {
-			322
-		});
-		HZPY[6578] = (new short[] {
-			350
-		});
-		HZPY[6579] = (new short[] {
-			398
-		});
-		HZPY[6580] = (new short[] {
-			105
-		});
-		HZPY[6581] = (new short[] {
-			354
-		});
-		HZPY[6582] = (new short[] {
-			132
-		});
-		HZPY[6583] = (new short[] {
-			132
-		});
-		HZPY[6584] = (new short[] {
-			102, 141
-		});
-		HZPY[6585] = (new short[] {
-			9, 91
-		});
-		HZPY[6586] = (new short[] {
-			207
-		});
-		HZPY[6587] = (new short[] {
-			369
-		});
-		HZPY[6588] = (new short[] {
-			368
-		});
-		HZPY[6589] = (new short[] {
-			289
-		});
-		HZPY[6590] = (new short[] {
-			303
-		});
-		HZPY[6591] = (new short[] {
-			225
-		});
-		HZPY[6592] = (new short[] {
-			13
-		});
-		HZPY[6593] = (new short[] {
-			340, 76
-		});
-		HZPY[6594] = (new short[] {
-			369
-		});
-		HZPY[6595] = (new short[] {
-			178
-		});
-		HZPY[6596] = (new short[] {
-			18
-		});
-		HZPY[6597] = (new short[] {
-			221
-		});
-		HZPY[6598] = (new short[] {
-			163
-		});
-		HZPY[6599] = (new short[] {
-			116
-		});
-		HZPY[6600] = (new short[] {
-			7
-		});
-		HZPY[6601] = (new short[] {
-			84, 14
-		});
-		HZPY[6602] = (new short[] {
-			399
-		});
-		HZPY[6603] = (new short[] {
-			56
-		});
-		HZPY[6604] = (new short[] {
-			47
-		});
-		HZPY[6605] = (new short[] {
-			366
-		});
-		HZPY[6606] = (new short[] {
-			91
-		});
-		HZPY[6607] = (new short[] {
-			19, 6
-		});
-		HZPY[6608] = (new short[] {
-			208
-		});
-		HZPY[6609] = (new short[] {
-			94
-		});
-		HZPY[6610] = (new short[] {
-			256
-		});
-		HZPY[6611] = (new short[] {
-			272
-		});
-		HZPY[6612] = (new short[] {
-			280
-		});
-		HZPY[6613] = (new short[] {
-			195
-		});
-		HZPY[6614] = (new short[] {
-			393
-		});
-		HZPY[6615] = (new short[] {
-			314
-		});
-		HZPY[6616] = (new short[] {
-			394
-		});
-		HZPY[6617] = (new short[] {
-			351
-		});
-		HZPY[6618] = (new short[] {
-			375
-		});
-		HZPY[6619] = (new short[] {
-			301
-		});
-		HZPY[6620] = (new short[] {
-			141, 108
-		});
-		HZPY[6621] = (new short[] {
-			340
-		});
-		HZPY[6622] = (new short[] {
-			416, 389
-		});
-		HZPY[6623] = (new short[] {
-			213
-		});
-		HZPY[6624] = (new short[] {
-			227
-		});
-		HZPY[6625] = (new short[] {
-			374
-		});
-		HZPY[6626] = (new short[] {
-			63
-		});
-		HZPY[6627] = (new short[] {
-			398
-		});
-		HZPY[6628] = (new short[] {
-			389
-		});
-		HZPY[6629] = (new short[] {
-			29, 389
-		});
-		HZPY[6630] = (new short[] {
-			57
-		});
-		HZPY[6631] = (new short[] {
-			103
-		});
-		HZPY[6632] = (new short[] {
-			229
-		});
-		HZPY[6633] = (new short[] {
-			140
-		});
-		HZPY[6634] = (new short[] {
-			4
-		});
-		HZPY[6635] = (new short[] {
-			91, 13
-		});
-		HZPY[6636] = (new short[] {
-			133
-		});
-		HZPY[6637] = (new short[] {
-			19
-		});
-		HZPY[6638] = (new short[] {
-			76
-		});
-		HZPY[6639] = (new short[] {
-			150
-		});
-		HZPY[6640] = (new short[] {
-			212
-		});
-		HZPY[6641] = (new short[] {
-			401
-		});
-		HZPY[6642] = (new short[] {
-			13
-		});
-		HZPY[6643] = (new short[] {
-			179
-		});
-		HZPY[6644] = (new short[] {
-			30
-		});
-		HZPY[6645] = (new short[] {
-			389
-		});
-		HZPY[6646] = (new short[] {
-			313
-		});
-		HZPY[6647] = (new short[] {
-			401
-		});
-		HZPY[6648] = (new short[] {
-			244
-		});
-		HZPY[6649] = (new short[] {
-			303
-		});
-		HZPY[6650] = (new short[] {
-			105
-		});
-		HZPY[6651] = (new short[] {
-			29, 389
-		});
-		HZPY[6652] = (new short[] {
-			367
-		});
-		HZPY[6653] = (new short[] {
-			36
-		});
-		HZPY[6654] = (new short[] {
-			140
-		});
-		HZPY[6655] = (new short[] {
-			303
-		});
-		HZPY[6656] = (new short[] {
-			398
-		});
-		HZPY[6657] = (new short[] {
-			179
-		});
-		HZPY[6658] = (new short[] {
-			197
-		});
-		HZPY[6659] = (new short[] {
-			229
-		});
-		HZPY[6660] = (new short[] {
-			279
-		});
-		HZPY[6661] = (new short[] {
-			389, 296
-		});
-		HZPY[6662] = (new short[] {
-			229
-		});
-		HZPY[6663] = (new short[] {
-			15
-		});
-		HZPY[6664] = (new short[] {
-			391
-		});
-		HZPY[6665] = (new short[] {
-			398
-		});
-		HZPY[6666] = (new short[] {
-			181
-		});
-		HZPY[6667] = (new short[] {
-			70
-		});
-		HZPY[6668] = (new short[] {
-			183
-		});
-		HZPY[6669] = (new short[] {
-			229
-		});
-		HZPY[6670] = (new short[] {
-			171, 378
-		});
-		HZPY[6671] = (new short[] {
-			165
-		});
-		HZPY[6672] = (new short[] {
-			374
-		});
-		HZPY[6673] = (new short[] {
-			305
-		});
-		HZPY[6674] = (new short[] {
-			363
-		});
-		HZPY[6675] = (new short[] {
-			308
-		});
-		HZPY[6676] = (new short[] {
-			256
-		});
-		HZPY[6677] = (new short[] {
-			396
-		});
-		HZPY[6678] = (new short[] {
-			256, 350
-		});
-		HZPY[6679] = (new short[] {
-			171
-		});
-		HZPY[6680] = (new short[] {
-			37, 369
-		});
-		HZPY[6681] = (new short[] {
-			353
-		});
-		HZPY[6682] = (new short[] {
-			396
-		});
-		HZPY[6683] = (new short[] {
-			171
-		});
-		HZPY[6684] = (new short[] {
-			316
-		});
-		HZPY[6685] = (new short[] {
-			104, 162
-		});
-		HZPY[6686] = (new short[] {
-			147
-		});
-		HZPY[6687] = (new short[] {
-			18, 11
-		});
-		HZPY[6688] = (new short[] {
-			276
-		});
-		HZPY[6689] = (new short[] {
-			354, 135
-		});
-		HZPY[6690] = (new short[] {
-			19, 6
-		});
-		HZPY[6691] = (new short[] {
-			276
-		});
-		HZPY[6692] = (new short[] {
-			18
-		});
-		HZPY[6693] = (new short[] {
-			409
-		});
-		HZPY[6694] = (new short[] {
-			39
-		});
-		HZPY[6695] = (new short[] {
-			369
-		});
-		HZPY[6696] = (new short[] {
-			47
-		});
-		HZPY[6697] = (new short[] {
-			360
-		});
-		HZPY[6698] = (new short[] {
-			401
-		});
-		HZPY[6699] = (new short[] {
-			133
-		});
-		HZPY[6700] = (new short[] {
-			414
-		});
-		HZPY[6701] = (new short[] {
-			82
-		});
-		HZPY[6702] = (new short[] {
-			82
-		});
-		HZPY[6703] = (new short[] {
-			376
-		});
-		HZPY[6704] = (new short[] {
-			83
-		});
-		HZPY[6705] = (new short[] {
-			101
-		});
-		HZPY[6706] = (new short[] {
-			149
-		});
-		HZPY[6707] = (new short[] {
-			167
-		});
-		HZPY[6708] = (new short[] {
-			391
-		});
-		HZPY[6709] = (new short[] {
-			171
-		});
-		HZPY[6710] = (new short[] {
-			229
-		});
-		HZPY[6711] = (new short[] {
-			366
-		});
-		HZPY[6712] = (new short[] {
-			116, 123
-		});
-		HZPY[6713] = (new short[] {
-			99
-		});
-		HZPY[6714] = (new short[] {
-			398
-		});
-		HZPY[6715] = (new short[] {
-			37
-		});
-		HZPY[6716] = (new short[] {
-			97
-		});
-		HZPY[6717] = (new short[] {
-			381
-		});
-		HZPY[6718] = (new short[] {
-			186
-		});
-		HZPY[6719] = (new short[] {
-			83
-		});
-		HZPY[6720] = (new short[] {
-			136
-		});
-		HZPY[6721] = (new short[] {
-			119, 114
-		});
-		HZPY[6722] = (new short[] {
-			108
-		});
-		HZPY[6723] = (new short[] {
-			325
-		});
-		HZPY[6724] = (new short[] {
-			107
-		});
-		HZPY[6725] = (new short[] {
-			345
-		});
-		HZPY[6726] = (new short[] {
-			159
-		});
-		HZPY[6727] = (new short[] {
-			281
-		});
-		HZPY[6728] = (new short[] {
-			2
-		});
-		HZPY[6729] = (new short[] {
-			2
-		});
-		HZPY[6730] = (new short[] {
-			142
-		});
-		HZPY[6731] = (new short[] {
-			369
-		});
-		HZPY[6732] = (new short[] {
-			408
-		});
-		HZPY[6733] = (new short[] {
-			155
-		});
-		HZPY[6734] = (new short[] {
-			398
-		});
-		HZPY[6735] = (new short[] {
-			264
-		});
-		HZPY[6736] = (new short[] {
-			334
-		});
-		HZPY[6737] = (new short[] {
-			289
-		});
-		HZPY[6738] = (new short[] {
-			289
-		});
-		HZPY[6739] = (new short[] {
-			126
-		});
-		HZPY[6740] = (new short[] {
-			136, 141
-		});
-		HZPY[6741] = (new short[] {
-			140
-		});
-		HZPY[6742] = (new short[] {
-			362
-		});
-		HZPY[6743] = (new short[] {
-			76
-		});
-		HZPY[6744] = (new short[] {
-			406
-		});
-		HZPY[6745] = (new short[] {
-			376
-		});
-		HZPY[6746] = (new short[] {
-			382
-		});
-		HZPY[6747] = (new short[] {
-			229
-		});
-		HZPY[6748] = (new short[] {
-			372
-		});
-		HZPY[6749] = (new short[] {
-			229
-		});
-		HZPY[6750] = (new short[] {
-			229
-		});
-		HZPY[6751] = (new short[] {
-			391
-		});
-		HZPY[6752] = (new short[] {
-			364
-		});
-		HZPY[6753] = (new short[] {
-			274
-		});
-		HZPY[6754] = (new short[] {
-			396
-		});
-		HZPY[6755] = (new short[] {
-			58
-		});
-		HZPY[6756] = (new short[] {
-			256
-		});
-		HZPY[6757] = (new short[] {
-			260
-		});
-		HZPY[6758] = (new short[] {
-			124
-		});
-		HZPY[6759] = (new short[] {
-			108, 128
-		});
-		HZPY[6760] = (new short[] {
-			134
-		});
-		HZPY[6761] = (new short[] {
-			405
-		});
-		HZPY[6762] = (new short[] {
-			363
-		});
-		HZPY[6763] = (new short[] {
-			320
-		});
-		HZPY[6764] = (new short[] {
-			320
-		});
-		HZPY[6765] = (new short[] {
-			396
-		});
-		HZPY[6766] = (new short[] {
-			10
-		});
-		HZPY[6767] = (new short[] {
-			333
-		});
-		HZPY[6768] = (new short[] {
-			162
-		});
-		HZPY[6769] = (new short[] {
-			138
-		});
-		HZPY[6770] = (new short[] {
-			19
-		});
-		HZPY[6771] = (new short[] {
-			11
-		});
-		HZPY[6772] = (new short[] {
-			91
-		});
-		HZPY[6773] = (new short[] {
-			283
-		});
-		HZPY[6774] = (new short[] {
-			334
-		});
-		HZPY[6775] = (new short[] {
-			143
-		});
-		HZPY[6776] = (new short[] {
-			350
-		});
-		HZPY[6777] = (new short[] {
-			166
-		});
-		HZPY[6778] = (new short[] {
-			179
-		});
-		HZPY[6779] = (new short[] {
-			88
-		});
-		HZPY[6780] = (new short[] {
-			256
-		});
-		HZPY[6781] = (new short[] {
-			346
-		});
-		HZPY[6782] = (new short[] {
-			144
-		});
-		HZPY[6783] = (new short[] {
-			94
-		});
-		HZPY[6784] = (new short[] {
-			50
-		});
-		HZPY[6785] = (new short[] {
-			174
-		});
-		HZPY[6786] = (new short[] {
-			265
-		});
-		HZPY[6787] = (new short[] {
-			333
-		});
-		HZPY[6788] = (new short[] {
-			375
-		});
-		HZPY[6789] = (new short[] {
-			197
-		});
-		HZPY[6790] = (new short[] {
-			8
-		});
-		HZPY[6791] = (new short[] {
-			181
-		});
-		HZPY[6792] = (new short[] {
-			246
-		});
-		HZPY[6793] = (new short[] {
-			405
-		});
-		HZPY[6794] = (new short[] {
-			63
-		});
-		HZPY[6795] = (new short[] {
-			361
-		});
-		HZPY[6796] = (new short[] {
-			336
-		});
-		HZPY[6797] = (new short[] {
-			384
-		});
-		HZPY[6798] = (new short[] {
-			4
-		});
-		HZPY[6799] = (new short[] {
-			103
-		});
-		HZPY[6800] = (new short[] {
-			13
-		});
-		HZPY[6801] = (new short[] {
-			63
-		});
-		HZPY[6802] = (new short[] {
-			113
-		});
-		HZPY[6803] = (new short[] {
-			409
-		});
-		HZPY[6804] = (new short[] {
-			398
-		});
-		HZPY[6805] = (new short[] {
-			276
-		});
-		HZPY[6806] = (new short[] {
-			10
-		});
-		HZPY[6807] = (new short[] {
-			100
-		});
-		HZPY[6808] = (new short[] {
-			133
-		});
-		HZPY[6809] = (new short[] {
-			126
-		});
-		HZPY[6810] = (new short[] {
-			343
-		});
-		HZPY[6811] = (new short[] {
-			236
-		});
-		HZPY[6812] = (new short[] {
-			132
-		});
-		HZPY[6813] = (new short[] {
-			331
-		});
-		HZPY[6814] = (new short[] {
-			131
-		});
-		HZPY[6815] = (new short[] {
-			354
-		});
-		HZPY[6816] = (new short[] {
-			184
-		});
-		HZPY[6817] = (new short[] {
-			158
-		});
-		HZPY[6818] = (new short[] {
-			298, 290
-		});
-		HZPY[6819] = (new short[] {
-			27
-		});
-		HZPY[6820] = (new short[] {
-			87
-		});
-		HZPY[6821] = (new short[] {
-			314
-		});
-		HZPY[6822] = (new short[] {
-			199
-		});
-		HZPY[6823] = (new short[] {
-			349
-		});
-		HZPY[6824] = (new short[] {
-			171
-		});
-		HZPY[6825] = (new short[] {
-			171
-		});
-		HZPY[6826] = (new short[] {
-			71
-		});
-		HZPY[6827] = (new short[] {
-			27
-		});
-		HZPY[6828] = (new short[] {
-			372
-		});
-		HZPY[6829] = (new short[] {
-			320
-		});
-		HZPY[6830] = (new short[] {
-			141
-		});
-		HZPY[6831] = (new short[] {
-			329
-		});
-		HZPY[6832] = (new short[] {
-			355
-		});
-		HZPY[6833] = (new short[] {
-			161
-		});
-		HZPY[6834] = (new short[] {
-			408
-		});
-		HZPY[6835] = (new short[] {
-			305
-		});
-		HZPY[6836] = (new short[] {
-			31
-		});
-		HZPY[6837] = (new short[] {
-			84
-		});
-		HZPY[6838] = (new short[] {
-			345
-		});
-		HZPY[6839] = (new short[] {
-			138
-		});
-		HZPY[6840] = (new short[] {
-			171
-		});
-		HZPY[6841] = (new short[] {
-			18, 17
-		});
-		HZPY[6842] = (new short[] {
-			229
-		});
-		HZPY[6843] = (new short[] {
-			229
-		});
-		HZPY[6844] = (new short[] {
-			325
-		});
-		HZPY[6845] = (new short[] {
-			398
-		});
-		HZPY[6846] = (new short[] {
-			164
-		});
-		HZPY[6847] = (new short[] {
-			173
-		});
-		HZPY[6848] = (new short[] {
-			133
-		});
-		HZPY[6849] = (new short[] {
-			408
-		});
-		HZPY[6850] = (new short[] {
-			178
-		});
-		HZPY[6851] = (new short[] {
-			171
-		});
-		HZPY[6852] = (new short[] {
-			256
-		});
-		HZPY[6853] = (new short[] {
-			18
-		});
-		HZPY[6854] = (new short[] {
-			188
-		});
-		HZPY[6855] = (new short[] {
-			48
-		});
-		HZPY[6856] = (new short[] {
-			258
-		});
-		HZPY[6857] = (new short[] {
-			201
-		});
-		HZPY[6858] = (new short[] {
-			256
-		});
-		HZPY[6859] = (new short[] {
-			256
-		});
-		HZPY[6860] = (new short[] {
-			22
-		});
-		HZPY[6861] = (new short[] {
-			109
-		});
-		HZPY[6862] = (new short[] {
-			31
-		});
-		HZPY[6863] = (new short[] {
-			60
-		});
-		HZPY[6864] = (new short[] {
-			86
-		});
-		HZPY[6865] = (new short[] {
-			240
-		});
-		HZPY[6866] = (new short[] {
-			8
-		});
-		HZPY[6867] = (new short[] {
-			254, 8
-		});
-		HZPY[6868] = (new short[] {
-			129
-		});
-		HZPY[6869] = (new short[] {
-			410
-		});
-		HZPY[6870] = (new short[] {
-			36
-		});
-		HZPY[6871] = (new short[] {
-			384
-		});
-		HZPY[6872] = (new short[] {
-			131
-		});
-		HZPY[6873] = (new short[] {
-			171
-		});
-		HZPY[6874] = (new short[] {
-			246
-		});
-		HZPY[6875] = (new short[] {
-			376
-		});
-		HZPY[6876] = (new short[] {
-			376
-		});
-		HZPY[6877] = (new short[] {
-			103
-		});
-		HZPY[6878] = (new short[] {
-			129
-		});
-		HZPY[6879] = (new short[] {
-			70
-		});
-		HZPY[6880] = (new short[] {
-			324
-		});
-		HZPY[6881] = (new short[] {
-			95
-		});
-		HZPY[6882] = (new short[] {
-			344
-		});
-		HZPY[6883] = (new short[] {
-			63
-		});
-		HZPY[6884] = (new short[] {
-			350
-		});
-		HZPY[6885] = (new short[] {
-			84
-		});
-		HZPY[6886] = (new short[] {
-			36
-		});
-		HZPY[6887] = (new short[] {
-			391
-		});
-		HZPY[6888] = (new short[] {
-			256
-		});
-		HZPY[6889] = (new short[] {
-			377
-		});
-		HZPY[6890] = (new short[] {
-			365
-		});
-		HZPY[6891] = (new short[] {
-			376
-		});
-		HZPY[6892] = (new short[] {
-			267
-		});
-		HZPY[6893] = (new short[] {
-			369
-		});
-		HZPY[6894] = (new short[] {
-			292
-		});
-		HZPY[6895] = (new short[] {
-			276
-		});
-		HZPY[6896] = (new short[] {
-			44
-		});
-		HZPY[6897] = (new short[] {
-			170, 178
-		});
-		HZPY[6898] = (new short[] {
-			256, 350
-		});
-		HZPY[6899] = (new short[] {
-			408
-		});
-		HZPY[6900] = (new short[] {
-			91
-		});
-		HZPY[6901] = (new short[] {
-			150
-		});
-		HZPY[6902] = (new short[] {
-			164
-		});
-		HZPY[6903] = (new short[] {
-			411
-		});
-		HZPY[6904] = (new short[] {
-			411
-		});
-		HZPY[6905] = (new short[] {
-			393, 408
-		});
-		HZPY[6906] = (new short[] {
-			106
-		});
-		HZPY[6907] = (new short[] {
-			87
-		});
-		HZPY[6908] = (new short[] {
-			87
-		});
-		HZPY[6909] = (new short[] {
-			35
-		});
-		HZPY[6910] = (new short[] {
-			264
-		});
-		HZPY[6911] = (new short[] {
-			225
-		});
-		HZPY[6912] = (new short[] {
-			343
-		});
-		HZPY[6913] = (new short[] {
-			110
-		});
-		HZPY[6914] = (new short[] {
-			183
-		});
-		HZPY[6915] = (new short[] {
-			115
-		});
-		HZPY[6916] = (new short[] {
-			136
-		});
-		HZPY[6917] = (new short[] {
-			369
-		});
-		HZPY[6918] = (new short[] {
-			39
-		});
-		HZPY[6919] = (new short[] {
-			141
-		});
-		HZPY[6920] = (new short[] {
-			141
-		});
-		HZPY[6921] = (new short[] {
-			36, 302
-		});
-		HZPY[6922] = (new short[] {
-			416
-		});
-		HZPY[6923] = (new short[] {
-			174
-		});
-		HZPY[6924] = (new short[] {
-			259
-		});
-		HZPY[6925] = (new short[] {
-			398
-		});
-		HZPY[6926] = (new short[] {
-			406, 44
-		});
-		HZPY[6927] = (new short[] {
-			364
-		});
-		HZPY[6928] = (new short[] {
-			141
-		});
-		HZPY[6929] = (new short[] {
-			10, 247
-		});
-		HZPY[6930] = (new short[] {
-			135
-		});
-		HZPY[6931] = (new short[] {
-			408
-		});
-		HZPY[6932] = (new short[] {
-			409
-		});
-		HZPY[6933] = (new short[] {
-			17
-		});
-		HZPY[6934] = (new short[] {
-			246
-		});
-		HZPY[6935] = (new short[] {
-			68
-		});
-		HZPY[6936] = (new short[] {
-			40
-		});
-		HZPY[6937] = (new short[] {
-			296
-		});
-		HZPY[6938] = (new short[] {
-			229
-		});
-		HZPY[6939] = (new short[] {
-			229
-		});
-		HZPY[6940] = (new short[] {
-			133
-		});
-		HZPY[6941] = (new short[] {
-			108
-		});
-		HZPY[6942] = (new short[] {
-			350
-		});
-		HZPY[6943] = (new short[] {
-			72
-		});
-		HZPY[6944] = (new short[] {
-			258
-		});
-		HZPY[6945] = (new short[] {
-			229
-		});
-		HZPY[6946] = (new short[] {
-			160
-		});
-		HZPY[6947] = (new short[] {
-			229
-		});
-		HZPY[6948] = (new short[] {
-			189
-		});
-		HZPY[6949] = (new short[] {
-			398
-		});
-		HZPY[6950] = (new short[] {
-			229
-		});
-		HZPY[6951] = (new short[] {
-			229
-		});
-		HZPY[6952] = (new short[] {
-			229
-		});
-		HZPY[6953] = (new short[] {
-			229
-		});
-		HZPY[6954] = (new short[] {
-			246
-		});
-		HZPY[6955] = (new short[] {
-			296
-		});
-		HZPY[6956] = (new short[] {
-			229
-		});
-		HZPY[6957] = (new short[] {
-			340
-		});
-		HZPY[6958] = (new short[] {
-			292
-		});
-		HZPY[6959] = (new short[] {
-			76
-		});
-		HZPY[6960] = (new short[] {
-			368
-		});
-		HZPY[6961] = (new short[] {
-			91
-		});
-		HZPY[6962] = (new short[] {
-			345
-		});
-		HZPY[6963] = (new short[] {
-			345
-		});
-		HZPY[6964] = (new short[] {
-			73
-		});
-		HZPY[6965] = (new short[] {
-			132
-		});
-		HZPY[6966] = (new short[] {
-			410
-		});
-		HZPY[6967] = (new short[] {
-			133
-		});
-		HZPY[6968] = (new short[] {
-			369
-		});
-		HZPY[6969] = (new short[] {
-			301, 396
-		});
-		HZPY[6970] = (new short[] {
-			350
-		});
-		HZPY[6971] = (new short[] {
-			365
-		});
-		HZPY[6972] = (new short[] {
-			365
-		});
-		HZPY[6973] = (new short[] {
-			42
-		});
-		HZPY[6974] = (new short[] {
-			391
-		});
-		HZPY[6975] = (new short[] {
-			45
-		});
-		HZPY[6976] = (new short[] {
-			376, 141
-		});
-		HZPY[6977] = (new short[] {
-			116
-		});
-		HZPY[6978] = (new short[] {
-			389, 29
-		});
-		HZPY[6979] = (new short[] {
-			348
-		});
-		HZPY[6980] = (new short[] {
-			14
-		});
-		HZPY[6981] = (new short[] {
-			13
-		});
-		HZPY[6982] = (new short[] {
-			367
-		});
-		HZPY[6983] = (new short[] {
-			130
-		});
-		HZPY[6984] = (new short[] {
-			360
-		});
-		HZPY[6985] = (new short[] {
-			285
-		});
-		HZPY[6986] = (new short[] {
-			366
-		});
-		HZPY[6987] = (new short[] {
-			163
-		});
-		HZPY[6988] = (new short[] {
-			365
-		});
-		HZPY[6989] = (new short[] {
-			11
-		});
-		HZPY[6990] = (new short[] {
-			129
-		});
-		HZPY[6991] = (new short[] {
-			160
-		});
-		HZPY[6992] = (new short[] {
-			136
-		});
-		HZPY[6993] = (new short[] {
-			160
-		});
-		HZPY[6994] = (new short[] {
-			313
-		});
-		HZPY[6995] = (new short[] {
-			88
-		});
-		HZPY[6996] = (new short[] {
-			355
-		});
-		HZPY[6997] = (new short[] {
-			340
-		});
-		HZPY[6998] = (new short[] {
-			131
-		});
-		HZPY[6999] = (new short[] {
-			133
-		});
-		HZPY[7000] = (new short[] {
-			209
-		});
-		HZPY[7001] = (new short[] {
-			195
-		});
-		HZPY[7002] = (new short[] {
-			40
-		});
-		HZPY[7003] = (new short[] {
-			123, 155
-		});
-		HZPY[7004] = (new short[] {
-			123
-		});
-		HZPY[7005] = (new short[] {
-			173
-		});
-		HZPY[7006] = (new short[] {
-			170
-		});
-		HZPY[7007] = (new short[] {
-			333
-		});
-		HZPY[7008] = (new short[] {
-			213
-		});
-		HZPY[7009] = (new short[] {
-			376
-		});
-		HZPY[7010] = (new short[] {
-			375
-		});
-		HZPY[7011] = (new short[] {
-			197
-		});
-		HZPY[7012] = (new short[] {
-			314
-		});
-		HZPY[7013] = (new short[] {
-			361
-		});
-		HZPY[7014] = (new short[] {
-			361
-		});
-		HZPY[7015] = (new short[] {
-			372
-		});
-		HZPY[7016] = (new short[] {
-			396
-		});
-		HZPY[7017] = (new short[] {
-			248
-		});
-		HZPY[7018] = (new short[] {
-			67
-		});
-		HZPY[7019] = (new short[] {
-			131
-		});
-		HZPY[7020] = (new short[] {
-			136
-		});
-		HZPY[7021] = (new short[] {
-			368
-		});
-		HZPY[7022] = (new short[] {
-			40
-		});
-		HZPY[7023] = (new short[] {
-			311, 75
-		});
-		HZPY[7024] = (new short[] {
-			376
-		});
-		HZPY[7025] = (new short[] {
-			49
-		});
-		HZPY[7026] = (new short[] {
-			345
-		});
-		HZPY[7027] = (new short[] {
-			197
-		});
-		HZPY[7028] = (new short[] {
-			63
-		});
-		HZPY[7029] = (new short[] {
-			131
-		});
-		HZPY[7030] = (new short[] {
-			136
-		});
-		HZPY[7031] = (new short[] {
-			146, 136
-		});
-		HZPY[7032] = (new short[] {
-			265
-		});
-		HZPY[7033] = (new short[] {
-			372
-		});
-		HZPY[7034] = (new short[] {
-			280
-		});
-		HZPY[7035] = (new short[] {
-			119
-		});
-		HZPY[7036] = (new short[] {
-			182
-		});
-		HZPY[7037] = (new short[] {
-			168, 378
-		});
-		HZPY[7038] = (new short[] {
-			229
-		});
-		HZPY[7039] = (new short[] {
-			108
-		});
-		HZPY[7040] = (new short[] {
-			251
-		});
-		HZPY[7041] = (new short[] {
-			229
-		});
-		HZPY[7042] = (new short[] {
-			93
-		});
-		HZPY[7043] = (new short[] {
-			323
-		});
-		HZPY[7044] = (new short[] {
-			165
-		});
-		HZPY[7045] = (new short[] {
-			379
-		});
-		HZPY[7046] = (new short[] {
-			376
-		});
-		HZPY[7047] = (new short[] {
-			35
-		});
-		HZPY[7048] = (new short[] {
-			184
-		});
-		HZPY[7049] = (new short[] {
-			141
-		});
-		HZPY[7050] = (new short[] {
-			229
-		});
-		HZPY[7051] = (new short[] {
-			229
-		});
-		HZPY[7052] = (new short[] {
-			229
-		});
-		HZPY[7053] = (new short[] {
-			355
-		});
-		HZPY[7054] = (new short[] {
-			132
-		});
-		HZPY[7055] = (new short[] {
-			369
-		});
-		HZPY[7056] = (new short[] {
-			391
-		});
-		HZPY[7057] = (new short[] {
-			91
-		});
-		HZPY[7058] = (new short[] {
-			236
-		});
-		HZPY[7059] = (new short[] {
-			200
-		});
-		HZPY[7060] = (new short[] {
-			166
-		});
-		HZPY[7061] = (new short[] {
-			279
-		});
-		HZPY[7062] = (new short[] {
-			103
-		});
-		HZPY[7063] = (new short[] {
-			133
-		});
-		HZPY[7064] = (new short[] {
-			141
-		});
-		HZPY[7065] = (new short[] {
-			321
-		});
-		HZPY[7066] = (new short[] {
-			367
-		});
-		HZPY[7067] = (new short[] {
-			396
-		});
-		HZPY[7068] = (new short[] {
-			8
-		});
-		HZPY[7069] = (new short[] {
-			294
-		});
-		HZPY[7070] = (new short[] {
-			377
-		});
-		HZPY[7071] = (new short[] {
-			409
-		});
-		HZPY[7072] = (new short[] {
-			205
-		});
-		HZPY[7073] = (new short[] {
-			316
-		});
-		HZPY[7074] = (new short[] {
-			132
-		});
-		HZPY[7075] = (new short[] {
-			367
-		});
-		HZPY[7076] = (new short[] {
-			136
-		});
-		HZPY[7077] = (new short[] {
-			127
-		});
-		HZPY[7078] = (new short[] {
-			94, 113
-		});
-		HZPY[7079] = (new short[] {
-			86
-		});
-		HZPY[7080] = (new short[] {
-			389
-		});
-		HZPY[7081] = (new short[] {
-			258
-		});
-		HZPY[7082] = (new short[] {
-			191
-		});
-		HZPY[7083] = (new short[] {
-			319
-		});
-		HZPY[7084] = (new short[] {
-			377
-		});
-		HZPY[7085] = (new short[] {
-			355
-		});
-		HZPY[7086] = (new short[] {
-			279
-		});
-		HZPY[7087] = (new short[] {
-			303
-		});
-		HZPY[7088] = (new short[] {
-			398
-		});
-		HZPY[7089] = (new short[] {
-			52
-		});
-		HZPY[7090] = (new short[] {
-			379
-		});
-		HZPY[7091] = (new short[] {
-			333
-		});
-		HZPY[7092] = (new short[] {
-			179
-		});
-		HZPY[7093] = (new short[] {
-			279
-		});
-		HZPY[7094] = (new short[] {
-			324
-		});
-		HZPY[7095] = (new short[] {
-			268
-		});
-		HZPY[7096] = (new short[] {
-			390
-		});
-		HZPY[7097] = (new short[] {
-			313
-		});
-		HZPY[7098] = (new short[] {
-			302
-		});
-		HZPY[7099] = (new short[] {
-			321
-		});
-		HZPY[7100] = (new short[] {
-			150
-		});
-		HZPY[7101] = (new short[] {
-			350
-		});
-		HZPY[7102] = (new short[] {
-			103
-		});
-		HZPY[7103] = (new short[] {
-			256
-		});
-		HZPY[7104] = (new short[] {
-			149
-		});
-		HZPY[7105] = (new short[] {
-			96
-		});
-		HZPY[7106] = (new short[] {
-			319
-		});
-		HZPY[7107] = (new short[] {
-			241
-		});
-		HZPY[7108] = (new short[] {
-			325
-		});
-		HZPY[7109] = (new short[] {
-			97
-		});
-		HZPY[7110] = (new short[] {
-			363
-		});
-		HZPY[7111] = (new short[] {
-			65, 396
-		});
-		HZPY[7112] = (new short[] {
-			231
-		});
-		HZPY[7113] = (new short[] {
-			131
-		});
-		HZPY[7114] = (new short[] {
-			312
-		});
-		HZPY[7115] = (new short[] {
-			102
-		});
-		HZPY[7116] = (new short[] {
-			44
-		});
-		HZPY[7117] = (new short[] {
-			259
-		});
-		HZPY[7118] = (new short[] {
-			29
-		});
-		HZPY[7119] = (new short[] {
-			258
-		});
-		HZPY[7120] = (new short[] {
-			125
-		});
-		HZPY[7121] = (new short[] {
-			197
-		});
-		HZPY[7122] = (new short[] {
-			360
-		});
-		HZPY[7123] = (new short[] {
-			95
-		});
-		HZPY[7124] = (new short[] {
-			96
-		});
-		HZPY[7125] = (new short[] {
-			408
-		});
-		HZPY[7126] = (new short[] {
-			340
-		});
-		HZPY[7127] = (new short[] {
-			260
-		});
-		HZPY[7128] = (new short[] {
-			366
-		});
-		HZPY[7129] = (new short[] {
-			65
-		});
-		HZPY[7130] = (new short[] {
-			132
-		});
-		HZPY[7131] = (new short[] {
-			133, 147
-		});
-		HZPY[7132] = (new short[] {
-			414
-		});
-		HZPY[7133] = (new short[] {
-			229
-		});
-		HZPY[7134] = (new short[] {
-			181
-		});
-		HZPY[7135] = (new short[] {
-			17, 18
-		});
-		HZPY[7136] = (new short[] {
-			401
-		});
-		HZPY[7137] = (new short[] {
-			229
-		});
-		HZPY[7138] = (new short[] {
-			350
-		});
-		HZPY[7139] = (new short[] {
-			256
-		});
-		HZPY[7140] = (new short[] {
-			173
-		});
-		HZPY[7141] = (new short[] {
-			128
-		});
-		HZPY[7142] = (new short[] {
-			374
-		});
-		HZPY[7143] = (new short[] {
-			258
-		});
-		HZPY[7144] = (new short[] {
-			110
-		});
-		HZPY[7145] = (new short[] {
-			93
-		});
-		HZPY[7146] = (new short[] {
-			93
-		});
-		HZPY[7147] = (new short[] {
-			337
-		});
-		HZPY[7148] = (new short[] {
-			124
-		});
-		HZPY[7149] = (new short[] {
-			256, 50
-		});
-		HZPY[7150] = (new short[] {
-			292
-		});
-		HZPY[7151] = (new short[] {
-			52
-		});
-		HZPY[7152] = (new short[] {
-			12
-		});
-		HZPY[7153] = (new short[] {
-			375
-		});
-		HZPY[7154] = (new short[] {
-			123
-		});
-		HZPY[7155] = (new short[] {
-			134
-		});
-		HZPY[7156] = (new short[] {
-			123
-		});
-		HZPY[7157] = (new short[] {
-			126
-		});
-		HZPY[7158] = (new short[] {
-			160
-		});
-		HZPY[7159] = (new short[] {
-			369
-		});
-		HZPY[7160] = (new short[] {
-			369
-		});
-		HZPY[7161] = (new short[] {
-			96
-		});
-		HZPY[7162] = (new short[] {
-			148
-		});
-		HZPY[7163] = (new short[] {
-			108
-		});
-		HZPY[7164] = (new short[] {
-			108
-		});
-		HZPY[7165] = (new short[] {
-			25
-		});
-		HZPY[7166] = (new short[] {
-			193
-		});
-		HZPY[7167] = (new short[] {
-			137
-		});
-		HZPY[7168] = (new short[] {
-			63
-		});
-		HZPY[7169] = (new short[] {
-			405
-		});
-		HZPY[7170] = (new short[] {
-			168, 378
-		});
-		HZPY[7171] = (new short[] {
-			166
-		});
-		HZPY[7172] = (new short[] {
-			35
-		});
-		HZPY[7173] = (new short[] {
-			48, 410
-		});
-		HZPY[7174] = (new short[] {
-			171
-		});
-		HZPY[7175] = (new short[] {
-			359
-		});
-		HZPY[7176] = (new short[] {
-			263
-		});
-		HZPY[7177] = (new short[] {
-			309
-		});
-		HZPY[7178] = (new short[] {
-			84
-		});
-		HZPY[7179] = (new short[] {
-			334
-		});
-		HZPY[7180] = (new short[] {
-			106
-		});
-		HZPY[7181] = (new short[] {
-			131
-		});
-		HZPY[7182] = (new short[] {
-			320
-		});
-		HZPY[7183] = (new short[] {
-			169
-		});
-		HZPY[7184] = (new short[] {
-			183
-		});
-		HZPY[7185] = (new short[] {
-			174
-		});
-		HZPY[7186] = (new short[] {
-			200
-		});
-		HZPY[7187] = (new short[] {
-			182
-		});
-		HZPY[7188] = (new short[] {
-			33
-		});
-		HZPY[7189] = (new short[] {
-			316
-		});
-		HZPY[7190] = (new short[] {
-			150
-		});
-		HZPY[7191] = (new short[] {
-			40, 305
-		});
-		HZPY[7192] = (new short[] {
-			324
-		});
-		HZPY[7193] = (new short[] {
-			15
-		});
-		HZPY[7194] = (new short[] {
-			183
-		});
-		HZPY[7195] = (new short[] {
-			140
-		});
-		HZPY[7196] = (new short[] {
-			305
-		});
-		HZPY[7197] = (new short[] {
-			389
-		});
-		HZPY[7198] = (new short[] {
-			305
-		});
-		HZPY[7199] = (new short[] {
-			392
-		});
-		HZPY[7200] = (new short[] {
-			198
-		});
-		HZPY[7201] = (new short[] {
-			207, 209
-		});
-		HZPY[7202] = (new short[] {
-			224
-		});
-		HZPY[7203] = (new short[] {
-			366
-		});
-		HZPY[7204] = (new short[] {
-			331
-		});
-		HZPY[7205] = (new short[] {
-			246
-		});
-		HZPY[7206] = (new short[] {
-			401
-		});
-		HZPY[7207] = (new short[] {
-			294
-		});
-		HZPY[7208] = (new short[] {
-			350
-		});
-		HZPY[7209] = (new short[] {
-			267
-		});
-		HZPY[7210] = (new short[] {
-			119
-		});
-		HZPY[7211] = (new short[] {
-			133
-		});
-		HZPY[7212] = (new short[] {
-			48
-		});
-		HZPY[7213] = (new short[] {
-			229
-		});
-		HZPY[7214] = (new short[] {
-			229
-		});
-		HZPY[7215] = (new short[] {
-			259
-		});
-		HZPY[7216] = (new short[] {
-			229
-		});
-		HZPY[7217] = (new short[] {
-			372
-		});
-		HZPY[7218] = (new short[] {
-			82
-		});
-		HZPY[7219] = (new short[] {
-			356
-		});
-		HZPY[7220] = (new short[] {
-			398
-		});
-		HZPY[7221] = (new short[] {
-			260
-		});
-		HZPY[7222] = (new short[] {
-			414
-		});
-		HZPY[7223] = (new short[] {
-			48
-		});
-		HZPY[7224] = (new short[] {
-			255, 253
-		});
-		HZPY[7225] = (new short[] {
-			305
-		});
-		HZPY[7226] = (new short[] {
-			124
-		});
-		HZPY[7227] = (new short[] {
-			160
-		});
-		HZPY[7228] = (new short[] {
-			396
-		});
-		HZPY[7229] = (new short[] {
-			415
-		});
-		HZPY[7230] = (new short[] {
-			378
-		});
-		HZPY[7231] = (new short[] {
-			391
-		});
-		HZPY[7232] = (new short[] {
-			350
-		});
-		HZPY[7233] = (new short[] {
-			363
-		});
-		HZPY[7234] = (new short[] {
-			65
-		});
-		HZPY[7235] = (new short[] {
-			83
-		});
-		HZPY[7236] = (new short[] {
-			94
-		});
-		HZPY[7237] = (new short[] {
-			207, 209
-		});
-		HZPY[7238] = (new short[] {
-			349
-		});
-		HZPY[7239] = (new short[] {
-			260, 52
-		});
-		HZPY[7240] = (new short[] {
-			274, 215
-		});
-		HZPY[7241] = (new short[] {
-			177
-		});
-		HZPY[7242] = (new short[] {
-			179
-		});
-		HZPY[7243] = (new short[] {
-			260
-		});
-		HZPY[7244] = (new short[] {
-			352
-		});
-		HZPY[7245] = (new short[] {
-			284
-		});
-		HZPY[7246] = (new short[] {
-			84
-		});
-		HZPY[7247] = (new short[] {
-			391
-		});
-		HZPY[7248] = (new short[] {
-			340
-		});
-		HZPY[7249] = (new short[] {
-			167
-		});
-		HZPY[7250] = (new short[] {
-			379
-		});
-		HZPY[7251] = (new short[] {
-			311
-		});
-		HZPY[7252] = (new short[] {
-			338
-		});
-		HZPY[7253] = (new short[] {
-			36
-		});
-		HZPY[7254] = (new short[] {
-			324
-		});
-		HZPY[7255] = (new short[] {
-			199
-		});
-		HZPY[7256] = (new short[] {
-			141
-		});
-		HZPY[7257] = (new short[] {
-			36, 35
-		});
-		HZPY[7258] = (new short[] {
-			316
-		});
-		HZPY[7259] = (new short[] {
-			143
-		});
-		HZPY[7260] = (new short[] {
-			143
-		});
-		HZPY[7261] = (new short[] {
-			323
-		});
-		HZPY[7262] = (new short[] {
-			128
-		});
-		HZPY[7263] = (new short[] {
-			131
-		});
-		HZPY[7264] = (new short[] {
-			236
-		});
-		HZPY[7265] = (new short[] {
-			353
-		});
-		HZPY[7266] = (new short[] {
-			340
-		});
-		HZPY[7267] = (new short[] {
-			227
-		});
-		HZPY[7268] = (new short[] {
-			283
-		});
-		HZPY[7269] = (new short[] {
-			401
-		});
-		HZPY[7270] = (new short[] {
-			334, 43
-		});
-		HZPY[7271] = (new short[] {
-			388
-		});
-		HZPY[7272] = (new short[] {
-			87
-		});
-		HZPY[7273] = (new short[] {
-			264
-		});
-		HZPY[7274] = (new short[] {
-			272
-		});
-		HZPY[7275] = (new short[] {
-			119
-		});
-		HZPY[7276] = (new short[] {
-			27
-		});
-		HZPY[7277] = (new short[] {
-			103, 155
-		});
-		HZPY[7278] = (new short[] {
-			179
-		});
-		HZPY[7279] = (new short[] {
-			167
-		});
-		HZPY[7280] = (new short[] {
-			96
-		});
-		HZPY[7281] = (new short[] {
-			40
-		});
-		HZPY[7282] = (new short[] {
-			229
-		});
-		HZPY[7283] = (new short[] {
-			229
-		});
-		HZPY[7284] = (new short[] {
-			229
-		});
-		HZPY[7285] = (new short[] {
-			229
-		});
-		HZPY[7286] = (new short[] {
-			131
-		});
-		HZPY[7287] = (new short[] {
-			71
-		});
-		HZPY[7288] = (new short[] {
-			229
-		});
-		HZPY[7289] = (new short[] {
-			183
-		});
-		HZPY[7290] = (new short[] {
-			229
-		});
-		HZPY[7291] = (new short[] {
-			229
-		});
-		HZPY[7292] = (new short[] {
-			377
-		});
-		HZPY[7293] = (new short[] {
-			321
-		});
-		HZPY[7294] = (new short[] {
-			305
-		});
-		HZPY[7295] = (new short[] {
-			134
-		});
-		HZPY[7296] = (new short[] {
-			323
-		});
-		HZPY[7297] = (new short[] {
-			177
-		});
-		HZPY[7298] = (new short[] {
-			230
-		});
-		HZPY[7299] = (new short[] {
-			371
-		});
-		HZPY[7300] = (new short[] {
-			350
-		});
-		HZPY[7301] = (new short[] {
-			318
-		});
-		HZPY[7302] = (new short[] {
-			296
-		});
-		HZPY[7303] = (new short[] {
-			414
-		});
-		HZPY[7304] = (new short[] {
-			361
-		});
-		HZPY[7305] = (new short[] {
-			36
-		});
-		HZPY[7306] = (new short[] {
-			94
-		});
-		HZPY[7307] = (new short[] {
-			141
-		});
-		HZPY[7308] = (new short[] {
-			414
-		});
-		HZPY[7309] = (new short[] {
-			369
-		});
-		HZPY[7310] = (new short[] {
-			262
-		});
-		HZPY[7311] = (new short[] {
-			255
-		});
-		HZPY[7312] = (new short[] {
-			365, 371
-		});
-		HZPY[7313] = (new short[] {
-			169
-		});
-		HZPY[7314] = (new short[] {
-			88
-		});
-		HZPY[7315] = (new short[] {
-			128
-		});
-		HZPY[7316] = (new short[] {
-			58
-		});
-		HZPY[7317] = (new short[] {
-			131
-		});
-		HZPY[7318] = (new short[] {
-			318
-		});
-		HZPY[7319] = (new short[] {
-			19
-		});
-		HZPY[7320] = (new short[] {
-			13
-		});
-		HZPY[7321] = (new short[] {
-			68
-		});
-		HZPY[7322] = (new short[] {
-			40
-		});
-		HZPY[7323] = (new short[] {
-			402
-		});
-		HZPY[7324] = (new short[] {
-			108, 128, 157
-		});
-		HZPY[7325] = (new short[] {
-			131
-		});
-		HZPY[7326] = (new short[] {
-			132
-		});
-		HZPY[7327] = (new short[] {
-			132
-		});
-		HZPY[7328] = (new short[] {
-			263
-		});
-		HZPY[7329] = (new short[] {
-			394
-		});
-		HZPY[7330] = (new short[] {
-			133
-		});
-		HZPY[7331] = (new short[] {
-			259
-		});
-		HZPY[7332] = (new short[] {
-			59
-		});
-		HZPY[7333] = (new short[] {
-			369
-		});
-		HZPY[7334] = (new short[] {
-			15
-		});
-		HZPY[7335] = (new short[] {
-			314
-		});
-		HZPY[7336] = (new short[] {
-			299
-		});
-		HZPY[7337] = (new short[] {
-			177
-		});
-		HZPY[7338] = (new short[] {
-			171, 378
-		});
-		HZPY[7339] = (new short[] {
-			29
-		});
-		HZPY[7340] = (new short[] {
-			199
-		});
-		HZPY[7341] = (new short[] {
-			371
-		});
-		HZPY[7342] = (new short[] {
-			325
-		});
-		HZPY[7343] = (new short[] {
-			322
-		});
-		HZPY[7344] = (new short[] {
-			201
-		});
-		HZPY[7345] = (new short[] {
-			256
-		});
-		HZPY[7346] = (new short[] {
-			229
-		});
-		HZPY[7347] = (new short[] {
-			17, 18
-		});
-		HZPY[7348] = (new short[] {
-			130
-		});
-		HZPY[7349] = (new short[] {
-			131
-		});
-		HZPY[7350] = (new short[] {
-			258
-		});
-		HZPY[7351] = (new short[] {
-			200, 221
-		});
-		HZPY[7352] = (new short[] {
-			227
-		});
-		HZPY[7353] = (new short[] {
-			369
-		});
-		HZPY[7354] = (new short[] {
-			96
-		});
-		HZPY[7355] = (new short[] {
-			133, 147
-		});
-		HZPY[7356] = (new short[] {
-			371
-		});
-		HZPY[7357] = (new short[] {
-			82
-		});
-		HZPY[7358] = (new short[] {
-			263
-		});
-		HZPY[7359] = (new short[] {
-			365
-		});
-		HZPY[7360] = (new short[] {
-			256
-		});
-		HZPY[7361] = (new short[] {
-			200
-		});
-		HZPY[7362] = (new short[] {
-			393
-		});
-		HZPY[7363] = (new short[] {
-			108, 141
-		});
-		HZPY[7364] = (new short[] {
-			45
-		});
-		HZPY[7365] = (new short[] {
-			131
-		});
-		HZPY[7366] = (new short[] {
-			160
-		});
-		HZPY[7367] = (new short[] {
-			253
-		});
-		HZPY[7368] = (new short[] {
-			62
-		});
-		HZPY[7369] = (new short[] {
-			40
-		});
-		HZPY[7370] = (new short[] {
-			229
-		});
-		HZPY[7371] = (new short[] {
-			201
-		});
-		HZPY[7372] = (new short[] {
-			375
-		});
-		HZPY[7373] = (new short[] {
-			398
-		});
-		HZPY[7374] = (new short[] {
-			107
-		});
-		HZPY[7375] = (new short[] {
-			258
-		});
-		HZPY[7376] = (new short[] {
-			169
-		});
-		HZPY[7377] = (new short[] {
-			169
-		});
-		HZPY[7378] = (new short[] {
-			286
-		});
-		HZPY[7379] = (new short[] {
-			183
-		});
-		HZPY[7380] = (new short[] {
-			229
-		});
-		HZPY[7381] = (new short[] {
-			51
-		});
-		HZPY[7382] = (new short[] {
-			184
-		});
-		HZPY[7383] = (new short[] {
-			203
-		});
-		HZPY[7384] = (new short[] {
-			128
-		});
-		HZPY[7385] = (new short[] {
-			238
-		});
-		HZPY[7386] = (new short[] {
-			184
-		});
-		HZPY[7387] = (new short[] {
-			398, 136
-		});
-		HZPY[7388] = (new short[] {
-			96
-		});
-		HZPY[7389] = (new short[] {
-			72
-		});
-		HZPY[7390] = (new short[] {
-			377
-		});
-		HZPY[7391] = (new short[] {
-			171, 378
-		});
-		HZPY[7392] = (new short[] {
-			86
-		});
-		HZPY[7393] = (new short[] {
-			401
-		});
-		HZPY[7394] = (new short[] {
-			315
-		});
-		HZPY[7395] = (new short[] {
-			173
-		});
-		HZPY[7396] = (new short[] {
-			229
-		});
-		HZPY[7397] = (new short[] {
-			40
-		});
-		HZPY[7398] = (new short[] {
-			229
-		});
-		HZPY[7399] = (new short[] {
-			401
-		});
-		HZPY[7400] = (new short[] {
-			183
-		});
-		HZPY[7401] = (new short[] {
-			365
-		});
-		HZPY[7402] = (new short[] {
-			171
-		});
-		HZPY[7403] = (new short[] {
-			401
-		});
-		HZPY[7404] = (new short[] {
-			35
-		});
-		HZPY[7405] = (new short[] {
-			136
-		});
-		HZPY[7406] = (new short[] {
-			77
-		});
-		HZPY[7407] = (new short[] {
-			316
-		});
-		HZPY[7408] = (new short[] {
-			125
-		});
-		HZPY[7409] = (new short[] {
-			225
-		});
-		HZPY[7410] = (new short[] {
-			376
-		});
-		HZPY[7411] = (new short[] {
-			181
-		});
-		HZPY[7412] = (new short[] {
-			164
-		});
-		HZPY[7413] = (new short[] {
-			229
-		});
-		HZPY[7414] = (new short[] {
-			352
-		});
-		HZPY[7415] = (new short[] {
-			229
-		});
-		HZPY[7416] = (new short[] {
-			141
-		});
-		HZPY[7417] = (new short[] {
-			354
-		});
-		HZPY[7418] = (new short[] {
-			178
-		});
-		HZPY[7419] = (new short[] {
-			372
-		});
-		HZPY[7420] = (new short[] {
-			133
-		});
-		HZPY[7421] = (new short[] {
-			371
-		});
-		HZPY[7422] = (new short[] {
-			375
-		});
-		HZPY[7423] = (new short[] {
-			372
-		});
-		HZPY[7424] = (new short[] {
-			353
-		});
-		HZPY[7425] = (new short[] {
-			230
-		});
-		HZPY[7426] = (new short[] {
-			19
-		});
-		HZPY[7427] = (new short[] {
-			31
-		});
-		HZPY[7428] = (new short[] {
-			165
-		});
-		HZPY[7429] = (new short[] {
-			141
-		});
-		HZPY[7430] = (new short[] {
-			309
-		});
-		HZPY[7431] = (new short[] {
-			299
-		});
-		HZPY[7432] = (new short[] {
-			345
-		});
-		HZPY[7433] = (new short[] {
-			48
-		});
-		HZPY[7434] = (new short[] {
-			267
-		});
-		HZPY[7435] = (new short[] {
-			266
-		});
-		HZPY[7436] = (new short[] {
-			229
-		});
-		HZPY[7437] = (new short[] {
-			229
-		});
-		HZPY[7438] = (new short[] {
-			376
-		});
-		HZPY[7439] = (new short[] {
-			189
-		});
-		HZPY[7440] = (new short[] {
-			171
-		});
-		HZPY[7441] = (new short[] {
-			382
-		});
-		HZPY[7442] = (new short[] {
-			186
-		});
-		HZPY[7443] = (new short[] {
-			58
-		});
-		HZPY[7444] = (new short[] {
-			143
-		});
-		HZPY[7445] = (new short[] {
-			229
-		});
-		HZPY[7446] = (new short[] {
-			165
-		});
-		HZPY[7447] = (new short[] {
-			165
-		});
-		HZPY[7448] = (new short[] {
-			401
-		});
-		HZPY[7449] = (new short[] {
-			169
-		});
-		HZPY[7450] = (new short[] {
-			171, 131
-		});
-		HZPY[7451] = (new short[] {
-			5
-		});
-		HZPY[7452] = (new short[] {
-			214
-		});
-		HZPY[7453] = (new short[] {
-			376
-		});
-		HZPY[7454] = (new short[] {
-			178
-		});
-		HZPY[7455] = (new short[] {
-			229
-		});
-		HZPY[7456] = (new short[] {
-			258
-		});
-		HZPY[7457] = (new short[] {
-			47
-		});
-		HZPY[7458] = (new short[] {
-			126
-		});
-		HZPY[7459] = (new short[] {
-			356
-		});
-		HZPY[7460] = (new short[] {
-			376
-		});
-		HZPY[7461] = (new short[] {
-			376
-		});
-		HZPY[7462] = (new short[] {
-			258
-		});
-		HZPY[7463] = (new short[] {
-			238
-		});
-		HZPY[7464] = (new short[] {
-			360
-		});
-		HZPY[7465] = (new short[] {
-			33
-		});
-		HZPY[7466] = (new short[] {
-			40
-		});
-		HZPY[7467] = (new short[] {
-			256
-		});
-		HZPY[7468] = (new short[] {
-			146
-		});
-		HZPY[7469] = (new short[] {
-			369
-		});
-		HZPY[7470] = (new short[] {
-			143
-		});
-		HZPY[7471] = (new short[] {
-			350
-		});
-		HZPY[7472] = (new short[] {
-			360
-		});
-		HZPY[7473] = (new short[] {
-			351
-		});
-		HZPY[7474] = (new short[] {
-			376
-		});
-		HZPY[7475] = (new short[] {
-			157
-		});
-		HZPY[7476] = (new short[] {
-			166
-		});
-		HZPY[7477] = (new short[] {
-			158
-		});
-		HZPY[7478] = (new short[] {
-			312
-		});
-		HZPY[7479] = (new short[] {
-			350
-		});
-		HZPY[7480] = (new short[] {
-			78, 1
-		});
-		HZPY[7481] = (new short[] {
-			369, 256
-		});
-		HZPY[7482] = (new short[] {
-			256
-		});
-		HZPY[7483] = (new short[] {
-			123
-		});
-		HZPY[7484] = (new short[] {
-			37
-		});
-		HZPY[7485] = (new short[] {
-			262
-		});
-		HZPY[7486] = (new short[] {
-			158
-		});
-		HZPY[7487] = (new short[] {
-			147
-		});
-		HZPY[7488] = (new short[] {
-			158
-		});
-		HZPY[7489] = (new short[] {
-			147
-		});
-		HZPY[7490] = (new short[] {
-			42
-		});
-		HZPY[7491] = (new short[] {
-			294
-		});
-		HZPY[7492] = (new short[] {
-			229
-		});
-		HZPY[7493] = (new short[] {
-			371
-		});
-		HZPY[7494] = (new short[] {
-			356
-		});
-		HZPY[7495] = (new short[] {
-			355
-		});
-		HZPY[7496] = (new short[] {
-			376
-		});
-		HZPY[7497] = (new short[] {
-			258
-		});
-		HZPY[7498] = (new short[] {
-			354
-		});
-		HZPY[7499] = (new short[] {
-			369
-		});
-		HZPY[7500] = (new short[] {
-			97
-		});
-		HZPY[7501] = (new short[] {
-			349
-		});
-		HZPY[7502] = (new short[] {
-			323
-		});
-		HZPY[7503] = (new short[] {
-			137
-		});
-		HZPY[7504] = (new short[] {
-			238
-		});
-		HZPY[7505] = (new short[] {
-			123
-		});
-		HZPY[7506] = (new short[] {
-			329
-		});
-		HZPY[7507] = (new short[] {
-			126
-		});
-		HZPY[7508] = (new short[] {
-			360
-		});
-		HZPY[7509] = (new short[] {
-			245
-		});
-		HZPY[7510] = (new short[] {
-			350
-		});
-		HZPY[7511] = (new short[] {
-			354
-		});
-		HZPY[7512] = (new short[] {
-			123
-		});
-		HZPY[7513] = (new short[] {
-			299, 350
-		});
-		HZPY[7514] = (new short[] {
-			229
-		});
-		HZPY[7515] = (new short[] {
-			173
-		});
-		HZPY[7516] = (new short[] {
-			40
-		});
-		HZPY[7517] = (new short[] {
-			369
-		});
-		HZPY[7518] = (new short[] {
-			147
-		});
-		HZPY[7519] = (new short[] {
-			376
-		});
-		HZPY[7520] = (new short[] {
-			46
-		});
-		HZPY[7521] = (new short[] {
-			126
-		});
-		HZPY[7522] = (new short[] {
-			398
-		});
-		HZPY[7523] = (new short[] {
-			397
-		});
-		HZPY[7524] = (new short[] {
-			47
-		});
-		HZPY[7525] = (new short[] {
-			20
-		});
-		HZPY[7526] = (new short[] {
-			349
-		});
-		HZPY[7527] = (new short[] {
-			256
-		});
-		HZPY[7528] = (new short[] {
-			20
-		});
-		HZPY[7529] = (new short[] {
-			20
-		});
-		HZPY[7530] = (new short[] {
-			342
-		});
-		HZPY[7531] = (new short[] {
-			141
-		});
-		HZPY[7532] = (new short[] {
-			258
-		});
-		HZPY[7533] = (new short[] {
-			37
-		});
-		HZPY[7534] = (new short[] {
-			291
-		});
-		HZPY[7535] = (new short[] {
-			37
-		});
-		HZPY[7536] = (new short[] {
-			291
-		});
-		HZPY[7537] = (new short[] {
-			399
-		});
-		HZPY[7538] = (new short[] {
-			318
-		});
-		HZPY[7539] = (new short[] {
-			318
-		});
-		HZPY[7540] = (new short[] {
-			171
-		});
-		HZPY[7541] = (new short[] {
-			54
-		});
-		HZPY[7542] = (new short[] {
-			376
-		});
-		HZPY[7543] = (new short[] {
-			171
-		});
-		HZPY[7544] = (new short[] {
-			108
-		});
-		HZPY[7545] = (new short[] {
-			56
-		});
-		HZPY[7546] = (new short[] {
-			56
-		});
-		HZPY[7547] = (new short[] {
-			313
-		});
-		HZPY[7548] = (new short[] {
-			133
-		});
-		HZPY[7549] = (new short[] {
-			394
-		});
-		HZPY[7550] = (new short[] {
-			207
-		});
-		HZPY[7551] = (new short[] {
-			207
-		});
-		HZPY[7552] = (new short[] {
-			367
-		});
-		HZPY[7553] = (new short[] {
-			207
-		});
-		HZPY[7554] = (new short[] {
-			50
-		});
-		HZPY[7555] = (new short[] {
-			366
-		});
-		HZPY[7556] = (new short[] {
-			330
-		});
-		HZPY[7557] = (new short[] {
-			302
-		});
-		HZPY[7558] = (new short[] {
-			56
-		});
-		HZPY[7559] = (new short[] {
-			297
-		});
-		HZPY[7560] = (new short[] {
-			360
-		});
-		HZPY[7561] = (new short[] {
-			363
-		});
-		HZPY[7562] = (new short[] {
-			305
-		});
-		HZPY[7563] = (new short[] {
-			23
-		});
-		HZPY[7564] = (new short[] {
-			143
-		});
-		HZPY[7565] = (new short[] {
-			249
-		});
-		HZPY[7566] = (new short[] {
-			257
-		});
-		HZPY[7567] = (new short[] {
-			265
-		});
-		HZPY[7568] = (new short[] {
-			316
-		});
-		HZPY[7569] = (new short[] {
-			263
-		});
-		HZPY[7570] = (new short[] {
-			379
-		});
-		HZPY[7571] = (new short[] {
-			173
-		});
-		HZPY[7572] = (new short[] {
-			369
-		});
-		HZPY[7573] = (new short[] {
-			90
-		});
-		HZPY[7574] = (new short[] {
-			398, 303
-		});
-		HZPY[7575] = (new short[] {
-			368
-		});
-		HZPY[7576] = (new short[] {
-			23
-		});
-		HZPY[7577] = (new short[] {
-			129
-		});
-		HZPY[7578] = (new short[] {
-			57
-		});
-		HZPY[7579] = (new short[] {
-			131
-		});
-		HZPY[7580] = (new short[] {
-			368
-		});
-		HZPY[7581] = (new short[] {
-			229
-		});
-		HZPY[7582] = (new short[] {
-			379
-		});
-		HZPY[7583] = (new short[] {
-			346
-		});
-		HZPY[7584] = (new short[] {
-			39, 359
-		});
-		HZPY[7585] = (new short[] {
-			17
-		});
-		HZPY[7586] = (new short[] {
-			329
-		});
-		HZPY[7587] = (new short[] {
-			137
-		});
-		HZPY[7588] = (new short[] {
-			297
-		});
-		HZPY[7589] = (new short[] {
-			371
-		});
-		HZPY[7590] = (new short[] {
-			66
-		});
-		HZPY[7591] = (new short[] {
-			50
-		});
-		HZPY[7592] = (new short[] {
-			128
-		});
-		HZPY[7593] = (new short[] {
-			51
-		});
-		HZPY[7594] = (new short[] {
-			369
-		});
-		HZPY[7595] = (new short[] {
-			57
-		});
-		HZPY[7596] = (new short[] {
-			72
-		});
-		HZPY[7597] = (new short[] {
-			134
-		});
-		HZPY[7598] = (new short[] {
-			173
-		});
-		HZPY[7599] = (new short[] {
-			17
-		});
-		HZPY[7600] = (new short[] {
-			72
-		});
-		HZPY[7601] = (new short[] {
-			133
-		});
-		HZPY[7602] = (new short[] {
-			133
-		});
-		HZPY[7603] = (new short[] {
-			305
-		});
-		HZPY[7604] = (new short[] {
-			238
-		});
-		HZPY[7605] = (new short[] {
-			73
-		});
-		HZPY[7606] = (new short[] {
-			401
-		});
-		HZPY[7607] = (new short[] {
-			371, 365
-		});
-		HZPY[7608] = (new short[] {
-			263
-		});
-		HZPY[7609] = (new short[] {
-			369
-		});
-		HZPY[7610] = (new short[] {
-			294, 295
-		});
-		HZPY[7611] = (new short[] {
-			150, 260
-		});
-		HZPY[7612] = (new short[] {
-			150, 260, 268
-		});
-		HZPY[7613] = (new short[] {
-			367
-		});
-		HZPY[7614] = (new short[] {
-			363
-		});
-		HZPY[7615] = (new short[] {
-			65
-		});
-		HZPY[7616] = (new short[] {
-			128
-		});
-		HZPY[7617] = (new short[] {
-			128
-		});
-		HZPY[7618] = (new short[] {
-			103
-		});
-		HZPY[7619] = (new short[] {
-			268
-		});
-		HZPY[7620] = (new short[] {
-			131
-		});
-		HZPY[7621] = (new short[] {
-			369
-		});
-		HZPY[7622] = (new short[] {
-			238
-		});
-		HZPY[7623] = (new short[] {
-			128
-		});
-		HZPY[7624] = (new short[] {
-			73
-		});
-		HZPY[7625] = (new short[] {
-			369
-		});
-		HZPY[7626] = (new short[] {
-			354
-		});
-		HZPY[7627] = (new short[] {
-			349
-		});
-		HZPY[7628] = (new short[] {
-			106
-		});
-		HZPY[7629] = (new short[] {
-			209
-		});
-		HZPY[7630] = (new short[] {
-			197
-		});
-		HZPY[7631] = (new short[] {
-			197
-		});
-		HZPY[7632] = (new short[] {
-			1
-		});
-		HZPY[7633] = (new short[] {
-			416
-		});
-		HZPY[7634] = (new short[] {
-			72
-		});
-		HZPY[7635] = (new short[] {
-			376
-		});
-		HZPY[7636] = (new short[] {
-			13
-		});
-		HZPY[7637] = (new short[] {
-			13
-		});
-		HZPY[7638] = (new short[] {
-			13
-		});
-		HZPY[7639] = (new short[] {
-			247
-		});
-		HZPY[7640] = (new short[] {
-			247
-		});
-		HZPY[7641] = (new short[] {
-			13
-		});
-		HZPY[7642] = (new short[] {
-			31
-		});
-		HZPY[7643] = (new short[] {
-			195
-		});
-		HZPY[7644] = (new short[] {
-			229
-		});
-		HZPY[7645] = (new short[] {
-			229
-		});
-		HZPY[7646] = (new short[] {
-			247
-		});
-		HZPY[7647] = (new short[] {
-			229
-		});
-		HZPY[7648] = (new short[] {
-			132
-		});
-		HZPY[7649] = (new short[] {
-			391
-		});
-		HZPY[7650] = (new short[] {
-			287
-		});
-		HZPY[7651] = (new short[] {
-			209
-		});
-		HZPY[7652] = (new short[] {
-			340
-		});
-		HZPY[7653] = (new short[] {
-			363
-		});
-		HZPY[7654] = (new short[] {
-			82
-		});
-		HZPY[7655] = (new short[] {
-			279
-		});
-		HZPY[7656] = (new short[] {
-			352
-		});
-		HZPY[7657] = (new short[] {
-			141
-		});
-		HZPY[7658] = (new short[] {
-			209
-		});
-		HZPY[7659] = (new short[] {
-			115
-		});
-		HZPY[7660] = (new short[] {
-			265
-		});
-		HZPY[7661] = (new short[] {
-			71
-		});
-		HZPY[7662] = (new short[] {
-			229
-		});
-		HZPY[7663] = (new short[] {
-			323
-		});
-		HZPY[7664] = (new short[] {
-			244
-		});
-		HZPY[7665] = (new short[] {
-			141
-		});
-		HZPY[7666] = (new short[] {
-			76
-		});
-		HZPY[7667] = (new short[] {
-			52
-		});
-		HZPY[7668] = (new short[] {
-			13
-		});
-		HZPY[7669] = (new short[] {
-			288
-		});
-		HZPY[7670] = (new short[] {
-			229
-		});
-		HZPY[7671] = (new short[] {
-			195
-		});
-		HZPY[7672] = (new short[] {
-			318
-		});
-		HZPY[7673] = (new short[] {
-			305
-		});
-		HZPY[7674] = (new short[] {
-			376
-		});
-		HZPY[7675] = (new short[] {
-			340
-		});
-		HZPY[7676] = (new short[] {
-			116
-		});
-		HZPY[7677] = (new short[] {
-			133
-		});
-		HZPY[7678] = (new short[] {
-			321
-		});
-		HZPY[7679] = (new short[] {
-			288
-		});
-		HZPY[7680] = (new short[] {
-			184
-		});
-		HZPY[7681] = (new short[] {
-			209
-		});
-		HZPY[7682] = (new short[] {
-			171
-		});
-		HZPY[7683] = (new short[] {
-			334
-		});
-		HZPY[7684] = (new short[] {
-			279
-		});
-		HZPY[7685] = (new short[] {
-			32
-		});
-		HZPY[7686] = (new short[] {
-			255
-		});
-		HZPY[7687] = (new short[] {
-			183
-		});
-		HZPY[7688] = (new short[] {
-			391
-		});
-		HZPY[7689] = (new short[] {
-			290
-		});
-		HZPY[7690] = (new short[] {
-			391
-		});
-		HZPY[7691] = (new short[] {
-			199
-		});
-		HZPY[7692] = (new short[] {
-			183
-		});
-		HZPY[7693] = (new short[] {
-			266
-		});
-		HZPY[7694] = (new short[] {
-			67
-		});
-		HZPY[7695] = (new short[] {
-			303, 398
-		});
-		HZPY[7696] = (new short[] {
-			63
-		});
-		HZPY[7697] = (new short[] {
-			204
-		});
-		HZPY[7698] = (new short[] {
-			143
-		});
-		HZPY[7699] = (new short[] {
-			194, 199
-		});
-		HZPY[7700] = (new short[] {
-			256
-		});
-		HZPY[7701] = (new short[] {
-			250
-		});
-		HZPY[7702] = (new short[] {
-			212
-		});
-		HZPY[7703] = (new short[] {
-			256
-		});
-		HZPY[7704] = (new short[] {
-			59
-		});
-		HZPY[7705] = (new short[] {
-			352
-		});
-		HZPY[7706] = (new short[] {
-			42
-		});
-		HZPY[7707] = (new short[] {
-			87
-		});
-		HZPY[7708] = (new short[] {
-			278
-		});
-		HZPY[7709] = (new short[] {
-			217, 212
-		});
-		HZPY[7710] = (new short[] {
-			229
-		});
-		HZPY[7711] = (new short[] {
-			91
-		});
-		HZPY[7712] = (new short[] {
-			301
-		});
-		HZPY[7713] = (new short[] {
-			70
-		});
-		HZPY[7714] = (new short[] {
-			263
-		});
-		HZPY[7715] = (new short[] {
-			256
-		});
-		HZPY[7716] = (new short[] {
-			371
-		});
-		HZPY[7717] = (new short[] {
-			350
-		});
-		HZPY[7718] = (new short[] {
-			112
-		});
-		HZPY[7719] = (new short[] {
-			366
-		});
-		HZPY[7720] = (new short[] {
-			2
-		});
-		HZPY[7721] = (new short[] {
-			364
-		});
-		HZPY[7722] = (new short[] {
-			150
-		});
-		HZPY[7723] = (new short[] {
-			263
-		});
-		HZPY[7724] = (new short[] {
-			364
-		});
-		HZPY[7725] = (new short[] {
-			70
-		});
-		HZPY[7726] = (new short[] {
-			57
-		});
-		HZPY[7727] = (new short[] {
-			184
-		});
-		HZPY[7728] = (new short[] {
-			263
-		});
-		HZPY[7729] = (new short[] {
-			366
-		});
-		HZPY[7730] = (new short[] {
-			379
-		});
-		HZPY[7731] = (new short[] {
-			379
-		});
-		HZPY[7732] = (new short[] {
-			310
-		});
-		HZPY[7733] = (new short[] {
-			310
-		});
-		HZPY[7734] = (new short[] {
-			397
-		});
-		HZPY[7735] = (new short[] {
-			18
-		});
-		HZPY[7736] = (new short[] {
-			374
-		});
-		HZPY[7737] = (new short[] {
-			58
-		});
-		HZPY[7738] = (new short[] {
-			310
-		});
-		HZPY[7739] = (new short[] {
-			168
-		});
-		HZPY[7740] = (new short[] {
-			221
-		});
-		HZPY[7741] = (new short[] {
-			339
-		});
-		HZPY[7742] = (new short[] {
-			84
-		});
-		HZPY[7743] = (new short[] {
-			108
-		});
-		HZPY[7744] = (new short[] {
-			333
-		});
-		HZPY[7745] = (new short[] {
-			398
-		});
-		HZPY[7746] = (new short[] {
-			265
-		});
-		HZPY[7747] = (new short[] {
-			17
-		});
-		HZPY[7748] = (new short[] {
-			385
-		});
-		HZPY[7749] = (new short[] {
-			201
-		});
-		HZPY[7750] = (new short[] {
-			51
-		});
-		HZPY[7751] = (new short[] {
-			128
-		});
-		HZPY[7752] = (new short[] {
-			66
-		});
-		HZPY[7753] = (new short[] {
-			113
-		});
-		HZPY[7754] = (new short[] {
-			29
-		});
-		HZPY[7755] = (new short[] {
-			408
-		});
-		HZPY[7756] = (new short[] {
-			42
-		});
-		HZPY[7757] = (new short[] {
-			343
-		});
-		HZPY[7758] = (new short[] {
-			84
-		});
-		HZPY[7759] = (new short[] {
-			56
-		});
-		HZPY[7760] = (new short[] {
-			350
-		});
-		HZPY[7761] = (new short[] {
-			340
-		});
-		HZPY[7762] = (new short[] {
-			194
-		});
-		HZPY[7763] = (new short[] {
-			265
-		});
-		HZPY[7764] = (new short[] {
-			256
-		});
-		HZPY[7765] = (new short[] {
-			296
-		});
-		HZPY[7766] = (new short[] {
-			240
-		});
-		HZPY[7767] = (new short[] {
-			113
-		});
-		HZPY[7768] = (new short[] {
-			258
-		});
-		HZPY[7769] = (new short[] {
-			349
-		});
-		HZPY[7770] = (new short[] {
-			349
-		});
-		HZPY[7771] = (new short[] {
-			363
-		});
-		HZPY[7772] = (new short[] {
-			313
-		});
-		HZPY[7773] = (new short[] {
-			281
-		});
-		HZPY[7774] = (new short[] {
-			101, 121
-		});
-		HZPY[7775] = (new short[] {
-			134
-		});
-		HZPY[7776] = (new short[] {
-			37
-		});
-		HZPY[7777] = (new short[] {
-			349
-		});
-		HZPY[7778] = (new short[] {
-			229
-		});
-		HZPY[7779] = (new short[] {
-			229
-		});
-		HZPY[7780] = (new short[] {
-			324, 297
-		});
-		HZPY[7781] = (new short[] {
-			398
-		});
-		HZPY[7782] = (new short[] {
-			37
-		});
-		HZPY[7783] = (new short[] {
-			258
-		});
-		HZPY[7784] = (new short[] {
-			200
-		});
-		HZPY[7785] = (new short[] {
-			103
-		});
-		HZPY[7786] = (new short[] {
-			344
-		});
-		HZPY[7787] = (new short[] {
-			263
-		});
-		HZPY[7788] = (new short[] {
-			138
-		});
-		HZPY[7789] = (new short[] {
-			283
-		});
-		HZPY[7790] = (new short[] {
-			144
-		});
-		HZPY[7791] = (new short[] {
-			121
-		});
-		HZPY[7792] = (new short[] {
-			322
-		});
-		HZPY[7793] = (new short[] {
-			267
-		});
-		HZPY[7794] = (new short[] {
-			131
-		});
-		HZPY[7795] = (new short[] {
-			14
-		});
-		HZPY[7796] = (new short[] {
-			14
-		});
-		HZPY[7797] = (new short[] {
-			94
-		});
-		HZPY[7798] = (new short[] {
-			346
-		});
-		HZPY[7799] = (new short[] {
-			399
-		});
-		HZPY[7800] = (new short[] {
-			85
-		});
-		HZPY[7801] = (new short[] {
-			358
-		});
-		HZPY[7802] = (new short[] {
-			143
-		});
-		HZPY[7803] = (new short[] {
-			123
-		});
-		HZPY[7804] = (new short[] {
-			229
-		});
-		HZPY[7805] = (new short[] {
-			256
-		});
-		HZPY[7806] = (new short[] {
-			87
-		});
-		HZPY[7807] = (new short[] {
-			360
-		});
-		HZPY[7808] = (new short[] {
-			360
-		});
-		HZPY[7809] = (new short[] {
-			262, 301
-		});
-		HZPY[7810] = (new short[] {
-			369
-		});
-		HZPY[7811] = (new short[] {
-			348
-		});
-		HZPY[7812] = (new short[] {
-			379
-		});
-		HZPY[7813] = (new short[] {
-			377
-		});
-		HZPY[7814] = (new short[] {
-			114
-		});
-		HZPY[7815] = (new short[] {
-			365
-		});
-		HZPY[7816] = (new short[] {
-			301, 35
-		});
-		HZPY[7817] = (new short[] {
-			35
-		});
-		HZPY[7818] = (new short[] {
-			57
-		});
-		HZPY[7819] = (new short[] {
-			375
-		});
-		HZPY[7820] = (new short[] {
-			75, 404
-		});
-		HZPY[7821] = (new short[] {
-			123
-		});
-		HZPY[7822] = (new short[] {
-			130
-		});
-		HZPY[7823] = (new short[] {
-			256
-		});
-		HZPY[7824] = (new short[] {
-			209
-		});
-		HZPY[7825] = (new short[] {
-			280
-		});
-		HZPY[7826] = (new short[] {
-			197, 207
-		});
-		HZPY[7827] = (new short[] {
-			321, 55
-		});
-		HZPY[7828] = (new short[] {
-			201
-		});
-		HZPY[7829] = (new short[] {
-			349
-		});
-		HZPY[7830] = (new short[] {
-			38
-		});
-		HZPY[7831] = (new short[] {
-			330
-		});
-		HZPY[7832] = (new short[] {
-			13
-		});
-		HZPY[7833] = (new short[] {
-			294
-		});
-		HZPY[7834] = (new short[] {
-			398
-		});
-		HZPY[7835] = (new short[] {
-			244
-		});
-		HZPY[7836] = (new short[] {
-			241
-		});
-		HZPY[7837] = (new short[] {
-			406
-		});
-		HZPY[7838] = (new short[] {
-			380
-		});
-		HZPY[7839] = (new short[] {
-			102
-		});
-		HZPY[7840] = (new short[] {
-			179
-		});
-		HZPY[7841] = (new short[] {
-			197, 207
-		});
-		HZPY[7842] = (new short[] {
-			385
-		});
-		HZPY[7843] = (new short[] {
-			88
-		});
-		HZPY[7844] = (new short[] {
-			238
-		});
-		HZPY[7845] = (new short[] {
-			171
-		});
-		HZPY[7846] = (new short[] {
-			188
-		});
-		HZPY[7847] = (new short[] {
-			24
-		});
-		HZPY[7848] = (new short[] {
-			88
-		});
-		HZPY[7849] = (new short[] {
-			345
-		});
-		HZPY[7850] = (new short[] {
-			123
-		});
-		HZPY[7851] = (new short[] {
-			207
-		});
-		HZPY[7852] = (new short[] {
-			197
-		});
-		HZPY[7853] = (new short[] {
-			305
-		});
-		HZPY[7854] = (new short[] {
-			141
-		});
-		HZPY[7855] = (new short[] {
-			382
-		});
-		HZPY[7856] = (new short[] {
-			340
-		});
-		HZPY[7857] = (new short[] {
-			340
-		});
-		HZPY[7858] = (new short[] {
-			76
-		});
-		HZPY[7859] = (new short[] {
-			116
-		});
-		HZPY[7860] = (new short[] {
-			171
-		});
-		HZPY[7861] = (new short[] {
-			200
-		});
-		HZPY[7862] = (new short[] {
-			369
-		});
-		HZPY[7863] = (new short[] {
-			91
-		});
-		HZPY[7864] = (new short[] {
-			86
-		});
-		HZPY[7865] = (new short[] {
-			375
-		});
-		HZPY[7866] = (new short[] {
-			330
-		});
-		HZPY[7867] = (new short[] {
-			398
-		});
-		HZPY[7868] = (new short[] {
-			393
-		});
-		HZPY[7869] = (new short[] {
-			103
-		});
-		HZPY[7870] = (new short[] {
-			391
-		});
-		HZPY[7871] = (new short[] {
-			365
-		});
-		HZPY[7872] = (new short[] {
-			313
-		});
-		HZPY[7873] = (new short[] {
-			159
-		});
-		HZPY[7874] = (new short[] {
-			139
-		});
-		HZPY[7875] = (new short[] {
-			141
-		});
-		HZPY[7876] = (new short[] {
-			355
-		});
-		HZPY[7877] = (new short[] {
-			265
-		});
-		HZPY[7878] = (new short[] {
-			369
-		});
-		HZPY[7879] = (new short[] {
-			132
-		});
-		HZPY[7880] = (new short[] {
-			399
-		});
-		HZPY[7881] = (new short[] {
-			267
-		});
-		HZPY[7882] = (new short[] {
-			19, 253
-		});
-		HZPY[7883] = (new short[] {
-			128
-		});
-		HZPY[7884] = (new short[] {
-			200, 13
-		});
-		HZPY[7885] = (new short[] {
-			11
-		});
-		HZPY[7886] = (new short[] {
-			408
-		});
-		HZPY[7887] = (new short[] {
-			40
-		});
-		HZPY[7888] = (new short[] {
-			168
-		});
-		HZPY[7889] = (new short[] {
-			375
-		});
-		HZPY[7890] = (new short[] {
-			103
-		});
-		HZPY[7891] = (new short[] {
-			121
-		});
-		HZPY[7892] = (new short[] {
-			94
-		});
-		HZPY[7893] = (new short[] {
-			83
-		});
-		HZPY[7894] = (new short[] {
-			195
-		});
-		HZPY[7895] = (new short[] {
-			313
-		});
-		HZPY[7896] = (new short[] {
-			123
-		});
-		HZPY[7897] = (new short[] {
-			252
-		});
-		HZPY[7898] = (new short[] {
-			47
-		});
-		HZPY[7899] = (new short[] {
-			84
-		});
-		HZPY[7900] = (new short[] {
-			398
-		});
-		HZPY[7901] = (new short[] {
-			316
-		});
-		HZPY[7902] = (new short[] {
-			227
-		});
-		HZPY[7903] = (new short[] {
-			36
-		});
-		HZPY[7904] = (new short[] {
-			178
-		});
-		HZPY[7905] = (new short[] {
-			243
-		});
-		HZPY[7906] = (new short[] {
-			19, 253
-		});
-		HZPY[7907] = (new short[] {
-			256, 355
-		});
-		HZPY[7908] = (new short[] {
-			313
-		});
-		HZPY[7909] = (new short[] {
-			221
-		});
-		HZPY[7910] = (new short[] {
-			141
-		});
-		HZPY[7911] = (new short[] {
-			378
-		});
-		HZPY[7912] = (new short[] {
-			401
-		});
-		HZPY[7913] = (new short[] {
-			302
-		});
-		HZPY[7914] = (new short[] {
-			169
-		});
-		HZPY[7915] = (new short[] {
-			361
-		});
-		HZPY[7916] = (new short[] {
-			362
-		});
-		HZPY[7917] = (new short[] {
-			91
-		});
-		HZPY[7918] = (new short[] {
-			241
-		});
-		HZPY[7919] = (new short[] {
-			204
-		});
-		HZPY[7920] = (new short[] {
-			322
-		});
-		HZPY[7921] = (new short[] {
-			366
-		});
-		HZPY[7922] = (new short[] {
-			131
-		});
-		HZPY[7923] = (new short[] {
-			374
-		});
-		HZPY[7924] = (new short[] {
-			106
-		});
-		HZPY[7925] = (new short[] {
-			12
-		});
-		HZPY[7926] = (new short[] {
-			362
-		});
-		HZPY[7927] = (new short[] {
-			181, 309
-		});
-		HZPY[7928] = (new short[] {
-			183
-		});
-		HZPY[7929] = (new short[] {
-			57
-		});
-		HZPY[7930] = (new short[] {
-			189, 253
-		});
-		HZPY[7931] = (new short[] {
-			355
-		});
-		HZPY[7932] = (new short[] {
-			253
-		});
-		HZPY[7933] = (new short[] {
-			385
-		});
-		HZPY[7934] = (new short[] {
-			138
-		});
-		HZPY[7935] = (new short[] {
-			371
-		});
-		HZPY[7936] = (new short[] {
-			400
-		});
-		HZPY[7937] = (new short[] {
-			136
-		});
-		HZPY[7938] = (new short[] {
-			369
-		});
-		HZPY[7939] = (new short[] {
-			128
-		});
-		HZPY[7940] = (new short[] {
-			128
-		});
-		HZPY[7941] = (new short[] {
-			414
-		});
-		HZPY[7942] = (new short[] {
-			36
-		});
-		HZPY[7943] = (new short[] {
-			371
-		});
-		HZPY[7944] = (new short[] {
-			345
-		});
-		HZPY[7945] = (new short[] {
-			122
-		});
-		HZPY[7946] = (new short[] {
-			133
-		});
-		HZPY[7947] = (new short[] {
-			366
-		});
-		HZPY[7948] = (new short[] {
-			176
-		});
-		HZPY[7949] = (new short[] {
-			313
-		});
-		HZPY[7950] = (new short[] {
-			131
-		});
-		HZPY[7951] = (new short[] {
-			82
-		});
-		HZPY[7952] = (new short[] {
-			357
-		});
-		HZPY[7953] = (new short[] {
-			91
-		});
-		HZPY[7954] = (new short[] {
-			286
-		});
-		HZPY[7955] = (new short[] {
-			409
-		});
-		HZPY[7956] = (new short[] {
-			398
-		});
-		HZPY[7957] = (new short[] {
-			371
-		});
-		HZPY[7958] = (new short[] {
-			349
-		});
-		HZPY[7959] = (new short[] {
-			350, 352
-		});
-		HZPY[7960] = (new short[] {
-			149
-		});
-		HZPY[7961] = (new short[] {
-			401
-		});
-		HZPY[7962] = (new short[] {
-			134
-		});
-		HZPY[7963] = (new short[] {
-			189
-		});
-		HZPY[7964] = (new short[] {
-			229
-		});
-		HZPY[7965] = (new short[] {
-			2
-		});
-		HZPY[7966] = (new short[] {
-			70
-		});
-		HZPY[7967] = (new short[] {
-			369
-		});
-		HZPY[7968] = (new short[] {
-			208
-		});
-		HZPY[7969] = (new short[] {
-			169
-		});
-		HZPY[7970] = (new short[] {
-			369
-		});
-		HZPY[7971] = (new short[] {
-			200
-		});
-		HZPY[7972] = (new short[] {
-			267
-		});
-		HZPY[7973] = (new short[] {
-			137
-		});
-		HZPY[7974] = (new short[] {
-			253
-		});
-		HZPY[7975] = (new short[] {
-			345
-		});
-		HZPY[7976] = (new short[] {
-			354
-		});
-		HZPY[7977] = (new short[] {
-			355
-		});
-		HZPY[7978] = (new short[] {
-			121
-		});
-		HZPY[7979] = (new short[] {
-			360
-		});
-		HZPY[7980] = (new short[] {
-			316
-		});
-		HZPY[7981] = (new short[] {
-			159
-		});
-		HZPY[7982] = (new short[] {
-			325
-		});
-		HZPY[7983] = (new short[] {
-			261, 136
-		});
-		HZPY[7984] = (new short[] {
-			141
-		});
-		HZPY[7985] = (new short[] {
-			82
-		});
-		HZPY[7986] = (new short[] {
-			400
-		});
-		HZPY[7987] = (new short[] {
-			281
-		});
-		HZPY[7988] = (new short[] {
-			252
-		});
-		HZPY[7989] = (new short[] {
-			363
-		});
-		HZPY[7990] = (new short[] {
-			358
-		});
-		HZPY[7991] = (new short[] {
-			398
-		});
-		HZPY[7992] = (new short[] {
-			107, 127
-		});
-		HZPY[7993] = (new short[] {
-			126
-		});
-		HZPY[7994] = (new short[] {
-			205
-		});
-		HZPY[7995] = (new short[] {
-			130
-		});
-		HZPY[7996] = (new short[] {
-			341
-		});
-		HZPY[7997] = (new short[] {
-			257, 351
-		});
-		HZPY[7998] = (new short[] {
-			240, 239
-		});
-		HZPY[7999] = (new short[] {
-			349
-		});
-	}
-
-	private void init4(short HZPY[][])
-	{
-		HZPY[8000] = (new short[] {
-			266
-		});
-		HZPY[8001] = (new short[] {
-			179
-		});
-		HZPY[8002] = (new short[] {
-			369
-		});
-		HZPY[8003] = (new short[] {
-			132
-		});
-		HZPY[8004] = (new short[] {
-			138
-		});
-		HZPY[8005] = (new short[] {
-			258, 133
-		});
-		HZPY[8006] = (new short[] {
-			134
-		});
-		HZPY[8007] = (new short[] {
-			135
-		});
-		HZPY[8008] = (new short[] {
-			396
-		});
-		HZPY[8009] = (new short[] {
-			303
-		});
-		HZPY[8010] = (new short[] {
-			408
-		});
-		HZPY[8011] = (new short[] {
-			26
-		});
-		HZPY[8012] = (new short[] {
-			229
-		});
-		HZPY[8013] = (new short[] {
-			128, 157
-		});
-		HZPY[8014] = (new short[] {
-			131
-		});
-		HZPY[8015] = (new short[] {
-			179
-		});
-		HZPY[8016] = (new short[] {
-			31
-		});
-		HZPY[8017] = (new short[] {
-			129
-		});
-		HZPY[8018] = (new short[] {
-			123, 360
-		});
-		HZPY[8019] = (new short[] {
-			230
-		});
-		HZPY[8020] = (new short[] {
-			363
-		});
-		HZPY[8021] = (new short[] {
-			137
-		});
-		HZPY[8022] = (new short[] {
-			176
-		});
-		HZPY[8023] = (new short[] {
-			265
-		});
-		HZPY[8024] = (new short[] {
-			345
-		});
-		HZPY[8025] = (new short[] {
-			394
-		});
-		HZPY[8026] = (new short[] {
-			144, 363
-		});
-		HZPY[8027] = (new short[] {
-			113
-		});
-		HZPY[8028] = (new short[] {
-			8
-		});
-		HZPY[8029] = (new short[] {
-			194
-		});
-		HZPY[8030] = (new short[] {
-			408
-		});
-		HZPY[8031] = (new short[] {
-			375
-		});
-		HZPY[8032] = (new short[] {
-			350
-		});
-		HZPY[8033] = (new short[] {
-			19
-		});
-		HZPY[8034] = (new short[] {
-			71
-		});
-		HZPY[8035] = (new short[] {
-			126, 343
-		});
-		HZPY[8036] = (new short[] {
-			121
-		});
-		HZPY[8037] = (new short[] {
-			369
-		});
-		HZPY[8038] = (new short[] {
-			255
-		});
-		HZPY[8039] = (new short[] {
-			372
-		});
-		HZPY[8040] = (new short[] {
-			165
-		});
-		HZPY[8041] = (new short[] {
-			115
-		});
-		HZPY[8042] = (new short[] {
-			166
-		});
-		HZPY[8043] = (new short[] {
-			113
-		});
-		HZPY[8044] = (new short[] {
-			171
-		});
-		HZPY[8045] = (new short[] {
-			100
-		});
-		HZPY[8046] = (new short[] {
-			91
-		});
-		HZPY[8047] = (new short[] {
-			349
-		});
-		HZPY[8048] = (new short[] {
-			171
-		});
-		HZPY[8049] = (new short[] {
-			45
-		});
-		HZPY[8050] = (new short[] {
-			88
-		});
-		HZPY[8051] = (new short[] {
-			369
-		});
-		HZPY[8052] = (new short[] {
-			376
-		});
-		HZPY[8053] = (new short[] {
-			334
-		});
-		HZPY[8054] = (new short[] {
-			167
-		});
-		HZPY[8055] = (new short[] {
-			112
-		});
-		HZPY[8056] = (new short[] {
-			137
-		});
-		HZPY[8057] = (new short[] {
-			132
-		});
-		HZPY[8058] = (new short[] {
-			38
-		});
-		HZPY[8059] = (new short[] {
-			347
-		});
-		HZPY[8060] = (new short[] {
-			197
-		});
-		HZPY[8061] = (new short[] {
-			318
-		});
-		HZPY[8062] = (new short[] {
-			36
-		});
-		HZPY[8063] = (new short[] {
-			244
-		});
-		HZPY[8064] = (new short[] {
-			352
-		});
-		HZPY[8065] = (new short[] {
-			301
-		});
-		HZPY[8066] = (new short[] {
-			336
-		});
-		HZPY[8067] = (new short[] {
-			161
-		});
-		HZPY[8068] = (new short[] {
-			251
-		});
-		HZPY[8069] = (new short[] {
-			225
-		});
-		HZPY[8070] = (new short[] {
-			113
-		});
-		HZPY[8071] = (new short[] {
-			138
-		});
-		HZPY[8072] = (new short[] {
-			354
-		});
-		HZPY[8073] = (new short[] {
-			299
-		});
-		HZPY[8074] = (new short[] {
-			222
-		});
-		HZPY[8075] = (new short[] {
-			336
-		});
-		HZPY[8076] = (new short[] {
-			374, 38
-		});
-		HZPY[8077] = (new short[] {
-			354
-		});
-		HZPY[8078] = (new short[] {
-			352
-		});
-		HZPY[8079] = (new short[] {
-			333
-		});
-		HZPY[8080] = (new short[] {
-			77
-		});
-		HZPY[8081] = (new short[] {
-			316
-		});
-		HZPY[8082] = (new short[] {
-			339
-		});
-		HZPY[8083] = (new short[] {
-			142
-		});
-		HZPY[8084] = (new short[] {
-			27
-		});
-		HZPY[8085] = (new short[] {
-			329
-		});
-		HZPY[8086] = (new short[] {
-			171
-		});
-		HZPY[8087] = (new short[] {
-			310
-		});
-		HZPY[8088] = (new short[] {
-			313
-		});
-		HZPY[8089] = (new short[] {
-			169
-		});
-		HZPY[8090] = (new short[] {
-			310
-		});
-		HZPY[8091] = (new short[] {
-			325
-		});
-		HZPY[8092] = (new short[] {
-			72
-		});
-		HZPY[8093] = (new short[] {
-			167
-		});
-		HZPY[8094] = (new short[] {
-			164
-		});
-		HZPY[8095] = (new short[] {
-			173
-		});
-		HZPY[8096] = (new short[] {
-			345
-		});
-		HZPY[8097] = (new short[] {
-			348, 110
-		});
-		HZPY[8098] = (new short[] {
-			379
-		});
-		HZPY[8099] = (new short[] {
-			126
-		});
-		HZPY[8100] = (new short[] {
-			63
-		});
-		HZPY[8101] = (new short[] {
-			229
-		});
-		HZPY[8102] = (new short[] {
-			284
-		});
-		HZPY[8103] = (new short[] {
-			133
-		});
-		HZPY[8104] = (new short[] {
-			392
-		});
-		HZPY[8105] = (new short[] {
-			291
-		});
-		HZPY[8106] = (new short[] {
-			91
-		});
-		HZPY[8107] = (new short[] {
-			106
-		});
-		HZPY[8108] = (new short[] {
-			357
-		});
-		HZPY[8109] = (new short[] {
-			304
-		});
-		HZPY[8110] = (new short[] {
-			308
-		});
-		HZPY[8111] = (new short[] {
-			364
-		});
-		HZPY[8112] = (new short[] {
-			46
-		});
-		HZPY[8113] = (new short[] {
-			392
-		});
-		HZPY[8114] = (new short[] {
-			368, 369
-		});
-		HZPY[8115] = (new short[] {
-			153
-		});
-		HZPY[8116] = (new short[] {
-			343
-		});
-		HZPY[8117] = (new short[] {
-			113
-		});
-		HZPY[8118] = (new short[] {
-			340
-		});
-		HZPY[8119] = (new short[] {
-			70
-		});
-		HZPY[8120] = (new short[] {
-			116, 115
-		});
-		HZPY[8121] = (new short[] {
-			348
-		});
-		HZPY[8122] = (new short[] {
-			141
-		});
-		HZPY[8123] = (new short[] {
-			94
-		});
-		HZPY[8124] = (new short[] {
-			174
-		});
-		HZPY[8125] = (new short[] {
-			129
-		});
-		HZPY[8126] = (new short[] {
-			321
-		});
-		HZPY[8127] = (new short[] {
-			408
-		});
-		HZPY[8128] = (new short[] {
-			65
-		});
-		HZPY[8129] = (new short[] {
-			261
-		});
-		HZPY[8130] = (new short[] {
-			60
-		});
-		HZPY[8131] = (new short[] {
-			142
-		});
-		HZPY[8132] = (new short[] {
-			409
-		});
-		HZPY[8133] = (new short[] {
-			350
-		});
-		HZPY[8134] = (new short[] {
-			354, 367
-		});
-		HZPY[8135] = (new short[] {
-			256
-		});
-		HZPY[8136] = (new short[] {
-			103
-		});
-		HZPY[8137] = (new short[] {
-			110
-		});
-		HZPY[8138] = (new short[] {
-			113
-		});
-		HZPY[8139] = (new short[] {
-			177
-		});
-		HZPY[8140] = (new short[] {
-			324
-		});
-		HZPY[8141] = (new short[] {
-			400
-		});
-		HZPY[8142] = (new short[] {
-			246
-		});
-		HZPY[8143] = (new short[] {
-			115
-		});
-		HZPY[8144] = (new short[] {
-			32
-		});
-		HZPY[8145] = (new short[] {
-			305
-		});
-		HZPY[8146] = (new short[] {
-			256
-		});
-		HZPY[8147] = (new short[] {
-			85
-		});
-		HZPY[8148] = (new short[] {
-			37
-		});
-		HZPY[8149] = (new short[] {
-			183
-		});
-		HZPY[8150] = (new short[] {
-			215
-		});
-		HZPY[8151] = (new short[] {
-			141
-		});
-		HZPY[8152] = (new short[] {
-			325
-		});
-		HZPY[8153] = (new short[] {
-			48
-		});
-		HZPY[8154] = (new short[] {
-			169
-		});
-		HZPY[8155] = (new short[] {
-			398
-		});
-		HZPY[8156] = (new short[] {
-			246
-		});
-		HZPY[8157] = (new short[] {
-			86
-		});
-		HZPY[8158] = (new short[] {
-			314
-		});
-		HZPY[8159] = (new short[] {
-			330
-		});
-		HZPY[8160] = (new short[] {
-			247
-		});
-		HZPY[8161] = (new short[] {
-			57
-		});
-		HZPY[8162] = (new short[] {
-			376
-		});
-		HZPY[8163] = (new short[] {
-			221
-		});
-		HZPY[8164] = (new short[] {
-			376
-		});
-		HZPY[8165] = (new short[] {
-			183
-		});
-		HZPY[8166] = (new short[] {
-			94
-		});
-		HZPY[8167] = (new short[] {
-			200
-		});
-		HZPY[8168] = (new short[] {
-			138
-		});
-		HZPY[8169] = (new short[] {
-			178
-		});
-		HZPY[8170] = (new short[] {
-			188
-		});
-		HZPY[8171] = (new short[] {
-			371
-		});
-		HZPY[8172] = (new short[] {
-			52
-		});
-		HZPY[8173] = (new short[] {
-			266
-		});
-		HZPY[8174] = (new short[] {
-			125
-		});
-		HZPY[8175] = (new short[] {
-			376
-		});
-		HZPY[8176] = (new short[] {
-			222
-		});
-		HZPY[8177] = (new short[] {
-			301
-		});
-		HZPY[8178] = (new short[] {
-			249, 123
-		});
-		HZPY[8179] = (new short[] {
-			45
-		});
-		HZPY[8180] = (new short[] {
-			123
-		});
-		HZPY[8181] = (new short[] {
-			377
-		});
-		HZPY[8182] = (new short[] {
-			164
-		});
-		HZPY[8183] = (new short[] {
-			129
-		});
-		HZPY[8184] = (new short[] {
-			263
-		});
-		HZPY[8185] = (new short[] {
-			365
-		});
-		HZPY[8186] = (new short[] {
-			258, 133
-		});
-		HZPY[8187] = (new short[] {
-			330
-		});
-		HZPY[8188] = (new short[] {
-			202
-		});
-		HZPY[8189] = (new short[] {
-			398
-		});
-		HZPY[8190] = (new short[] {
-			371
-		});
-		HZPY[8191] = (new short[] {
-			200
-		});
-		HZPY[8192] = (new short[] {
-			11
-		});
-		HZPY[8193] = (new short[] {
-			377
-		});
-		HZPY[8194] = (new short[] {
-			346
-		});
-		HZPY[8195] = (new short[] {
-			275
-		});
-		HZPY[8196] = (new short[] {
-			86
-		});
-		HZPY[8197] = (new short[] {
-			263
-		});
-		HZPY[8198] = (new short[] {
-			377
-		});
-		HZPY[8199] = (new short[] {
-			150
-		});
-		HZPY[8200] = (new short[] {
-			131
-		});
-		HZPY[8201] = (new short[] {
-			299
-		});
-		HZPY[8202] = (new short[] {
-			377
-		});
-		HZPY[8203] = (new short[] {
-			291
-		});
-		HZPY[8204] = (new short[] {
-			183
-		});
-		HZPY[8205] = (new short[] {
-			409
-		});
-		HZPY[8206] = (new short[] {
-			72
-		});
-		HZPY[8207] = (new short[] {
-			229
-		});
-		HZPY[8208] = (new short[] {
-			133
-		});
-		HZPY[8209] = (new short[] {
-			201, 302
-		});
-		HZPY[8210] = (new short[] {
-			247
-		});
-		HZPY[8211] = (new short[] {
-			350
-		});
-		HZPY[8212] = (new short[] {
-			376
-		});
-		HZPY[8213] = (new short[] {
-			377
-		});
-		HZPY[8214] = (new short[] {
-			301
-		});
-		HZPY[8215] = (new short[] {
-			301
-		});
-		HZPY[8216] = (new short[] {
-			280
-		});
-		HZPY[8217] = (new short[] {
-			126
-		});
-		HZPY[8218] = (new short[] {
-			401
-		});
-		HZPY[8219] = (new short[] {
-			133
-		});
-		HZPY[8220] = (new short[] {
-			235
-		});
-		HZPY[8221] = (new short[] {
-			376
-		});
-		HZPY[8222] = (new short[] {
-			265
-		});
-		HZPY[8223] = (new short[] {
-			333
-		});
-		HZPY[8224] = (new short[] {
-			266
-		});
-		HZPY[8225] = (new short[] {
-			72
-		});
-		HZPY[8226] = (new short[] {
-			88
-		});
-		HZPY[8227] = (new short[] {
-			389
-		});
-		HZPY[8228] = (new short[] {
-			19
-		});
-		HZPY[8229] = (new short[] {
-			348
-		});
-		HZPY[8230] = (new short[] {
-			348, 110
-		});
-		HZPY[8231] = (new short[] {
-			63
-		});
-		HZPY[8232] = (new short[] {
-			345
-		});
-		HZPY[8233] = (new short[] {
-			346
-		});
-		HZPY[8234] = (new short[] {
-			281
-		});
-		HZPY[8235] = (new short[] {
-			355
-		});
-		HZPY[8236] = (new short[] {
-			26
-		});
-		HZPY[8237] = (new short[] {
-			345
-		});
-		HZPY[8238] = (new short[] {
-			97
-		});
-		HZPY[8239] = (new short[] {
-			95
-		});
-		HZPY[8240] = (new short[] {
-			365
-		});
-		HZPY[8241] = (new short[] {
-			121
-		});
-		HZPY[8242] = (new short[] {
-			361
-		});
-		HZPY[8243] = (new short[] {
-			200
-		});
-		HZPY[8244] = (new short[] {
-			150
-		});
-		HZPY[8245] = (new short[] {
-			195
-		});
-		HZPY[8246] = (new short[] {
-			372
-		});
-		HZPY[8247] = (new short[] {
-			365
-		});
-		HZPY[8248] = (new short[] {
-			375
-		});
-		HZPY[8249] = (new short[] {
-			121
-		});
-		HZPY[8250] = (new short[] {
-			202
-		});
-		HZPY[8251] = (new short[] {
-			357
-		});
-		HZPY[8252] = (new short[] {
-			197
-		});
-		HZPY[8253] = (new short[] {
-			381
-		});
-		HZPY[8254] = (new short[] {
-			129
-		});
-		HZPY[8255] = (new short[] {
-			212
-		});
-		HZPY[8256] = (new short[] {
-			160
-		});
-		HZPY[8257] = (new short[] {
-			303
-		});
-		HZPY[8258] = (new short[] {
-			77
-		});
-		HZPY[8259] = (new short[] {
-			240
-		});
-		HZPY[8260] = (new short[] {
-			197
-		});
-		HZPY[8261] = (new short[] {
-			173
-		});
-		HZPY[8262] = (new short[] {
-			256
-		});
-		HZPY[8263] = (new short[] {
-			256
-		});
-		HZPY[8264] = (new short[] {
-			197
-		});
-		HZPY[8265] = (new short[] {
-			330
-		});
-		HZPY[8266] = (new short[] {
-			49
-		});
-		HZPY[8267] = (new short[] {
-			345
-		});
-		HZPY[8268] = (new short[] {
-			23
-		});
-		HZPY[8269] = (new short[] {
-			337
-		});
-		HZPY[8270] = (new short[] {
-			201
-		});
-		HZPY[8271] = (new short[] {
-			360
-		});
-		HZPY[8272] = (new short[] {
-			207
-		});
-		HZPY[8273] = (new short[] {
-			360
-		});
-		HZPY[8274] = (new short[] {
-			131
-		});
-		HZPY[8275] = (new short[] {
-			245
-		});
-		HZPY[8276] = (new short[] {
-			133
-		});
-		HZPY[8277] = (new short[] {
-			133
-		});
-		HZPY[8278] = (new short[] {
-			123
-		});
-		HZPY[8279] = (new short[] {
-			88
-		});
-		HZPY[8280] = (new short[] {
-			353
-		});
-		HZPY[8281] = (new short[] {
-			369
-		});
-		HZPY[8282] = (new short[] {
-			371
-		});
-		HZPY[8283] = (new short[] {
-			391
-		});
-		HZPY[8284] = (new short[] {
-			303
-		});
-		HZPY[8285] = (new short[] {
-			136
-		});
-		HZPY[8286] = (new short[] {
-			396
-		});
-		HZPY[8287] = (new short[] {
-			127
-		});
-		HZPY[8288] = (new short[] {
-			323
-		});
-		HZPY[8289] = (new short[] {
-			376
-		});
-		HZPY[8290] = (new short[] {
-			13
-		});
-		HZPY[8291] = (new short[] {
-			204
-		});
-		HZPY[8292] = (new short[] {
-			303
-		});
-		HZPY[8293] = (new short[] {
-			336
-		});
-		HZPY[8294] = (new short[] {
-			302
-		});
-		HZPY[8295] = (new short[] {
-			374, 38
-		});
-		HZPY[8296] = (new short[] {
-			141
-		});
-		HZPY[8297] = (new short[] {
-			399
-		});
-		HZPY[8298] = (new short[] {
-			229
-		});
-		HZPY[8299] = (new short[] {
-			265, 132, 135, 140
-		});
-		HZPY[8300] = (new short[] {
-			135
-		});
-		HZPY[8301] = (new short[] {
-			229
-		});
-		HZPY[8302] = (new short[] {
-			371, 365
-		});
-		HZPY[8303] = (new short[] {
-			324, 297
-		});
-		HZPY[8304] = (new short[] {
-			181
-		});
-		HZPY[8305] = (new short[] {
-			130
-		});
-		HZPY[8306] = (new short[] {
-			377
-		});
-		HZPY[8307] = (new short[] {
-			213
-		});
-		HZPY[8308] = (new short[] {
-			7
-		});
-		HZPY[8309] = (new short[] {
-			375
-		});
-		HZPY[8310] = (new short[] {
-			267
-		});
-		HZPY[8311] = (new short[] {
-			44
-		});
-		HZPY[8312] = (new short[] {
-			174
-		});
-		HZPY[8313] = (new short[] {
-			31
-		});
-		HZPY[8314] = (new short[] {
-			365
-		});
-		HZPY[8315] = (new short[] {
-			45
-		});
-		HZPY[8316] = (new short[] {
-			225
-		});
-		HZPY[8317] = (new short[] {
-			409
-		});
-		HZPY[8318] = (new short[] {
-			343
-		});
-		HZPY[8319] = (new short[] {
-			303
-		});
-		HZPY[8320] = (new short[] {
-			193
-		});
-		HZPY[8321] = (new short[] {
-			372
-		});
-		HZPY[8322] = (new short[] {
-			163
-		});
-		HZPY[8323] = (new short[] {
-			160, 128
-		});
-		HZPY[8324] = (new short[] {
-			229
-		});
-		HZPY[8325] = (new short[] {
-			133
-		});
-		HZPY[8326] = (new short[] {
-			360
-		});
-		HZPY[8327] = (new short[] {
-			182
-		});
-		HZPY[8328] = (new short[] {
-			108
-		});
-		HZPY[8329] = (new short[] {
-			93
-		});
-		HZPY[8330] = (new short[] {
-			229
-		});
-		HZPY[8331] = (new short[] {
-			229
-		});
-		HZPY[8332] = (new short[] {
-			253
-		});
-		HZPY[8333] = (new short[] {
-			137
-		});
-		HZPY[8334] = (new short[] {
-			108
-		});
-		HZPY[8335] = (new short[] {
-			324
-		});
-		HZPY[8336] = (new short[] {
-			377
-		});
-		HZPY[8337] = (new short[] {
-			320
-		});
-		HZPY[8338] = (new short[] {
-			377
-		});
-		HZPY[8339] = (new short[] {
-			173
-		});
-		HZPY[8340] = (new short[] {
-			367
-		});
-		HZPY[8341] = (new short[] {
-			199
-		});
-		HZPY[8342] = (new short[] {
-			407
-		});
-		HZPY[8343] = (new short[] {
-			302
-		});
-		HZPY[8344] = (new short[] {
-			150
-		});
-		HZPY[8345] = (new short[] {
-			322
-		});
-		HZPY[8346] = (new short[] {
-			321
-		});
-		HZPY[8347] = (new short[] {
-			341
-		});
-		HZPY[8348] = (new short[] {
-			179
-		});
-		HZPY[8349] = (new short[] {
-			102
-		});
-		HZPY[8350] = (new short[] {
-			290
-		});
-		HZPY[8351] = (new short[] {
-			205
-		});
-		HZPY[8352] = (new short[] {
-			389
-		});
-		HZPY[8353] = (new short[] {
-			303
-		});
-		HZPY[8354] = (new short[] {
-			369
-		});
-		HZPY[8355] = (new short[] {
-			188
-		});
-		HZPY[8356] = (new short[] {
-			191
-		});
-		HZPY[8357] = (new short[] {
-			255
-		});
-		HZPY[8358] = (new short[] {
-			345
-		});
-		HZPY[8359] = (new short[] {
-			171
-		});
-		HZPY[8360] = (new short[] {
-			22
-		});
-		HZPY[8361] = (new short[] {
-			349
-		});
-		HZPY[8362] = (new short[] {
-			350, 256
-		});
-		HZPY[8363] = (new short[] {
-			346
-		});
-		HZPY[8364] = (new short[] {
-			259
-		});
-		HZPY[8365] = (new short[] {
-			26
-		});
-		HZPY[8366] = (new short[] {
-			303
-		});
-		HZPY[8367] = (new short[] {
-			316
-		});
-		HZPY[8368] = (new short[] {
-			369
-		});
-		HZPY[8369] = (new short[] {
-			396, 262
-		});
-		HZPY[8370] = (new short[] {
-			315
-		});
-		HZPY[8371] = (new short[] {
-			379
-		});
-		HZPY[8372] = (new short[] {
-			359
-		});
-		HZPY[8373] = (new short[] {
-			371
-		});
-		HZPY[8374] = (new short[] {
-			279
-		});
-		HZPY[8375] = (new short[] {
-			129
-		});
-		HZPY[8376] = (new short[] {
-			316
-		});
-		HZPY[8377] = (new short[] {
-			316
-		});
-		HZPY[8378] = (new short[] {
-			221, 224
-		});
-		HZPY[8379] = (new short[] {
-			321
-		});
-		HZPY[8380] = (new short[] {
-			303
-		});
-		HZPY[8381] = (new short[] {
-			281
-		});
-		HZPY[8382] = (new short[] {
-			345
-		});
-		HZPY[8383] = (new short[] {
-			241
-		});
-		HZPY[8384] = (new short[] {
-			40
-		});
-		HZPY[8385] = (new short[] {
-			40
-		});
-		HZPY[8386] = (new short[] {
-			242
-		});
-		HZPY[8387] = (new short[] {
-			347
-		});
-		HZPY[8388] = (new short[] {
-			24
-		});
-		HZPY[8389] = (new short[] {
-			203
-		});
-		HZPY[8390] = (new short[] {
-			116
-		});
-		HZPY[8391] = (new short[] {
-			65
-		});
-		HZPY[8392] = (new short[] {
-			115
-		});
-		HZPY[8393] = (new short[] {
-			127
-		});
-		HZPY[8394] = (new short[] {
-			350
-		});
-		HZPY[8395] = (new short[] {
-			409
-		});
-		HZPY[8396] = (new short[] {
-			63
-		});
-		HZPY[8397] = (new short[] {
-			398
-		});
-		HZPY[8398] = (new short[] {
-			372, 357
-		});
-		HZPY[8399] = (new short[] {
-			91
-		});
-		HZPY[8400] = (new short[] {
-			136
-		});
-		HZPY[8401] = (new short[] {
-			124, 103
-		});
-		HZPY[8402] = (new short[] {
-			97
-		});
-		HZPY[8403] = (new short[] {
-			409
-		});
-		HZPY[8404] = (new short[] {
-			325
-		});
-		HZPY[8405] = (new short[] {
-			328
-		});
-		HZPY[8406] = (new short[] {
-			318
-		});
-		HZPY[8407] = (new short[] {
-			13
-		});
-		HZPY[8408] = (new short[] {
-			135
-		});
-		HZPY[8409] = (new short[] {
-			128
-		});
-		HZPY[8410] = (new short[] {
-			109
-		});
-		HZPY[8411] = (new short[] {
-			371
-		});
-		HZPY[8412] = (new short[] {
-			96
-		});
-		HZPY[8413] = (new short[] {
-			181, 309
-		});
-		HZPY[8414] = (new short[] {
-			398
-		});
-		HZPY[8415] = (new short[] {
-			365
-		});
-		HZPY[8416] = (new short[] {
-			299
-		});
-		HZPY[8417] = (new short[] {
-			193
-		});
-		HZPY[8418] = (new short[] {
-			372
-		});
-		HZPY[8419] = (new short[] {
-			45
-		});
-		HZPY[8420] = (new short[] {
-			184
-		});
-		HZPY[8421] = (new short[] {
-			165
-		});
-		HZPY[8422] = (new short[] {
-			186
-		});
-		HZPY[8423] = (new short[] {
-			354
-		});
-		HZPY[8424] = (new short[] {
-			17
-		});
-		HZPY[8425] = (new short[] {
-			323
-		});
-		HZPY[8426] = (new short[] {
-			376
-		});
-		HZPY[8427] = (new short[] {
-			359
-		});
-		HZPY[8428] = (new short[] {
-			123
-		});
-		HZPY[8429] = (new short[] {
-			13
-		});
-		HZPY[8430] = (new short[] {
-			15
-		});
-		HZPY[8431] = (new short[] {
-			398
-		});
-		HZPY[8432] = (new short[] {
-			134
-		});
-		HZPY[8433] = (new short[] {
-			154
-		});
-		HZPY[8434] = (new short[] {
-			301
-		});
-		HZPY[8435] = (new short[] {
-			297
-		});
-		HZPY[8436] = (new short[] {
-			63
-		});
-		HZPY[8437] = (new short[] {
-			200
-		});
-		HZPY[8438] = (new short[] {
-			4
-		});
-		HZPY[8439] = (new short[] {
-			183
-		});
-		HZPY[8440] = (new short[] {
-			123, 360
-		});
-		HZPY[8441] = (new short[] {
-			123
-		});
-		HZPY[8442] = (new short[] {
-			375
-		});
-		HZPY[8443] = (new short[] {
-			31
-		});
-		HZPY[8444] = (new short[] {
-			84
-		});
-		HZPY[8445] = (new short[] {
-			374
-		});
-		HZPY[8446] = (new short[] {
-			109
-		});
-		HZPY[8447] = (new short[] {
-			193
-		});
-		HZPY[8448] = (new short[] {
-			263
-		});
-		HZPY[8449] = (new short[] {
-			376
-		});
-		HZPY[8450] = (new short[] {
-			249
-		});
-		HZPY[8451] = (new short[] {
-			131
-		});
-		HZPY[8452] = (new short[] {
-			364
-		});
-		HZPY[8453] = (new short[] {
-			135
-		});
-		HZPY[8454] = (new short[] {
-			256, 266, 350
-		});
-		HZPY[8455] = (new short[] {
-			350
-		});
-		HZPY[8456] = (new short[] {
-			131
-		});
-		HZPY[8457] = (new short[] {
-			183
-		});
-		HZPY[8458] = (new short[] {
-			184, 182
-		});
-		HZPY[8459] = (new short[] {
-			181
-		});
-		HZPY[8460] = (new short[] {
-			137
-		});
-		HZPY[8461] = (new short[] {
-			110
-		});
-		HZPY[8462] = (new short[] {
-			48
-		});
-		HZPY[8463] = (new short[] {
-			182
-		});
-		HZPY[8464] = (new short[] {
-			398
-		});
-		HZPY[8465] = (new short[] {
-			93
-		});
-		HZPY[8466] = (new short[] {
-			259
-		});
-		HZPY[8467] = (new short[] {
-			171
-		});
-		HZPY[8468] = (new short[] {
-			365
-		});
-		HZPY[8469] = (new short[] {
-			25
-		});
-		HZPY[8470] = (new short[] {
-			135
-		});
-		HZPY[8471] = (new short[] {
-			48
-		});
-		HZPY[8472] = (new short[] {
-			45
-		});
-		HZPY[8473] = (new short[] {
-			337
-		});
-		HZPY[8474] = (new short[] {
-			238
-		});
-		HZPY[8475] = (new short[] {
-			328
-		});
-		HZPY[8476] = (new short[] {
-			368
-		});
-		HZPY[8477] = (new short[] {
-			350
-		});
-		HZPY[8478] = (new short[] {
-			200
-		});
-		HZPY[8479] = (new short[] {
-			324
-		});
-		HZPY[8480] = (new short[] {
-			207
-		});
-		HZPY[8481] = (new short[] {
-			297
-		});
-		HZPY[8482] = (new short[] {
-			113
-		});
-		HZPY[8483] = (new short[] {
-			173
-		});
-		HZPY[8484] = (new short[] {
-			165
-		});
-		HZPY[8485] = (new short[] {
-			341
-		});
-		HZPY[8486] = (new short[] {
-			171
-		});
-		HZPY[8487] = (new short[] {
-			258
-		});
-		HZPY[8488] = (new short[] {
-			88
-		});
-		HZPY[8489] = (new short[] {
-			361
-		});
-		HZPY[8490] = (new short[] {
-			369
-		});
-		HZPY[8491] = (new short[] {
-			193
-		});
-		HZPY[8492] = (new short[] {
-			409
-		});
-		HZPY[8493] = (new short[] {
-			194
-		});
-		HZPY[8494] = (new short[] {
-			148
-		});
-		HZPY[8495] = (new short[] {
-			189, 321
-		});
-		HZPY[8496] = (new short[] {
-			246
-		});
-		HZPY[8497] = (new short[] {
-			305
-		});
-		HZPY[8498] = (new short[] {
-			392
-		});
-		HZPY[8499] = (new short[] {
-			392
-		});
-		HZPY[8500] = (new short[] {
-			38
-		});
-		HZPY[8501] = (new short[] {
-			360
-		});
-		HZPY[8502] = (new short[] {
-			126
-		});
-		HZPY[8503] = (new short[] {
-			162, 130
-		});
-		HZPY[8504] = (new short[] {
-			133
-		});
-		HZPY[8505] = (new short[] {
-			365
-		});
-		HZPY[8506] = (new short[] {
-			43, 309
-		});
-		HZPY[8507] = (new short[] {
-			175
-		});
-		HZPY[8508] = (new short[] {
-			52
-		});
-		HZPY[8509] = (new short[] {
-			329
-		});
-		HZPY[8510] = (new short[] {
-			366
-		});
-		HZPY[8511] = (new short[] {
-			134
-		});
-		HZPY[8512] = (new short[] {
-			48
-		});
-		HZPY[8513] = (new short[] {
-			372
-		});
-		HZPY[8514] = (new short[] {
-			121
-		});
-		HZPY[8515] = (new short[] {
-			359
-		});
-		HZPY[8516] = (new short[] {
-			305
-		});
-		HZPY[8517] = (new short[] {
-			106
-		});
-		HZPY[8518] = (new short[] {
-			372
-		});
-		HZPY[8519] = (new short[] {
-			354
-		});
-		HZPY[8520] = (new short[] {
-			229
-		});
-		HZPY[8521] = (new short[] {
-			229
-		});
-		HZPY[8522] = (new short[] {
-			360
-		});
-		HZPY[8523] = (new short[] {
-			173
-		});
-		HZPY[8524] = (new short[] {
-			398
-		});
-		HZPY[8525] = (new short[] {
-			345
-		});
-		HZPY[8526] = (new short[] {
-			247
-		});
-		HZPY[8527] = (new short[] {
-			376
-		});
-		HZPY[8528] = (new short[] {
-			135
-		});
-		HZPY[8529] = (new short[] {
-			253
-		});
-		HZPY[8530] = (new short[] {
-			353
-		});
-		HZPY[8531] = (new short[] {
-			128
-		});
-		HZPY[8532] = (new short[] {
-			136
-		});
-		HZPY[8533] = (new short[] {
-			349
-		});
-		HZPY[8534] = (new short[] {
-			239
-		});
-		HZPY[8535] = (new short[] {
-			131
-		});
-		HZPY[8536] = (new short[] {
-			241
-		});
-		HZPY[8537] = (new short[] {
-			345
-		});
-		HZPY[8538] = (new short[] {
-			354, 316
-		});
-		HZPY[8539] = (new short[] {
-			258
-		});
-		HZPY[8540] = (new short[] {
-			258
-		});
-		HZPY[8541] = (new short[] {
-			350
-		});
-		HZPY[8542] = (new short[] {
-			183
-		});
-		HZPY[8543] = (new short[] {
-			350
-		});
-		HZPY[8544] = (new short[] {
-			319
-		});
-		HZPY[8545] = (new short[] {
-			75
-		});
-		HZPY[8546] = (new short[] {
-			127
-		});
-		HZPY[8547] = (new short[] {
-			204
-		});
-		HZPY[8548] = (new short[] {
-			284
-		});
-		HZPY[8549] = (new short[] {
-			316
-		});
-		HZPY[8550] = (new short[] {
-			175, 167
-		});
-		HZPY[8551] = (new short[] {
-			396
-		});
-		HZPY[8552] = (new short[] {
-			399
-		});
-		HZPY[8553] = (new short[] {
-			369
-		});
-		HZPY[8554] = (new short[] {
-			63
-		});
-		HZPY[8555] = (new short[] {
-			343
-		});
-		HZPY[8556] = (new short[] {
-			57
-		});
-		HZPY[8557] = (new short[] {
-			323
-		});
-		HZPY[8558] = (new short[] {
-			33
-		});
-		HZPY[8559] = (new short[] {
-			363
-		});
-		HZPY[8560] = (new short[] {
-			160, 128
-		});
-		HZPY[8561] = (new short[] {
-			229
-		});
-		HZPY[8562] = (new short[] {
-			298
-		});
-		HZPY[8563] = (new short[] {
-			336
-		});
-		HZPY[8564] = (new short[] {
-			401
-		});
-		HZPY[8565] = (new short[] {
-			286
-		});
-		HZPY[8566] = (new short[] {
-			117
-		});
-		HZPY[8567] = (new short[] {
-			13
-		});
-		HZPY[8568] = (new short[] {
-			296
-		});
-		HZPY[8569] = (new short[] {
-			31
-		});
-		HZPY[8570] = (new short[] {
-			31
-		});
-		HZPY[8571] = (new short[] {
-			305
-		});
-		HZPY[8572] = (new short[] {
-			334
-		});
-		HZPY[8573] = (new short[] {
-			255
-		});
-		HZPY[8574] = (new short[] {
-			177
-		});
-		HZPY[8575] = (new short[] {
-			345
-		});
-		HZPY[8576] = (new short[] {
-			291
-		});
-		HZPY[8577] = (new short[] {
-			291
-		});
-		HZPY[8578] = (new short[] {
-			36, 62
-		});
-		HZPY[8579] = (new short[] {
-			139
-		});
-		HZPY[8580] = (new short[] {
-			36, 62
-		});
-		HZPY[8581] = (new short[] {
-			124
-		});
-		HZPY[8582] = (new short[] {
-			135
-		});
-		HZPY[8583] = (new short[] {
-			167
-		});
-		HZPY[8584] = (new short[] {
-			34
-		});
-		HZPY[8585] = (new short[] {
-			94
-		});
-		HZPY[8586] = (new short[] {
-			53
-		});
-		HZPY[8587] = (new short[] {
-			119
-		});
-		HZPY[8588] = (new short[] {
-			313
-		});
-		HZPY[8589] = (new short[] {
-			305
-		});
-		HZPY[8590] = (new short[] {
-			246
-		});
-		HZPY[8591] = (new short[] {
-			113
-		});
-		HZPY[8592] = (new short[] {
-			379
-		});
-		HZPY[8593] = (new short[] {
-			179
-		});
-		HZPY[8594] = (new short[] {
-			121
-		});
-		HZPY[8595] = (new short[] {
-			91
-		});
-		HZPY[8596] = (new short[] {
-			115
-		});
-		HZPY[8597] = (new short[] {
-			116
-		});
-		HZPY[8598] = (new short[] {
-			352
-		});
-		HZPY[8599] = (new short[] {
-			133
-		});
-		HZPY[8600] = (new short[] {
-			296
-		});
-		HZPY[8601] = (new short[] {
-			350
-		});
-		HZPY[8602] = (new short[] {
-			4
-		});
-		HZPY[8603] = (new short[] {
-			183
-		});
-		HZPY[8604] = (new short[] {
-			165
-		});
-		HZPY[8605] = (new short[] {
-			229
-		});
-		HZPY[8606] = (new short[] {
-			376
-		});
-		HZPY[8607] = (new short[] {
-			177
-		});
-		HZPY[8608] = (new short[] {
-			204, 201, 302
-		});
-		HZPY[8609] = (new short[] {
-			384
-		});
-		HZPY[8610] = (new short[] {
-			58
-		});
-		HZPY[8611] = (new short[] {
-			126
-		});
-		HZPY[8612] = (new short[] {
-			385
-		});
-		HZPY[8613] = (new short[] {
-			355
-		});
-		HZPY[8614] = (new short[] {
-			376
-		});
-		HZPY[8615] = (new short[] {
-			171
-		});
-		HZPY[8616] = (new short[] {
-			303
-		});
-		HZPY[8617] = (new short[] {
-			362
-		});
-		HZPY[8618] = (new short[] {
-			178
-		});
-		HZPY[8619] = (new short[] {
-			193
-		});
-		HZPY[8620] = (new short[] {
-			409
-		});
-		HZPY[8621] = (new short[] {
-			374
-		});
-		HZPY[8622] = (new short[] {
-			157, 128
-		});
-		HZPY[8623] = (new short[] {
-			23
-		});
-		HZPY[8624] = (new short[] {
-			173
-		});
-		HZPY[8625] = (new short[] {
-			65
-		});
-		HZPY[8626] = (new short[] {
-			368
-		});
-		HZPY[8627] = (new short[] {
-			4
-		});
-		HZPY[8628] = (new short[] {
-			126
-		});
-		HZPY[8629] = (new short[] {
-			173
-		});
-		HZPY[8630] = (new short[] {
-			31
-		});
-		HZPY[8631] = (new short[] {
-			193
-		});
-		HZPY[8632] = (new short[] {
-			57
-		});
-		HZPY[8633] = (new short[] {
-			57, 323
-		});
-		HZPY[8634] = (new short[] {
-			369
-		});
-		HZPY[8635] = (new short[] {
-			318
-		});
-		HZPY[8636] = (new short[] {
-			247
-		});
-		HZPY[8637] = (new short[] {
-			141
-		});
-		HZPY[8638] = (new short[] {
-			321
-		});
-		HZPY[8639] = (new short[] {
-			262
-		});
-		HZPY[8640] = (new short[] {
-			131
-		});
-		HZPY[8641] = (new short[] {
-			408
-		});
-		HZPY[8642] = (new short[] {
-			173
-		});
-		HZPY[8643] = (new short[] {
-			230
-		});
-		HZPY[8644] = (new short[] {
-			110
-		});
-		HZPY[8645] = (new short[] {
-			137
-		});
-		HZPY[8646] = (new short[] {
-			87
-		});
-		HZPY[8647] = (new short[] {
-			291
-		});
-		HZPY[8648] = (new short[] {
-			131
-		});
-		HZPY[8649] = (new short[] {
-			318
-		});
-		HZPY[8650] = (new short[] {
-			128
-		});
-		HZPY[8651] = (new short[] {
-			40
-		});
-		HZPY[8652] = (new short[] {
-			321
-		});
-		HZPY[8653] = (new short[] {
-			314
-		});
-		HZPY[8654] = (new short[] {
-			68
-		});
-		HZPY[8655] = (new short[] {
-			291
-		});
-		HZPY[8656] = (new short[] {
-			401
-		});
-		HZPY[8657] = (new short[] {
-			164
-		});
-		HZPY[8658] = (new short[] {
-			17
-		});
-		HZPY[8659] = (new short[] {
-			173
-		});
-		HZPY[8660] = (new short[] {
-			200
-		});
-		HZPY[8661] = (new short[] {
-			303
-		});
-		HZPY[8662] = (new short[] {
-			305
-		});
-		HZPY[8663] = (new short[] {
-			200
-		});
-		HZPY[8664] = (new short[] {
-			227, 219
-		});
-		HZPY[8665] = (new short[] {
-			372
-		});
-		HZPY[8666] = (new short[] {
-			372, 357
-		});
-		HZPY[8667] = (new short[] {
-			199
-		});
-		HZPY[8668] = (new short[] {
-			137
-		});
-		HZPY[8669] = (new short[] {
-			256
-		});
-		HZPY[8670] = (new short[] {
-			13
-		});
-		HZPY[8671] = (new short[] {
-			131
-		});
-		HZPY[8672] = (new short[] {
-			115
-		});
-		HZPY[8673] = (new short[] {
-			281
-		});
-		HZPY[8674] = (new short[] {
-			414, 52
-		});
-		HZPY[8675] = (new short[] {
-			348
-		});
-		HZPY[8676] = (new short[] {
-			325
-		});
-		HZPY[8677] = (new short[] {
-			371
-		});
-		HZPY[8678] = (new short[] {
-			371
-		});
-		HZPY[8679] = (new short[] {
-			74
-		});
-		HZPY[8680] = (new short[] {
-			47
-		});
-		HZPY[8681] = (new short[] {
-			130
-		});
-		HZPY[8682] = (new short[] {
-			138
-		});
-		HZPY[8683] = (new short[] {
-			165
-		});
-		HZPY[8684] = (new short[] {
-			144
-		});
-		HZPY[8685] = (new short[] {
-			1
-		});
-		HZPY[8686] = (new short[] {
-			255
-		});
-		HZPY[8687] = (new short[] {
-			408
-		});
-		HZPY[8688] = (new short[] {
-			345
-		});
-		HZPY[8689] = (new short[] {
-			17
-		});
-		HZPY[8690] = (new short[] {
-			103
-		});
-		HZPY[8691] = (new short[] {
-			258
-		});
-		HZPY[8692] = (new short[] {
-			357
-		});
-		HZPY[8693] = (new short[] {
-			17
-		});
-		HZPY[8694] = (new short[] {
-			162
-		});
-		HZPY[8695] = (new short[] {
-			86
-		});
-		HZPY[8696] = (new short[] {
-			229
-		});
-		HZPY[8697] = (new short[] {
-			17
-		});
-		HZPY[8698] = (new short[] {
-			133
-		});
-		HZPY[8699] = (new short[] {
-			74, 345
-		});
-		HZPY[8700] = (new short[] {
-			189
-		});
-		HZPY[8701] = (new short[] {
-			189
-		});
-		HZPY[8702] = (new short[] {
-			184
-		});
-		HZPY[8703] = (new short[] {
-			171
-		});
-		HZPY[8704] = (new short[] {
-			375
-		});
-		HZPY[8705] = (new short[] {
-			366
-		});
-		HZPY[8706] = (new short[] {
-			183
-		});
-		HZPY[8707] = (new short[] {
-			313
-		});
-		HZPY[8708] = (new short[] {
-			136
-		});
-		HZPY[8709] = (new short[] {
-			372
-		});
-		HZPY[8710] = (new short[] {
-			72
-		});
-		HZPY[8711] = (new short[] {
-			344
-		});
-		HZPY[8712] = (new short[] {
-			128
-		});
-		HZPY[8713] = (new short[] {
-			355
-		});
-		HZPY[8714] = (new short[] {
-			241
-		});
-		HZPY[8715] = (new short[] {
-			301
-		});
-		HZPY[8716] = (new short[] {
-			15
-		});
-		HZPY[8717] = (new short[] {
-			31
-		});
-		HZPY[8718] = (new short[] {
-			203
-		});
-		HZPY[8719] = (new short[] {
-			179
-		});
-		HZPY[8720] = (new short[] {
-			133
-		});
-		HZPY[8721] = (new short[] {
-			255, 9
-		});
-		HZPY[8722] = (new short[] {
-			291
-		});
-		HZPY[8723] = (new short[] {
-			36
-		});
-		HZPY[8724] = (new short[] {
-			103
-		});
-		HZPY[8725] = (new short[] {
-			17, 251
-		});
-		HZPY[8726] = (new short[] {
-			130
-		});
-		HZPY[8727] = (new short[] {
-			352
-		});
-		HZPY[8728] = (new short[] {
-			183
-		});
-		HZPY[8729] = (new short[] {
-			262
-		});
-		HZPY[8730] = (new short[] {
-			113
-		});
-		HZPY[8731] = (new short[] {
-			372
-		});
-		HZPY[8732] = (new short[] {
-			279
-		});
-		HZPY[8733] = (new short[] {
-			171
-		});
-		HZPY[8734] = (new short[] {
-			138
-		});
-		HZPY[8735] = (new short[] {
-			354
-		});
-		HZPY[8736] = (new short[] {
-			372
-		});
-		HZPY[8737] = (new short[] {
-			318
-		});
-		HZPY[8738] = (new short[] {
-			345
-		});
-		HZPY[8739] = (new short[] {
-			355
-		});
-		HZPY[8740] = (new short[] {
-			125
-		});
-		HZPY[8741] = (new short[] {
-			115
-		});
-		HZPY[8742] = (new short[] {
-			401
-		});
-		HZPY[8743] = (new short[] {
-			181, 309
-		});
-		HZPY[8744] = (new short[] {
-			164
-		});
-		HZPY[8745] = (new short[] {
-			74
-		});
-		HZPY[8746] = (new short[] {
-			84
-		});
-		HZPY[8747] = (new short[] {
-			123
-		});
-		HZPY[8748] = (new short[] {
-			164
-		});
-		HZPY[8749] = (new short[] {
-			229
-		});
-		HZPY[8750] = (new short[] {
-			229
-		});
-		HZPY[8751] = (new short[] {
-			372
-		});
-		HZPY[8752] = (new short[] {
-			200
-		});
-		HZPY[8753] = (new short[] {
-			131
-		});
-		HZPY[8754] = (new short[] {
-			173
-		});
-		HZPY[8755] = (new short[] {
-			133
-		});
-		HZPY[8756] = (new short[] {
-			372
-		});
-		HZPY[8757] = (new short[] {
-			87
-		});
-		HZPY[8758] = (new short[] {
-			177
-		});
-		HZPY[8759] = (new short[] {
-			369
-		});
-		HZPY[8760] = (new short[] {
-			133
-		});
-		HZPY[8761] = (new short[] {
-			378
-		});
-		HZPY[8762] = (new short[] {
-			31
-		});
-		HZPY[8763] = (new short[] {
-			56
-		});
-		HZPY[8764] = (new short[] {
-			273
-		});
-		HZPY[8765] = (new short[] {
-			133
-		});
-		HZPY[8766] = (new short[] {
-			165
-		});
-		HZPY[8767] = (new short[] {
-			84
-		});
-		HZPY[8768] = (new short[] {
-			309
-		});
-		HZPY[8769] = (new short[] {
-			377
-		});
-		HZPY[8770] = (new short[] {
-			408
-		});
-		HZPY[8771] = (new short[] {
-			88
-		});
-		HZPY[8772] = (new short[] {
-			299
-		});
-		HZPY[8773] = (new short[] {
-			169
-		});
-		HZPY[8774] = (new short[] {
-			165
-		});
-		HZPY[8775] = (new short[] {
-			48
-		});
-		HZPY[8776] = (new short[] {
-			266
-		});
-		HZPY[8777] = (new short[] {
-			374
-		});
-		HZPY[8778] = (new short[] {
-			258
-		});
-		HZPY[8779] = (new short[] {
-			83
-		});
-		HZPY[8780] = (new short[] {
-			106
-		});
-		HZPY[8781] = (new short[] {
-			268
-		});
-		HZPY[8782] = (new short[] {
-			365
-		});
-		HZPY[8783] = (new short[] {
-			115
-		});
-		HZPY[8784] = (new short[] {
-			229
-		});
-		HZPY[8785] = (new short[] {
-			286
-		});
-		HZPY[8786] = (new short[] {
-			382
-		});
-		HZPY[8787] = (new short[] {
-			186
-		});
-		HZPY[8788] = (new short[] {
-			365
-		});
-		HZPY[8789] = (new short[] {
-			171
-		});
-		HZPY[8790] = (new short[] {
-			200
-		});
-		HZPY[8791] = (new short[] {
-			57
-		});
-		HZPY[8792] = (new short[] {
-			323
-		});
-		HZPY[8793] = (new short[] {
-			58
-		});
-		HZPY[8794] = (new short[] {
-			135
-		});
-		HZPY[8795] = (new short[] {
-			31
-		});
-		HZPY[8796] = (new short[] {
-			229
-		});
-		HZPY[8797] = (new short[] {
-			115
-		});
-		HZPY[8798] = (new short[] {
-			5
-		});
-		HZPY[8799] = (new short[] {
-			401
-		});
-		HZPY[8800] = (new short[] {
-			165
-		});
-		HZPY[8801] = (new short[] {
-			165
-		});
-		HZPY[8802] = (new short[] {
-			214
-		});
-		HZPY[8803] = (new short[] {
-			343
-		});
-		HZPY[8804] = (new short[] {
-			186
-		});
-		HZPY[8805] = (new short[] {
-			267
-		});
-		HZPY[8806] = (new short[] {
-			352
-		});
-		HZPY[8807] = (new short[] {
-			365
-		});
-		HZPY[8808] = (new short[] {
-			94
-		});
-		HZPY[8809] = (new short[] {
-			365
-		});
-		HZPY[8810] = (new short[] {
-			376
-		});
-		HZPY[8811] = (new short[] {
-			130
-		});
-		HZPY[8812] = (new short[] {
-			15
-		});
-		HZPY[8813] = (new short[] {
-			203
-		});
-		HZPY[8814] = (new short[] {
-			107
-		});
-		HZPY[8815] = (new short[] {
-			62
-		});
-		HZPY[8816] = (new short[] {
-			128
-		});
-		HZPY[8817] = (new short[] {
-			354
-		});
-		HZPY[8818] = (new short[] {
-			354
-		});
-		HZPY[8819] = (new short[] {
-			229
-		});
-		HZPY[8820] = (new short[] {
-			121
-		});
-		HZPY[8821] = (new short[] {
-			178
-		});
-		HZPY[8822] = (new short[] {
-			384
-		});
-		HZPY[8823] = (new short[] {
-			404
-		});
-		HZPY[8824] = (new short[] {
-			140
-		});
-		HZPY[8825] = (new short[] {
-			389
-		});
-		HZPY[8826] = (new short[] {
-			355
-		});
-		HZPY[8827] = (new short[] {
-			37
-		});
-		HZPY[8828] = (new short[] {
-			408
-		});
-		HZPY[8829] = (new short[] {
-			381
-		});
-		HZPY[8830] = (new short[] {
-			381
-		});
-		HZPY[8831] = (new short[] {
-			23
-		});
-		HZPY[8832] = (new short[] {
-			366
-		});
-		HZPY[8833] = (new short[] {
-			256
-		});
-		HZPY[8834] = (new short[] {
-			399
-		});
-		HZPY[8835] = (new short[] {
-			87
-		});
-		HZPY[8836] = (new short[] {
-			228
-		});
-		HZPY[8837] = (new short[] {
-			108, 139
-		});
-		HZPY[8838] = (new short[] {
-			346
-		});
-		HZPY[8839] = (new short[] {
-			253
-		});
-		HZPY[8840] = (new short[] {
-			369
-		});
-		HZPY[8841] = (new short[] {
-			183
-		});
-		HZPY[8842] = (new short[] {
-			44
-		});
-		HZPY[8843] = (new short[] {
-			247
-		});
-		HZPY[8844] = (new short[] {
-			146
-		});
-		HZPY[8845] = (new short[] {
-			241
-		});
-		HZPY[8846] = (new short[] {
-			365
-		});
-		HZPY[8847] = (new short[] {
-			146
-		});
-		HZPY[8848] = (new short[] {
-			242
-		});
-		HZPY[8849] = (new short[] {
-			209
-		});
-		HZPY[8850] = (new short[] {
-			33
-		});
-		HZPY[8851] = (new short[] {
-			175
-		});
-		HZPY[8852] = (new short[] {
-			108, 268
-		});
-		HZPY[8853] = (new short[] {
-			148
-		});
-		HZPY[8854] = (new short[] {
-			75
-		});
-		HZPY[8855] = (new short[] {
-			107
-		});
-		HZPY[8856] = (new short[] {
-			356
-		});
-		HZPY[8857] = (new short[] {
-			398
-		});
-		HZPY[8858] = (new short[] {
-			107
-		});
-		HZPY[8859] = (new short[] {
-			356
-		});
-		HZPY[8860] = (new short[] {
-			345
-		});
-		HZPY[8861] = (new short[] {
-			259
-		});
-		HZPY[8862] = (new short[] {
-			14
-		});
-		HZPY[8863] = (new short[] {
-			55
-		});
-		HZPY[8864] = (new short[] {
-			351
-		});
-		HZPY[8865] = (new short[] {
-			397
-		});
-		HZPY[8866] = (new short[] {
-			401
-		});
-		HZPY[8867] = (new short[] {
-			150
-		});
-		HZPY[8868] = (new short[] {
-			393
-		});
-		HZPY[8869] = (new short[] {
-			91
-		});
-		HZPY[8870] = (new short[] {
-			5
-		});
-		HZPY[8871] = (new short[] {
-			76
-		});
-		HZPY[8872] = (new short[] {
-			76
-		});
-		HZPY[8873] = (new short[] {
-			178
-		});
-		HZPY[8874] = (new short[] {
-			408
-		});
-		HZPY[8875] = (new short[] {
-			361
-		});
-		HZPY[8876] = (new short[] {
-			141
-		});
-		HZPY[8877] = (new short[] {
-			323
-		});
-		HZPY[8878] = (new short[] {
-			243, 9
-		});
-		HZPY[8879] = (new short[] {
-			139
-		});
-		HZPY[8880] = (new short[] {
-			243
-		});
-		HZPY[8881] = (new short[] {
-			322
-		});
-		HZPY[8882] = (new short[] {
-			322
-		});
-		HZPY[8883] = (new short[] {
-			18
-		});
-		HZPY[8884] = (new short[] {
-			366
-		});
-		HZPY[8885] = (new short[] {
-			334, 70
-		});
-		HZPY[8886] = (new short[] {
-			113
-		});
-		HZPY[8887] = (new short[] {
-			401
-		});
-		HZPY[8888] = (new short[] {
-			389
-		});
-		HZPY[8889] = (new short[] {
-			65
-		});
-		HZPY[8890] = (new short[] {
-			345
-		});
-		HZPY[8891] = (new short[] {
-			303
-		});
-		HZPY[8892] = (new short[] {
-			173
-		});
-		HZPY[8893] = (new short[] {
-			37
-		});
-		HZPY[8894] = (new short[] {
-			252
-		});
-		HZPY[8895] = (new short[] {
-			229
-		});
-		HZPY[8896] = (new short[] {
-			123
-		});
-		HZPY[8897] = (new short[] {
-			312
-		});
-		HZPY[8898] = (new short[] {
-			165
-		});
-		HZPY[8899] = (new short[] {
-			333
-		});
-		HZPY[8900] = (new short[] {
-			135
-		});
-		HZPY[8901] = (new short[] {
-			360
-		});
-		HZPY[8902] = (new short[] {
-			357
-		});
-		HZPY[8903] = (new short[] {
-			267
-		});
-		HZPY[8904] = (new short[] {
-			176
-		});
-		HZPY[8905] = (new short[] {
-			126
-		});
-		HZPY[8906] = (new short[] {
-			366
-		});
-		HZPY[8907] = (new short[] {
-			354
-		});
-		HZPY[8908] = (new short[] {
-			359
-		});
-		HZPY[8909] = (new short[] {
-			352
-		});
-		HZPY[8910] = (new short[] {
-			371
-		});
-		HZPY[8911] = (new short[] {
-			349
-		});
-		HZPY[8912] = (new short[] {
-			400
-		});
-		HZPY[8913] = (new short[] {
-			367
-		});
-		HZPY[8914] = (new short[] {
-			303
-		});
-		HZPY[8915] = (new short[] {
-			345
-		});
-		HZPY[8916] = (new short[] {
-			334
-		});
-		HZPY[8917] = (new short[] {
-			334
-		});
-		HZPY[8918] = (new short[] {
-			381
-		});
-		HZPY[8919] = (new short[] {
-			146
-		});
-		HZPY[8920] = (new short[] {
-			121
-		});
-		HZPY[8921] = (new short[] {
-			189, 167
-		});
-		HZPY[8922] = (new short[] {
-			351
-		});
-		HZPY[8923] = (new short[] {
-			401
-		});
-		HZPY[8924] = (new short[] {
-			361
-		});
-		HZPY[8925] = (new short[] {
-			397
-		});
-		HZPY[8926] = (new short[] {
-			253
-		});
-		HZPY[8927] = (new short[] {
-			365, 371
-		});
-		HZPY[8928] = (new short[] {
-			128
-		});
-		HZPY[8929] = (new short[] {
-			107
-		});
-		HZPY[8930] = (new short[] {
-			394
-		});
-		HZPY[8931] = (new short[] {
-			128
-		});
-		HZPY[8932] = (new short[] {
-			149
-		});
-		HZPY[8933] = (new short[] {
-			229
-		});
-		HZPY[8934] = (new short[] {
-			84
-		});
-		HZPY[8935] = (new short[] {
-			298
-		});
-		HZPY[8936] = (new short[] {
-			368
-		});
-		HZPY[8937] = (new short[] {
-			128
-		});
-		HZPY[8938] = (new short[] {
-			229
-		});
-		HZPY[8939] = (new short[] {
-			324
-		});
-		HZPY[8940] = (new short[] {
-			137
-		});
-		HZPY[8941] = (new short[] {
-			275
-		});
-		HZPY[8942] = (new short[] {
-			229
-		});
-		HZPY[8943] = (new short[] {
-			350
-		});
-		HZPY[8944] = (new short[] {
-			91
-		});
-		HZPY[8945] = (new short[] {
-			139
-		});
-		HZPY[8946] = (new short[] {
-			34
-		});
-		HZPY[8947] = (new short[] {
-			255
-		});
-		HZPY[8948] = (new short[] {
-			138, 333
-		});
-		HZPY[8949] = (new short[] {
-			408
-		});
-		HZPY[8950] = (new short[] {
-			333
-		});
-		HZPY[8951] = (new short[] {
-			343
-		});
-		HZPY[8952] = (new short[] {
-			112
-		});
-		HZPY[8953] = (new short[] {
-			246
-		});
-		HZPY[8954] = (new short[] {
-			166
-		});
-		HZPY[8955] = (new short[] {
-			296
-		});
-		HZPY[8956] = (new short[] {
-			123
-		});
-		HZPY[8957] = (new short[] {
-			88
-		});
-		HZPY[8958] = (new short[] {
-			37
-		});
-		HZPY[8959] = (new short[] {
-			279
-		});
-		HZPY[8960] = (new short[] {
-			123
-		});
-		HZPY[8961] = (new short[] {
-			229
-		});
-		HZPY[8962] = (new short[] {
-			305
-		});
-		HZPY[8963] = (new short[] {
-			166
-		});
-		HZPY[8964] = (new short[] {
-			363
-		});
-		HZPY[8965] = (new short[] {
-			363
-		});
-		HZPY[8966] = (new short[] {
-			143
-		});
-		HZPY[8967] = (new short[] {
-			354
-		});
-		HZPY[8968] = (new short[] {
-			350
-		});
-		HZPY[8969] = (new short[] {
-			365
-		});
-		HZPY[8970] = (new short[] {
-			113
-		});
-		HZPY[8971] = (new short[] {
-			405
-		});
-		HZPY[8972] = (new short[] {
-			266, 144
-		});
-		HZPY[8973] = (new short[] {
-			63, 329
-		});
-		HZPY[8974] = (new short[] {
-			355
-		});
-		HZPY[8975] = (new short[] {
-			256
-		});
-		HZPY[8976] = (new short[] {
-			349
-		});
-		HZPY[8977] = (new short[] {
-			229
-		});
-		HZPY[8978] = (new short[] {
-			229
-		});
-		HZPY[8979] = (new short[] {
-			113
-		});
-		HZPY[8980] = (new short[] {
-			365
-		});
-		HZPY[8981] = (new short[] {
-			126
-		});
-		HZPY[8982] = (new short[] {
-			198
-		});
-		HZPY[8983] = (new short[] {
-			141
-		});
-		HZPY[8984] = (new short[] {
-			59, 325
-		});
-		HZPY[8985] = (new short[] {
-			10
-		});
-		HZPY[8986] = (new short[] {
-			87
-		});
-		HZPY[8987] = (new short[] {
-			177
-		});
-		HZPY[8988] = (new short[] {
-			161
-		});
-		HZPY[8989] = (new short[] {
-			129
-		});
-		HZPY[8990] = (new short[] {
-			45
-		});
-		HZPY[8991] = (new short[] {
-			350
-		});
-		HZPY[8992] = (new short[] {
-			52
-		});
-		HZPY[8993] = (new short[] {
-			349, 207
-		});
-		HZPY[8994] = (new short[] {
-			121
-		});
-		HZPY[8995] = (new short[] {
-			141
-		});
-		HZPY[8996] = (new short[] {
-			91
-		});
-		HZPY[8997] = (new short[] {
-			378
-		});
-		HZPY[8998] = (new short[] {
-			135
-		});
-		HZPY[8999] = (new short[] {
-			48
-		});
-		HZPY[9000] = (new short[] {
-			88
-		});
-		HZPY[9001] = (new short[] {
-			252
-		});
-		HZPY[9002] = (new short[] {
-			264
-		});
-		HZPY[9003] = (new short[] {
-			52
-		});
-		HZPY[9004] = (new short[] {
-			350
-		});
-		HZPY[9005] = (new short[] {
-			264
-		});
-		HZPY[9006] = (new short[] {
-			356
-		});
-		HZPY[9007] = (new short[] {
-			408, 33
-		});
-		HZPY[9008] = (new short[] {
-			365
-		});
-		HZPY[9009] = (new short[] {
-			365
-		});
-		HZPY[9010] = (new short[] {
-			369
-		});
-		HZPY[9011] = (new short[] {
-			143
-		});
-		HZPY[9012] = (new short[] {
-			376
-		});
-		HZPY[9013] = (new short[] {
-			95
-		});
-		HZPY[9014] = (new short[] {
-			272
-		});
-		HZPY[9015] = (new short[] {
-			247
-		});
-		HZPY[9016] = (new short[] {
-			365
-		});
-		HZPY[9017] = (new short[] {
-			229
-		});
-		HZPY[9018] = (new short[] {
-			302
-		});
-		HZPY[9019] = (new short[] {
-			32
-		});
-		HZPY[9020] = (new short[] {
-			298
-		});
-		HZPY[9021] = (new short[] {
-			229
-		});
-		HZPY[9022] = (new short[] {
-			229
-		});
-		HZPY[9023] = (new short[] {
-			229
-		});
-		HZPY[9024] = (new short[] {
-			229
-		});
-		HZPY[9025] = (new short[] {
-			35
-		});
-		HZPY[9026] = (new short[] {
-			116
-		});
-		HZPY[9027] = (new short[] {
-			160
-		});
-		HZPY[9028] = (new short[] {
-			399
-		});
-		HZPY[9029] = (new short[] {
-			73
-		});
-		HZPY[9030] = (new short[] {
-			364
-		});
-		HZPY[9031] = (new short[] {
-			128
-		});
-		HZPY[9032] = (new short[] {
-			88
-		});
-		HZPY[9033] = (new short[] {
-			173
-		});
-		HZPY[9034] = (new short[] {
-			361
-		});
-		HZPY[9035] = (new short[] {
-			357
-		});
-		HZPY[9036] = (new short[] {
-			127
-		});
-		HZPY[9037] = (new short[] {
-			135
-		});
-		HZPY[9038] = (new short[] {
-			133
-		});
-		HZPY[9039] = (new short[] {
-			13
-		});
-		HZPY[9040] = (new short[] {
-			372
-		});
-		HZPY[9041] = (new short[] {
-			401
-		});
-		HZPY[9042] = (new short[] {
-			345
-		});
-		HZPY[9043] = (new short[] {
-			337
-		});
-		HZPY[9044] = (new short[] {
-			330
-		});
-		HZPY[9045] = (new short[] {
-			350
-		});
-		HZPY[9046] = (new short[] {
-			235, 361
-		});
-		HZPY[9047] = (new short[] {
-			235
-		});
-		HZPY[9048] = (new short[] {
-			31
-		});
-		HZPY[9049] = (new short[] {
-			365
-		});
-		HZPY[9050] = (new short[] {
-			139
-		});
-		HZPY[9051] = (new short[] {
-			139
-		});
-		HZPY[9052] = (new short[] {
-			376
-		});
-		HZPY[9053] = (new short[] {
-			197
-		});
-		HZPY[9054] = (new short[] {
-			294
-		});
-		HZPY[9055] = (new short[] {
-			349
-		});
-		HZPY[9056] = (new short[] {
-			368
-		});
-		HZPY[9057] = (new short[] {
-			356
-		});
-		HZPY[9058] = (new short[] {
-			264
-		});
-		HZPY[9059] = (new short[] {
-			280
-		});
-		HZPY[9060] = (new short[] {
-			197
-		});
-		HZPY[9061] = (new short[] {
-			126
-		});
-		HZPY[9062] = (new short[] {
-			360
-		});
-		HZPY[9063] = (new short[] {
-			393
-		});
-		HZPY[9064] = (new short[] {
-			345
-		});
-		HZPY[9065] = (new short[] {
-			84
-		});
-		HZPY[9066] = (new short[] {
-			265
-		});
-		HZPY[9067] = (new short[] {
-			318
-		});
-		HZPY[9068] = (new short[] {
-			366
-		});
-		HZPY[9069] = (new short[] {
-			176
-		});
-		HZPY[9070] = (new short[] {
-			401
-		});
-		HZPY[9071] = (new short[] {
-			229
-		});
-		HZPY[9072] = (new short[] {
-			96
-		});
-		HZPY[9073] = (new short[] {
-			104
-		});
-		HZPY[9074] = (new short[] {
-			9
-		});
-		HZPY[9075] = (new short[] {
-			123
-		});
-		HZPY[9076] = (new short[] {
-			379
-		});
-		HZPY[9077] = (new short[] {
-			351
-		});
-		HZPY[9078] = (new short[] {
-			229
-		});
-		HZPY[9079] = (new short[] {
-			229
-		});
-		HZPY[9080] = (new short[] {
-			14
-		});
-		HZPY[9081] = (new short[] {
-			345
-		});
-		HZPY[9082] = (new short[] {
-			338
-		});
-		HZPY[9083] = (new short[] {
-			324
-		});
-		HZPY[9084] = (new short[] {
-			33
-		});
-		HZPY[9085] = (new short[] {
-			296
-		});
-		HZPY[9086] = (new short[] {
-			379
-		});
-		HZPY[9087] = (new short[] {
-			19
-		});
-		HZPY[9088] = (new short[] {
-			127
-		});
-		HZPY[9089] = (new short[] {
-			355
-		});
-		HZPY[9090] = (new short[] {
-			350
-		});
-		HZPY[9091] = (new short[] {
-			349
-		});
-		HZPY[9092] = (new short[] {
-			350
-		});
-		HZPY[9093] = (new short[] {
-			379
-		});
-		HZPY[9094] = (new short[] {
-			116
-		});
-		HZPY[9095] = (new short[] {
-			116
-		});
-		HZPY[9096] = (new short[] {
-			350
-		});
-		HZPY[9097] = (new short[] {
-			379
-		});
-		HZPY[9098] = (new short[] {
-			358
-		});
-		HZPY[9099] = (new short[] {
-			212
-		});
-		HZPY[9100] = (new short[] {
-			149
-		});
-		HZPY[9101] = (new short[] {
-			229
-		});
-		HZPY[9102] = (new short[] {
-			367
-		});
-		HZPY[9103] = (new short[] {
-			363
-		});
-		HZPY[9104] = (new short[] {
-			205
-		});
-		HZPY[9105] = (new short[] {
-			173
-		});
-		HZPY[9106] = (new short[] {
-			372
-		});
-		HZPY[9107] = (new short[] {
-			346
-		});
-		HZPY[9108] = (new short[] {
-			279
-		});
-		HZPY[9109] = (new short[] {
-			229
-		});
-		HZPY[9110] = (new short[] {
-			229
-		});
-		HZPY[9111] = (new short[] {
-			259
-		});
-		HZPY[9112] = (new short[] {
-			179
-		});
-		HZPY[9113] = (new short[] {
-			350
-		});
-		HZPY[9114] = (new short[] {
-			13
-		});
-		HZPY[9115] = (new short[] {
-			15
-		});
-		HZPY[9116] = (new short[] {
-			48
-		});
-		HZPY[9117] = (new short[] {
-			183
-		});
-		HZPY[9118] = (new short[] {
-			133
-		});
-		HZPY[9119] = (new short[] {
-			305, 304
-		});
-		HZPY[9120] = (new short[] {
-			369
-		});
-		HZPY[9121] = (new short[] {
-			182
-		});
-		HZPY[9122] = (new short[] {
-			88
-		});
-		HZPY[9123] = (new short[] {
-			318
-		});
-		HZPY[9124] = (new short[] {
-			369
-		});
-		HZPY[9125] = (new short[] {
-			328
-		});
-		HZPY[9126] = (new short[] {
-			143
-		});
-		HZPY[9127] = (new short[] {
-			410
-		});
-		HZPY[9128] = (new short[] {
-			379, 376
-		});
-		HZPY[9129] = (new short[] {
-			123
-		});
-		HZPY[9130] = (new short[] {
-			369
-		});
-		HZPY[9131] = (new short[] {
-			398
-		});
-		HZPY[9132] = (new short[] {
-			4
-		});
-		HZPY[9133] = (new short[] {
-			345
-		});
-		HZPY[9134] = (new short[] {
-			175
-		});
-		HZPY[9135] = (new short[] {
-			113
-		});
-		HZPY[9136] = (new short[] {
-			238
-		});
-		HZPY[9137] = (new short[] {
-			275
-		});
-		HZPY[9138] = (new short[] {
-			139
-		});
-		HZPY[9139] = (new short[] {
-			193
-		});
-		HZPY[9140] = (new short[] {
-			229
-		});
-		HZPY[9141] = (new short[] {
-			297
-		});
-		HZPY[9142] = (new short[] {
-			51
-		});
-		HZPY[9143] = (new short[] {
-			388
-		});
-		HZPY[9144] = (new short[] {
-			133
-		});
-		HZPY[9145] = (new short[] {
-			350
-		});
-		HZPY[9146] = (new short[] {
-			350
-		});
-		HZPY[9147] = (new short[] {
-			350
-		});
-		HZPY[9148] = (new short[] {
-			369
-		});
-		HZPY[9149] = (new short[] {
-			354
-		});
-		HZPY[9150] = (new short[] {
-			37
-		});
-		HZPY[9151] = (new short[] {
-			127
-		});
-		HZPY[9152] = (new short[] {
-			31
-		});
-		HZPY[9153] = (new short[] {
-			368
-		});
-		HZPY[9154] = (new short[] {
-			258
-		});
-		HZPY[9155] = (new short[] {
-			272
-		});
-		HZPY[9156] = (new short[] {
-			365
-		});
-		HZPY[9157] = (new short[] {
-			352
-		});
-		HZPY[9158] = (new short[] {
-			260
-		});
-		HZPY[9159] = (new short[] {
-			415
-		});
-		HZPY[9160] = (new short[] {
-			62
-		});
-		HZPY[9161] = (new short[] {
-			75
-		});
-		HZPY[9162] = (new short[] {
-			301
-		});
-		HZPY[9163] = (new short[] {
-			135
-		});
-		HZPY[9164] = (new short[] {
-			87
-		});
-		HZPY[9165] = (new short[] {
-			313
-		});
-		HZPY[9166] = (new short[] {
-			175
-		});
-		HZPY[9167] = (new short[] {
-			376
-		});
-		HZPY[9168] = (new short[] {
-			177
-		});
-		HZPY[9169] = (new short[] {
-			334
-		});
-		HZPY[9170] = (new short[] {
-			298
-		});
-		HZPY[9171] = (new short[] {
-			87
-		});
-		HZPY[9172] = (new short[] {
-			84
-		});
-		HZPY[9173] = (new short[] {
-			365
-		});
-		HZPY[9174] = (new short[] {
-			363
-		});
-		HZPY[9175] = (new short[] {
-			165
-		});
-		HZPY[9176] = (new short[] {
-			197
-		});
-		HZPY[9177] = (new short[] {
-			324
-		});
-		HZPY[9178] = (new short[] {
-			369
-		});
-		HZPY[9179] = (new short[] {
-			138
-		});
-		HZPY[9180] = (new short[] {
-			198
-		});
-		HZPY[9181] = (new short[] {
-			229
-		});
-		HZPY[9182] = (new short[] {
-			229
-		});
-		HZPY[9183] = (new short[] {
-			372
-		});
-		HZPY[9184] = (new short[] {
-			376
-		});
-		HZPY[9185] = (new short[] {
-			369
-		});
-		HZPY[9186] = (new short[] {
-			362
-		});
-		HZPY[9187] = (new short[] {
-			165
-		});
-		HZPY[9188] = (new short[] {
-			322
-		});
-		HZPY[9189] = (new short[] {
-			384
-		});
-		HZPY[9190] = (new short[] {
-			23
-		});
-		HZPY[9191] = (new short[] {
-			318
-		});
-		HZPY[9192] = (new short[] {
-			350
-		});
-		HZPY[9193] = (new short[] {
-			268
-		});
-		HZPY[9194] = (new short[] {
-			48
-		});
-		HZPY[9195] = (new short[] {
-			173
-		});
-		HZPY[9196] = (new short[] {
-			128
-		});
-		HZPY[9197] = (new short[] {
-			401
-		});
-		HZPY[9198] = (new short[] {
-			355
-		});
-		HZPY[9199] = (new short[] {
-			178
-		});
-		HZPY[9200] = (new short[] {
-			345
-		});
-		HZPY[9201] = (new short[] {
-			369
-		});
-		HZPY[9202] = (new short[] {
-			355
-		});
-		HZPY[9203] = (new short[] {
-			393
-		});
-		HZPY[9204] = (new short[] {
-			128
-		});
-		HZPY[9205] = (new short[] {
-			229
-		});
-		HZPY[9206] = (new short[] {
-			229
-		});
-		HZPY[9207] = (new short[] {
-			165
-		});
-		HZPY[9208] = (new short[] {
-			281
-		});
-		HZPY[9209] = (new short[] {
-			352
-		});
-		HZPY[9210] = (new short[] {
-			149
-		});
-		HZPY[9211] = (new short[] {
-			363
-		});
-		HZPY[9212] = (new short[] {
-			137
-		});
-		HZPY[9213] = (new short[] {
-			39
-		});
-		HZPY[9214] = (new short[] {
-			59, 325
-		});
-		HZPY[9215] = (new short[] {
-			367
-		});
-		HZPY[9216] = (new short[] {
-			116
-		});
-		HZPY[9217] = (new short[] {
-			165
-		});
-		HZPY[9218] = (new short[] {
-			15
-		});
-		HZPY[9219] = (new short[] {
-			279
-		});
-		HZPY[9220] = (new short[] {
-			171
-		});
-		HZPY[9221] = (new short[] {
-			207
-		});
-		HZPY[9222] = (new short[] {
-			9
-		});
-		HZPY[9223] = (new short[] {
-			285
-		});
-		HZPY[9224] = (new short[] {
-			63
-		});
-		HZPY[9225] = (new short[] {
-			184
-		});
-		HZPY[9226] = (new short[] {
-			4
-		});
-		HZPY[9227] = (new short[] {
-			363
-		});
-		HZPY[9228] = (new short[] {
-			159
-		});
-		HZPY[9229] = (new short[] {
-			312
-		});
-		HZPY[9230] = (new short[] {
-			229
-		});
-		HZPY[9231] = (new short[] {
-			171
-		});
-		HZPY[9232] = (new short[] {
-			183
-		});
-		HZPY[9233] = (new short[] {
-			143
-		});
-		HZPY[9234] = (new short[] {
-			175
-		});
-		HZPY[9235] = (new short[] {
-			365
-		});
-		HZPY[9236] = (new short[] {
-			350
-		});
-		HZPY[9237] = (new short[] {
-			355
-		});
-		HZPY[9238] = (new short[] {
-			181
-		});
-		HZPY[9239] = (new short[] {
-			365
-		});
-		HZPY[9240] = (new short[] {
-			229
-		});
-		HZPY[9241] = (new short[] {
-			273, 297
-		});
-		HZPY[9242] = (new short[] {
-			378
-		});
-		HZPY[9243] = (new short[] {
-			165
-		});
-		HZPY[9244] = (new short[] {
-			48
-		});
-		HZPY[9245] = (new short[] {
-			143, 135
-		});
-		HZPY[9246] = (new short[] {
-			334
-		});
-		HZPY[9247] = (new short[] {
-			106
-		});
-		HZPY[9248] = (new short[] {
-			229
-		});
-		HZPY[9249] = (new short[] {
-			34
-		});
-		HZPY[9250] = (new short[] {
-			200
-		});
-		HZPY[9251] = (new short[] {
-			324
-		});
-		HZPY[9252] = (new short[] {
-			165
-		});
-		HZPY[9253] = (new short[] {
-			401
-		});
-		HZPY[9254] = (new short[] {
-			165
-		});
-		HZPY[9255] = (new short[] {
-			178
-		});
-		HZPY[9256] = (new short[] {
-			51
-		});
-		HZPY[9257] = (new short[] {
-			376
-		});
-		HZPY[9258] = (new short[] {
-			402, 393
-		});
-		HZPY[9259] = (new short[] {
-			165
-		});
-		HZPY[9260] = (new short[] {
-			239
-		});
-		HZPY[9261] = (new short[] {
-			397
-		});
-		HZPY[9262] = (new short[] {
-			243
-		});
-		HZPY[9263] = (new short[] {
-			393
-		});
-		HZPY[9264] = (new short[] {
-			377
-		});
-		HZPY[9265] = (new short[] {
-			1
-		});
-		HZPY[9266] = (new short[] {
-			345
-		});
-		HZPY[9267] = (new short[] {
-			229
-		});
-		HZPY[9268] = (new short[] {
-			143
-		});
-		HZPY[9269] = (new short[] {
-			143
-		});
-		HZPY[9270] = (new short[] {
-			91
-		});
-		HZPY[9271] = (new short[] {
-			368
-		});
-		HZPY[9272] = (new short[] {
-			5
-		});
-		HZPY[9273] = (new short[] {
-			67
-		});
-		HZPY[9274] = (new short[] {
-			368
-		});
-		HZPY[9275] = (new short[] {
-			367
-		});
-		HZPY[9276] = (new short[] {
-			412
-		});
-		HZPY[9277] = (new short[] {
-			309
-		});
-		HZPY[9278] = (new short[] {
-			82
-		});
-		HZPY[9279] = (new short[] {
-			241, 259, 7
-		});
-		HZPY[9280] = (new short[] {
-			42
-		});
-		HZPY[9281] = (new short[] {
-			150
-		});
-		HZPY[9282] = (new short[] {
-			383
-		});
-		HZPY[9283] = (new short[] {
-			383
-		});
-		HZPY[9284] = (new short[] {
-			259
-		});
-		HZPY[9285] = (new short[] {
-			67
-		});
-		HZPY[9286] = (new short[] {
-			259
-		});
-		HZPY[9287] = (new short[] {
-			248
-		});
-		HZPY[9288] = (new short[] {
-			7
-		});
-		HZPY[9289] = (new short[] {
-			241
-		});
-		HZPY[9290] = (new short[] {
-			298
-		});
-		HZPY[9291] = (new short[] {
-			133
-		});
-		HZPY[9292] = (new short[] {
-			240
-		});
-		HZPY[9293] = (new short[] {
-			72
-		});
-		HZPY[9294] = (new short[] {
-			374
-		});
-		HZPY[9295] = (new short[] {
-			335
-		});
-		HZPY[9296] = (new short[] {
-			335
-		});
-		HZPY[9297] = (new short[] {
-			14
-		});
-		HZPY[9298] = (new short[] {
-			67
-		});
-		HZPY[9299] = (new short[] {
-			8
-		});
-		HZPY[9300] = (new short[] {
-			19
-		});
-		HZPY[9301] = (new short[] {
-			8
-		});
-		HZPY[9302] = (new short[] {
-			375
-		});
-		HZPY[9303] = (new short[] {
-			229
-		});
-		HZPY[9304] = (new short[] {
-			72
-		});
-		HZPY[9305] = (new short[] {
-			364
-		});
-		HZPY[9306] = (new short[] {
-			36
-		});
-		HZPY[9307] = (new short[] {
-			228
-		});
-		HZPY[9308] = (new short[] {
-			36
-		});
-		HZPY[9309] = (new short[] {
-			251
-		});
-		HZPY[9310] = (new short[] {
-			140
-		});
-		HZPY[9311] = (new short[] {
-			208, 209
-		});
-		HZPY[9312] = (new short[] {
-			321
-		});
-		HZPY[9313] = (new short[] {
-			209
-		});
-		HZPY[9314] = (new short[] {
-			167
-		});
-		HZPY[9315] = (new short[] {
-			276
-		});
-		HZPY[9316] = (new short[] {
-			194
-		});
-		HZPY[9317] = (new short[] {
-			85
-		});
-		HZPY[9318] = (new short[] {
-			195
-		});
-		HZPY[9319] = (new short[] {
-			209
-		});
-		HZPY[9320] = (new short[] {
-			276
-		});
-		HZPY[9321] = (new short[] {
-			349
-		});
-		HZPY[9322] = (new short[] {
-			365
-		});
-		HZPY[9323] = (new short[] {
-			83
-		});
-		HZPY[9324] = (new short[] {
-			10
-		});
-		HZPY[9325] = (new short[] {
-			313
-		});
-		HZPY[9326] = (new short[] {
-			133
-		});
-		HZPY[9327] = (new short[] {
-			103
-		});
-		HZPY[9328] = (new short[] {
-			375
-		});
-		HZPY[9329] = (new short[] {
-			103
-		});
-		HZPY[9330] = (new short[] {
-			302
-		});
-		HZPY[9331] = (new short[] {
-			209
-		});
-		HZPY[9332] = (new short[] {
-			63
-		});
-		HZPY[9333] = (new short[] {
-			258
-		});
-		HZPY[9334] = (new short[] {
-			267
-		});
-		HZPY[9335] = (new short[] {
-			267
-		});
-		HZPY[9336] = (new short[] {
-			409
-		});
-		HZPY[9337] = (new short[] {
-			326
-		});
-		HZPY[9338] = (new short[] {
-			350
-		});
-		HZPY[9339] = (new short[] {
-			194
-		});
-		HZPY[9340] = (new short[] {
-			152
-		});
-		HZPY[9341] = (new short[] {
-			258
-		});
-		HZPY[9342] = (new short[] {
-			349
-		});
-		HZPY[9343] = (new short[] {
-			103
-		});
-		HZPY[9344] = (new short[] {
-			350
-		});
-		HZPY[9345] = (new short[] {
-			171
-		});
-		HZPY[9346] = (new short[] {
-			171
-		});
-		HZPY[9347] = (new short[] {
-			254
-		});
-		HZPY[9348] = (new short[] {
-			131
-		});
-		HZPY[9349] = (new short[] {
-			95
-		});
-		HZPY[9350] = (new short[] {
-			398
-		});
-		HZPY[9351] = (new short[] {
-			11
-		});
-		HZPY[9352] = (new short[] {
-			267
-		});
-		HZPY[9353] = (new short[] {
-			284
-		});
-		HZPY[9354] = (new short[] {
-			72
-		});
-		HZPY[9355] = (new short[] {
-			141
-		});
-		HZPY[9356] = (new short[] {
-			132
-		});
-		HZPY[9357] = (new short[] {
-			133, 258
-		});
-		HZPY[9358] = (new short[] {
-			88
-		});
-		HZPY[9359] = (new short[] {
-			248
-		});
-		HZPY[9360] = (new short[] {
-			150
-		});
-		HZPY[9361] = (new short[] {
-			141
-		});
-		HZPY[9362] = (new short[] {
-			149, 63
-		});
-		HZPY[9363] = (new short[] {
-			40
-		});
-		HZPY[9364] = (new short[] {
-			350
-		});
-		HZPY[9365] = (new short[] {
-			10
-		});
-		HZPY[9366] = (new short[] {
-			189
-		});
-		HZPY[9367] = (new short[] {
-			136
-		});
-		HZPY[9368] = (new short[] {
-			191
-		});
-		HZPY[9369] = (new short[] {
-			288
-		});
-		HZPY[9370] = (new short[] {
-			345
-		});
-		HZPY[9371] = (new short[] {
-			171
-		});
-		HZPY[9372] = (new short[] {
-			75
-		});
-		HZPY[9373] = (new short[] {
-			334
-		});
-		HZPY[9374] = (new short[] {
-			291
-		});
-		HZPY[9375] = (new short[] {
-			134
-		});
-		HZPY[9376] = (new short[] {
-			350
-		});
-		HZPY[9377] = (new short[] {
-			171
-		});
-		HZPY[9378] = (new short[] {
-			72
-		});
-		HZPY[9379] = (new short[] {
-			176
-		});
-		HZPY[9380] = (new short[] {
-			247
-		});
-		HZPY[9381] = (new short[] {
-			249
-		});
-		HZPY[9382] = (new short[] {
-			9
-		});
-		HZPY[9383] = (new short[] {
-			350
-		});
-		HZPY[9384] = (new short[] {
-			39
-		});
-		HZPY[9385] = (new short[] {
-			345
-		});
-		HZPY[9386] = (new short[] {
-			160
-		});
-		HZPY[9387] = (new short[] {
-			39
-		});
-		HZPY[9388] = (new short[] {
-			267
-		});
-		HZPY[9389] = (new short[] {
-			267
-		});
-		HZPY[9390] = (new short[] {
-			5
-		});
-		HZPY[9391] = (new short[] {
-			84
-		});
-		HZPY[9392] = (new short[] {
-			265
-		});
-		HZPY[9393] = (new short[] {
-			19
-		});
-		HZPY[9394] = (new short[] {
-			30
-		});
-		HZPY[9395] = (new short[] {
-			46
-		});
-		HZPY[9396] = (new short[] {
-			2, 113
-		});
-		HZPY[9397] = (new short[] {
-			136
-		});
-		HZPY[9398] = (new short[] {
-			405
-		});
-		HZPY[9399] = (new short[] {
-			107
-		});
-		HZPY[9400] = (new short[] {
-			191
-		});
-		HZPY[9401] = (new short[] {
-			375
-		});
-		HZPY[9402] = (new short[] {
-			148
-		});
-		HZPY[9403] = (new short[] {
-			19
-		});
-		HZPY[9404] = (new short[] {
-			122
-		});
-		HZPY[9405] = (new short[] {
-			364
-		});
-		HZPY[9406] = (new short[] {
-			113
-		});
-		HZPY[9407] = (new short[] {
-			126
-		});
-		HZPY[9408] = (new short[] {
-			405
-		});
-		HZPY[9409] = (new short[] {
-			379
-		});
-		HZPY[9410] = (new short[] {
-			159
-		});
-		HZPY[9411] = (new short[] {
-			228
-		});
-		HZPY[9412] = (new short[] {
-			63
-		});
-		HZPY[9413] = (new short[] {
-			263
-		});
-		HZPY[9414] = (new short[] {
-			399
-		});
-		HZPY[9415] = (new short[] {
-			379
-		});
-		HZPY[9416] = (new short[] {
-			10
-		});
-		HZPY[9417] = (new short[] {
-			247
-		});
-		HZPY[9418] = (new short[] {
-			141
-		});
-		HZPY[9419] = (new short[] {
-			221
-		});
-		HZPY[9420] = (new short[] {
-			302
-		});
-		HZPY[9421] = (new short[] {
-			243
-		});
-		HZPY[9422] = (new short[] {
-			351
-		});
-		HZPY[9423] = (new short[] {
-			340
-		});
-		HZPY[9424] = (new short[] {
-			123
-		});
-		HZPY[9425] = (new short[] {
-			178
-		});
-		HZPY[9426] = (new short[] {
-			86
-		});
-		HZPY[9427] = (new short[] {
-			247
-		});
-		HZPY[9428] = (new short[] {
-			221
-		});
-		HZPY[9429] = (new short[] {
-			302
-		});
-		HZPY[9430] = (new short[] {
-			375
-		});
-		HZPY[9431] = (new short[] {
-			102
-		});
-		HZPY[9432] = (new short[] {
-			378
-		});
-		HZPY[9433] = (new short[] {
-			141
-		});
-		HZPY[9434] = (new short[] {
-			57
-		});
-		HZPY[9435] = (new short[] {
-			19
-		});
-		HZPY[9436] = (new short[] {
-			103
-		});
-		HZPY[9437] = (new short[] {
-			352
-		});
-		HZPY[9438] = (new short[] {
-			227
-		});
-		HZPY[9439] = (new short[] {
-			126
-		});
-		HZPY[9440] = (new short[] {
-			118
-		});
-		HZPY[9441] = (new short[] {
-			135, 132
-		});
-		HZPY[9442] = (new short[] {
-			116, 115, 207
-		});
-		HZPY[9443] = (new short[] {
-			393
-		});
-		HZPY[9444] = (new short[] {
-			131
-		});
-		HZPY[9445] = (new short[] {
-			126
-		});
-		HZPY[9446] = (new short[] {
-			296
-		});
-		HZPY[9447] = (new short[] {
-			321
-		});
-		HZPY[9448] = (new short[] {
-			279
-		});
-		HZPY[9449] = (new short[] {
-			304
-		});
-		HZPY[9450] = (new short[] {
-			334
-		});
-		HZPY[9451] = (new short[] {
-			167
-		});
-		HZPY[9452] = (new short[] {
-			72
-		});
-		HZPY[9453] = (new short[] {
-			351
-		});
-		HZPY[9454] = (new short[] {
-			303
-		});
-		HZPY[9455] = (new short[] {
-			157
-		});
-		HZPY[9456] = (new short[] {
-			397
-		});
-		HZPY[9457] = (new short[] {
-			376
-		});
-		HZPY[9458] = (new short[] {
-			319
-		});
-		HZPY[9459] = (new short[] {
-			376
-		});
-		HZPY[9460] = (new short[] {
-			13
-		});
-		HZPY[9461] = (new short[] {
-			194
-		});
-		HZPY[9462] = (new short[] {
-			350
-		});
-		HZPY[9463] = (new short[] {
-			142
-		});
-		HZPY[9464] = (new short[] {
-			171
-		});
-		HZPY[9465] = (new short[] {
-			351
-		});
-		HZPY[9466] = (new short[] {
-			371
-		});
-		HZPY[9467] = (new short[] {
-			317
-		});
-		HZPY[9468] = (new short[] {
-			166
-		});
-		HZPY[9469] = (new short[] {
-			10
-		});
-		HZPY[9470] = (new short[] {
-			398
-		});
-		HZPY[9471] = (new short[] {
-			365
-		});
-		HZPY[9472] = (new short[] {
-			294
-		});
-		HZPY[9473] = (new short[] {
-			171
-		});
-		HZPY[9474] = (new short[] {
-			398
-		});
-		HZPY[9475] = (new short[] {
-			352
-		});
-		HZPY[9476] = (new short[] {
-			138
-		});
-		HZPY[9477] = (new short[] {
-			113
-		});
-		HZPY[9478] = (new short[] {
-			86
-		});
-		HZPY[9479] = (new short[] {
-			367
-		});
-		HZPY[9480] = (new short[] {
-			5, 247
-		});
-		HZPY[9481] = (new short[] {
-			256
-		});
-		HZPY[9482] = (new short[] {
-			221
-		});
-		HZPY[9483] = (new short[] {
-			15
-		});
-		HZPY[9484] = (new short[] {
-			371
-		});
-		HZPY[9485] = (new short[] {
-			171
-		});
-		HZPY[9486] = (new short[] {
-			176
-		});
-		HZPY[9487] = (new short[] {
-			133
-		});
-		HZPY[9488] = (new short[] {
-			259
-		});
-		HZPY[9489] = (new short[] {
-			161
-		});
-		HZPY[9490] = (new short[] {
-			365
-		});
-		HZPY[9491] = (new short[] {
-			110
-		});
-		HZPY[9492] = (new short[] {
-			410
-		});
-		HZPY[9493] = (new short[] {
-			200
-		});
-		HZPY[9494] = (new short[] {
-			32
-		});
-		HZPY[9495] = (new short[] {
-			369
-		});
-		HZPY[9496] = (new short[] {
-			398
-		});
-		HZPY[9497] = (new short[] {
-			397
-		});
-		HZPY[9498] = (new short[] {
-			364
-		});
-		HZPY[9499] = (new short[] {
-			199
-		});
-		HZPY[9500] = (new short[] {
-			22
-		});
-		HZPY[9501] = (new short[] {
-			50
-		});
-		HZPY[9502] = (new short[] {
-			299
-		});
-		HZPY[9503] = (new short[] {
-			176
-		});
-		HZPY[9504] = (new short[] {
-			229
-		});
-		HZPY[9505] = (new short[] {
-			189
-		});
-		HZPY[9506] = (new short[] {
-			123
-		});
-		HZPY[9507] = (new short[] {
-			410
-		});
-		HZPY[9508] = (new short[] {
-			123
-		});
-		HZPY[9509] = (new short[] {
-			345
-		});
-		HZPY[9510] = (new short[] {
-			88
-		});
-		HZPY[9511] = (new short[] {
-			348
-		});
-		HZPY[9512] = (new short[] {
-			377
-		});
-		HZPY[9513] = (new short[] {
-			357
-		});
-		HZPY[9514] = (new short[] {
-			401
-		});
-		HZPY[9515] = (new short[] {
-			195
-		});
-		HZPY[9516] = (new short[] {
-			345
-		});
-		HZPY[9517] = (new short[] {
-			377
-		});
-		HZPY[9518] = (new short[] {
-			352
-		});
-		HZPY[9519] = (new short[] {
-			337
-		});
-		HZPY[9520] = (new short[] {
-			364
-		});
-		HZPY[9521] = (new short[] {
-			215
-		});
-		HZPY[9522] = (new short[] {
-			355, 116
-		});
-		HZPY[9523] = (new short[] {
-			132
-		});
-		HZPY[9524] = (new short[] {
-			122
-		});
-		HZPY[9525] = (new short[] {
-			14
-		});
-		HZPY[9526] = (new short[] {
-			375
-		});
-		HZPY[9527] = (new short[] {
-			375
-		});
-		HZPY[9528] = (new short[] {
-			197
-		});
-		HZPY[9529] = (new short[] {
-			29
-		});
-		HZPY[9530] = (new short[] {
-			367
-		});
-		HZPY[9531] = (new short[] {
-			319
-		});
-		HZPY[9532] = (new short[] {
-			19
-		});
-		HZPY[9533] = (new short[] {
-			205
-		});
-		HZPY[9534] = (new short[] {
-			124
-		});
-		HZPY[9535] = (new short[] {
-			377
-		});
-		HZPY[9536] = (new short[] {
-			315
-		});
-		HZPY[9537] = (new short[] {
-			191
-		});
-		HZPY[9538] = (new short[] {
-			377
-		});
-		HZPY[9539] = (new short[] {
-			56
-		});
-		HZPY[9540] = (new short[] {
-			376
-		});
-		HZPY[9541] = (new short[] {
-			303
-		});
-		HZPY[9542] = (new short[] {
-			115
-		});
-		HZPY[9543] = (new short[] {
-			229
-		});
-		HZPY[9544] = (new short[] {
-			369
-		});
-		HZPY[9545] = (new short[] {
-			396
-		});
-		HZPY[9546] = (new short[] {
-			43
-		});
-		HZPY[9547] = (new short[] {
-			115
-		});
-		HZPY[9548] = (new short[] {
-			193
-		});
-		HZPY[9549] = (new short[] {
-			138
-		});
-		HZPY[9550] = (new short[] {
-			134
-		});
-		HZPY[9551] = (new short[] {
-			207
-		});
-		HZPY[9552] = (new short[] {
-			392
-		});
-		HZPY[9553] = (new short[] {
-			31
-		});
-		HZPY[9554] = (new short[] {
-			4
-		});
-		HZPY[9555] = (new short[] {
-			4
-		});
-		HZPY[9556] = (new short[] {
-			115
-		});
-		HZPY[9557] = (new short[] {
-			52
-		});
-		HZPY[9558] = (new short[] {
-			11
-		});
-		HZPY[9559] = (new short[] {
-			143
-		});
-		HZPY[9560] = (new short[] {
-			13
-		});
-		HZPY[9561] = (new short[] {
-			13
-		});
-		HZPY[9562] = (new short[] {
-			127
-		});
-		HZPY[9563] = (new short[] {
-			20
-		});
-		HZPY[9564] = (new short[] {
-			177
-		});
-		HZPY[9565] = (new short[] {
-			376
-		});
-		HZPY[9566] = (new short[] {
-			334
-		});
-		HZPY[9567] = (new short[] {
-			367
-		});
-		HZPY[9568] = (new short[] {
-			175
-		});
-		HZPY[9569] = (new short[] {
-			312
-		});
-		HZPY[9570] = (new short[] {
-			354
-		});
-		HZPY[9571] = (new short[] {
-			304
-		});
-		HZPY[9572] = (new short[] {
-			229
-		});
-		HZPY[9573] = (new short[] {
-			350
-		});
-		HZPY[9574] = (new short[] {
-			97
-		});
-		HZPY[9575] = (new short[] {
-			142
-		});
-		HZPY[9576] = (new short[] {
-			72
-		});
-		HZPY[9577] = (new short[] {
-			128
-		});
-		HZPY[9578] = (new short[] {
-			157
-		});
-		HZPY[9579] = (new short[] {
-			352
-		});
-		HZPY[9580] = (new short[] {
-			355
-		});
-		HZPY[9581] = (new short[] {
-			321
-		});
-		HZPY[9582] = (new short[] {
-			352
-		});
-		HZPY[9583] = (new short[] {
-			363
-		});
-		HZPY[9584] = (new short[] {
-			227
-		});
-		HZPY[9585] = (new short[] {
-			14
-		});
-		HZPY[9586] = (new short[] {
-			130
-		});
-		HZPY[9587] = (new short[] {
-			231
-		});
-		HZPY[9588] = (new short[] {
-			199
-		});
-		HZPY[9589] = (new short[] {
-			176
-		});
-		HZPY[9590] = (new short[] {
-			215
-		});
-		HZPY[9591] = (new short[] {
-			107
-		});
-		HZPY[9592] = (new short[] {
-			304
-		});
-		HZPY[9593] = (new short[] {
-			183
-		});
-		HZPY[9594] = (new short[] {
-			321
-		});
-		HZPY[9595] = (new short[] {
-			352
-		});
-		HZPY[9596] = (new short[] {
-			200
-		});
-		HZPY[9597] = (new short[] {
-			273
-		});
-		HZPY[9598] = (new short[] {
-			126
-		});
-		HZPY[9599] = (new short[] {
-			215
-		});
-		HZPY[9600] = (new short[] {
-			189
-		});
-		HZPY[9601] = (new short[] {
-			352
-		});
-		HZPY[9602] = (new short[] {
-			256
-		});
-		HZPY[9603] = (new short[] {
-			266
-		});
-		HZPY[9604] = (new short[] {
-			361
-		});
-		HZPY[9605] = (new short[] {
-			202
-		});
-		HZPY[9606] = (new short[] {
-			409
-		});
-		HZPY[9607] = (new short[] {
-			184, 307, 312
-		});
-		HZPY[9608] = (new short[] {
-			183
-		});
-		HZPY[9609] = (new short[] {
-			376
-		});
-		HZPY[9610] = (new short[] {
-			316
-		});
-		HZPY[9611] = (new short[] {
-			344
-		});
-		HZPY[9612] = (new short[] {
-			265
-		});
-		HZPY[9613] = (new short[] {
-			92
-		});
-		HZPY[9614] = (new short[] {
-			68
-		});
-		HZPY[9615] = (new short[] {
-			168
-		});
-		HZPY[9616] = (new short[] {
-			5
-		});
-		HZPY[9617] = (new short[] {
-			131
-		});
-		HZPY[9618] = (new short[] {
-			121
-		});
-		HZPY[9619] = (new short[] {
-			63
-		});
-		HZPY[9620] = (new short[] {
-			42
-		});
-		HZPY[9621] = (new short[] {
-			94
-		});
-		HZPY[9622] = (new short[] {
-			140
-		});
-		HZPY[9623] = (new short[] {
-			376
-		});
-		HZPY[9624] = (new short[] {
-			256
-		});
-		HZPY[9625] = (new short[] {
-			376
-		});
-		HZPY[9626] = (new short[] {
-			366, 32
-		});
-		HZPY[9627] = (new short[] {
-			191
-		});
-		HZPY[9628] = (new short[] {
-			121
-		});
-		HZPY[9629] = (new short[] {
-			349
-		});
-		HZPY[9630] = (new short[] {
-			91
-		});
-		HZPY[9631] = (new short[] {
-			204, 346
-		});
-		HZPY[9632] = (new short[] {
-			136
-		});
-		HZPY[9633] = (new short[] {
-			364
-		});
-		HZPY[9634] = (new short[] {
-			17, 87
-		});
-		HZPY[9635] = (new short[] {
-			14
-		});
-		HZPY[9636] = (new short[] {
-			12
-		});
-		HZPY[9637] = (new short[] {
-			378
-		});
-		HZPY[9638] = (new short[] {
-			143
-		});
-		HZPY[9639] = (new short[] {
-			379
-		});
-		HZPY[9640] = (new short[] {
-			143
-		});
-		HZPY[9641] = (new short[] {
-			343
-		});
-		HZPY[9642] = (new short[] {
-			133
-		});
-		HZPY[9643] = (new short[] {
-			197
-		});
-		HZPY[9644] = (new short[] {
-			57
-		});
-		HZPY[9645] = (new short[] {
-			247
-		});
-		HZPY[9646] = (new short[] {
-			345
-		});
-		HZPY[9647] = (new short[] {
-			126
-		});
-		HZPY[9648] = (new short[] {
-			352
-		});
-		HZPY[9649] = (new short[] {
-			259
-		});
-		HZPY[9650] = (new short[] {
-			178
-		});
-		HZPY[9651] = (new short[] {
-			56
-		});
-		HZPY[9652] = (new short[] {
-			369
-		});
-		HZPY[9653] = (new short[] {
-			2
-		});
-		HZPY[9654] = (new short[] {
-			252
-		});
-		HZPY[9655] = (new short[] {
-			65
-		});
-		HZPY[9656] = (new short[] {
-			91
-		});
-		HZPY[9657] = (new short[] {
-			361
-		});
-		HZPY[9658] = (new short[] {
-			350
-		});
-		HZPY[9659] = (new short[] {
-			19
-		});
-		HZPY[9660] = (new short[] {
-			47
-		});
-		HZPY[9661] = (new short[] {
-			102
-		});
-		HZPY[9662] = (new short[] {
-			132
-		});
-		HZPY[9663] = (new short[] {
-			298
-		});
-		HZPY[9664] = (new short[] {
-			253
-		});
-		HZPY[9665] = (new short[] {
-			47
-		});
-		HZPY[9666] = (new short[] {
-			150
-		});
-		HZPY[9667] = (new short[] {
-			272
-		});
-		HZPY[9668] = (new short[] {
-			302
-		});
-		HZPY[9669] = (new short[] {
-			301
-		});
-		HZPY[9670] = (new short[] {
-			369
-		});
-		HZPY[9671] = (new short[] {
-			412
-		});
-		HZPY[9672] = (new short[] {
-			132
-		});
-		HZPY[9673] = (new short[] {
-			204
-		});
-		HZPY[9674] = (new short[] {
-			296
-		});
-		HZPY[9675] = (new short[] {
-			179
-		});
-		HZPY[9676] = (new short[] {
-			13
-		});
-		HZPY[9677] = (new short[] {
-			396
-		});
-		HZPY[9678] = (new short[] {
-			396
-		});
-		HZPY[9679] = (new short[] {
-			143
-		});
-		HZPY[9680] = (new short[] {
-			83
-		});
-		HZPY[9681] = (new short[] {
-			181
-		});
-		HZPY[9682] = (new short[] {
-			137
-		});
-		HZPY[9683] = (new short[] {
-			135
-		});
-		HZPY[9684] = (new short[] {
-			133
-		});
-		HZPY[9685] = (new short[] {
-			171
-		});
-		HZPY[9686] = (new short[] {
-			107
-		});
-		HZPY[9687] = (new short[] {
-			352
-		});
-		HZPY[9688] = (new short[] {
-			400
-		});
-		HZPY[9689] = (new short[] {
-			101
-		});
-		HZPY[9690] = (new short[] {
-			365
-		});
-		HZPY[9691] = (new short[] {
-			359
-		});
-		HZPY[9692] = (new short[] {
-			366
-		});
-		HZPY[9693] = (new short[] {
-			360
-		});
-		HZPY[9694] = (new short[] {
-			189
-		});
-		HZPY[9695] = (new short[] {
-			316
-		});
-		HZPY[9696] = (new short[] {
-			401
-		});
-		HZPY[9697] = (new short[] {
-			262
-		});
-		HZPY[9698] = (new short[] {
-			151
-		});
-		HZPY[9699] = (new short[] {
-			363
-		});
-		HZPY[9700] = (new short[] {
-			9
-		});
-		HZPY[9701] = (new short[] {
-			82
-		});
-		HZPY[9702] = (new short[] {
-			353
-		});
-		HZPY[9703] = (new short[] {
-			367
-		});
-		HZPY[9704] = (new short[] {
-			351
-		});
-		HZPY[9705] = (new short[] {
-			119, 114
-		});
-		HZPY[9706] = (new short[] {
-			108
-		});
-		HZPY[9707] = (new short[] {
-			38
-		});
-		HZPY[9708] = (new short[] {
-			360
-		});
-		HZPY[9709] = (new short[] {
-			7
-		});
-		HZPY[9710] = (new short[] {
-			244
-		});
-		HZPY[9711] = (new short[] {
-			229
-		});
-		HZPY[9712] = (new short[] {
-			58
-		});
-		HZPY[9713] = (new short[] {
-			372
-		});
-		HZPY[9714] = (new short[] {
-			129, 128
-		});
-		HZPY[9715] = (new short[] {
-			346
-		});
-		HZPY[9716] = (new short[] {
-			77
-		});
-		HZPY[9717] = (new short[] {
-			36
-		});
-		HZPY[9718] = (new short[] {
-			329, 63
-		});
-		HZPY[9719] = (new short[] {
-			349
-		});
-		HZPY[9720] = (new short[] {
-			349
-		});
-		HZPY[9721] = (new short[] {
-			36
-		});
-		HZPY[9722] = (new short[] {
-			144
-		});
-		HZPY[9723] = (new short[] {
-			197
-		});
-		HZPY[9724] = (new short[] {
-			10
-		});
-		HZPY[9725] = (new short[] {
-			333
-		});
-		HZPY[9726] = (new short[] {
-			352
-		});
-		HZPY[9727] = (new short[] {
-			46
-		});
-		HZPY[9728] = (new short[] {
-			113
-		});
-		HZPY[9729] = (new short[] {
-			361
-		});
-		HZPY[9730] = (new short[] {
-			365
-		});
-		HZPY[9731] = (new short[] {
-			265
-		});
-		HZPY[9732] = (new short[] {
-			267
-		});
-		HZPY[9733] = (new short[] {
-			166
-		});
-		HZPY[9734] = (new short[] {
-			171
-		});
-		HZPY[9735] = (new short[] {
-			359
-		});
-		HZPY[9736] = (new short[] {
-			91
-		});
-		HZPY[9737] = (new short[] {
-			179
-		});
-		HZPY[9738] = (new short[] {
-			364, 368
-		});
-		HZPY[9739] = (new short[] {
-			350
-		});
-		HZPY[9740] = (new short[] {
-			178
-		});
-		HZPY[9741] = (new short[] {
-			171
-		});
-		HZPY[9742] = (new short[] {
-			137
-		});
-		HZPY[9743] = (new short[] {
-			173
-		});
-		HZPY[9744] = (new short[] {
-			320
-		});
-		HZPY[9745] = (new short[] {
-			320
-		});
-		HZPY[9746] = (new short[] {
-			229
-		});
-		HZPY[9747] = (new short[] {
-			343
-		});
-		HZPY[9748] = (new short[] {
-			65
-		});
-		HZPY[9749] = (new short[] {
-			18
-		});
-		HZPY[9750] = (new short[] {
-			391
-		});
-		HZPY[9751] = (new short[] {
-			52
-		});
-		HZPY[9752] = (new short[] {
-			204
-		});
-		HZPY[9753] = (new short[] {
-			376
-		});
-		HZPY[9754] = (new short[] {
-			141
-		});
-		HZPY[9755] = (new short[] {
-			35
-		});
-		HZPY[9756] = (new short[] {
-			164
-		});
-		HZPY[9757] = (new short[] {
-			346
-		});
-		HZPY[9758] = (new short[] {
-			302
-		});
-		HZPY[9759] = (new short[] {
-			345
-		});
-		HZPY[9760] = (new short[] {
-			65
-		});
-		HZPY[9761] = (new short[] {
-			40
-		});
-		HZPY[9762] = (new short[] {
-			408, 416
-		});
-		HZPY[9763] = (new short[] {
-			244
-		});
-		HZPY[9764] = (new short[] {
-			36
-		});
-		HZPY[9765] = (new short[] {
-			123
-		});
-		HZPY[9766] = (new short[] {
-			256
-		});
-		HZPY[9767] = (new short[] {
-			77
-		});
-		HZPY[9768] = (new short[] {
-			161
-		});
-		HZPY[9769] = (new short[] {
-			32
-		});
-		HZPY[9770] = (new short[] {
-			256
-		});
-		HZPY[9771] = (new short[] {
-			12
-		});
-		HZPY[9772] = (new short[] {
-			343
-		});
-		HZPY[9773] = (new short[] {
-			183
-		});
-		HZPY[9774] = (new short[] {
-			48
-		});
-		HZPY[9775] = (new short[] {
-			106
-		});
-		HZPY[9776] = (new short[] {
-			365
-		});
-		HZPY[9777] = (new short[] {
-			66
-		});
-		HZPY[9778] = (new short[] {
-			10
-		});
-		HZPY[9779] = (new short[] {
-			177
-		});
-		HZPY[9780] = (new short[] {
-			262
-		});
-		HZPY[9781] = (new short[] {
-			247
-		});
-		HZPY[9782] = (new short[] {
-			239, 5
-		});
-		HZPY[9783] = (new short[] {
-			259
-		});
-		HZPY[9784] = (new short[] {
-			408
-		});
-		HZPY[9785] = (new short[] {
-			262
-		});
-		HZPY[9786] = (new short[] {
-			83
-		});
-		HZPY[9787] = (new short[] {
-			229
-		});
-		HZPY[9788] = (new short[] {
-			264
-		});
-		HZPY[9789] = (new short[] {
-			72
-		});
-		HZPY[9790] = (new short[] {
-			136
-		});
-		HZPY[9791] = (new short[] {
-			129, 128
-		});
-		HZPY[9792] = (new short[] {
-			376
-		});
-		HZPY[9793] = (new short[] {
-			195, 197
-		});
-		HZPY[9794] = (new short[] {
-			197
-		});
-		HZPY[9795] = (new short[] {
-			45
-		});
-		HZPY[9796] = (new short[] {
-			361
-		});
-		HZPY[9797] = (new short[] {
-			329
-		});
-		HZPY[9798] = (new short[] {
-			357
-		});
-		HZPY[9799] = (new short[] {
-			56
-		});
-		HZPY[9800] = (new short[] {
-			280
-		});
-		HZPY[9801] = (new short[] {
-			204
-		});
-		HZPY[9802] = (new short[] {
-			396
-		});
-		HZPY[9803] = (new short[] {
-			345
-		});
-		HZPY[9804] = (new short[] {
-			282
-		});
-		HZPY[9805] = (new short[] {
-			126
-		});
-		HZPY[9806] = (new short[] {
-			355
-		});
-		HZPY[9807] = (new short[] {
-			42
-		});
-		HZPY[9808] = (new short[] {
-			133
-		});
-		HZPY[9809] = (new short[] {
-			404
-		});
-		HZPY[9810] = (new short[] {
-			366
-		});
-		HZPY[9811] = (new short[] {
-			173
-		});
-		HZPY[9812] = (new short[] {
-			267
-		});
-		HZPY[9813] = (new short[] {
-			351
-		});
-		HZPY[9814] = (new short[] {
-			73
-		});
-		HZPY[9815] = (new short[] {
-			377
-		});
-		HZPY[9816] = (new short[] {
-			368
-		});
-		HZPY[9817] = (new short[] {
-			215
-		});
-		HZPY[9818] = (new short[] {
-			123
-		});
-		HZPY[9819] = (new short[] {
-			372
-		});
-		HZPY[9820] = (new short[] {
-			376
-		});
-		HZPY[9821] = (new short[] {
-			127
-		});
-		HZPY[9822] = (new short[] {
-			283
-		});
-		HZPY[9823] = (new short[] {
-			291
-		});
-		HZPY[9824] = (new short[] {
-			179
-		});
-		HZPY[9825] = (new short[] {
-			229
-		});
-		HZPY[9826] = (new short[] {
-			279
-		});
-		HZPY[9827] = (new short[] {
-			320
-		});
-		HZPY[9828] = (new short[] {
-			367
-		});
-		HZPY[9829] = (new short[] {
-			346
-		});
-		HZPY[9830] = (new short[] {
-			349
-		});
-		HZPY[9831] = (new short[] {
-			137
-		});
-		HZPY[9832] = (new short[] {
-			137
-		});
-		HZPY[9833] = (new short[] {
-			372
-		});
-		HZPY[9834] = (new short[] {
-			191
-		});
-		HZPY[9835] = (new short[] {
-			325
-		});
-		HZPY[9836] = (new short[] {
-			179
-		});
-		HZPY[9837] = (new short[] {
-			324
-		});
-		HZPY[9838] = (new short[] {
-			171
-		});
-		HZPY[9839] = (new short[] {
-			166
-		});
-		HZPY[9840] = (new short[] {
-			108
-		});
-		HZPY[9841] = (new short[] {
-			330
-		});
-		HZPY[9842] = (new short[] {
-			259
-		});
-		HZPY[9843] = (new short[] {
-			54
-		});
-		HZPY[9844] = (new short[] {
-			143
-		});
-		HZPY[9845] = (new short[] {
-			393
-		});
-		HZPY[9846] = (new short[] {
-			367
-		});
-		HZPY[9847] = (new short[] {
-			1
-		});
-		HZPY[9848] = (new short[] {
-			17
-		});
-		HZPY[9849] = (new short[] {
-			336
-		});
-		HZPY[9850] = (new short[] {
-			32
-		});
-		HZPY[9851] = (new short[] {
-			161
-		});
-		HZPY[9852] = (new short[] {
-			404
-		});
-		HZPY[9853] = (new short[] {
-			48
-		});
-		HZPY[9854] = (new short[] {
-			137
-		});
-		HZPY[9855] = (new short[] {
-			369
-		});
-		HZPY[9856] = (new short[] {
-			52
-		});
-		HZPY[9857] = (new short[] {
-			48
-		});
-		HZPY[9858] = (new short[] {
-			256
-		});
-		HZPY[9859] = (new short[] {
-			171
-		});
-		HZPY[9860] = (new short[] {
-			372
-		});
-		HZPY[9861] = (new short[] {
-			320
-		});
-		HZPY[9862] = (new short[] {
-			265
-		});
-		HZPY[9863] = (new short[] {
-			361
-		});
-		HZPY[9864] = (new short[] {
-			4
-		});
-		HZPY[9865] = (new short[] {
-			173
-		});
-		HZPY[9866] = (new short[] {
-			193
-		});
-		HZPY[9867] = (new short[] {
-			392
-		});
-		HZPY[9868] = (new short[] {
-			371
-		});
-		HZPY[9869] = (new short[] {
-			229
-		});
-		HZPY[9870] = (new short[] {
-			372
-		});
-		HZPY[9871] = (new short[] {
-			345
-		});
-		HZPY[9872] = (new short[] {
-			183
-		});
-		HZPY[9873] = (new short[] {
-			349
-		});
-		HZPY[9874] = (new short[] {
-			62
-		});
-		HZPY[9875] = (new short[] {
-			229
-		});
-		HZPY[9876] = (new short[] {
-			388
-		});
-		HZPY[9877] = (new short[] {
-			363
-		});
-		HZPY[9878] = (new short[] {
-			266
-		});
-		HZPY[9879] = (new short[] {
-			58
-		});
-		HZPY[9880] = (new short[] {
-			177
-		});
-		HZPY[9881] = (new short[] {
-			175
-		});
-		HZPY[9882] = (new short[] {
-			264
-		});
-		HZPY[9883] = (new short[] {
-			316
-		});
-		HZPY[9884] = (new short[] {
-			127
-		});
-		HZPY[9885] = (new short[] {
-			108
-		});
-		HZPY[9886] = (new short[] {
-			255
-		});
-		HZPY[9887] = (new short[] {
-			138
-		});
-		HZPY[9888] = (new short[] {
-			84
-		});
-		HZPY[9889] = (new short[] {
-			137
-		});
-		HZPY[9890] = (new short[] {
-			179
-		});
-		HZPY[9891] = (new short[] {
-			131
-		});
-		HZPY[9892] = (new short[] {
-			229
-		});
-		HZPY[9893] = (new short[] {
-			138
-		});
-		HZPY[9894] = (new short[] {
-			1
-		});
-		HZPY[9895] = (new short[] {
-			13
-		});
-		HZPY[9896] = (new short[] {
-			23
-		});
-		HZPY[9897] = (new short[] {
-			266
-		});
-		HZPY[9898] = (new short[] {
-			384
-		});
-		HZPY[9899] = (new short[] {
-			58
-		});
-		HZPY[9900] = (new short[] {
-			135
-		});
-		HZPY[9901] = (new short[] {
-			109
-		});
-		HZPY[9902] = (new short[] {
-			323
-		});
-		HZPY[9903] = (new short[] {
-			128
-		});
-		HZPY[9904] = (new short[] {
-			126
-		});
-		HZPY[9905] = (new short[] {
-			291
-		});
-		HZPY[9906] = (new short[] {
-			318
-		});
-		HZPY[9907] = (new short[] {
-			330
-		});
-		HZPY[9908] = (new short[] {
-			229
-		});
-		HZPY[9909] = (new short[] {
-			376
-		});
-		HZPY[9910] = (new short[] {
-			137
-		});
-		HZPY[9911] = (new short[] {
-			91
-		});
-		HZPY[9912] = (new short[] {
-			17
-		});
-		HZPY[9913] = (new short[] {
-			305
-		});
-		HZPY[9914] = (new short[] {
-			346
-		});
-		HZPY[9915] = (new short[] {
-			414
-		});
-		HZPY[9916] = (new short[] {
-			165
-		});
-		HZPY[9917] = (new short[] {
-			350
-		});
-		HZPY[9918] = (new short[] {
-			131
-		});
-		HZPY[9919] = (new short[] {
-			361
-		});
-		HZPY[9920] = (new short[] {
-			282
-		});
-		HZPY[9921] = (new short[] {
-			130
-		});
-		HZPY[9922] = (new short[] {
-			93
-		});
-		HZPY[9923] = (new short[] {
-			169
-		});
-		HZPY[9924] = (new short[] {
-			72
-		});
-		HZPY[9925] = (new short[] {
-			171
-		});
-		HZPY[9926] = (new short[] {
-			398
-		});
-		HZPY[9927] = (new short[] {
-			280
-		});
-		HZPY[9928] = (new short[] {
-			171
-		});
-		HZPY[9929] = (new short[] {
-			382
-		});
-		HZPY[9930] = (new short[] {
-			264
-		});
-		HZPY[9931] = (new short[] {
-			394
-		});
-		HZPY[9932] = (new short[] {
-			108
-		});
-		HZPY[9933] = (new short[] {
-			318
-		});
-		HZPY[9934] = (new short[] {
-			163
-		});
-		HZPY[9935] = (new short[] {
-			181
-		});
-		HZPY[9936] = (new short[] {
-			183
-		});
-		HZPY[9937] = (new short[] {
-			171
-		});
-		HZPY[9938] = (new short[] {
-			382
-		});
-		HZPY[9939] = (new short[] {
-			165
-		});
-		HZPY[9940] = (new short[] {
-			372
-		});
-		HZPY[9941] = (new short[] {
-			200
-		});
-		HZPY[9942] = (new short[] {
-			353
-		});
-		HZPY[9943] = (new short[] {
-			350
-		});
-		HZPY[9944] = (new short[] {
-			106
-		});
-		HZPY[9945] = (new short[] {
-			59
-		});
-		HZPY[9946] = (new short[] {
-			382
-		});
-		HZPY[9947] = (new short[] {
-			126
-		});
-		HZPY[9948] = (new short[] {
-			104
-		});
-		HZPY[9949] = (new short[] {
-			9
-		});
-		HZPY[9950] = (new short[] {
-			67
-		});
-		HZPY[9951] = (new short[] {
-			243
-		});
-		HZPY[9952] = (new short[] {
-			123
-		});
-		HZPY[9953] = (new short[] {
-			398
-		});
-		HZPY[9954] = (new short[] {
-			249
-		});
-		HZPY[9955] = (new short[] {
-			7
-		});
-		HZPY[9956] = (new short[] {
-			273
-		});
-		HZPY[9957] = (new short[] {
-			171
-		});
-		HZPY[9958] = (new short[] {
-			341
-		});
-		HZPY[9959] = (new short[] {
-			229
-		});
-		HZPY[9960] = (new short[] {
-			134, 121
-		});
-		HZPY[9961] = (new short[] {
-			258, 341
-		});
-		HZPY[9962] = (new short[] {
-			7
-		});
-		HZPY[9963] = (new short[] {
-			245
-		});
-		HZPY[9964] = (new short[] {
-			85
-		});
-		HZPY[9965] = (new short[] {
-			57
-		});
-		HZPY[9966] = (new short[] {
-			347
-		});
-		HZPY[9967] = (new short[] {
-			238
-		});
-		HZPY[9968] = (new short[] {
-			229
-		});
-		HZPY[9969] = (new short[] {
-			229
-		});
-		HZPY[9970] = (new short[] {
-			229
-		});
-		HZPY[9971] = (new short[] {
-			123
-		});
-		HZPY[9972] = (new short[] {
-			178
-		});
-		HZPY[9973] = (new short[] {
-			369
-		});
-		HZPY[9974] = (new short[] {
-			252
-		});
-		HZPY[9975] = (new short[] {
-			47
-		});
-		HZPY[9976] = (new short[] {
-			229
-		});
-		HZPY[9977] = (new short[] {
-			142
-		});
-		HZPY[9978] = (new short[] {
-			32
-		});
-		HZPY[9979] = (new short[] {
-			37
-		});
-		HZPY[9980] = (new short[] {
-			229
-		});
-		HZPY[9981] = (new short[] {
-			58
-		});
-		HZPY[9982] = (new short[] {
-			199
-		});
-		HZPY[9983] = (new short[] {
-			20
-		});
-		HZPY[9984] = (new short[] {
-			44
-		});
-		HZPY[9985] = (new short[] {
-			252
-		});
-		HZPY[9986] = (new short[] {
-			14
-		});
-		HZPY[9987] = (new short[] {
-			400
-		});
-		HZPY[9988] = (new short[] {
-			396
-		});
-		HZPY[9989] = (new short[] {
-			229
-		});
-		HZPY[9990] = (new short[] {
-			47
-		});
-		HZPY[9991] = (new short[] {
-			372
-		});
-		HZPY[9992] = (new short[] {
-			256
-		});
-		HZPY[9993] = (new short[] {
-			352
-		});
-		HZPY[9994] = (new short[] {
-			182
-		});
-		HZPY[9995] = (new short[] {
-			63
-		});
-		HZPY[9996] = (new short[] {
-			238
-		});
-		HZPY[9997] = (new short[] {
-			199
-		});
-		HZPY[9998] = (new short[] {
-			404
-		});
-		HZPY[9999] = (new short[] {
-			12
-		});
-		HZPY[10000] = (new short[] {
-			177
-		});
-		HZPY[10001] = (new short[] {
-			388
-		});
-		HZPY[10002] = (new short[] {
-			349
-		});
-		HZPY[10003] = (new short[] {
-			247
-		});
-		HZPY[10004] = (new short[] {
-			57
-		});
-		HZPY[10005] = (new short[] {
-			347
-		});
-		HZPY[10006] = (new short[] {
-			372
-		});
-		HZPY[10007] = (new short[] {
-			365
-		});
-		HZPY[10008] = (new short[] {
-			94
-		});
-		HZPY[10009] = (new short[] {
-			56
-		});
-		HZPY[10010] = (new short[] {
-			301, 299
-		});
-		HZPY[10011] = (new short[] {
-			330
-		});
-		HZPY[10012] = (new short[] {
-			330
-		});
-		HZPY[10013] = (new short[] {
-			113
-		});
-		HZPY[10014] = (new short[] {
-			32
-		});
-		HZPY[10015] = (new short[] {
-			302
-		});
-		HZPY[10016] = (new short[] {
-			263
-		});
-		HZPY[10017] = (new short[] {
-			301
-		});
-		HZPY[10018] = (new short[] {
-			31
-		});
-		HZPY[10019] = (new short[] {
-			31
-		});
-		HZPY[10020] = (new short[] {
-			283
-		});
-		HZPY[10021] = (new short[] {
-			302
-		});
-		HZPY[10022] = (new short[] {
-			316
-		});
-		HZPY[10023] = (new short[] {
-			301
-		});
-		HZPY[10024] = (new short[] {
-			374
-		});
-		HZPY[10025] = (new short[] {
-			307
-		});
-		HZPY[10026] = (new short[] {
-			183
-		});
-		HZPY[10027] = (new short[] {
-			91
-		});
-		HZPY[10028] = (new short[] {
-			374
-		});
-		HZPY[10029] = (new short[] {
-			12
-		});
-		HZPY[10030] = (new short[] {
-			229
-		});
-		HZPY[10031] = (new short[] {
-			227
-		});
-		HZPY[10032] = (new short[] {
-			330
-		});
-		HZPY[10033] = (new short[] {
-			375
-		});
-		HZPY[10034] = (new short[] {
-			132
-		});
-		HZPY[10035] = (new short[] {
-			301
-		});
-		HZPY[10036] = (new short[] {
-			389
-		});
-		HZPY[10037] = (new short[] {
-			65
-		});
-		HZPY[10038] = (new short[] {
-			91
-		});
-		HZPY[10039] = (new short[] {
-			213
-		});
-		HZPY[10040] = (new short[] {
-			65
-		});
-		HZPY[10041] = (new short[] {
-			252
-		});
-		HZPY[10042] = (new short[] {
-			68, 333
-		});
-		HZPY[10043] = (new short[] {
-			124
-		});
-		HZPY[10044] = (new short[] {
-			333, 68
-		});
-		HZPY[10045] = (new short[] {
-			267
-		});
-		HZPY[10046] = (new short[] {
-			381
-		});
-		HZPY[10047] = (new short[] {
-			199
-		});
-		HZPY[10048] = (new short[] {
-			13
-		});
-		HZPY[10049] = (new short[] {
-			256
-		});
-		HZPY[10050] = (new short[] {
-			179
-		});
-		HZPY[10051] = (new short[] {
-			363
-		});
-		HZPY[10052] = (new short[] {
-			179
-		});
-		HZPY[10053] = (new short[] {
-			32
-		});
-		HZPY[10054] = (new short[] {
-			209
-		});
-		HZPY[10055] = (new short[] {
-			379
-		});
-		HZPY[10056] = (new short[] {
-			84
-		});
-		HZPY[10057] = (new short[] {
-			91
-		});
-		HZPY[10058] = (new short[] {
-			100
-		});
-		HZPY[10059] = (new short[] {
-			330
-		});
-		HZPY[10060] = (new short[] {
-			136
-		});
-		HZPY[10061] = (new short[] {
-			136
-		});
-		HZPY[10062] = (new short[] {
-			267
-		});
-		HZPY[10063] = (new short[] {
-			345
-		});
-		HZPY[10064] = (new short[] {
-			91
-		});
-		HZPY[10065] = (new short[] {
-			330
-		});
-		HZPY[10066] = (new short[] {
-			209
-		});
-		HZPY[10067] = (new short[] {
-			229
-		});
-		HZPY[10068] = (new short[] {
-			241
-		});
-		HZPY[10069] = (new short[] {
-			134
-		});
-		HZPY[10070] = (new short[] {
-			341
-		});
-		HZPY[10071] = (new short[] {
-			55
-		});
-		HZPY[10072] = (new short[] {
-			213
-		});
-		HZPY[10073] = (new short[] {
-			179
-		});
-		HZPY[10074] = (new short[] {
-			11
-		});
-		HZPY[10075] = (new short[] {
-			396
-		});
-		HZPY[10076] = (new short[] {
-			40, 360
-		});
-		HZPY[10077] = (new short[] {
-			209
-		});
-		HZPY[10078] = (new short[] {
-			209
-		});
-		HZPY[10079] = (new short[] {
-			26
-		});
-		HZPY[10080] = (new short[] {
-			229
-		});
-		HZPY[10081] = (new short[] {
-			93
-		});
-		HZPY[10082] = (new short[] {
-			13
-		});
-		HZPY[10083] = (new short[] {
-			55
-		});
-		HZPY[10084] = (new short[] {
-			398
-		});
-		HZPY[10085] = (new short[] {
-			185
-		});
-		HZPY[10086] = (new short[] {
-			256, 350
-		});
-		HZPY[10087] = (new short[] {
-			185
-		});
-		HZPY[10088] = (new short[] {
-			241
-		});
-		HZPY[10089] = (new short[] {
-			229
-		});
-		HZPY[10090] = (new short[] {
-			84, 241
-		});
-		HZPY[10091] = (new short[] {
-			124
-		});
-		HZPY[10092] = (new short[] {
-			376
-		});
-		HZPY[10093] = (new short[] {
-			376
-		});
-		HZPY[10094] = (new short[] {
-			209
-		});
-		HZPY[10095] = (new short[] {
-			144
-		});
-		HZPY[10096] = (new short[] {
-			369
-		});
-		HZPY[10097] = (new short[] {
-			179
-		});
-		HZPY[10098] = (new short[] {
-			299
-		});
-		HZPY[10099] = (new short[] {
-			67
-		});
-		HZPY[10100] = (new short[] {
-			39
-		});
-		HZPY[10101] = (new short[] {
-			124
-		});
-		HZPY[10102] = (new short[] {
-			58
-		});
-		HZPY[10103] = (new short[] {
-			46
-		});
-		HZPY[10104] = (new short[] {
-			131
-		});
-		HZPY[10105] = (new short[] {
-			343
-		});
-		HZPY[10106] = (new short[] {
-			134
-		});
-		HZPY[10107] = (new short[] {
-			36
-		});
-		HZPY[10108] = (new short[] {
-			32
-		});
-		HZPY[10109] = (new short[] {
-			339
-		});
-		HZPY[10110] = (new short[] {
-			169
-		});
-		HZPY[10111] = (new short[] {
-			131
-		});
-		HZPY[10112] = (new short[] {
-			29
-		});
-		HZPY[10113] = (new short[] {
-			179
-		});
-		HZPY[10114] = (new short[] {
-			67
-		});
-		HZPY[10115] = (new short[] {
-			337
-		});
-		HZPY[10116] = (new short[] {
-			177
-		});
-		HZPY[10117] = (new short[] {
-			134
-		});
-		HZPY[10118] = (new short[] {
-			134
-		});
-		HZPY[10119] = (new short[] {
-			39
-		});
-		HZPY[10120] = (new short[] {
-			19
-		});
-		HZPY[10121] = (new short[] {
-			67
-		});
-		HZPY[10122] = (new short[] {
-			67
-		});
-		HZPY[10123] = (new short[] {
-			247, 305, 364
-		});
-		HZPY[10124] = (new short[] {
-			225
-		});
-		HZPY[10125] = (new short[] {
-			57
-		});
-		HZPY[10126] = (new short[] {
-			305
-		});
-		HZPY[10127] = (new short[] {
-			305
-		});
-		HZPY[10128] = (new short[] {
-			398
-		});
-		HZPY[10129] = (new short[] {
-			369
-		});
-		HZPY[10130] = (new short[] {
-			43
-		});
-		HZPY[10131] = (new short[] {
-			212
-		});
-		HZPY[10132] = (new short[] {
-			68
-		});
-		HZPY[10133] = (new short[] {
-			13
-		});
-		HZPY[10134] = (new short[] {
-			136
-		});
-		HZPY[10135] = (new short[] {
-			175
-		});
-		HZPY[10136] = (new short[] {
-			101, 95
-		});
-		HZPY[10137] = (new short[] {
-			97
-		});
-		HZPY[10138] = (new short[] {
-			140
-		});
-		HZPY[10139] = (new short[] {
-			400
-		});
-		HZPY[10140] = (new short[] {
-			351
-		});
-		HZPY[10141] = (new short[] {
-			296
-		});
-		HZPY[10142] = (new short[] {
-			360
-		});
-		HZPY[10143] = (new short[] {
-			234, 367
-		});
-		HZPY[10144] = (new short[] {
-			171
-		});
-		HZPY[10145] = (new short[] {
-			366
-		});
-		HZPY[10146] = (new short[] {
-			35
-		});
-		HZPY[10147] = (new short[] {
-			375
-		});
-		HZPY[10148] = (new short[] {
-			5
-		});
-		HZPY[10149] = (new short[] {
-			136
-		});
-		HZPY[10150] = (new short[] {
-			143
-		});
-		HZPY[10151] = (new short[] {
-			350
-		});
-		HZPY[10152] = (new short[] {
-			351
-		});
-		HZPY[10153] = (new short[] {
-			52
-		});
-		HZPY[10154] = (new short[] {
-			13
-		});
-		HZPY[10155] = (new short[] {
-			369
-		});
-		HZPY[10156] = (new short[] {
-			171
-		});
-		HZPY[10157] = (new short[] {
-			410
-		});
-		HZPY[10158] = (new short[] {
-			43
-		});
-		HZPY[10159] = (new short[] {
-			88
-		});
-		HZPY[10160] = (new short[] {
-			401
-		});
-		HZPY[10161] = (new short[] {
-			243
-		});
-		HZPY[10162] = (new short[] {
-			247
-		});
-		HZPY[10163] = (new short[] {
-			94
-		});
-		HZPY[10164] = (new short[] {
-			150
-		});
-		HZPY[10165] = (new short[] {
-			47
-		});
-		HZPY[10166] = (new short[] {
-			355
-		});
-		HZPY[10167] = (new short[] {
-			256
-		});
-		HZPY[10168] = (new short[] {
-			57, 55
-		});
-		HZPY[10169] = (new short[] {
-			396
-		});
-		HZPY[10170] = (new short[] {
-			83
-		});
-		HZPY[10171] = (new short[] {
-			398
-		});
-		HZPY[10172] = (new short[] {
-			328
-		});
-		HZPY[10173] = (new short[] {
-			141
-		});
-		HZPY[10174] = (new short[] {
-			131
-		});
-		HZPY[10175] = (new short[] {
-			86
-		});
-		HZPY[10176] = (new short[] {
-			141
-		});
-		HZPY[10177] = (new short[] {
-			65
-		});
-		HZPY[10178] = (new short[] {
-			132
-		});
-		HZPY[10179] = (new short[] {
-			361, 352
-		});
-		HZPY[10180] = (new short[] {
-			389
-		});
-		HZPY[10181] = (new short[] {
-			18
-		});
-		HZPY[10182] = (new short[] {
-			225
-		});
-		HZPY[10183] = (new short[] {
-			397
-		});
-		HZPY[10184] = (new short[] {
-			374
-		});
-		HZPY[10185] = (new short[] {
-			138
-		});
-		HZPY[10186] = (new short[] {
-			267
-		});
-		HZPY[10187] = (new short[] {
-			38
-		});
-		HZPY[10188] = (new short[] {
-			334
-		});
-		HZPY[10189] = (new short[] {
-			369
-		});
-		HZPY[10190] = (new short[] {
-			136
-		});
-		HZPY[10191] = (new short[] {
-			345
-		});
-		HZPY[10192] = (new short[] {
-			128
-		});
-		HZPY[10193] = (new short[] {
-			76
-		});
-		HZPY[10194] = (new short[] {
-			366
-		});
-		HZPY[10195] = (new short[] {
-			37
-		});
-		HZPY[10196] = (new short[] {
-			398
-		});
-		HZPY[10197] = (new short[] {
-			118
-		});
-		HZPY[10198] = (new short[] {
-			364
-		});
-		HZPY[10199] = (new short[] {
-			197
-		});
-		HZPY[10200] = (new short[] {
-			71
-		});
-		HZPY[10201] = (new short[] {
-			138
-		});
-		HZPY[10202] = (new short[] {
-			354
-		});
-		HZPY[10203] = (new short[] {
-			334
-		});
-		HZPY[10204] = (new short[] {
-			336
-		});
-		HZPY[10205] = (new short[] {
-			194
-		});
-		HZPY[10206] = (new short[] {
-			247
-		});
-		HZPY[10207] = (new short[] {
-			354
-		});
-		HZPY[10208] = (new short[] {
-			317
-		});
-		HZPY[10209] = (new short[] {
-			255
-		});
-		HZPY[10210] = (new short[] {
-			171
-		});
-		HZPY[10211] = (new short[] {
-			398
-		});
-		HZPY[10212] = (new short[] {
-			54
-		});
-		HZPY[10213] = (new short[] {
-			76
-		});
-		HZPY[10214] = (new short[] {
-			349
-		});
-		HZPY[10215] = (new short[] {
-			294
-		});
-		HZPY[10216] = (new short[] {
-			167
-		});
-		HZPY[10217] = (new short[] {
-			304
-		});
-		HZPY[10218] = (new short[] {
-			126
-		});
-		HZPY[10219] = (new short[] {
-			352
-		});
-		HZPY[10220] = (new short[] {
-			369
-		});
-		HZPY[10221] = (new short[] {
-			246
-		});
-		HZPY[10222] = (new short[] {
-			392
-		});
-		HZPY[10223] = (new short[] {
-			106
-		});
-		HZPY[10224] = (new short[] {
-			323
-		});
-		HZPY[10225] = (new short[] {
-			86
-		});
-		HZPY[10226] = (new short[] {
-			191
-		});
-		HZPY[10227] = (new short[] {
-			177
-		});
-		HZPY[10228] = (new short[] {
-			37
-		});
-		HZPY[10229] = (new short[] {
-			131
-		});
-		HZPY[10230] = (new short[] {
-			330
-		});
-		HZPY[10231] = (new short[] {
-			2
-		});
-		HZPY[10232] = (new short[] {
-			37
-		});
-		HZPY[10233] = (new short[] {
-			13
-		});
-		HZPY[10234] = (new short[] {
-			13
-		});
-		HZPY[10235] = (new short[] {
-			204
-		});
-		HZPY[10236] = (new short[] {
-			103
-		});
-		HZPY[10237] = (new short[] {
-			74
-		});
-		HZPY[10238] = (new short[] {
-			77
-		});
-		HZPY[10239] = (new short[] {
-			345
-		});
-		HZPY[10240] = (new short[] {
-			376
-		});
-		HZPY[10241] = (new short[] {
-			52
-		});
-		HZPY[10242] = (new short[] {
-			364
-		});
-		HZPY[10243] = (new short[] {
-			401
-		});
-		HZPY[10244] = (new short[] {
-			350
-		});
-		HZPY[10245] = (new short[] {
-			57
-		});
-		HZPY[10246] = (new short[] {
-			301
-		});
-		HZPY[10247] = (new short[] {
-			399
-		});
-		HZPY[10248] = (new short[] {
-			131, 398
-		});
-		HZPY[10249] = (new short[] {
-			376
-		});
-		HZPY[10250] = (new short[] {
-			122
-		});
-		HZPY[10251] = (new short[] {
-			88
-		});
-		HZPY[10252] = (new short[] {
-			163
-		});
-		HZPY[10253] = (new short[] {
-			366
-		});
-		HZPY[10254] = (new short[] {
-			301
-		});
-		HZPY[10255] = (new short[] {
-			336
-		});
-		HZPY[10256] = (new short[] {
-			376
-		});
-		HZPY[10257] = (new short[] {
-			104
-		});
-		HZPY[10258] = (new short[] {
-			346
-		});
-		HZPY[10259] = (new short[] {
-			126
-		});
-		HZPY[10260] = (new short[] {
-			155
-		});
-		HZPY[10261] = (new short[] {
-			132, 351
-		});
-		HZPY[10262] = (new short[] {
-			371
-		});
-		HZPY[10263] = (new short[] {
-			369
-		});
-		HZPY[10264] = (new short[] {
-			182
-		});
-		HZPY[10265] = (new short[] {
-			290
-		});
-		HZPY[10266] = (new short[] {
-			143
-		});
-		HZPY[10267] = (new short[] {
-			37
-		});
-		HZPY[10268] = (new short[] {
-			350
-		});
-		HZPY[10269] = (new short[] {
-			106
-		});
-		HZPY[10270] = (new short[] {
-			369
-		});
-		HZPY[10271] = (new short[] {
-			346
-		});
-		HZPY[10272] = (new short[] {
-			131
-		});
-		HZPY[10273] = (new short[] {
-			43
-		});
-		HZPY[10274] = (new short[] {
-			7
-		});
-		HZPY[10275] = (new short[] {
-			169
-		});
-		HZPY[10276] = (new short[] {
-			179
-		});
-		HZPY[10277] = (new short[] {
-			30, 54
-		});
-		HZPY[10278] = (new short[] {
-			304
-		});
-		HZPY[10279] = (new short[] {
-			234, 367
-		});
-		HZPY[10280] = (new short[] {
-			65
-		});
-		HZPY[10281] = (new short[] {
-			55
-		});
-		HZPY[10282] = (new short[] {
-			16
-		});
-		HZPY[10283] = (new short[] {
-			323
-		});
-		HZPY[10284] = (new short[] {
-			392
-		});
-		HZPY[10285] = (new short[] {
-			15
-		});
-		HZPY[10286] = (new short[] {
-			301
-		});
-		HZPY[10287] = (new short[] {
-			50
-		});
-		HZPY[10288] = (new short[] {
-			189
-		});
-		HZPY[10289] = (new short[] {
-			369
-		});
-		HZPY[10290] = (new short[] {
-			410
-		});
-		HZPY[10291] = (new short[] {
-			39
-		});
-		HZPY[10292] = (new short[] {
-			392
-		});
-		HZPY[10293] = (new short[] {
-			390
-		});
-		HZPY[10294] = (new short[] {
-			315
-		});
-		HZPY[10295] = (new short[] {
-			320
-		});
-		HZPY[10296] = (new short[] {
-			268
-		});
-		HZPY[10297] = (new short[] {
-			66
-		});
-		HZPY[10298] = (new short[] {
-			182
-		});
-		HZPY[10299] = (new short[] {
-			182
-		});
-		HZPY[10300] = (new short[] {
-			207
-		});
-		HZPY[10301] = (new short[] {
-			137
-		});
-		HZPY[10302] = (new short[] {
-			371
-		});
-		HZPY[10303] = (new short[] {
-			372
-		});
-		HZPY[10304] = (new short[] {
-			127
-		});
-		HZPY[10305] = (new short[] {
-			91
-		});
-		HZPY[10306] = (new short[] {
-			175
-		});
-		HZPY[10307] = (new short[] {
-			181
-		});
-		HZPY[10308] = (new short[] {
-			260
-		});
-		HZPY[10309] = (new short[] {
-			179
-		});
-		HZPY[10310] = (new short[] {
-			167
-		});
-		HZPY[10311] = (new short[] {
-			352
-		});
-		HZPY[10312] = (new short[] {
-			86
-		});
-		HZPY[10313] = (new short[] {
-			57
-		});
-		HZPY[10314] = (new short[] {
-			371
-		});
-		HZPY[10315] = (new short[] {
-			116
-		});
-		HZPY[10316] = (new short[] {
-			1, 365
-		});
-		HZPY[10317] = (new short[] {
-			7
-		});
-		HZPY[10318] = (new short[] {
-			352
-		});
-		HZPY[10319] = (new short[] {
-			106
-		});
-		HZPY[10320] = (new short[] {
-			105
-		});
-		HZPY[10321] = (new short[] {
-			230
-		});
-		HZPY[10322] = (new short[] {
-			376
-		});
-		HZPY[10323] = (new short[] {
-			345
-		});
-		HZPY[10324] = (new short[] {
-			369
-		});
-		HZPY[10325] = (new short[] {
-			374
-		});
-		HZPY[10326] = (new short[] {
-			247
-		});
-		HZPY[10327] = (new short[] {
-			169
-		});
-		HZPY[10328] = (new short[] {
-			171, 131
-		});
-		HZPY[10329] = (new short[] {
-			305
-		});
-		HZPY[10330] = (new short[] {
-			57
-		});
-		HZPY[10331] = (new short[] {
-			177
-		});
-		HZPY[10332] = (new short[] {
-			65
-		});
-		HZPY[10333] = (new short[] {
-			177
-		});
-		HZPY[10334] = (new short[] {
-			164
-		});
-		HZPY[10335] = (new short[] {
-			16
-		});
-		HZPY[10336] = (new short[] {
-			131
-		});
-		HZPY[10337] = (new short[] {
-			37
-		});
-		HZPY[10338] = (new short[] {
-			366
-		});
-		HZPY[10339] = (new short[] {
-			361
-		});
-		HZPY[10340] = (new short[] {
-			136
-		});
-		HZPY[10341] = (new short[] {
-			397
-		});
-		HZPY[10342] = (new short[] {
-			229
-		});
-		HZPY[10343] = (new short[] {
-			171
-		});
-		HZPY[10344] = (new short[] {
-			130
-		});
-		HZPY[10345] = (new short[] {
-			164
-		});
-		HZPY[10346] = (new short[] {
-			131
-		});
-		HZPY[10347] = (new short[] {
-			65
-		});
-		HZPY[10348] = (new short[] {
-			352, 361
-		});
-		HZPY[10349] = (new short[] {
-			372
-		});
-		HZPY[10350] = (new short[] {
-			371
-		});
-		HZPY[10351] = (new short[] {
-			266
-		});
-		HZPY[10352] = (new short[] {
-			374
-		});
-		HZPY[10353] = (new short[] {
-			323
-		});
-		HZPY[10354] = (new short[] {
-			65
-		});
-		HZPY[10355] = (new short[] {
-			189
-		});
-		HZPY[10356] = (new short[] {
-			186
-		});
-		HZPY[10357] = (new short[] {
-			186
-		});
-		HZPY[10358] = (new short[] {
-			19
-		});
-		HZPY[10359] = (new short[] {
-			229
-		});
-		HZPY[10360] = (new short[] {
-			108
-		});
-		HZPY[10361] = (new short[] {
-			253
-		});
-		HZPY[10362] = (new short[] {
-			83
-		});
-		HZPY[10363] = (new short[] {
-			62
-		});
-		HZPY[10364] = (new short[] {
-			83
-		});
-		HZPY[10365] = (new short[] {
-			6
-		});
-		HZPY[10366] = (new short[] {
-			6, 19
-		});
-		HZPY[10367] = (new short[] {
-			261
-		});
-		HZPY[10368] = (new short[] {
-			13
-		});
-		HZPY[10369] = (new short[] {
-			384
-		});
-		HZPY[10370] = (new short[] {
-			384
-		});
-		HZPY[10371] = (new short[] {
-			195
-		});
-		HZPY[10372] = (new short[] {
-			60, 63
-		});
-		HZPY[10373] = (new short[] {
-			239
-		});
-		HZPY[10374] = (new short[] {
-			136
-		});
-		HZPY[10375] = (new short[] {
-			127
-		});
-		HZPY[10376] = (new short[] {
-			108
-		});
-		HZPY[10377] = (new short[] {
-			47
-		});
-		HZPY[10378] = (new short[] {
-			178
-		});
-		HZPY[10379] = (new short[] {
-			96
-		});
-		HZPY[10380] = (new short[] {
-			207
-		});
-		HZPY[10381] = (new short[] {
-			131
-		});
-		HZPY[10382] = (new short[] {
-			135, 132
-		});
-		HZPY[10383] = (new short[] {
-			246
-		});
-		HZPY[10384] = (new short[] {
-			96
-		});
-		HZPY[10385] = (new short[] {
-			1
-		});
-		HZPY[10386] = (new short[] {
-			77
-		});
-		HZPY[10387] = (new short[] {
-			115
-		});
-		HZPY[10388] = (new short[] {
-			113
-		});
-		HZPY[10389] = (new short[] {
-			13
-		});
-		HZPY[10390] = (new short[] {
-			343, 126
-		});
-		HZPY[10391] = (new short[] {
-			39
-		});
-		HZPY[10392] = (new short[] {
-			258
-		});
-		HZPY[10393] = (new short[] {
-			350
-		});
-		HZPY[10394] = (new short[] {
-			1
-		});
-		HZPY[10395] = (new short[] {
-			139
-		});
-		HZPY[10396] = (new short[] {
-			115
-		});
-		HZPY[10397] = (new short[] {
-			127
-		});
-		HZPY[10398] = (new short[] {
-			115
-		});
-		HZPY[10399] = (new short[] {
-			385
-		});
-		HZPY[10400] = (new short[] {
-			52
-		});
-		HZPY[10401] = (new short[] {
-			115
-		});
-		HZPY[10402] = (new short[] {
-			354
-		});
-		HZPY[10403] = (new short[] {
-			368
-		});
-		HZPY[10404] = (new short[] {
-			253
-		});
-		HZPY[10405] = (new short[] {
-			115
-		});
-		HZPY[10406] = (new short[] {
-			135
-		});
-		HZPY[10407] = (new short[] {
-			1
-		});
-		HZPY[10408] = (new short[] {
-			357
-		});
-		HZPY[10409] = (new short[] {
-			127
-		});
-		HZPY[10410] = (new short[] {
-			171
-		});
-		HZPY[10411] = (new short[] {
-			249
-		});
-		HZPY[10412] = (new short[] {
-			116
-		});
-		HZPY[10413] = (new short[] {
-			135
-		});
-		HZPY[10414] = (new short[] {
-			247
-		});
-		HZPY[10415] = (new short[] {
-			94
-		});
-		HZPY[10416] = (new short[] {
-			243
-		});
-		HZPY[10417] = (new short[] {
-			400
-		});
-		HZPY[10418] = (new short[] {
-			144
-		});
-		HZPY[10419] = (new short[] {
-			265
-		});
-		HZPY[10420] = (new short[] {
-			53
-		});
-		HZPY[10421] = (new short[] {
-			268
-		});
-		HZPY[10422] = (new short[] {
-			389
-		});
-		HZPY[10423] = (new short[] {
-			103
-		});
-		HZPY[10424] = (new short[] {
-			144
-		});
-		HZPY[10425] = (new short[] {
-			144
-		});
-		HZPY[10426] = (new short[] {
-			400
-		});
-		HZPY[10427] = (new short[] {
-			389
-		});
-		HZPY[10428] = (new short[] {
-			103
-		});
-		HZPY[10429] = (new short[] {
-			391
-		});
-		HZPY[10430] = (new short[] {
-			72
-		});
-		HZPY[10431] = (new short[] {
-			204
-		});
-		HZPY[10432] = (new short[] {
-			256
-		});
-		HZPY[10433] = (new short[] {
-			372
-		});
-		HZPY[10434] = (new short[] {
-			376
-		});
-		HZPY[10435] = (new short[] {
-			10
-		});
-		HZPY[10436] = (new short[] {
-			393
-		});
-		HZPY[10437] = (new short[] {
-			399
-		});
-		HZPY[10438] = (new short[] {
-			245
-		});
-		HZPY[10439] = (new short[] {
-			116
-		});
-		HZPY[10440] = (new short[] {
-			372
-		});
-		HZPY[10441] = (new short[] {
-			116
-		});
-		HZPY[10442] = (new short[] {
-			369
-		});
-		HZPY[10443] = (new short[] {
-			19
-		});
-		HZPY[10444] = (new short[] {
-			343
-		});
-		HZPY[10445] = (new short[] {
-			116
-		});
-		HZPY[10446] = (new short[] {
-			3
-		});
-		HZPY[10447] = (new short[] {
-			391
-		});
-		HZPY[10448] = (new short[] {
-			365
-		});
-		HZPY[10449] = (new short[] {
-			133
-		});
-		HZPY[10450] = (new short[] {
-			116
-		});
-		HZPY[10451] = (new short[] {
-			376
-		});
-		HZPY[10452] = (new short[] {
-			160
-		});
-		HZPY[10453] = (new short[] {
-			84
-		});
-		HZPY[10454] = (new short[] {
-			93, 97
-		});
-		HZPY[10455] = (new short[] {
-			59
-		});
-		HZPY[10456] = (new short[] {
-			241
-		});
-		HZPY[10457] = (new short[] {
-			91
-		});
-		HZPY[10458] = (new short[] {
-			265
-		});
-		HZPY[10459] = (new short[] {
-			302, 36
-		});
-		HZPY[10460] = (new short[] {
-			59
-		});
-		HZPY[10461] = (new short[] {
-			183
-		});
-		HZPY[10462] = (new short[] {
-			391
-		});
-		HZPY[10463] = (new short[] {
-			199, 205
-		});
-		HZPY[10464] = (new short[] {
-			183
-		});
-		HZPY[10465] = (new short[] {
-			137
-		});
-		HZPY[10466] = (new short[] {
-			360
-		});
-		HZPY[10467] = (new short[] {
-			133
-		});
-		HZPY[10468] = (new short[] {
-			241
-		});
-		HZPY[10469] = (new short[] {
-			106
-		});
-		HZPY[10470] = (new short[] {
-			2
-		});
-		HZPY[10471] = (new short[] {
-			183
-		});
-		HZPY[10472] = (new short[] {
-			360
-		});
-		HZPY[10473] = (new short[] {
-			400
-		});
-		HZPY[10474] = (new short[] {
-			58
-		});
-		HZPY[10475] = (new short[] {
-			2
-		});
-		HZPY[10476] = (new short[] {
-			103
-		});
-		HZPY[10477] = (new short[] {
-			171
-		});
-		HZPY[10478] = (new short[] {
-			209
-		});
-		HZPY[10479] = (new short[] {
-			68
-		});
-		HZPY[10480] = (new short[] {
-			94
-		});
-		HZPY[10481] = (new short[] {
-			360
-		});
-		HZPY[10482] = (new short[] {
-			194
-		});
-		HZPY[10483] = (new short[] {
-			194
-		});
-		HZPY[10484] = (new short[] {
-			398
-		});
-		HZPY[10485] = (new short[] {
-			256
-		});
-		HZPY[10486] = (new short[] {
-			343
-		});
-		HZPY[10487] = (new short[] {
-			330
-		});
-		HZPY[10488] = (new short[] {
-			353
-		});
-		HZPY[10489] = (new short[] {
-			75
-		});
-		HZPY[10490] = (new short[] {
-			356
-		});
-		HZPY[10491] = (new short[] {
-			350
-		});
-		HZPY[10492] = (new short[] {
-			241
-		});
-		HZPY[10493] = (new short[] {
-			88
-		});
-		HZPY[10494] = (new short[] {
-			75, 311
-		});
-		HZPY[10495] = (new short[] {
-			204
-		});
-		HZPY[10496] = (new short[] {
-			205
-		});
-		HZPY[10497] = (new short[] {
-			302, 357
-		});
-		HZPY[10498] = (new short[] {
-			303
-		});
-		HZPY[10499] = (new short[] {
-			379
-		});
-		HZPY[10500] = (new short[] {
-			201
-		});
-		HZPY[10501] = (new short[] {
-			241
-		});
-		HZPY[10502] = (new short[] {
-			85
-		});
-		HZPY[10503] = (new short[] {
-			202
-		});
-		HZPY[10504] = (new short[] {
-			57
-		});
-		HZPY[10505] = (new short[] {
-			197
-		});
-		HZPY[10506] = (new short[] {
-			195
-		});
-		HZPY[10507] = (new short[] {
-			147
-		});
-		HZPY[10508] = (new short[] {
-			352
-		});
-		HZPY[10509] = (new short[] {
-			154
-		});
-		HZPY[10510] = (new short[] {
-			303
-		});
-		HZPY[10511] = (new short[] {
-			366
-		});
-		HZPY[10512] = (new short[] {
-			397
-		});
-		HZPY[10513] = (new short[] {
-			367
-		});
-		HZPY[10514] = (new short[] {
-			301
-		});
-		HZPY[10515] = (new short[] {
-			130
-		});
-		HZPY[10516] = (new short[] {
-			55
-		});
-		HZPY[10517] = (new short[] {
-			396
-		});
-		HZPY[10518] = (new short[] {
-			159
-		});
-		HZPY[10519] = (new short[] {
-			141
-		});
-		HZPY[10520] = (new short[] {
-			301
-		});
-		HZPY[10521] = (new short[] {
-			369
-		});
-		HZPY[10522] = (new short[] {
-			302
-		});
-		HZPY[10523] = (new short[] {
-			197
-		});
-		HZPY[10524] = (new short[] {
-			207
-		});
-		HZPY[10525] = (new short[] {
-			401
-		});
-		HZPY[10526] = (new short[] {
-			396
-		});
-		HZPY[10527] = (new short[] {
-			396
-		});
-		HZPY[10528] = (new short[] {
-			201
-		});
-		HZPY[10529] = (new short[] {
-			63
-		});
-		HZPY[10530] = (new short[] {
-			377
-		});
-		HZPY[10531] = (new short[] {
-			67
-		});
-		HZPY[10532] = (new short[] {
-			369
-		});
-		HZPY[10533] = (new short[] {
-			409
-		});
-		HZPY[10534] = (new short[] {
-			409
-		});
-		HZPY[10535] = (new short[] {
-			33
-		});
-		HZPY[10536] = (new short[] {
-			389
-		});
-		HZPY[10537] = (new short[] {
-			361
-		});
-		HZPY[10538] = (new short[] {
-			18
-		});
-		HZPY[10539] = (new short[] {
-			200
-		});
-		HZPY[10540] = (new short[] {
-			181
-		});
-		HZPY[10541] = (new short[] {
-			318
-		});
-		HZPY[10542] = (new short[] {
-			334
-		});
-		HZPY[10543] = (new short[] {
-			200
-		});
-		HZPY[10544] = (new short[] {
-			67
-		});
-		HZPY[10545] = (new short[] {
-			369
-		});
-		HZPY[10546] = (new short[] {
-			82
-		});
-		HZPY[10547] = (new short[] {
-			205
-		});
-		HZPY[10548] = (new short[] {
-			361
-		});
-		HZPY[10549] = (new short[] {
-			37
-		});
-		HZPY[10550] = (new short[] {
-			159
-		});
-		HZPY[10551] = (new short[] {
-			142
-		});
-		HZPY[10552] = (new short[] {
-			208
-		});
-		HZPY[10553] = (new short[] {
-			396
-		});
-		HZPY[10554] = (new short[] {
-			331
-		});
-		HZPY[10555] = (new short[] {
-			366
-		});
-		HZPY[10556] = (new short[] {
-			365
-		});
-		HZPY[10557] = (new short[] {
-			207
-		});
-		HZPY[10558] = (new short[] {
-			399
-		});
-		HZPY[10559] = (new short[] {
-			192
-		});
-		HZPY[10560] = (new short[] {
-			394, 408, 393
-		});
-		HZPY[10561] = (new short[] {
-			397
-		});
-		HZPY[10562] = (new short[] {
-			197
-		});
-		HZPY[10563] = (new short[] {
-			320
-		});
-		HZPY[10564] = (new short[] {
-			298
-		});
-		HZPY[10565] = (new short[] {
-			113
-		});
-		HZPY[10566] = (new short[] {
-			126
-		});
-		HZPY[10567] = (new short[] {
-			63
-		});
-		HZPY[10568] = (new short[] {
-			36
-		});
-		HZPY[10569] = (new short[] {
-			54
-		});
-		HZPY[10570] = (new short[] {
-			142
-		});
-		HZPY[10571] = (new short[] {
-			77
-		});
-		HZPY[10572] = (new short[] {
-			343
-		});
-		HZPY[10573] = (new short[] {
-			352
-		});
-		HZPY[10574] = (new short[] {
-			350
-		});
-		HZPY[10575] = (new short[] {
-			161
-		});
-		HZPY[10576] = (new short[] {
-			164
-		});
-		HZPY[10577] = (new short[] {
-			133
-		});
-		HZPY[10578] = (new short[] {
-			296
-		});
-		HZPY[10579] = (new short[] {
-			330
-		});
-		HZPY[10580] = (new short[] {
-			129
-		});
-		HZPY[10581] = (new short[] {
-			343
-		});
-		HZPY[10582] = (new short[] {
-			178
-		});
-		HZPY[10583] = (new short[] {
-			303
-		});
-		HZPY[10584] = (new short[] {
-			264
-		});
-		HZPY[10585] = (new short[] {
-			176
-		});
-		HZPY[10586] = (new short[] {
-			364, 1
-		});
-		HZPY[10587] = (new short[] {
-			138
-		});
-		HZPY[10588] = (new short[] {
-			397
-		});
-		HZPY[10589] = (new short[] {
-			171
-		});
-		HZPY[10590] = (new short[] {
-			164
-		});
-		HZPY[10591] = (new short[] {
-			318
-		});
-		HZPY[10592] = (new short[] {
-			142
-		});
-		HZPY[10593] = (new short[] {
-			310
-		});
-		HZPY[10594] = (new short[] {
-			318
-		});
-		HZPY[10595] = (new short[] {
-			72
-		});
-		HZPY[10596] = (new short[] {
-			247
-		});
-		HZPY[10597] = (new short[] {
-			247, 13
-		});
-		HZPY[10598] = (new short[] {
-			209
-		});
-		HZPY[10599] = (new short[] {
-			129
-		});
-		HZPY[10600] = (new short[] {
-			221
-		});
-		HZPY[10601] = (new short[] {
-			183
-		});
-		HZPY[10602] = (new short[] {
-			96
-		});
-		HZPY[10603] = (new short[] {
-			136
-		});
-		HZPY[10604] = (new short[] {
-			22
-		});
-		HZPY[10605] = (new short[] {
-			400
-		});
-		HZPY[10606] = (new short[] {
-			376
-		});
-		HZPY[10607] = (new short[] {
-			129
-		});
-		HZPY[10608] = (new short[] {
-			191
-		});
-		HZPY[10609] = (new short[] {
-			351
-		});
-		HZPY[10610] = (new short[] {
-			357
-		});
-		HZPY[10611] = (new short[] {
-			128
-		});
-		HZPY[10612] = (new short[] {
-			109
-		});
-		HZPY[10613] = (new short[] {
-			229
-		});
-		HZPY[10614] = (new short[] {
-			45
-		});
-		HZPY[10615] = (new short[] {
-			133
-		});
-		HZPY[10616] = (new short[] {
-			197
-		});
-		HZPY[10617] = (new short[] {
-			72
-		});
-		HZPY[10618] = (new short[] {
-			122
-		});
-		HZPY[10619] = (new short[] {
-			361
-		});
-		HZPY[10620] = (new short[] {
-			329
-		});
-		HZPY[10621] = (new short[] {
-			160
-		});
-		HZPY[10622] = (new short[] {
-			96
-		});
-		HZPY[10623] = (new short[] {
-			283
-		});
-		HZPY[10624] = (new short[] {
-			195
-		});
-		HZPY[10625] = (new short[] {
-			360
-		});
-		HZPY[10626] = (new short[] {
-			83
-		});
-		HZPY[10627] = (new short[] {
-			346
-		});
-		HZPY[10628] = (new short[] {
-			202
-		});
-		HZPY[10629] = (new short[] {
-			39
-		});
-		HZPY[10630] = (new short[] {
-			160
-		});
-		HZPY[10631] = (new short[] {
-			200
-		});
-		HZPY[10632] = (new short[] {
-			347
-		});
-		HZPY[10633] = (new short[] {
-			154
-		});
-		HZPY[10634] = (new short[] {
-			58
-		});
-		HZPY[10635] = (new short[] {
-			35
-		});
-		HZPY[10636] = (new short[] {
-			150
-		});
-		HZPY[10637] = (new short[] {
-			315
-		});
-		HZPY[10638] = (new short[] {
-			351
-		});
-		HZPY[10639] = (new short[] {
-			264
-		});
-		HZPY[10640] = (new short[] {
-			195
-		});
-		HZPY[10641] = (new short[] {
-			205
-		});
-		HZPY[10642] = (new short[] {
-			193
-		});
-		HZPY[10643] = (new short[] {
-			310
-		});
-		HZPY[10644] = (new short[] {
-			385
-		});
-		HZPY[10645] = (new short[] {
-			392
-		});
-		HZPY[10646] = (new short[] {
-			369
-		});
-		HZPY[10647] = (new short[] {
-			66
-		});
-		HZPY[10648] = (new short[] {
-			154
-		});
-		HZPY[10649] = (new short[] {
-			207
-		});
-		HZPY[10650] = (new short[] {
-			311
-		});
-		HZPY[10651] = (new short[] {
-			48
-		});
-		HZPY[10652] = (new short[] {
-			182
-		});
-		HZPY[10653] = (new short[] {
-			37
-		});
-		HZPY[10654] = (new short[] {
-			193
-		});
-		HZPY[10655] = (new short[] {
-			249
-		});
-		HZPY[10656] = (new short[] {
-			36
-		});
-		HZPY[10657] = (new short[] {
-			131
-		});
-		HZPY[10658] = (new short[] {
-			199
-		});
-		HZPY[10659] = (new short[] {
-			126
-		});
-		HZPY[10660] = (new short[] {
-			284
-		});
-		HZPY[10661] = (new short[] {
-			250
-		});
-		HZPY[10662] = (new short[] {
-			350
-		});
-		HZPY[10663] = (new short[] {
-			260, 364
-		});
-		HZPY[10664] = (new short[] {
-			255
-		});
-		HZPY[10665] = (new short[] {
-			401
-		});
-		HZPY[10666] = (new short[] {
-			62
-		});
-		HZPY[10667] = (new short[] {
-			301
-		});
-		HZPY[10668] = (new short[] {
-			311
-		});
-		HZPY[10669] = (new short[] {
-			175
-		});
-		HZPY[10670] = (new short[] {
-			34
-		});
-		HZPY[10671] = (new short[] {
-			352
-		});
-		HZPY[10672] = (new short[] {
-			147
-		});
-		HZPY[10673] = (new short[] {
-			368
-		});
-		HZPY[10674] = (new short[] {
-			360
-		});
-		HZPY[10675] = (new short[] {
-			334
-		});
-		HZPY[10676] = (new short[] {
-			349
-		});
-		HZPY[10677] = (new short[] {
-			177
-		});
-		HZPY[10678] = (new short[] {
-			160
-		});
-		HZPY[10679] = (new short[] {
-			133
-		});
-		HZPY[10680] = (new short[] {
-			368
-		});
-		HZPY[10681] = (new short[] {
-			1
-		});
-		HZPY[10682] = (new short[] {
-			128
-		});
-		HZPY[10683] = (new short[] {
-			391
-		});
-		HZPY[10684] = (new short[] {
-			133
-		});
-		HZPY[10685] = (new short[] {
-			103
-		});
-		HZPY[10686] = (new short[] {
-			393
-		});
-		HZPY[10687] = (new short[] {
-			141, 266
-		});
-		HZPY[10688] = (new short[] {
-			345
-		});
-		HZPY[10689] = (new short[] {
-			39
-		});
-		HZPY[10690] = (new short[] {
-			131
-		});
-		HZPY[10691] = (new short[] {
-			227
-		});
-		HZPY[10692] = (new short[] {
-			363
-		});
-		HZPY[10693] = (new short[] {
-			367
-		});
-		HZPY[10694] = (new short[] {
-			130
-		});
-		HZPY[10695] = (new short[] {
-			199
-		});
-		HZPY[10696] = (new short[] {
-			201
-		});
-		HZPY[10697] = (new short[] {
-			17, 251
-		});
-		HZPY[10698] = (new short[] {
-			201
-		});
-		HZPY[10699] = (new short[] {
-			171
-		});
-		HZPY[10700] = (new short[] {
-			107
-		});
-		HZPY[10701] = (new short[] {
-			143
-		});
-		HZPY[10702] = (new short[] {
-			361
-		});
-		HZPY[10703] = (new short[] {
-			201
-		});
-		HZPY[10704] = (new short[] {
-			130
-		});
-		HZPY[10705] = (new short[] {
-			183
-		});
-		HZPY[10706] = (new short[] {
-			199
-		});
-		HZPY[10707] = (new short[] {
-			181
-		});
-		HZPY[10708] = (new short[] {
-			106
-		});
-		HZPY[10709] = (new short[] {
-			193
-		});
-		HZPY[10710] = (new short[] {
-			350
-		});
-		HZPY[10711] = (new short[] {
-			40
-		});
-		HZPY[10712] = (new short[] {
-			324
-		});
-		HZPY[10713] = (new short[] {
-			147
-		});
-		HZPY[10714] = (new short[] {
-			401
-		});
-		HZPY[10715] = (new short[] {
-			195
-		});
-		HZPY[10716] = (new short[] {
-			137, 262, 106
-		});
-		HZPY[10717] = (new short[] {
-			177
-		});
-		HZPY[10718] = (new short[] {
-			376
-		});
-		HZPY[10719] = (new short[] {
-			312
-		});
-		HZPY[10720] = (new short[] {
-			26
-		});
-		HZPY[10721] = (new short[] {
-			143
-		});
-		HZPY[10722] = (new short[] {
-			303
-		});
-		HZPY[10723] = (new short[] {
-			369
-		});
-		HZPY[10724] = (new short[] {
-			301
-		});
-		HZPY[10725] = (new short[] {
-			398
-		});
-		HZPY[10726] = (new short[] {
-			122
-		});
-		HZPY[10727] = (new short[] {
-			301
-		});
-		HZPY[10728] = (new short[] {
-			372
-		});
-		HZPY[10729] = (new short[] {
-			141
-		});
-		HZPY[10730] = (new short[] {
-			400
-		});
-		HZPY[10731] = (new short[] {
-			135, 132
-		});
-		HZPY[10732] = (new short[] {
-			54
-		});
-		HZPY[10733] = (new short[] {
-			73
-		});
-		HZPY[10734] = (new short[] {
-			1
-		});
-		HZPY[10735] = (new short[] {
-			135, 132
-		});
-		HZPY[10736] = (new short[] {
-			388
-		});
-		HZPY[10737] = (new short[] {
-			130
-		});
-		HZPY[10738] = (new short[] {
-			6, 240
-		});
-		HZPY[10739] = (new short[] {
-			303, 57
-		});
-		HZPY[10740] = (new short[] {
-			68
-		});
-		HZPY[10741] = (new short[] {
-			256
-		});
-		HZPY[10742] = (new short[] {
-			131
-		});
-		HZPY[10743] = (new short[] {
-			409
-		});
-		HZPY[10744] = (new short[] {
-			94
-		});
-		HZPY[10745] = (new short[] {
-			349
-		});
-		HZPY[10746] = (new short[] {
-			340
-		});
-		HZPY[10747] = (new short[] {
-			155
-		});
-		HZPY[10748] = (new short[] {
-			259
-		});
-		HZPY[10749] = (new short[] {
-			350
-		});
-		HZPY[10750] = (new short[] {
-			84
-		});
-		HZPY[10751] = (new short[] {
-			159
-		});
-		HZPY[10752] = (new short[] {
-			58
-		});
-		HZPY[10753] = (new short[] {
-			191
-		});
-		HZPY[10754] = (new short[] {
-			294
-		});
-		HZPY[10755] = (new short[] {
-			57
-		});
-		HZPY[10756] = (new short[] {
-			143
-		});
-		HZPY[10757] = (new short[] {
-			171
-		});
-		HZPY[10758] = (new short[] {
-			91
-		});
-		HZPY[10759] = (new short[] {
-			204
-		});
-		HZPY[10760] = (new short[] {
-			236
-		});
-		HZPY[10761] = (new short[] {
-			124, 360
-		});
-		HZPY[10762] = (new short[] {
-			148
-		});
-		HZPY[10763] = (new short[] {
-			398
-		});
-		HZPY[10764] = (new short[] {
-			256, 261
-		});
-		HZPY[10765] = (new short[] {
-			147
-		});
-		HZPY[10766] = (new short[] {
-			136
-		});
-		HZPY[10767] = (new short[] {
-			87
-		});
-		HZPY[10768] = (new short[] {
-			77
-		});
-		HZPY[10769] = (new short[] {
-			364
-		});
-		HZPY[10770] = (new short[] {
-			247
-		});
-		HZPY[10771] = (new short[] {
-			394
-		});
-		HZPY[10772] = (new short[] {
-			365
-		});
-		HZPY[10773] = (new short[] {
-			318
-		});
-		HZPY[10774] = (new short[] {
-			404
-		});
-		HZPY[10775] = (new short[] {
-			34
-		});
-		HZPY[10776] = (new short[] {
-			75
-		});
-		HZPY[10777] = (new short[] {
-			241
-		});
-		HZPY[10778] = (new short[] {
-			365
-		});
-		HZPY[10779] = (new short[] {
-			229
-		});
-		HZPY[10780] = (new short[] {
-			88
-		});
-		HZPY[10781] = (new short[] {
-			83
-		});
-		HZPY[10782] = (new short[] {
-			207
-		});
-		HZPY[10783] = (new short[] {
-			389, 416
-		});
-		HZPY[10784] = (new short[] {
-			266
-		});
-		HZPY[10785] = (new short[] {
-			376
-		});
-		HZPY[10786] = (new short[] {
-			150
-		});
-		HZPY[10787] = (new short[] {
-			340
-		});
-		HZPY[10788] = (new short[] {
-			340
-		});
-		HZPY[10789] = (new short[] {
-			63
-		});
-		HZPY[10790] = (new short[] {
-			390
-		});
-		HZPY[10791] = (new short[] {
-			396
-		});
-		HZPY[10792] = (new short[] {
-			77
-		});
-		HZPY[10793] = (new short[] {
-			91, 86
-		});
-		HZPY[10794] = (new short[] {
-			209
-		});
-		HZPY[10795] = (new short[] {
-			401
-		});
-		HZPY[10796] = (new short[] {
-			163, 171
-		});
-		HZPY[10797] = (new short[] {
-			14
-		});
-		HZPY[10798] = (new short[] {
-			232
-		});
-		HZPY[10799] = (new short[] {
-			252
-		});
-		HZPY[10800] = (new short[] {
-			246
-		});
-		HZPY[10801] = (new short[] {
-			178
-		});
-		HZPY[10802] = (new short[] {
-			243
-		});
-		HZPY[10803] = (new short[] {
-			168
-		});
-		HZPY[10804] = (new short[] {
-			253
-		});
-		HZPY[10805] = (new short[] {
-			19
-		});
-		HZPY[10806] = (new short[] {
-			253
-		});
-		HZPY[10807] = (new short[] {
-			301
-		});
-		HZPY[10808] = (new short[] {
-			380
-		});
-		HZPY[10809] = (new short[] {
-			1
-		});
-		HZPY[10810] = (new short[] {
-			171
-		});
-		HZPY[10811] = (new short[] {
-			181
-		});
-		HZPY[10812] = (new short[] {
-			334
-		});
-		HZPY[10813] = (new short[] {
-			229
-		});
-		HZPY[10814] = (new short[] {
-			171
-		});
-		HZPY[10815] = (new short[] {
-			159
-		});
-		HZPY[10816] = (new short[] {
-			40
-		});
-		HZPY[10817] = (new short[] {
-			152
-		});
-		HZPY[10818] = (new short[] {
-			267
-		});
-		HZPY[10819] = (new short[] {
-			401
-		});
-		HZPY[10820] = (new short[] {
-			159
-		});
-		HZPY[10821] = (new short[] {
-			108, 130
-		});
-		HZPY[10822] = (new short[] {
-			77
-		});
-		HZPY[10823] = (new short[] {
-			215
-		});
-		HZPY[10824] = (new short[] {
-			132
-		});
-		HZPY[10825] = (new short[] {
-			183
-		});
-		HZPY[10826] = (new short[] {
-			345, 160
-		});
-		HZPY[10827] = (new short[] {
-			1
-		});
-		HZPY[10828] = (new short[] {
-			189, 97
-		});
-		HZPY[10829] = (new short[] {
-			151
-		});
-		HZPY[10830] = (new short[] {
-			357
-		});
-		HZPY[10831] = (new short[] {
-			365
-		});
-		HZPY[10832] = (new short[] {
-			70
-		});
-		HZPY[10833] = (new short[] {
-			246
-		});
-		HZPY[10834] = (new short[] {
-			350
-		});
-		HZPY[10835] = (new short[] {
-			229
-		});
-		HZPY[10836] = (new short[] {
-			121
-		});
-		HZPY[10837] = (new short[] {
-			312
-		});
-		HZPY[10838] = (new short[] {
-			351
-		});
-		HZPY[10839] = (new short[] {
-			260
-		});
-		HZPY[10840] = (new short[] {
-			229
-		});
-		HZPY[10841] = (new short[] {
-			345
-		});
-		HZPY[10842] = (new short[] {
-			260
-		});
-		HZPY[10843] = (new short[] {
-			229
-		});
-		HZPY[10844] = (new short[] {
-			152
-		});
-		HZPY[10845] = (new short[] {
-			354
-		});
-		HZPY[10846] = (new short[] {
-			268
-		});
-		HZPY[10847] = (new short[] {
-			31
-		});
-		HZPY[10848] = (new short[] {
-			166
-		});
-		HZPY[10849] = (new short[] {
-			121
-		});
-		HZPY[10850] = (new short[] {
-			376
-		});
-		HZPY[10851] = (new short[] {
-			354
-		});
-		HZPY[10852] = (new short[] {
-			351
-		});
-		HZPY[10853] = (new short[] {
-			194
-		});
-		HZPY[10854] = (new short[] {
-			181
-		});
-		HZPY[10855] = (new short[] {
-			229
-		});
-		HZPY[10856] = (new short[] {
-			34
-		});
-		HZPY[10857] = (new short[] {
-			34
-		});
-		HZPY[10858] = (new short[] {
-			348
-		});
-		HZPY[10859] = (new short[] {
-			179
-		});
-		HZPY[10860] = (new short[] {
-			372
-		});
-		HZPY[10861] = (new short[] {
-			194
-		});
-		HZPY[10862] = (new short[] {
-			268
-		});
-		HZPY[10863] = (new short[] {
-			365
-		});
-		HZPY[10864] = (new short[] {
-			54
-		});
-		HZPY[10865] = (new short[] {
-			161
-		});
-		HZPY[10866] = (new short[] {
-			376
-		});
-		HZPY[10867] = (new short[] {
-			229
-		});
-		HZPY[10868] = (new short[] {
-			229
-		});
-		HZPY[10869] = (new short[] {
-			183
-		});
-		HZPY[10870] = (new short[] {
-			35
-		});
-		HZPY[10871] = (new short[] {
-			133
-		});
-		HZPY[10872] = (new short[] {
-			229
-		});
-		HZPY[10873] = (new short[] {
-			314
-		});
-		HZPY[10874] = (new short[] {
-			408
-		});
-		HZPY[10875] = (new short[] {
-			152
-		});
-		HZPY[10876] = (new short[] {
-			246
-		});
-		HZPY[10877] = (new short[] {
-			365
-		});
-		HZPY[10878] = (new short[] {
-			406
-		});
-		HZPY[10879] = (new short[] {
-			153
-		});
-		HZPY[10880] = (new short[] {
-			28
-		});
-		HZPY[10881] = (new short[] {
-			256
-		});
-		HZPY[10882] = (new short[] {
-			410
-		});
-		HZPY[10883] = (new short[] {
-			263
-		});
-		HZPY[10884] = (new short[] {
-			177
-		});
-		HZPY[10885] = (new short[] {
-			144
-		});
-		HZPY[10886] = (new short[] {
-			19
-		});
-		HZPY[10887] = (new short[] {
-			68
-		});
-		HZPY[10888] = (new short[] {
-			204
-		});
-		HZPY[10889] = (new short[] {
-			66
-		});
-		HZPY[10890] = (new short[] {
-			133
-		});
-		HZPY[10891] = (new short[] {
-			116
-		});
-		HZPY[10892] = (new short[] {
-			179, 183
-		});
-		HZPY[10893] = (new short[] {
-			1
-		});
-		HZPY[10894] = (new short[] {
-			318
-		});
-		HZPY[10895] = (new short[] {
-			268
-		});
-		HZPY[10896] = (new short[] {
-			178
-		});
-		HZPY[10897] = (new short[] {
-			10
-		});
-		HZPY[10898] = (new short[] {
-			371
-		});
-		HZPY[10899] = (new short[] {
-			74
-		});
-		HZPY[10900] = (new short[] {
-			349
-		});
-		HZPY[10901] = (new short[] {
-			256
-		});
-		HZPY[10902] = (new short[] {
-			188
-		});
-		HZPY[10903] = (new short[] {
-			343
-		});
-		HZPY[10904] = (new short[] {
-			65
-		});
-		HZPY[10905] = (new short[] {
-			95
-		});
-		HZPY[10906] = (new short[] {
-			10
-		});
-		HZPY[10907] = (new short[] {
-			256
-		});
-		HZPY[10908] = (new short[] {
-			35
-		});
-		HZPY[10909] = (new short[] {
-			282
-		});
-		HZPY[10910] = (new short[] {
-			365
-		});
-		HZPY[10911] = (new short[] {
-			67
-		});
-		HZPY[10912] = (new short[] {
-			68
-		});
-		HZPY[10913] = (new short[] {
-			400
-		});
-		HZPY[10914] = (new short[] {
-			340
-		});
-		HZPY[10915] = (new short[] {
-			136
-		});
-		HZPY[10916] = (new short[] {
-			372
-		});
-		HZPY[10917] = (new short[] {
-			14
-		});
-		HZPY[10918] = (new short[] {
-			150
-		});
-		HZPY[10919] = (new short[] {
-			13
-		});
-		HZPY[10920] = (new short[] {
-			345
-		});
-		HZPY[10921] = (new short[] {
-			312, 303
-		});
-		HZPY[10922] = (new short[] {
-			396
-		});
-		HZPY[10923] = (new short[] {
-			73
-		});
-		HZPY[10924] = (new short[] {
-			351
-		});
-		HZPY[10925] = (new short[] {
-			58
-		});
-		HZPY[10926] = (new short[] {
-			329
-		});
-		HZPY[10927] = (new short[] {
-			215
-		});
-		HZPY[10928] = (new short[] {
-			246
-		});
-		HZPY[10929] = (new short[] {
-			133
-		});
-		HZPY[10930] = (new short[] {
-			63
-		});
-		HZPY[10931] = (new short[] {
-			323
-		});
-		HZPY[10932] = (new short[] {
-			29
-		});
-		HZPY[10933] = (new short[] {
-			229
-		});
-		HZPY[10934] = (new short[] {
-			256
-		});
-		HZPY[10935] = (new short[] {
-			229
-		});
-		HZPY[10936] = (new short[] {
-			88
-		});
-		HZPY[10937] = (new short[] {
-			361
-		});
-		HZPY[10938] = (new short[] {
-			268
-		});
-		HZPY[10939] = (new short[] {
-			268
-		});
-		HZPY[10940] = (new short[] {
-			191
-		});
-		HZPY[10941] = (new short[] {
-			101
-		});
-		HZPY[10942] = (new short[] {
-			222
-		});
-		HZPY[10943] = (new short[] {
-			316
-		});
-		HZPY[10944] = (new short[] {
-			77
-		});
-		HZPY[10945] = (new short[] {
-			47
-		});
-		HZPY[10946] = (new short[] {
-			179
-		});
-		HZPY[10947] = (new short[] {
-			313
-		});
-		HZPY[10948] = (new short[] {
-			324
-		});
-		HZPY[10949] = (new short[] {
-			8, 242
-		});
-		HZPY[10950] = (new short[] {
-			124
-		});
-		HZPY[10951] = (new short[] {
-			247
-		});
-		HZPY[10952] = (new short[] {
-			345
-		});
-		HZPY[10953] = (new short[] {
-			289
-		});
-		HZPY[10954] = (new short[] {
-			169
-		});
-		HZPY[10955] = (new short[] {
-			54
-		});
-		HZPY[10956] = (new short[] {
-			330
-		});
-		HZPY[10957] = (new short[] {
-			351
-		});
-		HZPY[10958] = (new short[] {
-			350
-		});
-		HZPY[10959] = (new short[] {
-			173
-		});
-		HZPY[10960] = (new short[] {
-			241
-		});
-		HZPY[10961] = (new short[] {
-			345
-		});
-		HZPY[10962] = (new short[] {
-			379
-		});
-		HZPY[10963] = (new short[] {
-			74
-		});
-		HZPY[10964] = (new short[] {
-			394
-		});
-		HZPY[10965] = (new short[] {
-			150
-		});
-		HZPY[10966] = (new short[] {
-			163
-		});
-		HZPY[10967] = (new short[] {
-			229
-		});
-		HZPY[10968] = (new short[] {
-			263
-		});
-		HZPY[10969] = (new short[] {
-			109
-		});
-		HZPY[10970] = (new short[] {
-			404
-		});
-		HZPY[10971] = (new short[] {
-			31
-		});
-		HZPY[10972] = (new short[] {
-			256
-		});
-		HZPY[10973] = (new short[] {
-			4
-		});
-		HZPY[10974] = (new short[] {
-			246
-		});
-		HZPY[10975] = (new short[] {
-			183
-		});
-		HZPY[10976] = (new short[] {
-			183
-		});
-		HZPY[10977] = (new short[] {
-			147
-		});
-		HZPY[10978] = (new short[] {
-			259
-		});
-		HZPY[10979] = (new short[] {
-			35
-		});
-		HZPY[10980] = (new short[] {
-			371
-		});
-		HZPY[10981] = (new short[] {
-			169
-		});
-		HZPY[10982] = (new short[] {
-			15
-		});
-		HZPY[10983] = (new short[] {
-			256
-		});
-		HZPY[10984] = (new short[] {
-			207
-		});
-		HZPY[10985] = (new short[] {
-			256
-		});
-		HZPY[10986] = (new short[] {
-			52
-		});
-		HZPY[10987] = (new short[] {
-			410
-		});
-		HZPY[10988] = (new short[] {
-			263
-		});
-		HZPY[10989] = (new short[] {
-			46
-		});
-		HZPY[10990] = (new short[] {
-			229
-		});
-		HZPY[10991] = (new short[] {
-			131
-		});
-		HZPY[10992] = (new short[] {
-			296
-		});
-		HZPY[10993] = (new short[] {
-			167
-		});
-		HZPY[10994] = (new short[] {
-			266
-		});
-		HZPY[10995] = (new short[] {
-			388
-		});
-		HZPY[10996] = (new short[] {
-			62
-		});
-		HZPY[10997] = (new short[] {
-			133
-		});
-		HZPY[10998] = (new short[] {
-			350
-		});
-		HZPY[10999] = (new short[] {
-			177
-		});
-	}
-
-	private void init5(short HZPY[][])
-	{
-		HZPY[11000] = (new short[] {
-			68
-		});
-		HZPY[11001] = (new short[] {
-			65
-		});
-		HZPY[11002] = (new short[] {
-			127
-		});
-		HZPY[11003] = (new short[] {
-			241
-		});
-		HZPY[11004] = (new short[] {
-			380
-		});
-		HZPY[11005] = (new short[] {
-			260
-		});
-		HZPY[11006] = (new short[] {
-			63
-		});
-		HZPY[11007] = (new short[] {
-			171
-		});
-		HZPY[11008] = (new short[] {
-			133
-		});
-		HZPY[11009] = (new short[] {
-			135
-		});
-		HZPY[11010] = (new short[] {
-			350
-		});
-		HZPY[11011] = (new short[] {
-			392
-		});
-		HZPY[11012] = (new short[] {
-			260
-		});
-		HZPY[11013] = (new short[] {
-			75
-		});
-		HZPY[11014] = (new short[] {
-			133
-		});
-		HZPY[11015] = (new short[] {
-			376
-		});
-		HZPY[11016] = (new short[] {
-			406
-		});
-		HZPY[11017] = (new short[] {
-			116
-		});
-		HZPY[11018] = (new short[] {
-			130
-		});
-		HZPY[11019] = (new short[] {
-			390
-		});
-		HZPY[11020] = (new short[] {
-			169
-		});
-		HZPY[11021] = (new short[] {
-			150
-		});
-		HZPY[11022] = (new short[] {
-			40
-		});
-		HZPY[11023] = (new short[] {
-			131
-		});
-		HZPY[11024] = (new short[] {
-			268
-		});
-		HZPY[11025] = (new short[] {
-			58
-		});
-		HZPY[11026] = (new short[] {
-			348, 369
-		});
-		HZPY[11027] = (new short[] {
-			134
-		});
-		HZPY[11028] = (new short[] {
-			247
-		});
-		HZPY[11029] = (new short[] {
-			247
-		});
-		HZPY[11030] = (new short[] {
-			376
-		});
-		HZPY[11031] = (new short[] {
-			251
-		});
-		HZPY[11032] = (new short[] {
-			256
-		});
-		HZPY[11033] = (new short[] {
-			1
-		});
-		HZPY[11034] = (new short[] {
-			150
-		});
-		HZPY[11035] = (new short[] {
-			133
-		});
-		HZPY[11036] = (new short[] {
-			376
-		});
-		HZPY[11037] = (new short[] {
-			282
-		});
-		HZPY[11038] = (new short[] {
-			199
-		});
-		HZPY[11039] = (new short[] {
-			243
-		});
-		HZPY[11040] = (new short[] {
-			409
-		});
-		HZPY[11041] = (new short[] {
-			19
-		});
-		HZPY[11042] = (new short[] {
-			229
-		});
-		HZPY[11043] = (new short[] {
-			203
-		});
-		HZPY[11044] = (new short[] {
-			21
-		});
-		HZPY[11045] = (new short[] {
-			352
-		});
-		HZPY[11046] = (new short[] {
-			159, 101
-		});
-		HZPY[11047] = (new short[] {
-			169
-		});
-		HZPY[11048] = (new short[] {
-			169
-		});
-		HZPY[11049] = (new short[] {
-			398
-		});
-		HZPY[11050] = (new short[] {
-			171
-		});
-		HZPY[11051] = (new short[] {
-			171
-		});
-		HZPY[11052] = (new short[] {
-			84
-		});
-		HZPY[11053] = (new short[] {
-			268
-		});
-		HZPY[11054] = (new short[] {
-			243
-		});
-		HZPY[11055] = (new short[] {
-			372
-		});
-		HZPY[11056] = (new short[] {
-			171
-		});
-		HZPY[11057] = (new short[] {
-			181
-		});
-		HZPY[11058] = (new short[] {
-			181
-		});
-		HZPY[11059] = (new short[] {
-			207
-		});
-		HZPY[11060] = (new short[] {
-			19
-		});
-		HZPY[11061] = (new short[] {
-			309
-		});
-		HZPY[11062] = (new short[] {
-			106
-		});
-		HZPY[11063] = (new short[] {
-			165
-		});
-		HZPY[11064] = (new short[] {
-			382
-		});
-		HZPY[11065] = (new short[] {
-			365
-		});
-		HZPY[11066] = (new short[] {
-			303
-		});
-		HZPY[11067] = (new short[] {
-			303
-		});
-		HZPY[11068] = (new short[] {
-			171
-		});
-		HZPY[11069] = (new short[] {
-			277
-		});
-		HZPY[11070] = (new short[] {
-			299
-		});
-		HZPY[11071] = (new short[] {
-			378
-		});
-		HZPY[11072] = (new short[] {
-			313
-		});
-		HZPY[11073] = (new short[] {
-			256
-		});
-		HZPY[11074] = (new short[] {
-			321
-		});
-		HZPY[11075] = (new short[] {
-			191
-		});
-		HZPY[11076] = (new short[] {
-			355
-		});
-		HZPY[11077] = (new short[] {
-			367
-		});
-		HZPY[11078] = (new short[] {
-			352
-		});
-		HZPY[11079] = (new short[] {
-			398, 256
-		});
-		HZPY[11080] = (new short[] {
-			256
-		});
-		HZPY[11081] = (new short[] {
-			398
-		});
-		HZPY[11082] = (new short[] {
-			12
-		});
-		HZPY[11083] = (new short[] {
-			305
-		});
-		HZPY[11084] = (new short[] {
-			38
-		});
-		HZPY[11085] = (new short[] {
-			229
-		});
-		HZPY[11086] = (new short[] {
-			369
-		});
-		HZPY[11087] = (new short[] {
-			303
-		});
-		HZPY[11088] = (new short[] {
-			375
-		});
-		HZPY[11089] = (new short[] {
-			398
-		});
-		HZPY[11090] = (new short[] {
-			331
-		});
-		HZPY[11091] = (new short[] {
-			91
-		});
-		HZPY[11092] = (new short[] {
-			91
-		});
-		HZPY[11093] = (new short[] {
-			200
-		});
-		HZPY[11094] = (new short[] {
-			412
-		});
-		HZPY[11095] = (new short[] {
-			398
-		});
-		HZPY[11096] = (new short[] {
-			317
-		});
-		HZPY[11097] = (new short[] {
-			197
-		});
-		HZPY[11098] = (new short[] {
-			416
-		});
-		HZPY[11099] = (new short[] {
-			266
-		});
-		HZPY[11100] = (new short[] {
-			123
-		});
-		HZPY[11101] = (new short[] {
-			401
-		});
-		HZPY[11102] = (new short[] {
-			301
-		});
-		HZPY[11103] = (new short[] {
-			318
-		});
-		HZPY[11104] = (new short[] {
-			47
-		});
-		HZPY[11105] = (new short[] {
-			30
-		});
-		HZPY[11106] = (new short[] {
-			200, 221
-		});
-		HZPY[11107] = (new short[] {
-			184
-		});
-		HZPY[11108] = (new short[] {
-			376
-		});
-		HZPY[11109] = (new short[] {
-			353
-		});
-		HZPY[11110] = (new short[] {
-			349
-		});
-		HZPY[11111] = (new short[] {
-			331
-		});
-		HZPY[11112] = (new short[] {
-			249
-		});
-		HZPY[11113] = (new short[] {
-			401
-		});
-		HZPY[11114] = (new short[] {
-			108
-		});
-		HZPY[11115] = (new short[] {
-			351
-		});
-		HZPY[11116] = (new short[] {
-			398
-		});
-		HZPY[11117] = (new short[] {
-			131, 390
-		});
-		HZPY[11118] = (new short[] {
-			96
-		});
-		HZPY[11119] = (new short[] {
-			396
-		});
-		HZPY[11120] = (new short[] {
-			96
-		});
-		HZPY[11121] = (new short[] {
-			310
-		});
-		HZPY[11122] = (new short[] {
-			137
-		});
-		HZPY[11123] = (new short[] {
-			396
-		});
-		HZPY[11124] = (new short[] {
-			93, 136
-		});
-		HZPY[11125] = (new short[] {
-			161
-		});
-		HZPY[11126] = (new short[] {
-			63
-		});
-		HZPY[11127] = (new short[] {
-			59
-		});
-		HZPY[11128] = (new short[] {
-			130
-		});
-		HZPY[11129] = (new short[] {
-			325
-		});
-		HZPY[11130] = (new short[] {
-			256
-		});
-		HZPY[11131] = (new short[] {
-			103
-		});
-		HZPY[11132] = (new short[] {
-			106
-		});
-		HZPY[11133] = (new short[] {
-			414
-		});
-		HZPY[11134] = (new short[] {
-			178
-		});
-		HZPY[11135] = (new short[] {
-			183
-		});
-		HZPY[11136] = (new short[] {
-			18
-		});
-		HZPY[11137] = (new short[] {
-			137
-		});
-		HZPY[11138] = (new short[] {
-			59
-		});
-		HZPY[11139] = (new short[] {
-			398
-		});
-		HZPY[11140] = (new short[] {
-			183
-		});
-		HZPY[11141] = (new short[] {
-			296, 31
-		});
-		HZPY[11142] = (new short[] {
-			10
-		});
-		HZPY[11143] = (new short[] {
-			394
-		});
-		HZPY[11144] = (new short[] {
-			128
-		});
-		HZPY[11145] = (new short[] {
-			375
-		});
-		HZPY[11146] = (new short[] {
-			350
-		});
-		HZPY[11147] = (new short[] {
-			371
-		});
-		HZPY[11148] = (new short[] {
-			409
-		});
-		HZPY[11149] = (new short[] {
-			130
-		});
-		HZPY[11150] = (new short[] {
-			396
-		});
-		HZPY[11151] = (new short[] {
-			91
-		});
-		HZPY[11152] = (new short[] {
-			377
-		});
-		HZPY[11153] = (new short[] {
-			349
-		});
-		HZPY[11154] = (new short[] {
-			352
-		});
-		HZPY[11155] = (new short[] {
-			366
-		});
-		HZPY[11156] = (new short[] {
-			329
-		});
-		HZPY[11157] = (new short[] {
-			369
-		});
-		HZPY[11158] = (new short[] {
-			197
-		});
-		HZPY[11159] = (new short[] {
-			313
-		});
-		HZPY[11160] = (new short[] {
-			63
-		});
-		HZPY[11161] = (new short[] {
-			229
-		});
-		HZPY[11162] = (new short[] {
-			408
-		});
-		HZPY[11163] = (new short[] {
-			396
-		});
-		HZPY[11164] = (new short[] {
-			374
-		});
-		HZPY[11165] = (new short[] {
-			131
-		});
-		HZPY[11166] = (new short[] {
-			96
-		});
-		HZPY[11167] = (new short[] {
-			324
-		});
-		HZPY[11168] = (new short[] {
-			37
-		});
-		HZPY[11169] = (new short[] {
-			191
-		});
-		HZPY[11170] = (new short[] {
-			321
-		});
-		HZPY[11171] = (new short[] {
-			229
-		});
-		HZPY[11172] = (new short[] {
-			361
-		});
-		HZPY[11173] = (new short[] {
-			256
-		});
-		HZPY[11174] = (new short[] {
-			376
-		});
-		HZPY[11175] = (new short[] {
-			350
-		});
-		HZPY[11176] = (new short[] {
-			131
-		});
-		HZPY[11177] = (new short[] {
-			313
-		});
-		HZPY[11178] = (new short[] {
-			31, 296
-		});
-		HZPY[11179] = (new short[] {
-			361
-		});
-		HZPY[11180] = (new short[] {
-			128
-		});
-		HZPY[11181] = (new short[] {
-			318
-		});
-		HZPY[11182] = (new short[] {
-			171
-		});
-		HZPY[11183] = (new short[] {
-			230
-		});
-		HZPY[11184] = (new short[] {
-			221, 200
-		});
-		HZPY[11185] = (new short[] {
-			59
-		});
-		HZPY[11186] = (new short[] {
-			171
-		});
-		HZPY[11187] = (new short[] {
-			273
-		});
-		HZPY[11188] = (new short[] {
-			378
-		});
-		HZPY[11189] = (new short[] {
-			329
-		});
-		HZPY[11190] = (new short[] {
-			382
-		});
-		HZPY[11191] = (new short[] {
-			169
-		});
-		HZPY[11192] = (new short[] {
-			280
-		});
-		HZPY[11193] = (new short[] {
-			376
-		});
-		HZPY[11194] = (new short[] {
-			376
-		});
-		HZPY[11195] = (new short[] {
-			171
-		});
-		HZPY[11196] = (new short[] {
-			355
-		});
-		HZPY[11197] = (new short[] {
-			262
-		});
-		HZPY[11198] = (new short[] {
-			116
-		});
-		HZPY[11199] = (new short[] {
-			336
-		});
-		HZPY[11200] = (new short[] {
-			359
-		});
-		HZPY[11201] = (new short[] {
-			313
-		});
-		HZPY[11202] = (new short[] {
-			276
-		});
-		HZPY[11203] = (new short[] {
-			336
-		});
-		HZPY[11204] = (new short[] {
-			409
-		});
-		HZPY[11205] = (new short[] {
-			29
-		});
-		HZPY[11206] = (new short[] {
-			94
-		});
-		HZPY[11207] = (new short[] {
-			369
-		});
-		HZPY[11208] = (new short[] {
-			352
-		});
-		HZPY[11209] = (new short[] {
-			18
-		});
-		HZPY[11210] = (new short[] {
-			222
-		});
-		HZPY[11211] = (new short[] {
-			265
-		});
-		HZPY[11212] = (new short[] {
-			265
-		});
-		HZPY[11213] = (new short[] {
-			399, 38
-		});
-		HZPY[11214] = (new short[] {
-			87
-		});
-		HZPY[11215] = (new short[] {
-			115
-		});
-		HZPY[11216] = (new short[] {
-			379
-		});
-		HZPY[11217] = (new short[] {
-			150
-		});
-		HZPY[11218] = (new short[] {
-			202
-		});
-		HZPY[11219] = (new short[] {
-			398
-		});
-		HZPY[11220] = (new short[] {
-			138
-		});
-		HZPY[11221] = (new short[] {
-			13
-		});
-		HZPY[11222] = (new short[] {
-			398
-		});
-		HZPY[11223] = (new short[] {
-			376
-		});
-		HZPY[11224] = (new short[] {
-			200, 13, 177
-		});
-		HZPY[11225] = (new short[] {
-			155
-		});
-		HZPY[11226] = (new short[] {
-			7
-		});
-		HZPY[11227] = (new short[] {
-			247
-		});
-		HZPY[11228] = (new short[] {
-			221
-		});
-		HZPY[11229] = (new short[] {
-			171
-		});
-		HZPY[11230] = (new short[] {
-			375
-		});
-		HZPY[11231] = (new short[] {
-			412
-		});
-		HZPY[11232] = (new short[] {
-			247
-		});
-		HZPY[11233] = (new short[] {
-			5
-		});
-		HZPY[11234] = (new short[] {
-			178
-		});
-		HZPY[11235] = (new short[] {
-			207
-		});
-		HZPY[11236] = (new short[] {
-			36, 35
-		});
-		HZPY[11237] = (new short[] {
-			222
-		});
-		HZPY[11238] = (new short[] {
-			262
-		});
-		HZPY[11239] = (new short[] {
-			366
-		});
-		HZPY[11240] = (new short[] {
-			416
-		});
-		HZPY[11241] = (new short[] {
-			398
-		});
-		HZPY[11242] = (new short[] {
-			398
-		});
-		HZPY[11243] = (new short[] {
-			305
-		});
-		HZPY[11244] = (new short[] {
-			141
-		});
-		HZPY[11245] = (new short[] {
-			409
-		});
-		HZPY[11246] = (new short[] {
-			322
-		});
-		HZPY[11247] = (new short[] {
-			131
-		});
-		HZPY[11248] = (new short[] {
-			36, 35
-		});
-		HZPY[11249] = (new short[] {
-			334
-		});
-		HZPY[11250] = (new short[] {
-			398
-		});
-		HZPY[11251] = (new short[] {
-			130
-		});
-		HZPY[11252] = (new short[] {
-			116
-		});
-		HZPY[11253] = (new short[] {
-			371
-		});
-		HZPY[11254] = (new short[] {
-			409
-		});
-		HZPY[11255] = (new short[] {
-			398
-		});
-		HZPY[11256] = (new short[] {
-			136
-		});
-		HZPY[11257] = (new short[] {
-			276
-		});
-		HZPY[11258] = (new short[] {
-			72
-		});
-		HZPY[11259] = (new short[] {
-			369
-		});
-		HZPY[11260] = (new short[] {
-			401
-		});
-		HZPY[11261] = (new short[] {
-			128
-		});
-		HZPY[11262] = (new short[] {
-			230
-		});
-		HZPY[11263] = (new short[] {
-			91
-		});
-		HZPY[11264] = (new short[] {
-			350
-		});
-		HZPY[11265] = (new short[] {
-			149
-		});
-		HZPY[11266] = (new short[] {
-			166
-		});
-		HZPY[11267] = (new short[] {
-			91
-		});
-		HZPY[11268] = (new short[] {
-			385
-		});
-		HZPY[11269] = (new short[] {
-			310
-		});
-		HZPY[11270] = (new short[] {
-			184
-		});
-		HZPY[11271] = (new short[] {
-			161
-		});
-		HZPY[11272] = (new short[] {
-			94
-		});
-		HZPY[11273] = (new short[] {
-			138
-		});
-		HZPY[11274] = (new short[] {
-			329
-		});
-		HZPY[11275] = (new short[] {
-			36
-		});
-		HZPY[11276] = (new short[] {
-			336
-		});
-		HZPY[11277] = (new short[] {
-			298
-		});
-		HZPY[11278] = (new short[] {
-			310
-		});
-		HZPY[11279] = (new short[] {
-			364
-		});
-		HZPY[11280] = (new short[] {
-			188
-		});
-		HZPY[11281] = (new short[] {
-			183
-		});
-		HZPY[11282] = (new short[] {
-			103
-		});
-		HZPY[11283] = (new short[] {
-			416
-		});
-		HZPY[11284] = (new short[] {
-			276
-		});
-		HZPY[11285] = (new short[] {
-			407
-		});
-		HZPY[11286] = (new short[] {
-			8
-		});
-		HZPY[11287] = (new short[] {
-			6, 13
-		});
-		HZPY[11288] = (new short[] {
-			131, 256
-		});
-		HZPY[11289] = (new short[] {
-			398
-		});
-		HZPY[11290] = (new short[] {
-			398
-		});
-		HZPY[11291] = (new short[] {
-			161
-		});
-		HZPY[11292] = (new short[] {
-			170
-		});
-		HZPY[11293] = (new short[] {
-			246
-		});
-		HZPY[11294] = (new short[] {
-			150
-		});
-		HZPY[11295] = (new short[] {
-			18
-		});
-		HZPY[11296] = (new short[] {
-			39
-		});
-		HZPY[11297] = (new short[] {
-			414
-		});
-		HZPY[11298] = (new short[] {
-			376
-		});
-		HZPY[11299] = (new short[] {
-			316
-		});
-		HZPY[11300] = (new short[] {
-			229
-		});
-		HZPY[11301] = (new short[] {
-			229
-		});
-		HZPY[11302] = (new short[] {
-			369
-		});
-		HZPY[11303] = (new short[] {
-			350
-		});
-		HZPY[11304] = (new short[] {
-			14
-		});
-		HZPY[11305] = (new short[] {
-			131
-		});
-		HZPY[11306] = (new short[] {
-			91
-		});
-		HZPY[11307] = (new short[] {
-			13
-		});
-		HZPY[11308] = (new short[] {
-			236
-		});
-		HZPY[11309] = (new short[] {
-			136
-		});
-		HZPY[11310] = (new short[] {
-			399, 38
-		});
-		HZPY[11311] = (new short[] {
-			410
-		});
-		HZPY[11312] = (new short[] {
-			360
-		});
-		HZPY[11313] = (new short[] {
-			36, 35
-		});
-		HZPY[11314] = (new short[] {
-			59
-		});
-		HZPY[11315] = (new short[] {
-			346
-		});
-		HZPY[11316] = (new short[] {
-			173
-		});
-		HZPY[11317] = (new short[] {
-			409
-		});
-		HZPY[11318] = (new short[] {
-			376
-		});
-		HZPY[11319] = (new short[] {
-			131
-		});
-		HZPY[11320] = (new short[] {
-			360
-		});
-		HZPY[11321] = (new short[] {
-			396
-		});
-		HZPY[11322] = (new short[] {
-			398
-		});
-		HZPY[11323] = (new short[] {
-			59
-		});
-		HZPY[11324] = (new short[] {
-			132
-		});
-		HZPY[11325] = (new short[] {
-			131, 256
-		});
-		HZPY[11326] = (new short[] {
-			96
-		});
-		HZPY[11327] = (new short[] {
-			96
-		});
-		HZPY[11328] = (new short[] {
-			103
-		});
-		HZPY[11329] = (new short[] {
-			279
-		});
-		HZPY[11330] = (new short[] {
-			318
-		});
-		HZPY[11331] = (new short[] {
-			229
-		});
-		HZPY[11332] = (new short[] {
-			131
-		});
-		HZPY[11333] = (new short[] {
-			148
-		});
-		HZPY[11334] = (new short[] {
-			209
-		});
-		HZPY[11335] = (new short[] {
-			296
-		});
-		HZPY[11336] = (new short[] {
-			198
-		});
-		HZPY[11337] = (new short[] {
-			398
-		});
-		HZPY[11338] = (new short[] {
-			131
-		});
-		HZPY[11339] = (new short[] {
-			183
-		});
-		HZPY[11340] = (new short[] {
-			316, 345
-		});
-		HZPY[11341] = (new short[] {
-			131
-		});
-		HZPY[11342] = (new short[] {
-			372
-		});
-		HZPY[11343] = (new short[] {
-			346
-		});
-		HZPY[11344] = (new short[] {
-			265
-		});
-		HZPY[11345] = (new short[] {
-			291
-		});
-		HZPY[11346] = (new short[] {
-			229
-		});
-		HZPY[11347] = (new short[] {
-			369
-		});
-		HZPY[11348] = (new short[] {
-			127
-		});
-		HZPY[11349] = (new short[] {
-			261
-		});
-		HZPY[11350] = (new short[] {
-			131
-		});
-		HZPY[11351] = (new short[] {
-			318
-		});
-		HZPY[11352] = (new short[] {
-			354
-		});
-		HZPY[11353] = (new short[] {
-			255
-		});
-		HZPY[11354] = (new short[] {
-			135
-		});
-		HZPY[11355] = (new short[] {
-			408
-		});
-		HZPY[11356] = (new short[] {
-			334
-		});
-		HZPY[11357] = (new short[] {
-			229
-		});
-		HZPY[11358] = (new short[] {
-			184
-		});
-		HZPY[11359] = (new short[] {
-			318
-		});
-		HZPY[11360] = (new short[] {
-			230
-		});
-		HZPY[11361] = (new short[] {
-			291
-		});
-		HZPY[11362] = (new short[] {
-			128
-		});
-		HZPY[11363] = (new short[] {
-			273
-		});
-		HZPY[11364] = (new short[] {
-			236
-		});
-		HZPY[11365] = (new short[] {
-			376
-		});
-		HZPY[11366] = (new short[] {
-			229
-		});
-		HZPY[11367] = (new short[] {
-			131
-		});
-		HZPY[11368] = (new short[] {
-			338
-		});
-		HZPY[11369] = (new short[] {
-			346
-		});
-		HZPY[11370] = (new short[] {
-			36, 35
-		});
-		HZPY[11371] = (new short[] {
-			130
-		});
-		HZPY[11372] = (new short[] {
-			101
-		});
-		HZPY[11373] = (new short[] {
-			184
-		});
-		HZPY[11374] = (new short[] {
-			15
-		});
-		HZPY[11375] = (new short[] {
-			229
-		});
-		HZPY[11376] = (new short[] {
-			273
-		});
-		HZPY[11377] = (new short[] {
-			143
-		});
-		HZPY[11378] = (new short[] {
-			171
-		});
-		HZPY[11379] = (new short[] {
-			382
-		});
-		HZPY[11380] = (new short[] {
-			362
-		});
-		HZPY[11381] = (new short[] {
-			341
-		});
-		HZPY[11382] = (new short[] {
-			140
-		});
-		HZPY[11383] = (new short[] {
-			264
-		});
-		HZPY[11384] = (new short[] {
-			350
-		});
-		HZPY[11385] = (new short[] {
-			264
-		});
-		HZPY[11386] = (new short[] {
-			153
-		});
-		HZPY[11387] = (new short[] {
-			376
-		});
-		HZPY[11388] = (new short[] {
-			292
-		});
-		HZPY[11389] = (new short[] {
-			138
-		});
-		HZPY[11390] = (new short[] {
-			367
-		});
-		HZPY[11391] = (new short[] {
-			42
-		});
-		HZPY[11392] = (new short[] {
-			407
-		});
-		HZPY[11393] = (new short[] {
-			336
-		});
-		HZPY[11394] = (new short[] {
-			167
-		});
-		HZPY[11395] = (new short[] {
-			261
-		});
-		HZPY[11396] = (new short[] {
-			390, 385
-		});
-		HZPY[11397] = (new short[] {
-			367
-		});
-		HZPY[11398] = (new short[] {
-			14
-		});
-		HZPY[11399] = (new short[] {
-			9
-		});
-		HZPY[11400] = (new short[] {
-			367
-		});
-		HZPY[11401] = (new short[] {
-			18
-		});
-		HZPY[11402] = (new short[] {
-			376
-		});
-		HZPY[11403] = (new short[] {
-			401
-		});
-		HZPY[11404] = (new short[] {
-			135
-		});
-		HZPY[11405] = (new short[] {
-			260
-		});
-		HZPY[11406] = (new short[] {
-			66
-		});
-		HZPY[11407] = (new short[] {
-			349
-		});
-		HZPY[11408] = (new short[] {
-			108
-		});
-		HZPY[11409] = (new short[] {
-			367
-		});
-		HZPY[11410] = (new short[] {
-			398
-		});
-		HZPY[11411] = (new short[] {
-			42
-		});
-		HZPY[11412] = (new short[] {
-			367
-		});
-		HZPY[11413] = (new short[] {
-			331
-		});
-		HZPY[11414] = (new short[] {
-			135
-		});
-		HZPY[11415] = (new short[] {
-			43
-		});
-		HZPY[11416] = (new short[] {
-			139, 144
-		});
-		HZPY[11417] = (new short[] {
-			354
-		});
-		HZPY[11418] = (new short[] {
-			36
-		});
-		HZPY[11419] = (new short[] {
-			154
-		});
-		HZPY[11420] = (new short[] {
-			51
-		});
-		HZPY[11421] = (new short[] {
-			348
-		});
-		HZPY[11422] = (new short[] {
-			57
-		});
-		HZPY[11423] = (new short[] {
-			155
-		});
-		HZPY[11424] = (new short[] {
-			150
-		});
-		HZPY[11425] = (new short[] {
-			406
-		});
-		HZPY[11426] = (new short[] {
-			360
-		});
-		HZPY[11427] = (new short[] {
-			316
-		});
-		HZPY[11428] = (new short[] {
-			229
-		});
-		HZPY[11429] = (new short[] {
-			160
-		});
-		HZPY[11430] = (new short[] {
-			71
-		});
-		HZPY[11431] = (new short[] {
-			229
-		});
-		HZPY[11432] = (new short[] {
-			371, 363
-		});
-		HZPY[11433] = (new short[] {
-			348
-		});
-		HZPY[11434] = (new short[] {
-			341
-		});
-		HZPY[11435] = (new short[] {
-			364
-		});
-		HZPY[11436] = (new short[] {
-			376
-		});
-		HZPY[11437] = (new short[] {
-			141
-		});
-		HZPY[11438] = (new short[] {
-			264
-		});
-		HZPY[11439] = (new short[] {
-			367
-		});
-		HZPY[11440] = (new short[] {
-			367
-		});
-		HZPY[11441] = (new short[] {
-			331
-		});
-		HZPY[11442] = (new short[] {
-			175
-		});
-		HZPY[11443] = (new short[] {
-			376
-		});
-		HZPY[11444] = (new short[] {
-			330
-		});
-		HZPY[11445] = (new short[] {
-			66
-		});
-		HZPY[11446] = (new short[] {
-			141
-		});
-		HZPY[11447] = (new short[] {
-			175
-		});
-		HZPY[11448] = (new short[] {
-			350
-		});
-		HZPY[11449] = (new short[] {
-			349
-		});
-		HZPY[11450] = (new short[] {
-			160
-		});
-		HZPY[11451] = (new short[] {
-			43
-		});
-		HZPY[11452] = (new short[] {
-			141
-		});
-		HZPY[11453] = (new short[] {
-			229
-		});
-		HZPY[11454] = (new short[] {
-			158
-		});
-		HZPY[11455] = (new short[] {
-			181
-		});
-		HZPY[11456] = (new short[] {
-			36
-		});
-		HZPY[11457] = (new short[] {
-			52
-		});
-		HZPY[11458] = (new short[] {
-			249
-		});
-		HZPY[11459] = (new short[] {
-			384
-		});
-		HZPY[11460] = (new short[] {
-			51
-		});
-		HZPY[11461] = (new short[] {
-			260
-		});
-		HZPY[11462] = (new short[] {
-			264
-		});
-		HZPY[11463] = (new short[] {
-			71
-		});
-		HZPY[11464] = (new short[] {
-			384
-		});
-		HZPY[11465] = (new short[] {
-			384
-		});
-		HZPY[11466] = (new short[] {
-			261
-		});
-		HZPY[11467] = (new short[] {
-			171
-		});
-		HZPY[11468] = (new short[] {
-			40
-		});
-		HZPY[11469] = (new short[] {
-			303, 101, 302
-		});
-		HZPY[11470] = (new short[] {
-			91
-		});
-		HZPY[11471] = (new short[] {
-			258, 101, 302
-		});
-		HZPY[11472] = (new short[] {
-			40
-		});
-		HZPY[11473] = (new short[] {
-			121
-		});
-		HZPY[11474] = (new short[] {
-			256, 131
-		});
-		HZPY[11475] = (new short[] {
-			258, 87, 398, 369, 101, 302
-		});
-		HZPY[11476] = (new short[] {
-			101, 302
-		});
-		HZPY[11477] = (new short[] {
-			303, 87, 398, 369, 101, 302
-		});
-		HZPY[11478] = (new short[] {
-			305
-		});
-		HZPY[11479] = (new short[] {
-			202
-		});
-		HZPY[11480] = (new short[] {
-			141
-		});
-		HZPY[11481] = (new short[] {
-			391
-		});
-		HZPY[11482] = (new short[] {
-			401
-		});
-		HZPY[11483] = (new short[] {
-			178
-		});
-		HZPY[11484] = (new short[] {
-			181
-		});
-		HZPY[11485] = (new short[] {
-			18
-		});
-		HZPY[11486] = (new short[] {
-			138
-		});
-		HZPY[11487] = (new short[] {
-			138
-		});
-		HZPY[11488] = (new short[] {
-			392
-		});
-		HZPY[11489] = (new short[] {
-			369, 101, 302, 6, 10, 313
-		});
-		HZPY[11490] = (new short[] {
-			313, 256
-		});
-		HZPY[11491] = (new short[] {
-			144
-		});
-		HZPY[11492] = (new short[] {
-			121
-		});
-		HZPY[11493] = (new short[] {
-			334
-		});
-		HZPY[11494] = (new short[] {
-			314
-		});
-		HZPY[11495] = (new short[] {
-			138
-		});
-		HZPY[11496] = (new short[] {
-			66
-		});
-		HZPY[11497] = (new short[] {
-			369
-		});
-		HZPY[11498] = (new short[] {
-			305
-		});
-		HZPY[11499] = (new short[] {
-			138
-		});
-		HZPY[11500] = (new short[] {
-			266
-		});
-		HZPY[11501] = (new short[] {
-			136
-		});
-		HZPY[11502] = (new short[] {
-			252
-		});
-		HZPY[11503] = (new short[] {
-			73
-		});
-		HZPY[11504] = (new short[] {
-			298
-		});
-		HZPY[11505] = (new short[] {
-			404
-		});
-		HZPY[11506] = (new short[] {
-			28
-		});
-		HZPY[11507] = (new short[] {
-			62
-		});
-		HZPY[11508] = (new short[] {
-			53
-		});
-		HZPY[11509] = (new short[] {
-			125
-		});
-		HZPY[11510] = (new short[] {
-			138
-		});
-		HZPY[11511] = (new short[] {
-			147
-		});
-		HZPY[11512] = (new short[] {
-			138
-		});
-		HZPY[11513] = (new short[] {
-			401
-		});
-		HZPY[11514] = (new short[] {
-			401
-		});
-		HZPY[11515] = (new short[] {
-			168
-		});
-		HZPY[11516] = (new short[] {
-			246
-		});
-		HZPY[11517] = (new short[] {
-			376
-		});
-		HZPY[11518] = (new short[] {
-			37
-		});
-		HZPY[11519] = (new short[] {
-			94
-		});
-		HZPY[11520] = (new short[] {
-			194
-		});
-		HZPY[11521] = (new short[] {
-			401
-		});
-		HZPY[11522] = (new short[] {
-			229
-		});
-		HZPY[11523] = (new short[] {
-			72
-		});
-		HZPY[11524] = (new short[] {
-			131
-		});
-		HZPY[11525] = (new short[] {
-			354
-		});
-		HZPY[11526] = (new short[] {
-			5
-		});
-		HZPY[11527] = (new short[] {
-			317
-		});
-		HZPY[11528] = (new short[] {
-			131
-		});
-		HZPY[11529] = (new short[] {
-			396
-		});
-		HZPY[11530] = (new short[] {
-			393
-		});
-		HZPY[11531] = (new short[] {
-			319
-		});
-		HZPY[11532] = (new short[] {
-			364
-		});
-		HZPY[11533] = (new short[] {
-			406
-		});
-		HZPY[11534] = (new short[] {
-			377
-		});
-		HZPY[11535] = (new short[] {
-			123
-		});
-		HZPY[11536] = (new short[] {
-			95
-		});
-		HZPY[11537] = (new short[] {
-			354
-		});
-		HZPY[11538] = (new short[] {
-			27
-		});
-		HZPY[11539] = (new short[] {
-			247
-		});
-		HZPY[11540] = (new short[] {
-			13
-		});
-		HZPY[11541] = (new short[] {
-			133
-		});
-		HZPY[11542] = (new short[] {
-			369
-		});
-		HZPY[11543] = (new short[] {
-			70
-		});
-		HZPY[11544] = (new short[] {
-			296
-		});
-		HZPY[11545] = (new short[] {
-			302
-		});
-		HZPY[11546] = (new short[] {
-			351
-		});
-		HZPY[11547] = (new short[] {
-			63
-		});
-		HZPY[11548] = (new short[] {
-			401
-		});
-		HZPY[11549] = (new short[] {
-			211
-		});
-		HZPY[11550] = (new short[] {
-			37
-		});
-		HZPY[11551] = (new short[] {
-			103
-		});
-		HZPY[11552] = (new short[] {
-			171
-		});
-		HZPY[11553] = (new short[] {
-			261
-		});
-		HZPY[11554] = (new short[] {
-			204
-		});
-		HZPY[11555] = (new short[] {
-			9
-		});
-		HZPY[11556] = (new short[] {
-			331
-		});
-		HZPY[11557] = (new short[] {
-			313
-		});
-		HZPY[11558] = (new short[] {
-			91
-		});
-		HZPY[11559] = (new short[] {
-			26
-		});
-		HZPY[11560] = (new short[] {
-			11
-		});
-		HZPY[11561] = (new short[] {
-			83
-		});
-		HZPY[11562] = (new short[] {
-			55
-		});
-		HZPY[11563] = (new short[] {
-			409
-		});
-		HZPY[11564] = (new short[] {
-			63
-		});
-		HZPY[11565] = (new short[] {
-			178
-		});
-		HZPY[11566] = (new short[] {
-			385, 416
-		});
-		HZPY[11567] = (new short[] {
-			232
-		});
-		HZPY[11568] = (new short[] {
-			91
-		});
-		HZPY[11569] = (new short[] {
-			102
-		});
-		HZPY[11570] = (new short[] {
-			84
-		});
-		HZPY[11571] = (new short[] {
-			132
-		});
-		HZPY[11572] = (new short[] {
-			97
-		});
-		HZPY[11573] = (new short[] {
-			84
-		});
-		HZPY[11574] = (new short[] {
-			303
-		});
-		HZPY[11575] = (new short[] {
-			195
-		});
-		HZPY[11576] = (new short[] {
-			253
-		});
-		HZPY[11577] = (new short[] {
-			229
-		});
-		HZPY[11578] = (new short[] {
-			133
-		});
-		HZPY[11579] = (new short[] {
-			264
-		});
-		HZPY[11580] = (new short[] {
-			181
-		});
-		HZPY[11581] = (new short[] {
-			229
-		});
-		HZPY[11582] = (new short[] {
-			14
-		});
-		HZPY[11583] = (new short[] {
-			189
-		});
-		HZPY[11584] = (new short[] {
-			108
-		});
-		HZPY[11585] = (new short[] {
-			266
-		});
-		HZPY[11586] = (new short[] {
-			37
-		});
-		HZPY[11587] = (new short[] {
-			371
-		});
-		HZPY[11588] = (new short[] {
-			367
-		});
-		HZPY[11589] = (new short[] {
-			352
-		});
-		HZPY[11590] = (new short[] {
-			13
-		});
-		HZPY[11591] = (new short[] {
-			264
-		});
-		HZPY[11592] = (new short[] {
-			104
-		});
-		HZPY[11593] = (new short[] {
-			62
-		});
-		HZPY[11594] = (new short[] {
-			135
-		});
-		HZPY[11595] = (new short[] {
-			137
-		});
-		HZPY[11596] = (new short[] {
-			267
-		});
-		HZPY[11597] = (new short[] {
-			319
-		});
-		HZPY[11598] = (new short[] {
-			281
-		});
-		HZPY[11599] = (new short[] {
-			83
-		});
-		HZPY[11600] = (new short[] {
-			159
-		});
-		HZPY[11601] = (new short[] {
-			401
-		});
-		HZPY[11602] = (new short[] {
-			334
-		});
-		HZPY[11603] = (new short[] {
-			131
-		});
-		HZPY[11604] = (new short[] {
-			55
-		});
-		HZPY[11605] = (new short[] {
-			114
-		});
-		HZPY[11606] = (new short[] {
-			26
-		});
-		HZPY[11607] = (new short[] {
-			399
-		});
-		HZPY[11608] = (new short[] {
-			154
-		});
-		HZPY[11609] = (new short[] {
-			164
-		});
-		HZPY[11610] = (new short[] {
-			13
-		});
-		HZPY[11611] = (new short[] {
-			295
-		});
-		HZPY[11612] = (new short[] {
-			58
-		});
-		HZPY[11613] = (new short[] {
-			397
-		});
-		HZPY[11614] = (new short[] {
-			26
-		});
-		HZPY[11615] = (new short[] {
-			91
-		});
-		HZPY[11616] = (new short[] {
-			379, 144
-		});
-		HZPY[11617] = (new short[] {
-			336
-		});
-		HZPY[11618] = (new short[] {
-			239
-		});
-		HZPY[11619] = (new short[] {
-			171
-		});
-		HZPY[11620] = (new short[] {
-			166
-		});
-		HZPY[11621] = (new short[] {
-			141
-		});
-		HZPY[11622] = (new short[] {
-			106
-		});
-		HZPY[11623] = (new short[] {
-			133
-		});
-		HZPY[11624] = (new short[] {
-			113
-		});
-		HZPY[11625] = (new short[] {
-			334
-		});
-		HZPY[11626] = (new short[] {
-			351
-		});
-		HZPY[11627] = (new short[] {
-			398
-		});
-		HZPY[11628] = (new short[] {
-			36
-		});
-		HZPY[11629] = (new short[] {
-			317
-		});
-		HZPY[11630] = (new short[] {
-			303
-		});
-		HZPY[11631] = (new short[] {
-			401
-		});
-		HZPY[11632] = (new short[] {
-			416
-		});
-		HZPY[11633] = (new short[] {
-			354
-		});
-		HZPY[11634] = (new short[] {
-			298
-		});
-		HZPY[11635] = (new short[] {
-			333
-		});
-		HZPY[11636] = (new short[] {
-			132, 26
-		});
-		HZPY[11637] = (new short[] {
-			365
-		});
-		HZPY[11638] = (new short[] {
-			96
-		});
-		HZPY[11639] = (new short[] {
-			157
-		});
-		HZPY[11640] = (new short[] {
-			94
-		});
-		HZPY[11641] = (new short[] {
-			39
-		});
-		HZPY[11642] = (new short[] {
-			159
-		});
-		HZPY[11643] = (new short[] {
-			95
-		});
-		HZPY[11644] = (new short[] {
-			379
-		});
-		HZPY[11645] = (new short[] {
-			229
-		});
-		HZPY[11646] = (new short[] {
-			258
-		});
-		HZPY[11647] = (new short[] {
-			354
-		});
-		HZPY[11648] = (new short[] {
-			133
-		});
-		HZPY[11649] = (new short[] {
-			255
-		});
-		HZPY[11650] = (new short[] {
-			164
-		});
-		HZPY[11651] = (new short[] {
-			411
-		});
-		HZPY[11652] = (new short[] {
-			13
-		});
-		HZPY[11653] = (new short[] {
-			13
-		});
-		HZPY[11654] = (new short[] {
-			13
-		});
-		HZPY[11655] = (new short[] {
-			97
-		});
-		HZPY[11656] = (new short[] {
-			37
-		});
-		HZPY[11657] = (new short[] {
-			105
-		});
-		HZPY[11658] = (new short[] {
-			376
-		});
-		HZPY[11659] = (new short[] {
-			133
-		});
-		HZPY[11660] = (new short[] {
-			393
-		});
-		HZPY[11661] = (new short[] {
-			103
-		});
-		HZPY[11662] = (new short[] {
-			37
-		});
-		HZPY[11663] = (new short[] {
-			397
-		});
-		HZPY[11664] = (new short[] {
-			263
-		});
-		HZPY[11665] = (new short[] {
-			294
-		});
-		HZPY[11666] = (new short[] {
-			400
-		});
-		HZPY[11667] = (new short[] {
-			183
-		});
-		HZPY[11668] = (new short[] {
-			19
-		});
-		HZPY[11669] = (new short[] {
-			131
-		});
-		HZPY[11670] = (new short[] {
-			177
-		});
-		HZPY[11671] = (new short[] {
-			317
-		});
-		HZPY[11672] = (new short[] {
-			144
-		});
-		HZPY[11673] = (new short[] {
-			91
-		});
-		HZPY[11674] = (new short[] {
-			389
-		});
-		HZPY[11675] = (new short[] {
-			103
-		});
-		HZPY[11676] = (new short[] {
-			153
-		});
-		HZPY[11677] = (new short[] {
-			258
-		});
-		HZPY[11678] = (new short[] {
-			258
-		});
-		HZPY[11679] = (new short[] {
-			144
-		});
-		HZPY[11680] = (new short[] {
-			44
-		});
-		HZPY[11681] = (new short[] {
-			106
-		});
-		HZPY[11682] = (new short[] {
-			377
-		});
-		HZPY[11683] = (new short[] {
-			26
-		});
-		HZPY[11684] = (new short[] {
-			141
-		});
-		HZPY[11685] = (new short[] {
-			19
-		});
-		HZPY[11686] = (new short[] {
-			385
-		});
-		HZPY[11687] = (new short[] {
-			261
-		});
-		HZPY[11688] = (new short[] {
-			340
-		});
-		HZPY[11689] = (new short[] {
-			189
-		});
-		HZPY[11690] = (new short[] {
-			57
-		});
-		HZPY[11691] = (new short[] {
-			354
-		});
-		HZPY[11692] = (new short[] {
-			285
-		});
-		HZPY[11693] = (new short[] {
-			133
-		});
-		HZPY[11694] = (new short[] {
-			229
-		});
-		HZPY[11695] = (new short[] {
-			14
-		});
-		HZPY[11696] = (new short[] {
-			319
-		});
-		HZPY[11697] = (new short[] {
-			353
-		});
-		HZPY[11698] = (new short[] {
-			352
-		});
-		HZPY[11699] = (new short[] {
-			252
-		});
-		HZPY[11700] = (new short[] {
-			396
-		});
-		HZPY[11701] = (new short[] {
-			302
-		});
-		HZPY[11702] = (new short[] {
-			123
-		});
-		HZPY[11703] = (new short[] {
-			303, 369
-		});
-		HZPY[11704] = (new short[] {
-			401
-		});
-		HZPY[11705] = (new short[] {
-			378
-		});
-		HZPY[11706] = (new short[] {
-			45
-		});
-		HZPY[11707] = (new short[] {
-			91
-		});
-		HZPY[11708] = (new short[] {
-			349
-		});
-		HZPY[11709] = (new short[] {
-			70
-		});
-		HZPY[11710] = (new short[] {
-			312
-		});
-		HZPY[11711] = (new short[] {
-			131
-		});
-		HZPY[11712] = (new short[] {
-			136
-		});
-		HZPY[11713] = (new short[] {
-			127
-		});
-		HZPY[11714] = (new short[] {
-			357
-		});
-		HZPY[11715] = (new short[] {
-			197
-		});
-		HZPY[11716] = (new short[] {
-			84
-		});
-		HZPY[11717] = (new short[] {
-			42
-		});
-		HZPY[11718] = (new short[] {
-			404
-		});
-		HZPY[11719] = (new short[] {
-			248
-		});
-		HZPY[11720] = (new short[] {
-			88
-		});
-		HZPY[11721] = (new short[] {
-			401
-		});
-		HZPY[11722] = (new short[] {
-			121
-		});
-		HZPY[11723] = (new short[] {
-			261
-		});
-		HZPY[11724] = (new short[] {
-			122
-		});
-		HZPY[11725] = (new short[] {
-			265
-		});
-		HZPY[11726] = (new short[] {
-			202
-		});
-		HZPY[11727] = (new short[] {
-			258
-		});
-		HZPY[11728] = (new short[] {
-			229
-		});
-		HZPY[11729] = (new short[] {
-			160
-		});
-		HZPY[11730] = (new short[] {
-			229
-		});
-		HZPY[11731] = (new short[] {
-			182
-		});
-		HZPY[11732] = (new short[] {
-			379
-		});
-		HZPY[11733] = (new short[] {
-			116
-		});
-		HZPY[11734] = (new short[] {
-			324
-		});
-		HZPY[11735] = (new short[] {
-			378
-		});
-		HZPY[11736] = (new short[] {
-			39
-		});
-		HZPY[11737] = (new short[] {
-			96
-		});
-		HZPY[11738] = (new short[] {
-			86
-		});
-		HZPY[11739] = (new short[] {
-			285
-		});
-		HZPY[11740] = (new short[] {
-			397
-		});
-		HZPY[11741] = (new short[] {
-			102
-		});
-		HZPY[11742] = (new short[] {
-			225
-		});
-		HZPY[11743] = (new short[] {
-			258
-		});
-		HZPY[11744] = (new short[] {
-			354
-		});
-		HZPY[11745] = (new short[] {
-			51
-		});
-		HZPY[11746] = (new short[] {
-			101
-		});
-		HZPY[11747] = (new short[] {
-			242
-		});
-		HZPY[11748] = (new short[] {
-			72
-		});
-		HZPY[11749] = (new short[] {
-			171
-		});
-		HZPY[11750] = (new short[] {
-			13
-		});
-		HZPY[11751] = (new short[] {
-			408
-		});
-		HZPY[11752] = (new short[] {
-			40
-		});
-		HZPY[11753] = (new short[] {
-			295
-		});
-		HZPY[11754] = (new short[] {
-			37
-		});
-		HZPY[11755] = (new short[] {
-			401
-		});
-		HZPY[11756] = (new short[] {
-			259
-		});
-		HZPY[11757] = (new short[] {
-			181
-		});
-		HZPY[11758] = (new short[] {
-			165
-		});
-		HZPY[11759] = (new short[] {
-			133
-		});
-		HZPY[11760] = (new short[] {
-			20
-		});
-		HZPY[11761] = (new short[] {
-			171
-		});
-		HZPY[11762] = (new short[] {
-			128
-		});
-		HZPY[11763] = (new short[] {
-			13
-		});
-		HZPY[11764] = (new short[] {
-			63
-		});
-		HZPY[11765] = (new short[] {
-			48
-		});
-		HZPY[11766] = (new short[] {
-			365
-		});
-		HZPY[11767] = (new short[] {
-			246
-		});
-		HZPY[11768] = (new short[] {
-			292
-		});
-		HZPY[11769] = (new short[] {
-			51
-		});
-		HZPY[11770] = (new short[] {
-			240
-		});
-		HZPY[11771] = (new short[] {
-			249
-		});
-		HZPY[11772] = (new short[] {
-			71
-		});
-		HZPY[11773] = (new short[] {
-			376
-		});
-		HZPY[11774] = (new short[] {
-			203
-		});
-		HZPY[11775] = (new short[] {
-			404
-		});
-		HZPY[11776] = (new short[] {
-			385, 160
-		});
-		HZPY[11777] = (new short[] {
-			350
-		});
-		HZPY[11778] = (new short[] {
-			110
-		});
-		HZPY[11779] = (new short[] {
-			369
-		});
-		HZPY[11780] = (new short[] {
-			123
-		});
-		HZPY[11781] = (new short[] {
-			31
-		});
-		HZPY[11782] = (new short[] {
-			154
-		});
-		HZPY[11783] = (new short[] {
-			50
-		});
-		HZPY[11784] = (new short[] {
-			252
-		});
-		HZPY[11785] = (new short[] {
-			384
-		});
-		HZPY[11786] = (new short[] {
-			131
-		});
-		HZPY[11787] = (new short[] {
-			108
-		});
-		HZPY[11788] = (new short[] {
-			316
-		});
-		HZPY[11789] = (new short[] {
-			182
-		});
-		HZPY[11790] = (new short[] {
-			389
-		});
-		HZPY[11791] = (new short[] {
-			183
-		});
-		HZPY[11792] = (new short[] {
-			222
-		});
-		HZPY[11793] = (new short[] {
-			320
-		});
-		HZPY[11794] = (new short[] {
-			51
-		});
-		HZPY[11795] = (new short[] {
-			229
-		});
-		HZPY[11796] = (new short[] {
-			320
-		});
-		HZPY[11797] = (new short[] {
-			168
-		});
-		HZPY[11798] = (new short[] {
-			73
-		});
-		HZPY[11799] = (new short[] {
-			174
-		});
-		HZPY[11800] = (new short[] {
-			354
-		});
-		HZPY[11801] = (new short[] {
-			19
-		});
-		HZPY[11802] = (new short[] {
-			200
-		});
-		HZPY[11803] = (new short[] {
-			295
-		});
-		HZPY[11804] = (new short[] {
-			58
-		});
-		HZPY[11805] = (new short[] {
-			175
-		});
-		HZPY[11806] = (new short[] {
-			57
-		});
-		HZPY[11807] = (new short[] {
-			65
-		});
-		HZPY[11808] = (new short[] {
-			91
-		});
-		HZPY[11809] = (new short[] {
-			133
-		});
-		HZPY[11810] = (new short[] {
-			204
-		});
-		HZPY[11811] = (new short[] {
-			160
-		});
-		HZPY[11812] = (new short[] {
-			56
-		});
-		HZPY[11813] = (new short[] {
-			260
-		});
-		HZPY[11814] = (new short[] {
-			62
-		});
-		HZPY[11815] = (new short[] {
-			127
-		});
-		HZPY[11816] = (new short[] {
-			319
-		});
-		HZPY[11817] = (new short[] {
-			167
-		});
-		HZPY[11818] = (new short[] {
-			382
-		});
-		HZPY[11819] = (new short[] {
-			354
-		});
-		HZPY[11820] = (new short[] {
-			183
-		});
-		HZPY[11821] = (new short[] {
-			303
-		});
-		HZPY[11822] = (new short[] {
-			382
-		});
-		HZPY[11823] = (new short[] {
-			229
-		});
-		HZPY[11824] = (new short[] {
-			240
-		});
-		HZPY[11825] = (new short[] {
-			256
-		});
-		HZPY[11826] = (new short[] {
-			240
-		});
-		HZPY[11827] = (new short[] {
-			94
-		});
-		HZPY[11828] = (new short[] {
-			141
-		});
-		HZPY[11829] = (new short[] {
-			72
-		});
-		HZPY[11830] = (new short[] {
-			183
-		});
-		HZPY[11831] = (new short[] {
-			365
-		});
-		HZPY[11832] = (new short[] {
-			19
-		});
-		HZPY[11833] = (new short[] {
-			58
-		});
-		HZPY[11834] = (new short[] {
-			287
-		});
-		HZPY[11835] = (new short[] {
-			150
-		});
-		HZPY[11836] = (new short[] {
-			102
-		});
-		HZPY[11837] = (new short[] {
-			258
-		});
-		HZPY[11838] = (new short[] {
-			173
-		});
-		HZPY[11839] = (new short[] {
-			20
-		});
-		HZPY[11840] = (new short[] {
-			400
-		});
-		HZPY[11841] = (new short[] {
-			164
-		});
-		HZPY[11842] = (new short[] {
-			229
-		});
-		HZPY[11843] = (new short[] {
-			165
-		});
-		HZPY[11844] = (new short[] {
-			160
-		});
-		HZPY[11845] = (new short[] {
-			376
-		});
-		HZPY[11846] = (new short[] {
-			378
-		});
-		HZPY[11847] = (new short[] {
-			115
-		});
-		HZPY[11848] = (new short[] {
-			396
-		});
-		HZPY[11849] = (new short[] {
-			322
-		});
-		HZPY[11850] = (new short[] {
-			329
-		});
-		HZPY[11851] = (new short[] {
-			200
-		});
-		HZPY[11852] = (new short[] {
-			39
-		});
-		HZPY[11853] = (new short[] {
-			131
-		});
-		HZPY[11854] = (new short[] {
-			229
-		});
-		HZPY[11855] = (new short[] {
-			256
-		});
-		HZPY[11856] = (new short[] {
-			328
-		});
-		HZPY[11857] = (new short[] {
-			404
-		});
-		HZPY[11858] = (new short[] {
-			400
-		});
-		HZPY[11859] = (new short[] {
-			84
-		});
-		HZPY[11860] = (new short[] {
-			315
-		});
-		HZPY[11861] = (new short[] {
-			400
-		});
-		HZPY[11862] = (new short[] {
-			258
-		});
-		HZPY[11863] = (new short[] {
-			162
-		});
-		HZPY[11864] = (new short[] {
-			328
-		});
-		HZPY[11865] = (new short[] {
-			183
-		});
-		HZPY[11866] = (new short[] {
-			183
-		});
-		HZPY[11867] = (new short[] {
-			133
-		});
-		HZPY[11868] = (new short[] {
-			340
-		});
-		HZPY[11869] = (new short[] {
-			372
-		});
-		HZPY[11870] = (new short[] {
-			376
-		});
-		HZPY[11871] = (new short[] {
-			164
-		});
-		HZPY[11872] = (new short[] {
-			181
-		});
-		HZPY[11873] = (new short[] {
-			229
-		});
-		HZPY[11874] = (new short[] {
-			173
-		});
-		HZPY[11875] = (new short[] {
-			165
-		});
-		HZPY[11876] = (new short[] {
-			258
-		});
-		HZPY[11877] = (new short[] {
-			378
-		});
-		HZPY[11878] = (new short[] {
-			399
-		});
-		HZPY[11879] = (new short[] {
-			266
-		});
-		HZPY[11880] = (new short[] {
-			173
-		});
-		HZPY[11881] = (new short[] {
-			14
-		});
-		HZPY[11882] = (new short[] {
-			73
-		});
-		HZPY[11883] = (new short[] {
-			413
-		});
-		HZPY[11884] = (new short[] {
-			171
-		});
-		HZPY[11885] = (new short[] {
-			295
-		});
-		HZPY[11886] = (new short[] {
-			189
-		});
-		HZPY[11887] = (new short[] {
-			372
-		});
-		HZPY[11888] = (new short[] {
-			378
-		});
-		HZPY[11889] = (new short[] {
-			408
-		});
-		HZPY[11890] = (new short[] {
-			360, 376
-		});
-		HZPY[11891] = (new short[] {
-			200
-		});
-		HZPY[11892] = (new short[] {
-			63
-		});
-		HZPY[11893] = (new short[] {
-			84
-		});
-		HZPY[11894] = (new short[] {
-			301
-		});
-		HZPY[11895] = (new short[] {
-			394
-		});
-		HZPY[11896] = (new short[] {
-			301
-		});
-		HZPY[11897] = (new short[] {
-			233
-		});
-		HZPY[11898] = (new short[] {
-			355
-		});
-		HZPY[11899] = (new short[] {
-			169
-		});
-		HZPY[11900] = (new short[] {
-			352
-		});
-		HZPY[11901] = (new short[] {
-			409
-		});
-		HZPY[11902] = (new short[] {
-			221
-		});
-		HZPY[11903] = (new short[] {
-			53
-		});
-		HZPY[11904] = (new short[] {
-			392
-		});
-		HZPY[11905] = (new short[] {
-			258
-		});
-		HZPY[11906] = (new short[] {
-			229
-		});
-		HZPY[11907] = (new short[] {
-			13
-		});
-		HZPY[11908] = (new short[] {
-			7
-		});
-		HZPY[11909] = (new short[] {
-			349
-		});
-		HZPY[11910] = (new short[] {
-			294
-		});
-		HZPY[11911] = (new short[] {
-			148
-		});
-		HZPY[11912] = (new short[] {
-			280
-		});
-		HZPY[11913] = (new short[] {
-			87
-		});
-		HZPY[11914] = (new short[] {
-			13
-		});
-		HZPY[11915] = (new short[] {
-			52, 318
-		});
-		HZPY[11916] = (new short[] {
-			371
-		});
-		HZPY[11917] = (new short[] {
-			171
-		});
-		HZPY[11918] = (new short[] {
-			37
-		});
-		HZPY[11919] = (new short[] {
-			322
-		});
-		HZPY[11920] = (new short[] {
-			229
-		});
-		HZPY[11921] = (new short[] {
-			5
-		});
-		HZPY[11922] = (new short[] {
-			171
-		});
-		HZPY[11923] = (new short[] {
-			94
-		});
-		HZPY[11924] = (new short[] {
-			141
-		});
-		HZPY[11925] = (new short[] {
-			253
-		});
-		HZPY[11926] = (new short[] {
-			207
-		});
-		HZPY[11927] = (new short[] {
-			50
-		});
-		HZPY[11928] = (new short[] {
-			391, 222
-		});
-		HZPY[11929] = (new short[] {
-			400
-		});
-		HZPY[11930] = (new short[] {
-			171
-		});
-		HZPY[11931] = (new short[] {
-			316
-		});
-		HZPY[11932] = (new short[] {
-			331
-		});
-		HZPY[11933] = (new short[] {
-			171
-		});
-		HZPY[11934] = (new short[] {
-			350
-		});
-		HZPY[11935] = (new short[] {
-			316
-		});
-		HZPY[11936] = (new short[] {
-			121
-		});
-		HZPY[11937] = (new short[] {
-			334
-		});
-		HZPY[11938] = (new short[] {
-			409, 47
-		});
-		HZPY[11939] = (new short[] {
-			26
-		});
-		HZPY[11940] = (new short[] {
-			378
-		});
-		HZPY[11941] = (new short[] {
-			400, 376
-		});
-		HZPY[11942] = (new short[] {
-			177
-		});
-		HZPY[11943] = (new short[] {
-			405
-		});
-		HZPY[11944] = (new short[] {
-			6
-		});
-		HZPY[11945] = (new short[] {
-			229
-		});
-		HZPY[11946] = (new short[] {
-			87
-		});
-		HZPY[11947] = (new short[] {
-			201
-		});
-		HZPY[11948] = (new short[] {
-			266
-		});
-		HZPY[11949] = (new short[] {
-			229
-		});
-		HZPY[11950] = (new short[] {
-			174
-		});
-		HZPY[11951] = (new short[] {
-			352
-		});
-		HZPY[11952] = (new short[] {
-			91
-		});
-		HZPY[11953] = (new short[] {
-			174
-		});
-		HZPY[11954] = (new short[] {
-			23
-		});
-		HZPY[11955] = (new short[] {
-			138, 100
-		});
-		HZPY[11956] = (new short[] {
-			171
-		});
-		HZPY[11957] = (new short[] {
-			378
-		});
-		HZPY[11958] = (new short[] {
-			183
-		});
-		HZPY[11959] = (new short[] {
-			141
-		});
-		HZPY[11960] = (new short[] {
-			256
-		});
-		HZPY[11961] = (new short[] {
-			52
-		});
-		HZPY[11962] = (new short[] {
-			6
-		});
-		HZPY[11963] = (new short[] {
-			32
-		});
-		HZPY[11964] = (new short[] {
-			177
-		});
-		HZPY[11965] = (new short[] {
-			410
-		});
-		HZPY[11966] = (new short[] {
-			138
-		});
-		HZPY[11967] = (new short[] {
-			110
-		});
-		HZPY[11968] = (new short[] {
-			229
-		});
-		HZPY[11969] = (new short[] {
-			288, 301
-		});
-		HZPY[11970] = (new short[] {
-			288, 301
-		});
-		HZPY[11971] = (new short[] {
-			324
-		});
-		HZPY[11972] = (new short[] {
-			14
-		});
-		HZPY[11973] = (new short[] {
-			280
-		});
-		HZPY[11974] = (new short[] {
-			201
-		});
-		HZPY[11975] = (new short[] {
-			122
-		});
-		HZPY[11976] = (new short[] {
-			360
-		});
-		HZPY[11977] = (new short[] {
-			410
-		});
-		HZPY[11978] = (new short[] {
-			123
-		});
-		HZPY[11979] = (new short[] {
-			133
-		});
-		HZPY[11980] = (new short[] {
-			382
-		});
-		HZPY[11981] = (new short[] {
-			47
-		});
-		HZPY[11982] = (new short[] {
-			171
-		});
-		HZPY[11983] = (new short[] {
-			355
-		});
-		HZPY[11984] = (new short[] {
-			91
-		});
-		HZPY[11985] = (new short[] {
-			236
-		});
-		HZPY[11986] = (new short[] {
-			10
-		});
-		HZPY[11987] = (new short[] {
-			103, 376
-		});
-		HZPY[11988] = (new short[] {
-			359
-		});
-		HZPY[11989] = (new short[] {
-			96
-		});
-		HZPY[11990] = (new short[] {
-			324
-		});
-		HZPY[11991] = (new short[] {
-			265
-		});
-		HZPY[11992] = (new short[] {
-			229
-		});
-		HZPY[11993] = (new short[] {
-			25
-		});
-		HZPY[11994] = (new short[] {
-			405
-		});
-		HZPY[11995] = (new short[] {
-			324
-		});
-		HZPY[11996] = (new short[] {
-			200, 197
-		});
-		HZPY[11997] = (new short[] {
-			288, 301
-		});
-		HZPY[11998] = (new short[] {
-			87
-		});
-		HZPY[11999] = (new short[] {
-			384
-		});
-		HZPY[12000] = (new short[] {
-			148
-		});
-		HZPY[12001] = (new short[] {
-			134
-		});
-		HZPY[12002] = (new short[] {
-			207
-		});
-		HZPY[12003] = (new short[] {
-			288
-		});
-		HZPY[12004] = (new short[] {
-			288
-		});
-		HZPY[12005] = (new short[] {
-			236
-		});
-		HZPY[12006] = (new short[] {
-			37
-		});
-		HZPY[12007] = (new short[] {
-			174
-		});
-		HZPY[12008] = (new short[] {
-			134
-		});
-		HZPY[12009] = (new short[] {
-			157
-		});
-		HZPY[12010] = (new short[] {
-			19
-		});
-		HZPY[12011] = (new short[] {
-			126
-		});
-		HZPY[12012] = (new short[] {
-			305
-		});
-		HZPY[12013] = (new short[] {
-			410
-		});
-		HZPY[12014] = (new short[] {
-			133
-		});
-		HZPY[12015] = (new short[] {
-			236
-		});
-		HZPY[12016] = (new short[] {
-			337
-		});
-		HZPY[12017] = (new short[] {
-			225
-		});
-		HZPY[12018] = (new short[] {
-			171
-		});
-		HZPY[12019] = (new short[] {
-			416
-		});
-		HZPY[12020] = (new short[] {
-			63
-		});
-		HZPY[12021] = (new short[] {
-			225
-		});
-		HZPY[12022] = (new short[] {
-			331
-		});
-		HZPY[12023] = (new short[] {
-			165
-		});
-		HZPY[12024] = (new short[] {
-			200
-		});
-		HZPY[12025] = (new short[] {
-			200
-		});
-		HZPY[12026] = (new short[] {
-			140
-		});
-		HZPY[12027] = (new short[] {
-			350, 131
-		});
-		HZPY[12028] = (new short[] {
-			101
-		});
-		HZPY[12029] = (new short[] {
-			397
-		});
-		HZPY[12030] = (new short[] {
-			140
-		});
-		HZPY[12031] = (new short[] {
-			375
-		});
-		HZPY[12032] = (new short[] {
-			131
-		});
-		HZPY[12033] = (new short[] {
-			29
-		});
-		HZPY[12034] = (new short[] {
-			400
-		});
-		HZPY[12035] = (new short[] {
-			363
-		});
-		HZPY[12036] = (new short[] {
-			378, 367
-		});
-		HZPY[12037] = (new short[] {
-			121, 101
-		});
-		HZPY[12038] = (new short[] {
-			376
-		});
-		HZPY[12039] = (new short[] {
-			116, 97
-		});
-		HZPY[12040] = (new short[] {
-			343
-		});
-		HZPY[12041] = (new short[] {
-			276
-		});
-		HZPY[12042] = (new short[] {
-			346
-		});
-		HZPY[12043] = (new short[] {
-			346
-		});
-		HZPY[12044] = (new short[] {
-			265
-		});
-		HZPY[12045] = (new short[] {
-			211
-		});
-		HZPY[12046] = (new short[] {
-			409
-		});
-		HZPY[12047] = (new short[] {
-			335
-		});
-		HZPY[12048] = (new short[] {
-			228
-		});
-		HZPY[12049] = (new short[] {
-			90
-		});
-		HZPY[12050] = (new short[] {
-			136
-		});
-		HZPY[12051] = (new short[] {
-			305
-		});
-		HZPY[12052] = (new short[] {
-			45
-		});
-		HZPY[12053] = (new short[] {
-			247
-		});
-		HZPY[12054] = (new short[] {
-			371
-		});
-		HZPY[12055] = (new short[] {
-			294
-		});
-		HZPY[12056] = (new short[] {
-			121
-		});
-		HZPY[12057] = (new short[] {
-			398
-		});
-		HZPY[12058] = (new short[] {
-			131
-		});
-		HZPY[12059] = (new short[] {
-			87
-		});
-		HZPY[12060] = (new short[] {
-			379
-		});
-		HZPY[12061] = (new short[] {
-			276
-		});
-		HZPY[12062] = (new short[] {
-			57
-		});
-		HZPY[12063] = (new short[] {
-			137
-		});
-		HZPY[12064] = (new short[] {
-			316
-		});
-		HZPY[12065] = (new short[] {
-			85
-		});
-		HZPY[12066] = (new short[] {
-			320
-		});
-		HZPY[12067] = (new short[] {
-			52
-		});
-		HZPY[12068] = (new short[] {
-			140
-		});
-		HZPY[12069] = (new short[] {
-			389
-		});
-		HZPY[12070] = (new short[] {
-			5
-		});
-		HZPY[12071] = (new short[] {
-			137
-		});
-		HZPY[12072] = (new short[] {
-			91
-		});
-		HZPY[12073] = (new short[] {
-			398
-		});
-		HZPY[12074] = (new short[] {
-			256
-		});
-		HZPY[12075] = (new short[] {
-			409
-		});
-		HZPY[12076] = (new short[] {
-			39
-		});
-		HZPY[12077] = (new short[] {
-			121
-		});
-		HZPY[12078] = (new short[] {
-			389, 380
-		});
-		HZPY[12079] = (new short[] {
-			169
-		});
-		HZPY[12080] = (new short[] {
-			350
-		});
-		HZPY[12081] = (new short[] {
-			91
-		});
-		HZPY[12082] = (new short[] {
-			355
-		});
-		HZPY[12083] = (new short[] {
-			301
-		});
-		HZPY[12084] = (new short[] {
-			10
-		});
-		HZPY[12085] = (new short[] {
-			401
-		});
-		HZPY[12086] = (new short[] {
-			266
-		});
-		HZPY[12087] = (new short[] {
-			178
-		});
-		HZPY[12088] = (new short[] {
-			401
-		});
-		HZPY[12089] = (new short[] {
-			298
-		});
-		HZPY[12090] = (new short[] {
-			94
-		});
-		HZPY[12091] = (new short[] {
-			366
-		});
-		HZPY[12092] = (new short[] {
-			91
-		});
-		HZPY[12093] = (new short[] {
-			340
-		});
-		HZPY[12094] = (new short[] {
-			396
-		});
-		HZPY[12095] = (new short[] {
-			56
-		});
-		HZPY[12096] = (new short[] {
-			40
-		});
-		HZPY[12097] = (new short[] {
-			303
-		});
-		HZPY[12098] = (new short[] {
-			399
-		});
-		HZPY[12099] = (new short[] {
-			352
-		});
-		HZPY[12100] = (new short[] {
-			412
-		});
-		HZPY[12101] = (new short[] {
-			139
-		});
-		HZPY[12102] = (new short[] {
-			7
-		});
-		HZPY[12103] = (new short[] {
-			141
-		});
-		HZPY[12104] = (new short[] {
-			239
-		});
-		HZPY[12105] = (new short[] {
-			305
-		});
-		HZPY[12106] = (new short[] {
-			414
-		});
-		HZPY[12107] = (new short[] {
-			159
-		});
-		HZPY[12108] = (new short[] {
-			138
-		});
-		HZPY[12109] = (new short[] {
-			276
-		});
-		HZPY[12110] = (new short[] {
-			119, 114
-		});
-		HZPY[12111] = (new short[] {
-			355
-		});
-		HZPY[12112] = (new short[] {
-			136
-		});
-		HZPY[12113] = (new short[] {
-			401
-		});
-		HZPY[12114] = (new short[] {
-			39
-		});
-		HZPY[12115] = (new short[] {
-			104
-		});
-		HZPY[12116] = (new short[] {
-			6
-		});
-		HZPY[12117] = (new short[] {
-			143
-		});
-		HZPY[12118] = (new short[] {
-			159
-		});
-		HZPY[12119] = (new short[] {
-			123
-		});
-		HZPY[12120] = (new short[] {
-			47
-		});
-		HZPY[12121] = (new short[] {
-			100
-		});
-		HZPY[12122] = (new short[] {
-			100
-		});
-		HZPY[12123] = (new short[] {
-			325
-		});
-		HZPY[12124] = (new short[] {
-			355, 136
-		});
-		HZPY[12125] = (new short[] {
-			155
-		});
-		HZPY[12126] = (new short[] {
-			135, 132
-		});
-		HZPY[12127] = (new short[] {
-			267
-		});
-		HZPY[12128] = (new short[] {
-			93
-		});
-		HZPY[12129] = (new short[] {
-			189, 167
-		});
-		HZPY[12130] = (new short[] {
-			361
-		});
-		HZPY[12131] = (new short[] {
-			12, 252
-		});
-		HZPY[12132] = (new short[] {
-			352
-		});
-		HZPY[12133] = (new short[] {
-			91
-		});
-		HZPY[12134] = (new short[] {
-			98, 131
-		});
-		HZPY[12135] = (new short[] {
-			334
-		});
-		HZPY[12136] = (new short[] {
-			279
-		});
-		HZPY[12137] = (new short[] {
-			331
-		});
-		HZPY[12138] = (new short[] {
-			371
-		});
-		HZPY[12139] = (new short[] {
-			169
-		});
-		HZPY[12140] = (new short[] {
-			355
-		});
-		HZPY[12141] = (new short[] {
-			267
-		});
-		HZPY[12142] = (new short[] {
-			360
-		});
-		HZPY[12143] = (new short[] {
-			112
-		});
-		HZPY[12144] = (new short[] {
-			67
-		});
-		HZPY[12145] = (new short[] {
-			334
-		});
-		HZPY[12146] = (new short[] {
-			313
-		});
-		HZPY[12147] = (new short[] {
-			134
-		});
-		HZPY[12148] = (new short[] {
-			353
-		});
-		HZPY[12149] = (new short[] {
-			128
-		});
-		HZPY[12150] = (new short[] {
-			143
-		});
-		HZPY[12151] = (new short[] {
-			398
-		});
-		HZPY[12152] = (new short[] {
-			133
-		});
-		HZPY[12153] = (new short[] {
-			142
-		});
-		HZPY[12154] = (new short[] {
-			37
-		});
-		HZPY[12155] = (new short[] {
-			201
-		});
-		HZPY[12156] = (new short[] {
-			396
-		});
-		HZPY[12157] = (new short[] {
-			184
-		});
-		HZPY[12158] = (new short[] {
-			36
-		});
-		HZPY[12159] = (new short[] {
-			265
-		});
-		HZPY[12160] = (new short[] {
-			305
-		});
-		HZPY[12161] = (new short[] {
-			8
-		});
-		HZPY[12162] = (new short[] {
-			334
-		});
-		HZPY[12163] = (new short[] {
-			354
-		});
-		HZPY[12164] = (new short[] {
-			343
-		});
-		HZPY[12165] = (new short[] {
-			262
-		});
-		HZPY[12166] = (new short[] {
-			100
-		});
-		HZPY[12167] = (new short[] {
-			359
-		});
-		HZPY[12168] = (new short[] {
-			329, 63
-		});
-		HZPY[12169] = (new short[] {
-			359
-		});
-		HZPY[12170] = (new short[] {
-			355
-		});
-		HZPY[12171] = (new short[] {
-			121
-		});
-		HZPY[12172] = (new short[] {
-			350
-		});
-		HZPY[12173] = (new short[] {
-			91
-		});
-		HZPY[12174] = (new short[] {
-			333
-		});
-		HZPY[12175] = (new short[] {
-			318
-		});
-		HZPY[12176] = (new short[] {
-			74
-		});
-		HZPY[12177] = (new short[] {
-			161
-		});
-		HZPY[12178] = (new short[] {
-			91
-		});
-		HZPY[12179] = (new short[] {
-			138
-		});
-		HZPY[12180] = (new short[] {
-			123
-		});
-		HZPY[12181] = (new short[] {
-			398
-		});
-		HZPY[12182] = (new short[] {
-			365
-		});
-		HZPY[12183] = (new short[] {
-			139
-		});
-		HZPY[12184] = (new short[] {
-			88
-		});
-		HZPY[12185] = (new short[] {
-			131
-		});
-		HZPY[12186] = (new short[] {
-			360
-		});
-		HZPY[12187] = (new short[] {
-			229
-		});
-		HZPY[12188] = (new short[] {
-			410, 388
-		});
-		HZPY[12189] = (new short[] {
-			177
-		});
-		HZPY[12190] = (new short[] {
-			76
-		});
-		HZPY[12191] = (new short[] {
-			171
-		});
-		HZPY[12192] = (new short[] {
-			184
-		});
-		HZPY[12193] = (new short[] {
-			174
-		});
-		HZPY[12194] = (new short[] {
-			39
-		});
-		HZPY[12195] = (new short[] {
-			267
-		});
-		HZPY[12196] = (new short[] {
-			298
-		});
-		HZPY[12197] = (new short[] {
-			256
-		});
-		HZPY[12198] = (new short[] {
-			256
-		});
-		HZPY[12199] = (new short[] {
-			407
-		});
-		HZPY[12200] = (new short[] {
-			256
-		});
-		HZPY[12201] = (new short[] {
-			343
-		});
-		HZPY[12202] = (new short[] {
-			258
-		});
-		HZPY[12203] = (new short[] {
-			352
-		});
-		HZPY[12204] = (new short[] {
-			304
-		});
-		HZPY[12205] = (new short[] {
-			345
-		});
-		HZPY[12206] = (new short[] {
-			256, 263
-		});
-		HZPY[12207] = (new short[] {
-			325
-		});
-		HZPY[12208] = (new short[] {
-			343
-		});
-		HZPY[12209] = (new short[] {
-			95
-		});
-		HZPY[12210] = (new short[] {
-			344
-		});
-		HZPY[12211] = (new short[] {
-			12
-		});
-		HZPY[12212] = (new short[] {
-			406
-		});
-		HZPY[12213] = (new short[] {
-			22
-		});
-		HZPY[12214] = (new short[] {
-			110
-		});
-		HZPY[12215] = (new short[] {
-			52
-		});
-		HZPY[12216] = (new short[] {
-			188, 106
-		});
-		HZPY[12217] = (new short[] {
-			179
-		});
-		HZPY[12218] = (new short[] {
-			256
-		});
-		HZPY[12219] = (new short[] {
-			391
-		});
-		HZPY[12220] = (new short[] {
-			10
-		});
-		HZPY[12221] = (new short[] {
-			46
-		});
-		HZPY[12222] = (new short[] {
-			178
-		});
-		HZPY[12223] = (new short[] {
-			201
-		});
-		HZPY[12224] = (new short[] {
-			256
-		});
-		HZPY[12225] = (new short[] {
-			136
-		});
-		HZPY[12226] = (new short[] {
-			323
-		});
-		HZPY[12227] = (new short[] {
-			410
-		});
-		HZPY[12228] = (new short[] {
-			109
-		});
-		HZPY[12229] = (new short[] {
-			411
-		});
-		HZPY[12230] = (new short[] {
-			369
-		});
-		HZPY[12231] = (new short[] {
-			409
-		});
-		HZPY[12232] = (new short[] {
-			357
-		});
-		HZPY[12233] = (new short[] {
-			174
-		});
-		HZPY[12234] = (new short[] {
-			137
-		});
-		HZPY[12235] = (new short[] {
-			86
-		});
-		HZPY[12236] = (new short[] {
-			283
-		});
-		HZPY[12237] = (new short[] {
-			204
-		});
-		HZPY[12238] = (new short[] {
-			376
-		});
-		HZPY[12239] = (new short[] {
-			410
-		});
-		HZPY[12240] = (new short[] {
-			84
-		});
-		HZPY[12241] = (new short[] {
-			184
-		});
-		HZPY[12242] = (new short[] {
-			360
-		});
-		HZPY[12243] = (new short[] {
-			229
-		});
-		HZPY[12244] = (new short[] {
-			297
-		});
-		HZPY[12245] = (new short[] {
-			229
-		});
-		HZPY[12246] = (new short[] {
-			360
-		});
-		HZPY[12247] = (new short[] {
-			353
-		});
-		HZPY[12248] = (new short[] {
-			133
-		});
-		HZPY[12249] = (new short[] {
-			150
-		});
-		HZPY[12250] = (new short[] {
-			352
-		});
-		HZPY[12251] = (new short[] {
-			282
-		});
-		HZPY[12252] = (new short[] {
-			201
-		});
-		HZPY[12253] = (new short[] {
-			131, 256
-		});
-		HZPY[12254] = (new short[] {
-			73
-		});
-		HZPY[12255] = (new short[] {
-			399
-		});
-		HZPY[12256] = (new short[] {
-			63
-		});
-		HZPY[12257] = (new short[] {
-			204
-		});
-		HZPY[12258] = (new short[] {
-			202
-		});
-		HZPY[12259] = (new short[] {
-			377
-		});
-		HZPY[12260] = (new short[] {
-			355
-		});
-		HZPY[12261] = (new short[] {
-			9
-		});
-		HZPY[12262] = (new short[] {
-			313
-		});
-		HZPY[12263] = (new short[] {
-			265
-		});
-		HZPY[12264] = (new short[] {
-			14
-		});
-		HZPY[12265] = (new short[] {
-			126
-		});
-		HZPY[12266] = (new short[] {
-			100
-		});
-		HZPY[12267] = (new short[] {
-			410
-		});
-		HZPY[12268] = (new short[] {
-			201
-		});
-		HZPY[12269] = (new short[] {
-			345
-		});
-		HZPY[12270] = (new short[] {
-			91
-		});
-		HZPY[12271] = (new short[] {
-			345
-		});
-		HZPY[12272] = (new short[] {
-			376
-		});
-		HZPY[12273] = (new short[] {
-			102
-		});
-		HZPY[12274] = (new short[] {
-			202
-		});
-		HZPY[12275] = (new short[] {
-			136
-		});
-		HZPY[12276] = (new short[] {
-			173
-		});
-		HZPY[12277] = (new short[] {
-			410
-		});
-		HZPY[12278] = (new short[] {
-			14, 248
-		});
-		HZPY[12279] = (new short[] {
-			379
-		});
-		HZPY[12280] = (new short[] {
-			371
-		});
-		HZPY[12281] = (new short[] {
-			329
-		});
-		HZPY[12282] = (new short[] {
-			104
-		});
-		HZPY[12283] = (new short[] {
-			398
-		});
-		HZPY[12284] = (new short[] {
-			379
-		});
-		HZPY[12285] = (new short[] {
-			36
-		});
-		HZPY[12286] = (new short[] {
-			31
-		});
-		HZPY[12287] = (new short[] {
-			56
-		});
-		HZPY[12288] = (new short[] {
-			132
-		});
-		HZPY[12289] = (new short[] {
-			377
-		});
-		HZPY[12290] = (new short[] {
-			410
-		});
-		HZPY[12291] = (new short[] {
-			360
-		});
-		HZPY[12292] = (new short[] {
-			302
-		});
-		HZPY[12293] = (new short[] {
-			229
-		});
-		HZPY[12294] = (new short[] {
-			100
-		});
-		HZPY[12295] = (new short[] {
-			229
-		});
-		HZPY[12296] = (new short[] {
-			372
-		});
-		HZPY[12297] = (new short[] {
-			137
-		});
-		HZPY[12298] = (new short[] {
-			369
-		});
-		HZPY[12299] = (new short[] {
-			406
-		});
-		HZPY[12300] = (new short[] {
-			221
-		});
-		HZPY[12301] = (new short[] {
-			8
-		});
-		HZPY[12302] = (new short[] {
-			103
-		});
-		HZPY[12303] = (new short[] {
-			241
-		});
-		HZPY[12304] = (new short[] {
-			400
-		});
-		HZPY[12305] = (new short[] {
-			133
-		});
-		HZPY[12306] = (new short[] {
-			54
-		});
-		HZPY[12307] = (new short[] {
-			267
-		});
-		HZPY[12308] = (new short[] {
-			309
-		});
-		HZPY[12309] = (new short[] {
-			379
-		});
-		HZPY[12310] = (new short[] {
-			351
-		});
-		HZPY[12311] = (new short[] {
-			307
-		});
-		HZPY[12312] = (new short[] {
-			350
-		});
-		HZPY[12313] = (new short[] {
-			279
-		});
-		HZPY[12314] = (new short[] {
-			325
-		});
-		HZPY[12315] = (new short[] {
-			91
-		});
-		HZPY[12316] = (new short[] {
-			379
-		});
-		HZPY[12317] = (new short[] {
-			396
-		});
-		HZPY[12318] = (new short[] {
-			96
-		});
-		HZPY[12319] = (new short[] {
-			281
-		});
-		HZPY[12320] = (new short[] {
-			123
-		});
-		HZPY[12321] = (new short[] {
-			381
-		});
-		HZPY[12322] = (new short[] {
-			328
-		});
-		HZPY[12323] = (new short[] {
-			352, 361
-		});
-		HZPY[12324] = (new short[] {
-			316
-		});
-		HZPY[12325] = (new short[] {
-			396
-		});
-		HZPY[12326] = (new short[] {
-			410
-		});
-		HZPY[12327] = (new short[] {
-			325
-		});
-		HZPY[12328] = (new short[] {
-			127
-		});
-		HZPY[12329] = (new short[] {
-			22
-		});
-		HZPY[12330] = (new short[] {
-			13, 16
-		});
-		HZPY[12331] = (new short[] {
-			88
-		});
-		HZPY[12332] = (new short[] {
-			50
-		});
-		HZPY[12333] = (new short[] {
-			171
-		});
-		HZPY[12334] = (new short[] {
-			320, 316
-		});
-		HZPY[12335] = (new short[] {
-			371
-		});
-		HZPY[12336] = (new short[] {
-			350
-		});
-		HZPY[12337] = (new short[] {
-			410
-		});
-		HZPY[12338] = (new short[] {
-			169
-		});
-		HZPY[12339] = (new short[] {
-			404
-		});
-		HZPY[12340] = (new short[] {
-			258
-		});
-		HZPY[12341] = (new short[] {
-			193
-		});
-		HZPY[12342] = (new short[] {
-			398
-		});
-		HZPY[12343] = (new short[] {
-			184
-		});
-		HZPY[12344] = (new short[] {
-			207
-		});
-		HZPY[12345] = (new short[] {
-			249
-		});
-		HZPY[12346] = (new short[] {
-			173
-		});
-		HZPY[12347] = (new short[] {
-			200
-		});
-		HZPY[12348] = (new short[] {
-			361
-		});
-		HZPY[12349] = (new short[] {
-			410
-		});
-		HZPY[12350] = (new short[] {
-			131
-		});
-		HZPY[12351] = (new short[] {
-			296
-		});
-		HZPY[12352] = (new short[] {
-			318
-		});
-		HZPY[12353] = (new short[] {
-			84, 253
-		});
-		HZPY[12354] = (new short[] {
-			307
-		});
-		HZPY[12355] = (new short[] {
-			12
-		});
-		HZPY[12356] = (new short[] {
-			369
-		});
-		HZPY[12357] = (new short[] {
-			290
-		});
-		HZPY[12358] = (new short[] {
-			208, 202, 206
-		});
-		HZPY[12359] = (new short[] {
-			400, 367, 375
-		});
-		HZPY[12360] = (new short[] {
-			259
-		});
-		HZPY[12361] = (new short[] {
-			129
-		});
-		HZPY[12362] = (new short[] {
-			352
-		});
-		HZPY[12363] = (new short[] {
-			350, 131
-		});
-		HZPY[12364] = (new short[] {
-			229
-		});
-		HZPY[12365] = (new short[] {
-			359
-		});
-		HZPY[12366] = (new short[] {
-			272
-		});
-		HZPY[12367] = (new short[] {
-			361
-		});
-		HZPY[12368] = (new short[] {
-			128
-		});
-		HZPY[12369] = (new short[] {
-			260
-		});
-		HZPY[12370] = (new short[] {
-			388
-		});
-		HZPY[12371] = (new short[] {
-			416
-		});
-		HZPY[12372] = (new short[] {
-			398
-		});
-		HZPY[12373] = (new short[] {
-			296
-		});
-		HZPY[12374] = (new short[] {
-			288
-		});
-		HZPY[12375] = (new short[] {
-			177
-		});
-		HZPY[12376] = (new short[] {
-			376
-		});
-		HZPY[12377] = (new short[] {
-			84
-		});
-		HZPY[12378] = (new short[] {
-			175
-		});
-		HZPY[12379] = (new short[] {
-			46
-		});
-		HZPY[12380] = (new short[] {
-			415
-		});
-		HZPY[12381] = (new short[] {
-			133
-		});
-		HZPY[12382] = (new short[] {
-			274
-		});
-		HZPY[12383] = (new short[] {
-			31
-		});
-		HZPY[12384] = (new short[] {
-			283
-		});
-		HZPY[12385] = (new short[] {
-			359
-		});
-		HZPY[12386] = (new short[] {
-			128
-		});
-		HZPY[12387] = (new short[] {
-			124
-		});
-		HZPY[12388] = (new short[] {
-			413
-		});
-		HZPY[12389] = (new short[] {
-			350
-		});
-		HZPY[12390] = (new short[] {
-			259
-		});
-		HZPY[12391] = (new short[] {
-			229
-		});
-		HZPY[12392] = (new short[] {
-			55
-		});
-		HZPY[12393] = (new short[] {
-			302
-		});
-		HZPY[12394] = (new short[] {
-			128
-		});
-		HZPY[12395] = (new short[] {
-			350, 131
-		});
-		HZPY[12396] = (new short[] {
-			291
-		});
-		HZPY[12397] = (new short[] {
-			133
-		});
-		HZPY[12398] = (new short[] {
-			134
-		});
-		HZPY[12399] = (new short[] {
-			126
-		});
-		HZPY[12400] = (new short[] {
-			260, 384
-		});
-		HZPY[12401] = (new short[] {
-			48
-		});
-		HZPY[12402] = (new short[] {
-			136
-		});
-		HZPY[12403] = (new short[] {
-			135, 132, 408
-		});
-		HZPY[12404] = (new short[] {
-			19
-		});
-		HZPY[12405] = (new short[] {
-			31
-		});
-		HZPY[12406] = (new short[] {
-			369
-		});
-		HZPY[12407] = (new short[] {
-			215
-		});
-		HZPY[12408] = (new short[] {
-			318
-		});
-		HZPY[12409] = (new short[] {
-			369
-		});
-		HZPY[12410] = (new short[] {
-			295
-		});
-		HZPY[12411] = (new short[] {
-			360
-		});
-		HZPY[12412] = (new short[] {
-			131
-		});
-		HZPY[12413] = (new short[] {
-			17
-		});
-		HZPY[12414] = (new short[] {
-			258
-		});
-		HZPY[12415] = (new short[] {
-			133, 147
-		});
-		HZPY[12416] = (new short[] {
-			255
-		});
-		HZPY[12417] = (new short[] {
-			363
-		});
-		HZPY[12418] = (new short[] {
-			413
-		});
-		HZPY[12419] = (new short[] {
-			256
-		});
-		HZPY[12420] = (new short[] {
-			246
-		});
-		HZPY[12421] = (new short[] {
-			171
-		});
-		HZPY[12422] = (new short[] {
-			207
-		});
-		HZPY[12423] = (new short[] {
-			169
-		});
-		HZPY[12424] = (new short[] {
-			355
-		});
-		HZPY[12425] = (new short[] {
-			413
-		});
-		HZPY[12426] = (new short[] {
-			159
-		});
-		HZPY[12427] = (new short[] {
-			375
-		});
-		HZPY[12428] = (new short[] {
-			360
-		});
-		HZPY[12429] = (new short[] {
-			169
-		});
-		HZPY[12430] = (new short[] {
-			352
-		});
-		HZPY[12431] = (new short[] {
-			31
-		});
-		HZPY[12432] = (new short[] {
-			229
-		});
-		HZPY[12433] = (new short[] {
-			183
-		});
-		HZPY[12434] = (new short[] {
-			31
-		});
-		HZPY[12435] = (new short[] {
-			372
-		});
-		HZPY[12436] = (new short[] {
-			22
-		});
-		HZPY[12437] = (new short[] {
-			353
-		});
-		HZPY[12438] = (new short[] {
-			352
-		});
-		HZPY[12439] = (new short[] {
-			414
-		});
-		HZPY[12440] = (new short[] {
-			413
-		});
-		HZPY[12441] = (new short[] {
-			189
-		});
-		HZPY[12442] = (new short[] {
-			350
-		});
-		HZPY[12443] = (new short[] {
-			59, 72
-		});
-		HZPY[12444] = (new short[] {
-			165
-		});
-		HZPY[12445] = (new short[] {
-			169
-		});
-		HZPY[12446] = (new short[] {
-			173
-		});
-		HZPY[12447] = (new short[] {
-			200
-		});
-		HZPY[12448] = (new short[] {
-			140
-		});
-		HZPY[12449] = (new short[] {
-			376
-		});
-		HZPY[12450] = (new short[] {
-			121, 101
-		});
-		HZPY[12451] = (new short[] {
-			400
-		});
-		HZPY[12452] = (new short[] {
-			352, 258
-		});
-		HZPY[12453] = (new short[] {
-			116, 97
-		});
-		HZPY[12454] = (new short[] {
-			378, 367
-		});
-		HZPY[12455] = (new short[] {
-			131
-		});
-		HZPY[12456] = (new short[] {
-			343
-		});
-		HZPY[12457] = (new short[] {
-			159
-		});
-		HZPY[12458] = (new short[] {
-			131
-		});
-		HZPY[12459] = (new short[] {
-			276
-		});
-		HZPY[12460] = (new short[] {
-			345
-		});
-		HZPY[12461] = (new short[] {
-			379
-		});
-		HZPY[12462] = (new short[] {
-			121
-		});
-		HZPY[12463] = (new short[] {
-			45
-		});
-		HZPY[12464] = (new short[] {
-			247
-		});
-		HZPY[12465] = (new short[] {
-			294
-		});
-		HZPY[12466] = (new short[] {
-			95
-		});
-		HZPY[12467] = (new short[] {
-			211
-		});
-		HZPY[12468] = (new short[] {
-			276
-		});
-		HZPY[12469] = (new short[] {
-			410
-		});
-		HZPY[12470] = (new short[] {
-			188, 106
-		});
-		HZPY[12471] = (new short[] {
-			87
-		});
-		HZPY[12472] = (new short[] {
-			398
-		});
-		HZPY[12473] = (new short[] {
-			346
-		});
-		HZPY[12474] = (new short[] {
-			85
-		});
-		HZPY[12475] = (new short[] {
-			401
-		});
-		HZPY[12476] = (new short[] {
-			396
-		});
-		HZPY[12477] = (new short[] {
-			228
-		});
-		HZPY[12478] = (new short[] {
-			305
-		});
-		HZPY[12479] = (new short[] {
-			352
-		});
-		HZPY[12480] = (new short[] {
-			94
-		});
-		HZPY[12481] = (new short[] {
-			355
-		});
-		HZPY[12482] = (new short[] {
-			91
-		});
-		HZPY[12483] = (new short[] {
-			173
-		});
-		HZPY[12484] = (new short[] {
-			412
-		});
-		HZPY[12485] = (new short[] {
-			301
-		});
-		HZPY[12486] = (new short[] {
-			350
-		});
-		HZPY[12487] = (new short[] {
-			398
-		});
-		HZPY[12488] = (new short[] {
-			399
-		});
-		HZPY[12489] = (new short[] {
-			400
-		});
-		HZPY[12490] = (new short[] {
-			7
-		});
-		HZPY[12491] = (new short[] {
-			91
-		});
-		HZPY[12492] = (new short[] {
-			40
-		});
-		HZPY[12493] = (new short[] {
-			298
-		});
-		HZPY[12494] = (new short[] {
-			369
-		});
-		HZPY[12495] = (new short[] {
-			138
-		});
-		HZPY[12496] = (new short[] {
-			56
-		});
-		HZPY[12497] = (new short[] {
-			8
-		});
-		HZPY[12498] = (new short[] {
-			279
-		});
-		HZPY[12499] = (new short[] {
-			136
-		});
-		HZPY[12500] = (new short[] {
-			155
-		});
-		HZPY[12501] = (new short[] {
-			274
-		});
-		HZPY[12502] = (new short[] {
-			67
-		});
-		HZPY[12503] = (new short[] {
-			114
-		});
-		HZPY[12504] = (new short[] {
-			128
-		});
-		HZPY[12505] = (new short[] {
-			131, 98
-		});
-		HZPY[12506] = (new short[] {
-			361
-		});
-		HZPY[12507] = (new short[] {
-			134
-		});
-		HZPY[12508] = (new short[] {
-			189, 167
-		});
-		HZPY[12509] = (new short[] {
-			143
-		});
-		HZPY[12510] = (new short[] {
-			135, 132
-		});
-		HZPY[12511] = (new short[] {
-			334
-		});
-		HZPY[12512] = (new short[] {
-			100
-		});
-		HZPY[12513] = (new short[] {
-			354
-		});
-		HZPY[12514] = (new short[] {
-			142
-		});
-		HZPY[12515] = (new short[] {
-			359
-		});
-		HZPY[12516] = (new short[] {
-			350
-		});
-		HZPY[12517] = (new short[] {
-			318
-		});
-		HZPY[12518] = (new short[] {
-			325
-		});
-		HZPY[12519] = (new short[] {
-			131
-		});
-		HZPY[12520] = (new short[] {
-			329, 63
-		});
-		HZPY[12521] = (new short[] {
-			131
-		});
-		HZPY[12522] = (new short[] {
-			360
-		});
-		HZPY[12523] = (new short[] {
-			178
-		});
-		HZPY[12524] = (new short[] {
-			371
-		});
-		HZPY[12525] = (new short[] {
-			360
-		});
-		HZPY[12526] = (new short[] {
-			256
-		});
-		HZPY[12527] = (new short[] {
-			86
-		});
-		HZPY[12528] = (new short[] {
-			46, 33
-		});
-		HZPY[12529] = (new short[] {
-			297
-		});
-		HZPY[12530] = (new short[] {
-			109
-		});
-		HZPY[12531] = (new short[] {
-			302
-		});
-		HZPY[12532] = (new short[] {
-			345
-		});
-		HZPY[12533] = (new short[] {
-			201
-		});
-		HZPY[12534] = (new short[] {
-			304
-		});
-		HZPY[12535] = (new short[] {
-			12
-		});
-		HZPY[12536] = (new short[] {
-			39
-		});
-		HZPY[12537] = (new short[] {
-			325
-		});
-		HZPY[12538] = (new short[] {
-			179
-		});
-		HZPY[12539] = (new short[] {
-			267
-		});
-		HZPY[12540] = (new short[] {
-			410, 388
-		});
-		HZPY[12541] = (new short[] {
-			391
-		});
-		HZPY[12542] = (new short[] {
-			343
-		});
-		HZPY[12543] = (new short[] {
-			184, 183
-		});
-		HZPY[12544] = (new short[] {
-			406
-		});
-		HZPY[12545] = (new short[] {
-			409
-		});
-		HZPY[12546] = (new short[] {
-			150
-		});
-		HZPY[12547] = (new short[] {
-			353
-		});
-		HZPY[12548] = (new short[] {
-			133
-		});
-		HZPY[12549] = (new short[] {
-			201
-		});
-		HZPY[12550] = (new short[] {
-			165
-		});
-		HZPY[12551] = (new short[] {
-			329
-		});
-		HZPY[12552] = (new short[] {
-			202
-		});
-		HZPY[12553] = (new short[] {
-			131, 256
-		});
-		HZPY[12554] = (new short[] {
-			379
-		});
-		HZPY[12555] = (new short[] {
-			128
-		});
-		HZPY[12556] = (new short[] {
-			313
-		});
-		HZPY[12557] = (new short[] {
-			76
-		});
-		HZPY[12558] = (new short[] {
-			73
-		});
-		HZPY[12559] = (new short[] {
-			14, 248
-		});
-		HZPY[12560] = (new short[] {
-			352
-		});
-		HZPY[12561] = (new short[] {
-			102
-		});
-		HZPY[12562] = (new short[] {
-			406
-		});
-		HZPY[12563] = (new short[] {
-			126
-		});
-		HZPY[12564] = (new short[] {
-			63
-		});
-		HZPY[12565] = (new short[] {
-			184
-		});
-		HZPY[12566] = (new short[] {
-			14
-		});
-		HZPY[12567] = (new short[] {
-			204
-		});
-		HZPY[12568] = (new short[] {
-			377
-		});
-		HZPY[12569] = (new short[] {
-			137
-		});
-		HZPY[12570] = (new short[] {
-			91
-		});
-		HZPY[12571] = (new short[] {
-			281
-		});
-		HZPY[12572] = (new short[] {
-			396
-		});
-		HZPY[12573] = (new short[] {
-			88
-		});
-		HZPY[12574] = (new short[] {
-			52
-		});
-		HZPY[12575] = (new short[] {
-			96
-		});
-		HZPY[12576] = (new short[] {
-			31
-		});
-		HZPY[12577] = (new short[] {
-			171
-		});
-		HZPY[12578] = (new short[] {
-			369
-		});
-		HZPY[12579] = (new short[] {
-			133
-		});
-		HZPY[12580] = (new short[] {
-			17
-		});
-		HZPY[12581] = (new short[] {
-			249
-		});
-		HZPY[12582] = (new short[] {
-			193
-		});
-		HZPY[12583] = (new short[] {
-			169
-		});
-		HZPY[12584] = (new short[] {
-			372
-		});
-		HZPY[12585] = (new short[] {
-			320, 316
-		});
-		HZPY[12586] = (new short[] {
-			208, 202, 206
-		});
-		HZPY[12587] = (new short[] {
-			290
-		});
-		HZPY[12588] = (new short[] {
-			355
-		});
-		HZPY[12589] = (new short[] {
-			175
-		});
-		HZPY[12590] = (new short[] {
-			296
-		});
-		HZPY[12591] = (new short[] {
-			388
-		});
-		HZPY[12592] = (new short[] {
-			134
-		});
-		HZPY[12593] = (new short[] {
-			258
-		});
-		HZPY[12594] = (new short[] {
-			260, 290, 384
-		});
-		HZPY[12595] = (new short[] {
-			126
-		});
-		HZPY[12596] = (new short[] {
-			135, 408, 132
-		});
-		HZPY[12597] = (new short[] {
-			413
-		});
-		HZPY[12598] = (new short[] {
-			90
-		});
-		HZPY[12599] = (new short[] {
-			355
-		});
-		HZPY[12600] = (new short[] {
-			95
-		});
-		HZPY[12601] = (new short[] {
-			90
-		});
-		HZPY[12602] = (new short[] {
-			268
-		});
-		HZPY[12603] = (new short[] {
-			90
-		});
-		HZPY[12604] = (new short[] {
-			268
-		});
-		HZPY[12605] = (new short[] {
-			19
-		});
-		HZPY[12606] = (new short[] {
-			252
-		});
-		HZPY[12607] = (new short[] {
-			122
-		});
-		HZPY[12608] = (new short[] {
-			229
-		});
-		HZPY[12609] = (new short[] {
-			95
-		});
-		HZPY[12610] = (new short[] {
-			372
-		});
-		HZPY[12611] = (new short[] {
-			372
-		});
-		HZPY[12612] = (new short[] {
-			263
-		});
-		HZPY[12613] = (new short[] {
-			351
-		});
-		HZPY[12614] = (new short[] {
-			106
-		});
-		HZPY[12615] = (new short[] {
-			415
-		});
-		HZPY[12616] = (new short[] {
-			323
-		});
-		HZPY[12617] = (new short[] {
-			229
-		});
-		HZPY[12618] = (new short[] {
-			263
-		});
-		HZPY[12619] = (new short[] {
-			347
-		});
-		HZPY[12620] = (new short[] {
-			372
-		});
-		HZPY[12621] = (new short[] {
-			169
-		});
-		HZPY[12622] = (new short[] {
-			323
-		});
-		HZPY[12623] = (new short[] {
-			183
-		});
-		HZPY[12624] = (new short[] {
-			106
-		});
-		HZPY[12625] = (new short[] {
-			344
-		});
-		HZPY[12626] = (new short[] {
-			95
-		});
-		HZPY[12627] = (new short[] {
-			344
-		});
-		HZPY[12628] = (new short[] {
-			344
-		});
-		HZPY[12629] = (new short[] {
-			113
-		});
-		HZPY[12630] = (new short[] {
-			229
-		});
-		HZPY[12631] = (new short[] {
-			189
-		});
-		HZPY[12632] = (new short[] {
-			91, 90
-		});
-		HZPY[12633] = (new short[] {
-			200
-		});
-		HZPY[12634] = (new short[] {
-			83
-		});
-		HZPY[12635] = (new short[] {
-			103
-		});
-		HZPY[12636] = (new short[] {
-			401
-		});
-		HZPY[12637] = (new short[] {
-			141
-		});
-		HZPY[12638] = (new short[] {
-			195
-		});
-		HZPY[12639] = (new short[] {
-			103
-		});
-		HZPY[12640] = (new short[] {
-			204
-		});
-		HZPY[12641] = (new short[] {
-			95
-		});
-		HZPY[12642] = (new short[] {
-			5
-		});
-		HZPY[12643] = (new short[] {
-			104
-		});
-		HZPY[12644] = (new short[] {
-			329
-		});
-		HZPY[12645] = (new short[] {
-			142
-		});
-		HZPY[12646] = (new short[] {
-			91
-		});
-		HZPY[12647] = (new short[] {
-			177, 292
-		});
-		HZPY[12648] = (new short[] {
-			365
-		});
-		HZPY[12649] = (new short[] {
-			393
-		});
-		HZPY[12650] = (new short[] {
-			414
-		});
-		HZPY[12651] = (new short[] {
-			104
-		});
-		HZPY[12652] = (new short[] {
-			408
-		});
-		HZPY[12653] = (new short[] {
-			376
-		});
-		HZPY[12654] = (new short[] {
-			398
-		});
-		HZPY[12655] = (new short[] {
-			2
-		});
-		HZPY[12656] = (new short[] {
-			83
-		});
-		HZPY[12657] = (new short[] {
-			165
-		});
-		HZPY[12658] = (new short[] {
-			305
-		});
-		HZPY[12659] = (new short[] {
-			313
-		});
-		HZPY[12660] = (new short[] {
-			247
-		});
-		HZPY[12661] = (new short[] {
-			191
-		});
-		HZPY[12662] = (new short[] {
-			179
-		});
-		HZPY[12663] = (new short[] {
-			5, 247
-		});
-		HZPY[12664] = (new short[] {
-			83
-		});
-		HZPY[12665] = (new short[] {
-			171
-		});
-		HZPY[12666] = (new short[] {
-			33
-		});
-		HZPY[12667] = (new short[] {
-			345
-		});
-		HZPY[12668] = (new short[] {
-			13
-		});
-		HZPY[12669] = (new short[] {
-			131
-		});
-		HZPY[12670] = (new short[] {
-			388
-		});
-		HZPY[12671] = (new short[] {
-			334
-		});
-		HZPY[12672] = (new short[] {
-			179
-		});
-		HZPY[12673] = (new short[] {
-			131
-		});
-		HZPY[12674] = (new short[] {
-			142
-		});
-		HZPY[12675] = (new short[] {
-			200
-		});
-		HZPY[12676] = (new short[] {
-			393
-		});
-		HZPY[12677] = (new short[] {
-			189
-		});
-		HZPY[12678] = (new short[] {
-			247, 15
-		});
-		HZPY[12679] = (new short[] {
-			131
-		});
-		HZPY[12680] = (new short[] {
-			131
-		});
-		HZPY[12681] = (new short[] {
-			186
-		});
-		HZPY[12682] = (new short[] {
-			366
-		});
-		HZPY[12683] = (new short[] {
-			203
-		});
-		HZPY[12684] = (new short[] {
-			259
-		});
-		HZPY[12685] = (new short[] {
-			321
-		});
-		HZPY[12686] = (new short[] {
-			197
-		});
-		HZPY[12687] = (new short[] {
-			366
-		});
-		HZPY[12688] = (new short[] {
-			375
-		});
-		HZPY[12689] = (new short[] {
-			375
-		});
-		HZPY[12690] = (new short[] {
-			87
-		});
-		HZPY[12691] = (new short[] {
-			5
-		});
-		HZPY[12692] = (new short[] {
-			96
-		});
-		HZPY[12693] = (new short[] {
-			366
-		});
-		HZPY[12694] = (new short[] {
-			103
-		});
-		HZPY[12695] = (new short[] {
-			259
-		});
-		HZPY[12696] = (new short[] {
-			383
-		});
-		HZPY[12697] = (new short[] {
-			96
-		});
-		HZPY[12698] = (new short[] {
-			178
-		});
-		HZPY[12699] = (new short[] {
-			369
-		});
-		HZPY[12700] = (new short[] {
-			401
-		});
-		HZPY[12701] = (new short[] {
-			63
-		});
-		HZPY[12702] = (new short[] {
-			359
-		});
-		HZPY[12703] = (new short[] {
-			259
-		});
-		HZPY[12704] = (new short[] {
-			369
-		});
-		HZPY[12705] = (new short[] {
-			352
-		});
-		HZPY[12706] = (new short[] {
-			279
-		});
-		HZPY[12707] = (new short[] {
-			270
-		});
-		HZPY[12708] = (new short[] {
-			270
-		});
-		HZPY[12709] = (new short[] {
-			258, 259
-		});
-		HZPY[12710] = (new short[] {
-			126
-		});
-		HZPY[12711] = (new short[] {
-			320
-		});
-		HZPY[12712] = (new short[] {
-			352
-		});
-		HZPY[12713] = (new short[] {
-			369
-		});
-		HZPY[12714] = (new short[] {
-			366
-		});
-		HZPY[12715] = (new short[] {
-			259
-		});
-		HZPY[12716] = (new short[] {
-			352
-		});
-		HZPY[12717] = (new short[] {
-			376
-		});
-		HZPY[12718] = (new short[] {
-			100
-		});
-		HZPY[12719] = (new short[] {
-			136
-		});
-		HZPY[12720] = (new short[] {
-			324
-		});
-		HZPY[12721] = (new short[] {
-			377
-		});
-		HZPY[12722] = (new short[] {
-			350
-		});
-		HZPY[12723] = (new short[] {
-			84
-		});
-		HZPY[12724] = (new short[] {
-			296
-		});
-		HZPY[12725] = (new short[] {
-			87
-		});
-		HZPY[12726] = (new short[] {
-			296
-		});
-		HZPY[12727] = (new short[] {
-			173
-		});
-		HZPY[12728] = (new short[] {
-			169
-		});
-		HZPY[12729] = (new short[] {
-			100
-		});
-		HZPY[12730] = (new short[] {
-			231
-		});
-		HZPY[12731] = (new short[] {
-			259
-		});
-		HZPY[12732] = (new short[] {
-			31
-		});
-		HZPY[12733] = (new short[] {
-			376
-		});
-		HZPY[12734] = (new short[] {
-			101
-		});
-		HZPY[12735] = (new short[] {
-			369
-		});
-		HZPY[12736] = (new short[] {
-			38
-		});
-		HZPY[12737] = (new short[] {
-			347
-		});
-		HZPY[12738] = (new short[] {
-			87
-		});
-		HZPY[12739] = (new short[] {
-			121
-		});
-		HZPY[12740] = (new short[] {
-			37
-		});
-		HZPY[12741] = (new short[] {
-			37
-		});
-		HZPY[12742] = (new short[] {
-			52
-		});
-		HZPY[12743] = (new short[] {
-			91, 244
-		});
-		HZPY[12744] = (new short[] {
-			351
-		});
-		HZPY[12745] = (new short[] {
-			245
-		});
-		HZPY[12746] = (new short[] {
-			369
-		});
-		HZPY[12747] = (new short[] {
-			163
-		});
-		HZPY[12748] = (new short[] {
-			369
-		});
-		HZPY[12749] = (new short[] {
-			247, 253
-		});
-		HZPY[12750] = (new short[] {
-			178
-		});
-		HZPY[12751] = (new short[] {
-			179
-		});
-		HZPY[12752] = (new short[] {
-			398
-		});
-		HZPY[12753] = (new short[] {
-			266
-		});
-		HZPY[12754] = (new short[] {
-			350
-		});
-		HZPY[12755] = (new short[] {
-			355
-		});
-		HZPY[12756] = (new short[] {
-			353
-		});
-		HZPY[12757] = (new short[] {
-			350
-		});
-		HZPY[12758] = (new short[] {
-			350
-		});
-		HZPY[12759] = (new short[] {
-			256
-		});
-		HZPY[12760] = (new short[] {
-			260
-		});
-		HZPY[12761] = (new short[] {
-			128
-		});
-		HZPY[12762] = (new short[] {
-			128
-		});
-		HZPY[12763] = (new short[] {
-			305
-		});
-		HZPY[12764] = (new short[] {
-			291
-		});
-		HZPY[12765] = (new short[] {
-			121
-		});
-		HZPY[12766] = (new short[] {
-			134
-		});
-		HZPY[12767] = (new short[] {
-			390, 63
-		});
-		HZPY[12768] = (new short[] {
-			52
-		});
-		HZPY[12769] = (new short[] {
-			86
-		});
-		HZPY[12770] = (new short[] {
-			325
-		});
-		HZPY[12771] = (new short[] {
-			294
-		});
-		HZPY[12772] = (new short[] {
-			37
-		});
-		HZPY[12773] = (new short[] {
-			401
-		});
-		HZPY[12774] = (new short[] {
-			133
-		});
-		HZPY[12775] = (new short[] {
-			361
-		});
-		HZPY[12776] = (new short[] {
-			303
-		});
-		HZPY[12777] = (new short[] {
-			248
-		});
-		HZPY[12778] = (new short[] {
-			410
-		});
-		HZPY[12779] = (new short[] {
-			343
-		});
-		HZPY[12780] = (new short[] {
-			128
-		});
-		HZPY[12781] = (new short[] {
-			122
-		});
-		HZPY[12782] = (new short[] {
-			116
-		});
-		HZPY[12783] = (new short[] {
-			116
-		});
-		HZPY[12784] = (new short[] {
-			113
-		});
-		HZPY[12785] = (new short[] {
-			4
-		});
-		HZPY[12786] = (new short[] {
-			249
-		});
-		HZPY[12787] = (new short[] {
-			369
-		});
-		HZPY[12788] = (new short[] {
-			173
-		});
-		HZPY[12789] = (new short[] {
-			266
-		});
-		HZPY[12790] = (new short[] {
-			229
-		});
-		HZPY[12791] = (new short[] {
-			177
-		});
-		HZPY[12792] = (new short[] {
-			245
-		});
-		HZPY[12793] = (new short[] {
-			260
-		});
-		HZPY[12794] = (new short[] {
-			4
-		});
-		HZPY[12795] = (new short[] {
-			84
-		});
-		HZPY[12796] = (new short[] {
-			369
-		});
-		HZPY[12797] = (new short[] {
-			128
-		});
-		HZPY[12798] = (new short[] {
-			361
-		});
-		HZPY[12799] = (new short[] {
-			59
-		});
-		HZPY[12800] = (new short[] {
-			367, 378
-		});
-		HZPY[12801] = (new short[] {
-			167
-		});
-		HZPY[12802] = (new short[] {
-			229
-		});
-		HZPY[12803] = (new short[] {
-			149
-		});
-		HZPY[12804] = (new short[] {
-			195
-		});
-		HZPY[12805] = (new short[] {
-			394
-		});
-		HZPY[12806] = (new short[] {
-			256
-		});
-		HZPY[12807] = (new short[] {
-			102
-		});
-		HZPY[12808] = (new short[] {
-			102
-		});
-		HZPY[12809] = (new short[] {
-			102
-		});
-		HZPY[12810] = (new short[] {
-			67
-		});
-		HZPY[12811] = (new short[] {
-			67
-		});
-		HZPY[12812] = (new short[] {
-			82
-		});
-		HZPY[12813] = (new short[] {
-			306
-		});
-		HZPY[12814] = (new short[] {
-			282
-		});
-		HZPY[12815] = (new short[] {
-			82
-		});
-		HZPY[12816] = (new short[] {
-			212
-		});
-		HZPY[12817] = (new short[] {
-			404, 73
-		});
-		HZPY[12818] = (new short[] {
-			169
-		});
-		HZPY[12819] = (new short[] {
-			333
-		});
-		HZPY[12820] = (new short[] {
-			409
-		});
-		HZPY[12821] = (new short[] {
-			100
-		});
-		HZPY[12822] = (new short[] {
-			33
-		});
-		HZPY[12823] = (new short[] {
-			115
-		});
-		HZPY[12824] = (new short[] {
-			379
-		});
-		HZPY[12825] = (new short[] {
-			239, 5
-		});
-		HZPY[12826] = (new short[] {
-			247
-		});
-		HZPY[12827] = (new short[] {
-			37
-		});
-		HZPY[12828] = (new short[] {
-			313
-		});
-		HZPY[12829] = (new short[] {
-			266
-		});
-		HZPY[12830] = (new short[] {
-			132
-		});
-		HZPY[12831] = (new short[] {
-			141
-		});
-		HZPY[12832] = (new short[] {
-			130
-		});
-		HZPY[12833] = (new short[] {
-			40
-		});
-		HZPY[12834] = (new short[] {
-			167
-		});
-		HZPY[12835] = (new short[] {
-			188
-		});
-		HZPY[12836] = (new short[] {
-			131
-		});
-		HZPY[12837] = (new short[] {
-			324
-		});
-		HZPY[12838] = (new short[] {
-			238
-		});
-		HZPY[12839] = (new short[] {
-			182
-		});
-		HZPY[12840] = (new short[] {
-			231
-		});
-		HZPY[12841] = (new short[] {
-			134
-		});
-		HZPY[12842] = (new short[] {
-			242
-		});
-		HZPY[12843] = (new short[] {
-			385
-		});
-		HZPY[12844] = (new short[] {
-			182
-		});
-		HZPY[12845] = (new short[] {
-			131
-		});
-		HZPY[12846] = (new short[] {
-			167
-		});
-		HZPY[12847] = (new short[] {
-			130
-		});
-		HZPY[12848] = (new short[] {
-			375
-		});
-		HZPY[12849] = (new short[] {
-			207
-		});
-		HZPY[12850] = (new short[] {
-			125
-		});
-		HZPY[12851] = (new short[] {
-			82
-		});
-		HZPY[12852] = (new short[] {
-			394
-		});
-		HZPY[12853] = (new short[] {
-			68
-		});
-		HZPY[12854] = (new short[] {
-			368
-		});
-		HZPY[12855] = (new short[] {
-			55
-		});
-		HZPY[12856] = (new short[] {
-			314
-		});
-		HZPY[12857] = (new short[] {
-			262
-		});
-		HZPY[12858] = (new short[] {
-			379
-		});
-		HZPY[12859] = (new short[] {
-			37
-		});
-		HZPY[12860] = (new short[] {
-			57
-		});
-		HZPY[12861] = (new short[] {
-			57
-		});
-		HZPY[12862] = (new short[] {
-			121
-		});
-		HZPY[12863] = (new short[] {
-			100
-		});
-		HZPY[12864] = (new short[] {
-			398
-		});
-		HZPY[12865] = (new short[] {
-			229
-		});
-		HZPY[12866] = (new short[] {
-			225
-		});
-		HZPY[12867] = (new short[] {
-			57
-		});
-		HZPY[12868] = (new short[] {
-			396
-		});
-		HZPY[12869] = (new short[] {
-			34
-		});
-		HZPY[12870] = (new short[] {
-			178
-		});
-		HZPY[12871] = (new short[] {
-			397
-		});
-		HZPY[12872] = (new short[] {
-			375
-		});
-		HZPY[12873] = (new short[] {
-			341
-		});
-		HZPY[12874] = (new short[] {
-			175
-		});
-		HZPY[12875] = (new short[] {
-			181
-		});
-		HZPY[12876] = (new short[] {
-			398
-		});
-		HZPY[12877] = (new short[] {
-			227
-		});
-		HZPY[12878] = (new short[] {
-			331
-		});
-		HZPY[12879] = (new short[] {
-			82
-		});
-		HZPY[12880] = (new short[] {
-			364
-		});
-		HZPY[12881] = (new short[] {
-			67
-		});
-		HZPY[12882] = (new short[] {
-			110, 104
-		});
-		HZPY[12883] = (new short[] {
-			229
-		});
-		HZPY[12884] = (new short[] {
-			173
-		});
-		HZPY[12885] = (new short[] {
-			115
-		});
-		HZPY[12886] = (new short[] {
-			302
-		});
-		HZPY[12887] = (new short[] {
-			176
-		});
-		HZPY[12888] = (new short[] {
-			251
-		});
-		HZPY[12889] = (new short[] {
-			138
-		});
-		HZPY[12890] = (new short[] {
-			141
-		});
-		HZPY[12891] = (new short[] {
-			13
-		});
-		HZPY[12892] = (new short[] {
-			63
-		});
-		HZPY[12893] = (new short[] {
-			110
-		});
-		HZPY[12894] = (new short[] {
-			346
-		});
-		HZPY[12895] = (new short[] {
-			360
-		});
-		HZPY[12896] = (new short[] {
-			252
-		});
-		HZPY[12897] = (new short[] {
-			48
-		});
-		HZPY[12898] = (new short[] {
-			229
-		});
-		HZPY[12899] = (new short[] {
-			229
-		});
-		HZPY[12900] = (new short[] {
-			333
-		});
-		HZPY[12901] = (new short[] {
-			376
-		});
-		HZPY[12902] = (new short[] {
-			48
-		});
-		HZPY[12903] = (new short[] {
-			160
-		});
-		HZPY[12904] = (new short[] {
-			173
-		});
-		HZPY[12905] = (new short[] {
-			160
-		});
-		HZPY[12906] = (new short[] {
-			48
-		});
-		HZPY[12907] = (new short[] {
-			173
-		});
-		HZPY[12908] = (new short[] {
-			347
-		});
-		HZPY[12909] = (new short[] {
-			160
-		});
-		HZPY[12910] = (new short[] {
-			173
-		});
-		HZPY[12911] = (new short[] {
-			173
-		});
-		HZPY[12912] = (new short[] {
-			48
-		});
-		HZPY[12913] = (new short[] {
-			4
-		});
-		HZPY[12914] = (new short[] {
-			302
-		});
-		HZPY[12915] = (new short[] {
-			314
-		});
-		HZPY[12916] = (new short[] {
-			333
-		});
-		HZPY[12917] = (new short[] {
-			160
-		});
-		HZPY[12918] = (new short[] {
-			225
-		});
-		HZPY[12919] = (new short[] {
-			398
-		});
-		HZPY[12920] = (new short[] {
-			57
-		});
-		HZPY[12921] = (new short[] {
-			227
-		});
-		HZPY[12922] = (new short[] {
-			229
-		});
-		HZPY[12923] = (new short[] {
-			131
-		});
-		HZPY[12924] = (new short[] {
-			333
-		});
-		HZPY[12925] = (new short[] {
-			333
-		});
-		HZPY[12926] = (new short[] {
-			181
-		});
-		HZPY[12927] = (new short[] {
-			376
-		});
-		HZPY[12928] = (new short[] {
-			376
-		});
-		HZPY[12929] = (new short[] {
-			393
-		});
-		HZPY[12930] = (new short[] {
-			313
-		});
-		HZPY[12931] = (new short[] {
-			316
-		});
-		HZPY[12932] = (new short[] {
-			369
-		});
-		HZPY[12933] = (new short[] {
-			316
-		});
-		HZPY[12934] = (new short[] {
-			313
-		});
-		HZPY[12935] = (new short[] {
-			393
-		});
-		HZPY[12936] = (new short[] {
-			393
-		});
-		HZPY[12937] = (new short[] {
-			280
-		});
-		HZPY[12938] = (new short[] {
-			369
-		});
-		HZPY[12939] = (new short[] {
-			169, 168
-		});
-		HZPY[12940] = (new short[] {
-			131
-		});
-		HZPY[12941] = (new short[] {
-			265
-		});
-		HZPY[12942] = (new short[] {
-			151
-		});
-		HZPY[12943] = (new short[] {
-			25
-		});
-		HZPY[12944] = (new short[] {
-			97
-		});
-		HZPY[12945] = (new short[] {
-			63
-		});
-		HZPY[12946] = (new short[] {
-			126
-		});
-		HZPY[12947] = (new short[] {
-			127
-		});
-		HZPY[12948] = (new short[] {
-			369
-		});
-		HZPY[12949] = (new short[] {
-			276
-		});
-		HZPY[12950] = (new short[] {
-			354
-		});
-		HZPY[12951] = (new short[] {
-			281
-		});
-		HZPY[12952] = (new short[] {
-			400
-		});
-		HZPY[12953] = (new short[] {
-			377
-		});
-		HZPY[12954] = (new short[] {
-			72
-		});
-		HZPY[12955] = (new short[] {
-			95
-		});
-		HZPY[12956] = (new short[] {
-			279
-		});
-		HZPY[12957] = (new short[] {
-			94
-		});
-		HZPY[12958] = (new short[] {
-			29
-		});
-		HZPY[12959] = (new short[] {
-			348
-		});
-		HZPY[12960] = (new short[] {
-			32
-		});
-		HZPY[12961] = (new short[] {
-			103
-		});
-		HZPY[12962] = (new short[] {
-			398
-		});
-		HZPY[12963] = (new short[] {
-			262
-		});
-		HZPY[12964] = (new short[] {
-			91
-		});
-		HZPY[12965] = (new short[] {
-			86
-		});
-		HZPY[12966] = (new short[] {
-			7
-		});
-		HZPY[12967] = (new short[] {
-			244
-		});
-		HZPY[12968] = (new short[] {
-			242
-		});
-		HZPY[12969] = (new short[] {
-			133
-		});
-		HZPY[12970] = (new short[] {
-			85
-		});
-		HZPY[12971] = (new short[] {
-			407
-		});
-		HZPY[12972] = (new short[] {
-			375
-		});
-		HZPY[12973] = (new short[] {
-			211
-		});
-		HZPY[12974] = (new short[] {
-			3
-		});
-		HZPY[12975] = (new short[] {
-			151
-		});
-		HZPY[12976] = (new short[] {
-			272
-		});
-		HZPY[12977] = (new short[] {
-			101
-		});
-		HZPY[12978] = (new short[] {
-			376, 373
-		});
-		HZPY[12979] = (new short[] {
-			346
-		});
-		HZPY[12980] = (new short[] {
-			367
-		});
-		HZPY[12981] = (new short[] {
-			137
-		});
-		HZPY[12982] = (new short[] {
-			247
-		});
-		HZPY[12983] = (new short[] {
-			258
-		});
-		HZPY[12984] = (new short[] {
-			350
-		});
-		HZPY[12985] = (new short[] {
-			350
-		});
-		HZPY[12986] = (new short[] {
-			86
-		});
-		HZPY[12987] = (new short[] {
-			151
-		});
-		HZPY[12988] = (new short[] {
-			138
-		});
-		HZPY[12989] = (new short[] {
-			322
-		});
-		HZPY[12990] = (new short[] {
-			301
-		});
-		HZPY[12991] = (new short[] {
-			399
-		});
-		HZPY[12992] = (new short[] {
-			392
-		});
-		HZPY[12993] = (new short[] {
-			355
-		});
-		HZPY[12994] = (new short[] {
-			301
-		});
-		HZPY[12995] = (new short[] {
-			345
-		});
-		HZPY[12996] = (new short[] {
-			400
-		});
-		HZPY[12997] = (new short[] {
-			67
-		});
-		HZPY[12998] = (new short[] {
-			57
-		});
-		HZPY[12999] = (new short[] {
-			86
-		});
-		HZPY[13000] = (new short[] {
-			5
-		});
-		HZPY[13001] = (new short[] {
-			19
-		});
-		HZPY[13002] = (new short[] {
-			266
-		});
-		HZPY[13003] = (new short[] {
-			330
-		});
-		HZPY[13004] = (new short[] {
-			10
-		});
-		HZPY[13005] = (new short[] {
-			104
-		});
-		HZPY[13006] = (new short[] {
-			322
-		});
-		HZPY[13007] = (new short[] {
-			409
-		});
-		HZPY[13008] = (new short[] {
-			155
-		});
-		HZPY[13009] = (new short[] {
-			398
-		});
-		HZPY[13010] = (new short[] {
-			221
-		});
-		HZPY[13011] = (new short[] {
-			252
-		});
-		HZPY[13012] = (new short[] {
-			409
-		});
-		HZPY[13013] = (new short[] {
-			91
-		});
-		HZPY[13014] = (new short[] {
-			242, 241
-		});
-		HZPY[13015] = (new short[] {
-			396
-		});
-		HZPY[13016] = (new short[] {
-			352
-		});
-		HZPY[13017] = (new short[] {
-			416
-		});
-		HZPY[13018] = (new short[] {
-			244
-		});
-		HZPY[13019] = (new short[] {
-			132
-		});
-		HZPY[13020] = (new short[] {
-			302
-		});
-		HZPY[13021] = (new short[] {
-			398
-		});
-		HZPY[13022] = (new short[] {
-			9
-		});
-		HZPY[13023] = (new short[] {
-			209
-		});
-		HZPY[13024] = (new short[] {
-			266
-		});
-		HZPY[13025] = (new short[] {
-			123
-		});
-		HZPY[13026] = (new short[] {
-			150
-		});
-		HZPY[13027] = (new short[] {
-			369
-		});
-		HZPY[13028] = (new short[] {
-			371
-		});
-		HZPY[13029] = (new short[] {
-			360
-		});
-		HZPY[13030] = (new short[] {
-			366
-		});
-		HZPY[13031] = (new short[] {
-			181
-		});
-		HZPY[13032] = (new short[] {
-			70
-		});
-		HZPY[13033] = (new short[] {
-			145
-		});
-		HZPY[13034] = (new short[] {
-			183
-		});
-		HZPY[13035] = (new short[] {
-			138
-		});
-		HZPY[13036] = (new short[] {
-			232
-		});
-		HZPY[13037] = (new short[] {
-			365
-		});
-		HZPY[13038] = (new short[] {
-			242
-		});
-		HZPY[13039] = (new short[] {
-			156
-		});
-		HZPY[13040] = (new short[] {
-			369
-		});
-		HZPY[13041] = (new short[] {
-			107
-		});
-		HZPY[13042] = (new short[] {
-			112, 93
-		});
-		HZPY[13043] = (new short[] {
-			97, 92
-		});
-		HZPY[13044] = (new short[] {
-			70
-		});
-		HZPY[13045] = (new short[] {
-			398
-		});
-		HZPY[13046] = (new short[] {
-			135
-		});
-		HZPY[13047] = (new short[] {
-			358
-		});
-		HZPY[13048] = (new short[] {
-			358
-		});
-		HZPY[13049] = (new short[] {
-			82
-		});
-		HZPY[13050] = (new short[] {
-			2
-		});
-		HZPY[13051] = (new short[] {
-			357
-		});
-		HZPY[13052] = (new short[] {
-			248
-		});
-		HZPY[13053] = (new short[] {
-			219
-		});
-		HZPY[13054] = (new short[] {
-			409
-		});
-		HZPY[13055] = (new short[] {
-			229
-		});
-		HZPY[13056] = (new short[] {
-			36
-		});
-		HZPY[13057] = (new short[] {
-			331
-		});
-		HZPY[13058] = (new short[] {
-			398
-		});
-		HZPY[13059] = (new short[] {
-			52
-		});
-		HZPY[13060] = (new short[] {
-			197
-		});
-		HZPY[13061] = (new short[] {
-			355
-		});
-		HZPY[13062] = (new short[] {
-			52
-		});
-		HZPY[13063] = (new short[] {
-			355
-		});
-		HZPY[13064] = (new short[] {
-			207, 192
-		});
-		HZPY[13065] = (new short[] {
-			192, 207
-		});
-		HZPY[13066] = (new short[] {
-			131
-		});
-		HZPY[13067] = (new short[] {
-			355
-		});
-		HZPY[13068] = (new short[] {
-			229
-		});
-		HZPY[13069] = (new short[] {
-			157
-		});
-		HZPY[13070] = (new short[] {
-			286
-		});
-		HZPY[13071] = (new short[] {
-			383
-		});
-		HZPY[13072] = (new short[] {
-			256
-		});
-		HZPY[13073] = (new short[] {
-			215
-		});
-		HZPY[13074] = (new short[] {
-			200
-		});
-		HZPY[13075] = (new short[] {
-			230
-		});
-		HZPY[13076] = (new short[] {
-			186
-		});
-		HZPY[13077] = (new short[] {
-			343
-		});
-		HZPY[13078] = (new short[] {
-			19
-		});
-		HZPY[13079] = (new short[] {
-			346
-		});
-		HZPY[13080] = (new short[] {
-			343
-		});
-		HZPY[13081] = (new short[] {
-			265
-		});
-		HZPY[13082] = (new short[] {
-			135, 143, 132
-		});
-		HZPY[13083] = (new short[] {
-			138
-		});
-		HZPY[13084] = (new short[] {
-			375
-		});
-		HZPY[13085] = (new short[] {
-			119
-		});
-		HZPY[13086] = (new short[] {
-			54
-		});
-		HZPY[13087] = (new short[] {
-			176
-		});
-		HZPY[13088] = (new short[] {
-			296
-		});
-		HZPY[13089] = (new short[] {
-			333
-		});
-		HZPY[13090] = (new short[] {
-			197
-		});
-		HZPY[13091] = (new short[] {
-			45
-		});
-		HZPY[13092] = (new short[] {
-			301
-		});
-		HZPY[13093] = (new short[] {
-			355
-		});
-		HZPY[13094] = (new short[] {
-			229
-		});
-		HZPY[13095] = (new short[] {
-			142
-		});
-		HZPY[13096] = (new short[] {
-			50
-		});
-		HZPY[13097] = (new short[] {
-			359
-		});
-		HZPY[13098] = (new short[] {
-			356
-		});
-		HZPY[13099] = (new short[] {
-			340
-		});
-		HZPY[13100] = (new short[] {
-			243
-		});
-		HZPY[13101] = (new short[] {
-			36
-		});
-		HZPY[13102] = (new short[] {
-			217
-		});
-		HZPY[13103] = (new short[] {
-			91, 255
-		});
-		HZPY[13104] = (new short[] {
-			71
-		});
-		HZPY[13105] = (new short[] {
-			340
-		});
-		HZPY[13106] = (new short[] {
-			224
-		});
-		HZPY[13107] = (new short[] {
-			215
-		});
-		HZPY[13108] = (new short[] {
-			247
-		});
-		HZPY[13109] = (new short[] {
-			103
-		});
-		HZPY[13110] = (new short[] {
-			189
-		});
-		HZPY[13111] = (new short[] {
-			171
-		});
-		HZPY[13112] = (new short[] {
-			173
-		});
-		HZPY[13113] = (new short[] {
-			392
-		});
-		HZPY[13114] = (new short[] {
-			52
-		});
-		HZPY[13115] = (new short[] {
-			136
-		});
-		HZPY[13116] = (new short[] {
-			174
-		});
-		HZPY[13117] = (new short[] {
-			310
-		});
-		HZPY[13118] = (new short[] {
-			247
-		});
-		HZPY[13119] = (new short[] {
-			15
-		});
-		HZPY[13120] = (new short[] {
-			188
-		});
-		HZPY[13121] = (new short[] {
-			248
-		});
-		HZPY[13122] = (new short[] {
-			110
-		});
-		HZPY[13123] = (new short[] {
-			142
-		});
-		HZPY[13124] = (new short[] {
-			44, 406
-		});
-		HZPY[13125] = (new short[] {
-			57
-		});
-		HZPY[13126] = (new short[] {
-			330
-		});
-		HZPY[13127] = (new short[] {
-			217
-		});
-		HZPY[13128] = (new short[] {
-			138
-		});
-		HZPY[13129] = (new short[] {
-			136
-		});
-		HZPY[13130] = (new short[] {
-			163, 350
-		});
-		HZPY[13131] = (new short[] {
-			368, 369
-		});
-		HZPY[13132] = (new short[] {
-			0, 365
-		});
-		HZPY[13133] = (new short[] {
-			276
-		});
-		HZPY[13134] = (new short[] {
-			301
-		});
-		HZPY[13135] = (new short[] {
-			46, 76
-		});
-		HZPY[13136] = (new short[] {
-			91
-		});
-		HZPY[13137] = (new short[] {
-			91
-		});
-		HZPY[13138] = (new short[] {
-			141
-		});
-		HZPY[13139] = (new short[] {
-			86
-		});
-		HZPY[13140] = (new short[] {
-			259
-		});
-		HZPY[13141] = (new short[] {
-			343
-		});
-		HZPY[13142] = (new short[] {
-			70
-		});
-		HZPY[13143] = (new short[] {
-			247
-		});
-		HZPY[13144] = (new short[] {
-			110
-		});
-		HZPY[13145] = (new short[] {
-			410
-		});
-		HZPY[13146] = (new short[] {
-			68
-		});
-		HZPY[13147] = (new short[] {
-			349
-		});
-		HZPY[13148] = (new short[] {
-			197
-		});
-		HZPY[13149] = (new short[] {
-			282
-		});
-		HZPY[13150] = (new short[] {
-			404, 75
-		});
-		HZPY[13151] = (new short[] {
-			398
-		});
-		HZPY[13152] = (new short[] {
-			49
-		});
-		HZPY[13153] = (new short[] {
-			104, 189
-		});
-		HZPY[13154] = (new short[] {
-			238
-		});
-		HZPY[13155] = (new short[] {
-			63
-		});
-		HZPY[13156] = (new short[] {
-			2
-		});
-		HZPY[13157] = (new short[] {
-			357
-		});
-		HZPY[13158] = (new short[] {
-			215
-		});
-		HZPY[13159] = (new short[] {
-			305
-		});
-		HZPY[13160] = (new short[] {
-			308
-		});
-		HZPY[13161] = (new short[] {
-			213
-		});
-		HZPY[13162] = (new short[] {
-			379
-		});
-		HZPY[13163] = (new short[] {
-			399
-		});
-		HZPY[13164] = (new short[] {
-			280
-		});
-		HZPY[13165] = (new short[] {
-			77
-		});
-		HZPY[13166] = (new short[] {
-			287
-		});
-		HZPY[13167] = (new short[] {
-			336
-		});
-		HZPY[13168] = (new short[] {
-			367
-		});
-		HZPY[13169] = (new short[] {
-			133
-		});
-		HZPY[13170] = (new short[] {
-			345
-		});
-		HZPY[13171] = (new short[] {
-			135
-		});
-		HZPY[13172] = (new short[] {
-			376
-		});
-		HZPY[13173] = (new short[] {
-			132
-		});
-		HZPY[13174] = (new short[] {
-			73
-		});
-		HZPY[13175] = (new short[] {
-			13
-		});
-		HZPY[13176] = (new short[] {
-			32
-		});
-		HZPY[13177] = (new short[] {
-			91
-		});
-		HZPY[13178] = (new short[] {
-			352
-		});
-		HZPY[13179] = (new short[] {
-			221
-		});
-		HZPY[13180] = (new short[] {
-			201
-		});
-		HZPY[13181] = (new short[] {
-			341
-		});
-		HZPY[13182] = (new short[] {
-			328
-		});
-		HZPY[13183] = (new short[] {
-			338
-		});
-		HZPY[13184] = (new short[] {
-			8, 242
-		});
-		HZPY[13185] = (new short[] {
-			258
-		});
-		HZPY[13186] = (new short[] {
-			184
-		});
-		HZPY[13187] = (new short[] {
-			341
-		});
-		HZPY[13188] = (new short[] {
-			304
-		});
-		HZPY[13189] = (new short[] {
-			324
-		});
-		HZPY[13190] = (new short[] {
-			316
-		});
-		HZPY[13191] = (new short[] {
-			406
-		});
-		HZPY[13192] = (new short[] {
-			97
-		});
-		HZPY[13193] = (new short[] {
-			369
-		});
-		HZPY[13194] = (new short[] {
-			19
-		});
-		HZPY[13195] = (new short[] {
-			175
-		});
-		HZPY[13196] = (new short[] {
-			131
-		});
-		HZPY[13197] = (new short[] {
-			247
-		});
-		HZPY[13198] = (new short[] {
-			355
-		});
-		HZPY[13199] = (new short[] {
-			96
-		});
-		HZPY[13200] = (new short[] {
-			184
-		});
-		HZPY[13201] = (new short[] {
-			17
-		});
-		HZPY[13202] = (new short[] {
-			229
-		});
-		HZPY[13203] = (new short[] {
-			32
-		});
-		HZPY[13204] = (new short[] {
-			183
-		});
-		HZPY[13205] = (new short[] {
-			110
-		});
-		HZPY[13206] = (new short[] {
-			242
-		});
-		HZPY[13207] = (new short[] {
-			41
-		});
-		HZPY[13208] = (new short[] {
-			15
-		});
-		HZPY[13209] = (new short[] {
-			134
-		});
-		HZPY[13210] = (new short[] {
-			91
-		});
-		HZPY[13211] = (new short[] {
-			324
-		});
-		HZPY[13212] = (new short[] {
-			207
-		});
-		HZPY[13213] = (new short[] {
-			350
-		});
-		HZPY[13214] = (new short[] {
-			404
-		});
-		HZPY[13215] = (new short[] {
-			184
-		});
-		HZPY[13216] = (new short[] {
-			135
-		});
-		HZPY[13217] = (new short[] {
-			372
-		});
-		HZPY[13218] = (new short[] {
-			184
-		});
-		HZPY[13219] = (new short[] {
-			398
-		});
-		HZPY[13220] = (new short[] {
-			362
-		});
-		HZPY[13221] = (new short[] {
-			45
-		});
-		HZPY[13222] = (new short[] {
-			177
-		});
-		HZPY[13223] = (new short[] {
-			334
-		});
-		HZPY[13224] = (new short[] {
-			246
-		});
-		HZPY[13225] = (new short[] {
-			221
-		});
-		HZPY[13226] = (new short[] {
-			41
-		});
-		HZPY[13227] = (new short[] {
-			175
-		});
-		HZPY[13228] = (new short[] {
-			52
-		});
-		HZPY[13229] = (new short[] {
-			108
-		});
-		HZPY[13230] = (new short[] {
-			354
-		});
-		HZPY[13231] = (new short[] {
-			328
-		});
-		HZPY[13232] = (new short[] {
-			84
-		});
-		HZPY[13233] = (new short[] {
-			398
-		});
-		HZPY[13234] = (new short[] {
-			135
-		});
-		HZPY[13235] = (new short[] {
-			296
-		});
-		HZPY[13236] = (new short[] {
-			123
-		});
-		HZPY[13237] = (new short[] {
-			52
-		});
-		HZPY[13238] = (new short[] {
-			284
-		});
-		HZPY[13239] = (new short[] {
-			356
-		});
-		HZPY[13240] = (new short[] {
-			318
-		});
-		HZPY[13241] = (new short[] {
-			87
-		});
-		HZPY[13242] = (new short[] {
-			372
-		});
-		HZPY[13243] = (new short[] {
-			296
-		});
-		HZPY[13244] = (new short[] {
-			104
-		});
-		HZPY[13245] = (new short[] {
-			57
-		});
-		HZPY[13246] = (new short[] {
-			157
-		});
-		HZPY[13247] = (new short[] {
-			230
-		});
-		HZPY[13248] = (new short[] {
-			339
-		});
-		HZPY[13249] = (new short[] {
-			173
-		});
-		HZPY[13250] = (new short[] {
-			10, 13
-		});
-		HZPY[13251] = (new short[] {
-			374
-		});
-		HZPY[13252] = (new short[] {
-			143
-		});
-		HZPY[13253] = (new short[] {
-			40
-		});
-		HZPY[13254] = (new short[] {
-			369
-		});
-		HZPY[13255] = (new short[] {
-			142
-		});
-		HZPY[13256] = (new short[] {
-			163, 350
-		});
-		HZPY[13257] = (new short[] {
-			173
-		});
-		HZPY[13258] = (new short[] {
-			290
-		});
-		HZPY[13259] = (new short[] {
-			339
-		});
-		HZPY[13260] = (new short[] {
-			103
-		});
-		HZPY[13261] = (new short[] {
-			256
-		});
-		HZPY[13262] = (new short[] {
-			52
-		});
-		HZPY[13263] = (new short[] {
-			17
-		});
-		HZPY[13264] = (new short[] {
-			363
-		});
-		HZPY[13265] = (new short[] {
-			215, 281
-		});
-		HZPY[13266] = (new short[] {
-			130
-		});
-		HZPY[13267] = (new short[] {
-			383
-		});
-		HZPY[13268] = (new short[] {
-			352
-		});
-		HZPY[13269] = (new short[] {
-			15
-		});
-		HZPY[13270] = (new short[] {
-			357
-		});
-		HZPY[13271] = (new short[] {
-			158
-		});
-		HZPY[13272] = (new short[] {
-			163, 350
-		});
-		HZPY[13273] = (new short[] {
-			365
-		});
-		HZPY[13274] = (new short[] {
-			183
-		});
-		HZPY[13275] = (new short[] {
-			123
-		});
-		HZPY[13276] = (new short[] {
-			380
-		});
-		HZPY[13277] = (new short[] {
-			189
-		});
-		HZPY[13278] = (new short[] {
-			266
-		});
-		HZPY[13279] = (new short[] {
-			383
-		});
-		HZPY[13280] = (new short[] {
-			186
-		});
-		HZPY[13281] = (new short[] {
-			221
-		});
-		HZPY[13282] = (new short[] {
-			380
-		});
-		HZPY[13283] = (new short[] {
-			35
-		});
-		HZPY[13284] = (new short[] {
-			258
-		});
-		HZPY[13285] = (new short[] {
-			348
-		});
-		HZPY[13286] = (new short[] {
-			107, 344
-		});
-		HZPY[13287] = (new short[] {
-			383
-		});
-		HZPY[13288] = (new short[] {
-			177
-		});
-		HZPY[13289] = (new short[] {
-			107
-		});
-		HZPY[13290] = (new short[] {
-			409
-		});
-		HZPY[13291] = (new short[] {
-			135
-		});
-		HZPY[13292] = (new short[] {
-			225
-		});
-		HZPY[13293] = (new short[] {
-			39, 359
-		});
-		HZPY[13294] = (new short[] {
-			131
-		});
-		HZPY[13295] = (new short[] {
-			96
-		});
-		HZPY[13296] = (new short[] {
-			39, 359
-		});
-		HZPY[13297] = (new short[] {
-			201
-		});
-		HZPY[13298] = (new short[] {
-			225
-		});
-		HZPY[13299] = (new short[] {
-			398
-		});
-		HZPY[13300] = (new short[] {
-			398
-		});
-		HZPY[13301] = (new short[] {
-			97
-		});
-		HZPY[13302] = (new short[] {
-			133
-		});
-		HZPY[13303] = (new short[] {
-			67
-		});
-		HZPY[13304] = (new short[] {
-			398
-		});
-		HZPY[13305] = (new short[] {
-			359
-		});
-		HZPY[13306] = (new short[] {
-			322
-		});
-		HZPY[13307] = (new short[] {
-			396
-		});
-		HZPY[13308] = (new short[] {
-			140
-		});
-		HZPY[13309] = (new short[] {
-			352
-		});
-		HZPY[13310] = (new short[] {
-			376
-		});
-		HZPY[13311] = (new short[] {
-			29
-		});
-		HZPY[13312] = (new short[] {
-			367
-		});
-		HZPY[13313] = (new short[] {
-			376
-		});
-		HZPY[13314] = (new short[] {
-			38
-		});
-		HZPY[13315] = (new short[] {
-			350
-		});
-		HZPY[13316] = (new short[] {
-			350
-		});
-		HZPY[13317] = (new short[] {
-			140
-		});
-		HZPY[13318] = (new short[] {
-			376
-		});
-		HZPY[13319] = (new short[] {
-			376
-		});
-		HZPY[13320] = (new short[] {
-			357
-		});
-		HZPY[13321] = (new short[] {
-			141
-		});
-		HZPY[13322] = (new short[] {
-			140
-		});
-		HZPY[13323] = (new short[] {
-			356
-		});
-		HZPY[13324] = (new short[] {
-			299
-		});
-		HZPY[13325] = (new short[] {
-			299
-		});
-		HZPY[13326] = (new short[] {
-			299
-		});
-		HZPY[13327] = (new short[] {
-			140
-		});
-		HZPY[13328] = (new short[] {
-			303
-		});
-		HZPY[13329] = (new short[] {
-			323
-		});
-		HZPY[13330] = (new short[] {
-			305
-		});
-		HZPY[13331] = (new short[] {
-			303
-		});
-		HZPY[13332] = (new short[] {
-			330
-		});
-		HZPY[13333] = (new short[] {
-			57
-		});
-		HZPY[13334] = (new short[] {
-			255
-		});
-		HZPY[13335] = (new short[] {
-			255
-		});
-		HZPY[13336] = (new short[] {
-			106
-		});
-		HZPY[13337] = (new short[] {
-			124
-		});
-		HZPY[13338] = (new short[] {
-			330
-		});
-		HZPY[13339] = (new short[] {
-			42
-		});
-		HZPY[13340] = (new short[] {
-			311
-		});
-		HZPY[13341] = (new short[] {
-			351
-		});
-		HZPY[13342] = (new short[] {
-			349
-		});
-		HZPY[13343] = (new short[] {
-			400
-		});
-		HZPY[13344] = (new short[] {
-			59
-		});
-		HZPY[13345] = (new short[] {
-			42
-		});
-		HZPY[13346] = (new short[] {
-			296
-		});
-		HZPY[13347] = (new short[] {
-			369
-		});
-		HZPY[13348] = (new short[] {
-			229
-		});
-		HZPY[13349] = (new short[] {
-			239
-		});
-		HZPY[13350] = (new short[] {
-			322
-		});
-		HZPY[13351] = (new short[] {
-			84
-		});
-		HZPY[13352] = (new short[] {
-			7
-		});
-		HZPY[13353] = (new short[] {
-			42
-		});
-		HZPY[13354] = (new short[] {
-			114
-		});
-		HZPY[13355] = (new short[] {
-			85
-		});
-		HZPY[13356] = (new short[] {
-			7, 19, 241
-		});
-		HZPY[13357] = (new short[] {
-			13
-		});
-		HZPY[13358] = (new short[] {
-			183
-		});
-		HZPY[13359] = (new short[] {
-			399
-		});
-		HZPY[13360] = (new short[] {
-			133
-		});
-		HZPY[13361] = (new short[] {
-			24
-		});
-		HZPY[13362] = (new short[] {
-			178
-		});
-		HZPY[13363] = (new short[] {
-			401
-		});
-		HZPY[13364] = (new short[] {
-			385
-		});
-		HZPY[13365] = (new short[] {
-			76, 340
-		});
-		HZPY[13366] = (new short[] {
-			19
-		});
-		HZPY[13367] = (new short[] {
-			352
-		});
-		HZPY[13368] = (new short[] {
-			97
-		});
-		HZPY[13369] = (new short[] {
-			42
-		});
-		HZPY[13370] = (new short[] {
-			132, 351
-		});
-		HZPY[13371] = (new short[] {
-			183
-		});
-		HZPY[13372] = (new short[] {
-			121
-		});
-		HZPY[13373] = (new short[] {
-			242
-		});
-		HZPY[13374] = (new short[] {
-			350
-		});
-		HZPY[13375] = (new short[] {
-			229
-		});
-		HZPY[13376] = (new short[] {
-			91
-		});
-		HZPY[13377] = (new short[] {
-			384
-		});
-		HZPY[13378] = (new short[] {
-			88
-		});
-		HZPY[13379] = (new short[] {
-			171
-		});
-		HZPY[13380] = (new short[] {
-			298
-		});
-		HZPY[13381] = (new short[] {
-			376
-		});
-		HZPY[13382] = (new short[] {
-			166
-		});
-		HZPY[13383] = (new short[] {
-			333
-		});
-		HZPY[13384] = (new short[] {
-			229
-		});
-		HZPY[13385] = (new short[] {
-			345
-		});
-		HZPY[13386] = (new short[] {
-			19
-		});
-		HZPY[13387] = (new short[] {
-			199
-		});
-		HZPY[13388] = (new short[] {
-			222
-		});
-		HZPY[13389] = (new short[] {
-			141
-		});
-		HZPY[13390] = (new short[] {
-			127
-		});
-		HZPY[13391] = (new short[] {
-			304
-		});
-		HZPY[13392] = (new short[] {
-			410
-		});
-		HZPY[13393] = (new short[] {
-			14
-		});
-		HZPY[13394] = (new short[] {
-			195
-		});
-		HZPY[13395] = (new short[] {
-			67
-		});
-		HZPY[13396] = (new short[] {
-			229
-		});
-		HZPY[13397] = (new short[] {
-			8
-		});
-		HZPY[13398] = (new short[] {
-			29
-		});
-		HZPY[13399] = (new short[] {
-			369
-		});
-		HZPY[13400] = (new short[] {
-			315, 290
-		});
-		HZPY[13401] = (new short[] {
-			24
-		});
-		HZPY[13402] = (new short[] {
-			25
-		});
-		HZPY[13403] = (new short[] {
-			182
-		});
-		HZPY[13404] = (new short[] {
-			56
-		});
-		HZPY[13405] = (new short[] {
-			229
-		});
-		HZPY[13406] = (new short[] {
-			367
-		});
-		HZPY[13407] = (new short[] {
-			38, 334
-		});
-		HZPY[13408] = (new short[] {
-			229
-		});
-		HZPY[13409] = (new short[] {
-			58
-		});
-		HZPY[13410] = (new short[] {
-			259
-		});
-		HZPY[13411] = (new short[] {
-			183
-		});
-		HZPY[13412] = (new short[] {
-			369
-		});
-		HZPY[13413] = (new short[] {
-			136
-		});
-		HZPY[13414] = (new short[] {
-			133
-		});
-		HZPY[13415] = (new short[] {
-			130
-		});
-		HZPY[13416] = (new short[] {
-			199
-		});
-		HZPY[13417] = (new short[] {
-			256
-		});
-		HZPY[13418] = (new short[] {
-			183
-		});
-		HZPY[13419] = (new short[] {
-			183
-		});
-		HZPY[13420] = (new short[] {
-			31
-		});
-		HZPY[13421] = (new short[] {
-			309
-		});
-		HZPY[13422] = (new short[] {
-			99
-		});
-		HZPY[13423] = (new short[] {
-			174
-		});
-		HZPY[13424] = (new short[] {
-			133
-		});
-		HZPY[13425] = (new short[] {
-			133
-		});
-		HZPY[13426] = (new short[] {
-			291, 295
-		});
-		HZPY[13427] = (new short[] {
-			365
-		});
-		HZPY[13428] = (new short[] {
-			91
-		});
-		HZPY[13429] = (new short[] {
-			252
-		});
-		HZPY[13430] = (new short[] {
-			365
-		});
-		HZPY[13431] = (new short[] {
-			365
-		});
-		HZPY[13432] = (new short[] {
-			25
-		});
-		HZPY[13433] = (new short[] {
-			25
-		});
-		HZPY[13434] = (new short[] {
-			369
-		});
-		HZPY[13435] = (new short[] {
-			168
-		});
-		HZPY[13436] = (new short[] {
-			333
-		});
-		HZPY[13437] = (new short[] {
-			135
-		});
-		HZPY[13438] = (new short[] {
-			1, 369
-		});
-		HZPY[13439] = (new short[] {
-			212
-		});
-		HZPY[13440] = (new short[] {
-			331
-		});
-		HZPY[13441] = (new short[] {
-			135
-		});
-		HZPY[13442] = (new short[] {
-			136
-		});
-		HZPY[13443] = (new short[] {
-			246
-		});
-		HZPY[13444] = (new short[] {
-			343
-		});
-		HZPY[13445] = (new short[] {
-			369
-		});
-		HZPY[13446] = (new short[] {
-			30
-		});
-		HZPY[13447] = (new short[] {
-			201
-		});
-		HZPY[13448] = (new short[] {
-			200
-		});
-		HZPY[13449] = (new short[] {
-			94
-		});
-		HZPY[13450] = (new short[] {
-			258
-		});
-		HZPY[13451] = (new short[] {
-			376
-		});
-		HZPY[13452] = (new short[] {
-			376
-		});
-		HZPY[13453] = (new short[] {
-			298
-		});
-		HZPY[13454] = (new short[] {
-			358
-		});
-		HZPY[13455] = (new short[] {
-			72
-		});
-		HZPY[13456] = (new short[] {
-			351
-		});
-		HZPY[13457] = (new short[] {
-			256
-		});
-		HZPY[13458] = (new short[] {
-			194, 344
-		});
-		HZPY[13459] = (new short[] {
-			409
-		});
-		HZPY[13460] = (new short[] {
-			128
-		});
-		HZPY[13461] = (new short[] {
-			318
-		});
-		HZPY[13462] = (new short[] {
-			398
-		});
-		HZPY[13463] = (new short[] {
-			353
-		});
-		HZPY[13464] = (new short[] {
-			13, 247
-		});
-		HZPY[13465] = (new short[] {
-			91
-		});
-		HZPY[13466] = (new short[] {
-			339
-		});
-		HZPY[13467] = (new short[] {
-			345
-		});
-		HZPY[13468] = (new short[] {
-			349
-		});
-		HZPY[13469] = (new short[] {
-			398
-		});
-		HZPY[13470] = (new short[] {
-			256
-		});
-		HZPY[13471] = (new short[] {
-			296
-		});
-		HZPY[13472] = (new short[] {
-			346
-		});
-		HZPY[13473] = (new short[] {
-			258
-		});
-		HZPY[13474] = (new short[] {
-			276
-		});
-		HZPY[13475] = (new short[] {
-			90
-		});
-		HZPY[13476] = (new short[] {
-			154
-		});
-		HZPY[13477] = (new short[] {
-			136, 93
-		});
-		HZPY[13478] = (new short[] {
-			183
-		});
-		HZPY[13479] = (new short[] {
-			401
-		});
-		HZPY[13480] = (new short[] {
-			131
-		});
-		HZPY[13481] = (new short[] {
-			262
-		});
-		HZPY[13482] = (new short[] {
-			256
-		});
-		HZPY[13483] = (new short[] {
-			365, 377
-		});
-		HZPY[13484] = (new short[] {
-			87
-		});
-		HZPY[13485] = (new short[] {
-			5
-		});
-		HZPY[13486] = (new short[] {
-			283
-		});
-		HZPY[13487] = (new short[] {
-			356
-		});
-		HZPY[13488] = (new short[] {
-			131
-		});
-		HZPY[13489] = (new short[] {
-			124
-		});
-		HZPY[13490] = (new short[] {
-			124
-		});
-		HZPY[13491] = (new short[] {
-			85
-		});
-		HZPY[13492] = (new short[] {
-			349
-		});
-		HZPY[13493] = (new short[] {
-			143
-		});
-		HZPY[13494] = (new short[] {
-			102
-		});
-		HZPY[13495] = (new short[] {
-			398
-		});
-		HZPY[13496] = (new short[] {
-			379
-		});
-		HZPY[13497] = (new short[] {
-			262
-		});
-		HZPY[13498] = (new short[] {
-			4
-		});
-		HZPY[13499] = (new short[] {
-			40
-		});
-		HZPY[13500] = (new short[] {
-			195
-		});
-		HZPY[13501] = (new short[] {
-			364, 63
-		});
-		HZPY[13502] = (new short[] {
-			86, 91
-		});
-		HZPY[13503] = (new short[] {
-			277
-		});
-		HZPY[13504] = (new short[] {
-			114
-		});
-		HZPY[13505] = (new short[] {
-			48
-		});
-		HZPY[13506] = (new short[] {
-			371
-		});
-		HZPY[13507] = (new short[] {
-			375
-		});
-		HZPY[13508] = (new short[] {
-			14
-		});
-		HZPY[13509] = (new short[] {
-			369
-		});
-		HZPY[13510] = (new short[] {
-			229
-		});
-		HZPY[13511] = (new short[] {
-			345
-		});
-		HZPY[13512] = (new short[] {
-			171
-		});
-		HZPY[13513] = (new short[] {
-			247
-		});
-		HZPY[13514] = (new short[] {
-			77
-		});
-		HZPY[13515] = (new short[] {
-			352
-		});
-		HZPY[13516] = (new short[] {
-			32
-		});
-		HZPY[13517] = (new short[] {
-			24
-		});
-		HZPY[13518] = (new short[] {
-			401, 227
-		});
-		HZPY[13519] = (new short[] {
-			316
-		});
-		HZPY[13520] = (new short[] {
-			369, 329
-		});
-		HZPY[13521] = (new short[] {
-			377
-		});
-		HZPY[13522] = (new short[] {
-			272
-		});
-		HZPY[13523] = (new short[] {
-			178
-		});
-		HZPY[13524] = (new short[] {
-			322
-		});
-		HZPY[13525] = (new short[] {
-			331, 298
-		});
-		HZPY[13526] = (new short[] {
-			63
-		});
-		HZPY[13527] = (new short[] {
-			202
-		});
-		HZPY[13528] = (new short[] {
-			263
-		});
-		HZPY[13529] = (new short[] {
-			171
-		});
-		HZPY[13530] = (new short[] {
-			274
-		});
-		HZPY[13531] = (new short[] {
-			150
-		});
-		HZPY[13532] = (new short[] {
-			209
-		});
-		HZPY[13533] = (new short[] {
-			244
-		});
-		HZPY[13534] = (new short[] {
-			9
-		});
-		HZPY[13535] = (new short[] {
-			102
-		});
-		HZPY[13536] = (new short[] {
-			204
-		});
-		HZPY[13537] = (new short[] {
-			369
-		});
-		HZPY[13538] = (new short[] {
-			369
-		});
-		HZPY[13539] = (new short[] {
-			141, 266
-		});
-		HZPY[13540] = (new short[] {
-			250
-		});
-		HZPY[13541] = (new short[] {
-			285, 275
-		});
-		HZPY[13542] = (new short[] {
-			155
-		});
-		HZPY[13543] = (new short[] {
-			401, 227
-		});
-		HZPY[13544] = (new short[] {
-			221
-		});
-		HZPY[13545] = (new short[] {
-			19
-		});
-		HZPY[13546] = (new short[] {
-			18
-		});
-		HZPY[13547] = (new short[] {
-			296
-		});
-		HZPY[13548] = (new short[] {
-			265
-		});
-		HZPY[13549] = (new short[] {
-			367
-		});
-		HZPY[13550] = (new short[] {
-			352
-		});
-		HZPY[13551] = (new short[] {
-			11
-		});
-		HZPY[13552] = (new short[] {
-			121
-		});
-		HZPY[13553] = (new short[] {
-			372
-		});
-		HZPY[13554] = (new short[] {
-			389
-		});
-		HZPY[13555] = (new short[] {
-			70
-		});
-		HZPY[13556] = (new short[] {
-			141
-		});
-		HZPY[13557] = (new short[] {
-			67
-		});
-		HZPY[13558] = (new short[] {
-			225
-		});
-		HZPY[13559] = (new short[] {
-			94
-		});
-		HZPY[13560] = (new short[] {
-			123
-		});
-		HZPY[13561] = (new short[] {
-			252, 251
-		});
-		HZPY[13562] = (new short[] {
-			197
-		});
-		HZPY[13563] = (new short[] {
-			91
-		});
-		HZPY[13564] = (new short[] {
-			302
-		});
-		HZPY[13565] = (new short[] {
-			103
-		});
-		HZPY[13566] = (new short[] {
-			13
-		});
-		HZPY[13567] = (new short[] {
-			345
-		});
-		HZPY[13568] = (new short[] {
-			91
-		});
-		HZPY[13569] = (new short[] {
-			408
-		});
-		HZPY[13570] = (new short[] {
-			195
-		});
-		HZPY[13571] = (new short[] {
-			84
-		});
-		HZPY[13572] = (new short[] {
-			261, 132
-		});
-		HZPY[13573] = (new short[] {
-			195
-		});
-		HZPY[13574] = (new short[] {
-			195
-		});
-		HZPY[13575] = (new short[] {
-			5
-		});
-		HZPY[13576] = (new short[] {
-			409, 47
-		});
-		HZPY[13577] = (new short[] {
-			207
-		});
-		HZPY[13578] = (new short[] {
-			409
-		});
-		HZPY[13579] = (new short[] {
-			63
-		});
-		HZPY[13580] = (new short[] {
-			37
-		});
-		HZPY[13581] = (new short[] {
-			102
-		});
-		HZPY[13582] = (new short[] {
-			138
-		});
-		HZPY[13583] = (new short[] {
-			181
-		});
-		HZPY[13584] = (new short[] {
-			229
-		});
-		HZPY[13585] = (new short[] {
-			224
-		});
-		HZPY[13586] = (new short[] {
-			229
-		});
-		HZPY[13587] = (new short[] {
-			362
-		});
-		HZPY[13588] = (new short[] {
-			372
-		});
-		HZPY[13589] = (new short[] {
-			264
-		});
-		HZPY[13590] = (new short[] {
-			97
-		});
-		HZPY[13591] = (new short[] {
-			205
-		});
-		HZPY[13592] = (new short[] {
-			171
-		});
-		HZPY[13593] = (new short[] {
-			279
-		});
-		HZPY[13594] = (new short[] {
-			371
-		});
-		HZPY[13595] = (new short[] {
-			99
-		});
-		HZPY[13596] = (new short[] {
-			258, 350
-		});
-		HZPY[13597] = (new short[] {
-			30
-		});
-		HZPY[13598] = (new short[] {
-			35
-		});
-		HZPY[13599] = (new short[] {
-			376
-		});
-		HZPY[13600] = (new short[] {
-			359
-		});
-		HZPY[13601] = (new short[] {
-			409
-		});
-		HZPY[13602] = (new short[] {
-			176
-		});
-		HZPY[13603] = (new short[] {
-			349
-		});
-		HZPY[13604] = (new short[] {
-			76
-		});
-		HZPY[13605] = (new short[] {
-			160
-		});
-		HZPY[13606] = (new short[] {
-			26
-		});
-		HZPY[13607] = (new short[] {
-			133
-		});
-		HZPY[13608] = (new short[] {
-			47
-		});
-		HZPY[13609] = (new short[] {
-			102
-		});
-		HZPY[13610] = (new short[] {
-			107
-		});
-		HZPY[13611] = (new short[] {
-			194
-		});
-		HZPY[13612] = (new short[] {
-			29, 389
-		});
-		HZPY[13613] = (new short[] {
-			135
-		});
-		HZPY[13614] = (new short[] {
-			135
-		});
-		HZPY[13615] = (new short[] {
-			91
-		});
-		HZPY[13616] = (new short[] {
-			376
-		});
-		HZPY[13617] = (new short[] {
-			401
-		});
-		HZPY[13618] = (new short[] {
-			409
-		});
-		HZPY[13619] = (new short[] {
-			134
-		});
-		HZPY[13620] = (new short[] {
-			128
-		});
-		HZPY[13621] = (new short[] {
-			371
-		});
-		HZPY[13622] = (new short[] {
-			29
-		});
-		HZPY[13623] = (new short[] {
-			83
-		});
-		HZPY[13624] = (new short[] {
-			279
-		});
-		HZPY[13625] = (new short[] {
-			281
-		});
-		HZPY[13626] = (new short[] {
-			38
-		});
-		HZPY[13627] = (new short[] {
-			194
-		});
-		HZPY[13628] = (new short[] {
-			334
-		});
-		HZPY[13629] = (new short[] {
-			399
-		});
-		HZPY[13630] = (new short[] {
-			229
-		});
-		HZPY[13631] = (new short[] {
-			401
-		});
-		HZPY[13632] = (new short[] {
-			363
-		});
-		HZPY[13633] = (new short[] {
-			126
-		});
-		HZPY[13634] = (new short[] {
-			156
-		});
-		HZPY[13635] = (new short[] {
-			267
-		});
-		HZPY[13636] = (new short[] {
-			93
-		});
-		HZPY[13637] = (new short[] {
-			55
-		});
-		HZPY[13638] = (new short[] {
-			138
-		});
-		HZPY[13639] = (new short[] {
-			357
-		});
-		HZPY[13640] = (new short[] {
-			42
-		});
-		HZPY[13641] = (new short[] {
-			25
-		});
-		HZPY[13642] = (new short[] {
-			138
-		});
-		HZPY[13643] = (new short[] {
-			82
-		});
-		HZPY[13644] = (new short[] {
-			2
-		});
-		HZPY[13645] = (new short[] {
-			304
-		});
-		HZPY[13646] = (new short[] {
-			37
-		});
-		HZPY[13647] = (new short[] {
-			276
-		});
-		HZPY[13648] = (new short[] {
-			133
-		});
-		HZPY[13649] = (new short[] {
-			329, 369
-		});
-		HZPY[13650] = (new short[] {
-			127
-		});
-		HZPY[13651] = (new short[] {
-			252
-		});
-		HZPY[13652] = (new short[] {
-			171
-		});
-		HZPY[13653] = (new short[] {
-			137
-		});
-		HZPY[13654] = (new short[] {
-			167, 244
-		});
-		HZPY[13655] = (new short[] {
-			279
-		});
-		HZPY[13656] = (new short[] {
-			405
-		});
-		HZPY[13657] = (new short[] {
-			55
-		});
-		HZPY[13658] = (new short[] {
-			132
-		});
-		HZPY[13659] = (new short[] {
-			274
-		});
-		HZPY[13660] = (new short[] {
-			13
-		});
-		HZPY[13661] = (new short[] {
-			26
-		});
-		HZPY[13662] = (new short[] {
-			260
-		});
-		HZPY[13663] = (new short[] {
-			128
-		});
-		HZPY[13664] = (new short[] {
-			131, 256
-		});
-		HZPY[13665] = (new short[] {
-			58
-		});
-		HZPY[13666] = (new short[] {
-			229
-		});
-		HZPY[13667] = (new short[] {
-			279
-		});
-		HZPY[13668] = (new short[] {
-			129, 363
-		});
-		HZPY[13669] = (new short[] {
-			372, 357
-		});
-		HZPY[13670] = (new short[] {
-			189
-		});
-		HZPY[13671] = (new short[] {
-			372
-		});
-		HZPY[13672] = (new short[] {
-			258, 363
-		});
-		HZPY[13673] = (new short[] {
-			137
-		});
-		HZPY[13674] = (new short[] {
-			319
-		});
-		HZPY[13675] = (new short[] {
-			371
-		});
-		HZPY[13676] = (new short[] {
-			192
-		});
-		HZPY[13677] = (new short[] {
-			121
-		});
-		HZPY[13678] = (new short[] {
-			400
-		});
-		HZPY[13679] = (new short[] {
-			367
-		});
-		HZPY[13680] = (new short[] {
-			72
-		});
-		HZPY[13681] = (new short[] {
-			345
-		});
-		HZPY[13682] = (new short[] {
-			40
-		});
-		HZPY[13683] = (new short[] {
-			71
-		});
-		HZPY[13684] = (new short[] {
-			91
-		});
-		HZPY[13685] = (new short[] {
-			276
-		});
-		HZPY[13686] = (new short[] {
-			371
-		});
-		HZPY[13687] = (new short[] {
-			116
-		});
-		HZPY[13688] = (new short[] {
-			13
-		});
-		HZPY[13689] = (new short[] {
-			20
-		});
-		HZPY[13690] = (new short[] {
-			379
-		});
-		HZPY[13691] = (new short[] {
-			63
-		});
-		HZPY[13692] = (new short[] {
-			336
-		});
-		HZPY[13693] = (new short[] {
-			318
-		});
-		HZPY[13694] = (new short[] {
-			318
-		});
-		HZPY[13695] = (new short[] {
-			36
-		});
-		HZPY[13696] = (new short[] {
-			35
-		});
-		HZPY[13697] = (new short[] {
-			349
-		});
-		HZPY[13698] = (new short[] {
-			16
-		});
-		HZPY[13699] = (new short[] {
-			350
-		});
-		HZPY[13700] = (new short[] {
-			100
-		});
-		HZPY[13701] = (new short[] {
-			171
-		});
-		HZPY[13702] = (new short[] {
-			255
-		});
-		HZPY[13703] = (new short[] {
-			401
-		});
-		HZPY[13704] = (new short[] {
-			207
-		});
-		HZPY[13705] = (new short[] {
-			171
-		});
-		HZPY[13706] = (new short[] {
-			405
-		});
-		HZPY[13707] = (new short[] {
-			131
-		});
-		HZPY[13708] = (new short[] {
-			76
-		});
-		HZPY[13709] = (new short[] {
-			265
-		});
-		HZPY[13710] = (new short[] {
-			294, 320
-		});
-		HZPY[13711] = (new short[] {
-			320
-		});
-		HZPY[13712] = (new short[] {
-			35
-		});
-		HZPY[13713] = (new short[] {
-			88
-		});
-		HZPY[13714] = (new short[] {
-			141
-		});
-		HZPY[13715] = (new short[] {
-			197
-		});
-		HZPY[13716] = (new short[] {
-			199
-		});
-		HZPY[13717] = (new short[] {
-			357
-		});
-		HZPY[13718] = (new short[] {
-			138
-		});
-		HZPY[13719] = (new short[] {
-			34
-		});
-		HZPY[13720] = (new short[] {
-			356, 301
-		});
-		HZPY[13721] = (new short[] {
-			144
-		});
-		HZPY[13722] = (new short[] {
-			365
-		});
-		HZPY[13723] = (new short[] {
-			333
-		});
-		HZPY[13724] = (new short[] {
-			375
-		});
-		HZPY[13725] = (new short[] {
-			54
-		});
-		HZPY[13726] = (new short[] {
-			106, 343
-		});
-		HZPY[13727] = (new short[] {
-			113
-		});
-		HZPY[13728] = (new short[] {
-			375
-		});
-		HZPY[13729] = (new short[] {
-			54
-		});
-		HZPY[13730] = (new short[] {
-			132
-		});
-		HZPY[13731] = (new short[] {
-			344
-		});
-		HZPY[13732] = (new short[] {
-			375
-		});
-		HZPY[13733] = (new short[] {
-			228, 39
-		});
-		HZPY[13734] = (new short[] {
-			298
-		});
-		HZPY[13735] = (new short[] {
-			352
-		});
-		HZPY[13736] = (new short[] {
-			166, 174
-		});
-		HZPY[13737] = (new short[] {
-			91, 249
-		});
-		HZPY[13738] = (new short[] {
-			77
-		});
-		HZPY[13739] = (new short[] {
-			207
-		});
-		HZPY[13740] = (new short[] {
-			346
-		});
-		HZPY[13741] = (new short[] {
-			136
-		});
-		HZPY[13742] = (new short[] {
-			213
-		});
-		HZPY[13743] = (new short[] {
-			209
-		});
-		HZPY[13744] = (new short[] {
-			147
-		});
-		HZPY[13745] = (new short[] {
-			164
-		});
-		HZPY[13746] = (new short[] {
-			173
-		});
-		HZPY[13747] = (new short[] {
-			303
-		});
-		HZPY[13748] = (new short[] {
-			348, 402
-		});
-		HZPY[13749] = (new short[] {
-			336
-		});
-		HZPY[13750] = (new short[] {
-			352
-		});
-		HZPY[13751] = (new short[] {
-			130
-		});
-		HZPY[13752] = (new short[] {
-			375
-		});
-		HZPY[13753] = (new short[] {
-			372
-		});
-		HZPY[13754] = (new short[] {
-			372
-		});
-		HZPY[13755] = (new short[] {
-			229
-		});
-		HZPY[13756] = (new short[] {
-			45
-		});
-		HZPY[13757] = (new short[] {
-			194
-		});
-		HZPY[13758] = (new short[] {
-			194
-		});
-		HZPY[13759] = (new short[] {
-			47
-		});
-		HZPY[13760] = (new short[] {
-			376, 343
-		});
-		HZPY[13761] = (new short[] {
-			138
-		});
-		HZPY[13762] = (new short[] {
-			63
-		});
-		HZPY[13763] = (new short[] {
-			266
-		});
-		HZPY[13764] = (new short[] {
-			70
-		});
-		HZPY[13765] = (new short[] {
-			133
-		});
-		HZPY[13766] = (new short[] {
-			411
-		});
-		HZPY[13767] = (new short[] {
-			103
-		});
-		HZPY[13768] = (new short[] {
-			163
-		});
-		HZPY[13769] = (new short[] {
-			183, 184
-		});
-		HZPY[13770] = (new short[] {
-			141
-		});
-		HZPY[13771] = (new short[] {
-			345
-		});
-		HZPY[13772] = (new short[] {
-			144
-		});
-		HZPY[13773] = (new short[] {
-			225
-		});
-		HZPY[13774] = (new short[] {
-			161
-		});
-		HZPY[13775] = (new short[] {
-			116
-		});
-		HZPY[13776] = (new short[] {
-			255
-		});
-		HZPY[13777] = (new short[] {
-			381
-		});
-		HZPY[13778] = (new short[] {
-			96
-		});
-		HZPY[13779] = (new short[] {
-			110
-		});
-		HZPY[13780] = (new short[] {
-			91
-		});
-		HZPY[13781] = (new short[] {
-			188
-		});
-		HZPY[13782] = (new short[] {
-			32
-		});
-		HZPY[13783] = (new short[] {
-			39
-		});
-		HZPY[13784] = (new short[] {
-			314
-		});
-		HZPY[13785] = (new short[] {
-			44
-		});
-		HZPY[13786] = (new short[] {
-			391
-		});
-		HZPY[13787] = (new short[] {
-			198
-		});
-		HZPY[13788] = (new short[] {
-			22
-		});
-		HZPY[13789] = (new short[] {
-			5
-		});
-		HZPY[13790] = (new short[] {
-			171
-		});
-		HZPY[13791] = (new short[] {
-			336
-		});
-		HZPY[13792] = (new short[] {
-			19
-		});
-		HZPY[13793] = (new short[] {
-			113
-		});
-		HZPY[13794] = (new short[] {
-			9
-		});
-		HZPY[13795] = (new short[] {
-			262
-		});
-		HZPY[13796] = (new short[] {
-			142
-		});
-		HZPY[13797] = (new short[] {
-			350
-		});
-		HZPY[13798] = (new short[] {
-			262
-		});
-		HZPY[13799] = (new short[] {
-			63
-		});
-		HZPY[13800] = (new short[] {
-			136
-		});
-		HZPY[13801] = (new short[] {
-			255
-		});
-		HZPY[13802] = (new short[] {
-			58
-		});
-		HZPY[13803] = (new short[] {
-			137
-		});
-		HZPY[13804] = (new short[] {
-			393
-		});
-		HZPY[13805] = (new short[] {
-			322
-		});
-		HZPY[13806] = (new short[] {
-			100
-		});
-		HZPY[13807] = (new short[] {
-			124
-		});
-		HZPY[13808] = (new short[] {
-			103
-		});
-		HZPY[13809] = (new short[] {
-			178
-		});
-		HZPY[13810] = (new short[] {
-			86
-		});
-		HZPY[13811] = (new short[] {
-			137
-		});
-		HZPY[13812] = (new short[] {
-			2
-		});
-		HZPY[13813] = (new short[] {
-			344
-		});
-		HZPY[13814] = (new short[] {
-			12
-		});
-		HZPY[13815] = (new short[] {
-			400
-		});
-		HZPY[13816] = (new short[] {
-			365
-		});
-		HZPY[13817] = (new short[] {
-			412
-		});
-		HZPY[13818] = (new short[] {
-			133
-		});
-		HZPY[13819] = (new short[] {
-			177
-		});
-		HZPY[13820] = (new short[] {
-			323
-		});
-		HZPY[13821] = (new short[] {
-			305
-		});
-		HZPY[13822] = (new short[] {
-			330
-		});
-		HZPY[13823] = (new short[] {
-			59
-		});
-		HZPY[13824] = (new short[] {
-			123
-		});
-		HZPY[13825] = (new short[] {
-			131, 256
-		});
-		HZPY[13826] = (new short[] {
-			116
-		});
-		HZPY[13827] = (new short[] {
-			52
-		});
-		HZPY[13828] = (new short[] {
-			325
-		});
-		HZPY[13829] = (new short[] {
-			45
-		});
-		HZPY[13830] = (new short[] {
-			10, 13
-		});
-		HZPY[13831] = (new short[] {
-			32
-		});
-		HZPY[13832] = (new short[] {
-			126
-		});
-		HZPY[13833] = (new short[] {
-			86
-		});
-		HZPY[13834] = (new short[] {
-			164
-		});
-		HZPY[13835] = (new short[] {
-			256
-		});
-		HZPY[13836] = (new short[] {
-			199
-		});
-		HZPY[13837] = (new short[] {
-			252
-		});
-		HZPY[13838] = (new short[] {
-			345
-		});
-		HZPY[13839] = (new short[] {
-			57
-		});
-		HZPY[13840] = (new short[] {
-			294
-		});
-		HZPY[13841] = (new short[] {
-			126
-		});
-		HZPY[13842] = (new short[] {
-			365
-		});
-		HZPY[13843] = (new short[] {
-			369
-		});
-		HZPY[13844] = (new short[] {
-			331
-		});
-		HZPY[13845] = (new short[] {
-			256, 131
-		});
-		HZPY[13846] = (new short[] {
-			343
-		});
-		HZPY[13847] = (new short[] {
-			26
-		});
-		HZPY[13848] = (new short[] {
-			212
-		});
-		HZPY[13849] = (new short[] {
-			229
-		});
-		HZPY[13850] = (new short[] {
-			340
-		});
-		HZPY[13851] = (new short[] {
-			140
-		});
-		HZPY[13852] = (new short[] {
-			332
-		});
-		HZPY[13853] = (new short[] {
-			189
-		});
-		HZPY[13854] = (new short[] {
-			229
-		});
-		HZPY[13855] = (new short[] {
-			229
-		});
-		HZPY[13856] = (new short[] {
-			199
-		});
-		HZPY[13857] = (new short[] {
-			229
-		});
-		HZPY[13858] = (new short[] {
-			229
-		});
-		HZPY[13859] = (new short[] {
-			68
-		});
-		HZPY[13860] = (new short[] {
-			372
-		});
-		HZPY[13861] = (new short[] {
-			372
-		});
-		HZPY[13862] = (new short[] {
-			372
-		});
-		HZPY[13863] = (new short[] {
-			354
-		});
-		HZPY[13864] = (new short[] {
-			286
-		});
-		HZPY[13865] = (new short[] {
-			265
-		});
-		HZPY[13866] = (new short[] {
-			150
-		});
-		HZPY[13867] = (new short[] {
-			353
-		});
-		HZPY[13868] = (new short[] {
-			343, 207
-		});
-		HZPY[13869] = (new short[] {
-			376
-		});
-		HZPY[13870] = (new short[] {
-			376
-		});
-		HZPY[13871] = (new short[] {
-			91
-		});
-		HZPY[13872] = (new short[] {
-			173
-		});
-		HZPY[13873] = (new short[] {
-			361
-		});
-		HZPY[13874] = (new short[] {
-			361
-		});
-		HZPY[13875] = (new short[] {
-			213
-		});
-		HZPY[13876] = (new short[] {
-			385
-		});
-		HZPY[13877] = (new short[] {
-			348
-		});
-		HZPY[13878] = (new short[] {
-			45
-		});
-		HZPY[13879] = (new short[] {
-			354
-		});
-		HZPY[13880] = (new short[] {
-			376
-		});
-		HZPY[13881] = (new short[] {
-			248, 14
-		});
-		HZPY[13882] = (new short[] {
-			195
-		});
-		HZPY[13883] = (new short[] {
-			2
-		});
-		HZPY[13884] = (new short[] {
-			77
-		});
-		HZPY[13885] = (new short[] {
-			189, 163, 167
-		});
-		HZPY[13886] = (new short[] {
-			372
-		});
-		HZPY[13887] = (new short[] {
-			130
-		});
-		HZPY[13888] = (new short[] {
-			104
-		});
-		HZPY[13889] = (new short[] {
-			134
-		});
-		HZPY[13890] = (new short[] {
-			343
-		});
-		HZPY[13891] = (new short[] {
-			416
-		});
-		HZPY[13892] = (new short[] {
-			416
-		});
-		HZPY[13893] = (new short[] {
-			141
-		});
-		HZPY[13894] = (new short[] {
-			9
-		});
-		HZPY[13895] = (new short[] {
-			280
-		});
-		HZPY[13896] = (new short[] {
-			350
-		});
-		HZPY[13897] = (new short[] {
-			355, 368, 299
-		});
-		HZPY[13898] = (new short[] {
-			2
-		});
-		HZPY[13899] = (new short[] {
-			266
-		});
-		HZPY[13900] = (new short[] {
-			133
-		});
-		HZPY[13901] = (new short[] {
-			91
-		});
-		HZPY[13902] = (new short[] {
-			184
-		});
-		HZPY[13903] = (new short[] {
-			184
-		});
-		HZPY[13904] = (new short[] {
-			245
-		});
-		HZPY[13905] = (new short[] {
-			88
-		});
-		HZPY[13906] = (new short[] {
-			121
-		});
-		HZPY[13907] = (new short[] {
-			121
-		});
-		HZPY[13908] = (new short[] {
-			122
-		});
-		HZPY[13909] = (new short[] {
-			365
-		});
-		HZPY[13910] = (new short[] {
-			336
-		});
-		HZPY[13911] = (new short[] {
-			401, 394, 393, 409, 408
-		});
-		HZPY[13912] = (new short[] {
-			409
-		});
-		HZPY[13913] = (new short[] {
-			353
-		});
-		HZPY[13914] = (new short[] {
-			301, 276
-		});
-		HZPY[13915] = (new short[] {
-			97
-		});
-		HZPY[13916] = (new short[] {
-			257
-		});
-		HZPY[13917] = (new short[] {
-			138
-		});
-		HZPY[13918] = (new short[] {
-			200
-		});
-		HZPY[13919] = (new short[] {
-			127
-		});
-		HZPY[13920] = (new short[] {
-			301
-		});
-		HZPY[13921] = (new short[] {
-			255
-		});
-		HZPY[13922] = (new short[] {
-			97
-		});
-		HZPY[13923] = (new short[] {
-			70
-		});
-		HZPY[13924] = (new short[] {
-			400
-		});
-		HZPY[13925] = (new short[] {
-			258
-		});
-		HZPY[13926] = (new short[] {
-			345
-		});
-		HZPY[13927] = (new short[] {
-			19
-		});
-		HZPY[13928] = (new short[] {
-			345
-		});
-		HZPY[13929] = (new short[] {
-			239
-		});
-		HZPY[13930] = (new short[] {
-			131
-		});
-		HZPY[13931] = (new short[] {
-			123
-		});
-		HZPY[13932] = (new short[] {
-			383
-		});
-		HZPY[13933] = (new short[] {
-			132
-		});
-		HZPY[13934] = (new short[] {
-			73
-		});
-		HZPY[13935] = (new short[] {
-			367
-		});
-		HZPY[13936] = (new short[] {
-			144
-		});
-		HZPY[13937] = (new short[] {
-			48
-		});
-		HZPY[13938] = (new short[] {
-			267
-		});
-		HZPY[13939] = (new short[] {
-			345
-		});
-		HZPY[13940] = (new short[] {
-			352
-		});
-		HZPY[13941] = (new short[] {
-			160
-		});
-		HZPY[13942] = (new short[] {
-			333
-		});
-		HZPY[13943] = (new short[] {
-			129, 363
-		});
-		HZPY[13944] = (new short[] {
-			350
-		});
-		HZPY[13945] = (new short[] {
-			303
-		});
-		HZPY[13946] = (new short[] {
-			256
-		});
-		HZPY[13947] = (new short[] {
-			165
-		});
-		HZPY[13948] = (new short[] {
-			410
-		});
-		HZPY[13949] = (new short[] {
-			367
-		});
-		HZPY[13950] = (new short[] {
-			377
-		});
-		HZPY[13951] = (new short[] {
-			197
-		});
-		HZPY[13952] = (new short[] {
-			379
-		});
-		HZPY[13953] = (new short[] {
-			305
-		});
-		HZPY[13954] = (new short[] {
-			63
-		});
-		HZPY[13955] = (new short[] {
-			404
-		});
-		HZPY[13956] = (new short[] {
-			106
-		});
-		HZPY[13957] = (new short[] {
-			229
-		});
-		HZPY[13958] = (new short[] {
-			264
-		});
-		HZPY[13959] = (new short[] {
-			31
-		});
-		HZPY[13960] = (new short[] {
-			146
-		});
-		HZPY[13961] = (new short[] {
-			160
-		});
-		HZPY[13962] = (new short[] {
-			229
-		});
-		HZPY[13963] = (new short[] {
-			134
-		});
-		HZPY[13964] = (new short[] {
-			182
-		});
-		HZPY[13965] = (new short[] {
-			345
-		});
-		HZPY[13966] = (new short[] {
-			240
-		});
-		HZPY[13967] = (new short[] {
-			229
-		});
-		HZPY[13968] = (new short[] {
-			315
-		});
-		HZPY[13969] = (new short[] {
-			371
-		});
-		HZPY[13970] = (new short[] {
-			303
-		});
-		HZPY[13971] = (new short[] {
-			45
-		});
-		HZPY[13972] = (new short[] {
-			303
-		});
-		HZPY[13973] = (new short[] {
-			379
-		});
-		HZPY[13974] = (new short[] {
-			396
-		});
-		HZPY[13975] = (new short[] {
-			166
-		});
-		HZPY[13976] = (new short[] {
-			232
-		});
-		HZPY[13977] = (new short[] {
-			199
-		});
-		HZPY[13978] = (new short[] {
-			116
-		});
-		HZPY[13979] = (new short[] {
-			268
-		});
-		HZPY[13980] = (new short[] {
-			317
-		});
-		HZPY[13981] = (new short[] {
-			377
-		});
-		HZPY[13982] = (new short[] {
-			171
-		});
-		HZPY[13983] = (new short[] {
-			141
-		});
-		HZPY[13984] = (new short[] {
-			350
-		});
-		HZPY[13985] = (new short[] {
-			8, 242
-		});
-		HZPY[13986] = (new short[] {
-			40
-		});
-		HZPY[13987] = (new short[] {
-			360
-		});
-		HZPY[13988] = (new short[] {
-			336
-		});
-		HZPY[13989] = (new short[] {
-			179
-		});
-		HZPY[13990] = (new short[] {
-			130
-		});
-		HZPY[13991] = (new short[] {
-			396
-		});
-		HZPY[13992] = (new short[] {
-			258
-		});
-		HZPY[13993] = (new short[] {
-			412
-		});
-		HZPY[13994] = (new short[] {
-			253
-		});
-		HZPY[13995] = (new short[] {
-			54
-		});
-		HZPY[13996] = (new short[] {
-			377
-		});
-		HZPY[13997] = (new short[] {
-			40
-		});
-		HZPY[13998] = (new short[] {
-			376
-		});
-		HZPY[13999] = (new short[] {
-			157
-		});
-		HZPY[14000] = (new short[] {
-			241
-		});
-		HZPY[14001] = (new short[] {
-			255
-		});
-		HZPY[14002] = (new short[] {
-			255
-		});
-		HZPY[14003] = (new short[] {
-			211
-		});
-		HZPY[14004] = (new short[] {
-			312
-		});
-		HZPY[14005] = (new short[] {
-			350
-		});
-		HZPY[14006] = (new short[] {
-			87
-		});
-		HZPY[14007] = (new short[] {
-			379
-		});
-		HZPY[14008] = (new short[] {
-			397
-		});
-		HZPY[14009] = (new short[] {
-			133
-		});
-		HZPY[14010] = (new short[] {
-			131
-		});
-		HZPY[14011] = (new short[] {
-			285
-		});
-		HZPY[14012] = (new short[] {
-			24
-		});
-		HZPY[14013] = (new short[] {
-			80
-		});
-		HZPY[14014] = (new short[] {
-			200
-		});
-		HZPY[14015] = (new short[] {
-			115
-		});
-		HZPY[14016] = (new short[] {
-			319
-		});
-		HZPY[14017] = (new short[] {
-			396
-		});
-		HZPY[14018] = (new short[] {
-			205
-		});
-		HZPY[14019] = (new short[] {
-			229
-		});
-		HZPY[14020] = (new short[] {
-			360
-		});
-		HZPY[14021] = (new short[] {
-			179
-		});
-		HZPY[14022] = (new short[] {
-			350
-		});
-		HZPY[14023] = (new short[] {
-			103
-		});
-		HZPY[14024] = (new short[] {
-			166
-		});
-		HZPY[14025] = (new short[] {
-			279
-		});
-		HZPY[14026] = (new short[] {
-			347
-		});
-		HZPY[14027] = (new short[] {
-			93, 97, 116
-		});
-		HZPY[14028] = (new short[] {
-			54
-		});
-		HZPY[14029] = (new short[] {
-			303
-		});
-		HZPY[14030] = (new short[] {
-			324
-		});
-		HZPY[14031] = (new short[] {
-			189
-		});
-		HZPY[14032] = (new short[] {
-			281
-		});
-		HZPY[14033] = (new short[] {
-			320
-		});
-		HZPY[14034] = (new short[] {
-			352
-		});
-		HZPY[14035] = (new short[] {
-			10
-		});
-		HZPY[14036] = (new short[] {
-			367
-		});
-		HZPY[14037] = (new short[] {
-			108
-		});
-		HZPY[14038] = (new short[] {
-			13
-		});
-		HZPY[14039] = (new short[] {
-			410
-		});
-		HZPY[14040] = (new short[] {
-			109
-		});
-		HZPY[14041] = (new short[] {
-			229
-		});
-		HZPY[14042] = (new short[] {
-			359
-		});
-		HZPY[14043] = (new short[] {
-			26
-		});
-		HZPY[14044] = (new short[] {
-			229
-		});
-		HZPY[14045] = (new short[] {
-			165, 163
-		});
-		HZPY[14046] = (new short[] {
-			229
-		});
-		HZPY[14047] = (new short[] {
-			131
-		});
-		HZPY[14048] = (new short[] {
-			171
-		});
-		HZPY[14049] = (new short[] {
-			23
-		});
-		HZPY[14050] = (new short[] {
-			166
-		});
-		HZPY[14051] = (new short[] {
-			376
-		});
-		HZPY[14052] = (new short[] {
-			229
-		});
-		HZPY[14053] = (new short[] {
-			372
-		});
-		HZPY[14054] = (new short[] {
-			207
-		});
-		HZPY[14055] = (new short[] {
-			66
-		});
-		HZPY[14056] = (new short[] {
-			359
-		});
-		HZPY[14057] = (new short[] {
-			349
-		});
-		HZPY[14058] = (new short[] {
-			334
-		});
-		HZPY[14059] = (new short[] {
-			401
-		});
-		HZPY[14060] = (new short[] {
-			246
-		});
-		HZPY[14061] = (new short[] {
-			2
-		});
-		HZPY[14062] = (new short[] {
-			173
-		});
-		HZPY[14063] = (new short[] {
-			48
-		});
-		HZPY[14064] = (new short[] {
-			350
-		});
-		HZPY[14065] = (new short[] {
-			252
-		});
-		HZPY[14066] = (new short[] {
-			265, 238
-		});
-		HZPY[14067] = (new short[] {
-			137
-		});
-		HZPY[14068] = (new short[] {
-			45
-		});
-		HZPY[14069] = (new short[] {
-			136
-		});
-		HZPY[14070] = (new short[] {
-			345
-		});
-		HZPY[14071] = (new short[] {
-			338
-		});
-		HZPY[14072] = (new short[] {
-			25
-		});
-		HZPY[14073] = (new short[] {
-			376
-		});
-		HZPY[14074] = (new short[] {
-			369
-		});
-		HZPY[14075] = (new short[] {
-			131
-		});
-		HZPY[14076] = (new short[] {
-			175, 183
-		});
-		HZPY[14077] = (new short[] {
-			13
-		});
-		HZPY[14078] = (new short[] {
-			183
-		});
-		HZPY[14079] = (new short[] {
-			360, 316
-		});
-		HZPY[14080] = (new short[] {
-			20
-		});
-		HZPY[14081] = (new short[] {
-			392
-		});
-		HZPY[14082] = (new short[] {
-			189
-		});
-		HZPY[14083] = (new short[] {
-			259
-		});
-		HZPY[14084] = (new short[] {
-			193
-		});
-		HZPY[14085] = (new short[] {
-			365
-		});
-		HZPY[14086] = (new short[] {
-			170
-		});
-		HZPY[14087] = (new short[] {
-			131
-		});
-		HZPY[14088] = (new short[] {
-			15, 249
-		});
-		HZPY[14089] = (new short[] {
-			109
-		});
-		HZPY[14090] = (new short[] {
-			113
-		});
-		HZPY[14091] = (new short[] {
-			63
-		});
-		HZPY[14092] = (new short[] {
-			316
-		});
-		HZPY[14093] = (new short[] {
-			183
-		});
-		HZPY[14094] = (new short[] {
-			299
-		});
-		HZPY[14095] = (new short[] {
-			297
-		});
-		HZPY[14096] = (new short[] {
-			63
-		});
-		HZPY[14097] = (new short[] {
-			203
-		});
-		HZPY[14098] = (new short[] {
-			363
-		});
-		HZPY[14099] = (new short[] {
-			193, 343
-		});
-		HZPY[14100] = (new short[] {
-			19, 20
-		});
-		HZPY[14101] = (new short[] {
-			63
-		});
-		HZPY[14102] = (new short[] {
-			54
-		});
-		HZPY[14103] = (new short[] {
-			394
-		});
-		HZPY[14104] = (new short[] {
-			292
-		});
-		HZPY[14105] = (new short[] {
-			361
-		});
-		HZPY[14106] = (new short[] {
-			376, 345
-		});
-		HZPY[14107] = (new short[] {
-			123
-		});
-		HZPY[14108] = (new short[] {
-			4
-		});
-		HZPY[14109] = (new short[] {
-			200
-		});
-		HZPY[14110] = (new short[] {
-			182
-		});
-		HZPY[14111] = (new short[] {
-			50
-		});
-		HZPY[14112] = (new short[] {
-			399
-		});
-		HZPY[14113] = (new short[] {
-			22
-		});
-		HZPY[14114] = (new short[] {
-			253
-		});
-		HZPY[14115] = (new short[] {
-			134
-		});
-		HZPY[14116] = (new short[] {
-			200
-		});
-		HZPY[14117] = (new short[] {
-			48
-		});
-		HZPY[14118] = (new short[] {
-			224
-		});
-		HZPY[14119] = (new short[] {
-			128
-		});
-		HZPY[14120] = (new short[] {
-			144
-		});
-		HZPY[14121] = (new short[] {
-			371
-		});
-		HZPY[14122] = (new short[] {
-			133
-		});
-		HZPY[14123] = (new short[] {
-			222
-		});
-		HZPY[14124] = (new short[] {
-			305
-		});
-		HZPY[14125] = (new short[] {
-			371
-		});
-		HZPY[14126] = (new short[] {
-			160
-		});
-		HZPY[14127] = (new short[] {
-			35
-		});
-		HZPY[14128] = (new short[] {
-			123
-		});
-		HZPY[14129] = (new short[] {
-			294
-		});
-		HZPY[14130] = (new short[] {
-			154
-		});
-		HZPY[14131] = (new short[] {
-			258
-		});
-		HZPY[14132] = (new short[] {
-			191
-		});
-		HZPY[14133] = (new short[] {
-			24, 383
-		});
-		HZPY[14134] = (new short[] {
-			385
-		});
-		HZPY[14135] = (new short[] {
-			259
-		});
-		HZPY[14136] = (new short[] {
-			71
-		});
-		HZPY[14137] = (new short[] {
-			173
-		});
-		HZPY[14138] = (new short[] {
-			177
-		});
-		HZPY[14139] = (new short[] {
-			154
-		});
-		HZPY[14140] = (new short[] {
-			1
-		});
-		HZPY[14141] = (new short[] {
-			13
-		});
-		HZPY[14142] = (new short[] {
-			171
-		});
-		HZPY[14143] = (new short[] {
-			345
-		});
-		HZPY[14144] = (new short[] {
-			131
-		});
-		HZPY[14145] = (new short[] {
-			258, 363
-		});
-		HZPY[14146] = (new short[] {
-			302
-		});
-		HZPY[14147] = (new short[] {
-			84, 19
-		});
-		HZPY[14148] = (new short[] {
-			199
-		});
-		HZPY[14149] = (new short[] {
-			238
-		});
-		HZPY[14150] = (new short[] {
-			31
-		});
-		HZPY[14151] = (new short[] {
-			65
-		});
-		HZPY[14152] = (new short[] {
-			363, 144
-		});
-		HZPY[14153] = (new short[] {
-			135, 260
-		});
-		HZPY[14154] = (new short[] {
-			283
-		});
-		HZPY[14155] = (new short[] {
-			283
-		});
-		HZPY[14156] = (new short[] {
-			169
-		});
-		HZPY[14157] = (new short[] {
-			376
-		});
-		HZPY[14158] = (new short[] {
-			260
-		});
-		HZPY[14159] = (new short[] {
-			40
-		});
-		HZPY[14160] = (new short[] {
-			124
-		});
-		HZPY[14161] = (new short[] {
-			133
-		});
-		HZPY[14162] = (new short[] {
-			192
-		});
-		HZPY[14163] = (new short[] {
-			379
-		});
-		HZPY[14164] = (new short[] {
-			9
-		});
-		HZPY[14165] = (new short[] {
-			375
-		});
-		HZPY[14166] = (new short[] {
-			266
-		});
-		HZPY[14167] = (new short[] {
-			183
-		});
-		HZPY[14168] = (new short[] {
-			274
-		});
-		HZPY[14169] = (new short[] {
-			128
-		});
-		HZPY[14170] = (new short[] {
-			77
-		});
-		HZPY[14171] = (new short[] {
-			329
-		});
-		HZPY[14172] = (new short[] {
-			86
-		});
-		HZPY[14173] = (new short[] {
-			143
-		});
-		HZPY[14174] = (new short[] {
-			414
-		});
-		HZPY[14175] = (new short[] {
-			83
-		});
-		HZPY[14176] = (new short[] {
-			281
-		});
-		HZPY[14177] = (new short[] {
-			87
-		});
-		HZPY[14178] = (new short[] {
-			160
-		});
-		HZPY[14179] = (new short[] {
-			311
-		});
-		HZPY[14180] = (new short[] {
-			283
-		});
-		HZPY[14181] = (new short[] {
-			364
-		});
-		HZPY[14182] = (new short[] {
-			360
-		});
-		HZPY[14183] = (new short[] {
-			91
-		});
-		HZPY[14184] = (new short[] {
-			143
-		});
-		HZPY[14185] = (new short[] {
-			58
-		});
-		HZPY[14186] = (new short[] {
-			349
-		});
-		HZPY[14187] = (new short[] {
-			334
-		});
-		HZPY[14188] = (new short[] {
-			313
-		});
-		HZPY[14189] = (new short[] {
-			354
-		});
-		HZPY[14190] = (new short[] {
-			350
-		});
-		HZPY[14191] = (new short[] {
-			374
-		});
-		HZPY[14192] = (new short[] {
-			346
-		});
-		HZPY[14193] = (new short[] {
-			298
-		});
-		HZPY[14194] = (new short[] {
-			256
-		});
-		HZPY[14195] = (new short[] {
-			133
-		});
-		HZPY[14196] = (new short[] {
-			379
-		});
-		HZPY[14197] = (new short[] {
-			319
-		});
-		HZPY[14198] = (new short[] {
-			178
-		});
-		HZPY[14199] = (new short[] {
-			376
-		});
-		HZPY[14200] = (new short[] {
-			351
-		});
-		HZPY[14201] = (new short[] {
-			347
-		});
-		HZPY[14202] = (new short[] {
-			131
-		});
-		HZPY[14203] = (new short[] {
-			121
-		});
-		HZPY[14204] = (new short[] {
-			313
-		});
-		HZPY[14205] = (new short[] {
-			62
-		});
-		HZPY[14206] = (new short[] {
-			169
-		});
-		HZPY[14207] = (new short[] {
-			361
-		});
-		HZPY[14208] = (new short[] {
-			379
-		});
-		HZPY[14209] = (new short[] {
-			376
-		});
-		HZPY[14210] = (new short[] {
-			350
-		});
-		HZPY[14211] = (new short[] {
-			115
-		});
-		HZPY[14212] = (new short[] {
-			19, 9
-		});
-		HZPY[14213] = (new short[] {
-			115
-		});
-		HZPY[14214] = (new short[] {
-			1
-		});
-		HZPY[14215] = (new short[] {
-			345
-		});
-		HZPY[14216] = (new short[] {
-			128
-		});
-		HZPY[14217] = (new short[] {
-			345
-		});
-		HZPY[14218] = (new short[] {
-			131
-		});
-		HZPY[14219] = (new short[] {
-			47
-		});
-		HZPY[14220] = (new short[] {
-			353
-		});
-		HZPY[14221] = (new short[] {
-			186
-		});
-		HZPY[14222] = (new short[] {
-			203
-		});
-		HZPY[14223] = (new short[] {
-			369
-		});
-		HZPY[14224] = (new short[] {
-			170
-		});
-		HZPY[14225] = (new short[] {
-			134
-		});
-		HZPY[14226] = (new short[] {
-			23
-		});
-		HZPY[14227] = (new short[] {
-			301, 23, 27
-		});
-		HZPY[14228] = (new short[] {
-			259
-		});
-		HZPY[14229] = (new short[] {
-			173
-		});
-		HZPY[14230] = (new short[] {
-			150
-		});
-		HZPY[14231] = (new short[] {
-			377
-		});
-		HZPY[14232] = (new short[] {
-			55
-		});
-		HZPY[14233] = (new short[] {
-			329
-		});
-		HZPY[14234] = (new short[] {
-			324
-		});
-		HZPY[14235] = (new short[] {
-			362
-		});
-		HZPY[14236] = (new short[] {
-			13, 19
-		});
-		HZPY[14237] = (new short[] {
-			391
-		});
-		HZPY[14238] = (new short[] {
-			319
-		});
-		HZPY[14239] = (new short[] {
-			173, 352
-		});
-		HZPY[14240] = (new short[] {
-			84
-		});
-		HZPY[14241] = (new short[] {
-			68
-		});
-		HZPY[14242] = (new short[] {
-			354
-		});
-		HZPY[14243] = (new short[] {
-			103
-		});
-		HZPY[14244] = (new short[] {
-			355
-		});
-		HZPY[14245] = (new short[] {
-			305
-		});
-		HZPY[14246] = (new short[] {
-			133
-		});
-		HZPY[14247] = (new short[] {
-			149
-		});
-		HZPY[14248] = (new short[] {
-			121
-		});
-		HZPY[14249] = (new short[] {
-			286
-		});
-		HZPY[14250] = (new short[] {
-			356
-		});
-		HZPY[14251] = (new short[] {
-			363
-		});
-		HZPY[14252] = (new short[] {
-			367
-		});
-		HZPY[14253] = (new short[] {
-			6
-		});
-		HZPY[14254] = (new short[] {
-			315
-		});
-		HZPY[14255] = (new short[] {
-			305
-		});
-		HZPY[14256] = (new short[] {
-			363
-		});
-		HZPY[14257] = (new short[] {
-			74
-		});
-		HZPY[14258] = (new short[] {
-			251
-		});
-		HZPY[14259] = (new short[] {
-			345
-		});
-		HZPY[14260] = (new short[] {
-			219
-		});
-		HZPY[14261] = (new short[] {
-			39
-		});
-		HZPY[14262] = (new short[] {
-			192
-		});
-		HZPY[14263] = (new short[] {
-			281
-		});
-		HZPY[14264] = (new short[] {
-			249
-		});
-		HZPY[14265] = (new short[] {
-			322
-		});
-		HZPY[14266] = (new short[] {
-			256, 131
-		});
-		HZPY[14267] = (new short[] {
-			384
-		});
-		HZPY[14268] = (new short[] {
-			35
-		});
-		HZPY[14269] = (new short[] {
-			396
-		});
-		HZPY[14270] = (new short[] {
-			82
-		});
-		HZPY[14271] = (new short[] {
-			221
-		});
-		HZPY[14272] = (new short[] {
-			372
-		});
-		HZPY[14273] = (new short[] {
-			96
-		});
-		HZPY[14274] = (new short[] {
-			48
-		});
-		HZPY[14275] = (new short[] {
-			354
-		});
-		HZPY[14276] = (new short[] {
-			256
-		});
-		HZPY[14277] = (new short[] {
-			83
-		});
-		HZPY[14278] = (new short[] {
-			133
-		});
-		HZPY[14279] = (new short[] {
-			360
-		});
-		HZPY[14280] = (new short[] {
-			160
-		});
-		HZPY[14281] = (new short[] {
-			136, 131
-		});
-		HZPY[14282] = (new short[] {
-			14
-		});
-		HZPY[14283] = (new short[] {
-			63
-		});
-		HZPY[14284] = (new short[] {
-			200
-		});
-		HZPY[14285] = (new short[] {
-			165, 163
-		});
-		HZPY[14286] = (new short[] {
-			137
-		});
-		HZPY[14287] = (new short[] {
-			383, 24
-		});
-		HZPY[14288] = (new short[] {
-			202
-		});
-		HZPY[14289] = (new short[] {
-			264
-		});
-		HZPY[14290] = (new short[] {
-			261
-		});
-		HZPY[14291] = (new short[] {
-			352, 171
-		});
-		HZPY[14292] = (new short[] {
-			229
-		});
-		HZPY[14293] = (new short[] {
-			238
-		});
-		HZPY[14294] = (new short[] {
-			352
-		});
-		HZPY[14295] = (new short[] {
-			316
-		});
-		HZPY[14296] = (new short[] {
-			184
-		});
-		HZPY[14297] = (new short[] {
-			369
-		});
-		HZPY[14298] = (new short[] {
-			360
-		});
-		HZPY[14299] = (new short[] {
-			355
-		});
-		HZPY[14300] = (new short[] {
-			171
-		});
-		HZPY[14301] = (new short[] {
-			369
-		});
-		HZPY[14302] = (new short[] {
-			163
-		});
-		HZPY[14303] = (new short[] {
-			169
-		});
-		HZPY[14304] = (new short[] {
-			135
-		});
-		HZPY[14305] = (new short[] {
-			63
-		});
-		HZPY[14306] = (new short[] {
-			398
-		});
-		HZPY[14307] = (new short[] {
-			247
-		});
-		HZPY[14308] = (new short[] {
-			328
-		});
-		HZPY[14309] = (new short[] {
-			367, 378
-		});
-		HZPY[14310] = (new short[] {
-			207
-		});
-		HZPY[14311] = (new short[] {
-			126
-		});
-		HZPY[14312] = (new short[] {
-			15
-		});
-		HZPY[14313] = (new short[] {
-			84
-		});
-		HZPY[14314] = (new short[] {
-			315
-		});
-		HZPY[14315] = (new short[] {
-			323
-		});
-		HZPY[14316] = (new short[] {
-			338
-		});
-		HZPY[14317] = (new short[] {
-			264
-		});
-		HZPY[14318] = (new short[] {
-			260
-		});
-		HZPY[14319] = (new short[] {
-			345
-		});
-		HZPY[14320] = (new short[] {
-			179
-		});
-		HZPY[14321] = (new short[] {
-			128
-		});
-		HZPY[14322] = (new short[] {
-			305
-		});
-		HZPY[14323] = (new short[] {
-			96
-		});
-		HZPY[14324] = (new short[] {
-			379
-		});
-		HZPY[14325] = (new short[] {
-			229
-		});
-		HZPY[14326] = (new short[] {
-			171
-		});
-		HZPY[14327] = (new short[] {
-			401, 305
-		});
-		HZPY[14328] = (new short[] {
-			401
-		});
-		HZPY[14329] = (new short[] {
-			1
-		});
-		HZPY[14330] = (new short[] {
-			177
-		});
-		HZPY[14331] = (new short[] {
-			384
-		});
-		HZPY[14332] = (new short[] {
-			361
-		});
-		HZPY[14333] = (new short[] {
-			35
-		});
-		HZPY[14334] = (new short[] {
-			164
-		});
-		HZPY[14335] = (new short[] {
-			130
-		});
-		HZPY[14336] = (new short[] {
-			340
-		});
-		HZPY[14337] = (new short[] {
-			349, 77
-		});
-		HZPY[14338] = (new short[] {
-			283
-		});
-		HZPY[14339] = (new short[] {
-			283
-		});
-		HZPY[14340] = (new short[] {
-			256
-		});
-		HZPY[14341] = (new short[] {
-			119
-		});
-		HZPY[14342] = (new short[] {
-			183
-		});
-		HZPY[14343] = (new short[] {
-			316
-		});
-		HZPY[14344] = (new short[] {
-			338
-		});
-		HZPY[14345] = (new short[] {
-			194
-		});
-		HZPY[14346] = (new short[] {
-			379
-		});
-		HZPY[14347] = (new short[] {
-			251, 252
-		});
-		HZPY[14348] = (new short[] {
-			376
-		});
-		HZPY[14349] = (new short[] {
-			363
-		});
-		HZPY[14350] = (new short[] {
-			131
-		});
-		HZPY[14351] = (new short[] {
-			139
-		});
-		HZPY[14352] = (new short[] {
-			361
-		});
-		HZPY[14353] = (new short[] {
-			207
-		});
-		HZPY[14354] = (new short[] {
-			229
-		});
-		HZPY[14355] = (new short[] {
-			316
-		});
-		HZPY[14356] = (new short[] {
-			139
-		});
-		HZPY[14357] = (new short[] {
-			229
-		});
-		HZPY[14358] = (new short[] {
-			225
-		});
-		HZPY[14359] = (new short[] {
-			19, 225
-		});
-		HZPY[14360] = (new short[] {
-			273
-		});
-		HZPY[14361] = (new short[] {
-			369
-		});
-		HZPY[14362] = (new short[] {
-			352, 171
-		});
-		HZPY[14363] = (new short[] {
-			376
-		});
-		HZPY[14364] = (new short[] {
-			141
-		});
-		HZPY[14365] = (new short[] {
-			173
-		});
-		HZPY[14366] = (new short[] {
-			173
-		});
-		HZPY[14367] = (new short[] {
-			371
-		});
-		HZPY[14368] = (new short[] {
-			259
-		});
-		HZPY[14369] = (new short[] {
-			372
-		});
-		HZPY[14370] = (new short[] {
-			181
-		});
-		HZPY[14371] = (new short[] {
-			335
-		});
-		HZPY[14372] = (new short[] {
-			345
-		});
-		HZPY[14373] = (new short[] {
-			378
-		});
-		HZPY[14374] = (new short[] {
-			178
-		});
-		HZPY[14375] = (new short[] {
-			266
-		});
-		HZPY[14376] = (new short[] {
-			367
-		});
-		HZPY[14377] = (new short[] {
-			84
-		});
-		HZPY[14378] = (new short[] {
-			200
-		});
-		HZPY[14379] = (new short[] {
-			165
-		});
-		HZPY[14380] = (new short[] {
-			160
-		});
-		HZPY[14381] = (new short[] {
-			165
-		});
-		HZPY[14382] = (new short[] {
-			131
-		});
-		HZPY[14383] = (new short[] {
-			58
-		});
-		HZPY[14384] = (new short[] {
-			229
-		});
-		HZPY[14385] = (new short[] {
-			169
-		});
-		HZPY[14386] = (new short[] {
-			169
-		});
-		HZPY[14387] = (new short[] {
-			334
-		});
-		HZPY[14388] = (new short[] {
-			88
-		});
-		HZPY[14389] = (new short[] {
-			398
-		});
-		HZPY[14390] = (new short[] {
-			345
-		});
-		HZPY[14391] = (new short[] {
-			160
-		});
-		HZPY[14392] = (new short[] {
-			391
-		});
-		HZPY[14393] = (new short[] {
-			125
-		});
-		HZPY[14394] = (new short[] {
-			171
-		});
-		HZPY[14395] = (new short[] {
-			131
-		});
-		HZPY[14396] = (new short[] {
-			200
-		});
-		HZPY[14397] = (new short[] {
-			169
-		});
-		HZPY[14398] = (new short[] {
-			125
-		});
-		HZPY[14399] = (new short[] {
-			189
-		});
-		HZPY[14400] = (new short[] {
-			131
-		});
-		HZPY[14401] = (new short[] {
-			215
-		});
-		HZPY[14402] = (new short[] {
-			183
-		});
-		HZPY[14403] = (new short[] {
-			133
-		});
-		HZPY[14404] = (new short[] {
-			229
-		});
-		HZPY[14405] = (new short[] {
-			229
-		});
-		HZPY[14406] = (new short[] {
-			169
-		});
-		HZPY[14407] = (new short[] {
-			267
-		});
-		HZPY[14408] = (new short[] {
-			354
-		});
-		HZPY[14409] = (new short[] {
-			369
-		});
-		HZPY[14410] = (new short[] {
-			186
-		});
-		HZPY[14411] = (new short[] {
-			198
-		});
-		HZPY[14412] = (new short[] {
-			16
-		});
-		HZPY[14413] = (new short[] {
-			123
-		});
-		HZPY[14414] = (new short[] {
-			123
-		});
-		HZPY[14415] = (new short[] {
-			183
-		});
-		HZPY[14416] = (new short[] {
-			234
-		});
-		HZPY[14417] = (new short[] {
-			184
-		});
-		HZPY[14418] = (new short[] {
-			398
-		});
-		HZPY[14419] = (new short[] {
-			354
-		});
-		HZPY[14420] = (new short[] {
-			258
-		});
-		HZPY[14421] = (new short[] {
-			40
-		});
-		HZPY[14422] = (new short[] {
-			123
-		});
-		HZPY[14423] = (new short[] {
-			360
-		});
-		HZPY[14424] = (new short[] {
-			54
-		});
-		HZPY[14425] = (new short[] {
-			91
-		});
-		HZPY[14426] = (new short[] {
-			360
-		});
-		HZPY[14427] = (new short[] {
-			360
-		});
-		HZPY[14428] = (new short[] {
-			183
-		});
-		HZPY[14429] = (new short[] {
-			123
-		});
-		HZPY[14430] = (new short[] {
-			376
-		});
-		HZPY[14431] = (new short[] {
-			115
-		});
-		HZPY[14432] = (new short[] {
-			135
-		});
-		HZPY[14433] = (new short[] {
-			141
-		});
-		HZPY[14434] = (new short[] {
-			110
-		});
-		HZPY[14435] = (new short[] {
-			9
-		});
-		HZPY[14436] = (new short[] {
-			365
-		});
-		HZPY[14437] = (new short[] {
-			391
-		});
-		HZPY[14438] = (new short[] {
-			391
-		});
-		HZPY[14439] = (new short[] {
-			160
-		});
-		HZPY[14440] = (new short[] {
-			7
-		});
-		HZPY[14441] = (new short[] {
-			350
-		});
-		HZPY[14442] = (new short[] {
-			305
-		});
-		HZPY[14443] = (new short[] {
-			38, 128
-		});
-		HZPY[14444] = (new short[] {
-			265
-		});
-		HZPY[14445] = (new short[] {
-			66
-		});
-		HZPY[14446] = (new short[] {
-			131
-		});
-		HZPY[14447] = (new short[] {
-			265
-		});
-		HZPY[14448] = (new short[] {
-			68
-		});
-		HZPY[14449] = (new short[] {
-			303
-		});
-		HZPY[14450] = (new short[] {
-			229
-		});
-		HZPY[14451] = (new short[] {
-			63
-		});
-		HZPY[14452] = (new short[] {
-			394
-		});
-		HZPY[14453] = (new short[] {
-			299, 369
-		});
-		HZPY[14454] = (new short[] {
-			376
-		});
-		HZPY[14455] = (new short[] {
-			94
-		});
-		HZPY[14456] = (new short[] {
-			409
-		});
-		HZPY[14457] = (new short[] {
-			121, 134
-		});
-		HZPY[14458] = (new short[] {
-			128
-		});
-		HZPY[14459] = (new short[] {
-			199
-		});
-		HZPY[14460] = (new short[] {
-			97
-		});
-		HZPY[14461] = (new short[] {
-			318
-		});
-		HZPY[14462] = (new short[] {
-			351, 111
-		});
-		HZPY[14463] = (new short[] {
-			30
-		});
-		HZPY[14464] = (new short[] {
-			303
-		});
-		HZPY[14465] = (new short[] {
-			369
-		});
-		HZPY[14466] = (new short[] {
-			191
-		});
-		HZPY[14467] = (new short[] {
-			353
-		});
-		HZPY[14468] = (new short[] {
-			85
-		});
-		HZPY[14469] = (new short[] {
-			77
-		});
-		HZPY[14470] = (new short[] {
-			239
-		});
-		HZPY[14471] = (new short[] {
-			37
-		});
-		HZPY[14472] = (new short[] {
-			258
-		});
-		HZPY[14473] = (new short[] {
-			346
-		});
-		HZPY[14474] = (new short[] {
-			346
-		});
-		HZPY[14475] = (new short[] {
-			283
-		});
-		HZPY[14476] = (new short[] {
-			8, 12
-		});
-		HZPY[14477] = (new short[] {
-			247
-		});
-		HZPY[14478] = (new short[] {
-			378
-		});
-		HZPY[14479] = (new short[] {
-			378
-		});
-		HZPY[14480] = (new short[] {
-			144
-		});
-		HZPY[14481] = (new short[] {
-			256
-		});
-		HZPY[14482] = (new short[] {
-			272
-		});
-		HZPY[14483] = (new short[] {
-			371
-		});
-		HZPY[14484] = (new short[] {
-			256, 37
-		});
-		HZPY[14485] = (new short[] {
-			23, 330
-		});
-		HZPY[14486] = (new short[] {
-			377
-		});
-		HZPY[14487] = (new short[] {
-			143
-		});
-		HZPY[14488] = (new short[] {
-			128
-		});
-		HZPY[14489] = (new short[] {
-			258
-		});
-		HZPY[14490] = (new short[] {
-			256
-		});
-		HZPY[14491] = (new short[] {
-			399
-		});
-		HZPY[14492] = (new short[] {
-			364
-		});
-		HZPY[14493] = (new short[] {
-			115
-		});
-		HZPY[14494] = (new short[] {
-			209
-		});
-		HZPY[14495] = (new short[] {
-			344
-		});
-		HZPY[14496] = (new short[] {
-			87
-		});
-		HZPY[14497] = (new short[] {
-			87
-		});
-		HZPY[14498] = (new short[] {
-			114
-		});
-		HZPY[14499] = (new short[] {
-			101
-		});
-		HZPY[14500] = (new short[] {
-			384
-		});
-		HZPY[14501] = (new short[] {
-			91
-		});
-		HZPY[14502] = (new short[] {
-			272
-		});
-		HZPY[14503] = (new short[] {
-			136
-		});
-		HZPY[14504] = (new short[] {
-			91
-		});
-		HZPY[14505] = (new short[] {
-			37
-		});
-		HZPY[14506] = (new short[] {
-			71
-		});
-		HZPY[14507] = (new short[] {
-			9
-		});
-		HZPY[14508] = (new short[] {
-			352
-		});
-		HZPY[14509] = (new short[] {
-			221
-		});
-		HZPY[14510] = (new short[] {
-			326
-		});
-		HZPY[14511] = (new short[] {
-			265
-		});
-		HZPY[14512] = (new short[] {
-			375
-		});
-		HZPY[14513] = (new short[] {
-			389
-		});
-		HZPY[14514] = (new short[] {
-			252
-		});
-		HZPY[14515] = (new short[] {
-			37
-		});
-		HZPY[14516] = (new short[] {
-			375
-		});
-		HZPY[14517] = (new short[] {
-			116, 150
-		});
-		HZPY[14518] = (new short[] {
-			113
-		});
-		HZPY[14519] = (new short[] {
-			141
-		});
-		HZPY[14520] = (new short[] {
-			171
-		});
-		HZPY[14521] = (new short[] {
-			91
-		});
-		HZPY[14522] = (new short[] {
-			272
-		});
-		HZPY[14523] = (new short[] {
-			389
-		});
-		HZPY[14524] = (new short[] {
-			102
-		});
-		HZPY[14525] = (new short[] {
-			247
-		});
-		HZPY[14526] = (new short[] {
-			19
-		});
-		HZPY[14527] = (new short[] {
-			352
-		});
-		HZPY[14528] = (new short[] {
-			401
-		});
-		HZPY[14529] = (new short[] {
-			66
-		});
-		HZPY[14530] = (new short[] {
-			16
-		});
-		HZPY[14531] = (new short[] {
-			18
-		});
-		HZPY[14532] = (new short[] {
-			103
-		});
-		HZPY[14533] = (new short[] {
-			272
-		});
-		HZPY[14534] = (new short[] {
-			266, 141
-		});
-		HZPY[14535] = (new short[] {
-			299, 369
-		});
-		HZPY[14536] = (new short[] {
-			332
-		});
-		HZPY[14537] = (new short[] {
-			178
-		});
-		HZPY[14538] = (new short[] {
-			103
-		});
-		HZPY[14539] = (new short[] {
-			57
-		});
-		HZPY[14540] = (new short[] {
-			103
-		});
-		HZPY[14541] = (new short[] {
-			372
-		});
-		HZPY[14542] = (new short[] {
-			171
-		});
-		HZPY[14543] = (new short[] {
-			36
-		});
-		HZPY[14544] = (new short[] {
-			266
-		});
-		HZPY[14545] = (new short[] {
-			208
-		});
-		HZPY[14546] = (new short[] {
-			97
-		});
-		HZPY[14547] = (new short[] {
-			47
-		});
-		HZPY[14548] = (new short[] {
-			128
-		});
-		HZPY[14549] = (new short[] {
-			128
-		});
-		HZPY[14550] = (new short[] {
-			194
-		});
-		HZPY[14551] = (new short[] {
-			91
-		});
-		HZPY[14552] = (new short[] {
-			366
-		});
-		HZPY[14553] = (new short[] {
-			341
-		});
-		HZPY[14554] = (new short[] {
-			176
-		});
-		HZPY[14555] = (new short[] {
-			401
-		});
-		HZPY[14556] = (new short[] {
-			369
-		});
-		HZPY[14557] = (new short[] {
-			352
-		});
-		HZPY[14558] = (new short[] {
-			162
-		});
-		HZPY[14559] = (new short[] {
-			135
-		});
-		HZPY[14560] = (new short[] {
-			171
-		});
-		HZPY[14561] = (new short[] {
-			369
-		});
-		HZPY[14562] = (new short[] {
-			252
-		});
-		HZPY[14563] = (new short[] {
-			131
-		});
-		HZPY[14564] = (new short[] {
-			111, 97
-		});
-		HZPY[14565] = (new short[] {
-			299
-		});
-		HZPY[14566] = (new short[] {
-			369
-		});
-		HZPY[14567] = (new short[] {
-			344
-		});
-		HZPY[14568] = (new short[] {
-			207
-		});
-		HZPY[14569] = (new short[] {
-			264
-		});
-		HZPY[14570] = (new short[] {
-			261
-		});
-		HZPY[14571] = (new short[] {
-			108
-		});
-		HZPY[14572] = (new short[] {
-			101
-		});
-		HZPY[14573] = (new short[] {
-			398
-		});
-		HZPY[14574] = (new short[] {
-			193
-		});
-		HZPY[14575] = (new short[] {
-			229
-		});
-		HZPY[14576] = (new short[] {
-			394
-		});
-		HZPY[14577] = (new short[] {
-			132
-		});
-		HZPY[14578] = (new short[] {
-			215
-		});
-		HZPY[14579] = (new short[] {
-			313
-		});
-		HZPY[14580] = (new short[] {
-			256
-		});
-		HZPY[14581] = (new short[] {
-			357
-		});
-		HZPY[14582] = (new short[] {
-			176
-		});
-		HZPY[14583] = (new short[] {
-			265
-		});
-		HZPY[14584] = (new short[] {
-			298, 354
-		});
-		HZPY[14585] = (new short[] {
-			374
-		});
-		HZPY[14586] = (new short[] {
-			132
-		});
-		HZPY[14587] = (new short[] {
-			338, 310
-		});
-		HZPY[14588] = (new short[] {
-			34
-		});
-		HZPY[14589] = (new short[] {
-			6
-		});
-		HZPY[14590] = (new short[] {
-			77, 369
-		});
-		HZPY[14591] = (new short[] {
-			113
-		});
-		HZPY[14592] = (new short[] {
-			305
-		});
-		HZPY[14593] = (new short[] {
-			361
-		});
-		HZPY[14594] = (new short[] {
-			88
-		});
-		HZPY[14595] = (new short[] {
-			301
-		});
-		HZPY[14596] = (new short[] {
-			396
-		});
-		HZPY[14597] = (new short[] {
-			91
-		});
-		HZPY[14598] = (new short[] {
-			352
-		});
-		HZPY[14599] = (new short[] {
-			394
-		});
-		HZPY[14600] = (new short[] {
-			349
-		});
-		HZPY[14601] = (new short[] {
-			91
-		});
-		HZPY[14602] = (new short[] {
-			171
-		});
-		HZPY[14603] = (new short[] {
-			166
-		});
-		HZPY[14604] = (new short[] {
-			13
-		});
-		HZPY[14605] = (new short[] {
-			40
-		});
-		HZPY[14606] = (new short[] {
-			377
-		});
-		HZPY[14607] = (new short[] {
-			375
-		});
-		HZPY[14608] = (new short[] {
-			136
-		});
-		HZPY[14609] = (new short[] {
-			57
-		});
-		HZPY[14610] = (new short[] {
-			365
-		});
-		HZPY[14611] = (new short[] {
-			333
-		});
-		HZPY[14612] = (new short[] {
-			65
-		});
-		HZPY[14613] = (new short[] {
-			338
-		});
-		HZPY[14614] = (new short[] {
-			128
-		});
-		HZPY[14615] = (new short[] {
-			348
-		});
-		HZPY[14616] = (new short[] {
-			398
-		});
-		HZPY[14617] = (new short[] {
-			314
-		});
-		HZPY[14618] = (new short[] {
-			86
-		});
-		HZPY[14619] = (new short[] {
-			141
-		});
-		HZPY[14620] = (new short[] {
-			200
-		});
-		HZPY[14621] = (new short[] {
-			256
-		});
-		HZPY[14622] = (new short[] {
-			256
-		});
-		HZPY[14623] = (new short[] {
-			376
-		});
-		HZPY[14624] = (new short[] {
-			144
-		});
-		HZPY[14625] = (new short[] {
-			163, 389
-		});
-		HZPY[14626] = (new short[] {
-			199
-		});
-		HZPY[14627] = (new short[] {
-			259
-		});
-		HZPY[14628] = (new short[] {
-			313
-		});
-		HZPY[14629] = (new short[] {
-			350
-		});
-		HZPY[14630] = (new short[] {
-			188
-		});
-		HZPY[14631] = (new short[] {
-			171
-		});
-		HZPY[14632] = (new short[] {
-			67
-		});
-		HZPY[14633] = (new short[] {
-			331
-		});
-		HZPY[14634] = (new short[] {
-			325
-		});
-		HZPY[14635] = (new short[] {
-			161
-		});
-		HZPY[14636] = (new short[] {
-			94
-		});
-		HZPY[14637] = (new short[] {
-			113
-		});
-		HZPY[14638] = (new short[] {
-			376
-		});
-		HZPY[14639] = (new short[] {
-			8, 12
-		});
-		HZPY[14640] = (new short[] {
-			86
-		});
-		HZPY[14641] = (new short[] {
-			247
-		});
-		HZPY[14642] = (new short[] {
-			345
-		});
-		HZPY[14643] = (new short[] {
-			75
-		});
-		HZPY[14644] = (new short[] {
-			369
-		});
-		HZPY[14645] = (new short[] {
-			377
-		});
-		HZPY[14646] = (new short[] {
-			316
-		});
-		HZPY[14647] = (new short[] {
-			267
-		});
-		HZPY[14648] = (new short[] {
-			258
-		});
-		HZPY[14649] = (new short[] {
-			283
-		});
-		HZPY[14650] = (new short[] {
-			221
-		});
-		HZPY[14651] = (new short[] {
-			263
-		});
-		HZPY[14652] = (new short[] {
-			345
-		});
-		HZPY[14653] = (new short[] {
-			174
-		});
-		HZPY[14654] = (new short[] {
-			110
-		});
-		HZPY[14655] = (new short[] {
-			343
-		});
-		HZPY[14656] = (new short[] {
-			70
-		});
-		HZPY[14657] = (new short[] {
-			77
-		});
-		HZPY[14658] = (new short[] {
-			7
-		});
-		HZPY[14659] = (new short[] {
-			408
-		});
-		HZPY[14660] = (new short[] {
-			344
-		});
-		HZPY[14661] = (new short[] {
-			23
-		});
-		HZPY[14662] = (new short[] {
-			366
-		});
-		HZPY[14663] = (new short[] {
-			372
-		});
-		HZPY[14664] = (new short[] {
-			110
-		});
-		HZPY[14665] = (new short[] {
-			31
-		});
-		HZPY[14666] = (new short[] {
-			229
-		});
-		HZPY[14667] = (new short[] {
-			163, 389
-		});
-		HZPY[14668] = (new short[] {
-			150
-		});
-		HZPY[14669] = (new short[] {
-			131
-		});
-		HZPY[14670] = (new short[] {
-			355, 116
-		});
-		HZPY[14671] = (new short[] {
-			333
-		});
-		HZPY[14672] = (new short[] {
-			192
-		});
-		HZPY[14673] = (new short[] {
-			360
-		});
-		HZPY[14674] = (new short[] {
-			201
-		});
-		HZPY[14675] = (new short[] {
-			376
-		});
-		HZPY[14676] = (new short[] {
-			136
-		});
-		HZPY[14677] = (new short[] {
-			303
-		});
-		HZPY[14678] = (new short[] {
-			361
-		});
-		HZPY[14679] = (new short[] {
-			127
-		});
-		HZPY[14680] = (new short[] {
-			365
-		});
-		HZPY[14681] = (new short[] {
-			14
-		});
-		HZPY[14682] = (new short[] {
-			280
-		});
-		HZPY[14683] = (new short[] {
-			345
-		});
-		HZPY[14684] = (new short[] {
-			91
-		});
-		HZPY[14685] = (new short[] {
-			377
-		});
-		HZPY[14686] = (new short[] {
-			197
-		});
-		HZPY[14687] = (new short[] {
-			345
-		});
-		HZPY[14688] = (new short[] {
-			91
-		});
-		HZPY[14689] = (new short[] {
-			282
-		});
-		HZPY[14690] = (new short[] {
-			355
-		});
-		HZPY[14691] = (new short[] {
-			375
-		});
-		HZPY[14692] = (new short[] {
-			375, 265
-		});
-		HZPY[14693] = (new short[] {
-			195
-		});
-		HZPY[14694] = (new short[] {
-			351, 111
-		});
-		HZPY[14695] = (new short[] {
-			372
-		});
-		HZPY[14696] = (new short[] {
-			303
-		});
-		HZPY[14697] = (new short[] {
-			38
-		});
-		HZPY[14698] = (new short[] {
-			324
-		});
-		HZPY[14699] = (new short[] {
-			401
-		});
-		HZPY[14700] = (new short[] {
-			410
-		});
-		HZPY[14701] = (new short[] {
-			329
-		});
-		HZPY[14702] = (new short[] {
-			91
-		});
-		HZPY[14703] = (new short[] {
-			377
-		});
-		HZPY[14704] = (new short[] {
-			160
-		});
-		HZPY[14705] = (new short[] {
-			199
-		});
-		HZPY[14706] = (new short[] {
-			163
-		});
-		HZPY[14707] = (new short[] {
-			72
-		});
-		HZPY[14708] = (new short[] {
-			123
-		});
-		HZPY[14709] = (new short[] {
-			265
-		});
-		HZPY[14710] = (new short[] {
-			67
-		});
-		HZPY[14711] = (new short[] {
-			171, 350
-		});
-		HZPY[14712] = (new short[] {
-			104, 348
-		});
-		HZPY[14713] = (new short[] {
-			379
-		});
-		HZPY[14714] = (new short[] {
-			141
-		});
-		HZPY[14715] = (new short[] {
-			213
-		});
-		HZPY[14716] = (new short[] {
-			182
-		});
-		HZPY[14717] = (new short[] {
-			45
-		});
-		HZPY[14718] = (new short[] {
-			279
-		});
-		HZPY[14719] = (new short[] {
-			372
-		});
-		HZPY[14720] = (new short[] {
-			134
-		});
-		HZPY[14721] = (new short[] {
-			339
-		});
-		HZPY[14722] = (new short[] {
-			166
-		});
-		HZPY[14723] = (new short[] {
-			242
-		});
-		HZPY[14724] = (new short[] {
-			313, 303
-		});
-		HZPY[14725] = (new short[] {
-			350
-		});
-		HZPY[14726] = (new short[] {
-			350
-		});
-		HZPY[14727] = (new short[] {
-			350
-		});
-		HZPY[14728] = (new short[] {
-			377
-		});
-		HZPY[14729] = (new short[] {
-			347
-		});
-		HZPY[14730] = (new short[] {
-			173
-		});
-		HZPY[14731] = (new short[] {
-			315
-		});
-		HZPY[14732] = (new short[] {
-			7
-		});
-		HZPY[14733] = (new short[] {
-			279
-		});
-		HZPY[14734] = (new short[] {
-			279
-		});
-		HZPY[14735] = (new short[] {
-			131
-		});
-		HZPY[14736] = (new short[] {
-			349
-		});
-		HZPY[14737] = (new short[] {
-			359
-		});
-		HZPY[14738] = (new short[] {
-			113
-		});
-		HZPY[14739] = (new short[] {
-			262
-		});
-		HZPY[14740] = (new short[] {
-			369
-		});
-		HZPY[14741] = (new short[] {
-			13
-		});
-		HZPY[14742] = (new short[] {
-			124
-		});
-		HZPY[14743] = (new short[] {
-			324
-		});
-		HZPY[14744] = (new short[] {
-			369
-		});
-		HZPY[14745] = (new short[] {
-			72
-		});
-		HZPY[14746] = (new short[] {
-			212
-		});
-		HZPY[14747] = (new short[] {
-			116
-		});
-		HZPY[14748] = (new short[] {
-			123
-		});
-		HZPY[14749] = (new short[] {
-			350
-		});
-		HZPY[14750] = (new short[] {
-			191
-		});
-		HZPY[14751] = (new short[] {
-			205
-		});
-		HZPY[14752] = (new short[] {
-			369
-		});
-		HZPY[14753] = (new short[] {
-			346
-		});
-		HZPY[14754] = (new short[] {
-			372
-		});
-		HZPY[14755] = (new short[] {
-			328, 326
-		});
-		HZPY[14756] = (new short[] {
-			376
-		});
-		HZPY[14757] = (new short[] {
-			24
-		});
-		HZPY[14758] = (new short[] {
-			229
-		});
-		HZPY[14759] = (new short[] {
-			229
-		});
-		HZPY[14760] = (new short[] {
-			193
-		});
-		HZPY[14761] = (new short[] {
-			229
-		});
-		HZPY[14762] = (new short[] {
-			297
-		});
-		HZPY[14763] = (new short[] {
-			303, 394
-		});
-		HZPY[14764] = (new short[] {
-			25
-		});
-		HZPY[14765] = (new short[] {
-			37
-		});
-		HZPY[14766] = (new short[] {
-			63
-		});
-		HZPY[14767] = (new short[] {
-			4
-		});
-		HZPY[14768] = (new short[] {
-			183
-		});
-		HZPY[14769] = (new short[] {
-			345
-		});
-		HZPY[14770] = (new short[] {
-			398
-		});
-		HZPY[14771] = (new short[] {
-			324
-		});
-		HZPY[14772] = (new short[] {
-			35
-		});
-		HZPY[14773] = (new short[] {
-			249
-		});
-		HZPY[14774] = (new short[] {
-			266
-		});
-		HZPY[14775] = (new short[] {
-			247
-		});
-		HZPY[14776] = (new short[] {
-			376
-		});
-		HZPY[14777] = (new short[] {
-			133
-		});
-		HZPY[14778] = (new short[] {
-			189
-		});
-		HZPY[14779] = (new short[] {
-			182
-		});
-		HZPY[14780] = (new short[] {
-			262
-		});
-		HZPY[14781] = (new short[] {
-			399
-		});
-		HZPY[14782] = (new short[] {
-			371
-		});
-		HZPY[14783] = (new short[] {
-			134
-		});
-		HZPY[14784] = (new short[] {
-			307, 312
-		});
-		HZPY[14785] = (new short[] {
-			346
-		});
-		HZPY[14786] = (new short[] {
-			135
-		});
-		HZPY[14787] = (new short[] {
-			343
-		});
-		HZPY[14788] = (new short[] {
-			394, 398
-		});
-		HZPY[14789] = (new short[] {
-			394
-		});
-		HZPY[14790] = (new short[] {
-			191
-		});
-		HZPY[14791] = (new short[] {
-			191
-		});
-		HZPY[14792] = (new short[] {
-			110
-		});
-		HZPY[14793] = (new short[] {
-			175
-		});
-		HZPY[14794] = (new short[] {
-			195
-		});
-		HZPY[14795] = (new short[] {
-			350
-		});
-		HZPY[14796] = (new short[] {
-			48
-		});
-		HZPY[14797] = (new short[] {
-			171
-		});
-		HZPY[14798] = (new short[] {
-			193
-		});
-		HZPY[14799] = (new short[] {
-			354
-		});
-		HZPY[14800] = (new short[] {
-			229
-		});
-		HZPY[14801] = (new short[] {
-			392
-		});
-		HZPY[14802] = (new short[] {
-			194
-		});
-		HZPY[14803] = (new short[] {
-			353
-		});
-		HZPY[14804] = (new short[] {
-			207
-		});
-		HZPY[14805] = (new short[] {
-			409
-		});
-		HZPY[14806] = (new short[] {
-			313
-		});
-		HZPY[14807] = (new short[] {
-			265
-		});
-		HZPY[14808] = (new short[] {
-			326
-		});
-		HZPY[14809] = (new short[] {
-			398
-		});
-		HZPY[14810] = (new short[] {
-			246
-		});
-		HZPY[14811] = (new short[] {
-			246
-		});
-		HZPY[14812] = (new short[] {
-			135
-		});
-		HZPY[14813] = (new short[] {
-			266
-		});
-		HZPY[14814] = (new short[] {
-			16
-		});
-		HZPY[14815] = (new short[] {
-			175
-		});
-		HZPY[14816] = (new short[] {
-			241
-		});
-		HZPY[14817] = (new short[] {
-			108
-		});
-		HZPY[14818] = (new short[] {
-			350
-		});
-		HZPY[14819] = (new short[] {
-			131
-		});
-		HZPY[14820] = (new short[] {
-			404
-		});
-		HZPY[14821] = (new short[] {
-			127
-		});
-		HZPY[14822] = (new short[] {
-			86
-		});
-		HZPY[14823] = (new short[] {
-			167
-		});
-		HZPY[14824] = (new short[] {
-			143
-		});
-		HZPY[14825] = (new short[] {
-			143
-		});
-		HZPY[14826] = (new short[] {
-			128
-		});
-		HZPY[14827] = (new short[] {
-			371
-		});
-		HZPY[14828] = (new short[] {
-			31
-		});
-		HZPY[14829] = (new short[] {
-			135
-		});
-		HZPY[14830] = (new short[] {
-			296
-		});
-		HZPY[14831] = (new short[] {
-			274, 215
-		});
-		HZPY[14832] = (new short[] {
-			354
-		});
-		HZPY[14833] = (new short[] {
-			349
-		});
-		HZPY[14834] = (new short[] {
-			38
-		});
-		HZPY[14835] = (new short[] {
-			363
-		});
-		HZPY[14836] = (new short[] {
-			313
-		});
-		HZPY[14837] = (new short[] {
-			229
-		});
-		HZPY[14838] = (new short[] {
-			36
-		});
-		HZPY[14839] = (new short[] {
-			58
-		});
-		HZPY[14840] = (new short[] {
-			171
-		});
-		HZPY[14841] = (new short[] {
-			355
-		});
-		HZPY[14842] = (new short[] {
-			296
-		});
-		HZPY[14843] = (new short[] {
-			369
-		});
-		HZPY[14844] = (new short[] {
-			138
-		});
-		HZPY[14845] = (new short[] {
-			55
-		});
-		HZPY[14846] = (new short[] {
-			31
-		});
-		HZPY[14847] = (new short[] {
-			256
-		});
-		HZPY[14848] = (new short[] {
-			409
-		});
-		HZPY[14849] = (new short[] {
-			353
-		});
-		HZPY[14850] = (new short[] {
-			299
-		});
-		HZPY[14851] = (new short[] {
-			189
-		});
-		HZPY[14852] = (new short[] {
-			262
-		});
-		HZPY[14853] = (new short[] {
-			372
-		});
-		HZPY[14854] = (new short[] {
-			30
-		});
-		HZPY[14855] = (new short[] {
-			171
-		});
-		HZPY[14856] = (new short[] {
-			385
-		});
-		HZPY[14857] = (new short[] {
-			361
-		});
-		HZPY[14858] = (new short[] {
-			173
-		});
-		HZPY[14859] = (new short[] {
-			401
-		});
-		HZPY[14860] = (new short[] {
-			385
-		});
-		HZPY[14861] = (new short[] {
-			355
-		});
-		HZPY[14862] = (new short[] {
-			194
-		});
-		HZPY[14863] = (new short[] {
-			355
-		});
-		HZPY[14864] = (new short[] {
-			256
-		});
-		HZPY[14865] = (new short[] {
-			279
-		});
-		HZPY[14866] = (new short[] {
-			133
-		});
-		HZPY[14867] = (new short[] {
-			199
-		});
-		HZPY[14868] = (new short[] {
-			115
-		});
-		HZPY[14869] = (new short[] {
-			281, 282
-		});
-		HZPY[14870] = (new short[] {
-			130
-		});
-		HZPY[14871] = (new short[] {
-			408
-		});
-		HZPY[14872] = (new short[] {
-			136
-		});
-		HZPY[14873] = (new short[] {
-			17
-		});
-		HZPY[14874] = (new short[] {
-			116
-		});
-		HZPY[14875] = (new short[] {
-			203
-		});
-		HZPY[14876] = (new short[] {
-			84
-		});
-		HZPY[14877] = (new short[] {
-			169
-		});
-		HZPY[14878] = (new short[] {
-			136
-		});
-		HZPY[14879] = (new short[] {
-			163, 389
-		});
-		HZPY[14880] = (new short[] {
-			200
-		});
-		HZPY[14881] = (new short[] {
-			171
-		});
-		HZPY[14882] = (new short[] {
-			45
-		});
-		HZPY[14883] = (new short[] {
-			171
-		});
-		HZPY[14884] = (new short[] {
-			265
-		});
-		HZPY[14885] = (new short[] {
-			225
-		});
-		HZPY[14886] = (new short[] {
-			183
-		});
-		HZPY[14887] = (new short[] {
-			72
-		});
-		HZPY[14888] = (new short[] {
-			354
-		});
-		HZPY[14889] = (new short[] {
-			401
-		});
-		HZPY[14890] = (new short[] {
-			181
-		});
-		HZPY[14891] = (new short[] {
-			171
-		});
-		HZPY[14892] = (new short[] {
-			181
-		});
-		HZPY[14893] = (new short[] {
-			88
-		});
-		HZPY[14894] = (new short[] {
-			368
-		});
-		HZPY[14895] = (new short[] {
-			247
-		});
-		HZPY[14896] = (new short[] {
-			273
-		});
-		HZPY[14897] = (new short[] {
-			103
-		});
-		HZPY[14898] = (new short[] {
-			142
-		});
-		HZPY[14899] = (new short[] {
-			372
-		});
-		HZPY[14900] = (new short[] {
-			229
-		});
-		HZPY[14901] = (new short[] {
-			350
-		});
-		HZPY[14902] = (new short[] {
-			23
-		});
-		HZPY[14903] = (new short[] {
-			266
-		});
-		HZPY[14904] = (new short[] {
-			267
-		});
-		HZPY[14905] = (new short[] {
-			72
-		});
-		HZPY[14906] = (new short[] {
-			23
-		});
-		HZPY[14907] = (new short[] {
-			193
-		});
-		HZPY[14908] = (new short[] {
-			266
-		});
-		HZPY[14909] = (new short[] {
-			136
-		});
-		HZPY[14910] = (new short[] {
-			401
-		});
-		HZPY[14911] = (new short[] {
-			389
-		});
-		HZPY[14912] = (new short[] {
-			362, 355
-		});
-		HZPY[14913] = (new short[] {
-			127
-		});
-		HZPY[14914] = (new short[] {
-			233
-		});
-		HZPY[14915] = (new short[] {
-			244
-		});
-		HZPY[14916] = (new short[] {
-			233
-		});
-		HZPY[14917] = (new short[] {
-			356
-		});
-		HZPY[14918] = (new short[] {
-			399
-		});
-		HZPY[14919] = (new short[] {
-			207
-		});
-		HZPY[14920] = (new short[] {
-			82
-		});
-		HZPY[14921] = (new short[] {
-			203
-		});
-		HZPY[14922] = (new short[] {
-			203
-		});
-		HZPY[14923] = (new short[] {
-			303
-		});
-		HZPY[14924] = (new short[] {
-			357, 114, 119
-		});
-		HZPY[14925] = (new short[] {
-			365
-		});
-		HZPY[14926] = (new short[] {
-			147
-		});
-		HZPY[14927] = (new short[] {
-			377
-		});
-		HZPY[14928] = (new short[] {
-			229
-		});
-		HZPY[14929] = (new short[] {
-			178
-		});
-		HZPY[14930] = (new short[] {
-			361
-		});
-		HZPY[14931] = (new short[] {
-			305, 401
-		});
-		HZPY[14932] = (new short[] {
-			352
-		});
-		HZPY[14933] = (new short[] {
-			334
-		});
-		HZPY[14934] = (new short[] {
-			181
-		});
-		HZPY[14935] = (new short[] {
-			136
-		});
-		HZPY[14936] = (new short[] {
-			352
-		});
-		HZPY[14937] = (new short[] {
-			364
-		});
-		HZPY[14938] = (new short[] {
-			123
-		});
-		HZPY[14939] = (new short[] {
-			345
-		});
-		HZPY[14940] = (new short[] {
-			59
-		});
-		HZPY[14941] = (new short[] {
-			38
-		});
-		HZPY[14942] = (new short[] {
-			345
-		});
-		HZPY[14943] = (new short[] {
-			59
-		});
-		HZPY[14944] = (new short[] {
-			407
-		});
-		HZPY[14945] = (new short[] {
-			119
-		});
-		HZPY[14946] = (new short[] {
-			266
-		});
-		HZPY[14947] = (new short[] {
-			369
-		});
-		HZPY[14948] = (new short[] {
-			369
-		});
-		HZPY[14949] = (new short[] {
-			20
-		});
-		HZPY[14950] = (new short[] {
-			94
-		});
-		HZPY[14951] = (new short[] {
-			376
-		});
-		HZPY[14952] = (new short[] {
-			15
-		});
-		HZPY[14953] = (new short[] {
-			29
-		});
-		HZPY[14954] = (new short[] {
-			369
-		});
-		HZPY[14955] = (new short[] {
-			296
-		});
-		HZPY[14956] = (new short[] {
-			35
-		});
-		HZPY[14957] = (new short[] {
-			91
-		});
-		HZPY[14958] = (new short[] {
-			109
-		});
-		HZPY[14959] = (new short[] {
-			87
-		});
-		HZPY[14960] = (new short[] {
-			307, 52
-		});
-		HZPY[14961] = (new short[] {
-			136, 131
-		});
-		HZPY[14962] = (new short[] {
-			211
-		});
-		HZPY[14963] = (new short[] {
-			399
-		});
-		HZPY[14964] = (new short[] {
-			57
-		});
-		HZPY[14965] = (new short[] {
-			278
-		});
-		HZPY[14966] = (new short[] {
-			399
-		});
-		HZPY[14967] = (new short[] {
-			399
-		});
-		HZPY[14968] = (new short[] {
-			355
-		});
-		HZPY[14969] = (new short[] {
-			256, 398
-		});
-		HZPY[14970] = (new short[] {
-			355
-		});
-		HZPY[14971] = (new short[] {
-			272
-		});
-		HZPY[14972] = (new short[] {
-			398
-		});
-		HZPY[14973] = (new short[] {
-			276
-		});
-		HZPY[14974] = (new short[] {
-			262
-		});
-		HZPY[14975] = (new short[] {
-			137
-		});
-		HZPY[14976] = (new short[] {
-			144
-		});
-		HZPY[14977] = (new short[] {
-			377
-		});
-		HZPY[14978] = (new short[] {
-			197
-		});
-		HZPY[14979] = (new short[] {
-			30
-		});
-		HZPY[14980] = (new short[] {
-			4
-		});
-		HZPY[14981] = (new short[] {
-			224
-		});
-		HZPY[14982] = (new short[] {
-			128
-		});
-		HZPY[14983] = (new short[] {
-			272
-		});
-		HZPY[14984] = (new short[] {
-			132
-		});
-		HZPY[14985] = (new short[] {
-			340
-		});
-		HZPY[14986] = (new short[] {
-			178
-		});
-		HZPY[14987] = (new short[] {
-			56
-		});
-		HZPY[14988] = (new short[] {
-			9
-		});
-		HZPY[14989] = (new short[] {
-			243
-		});
-		HZPY[14990] = (new short[] {
-			367
-		});
-		HZPY[14991] = (new short[] {
-			416
-		});
-		HZPY[14992] = (new short[] {
-			13
-		});
-		HZPY[14993] = (new short[] {
-			298
-		});
-		HZPY[14994] = (new short[] {
-			323
-		});
-		HZPY[14995] = (new short[] {
-			141
-		});
-		HZPY[14996] = (new short[] {
-			116
-		});
-		HZPY[14997] = (new short[] {
-			362
-		});
-		HZPY[14998] = (new short[] {
-			359
-		});
-		HZPY[14999] = (new short[] {
-			396
-		});
-	}
 
-	private void init6(short HZPY[][])
-	{
-		HZPY[15000] = (new short[] {
-			369
-		});
-		HZPY[15001] = (new short[] {
-			239
-		});
-		HZPY[15002] = (new short[] {
-			19, 91
-		});
-		HZPY[15003] = (new short[] {
-			63
-		});
-		HZPY[15004] = (new short[] {
-			341
-		});
-		HZPY[15005] = (new short[] {
-			91
-		});
-		HZPY[15006] = (new short[] {
-			109
-		});
-		HZPY[15007] = (new short[] {
-			398
-		});
-		HZPY[15008] = (new short[] {
-			398
-		});
-		HZPY[15009] = (new short[] {
-			272
-		});
-		HZPY[15010] = (new short[] {
-			241
-		});
-		HZPY[15011] = (new short[] {
-			369
-		});
-		HZPY[15012] = (new short[] {
-			195
-		});
-		HZPY[15013] = (new short[] {
-			229
-		});
-		HZPY[15014] = (new short[] {
-			211
-		});
-		HZPY[15015] = (new short[] {
-			154
-		});
-		HZPY[15016] = (new short[] {
-			361
-		});
-		HZPY[15017] = (new short[] {
-			31
-		});
-		HZPY[15018] = (new short[] {
-			266
-		});
-		HZPY[15019] = (new short[] {
-			10, 247
-		});
-		HZPY[15020] = (new short[] {
-			376
-		});
-		HZPY[15021] = (new short[] {
-			350
-		});
-		HZPY[15022] = (new short[] {
-			229
-		});
-		HZPY[15023] = (new short[] {
-			19
-		});
-		HZPY[15024] = (new short[] {
-			229
-		});
-		HZPY[15025] = (new short[] {
-			91
-		});
-		HZPY[15026] = (new short[] {
-			369
-		});
-		HZPY[15027] = (new short[] {
-			37
-		});
-		HZPY[15028] = (new short[] {
-			155
-		});
-		HZPY[15029] = (new short[] {
-			276
-		});
-		HZPY[15030] = (new short[] {
-			134
-		});
-		HZPY[15031] = (new short[] {
-			132, 257
-		});
-		HZPY[15032] = (new short[] {
-			53
-		});
-		HZPY[15033] = (new short[] {
-			207
-		});
-		HZPY[15034] = (new short[] {
-			136
-		});
-		HZPY[15035] = (new short[] {
-			82
-		});
-		HZPY[15036] = (new short[] {
-			97
-		});
-		HZPY[15037] = (new short[] {
-			281
-		});
-		HZPY[15038] = (new short[] {
-			401
-		});
-		HZPY[15039] = (new short[] {
-			108
-		});
-		HZPY[15040] = (new short[] {
-			371
-		});
-		HZPY[15041] = (new short[] {
-			22
-		});
-		HZPY[15042] = (new short[] {
-			176
-		});
-		HZPY[15043] = (new short[] {
-			229
-		});
-		HZPY[15044] = (new short[] {
-			229
-		});
-		HZPY[15045] = (new short[] {
-			405
-		});
-		HZPY[15046] = (new short[] {
-			58
-		});
-		HZPY[15047] = (new short[] {
-			229
-		});
-		HZPY[15048] = (new short[] {
-			161
-		});
-		HZPY[15049] = (new short[] {
-			151
-		});
-		HZPY[15050] = (new short[] {
-			224
-		});
-		HZPY[15051] = (new short[] {
-			305
-		});
-		HZPY[15052] = (new short[] {
-			132
-		});
-		HZPY[15053] = (new short[] {
-			161
-		});
-		HZPY[15054] = (new short[] {
-			36
-		});
-		HZPY[15055] = (new short[] {
-			171
-		});
-		HZPY[15056] = (new short[] {
-			142
-		});
-		HZPY[15057] = (new short[] {
-			301
-		});
-		HZPY[15058] = (new short[] {
-			254
-		});
-		HZPY[15059] = (new short[] {
-			97
-		});
-		HZPY[15060] = (new short[] {
-			369
-		});
-		HZPY[15061] = (new short[] {
-			376
-		});
-		HZPY[15062] = (new short[] {
-			35
-		});
-		HZPY[15063] = (new short[] {
-			179
-		});
-		HZPY[15064] = (new short[] {
-			265
-		});
-		HZPY[15065] = (new short[] {
-			270
-		});
-		HZPY[15066] = (new short[] {
-			131
-		});
-		HZPY[15067] = (new short[] {
-			369
-		});
-		HZPY[15068] = (new short[] {
-			20
-		});
-		HZPY[15069] = (new short[] {
-			405
-		});
-		HZPY[15070] = (new short[] {
-			310
-		});
-		HZPY[15071] = (new short[] {
-			294
-		});
-		HZPY[15072] = (new short[] {
-			270
-		});
-		HZPY[15073] = (new short[] {
-			171
-		});
-		HZPY[15074] = (new short[] {
-			173
-		});
-		HZPY[15075] = (new short[] {
-			173
-		});
-		HZPY[15076] = (new short[] {
-			155
-		});
-		HZPY[15077] = (new short[] {
-			133
-		});
-		HZPY[15078] = (new short[] {
-			90
-		});
-		HZPY[15079] = (new short[] {
-			323
-		});
-		HZPY[15080] = (new short[] {
-			13, 247, 10
-		});
-		HZPY[15081] = (new short[] {
-			109
-		});
-		HZPY[15082] = (new short[] {
-			325
-		});
-		HZPY[15083] = (new short[] {
-			377
-		});
-		HZPY[15084] = (new short[] {
-			178
-		});
-		HZPY[15085] = (new short[] {
-			37
-		});
-		HZPY[15086] = (new short[] {
-			32
-		});
-		HZPY[15087] = (new short[] {
-			39
-		});
-		HZPY[15088] = (new short[] {
-			76
-		});
-		HZPY[15089] = (new short[] {
-			15
-		});
-		HZPY[15090] = (new short[] {
-			174
-		});
-		HZPY[15091] = (new short[] {
-			297, 32
-		});
-		HZPY[15092] = (new short[] {
-			244
-		});
-		HZPY[15093] = (new short[] {
-			244
-		});
-		HZPY[15094] = (new short[] {
-			86
-		});
-		HZPY[15095] = (new short[] {
-			377
-		});
-		HZPY[15096] = (new short[] {
-			189
-		});
-		HZPY[15097] = (new short[] {
-			110
-		});
-		HZPY[15098] = (new short[] {
-			365
-		});
-		HZPY[15099] = (new short[] {
-			72
-		});
-		HZPY[15100] = (new short[] {
-			329, 350
-		});
-		HZPY[15101] = (new short[] {
-			398
-		});
-		HZPY[15102] = (new short[] {
-			141
-		});
-		HZPY[15103] = (new short[] {
-			256
-		});
-		HZPY[15104] = (new short[] {
-			131
-		});
-		HZPY[15105] = (new short[] {
-			398
-		});
-		HZPY[15106] = (new short[] {
-			104
-		});
-		HZPY[15107] = (new short[] {
-			151
-		});
-		HZPY[15108] = (new short[] {
-			229
-		});
-		HZPY[15109] = (new short[] {
-			329
-		});
-		HZPY[15110] = (new short[] {
-			303
-		});
-		HZPY[15111] = (new short[] {
-			91
-		});
-		HZPY[15112] = (new short[] {
-			38
-		});
-		HZPY[15113] = (new short[] {
-			355
-		});
-		HZPY[15114] = (new short[] {
-			14
-		});
-		HZPY[15115] = (new short[] {
-			67
-		});
-		HZPY[15116] = (new short[] {
-			161, 128
-		});
-		HZPY[15117] = (new short[] {
-			73
-		});
-		HZPY[15118] = (new short[] {
-			359
-		});
-		HZPY[15119] = (new short[] {
-			359
-		});
-		HZPY[15120] = (new short[] {
-			116
-		});
-		HZPY[15121] = (new short[] {
-			377
-		});
-		HZPY[15122] = (new short[] {
-			9
-		});
-		HZPY[15123] = (new short[] {
-			9
-		});
-		HZPY[15124] = (new short[] {
-			91
-		});
-		HZPY[15125] = (new short[] {
-			376
-		});
-		HZPY[15126] = (new short[] {
-			337
-		});
-		HZPY[15127] = (new short[] {
-			365
-		});
-		HZPY[15128] = (new short[] {
-			128
-		});
-		HZPY[15129] = (new short[] {
-			10
-		});
-		HZPY[15130] = (new short[] {
-			40, 401
-		});
-		HZPY[15131] = (new short[] {
-			184
-		});
-		HZPY[15132] = (new short[] {
-			229
-		});
-		HZPY[15133] = (new short[] {
-			229
-		});
-		HZPY[15134] = (new short[] {
-			379
-		});
-		HZPY[15135] = (new short[] {
-			321
-		});
-		HZPY[15136] = (new short[] {
-			102
-		});
-		HZPY[15137] = (new short[] {
-			55
-		});
-		HZPY[15138] = (new short[] {
-			125
-		});
-		HZPY[15139] = (new short[] {
-			279
-		});
-		HZPY[15140] = (new short[] {
-			377
-		});
-		HZPY[15141] = (new short[] {
-			281
-		});
-		HZPY[15142] = (new short[] {
-			212
-		});
-		HZPY[15143] = (new short[] {
-			139
-		});
-		HZPY[15144] = (new short[] {
-			320
-		});
-		HZPY[15145] = (new short[] {
-			7
-		});
-		HZPY[15146] = (new short[] {
-			339, 338
-		});
-		HZPY[15147] = (new short[] {
-			37
-		});
-		HZPY[15148] = (new short[] {
-			289
-		});
-		HZPY[15149] = (new short[] {
-			224
-		});
-		HZPY[15150] = (new short[] {
-			372
-		});
-		HZPY[15151] = (new short[] {
-			136
-		});
-		HZPY[15152] = (new short[] {
-			258
-		});
-		HZPY[15153] = (new short[] {
-			125
-		});
-		HZPY[15154] = (new short[] {
-			155
-		});
-		HZPY[15155] = (new short[] {
-			173
-		});
-		HZPY[15156] = (new short[] {
-			165
-		});
-		HZPY[15157] = (new short[] {
-			171
-		});
-		HZPY[15158] = (new short[] {
-			394, 350
-		});
-		HZPY[15159] = (new short[] {
-			303
-		});
-		HZPY[15160] = (new short[] {
-			184
-		});
-		HZPY[15161] = (new short[] {
-			369
-		});
-		HZPY[15162] = (new short[] {
-			67
-		});
-		HZPY[15163] = (new short[] {
-			355
-		});
-		HZPY[15164] = (new short[] {
-			352
-		});
-		HZPY[15165] = (new short[] {
-			345
-		});
-		HZPY[15166] = (new short[] {
-			15
-		});
-		HZPY[15167] = (new short[] {
-			25
-		});
-		HZPY[15168] = (new short[] {
-			131
-		});
-		HZPY[15169] = (new short[] {
-			259
-		});
-		HZPY[15170] = (new short[] {
-			292
-		});
-		HZPY[15171] = (new short[] {
-			9
-		});
-		HZPY[15172] = (new short[] {
-			353
-		});
-		HZPY[15173] = (new short[] {
-			229
-		});
-		HZPY[15174] = (new short[] {
-			255
-		});
-		HZPY[15175] = (new short[] {
-			133
-		});
-		HZPY[15176] = (new short[] {
-			404
-		});
-		HZPY[15177] = (new short[] {
-			133
-		});
-		HZPY[15178] = (new short[] {
-			414
-		});
-		HZPY[15179] = (new short[] {
-			131
-		});
-		HZPY[15180] = (new short[] {
-			57
-		});
-		HZPY[15181] = (new short[] {
-			380
-		});
-		HZPY[15182] = (new short[] {
-			84
-		});
-		HZPY[15183] = (new short[] {
-			19
-		});
-		HZPY[15184] = (new short[] {
-			353
-		});
-		HZPY[15185] = (new short[] {
-			356
-		});
-		HZPY[15186] = (new short[] {
-			16, 13
-		});
-		HZPY[15187] = (new short[] {
-			274
-		});
-		HZPY[15188] = (new short[] {
-			193
-		});
-		HZPY[15189] = (new short[] {
-			165
-		});
-		HZPY[15190] = (new short[] {
-			4
-		});
-		HZPY[15191] = (new short[] {
-			76
-		});
-		HZPY[15192] = (new short[] {
-			128
-		});
-		HZPY[15193] = (new short[] {
-			25
-		});
-		HZPY[15194] = (new short[] {
-			318
-		});
-		HZPY[15195] = (new short[] {
-			230
-		});
-		HZPY[15196] = (new short[] {
-			31
-		});
-		HZPY[15197] = (new short[] {
-			173
-		});
-		HZPY[15198] = (new short[] {
-			13
-		});
-		HZPY[15199] = (new short[] {
-			137
-		});
-		HZPY[15200] = (new short[] {
-			58
-		});
-		HZPY[15201] = (new short[] {
-			305
-		});
-		HZPY[15202] = (new short[] {
-			323
-		});
-		HZPY[15203] = (new short[] {
-			13
-		});
-		HZPY[15204] = (new short[] {
-			165
-		});
-		HZPY[15205] = (new short[] {
-			255
-		});
-		HZPY[15206] = (new short[] {
-			281
-		});
-		HZPY[15207] = (new short[] {
-			398
-		});
-		HZPY[15208] = (new short[] {
-			229
-		});
-		HZPY[15209] = (new short[] {
-			305
-		});
-		HZPY[15210] = (new short[] {
-			341
-		});
-		HZPY[15211] = (new short[] {
-			303
-		});
-		HZPY[15212] = (new short[] {
-			6
-		});
-		HZPY[15213] = (new short[] {
-			355
-		});
-		HZPY[15214] = (new short[] {
-			19
-		});
-		HZPY[15215] = (new short[] {
-			35
-		});
-		HZPY[15216] = (new short[] {
-			164
-		});
-		HZPY[15217] = (new short[] {
-			181
-		});
-		HZPY[15218] = (new short[] {
-			350
-		});
-		HZPY[15219] = (new short[] {
-			352
-		});
-		HZPY[15220] = (new short[] {
-			165
-		});
-		HZPY[15221] = (new short[] {
-			394
-		});
-		HZPY[15222] = (new short[] {
-			56
-		});
-		HZPY[15223] = (new short[] {
-			229
-		});
-		HZPY[15224] = (new short[] {
-			382
-		});
-		HZPY[15225] = (new short[] {
-			303
-		});
-		HZPY[15226] = (new short[] {
-			133
-		});
-		HZPY[15227] = (new short[] {
-			241
-		});
-		HZPY[15228] = (new short[] {
-			369
-		});
-		HZPY[15229] = (new short[] {
-			229
-		});
-		HZPY[15230] = (new short[] {
-			364
-		});
-		HZPY[15231] = (new short[] {
-			350
-		});
-		HZPY[15232] = (new short[] {
-			350
-		});
-		HZPY[15233] = (new short[] {
-			367
-		});
-		HZPY[15234] = (new short[] {
-			88
-		});
-		HZPY[15235] = (new short[] {
-			323, 262
-		});
-		HZPY[15236] = (new short[] {
-			229
-		});
-		HZPY[15237] = (new short[] {
-			229
-		});
-		HZPY[15238] = (new short[] {
-			91
-		});
-		HZPY[15239] = (new short[] {
-			5
-		});
-		HZPY[15240] = (new short[] {
-			116
-		});
-		HZPY[15241] = (new short[] {
-			131
-		});
-		HZPY[15242] = (new short[] {
-			131
-		});
-		HZPY[15243] = (new short[] {
-			133, 352
-		});
-		HZPY[15244] = (new short[] {
-			106
-		});
-		HZPY[15245] = (new short[] {
-			14
-		});
-		HZPY[15246] = (new short[] {
-			365
-		});
-		HZPY[15247] = (new short[] {
-			108
-		});
-		HZPY[15248] = (new short[] {
-			143, 135
-		});
-		HZPY[15249] = (new short[] {
-			248
-		});
-		HZPY[15250] = (new short[] {
-			195
-		});
-		HZPY[15251] = (new short[] {
-			200
-		});
-		HZPY[15252] = (new short[] {
-			200
-		});
-		HZPY[15253] = (new short[] {
-			203
-		});
-		HZPY[15254] = (new short[] {
-			303
-		});
-		HZPY[15255] = (new short[] {
-			313
-		});
-		HZPY[15256] = (new short[] {
-			391, 31
-		});
-		HZPY[15257] = (new short[] {
-			189
-		});
-		HZPY[15258] = (new short[] {
-			143, 135
-		});
-		HZPY[15259] = (new short[] {
-			207
-		});
-		HZPY[15260] = (new short[] {
-			331
-		});
-		HZPY[15261] = (new short[] {
-			173
-		});
-		HZPY[15262] = (new short[] {
-			367
-		});
-		HZPY[15263] = (new short[] {
-			398
-		});
-		HZPY[15264] = (new short[] {
-			144
-		});
-		HZPY[15265] = (new short[] {
-			350
-		});
-		HZPY[15266] = (new short[] {
-			296
-		});
-		HZPY[15267] = (new short[] {
-			345
-		});
-		HZPY[15268] = (new short[] {
-			350
-		});
-		HZPY[15269] = (new short[] {
-			330
-		});
-		HZPY[15270] = (new short[] {
-			376
-		});
-		HZPY[15271] = (new short[] {
-			165
-		});
-		HZPY[15272] = (new short[] {
-			77
-		});
-		HZPY[15273] = (new short[] {
-			72
-		});
-		HZPY[15274] = (new short[] {
-			262, 263
-		});
-		HZPY[15275] = (new short[] {
-			242
-		});
-		HZPY[15276] = (new short[] {
-			131
-		});
-		HZPY[15277] = (new short[] {
-			205
-		});
-		HZPY[15278] = (new short[] {
-			252
-		});
-		HZPY[15279] = (new short[] {
-			102
-		});
-		HZPY[15280] = (new short[] {
-			266
-		});
-		HZPY[15281] = (new short[] {
-			391
-		});
-		HZPY[15282] = (new short[] {
-			137
-		});
-		HZPY[15283] = (new short[] {
-			106
-		});
-		HZPY[15284] = (new short[] {
-			62
-		});
-		HZPY[15285] = (new short[] {
-			133
-		});
-		HZPY[15286] = (new short[] {
-			189
-		});
-		HZPY[15287] = (new short[] {
-			266
-		});
-		HZPY[15288] = (new short[] {
-			133
-		});
-		HZPY[15289] = (new short[] {
-			345
-		});
-		HZPY[15290] = (new short[] {
-			143, 135
-		});
-		HZPY[15291] = (new short[] {
-			266
-		});
-		HZPY[15292] = (new short[] {
-			189
-		});
-		HZPY[15293] = (new short[] {
-			165
-		});
-		HZPY[15294] = (new short[] {
-			301
-		});
-		HZPY[15295] = (new short[] {
-			63
-		});
-		HZPY[15296] = (new short[] {
-			106
-		});
-		HZPY[15297] = (new short[] {
-			133, 352
-		});
-		HZPY[15298] = (new short[] {
-			106
-		});
-		HZPY[15299] = (new short[] {
-			365
-		});
-		HZPY[15300] = (new short[] {
-			108
-		});
-		HZPY[15301] = (new short[] {
-			200
-		});
-		HZPY[15302] = (new short[] {
-			303
-		});
-		HZPY[15303] = (new short[] {
-			31
-		});
-		HZPY[15304] = (new short[] {
-			165
-		});
-		HZPY[15305] = (new short[] {
-			143, 135
-		});
-		HZPY[15306] = (new short[] {
-			131
-		});
-		HZPY[15307] = (new short[] {
-			350
-		});
-		HZPY[15308] = (new short[] {
-			63
-		});
-		HZPY[15309] = (new short[] {
-			330
-		});
-		HZPY[15310] = (new short[] {
-			376
-		});
-		HZPY[15311] = (new short[] {
-			102
-		});
-		HZPY[15312] = (new short[] {
-			137
-		});
-		HZPY[15313] = (new short[] {
-			266
-		});
-		HZPY[15314] = (new short[] {
-			135, 143, 132
-		});
-		HZPY[15315] = (new short[] {
-			140
-		});
-		HZPY[15316] = (new short[] {
-			137
-		});
-		HZPY[15317] = (new short[] {
-			50
-		});
-		HZPY[15318] = (new short[] {
-			143
-		});
-		HZPY[15319] = (new short[] {
-			398
-		});
-		HZPY[15320] = (new short[] {
-			33
-		});
-		HZPY[15321] = (new short[] {
-			131
-		});
-		HZPY[15322] = (new short[] {
-			103
-		});
-		HZPY[15323] = (new short[] {
-			57
-		});
-		HZPY[15324] = (new short[] {
-			414, 409
-		});
-		HZPY[15325] = (new short[] {
-			63
-		});
-		HZPY[15326] = (new short[] {
-			297
-		});
-		HZPY[15327] = (new short[] {
-			124
-		});
-		HZPY[15328] = (new short[] {
-			267
-		});
-		HZPY[15329] = (new short[] {
-			97
-		});
-		HZPY[15330] = (new short[] {
-			398
-		});
-		HZPY[15331] = (new short[] {
-			136, 355
-		});
-		HZPY[15332] = (new short[] {
-			108
-		});
-		HZPY[15333] = (new short[] {
-			101
-		});
-		HZPY[15334] = (new short[] {
-			40
-		});
-		HZPY[15335] = (new short[] {
-			136, 355
-		});
-		HZPY[15336] = (new short[] {
-			126
-		});
-		HZPY[15337] = (new short[] {
-			265
-		});
-		HZPY[15338] = (new short[] {
-			357
-		});
-		HZPY[15339] = (new short[] {
-			316
-		});
-		HZPY[15340] = (new short[] {
-			221
-		});
-		HZPY[15341] = (new short[] {
-			131
-		});
-		HZPY[15342] = (new short[] {
-			183
-		});
-		HZPY[15343] = (new short[] {
-			398
-		});
-		HZPY[15344] = (new short[] {
-			401
-		});
-		HZPY[15345] = (new short[] {
-			13
-		});
-		HZPY[15346] = (new short[] {
-			357
-		});
-		HZPY[15347] = (new short[] {
-			123
-		});
-		HZPY[15348] = (new short[] {
-			297
-		});
-		HZPY[15349] = (new short[] {
-			101
-		});
-		HZPY[15350] = (new short[] {
-			398
-		});
-		HZPY[15351] = (new short[] {
-			362
-		});
-		HZPY[15352] = (new short[] {
-			40
-		});
-		HZPY[15353] = (new short[] {
-			350
-		});
-		HZPY[15354] = (new short[] {
-			369
-		});
-		HZPY[15355] = (new short[] {
-			171
-		});
-		HZPY[15356] = (new short[] {
-			143
-		});
-		HZPY[15357] = (new short[] {
-			350
-		});
-		HZPY[15358] = (new short[] {
-			365
-		});
-		HZPY[15359] = (new short[] {
-			350
-		});
-		HZPY[15360] = (new short[] {
-			365
-		});
-		HZPY[15361] = (new short[] {
-			365
-		});
-		HZPY[15362] = (new short[] {
-			68
-		});
-		HZPY[15363] = (new short[] {
-			91
-		});
-		HZPY[15364] = (new short[] {
-			265
-		});
-		HZPY[15365] = (new short[] {
-			265
-		});
-		HZPY[15366] = (new short[] {
-			135
-		});
-		HZPY[15367] = (new short[] {
-			121
-		});
-		HZPY[15368] = (new short[] {
-			131
-		});
-		HZPY[15369] = (new short[] {
-			84
-		});
-		HZPY[15370] = (new short[] {
-			363
-		});
-		HZPY[15371] = (new short[] {
-			66
-		});
-		HZPY[15372] = (new short[] {
-			121
-		});
-		HZPY[15373] = (new short[] {
-			29
-		});
-		HZPY[15374] = (new short[] {
-			325
-		});
-		HZPY[15375] = (new short[] {
-			360
-		});
-		HZPY[15376] = (new short[] {
-			136
-		});
-		HZPY[15377] = (new short[] {
-			369
-		});
-		HZPY[15378] = (new short[] {
-			276
-		});
-		HZPY[15379] = (new short[] {
-			363
-		});
-		HZPY[15380] = (new short[] {
-			371
-		});
-		HZPY[15381] = (new short[] {
-			296
-		});
-		HZPY[15382] = (new short[] {
-			256
-		});
-		HZPY[15383] = (new short[] {
-			340
-		});
-		HZPY[15384] = (new short[] {
-			131
-		});
-		HZPY[15385] = (new short[] {
-			363
-		});
-		HZPY[15386] = (new short[] {
-			371
-		});
-		HZPY[15387] = (new short[] {
-			77
-		});
-		HZPY[15388] = (new short[] {
-			87
-		});
-		HZPY[15389] = (new short[] {
-			364
-		});
-		HZPY[15390] = (new short[] {
-			367
-		});
-		HZPY[15391] = (new short[] {
-			314
-		});
-		HZPY[15392] = (new short[] {
-			301
-		});
-		HZPY[15393] = (new short[] {
-			371
-		});
-		HZPY[15394] = (new short[] {
-			356
-		});
-		HZPY[15395] = (new short[] {
-			143
-		});
-		HZPY[15396] = (new short[] {
-			354
-		});
-		HZPY[15397] = (new short[] {
-			216, 211
-		});
-		HZPY[15398] = (new short[] {
-			35
-		});
-		HZPY[15399] = (new short[] {
-			375
-		});
-		HZPY[15400] = (new short[] {
-			398
-		});
-		HZPY[15401] = (new short[] {
-			358
-		});
-		HZPY[15402] = (new short[] {
-			85
-		});
-		HZPY[15403] = (new short[] {
-			356
-		});
-		HZPY[15404] = (new short[] {
-			33
-		});
-		HZPY[15405] = (new short[] {
-			299
-		});
-		HZPY[15406] = (new short[] {
-			352
-		});
-		HZPY[15407] = (new short[] {
-			286
-		});
-		HZPY[15408] = (new short[] {
-			407
-		});
-		HZPY[15409] = (new short[] {
-			360, 123
-		});
-		HZPY[15410] = (new short[] {
-			369
-		});
-		HZPY[15411] = (new short[] {
-			369
-		});
-		HZPY[15412] = (new short[] {
-			316
-		});
-		HZPY[15413] = (new short[] {
-			37
-		});
-		HZPY[15414] = (new short[] {
-			116
-		});
-		HZPY[15415] = (new short[] {
-			301
-		});
-		HZPY[15416] = (new short[] {
-			116
-		});
-		HZPY[15417] = (new short[] {
-			360
-		});
-		HZPY[15418] = (new short[] {
-			396
-		});
-		HZPY[15419] = (new short[] {
-			401
-		});
-		HZPY[15420] = (new short[] {
-			397
-		});
-		HZPY[15421] = (new short[] {
-			102
-		});
-		HZPY[15422] = (new short[] {
-			409
-		});
-		HZPY[15423] = (new short[] {
-			409
-		});
-		HZPY[15424] = (new short[] {
-			391
-		});
-		HZPY[15425] = (new short[] {
-			103
-		});
-		HZPY[15426] = (new short[] {
-			91
-		});
-		HZPY[15427] = (new short[] {
-			133
-		});
-		HZPY[15428] = (new short[] {
-			67
-		});
-		HZPY[15429] = (new short[] {
-			178
-		});
-		HZPY[15430] = (new short[] {
-			63
-		});
-		HZPY[15431] = (new short[] {
-			366
-		});
-		HZPY[15432] = (new short[] {
-			171
-		});
-		HZPY[15433] = (new short[] {
-			215
-		});
-		HZPY[15434] = (new short[] {
-			241
-		});
-		HZPY[15435] = (new short[] {
-			400
-		});
-		HZPY[15436] = (new short[] {
-			94
-		});
-		HZPY[15437] = (new short[] {
-			303
-		});
-		HZPY[15438] = (new short[] {
-			141
-		});
-		HZPY[15439] = (new short[] {
-			4
-		});
-		HZPY[15440] = (new short[] {
-			389
-		});
-		HZPY[15441] = (new short[] {
-			340
-		});
-		HZPY[15442] = (new short[] {
-			369
-		});
-		HZPY[15443] = (new short[] {
-			266
-		});
-		HZPY[15444] = (new short[] {
-			393
-		});
-		HZPY[15445] = (new short[] {
-			252
-		});
-		HZPY[15446] = (new short[] {
-			13
-		});
-		HZPY[15447] = (new short[] {
-			358
-		});
-		HZPY[15448] = (new short[] {
-			40, 266
-		});
-		HZPY[15449] = (new short[] {
-			5
-		});
-		HZPY[15450] = (new short[] {
-			55
-		});
-		HZPY[15451] = (new short[] {
-			412
-		});
-		HZPY[15452] = (new short[] {
-			325
-		});
-		HZPY[15453] = (new short[] {
-			401
-		});
-		HZPY[15454] = (new short[] {
-			47
-		});
-		HZPY[15455] = (new short[] {
-			394
-		});
-		HZPY[15456] = (new short[] {
-			374
-		});
-		HZPY[15457] = (new short[] {
-			360
-		});
-		HZPY[15458] = (new short[] {
-			363
-		});
-		HZPY[15459] = (new short[] {
-			369
-		});
-		HZPY[15460] = (new short[] {
-			127
-		});
-		HZPY[15461] = (new short[] {
-			116
-		});
-		HZPY[15462] = (new short[] {
-			303
-		});
-		HZPY[15463] = (new short[] {
-			29
-		});
-		HZPY[15464] = (new short[] {
-			135
-		});
-		HZPY[15465] = (new short[] {
-			303
-		});
-		HZPY[15466] = (new short[] {
-			118
-		});
-		HZPY[15467] = (new short[] {
-			29
-		});
-		HZPY[15468] = (new short[] {
-			102
-		});
-		HZPY[15469] = (new short[] {
-			108
-		});
-		HZPY[15470] = (new short[] {
-			267
-		});
-		HZPY[15471] = (new short[] {
-			128
-		});
-		HZPY[15472] = (new short[] {
-			136
-		});
-		HZPY[15473] = (new short[] {
-			124
-		});
-		HZPY[15474] = (new short[] {
-			93
-		});
-		HZPY[15475] = (new short[] {
-			353
-		});
-		HZPY[15476] = (new short[] {
-			128
-		});
-		HZPY[15477] = (new short[] {
-			301
-		});
-		HZPY[15478] = (new short[] {
-			39
-		});
-		HZPY[15479] = (new short[] {
-			334
-		});
-		HZPY[15480] = (new short[] {
-			200
-		});
-		HZPY[15481] = (new short[] {
-			391
-		});
-		HZPY[15482] = (new short[] {
-			205
-		});
-		HZPY[15483] = (new short[] {
-			77
-		});
-		HZPY[15484] = (new short[] {
-			128
-		});
-		HZPY[15485] = (new short[] {
-			365
-		});
-		HZPY[15486] = (new short[] {
-			358
-		});
-		HZPY[15487] = (new short[] {
-			104
-		});
-		HZPY[15488] = (new short[] {
-			82
-		});
-		HZPY[15489] = (new short[] {
-			12
-		});
-		HZPY[15490] = (new short[] {
-			331, 66
-		});
-		HZPY[15491] = (new short[] {
-			37
-		});
-		HZPY[15492] = (new short[] {
-			169
-		});
-		HZPY[15493] = (new short[] {
-			401
-		});
-		HZPY[15494] = (new short[] {
-			159
-		});
-		HZPY[15495] = (new short[] {
-			156
-		});
-		HZPY[15496] = (new short[] {
-			349
-		});
-		HZPY[15497] = (new short[] {
-			376
-		});
-		HZPY[15498] = (new short[] {
-			328
-		});
-		HZPY[15499] = (new short[] {
-			131
-		});
-		HZPY[15500] = (new short[] {
-			398
-		});
-		HZPY[15501] = (new short[] {
-			276
-		});
-		HZPY[15502] = (new short[] {
-			316
-		});
-		HZPY[15503] = (new short[] {
-			166
-		});
-		HZPY[15504] = (new short[] {
-			77
-		});
-		HZPY[15505] = (new short[] {
-			159
-		});
-		HZPY[15506] = (new short[] {
-			78
-		});
-		HZPY[15507] = (new short[] {
-			303
-		});
-		HZPY[15508] = (new short[] {
-			333
-		});
-		HZPY[15509] = (new short[] {
-			57
-		});
-		HZPY[15510] = (new short[] {
-			10
-		});
-		HZPY[15511] = (new short[] {
-			31
-		});
-		HZPY[15512] = (new short[] {
-			375
-		});
-		HZPY[15513] = (new short[] {
-			119
-		});
-		HZPY[15514] = (new short[] {
-			260
-		});
-		HZPY[15515] = (new short[] {
-			262
-		});
-		HZPY[15516] = (new short[] {
-			306
-		});
-		HZPY[15517] = (new short[] {
-			2
-		});
-		HZPY[15518] = (new short[] {
-			376
-		});
-		HZPY[15519] = (new short[] {
-			354
-		});
-		HZPY[15520] = (new short[] {
-			36
-		});
-		HZPY[15521] = (new short[] {
-			136
-		});
-		HZPY[15522] = (new short[] {
-			352
-		});
-		HZPY[15523] = (new short[] {
-			349
-		});
-		HZPY[15524] = (new short[] {
-			349
-		});
-		HZPY[15525] = (new short[] {
-			96
-		});
-		HZPY[15526] = (new short[] {
-			314
-		});
-		HZPY[15527] = (new short[] {
-			255
-		});
-		HZPY[15528] = (new short[] {
-			128
-		});
-		HZPY[15529] = (new short[] {
-			138
-		});
-		HZPY[15530] = (new short[] {
-			312, 310, 378
-		});
-		HZPY[15531] = (new short[] {
-			396
-		});
-		HZPY[15532] = (new short[] {
-			312, 310, 378
-		});
-		HZPY[15533] = (new short[] {
-			72, 71
-		});
-		HZPY[15534] = (new short[] {
-			229
-		});
-		HZPY[15535] = (new short[] {
-			32
-		});
-		HZPY[15536] = (new short[] {
-			310, 300
-		});
-		HZPY[15537] = (new short[] {
-			136
-		});
-		HZPY[15538] = (new short[] {
-			150
-		});
-		HZPY[15539] = (new short[] {
-			266
-		});
-		HZPY[15540] = (new short[] {
-			48
-		});
-		HZPY[15541] = (new short[] {
-			354
-		});
-		HZPY[15542] = (new short[] {
-			318
-		});
-		HZPY[15543] = (new short[] {
-			344
-		});
-		HZPY[15544] = (new short[] {
-			361
-		});
-		HZPY[15545] = (new short[] {
-			86
-		});
-		HZPY[15546] = (new short[] {
-			37
-		});
-		HZPY[15547] = (new short[] {
-			321
-		});
-		HZPY[15548] = (new short[] {
-			369
-		});
-		HZPY[15549] = (new short[] {
-			211
-		});
-		HZPY[15550] = (new short[] {
-			371
-		});
-		HZPY[15551] = (new short[] {
-			66, 331
-		});
-		HZPY[15552] = (new short[] {
-			247
-		});
-		HZPY[15553] = (new short[] {
-			46
-		});
-		HZPY[15554] = (new short[] {
-			31
-		});
-		HZPY[15555] = (new short[] {
-			35
-		});
-		HZPY[15556] = (new short[] {
-			407
-		});
-		HZPY[15557] = (new short[] {
-			131
-		});
-		HZPY[15558] = (new short[] {
-			256
-		});
-		HZPY[15559] = (new short[] {
-			323
-		});
-		HZPY[15560] = (new short[] {
-			44
-		});
-		HZPY[15561] = (new short[] {
-			345
-		});
-		HZPY[15562] = (new short[] {
-			141
-		});
-		HZPY[15563] = (new short[] {
-			263
-		});
-		HZPY[15564] = (new short[] {
-			133
-		});
-		HZPY[15565] = (new short[] {
-			397
-		});
-		HZPY[15566] = (new short[] {
-			385
-		});
-		HZPY[15567] = (new short[] {
-			411
-		});
-		HZPY[15568] = (new short[] {
-			258
-		});
-		HZPY[15569] = (new short[] {
-			408
-		});
-		HZPY[15570] = (new short[] {
-			174
-		});
-		HZPY[15571] = (new short[] {
-			133
-		});
-		HZPY[15572] = (new short[] {
-			401
-		});
-		HZPY[15573] = (new short[] {
-			115
-		});
-		HZPY[15574] = (new short[] {
-			188
-		});
-		HZPY[15575] = (new short[] {
-			301
-		});
-		HZPY[15576] = (new short[] {
-			15
-		});
-		HZPY[15577] = (new short[] {
-			125
-		});
-		HZPY[15578] = (new short[] {
-			248
-		});
-		HZPY[15579] = (new short[] {
-			376
-		});
-		HZPY[15580] = (new short[] {
-			67
-		});
-		HZPY[15581] = (new short[] {
-			360
-		});
-		HZPY[15582] = (new short[] {
-			248
-		});
-		HZPY[15583] = (new short[] {
-			303
-		});
-		HZPY[15584] = (new short[] {
-			361
-		});
-		HZPY[15585] = (new short[] {
-			303
-		});
-		HZPY[15586] = (new short[] {
-			129
-		});
-		HZPY[15587] = (new short[] {
-			124
-		});
-		HZPY[15588] = (new short[] {
-			77
-		});
-		HZPY[15589] = (new short[] {
-			399
-		});
-		HZPY[15590] = (new short[] {
-			63
-		});
-		HZPY[15591] = (new short[] {
-			355
-		});
-		HZPY[15592] = (new short[] {
-			91
-		});
-		HZPY[15593] = (new short[] {
-			255
-		});
-		HZPY[15594] = (new short[] {
-			333
-		});
-		HZPY[15595] = (new short[] {
-			133
-		});
-		HZPY[15596] = (new short[] {
-			256
-		});
-		HZPY[15597] = (new short[] {
-			376
-		});
-		HZPY[15598] = (new short[] {
-			409
-		});
-		HZPY[15599] = (new short[] {
-			42
-		});
-		HZPY[15600] = (new short[] {
-			350
-		});
-		HZPY[15601] = (new short[] {
-			128
-		});
-		HZPY[15602] = (new short[] {
-			371
-		});
-		HZPY[15603] = (new short[] {
-			2
-		});
-		HZPY[15604] = (new short[] {
-			352
-		});
-		HZPY[15605] = (new short[] {
-			213
-		});
-		HZPY[15606] = (new short[] {
-			35
-		});
-		HZPY[15607] = (new short[] {
-			88
-		});
-		HZPY[15608] = (new short[] {
-			401
-		});
-		HZPY[15609] = (new short[] {
-			366
-		});
-		HZPY[15610] = (new short[] {
-			365
-		});
-		HZPY[15611] = (new short[] {
-			119
-		});
-		HZPY[15612] = (new short[] {
-			361
-		});
-		HZPY[15613] = (new short[] {
-			97
-		});
-		HZPY[15614] = (new short[] {
-			236
-		});
-		HZPY[15615] = (new short[] {
-			256
-		});
-		HZPY[15616] = (new short[] {
-			208
-		});
-		HZPY[15617] = (new short[] {
-			368
-		});
-		HZPY[15618] = (new short[] {
-			345
-		});
-		HZPY[15619] = (new short[] {
-			229
-		});
-		HZPY[15620] = (new short[] {
-			328
-		});
-		HZPY[15621] = (new short[] {
-			411, 400
-		});
-		HZPY[15622] = (new short[] {
-			296
-		});
-		HZPY[15623] = (new short[] {
-			133
-		});
-		HZPY[15624] = (new short[] {
-			19
-		});
-		HZPY[15625] = (new short[] {
-			229
-		});
-		HZPY[15626] = (new short[] {
-			127
-		});
-		HZPY[15627] = (new short[] {
-			130
-		});
-		HZPY[15628] = (new short[] {
-			97
-		});
-		HZPY[15629] = (new short[] {
-			372
-		});
-		HZPY[15630] = (new short[] {
-			200, 197
-		});
-		HZPY[15631] = (new short[] {
-			354, 315
-		});
-		HZPY[15632] = (new short[] {
-			200
-		});
-		HZPY[15633] = (new short[] {
-			350
-		});
-		HZPY[15634] = (new short[] {
-			259
-		});
-		HZPY[15635] = (new short[] {
-			35
-		});
-		HZPY[15636] = (new short[] {
-			234, 362
-		});
-		HZPY[15637] = (new short[] {
-			313
-		});
-		HZPY[15638] = (new short[] {
-			316
-		});
-		HZPY[15639] = (new short[] {
-			8
-		});
-		HZPY[15640] = (new short[] {
-			37
-		});
-		HZPY[15641] = (new short[] {
-			258
-		});
-		HZPY[15642] = (new short[] {
-			303, 369
-		});
-		HZPY[15643] = (new short[] {
-			134
-		});
-		HZPY[15644] = (new short[] {
-			377
-		});
-		HZPY[15645] = (new short[] {
-			355
-		});
-		HZPY[15646] = (new short[] {
-			362
-		});
-		HZPY[15647] = (new short[] {
-			325
-		});
-		HZPY[15648] = (new short[] {
-			367
-		});
-		HZPY[15649] = (new short[] {
-			367
-		});
-		HZPY[15650] = (new short[] {
-			123
-		});
-		HZPY[15651] = (new short[] {
-			376
-		});
-		HZPY[15652] = (new short[] {
-			15
-		});
-		HZPY[15653] = (new short[] {
-			48
-		});
-		HZPY[15654] = (new short[] {
-			263
-		});
-		HZPY[15655] = (new short[] {
-			171
-		});
-		HZPY[15656] = (new short[] {
-			207
-		});
-		HZPY[15657] = (new short[] {
-			207
-		});
-		HZPY[15658] = (new short[] {
-			297
-		});
-		HZPY[15659] = (new short[] {
-			394
-		});
-		HZPY[15660] = (new short[] {
-			206
-		});
-		HZPY[15661] = (new short[] {
-			133
-		});
-		HZPY[15662] = (new short[] {
-			385
-		});
-		HZPY[15663] = (new short[] {
-			389
-		});
-		HZPY[15664] = (new short[] {
-			173
-		});
-		HZPY[15665] = (new short[] {
-			182
-		});
-		HZPY[15666] = (new short[] {
-			23
-		});
-		HZPY[15667] = (new short[] {
-			238
-		});
-		HZPY[15668] = (new short[] {
-			106
-		});
-		HZPY[15669] = (new short[] {
-			350
-		});
-		HZPY[15670] = (new short[] {
-			408
-		});
-		HZPY[15671] = (new short[] {
-			4
-		});
-		HZPY[15672] = (new short[] {
-			4
-		});
-		HZPY[15673] = (new short[] {
-			137
-		});
-		HZPY[15674] = (new short[] {
-			394
-		});
-		HZPY[15675] = (new short[] {
-			369
-		});
-		HZPY[15676] = (new short[] {
-			123
-		});
-		HZPY[15677] = (new short[] {
-			134
-		});
-		HZPY[15678] = (new short[] {
-			193
-		});
-		HZPY[15679] = (new short[] {
-			33
-		});
-		HZPY[15680] = (new short[] {
-			113
-		});
-		HZPY[15681] = (new short[] {
-			124
-		});
-		HZPY[15682] = (new short[] {
-			31
-		});
-		HZPY[15683] = (new short[] {
-			360
-		});
-		HZPY[15684] = (new short[] {
-			388
-		});
-		HZPY[15685] = (new short[] {
-			291
-		});
-		HZPY[15686] = (new short[] {
-			350
-		});
-		HZPY[15687] = (new short[] {
-			299
-		});
-		HZPY[15688] = (new short[] {
-			74
-		});
-		HZPY[15689] = (new short[] {
-			397
-		});
-		HZPY[15690] = (new short[] {
-			215
-		});
-		HZPY[15691] = (new short[] {
-			165
-		});
-		HZPY[15692] = (new short[] {
-			77
-		});
-		HZPY[15693] = (new short[] {
-			372
-		});
-		HZPY[15694] = (new short[] {
-			143
-		});
-		HZPY[15695] = (new short[] {
-			131
-		});
-		HZPY[15696] = (new short[] {
-			415
-		});
-		HZPY[15697] = (new short[] {
-			135
-		});
-		HZPY[15698] = (new short[] {
-			19
-		});
-		HZPY[15699] = (new short[] {
-			128
-		});
-		HZPY[15700] = (new short[] {
-			404
-		});
-		HZPY[15701] = (new short[] {
-			349
-		});
-		HZPY[15702] = (new short[] {
-			133, 387
-		});
-		HZPY[15703] = (new short[] {
-			389
-		});
-		HZPY[15704] = (new short[] {
-			303, 398
-		});
-		HZPY[15705] = (new short[] {
-			260
-		});
-		HZPY[15706] = (new short[] {
-			323
-		});
-		HZPY[15707] = (new short[] {
-			387
-		});
-		HZPY[15708] = (new short[] {
-			255
-		});
-		HZPY[15709] = (new short[] {
-			302
-		});
-		HZPY[15710] = (new short[] {
-			361
-		});
-		HZPY[15711] = (new short[] {
-			384
-		});
-		HZPY[15712] = (new short[] {
-			391
-		});
-		HZPY[15713] = (new short[] {
-			58
-		});
-		HZPY[15714] = (new short[] {
-			318
-		});
-		HZPY[15715] = (new short[] {
-			258
-		});
-		HZPY[15716] = (new short[] {
-			131
-		});
-		HZPY[15717] = (new short[] {
-			135
-		});
-		HZPY[15718] = (new short[] {
-			138
-		});
-		HZPY[15719] = (new short[] {
-			173
-		});
-		HZPY[15720] = (new short[] {
-			231
-		});
-		HZPY[15721] = (new short[] {
-			369
-		});
-		HZPY[15722] = (new short[] {
-			1
-		});
-		HZPY[15723] = (new short[] {
-			391
-		});
-		HZPY[15724] = (new short[] {
-			247
-		});
-		HZPY[15725] = (new short[] {
-			128
-		});
-		HZPY[15726] = (new short[] {
-			124
-		});
-		HZPY[15727] = (new short[] {
-			369
-		});
-		HZPY[15728] = (new short[] {
-			369
-		});
-		HZPY[15729] = (new short[] {
-			296
-		});
-		HZPY[15730] = (new short[] {
-			273
-		});
-		HZPY[15731] = (new short[] {
-			231
-		});
-		HZPY[15732] = (new short[] {
-			258
-		});
-		HZPY[15733] = (new short[] {
-			406
-		});
-		HZPY[15734] = (new short[] {
-			321
-		});
-		HZPY[15735] = (new short[] {
-			123
-		});
-		HZPY[15736] = (new short[] {
-			400
-		});
-		HZPY[15737] = (new short[] {
-			115
-		});
-		HZPY[15738] = (new short[] {
-			221
-		});
-		HZPY[15739] = (new short[] {
-			372
-		});
-		HZPY[15740] = (new short[] {
-			133
-		});
-		HZPY[15741] = (new short[] {
-			376
-		});
-		HZPY[15742] = (new short[] {
-			133
-		});
-		HZPY[15743] = (new short[] {
-			128
-		});
-		HZPY[15744] = (new short[] {
-			72, 71
-		});
-		HZPY[15745] = (new short[] {
-			394
-		});
-		HZPY[15746] = (new short[] {
-			361
-		});
-		HZPY[15747] = (new short[] {
-			382
-		});
-		HZPY[15748] = (new short[] {
-			169
-		});
-		HZPY[15749] = (new short[] {
-			301
-		});
-		HZPY[15750] = (new short[] {
-			345
-		});
-		HZPY[15751] = (new short[] {
-			31
-		});
-		HZPY[15752] = (new short[] {
-			171
-		});
-		HZPY[15753] = (new short[] {
-			369
-		});
-		HZPY[15754] = (new short[] {
-			14
-		});
-		HZPY[15755] = (new short[] {
-			394
-		});
-		HZPY[15756] = (new short[] {
-			365
-		});
-		HZPY[15757] = (new short[] {
-			77
-		});
-		HZPY[15758] = (new short[] {
-			39
-		});
-		HZPY[15759] = (new short[] {
-			345
-		});
-		HZPY[15760] = (new short[] {
-			39
-		});
-		HZPY[15761] = (new short[] {
-			367
-		});
-		HZPY[15762] = (new short[] {
-			31
-		});
-		HZPY[15763] = (new short[] {
-			273
-		});
-		HZPY[15764] = (new short[] {
-			371
-		});
-		HZPY[15765] = (new short[] {
-			165
-		});
-		HZPY[15766] = (new short[] {
-			35
-		});
-		HZPY[15767] = (new short[] {
-			130
-		});
-		HZPY[15768] = (new short[] {
-			394
-		});
-		HZPY[15769] = (new short[] {
-			126
-		});
-		HZPY[15770] = (new short[] {
-			382
-		});
-		HZPY[15771] = (new short[] {
-			369
-		});
-		HZPY[15772] = (new short[] {
-			58
-		});
-		HZPY[15773] = (new short[] {
-			391
-		});
-		HZPY[15774] = (new short[] {
-			365
-		});
-		HZPY[15775] = (new short[] {
-			72
-		});
-		HZPY[15776] = (new short[] {
-			365
-		});
-		HZPY[15777] = (new short[] {
-			131
-		});
-		HZPY[15778] = (new short[] {
-			68
-		});
-		HZPY[15779] = (new short[] {
-			91
-		});
-		HZPY[15780] = (new short[] {
-			276
-		});
-		HZPY[15781] = (new short[] {
-			131
-		});
-		HZPY[15782] = (new short[] {
-			136
-		});
-		HZPY[15783] = (new short[] {
-			121
-		});
-		HZPY[15784] = (new short[] {
-			325
-		});
-		HZPY[15785] = (new short[] {
-			273
-		});
-		HZPY[15786] = (new short[] {
-			296
-		});
-		HZPY[15787] = (new short[] {
-			256
-		});
-		HZPY[15788] = (new short[] {
-			340
-		});
-		HZPY[15789] = (new short[] {
-			363
-		});
-		HZPY[15790] = (new short[] {
-			369
-		});
-		HZPY[15791] = (new short[] {
-			363
-		});
-		HZPY[15792] = (new short[] {
-			131
-		});
-		HZPY[15793] = (new short[] {
-			276
-		});
-		HZPY[15794] = (new short[] {
-			134
-		});
-		HZPY[15795] = (new short[] {
-			128
-		});
-		HZPY[15796] = (new short[] {
-			238
-		});
-		HZPY[15797] = (new short[] {
-			141
-		});
-		HZPY[15798] = (new short[] {
-			364
-		});
-		HZPY[15799] = (new short[] {
-			216
-		});
-		HZPY[15800] = (new short[] {
-			360
-		});
-		HZPY[15801] = (new short[] {
-			77
-		});
-		HZPY[15802] = (new short[] {
-			188
-		});
-		HZPY[15803] = (new short[] {
-			358
-		});
-		HZPY[15804] = (new short[] {
-			314
-		});
-		HZPY[15805] = (new short[] {
-			88
-		});
-		HZPY[15806] = (new short[] {
-			299
-		});
-		HZPY[15807] = (new short[] {
-			85
-		});
-		HZPY[15808] = (new short[] {
-			143
-		});
-		HZPY[15809] = (new short[] {
-			397
-		});
-		HZPY[15810] = (new short[] {
-			103
-		});
-		HZPY[15811] = (new short[] {
-			116
-		});
-		HZPY[15812] = (new short[] {
-			252
-		});
-		HZPY[15813] = (new short[] {
-			412
-		});
-		HZPY[15814] = (new short[] {
-			303, 398
-		});
-		HZPY[15815] = (new short[] {
-			358
-		});
-		HZPY[15816] = (new short[] {
-			389
-		});
-		HZPY[15817] = (new short[] {
-			316
-		});
-		HZPY[15818] = (new short[] {
-			396
-		});
-		HZPY[15819] = (new short[] {
-			63
-		});
-		HZPY[15820] = (new short[] {
-			400
-		});
-		HZPY[15821] = (new short[] {
-			47
-		});
-		HZPY[15822] = (new short[] {
-			266
-		});
-		HZPY[15823] = (new short[] {
-			393
-		});
-		HZPY[15824] = (new short[] {
-			13
-		});
-		HZPY[15825] = (new short[] {
-			369
-		});
-		HZPY[15826] = (new short[] {
-			369
-		});
-		HZPY[15827] = (new short[] {
-			159
-		});
-		HZPY[15828] = (new short[] {
-			169
-		});
-		HZPY[15829] = (new short[] {
-			303
-		});
-		HZPY[15830] = (new short[] {
-			104
-		});
-		HZPY[15831] = (new short[] {
-			303
-		});
-		HZPY[15832] = (new short[] {
-			136, 131
-		});
-		HZPY[15833] = (new short[] {
-			128
-		});
-		HZPY[15834] = (new short[] {
-			36
-		});
-		HZPY[15835] = (new short[] {
-			401
-		});
-		HZPY[15836] = (new short[] {
-			301
-		});
-		HZPY[15837] = (new short[] {
-			124
-		});
-		HZPY[15838] = (new short[] {
-			57
-		});
-		HZPY[15839] = (new short[] {
-			102
-		});
-		HZPY[15840] = (new short[] {
-			267
-		});
-		HZPY[15841] = (new short[] {
-			108
-		});
-		HZPY[15842] = (new short[] {
-			363
-		});
-		HZPY[15843] = (new short[] {
-			369
-		});
-		HZPY[15844] = (new short[] {
-			397
-		});
-		HZPY[15845] = (new short[] {
-			93
-		});
-		HZPY[15846] = (new short[] {
-			353
-		});
-		HZPY[15847] = (new short[] {
-			29
-		});
-		HZPY[15848] = (new short[] {
-			129
-		});
-		HZPY[15849] = (new short[] {
-			360
-		});
-		HZPY[15850] = (new short[] {
-			400
-		});
-		HZPY[15851] = (new short[] {
-			136
-		});
-		HZPY[15852] = (new short[] {
-			349
-		});
-		HZPY[15853] = (new short[] {
-			376
-		});
-		HZPY[15854] = (new short[] {
-			260
-		});
-		HZPY[15855] = (new short[] {
-			349
-		});
-		HZPY[15856] = (new short[] {
-			96
-		});
-		HZPY[15857] = (new short[] {
-			375
-		});
-		HZPY[15858] = (new short[] {
-			128
-		});
-		HZPY[15859] = (new short[] {
-			159
-		});
-		HZPY[15860] = (new short[] {
-			312, 310, 378
-		});
-		HZPY[15861] = (new short[] {
-			314
-		});
-		HZPY[15862] = (new short[] {
-			79, 1, 78
-		});
-		HZPY[15863] = (new short[] {
-			263
-		});
-		HZPY[15864] = (new short[] {
-			401
-		});
-		HZPY[15865] = (new short[] {
-			411
-		});
-		HZPY[15866] = (new short[] {
-			236
-		});
-		HZPY[15867] = (new short[] {
-			72, 71
-		});
-		HZPY[15868] = (new short[] {
-			408
-		});
-		HZPY[15869] = (new short[] {
-			86
-		});
-		HZPY[15870] = (new short[] {
-			150
-		});
-		HZPY[15871] = (new short[] {
-			345
-		});
-		HZPY[15872] = (new short[] {
-			376
-		});
-		HZPY[15873] = (new short[] {
-			300, 310
-		});
-		HZPY[15874] = (new short[] {
-			301
-		});
-		HZPY[15875] = (new short[] {
-			66, 331
-		});
-		HZPY[15876] = (new short[] {
-			31
-		});
-		HZPY[15877] = (new short[] {
-			174
-		});
-		HZPY[15878] = (new short[] {
-			407
-		});
-		HZPY[15879] = (new short[] {
-			318
-		});
-		HZPY[15880] = (new short[] {
-			323
-		});
-		HZPY[15881] = (new short[] {
-			301
-		});
-		HZPY[15882] = (new short[] {
-			369
-		});
-		HZPY[15883] = (new short[] {
-			208
-		});
-		HZPY[15884] = (new short[] {
-			35
-		});
-		HZPY[15885] = (new short[] {
-			67
-		});
-		HZPY[15886] = (new short[] {
-			127
-		});
-		HZPY[15887] = (new short[] {
-			133
-		});
-		HZPY[15888] = (new short[] {
-			355
-		});
-		HZPY[15889] = (new short[] {
-			362
-		});
-		HZPY[15890] = (new short[] {
-			368
-		});
-		HZPY[15891] = (new short[] {
-			345
-		});
-		HZPY[15892] = (new short[] {
-			77
-		});
-		HZPY[15893] = (new short[] {
-			376
-		});
-		HZPY[15894] = (new short[] {
-			361
-		});
-		HZPY[15895] = (new short[] {
-			31
-		});
-		HZPY[15896] = (new short[] {
-			409
-		});
-		HZPY[15897] = (new short[] {
-			2
-		});
-		HZPY[15898] = (new short[] {
-			365
-		});
-		HZPY[15899] = (new short[] {
-			63
-		});
-		HZPY[15900] = (new short[] {
-			200, 197
-		});
-		HZPY[15901] = (new short[] {
-			248
-		});
-		HZPY[15902] = (new short[] {
-			360
-		});
-		HZPY[15903] = (new short[] {
-			207
-		});
-		HZPY[15904] = (new short[] {
-			58
-		});
-		HZPY[15905] = (new short[] {
-			316
-		});
-		HZPY[15906] = (new short[] {
-			355
-		});
-		HZPY[15907] = (new short[] {
-			367
-		});
-		HZPY[15908] = (new short[] {
-			8
-		});
-		HZPY[15909] = (new short[] {
-			303
-		});
-		HZPY[15910] = (new short[] {
-			258
-		});
-		HZPY[15911] = (new short[] {
-			200
-		});
-		HZPY[15912] = (new short[] {
-			137
-		});
-		HZPY[15913] = (new short[] {
-			193
-		});
-		HZPY[15914] = (new short[] {
-			394
-		});
-		HZPY[15915] = (new short[] {
-			133
-		});
-		HZPY[15916] = (new short[] {
-			206
-		});
-		HZPY[15917] = (new short[] {
-			323
-		});
-		HZPY[15918] = (new short[] {
-			133, 387
-		});
-		HZPY[15919] = (new short[] {
-			260
-		});
-		HZPY[15920] = (new short[] {
-			165
-		});
-		HZPY[15921] = (new short[] {
-			255
-		});
-		HZPY[15922] = (new short[] {
-			143
-		});
-		HZPY[15923] = (new short[] {
-			365
-		});
-		HZPY[15924] = (new short[] {
-			258
-		});
-		HZPY[15925] = (new short[] {
-			391
-		});
-		HZPY[15926] = (new short[] {
-			35
-		});
-		HZPY[15927] = (new short[] {
-			103, 376
-		});
-		HZPY[15928] = (new short[] {
-			258
-		});
-		HZPY[15929] = (new short[] {
-			121
-		});
-		HZPY[15930] = (new short[] {
-			364
-		});
-		HZPY[15931] = (new short[] {
-			143
-		});
-		HZPY[15932] = (new short[] {
-			121
-		});
-		HZPY[15933] = (new short[] {
-			113
-		});
-		HZPY[15934] = (new short[] {
-			121
-		});
-		HZPY[15935] = (new short[] {
-			256, 350
-		});
-		HZPY[15936] = (new short[] {
-			350
-		});
-		HZPY[15937] = (new short[] {
-			130, 124
-		});
-		HZPY[15938] = (new short[] {
-			175
-		});
-		HZPY[15939] = (new short[] {
-			113
-		});
-		HZPY[15940] = (new short[] {
-			72
-		});
-		HZPY[15941] = (new short[] {
-			181
-		});
-		HZPY[15942] = (new short[] {
-			71
-		});
-		HZPY[15943] = (new short[] {
-			134
-		});
-		HZPY[15944] = (new short[] {
-			256, 146
-		});
-		HZPY[15945] = (new short[] {
-			37
-		});
-		HZPY[15946] = (new short[] {
-			88, 171
-		});
-		HZPY[15947] = (new short[] {
-			62
-		});
-		HZPY[15948] = (new short[] {
-			343
-		});
-		HZPY[15949] = (new short[] {
-			13
-		});
-		HZPY[15950] = (new short[] {
-			305
-		});
-		HZPY[15951] = (new short[] {
-			352
-		});
-		HZPY[15952] = (new short[] {
-			88
-		});
-		HZPY[15953] = (new short[] {
-			398
-		});
-		HZPY[15954] = (new short[] {
-			398
-		});
-		HZPY[15955] = (new short[] {
-			365
-		});
-		HZPY[15956] = (new short[] {
-			365
-		});
-		HZPY[15957] = (new short[] {
-			303
-		});
-		HZPY[15958] = (new short[] {
-			40
-		});
-		HZPY[15959] = (new short[] {
-			128
-		});
-		HZPY[15960] = (new short[] {
-			339
-		});
-		HZPY[15961] = (new short[] {
-			369
-		});
-		HZPY[15962] = (new short[] {
-			339
-		});
-		HZPY[15963] = (new short[] {
-			369
-		});
-		HZPY[15964] = (new short[] {
-			133
-		});
-		HZPY[15965] = (new short[] {
-			5
-		});
-		HZPY[15966] = (new short[] {
-			122
-		});
-		HZPY[15967] = (new short[] {
-			77
-		});
-		HZPY[15968] = (new short[] {
-			50
-		});
-		HZPY[15969] = (new short[] {
-			353
-		});
-		HZPY[15970] = (new short[] {
-			126
-		});
-		HZPY[15971] = (new short[] {
-			133
-		});
-		HZPY[15972] = (new short[] {
-			151
-		});
-		HZPY[15973] = (new short[] {
-			93
-		});
-		HZPY[15974] = (new short[] {
-			266
-		});
-		HZPY[15975] = (new short[] {
-			91
-		});
-		HZPY[15976] = (new short[] {
-			350
-		});
-		HZPY[15977] = (new short[] {
-			17
-		});
-		HZPY[15978] = (new short[] {
-			115
-		});
-		HZPY[15979] = (new short[] {
-			376
-		});
-		HZPY[15980] = (new short[] {
-			401
-		});
-		HZPY[15981] = (new short[] {
-			132
-		});
-		HZPY[15982] = (new short[] {
-			87
-		});
-		HZPY[15983] = (new short[] {
-			350
-		});
-		HZPY[15984] = (new short[] {
-			123
-		});
-		HZPY[15985] = (new short[] {
-			346
-		});
-		HZPY[15986] = (new short[] {
-			126
-		});
-		HZPY[15987] = (new short[] {
-			17
-		});
-		HZPY[15988] = (new short[] {
-			63
-		});
-		HZPY[15989] = (new short[] {
-			410
-		});
-		HZPY[15990] = (new short[] {
-			87
-		});
-		HZPY[15991] = (new short[] {
-			369
-		});
-		HZPY[15992] = (new short[] {
-			398
-		});
-		HZPY[15993] = (new short[] {
-			9
-		});
-		HZPY[15994] = (new short[] {
-			30
-		});
-		HZPY[15995] = (new short[] {
-			113, 2
-		});
-		HZPY[15996] = (new short[] {
-			247
-		});
-		HZPY[15997] = (new short[] {
-			211
-		});
-		HZPY[15998] = (new short[] {
-			247
-		});
-		HZPY[15999] = (new short[] {
-			102
-		});
-		HZPY[16000] = (new short[] {
-			76
-		});
-		HZPY[16001] = (new short[] {
-			375
-		});
-		HZPY[16002] = (new short[] {
-			66
-		});
-		HZPY[16003] = (new short[] {
-			207
-		});
-		HZPY[16004] = (new short[] {
-			313
-		});
-		HZPY[16005] = (new short[] {
-			359
-		});
-		HZPY[16006] = (new short[] {
-			126
-		});
-		HZPY[16007] = (new short[] {
-			161
-		});
-		HZPY[16008] = (new short[] {
-			116
-		});
-		HZPY[16009] = (new short[] {
-			116, 115, 207
-		});
-		HZPY[16010] = (new short[] {
-			207
-		});
-		HZPY[16011] = (new short[] {
-			2
-		});
-		HZPY[16012] = (new short[] {
-			195
-		});
-		HZPY[16013] = (new short[] {
-			171
-		});
-		HZPY[16014] = (new short[] {
-			221
-		});
-		HZPY[16015] = (new short[] {
-			13
-		});
-		HZPY[16016] = (new short[] {
-			376
-		});
-		HZPY[16017] = (new short[] {
-			132
-		});
-		HZPY[16018] = (new short[] {
-			337
-		});
-		HZPY[16019] = (new short[] {
-			195
-		});
-		HZPY[16020] = (new short[] {
-			247
-		});
-		HZPY[16021] = (new short[] {
-			350
-		});
-		HZPY[16022] = (new short[] {
-			77
-		});
-		HZPY[16023] = (new short[] {
-			141
-		});
-		HZPY[16024] = (new short[] {
-			207
-		});
-		HZPY[16025] = (new short[] {
-			40
-		});
-		HZPY[16026] = (new short[] {
-			323
-		});
-		HZPY[16027] = (new short[] {
-			126
-		});
-		HZPY[16028] = (new short[] {
-			266
-		});
-		HZPY[16029] = (new short[] {
-			10
-		});
-		HZPY[16030] = (new short[] {
-			396
-		});
-		HZPY[16031] = (new short[] {
-			377, 379
-		});
-		HZPY[16032] = (new short[] {
-			91
-		});
-		HZPY[16033] = (new short[] {
-			22
-		});
-		HZPY[16034] = (new short[] {
-			101
-		});
-		HZPY[16035] = (new short[] {
-			326
-		});
-		HZPY[16036] = (new short[] {
-			369
-		});
-		HZPY[16037] = (new short[] {
-			114
-		});
-		HZPY[16038] = (new short[] {
-			343
-		});
-		HZPY[16039] = (new short[] {
-			251
-		});
-		HZPY[16040] = (new short[] {
-			130
-		});
-		HZPY[16041] = (new short[] {
-			84
-		});
-		HZPY[16042] = (new short[] {
-			323
-		});
-		HZPY[16043] = (new short[] {
-			106
-		});
-		HZPY[16044] = (new short[] {
-			385, 390
-		});
-		HZPY[16045] = (new short[] {
-			398
-		});
-		HZPY[16046] = (new short[] {
-			82
-		});
-		HZPY[16047] = (new short[] {
-			401
-		});
-		HZPY[16048] = (new short[] {
-			303
-		});
-		HZPY[16049] = (new short[] {
-			13
-		});
-		HZPY[16050] = (new short[] {
-			409
-		});
-		HZPY[16051] = (new short[] {
-			82
-		});
-		HZPY[16052] = (new short[] {
-			108
-		});
-		HZPY[16053] = (new short[] {
-			248
-		});
-		HZPY[16054] = (new short[] {
-			14
-		});
-		HZPY[16055] = (new short[] {
-			192
-		});
-		HZPY[16056] = (new short[] {
-			56
-		});
-		HZPY[16057] = (new short[] {
-			302
-		});
-		HZPY[16058] = (new short[] {
-			159
-		});
-		HZPY[16059] = (new short[] {
-			86
-		});
-		HZPY[16060] = (new short[] {
-			332
-		});
-		HZPY[16061] = (new short[] {
-			369
-		});
-		HZPY[16062] = (new short[] {
-			37
-		});
-		HZPY[16063] = (new short[] {
-			195
-		});
-		HZPY[16064] = (new short[] {
-			116
-		});
-		HZPY[16065] = (new short[] {
-			13, 11
-		});
-		HZPY[16066] = (new short[] {
-			183
-		});
-		HZPY[16067] = (new short[] {
-			177, 276
-		});
-		HZPY[16068] = (new short[] {
-			128
-		});
-		HZPY[16069] = (new short[] {
-			93
-		});
-		HZPY[16070] = (new short[] {
-			248
-		});
-		HZPY[16071] = (new short[] {
-			409
-		});
-		HZPY[16072] = (new short[] {
-			132, 103
-		});
-		HZPY[16073] = (new short[] {
-			360
-		});
-		HZPY[16074] = (new short[] {
-			386, 385
-		});
-		HZPY[16075] = (new short[] {
-			135
-		});
-		HZPY[16076] = (new short[] {
-			93
-		});
-		HZPY[16077] = (new short[] {
-			383
-		});
-		HZPY[16078] = (new short[] {
-			133
-		});
-		HZPY[16079] = (new short[] {
-			372
-		});
-		HZPY[16080] = (new short[] {
-			363
-		});
-		HZPY[16081] = (new short[] {
-			396
-		});
-		HZPY[16082] = (new short[] {
-			299
-		});
-		HZPY[16083] = (new short[] {
-			17
-		});
-		HZPY[16084] = (new short[] {
-			17
-		});
-		HZPY[16085] = (new short[] {
-			265
-		});
-		HZPY[16086] = (new short[] {
-			299
-		});
-		HZPY[16087] = (new short[] {
-			42
-		});
-		HZPY[16088] = (new short[] {
-			383
-		});
-		HZPY[16089] = (new short[] {
-			400
-		});
-		HZPY[16090] = (new short[] {
-			164
-		});
-		HZPY[16091] = (new short[] {
-			382
-		});
-		HZPY[16092] = (new short[] {
-			313, 47
-		});
-		HZPY[16093] = (new short[] {
-			35
-		});
-		HZPY[16094] = (new short[] {
-			297
-		});
-		HZPY[16095] = (new short[] {
-			330
-		});
-		HZPY[16096] = (new short[] {
-			244
-		});
-		HZPY[16097] = (new short[] {
-			100
-		});
-		HZPY[16098] = (new short[] {
-			352
-		});
-		HZPY[16099] = (new short[] {
-			192
-		});
-		HZPY[16100] = (new short[] {
-			133
-		});
-		HZPY[16101] = (new short[] {
-			318
-		});
-		HZPY[16102] = (new short[] {
-			91
-		});
-		HZPY[16103] = (new short[] {
-			57
-		});
-		HZPY[16104] = (new short[] {
-			48
-		});
-		HZPY[16105] = (new short[] {
-			48
-		});
-		HZPY[16106] = (new short[] {
-			398
-		});
-		HZPY[16107] = (new short[] {
-			131
-		});
-		HZPY[16108] = (new short[] {
-			392
-		});
-		HZPY[16109] = (new short[] {
-			72
-		});
-		HZPY[16110] = (new short[] {
-			137
-		});
-		HZPY[16111] = (new short[] {
-			358
-		});
-		HZPY[16112] = (new short[] {
-			311
-		});
-		HZPY[16113] = (new short[] {
-			379
-		});
-		HZPY[16114] = (new short[] {
-			9
-		});
-		HZPY[16115] = (new short[] {
-			381
-		});
-		HZPY[16116] = (new short[] {
-			164
-		});
-		HZPY[16117] = (new short[] {
-			88
-		});
-		HZPY[16118] = (new short[] {
-			24
-		});
-		HZPY[16119] = (new short[] {
-			131
-		});
-		HZPY[16120] = (new short[] {
-			302
-		});
-		HZPY[16121] = (new short[] {
-			1
-		});
-		HZPY[16122] = (new short[] {
-			404, 413
-		});
-		HZPY[16123] = (new short[] {
-			91
-		});
-		HZPY[16124] = (new short[] {
-			102
-		});
-		HZPY[16125] = (new short[] {
-			287
-		});
-		HZPY[16126] = (new short[] {
-			385
-		});
-		HZPY[16127] = (new short[] {
-			175
-		});
-		HZPY[16128] = (new short[] {
-			345
-		});
-		HZPY[16129] = (new short[] {
-			6
-		});
-		HZPY[16130] = (new short[] {
-			35
-		});
-		HZPY[16131] = (new short[] {
-			404
-		});
-		HZPY[16132] = (new short[] {
-			398
-		});
-		HZPY[16133] = (new short[] {
-			406
-		});
-		HZPY[16134] = (new short[] {
-			15
-		});
-		HZPY[16135] = (new short[] {
-			379
-		});
-		HZPY[16136] = (new short[] {
-			388
-		});
-		HZPY[16137] = (new short[] {
-			323
-		});
-		HZPY[16138] = (new short[] {
-			382
-		});
-		HZPY[16139] = (new short[] {
-			365
-		});
-		HZPY[16140] = (new short[] {
-			229
-		});
-		HZPY[16141] = (new short[] {
-			296
-		});
-		HZPY[16142] = (new short[] {
-			343
-		});
-		HZPY[16143] = (new short[] {
-			372
-		});
-		HZPY[16144] = (new short[] {
-			137
-		});
-		HZPY[16145] = (new short[] {
-			94
-		});
-		HZPY[16146] = (new short[] {
-			352
-		});
-		HZPY[16147] = (new short[] {
-			383
-		});
-		HZPY[16148] = (new short[] {
-			13
-		});
-		HZPY[16149] = (new short[] {
-			72
-		});
-		HZPY[16150] = (new short[] {
-			305
-		});
-		HZPY[16151] = (new short[] {
-			365
-		});
-		HZPY[16152] = (new short[] {
-			229
-		});
-		HZPY[16153] = (new short[] {
-			361
-		});
-		HZPY[16154] = (new short[] {
-			181
-		});
-		HZPY[16155] = (new short[] {
-			94
-		});
-		HZPY[16156] = (new short[] {
-			383
-		});
-		HZPY[16157] = (new short[] {
-			10
-		});
-		HZPY[16158] = (new short[] {
-			396
-		});
-		HZPY[16159] = (new short[] {
-			91
-		});
-		HZPY[16160] = (new short[] {
-			377, 379
-		});
-		HZPY[16161] = (new short[] {
-			101
-		});
-		HZPY[16162] = (new short[] {
-			22
-		});
-		HZPY[16163] = (new short[] {
-			385
-		});
-		HZPY[16164] = (new short[] {
-			352
-		});
-		HZPY[16165] = (new short[] {
-			6
-		});
-		HZPY[16166] = (new short[] {
-			392
-		});
-		HZPY[16167] = (new short[] {
-			130
-		});
-		HZPY[16168] = (new short[] {
-			398
-		});
-		HZPY[16169] = (new short[] {
-			84
-		});
-		HZPY[16170] = (new short[] {
-			323
-		});
-		HZPY[16171] = (new short[] {
-			251
-		});
-		HZPY[16172] = (new short[] {
-			14
-		});
-		HZPY[16173] = (new short[] {
-			102
-		});
-		HZPY[16174] = (new short[] {
-			401
-		});
-		HZPY[16175] = (new short[] {
-			106
-		});
-		HZPY[16176] = (new short[] {
-			82
-		});
-		HZPY[16177] = (new short[] {
-			133
-		});
-		HZPY[16178] = (new short[] {
-			13, 11
-		});
-		HZPY[16179] = (new short[] {
-			303
-		});
-		HZPY[16180] = (new short[] {
-			332
-		});
-		HZPY[16181] = (new short[] {
-			108
-		});
-		HZPY[16182] = (new short[] {
-			159
-		});
-		HZPY[16183] = (new short[] {
-			56
-		});
-		HZPY[16184] = (new short[] {
-			195
-		});
-		HZPY[16185] = (new short[] {
-			86
-		});
-		HZPY[16186] = (new short[] {
-			116
-		});
-		HZPY[16187] = (new short[] {
-			369
-		});
-		HZPY[16188] = (new short[] {
-			386
-		});
-		HZPY[16189] = (new short[] {
-			398
-		});
-		HZPY[16190] = (new short[] {
-			132, 103
-		});
-		HZPY[16191] = (new short[] {
-			128
-		});
-		HZPY[16192] = (new short[] {
-			409
-		});
-		HZPY[16193] = (new short[] {
-			177
-		});
-		HZPY[16194] = (new short[] {
-			183
-		});
-		HZPY[16195] = (new short[] {
-			383
-		});
-		HZPY[16196] = (new short[] {
-			409
-		});
-		HZPY[16197] = (new short[] {
-			93
-		});
-		HZPY[16198] = (new short[] {
-			137
-		});
-		HZPY[16199] = (new short[] {
-			265
-		});
-		HZPY[16200] = (new short[] {
-			396
-		});
-		HZPY[16201] = (new short[] {
-			164
-		});
-		HZPY[16202] = (new short[] {
-			299
-		});
-		HZPY[16203] = (new short[] {
-			91
-		});
-		HZPY[16204] = (new short[] {
-			72
-		});
-		HZPY[16205] = (new short[] {
-			131
-		});
-		HZPY[16206] = (new short[] {
-			305
-		});
-		HZPY[16207] = (new short[] {
-			297
-		});
-		HZPY[16208] = (new short[] {
-			47
-		});
-		HZPY[16209] = (new short[] {
-			13
-		});
-		HZPY[16210] = (new short[] {
-			400
-		});
-		HZPY[16211] = (new short[] {
-			100
-		});
-		HZPY[16212] = (new short[] {
-			244
-		});
-		HZPY[16213] = (new short[] {
-			57
-		});
-		HZPY[16214] = (new short[] {
-			164
-		});
-		HZPY[16215] = (new short[] {
-			88
-		});
-		HZPY[16216] = (new short[] {
-			406
-		});
-		HZPY[16217] = (new short[] {
-			91
-		});
-		HZPY[16218] = (new short[] {
-			404, 413
-		});
-		HZPY[16219] = (new short[] {
-			287
-		});
-		HZPY[16220] = (new short[] {
-			385
-		});
-		HZPY[16221] = (new short[] {
-			365
-		});
-		HZPY[16222] = (new short[] {
-			382
-		});
-		HZPY[16223] = (new short[] {
-			379
-		});
-		HZPY[16224] = (new short[] {
-			388
-		});
-		HZPY[16225] = (new short[] {
-			296
-		});
-		HZPY[16226] = (new short[] {
-			372
-		});
-		HZPY[16227] = (new short[] {
-			94
-		});
-		HZPY[16228] = (new short[] {
-			37
-		});
-		HZPY[16229] = (new short[] {
-			350
-		});
-		HZPY[16230] = (new short[] {
-			299
-		});
-		HZPY[16231] = (new short[] {
-			213
-		});
-		HZPY[16232] = (new short[] {
-			358
-		});
-		HZPY[16233] = (new short[] {
-			350
-		});
-		HZPY[16234] = (new short[] {
-			36
-		});
-		HZPY[16235] = (new short[] {
-			116
-		});
-		HZPY[16236] = (new short[] {
-			36
-		});
-		HZPY[16237] = (new short[] {
-			394
-		});
-		HZPY[16238] = (new short[] {
-			351
-		});
-		HZPY[16239] = (new short[] {
-			324
-		});
-		HZPY[16240] = (new short[] {
-			411
-		});
-		HZPY[16241] = (new short[] {
-			411
-		});
-		HZPY[16242] = (new short[] {
-			171
-		});
-		HZPY[16243] = (new short[] {
-			140
-		});
-		HZPY[16244] = (new short[] {
-			91
-		});
-		HZPY[16245] = (new short[] {
-			393
-		});
-		HZPY[16246] = (new short[] {
-			94
-		});
-		HZPY[16247] = (new short[] {
-			256
-		});
-		HZPY[16248] = (new short[] {
-			296
-		});
-		HZPY[16249] = (new short[] {
-			264
-		});
-		HZPY[16250] = (new short[] {
-			262
-		});
-		HZPY[16251] = (new short[] {
-			352
-		});
-		HZPY[16252] = (new short[] {
-			47
-		});
-		HZPY[16253] = (new short[] {
-			143
-		});
-		HZPY[16254] = (new short[] {
-			262
-		});
-		HZPY[16255] = (new short[] {
-			37
-		});
-		HZPY[16256] = (new short[] {
-			47
-		});
-		HZPY[16257] = (new short[] {
-			35
-		});
-		HZPY[16258] = (new short[] {
-			35
-		});
-		HZPY[16259] = (new short[] {
-			67
-		});
-		HZPY[16260] = (new short[] {
-			141, 261
-		});
-		HZPY[16261] = (new short[] {
-			33
-		});
-		HZPY[16262] = (new short[] {
-			63
-		});
-		HZPY[16263] = (new short[] {
-			291
-		});
-		HZPY[16264] = (new short[] {
-			391
-		});
-		HZPY[16265] = (new short[] {
-			401
-		});
-		HZPY[16266] = (new short[] {
-			378
-		});
-		HZPY[16267] = (new short[] {
-			266
-		});
-		HZPY[16268] = (new short[] {
-			136
-		});
-		HZPY[16269] = (new short[] {
-			37
-		});
-		HZPY[16270] = (new short[] {
-			40
-		});
-		HZPY[16271] = (new short[] {
-			104
-		});
-		HZPY[16272] = (new short[] {
-			362
-		});
-		HZPY[16273] = (new short[] {
-			409
-		});
-		HZPY[16274] = (new short[] {
-			331
-		});
-		HZPY[16275] = (new short[] {
-			76
-		});
-		HZPY[16276] = (new short[] {
-			176
-		});
-		HZPY[16277] = (new short[] {
-			94
-		});
-		HZPY[16278] = (new short[] {
-			320
-		});
-		HZPY[16279] = (new short[] {
-			50
-		});
-		HZPY[16280] = (new short[] {
-			350
-		});
-		HZPY[16281] = (new short[] {
-			393
-		});
-		HZPY[16282] = (new short[] {
-			316
-		});
-		HZPY[16283] = (new short[] {
-			371
-		});
-		HZPY[16284] = (new short[] {
-			141
-		});
-		HZPY[16285] = (new short[] {
-			133
-		});
-		HZPY[16286] = (new short[] {
-			268
-		});
-		HZPY[16287] = (new short[] {
-			324
-		});
-		HZPY[16288] = (new short[] {
-			46
-		});
-		HZPY[16289] = (new short[] {
-			52
-		});
-		HZPY[16290] = (new short[] {
-			183
-		});
-		HZPY[16291] = (new short[] {
-			266, 50
-		});
-		HZPY[16292] = (new short[] {
-			58
-		});
-		HZPY[16293] = (new short[] {
-			265
-		});
-		HZPY[16294] = (new short[] {
-			409
-		});
-		HZPY[16295] = (new short[] {
-			329
-		});
-		HZPY[16296] = (new short[] {
-			266, 50
-		});
-		HZPY[16297] = (new short[] {
-			37
-		});
-		HZPY[16298] = (new short[] {
-			127
-		});
-		HZPY[16299] = (new short[] {
-			260
-		});
-		HZPY[16300] = (new short[] {
-			260
-		});
-		HZPY[16301] = (new short[] {
-			367
-		});
-		HZPY[16302] = (new short[] {
-			384
-		});
-		HZPY[16303] = (new short[] {
-			378
-		});
-		HZPY[16304] = (new short[] {
-			229
-		});
-		HZPY[16305] = (new short[] {
-			382
-		});
-		HZPY[16306] = (new short[] {
-			382
-		});
-		HZPY[16307] = (new short[] {
-			412, 141
-		});
-		HZPY[16308] = (new short[] {
-			239
-		});
-		HZPY[16309] = (new short[] {
-			9, 19
-		});
-		HZPY[16310] = (new short[] {
-			155
-		});
-		HZPY[16311] = (new short[] {
-			116
-		});
-		HZPY[16312] = (new short[] {
-			75
-		});
-		HZPY[16313] = (new short[] {
-			143
-		});
-		HZPY[16314] = (new short[] {
-			91
-		});
-		HZPY[16315] = (new short[] {
-			35
-		});
-		HZPY[16316] = (new short[] {
-			133
-		});
-		HZPY[16317] = (new short[] {
-			85
-		});
-		HZPY[16318] = (new short[] {
-			398
-		});
-		HZPY[16319] = (new short[] {
-			321
-		});
-		HZPY[16320] = (new short[] {
-			378
-		});
-		HZPY[16321] = (new short[] {
-			239
-		});
-		HZPY[16322] = (new short[] {
-			256
-		});
-		HZPY[16323] = (new short[] {
-			378
-		});
-		HZPY[16324] = (new short[] {
-			259
-		});
-		HZPY[16325] = (new short[] {
-			340
-		});
-		HZPY[16326] = (new short[] {
-			322
-		});
-		HZPY[16327] = (new short[] {
-			369
-		});
-		HZPY[16328] = (new short[] {
-			222
-		});
-		HZPY[16329] = (new short[] {
-			178
-		});
-		HZPY[16330] = (new short[] {
-			197
-		});
-		HZPY[16331] = (new short[] {
-			5
-		});
-		HZPY[16332] = (new short[] {
-			67
-		});
-		HZPY[16333] = (new short[] {
-			155
-		});
-		HZPY[16334] = (new short[] {
-			340
-		});
-		HZPY[16335] = (new short[] {
-			132
-		});
-		HZPY[16336] = (new short[] {
-			47
-		});
-		HZPY[16337] = (new short[] {
-			243
-		});
-		HZPY[16338] = (new short[] {
-			257
-		});
-		HZPY[16339] = (new short[] {
-			401
-		});
-		HZPY[16340] = (new short[] {
-			141
-		});
-		HZPY[16341] = (new short[] {
-			67
-		});
-		HZPY[16342] = (new short[] {
-			398
-		});
-		HZPY[16343] = (new short[] {
-			91
-		});
-		HZPY[16344] = (new short[] {
-			241
-		});
-		HZPY[16345] = (new short[] {
-			141
-		});
-		HZPY[16346] = (new short[] {
-			296
-		});
-		HZPY[16347] = (new short[] {
-			19
-		});
-		HZPY[16348] = (new short[] {
-			221
-		});
-		HZPY[16349] = (new short[] {
-			141
-		});
-		HZPY[16350] = (new short[] {
-			171, 189
-		});
-		HZPY[16351] = (new short[] {
-			99
-		});
-		HZPY[16352] = (new short[] {
-			369
-		});
-		HZPY[16353] = (new short[] {
-			131
-		});
-		HZPY[16354] = (new short[] {
-			56
-		});
-		HZPY[16355] = (new short[] {
-			352
-		});
-		HZPY[16356] = (new short[] {
-			135
-		});
-		HZPY[16357] = (new short[] {
-			76
-		});
-		HZPY[16358] = (new short[] {
-			40
-		});
-		HZPY[16359] = (new short[] {
-			267
-		});
-		HZPY[16360] = (new short[] {
-			156
-		});
-		HZPY[16361] = (new short[] {
-			403, 303
-		});
-		HZPY[16362] = (new short[] {
-			108
-		});
-		HZPY[16363] = (new short[] {
-			264
-		});
-		HZPY[16364] = (new short[] {
-			160
-		});
-		HZPY[16365] = (new short[] {
-			353
-		});
-		HZPY[16366] = (new short[] {
-			37
-		});
-		HZPY[16367] = (new short[] {
-			183
-		});
-		HZPY[16368] = (new short[] {
-			12
-		});
-		HZPY[16369] = (new short[] {
-			398
-		});
-		HZPY[16370] = (new short[] {
-			132
-		});
-		HZPY[16371] = (new short[] {
-			331
-		});
-		HZPY[16372] = (new short[] {
-			22
-		});
-		HZPY[16373] = (new short[] {
-			133
-		});
-		HZPY[16374] = (new short[] {
-			55
-		});
-		HZPY[16375] = (new short[] {
-			260
-		});
-		HZPY[16376] = (new short[] {
-			13
-		});
-		HZPY[16377] = (new short[] {
-			352
-		});
-		HZPY[16378] = (new short[] {
-			76
-		});
-		HZPY[16379] = (new short[] {
-			131
-		});
-		HZPY[16380] = (new short[] {
-			141
-		});
-		HZPY[16381] = (new short[] {
-			131
-		});
-		HZPY[16382] = (new short[] {
-			305
-		});
-		HZPY[16383] = (new short[] {
-			336
-		});
-		HZPY[16384] = (new short[] {
-			40
-		});
-		HZPY[16385] = (new short[] {
-			357
-		});
-		HZPY[16386] = (new short[] {
-			225
-		});
-		HZPY[16387] = (new short[] {
-			354
-		});
-		HZPY[16388] = (new short[] {
-			19
-		});
-		HZPY[16389] = (new short[] {
-			362
-		});
-		HZPY[16390] = (new short[] {
-			270
-		});
-		HZPY[16391] = (new short[] {
-			208
-		});
-		HZPY[16392] = (new short[] {
-			305
-		});
-		HZPY[16393] = (new short[] {
-			174
-		});
-		HZPY[16394] = (new short[] {
-			374
-		});
-		HZPY[16395] = (new short[] {
-			135, 132, 143
-		});
-		HZPY[16396] = (new short[] {
-			39
-		});
-		HZPY[16397] = (new short[] {
-			354
-		});
-		HZPY[16398] = (new short[] {
-			229
-		});
-		HZPY[16399] = (new short[] {
-			321
-		});
-		HZPY[16400] = (new short[] {
-			133
-		});
-		HZPY[16401] = (new short[] {
-			256
-		});
-		HZPY[16402] = (new short[] {
-			348
-		});
-		HZPY[16403] = (new short[] {
-			345
-		});
-		HZPY[16404] = (new short[] {
-			46
-		});
-		HZPY[16405] = (new short[] {
-			136
-		});
-		HZPY[16406] = (new short[] {
-			131
-		});
-		HZPY[16407] = (new short[] {
-			225
-		});
-		HZPY[16408] = (new short[] {
-			141
-		});
-		HZPY[16409] = (new short[] {
-			141
-		});
-		HZPY[16410] = (new short[] {
-			188
-		});
-		HZPY[16411] = (new short[] {
-			183
-		});
-		HZPY[16412] = (new short[] {
-			170
-		});
-		HZPY[16413] = (new short[] {
-			125
-		});
-		HZPY[16414] = (new short[] {
-			141
-		});
-		HZPY[16415] = (new short[] {
-			37
-		});
-		HZPY[16416] = (new short[] {
-			343
-		});
-		HZPY[16417] = (new short[] {
-			267
-		});
-		HZPY[16418] = (new short[] {
-			329
-		});
-		HZPY[16419] = (new short[] {
-			19
-		});
-		HZPY[16420] = (new short[] {
-			412
-		});
-		HZPY[16421] = (new short[] {
-			261
-		});
-		HZPY[16422] = (new short[] {
-			256
-		});
-		HZPY[16423] = (new short[] {
-			50
-		});
-		HZPY[16424] = (new short[] {
-			410
-		});
-		HZPY[16425] = (new short[] {
-			22
-		});
-		HZPY[16426] = (new short[] {
-			410
-		});
-		HZPY[16427] = (new short[] {
-			241
-		});
-		HZPY[16428] = (new short[] {
-			398
-		});
-		HZPY[16429] = (new short[] {
-			397
-		});
-		HZPY[16430] = (new short[] {
-			65, 67
-		});
-		HZPY[16431] = (new short[] {
-			398
-		});
-		HZPY[16432] = (new short[] {
-			376
-		});
-		HZPY[16433] = (new short[] {
-			76
-		});
-		HZPY[16434] = (new short[] {
-			75
-		});
-		HZPY[16435] = (new short[] {
-			45
-		});
-		HZPY[16436] = (new short[] {
-			374
-		});
-		HZPY[16437] = (new short[] {
-			399
-		});
-		HZPY[16438] = (new short[] {
-			63
-		});
-		HZPY[16439] = (new short[] {
-			389
-		});
-		HZPY[16440] = (new short[] {
-			35
-		});
-		HZPY[16441] = (new short[] {
-			41
-		});
-		HZPY[16442] = (new short[] {
-			133
-		});
-		HZPY[16443] = (new short[] {
-			104
-		});
-		HZPY[16444] = (new short[] {
-			324
-		});
-		HZPY[16445] = (new short[] {
-			141
-		});
-		HZPY[16446] = (new short[] {
-			91
-		});
-		HZPY[16447] = (new short[] {
-			412
-		});
-		HZPY[16448] = (new short[] {
-			67
-		});
-		HZPY[16449] = (new short[] {
-			248
-		});
-		HZPY[16450] = (new short[] {
-			280
-		});
-		HZPY[16451] = (new short[] {
-			236
-		});
-		HZPY[16452] = (new short[] {
-			329
-		});
-		HZPY[16453] = (new short[] {
-			29
-		});
-		HZPY[16454] = (new short[] {
-			338
-		});
-		HZPY[16455] = (new short[] {
-			133
-		});
-		HZPY[16456] = (new short[] {
-			59
-		});
-		HZPY[16457] = (new short[] {
-			54
-		});
-		HZPY[16458] = (new short[] {
-			350, 256
-		});
-		HZPY[16459] = (new short[] {
-			321
-		});
-		HZPY[16460] = (new short[] {
-			259
-		});
-		HZPY[16461] = (new short[] {
-			391
-		});
-		HZPY[16462] = (new short[] {
-			65
-		});
-		HZPY[16463] = (new short[] {
-			329
-		});
-		HZPY[16464] = (new short[] {
-			131
-		});
-		HZPY[16465] = (new short[] {
-			225
-		});
-		HZPY[16466] = (new short[] {
-			241
-		});
-		HZPY[16467] = (new short[] {
-			179
-		});
-		HZPY[16468] = (new short[] {
-			391
-		});
-		HZPY[16469] = (new short[] {
-			13
-		});
-		HZPY[16470] = (new short[] {
-			38
-		});
-		HZPY[16471] = (new short[] {
-			183
-		});
-		HZPY[16472] = (new short[] {
-			175
-		});
-		HZPY[16473] = (new short[] {
-			50
-		});
-		HZPY[16474] = (new short[] {
-			324
-		});
-		HZPY[16475] = (new short[] {
-			56
-		});
-		HZPY[16476] = (new short[] {
-			316
-		});
-		HZPY[16477] = (new short[] {
-			350
-		});
-		HZPY[16478] = (new short[] {
-			160
-		});
-		HZPY[16479] = (new short[] {
-			131
-		});
-		HZPY[16480] = (new short[] {
-			398
-		});
-		HZPY[16481] = (new short[] {
-			259
-		});
-		HZPY[16482] = (new short[] {
-			63, 398
-		});
-		HZPY[16483] = (new short[] {
-			193, 241
-		});
-		HZPY[16484] = (new short[] {
-			410
-		});
-		HZPY[16485] = (new short[] {
-			173
-		});
-		HZPY[16486] = (new short[] {
-			12
-		});
-		HZPY[16487] = (new short[] {
-			384
-		});
-		HZPY[16488] = (new short[] {
-			222
-		});
-		HZPY[16489] = (new short[] {
-			16
-		});
-		HZPY[16490] = (new short[] {
-			338
-		});
-		HZPY[16491] = (new short[] {
-			141
-		});
-		HZPY[16492] = (new short[] {
-			62
-		});
-		HZPY[16493] = (new short[] {
-			28
-		});
-		HZPY[16494] = (new short[] {
-			352
-		});
-		HZPY[16495] = (new short[] {
-			84
-		});
-		HZPY[16496] = (new short[] {
-			40
-		});
-		HZPY[16497] = (new short[] {
-			399
-		});
-		HZPY[16498] = (new short[] {
-			75, 53
-		});
-		HZPY[16499] = (new short[] {
-			19
-		});
-		HZPY[16500] = (new short[] {
-			50
-		});
-		HZPY[16501] = (new short[] {
-			412
-		});
-		HZPY[16502] = (new short[] {
-			143
-		});
-		HZPY[16503] = (new short[] {
-			143
-		});
-		HZPY[16504] = (new short[] {
-			177
-		});
-		HZPY[16505] = (new short[] {
-			321
-		});
-		HZPY[16506] = (new short[] {
-			260
-		});
-		HZPY[16507] = (new short[] {
-			260
-		});
-		HZPY[16508] = (new short[] {
-			255
-		});
-		HZPY[16509] = (new short[] {
-			175
-		});
-		HZPY[16510] = (new short[] {
-			75
-		});
-		HZPY[16511] = (new short[] {
-			51
-		});
-		HZPY[16512] = (new short[] {
-			159
-		});
-		HZPY[16513] = (new short[] {
-			384
-		});
-		HZPY[16514] = (new short[] {
-			321
-		});
-		HZPY[16515] = (new short[] {
-			13
-		});
-		HZPY[16516] = (new short[] {
-			13
-		});
-		HZPY[16517] = (new short[] {
-			401
-		});
-		HZPY[16518] = (new short[] {
-			141
-		});
-		HZPY[16519] = (new short[] {
-			40
-		});
-		HZPY[16520] = (new short[] {
-			260
-		});
-		HZPY[16521] = (new short[] {
-			75
-		});
-		HZPY[16522] = (new short[] {
-			39
-		});
-		HZPY[16523] = (new short[] {
-			131
-		});
-		HZPY[16524] = (new short[] {
-			349
-		});
-		HZPY[16525] = (new short[] {
-			378
-		});
-		HZPY[16526] = (new short[] {
-			222
-		});
-		HZPY[16527] = (new short[] {
-			177
-		});
-		HZPY[16528] = (new short[] {
-			176
-		});
-		HZPY[16529] = (new short[] {
-			398
-		});
-		HZPY[16530] = (new short[] {
-			171
-		});
-		HZPY[16531] = (new short[] {
-			398
-		});
-		HZPY[16532] = (new short[] {
-			31
-		});
-		HZPY[16533] = (new short[] {
-			40
-		});
-		HZPY[16534] = (new short[] {
-			73
-		});
-		HZPY[16535] = (new short[] {
-			345
-		});
-		HZPY[16536] = (new short[] {
-			181
-		});
-		HZPY[16537] = (new short[] {
-			177
-		});
-		HZPY[16538] = (new short[] {
-			352
-		});
-		HZPY[16539] = (new short[] {
-			345
-		});
-		HZPY[16540] = (new short[] {
-			413
-		});
-		HZPY[16541] = (new short[] {
-			165
-		});
-		HZPY[16542] = (new short[] {
-			355
-		});
-		HZPY[16543] = (new short[] {
-			273
-		});
-		HZPY[16544] = (new short[] {
-			355
-		});
-		HZPY[16545] = (new short[] {
-			225
-		});
-		HZPY[16546] = (new short[] {
-			321
-		});
-		HZPY[16547] = (new short[] {
-			266
-		});
-		HZPY[16548] = (new short[] {
-			136
-		});
-		HZPY[16549] = (new short[] {
-			51
-		});
-		HZPY[16550] = (new short[] {
-			413
-		});
-		HZPY[16551] = (new short[] {
-			350
-		});
-		HZPY[16552] = (new short[] {
-			160
-		});
-		HZPY[16553] = (new short[] {
-			143
-		});
-		HZPY[16554] = (new short[] {
-			177
-		});
-		HZPY[16555] = (new short[] {
-			301, 142
-		});
-		HZPY[16556] = (new short[] {
-			101
-		});
-		HZPY[16557] = (new short[] {
-			57
-		});
-		HZPY[16558] = (new short[] {
-			229
-		});
-		HZPY[16559] = (new short[] {
-			266
-		});
-		HZPY[16560] = (new short[] {
-			329
-		});
-		HZPY[16561] = (new short[] {
-			76
-		});
-		HZPY[16562] = (new short[] {
-			76
-		});
-		HZPY[16563] = (new short[] {
-			101
-		});
-		HZPY[16564] = (new short[] {
-			166
-		});
-		HZPY[16565] = (new short[] {
-			229
-		});
-		HZPY[16566] = (new short[] {
-			189
-		});
-		HZPY[16567] = (new short[] {
-			1
-		});
-		HZPY[16568] = (new short[] {
-			131
-		});
-		HZPY[16569] = (new short[] {
-			141
-		});
-		HZPY[16570] = (new short[] {
-			324
-		});
-		HZPY[16571] = (new short[] {
-			229
-		});
-		HZPY[16572] = (new short[] {
-			229
-		});
-		HZPY[16573] = (new short[] {
-			365
-		});
-		HZPY[16574] = (new short[] {
-			229
-		});
-		HZPY[16575] = (new short[] {
-			148
-		});
-		HZPY[16576] = (new short[] {
-			266
-		});
-		HZPY[16577] = (new short[] {
-			182
-		});
-		HZPY[16578] = (new short[] {
-			167
-		});
-		HZPY[16579] = (new short[] {
-			76
-		});
-		HZPY[16580] = (new short[] {
-			398
-		});
-		HZPY[16581] = (new short[] {
-			229
-		});
-		HZPY[16582] = (new short[] {
-			329
-		});
-		HZPY[16583] = (new short[] {
-			59
-		});
-		HZPY[16584] = (new short[] {
-			229
-		});
-		HZPY[16585] = (new short[] {
-			376
-		});
-		HZPY[16586] = (new short[] {
-			34, 141
-		});
-		HZPY[16587] = (new short[] {
-			364, 389, 92
-		});
-		HZPY[16588] = (new short[] {
-			108
-		});
-		HZPY[16589] = (new short[] {
-			144
-		});
-		HZPY[16590] = (new short[] {
-			345
-		});
-		HZPY[16591] = (new short[] {
-			378
-		});
-		HZPY[16592] = (new short[] {
-			356
-		});
-		HZPY[16593] = (new short[] {
-			63
-		});
-		HZPY[16594] = (new short[] {
-			361
-		});
-		HZPY[16595] = (new short[] {
-			84
-		});
-		HZPY[16596] = (new short[] {
-			276
-		});
-		HZPY[16597] = (new short[] {
-			296
-		});
-		HZPY[16598] = (new short[] {
-			259
-		});
-		HZPY[16599] = (new short[] {
-			305
-		});
-		HZPY[16600] = (new short[] {
-			339
-		});
-		HZPY[16601] = (new short[] {
-			35
-		});
-		HZPY[16602] = (new short[] {
-			56
-		});
-		HZPY[16603] = (new short[] {
-			77
-		});
-		HZPY[16604] = (new short[] {
-			211
-		});
-		HZPY[16605] = (new short[] {
-			256
-		});
-		HZPY[16606] = (new short[] {
-			195
-		});
-		HZPY[16607] = (new short[] {
-			282
-		});
-		HZPY[16608] = (new short[] {
-			276
-		});
-		HZPY[16609] = (new short[] {
-			258
-		});
-		HZPY[16610] = (new short[] {
-			404, 403
-		});
-		HZPY[16611] = (new short[] {
-			121
-		});
-		HZPY[16612] = (new short[] {
-			123
-		});
-		HZPY[16613] = (new short[] {
-			266
-		});
-		HZPY[16614] = (new short[] {
-			127
-		});
-		HZPY[16615] = (new short[] {
-			63
-		});
-		HZPY[16616] = (new short[] {
-			178
-		});
-		HZPY[16617] = (new short[] {
-			56
-		});
-		HZPY[16618] = (new short[] {
-			4
-		});
-		HZPY[16619] = (new short[] {
-			396
-		});
-		HZPY[16620] = (new short[] {
-			84
-		});
-		HZPY[16621] = (new short[] {
-			159
-		});
-		HZPY[16622] = (new short[] {
-			3
-		});
-		HZPY[16623] = (new short[] {
-			246
-		});
-		HZPY[16624] = (new short[] {
-			10
-		});
-		HZPY[16625] = (new short[] {
-			103
-		});
-		HZPY[16626] = (new short[] {
-			103
-		});
-		HZPY[16627] = (new short[] {
-			243
-		});
-		HZPY[16628] = (new short[] {
-			401
-		});
-		HZPY[16629] = (new short[] {
-			279, 91
-		});
-		HZPY[16630] = (new short[] {
-			77
-		});
-		HZPY[16631] = (new short[] {
-			5
-		});
-		HZPY[16632] = (new short[] {
-			400, 401
-		});
-		HZPY[16633] = (new short[] {
-			398
-		});
-		HZPY[16634] = (new short[] {
-			367
-		});
-		HZPY[16635] = (new short[] {
-			150
-		});
-		HZPY[16636] = (new short[] {
-			369
-		});
-		HZPY[16637] = (new short[] {
-			263
-		});
-		HZPY[16638] = (new short[] {
-			303
-		});
-		HZPY[16639] = (new short[] {
-			252
-		});
-		HZPY[16640] = (new short[] {
-			82
-		});
-		HZPY[16641] = (new short[] {
-			264
-		});
-		HZPY[16642] = (new short[] {
-			141
-		});
-		HZPY[16643] = (new short[] {
-			135
-		});
-		HZPY[16644] = (new short[] {
-			107
-		});
-		HZPY[16645] = (new short[] {
-			183
-		});
-		HZPY[16646] = (new short[] {
-			146
-		});
-		HZPY[16647] = (new short[] {
-			267
-		});
-		HZPY[16648] = (new short[] {
-			400
-		});
-		HZPY[16649] = (new short[] {
-			381
-		});
-		HZPY[16650] = (new short[] {
-			398
-		});
-		HZPY[16651] = (new short[] {
-			141
-		});
-		HZPY[16652] = (new short[] {
-			174
-		});
-		HZPY[16653] = (new short[] {
-			376
-		});
-		HZPY[16654] = (new short[] {
-			298
-		});
-		HZPY[16655] = (new short[] {
-			375
-		});
-		HZPY[16656] = (new short[] {
-			126
-		});
-		HZPY[16657] = (new short[] {
-			379
-		});
-		HZPY[16658] = (new short[] {
-			394
-		});
-		HZPY[16659] = (new short[] {
-			343
-		});
-		HZPY[16660] = (new short[] {
-			91
-		});
-		HZPY[16661] = (new short[] {
-			263
-		});
-		HZPY[16662] = (new short[] {
-			400
-		});
-		HZPY[16663] = (new short[] {
-			221
-		});
-		HZPY[16664] = (new short[] {
-			178
-		});
-		HZPY[16665] = (new short[] {
-			394
-		});
-		HZPY[16666] = (new short[] {
-			391
-		});
-		HZPY[16667] = (new short[] {
-			174
-		});
-		HZPY[16668] = (new short[] {
-			409
-		});
-		HZPY[16669] = (new short[] {
-			128
-		});
-		HZPY[16670] = (new short[] {
-			344
-		});
-		HZPY[16671] = (new short[] {
-			46
-		});
-		HZPY[16672] = (new short[] {
-			110
-		});
-		HZPY[16673] = (new short[] {
-			147
-		});
-		HZPY[16674] = (new short[] {
-			369
-		});
-		HZPY[16675] = (new short[] {
-			246
-		});
-		HZPY[16676] = (new short[] {
-			258
-		});
-		HZPY[16677] = (new short[] {
-			109
-		});
-		HZPY[16678] = (new short[] {
-			222
-		});
-		HZPY[16679] = (new short[] {
-			252
-		});
-		HZPY[16680] = (new short[] {
-			106
-		});
-		HZPY[16681] = (new short[] {
-			10
-		});
-		HZPY[16682] = (new short[] {
-			188
-		});
-		HZPY[16683] = (new short[] {
-			240
-		});
-		HZPY[16684] = (new short[] {
-			174
-		});
-		HZPY[16685] = (new short[] {
-			282
-		});
-		HZPY[16686] = (new short[] {
-			280
-		});
-		HZPY[16687] = (new short[] {
-			131
-		});
-		HZPY[16688] = (new short[] {
-			366
-		});
-		HZPY[16689] = (new short[] {
-			352
-		});
-		HZPY[16690] = (new short[] {
-			42
-		});
-		HZPY[16691] = (new short[] {
-			49
-		});
-		HZPY[16692] = (new short[] {
-			45
-		});
-		HZPY[16693] = (new short[] {
-			97
-		});
-		HZPY[16694] = (new short[] {
-			375
-		});
-		HZPY[16695] = (new short[] {
-			121
-		});
-		HZPY[16696] = (new short[] {
-			305
-		});
-		HZPY[16697] = (new short[] {
-			91
-		});
-		HZPY[16698] = (new short[] {
-			409
-		});
-		HZPY[16699] = (new short[] {
-			91
-		});
-		HZPY[16700] = (new short[] {
-			346
-		});
-		HZPY[16701] = (new short[] {
-			11
-		});
-		HZPY[16702] = (new short[] {
-			391
-		});
-		HZPY[16703] = (new short[] {
-			376
-		});
-		HZPY[16704] = (new short[] {
-			346
-		});
-		HZPY[16705] = (new short[] {
-			325
-		});
-		HZPY[16706] = (new short[] {
-			103
-		});
-		HZPY[16707] = (new short[] {
-			396
-		});
-		HZPY[16708] = (new short[] {
-			351
-		});
-		HZPY[16709] = (new short[] {
-			377
-		});
-		HZPY[16710] = (new short[] {
-			183
-		});
-		HZPY[16711] = (new short[] {
-			140
-		});
-		HZPY[16712] = (new short[] {
-			33
-		});
-		HZPY[16713] = (new short[] {
-			404, 403
-		});
-		HZPY[16714] = (new short[] {
-			345
-		});
-		HZPY[16715] = (new short[] {
-			129
-		});
-		HZPY[16716] = (new short[] {
-			229
-		});
-		HZPY[16717] = (new short[] {
-			34, 394
-		});
-		HZPY[16718] = (new short[] {
-			135
-		});
-		HZPY[16719] = (new short[] {
-			391
-		});
-		HZPY[16720] = (new short[] {
-			255
-		});
-		HZPY[16721] = (new short[] {
-			167
-		});
-		HZPY[16722] = (new short[] {
-			87
-		});
-		HZPY[16723] = (new short[] {
-			84
-		});
-		HZPY[16724] = (new short[] {
-			177
-		});
-		HZPY[16725] = (new short[] {
-			97
-		});
-		HZPY[16726] = (new short[] {
-			291
-		});
-		HZPY[16727] = (new short[] {
-			147
-		});
-		HZPY[16728] = (new short[] {
-			126
-		});
-		HZPY[16729] = (new short[] {
-			369
-		});
-		HZPY[16730] = (new short[] {
-			131
-		});
-		HZPY[16731] = (new short[] {
-			74
-		});
-		HZPY[16732] = (new short[] {
-			82
-		});
-		HZPY[16733] = (new short[] {
-			376
-		});
-		HZPY[16734] = (new short[] {
-			352
-		});
-		HZPY[16735] = (new short[] {
-			121
-		});
-		HZPY[16736] = (new short[] {
-			169
-		});
-		HZPY[16737] = (new short[] {
-			244
-		});
-		HZPY[16738] = (new short[] {
-			171
-		});
-		HZPY[16739] = (new short[] {
-			171
-		});
-		HZPY[16740] = (new short[] {
-			183
-		});
-		HZPY[16741] = (new short[] {
-			177
-		});
-		HZPY[16742] = (new short[] {
-			34, 141
-		});
-		HZPY[16743] = (new short[] {
-			364, 389, 92
-		});
-		HZPY[16744] = (new short[] {
-			108
-		});
-		HZPY[16745] = (new short[] {
-			361
-		});
-		HZPY[16746] = (new short[] {
-			56
-		});
-		HZPY[16747] = (new short[] {
-			276
-		});
-		HZPY[16748] = (new short[] {
-			404, 403
-		});
-		HZPY[16749] = (new short[] {
-			77
-		});
-		HZPY[16750] = (new short[] {
-			188
-		});
-		HZPY[16751] = (new short[] {
-			282
-		});
-		HZPY[16752] = (new short[] {
-			121
-		});
-		HZPY[16753] = (new short[] {
-			103
-		});
-		HZPY[16754] = (new short[] {
-			150
-		});
-		HZPY[16755] = (new short[] {
-			183
-		});
-		HZPY[16756] = (new short[] {
-			400
-		});
-		HZPY[16757] = (new short[] {
-			398
-		});
-		HZPY[16758] = (new short[] {
-			369
-		});
-		HZPY[16759] = (new short[] {
-			123
-		});
-		HZPY[16760] = (new short[] {
-			396
-		});
-		HZPY[16761] = (new short[] {
-			171
-		});
-		HZPY[16762] = (new short[] {
-			367
-		});
-		HZPY[16763] = (new short[] {
-			263
-		});
-		HZPY[16764] = (new short[] {
-			303
-		});
-		HZPY[16765] = (new short[] {
-			381
-		});
-		HZPY[16766] = (new short[] {
-			398
-		});
-		HZPY[16767] = (new short[] {
-			135
-		});
-		HZPY[16768] = (new short[] {
-			400
-		});
-		HZPY[16769] = (new short[] {
-			267
-		});
-		HZPY[16770] = (new short[] {
-			183
-		});
-		HZPY[16771] = (new short[] {
-			135
-		});
-		HZPY[16772] = (new short[] {
-			394
-		});
-		HZPY[16773] = (new short[] {
-			91
-		});
-		HZPY[16774] = (new short[] {
-			174
-		});
-		HZPY[16775] = (new short[] {
-			222
-		});
-		HZPY[16776] = (new short[] {
-			10
-		});
-		HZPY[16777] = (new short[] {
-			128
-		});
-		HZPY[16778] = (new short[] {
-			109
-		});
-		HZPY[16779] = (new short[] {
-			344
-		});
-		HZPY[16780] = (new short[] {
-			174
-		});
-		HZPY[16781] = (new short[] {
-			46
-		});
-		HZPY[16782] = (new short[] {
-			409
-		});
-		HZPY[16783] = (new short[] {
-			49
-		});
-		HZPY[16784] = (new short[] {
-			91
-		});
-		HZPY[16785] = (new short[] {
-			131
-		});
-		HZPY[16786] = (new short[] {
-			346
-		});
-		HZPY[16787] = (new short[] {
-			305
-		});
-		HZPY[16788] = (new short[] {
-			244
-		});
-		HZPY[16789] = (new short[] {
-			377
-		});
-		HZPY[16790] = (new short[] {
-			351
-		});
-		HZPY[16791] = (new short[] {
-			391
-		});
-		HZPY[16792] = (new short[] {
-			183
-		});
-		HZPY[16793] = (new short[] {
-			394
-		});
-		HZPY[16794] = (new short[] {
-			177
-		});
-		HZPY[16795] = (new short[] {
-			356
-		});
-		HZPY[16796] = (new short[] {
-			103
-		});
-		HZPY[16797] = (new short[] {
-			47
-		});
-		HZPY[16798] = (new short[] {
-			47
-		});
-		HZPY[16799] = (new short[] {
-			247, 13
-		});
-		HZPY[16800] = (new short[] {
-			414
-		});
-		HZPY[16801] = (new short[] {
-			14
-		});
-		HZPY[16802] = (new short[] {
-			163
-		});
-		HZPY[16803] = (new short[] {
-			163
-		});
-		HZPY[16804] = (new short[] {
-			47
-		});
-		HZPY[16805] = (new short[] {
-			362
-		});
-		HZPY[16806] = (new short[] {
-			7
-		});
-		HZPY[16807] = (new short[] {
-			14
-		});
-		HZPY[16808] = (new short[] {
-			14
-		});
-		HZPY[16809] = (new short[] {
-			14
-		});
-		HZPY[16810] = (new short[] {
-			229
-		});
-		HZPY[16811] = (new short[] {
-			14
-		});
-		HZPY[16812] = (new short[] {
-			7
-		});
-		HZPY[16813] = (new short[] {
-			47
-		});
-		HZPY[16814] = (new short[] {
-			14
-		});
-		HZPY[16815] = (new short[] {
-			14
-		});
-		HZPY[16816] = (new short[] {
-			35
-		});
-		HZPY[16817] = (new short[] {
-			281
-		});
-		HZPY[16818] = (new short[] {
-			230
-		});
-		HZPY[16819] = (new short[] {
-			230
-		});
-		HZPY[16820] = (new short[] {
-			396
-		});
-		HZPY[16821] = (new short[] {
-			46
-		});
-		HZPY[16822] = (new short[] {
-			46
-		});
-		HZPY[16823] = (new short[] {
-			229
-		});
-		HZPY[16824] = (new short[] {
-			277
-		});
-		HZPY[16825] = (new short[] {
-			14
-		});
-		HZPY[16826] = (new short[] {
-			14
-		});
-		HZPY[16827] = (new short[] {
-			229
-		});
-		HZPY[16828] = (new short[] {
-			229
-		});
-		HZPY[16829] = (new short[] {
-			175
-		});
-		HZPY[16830] = (new short[] {
-			55
-		});
-		HZPY[16831] = (new short[] {
-			31
-		});
-		HZPY[16832] = (new short[] {
-			94
-		});
-		HZPY[16833] = (new short[] {
-			258
-		});
-		HZPY[16834] = (new short[] {
-			376
-		});
-		HZPY[16835] = (new short[] {
-			376
-		});
-		HZPY[16836] = (new short[] {
-			256
-		});
-		HZPY[16837] = (new short[] {
-			363
-		});
-		HZPY[16838] = (new short[] {
-			369
-		});
-		HZPY[16839] = (new short[] {
-			110
-		});
-		HZPY[16840] = (new short[] {
-			192
-		});
-		HZPY[16841] = (new short[] {
-			256
-		});
-		HZPY[16842] = (new short[] {
-			380
-		});
-		HZPY[16843] = (new short[] {
-			344
-		});
-		HZPY[16844] = (new short[] {
-			229
-		});
-		HZPY[16845] = (new short[] {
-			407
-		});
-		HZPY[16846] = (new short[] {
-			372
-		});
-		HZPY[16847] = (new short[] {
-			329
-		});
-		HZPY[16848] = (new short[] {
-			379
-		});
-		HZPY[16849] = (new short[] {
-			137
-		});
-		HZPY[16850] = (new short[] {
-			114
-		});
-		HZPY[16851] = (new short[] {
-			364
-		});
-		HZPY[16852] = (new short[] {
-			84
-		});
-		HZPY[16853] = (new short[] {
-			349
-		});
-		HZPY[16854] = (new short[] {
-			321
-		});
-		HZPY[16855] = (new short[] {
-			77
-		});
-		HZPY[16856] = (new short[] {
-			112, 126
-		});
-		HZPY[16857] = (new short[] {
-			395, 394
-		});
-		HZPY[16858] = (new short[] {
-			229
-		});
-		HZPY[16859] = (new short[] {
-			137
-		});
-		HZPY[16860] = (new short[] {
-			377
-		});
-		HZPY[16861] = (new short[] {
-			345
-		});
-		HZPY[16862] = (new short[] {
-			173
-		});
-		HZPY[16863] = (new short[] {
-			37
-		});
-		HZPY[16864] = (new short[] {
-			34
-		});
-		HZPY[16865] = (new short[] {
-			221
-		});
-		HZPY[16866] = (new short[] {
-			331
-		});
-		HZPY[16867] = (new short[] {
-			398
-		});
-		HZPY[16868] = (new short[] {
-			369
-		});
-		HZPY[16869] = (new short[] {
-			139
-		});
-		HZPY[16870] = (new short[] {
-			132
-		});
-		HZPY[16871] = (new short[] {
-			35
-		});
-		HZPY[16872] = (new short[] {
-			56
-		});
-		HZPY[16873] = (new short[] {
-			82
-		});
-		HZPY[16874] = (new short[] {
-			63
-		});
-		HZPY[16875] = (new short[] {
-			253, 240
-		});
-		HZPY[16876] = (new short[] {
-			344
-		});
-		HZPY[16877] = (new short[] {
-			67
-		});
-		HZPY[16878] = (new short[] {
-			385
-		});
-		HZPY[16879] = (new short[] {
-			325
-		});
-		HZPY[16880] = (new short[] {
-			305
-		});
-		HZPY[16881] = (new short[] {
-			340
-		});
-		HZPY[16882] = (new short[] {
-			229
-		});
-		HZPY[16883] = (new short[] {
-			138
-		});
-		HZPY[16884] = (new short[] {
-			128
-		});
-		HZPY[16885] = (new short[] {
-			334
-		});
-		HZPY[16886] = (new short[] {
-			375
-		});
-		HZPY[16887] = (new short[] {
-			200
-		});
-		HZPY[16888] = (new short[] {
-			12
-		});
-		HZPY[16889] = (new short[] {
-			131
-		});
-		HZPY[16890] = (new short[] {
-			212
-		});
-		HZPY[16891] = (new short[] {
-			369
-		});
-		HZPY[16892] = (new short[] {
-			136
-		});
-		HZPY[16893] = (new short[] {
-			406
-		});
-		HZPY[16894] = (new short[] {
-			176
-		});
-		HZPY[16895] = (new short[] {
-			363
-		});
-		HZPY[16896] = (new short[] {
-			338
-		});
-		HZPY[16897] = (new short[] {
-			314
-		});
-		HZPY[16898] = (new short[] {
-			303, 162
-		});
-		HZPY[16899] = (new short[] {
-			325
-		});
-		HZPY[16900] = (new short[] {
-			242
-		});
-		HZPY[16901] = (new short[] {
-			122
-		});
-		HZPY[16902] = (new short[] {
-			221
-		});
-		HZPY[16903] = (new short[] {
-			75
-		});
-		HZPY[16904] = (new short[] {
-			139
-		});
-		HZPY[16905] = (new short[] {
-			361
-		});
-		HZPY[16906] = (new short[] {
-			363
-		});
-		HZPY[16907] = (new short[] {
-			20
-		});
-		HZPY[16908] = (new short[] {
-			375
-		});
-		HZPY[16909] = (new short[] {
-			354
-		});
-		HZPY[16910] = (new short[] {
-			265
-		});
-		HZPY[16911] = (new short[] {
-			335
-		});
-		HZPY[16912] = (new short[] {
-			401
-		});
-		HZPY[16913] = (new short[] {
-			265
-		});
-		HZPY[16914] = (new short[] {
-			63
-		});
-		HZPY[16915] = (new short[] {
-			63
-		});
-		HZPY[16916] = (new short[] {
-			336
-		});
-		HZPY[16917] = (new short[] {
-			138
-		});
-		HZPY[16918] = (new short[] {
-			329
-		});
-		HZPY[16919] = (new short[] {
-			71
-		});
-		HZPY[16920] = (new short[] {
-			369
-		});
-		HZPY[16921] = (new short[] {
-			394, 395
-		});
-		HZPY[16922] = (new short[] {
-			334
-		});
-		HZPY[16923] = (new short[] {
-			107
-		});
-		HZPY[16924] = (new short[] {
-			349
-		});
-		HZPY[16925] = (new short[] {
-			303
-		});
-		HZPY[16926] = (new short[] {
-			36
-		});
-		HZPY[16927] = (new short[] {
-			316
-		});
-		HZPY[16928] = (new short[] {
-			384
-		});
-		HZPY[16929] = (new short[] {
-			270
-		});
-		HZPY[16930] = (new short[] {
-			88
-		});
-		HZPY[16931] = (new short[] {
-			173
-		});
-		HZPY[16932] = (new short[] {
-			320
-		});
-		HZPY[16933] = (new short[] {
-			128
-		});
-		HZPY[16934] = (new short[] {
-			171
-		});
-		HZPY[16935] = (new short[] {
-			229
-		});
-		HZPY[16936] = (new short[] {
-			414
-		});
-		HZPY[16937] = (new short[] {
-			11
-		});
-		HZPY[16938] = (new short[] {
-			54
-		});
-		HZPY[16939] = (new short[] {
-			143
-		});
-		HZPY[16940] = (new short[] {
-			12
-		});
-		HZPY[16941] = (new short[] {
-			126
-		});
-		HZPY[16942] = (new short[] {
-			56
-		});
-		HZPY[16943] = (new short[] {
-			183
-		});
-		HZPY[16944] = (new short[] {
-			375
-		});
-		HZPY[16945] = (new short[] {
-			400
-		});
-		HZPY[16946] = (new short[] {
-			137
-		});
-		HZPY[16947] = (new short[] {
-			376
-		});
-		HZPY[16948] = (new short[] {
-			46
-		});
-		HZPY[16949] = (new short[] {
-			160
-		});
-		HZPY[16950] = (new short[] {
-			345
-		});
-		HZPY[16951] = (new short[] {
-			329
-		});
-		HZPY[16952] = (new short[] {
-			369
-		});
-		HZPY[16953] = (new short[] {
-			55
-		});
-		HZPY[16954] = (new short[] {
-			377
-		});
-		HZPY[16955] = (new short[] {
-			189
-		});
-		HZPY[16956] = (new short[] {
-			13
-		});
-		HZPY[16957] = (new short[] {
-			236
-		});
-		HZPY[16958] = (new short[] {
-			376
-		});
-		HZPY[16959] = (new short[] {
-			58
-		});
-		HZPY[16960] = (new short[] {
-			318
-		});
-		HZPY[16961] = (new short[] {
-			75
-		});
-		HZPY[16962] = (new short[] {
-			318
-		});
-		HZPY[16963] = (new short[] {
-			365
-		});
-		HZPY[16964] = (new short[] {
-			42
-		});
-		HZPY[16965] = (new short[] {
-			37
-		});
-		HZPY[16966] = (new short[] {
-			329
-		});
-		HZPY[16967] = (new short[] {
-			376
-		});
-		HZPY[16968] = (new short[] {
-			303
-		});
-		HZPY[16969] = (new short[] {
-			396
-		});
-		HZPY[16970] = (new short[] {
-			375
-		});
-		HZPY[16971] = (new short[] {
-			379
-		});
-		HZPY[16972] = (new short[] {
-			77
-		});
-		HZPY[16973] = (new short[] {
-			14, 248
-		});
-		HZPY[16974] = (new short[] {
-			110
-		});
-		HZPY[16975] = (new short[] {
-			77
-		});
-		HZPY[16976] = (new short[] {
-			351
-		});
-		HZPY[16977] = (new short[] {
-			127
-		});
-		HZPY[16978] = (new short[] {
-			265
-		});
-		HZPY[16979] = (new short[] {
-			59
-		});
-		HZPY[16980] = (new short[] {
-			55
-		});
-		HZPY[16981] = (new short[] {
-			345
-		});
-		HZPY[16982] = (new short[] {
-			229
-		});
-		HZPY[16983] = (new short[] {
-			369, 345
-		});
-		HZPY[16984] = (new short[] {
-			102
-		});
-		HZPY[16985] = (new short[] {
-			367
-		});
-		HZPY[16986] = (new short[] {
-			40
-		});
-		HZPY[16987] = (new short[] {
-			179
-		});
-		HZPY[16988] = (new short[] {
-			363
-		});
-		HZPY[16989] = (new short[] {
-			321
-		});
-		HZPY[16990] = (new short[] {
-			63
-		});
-		HZPY[16991] = (new short[] {
-			37
-		});
-		HZPY[16992] = (new short[] {
-			377
-		});
-		HZPY[16993] = (new short[] {
-			316
-		});
-		HZPY[16994] = (new short[] {
-			321
-		});
-		HZPY[16995] = (new short[] {
-			258
-		});
-		HZPY[16996] = (new short[] {
-			229
-		});
-		HZPY[16997] = (new short[] {
-			367
-		});
-		HZPY[16998] = (new short[] {
-			106
-		});
-		HZPY[16999] = (new short[] {
-			392
-		});
-		HZPY[17000] = (new short[] {
-			4
-		});
-		HZPY[17001] = (new short[] {
-			303, 162
-		});
-		HZPY[17002] = (new short[] {
-			26
-		});
-		HZPY[17003] = (new short[] {
-			316
-		});
-		HZPY[17004] = (new short[] {
-			316
-		});
-		HZPY[17005] = (new short[] {
-			384
-		});
-		HZPY[17006] = (new short[] {
-			394
-		});
-		HZPY[17007] = (new short[] {
-			75
-		});
-		HZPY[17008] = (new short[] {
-			398
-		});
-		HZPY[17009] = (new short[] {
-			182
-		});
-		HZPY[17010] = (new short[] {
-			37
-		});
-		HZPY[17011] = (new short[] {
-			54
-		});
-		HZPY[17012] = (new short[] {
-			177
-		});
-		HZPY[17013] = (new short[] {
-			415
-		});
-		HZPY[17014] = (new short[] {
-			274
-		});
-		HZPY[17015] = (new short[] {
-			258
-		});
-		HZPY[17016] = (new short[] {
-			361
-		});
-		HZPY[17017] = (new short[] {
-			376
-		});
-		HZPY[17018] = (new short[] {
-			369, 345
-		});
-		HZPY[17019] = (new short[] {
-			349
-		});
-		HZPY[17020] = (new short[] {
-			175
-		});
-		HZPY[17021] = (new short[] {
-			141
-		});
-		HZPY[17022] = (new short[] {
-			303
-		});
-		HZPY[17023] = (new short[] {
-			13
-		});
-		HZPY[17024] = (new short[] {
-			367
-		});
-		HZPY[17025] = (new short[] {
-			192
-		});
-		HZPY[17026] = (new short[] {
-			355
-		});
-		HZPY[17027] = (new short[] {
-			318
-		});
-		HZPY[17028] = (new short[] {
-			126, 112, 361
-		});
-		HZPY[17029] = (new short[] {
-			391
-		});
-		HZPY[17030] = (new short[] {
-			62
-		});
-		HZPY[17031] = (new short[] {
-			82
-		});
-		HZPY[17032] = (new short[] {
-			202
-		});
-		HZPY[17033] = (new short[] {
-			14
-		});
-		HZPY[17034] = (new short[] {
-			14
-		});
-		HZPY[17035] = (new short[] {
-			163
-		});
-		HZPY[17036] = (new short[] {
-			171
-		});
-		HZPY[17037] = (new short[] {
-			377
-		});
-		HZPY[17038] = (new short[] {
-			375
-		});
-		HZPY[17039] = (new short[] {
-			189
-		});
-		HZPY[17040] = (new short[] {
-			171
-		});
-		HZPY[17041] = (new short[] {
-			369
-		});
-		HZPY[17042] = (new short[] {
-			333
-		});
-		HZPY[17043] = (new short[] {
-			62
-		});
-		HZPY[17044] = (new short[] {
-			256
-		});
-		HZPY[17045] = (new short[] {
-			374
-		});
-		HZPY[17046] = (new short[] {
-			296
-		});
-		HZPY[17047] = (new short[] {
-			113
-		});
-		HZPY[17048] = (new short[] {
-			376
-		});
-		HZPY[17049] = (new short[] {
-			194
-		});
-		HZPY[17050] = (new short[] {
-			281
-		});
-		HZPY[17051] = (new short[] {
-			264
-		});
-		HZPY[17052] = (new short[] {
-			229
-		});
-		HZPY[17053] = (new short[] {
-			159
-		});
-		HZPY[17054] = (new short[] {
-			91
-		});
-		HZPY[17055] = (new short[] {
-			148
-		});
-		HZPY[17056] = (new short[] {
-			17
-		});
-		HZPY[17057] = (new short[] {
-			85
-		});
-		HZPY[17058] = (new short[] {
-			357
-		});
-		HZPY[17059] = (new short[] {
-			217, 211
-		});
-		HZPY[17060] = (new short[] {
-			229
-		});
-		HZPY[17061] = (new short[] {
-			301
-		});
-		HZPY[17062] = (new short[] {
-			8
-		});
-		HZPY[17063] = (new short[] {
-			377
-		});
-		HZPY[17064] = (new short[] {
-			53
-		});
-		HZPY[17065] = (new short[] {
-			130
-		});
-		HZPY[17066] = (new short[] {
-			355, 368
-		});
-		HZPY[17067] = (new short[] {
-			8
-		});
-		HZPY[17068] = (new short[] {
-			349
-		});
-		HZPY[17069] = (new short[] {
-			141
-		});
-		HZPY[17070] = (new short[] {
-			375
-		});
-		HZPY[17071] = (new short[] {
-			113
-		});
-		HZPY[17072] = (new short[] {
-			322
-		});
-		HZPY[17073] = (new short[] {
-			265
-		});
-		HZPY[17074] = (new short[] {
-			13
-		});
-		HZPY[17075] = (new short[] {
-			247
-		});
-		HZPY[17076] = (new short[] {
-			18
-		});
-		HZPY[17077] = (new short[] {
-			298
-		});
-		HZPY[17078] = (new short[] {
-			10
-		});
-		HZPY[17079] = (new short[] {
-			341
-		});
-		HZPY[17080] = (new short[] {
-			63
-		});
-		HZPY[17081] = (new short[] {
-			411
-		});
-		HZPY[17082] = (new short[] {
-			368
-		});
-		HZPY[17083] = (new short[] {
-			177
-		});
-		HZPY[17084] = (new short[] {
-			159
-		});
-		HZPY[17085] = (new short[] {
-			108
-		});
-		HZPY[17086] = (new short[] {
-			401
-		});
-		HZPY[17087] = (new short[] {
-			303
-		});
-		HZPY[17088] = (new short[] {
-			155
-		});
-		HZPY[17089] = (new short[] {
-			376
-		});
-		HZPY[17090] = (new short[] {
-			93
-		});
-		HZPY[17091] = (new short[] {
-			116
-		});
-		HZPY[17092] = (new short[] {
-			261
-		});
-		HZPY[17093] = (new short[] {
-			398
-		});
-		HZPY[17094] = (new short[] {
-			131
-		});
-		HZPY[17095] = (new short[] {
-			363, 126
-		});
-		HZPY[17096] = (new short[] {
-			122
-		});
-		HZPY[17097] = (new short[] {
-			357
-		});
-		HZPY[17098] = (new short[] {
-			135
-		});
-		HZPY[17099] = (new short[] {
-			350
-		});
-		HZPY[17100] = (new short[] {
-			108
-		});
-		HZPY[17101] = (new short[] {
-			236
-		});
-		HZPY[17102] = (new short[] {
-			166
-		});
-		HZPY[17103] = (new short[] {
-			132
-		});
-		HZPY[17104] = (new short[] {
-			157
-		});
-		HZPY[17105] = (new short[] {
-			397
-		});
-		HZPY[17106] = (new short[] {
-			166
-		});
-		HZPY[17107] = (new short[] {
-			379
-		});
-		HZPY[17108] = (new short[] {
-			365
-		});
-		HZPY[17109] = (new short[] {
-			36
-		});
-		HZPY[17110] = (new short[] {
-			71
-		});
-		HZPY[17111] = (new short[] {
-			350
-		});
-		HZPY[17112] = (new short[] {
-			184
-		});
-		HZPY[17113] = (new short[] {
-			91
-		});
-		HZPY[17114] = (new short[] {
-			349
-		});
-		HZPY[17115] = (new short[] {
-			91
-		});
-		HZPY[17116] = (new short[] {
-			96
-		});
-		HZPY[17117] = (new short[] {
-			115
-		});
-		HZPY[17118] = (new short[] {
-			166
-		});
-		HZPY[17119] = (new short[] {
-			132
-		});
-		HZPY[17120] = (new short[] {
-			100
-		});
-		HZPY[17121] = (new short[] {
-			144
-		});
-		HZPY[17122] = (new short[] {
-			372
-		});
-		HZPY[17123] = (new short[] {
-			19
-		});
-		HZPY[17124] = (new short[] {
-			350
-		});
-		HZPY[17125] = (new short[] {
-			10
-		});
-		HZPY[17126] = (new short[] {
-			171
-		});
-		HZPY[17127] = (new short[] {
-			379
-		});
-		HZPY[17128] = (new short[] {
-			20
-		});
-		HZPY[17129] = (new short[] {
-			354
-		});
-		HZPY[17130] = (new short[] {
-			256
-		});
-		HZPY[17131] = (new short[] {
-			247
-		});
-		HZPY[17132] = (new short[] {
-			263
-		});
-		HZPY[17133] = (new short[] {
-			110
-		});
-		HZPY[17134] = (new short[] {
-			229
-		});
-		HZPY[17135] = (new short[] {
-			323
-		});
-		HZPY[17136] = (new short[] {
-			411
-		});
-		HZPY[17137] = (new short[] {
-			252
-		});
-		HZPY[17138] = (new short[] {
-			164
-		});
-		HZPY[17139] = (new short[] {
-			221
-		});
-		HZPY[17140] = (new short[] {
-			35
-		});
-		HZPY[17141] = (new short[] {
-			375
-		});
-		HZPY[17142] = (new short[] {
-			20
-		});
-		HZPY[17143] = (new short[] {
-			353
-		});
-		HZPY[17144] = (new short[] {
-			57
-		});
-		HZPY[17145] = (new short[] {
-			141
-		});
-		HZPY[17146] = (new short[] {
-			374
-		});
-		HZPY[17147] = (new short[] {
-			260
-		});
-		HZPY[17148] = (new short[] {
-			369
-		});
-		HZPY[17149] = (new short[] {
-			71, 72
-		});
-		HZPY[17150] = (new short[] {
-			365
-		});
-		HZPY[17151] = (new short[] {
-			197
-		});
-		HZPY[17152] = (new short[] {
-			285
-		});
-		HZPY[17153] = (new short[] {
-			10
-		});
-		HZPY[17154] = (new short[] {
-			77
-		});
-		HZPY[17155] = (new short[] {
-			376
-		});
-		HZPY[17156] = (new short[] {
-			142
-		});
-		HZPY[17157] = (new short[] {
-			376
-		});
-		HZPY[17158] = (new short[] {
-			379
-		});
-		HZPY[17159] = (new short[] {
-			122
-		});
-		HZPY[17160] = (new short[] {
-			160
-		});
-		HZPY[17161] = (new short[] {
-			353
-		});
-		HZPY[17162] = (new short[] {
-			353
-		});
-		HZPY[17163] = (new short[] {
-			315
-		});
-		HZPY[17164] = (new short[] {
-			324
-		});
-		HZPY[17165] = (new short[] {
-			205
-		});
-		HZPY[17166] = (new short[] {
-			350
-		});
-		HZPY[17167] = (new short[] {
-			281
-		});
-		HZPY[17168] = (new short[] {
-			40
-		});
-		HZPY[17169] = (new short[] {
-			409
-		});
-		HZPY[17170] = (new short[] {
-			411
-		});
-		HZPY[17171] = (new short[] {
-			141
-		});
-		HZPY[17172] = (new short[] {
-			349
-		});
-		HZPY[17173] = (new short[] {
-			353
-		});
-		HZPY[17174] = (new short[] {
-			379
-		});
-		HZPY[17175] = (new short[] {
-			115
-		});
-		HZPY[17176] = (new short[] {
-			374
-		});
-		HZPY[17177] = (new short[] {
-			13
-		});
-		HZPY[17178] = (new short[] {
-			195
-		});
-		HZPY[17179] = (new short[] {
-			33
-		});
-		HZPY[17180] = (new short[] {
-			91
-		});
-		HZPY[17181] = (new short[] {
-			175
-		});
-		HZPY[17182] = (new short[] {
-			371
-		});
-		HZPY[17183] = (new short[] {
-			404
-		});
-		HZPY[17184] = (new short[] {
-			123
-		});
-		HZPY[17185] = (new short[] {
-			260
-		});
-		HZPY[17186] = (new short[] {
-			365
-		});
-		HZPY[17187] = (new short[] {
-			392
-		});
-		HZPY[17188] = (new short[] {
-			84
-		});
-		HZPY[17189] = (new short[] {
-			349
-		});
-		HZPY[17190] = (new short[] {
-			360
-		});
-		HZPY[17191] = (new short[] {
-			62
-		});
-		HZPY[17192] = (new short[] {
-			13
-		});
-		HZPY[17193] = (new short[] {
-			356
-		});
-		HZPY[17194] = (new short[] {
-			13
-		});
-		HZPY[17195] = (new short[] {
-			28
-		});
-		HZPY[17196] = (new short[] {
-			345
-		});
-		HZPY[17197] = (new short[] {
-			397
-		});
-		HZPY[17198] = (new short[] {
-			195
-		});
-		HZPY[17199] = (new short[] {
-			296
-		});
-		HZPY[17200] = (new short[] {
-			177
-		});
-		HZPY[17201] = (new short[] {
-			253
-		});
-		HZPY[17202] = (new short[] {
-			57
-		});
-		HZPY[17203] = (new short[] {
-			199
-		});
-		HZPY[17204] = (new short[] {
-			368
-		});
-		HZPY[17205] = (new short[] {
-			25
-		});
-		HZPY[17206] = (new short[] {
-			157
-		});
-		HZPY[17207] = (new short[] {
-			88
-		});
-		HZPY[17208] = (new short[] {
-			199
-		});
-		HZPY[17209] = (new short[] {
-			411
-		});
-		HZPY[17210] = (new short[] {
-			159
-		});
-		HZPY[17211] = (new short[] {
-			173
-		});
-		HZPY[17212] = (new short[] {
-			382
-		});
-		HZPY[17213] = (new short[] {
-			31
-		});
-		HZPY[17214] = (new short[] {
-			375
-		});
-		HZPY[17215] = (new short[] {
-			256
-		});
-		HZPY[17216] = (new short[] {
-			365
-		});
-		HZPY[17217] = (new short[] {
-			31
-		});
-		HZPY[17218] = (new short[] {
-			54
-		});
-		HZPY[17219] = (new short[] {
-			178
-		});
-		HZPY[17220] = (new short[] {
-			126
-		});
-		HZPY[17221] = (new short[] {
-			350
-		});
-		HZPY[17222] = (new short[] {
-			88
-		});
-		HZPY[17223] = (new short[] {
-			382
-		});
-		HZPY[17224] = (new short[] {
-			171
-		});
-		HZPY[17225] = (new short[] {
-			375
-		});
-		HZPY[17226] = (new short[] {
-			68
-		});
-		HZPY[17227] = (new short[] {
-			265
-		});
-		HZPY[17228] = (new short[] {
-			408
-		});
-		HZPY[17229] = (new short[] {
-			244
-		});
-		HZPY[17230] = (new short[] {
-			400
-		});
-		HZPY[17231] = (new short[] {
-			369
-		});
-		HZPY[17232] = (new short[] {
-			94
-		});
-		HZPY[17233] = (new short[] {
-			376
-		});
-		HZPY[17234] = (new short[] {
-			140
-		});
-		HZPY[17235] = (new short[] {
-			365
-		});
-		HZPY[17236] = (new short[] {
-			414
-		});
-		HZPY[17237] = (new short[] {
-			195
-		});
-		HZPY[17238] = (new short[] {
-			57, 396
-		});
-		HZPY[17239] = (new short[] {
-			360
-		});
-		HZPY[17240] = (new short[] {
-			335
-		});
-		HZPY[17241] = (new short[] {
-			396
-		});
-		HZPY[17242] = (new short[] {
-			87
-		});
-		HZPY[17243] = (new short[] {
-			229
-		});
-		HZPY[17244] = (new short[] {
-			229
-		});
-		HZPY[17245] = (new short[] {
-			379
-		});
-		HZPY[17246] = (new short[] {
-			322
-		});
-		HZPY[17247] = (new short[] {
-			330
-		});
-		HZPY[17248] = (new short[] {
-			257
-		});
-		HZPY[17249] = (new short[] {
-			340
-		});
-		HZPY[17250] = (new short[] {
-			416, 50
-		});
-		HZPY[17251] = (new short[] {
-			113
-		});
-		HZPY[17252] = (new short[] {
-			103
-		});
-		HZPY[17253] = (new short[] {
-			316
-		});
-		HZPY[17254] = (new short[] {
-			83, 253
-		});
-		HZPY[17255] = (new short[] {
-			39
-		});
-		HZPY[17256] = (new short[] {
-			56
-		});
-		HZPY[17257] = (new short[] {
-			205
-		});
-		HZPY[17258] = (new short[] {
-			167, 189
-		});
-		HZPY[17259] = (new short[] {
-			46
-		});
-		HZPY[17260] = (new short[] {
-			39
-		});
-		HZPY[17261] = (new short[] {
-			375
-		});
-		HZPY[17262] = (new short[] {
-			334
-		});
-		HZPY[17263] = (new short[] {
-			398
-		});
-		HZPY[17264] = (new short[] {
-			352
-		});
-		HZPY[17265] = (new short[] {
-			134
-		});
-		HZPY[17266] = (new short[] {
-			36
-		});
-		HZPY[17267] = (new short[] {
-			371
-		});
-		HZPY[17268] = (new short[] {
-			336
-		});
-		HZPY[17269] = (new short[] {
-			135, 354
-		});
-		HZPY[17270] = (new short[] {
-			197
-		});
-		HZPY[17271] = (new short[] {
-			155
-		});
-		HZPY[17272] = (new short[] {
-			317
-		});
-		HZPY[17273] = (new short[] {
-			169
-		});
-		HZPY[17274] = (new short[] {
-			255
-		});
-		HZPY[17275] = (new short[] {
-			414
-		});
-		HZPY[17276] = (new short[] {
-			112
-		});
-		HZPY[17277] = (new short[] {
-			365
-		});
-		HZPY[17278] = (new short[] {
-			303, 295
-		});
-		HZPY[17279] = (new short[] {
-			223, 222
-		});
-		HZPY[17280] = (new short[] {
-			345
-		});
-		HZPY[17281] = (new short[] {
-			183
-		});
-		HZPY[17282] = (new short[] {
-			165
-		});
-		HZPY[17283] = (new short[] {
-			365
-		});
-		HZPY[17284] = (new short[] {
-			325
-		});
-		HZPY[17285] = (new short[] {
-			244
-		});
-		HZPY[17286] = (new short[] {
-			391
-		});
-		HZPY[17287] = (new short[] {
-			45
-		});
-		HZPY[17288] = (new short[] {
-			323
-		});
-		HZPY[17289] = (new short[] {
-			414
-		});
-		HZPY[17290] = (new short[] {
-			46
-		});
-		HZPY[17291] = (new short[] {
-			50
-		});
-		HZPY[17292] = (new short[] {
-			161
-		});
-		HZPY[17293] = (new short[] {
-			329
-		});
-		HZPY[17294] = (new short[] {
-			352
-		});
-		HZPY[17295] = (new short[] {
-			72
-		});
-		HZPY[17296] = (new short[] {
-			123
-		});
-		HZPY[17297] = (new short[] {
-			360
-		});
-		HZPY[17298] = (new short[] {
-			357
-		});
-		HZPY[17299] = (new short[] {
-			323
-		});
-		HZPY[17300] = (new short[] {
-			265
-		});
-		HZPY[17301] = (new short[] {
-			45
-		});
-		HZPY[17302] = (new short[] {
-			379
-		});
-		HZPY[17303] = (new short[] {
-			83, 253
-		});
-		HZPY[17304] = (new short[] {
-			150
-		});
-		HZPY[17305] = (new short[] {
-			315
-		});
-		HZPY[17306] = (new short[] {
-			200
-		});
-		HZPY[17307] = (new short[] {
-			267
-		});
-		HZPY[17308] = (new short[] {
-			39
-		});
-		HZPY[17309] = (new short[] {
-			54
-		});
-		HZPY[17310] = (new short[] {
-			379
-		});
-		HZPY[17311] = (new short[] {
-			374
-		});
-		HZPY[17312] = (new short[] {
-			3
-		});
-		HZPY[17313] = (new short[] {
-			389
-		});
-		HZPY[17314] = (new short[] {
-			112
-		});
-		HZPY[17315] = (new short[] {
-			324
-		});
-		HZPY[17316] = (new short[] {
-			134
-		});
-		HZPY[17317] = (new short[] {
-			249
-		});
-		HZPY[17318] = (new short[] {
-			167
-		});
-		HZPY[17319] = (new short[] {
-			376
-		});
-		HZPY[17320] = (new short[] {
-			171
-		});
-		HZPY[17321] = (new short[] {
-			384
-		});
-		HZPY[17322] = (new short[] {
-			167
-		});
-		HZPY[17323] = (new short[] {
-			369
-		});
-		HZPY[17324] = (new short[] {
-			134
-		});
-		HZPY[17325] = (new short[] {
-			20
-		});
-		HZPY[17326] = (new short[] {
-			135
-		});
-		HZPY[17327] = (new short[] {
-			350
-		});
-		HZPY[17328] = (new short[] {
-			323
-		});
-		HZPY[17329] = (new short[] {
-			83, 253
-		});
-		HZPY[17330] = (new short[] {
-			230
-		});
-		HZPY[17331] = (new short[] {
-			369
-		});
-		HZPY[17332] = (new short[] {
-			171
-		});
-		HZPY[17333] = (new short[] {
-			141
-		});
-		HZPY[17334] = (new short[] {
-			365
-		});
-		HZPY[17335] = (new short[] {
-			369
-		});
-		HZPY[17336] = (new short[] {
-			223
-		});
-		HZPY[17337] = (new short[] {
-			281
-		});
-		HZPY[17338] = (new short[] {
-			363
-		});
-		HZPY[17339] = (new short[] {
-			39
-		});
-		HZPY[17340] = (new short[] {
-			365
-		});
-		HZPY[17341] = (new short[] {
-			178
-		});
-		HZPY[17342] = (new short[] {
-			200
-		});
-		HZPY[17343] = (new short[] {
-			200
-		});
-		HZPY[17344] = (new short[] {
-			223
-		});
-		HZPY[17345] = (new short[] {
-			356
-		});
-		HZPY[17346] = (new short[] {
-			135
-		});
-		HZPY[17347] = (new short[] {
-			303
-		});
-		HZPY[17348] = (new short[] {
-			200
-		});
-		HZPY[17349] = (new short[] {
-			365
-		});
-		HZPY[17350] = (new short[] {
-			14
-		});
-		HZPY[17351] = (new short[] {
-			22
-		});
-		HZPY[17352] = (new short[] {
-			303
-		});
-		HZPY[17353] = (new short[] {
-			375
-		});
-		HZPY[17354] = (new short[] {
-			303
-		});
-		HZPY[17355] = (new short[] {
-			303
-		});
-		HZPY[17356] = (new short[] {
-			171
-		});
-		HZPY[17357] = (new short[] {
-			399, 38
-		});
-		HZPY[17358] = (new short[] {
-			368
-		});
-		HZPY[17359] = (new short[] {
-			174
-		});
-		HZPY[17360] = (new short[] {
-			171, 350
-		});
-		HZPY[17361] = (new short[] {
-			137
-		});
-		HZPY[17362] = (new short[] {
-			137
-		});
-		HZPY[17363] = (new short[] {
-			92
-		});
-		HZPY[17364] = (new short[] {
-			369
-		});
-		HZPY[17365] = (new short[] {
-			175
-		});
-		HZPY[17366] = (new short[] {
-			59
-		});
-		HZPY[17367] = (new short[] {
-			393
-		});
-		HZPY[17368] = (new short[] {
-			68
-		});
-		HZPY[17369] = (new short[] {
-			171
-		});
-		HZPY[17370] = (new short[] {
-			265
-		});
-		HZPY[17371] = (new short[] {
-			116
-		});
-		HZPY[17372] = (new short[] {
-			91
-		});
-		HZPY[17373] = (new short[] {
-			396
-		});
-		HZPY[17374] = (new short[] {
-			398
-		});
-		HZPY[17375] = (new short[] {
-			5
-		});
-		HZPY[17376] = (new short[] {
-			186
-		});
-		HZPY[17377] = (new short[] {
-			91
-		});
-		HZPY[17378] = (new short[] {
-			212
-		});
-		HZPY[17379] = (new short[] {
-			66
-		});
-		HZPY[17380] = (new short[] {
-			296
-		});
-		HZPY[17381] = (new short[] {
-			260
-		});
-		HZPY[17382] = (new short[] {
-			154
-		});
-		HZPY[17383] = (new short[] {
-			42
-		});
-		HZPY[17384] = (new short[] {
-			409
-		});
-		HZPY[17385] = (new short[] {
-			84
-		});
-		HZPY[17386] = (new short[] {
-			376
-		});
-		HZPY[17387] = (new short[] {
-			124
-		});
-		HZPY[17388] = (new short[] {
-			113
-		});
-		HZPY[17389] = (new short[] {
-			101, 95
-		});
-		HZPY[17390] = (new short[] {
-			256
-		});
-		HZPY[17391] = (new short[] {
-			194
-		});
-		HZPY[17392] = (new short[] {
-			133
-		});
-		HZPY[17393] = (new short[] {
-			63
-		});
-		HZPY[17394] = (new short[] {
-			313
-		});
-		HZPY[17395] = (new short[] {
-			350
-		});
-		HZPY[17396] = (new short[] {
-			369
-		});
-		HZPY[17397] = (new short[] {
-			30
-		});
-		HZPY[17398] = (new short[] {
-			321, 340
-		});
-		HZPY[17399] = (new short[] {
-			336
-		});
-		HZPY[17400] = (new short[] {
-			350
-		});
-		HZPY[17401] = (new short[] {
-			233
-		});
-		HZPY[17402] = (new short[] {
-			258
-		});
-		HZPY[17403] = (new short[] {
-			229
-		});
-		HZPY[17404] = (new short[] {
-			133
-		});
-		HZPY[17405] = (new short[] {
-			247
-		});
-		HZPY[17406] = (new short[] {
-			368
-		});
-		HZPY[17407] = (new short[] {
-			371
-		});
-		HZPY[17408] = (new short[] {
-			5, 239
-		});
-		HZPY[17409] = (new short[] {
-			85
-		});
-		HZPY[17410] = (new short[] {
-			35
-		});
-		HZPY[17411] = (new short[] {
-			133
-		});
-		HZPY[17412] = (new short[] {
-			335
-		});
-		HZPY[17413] = (new short[] {
-			378
-		});
-		HZPY[17414] = (new short[] {
-			365
-		});
-		HZPY[17415] = (new short[] {
-			91
-		});
-		HZPY[17416] = (new short[] {
-			20
-		});
-		HZPY[17417] = (new short[] {
-			211
-		});
-		HZPY[17418] = (new short[] {
-			356
-		});
-		HZPY[17419] = (new short[] {
-			77
-		});
-		HZPY[17420] = (new short[] {
-			143
-		});
-		HZPY[17421] = (new short[] {
-			75
-		});
-		HZPY[17422] = (new short[] {
-			102
-		});
-		HZPY[17423] = (new short[] {
-			371
-		});
-		HZPY[17424] = (new short[] {
-			258
-		});
-		HZPY[17425] = (new short[] {
-			7
-		});
-		HZPY[17426] = (new short[] {
-			131
-		});
-		HZPY[17427] = (new short[] {
-			276
-		});
-		HZPY[17428] = (new short[] {
-			33
-		});
-		HZPY[17429] = (new short[] {
-			228
-		});
-		HZPY[17430] = (new short[] {
-			87
-		});
-		HZPY[17431] = (new short[] {
-			379
-		});
-		HZPY[17432] = (new short[] {
-			369
-		});
-		HZPY[17433] = (new short[] {
-			262
-		});
-		HZPY[17434] = (new short[] {
-			247
-		});
-		HZPY[17435] = (new short[] {
-			110
-		});
-		HZPY[17436] = (new short[] {
-			121
-		});
-		HZPY[17437] = (new short[] {
-			371
-		});
-		HZPY[17438] = (new short[] {
-			144
-		});
-		HZPY[17439] = (new short[] {
-			303
-		});
-		HZPY[17440] = (new short[] {
-			369
-		});
-		HZPY[17441] = (new short[] {
-			399
-		});
-		HZPY[17442] = (new short[] {
-			225
-		});
-		HZPY[17443] = (new short[] {
-			93
-		});
-		HZPY[17444] = (new short[] {
-			278
-		});
-		HZPY[17445] = (new short[] {
-			130
-		});
-		HZPY[17446] = (new short[] {
-			322
-		});
-		HZPY[17447] = (new short[] {
-			148
-		});
-		HZPY[17448] = (new short[] {
-			229
-		});
-		HZPY[17449] = (new short[] {
-			183
-		});
-		HZPY[17450] = (new short[] {
-			229
-		});
-		HZPY[17451] = (new short[] {
-			229
-		});
-		HZPY[17452] = (new short[] {
-			76
-		});
-		HZPY[17453] = (new short[] {
-			409
-		});
-		HZPY[17454] = (new short[] {
-			221
-		});
-		HZPY[17455] = (new short[] {
-			336
-		});
-		HZPY[17456] = (new short[] {
-			303
-		});
-		HZPY[17457] = (new short[] {
-			204
-		});
-		HZPY[17458] = (new short[] {
-			103
-		});
-		HZPY[17459] = (new short[] {
-			150
-		});
-		HZPY[17460] = (new short[] {
-			178
-		});
-		HZPY[17461] = (new short[] {
-			18
-		});
-		HZPY[17462] = (new short[] {
-			369
-		});
-		HZPY[17463] = (new short[] {
-			103
-		});
-		HZPY[17464] = (new short[] {
-			5
-		});
-		HZPY[17465] = (new short[] {
-			247
-		});
-		HZPY[17466] = (new short[] {
-			376
-		});
-		HZPY[17467] = (new short[] {
-			313
-		});
-		HZPY[17468] = (new short[] {
-			416
-		});
-		HZPY[17469] = (new short[] {
-			20
-		});
-		HZPY[17470] = (new short[] {
-			375
-		});
-		HZPY[17471] = (new short[] {
-			65, 330
-		});
-		HZPY[17472] = (new short[] {
-			132
-		});
-		HZPY[17473] = (new short[] {
-			396
-		});
-		HZPY[17474] = (new short[] {
-			303
-		});
-		HZPY[17475] = (new short[] {
-			303
-		});
-		HZPY[17476] = (new short[] {
-			332
-		});
-		HZPY[17477] = (new short[] {
-			141
-		});
-		HZPY[17478] = (new short[] {
-			391
-		});
-		HZPY[17479] = (new short[] {
-			321, 340
-		});
-		HZPY[17480] = (new short[] {
-			299, 340, 321
-		});
-		HZPY[17481] = (new short[] {
-			361
-		});
-		HZPY[17482] = (new short[] {
-			393
-		});
-		HZPY[17483] = (new short[] {
-			9
-		});
-		HZPY[17484] = (new short[] {
-			116
-		});
-		HZPY[17485] = (new short[] {
-			13
-		});
-		HZPY[17486] = (new short[] {
-			302
-		});
-		HZPY[17487] = (new short[] {
-			40
-		});
-		HZPY[17488] = (new short[] {
-			303
-		});
-		HZPY[17489] = (new short[] {
-			19
-		});
-		HZPY[17490] = (new short[] {
-			401
-		});
-		HZPY[17491] = (new short[] {
-			37
-		});
-		HZPY[17492] = (new short[] {
-			380
-		});
-		HZPY[17493] = (new short[] {
-			253
-		});
-		HZPY[17494] = (new short[] {
-			334
-		});
-		HZPY[17495] = (new short[] {
-			258
-		});
-		HZPY[17496] = (new short[] {
-			91
-		});
-		HZPY[17497] = (new short[] {
-			390
-		});
-		HZPY[17498] = (new short[] {
-			179, 195
-		});
-		HZPY[17499] = (new short[] {
-			258, 365
-		});
-		HZPY[17500] = (new short[] {
-			91
-		});
-		HZPY[17501] = (new short[] {
-			171
-		});
-		HZPY[17502] = (new short[] {
-			378
-		});
-		HZPY[17503] = (new short[] {
-			247
-		});
-		HZPY[17504] = (new short[] {
-			366
-		});
-		HZPY[17505] = (new short[] {
-			7
-		});
-		HZPY[17506] = (new short[] {
-			19
-		});
-		HZPY[17507] = (new short[] {
-			136
-		});
-		HZPY[17508] = (new short[] {
-			102
-		});
-		HZPY[17509] = (new short[] {
-			305
-		});
-		HZPY[17510] = (new short[] {
-			397
-		});
-		HZPY[17511] = (new short[] {
-			209
-		});
-		HZPY[17512] = (new short[] {
-			221
-		});
-		HZPY[17513] = (new short[] {
-			350
-		});
-		HZPY[17514] = (new short[] {
-			63
-		});
-		HZPY[17515] = (new short[] {
-			132
-		});
-		HZPY[17516] = (new short[] {
-			209
-		});
-		HZPY[17517] = (new short[] {
-			323
-		});
-		HZPY[17518] = (new short[] {
-			301
-		});
-		HZPY[17519] = (new short[] {
-			369
-		});
-		HZPY[17520] = (new short[] {
-			313
-		});
-		HZPY[17521] = (new short[] {
-			159
-		});
-		HZPY[17522] = (new short[] {
-			145
-		});
-		HZPY[17523] = (new short[] {
-			10
-		});
-		HZPY[17524] = (new short[] {
-			133
-		});
-		HZPY[17525] = (new short[] {
-			334
-		});
-		HZPY[17526] = (new short[] {
-			357
-		});
-		HZPY[17527] = (new short[] {
-			121
-		});
-		HZPY[17528] = (new short[] {
-			135, 132
-		});
-		HZPY[17529] = (new short[] {
-			37
-		});
-		HZPY[17530] = (new short[] {
-			82
-		});
-		HZPY[17531] = (new short[] {
-			97
-		});
-		HZPY[17532] = (new short[] {
-			18
-		});
-		HZPY[17533] = (new short[] {
-			303
-		});
-		HZPY[17534] = (new short[] {
-			208
-		});
-		HZPY[17535] = (new short[] {
-			132, 111
-		});
-		HZPY[17536] = (new short[] {
-			371
-		});
-		HZPY[17537] = (new short[] {
-			144
-		});
-		HZPY[17538] = (new short[] {
-			400
-		});
-		HZPY[17539] = (new short[] {
-			38
-		});
-		HZPY[17540] = (new short[] {
-			297
-		});
-		HZPY[17541] = (new short[] {
-			334
-		});
-		HZPY[17542] = (new short[] {
-			207
-		});
-		HZPY[17543] = (new short[] {
-			169
-		});
-		HZPY[17544] = (new short[] {
-			131
-		});
-		HZPY[17545] = (new short[] {
-			376
-		});
-		HZPY[17546] = (new short[] {
-			360
-		});
-		HZPY[17547] = (new short[] {
-			276
-		});
-		HZPY[17548] = (new short[] {
-			53
-		});
-		HZPY[17549] = (new short[] {
-			398
-		});
-		HZPY[17550] = (new short[] {
-			264
-		});
-		HZPY[17551] = (new short[] {
-			296
-		});
-		HZPY[17552] = (new short[] {
-			37
-		});
-		HZPY[17553] = (new short[] {
-			352, 350
-		});
-		HZPY[17554] = (new short[] {
-			357
-		});
-		HZPY[17555] = (new short[] {
-			267
-		});
-		HZPY[17556] = (new short[] {
-			247
-		});
-		HZPY[17557] = (new short[] {
-			369
-		});
-		HZPY[17558] = (new short[] {
-			401
-		});
-		HZPY[17559] = (new short[] {
-			122
-		});
-		HZPY[17560] = (new short[] {
-			205
-		});
-		HZPY[17561] = (new short[] {
-			156
-		});
-		HZPY[17562] = (new short[] {
-			367, 66, 331
-		});
-		HZPY[17563] = (new short[] {
-			352
-		});
-		HZPY[17564] = (new short[] {
-			352
-		});
-		HZPY[17565] = (new short[] {
-			359
-		});
-		HZPY[17566] = (new short[] {
-			144
-		});
-		HZPY[17567] = (new short[] {
-			29
-		});
-		HZPY[17568] = (new short[] {
-			167
-		});
-		HZPY[17569] = (new short[] {
-			131
-		});
-		HZPY[17570] = (new short[] {
-			374
-		});
-		HZPY[17571] = (new short[] {
-			281
-		});
-		HZPY[17572] = (new short[] {
-			200
-		});
-		HZPY[17573] = (new short[] {
-			369
-		});
-		HZPY[17574] = (new short[] {
-			371
-		});
-		HZPY[17575] = (new short[] {
-			107
-		});
-		HZPY[17576] = (new short[] {
-			2
-		});
-		HZPY[17577] = (new short[] {
-			69
-		});
-		HZPY[17578] = (new short[] {
-			375
-		});
-		HZPY[17579] = (new short[] {
-			291
-		});
-		HZPY[17580] = (new short[] {
-			149
-		});
-		HZPY[17581] = (new short[] {
-			258
-		});
-		HZPY[17582] = (new short[] {
-			186
-		});
-		HZPY[17583] = (new short[] {
-			229
-		});
-		HZPY[17584] = (new short[] {
-			1
-		});
-		HZPY[17585] = (new short[] {
-			66
-		});
-		HZPY[17586] = (new short[] {
-			113
-		});
-		HZPY[17587] = (new short[] {
-			283
-		});
-		HZPY[17588] = (new short[] {
-			303
-		});
-		HZPY[17589] = (new short[] {
-			152
-		});
-		HZPY[17590] = (new short[] {
-			265
-		});
-		HZPY[17591] = (new short[] {
-			354
-		});
-		HZPY[17592] = (new short[] {
-			394
-		});
-		HZPY[17593] = (new short[] {
-			359
-		});
-		HZPY[17594] = (new short[] {
-			383
-		});
-		HZPY[17595] = (new short[] {
-			329
-		});
-		HZPY[17596] = (new short[] {
-			54
-		});
-		HZPY[17597] = (new short[] {
-			104
-		});
-		HZPY[17598] = (new short[] {
-			101
-		});
-		HZPY[17599] = (new short[] {
-			399
-		});
-		HZPY[17600] = (new short[] {
-			71
-		});
-		HZPY[17601] = (new short[] {
-			184
-		});
-		HZPY[17602] = (new short[] {
-			197
-		});
-		HZPY[17603] = (new short[] {
-			166
-		});
-		HZPY[17604] = (new short[] {
-			343
-		});
-		HZPY[17605] = (new short[] {
-			356
-		});
-		HZPY[17606] = (new short[] {
-			379
-		});
-		HZPY[17607] = (new short[] {
-			10
-		});
-		HZPY[17608] = (new short[] {
-			349
-		});
-		HZPY[17609] = (new short[] {
-			316
-		});
-		HZPY[17610] = (new short[] {
-			376
-		});
-		HZPY[17611] = (new short[] {
-			31
-		});
-		HZPY[17612] = (new short[] {
-			333, 68
-		});
-		HZPY[17613] = (new short[] {
-			19
-		});
-		HZPY[17614] = (new short[] {
-			113
-		});
-		HZPY[17615] = (new short[] {
-			132
-		});
-		HZPY[17616] = (new short[] {
-			121
-		});
-		HZPY[17617] = (new short[] {
-			51
-		});
-		HZPY[17618] = (new short[] {
-			88
-		});
-		HZPY[17619] = (new short[] {
-			31
-		});
-		HZPY[17620] = (new short[] {
-			343
-		});
-		HZPY[17621] = (new short[] {
-			398
-		});
-		HZPY[17622] = (new short[] {
-			313
-		});
-		HZPY[17623] = (new short[] {
-			361
-		});
-		HZPY[17624] = (new short[] {
-			349
-		});
-		HZPY[17625] = (new short[] {
-			349
-		});
-		HZPY[17626] = (new short[] {
-			331
-		});
-		HZPY[17627] = (new short[] {
-			101
-		});
-		HZPY[17628] = (new short[] {
-			408
-		});
-		HZPY[17629] = (new short[] {
-			185
-		});
-		HZPY[17630] = (new short[] {
-			357
-		});
-		HZPY[17631] = (new short[] {
-			262
-		});
-		HZPY[17632] = (new short[] {
-			301
-		});
-		HZPY[17633] = (new short[] {
-			113
-		});
-		HZPY[17634] = (new short[] {
-			229
-		});
-		HZPY[17635] = (new short[] {
-			368
-		});
-		HZPY[17636] = (new short[] {
-			40
-		});
-		HZPY[17637] = (new short[] {
-			388
-		});
-		HZPY[17638] = (new short[] {
-			141
-		});
-		HZPY[17639] = (new short[] {
-			352
-		});
-		HZPY[17640] = (new short[] {
-			77
-		});
-		HZPY[17641] = (new short[] {
-			194
-		});
-		HZPY[17642] = (new short[] {
-			255
-		});
-		HZPY[17643] = (new short[] {
-			171
-		});
-		HZPY[17644] = (new short[] {
-			303
-		});
-		HZPY[17645] = (new short[] {
-			283
-		});
-		HZPY[17646] = (new short[] {
-			36
-		});
-		HZPY[17647] = (new short[] {
-			96
-		});
-		HZPY[17648] = (new short[] {
-			171
-		});
-		HZPY[17649] = (new short[] {
-			326
-		});
-		HZPY[17650] = (new short[] {
-			229
-		});
-		HZPY[17651] = (new short[] {
-			401
-		});
-		HZPY[17652] = (new short[] {
-			229
-		});
-		HZPY[17653] = (new short[] {
-			336
-		});
-		HZPY[17654] = (new short[] {
-			179
-		});
-		HZPY[17655] = (new short[] {
-			414
-		});
-		HZPY[17656] = (new short[] {
-			141
-		});
-		HZPY[17657] = (new short[] {
-			32
-		});
-		HZPY[17658] = (new short[] {
-			377
-		});
-		HZPY[17659] = (new short[] {
-			133
-		});
-		HZPY[17660] = (new short[] {
-			95
-		});
-		HZPY[17661] = (new short[] {
-			66
-		});
-		HZPY[17662] = (new short[] {
-			325
-		});
-		HZPY[17663] = (new short[] {
-			32
-		});
-		HZPY[17664] = (new short[] {
-			188
-		});
-		HZPY[17665] = (new short[] {
-			110
-		});
-		HZPY[17666] = (new short[] {
-			178
-		});
-		HZPY[17667] = (new short[] {
-			10
-		});
-		HZPY[17668] = (new short[] {
-			183
-		});
-		HZPY[17669] = (new short[] {
-			171
-		});
-		HZPY[17670] = (new short[] {
-			263, 259
-		});
-		HZPY[17671] = (new short[] {
-			244
-		});
-		HZPY[17672] = (new short[] {
-			142
-		});
-		HZPY[17673] = (new short[] {
-			204
-		});
-		HZPY[17674] = (new short[] {
-			414
-		});
-		HZPY[17675] = (new short[] {
-			246
-		});
-		HZPY[17676] = (new short[] {
-			2
-		});
-		HZPY[17677] = (new short[] {
-			247
-		});
-		HZPY[17678] = (new short[] {
-			352
-		});
-		HZPY[17679] = (new short[] {
-			364
-		});
-		HZPY[17680] = (new short[] {
-			406
-		});
-		HZPY[17681] = (new short[] {
-			169
-		});
-		HZPY[17682] = (new short[] {
-			0, 77
-		});
-		HZPY[17683] = (new short[] {
-			153
-		});
-		HZPY[17684] = (new short[] {
-			321
-		});
-		HZPY[17685] = (new short[] {
-			161
-		});
-		HZPY[17686] = (new short[] {
-			72
-		});
-		HZPY[17687] = (new short[] {
-			345
-		});
-		HZPY[17688] = (new short[] {
-			44
-		});
-		HZPY[17689] = (new short[] {
-			409
-		});
-		HZPY[17690] = (new short[] {
-			397
-		});
-		HZPY[17691] = (new short[] {
-			11
-		});
-		HZPY[17692] = (new short[] {
-			225
-		});
-		HZPY[17693] = (new short[] {
-			48
-		});
-		HZPY[17694] = (new short[] {
-			45
-		});
-		HZPY[17695] = (new short[] {
-			323
-		});
-		HZPY[17696] = (new short[] {
-			68
-		});
-		HZPY[17697] = (new short[] {
-			256
-		});
-		HZPY[17698] = (new short[] {
-			258
-		});
-		HZPY[17699] = (new short[] {
-			408
-		});
-		HZPY[17700] = (new short[] {
-			256
-		});
-		HZPY[17701] = (new short[] {
-			376
-		});
-		HZPY[17702] = (new short[] {
-			137
-		});
-		HZPY[17703] = (new short[] {
-			106
-		});
-		HZPY[17704] = (new short[] {
-			195
-		});
-		HZPY[17705] = (new short[] {
-			32
-		});
-		HZPY[17706] = (new short[] {
-			65
-		});
-		HZPY[17707] = (new short[] {
-			350
-		});
-		HZPY[17708] = (new short[] {
-			173
-		});
-		HZPY[17709] = (new short[] {
-			325
-		});
-		HZPY[17710] = (new short[] {
-			103
-		});
-		HZPY[17711] = (new short[] {
-			54, 50
-		});
-		HZPY[17712] = (new short[] {
-			305
-		});
-		HZPY[17713] = (new short[] {
-			396
-		});
-		HZPY[17714] = (new short[] {
-			183
-		});
-		HZPY[17715] = (new short[] {
-			199
-		});
-		HZPY[17716] = (new short[] {
-			183
-		});
-		HZPY[17717] = (new short[] {
-			124
-		});
-		HZPY[17718] = (new short[] {
-			15
-		});
-		HZPY[17719] = (new short[] {
-			92
-		});
-		HZPY[17720] = (new short[] {
-			164
-		});
-		HZPY[17721] = (new short[] {
-			151
-		});
-		HZPY[17722] = (new short[] {
-			406
-		});
-		HZPY[17723] = (new short[] {
-			229
-		});
-		HZPY[17724] = (new short[] {
-			212
-		});
-		HZPY[17725] = (new short[] {
-			343
-		});
-		HZPY[17726] = (new short[] {
-			382
-		});
-		HZPY[17727] = (new short[] {
-			229
-		});
-		HZPY[17728] = (new short[] {
-			60
-		});
-		HZPY[17729] = (new short[] {
-			352
-		});
-		HZPY[17730] = (new short[] {
-			229
-		});
-		HZPY[17731] = (new short[] {
-			130
-		});
-		HZPY[17732] = (new short[] {
-			174
-		});
-		HZPY[17733] = (new short[] {
-			229
-		});
-		HZPY[17734] = (new short[] {
-			198
-		});
-		HZPY[17735] = (new short[] {
-			146
-		});
-		HZPY[17736] = (new short[] {
-			372
-		});
-		HZPY[17737] = (new short[] {
-			63
-		});
-		HZPY[17738] = (new short[] {
-			173
-		});
-		HZPY[17739] = (new short[] {
-			110
-		});
-		HZPY[17740] = (new short[] {
-			352
-		});
-		HZPY[17741] = (new short[] {
-			72
-		});
-		HZPY[17742] = (new short[] {
-			336
-		});
-		HZPY[17743] = (new short[] {
-			345
-		});
-		HZPY[17744] = (new short[] {
-			48
-		});
-		HZPY[17745] = (new short[] {
-			91
-		});
-		HZPY[17746] = (new short[] {
-			280
-		});
-		HZPY[17747] = (new short[] {
-			131
-		});
-		HZPY[17748] = (new short[] {
-			77
-		});
-		HZPY[17749] = (new short[] {
-			280
-		});
-		HZPY[17750] = (new short[] {
-			35
-		});
-		HZPY[17751] = (new short[] {
-			329
-		});
-		HZPY[17752] = (new short[] {
-			389
-		});
-		HZPY[17753] = (new short[] {
-			121
-		});
-		HZPY[17754] = (new short[] {
-			366
-		});
-		HZPY[17755] = (new short[] {
-			73
-		});
-		HZPY[17756] = (new short[] {
-			351
-		});
-		HZPY[17757] = (new short[] {
-			376
-		});
-		HZPY[17758] = (new short[] {
-			152
-		});
-		HZPY[17759] = (new short[] {
-			357
-		});
-		HZPY[17760] = (new short[] {
-			127
-		});
-		HZPY[17761] = (new short[] {
-			345
-		});
-		HZPY[17762] = (new short[] {
-			91
-		});
-		HZPY[17763] = (new short[] {
-			393
-		});
-		HZPY[17764] = (new short[] {
-			29
-		});
-		HZPY[17765] = (new short[] {
-			261
-		});
-		HZPY[17766] = (new short[] {
-			299
-		});
-		HZPY[17767] = (new short[] {
-			121
-		});
-		HZPY[17768] = (new short[] {
-			160
-		});
-		HZPY[17769] = (new short[] {
-			236
-		});
-		HZPY[17770] = (new short[] {
-			208
-		});
-		HZPY[17771] = (new short[] {
-			260
-		});
-		HZPY[17772] = (new short[] {
-			260
-		});
-		HZPY[17773] = (new short[] {
-			122
-		});
-		HZPY[17774] = (new short[] {
-			396
-		});
-		HZPY[17775] = (new short[] {
-			130
-		});
-		HZPY[17776] = (new short[] {
-			126
-		});
-		HZPY[17777] = (new short[] {
-			368
-		});
-		HZPY[17778] = (new short[] {
-			204
-		});
-		HZPY[17779] = (new short[] {
-			133
-		});
-		HZPY[17780] = (new short[] {
-			73
-		});
-		HZPY[17781] = (new short[] {
-			133
-		});
-		HZPY[17782] = (new short[] {
-			313
-		});
-		HZPY[17783] = (new short[] {
-			160
-		});
-		HZPY[17784] = (new short[] {
-			123
-		});
-		HZPY[17785] = (new short[] {
-			361
-		});
-		HZPY[17786] = (new short[] {
-			383, 394
-		});
-		HZPY[17787] = (new short[] {
-			136
-		});
-		HZPY[17788] = (new short[] {
-			396
-		});
-		HZPY[17789] = (new short[] {
-			14
-		});
-		HZPY[17790] = (new short[] {
-			399
-		});
-		HZPY[17791] = (new short[] {
-			409
-		});
-		HZPY[17792] = (new short[] {
-			359
-		});
-		HZPY[17793] = (new short[] {
-			368
-		});
-		HZPY[17794] = (new short[] {
-			197
-		});
-		HZPY[17795] = (new short[] {
-			240
-		});
-		HZPY[17796] = (new short[] {
-			1
-		});
-		HZPY[17797] = (new short[] {
-			136
-		});
-		HZPY[17798] = (new short[] {
-			229
-		});
-		HZPY[17799] = (new short[] {
-			197
-		});
-		HZPY[17800] = (new short[] {
-			29
-		});
-		HZPY[17801] = (new short[] {
-			321
-		});
-		HZPY[17802] = (new short[] {
-			8
-		});
-		HZPY[17803] = (new short[] {
-			351
-		});
-		HZPY[17804] = (new short[] {
-			173
-		});
-		HZPY[17805] = (new short[] {
-			320
-		});
-		HZPY[17806] = (new short[] {
-			350
-		});
-		HZPY[17807] = (new short[] {
-			179
-		});
-		HZPY[17808] = (new short[] {
-			412
-		});
-		HZPY[17809] = (new short[] {
-			368
-		});
-		HZPY[17810] = (new short[] {
-			231
-		});
-		HZPY[17811] = (new short[] {
-			347
-		});
-		HZPY[17812] = (new short[] {
-			279
-		});
-		HZPY[17813] = (new short[] {
-			324
-		});
-		HZPY[17814] = (new short[] {
-			320
-		});
-		HZPY[17815] = (new short[] {
-			259
-		});
-		HZPY[17816] = (new short[] {
-			97
-		});
-		HZPY[17817] = (new short[] {
-			312
-		});
-		HZPY[17818] = (new short[] {
-			44
-		});
-		HZPY[17819] = (new short[] {
-			19
-		});
-		HZPY[17820] = (new short[] {
-			241
-		});
-		HZPY[17821] = (new short[] {
-			321
-		});
-		HZPY[17822] = (new short[] {
-			13
-		});
-		HZPY[17823] = (new short[] {
-			289
-		});
-		HZPY[17824] = (new short[] {
-			95
-		});
-		HZPY[17825] = (new short[] {
-			409
-		});
-		HZPY[17826] = (new short[] {
-			349
-		});
-		HZPY[17827] = (new short[] {
-			372
-		});
-		HZPY[17828] = (new short[] {
-			127
-		});
-		HZPY[17829] = (new short[] {
-			331
-		});
-		HZPY[17830] = (new short[] {
-			179
-		});
-		HZPY[17831] = (new short[] {
-			146
-		});
-		HZPY[17832] = (new short[] {
-			319
-		});
-		HZPY[17833] = (new short[] {
-			294
-		});
-		HZPY[17834] = (new short[] {
-			315
-		});
-		HZPY[17835] = (new short[] {
-			343
-		});
-		HZPY[17836] = (new short[] {
-			115, 96
-		});
-		HZPY[17837] = (new short[] {
-			396
-		});
-		HZPY[17838] = (new short[] {
-			396
-		});
-		HZPY[17839] = (new short[] {
-			189
-		});
-		HZPY[17840] = (new short[] {
-			369
-		});
-		HZPY[17841] = (new short[] {
-			377
-		});
-		HZPY[17842] = (new short[] {
-			324
-		});
-		HZPY[17843] = (new short[] {
-			225
-		});
-		HZPY[17844] = (new short[] {
-			350
-		});
-		HZPY[17845] = (new short[] {
-			132
-		});
-		HZPY[17846] = (new short[] {
-			97
-		});
-		HZPY[17847] = (new short[] {
-			191
-		});
-		HZPY[17848] = (new short[] {
-			142
-		});
-		HZPY[17849] = (new short[] {
-			279
-		});
-		HZPY[17850] = (new short[] {
-			229
-		});
-		HZPY[17851] = (new short[] {
-			320
-		});
-		HZPY[17852] = (new short[] {
-			229
-		});
-		HZPY[17853] = (new short[] {
-			229
-		});
-		HZPY[17854] = (new short[] {
-			229
-		});
-		HZPY[17855] = (new short[] {
-			211
-		});
-		HZPY[17856] = (new short[] {
-			183
-		});
-		HZPY[17857] = (new short[] {
-			320
-		});
-		HZPY[17858] = (new short[] {
-			154
-		});
-		HZPY[17859] = (new short[] {
-			412, 50
-		});
-		HZPY[17860] = (new short[] {
-			337
-		});
-		HZPY[17861] = (new short[] {
-			359
-		});
-		HZPY[17862] = (new short[] {
-			106
-		});
-		HZPY[17863] = (new short[] {
-			361
-		});
-		HZPY[17864] = (new short[] {
-			173
-		});
-		HZPY[17865] = (new short[] {
-			304
-		});
-		HZPY[17866] = (new short[] {
-			4
-		});
-		HZPY[17867] = (new short[] {
-			193
-		});
-		HZPY[17868] = (new short[] {
-			207
-		});
-		HZPY[17869] = (new short[] {
-			189
-		});
-		HZPY[17870] = (new short[] {
-			13
-		});
-		HZPY[17871] = (new short[] {
-			345
-		});
-		HZPY[17872] = (new short[] {
-			179
-		});
-		HZPY[17873] = (new short[] {
-			63
-		});
-		HZPY[17874] = (new short[] {
-			260
-		});
-		HZPY[17875] = (new short[] {
-			130
-		});
-		HZPY[17876] = (new short[] {
-			371
-		});
-		HZPY[17877] = (new short[] {
-			183
-		});
-		HZPY[17878] = (new short[] {
-			4
-		});
-		HZPY[17879] = (new short[] {
-			152
-		});
-		HZPY[17880] = (new short[] {
-			259
-		});
-		HZPY[17881] = (new short[] {
-			52
-		});
-		HZPY[17882] = (new short[] {
-			256
-		});
-		HZPY[17883] = (new short[] {
-			32
-		});
-		HZPY[17884] = (new short[] {
-			324
-		});
-		HZPY[17885] = (new short[] {
-			193
-		});
-		HZPY[17886] = (new short[] {
-			374
-		});
-		HZPY[17887] = (new short[] {
-			31
-		});
-		HZPY[17888] = (new short[] {
-			88
-		});
-		HZPY[17889] = (new short[] {
-			138
-		});
-		HZPY[17890] = (new short[] {
-			15
-		});
-		HZPY[17891] = (new short[] {
-			305
-		});
-		HZPY[17892] = (new short[] {
-			182
-		});
-		HZPY[17893] = (new short[] {
-			359
-		});
-		HZPY[17894] = (new short[] {
-			48
-		});
-		HZPY[17895] = (new short[] {
-			181
-		});
-		HZPY[17896] = (new short[] {
-			382
-		});
-		HZPY[17897] = (new short[] {
-			133
-		});
-		HZPY[17898] = (new short[] {
-			25
-		});
-		HZPY[17899] = (new short[] {
-			171
-		});
-		HZPY[17900] = (new short[] {
-			351
-		});
-		HZPY[17901] = (new short[] {
-			350
-		});
-		HZPY[17902] = (new short[] {
-			148
-		});
-		HZPY[17903] = (new short[] {
-			229
-		});
-		HZPY[17904] = (new short[] {
-			12
-		});
-		HZPY[17905] = (new short[] {
-			229
-		});
-		HZPY[17906] = (new short[] {
-			229
-		});
-		HZPY[17907] = (new short[] {
-			397
-		});
-		HZPY[17908] = (new short[] {
-			183
-		});
-		HZPY[17909] = (new short[] {
-			124
-		});
-		HZPY[17910] = (new short[] {
-			131
-		});
-		HZPY[17911] = (new short[] {
-			255
-		});
-		HZPY[17912] = (new short[] {
-			128
-		});
-		HZPY[17913] = (new short[] {
-			259
-		});
-		HZPY[17914] = (new short[] {
-			253
-		});
-		HZPY[17915] = (new short[] {
-			177
-		});
-		HZPY[17916] = (new short[] {
-			320
-		});
-		HZPY[17917] = (new short[] {
-			359
-		});
-		HZPY[17918] = (new short[] {
-			288
-		});
-		HZPY[17919] = (new short[] {
-			36
-		});
-		HZPY[17920] = (new short[] {
-			160
-		});
-		HZPY[17921] = (new short[] {
-			288
-		});
-		HZPY[17922] = (new short[] {
-			179
-		});
-		HZPY[17923] = (new short[] {
-			215
-		});
-		HZPY[17924] = (new short[] {
-			127
-		});
-		HZPY[17925] = (new short[] {
-			250
-		});
-		HZPY[17926] = (new short[] {
-			318
-		});
-		HZPY[17927] = (new short[] {
-			84
-		});
-		HZPY[17928] = (new short[] {
-			260
-		});
-		HZPY[17929] = (new short[] {
-			42
-		});
-		HZPY[17930] = (new short[] {
-			366
-		});
-		HZPY[17931] = (new short[] {
-			324
-		});
-		HZPY[17932] = (new short[] {
-			353
-		});
-		HZPY[17933] = (new short[] {
-			143
-		});
-		HZPY[17934] = (new short[] {
-			135
-		});
-		HZPY[17935] = (new short[] {
-			415
-		});
-		HZPY[17936] = (new short[] {
-			175
-		});
-		HZPY[17937] = (new short[] {
-			136
-		});
-		HZPY[17938] = (new short[] {
-			167
-		});
-		HZPY[17939] = (new short[] {
-			74, 75
-		});
-		HZPY[17940] = (new short[] {
-			323, 31, 356
-		});
-		HZPY[17941] = (new short[] {
-			382
-		});
-		HZPY[17942] = (new short[] {
-			131
-		});
-		HZPY[17943] = (new short[] {
-			133
-		});
-		HZPY[17944] = (new short[] {
-			399
-		});
-		HZPY[17945] = (new short[] {
-			62
-		});
-		HZPY[17946] = (new short[] {
-			182, 187
-		});
-		HZPY[17947] = (new short[] {
-			372
-		});
-		HZPY[17948] = (new short[] {
-			74
-		});
-		HZPY[17949] = (new short[] {
-			143
-		});
-		HZPY[17950] = (new short[] {
-			231
-		});
-		HZPY[17951] = (new short[] {
-			329
-		});
-		HZPY[17952] = (new short[] {
-			255
-		});
-		HZPY[17953] = (new short[] {
-			332
-		});
-		HZPY[17954] = (new short[] {
-			229
-		});
-		HZPY[17955] = (new short[] {
-			229
-		});
-		HZPY[17956] = (new short[] {
-			68
-		});
-		HZPY[17957] = (new short[] {
-			296
-		});
-		HZPY[17958] = (new short[] {
-			146
-		});
-		HZPY[17959] = (new short[] {
-			133
-		});
-		HZPY[17960] = (new short[] {
-			86
-		});
-		HZPY[17961] = (new short[] {
-			318
-		});
-		HZPY[17962] = (new short[] {
-			183
-		});
-		HZPY[17963] = (new short[] {
-			142
-		});
-		HZPY[17964] = (new short[] {
-			128
-		});
-		HZPY[17965] = (new short[] {
-			376
-		});
-		HZPY[17966] = (new short[] {
-			173
-		});
-		HZPY[17967] = (new short[] {
-			408
-		});
-		HZPY[17968] = (new short[] {
-			260
-		});
-		HZPY[17969] = (new short[] {
-			258
-		});
-		HZPY[17970] = (new short[] {
-			408
-		});
-		HZPY[17971] = (new short[] {
-			169
-		});
-		HZPY[17972] = (new short[] {
-			13
-		});
-		HZPY[17973] = (new short[] {
-			332
-		});
-		HZPY[17974] = (new short[] {
-			126
-		});
-		HZPY[17975] = (new short[] {
-			368
-		});
-		HZPY[17976] = (new short[] {
-			76
-		});
-		HZPY[17977] = (new short[] {
-			110
-		});
-		HZPY[17978] = (new short[] {
-			58, 36
-		});
-		HZPY[17979] = (new short[] {
-			141
-		});
-		HZPY[17980] = (new short[] {
-			87
-		});
-		HZPY[17981] = (new short[] {
-			55
-		});
-		HZPY[17982] = (new short[] {
-			10
-		});
-		HZPY[17983] = (new short[] {
-			369
-		});
-		HZPY[17984] = (new short[] {
-			1
-		});
-		HZPY[17985] = (new short[] {
-			58, 397
-		});
-		HZPY[17986] = (new short[] {
-			363
-		});
-		HZPY[17987] = (new short[] {
-			66, 367
-		});
-		HZPY[17988] = (new short[] {
-			401
-		});
-		HZPY[17989] = (new short[] {
-			119
-		});
-		HZPY[17990] = (new short[] {
-			406
-		});
-		HZPY[17991] = (new short[] {
-			131
-		});
-		HZPY[17992] = (new short[] {
-			225
-		});
-		HZPY[17993] = (new short[] {
-			321
-		});
-		HZPY[17994] = (new short[] {
-			130
-		});
-		HZPY[17995] = (new short[] {
-			263
-		});
-		HZPY[17996] = (new short[] {
-			17
-		});
-		HZPY[17997] = (new short[] {
-			372
-		});
-		HZPY[17998] = (new short[] {
-			160
-		});
-		HZPY[17999] = (new short[] {
-			227
-		});
-		HZPY[18000] = (new short[] {
-			360
-		});
-		HZPY[18001] = (new short[] {
-			133
-		});
-		HZPY[18002] = (new short[] {
-			133
-		});
-		HZPY[18003] = (new short[] {
-			259
-		});
-		HZPY[18004] = (new short[] {
-			29
-		});
-		HZPY[18005] = (new short[] {
-			398
-		});
-		HZPY[18006] = (new short[] {
-			203
-		});
-		HZPY[18007] = (new short[] {
-			171
-		});
-		HZPY[18008] = (new short[] {
-			169
-		});
-		HZPY[18009] = (new short[] {
-			131
-		});
-		HZPY[18010] = (new short[] {
-			413
-		});
-		HZPY[18011] = (new short[] {
-			159
-		});
-		HZPY[18012] = (new short[] {
-			297
-		});
-		HZPY[18013] = (new short[] {
-			246
-		});
-		HZPY[18014] = (new short[] {
-			163
-		});
-		HZPY[18015] = (new short[] {
-			72
-		});
-		HZPY[18016] = (new short[] {
-			312
-		});
-		HZPY[18017] = (new short[] {
-			46
-		});
-		HZPY[18018] = (new short[] {
-			184
-		});
-		HZPY[18019] = (new short[] {
-			15
-		});
-		HZPY[18020] = (new short[] {
-			9
-		});
-		HZPY[18021] = (new short[] {
-			183
-		});
-		HZPY[18022] = (new short[] {
-			229
-		});
-		HZPY[18023] = (new short[] {
-			229
-		});
-		HZPY[18024] = (new short[] {
-			181
-		});
-		HZPY[18025] = (new short[] {
-			77
-		});
-		HZPY[18026] = (new short[] {
-			183
-		});
-		HZPY[18027] = (new short[] {
-			356
-		});
-		HZPY[18028] = (new short[] {
-			133
-		});
-		HZPY[18029] = (new short[] {
-			165
-		});
-		HZPY[18030] = (new short[] {
-			19
-		});
-		HZPY[18031] = (new short[] {
-			133
-		});
-		HZPY[18032] = (new short[] {
-			367, 378
-		});
-		HZPY[18033] = (new short[] {
-			31
-		});
-		HZPY[18034] = (new short[] {
-			353
-		});
-		HZPY[18035] = (new short[] {
-			133
-		});
-		HZPY[18036] = (new short[] {
-			350
-		});
-		HZPY[18037] = (new short[] {
-			106
-		});
-		HZPY[18038] = (new short[] {
-			24
-		});
-		HZPY[18039] = (new short[] {
-			225
-		});
-		HZPY[18040] = (new short[] {
-			169
-		});
-		HZPY[18041] = (new short[] {
-			51
-		});
-		HZPY[18042] = (new short[] {
-			266
-		});
-		HZPY[18043] = (new short[] {
-			241
-		});
-		HZPY[18044] = (new short[] {
-			189
-		});
-		HZPY[18045] = (new short[] {
-			413
-		});
-		HZPY[18046] = (new short[] {
-			186
-		});
-		HZPY[18047] = (new short[] {
-			384, 416
-		});
-		HZPY[18048] = (new short[] {
-			225
-		});
-		HZPY[18049] = (new short[] {
-			143
-		});
-		HZPY[18050] = (new short[] {
-			324
-		});
-		HZPY[18051] = (new short[] {
-			305
-		});
-		HZPY[18052] = (new short[] {
-			165
-		});
-		HZPY[18053] = (new short[] {
-			137
-		});
-		HZPY[18054] = (new short[] {
-			92
-		});
-		HZPY[18055] = (new short[] {
-			369
-		});
-		HZPY[18056] = (new short[] {
-			396
-		});
-		HZPY[18057] = (new short[] {
-			68
-		});
-		HZPY[18058] = (new short[] {
-			393
-		});
-		HZPY[18059] = (new short[] {
-			253
-		});
-		HZPY[18060] = (new short[] {
-			175
-		});
-		HZPY[18061] = (new short[] {
-			336
-		});
-		HZPY[18062] = (new short[] {
-			258
-		});
-		HZPY[18063] = (new short[] {
-			42
-		});
-		HZPY[18064] = (new short[] {
-			296
-		});
-		HZPY[18065] = (new short[] {
-			286
-		});
-		HZPY[18066] = (new short[] {
-			84
-		});
-		HZPY[18067] = (new short[] {
-			66
-		});
-		HZPY[18068] = (new short[] {
-			198
-		});
-		HZPY[18069] = (new short[] {
-			233
-		});
-		HZPY[18070] = (new short[] {
-			366
-		});
-		HZPY[18071] = (new short[] {
-			30
-		});
-		HZPY[18072] = (new short[] {
-			357
-		});
-		HZPY[18073] = (new short[] {
-			93
-		});
-		HZPY[18074] = (new short[] {
-			20
-		});
-		HZPY[18075] = (new short[] {
-			322
-		});
-		HZPY[18076] = (new short[] {
-			141
-		});
-		HZPY[18077] = (new short[] {
-			75
-		});
-		HZPY[18078] = (new short[] {
-			33
-		});
-		HZPY[18079] = (new short[] {
-			399
-		});
-		HZPY[18080] = (new short[] {
-			211
-		});
-		HZPY[18081] = (new short[] {
-			10
-		});
-		HZPY[18082] = (new short[] {
-			95
-		});
-		HZPY[18083] = (new short[] {
-			7
-		});
-		HZPY[18084] = (new short[] {
-			258
-		});
-		HZPY[18085] = (new short[] {
-			367, 378
-		});
-		HZPY[18086] = (new short[] {
-			262
-		});
-		HZPY[18087] = (new short[] {
-			144
-		});
-		HZPY[18088] = (new short[] {
-			349
-		});
-		HZPY[18089] = (new short[] {
-			102
-		});
-		HZPY[18090] = (new short[] {
-			148
-		});
-		HZPY[18091] = (new short[] {
-			85
-		});
-		HZPY[18092] = (new short[] {
-			130
-		});
-		HZPY[18093] = (new short[] {
-			335
-		});
-		HZPY[18094] = (new short[] {
-			228
-		});
-		HZPY[18095] = (new short[] {
-			5, 239
-		});
-		HZPY[18096] = (new short[] {
-			376
-		});
-		HZPY[18097] = (new short[] {
-			258
-		});
-		HZPY[18098] = (new short[] {
-			397
-		});
-		HZPY[18099] = (new short[] {
-			258
-		});
-		HZPY[18100] = (new short[] {
-			103
-		});
-		HZPY[18101] = (new short[] {
-			19
-		});
-		HZPY[18102] = (new short[] {
-			150
-		});
-		HZPY[18103] = (new short[] {
-			253
-		});
-		HZPY[18104] = (new short[] {
-			20
-		});
-		HZPY[18105] = (new short[] {
-			19
-		});
-		HZPY[18106] = (new short[] {
-			378
-		});
-		HZPY[18107] = (new short[] {
-			413
-		});
-		HZPY[18108] = (new short[] {
-			209
-		});
-		HZPY[18109] = (new short[] {
-			323
-		});
-		HZPY[18110] = (new short[] {
-			132
-		});
-		HZPY[18111] = (new short[] {
-			65, 330
-		});
-		HZPY[18112] = (new short[] {
-			375
-		});
-		HZPY[18113] = (new short[] {
-			332
-		});
-		HZPY[18114] = (new short[] {
-			19
-		});
-		HZPY[18115] = (new short[] {
-			178
-		});
-		HZPY[18116] = (new short[] {
-			312
-		});
-		HZPY[18117] = (new short[] {
-			258, 365
-		});
-		HZPY[18118] = (new short[] {
-			195
-		});
-		HZPY[18119] = (new short[] {
-			9
-		});
-		HZPY[18120] = (new short[] {
-			303
-		});
-		HZPY[18121] = (new short[] {
-			361
-		});
-		HZPY[18122] = (new short[] {
-			340, 299, 321
-		});
-		HZPY[18123] = (new short[] {
-			13
-		});
-		HZPY[18124] = (new short[] {
-			221
-		});
-		HZPY[18125] = (new short[] {
-			247
-		});
-		HZPY[18126] = (new short[] {
-			76
-		});
-		HZPY[18127] = (new short[] {
-			357
-		});
-		HZPY[18128] = (new short[] {
-			149
-		});
-		HZPY[18129] = (new short[] {
-			167
-		});
-		HZPY[18130] = (new short[] {
-			82
-		});
-		HZPY[18131] = (new short[] {
-			194
-		});
-		HZPY[18132] = (new short[] {
-			364
-		});
-		HZPY[18133] = (new short[] {
-			375
-		});
-		HZPY[18134] = (new short[] {
-			36
-		});
-		HZPY[18135] = (new short[] {
-			132
-		});
-		HZPY[18136] = (new short[] {
-			368
-		});
-		HZPY[18137] = (new short[] {
-			215
-		});
-		HZPY[18138] = (new short[] {
-			398
-		});
-		HZPY[18139] = (new short[] {
-			58, 36
-		});
-		HZPY[18140] = (new short[] {
-			334
-		});
-		HZPY[18141] = (new short[] {
-			184
-		});
-		HZPY[18142] = (new short[] {
-			66
-		});
-		HZPY[18143] = (new short[] {
-			371
-		});
-		HZPY[18144] = (new short[] {
-			146
-		});
-		HZPY[18145] = (new short[] {
-			389
-		});
-		HZPY[18146] = (new short[] {
-			401
-		});
-		HZPY[18147] = (new short[] {
-			352, 350
-		});
-		HZPY[18148] = (new short[] {
-			333, 68
-		});
-		HZPY[18149] = (new short[] {
-			69
-		});
-		HZPY[18150] = (new short[] {
-			352
-		});
-		HZPY[18151] = (new short[] {
-			124
-		});
-		HZPY[18152] = (new short[] {
-			267
-		});
-		HZPY[18153] = (new short[] {
-			294
-		});
-		HZPY[18154] = (new short[] {
-			111
-		});
-		HZPY[18155] = (new short[] {
-			367, 66, 331
-		});
-		HZPY[18156] = (new short[] {
-			97
-		});
-		HZPY[18157] = (new short[] {
-			205
-		});
-		HZPY[18158] = (new short[] {
-			397
-		});
-		HZPY[18159] = (new short[] {
-			291
-		});
-		HZPY[18160] = (new short[] {
-			135, 132
-		});
-		HZPY[18161] = (new short[] {
-			369
-		});
-		HZPY[18162] = (new short[] {
-			31
-		});
-		HZPY[18163] = (new short[] {
-			38
-		});
-		HZPY[18164] = (new short[] {
-			324
-		});
-		HZPY[18165] = (new short[] {
-			2
-		});
-		HZPY[18166] = (new short[] {
-			371
-		});
-		HZPY[18167] = (new short[] {
-			281
-		});
-		HZPY[18168] = (new short[] {
-			401
-		});
-		HZPY[18169] = (new short[] {
-			167
-		});
-		HZPY[18170] = (new short[] {
-			255
-		});
-		HZPY[18171] = (new short[] {
-			349
-		});
-		HZPY[18172] = (new short[] {
-			164
-		});
-		HZPY[18173] = (new short[] {
-			326
-		});
-		HZPY[18174] = (new short[] {
-			173
-		});
-		HZPY[18175] = (new short[] {
-			152
-		});
-		HZPY[18176] = (new short[] {
-			354
-		});
-		HZPY[18177] = (new short[] {
-			320
-		});
-		HZPY[18178] = (new short[] {
-			171
-		});
-		HZPY[18179] = (new short[] {
-			388
-		});
-		HZPY[18180] = (new short[] {
-			40
-		});
-		HZPY[18181] = (new short[] {
-			110
-		});
-		HZPY[18182] = (new short[] {
-			96
-		});
-		HZPY[18183] = (new short[] {
-			77
-		});
-		HZPY[18184] = (new short[] {
-			359
-		});
-		HZPY[18185] = (new short[] {
-			54
-		});
-		HZPY[18186] = (new short[] {
-			185
-		});
-		HZPY[18187] = (new short[] {
-			88
-		});
-		HZPY[18188] = (new short[] {
-			356
-		});
-		HZPY[18189] = (new short[] {
-			179
-		});
-		HZPY[18190] = (new short[] {
-			146
-		});
-		HZPY[18191] = (new short[] {
-			133
-		});
-		HZPY[18192] = (new short[] {
-			283
-		});
-		HZPY[18193] = (new short[] {
-			329
-		});
-		HZPY[18194] = (new short[] {
-			166
-		});
-		HZPY[18195] = (new short[] {
-			262
-		});
-		HZPY[18196] = (new short[] {
-			141
-		});
-		HZPY[18197] = (new short[] {
-			0
-		});
-		HZPY[18198] = (new short[] {
-			263, 259
-		});
-		HZPY[18199] = (new short[] {
-			394, 383
-		});
-		HZPY[18200] = (new short[] {
-			236
-		});
-		HZPY[18201] = (new short[] {
-			54
-		});
-		HZPY[18202] = (new short[] {
-			195
-		});
-		HZPY[18203] = (new short[] {
-			11
-		});
-		HZPY[18204] = (new short[] {
-			256
-		});
-		HZPY[18205] = (new short[] {
-			60
-		});
-		HZPY[18206] = (new short[] {
-			150
-		});
-		HZPY[18207] = (new short[] {
-			161
-		});
-		HZPY[18208] = (new short[] {
-			32
-		});
-		HZPY[18209] = (new short[] {
-			350
-		});
-		HZPY[18210] = (new short[] {
-			103
-		});
-		HZPY[18211] = (new short[] {
-			189
-		});
-		HZPY[18212] = (new short[] {
-			44
-		});
-		HZPY[18213] = (new short[] {
-			406
-		});
-		HZPY[18214] = (new short[] {
-			137
-		});
-		HZPY[18215] = (new short[] {
-			398
-		});
-		HZPY[18216] = (new short[] {
-			352
-		});
-		HZPY[18217] = (new short[] {
-			142
-		});
-		HZPY[18218] = (new short[] {
-			130
-		});
-		HZPY[18219] = (new short[] {
-			244
-		});
-		HZPY[18220] = (new short[] {
-			323
-		});
-		HZPY[18221] = (new short[] {
-			68
-		});
-		HZPY[18222] = (new short[] {
-			133
-		});
-		HZPY[18223] = (new short[] {
-			141
-		});
-		HZPY[18224] = (new short[] {
-			199
-		});
-		HZPY[18225] = (new short[] {
-			409
-		});
-		HZPY[18226] = (new short[] {
-			261
-		});
-		HZPY[18227] = (new short[] {
-			372
-		});
-		HZPY[18228] = (new short[] {
-			146
-		});
-		HZPY[18229] = (new short[] {
-			259
-		});
-		HZPY[18230] = (new short[] {
-			313
-		});
-		HZPY[18231] = (new short[] {
-			77
-		});
-		HZPY[18232] = (new short[] {
-			29
-		});
-		HZPY[18233] = (new short[] {
-			260
-		});
-		HZPY[18234] = (new short[] {
-			399
-		});
-		HZPY[18235] = (new short[] {
-			73
-		});
-		HZPY[18236] = (new short[] {
-			315
-		});
-		HZPY[18237] = (new short[] {
-			127
-		});
-		HZPY[18238] = (new short[] {
-			126
-		});
-		HZPY[18239] = (new short[] {
-			1
-		});
-		HZPY[18240] = (new short[] {
-			72
-		});
-		HZPY[18241] = (new short[] {
-			197
-		});
-		HZPY[18242] = (new short[] {
-			182
-		});
-		HZPY[18243] = (new short[] {
-			409
-		});
-		HZPY[18244] = (new short[] {
-			86
-		});
-		HZPY[18245] = (new short[] {
-			197
-		});
-		HZPY[18246] = (new short[] {
-			207
-		});
-		HZPY[18247] = (new short[] {
-			396
-		});
-		HZPY[18248] = (new short[] {
-			19
-		});
-		HZPY[18249] = (new short[] {
-			97
-		});
-		HZPY[18250] = (new short[] {
-			225
-		});
-		HZPY[18251] = (new short[] {
-			324
-		});
-		HZPY[18252] = (new short[] {
-			142
-		});
-		HZPY[18253] = (new short[] {
-			225
-		});
-		HZPY[18254] = (new short[] {
-			211
-		});
-		HZPY[18255] = (new short[] {
-			179
-		});
-		HZPY[18256] = (new short[] {
-			115, 96
-		});
-		HZPY[18257] = (new short[] {
-			8
-		});
-		HZPY[18258] = (new short[] {
-			369
-		});
-		HZPY[18259] = (new short[] {
-			132
-		});
-		HZPY[18260] = (new short[] {
-			17
-		});
-		HZPY[18261] = (new short[] {
-			279
-		});
-		HZPY[18262] = (new short[] {
-			15
-		});
-		HZPY[18263] = (new short[] {
-			324
-		});
-		HZPY[18264] = (new short[] {
-			193
-		});
-		HZPY[18265] = (new short[] {
-			189
-		});
-		HZPY[18266] = (new short[] {
-			12
-		});
-		HZPY[18267] = (new short[] {
-			374
-		});
-		HZPY[18268] = (new short[] {
-			138
-		});
-		HZPY[18269] = (new short[] {
-			63
-		});
-		HZPY[18270] = (new short[] {
-			412
-		});
-		HZPY[18271] = (new short[] {
-			361
-		});
-		HZPY[18272] = (new short[] {
-			179
-		});
-		HZPY[18273] = (new short[] {
-			31, 356, 323
-		});
-		HZPY[18274] = (new short[] {
-			143
-		});
-		HZPY[18275] = (new short[] {
-			175
-		});
-		HZPY[18276] = (new short[] {
-			255
-		});
-		HZPY[18277] = (new short[] {
-			183
-		});
-		HZPY[18278] = (new short[] {
-			75, 74
-		});
-		HZPY[18279] = (new short[] {
-			165
-		});
-		HZPY[18280] = (new short[] {
-			255
-		});
-		HZPY[18281] = (new short[] {
-			51
-		});
-		HZPY[18282] = (new short[] {
-			259
-		});
-		HZPY[18283] = (new short[] {
-			62
-		});
-		HZPY[18284] = (new short[] {
-			130
-		});
-		HZPY[18285] = (new short[] {
-			169
-		});
-		HZPY[18286] = (new short[] {
-			126
-		});
-		HZPY[18287] = (new short[] {
-			408
-		});
-		HZPY[18288] = (new short[] {
-			173
-		});
-		HZPY[18289] = (new short[] {
-			369
-		});
-		HZPY[18290] = (new short[] {
-			29
-		});
-		HZPY[18291] = (new short[] {
-			15
-		});
-		HZPY[18292] = (new short[] {
-			163
-		});
-		HZPY[18293] = (new short[] {
-			31
-		});
-		HZPY[18294] = (new short[] {
-			353
-		});
-		HZPY[18295] = (new short[] {
-			32, 392
-		});
-		HZPY[18296] = (new short[] {
-			32, 392
-		});
-		HZPY[18297] = (new short[] {
-			140
-		});
-		HZPY[18298] = (new short[] {
-			4
-		});
-		HZPY[18299] = (new short[] {
-			67
-		});
-		HZPY[18300] = (new short[] {
-			266
-		});
-		HZPY[18301] = (new short[] {
-			175
-		});
-		HZPY[18302] = (new short[] {
-			200
-		});
-		HZPY[18303] = (new short[] {
-			392, 32
-		});
-		HZPY[18304] = (new short[] {
-			198
-		});
-		HZPY[18305] = (new short[] {
-			191
-		});
-		HZPY[18306] = (new short[] {
-			308
-		});
-		HZPY[18307] = (new short[] {
-			296
-		});
-		HZPY[18308] = (new short[] {
-			130
-		});
-		HZPY[18309] = (new short[] {
-			198
-		});
-		HZPY[18310] = (new short[] {
-			365
-		});
-		HZPY[18311] = (new short[] {
-			13
-		});
-		HZPY[18312] = (new short[] {
-			113
-		});
-		HZPY[18313] = (new short[] {
-			13
-		});
-		HZPY[18314] = (new short[] {
-			229
-		});
-		HZPY[18315] = (new short[] {
-			146
-		});
-		HZPY[18316] = (new short[] {
-			148
-		});
-		HZPY[18317] = (new short[] {
-			12
-		});
-		HZPY[18318] = (new short[] {
-			121
-		});
-		HZPY[18319] = (new short[] {
-			284
-		});
-		HZPY[18320] = (new short[] {
-			288
-		});
-		HZPY[18321] = (new short[] {
-			352
-		});
-		HZPY[18322] = (new short[] {
-			352
-		});
-		HZPY[18323] = (new short[] {
-			133
-		});
-		HZPY[18324] = (new short[] {
-			204
-		});
-		HZPY[18325] = (new short[] {
-			351
-		});
-		HZPY[18326] = (new short[] {
-			204
-		});
-		HZPY[18327] = (new short[] {
-			71
-		});
-		HZPY[18328] = (new short[] {
-			389
-		});
-		HZPY[18329] = (new short[] {
-			215
-		});
-		HZPY[18330] = (new short[] {
-			229
-		});
-		HZPY[18331] = (new short[] {
-			246
-		});
-		HZPY[18332] = (new short[] {
-			150
-		});
-		HZPY[18333] = (new short[] {
-			178
-		});
-		HZPY[18334] = (new short[] {
-			14
-		});
-		HZPY[18335] = (new short[] {
-			13
-		});
-		HZPY[18336] = (new short[] {
-			284
-		});
-		HZPY[18337] = (new short[] {
-			116
-		});
-		HZPY[18338] = (new short[] {
-			106
-		});
-		HZPY[18339] = (new short[] {
-			97
-		});
-		HZPY[18340] = (new short[] {
-			116, 97
-		});
-		HZPY[18341] = (new short[] {
-			83
-		});
-		HZPY[18342] = (new short[] {
-			40
-		});
-		HZPY[18343] = (new short[] {
-			121
-		});
-		HZPY[18344] = (new short[] {
-			108
-		});
-		HZPY[18345] = (new short[] {
-			204
-		});
-		HZPY[18346] = (new short[] {
-			229
-		});
-		HZPY[18347] = (new short[] {
-			161
-		});
-		HZPY[18348] = (new short[] {
-			166
-		});
-		HZPY[18349] = (new short[] {
-			184
-		});
-		HZPY[18350] = (new short[] {
-			333
-		});
-		HZPY[18351] = (new short[] {
-			294
-		});
-		HZPY[18352] = (new short[] {
-			365
-		});
-		HZPY[18353] = (new short[] {
-			378
-		});
-		HZPY[18354] = (new short[] {
-			378
-		});
-		HZPY[18355] = (new short[] {
-			31
-		});
-		HZPY[18356] = (new short[] {
-			266
-		});
-		HZPY[18357] = (new short[] {
-			177
-		});
-		HZPY[18358] = (new short[] {
-			32
-		});
-		HZPY[18359] = (new short[] {
-			295
-		});
-		HZPY[18360] = (new short[] {
-			161
-		});
-		HZPY[18361] = (new short[] {
-			365
-		});
-		HZPY[18362] = (new short[] {
-			204, 346
-		});
-		HZPY[18363] = (new short[] {
-			365
-		});
-		HZPY[18364] = (new short[] {
-			77, 365
-		});
-		HZPY[18365] = (new short[] {
-			129
-		});
-		HZPY[18366] = (new short[] {
-			376
-		});
-		HZPY[18367] = (new short[] {
-			346
-		});
-		HZPY[18368] = (new short[] {
-			353
-		});
-		HZPY[18369] = (new short[] {
-			229
-		});
-		HZPY[18370] = (new short[] {
-			353
-		});
-		HZPY[18371] = (new short[] {
-			266
-		});
-		HZPY[18372] = (new short[] {
-			367
-		});
-		HZPY[18373] = (new short[] {
-			346
-		});
-		HZPY[18374] = (new short[] {
-			7
-		});
-		HZPY[18375] = (new short[] {
-			2
-		});
-		HZPY[18376] = (new short[] {
-			345
-		});
-		HZPY[18377] = (new short[] {
-			371
-		});
-		HZPY[18378] = (new short[] {
-			162
-		});
-		HZPY[18379] = (new short[] {
-			268
-		});
-		HZPY[18380] = (new short[] {
-			165
-		});
-		HZPY[18381] = (new short[] {
-			72, 299
-		});
-		HZPY[18382] = (new short[] {
-			229
-		});
-		HZPY[18383] = (new short[] {
-			229
-		});
-		HZPY[18384] = (new short[] {
-			330
-		});
-		HZPY[18385] = (new short[] {
-			225
-		});
-		HZPY[18386] = (new short[] {
-			55, 321
-		});
-		HZPY[18387] = (new short[] {
-			146
-		});
-		HZPY[18388] = (new short[] {
-			116
-		});
-		HZPY[18389] = (new short[] {
-			268
-		});
-		HZPY[18390] = (new short[] {
-			43
-		});
-		HZPY[18391] = (new short[] {
-			106
-		});
-		HZPY[18392] = (new short[] {
-			71
-		});
-		HZPY[18393] = (new short[] {
-			256
-		});
-		HZPY[18394] = (new short[] {
-			160
-		});
-		HZPY[18395] = (new short[] {
-			324
-		});
-		HZPY[18396] = (new short[] {
-			106
-		});
-		HZPY[18397] = (new short[] {
-			249
-		});
-		HZPY[18398] = (new short[] {
-			147, 113
-		});
-		HZPY[18399] = (new short[] {
-			350
-		});
-		HZPY[18400] = (new short[] {
-			128
-		});
-		HZPY[18401] = (new short[] {
-			31
-		});
-		HZPY[18402] = (new short[] {
-			247, 13
-		});
-		HZPY[18403] = (new short[] {
-			58
-		});
-		HZPY[18404] = (new short[] {
-			126
-		});
-		HZPY[18405] = (new short[] {
-			321
-		});
-		HZPY[18406] = (new short[] {
-			346
-		});
-		HZPY[18407] = (new short[] {
-			229
-		});
-		HZPY[18408] = (new short[] {
-			198
-		});
-		HZPY[18409] = (new short[] {
-			308
-		});
-		HZPY[18410] = (new short[] {
-			296
-		});
-		HZPY[18411] = (new short[] {
-			365
-		});
-		HZPY[18412] = (new short[] {
-			113
-		});
-		HZPY[18413] = (new short[] {
-			13
-		});
-		HZPY[18414] = (new short[] {
-			346
-		});
-		HZPY[18415] = (new short[] {
-			43
-		});
-		HZPY[18416] = (new short[] {
-			284
-		});
-		HZPY[18417] = (new short[] {
-			345
-		});
-		HZPY[18418] = (new short[] {
-			352
-		});
-		HZPY[18419] = (new short[] {
-			121
-		});
-		HZPY[18420] = (new short[] {
-			133
-		});
-		HZPY[18421] = (new short[] {
-			204
-		});
-		HZPY[18422] = (new short[] {
-			148
-		});
-		HZPY[18423] = (new short[] {
-			198
-		});
-		HZPY[18424] = (new short[] {
-			389
-		});
-		HZPY[18425] = (new short[] {
-			215
-		});
-		HZPY[18426] = (new short[] {
-			108
-		});
-		HZPY[18427] = (new short[] {
-			346
-		});
-		HZPY[18428] = (new short[] {
-			321
-		});
-		HZPY[18429] = (new short[] {
-			204
-		});
-		HZPY[18430] = (new short[] {
-			184
-		});
-		HZPY[18431] = (new short[] {
-			146
-		});
-		HZPY[18432] = (new short[] {
-			83
-		});
-		HZPY[18433] = (new short[] {
-			97
-		});
-		HZPY[18434] = (new short[] {
-			116
-		});
-		HZPY[18435] = (new short[] {
-			161
-		});
-		HZPY[18436] = (new short[] {
-			140
-		});
-		HZPY[18437] = (new short[] {
-			378
-		});
-		HZPY[18438] = (new short[] {
-			166
-		});
-		HZPY[18439] = (new short[] {
-			72, 299
-		});
-		HZPY[18440] = (new short[] {
-			376
-		});
-		HZPY[18441] = (new short[] {
-			365
-		});
-		HZPY[18442] = (new short[] {
-			32
-		});
-		HZPY[18443] = (new short[] {
-			350
-		});
-		HZPY[18444] = (new short[] {
-			346
-		});
-		HZPY[18445] = (new short[] {
-			129
-		});
-		HZPY[18446] = (new short[] {
-			365
-		});
-		HZPY[18447] = (new short[] {
-			365, 77
-		});
-		HZPY[18448] = (new short[] {
-			31
-		});
-		HZPY[18449] = (new short[] {
-			165
-		});
-		HZPY[18450] = (new short[] {
-			266
-		});
-		HZPY[18451] = (new short[] {
-			128
-		});
-		HZPY[18452] = (new short[] {
-			162
-		});
-		HZPY[18453] = (new short[] {
-			268
-		});
-		HZPY[18454] = (new short[] {
-			116
-		});
-		HZPY[18455] = (new short[] {
-			330
-		});
-		HZPY[18456] = (new short[] {
-			55, 321
-		});
-		HZPY[18457] = (new short[] {
-			268
-		});
-		HZPY[18458] = (new short[] {
-			147, 113
-		});
-		HZPY[18459] = (new short[] {
-			126
-		});
-		HZPY[18460] = (new short[] {
-			91
-		});
-		HZPY[18461] = (new short[] {
-			91, 369
-		});
-		HZPY[18462] = (new short[] {
-			168
-		});
-		HZPY[18463] = (new short[] {
-			74
-		});
-		HZPY[18464] = (new short[] {
-			356, 301
-		});
-		HZPY[18465] = (new short[] {
-			258
-		});
-		HZPY[18466] = (new short[] {
-			349
-		});
-		HZPY[18467] = (new short[] {
-			369
-		});
-		HZPY[18468] = (new short[] {
-			340
-		});
-		HZPY[18469] = (new short[] {
-			371
-		});
-		HZPY[18470] = (new short[] {
-			366
-		});
-		HZPY[18471] = (new short[] {
-			71
-		});
-		HZPY[18472] = (new short[] {
-			77
-		});
-		HZPY[18473] = (new short[] {
-			302
-		});
-		HZPY[18474] = (new short[] {
-			7
-		});
-		HZPY[18475] = (new short[] {
-			244
-		});
-		HZPY[18476] = (new short[] {
-			152
-		});
-		HZPY[18477] = (new short[] {
-			379
-		});
-		HZPY[18478] = (new short[] {
-			282
-		});
-		HZPY[18479] = (new short[] {
-			398
-		});
-		HZPY[18480] = (new short[] {
-			247
-		});
-		HZPY[18481] = (new short[] {
-			138
-		});
-		HZPY[18482] = (new short[] {
-			85
-		});
-		HZPY[18483] = (new short[] {
-			366
-		});
-		HZPY[18484] = (new short[] {
-			371
-		});
-		HZPY[18485] = (new short[] {
-			396
-		});
-		HZPY[18486] = (new short[] {
-			136
-		});
-		HZPY[18487] = (new short[] {
-			36
-		});
-		HZPY[18488] = (new short[] {
-			77
-		});
-		HZPY[18489] = (new short[] {
-			266
-		});
-		HZPY[18490] = (new short[] {
-			63
-		});
-		HZPY[18491] = (new short[] {
-			412
-		});
-		HZPY[18492] = (new short[] {
-			416
-		});
-		HZPY[18493] = (new short[] {
-			65, 365
-		});
-		HZPY[18494] = (new short[] {
-			178
-		});
-		HZPY[18495] = (new short[] {
-			0, 77
-		});
-		HZPY[18496] = (new short[] {
-			340
-		});
-		HZPY[18497] = (new short[] {
-			340
-		});
-		HZPY[18498] = (new short[] {
-			253, 10, 247
-		});
-		HZPY[18499] = (new short[] {
-			18
-		});
-		HZPY[18500] = (new short[] {
-			91
-		});
-		HZPY[18501] = (new short[] {
-			131
-		});
-		HZPY[18502] = (new short[] {
-			183, 179
-		});
-		HZPY[18503] = (new short[] {
-			181
-		});
-		HZPY[18504] = (new short[] {
-			35
-		});
-		HZPY[18505] = (new short[] {
-			357
-		});
-		HZPY[18506] = (new short[] {
-			76
-		});
-		HZPY[18507] = (new short[] {
-			182
-		});
-		HZPY[18508] = (new short[] {
-			207
-		});
-		HZPY[18509] = (new short[] {
-			134, 353
-		});
-		HZPY[18510] = (new short[] {
-			305
-		});
-		HZPY[18511] = (new short[] {
-			76
-		});
-		HZPY[18512] = (new short[] {
-			352
-		});
-		HZPY[18513] = (new short[] {
-			82
-		});
-		HZPY[18514] = (new short[] {
-			108
-		});
-		HZPY[18515] = (new short[] {
-			349
-		});
-		HZPY[18516] = (new short[] {
-			93
-		});
-		HZPY[18517] = (new short[] {
-			296
-		});
-		HZPY[18518] = (new short[] {
-			144
-		});
-		HZPY[18519] = (new short[] {
-			260
-		});
-		HZPY[18520] = (new short[] {
-			357
-		});
-		HZPY[18521] = (new short[] {
-			45
-		});
-		HZPY[18522] = (new short[] {
-			91
-		});
-		HZPY[18523] = (new short[] {
-			13
-		});
-		HZPY[18524] = (new short[] {
-			296
-		});
-		HZPY[18525] = (new short[] {
-			296, 351
-		});
-		HZPY[18526] = (new short[] {
-			302
-		});
-		HZPY[18527] = (new short[] {
-			398
-		});
-		HZPY[18528] = (new short[] {
-			255
-		});
-		HZPY[18529] = (new short[] {
-			71
-		});
-		HZPY[18530] = (new short[] {
-			377
-		});
-		HZPY[18531] = (new short[] {
-			396
-		});
-		HZPY[18532] = (new short[] {
-			40
-		});
-		HZPY[18533] = (new short[] {
-			352
-		});
-		HZPY[18534] = (new short[] {
-			398
-		});
-		HZPY[18535] = (new short[] {
-			225
-		});
-		HZPY[18536] = (new short[] {
-			379
-		});
-		HZPY[18537] = (new short[] {
-			352
-		});
-		HZPY[18538] = (new short[] {
-			244
-		});
-		HZPY[18539] = (new short[] {
-			244
-		});
-		HZPY[18540] = (new short[] {
-			411
-		});
-		HZPY[18541] = (new short[] {
-			369
-		});
-		HZPY[18542] = (new short[] {
-			74
-		});
-		HZPY[18543] = (new short[] {
-			188
-		});
-		HZPY[18544] = (new short[] {
-			371
-		});
-		HZPY[18545] = (new short[] {
-			141
-		});
-		HZPY[18546] = (new short[] {
-			44
-		});
-		HZPY[18547] = (new short[] {
-			35
-		});
-		HZPY[18548] = (new short[] {
-			247
-		});
-		HZPY[18549] = (new short[] {
-			178
-		});
-		HZPY[18550] = (new short[] {
-			325, 367
-		});
-		HZPY[18551] = (new short[] {
-			352
-		});
-		HZPY[18552] = (new short[] {
-			183, 179
-		});
-		HZPY[18553] = (new short[] {
-			229
-		});
-		HZPY[18554] = (new short[] {
-			352
-		});
-		HZPY[18555] = (new short[] {
-			371
-		});
-		HZPY[18556] = (new short[] {
-			401
-		});
-		HZPY[18557] = (new short[] {
-			366
-		});
-		HZPY[18558] = (new short[] {
-			277
-		});
-		HZPY[18559] = (new short[] {
-			296
-		});
-		HZPY[18560] = (new short[] {
-			38
-		});
-		HZPY[18561] = (new short[] {
-			365
-		});
-		HZPY[18562] = (new short[] {
-			371
-		});
-		HZPY[18563] = (new short[] {
-			376
-		});
-		HZPY[18564] = (new short[] {
-			329
-		});
-		HZPY[18565] = (new short[] {
-			376
-		});
-		HZPY[18566] = (new short[] {
-			181
-		});
-		HZPY[18567] = (new short[] {
-			345
-		});
-		HZPY[18568] = (new short[] {
-			345
-		});
-		HZPY[18569] = (new short[] {
-			225
-		});
-		HZPY[18570] = (new short[] {
-			74
-		});
-		HZPY[18571] = (new short[] {
-			318
-		});
-		HZPY[18572] = (new short[] {
-			2
-		});
-		HZPY[18573] = (new short[] {
-			127
-		});
-		HZPY[18574] = (new short[] {
-			136
-		});
-		HZPY[18575] = (new short[] {
-			318
-		});
-		HZPY[18576] = (new short[] {
-			371
-		});
-		HZPY[18577] = (new short[] {
-			93
-		});
-		HZPY[18578] = (new short[] {
-			365
-		});
-		HZPY[18579] = (new short[] {
-			128
-		});
-		HZPY[18580] = (new short[] {
-			97
-		});
-		HZPY[18581] = (new short[] {
-			379
-		});
-		HZPY[18582] = (new short[] {
-			349
-		});
-		HZPY[18583] = (new short[] {
-			345, 160
-		});
-		HZPY[18584] = (new short[] {
-			1
-		});
-		HZPY[18585] = (new short[] {
-			350
-		});
-		HZPY[18586] = (new short[] {
-			324
-		});
-		HZPY[18587] = (new short[] {
-			131
-		});
-		HZPY[18588] = (new short[] {
-			392
-		});
-		HZPY[18589] = (new short[] {
-			59
-		});
-		HZPY[18590] = (new short[] {
-			4
-		});
-		HZPY[18591] = (new short[] {
-			350
-		});
-		HZPY[18592] = (new short[] {
-			371
-		});
-		HZPY[18593] = (new short[] {
-			286
-		});
-		HZPY[18594] = (new short[] {
-			274
-		});
-		HZPY[18595] = (new short[] {
-			177
-		});
-		HZPY[18596] = (new short[] {
-			338
-		});
-		HZPY[18597] = (new short[] {
-			62
-		});
-		HZPY[18598] = (new short[] {
-			247
-		});
-		HZPY[18599] = (new short[] {
-			318
-		});
-		HZPY[18600] = (new short[] {
-			318
-		});
-		HZPY[18601] = (new short[] {
-			376
-		});
-		HZPY[18602] = (new short[] {
-			352
-		});
-		HZPY[18603] = (new short[] {
-			87
-		});
-		HZPY[18604] = (new short[] {
-			221
-		});
-		HZPY[18605] = (new short[] {
-			82
-		});
-		HZPY[18606] = (new short[] {
-			131
-		});
-		HZPY[18607] = (new short[] {
-			59
-		});
-		HZPY[18608] = (new short[] {
-			350
-		});
-		HZPY[18609] = (new short[] {
-			371
-		});
-		HZPY[18610] = (new short[] {
-			398
-		});
-		HZPY[18611] = (new short[] {
-			128
-		});
-		HZPY[18612] = (new short[] {
-			181
-		});
-		HZPY[18613] = (new short[] {
-			350
-		});
-		HZPY[18614] = (new short[] {
-			171
-		});
-		HZPY[18615] = (new short[] {
-			171
-		});
-		HZPY[18616] = (new short[] {
-			171
-		});
-		HZPY[18617] = (new short[] {
-			406, 52
-		});
-		HZPY[18618] = (new short[] {
-			116
-		});
-		HZPY[18619] = (new short[] {
-			398
-		});
-		HZPY[18620] = (new short[] {
-			319, 407
-		});
-		HZPY[18621] = (new short[] {
-			142, 144
-		});
-		HZPY[18622] = (new short[] {
-			213
-		});
-		HZPY[18623] = (new short[] {
-			369
-		});
-		HZPY[18624] = (new short[] {
-			268, 260
-		});
-		HZPY[18625] = (new short[] {
-			365
-		});
-		HZPY[18626] = (new short[] {
-			262
-		});
-		HZPY[18627] = (new short[] {
-			364
-		});
-		HZPY[18628] = (new short[] {
-			358
-		});
-		HZPY[18629] = (new short[] {
-			364
-		});
-		HZPY[18630] = (new short[] {
-			131
-		});
-		HZPY[18631] = (new short[] {
-			103
-		});
-		HZPY[18632] = (new short[] {
-			126
-		});
-		HZPY[18633] = (new short[] {
-			398
-		});
-		HZPY[18634] = (new short[] {
-			102
-		});
-		HZPY[18635] = (new short[] {
-			144, 142
-		});
-		HZPY[18636] = (new short[] {
-			47
-		});
-		HZPY[18637] = (new short[] {
-			374
-		});
-		HZPY[18638] = (new short[] {
-			141
-		});
-		HZPY[18639] = (new short[] {
-			40
-		});
-		HZPY[18640] = (new short[] {
-			123
-		});
-		HZPY[18641] = (new short[] {
-			380
-		});
-		HZPY[18642] = (new short[] {
-			189
-		});
-		HZPY[18643] = (new short[] {
-			376
-		});
-		HZPY[18644] = (new short[] {
-			39
-		});
-		HZPY[18645] = (new short[] {
-			66
-		});
-		HZPY[18646] = (new short[] {
-			318
-		});
-		HZPY[18647] = (new short[] {
-			113
-		});
-		HZPY[18648] = (new short[] {
-			130
-		});
-		HZPY[18649] = (new short[] {
-			309
-		});
-		HZPY[18650] = (new short[] {
-			106
-		});
-		HZPY[18651] = (new short[] {
-			40
-		});
-		HZPY[18652] = (new short[] {
-			380
-		});
-		HZPY[18653] = (new short[] {
-			374
-		});
-		HZPY[18654] = (new short[] {
-			131
-		});
-		HZPY[18655] = (new short[] {
-			318
-		});
-		HZPY[18656] = (new short[] {
-			39
-		});
-		HZPY[18657] = (new short[] {
-			179
-		});
-		HZPY[18658] = (new short[] {
-			171
-		});
-		HZPY[18659] = (new short[] {
-			213
-		});
-		HZPY[18660] = (new short[] {
-			362
-		});
-		HZPY[18661] = (new short[] {
-			380
-		});
-		HZPY[18662] = (new short[] {
-			131
-		});
-		HZPY[18663] = (new short[] {
-			131
-		});
-		HZPY[18664] = (new short[] {
-			376
-		});
-		HZPY[18665] = (new short[] {
-			376
-		});
-		HZPY[18666] = (new short[] {
-			362
-		});
-		HZPY[18667] = (new short[] {
-			211
-		});
-		HZPY[18668] = (new short[] {
-			90
-		});
-		HZPY[18669] = (new short[] {
-			291
-		});
-		HZPY[18670] = (new short[] {
-			209
-		});
-		HZPY[18671] = (new short[] {
-			346
-		});
-		HZPY[18672] = (new short[] {
-			87
-		});
-		HZPY[18673] = (new short[] {
-			242
-		});
-		HZPY[18674] = (new short[] {
-			379
-		});
-		HZPY[18675] = (new short[] {
-			171
-		});
-		HZPY[18676] = (new short[] {
-			171
-		});
-		HZPY[18677] = (new short[] {
-			366
-		});
-		HZPY[18678] = (new short[] {
-			178
-		});
-		HZPY[18679] = (new short[] {
-			169
-		});
-		HZPY[18680] = (new short[] {
-			2
-		});
-		HZPY[18681] = (new short[] {
-			9
-		});
-		HZPY[18682] = (new short[] {
-			199
-		});
-		HZPY[18683] = (new short[] {
-			65
-		});
-		HZPY[18684] = (new short[] {
-			58
-		});
-		HZPY[18685] = (new short[] {
-			114, 376
-		});
-		HZPY[18686] = (new short[] {
-			349
-		});
-		HZPY[18687] = (new short[] {
-			393
-		});
-		HZPY[18688] = (new short[] {
-			360
-		});
-		HZPY[18689] = (new short[] {
-			131
-		});
-		HZPY[18690] = (new short[] {
-			209
-		});
-		HZPY[18691] = (new short[] {
-			35
-		});
-		HZPY[18692] = (new short[] {
-			354
-		});
-		HZPY[18693] = (new short[] {
-			389
-		});
-		HZPY[18694] = (new short[] {
-			333
-		});
-		HZPY[18695] = (new short[] {
-			396
-		});
-		HZPY[18696] = (new short[] {
-			244
-		});
-		HZPY[18697] = (new short[] {
-			197
-		});
-		HZPY[18698] = (new short[] {
-			178
-		});
-		HZPY[18699] = (new short[] {
-			256
-		});
-		HZPY[18700] = (new short[] {
-			39
-		});
-		HZPY[18701] = (new short[] {
-			130
-		});
-		HZPY[18702] = (new short[] {
-			294
-		});
-		HZPY[18703] = (new short[] {
-			86
-		});
-		HZPY[18704] = (new short[] {
-			347
-		});
-		HZPY[18705] = (new short[] {
-			391
-		});
-		HZPY[18706] = (new short[] {
-			372
-		});
-		HZPY[18707] = (new short[] {
-			221
-		});
-		HZPY[18708] = (new short[] {
-			39
-		});
-		HZPY[18709] = (new short[] {
-			339
-		});
-		HZPY[18710] = (new short[] {
-			177
-		});
-		HZPY[18711] = (new short[] {
-			229
-		});
-		HZPY[18712] = (new short[] {
-			70
-		});
-		HZPY[18713] = (new short[] {
-			372, 131
-		});
-		HZPY[18714] = (new short[] {
-			349
-		});
-		HZPY[18715] = (new short[] {
-			178
-		});
-		HZPY[18716] = (new short[] {
-			309
-		});
-		HZPY[18717] = (new short[] {
-			178
-		});
-		HZPY[18718] = (new short[] {
-			351
-		});
-		HZPY[18719] = (new short[] {
-			121
-		});
-		HZPY[18720] = (new short[] {
-			371
-		});
-		HZPY[18721] = (new short[] {
-			192
-		});
-		HZPY[18722] = (new short[] {
-			207
-		});
-		HZPY[18723] = (new short[] {
-			379
-		});
-		HZPY[18724] = (new short[] {
-			179
-		});
-		HZPY[18725] = (new short[] {
-			199
-		});
-		HZPY[18726] = (new short[] {
-			17
-		});
-		HZPY[18727] = (new short[] {
-			349
-		});
-		HZPY[18728] = (new short[] {
-			345
-		});
-		HZPY[18729] = (new short[] {
-			162
-		});
-		HZPY[18730] = (new short[] {
-			371
-		});
-		HZPY[18731] = (new short[] {
-			350
-		});
-		HZPY[18732] = (new short[] {
-			369
-		});
-		HZPY[18733] = (new short[] {
-			1
-		});
-		HZPY[18734] = (new short[] {
-			57
-		});
-		HZPY[18735] = (new short[] {
-			62
-		});
-		HZPY[18736] = (new short[] {
-			352, 288
-		});
-		HZPY[18737] = (new short[] {
-			376
-		});
-		HZPY[18738] = (new short[] {
-			183, 182
-		});
-		HZPY[18739] = (new short[] {
-			181
-		});
-		HZPY[18740] = (new short[] {
-			56
-		});
-		HZPY[18741] = (new short[] {
-			131
-		});
-		HZPY[18742] = (new short[] {
-			242
-		});
-		HZPY[18743] = (new short[] {
-			366
-		});
-		HZPY[18744] = (new short[] {
-			5
-		});
-		HZPY[18745] = (new short[] {
-			247
-		});
-		HZPY[18746] = (new short[] {
-			345
-		});
-		HZPY[18747] = (new short[] {
-			229
-		});
-		HZPY[18748] = (new short[] {
-			350
-		});
-		HZPY[18749] = (new short[] {
-			131
-		});
-		HZPY[18750] = (new short[] {
-			192
-		});
-		HZPY[18751] = (new short[] {
-			199
-		});
-		HZPY[18752] = (new short[] {
-			199
-		});
-		HZPY[18753] = (new short[] {
-			169
-		});
-		HZPY[18754] = (new short[] {
-			171
-		});
-		HZPY[18755] = (new short[] {
-			130, 318
-		});
-		HZPY[18756] = (new short[] {
-			1
-		});
-		HZPY[18757] = (new short[] {
-			86
-		});
-		HZPY[18758] = (new short[] {
-			56
-		});
-		HZPY[18759] = (new short[] {
-			181
-		});
-		HZPY[18760] = (new short[] {
-			178
-		});
-		HZPY[18761] = (new short[] {
-			1
-		});
-		HZPY[18762] = (new short[] {
-			88
-		});
-		HZPY[18763] = (new short[] {
-			171
-		});
-		HZPY[18764] = (new short[] {
-			9
-		});
-		HZPY[18765] = (new short[] {
-			229
-		});
-		HZPY[18766] = (new short[] {
-			116
-		});
-		HZPY[18767] = (new short[] {
-			116
-		});
-		HZPY[18768] = (new short[] {
-			18
-		});
-		HZPY[18769] = (new short[] {
-			263
-		});
-		HZPY[18770] = (new short[] {
-			263
-		});
-		HZPY[18771] = (new short[] {
-			138, 174
-		});
-		HZPY[18772] = (new short[] {
-			256
-		});
-		HZPY[18773] = (new short[] {
-			396
-		});
-		HZPY[18774] = (new short[] {
-			138
-		});
-		HZPY[18775] = (new short[] {
-			36
-		});
-		HZPY[18776] = (new short[] {
-			263
-		});
-		HZPY[18777] = (new short[] {
-			138
-		});
-		HZPY[18778] = (new short[] {
-			138, 174
-		});
-		HZPY[18779] = (new short[] {
-			65
-		});
-		HZPY[18780] = (new short[] {
-			138
-		});
-		HZPY[18781] = (new short[] {
-			330
-		});
-		HZPY[18782] = (new short[] {
-			86
-		});
-		HZPY[18783] = (new short[] {
-			86
-		});
-		HZPY[18784] = (new short[] {
-			149
-		});
-		HZPY[18785] = (new short[] {
-			200
-		});
-		HZPY[18786] = (new short[] {
-			201
-		});
-		HZPY[18787] = (new short[] {
-			201
-		});
-		HZPY[18788] = (new short[] {
-			243
-		});
-		HZPY[18789] = (new short[] {
-			368
-		});
-		HZPY[18790] = (new short[] {
-			330, 201
-		});
-		HZPY[18791] = (new short[] {
-			128
-		});
-		HZPY[18792] = (new short[] {
-			368
-		});
-		HZPY[18793] = (new short[] {
-			97, 131
-		});
-		HZPY[18794] = (new short[] {
-			68
-		});
-		HZPY[18795] = (new short[] {
-			276
-		});
-		HZPY[18796] = (new short[] {
-			133
-		});
-		HZPY[18797] = (new short[] {
-			276
-		});
-		HZPY[18798] = (new short[] {
-			63
-		});
-		HZPY[18799] = (new short[] {
-			72
-		});
-		HZPY[18800] = (new short[] {
-			349
-		});
-		HZPY[18801] = (new short[] {
-			276
-		});
-		HZPY[18802] = (new short[] {
-			262
-		});
-		HZPY[18803] = (new short[] {
-			137
-		});
-		HZPY[18804] = (new short[] {
-			362
-		});
-		HZPY[18805] = (new short[] {
-			228
-		});
-		HZPY[18806] = (new short[] {
-			5
-		});
-		HZPY[18807] = (new short[] {
-			371
-		});
-		HZPY[18808] = (new short[] {
-			286
-		});
-		HZPY[18809] = (new short[] {
-			276
-		});
-		HZPY[18810] = (new short[] {
-			207
-		});
-		HZPY[18811] = (new short[] {
-			412
-		});
-		HZPY[18812] = (new short[] {
-			55
-		});
-		HZPY[18813] = (new short[] {
-			7
-		});
-		HZPY[18814] = (new short[] {
-			369
-		});
-		HZPY[18815] = (new short[] {
-			367
-		});
-		HZPY[18816] = (new short[] {
-			325
-		});
-		HZPY[18817] = (new short[] {
-			10, 340
-		});
-		HZPY[18818] = (new short[] {
-			132
-		});
-		HZPY[18819] = (new short[] {
-			121
-		});
-		HZPY[18820] = (new short[] {
-			243
-		});
-		HZPY[18821] = (new short[] {
-			366
-		});
-		HZPY[18822] = (new short[] {
-			207
-		});
-		HZPY[18823] = (new short[] {
-			371
-		});
-		HZPY[18824] = (new short[] {
-			132
-		});
-		HZPY[18825] = (new short[] {
-			325
-		});
-		HZPY[18826] = (new short[] {
-			131
-		});
-		HZPY[18827] = (new short[] {
-			355
-		});
-		HZPY[18828] = (new short[] {
-			2
-		});
-		HZPY[18829] = (new short[] {
-			2
-		});
-		HZPY[18830] = (new short[] {
-			118
-		});
-		HZPY[18831] = (new short[] {
-			101
-		});
-		HZPY[18832] = (new short[] {
-			101
-		});
-		HZPY[18833] = (new short[] {
-			55
-		});
-		HZPY[18834] = (new short[] {
-			260
-		});
-		HZPY[18835] = (new short[] {
-			333
-		});
-		HZPY[18836] = (new short[] {
-			193, 343
-		});
-		HZPY[18837] = (new short[] {
-			372
-		});
-		HZPY[18838] = (new short[] {
-			318
-		});
-		HZPY[18839] = (new short[] {
-			331
-		});
-		HZPY[18840] = (new short[] {
-			260, 298
-		});
-		HZPY[18841] = (new short[] {
-			361
-		});
-		HZPY[18842] = (new short[] {
-			153
-		});
-		HZPY[18843] = (new short[] {
-			12
-		});
-		HZPY[18844] = (new short[] {
-			321
-		});
-		HZPY[18845] = (new short[] {
-			392
-		});
-		HZPY[18846] = (new short[] {
-			18
-		});
-		HZPY[18847] = (new short[] {
-			162
-		});
-		HZPY[18848] = (new short[] {
-			141
-		});
-		HZPY[18849] = (new short[] {
-			163
-		});
-		HZPY[18850] = (new short[] {
-			355
-		});
-		HZPY[18851] = (new short[] {
-			280
-		});
-		HZPY[18852] = (new short[] {
-			8
-		});
-		HZPY[18853] = (new short[] {
-			369, 81
-		});
-		HZPY[18854] = (new short[] {
-			265
-		});
-		HZPY[18855] = (new short[] {
-			265
-		});
-		HZPY[18856] = (new short[] {
-			116
-		});
-		HZPY[18857] = (new short[] {
-			354
-		});
-		HZPY[18858] = (new short[] {
-			209
-		});
-		HZPY[18859] = (new short[] {
-			141
-		});
-		HZPY[18860] = (new short[] {
-			133
-		});
-		HZPY[18861] = (new short[] {
-			14
-		});
-		HZPY[18862] = (new short[] {
-			63
-		});
-		HZPY[18863] = (new short[] {
-			133
-		});
-		HZPY[18864] = (new short[] {
-			229
-		});
-		HZPY[18865] = (new short[] {
-			325
-		});
-		HZPY[18866] = (new short[] {
-			102
-		});
-		HZPY[18867] = (new short[] {
-			321
-		});
-		HZPY[18868] = (new short[] {
-			10
-		});
-		HZPY[18869] = (new short[] {
-			355
-		});
-		HZPY[18870] = (new short[] {
-			241
-		});
-		HZPY[18871] = (new short[] {
-			97
-		});
-		HZPY[18872] = (new short[] {
-			13
-		});
-		HZPY[18873] = (new short[] {
-			162, 160
-		});
-		HZPY[18874] = (new short[] {
-			324
-		});
-		HZPY[18875] = (new short[] {
-			182
-		});
-		HZPY[18876] = (new short[] {
-			108
-		});
-		HZPY[18877] = (new short[] {
-			260
-		});
-		HZPY[18878] = (new short[] {
-			362
-		});
-		HZPY[18879] = (new short[] {
-			131
-		});
-		HZPY[18880] = (new short[] {
-			133
-		});
-		HZPY[18881] = (new short[] {
-			134
-		});
-		HZPY[18882] = (new short[] {
-			31
-		});
-		HZPY[18883] = (new short[] {
-			55
-		});
-		HZPY[18884] = (new short[] {
-			130
-		});
-		HZPY[18885] = (new short[] {
-			352
-		});
-		HZPY[18886] = (new short[] {
-			258
-		});
-		HZPY[18887] = (new short[] {
-			72
-		});
-		HZPY[18888] = (new short[] {
-			341
-		});
-		HZPY[18889] = (new short[] {
-			133
-		});
-		HZPY[18890] = (new short[] {
-			165
-		});
-		HZPY[18891] = (new short[] {
-			345
-		});
-		HZPY[18892] = (new short[] {
-			276
-		});
-		HZPY[18893] = (new short[] {
-			91
-		});
-		HZPY[18894] = (new short[] {
-			197
-		});
-		HZPY[18895] = (new short[] {
-			142
-		});
-		HZPY[18896] = (new short[] {
-			97
-		});
-		HZPY[18897] = (new short[] {
-			345
-		});
-		HZPY[18898] = (new short[] {
-			260
-		});
-		HZPY[18899] = (new short[] {
-			113
-		});
-		HZPY[18900] = (new short[] {
-			32
-		});
-		HZPY[18901] = (new short[] {
-			229
-		});
-		HZPY[18902] = (new short[] {
-			280
-		});
-		HZPY[18903] = (new short[] {
-			363
-		});
-		HZPY[18904] = (new short[] {
-			299
-		});
-		HZPY[18905] = (new short[] {
-			345
-		});
-		HZPY[18906] = (new short[] {
-			97
-		});
-		HZPY[18907] = (new short[] {
-			10
-		});
-		HZPY[18908] = (new short[] {
-			325
-		});
-		HZPY[18909] = (new short[] {
-			102
-		});
-		HZPY[18910] = (new short[] {
-			379
-		});
-		HZPY[18911] = (new short[] {
-			96
-		});
-		HZPY[18912] = (new short[] {
-			13
-		});
-		HZPY[18913] = (new short[] {
-			345
-		});
-		HZPY[18914] = (new short[] {
-			128
-		});
-		HZPY[18915] = (new short[] {
-			305
-		});
-		HZPY[18916] = (new short[] {
-			341
-		});
-		HZPY[18917] = (new short[] {
-			72
-		});
-		HZPY[18918] = (new short[] {
-			345
-		});
-		HZPY[18919] = (new short[] {
-			276
-		});
-		HZPY[18920] = (new short[] {
-			91
-		});
-		HZPY[18921] = (new short[] {
-			113
-		});
-		HZPY[18922] = (new short[] {
-			345
-		});
-		HZPY[18923] = (new short[] {
-			379
-		});
-		HZPY[18924] = (new short[] {
-			325
-		});
-		HZPY[18925] = (new short[] {
-			140
-		});
-		HZPY[18926] = (new short[] {
-			140
-		});
-		HZPY[18927] = (new short[] {
-			352
-		});
-		HZPY[18928] = (new short[] {
-			355
-		});
-		HZPY[18929] = (new short[] {
-			352
-		});
-		HZPY[18930] = (new short[] {
-			131
-		});
-		HZPY[18931] = (new short[] {
-			371
-		});
-		HZPY[18932] = (new short[] {
-			380
-		});
-		HZPY[18933] = (new short[] {
-			379
-		});
-		HZPY[18934] = (new short[] {
-			298
-		});
-		HZPY[18935] = (new short[] {
-			189
-		});
-		HZPY[18936] = (new short[] {
-			246
-		});
-		HZPY[18937] = (new short[] {
-			127
-		});
-		HZPY[18938] = (new short[] {
-			372
-		});
-		HZPY[18939] = (new short[] {
-			379
-		});
-		HZPY[18940] = (new short[] {
-			246
-		});
-		HZPY[18941] = (new short[] {
-			371, 2
-		});
-		HZPY[18942] = (new short[] {
-			371
-		});
-		HZPY[18943] = (new short[] {
-			353
-		});
-		HZPY[18944] = (new short[] {
-			123
-		});
-		HZPY[18945] = (new short[] {
-			368
-		});
-		HZPY[18946] = (new short[] {
-			68
-		});
-		HZPY[18947] = (new short[] {
-			263
-		});
-		HZPY[18948] = (new short[] {
-			241
-		});
-		HZPY[18949] = (new short[] {
-			353
-		});
-		HZPY[18950] = (new short[] {
-			311
-		});
-		HZPY[18951] = (new short[] {
-			113
-		});
-		HZPY[18952] = (new short[] {
-			360
-		});
-		HZPY[18953] = (new short[] {
-			369
-		});
-		HZPY[18954] = (new short[] {
-			360
-		});
-		HZPY[18955] = (new short[] {
-			103
-		});
-		HZPY[18956] = (new short[] {
-			314
-		});
-		HZPY[18957] = (new short[] {
-			160
-		});
-		HZPY[18958] = (new short[] {
-			256
-		});
-		HZPY[18959] = (new short[] {
-			114
-		});
-		HZPY[18960] = (new short[] {
-			376
-		});
-		HZPY[18961] = (new short[] {
-			343
-		});
-		HZPY[18962] = (new short[] {
-			7
-		});
-		HZPY[18963] = (new short[] {
-			75, 72
-		});
-		HZPY[18964] = (new short[] {
-			63
-		});
-		HZPY[18965] = (new short[] {
-			57
-		});
-		HZPY[18966] = (new short[] {
-			241
-		});
-		HZPY[18967] = (new short[] {
-			253
-		});
-		HZPY[18968] = (new short[] {
-			178
-		});
-		HZPY[18969] = (new short[] {
-			36
-		});
-		HZPY[18970] = (new short[] {
-			138, 100
-		});
-		HZPY[18971] = (new short[] {
-			169
-		});
-		HZPY[18972] = (new short[] {
-			116, 113
-		});
-		HZPY[18973] = (new short[] {
-			260
-		});
-		HZPY[18974] = (new short[] {
-			77
-		});
-		HZPY[18975] = (new short[] {
-			77
-		});
-		HZPY[18976] = (new short[] {
-			345
-		});
-		HZPY[18977] = (new short[] {
-			136, 355
-		});
-		HZPY[18978] = (new short[] {
-			104
-		});
-		HZPY[18979] = (new short[] {
-			301
-		});
-		HZPY[18980] = (new short[] {
-			369
-		});
-		HZPY[18981] = (new short[] {
-			369
-		});
-		HZPY[18982] = (new short[] {
-			150
-		});
-		HZPY[18983] = (new short[] {
-			74
-		});
-		HZPY[18984] = (new short[] {
-			248
-		});
-		HZPY[18985] = (new short[] {
-			252
-		});
-		HZPY[18986] = (new short[] {
-			169
-		});
-		HZPY[18987] = (new short[] {
-			91
-		});
-		HZPY[18988] = (new short[] {
-			132
-		});
-		HZPY[18989] = (new short[] {
-			335
-		});
-		HZPY[18990] = (new short[] {
-			128
-		});
-		HZPY[18991] = (new short[] {
-			160
-		});
-		HZPY[18992] = (new short[] {
-			132
-		});
-		HZPY[18993] = (new short[] {
-			168
-		});
-		HZPY[18994] = (new short[] {
-			333
-		});
-		HZPY[18995] = (new short[] {
-			36
-		});
-		HZPY[18996] = (new short[] {
-			372
-		});
-		HZPY[18997] = (new short[] {
-			144
-		});
-		HZPY[18998] = (new short[] {
-			123
-		});
-		HZPY[18999] = (new short[] {
-			113
-		});
+	/**
+	 * Maps the pinyin table. Only the header is read here, the readings of each character are
+	 * read from the mapped file when they are needed.
+	 */
+	private static PinyinTable openTable() {
+		if (sContext == null) {
+			Log.w(TAG, "HanziToPinyin was not initialized, HanziToPinyin is disabled");
+			return null;
+		}
+		try {
+			return PinyinTable.open(sContext.getResources(), R.raw.pinyin_table);
+		} catch (IOException e) {
+			Log.w(TAG, "Unable to load the pinyin table, HanziToPinyin is disabled", e);
+			return null;
+		}
 	}
 
-	private void init7(short HZPY[][])
-	{
-		HZPY[19000] = (new short[] {
-			138, 100
-		});
-		HZPY[19001] = (new short[] {
-			338
-		});
-		HZPY[19002] = (new short[] {
-			338
-		});
-		HZPY[19003] = (new short[] {
-			251
-		});
-		HZPY[19004] = (new short[] {
-			164
-		});
-		HZPY[19005] = (new short[] {
-			338
-		});
-		HZPY[19006] = (new short[] {
-			409
-		});
-		HZPY[19007] = (new short[] {
-			409
-		});
-		HZPY[19008] = (new short[] {
-			44
-		});
-		HZPY[19009] = (new short[] {
-			68
-		});
-		HZPY[19010] = (new short[] {
-			164
-		});
-		HZPY[19011] = (new short[] {
-			365
-		});
-		HZPY[19012] = (new short[] {
-			113
-		});
-		HZPY[19013] = (new short[] {
-			258
-		});
-		HZPY[19014] = (new short[] {
-			150
-		});
-		HZPY[19015] = (new short[] {
-			52
-		});
-		HZPY[19016] = (new short[] {
-			139
-		});
-		HZPY[19017] = (new short[] {
-			262
-		});
-		HZPY[19018] = (new short[] {
-			369
-		});
-		HZPY[19019] = (new short[] {
-			287
-		});
-		HZPY[19020] = (new short[] {
-			329
-		});
-		HZPY[19021] = (new short[] {
-			77
-		});
-		HZPY[19022] = (new short[] {
-			77
-		});
-		HZPY[19023] = (new short[] {
-			365
-		});
-		HZPY[19024] = (new short[] {
-			129
-		});
-		HZPY[19025] = (new short[] {
-			147
-		});
-		HZPY[19026] = (new short[] {
-			374
-		});
-		HZPY[19027] = (new short[] {
-			404
-		});
-		HZPY[19028] = (new short[] {
-			365
-		});
-		HZPY[19029] = (new short[] {
-			352
-		});
-		HZPY[19030] = (new short[] {
-			356
-		});
-		HZPY[19031] = (new short[] {
-			369
-		});
-		HZPY[19032] = (new short[] {
-			377
-		});
-		HZPY[19033] = (new short[] {
-			289
-		});
-		HZPY[19034] = (new short[] {
-			65
-		});
-		HZPY[19035] = (new short[] {
-			65
-		});
-		HZPY[19036] = (new short[] {
-			134
-		});
-		HZPY[19037] = (new short[] {
-			155
-		});
-		HZPY[19038] = (new short[] {
-			169
-		});
-		HZPY[19039] = (new short[] {
-			175
-		});
-		HZPY[19040] = (new short[] {
-			249
-		});
-		HZPY[19041] = (new short[] {
-			369
-		});
-		HZPY[19042] = (new short[] {
-			193
-		});
-		HZPY[19043] = (new short[] {
-			256
-		});
-		HZPY[19044] = (new short[] {
-			367
-		});
-		HZPY[19045] = (new short[] {
-			115
-		});
-		HZPY[19046] = (new short[] {
-			260
-		});
-		HZPY[19047] = (new short[] {
-			103
-		});
-		HZPY[19048] = (new short[] {
-			363
-		});
-		HZPY[19049] = (new short[] {
-			258
-		});
-		HZPY[19050] = (new short[] {
-			128
-		});
-		HZPY[19051] = (new short[] {
-			391, 31
-		});
-		HZPY[19052] = (new short[] {
-			281
-		});
-		HZPY[19053] = (new short[] {
-			121
-		});
-		HZPY[19054] = (new short[] {
-			17
-		});
-		HZPY[19055] = (new short[] {
-			352
-		});
-		HZPY[19056] = (new short[] {
-			251
-		});
-		HZPY[19057] = (new short[] {
-			183
-		});
-		HZPY[19058] = (new short[] {
-			165
-		});
-		HZPY[19059] = (new short[] {
-			225
-		});
-		HZPY[19060] = (new short[] {
-			267
-		});
-		HZPY[19061] = (new short[] {
-			368
-		});
-		HZPY[19062] = (new short[] {
-			68
-		});
-		HZPY[19063] = (new short[] {
-			263
-		});
-		HZPY[19064] = (new short[] {
-			113
-		});
-		HZPY[19065] = (new short[] {
-			353
-		});
-		HZPY[19066] = (new short[] {
-			311
-		});
-		HZPY[19067] = (new short[] {
-			360
-		});
-		HZPY[19068] = (new short[] {
-			360
-		});
-		HZPY[19069] = (new short[] {
-			343
-		});
-		HZPY[19070] = (new short[] {
-			103
-		});
-		HZPY[19071] = (new short[] {
-			75, 72
-		});
-		HZPY[19072] = (new short[] {
-			256
-		});
-		HZPY[19073] = (new short[] {
-			7
-		});
-		HZPY[19074] = (new short[] {
-			314
-		});
-		HZPY[19075] = (new short[] {
-			114
-		});
-		HZPY[19076] = (new short[] {
-			376
-		});
-		HZPY[19077] = (new short[] {
-			183
-		});
-		HZPY[19078] = (new short[] {
-			178
-		});
-		HZPY[19079] = (new short[] {
-			253
-		});
-		HZPY[19080] = (new short[] {
-			138, 100
-		});
-		HZPY[19081] = (new short[] {
-			136, 355
-		});
-		HZPY[19082] = (new short[] {
-			132
-		});
-		HZPY[19083] = (new short[] {
-			333
-		});
-		HZPY[19084] = (new short[] {
-			116, 97
-		});
-		HZPY[19085] = (new short[] {
-			372
-		});
-		HZPY[19086] = (new short[] {
-			139
-		});
-		HZPY[19087] = (new short[] {
-			150
-		});
-		HZPY[19088] = (new short[] {
-			369
-		});
-		HZPY[19089] = (new short[] {
-			251
-		});
-		HZPY[19090] = (new short[] {
-			128
-		});
-		HZPY[19091] = (new short[] {
-			338
-		});
-		HZPY[19092] = (new short[] {
-			113
-		});
-		HZPY[19093] = (new short[] {
-			372
-		});
-		HZPY[19094] = (new short[] {
-			372
-		});
-		HZPY[19095] = (new short[] {
-			150
-		});
-		HZPY[19096] = (new short[] {
-			329
-		});
-		HZPY[19097] = (new short[] {
-			374
-		});
-		HZPY[19098] = (new short[] {
-			77
-		});
-		HZPY[19099] = (new short[] {
-			404
-		});
-		HZPY[19100] = (new short[] {
-			365
-		});
-		HZPY[19101] = (new short[] {
-			77
-		});
-		HZPY[19102] = (new short[] {
-			225
-		});
-		HZPY[19103] = (new short[] {
-			193
-		});
-		HZPY[19104] = (new short[] {
-			65
-		});
-		HZPY[19105] = (new short[] {
-			289
-		});
-		HZPY[19106] = (new short[] {
-			115
-		});
-		HZPY[19107] = (new short[] {
-			169
-		});
-		HZPY[19108] = (new short[] {
-			391, 31
-		});
-		HZPY[19109] = (new short[] {
-			281
-		});
-		HZPY[19110] = (new short[] {
-			251
-		});
-		HZPY[19111] = (new short[] {
-			267
-		});
-		HZPY[19112] = (new short[] {
-			88
-		});
-		HZPY[19113] = (new short[] {
-			15
-		});
-		HZPY[19114] = (new short[] {
-			229
-		});
-		HZPY[19115] = (new short[] {
-			91
-		});
-		HZPY[19116] = (new short[] {
-			351
-		});
-		HZPY[19117] = (new short[] {
-			391
-		});
-		HZPY[19118] = (new short[] {
-			15
-		});
-		HZPY[19119] = (new short[] {
-			286
-		});
-		HZPY[19120] = (new short[] {
-			83
-		});
-		HZPY[19121] = (new short[] {
-			322
-		});
-		HZPY[19122] = (new short[] {
-			176
-		});
-		HZPY[19123] = (new short[] {
-			104
-		});
-		HZPY[19124] = (new short[] {
-			361
-		});
-		HZPY[19125] = (new short[] {
-			298
-		});
-		HZPY[19126] = (new short[] {
-			141
-		});
-		HZPY[19127] = (new short[] {
-			15
-		});
-		HZPY[19128] = (new short[] {
-			313
-		});
-		HZPY[19129] = (new short[] {
-			345
-		});
-		HZPY[19130] = (new short[] {
-			366
-		});
-		HZPY[19131] = (new short[] {
-			367
-		});
-		HZPY[19132] = (new short[] {
-			315
-		});
-		HZPY[19133] = (new short[] {
-			146
-		});
-		HZPY[19134] = (new short[] {
-			290
-		});
-		HZPY[19135] = (new short[] {
-			84
-		});
-		HZPY[19136] = (new short[] {
-			179
-		});
-		HZPY[19137] = (new short[] {
-			350
-		});
-		HZPY[19138] = (new short[] {
-			175
-		});
-		HZPY[19139] = (new short[] {
-			249
-		});
-		HZPY[19140] = (new short[] {
-			249
-		});
-		HZPY[19141] = (new short[] {
-			179
-		});
-		HZPY[19142] = (new short[] {
-			15
-		});
-		HZPY[19143] = (new short[] {
-			15
-		});
-		HZPY[19144] = (new short[] {
-			15
-		});
-		HZPY[19145] = (new short[] {
-			175
-		});
-		HZPY[19146] = (new short[] {
-			229
-		});
-		HZPY[19147] = (new short[] {
-			291
-		});
-		HZPY[19148] = (new short[] {
-			88
-		});
-		HZPY[19149] = (new short[] {
-			15
-		});
-		HZPY[19150] = (new short[] {
-			88
-		});
-		HZPY[19151] = (new short[] {
-			366
-		});
-		HZPY[19152] = (new short[] {
-			391
-		});
-		HZPY[19153] = (new short[] {
-			15
-		});
-		HZPY[19154] = (new short[] {
-			286
-		});
-		HZPY[19155] = (new short[] {
-			141
-		});
-		HZPY[19156] = (new short[] {
-			313
-		});
-		HZPY[19157] = (new short[] {
-			315
-		});
-		HZPY[19158] = (new short[] {
-			367
-		});
-		HZPY[19159] = (new short[] {
-			179
-		});
-		HZPY[19160] = (new short[] {
-			249
-		});
-		HZPY[19161] = (new short[] {
-			15
-		});
-		HZPY[19162] = (new short[] {
-			15
-		});
-		HZPY[19163] = (new short[] {
-			86
-		});
-		HZPY[19164] = (new short[] {
-			84
-		});
-		HZPY[19165] = (new short[] {
-			86
-		});
-		HZPY[19166] = (new short[] {
-			86
-		});
-		HZPY[19167] = (new short[] {
-			303, 313, 369
-		});
-		HZPY[19168] = (new short[] {
-			303, 313
-		});
-		HZPY[19169] = (new short[] {
-			23
-		});
-		HZPY[19170] = (new short[] {
-			131
-		});
-		HZPY[19171] = (new short[] {
-			68
-		});
-		HZPY[19172] = (new short[] {
-			313
-		});
-		HZPY[19173] = (new short[] {
-			340
-		});
-		HZPY[19174] = (new short[] {
-			133
-		});
-		HZPY[19175] = (new short[] {
-			319
-		});
-		HZPY[19176] = (new short[] {
-			353
-		});
-		HZPY[19177] = (new short[] {
-			339
-		});
-		HZPY[19178] = (new short[] {
-			276
-		});
-		HZPY[19179] = (new short[] {
-			376
-		});
-		HZPY[19180] = (new short[] {
-			142
-		});
-		HZPY[19181] = (new short[] {
-			37
-		});
-		HZPY[19182] = (new short[] {
-			371
-		});
-		HZPY[19183] = (new short[] {
-			84
-		});
-		HZPY[19184] = (new short[] {
-			84
-		});
-		HZPY[19185] = (new short[] {
-			319
-		});
-		HZPY[19186] = (new short[] {
-			371
-		});
-		HZPY[19187] = (new short[] {
-			401
-		});
-		HZPY[19188] = (new short[] {
-			369
-		});
-		HZPY[19189] = (new short[] {
-			390
-		});
-		HZPY[19190] = (new short[] {
-			13
-		});
-		HZPY[19191] = (new short[] {
-			136
-		});
-		HZPY[19192] = (new short[] {
-			325
-		});
-		HZPY[19193] = (new short[] {
-			179
-		});
-		HZPY[19194] = (new short[] {
-			47
-		});
-		HZPY[19195] = (new short[] {
-			332
-		});
-		HZPY[19196] = (new short[] {
-			313
-		});
-		HZPY[19197] = (new short[] {
-			9
-		});
-		HZPY[19198] = (new short[] {
-			303
-		});
-		HZPY[19199] = (new short[] {
-			76
-		});
-		HZPY[19200] = (new short[] {
-			112
-		});
-		HZPY[19201] = (new short[] {
-			276
-		});
-		HZPY[19202] = (new short[] {
-			330
-		});
-		HZPY[19203] = (new short[] {
-			135, 132
-		});
-		HZPY[19204] = (new short[] {
-			132
-		});
-		HZPY[19205] = (new short[] {
-			18
-		});
-		HZPY[19206] = (new short[] {
-			367
-		});
-		HZPY[19207] = (new short[] {
-			334
-		});
-		HZPY[19208] = (new short[] {
-			47
-		});
-		HZPY[19209] = (new short[] {
-			353
-		});
-		HZPY[19210] = (new short[] {
-			366
-		});
-		HZPY[19211] = (new short[] {
-			366
-		});
-		HZPY[19212] = (new short[] {
-			82
-		});
-		HZPY[19213] = (new short[] {
-			365
-		});
-		HZPY[19214] = (new short[] {
-			168
-		});
-		HZPY[19215] = (new short[] {
-			369
-		});
-		HZPY[19216] = (new short[] {
-			23
-		});
-		HZPY[19217] = (new short[] {
-			19
-		});
-		HZPY[19218] = (new short[] {
-			217
-		});
-		HZPY[19219] = (new short[] {
-			77
-		});
-		HZPY[19220] = (new short[] {
-			20
-		});
-		HZPY[19221] = (new short[] {
-			144
-		});
-		HZPY[19222] = (new short[] {
-			71
-		});
-		HZPY[19223] = (new short[] {
-			316
-		});
-		HZPY[19224] = (new short[] {
-			376
-		});
-		HZPY[19225] = (new short[] {
-			303
-		});
-		HZPY[19226] = (new short[] {
-			367
-		});
-		HZPY[19227] = (new short[] {
-			129
-		});
-		HZPY[19228] = (new short[] {
-			110
-		});
-		HZPY[19229] = (new short[] {
-			303
-		});
-		HZPY[19230] = (new short[] {
-			133
-		});
-		HZPY[19231] = (new short[] {
-			406
-		});
-		HZPY[19232] = (new short[] {
-			18
-		});
-		HZPY[19233] = (new short[] {
-			352
-		});
-		HZPY[19234] = (new short[] {
-			20
-		});
-		HZPY[19235] = (new short[] {
-			368
-		});
-		HZPY[19236] = (new short[] {
-			323
-		});
-		HZPY[19237] = (new short[] {
-			86
-		});
-		HZPY[19238] = (new short[] {
-			392
-		});
-		HZPY[19239] = (new short[] {
-			345
-		});
-		HZPY[19240] = (new short[] {
-			106
-		});
-		HZPY[19241] = (new short[] {
-			77
-		});
-		HZPY[19242] = (new short[] {
-			235
-		});
-		HZPY[19243] = (new short[] {
-			129
-		});
-		HZPY[19244] = (new short[] {
-			123
-		});
-		HZPY[19245] = (new short[] {
-			127
-		});
-		HZPY[19246] = (new short[] {
-			332
-		});
-		HZPY[19247] = (new short[] {
-			128
-		});
-		HZPY[19248] = (new short[] {
-			133
-		});
-		HZPY[19249] = (new short[] {
-			122
-		});
-		HZPY[19250] = (new short[] {
-			116
-		});
-		HZPY[19251] = (new short[] {
-			357, 324
-		});
-		HZPY[19252] = (new short[] {
-			87
-		});
-		HZPY[19253] = (new short[] {
-			345
-		});
-		HZPY[19254] = (new short[] {
-			103
-		});
-		HZPY[19255] = (new short[] {
-			29
-		});
-		HZPY[19256] = (new short[] {
-			314
-		});
-		HZPY[19257] = (new short[] {
-			324, 357
-		});
-		HZPY[19258] = (new short[] {
-			19
-		});
-		HZPY[19259] = (new short[] {
-			96
-		});
-		HZPY[19260] = (new short[] {
-			350
-		});
-		HZPY[19261] = (new short[] {
-			160
-		});
-		HZPY[19262] = (new short[] {
-			179
-		});
-		HZPY[19263] = (new short[] {
-			315
-		});
-		HZPY[19264] = (new short[] {
-			325
-		});
-		HZPY[19265] = (new short[] {
-			368
-		});
-		HZPY[19266] = (new short[] {
-			379
-		});
-		HZPY[19267] = (new short[] {
-			207
-		});
-		HZPY[19268] = (new short[] {
-			324
-		});
-		HZPY[19269] = (new short[] {
-			193
-		});
-		HZPY[19270] = (new short[] {
-			13
-		});
-		HZPY[19271] = (new short[] {
-			376
-		});
-		HZPY[19272] = (new short[] {
-			359
-		});
-		HZPY[19273] = (new short[] {
-			137
-		});
-		HZPY[19274] = (new short[] {
-			288
-		});
-		HZPY[19275] = (new short[] {
-			160
-		});
-		HZPY[19276] = (new short[] {
-			404
-		});
-		HZPY[19277] = (new short[] {
-			296
-		});
-		HZPY[19278] = (new short[] {
-			37
-		});
-		HZPY[19279] = (new short[] {
-			57
-		});
-		HZPY[19280] = (new short[] {
-			369
-		});
-		HZPY[19281] = (new short[] {
-			131
-		});
-		HZPY[19282] = (new short[] {
-			274
-		});
-		HZPY[19283] = (new short[] {
-			36
-		});
-		HZPY[19284] = (new short[] {
-			374
-		});
-		HZPY[19285] = (new short[] {
-			325
-		});
-		HZPY[19286] = (new short[] {
-			128
-		});
-		HZPY[19287] = (new short[] {
-			353
-		});
-		HZPY[19288] = (new short[] {
-			391
-		});
-		HZPY[19289] = (new short[] {
-			87
-		});
-		HZPY[19290] = (new short[] {
-			112
-		});
-		HZPY[19291] = (new short[] {
-			199
-		});
-		HZPY[19292] = (new short[] {
-			365
-		});
-		HZPY[19293] = (new short[] {
-			207
-		});
-		HZPY[19294] = (new short[] {
-			31
-		});
-		HZPY[19295] = (new short[] {
-			353
-		});
-		HZPY[19296] = (new short[] {
-			189
-		});
-		HZPY[19297] = (new short[] {
-			413, 382
-		});
-		HZPY[19298] = (new short[] {
-			214
-		});
-		HZPY[19299] = (new short[] {
-			303, 313
-		});
-		HZPY[19300] = (new short[] {
-			68
-		});
-		HZPY[19301] = (new short[] {
-			131
-		});
-		HZPY[19302] = (new short[] {
-			340
-		});
-		HZPY[19303] = (new short[] {
-			357, 324
-		});
-		HZPY[19304] = (new short[] {
-			339
-		});
-		HZPY[19305] = (new short[] {
-			350
-		});
-		HZPY[19306] = (new short[] {
-			276
-		});
-		HZPY[19307] = (new short[] {
-			376
-		});
-		HZPY[19308] = (new short[] {
-			37
-		});
-		HZPY[19309] = (new short[] {
-			84
-		});
-		HZPY[19310] = (new short[] {
-			371
-		});
-		HZPY[19311] = (new short[] {
-			133
-		});
-		HZPY[19312] = (new short[] {
-			303
-		});
-		HZPY[19313] = (new short[] {
-			9
-		});
-		HZPY[19314] = (new short[] {
-			313
-		});
-		HZPY[19315] = (new short[] {
-			76
-		});
-		HZPY[19316] = (new short[] {
-			369
-		});
-		HZPY[19317] = (new short[] {
-			82
-		});
-		HZPY[19318] = (new short[] {
-			274
-		});
-		HZPY[19319] = (new short[] {
-			353
-		});
-		HZPY[19320] = (new short[] {
-			116
-		});
-		HZPY[19321] = (new short[] {
-			168
-		});
-		HZPY[19322] = (new short[] {
-			135, 132
-		});
-		HZPY[19323] = (new short[] {
-			350
-		});
-		HZPY[19324] = (new short[] {
-			18
-		});
-		HZPY[19325] = (new short[] {
-			19
-		});
-		HZPY[19326] = (new short[] {
-			71
-		});
-		HZPY[19327] = (new short[] {
-			77
-		});
-		HZPY[19328] = (new short[] {
-			376
-		});
-		HZPY[19329] = (new short[] {
-			217
-		});
-		HZPY[19330] = (new short[] {
-			144
-		});
-		HZPY[19331] = (new short[] {
-			110
-		});
-		HZPY[19332] = (new short[] {
-			129
-		});
-		HZPY[19333] = (new short[] {
-			352
-		});
-		HZPY[19334] = (new short[] {
-			106
-		});
-		HZPY[19335] = (new short[] {
-			29
-		});
-		HZPY[19336] = (new short[] {
-			160
-		});
-		HZPY[19337] = (new short[] {
-			103
-		});
-		HZPY[19338] = (new short[] {
-			315
-		});
-		HZPY[19339] = (new short[] {
-			31
-		});
-		HZPY[19340] = (new short[] {
-			368
-		});
-		HZPY[19341] = (new short[] {
-			207
-		});
-		HZPY[19342] = (new short[] {
-			19
-		});
-		HZPY[19343] = (new short[] {
-			179
-		});
-		HZPY[19344] = (new short[] {
-			359
-		});
-		HZPY[19345] = (new short[] {
-			137
-		});
-		HZPY[19346] = (new short[] {
-			193
-		});
-		HZPY[19347] = (new short[] {
-			288
-		});
-		HZPY[19348] = (new short[] {
-			404
-		});
-		HZPY[19349] = (new short[] {
-			214
-		});
-		HZPY[19350] = (new short[] {
-			304
-		});
-		HZPY[19351] = (new short[] {
-			160
-		});
-		HZPY[19352] = (new short[] {
-			110
-		});
-		HZPY[19353] = (new short[] {
-			353
-		});
-		HZPY[19354] = (new short[] {
-			87
-		});
-		HZPY[19355] = (new short[] {
-			5
-		});
-		HZPY[19356] = (new short[] {
-			221
-		});
-		HZPY[19357] = (new short[] {
-			13
-		});
-		HZPY[19358] = (new short[] {
-			19
-		});
-		HZPY[19359] = (new short[] {
-			336
-		});
-		HZPY[19360] = (new short[] {
-			113
-		});
-		HZPY[19361] = (new short[] {
-			86
-		});
-		HZPY[19362] = (new short[] {
-			133
-		});
-		HZPY[19363] = (new short[] {
-			365
-		});
-		HZPY[19364] = (new short[] {
-			1
-		});
-		HZPY[19365] = (new short[] {
-			91
-		});
-		HZPY[19366] = (new short[] {
-			352
-		});
-		HZPY[19367] = (new short[] {
-			346
-		});
-		HZPY[19368] = (new short[] {
-			356, 357
-		});
-		HZPY[19369] = (new short[] {
-			87
-		});
-		HZPY[19370] = (new short[] {
-			17
-		});
-		HZPY[19371] = (new short[] {
-			357
-		});
-		HZPY[19372] = (new short[] {
-			191
-		});
-		HZPY[19373] = (new short[] {
-			376
-		});
-		HZPY[19374] = (new short[] {
-			88, 252
-		});
-		HZPY[19375] = (new short[] {
-			113
-		});
-		HZPY[19376] = (new short[] {
-			63
-		});
-		HZPY[19377] = (new short[] {
-			340, 76
-		});
-		HZPY[19378] = (new short[] {
-			340
-		});
-		HZPY[19379] = (new short[] {
-			37
-		});
-		HZPY[19380] = (new short[] {
-			363
-		});
-		HZPY[19381] = (new short[] {
-			401
-		});
-		HZPY[19382] = (new short[] {
-			398
-		});
-		HZPY[19383] = (new short[] {
-			244
-		});
-		HZPY[19384] = (new short[] {
-			356
-		});
-		HZPY[19385] = (new short[] {
-			278
-		});
-		HZPY[19386] = (new short[] {
-			286
-		});
-		HZPY[19387] = (new short[] {
-			371
-		});
-		HZPY[19388] = (new short[] {
-			346
-		});
-		HZPY[19389] = (new short[] {
-			398
-		});
-		HZPY[19390] = (new short[] {
-			57
-		});
-		HZPY[19391] = (new short[] {
-			184
-		});
-		HZPY[19392] = (new short[] {
-			375
-		});
-		HZPY[19393] = (new short[] {
-			19
-		});
-		HZPY[19394] = (new short[] {
-			9
-		});
-		HZPY[19395] = (new short[] {
-			157
-		});
-		HZPY[19396] = (new short[] {
-			340, 76
-		});
-		HZPY[19397] = (new short[] {
-			369
-		});
-		HZPY[19398] = (new short[] {
-			266
-		});
-		HZPY[19399] = (new short[] {
-			346
-		});
-		HZPY[19400] = (new short[] {
-			266
-		});
-		HZPY[19401] = (new short[] {
-			139
-		});
-		HZPY[19402] = (new short[] {
-			19
-		});
-		HZPY[19403] = (new short[] {
-			393
-		});
-		HZPY[19404] = (new short[] {
-			377
-		});
-		HZPY[19405] = (new short[] {
-			246
-		});
-		HZPY[19406] = (new short[] {
-			400
-		});
-		HZPY[19407] = (new short[] {
-			141
-		});
-		HZPY[19408] = (new short[] {
-			401
-		});
-		HZPY[19409] = (new short[] {
-			232
-		});
-		HZPY[19410] = (new short[] {
-			141
-		});
-		HZPY[19411] = (new short[] {
-			247
-		});
-		HZPY[19412] = (new short[] {
-			383
-		});
-		HZPY[19413] = (new short[] {
-			132
-		});
-		HZPY[19414] = (new short[] {
-			178
-		});
-		HZPY[19415] = (new short[] {
-			396
-		});
-		HZPY[19416] = (new short[] {
-			322
-		});
-		HZPY[19417] = (new short[] {
-			91
-		});
-		HZPY[19418] = (new short[] {
-			366
-		});
-		HZPY[19419] = (new short[] {
-			303
-		});
-		HZPY[19420] = (new short[] {
-			13
-		});
-		HZPY[19421] = (new short[] {
-			340
-		});
-		HZPY[19422] = (new short[] {
-			340
-		});
-		HZPY[19423] = (new short[] {
-			313
-		});
-		HZPY[19424] = (new short[] {
-			179
-		});
-		HZPY[19425] = (new short[] {
-			191
-		});
-		HZPY[19426] = (new short[] {
-			248
-		});
-		HZPY[19427] = (new short[] {
-			325
-		});
-		HZPY[19428] = (new short[] {
-			398
-		});
-		HZPY[19429] = (new short[] {
-			279
-		});
-		HZPY[19430] = (new short[] {
-			328
-		});
-		HZPY[19431] = (new short[] {
-			70
-		});
-		HZPY[19432] = (new short[] {
-			363
-		});
-		HZPY[19433] = (new short[] {
-			267
-		});
-		HZPY[19434] = (new short[] {
-			301
-		});
-		HZPY[19435] = (new short[] {
-			139
-		});
-		HZPY[19436] = (new short[] {
-			82
-		});
-		HZPY[19437] = (new short[] {
-			112, 355
-		});
-		HZPY[19438] = (new short[] {
-			19
-		});
-		HZPY[19439] = (new short[] {
-			229
-		});
-		HZPY[19440] = (new short[] {
-			371
-		});
-		HZPY[19441] = (new short[] {
-			189
-		});
-		HZPY[19442] = (new short[] {
-			229
-		});
-		HZPY[19443] = (new short[] {
-			57
-		});
-		HZPY[19444] = (new short[] {
-			355
-		});
-		HZPY[19445] = (new short[] {
-			179
-		});
-		HZPY[19446] = (new short[] {
-			141
-		});
-		HZPY[19447] = (new short[] {
-			314
-		});
-		HZPY[19448] = (new short[] {
-			262
-		});
-		HZPY[19449] = (new short[] {
-			194
-		});
-		HZPY[19450] = (new short[] {
-			174
-		});
-		HZPY[19451] = (new short[] {
-			113
-		});
-		HZPY[19452] = (new short[] {
-			336
-		});
-		HZPY[19453] = (new short[] {
-			361
-		});
-		HZPY[19454] = (new short[] {
-			338
-		});
-		HZPY[19455] = (new short[] {
-			144
-		});
-		HZPY[19456] = (new short[] {
-			77
-		});
-		HZPY[19457] = (new short[] {
-			36
-		});
-		HZPY[19458] = (new short[] {
-			357
-		});
-		HZPY[19459] = (new short[] {
-			1
-		});
-		HZPY[19460] = (new short[] {
-			183
-		});
-		HZPY[19461] = (new short[] {
-			406
-		});
-		HZPY[19462] = (new short[] {
-			400
-		});
-		HZPY[19463] = (new short[] {
-			299
-		});
-		HZPY[19464] = (new short[] {
-			248
-		});
-		HZPY[19465] = (new short[] {
-			161
-		});
-		HZPY[19466] = (new short[] {
-			325
-		});
-		HZPY[19467] = (new short[] {
-			164
-		});
-		HZPY[19468] = (new short[] {
-			410
-		});
-		HZPY[19469] = (new short[] {
-			150
-		});
-		HZPY[19470] = (new short[] {
-			256, 131
-		});
-		HZPY[19471] = (new short[] {
-			256
-		});
-		HZPY[19472] = (new short[] {
-			365
-		});
-		HZPY[19473] = (new short[] {
-			86
-		});
-		HZPY[19474] = (new short[] {
-			290
-		});
-		HZPY[19475] = (new short[] {
-			365
-		});
-		HZPY[19476] = (new short[] {
-			136, 97
-		});
-		HZPY[19477] = (new short[] {
-			367
-		});
-		HZPY[19478] = (new short[] {
-			349
-		});
-		HZPY[19479] = (new short[] {
-			248
-		});
-		HZPY[19480] = (new short[] {
-			48
-		});
-		HZPY[19481] = (new short[] {
-			248
-		});
-		HZPY[19482] = (new short[] {
-			258
-		});
-		HZPY[19483] = (new short[] {
-			86
-		});
-		HZPY[19484] = (new short[] {
-			127
-		});
-		HZPY[19485] = (new short[] {
-			133
-		});
-		HZPY[19486] = (new short[] {
-			130
-		});
-		HZPY[19487] = (new short[] {
-			376
-		});
-		HZPY[19488] = (new short[] {
-			329
-		});
-		HZPY[19489] = (new short[] {
-			267
-		});
-		HZPY[19490] = (new short[] {
-			351
-		});
-		HZPY[19491] = (new short[] {
-			410
-		});
-		HZPY[19492] = (new short[] {
-			160
-		});
-		HZPY[19493] = (new short[] {
-			280
-		});
-		HZPY[19494] = (new short[] {
-			313
-		});
-		HZPY[19495] = (new short[] {
-			104
-		});
-		HZPY[19496] = (new short[] {
-			340, 323
-		});
-		HZPY[19497] = (new short[] {
-			160
-		});
-		HZPY[19498] = (new short[] {
-			315
-		});
-		HZPY[19499] = (new short[] {
-			258
-		});
-		HZPY[19500] = (new short[] {
-			36
-		});
-		HZPY[19501] = (new short[] {
-			398
-		});
-		HZPY[19502] = (new short[] {
-			179
-		});
-		HZPY[19503] = (new short[] {
-			242
-		});
-		HZPY[19504] = (new short[] {
-			328
-		});
-		HZPY[19505] = (new short[] {
-			350
-		});
-		HZPY[19506] = (new short[] {
-			25
-		});
-		HZPY[19507] = (new short[] {
-			72
-		});
-		HZPY[19508] = (new short[] {
-			365
-		});
-		HZPY[19509] = (new short[] {
-			377
-		});
-		HZPY[19510] = (new short[] {
-			411
-		});
-		HZPY[19511] = (new short[] {
-			290
-		});
-		HZPY[19512] = (new short[] {
-			296
-		});
-		HZPY[19513] = (new short[] {
-			171
-		});
-		HZPY[19514] = (new short[] {
-			398
-		});
-		HZPY[19515] = (new short[] {
-			309
-		});
-		HZPY[19516] = (new short[] {
-			183
-		});
-		HZPY[19517] = (new short[] {
-			350
-		});
-		HZPY[19518] = (new short[] {
-			189
-		});
-		HZPY[19519] = (new short[] {
-			392
-		});
-		HZPY[19520] = (new short[] {
-			207
-		});
-		HZPY[19521] = (new short[] {
-			4
-		});
-		HZPY[19522] = (new short[] {
-			23
-		});
-		HZPY[19523] = (new short[] {
-			249, 15
-		});
-		HZPY[19524] = (new short[] {
-			48
-		});
-		HZPY[19525] = (new short[] {
-			266
-		});
-		HZPY[19526] = (new short[] {
-			13
-		});
-		HZPY[19527] = (new short[] {
-			398
-		});
-		HZPY[19528] = (new short[] {
-			376
-		});
-		HZPY[19529] = (new short[] {
-			360
-		});
-		HZPY[19530] = (new short[] {
-			124
-		});
-		HZPY[19531] = (new short[] {
-			19
-		});
-		HZPY[19532] = (new short[] {
-			316
-		});
-		HZPY[19533] = (new short[] {
-			354
-		});
-		HZPY[19534] = (new short[] {
-			177
-		});
-		HZPY[19535] = (new short[] {
-			391
-		});
-		HZPY[19536] = (new short[] {
-			75
-		});
-		HZPY[19537] = (new short[] {
-			179
-		});
-		HZPY[19538] = (new short[] {
-			340
-		});
-		HZPY[19539] = (new short[] {
-			388
-		});
-		HZPY[19540] = (new short[] {
-			323
-		});
-		HZPY[19541] = (new short[] {
-			135
-		});
-		HZPY[19542] = (new short[] {
-			332
-		});
-		HZPY[19543] = (new short[] {
-			365
-		});
-		HZPY[19544] = (new short[] {
-			189
-		});
-		HZPY[19545] = (new short[] {
-			391
-		});
-		HZPY[19546] = (new short[] {
-			138
-		});
-		HZPY[19547] = (new short[] {
-			369
-		});
-		HZPY[19548] = (new short[] {
-			368
-		});
-		HZPY[19549] = (new short[] {
-			340
-		});
-		HZPY[19550] = (new short[] {
-			17
-		});
-		HZPY[19551] = (new short[] {
-			411, 400
-		});
-		HZPY[19552] = (new short[] {
-			365
-		});
-		HZPY[19553] = (new short[] {
-			246
-		});
-		HZPY[19554] = (new short[] {
-			184
-		});
-		HZPY[19555] = (new short[] {
-			328
-		});
-		HZPY[19556] = (new short[] {
-			353
-		});
-		HZPY[19557] = (new short[] {
-			131
-		});
-		HZPY[19558] = (new short[] {
-			309
-		});
-		HZPY[19559] = (new short[] {
-			141
-		});
-		HZPY[19560] = (new short[] {
-			350
-		});
-		HZPY[19561] = (new short[] {
-			126
-		});
-		HZPY[19562] = (new short[] {
-			171
-		});
-		HZPY[19563] = (new short[] {
-			15
-		});
-		HZPY[19564] = (new short[] {
-			191
-		});
-		HZPY[19565] = (new short[] {
-			376
-		});
-		HZPY[19566] = (new short[] {
-			340, 76
-		});
-		HZPY[19567] = (new short[] {
-			363
-		});
-		HZPY[19568] = (new short[] {
-			37
-		});
-		HZPY[19569] = (new short[] {
-			266
-		});
-		HZPY[19570] = (new short[] {
-			278
-		});
-		HZPY[19571] = (new short[] {
-			19
-		});
-		HZPY[19572] = (new short[] {
-			184
-		});
-		HZPY[19573] = (new short[] {
-			383
-		});
-		HZPY[19574] = (new short[] {
-			303
-		});
-		HZPY[19575] = (new short[] {
-			313
-		});
-		HZPY[19576] = (new short[] {
-			91
-		});
-		HZPY[19577] = (new short[] {
-			141
-		});
-		HZPY[19578] = (new short[] {
-			411
-		});
-		HZPY[19579] = (new short[] {
-			401
-		});
-		HZPY[19580] = (new short[] {
-			340
-		});
-		HZPY[19581] = (new short[] {
-			232
-		});
-		HZPY[19582] = (new short[] {
-			132
-		});
-		HZPY[19583] = (new short[] {
-			369
-		});
-		HZPY[19584] = (new short[] {
-			322, 56
-		});
-		HZPY[19585] = (new short[] {
-			354
-		});
-		HZPY[19586] = (new short[] {
-			191
-		});
-		HZPY[19587] = (new short[] {
-			371
-		});
-		HZPY[19588] = (new short[] {
-			135
-		});
-		HZPY[19589] = (new short[] {
-			124
-		});
-		HZPY[19590] = (new short[] {
-			189
-		});
-		HZPY[19591] = (new short[] {
-			112
-		});
-		HZPY[19592] = (new short[] {
-			248
-		});
-		HZPY[19593] = (new short[] {
-			15
-		});
-		HZPY[19594] = (new short[] {
-			171
-		});
-		HZPY[19595] = (new short[] {
-			36
-		});
-		HZPY[19596] = (new short[] {
-			365
-		});
-		HZPY[19597] = (new short[] {
-			357
-		});
-		HZPY[19598] = (new short[] {
-			262
-		});
-		HZPY[19599] = (new short[] {
-			144
-		});
-		HZPY[19600] = (new short[] {
-			256
-		});
-		HZPY[19601] = (new short[] {
-			256
-		});
-		HZPY[19602] = (new short[] {
-			150
-		});
-		HZPY[19603] = (new short[] {
-			406
-		});
-		HZPY[19604] = (new short[] {
-			410
-		});
-		HZPY[19605] = (new short[] {
-			316
-		});
-		HZPY[19606] = (new short[] {
-			23
-		});
-		HZPY[19607] = (new short[] {
-			248
-		});
-		HZPY[19608] = (new short[] {
-			398
-		});
-		HZPY[19609] = (new short[] {
-			160
-		});
-		HZPY[19610] = (new short[] {
-			290
-		});
-		HZPY[19611] = (new short[] {
-			349
-		});
-		HZPY[19612] = (new short[] {
-			4
-		});
-		HZPY[19613] = (new short[] {
-			179
-		});
-		HZPY[19614] = (new short[] {
-			258
-		});
-		HZPY[19615] = (new short[] {
-			296
-		});
-		HZPY[19616] = (new short[] {
-			249, 15
-		});
-		HZPY[19617] = (new short[] {
-			189
-		});
-		HZPY[19618] = (new short[] {
-			48
-		});
-		HZPY[19619] = (new short[] {
-			391, 31
-		});
-		HZPY[19620] = (new short[] {
-			400
-		});
-		HZPY[19621] = (new short[] {
-			131
-		});
-		HZPY[19622] = (new short[] {
-			309
-		});
-		HZPY[19623] = (new short[] {
-			353
-		});
-		HZPY[19624] = (new short[] {
-			103
-		});
-		HZPY[19625] = (new short[] {
-			345
-		});
-		HZPY[19626] = (new short[] {
-			345
-		});
-		HZPY[19627] = (new short[] {
-			345
-		});
-		HZPY[19628] = (new short[] {
-			376
-		});
-		HZPY[19629] = (new short[] {
-			94
-		});
-		HZPY[19630] = (new short[] {
-			369
-		});
-		HZPY[19631] = (new short[] {
-			3
-		});
-		HZPY[19632] = (new short[] {
-			335, 295
-		});
-		HZPY[19633] = (new short[] {
-			136, 355
-		});
-		HZPY[19634] = (new short[] {
-			19
-		});
-		HZPY[19635] = (new short[] {
-			13
-		});
-		HZPY[19636] = (new short[] {
-			47
-		});
-		HZPY[19637] = (new short[] {
-			329
-		});
-		HZPY[19638] = (new short[] {
-			63
-		});
-		HZPY[19639] = (new short[] {
-			155
-		});
-		HZPY[19640] = (new short[] {
-			112
-		});
-		HZPY[19641] = (new short[] {
-			260
-		});
-		HZPY[19642] = (new short[] {
-			122
-		});
-		HZPY[19643] = (new short[] {
-			156
-		});
-		HZPY[19644] = (new short[] {
-			97
-		});
-		HZPY[19645] = (new short[] {
-			338
-		});
-		HZPY[19646] = (new short[] {
-			100
-		});
-		HZPY[19647] = (new short[] {
-			248
-		});
-		HZPY[19648] = (new short[] {
-			13
-		});
-		HZPY[19649] = (new short[] {
-			150
-		});
-		HZPY[19650] = (new short[] {
-			257
-		});
-		HZPY[19651] = (new short[] {
-			376
-		});
-		HZPY[19652] = (new short[] {
-			318
-		});
-		HZPY[19653] = (new short[] {
-			182
-		});
-		HZPY[19654] = (new short[] {
-			19
-		});
-		HZPY[19655] = (new short[] {
-			354
-		});
-		HZPY[19656] = (new short[] {
-			8
-		});
-		HZPY[19657] = (new short[] {
-			19
-		});
-		HZPY[19658] = (new short[] {
-			54
-		});
-		HZPY[19659] = (new short[] {
-			158
-		});
-		HZPY[19660] = (new short[] {
-			17
-		});
-		HZPY[19661] = (new short[] {
-			207
-		});
-		HZPY[19662] = (new short[] {
-			175
-		});
-		HZPY[19663] = (new short[] {
-			182
-		});
-		HZPY[19664] = (new short[] {
-			215
-		});
-		HZPY[19665] = (new short[] {
-			72
-		});
-		HZPY[19666] = (new short[] {
-			383
-		});
-		HZPY[19667] = (new short[] {
-			318
-		});
-		HZPY[19668] = (new short[] {
-			329
-		});
-		HZPY[19669] = (new short[] {
-			17
-		});
-		HZPY[19670] = (new short[] {
-			158
-		});
-		HZPY[19671] = (new short[] {
-			183
-		});
-		HZPY[19672] = (new short[] {
-			96
-		});
-		HZPY[19673] = (new short[] {
-			96
-		});
-		HZPY[19674] = (new short[] {
-			260
-		});
-		HZPY[19675] = (new short[] {
-			149
-		});
-		HZPY[19676] = (new short[] {
-			260
-		});
-		HZPY[19677] = (new short[] {
-			167
-		});
-		HZPY[19678] = (new short[] {
-			384
-		});
-		HZPY[19679] = (new short[] {
-			15, 296
-		});
-		HZPY[19680] = (new short[] {
-			161
-		});
-		HZPY[19681] = (new short[] {
-			161
-		});
-		HZPY[19682] = (new short[] {
-			329
-		});
-		HZPY[19683] = (new short[] {
-			85
-		});
-		HZPY[19684] = (new short[] {
-			359
-		});
-		HZPY[19685] = (new short[] {
-			272
-		});
-		HZPY[19686] = (new short[] {
-			195
-		});
-		HZPY[19687] = (new short[] {
-			57
-		});
-		HZPY[19688] = (new short[] {
-			161
-		});
-		HZPY[19689] = (new short[] {
-			17
-		});
-		HZPY[19690] = (new short[] {
-			83
-		});
-		HZPY[19691] = (new short[] {
-			331
-		});
-		HZPY[19692] = (new short[] {
-			247
-		});
-		HZPY[19693] = (new short[] {
-			409
-		});
-		HZPY[19694] = (new short[] {
-			83
-		});
-		HZPY[19695] = (new short[] {
-			272
-		});
-		HZPY[19696] = (new short[] {
-			329
-		});
-		HZPY[19697] = (new short[] {
-			243
-		});
-		HZPY[19698] = (new short[] {
-			247
-		});
-		HZPY[19699] = (new short[] {
-			195
-		});
-		HZPY[19700] = (new short[] {
-			91, 89
-		});
-		HZPY[19701] = (new short[] {
-			82
-		});
-		HZPY[19702] = (new short[] {
-			279
-		});
-		HZPY[19703] = (new short[] {
-			266
-		});
-		HZPY[19704] = (new short[] {
-			229
-		});
-		HZPY[19705] = (new short[] {
-			359
-		});
-		HZPY[19706] = (new short[] {
-			104
-		});
-		HZPY[19707] = (new short[] {
-			131
-		});
-		HZPY[19708] = (new short[] {
-			246
-		});
-		HZPY[19709] = (new short[] {
-			402
-		});
-		HZPY[19710] = (new short[] {
-			298
-		});
-		HZPY[19711] = (new short[] {
-			294
-		});
-		HZPY[19712] = (new short[] {
-			329
-		});
-		HZPY[19713] = (new short[] {
-			171
-		});
-		HZPY[19714] = (new short[] {
-			17
-		});
-		HZPY[19715] = (new short[] {
-			410
-		});
-		HZPY[19716] = (new short[] {
-			329
-		});
-		HZPY[19717] = (new short[] {
-			246
-		});
-		HZPY[19718] = (new short[] {
-			314
-		});
-		HZPY[19719] = (new short[] {
-			397
-		});
-		HZPY[19720] = (new short[] {
-			267, 258
-		});
-		HZPY[19721] = (new short[] {
-			410
-		});
-		HZPY[19722] = (new short[] {
-			311
-		});
-		HZPY[19723] = (new short[] {
-			133
-		});
-		HZPY[19724] = (new short[] {
-			76
-		});
-		HZPY[19725] = (new short[] {
-			123
-		});
-		HZPY[19726] = (new short[] {
-			163
-		});
-		HZPY[19727] = (new short[] {
-			140
-		});
-		HZPY[19728] = (new short[] {
-			256
-		});
-		HZPY[19729] = (new short[] {
-			173
-		});
-		HZPY[19730] = (new short[] {
-			396
-		});
-		HZPY[19731] = (new short[] {
-			17
-		});
-		HZPY[19732] = (new short[] {
-			246
-		});
-		HZPY[19733] = (new short[] {
-			207
-		});
-		HZPY[19734] = (new short[] {
-			288
-		});
-		HZPY[19735] = (new short[] {
-			193
-		});
-		HZPY[19736] = (new short[] {
-			193
-		});
-		HZPY[19737] = (new short[] {
-			293
-		});
-		HZPY[19738] = (new short[] {
-			360
-		});
-		HZPY[19739] = (new short[] {
-			176
-		});
-		HZPY[19740] = (new short[] {
-			258
-		});
-		HZPY[19741] = (new short[] {
-			258
-		});
-		HZPY[19742] = (new short[] {
-			230
-		});
-		HZPY[19743] = (new short[] {
-			126
-		});
-		HZPY[19744] = (new short[] {
-			157
-		});
-		HZPY[19745] = (new short[] {
-			227
-		});
-		HZPY[19746] = (new short[] {
-			17
-		});
-		HZPY[19747] = (new short[] {
-			176
-		});
-		HZPY[19748] = (new short[] {
-			273
-		});
-		HZPY[19749] = (new short[] {
-			71
-		});
-		HZPY[19750] = (new short[] {
-			71
-		});
-		HZPY[19751] = (new short[] {
-			215
-		});
-		HZPY[19752] = (new short[] {
-			121
-		});
-		HZPY[19753] = (new short[] {
-			350
-		});
-		HZPY[19754] = (new short[] {
-			71
-		});
-		HZPY[19755] = (new short[] {
-			147
-		});
-		HZPY[19756] = (new short[] {
-			71
-		});
-		HZPY[19757] = (new short[] {
-			71
-		});
-		HZPY[19758] = (new short[] {
-			140
-		});
-		HZPY[19759] = (new short[] {
-			32
-		});
-		HZPY[19760] = (new short[] {
-			376
-		});
-		HZPY[19761] = (new short[] {
-			376
-		});
-		HZPY[19762] = (new short[] {
-			171, 97
-		});
-		HZPY[19763] = (new short[] {
-			142
-		});
-		HZPY[19764] = (new short[] {
-			91
-		});
-		HZPY[19765] = (new short[] {
-			258
-		});
-		HZPY[19766] = (new short[] {
-			108
-		});
-		HZPY[19767] = (new short[] {
-			410
-		});
-		HZPY[19768] = (new short[] {
-			179
-		});
-		HZPY[19769] = (new short[] {
-			108
-		});
-		HZPY[19770] = (new short[] {
-			297
-		});
-		HZPY[19771] = (new short[] {
-			376
-		});
-		HZPY[19772] = (new short[] {
-			108
-		});
-		HZPY[19773] = (new short[] {
-			197
-		});
-		HZPY[19774] = (new short[] {
-			131
-		});
-		HZPY[19775] = (new short[] {
-			256
-		});
-		HZPY[19776] = (new short[] {
-			136
-		});
-		HZPY[19777] = (new short[] {
-			160
-		});
-		HZPY[19778] = (new short[] {
-			129
-		});
-		HZPY[19779] = (new short[] {
-			5
-		});
-		HZPY[19780] = (new short[] {
-			253, 340, 19
-		});
-		HZPY[19781] = (new short[] {
-			197
-		});
-		HZPY[19782] = (new short[] {
-			360
-		});
-		HZPY[19783] = (new short[] {
-			365
-		});
-		HZPY[19784] = (new short[] {
-			354
-		});
-		HZPY[19785] = (new short[] {
-			174
-		});
-		HZPY[19786] = (new short[] {
-			376
-		});
-		HZPY[19787] = (new short[] {
-			338
-		});
-		HZPY[19788] = (new short[] {
-			256
-		});
-		HZPY[19789] = (new short[] {
-			344
-		});
-		HZPY[19790] = (new short[] {
-			174
-		});
-		HZPY[19791] = (new short[] {
-			345
-		});
-		HZPY[19792] = (new short[] {
-			133
-		});
-		HZPY[19793] = (new short[] {
-			37
-		});
-		HZPY[19794] = (new short[] {
-			249
-		});
-		HZPY[19795] = (new short[] {
-			13
-		});
-		HZPY[19796] = (new short[] {
-			207
-		});
-		HZPY[19797] = (new short[] {
-			131
-		});
-		HZPY[19798] = (new short[] {
-			360
-		});
-		HZPY[19799] = (new short[] {
-			39
-		});
-		HZPY[19800] = (new short[] {
-			365
-		});
-		HZPY[19801] = (new short[] {
-			391
-		});
-		HZPY[19802] = (new short[] {
-			376
-		});
-		HZPY[19803] = (new short[] {
-			59
-		});
-		HZPY[19804] = (new short[] {
-			276
-		});
-		HZPY[19805] = (new short[] {
-			131
-		});
-		HZPY[19806] = (new short[] {
-			5
-		});
-		HZPY[19807] = (new short[] {
-			121
-		});
-		HZPY[19808] = (new short[] {
-			340
-		});
-		HZPY[19809] = (new short[] {
-			66
-		});
-		HZPY[19810] = (new short[] {
-			131
-		});
-		HZPY[19811] = (new short[] {
-			376
-		});
-		HZPY[19812] = (new short[] {
-			77
-		});
-		HZPY[19813] = (new short[] {
-			268
-		});
-		HZPY[19814] = (new short[] {
-			294
-		});
-		HZPY[19815] = (new short[] {
-			114
-		});
-		HZPY[19816] = (new short[] {
-			339
-		});
-		HZPY[19817] = (new short[] {
-			207
-		});
-		HZPY[19818] = (new short[] {
-			93
-		});
-		HZPY[19819] = (new short[] {
-			301
-		});
-		HZPY[19820] = (new short[] {
-			84
-		});
-		HZPY[19821] = (new short[] {
-			377
-		});
-		HZPY[19822] = (new short[] {
-			247
-		});
-		HZPY[19823] = (new short[] {
-			183
-		});
-		HZPY[19824] = (new short[] {
-			346
-		});
-		HZPY[19825] = (new short[] {
-			123
-		});
-		HZPY[19826] = (new short[] {
-			183
-		});
-		HZPY[19827] = (new short[] {
-			380
-		});
-		HZPY[19828] = (new short[] {
-			85
-		});
-		HZPY[19829] = (new short[] {
-			87
-		});
-		HZPY[19830] = (new short[] {
-			211
-		});
-		HZPY[19831] = (new short[] {
-			375
-		});
-		HZPY[19832] = (new short[] {
-			229
-		});
-		HZPY[19833] = (new short[] {
-			229
-		});
-		HZPY[19834] = (new short[] {
-			116, 97
-		});
-		HZPY[19835] = (new short[] {
-			351
-		});
-		HZPY[19836] = (new short[] {
-			266
-		});
-		HZPY[19837] = (new short[] {
-			113
-		});
-		HZPY[19838] = (new short[] {
-			247
-		});
-		HZPY[19839] = (new short[] {
-			178
-		});
-		HZPY[19840] = (new short[] {
-			340
-		});
-		HZPY[19841] = (new short[] {
-			5
-		});
-		HZPY[19842] = (new short[] {
-			265
-		});
-		HZPY[19843] = (new short[] {
-			252
-		});
-		HZPY[19844] = (new short[] {
-			91
-		});
-		HZPY[19845] = (new short[] {
-			13
-		});
-		HZPY[19846] = (new short[] {
-			131
-		});
-		HZPY[19847] = (new short[] {
-			345
-		});
-		HZPY[19848] = (new short[] {
-			141
-		});
-		HZPY[19849] = (new short[] {
-			66
-		});
-		HZPY[19850] = (new short[] {
-			5
-		});
-		HZPY[19851] = (new short[] {
-			375
-		});
-		HZPY[19852] = (new short[] {
-			109
-		});
-		HZPY[19853] = (new short[] {
-			247
-		});
-		HZPY[19854] = (new short[] {
-			222
-		});
-		HZPY[19855] = (new short[] {
-			357
-		});
-		HZPY[19856] = (new short[] {
-			322
-		});
-		HZPY[19857] = (new short[] {
-			9
-		});
-		HZPY[19858] = (new short[] {
-			91
-		});
-		HZPY[19859] = (new short[] {
-			389
-		});
-		HZPY[19860] = (new short[] {
-			141
-		});
-		HZPY[19861] = (new short[] {
-			103
-		});
-		HZPY[19862] = (new short[] {
-			229
-		});
-		HZPY[19863] = (new short[] {
-			229
-		});
-		HZPY[19864] = (new short[] {
-			229
-		});
-		HZPY[19865] = (new short[] {
-			321
-		});
-		HZPY[19866] = (new short[] {
-			136
-		});
-		HZPY[19867] = (new short[] {
-			306
-		});
-		HZPY[19868] = (new short[] {
-			122
-		});
-		HZPY[19869] = (new short[] {
-			353
-		});
-		HZPY[19870] = (new short[] {
-			82
-		});
-		HZPY[19871] = (new short[] {
-			2
-		});
-		HZPY[19872] = (new short[] {
-			345
-		});
-		HZPY[19873] = (new short[] {
-			331
-		});
-		HZPY[19874] = (new short[] {
-			401
-		});
-		HZPY[19875] = (new short[] {
-			371
-		});
-		HZPY[19876] = (new short[] {
-			176
-		});
-		HZPY[19877] = (new short[] {
-			189
-		});
-		HZPY[19878] = (new short[] {
-			334
-		});
-		HZPY[19879] = (new short[] {
-			369
-		});
-		HZPY[19880] = (new short[] {
-			256
-		});
-		HZPY[19881] = (new short[] {
-			18
-		});
-		HZPY[19882] = (new short[] {
-			345
-		});
-		HZPY[19883] = (new short[] {
-			135
-		});
-		HZPY[19884] = (new short[] {
-			255
-		});
-		HZPY[19885] = (new short[] {
-			108, 355
-		});
-		HZPY[19886] = (new short[] {
-			352
-		});
-		HZPY[19887] = (new short[] {
-			97
-		});
-		HZPY[19888] = (new short[] {
-			128
-		});
-		HZPY[19889] = (new short[] {
-			229
-		});
-		HZPY[19890] = (new short[] {
-			229
-		});
-		HZPY[19891] = (new short[] {
-			149
-		});
-		HZPY[19892] = (new short[] {
-			229
-		});
-		HZPY[19893] = (new short[] {
-			76
-		});
-		HZPY[19894] = (new short[] {
-			144
-		});
-		HZPY[19895] = (new short[] {
-			329
-		});
-		HZPY[19896] = (new short[] {
-			201
-		});
-		HZPY[19897] = (new short[] {
-			298
-		});
-		HZPY[19898] = (new short[] {
-			380
-		});
-		HZPY[19899] = (new short[] {
-			320
-		});
-		HZPY[19900] = (new short[] {
-			262
-		});
-		HZPY[19901] = (new short[] {
-			376
-		});
-		HZPY[19902] = (new short[] {
-			217
-		});
-		HZPY[19903] = (new short[] {
-			394
-		});
-		HZPY[19904] = (new short[] {
-			109
-		});
-		HZPY[19905] = (new short[] {
-			100
-		});
-		HZPY[19906] = (new short[] {
-			229
-		});
-		HZPY[19907] = (new short[] {
-			349
-		});
-		HZPY[19908] = (new short[] {
-			265
-		});
-		HZPY[19909] = (new short[] {
-			333
-		});
-		HZPY[19910] = (new short[] {
-			91
-		});
-		HZPY[19911] = (new short[] {
-			126
-		});
-		HZPY[19912] = (new short[] {
-			39
-		});
-		HZPY[19913] = (new short[] {
-			171
-		});
-		HZPY[19914] = (new short[] {
-			294
-		});
-		HZPY[19915] = (new short[] {
-			294
-		});
-		HZPY[19916] = (new short[] {
-			96
-		});
-		HZPY[19917] = (new short[] {
-			199
-		});
-		HZPY[19918] = (new short[] {
-			229
-		});
-		HZPY[19919] = (new short[] {
-			229
-		});
-		HZPY[19920] = (new short[] {
-			229
-		});
-		HZPY[19921] = (new short[] {
-			229
-		});
-		HZPY[19922] = (new short[] {
-			374
-		});
-		HZPY[19923] = (new short[] {
-			221
-		});
-		HZPY[19924] = (new short[] {
-			409
-		});
-		HZPY[19925] = (new short[] {
-			256
-		});
-		HZPY[19926] = (new short[] {
-			263, 397
-		});
-		HZPY[19927] = (new short[] {
-			353
-		});
-		HZPY[19928] = (new short[] {
-			217
-		});
-		HZPY[19929] = (new short[] {
-			45
-		});
-		HZPY[19930] = (new short[] {
-			131
-		});
-		HZPY[19931] = (new short[] {
-			66
-		});
-		HZPY[19932] = (new short[] {
-			261
-		});
-		HZPY[19933] = (new short[] {
-			103
-		});
-		HZPY[19934] = (new short[] {
-			400
-		});
-		HZPY[19935] = (new short[] {
-			70
-		});
-		HZPY[19936] = (new short[] {
-			164
-		});
-		HZPY[19937] = (new short[] {
-			86
-		});
-		HZPY[19938] = (new short[] {
-			221
-		});
-		HZPY[19939] = (new short[] {
-			369
-		});
-		HZPY[19940] = (new short[] {
-			161
-		});
-		HZPY[19941] = (new short[] {
-			183
-		});
-		HZPY[19942] = (new short[] {
-			140
-		});
-		HZPY[19943] = (new short[] {
-			32
-		});
-		HZPY[19944] = (new short[] {
-			138
-		});
-		HZPY[19945] = (new short[] {
-			188
-		});
-		HZPY[19946] = (new short[] {
-			178
-		});
-		HZPY[19947] = (new short[] {
-			411
-		});
-		HZPY[19948] = (new short[] {
-			171
-		});
-		HZPY[19949] = (new short[] {
-			199
-		});
-		HZPY[19950] = (new short[] {
-			410
-		});
-		HZPY[19951] = (new short[] {
-			398
-		});
-		HZPY[19952] = (new short[] {
-			222
-		});
-		HZPY[19953] = (new short[] {
-			229
-		});
-		HZPY[19954] = (new short[] {
-			229
-		});
-		HZPY[19955] = (new short[] {
-			229
-		});
-		HZPY[19956] = (new short[] {
-			303
-		});
-		HZPY[19957] = (new short[] {
-			290
-		});
-		HZPY[19958] = (new short[] {
-			129
-		});
-		HZPY[19959] = (new short[] {
-			329
-		});
-		HZPY[19960] = (new short[] {
-			122
-		});
-		HZPY[19961] = (new short[] {
-			357
-		});
-		HZPY[19962] = (new short[] {
-			141
-		});
-		HZPY[19963] = (new short[] {
-			163
-		});
-		HZPY[19964] = (new short[] {
-			410
-		});
-		HZPY[19965] = (new short[] {
-			131
-		});
-		HZPY[19966] = (new short[] {
-			14
-		});
-		HZPY[19967] = (new short[] {
-			14
-		});
-		HZPY[19968] = (new short[] {
-			126
-		});
-		HZPY[19969] = (new short[] {
-			267
-		});
-		HZPY[19970] = (new short[] {
-			131
-		});
-		HZPY[19971] = (new short[] {
-			345
-		});
-		HZPY[19972] = (new short[] {
-			345
-		});
-		HZPY[19973] = (new short[] {
-			376
-		});
-		HZPY[19974] = (new short[] {
-			45
-		});
-		HZPY[19975] = (new short[] {
-			280
-		});
-		HZPY[19976] = (new short[] {
-			67
-		});
-		HZPY[19977] = (new short[] {
-			127
-		});
-		HZPY[19978] = (new short[] {
-			173
-		});
-		HZPY[19979] = (new short[] {
-			365
-		});
-		HZPY[19980] = (new short[] {
-			265
-		});
-		HZPY[19981] = (new short[] {
-			265
-		});
-		HZPY[19982] = (new short[] {
-			133
-		});
-		HZPY[19983] = (new short[] {
-			13
-		});
-		HZPY[19984] = (new short[] {
-			77
-		});
-		HZPY[19985] = (new short[] {
-			366
-		});
-		HZPY[19986] = (new short[] {
-			91
-		});
-		HZPY[19987] = (new short[] {
-			287, 350
-		});
-		HZPY[19988] = (new short[] {
-			133
-		});
-		HZPY[19989] = (new short[] {
-			111, 351
-		});
-		HZPY[19990] = (new short[] {
-			340
-		});
-		HZPY[19991] = (new short[] {
-			123
-		});
-		HZPY[19992] = (new short[] {
-			229
-		});
-		HZPY[19993] = (new short[] {
-			285
-		});
-		HZPY[19994] = (new short[] {
-			229
-		});
-		HZPY[19995] = (new short[] {
-			346
-		});
-		HZPY[19996] = (new short[] {
-			133
-		});
-		HZPY[19997] = (new short[] {
-			115
-		});
-		HZPY[19998] = (new short[] {
-			349
-		});
-		HZPY[19999] = (new short[] {
-			242
-		});
-		HZPY[20000] = (new short[] {
-			290
-		});
-		HZPY[20001] = (new short[] {
-			179
-		});
-		HZPY[20002] = (new short[] {
-			191
-		});
-		HZPY[20003] = (new short[] {
-			303
-		});
-		HZPY[20004] = (new short[] {
-			303
-		});
-		HZPY[20005] = (new short[] {
-			106
-		});
-		HZPY[20006] = (new short[] {
-			409
-		});
-		HZPY[20007] = (new short[] {
-			328
-		});
-		HZPY[20008] = (new short[] {
-			321
-		});
-		HZPY[20009] = (new short[] {
-			367
-		});
-		HZPY[20010] = (new short[] {
-			97
-		});
-		HZPY[20011] = (new short[] {
-			279
-		});
-		HZPY[20012] = (new short[] {
-			258
-		});
-		HZPY[20013] = (new short[] {
-			256
-		});
-		HZPY[20014] = (new short[] {
-			346
-		});
-		HZPY[20015] = (new short[] {
-			285
-		});
-		HZPY[20016] = (new short[] {
-			229
-		});
-		HZPY[20017] = (new short[] {
-			173
-		});
-		HZPY[20018] = (new short[] {
-			4
-		});
-		HZPY[20019] = (new short[] {
-			168
-		});
-		HZPY[20020] = (new short[] {
-			128
-		});
-		HZPY[20021] = (new short[] {
-			204
-		});
-		HZPY[20022] = (new short[] {
-			131
-		});
-		HZPY[20023] = (new short[] {
-			331
-		});
-		HZPY[20024] = (new short[] {
-			266
-		});
-		HZPY[20025] = (new short[] {
-			133
-		});
-		HZPY[20026] = (new short[] {
-			290
-		});
-		HZPY[20027] = (new short[] {
-			193
-		});
-		HZPY[20028] = (new short[] {
-			350
-		});
-		HZPY[20029] = (new short[] {
-			265
-		});
-		HZPY[20030] = (new short[] {
-			15
-		});
-		HZPY[20031] = (new short[] {
-			131
-		});
-		HZPY[20032] = (new short[] {
-			131
-		});
-		HZPY[20033] = (new short[] {
-			401
-		});
-		HZPY[20034] = (new short[] {
-			134
-		});
-		HZPY[20035] = (new short[] {
-			265
-		});
-		HZPY[20036] = (new short[] {
-			404
-		});
-		HZPY[20037] = (new short[] {
-			374
-		});
-		HZPY[20038] = (new short[] {
-			392
-		});
-		HZPY[20039] = (new short[] {
-			148
-		});
-		HZPY[20040] = (new short[] {
-			362
-		});
-		HZPY[20041] = (new short[] {
-			16
-		});
-		HZPY[20042] = (new short[] {
-			143
-		});
-		HZPY[20043] = (new short[] {
-			266
-		});
-		HZPY[20044] = (new short[] {
-			353
-		});
-		HZPY[20045] = (new short[] {
-			19
-		});
-		HZPY[20046] = (new short[] {
-			135
-		});
-		HZPY[20047] = (new short[] {
-			363
-		});
-		HZPY[20048] = (new short[] {
-			316
-		});
-		HZPY[20049] = (new short[] {
-			127
-		});
-		HZPY[20050] = (new short[] {
-			415
-		});
-		HZPY[20051] = (new short[] {
-			296
-		});
-		HZPY[20052] = (new short[] {
-			296
-		});
-		HZPY[20053] = (new short[] {
-			84
-		});
-		HZPY[20054] = (new short[] {
-			108
-		});
-		HZPY[20055] = (new short[] {
-			177
-		});
-		HZPY[20056] = (new short[] {
-			363
-		});
-		HZPY[20057] = (new short[] {
-			202
-		});
-		HZPY[20058] = (new short[] {
-			350
-		});
-		HZPY[20059] = (new short[] {
-			229
-		});
-		HZPY[20060] = (new short[] {
-			353
-		});
-		HZPY[20061] = (new short[] {
-			87
-		});
-		HZPY[20062] = (new short[] {
-			106
-		});
-		HZPY[20063] = (new short[] {
-			122
-		});
-		HZPY[20064] = (new short[] {
-			157
-		});
-		HZPY[20065] = (new short[] {
-			386
-		});
-		HZPY[20066] = (new short[] {
-			290
-		});
-		HZPY[20067] = (new short[] {
-			391
-		});
-		HZPY[20068] = (new short[] {
-			94
-		});
-		HZPY[20069] = (new short[] {
-			108
-		});
-		HZPY[20070] = (new short[] {
-			302
-		});
-		HZPY[20071] = (new short[] {
-			171
-		});
-		HZPY[20072] = (new short[] {
-			32
-		});
-		HZPY[20073] = (new short[] {
-			229
-		});
-		HZPY[20074] = (new short[] {
-			229
-		});
-		HZPY[20075] = (new short[] {
-			1
-		});
-		HZPY[20076] = (new short[] {
-			281
-		});
-		HZPY[20077] = (new short[] {
-			131
-		});
-		HZPY[20078] = (new short[] {
-			360
-		});
-		HZPY[20079] = (new short[] {
-			130
-		});
-		HZPY[20080] = (new short[] {
-			229
-		});
-		HZPY[20081] = (new short[] {
-			171
-		});
-		HZPY[20082] = (new short[] {
-			176
-		});
-		HZPY[20083] = (new short[] {
-			171
-		});
-		HZPY[20084] = (new short[] {
-			203
-		});
-		HZPY[20085] = (new short[] {
-			396
-		});
-		HZPY[20086] = (new short[] {
-			353
-		});
-		HZPY[20087] = (new short[] {
-			77
-		});
-		HZPY[20088] = (new short[] {
-			183
-		});
-		HZPY[20089] = (new short[] {
-			106
-		});
-		HZPY[20090] = (new short[] {
-			171
-		});
-		HZPY[20091] = (new short[] {
-			352
-		});
-		HZPY[20092] = (new short[] {
-			376
-		});
-		HZPY[20093] = (new short[] {
-			59
-		});
-		HZPY[20094] = (new short[] {
-			131
-		});
-		HZPY[20095] = (new short[] {
-			375
-		});
-		HZPY[20096] = (new short[] {
-			339
-		});
-		HZPY[20097] = (new short[] {
-			183
-		});
-		HZPY[20098] = (new short[] {
-			85
-		});
-		HZPY[20099] = (new short[] {
-			5
-		});
-		HZPY[20100] = (new short[] {
-			150
-		});
-		HZPY[20101] = (new short[] {
-			5
-		});
-		HZPY[20102] = (new short[] {
-			252
-		});
-		HZPY[20103] = (new short[] {
-			222
-		});
-		HZPY[20104] = (new short[] {
-			183
-		});
-		HZPY[20105] = (new short[] {
-			375
-		});
-		HZPY[20106] = (new short[] {
-			389
-		});
-		HZPY[20107] = (new short[] {
-			91
-		});
-		HZPY[20108] = (new short[] {
-			5, 19
-		});
-		HZPY[20109] = (new short[] {
-			9
-		});
-		HZPY[20110] = (new short[] {
-			122
-		});
-		HZPY[20111] = (new short[] {
-			247
-		});
-		HZPY[20112] = (new short[] {
-			322
-		});
-		HZPY[20113] = (new short[] {
-			108, 355
-		});
-		HZPY[20114] = (new short[] {
-			136
-		});
-		HZPY[20115] = (new short[] {
-			149
-		});
-		HZPY[20116] = (new short[] {
-			345
-		});
-		HZPY[20117] = (new short[] {
-			82
-		});
-		HZPY[20118] = (new short[] {
-			334
-		});
-		HZPY[20119] = (new short[] {
-			386
-		});
-		HZPY[20120] = (new short[] {
-			122
-		});
-		HZPY[20121] = (new short[] {
-			157
-		});
-		HZPY[20122] = (new short[] {
-			131
-		});
-		HZPY[20123] = (new short[] {
-			135
-		});
-		HZPY[20124] = (new short[] {
-			352
-		});
-		HZPY[20125] = (new short[] {
-			389
-		});
-		HZPY[20126] = (new short[] {
-			353
-		});
-		HZPY[20127] = (new short[] {
-			363
-		});
-		HZPY[20128] = (new short[] {
-			100
-		});
-		HZPY[20129] = (new short[] {
-			171
-		});
-		HZPY[20130] = (new short[] {
-			173
-		});
-		HZPY[20131] = (new short[] {
-			133
-		});
-		HZPY[20132] = (new short[] {
-			171
-		});
-		HZPY[20133] = (new short[] {
-			303
-		});
-		HZPY[20134] = (new short[] {
-			331
-		});
-		HZPY[20135] = (new short[] {
-			109
-		});
-		HZPY[20136] = (new short[] {
-			294
-		});
-		HZPY[20137] = (new short[] {
-			126
-		});
-		HZPY[20138] = (new short[] {
-			144
-		});
-		HZPY[20139] = (new short[] {
-			131
-		});
-		HZPY[20140] = (new short[] {
-			374
-		});
-		HZPY[20141] = (new short[] {
-			263, 397
-		});
-		HZPY[20142] = (new short[] {
-			178
-		});
-		HZPY[20143] = (new short[] {
-			256
-		});
-		HZPY[20144] = (new short[] {
-			411
-		});
-		HZPY[20145] = (new short[] {
-			86
-		});
-		HZPY[20146] = (new short[] {
-			161
-		});
-		HZPY[20147] = (new short[] {
-			32
-		});
-		HZPY[20148] = (new short[] {
-			103
-		});
-		HZPY[20149] = (new short[] {
-			221
-		});
-		HZPY[20150] = (new short[] {
-			222
-		});
-		HZPY[20151] = (new short[] {
-			66
-		});
-		HZPY[20152] = (new short[] {
-			138
-		});
-		HZPY[20153] = (new short[] {
-			301
-		});
-		HZPY[20154] = (new short[] {
-			303
-		});
-		HZPY[20155] = (new short[] {
-			409
-		});
-		HZPY[20156] = (new short[] {
-			87
-		});
-		HZPY[20157] = (new short[] {
-			67
-		});
-		HZPY[20158] = (new short[] {
-			13
-		});
-		HZPY[20159] = (new short[] {
-			32
-		});
-		HZPY[20160] = (new short[] {
-			329
-		});
-		HZPY[20161] = (new short[] {
-			346
-		});
-		HZPY[20162] = (new short[] {
-			345
-		});
-		HZPY[20163] = (new short[] {
-			287
-		});
-		HZPY[20164] = (new short[] {
-			77
-		});
-		HZPY[20165] = (new short[] {
-			265
-		});
-		HZPY[20166] = (new short[] {
-			91
-		});
-		HZPY[20167] = (new short[] {
-			127
-		});
-		HZPY[20168] = (new short[] {
-			267
-		});
-		HZPY[20169] = (new short[] {
-			134
-		});
-		HZPY[20170] = (new short[] {
-			14
-		});
-		HZPY[20171] = (new short[] {
-			290
-		});
-		HZPY[20172] = (new short[] {
-			4
-		});
-		HZPY[20173] = (new short[] {
-			256
-		});
-		HZPY[20174] = (new short[] {
-			321
-		});
-		HZPY[20175] = (new short[] {
-			106
-		});
-		HZPY[20176] = (new short[] {
-			367
-		});
-		HZPY[20177] = (new short[] {
-			242
-		});
-		HZPY[20178] = (new short[] {
-			133
-		});
-		HZPY[20179] = (new short[] {
-			168
-		});
-		HZPY[20180] = (new short[] {
-			15
-		});
-		HZPY[20181] = (new short[] {
-			362
-		});
-		HZPY[20182] = (new short[] {
-			16
-		});
-		HZPY[20183] = (new short[] {
-			193
-		});
-		HZPY[20184] = (new short[] {
-			204
-		});
-		HZPY[20185] = (new short[] {
-			374
-		});
-		HZPY[20186] = (new short[] {
-			345
-		});
-		HZPY[20187] = (new short[] {
-			350
-		});
-		HZPY[20188] = (new short[] {
-			108
-		});
-		HZPY[20189] = (new short[] {
-			296
-		});
-		HZPY[20190] = (new short[] {
-			177
-		});
-		HZPY[20191] = (new short[] {
-			415
-		});
-		HZPY[20192] = (new short[] {
-			123
-		});
-		HZPY[20193] = (new short[] {
-			94
-		});
-		HZPY[20194] = (new short[] {
-			171
-		});
-		HZPY[20195] = (new short[] {
-			296
-		});
-		HZPY[20196] = (new short[] {
-			106
-		});
-		HZPY[20197] = (new short[] {
-			224
-		});
-		HZPY[20198] = (new short[] {
-			369
-		});
-		HZPY[20199] = (new short[] {
-			91
-		});
-		HZPY[20200] = (new short[] {
-			171
-		});
-		HZPY[20201] = (new short[] {
-			140
-		});
-		HZPY[20202] = (new short[] {
-			20
-		});
-		HZPY[20203] = (new short[] {
-			365
-		});
-		HZPY[20204] = (new short[] {
-			91
-		});
-		HZPY[20205] = (new short[] {
-			66
-		});
-		HZPY[20206] = (new short[] {
-			131
-		});
-		HZPY[20207] = (new short[] {
-			88
-		});
-		HZPY[20208] = (new short[] {
-			229
-		});
-		HZPY[20209] = (new short[] {
-			94
-		});
-		HZPY[20210] = (new short[] {
-			303
-		});
-		HZPY[20211] = (new short[] {
-			88
-		});
-		HZPY[20212] = (new short[] {
-			205
-		});
-		HZPY[20213] = (new short[] {
-			9
-		});
-		HZPY[20214] = (new short[] {
-			377
-		});
-		HZPY[20215] = (new short[] {
-			398
-		});
-		HZPY[20216] = (new short[] {
-			123
-		});
-		HZPY[20217] = (new short[] {
-			258
-		});
-		HZPY[20218] = (new short[] {
-			91
-		});
-		HZPY[20219] = (new short[] {
-			87
-		});
-		HZPY[20220] = (new short[] {
-			346
-		});
-		HZPY[20221] = (new short[] {
-			133
-		});
-		HZPY[20222] = (new short[] {
-			303
-		});
-		HZPY[20223] = (new short[] {
-			376
-		});
-		HZPY[20224] = (new short[] {
-			90
-		});
-		HZPY[20225] = (new short[] {
-			370
-		});
-		HZPY[20226] = (new short[] {
-			141
-		});
-		HZPY[20227] = (new short[] {
-			143
-		});
-		HZPY[20228] = (new short[] {
-			247
-		});
-		HZPY[20229] = (new short[] {
-			126
-		});
-		HZPY[20230] = (new short[] {
-			396
-		});
-		HZPY[20231] = (new short[] {
-			9
-		});
-		HZPY[20232] = (new short[] {
-			365
-		});
-		HZPY[20233] = (new short[] {
-			364
-		});
-		HZPY[20234] = (new short[] {
-			397
-		});
-		HZPY[20235] = (new short[] {
-			85
-		});
-		HZPY[20236] = (new short[] {
-			88
-		});
-		HZPY[20237] = (new short[] {
-			346
-		});
-		HZPY[20238] = (new short[] {
-			238
-		});
-		HZPY[20239] = (new short[] {
-			326
-		});
-		HZPY[20240] = (new short[] {
-			132
-		});
-		HZPY[20241] = (new short[] {
-			232
-		});
-		HZPY[20242] = (new short[] {
-			178
-		});
-		HZPY[20243] = (new short[] {
-			203
-		});
-		HZPY[20244] = (new short[] {
-			91
-		});
-		HZPY[20245] = (new short[] {
-			340
-		});
-		HZPY[20246] = (new short[] {
-			346
-		});
-		HZPY[20247] = (new short[] {
-			171
-		});
-		HZPY[20248] = (new short[] {
-			14
-		});
-		HZPY[20249] = (new short[] {
-			398
-		});
-		HZPY[20250] = (new short[] {
-			97
-		});
-		HZPY[20251] = (new short[] {
-			377
-		});
-		HZPY[20252] = (new short[] {
-			409
-		});
-		HZPY[20253] = (new short[] {
-			266
-		});
-		HZPY[20254] = (new short[] {
-			354
-		});
-		HZPY[20255] = (new short[] {
-			37, 398
-		});
-		HZPY[20256] = (new short[] {
-			57
-		});
-		HZPY[20257] = (new short[] {
-			141
-		});
-		HZPY[20258] = (new short[] {
-			375
-		});
-		HZPY[20259] = (new short[] {
-			103
-		});
-		HZPY[20260] = (new short[] {
-			399
-		});
-		HZPY[20261] = (new short[] {
-			376
-		});
-		HZPY[20262] = (new short[] {
-			366
-		});
-		HZPY[20263] = (new short[] {
-			279
-		});
-		HZPY[20264] = (new short[] {
-			364
-		});
-		HZPY[20265] = (new short[] {
-			398
-		});
-		HZPY[20266] = (new short[] {
-			376
-		});
-		HZPY[20267] = (new short[] {
-			229
-		});
-		HZPY[20268] = (new short[] {
-			372
-		});
-		HZPY[20269] = (new short[] {
-			406
-		});
-		HZPY[20270] = (new short[] {
-			349
-		});
-		HZPY[20271] = (new short[] {
-			82
-		});
-		HZPY[20272] = (new short[] {
-			104
-		});
-		HZPY[20273] = (new short[] {
-			1
-		});
-		HZPY[20274] = (new short[] {
-			398
-		});
-		HZPY[20275] = (new short[] {
-			365
-		});
-		HZPY[20276] = (new short[] {
-			119
-		});
-		HZPY[20277] = (new short[] {
-			135
-		});
-		HZPY[20278] = (new short[] {
-			131
-		});
-		HZPY[20279] = (new short[] {
-			176
-		});
-		HZPY[20280] = (new short[] {
-			401
-		});
-		HZPY[20281] = (new short[] {
-			276
-		});
-		HZPY[20282] = (new short[] {
-			329
-		});
-		HZPY[20283] = (new short[] {
-			121
-		});
-		HZPY[20284] = (new short[] {
-			189
-		});
-		HZPY[20285] = (new short[] {
-			281
-		});
-		HZPY[20286] = (new short[] {
-			208
-		});
-		HZPY[20287] = (new short[] {
-			97
-		});
-		HZPY[20288] = (new short[] {
-			276
-		});
-		HZPY[20289] = (new short[] {
-			135
-		});
-		HZPY[20290] = (new short[] {
-			359
-		});
-		HZPY[20291] = (new short[] {
-			400
-		});
-		HZPY[20292] = (new short[] {
-			37
-		});
-		HZPY[20293] = (new short[] {
-			189
-		});
-		HZPY[20294] = (new short[] {
-			229
-		});
-		HZPY[20295] = (new short[] {
-			229
-		});
-		HZPY[20296] = (new short[] {
-			229
-		});
-		HZPY[20297] = (new short[] {
-			186
-		});
-		HZPY[20298] = (new short[] {
-			132
-		});
-		HZPY[20299] = (new short[] {
-			131
-		});
-		HZPY[20300] = (new short[] {
-			376
-		});
-		HZPY[20301] = (new short[] {
-			126
-		});
-		HZPY[20302] = (new short[] {
-			340
-		});
-		HZPY[20303] = (new short[] {
-			20
-		});
-		HZPY[20304] = (new short[] {
-			349
-		});
-		HZPY[20305] = (new short[] {
-			142
-		});
-		HZPY[20306] = (new short[] {
-			376
-		});
-		HZPY[20307] = (new short[] {
-			19
-		});
-		HZPY[20308] = (new short[] {
-			363
-		});
-		HZPY[20309] = (new short[] {
-			363
-		});
-		HZPY[20310] = (new short[] {
-			13
-		});
-		HZPY[20311] = (new short[] {
-			350
-		});
-		HZPY[20312] = (new short[] {
-			144
-		});
-		HZPY[20313] = (new short[] {
-			141
-		});
-		HZPY[20314] = (new short[] {
-			336
-		});
-		HZPY[20315] = (new short[] {
-			138
-		});
-		HZPY[20316] = (new short[] {
-			329
-		});
-		HZPY[20317] = (new short[] {
-			77
-		});
-		HZPY[20318] = (new short[] {
-			77
-		});
-		HZPY[20319] = (new short[] {
-			159
-		});
-		HZPY[20320] = (new short[] {
-			123, 103
-		});
-		HZPY[20321] = (new short[] {
-			349
-		});
-		HZPY[20322] = (new short[] {
-			301
-		});
-		HZPY[20323] = (new short[] {
-			163
-		});
-		HZPY[20324] = (new short[] {
-			229
-		});
-		HZPY[20325] = (new short[] {
-			229
-		});
-		HZPY[20326] = (new short[] {
-			183
-		});
-		HZPY[20327] = (new short[] {
-			18
-		});
-		HZPY[20328] = (new short[] {
-			305
-		});
-		HZPY[20329] = (new short[] {
-			91
-		});
-		HZPY[20330] = (new short[] {
-			2
-		});
-		HZPY[20331] = (new short[] {
-			393
-		});
-		HZPY[20332] = (new short[] {
-			246
-		});
-		HZPY[20333] = (new short[] {
-			262
-		});
-		HZPY[20334] = (new short[] {
-			258
-		});
-		HZPY[20335] = (new short[] {
-			10
-		});
-		HZPY[20336] = (new short[] {
-			66
-		});
-		HZPY[20337] = (new short[] {
-			183
-		});
-		HZPY[20338] = (new short[] {
-			268, 260
-		});
-		HZPY[20339] = (new short[] {
-			133
-		});
-		HZPY[20340] = (new short[] {
-			141
-		});
-		HZPY[20341] = (new short[] {
-			336
-		});
-		HZPY[20342] = (new short[] {
-			364
-		});
-		HZPY[20343] = (new short[] {
-			377
-		});
-		HZPY[20344] = (new short[] {
-			256
-		});
-		HZPY[20345] = (new short[] {
-			171
-		});
-		HZPY[20346] = (new short[] {
-			368
-		});
-		HZPY[20347] = (new short[] {
-			406
-		});
-		HZPY[20348] = (new short[] {
-			153
-		});
-		HZPY[20349] = (new short[] {
-			76
-		});
-		HZPY[20350] = (new short[] {
-			161
-		});
-		HZPY[20351] = (new short[] {
-			302
-		});
-		HZPY[20352] = (new short[] {
-			256
-		});
-		HZPY[20353] = (new short[] {
-			138
-		});
-		HZPY[20354] = (new short[] {
-			221
-		});
-		HZPY[20355] = (new short[] {
-			77
-		});
-		HZPY[20356] = (new short[] {
-			138
-		});
-		HZPY[20357] = (new short[] {
-			409
-		});
-		HZPY[20358] = (new short[] {
-			164
-		});
-		HZPY[20359] = (new short[] {
-			70
-		});
-		HZPY[20360] = (new short[] {
-			256
-		});
-		HZPY[20361] = (new short[] {
-			45
-		});
-		HZPY[20362] = (new short[] {
-			100
-		});
-		HZPY[20363] = (new short[] {
-			141
-		});
-		HZPY[20364] = (new short[] {
-			266
-		});
-		HZPY[20365] = (new short[] {
-			229
-		});
-		HZPY[20366] = (new short[] {
-			229
-		});
-		HZPY[20367] = (new short[] {
-			131
-		});
-		HZPY[20368] = (new short[] {
-			305
-		});
-		HZPY[20369] = (new short[] {
-			229
-		});
-		HZPY[20370] = (new short[] {
-			37
-		});
-		HZPY[20371] = (new short[] {
-			202
-		});
-		HZPY[20372] = (new short[] {
-			280
-		});
-		HZPY[20373] = (new short[] {
-			91
-		});
-		HZPY[20374] = (new short[] {
-			265
-		});
-		HZPY[20375] = (new short[] {
-			329
-		});
-		HZPY[20376] = (new short[] {
-			123
-		});
-		HZPY[20377] = (new short[] {
-			329
-		});
-		HZPY[20378] = (new short[] {
-			77
-		});
-		HZPY[20379] = (new short[] {
-			136
-		});
-		HZPY[20380] = (new short[] {
-			195
-		});
-		HZPY[20381] = (new short[] {
-			91
-		});
-		HZPY[20382] = (new short[] {
-			45
-		});
-		HZPY[20383] = (new short[] {
-			336
-		});
-		HZPY[20384] = (new short[] {
-			365
-		});
-		HZPY[20385] = (new short[] {
-			116
-		});
-		HZPY[20386] = (new short[] {
-			377
-		});
-		HZPY[20387] = (new short[] {
-			248, 17
-		});
-		HZPY[20388] = (new short[] {
-			379
-		});
-		HZPY[20389] = (new short[] {
-			197
-		});
-		HZPY[20390] = (new short[] {
-			123
-		});
-		HZPY[20391] = (new short[] {
-			372
-		});
-		HZPY[20392] = (new short[] {
-			75
-		});
-		HZPY[20393] = (new short[] {
-			209, 349
-		});
-		HZPY[20394] = (new short[] {
-			141
-		});
-		HZPY[20395] = (new short[] {
-			229
-		});
-		HZPY[20396] = (new short[] {
-			24
-		});
-		HZPY[20397] = (new short[] {
-			85
-		});
-		HZPY[20398] = (new short[] {
-			97
-		});
-		HZPY[20399] = (new short[] {
-			372
-		});
-		HZPY[20400] = (new short[] {
-			377
-		});
-		HZPY[20401] = (new short[] {
-			361
-		});
-		HZPY[20402] = (new short[] {
-			347
-		});
-		HZPY[20403] = (new short[] {
-			303
-		});
-		HZPY[20404] = (new short[] {
-			116, 115
-		});
-		HZPY[20405] = (new short[] {
-			40
-		});
-		HZPY[20406] = (new short[] {
-			324
-		});
-		HZPY[20407] = (new short[] {
-			351
-		});
-		HZPY[20408] = (new short[] {
-			285
-		});
-		HZPY[20409] = (new short[] {
-			179
-		});
-		HZPY[20410] = (new short[] {
-			131
-		});
-		HZPY[20411] = (new short[] {
-			103, 123
-		});
-		HZPY[20412] = (new short[] {
-			133
-		});
-		HZPY[20413] = (new short[] {
-			407
-		});
-		HZPY[20414] = (new short[] {
-			113
-		});
-		HZPY[20415] = (new short[] {
-			409
-		});
-		HZPY[20416] = (new short[] {
-			47
-		});
-		HZPY[20417] = (new short[] {
-			369, 221
-		});
-		HZPY[20418] = (new short[] {
-			367
-		});
-		HZPY[20419] = (new short[] {
-			365
-		});
-		HZPY[20420] = (new short[] {
-			131
-		});
-		HZPY[20421] = (new short[] {
-			171, 249
-		});
-		HZPY[20422] = (new short[] {
-			330
-		});
-		HZPY[20423] = (new short[] {
-			154
-		});
-		HZPY[20424] = (new short[] {
-			329
-		});
-		HZPY[20425] = (new short[] {
-			329
-		});
-		HZPY[20426] = (new short[] {
-			221
-		});
-		HZPY[20427] = (new short[] {
-			336
-		});
-		HZPY[20428] = (new short[] {
-			191
-		});
-		HZPY[20429] = (new short[] {
-			135
-		});
-		HZPY[20430] = (new short[] {
-			179
-		});
-		HZPY[20431] = (new short[] {
-			396
-		});
-		HZPY[20432] = (new short[] {
-			35
-		});
-		HZPY[20433] = (new short[] {
-			171
-		});
-		HZPY[20434] = (new short[] {
-			404
-		});
-		HZPY[20435] = (new short[] {
-			394
-		});
-		HZPY[20436] = (new short[] {
-			4
-		});
-		HZPY[20437] = (new short[] {
-			367
-		});
-		HZPY[20438] = (new short[] {
-			369
-		});
-		HZPY[20439] = (new short[] {
-			238
-		});
-		HZPY[20440] = (new short[] {
-			37
-		});
-		HZPY[20441] = (new short[] {
-			398
-		});
-		HZPY[20442] = (new short[] {
-			175, 179
-		});
-		HZPY[20443] = (new short[] {
-			279
-		});
-		HZPY[20444] = (new short[] {
-			182
-		});
-		HZPY[20445] = (new short[] {
-			13
-		});
-		HZPY[20446] = (new short[] {
-			309
-		});
-		HZPY[20447] = (new short[] {
-			408
-		});
-		HZPY[20448] = (new short[] {
-			376
-		});
-		HZPY[20449] = (new short[] {
-			349
-		});
-		HZPY[20450] = (new short[] {
-			143
-		});
-		HZPY[20451] = (new short[] {
-			371
-		});
-		HZPY[20452] = (new short[] {
-			323
-		});
-		HZPY[20453] = (new short[] {
-			313
-		});
-		HZPY[20454] = (new short[] {
-			135
-		});
-		HZPY[20455] = (new short[] {
-			369
-		});
-		HZPY[20456] = (new short[] {
-			124
-		});
-		HZPY[20457] = (new short[] {
-			13
-		});
-		HZPY[20458] = (new short[] {
-			372
-		});
-		HZPY[20459] = (new short[] {
-			316
-		});
-		HZPY[20460] = (new short[] {
-			127
-		});
-		HZPY[20461] = (new short[] {
-			84
-		});
-		HZPY[20462] = (new short[] {
-			135
-		});
-		HZPY[20463] = (new short[] {
-			175
-		});
-		HZPY[20464] = (new short[] {
-			365
-		});
-		HZPY[20465] = (new short[] {
-			149
-		});
-		HZPY[20466] = (new short[] {
-			140
-		});
-		HZPY[20467] = (new short[] {
-			352
-		});
-		HZPY[20468] = (new short[] {
-			352
-		});
-		HZPY[20469] = (new short[] {
-			336
-		});
-		HZPY[20470] = (new short[] {
-			192
-		});
-		HZPY[20471] = (new short[] {
-			415
-		});
-		HZPY[20472] = (new short[] {
-			376
-		});
-		HZPY[20473] = (new short[] {
-			372
-		});
-		HZPY[20474] = (new short[] {
-			183
-		});
-		HZPY[20475] = (new short[] {
-			337
-		});
-		HZPY[20476] = (new short[] {
-			352
-		});
-		HZPY[20477] = (new short[] {
-			362
-		});
-		HZPY[20478] = (new short[] {
-			369
-		});
-		HZPY[20479] = (new short[] {
-			247
-		});
-		HZPY[20480] = (new short[] {
-			305
-		});
-		HZPY[20481] = (new short[] {
-			189
-		});
-		HZPY[20482] = (new short[] {
-			256
-		});
-		HZPY[20483] = (new short[] {
-			369
-		});
-		HZPY[20484] = (new short[] {
-			131
-		});
-		HZPY[20485] = (new short[] {
-			394
-		});
-		HZPY[20486] = (new short[] {
-			376
-		});
-		HZPY[20487] = (new short[] {
-			391
-		});
-		HZPY[20488] = (new short[] {
-			368
-		});
-		HZPY[20489] = (new short[] {
-			366
-		});
-		HZPY[20490] = (new short[] {
-			247
-		});
-		HZPY[20491] = (new short[] {
-			227
-		});
-		HZPY[20492] = (new short[] {
-			123
-		});
-		HZPY[20493] = (new short[] {
-			200
-		});
-		HZPY[20494] = (new short[] {
-			372
-		});
-		HZPY[20495] = (new short[] {
-			199
-		});
-		HZPY[20496] = (new short[] {
-			63
-		});
-		HZPY[20497] = (new short[] {
-			378
-		});
-		HZPY[20498] = (new short[] {
-			376
-		});
-		HZPY[20499] = (new short[] {
-			169
-		});
-		HZPY[20500] = (new short[] {
-			19
-		});
-		HZPY[20501] = (new short[] {
-			183
-		});
-		HZPY[20502] = (new short[] {
-			116
-		});
-		HZPY[20503] = (new short[] {
-			181
-		});
-		HZPY[20504] = (new short[] {
-			309
-		});
-		HZPY[20505] = (new short[] {
-			378
-		});
-		HZPY[20506] = (new short[] {
-			372
-		});
-		HZPY[20507] = (new short[] {
-			106
-		});
-		HZPY[20508] = (new short[] {
-			266
-		});
-		HZPY[20509] = (new short[] {
-			171
-		});
-		HZPY[20510] = (new short[] {
-			186
-		});
-		HZPY[20511] = (new short[] {
-			224, 66
-		});
-		HZPY[20512] = (new short[] {
-			140
-		});
-		HZPY[20513] = (new short[] {
-			131
-		});
-		HZPY[20514] = (new short[] {
-			377
-		});
-		HZPY[20515] = (new short[] {
-			205
-		});
-		HZPY[20516] = (new short[] {
-			303
-		});
-		HZPY[20517] = (new short[] {
-			238
-		});
-		HZPY[20518] = (new short[] {
-			364
-		});
-		HZPY[20519] = (new short[] {
-			24
-		});
-		HZPY[20520] = (new short[] {
-			9
-		});
-		HZPY[20521] = (new short[] {
-			396
-		});
-		HZPY[20522] = (new short[] {
-			103
-		});
-		HZPY[20523] = (new short[] {
-			70
-		});
-		HZPY[20524] = (new short[] {
-			183
-		});
-		HZPY[20525] = (new short[] {
-			364
-		});
-		HZPY[20526] = (new short[] {
-			354
-		});
-		HZPY[20527] = (new short[] {
-			366
-		});
-		HZPY[20528] = (new short[] {
-			178
-		});
-		HZPY[20529] = (new short[] {
-			37
-		});
-		HZPY[20530] = (new short[] {
-			266
-		});
-		HZPY[20531] = (new short[] {
-			377
-		});
-		HZPY[20532] = (new short[] {
-			362
-		});
-		HZPY[20533] = (new short[] {
-			340
-		});
-		HZPY[20534] = (new short[] {
-			313
-		});
-		HZPY[20535] = (new short[] {
-			398
-		});
-		HZPY[20536] = (new short[] {
-			82
-		});
-		HZPY[20537] = (new short[] {
-			104
-		});
-		HZPY[20538] = (new short[] {
-			359
-		});
-		HZPY[20539] = (new short[] {
-			119
-		});
-		HZPY[20540] = (new short[] {
-			400
-		});
-		HZPY[20541] = (new short[] {
-			97
-		});
-		HZPY[20542] = (new short[] {
-			186
-		});
-		HZPY[20543] = (new short[] {
-			121
-		});
-		HZPY[20544] = (new short[] {
-			349
-		});
-		HZPY[20545] = (new short[] {
-			19
-		});
-		HZPY[20546] = (new short[] {
-			171
-		});
-		HZPY[20547] = (new short[] {
-			142
-		});
-		HZPY[20548] = (new short[] {
-			123, 103
-		});
-		HZPY[20549] = (new short[] {
-			77
-		});
-		HZPY[20550] = (new short[] {
-			376
-		});
-		HZPY[20551] = (new short[] {
-			352
-		});
-		HZPY[20552] = (new short[] {
-			329
-		});
-		HZPY[20553] = (new short[] {
-			349
-		});
-		HZPY[20554] = (new short[] {
-			268
-		});
-		HZPY[20555] = (new short[] {
-			202
-		});
-		HZPY[20556] = (new short[] {
-			2
-		});
-		HZPY[20557] = (new short[] {
-			161
-		});
-		HZPY[20558] = (new short[] {
-			10
-		});
-		HZPY[20559] = (new short[] {
-			246
-		});
-		HZPY[20560] = (new short[] {
-			258
-		});
-		HZPY[20561] = (new short[] {
-			45
-		});
-		HZPY[20562] = (new short[] {
-			100
-		});
-		HZPY[20563] = (new short[] {
-			377
-		});
-		HZPY[20564] = (new short[] {
-			316
-		});
-		HZPY[20565] = (new short[] {
-			123
-		});
-		HZPY[20566] = (new short[] {
-			116
-		});
-		HZPY[20567] = (new short[] {
-			77
-		});
-		HZPY[20568] = (new short[] {
-			103, 123
-		});
-		HZPY[20569] = (new short[] {
-			265
-		});
-		HZPY[20570] = (new short[] {
-			47
-		});
-		HZPY[20571] = (new short[] {
-			197
-		});
-		HZPY[20572] = (new short[] {
-			349
-		});
-		HZPY[20573] = (new short[] {
-			369
-		});
-		HZPY[20574] = (new short[] {
-			367
-		});
-		HZPY[20575] = (new short[] {
-			347
-		});
-		HZPY[20576] = (new short[] {
-			179
-		});
-		HZPY[20577] = (new short[] {
-			131
-		});
-		HZPY[20578] = (new short[] {
-			369
-		});
-		HZPY[20579] = (new short[] {
-			133
-		});
-		HZPY[20580] = (new short[] {
-			116
-		});
-		HZPY[20581] = (new short[] {
-			369
-		});
-		HZPY[20582] = (new short[] {
-			372
-		});
-		HZPY[20583] = (new short[] {
-			394
-		});
-		HZPY[20584] = (new short[] {
-			179
-		});
-		HZPY[20585] = (new short[] {
-			175
-		});
-		HZPY[20586] = (new short[] {
-			135
-		});
-		HZPY[20587] = (new short[] {
-			140
-		});
-		HZPY[20588] = (new short[] {
-			376
-		});
-		HZPY[20589] = (new short[] {
-			183
-		});
-		HZPY[20590] = (new short[] {
-			126
-		});
-		HZPY[20591] = (new short[] {
-			391
-		});
-		HZPY[20592] = (new short[] {
-			372
-		});
-		HZPY[20593] = (new short[] {
-			123
-		});
-		HZPY[20594] = (new short[] {
-			199
-		});
-		HZPY[20595] = (new short[] {
-			106
-		});
-		HZPY[20596] = (new short[] {
-			309
-		});
-		HZPY[20597] = (new short[] {
-			183
-		});
-		HZPY[20598] = (new short[] {
-			137
-		});
-		HZPY[20599] = (new short[] {
-			178
-		});
-		HZPY[20600] = (new short[] {
-			133
-		});
-		HZPY[20601] = (new short[] {
-			352
-		});
-		HZPY[20602] = (new short[] {
-			54
-		});
-		HZPY[20603] = (new short[] {
-			133
-		});
-		HZPY[20604] = (new short[] {
-			133
-		});
-		HZPY[20605] = (new short[] {
-			365
-		});
-		HZPY[20606] = (new short[] {
-			54
-		});
-		HZPY[20607] = (new short[] {
-			183
-		});
-		HZPY[20608] = (new short[] {
-			375
-		});
-		HZPY[20609] = (new short[] {
-			50
-		});
-		HZPY[20610] = (new short[] {
-			131
-		});
-		HZPY[20611] = (new short[] {
-			15
-		});
-		HZPY[20612] = (new short[] {
-			50
-		});
-		HZPY[20613] = (new short[] {
-			243
-		});
-		HZPY[20614] = (new short[] {
-			401
-		});
-		HZPY[20615] = (new short[] {
-			144, 270
-		});
-		HZPY[20616] = (new short[] {
-			401
-		});
-		HZPY[20617] = (new short[] {
-			133, 258
-		});
-		HZPY[20618] = (new short[] {
-			200
-		});
-		HZPY[20619] = (new short[] {
-			200
-		});
-		HZPY[20620] = (new short[] {
-			349
-		});
-		HZPY[20621] = (new short[] {
-			179
-		});
-		HZPY[20622] = (new short[] {
-			35
-		});
-		HZPY[20623] = (new short[] {
-			144, 270
-		});
-		HZPY[20624] = (new short[] {
-			177
-		});
-		HZPY[20625] = (new short[] {
-			221
-		});
-		HZPY[20626] = (new short[] {
-			256
-		});
-		HZPY[20627] = (new short[] {
-			183
-		});
-		HZPY[20628] = (new short[] {
-			140
-		});
-		HZPY[20629] = (new short[] {
-			144, 270
-		});
-		HZPY[20630] = (new short[] {
-			138
-		});
-		HZPY[20631] = (new short[] {
-			171
-		});
-		HZPY[20632] = (new short[] {
-			353
-		});
-		HZPY[20633] = (new short[] {
-			365
-		});
-		HZPY[20634] = (new short[] {
-			132
-		});
-		HZPY[20635] = (new short[] {
-			200
-		});
-		HZPY[20636] = (new short[] {
-			171
-		});
-		HZPY[20637] = (new short[] {
-			299
-		});
-		HZPY[20638] = (new short[] {
-			392
-		});
-		HZPY[20639] = (new short[] {
-			177
-		});
-		HZPY[20640] = (new short[] {
-			138
-		});
-		HZPY[20641] = (new short[] {
-			256
-		});
-		HZPY[20642] = (new short[] {
-			178
-		});
-		HZPY[20643] = (new short[] {
-			365
-		});
-		HZPY[20644] = (new short[] {
-			50
-		});
-		HZPY[20645] = (new short[] {
-			192
-		});
-		HZPY[20646] = (new short[] {
-			192
-		});
-		HZPY[20647] = (new short[] {
-			97
-		});
-		HZPY[20648] = (new short[] {
-			33
-		});
-		HZPY[20649] = (new short[] {
-			91
-		});
-		HZPY[20650] = (new short[] {
-			201
-		});
-		HZPY[20651] = (new short[] {
-			201
-		});
-		HZPY[20652] = (new short[] {
-			91
-		});
-		HZPY[20653] = (new short[] {
-			243
-		});
-		HZPY[20654] = (new short[] {
-			266
-		});
-		HZPY[20655] = (new short[] {
-			266
-		});
-		HZPY[20656] = (new short[] {
-			208
-		});
-		HZPY[20657] = (new short[] {
-			91
-		});
-		HZPY[20658] = (new short[] {
-			352
-		});
-		HZPY[20659] = (new short[] {
-			164
-		});
-		HZPY[20660] = (new short[] {
-			266
-		});
-		HZPY[20661] = (new short[] {
-			201
-		});
-		HZPY[20662] = (new short[] {
-			37, 171
-		});
-		HZPY[20663] = (new short[] {
-			88
-		});
-		HZPY[20664] = (new short[] {
-			91
-		});
-		HZPY[20665] = (new short[] {
-			266
-		});
-		HZPY[20666] = (new short[] {
-			201
-		});
-		HZPY[20667] = (new short[] {
-			191
-		});
-		HZPY[20668] = (new short[] {
-			191, 196, 207
-		});
-		HZPY[20669] = (new short[] {
-			207, 196
-		});
-		HZPY[20670] = (new short[] {
-			128
-		});
-		HZPY[20671] = (new short[] {
-			229
-		});
-		HZPY[20672] = (new short[] {
-			411
-		});
-		HZPY[20673] = (new short[] {
-			218
-		});
-		HZPY[20674] = (new short[] {
-			87
-		});
-		HZPY[20675] = (new short[] {
-			127
-		});
-		HZPY[20676] = (new short[] {
-			127
-		});
-		HZPY[20677] = (new short[] {
-			137
-		});
-		HZPY[20678] = (new short[] {
-			107
-		});
-		HZPY[20679] = (new short[] {
-			330
-		});
-		HZPY[20680] = (new short[] {
-			335
-		});
-		HZPY[20681] = (new short[] {
-			121
-		});
-		HZPY[20682] = (new short[] {
-			350
-		});
-		HZPY[20683] = (new short[] {
-			159
-		});
-		HZPY[20684] = (new short[] {
-			121
-		});
-		HZPY[20685] = (new short[] {
-			305
-		});
-		HZPY[20686] = (new short[] {
-			171
-		});
-		HZPY[20687] = (new short[] {
-			222
-		});
-		HZPY[20688] = (new short[] {
-			37, 171
-		});
-		HZPY[20689] = (new short[] {
-			117
-		});
-		HZPY[20690] = (new short[] {
-			117
-		});
-		HZPY[20691] = (new short[] {
-			369
-		});
-		HZPY[20692] = (new short[] {
-			258
-		});
-		HZPY[20693] = (new short[] {
-			396
-		});
-		HZPY[20694] = (new short[] {
-			350
-		});
-		HZPY[20695] = (new short[] {
-			337
-		});
-		HZPY[20696] = (new short[] {
-			207
-		});
-		HZPY[20697] = (new short[] {
-			207
-		});
-		HZPY[20698] = (new short[] {
-			258
-		});
-		HZPY[20699] = (new short[] {
-			56
-		});
-		HZPY[20700] = (new short[] {
-			40
-		});
-		HZPY[20701] = (new short[] {
-			375
-		});
-		HZPY[20702] = (new short[] {
-			65
-		});
-		HZPY[20703] = (new short[] {
-			369
-		});
-		HZPY[20704] = (new short[] {
-			351
-		});
-		HZPY[20705] = (new short[] {
-			365
-		});
-		HZPY[20706] = (new short[] {
-			266
-		});
-		HZPY[20707] = (new short[] {
-			197
-		});
-		HZPY[20708] = (new short[] {
-			365
-		});
-		HZPY[20709] = (new short[] {
-			263, 138
-		});
-		HZPY[20710] = (new short[] {
-			376
-		});
-		HZPY[20711] = (new short[] {
-			171
-		});
-		HZPY[20712] = (new short[] {
-			58
-		});
-		HZPY[20713] = (new short[] {
-			72
-		});
-		HZPY[20714] = (new short[] {
-			23
-		});
-		HZPY[20715] = (new short[] {
-			371
-		});
-		HZPY[20716] = (new short[] {
-			2
-		});
-		HZPY[20717] = (new short[] {
-			365
-		});
-		HZPY[20718] = (new short[] {
-			323
-		});
-		HZPY[20719] = (new short[] {
-			2
-		});
-		HZPY[20720] = (new short[] {
-			396
-		});
-		HZPY[20721] = (new short[] {
-			56
-		});
-		HZPY[20722] = (new short[] {
-			23
-		});
-		HZPY[20723] = (new short[] {
-			369
-		});
-		HZPY[20724] = (new short[] {
-			197
-		});
-		HZPY[20725] = (new short[] {
-			57
-		});
-		HZPY[20726] = (new short[] {
-			365
-		});
-		HZPY[20727] = (new short[] {
-			72
-		});
-		HZPY[20728] = (new short[] {
-			183
-		});
-		HZPY[20729] = (new short[] {
-			398
-		});
-		HZPY[20730] = (new short[] {
-			87
-		});
-		HZPY[20731] = (new short[] {
-			91
-		});
-		HZPY[20732] = (new short[] {
-			91
-		});
-		HZPY[20733] = (new short[] {
-			204, 201
-		});
-		HZPY[20734] = (new short[] {
-			204, 201
-		});
-		HZPY[20735] = (new short[] {
-			377
-		});
-		HZPY[20736] = (new short[] {
-			50
-		});
-		HZPY[20737] = (new short[] {
-			266
-		});
-		HZPY[20738] = (new short[] {
-			33
-		});
-		HZPY[20739] = (new short[] {
-			341
-		});
-		HZPY[20740] = (new short[] {
-			401
-		});
-		HZPY[20741] = (new short[] {
-			398
-		});
-		HZPY[20742] = (new short[] {
-			194
-		});
-		HZPY[20743] = (new short[] {
-			4
-		});
-		HZPY[20744] = (new short[] {
-			16
-		});
-		HZPY[20745] = (new short[] {
-			340
-		});
-		HZPY[20746] = (new short[] {
-			13
-		});
-		HZPY[20747] = (new short[] {
-			377
-		});
-		HZPY[20748] = (new short[] {
-			33
-		});
-		HZPY[20749] = (new short[] {
-			340
-		});
-		HZPY[20750] = (new short[] {
-			68
-		});
-		HZPY[20751] = (new short[] {
-			200
-		});
-		HZPY[20752] = (new short[] {
-			212
-		});
-		HZPY[20753] = (new short[] {
-			68
-		});
-		HZPY[20754] = (new short[] {
-			409
-		});
-		HZPY[20755] = (new short[] {
-			103, 123
-		});
-		HZPY[20756] = (new short[] {
-			103
-		});
-		HZPY[20757] = (new short[] {
-			70
-		});
-		HZPY[20758] = (new short[] {
-			87
-		});
-		HZPY[20759] = (new short[] {
-			325
-		});
-		HZPY[20760] = (new short[] {
-			377
-		});
-		HZPY[20761] = (new short[] {
-			247
-		});
-		HZPY[20762] = (new short[] {
-			32
-		});
-		HZPY[20763] = (new short[] {
-			96
-		});
-		HZPY[20764] = (new short[] {
-			256
-		});
-		HZPY[20765] = (new short[] {
-			377
-		});
-		HZPY[20766] = (new short[] {
-			324
-		});
-		HZPY[20767] = (new short[] {
-			328
-		});
-		HZPY[20768] = (new short[] {
-			305
-		});
-		HZPY[20769] = (new short[] {
-			305
-		});
-		HZPY[20770] = (new short[] {
-			87
-		});
-		HZPY[20771] = (new short[] {
-			86
-		});
-		HZPY[20772] = (new short[] {
-			346
-		});
-		HZPY[20773] = (new short[] {
-			5
-		});
-		HZPY[20774] = (new short[] {
-			66
-		});
-		HZPY[20775] = (new short[] {
-			340
-		});
-		HZPY[20776] = (new short[] {
-			334
-		});
-		HZPY[20777] = (new short[] {
-			266
-		});
-		HZPY[20778] = (new short[] {
-			302
-		});
-		HZPY[20779] = (new short[] {
-			303
-		});
-		HZPY[20780] = (new short[] {
-			375
-		});
-		HZPY[20781] = (new short[] {
-			303
-		});
-		HZPY[20782] = (new short[] {
-			333
-		});
-		HZPY[20783] = (new short[] {
-			349
-		});
-		HZPY[20784] = (new short[] {
-			222
-		});
-		HZPY[20785] = (new short[] {
-			138
-		});
-		HZPY[20786] = (new short[] {
-			129
-		});
-		HZPY[20787] = (new short[] {
-			141
-		});
-		HZPY[20788] = (new short[] {
-			365
-		});
-		HZPY[20789] = (new short[] {
-			336
-		});
-		HZPY[20790] = (new short[] {
-			313
-		});
-		HZPY[20791] = (new short[] {
-			350
-		});
-		HZPY[20792] = (new short[] {
-			352
-		});
-		HZPY[20793] = (new short[] {
-			365
-		});
-		HZPY[20794] = (new short[] {
-			169
-		});
-		HZPY[20795] = (new short[] {
-			13
-		});
-		HZPY[20796] = (new short[] {
-			367
-		});
-		HZPY[20797] = (new short[] {
-			365, 269
-		});
-		HZPY[20798] = (new short[] {
-			113
-		});
-		HZPY[20799] = (new short[] {
-			128
-		});
-		HZPY[20800] = (new short[] {
-			349
-		});
-		HZPY[20801] = (new short[] {
-			122
-		});
-		HZPY[20802] = (new short[] {
-			350
-		});
-		HZPY[20803] = (new short[] {
-			97
-		});
-		HZPY[20804] = (new short[] {
-			389
-		});
-		HZPY[20805] = (new short[] {
-			359
-		});
-		HZPY[20806] = (new short[] {
-			347
-		});
-		HZPY[20807] = (new short[] {
-			389
-		});
-		HZPY[20808] = (new short[] {
-			230
-		});
-		HZPY[20809] = (new short[] {
-			214
-		});
-		HZPY[20810] = (new short[] {
-			256, 390
-		});
-		HZPY[20811] = (new short[] {
-			390
-		});
-		HZPY[20812] = (new short[] {
-			131
-		});
-		HZPY[20813] = (new short[] {
-			409, 131
-		});
-		HZPY[20814] = (new short[] {
-			131
-		});
-		HZPY[20815] = (new short[] {
-			131
-		});
-		HZPY[20816] = (new short[] {
-			256, 131
-		});
-		HZPY[20817] = (new short[] {
-			131
-		});
-		HZPY[20818] = (new short[] {
-			37
-		});
-		HZPY[20819] = (new short[] {
-			35
-		});
-		HZPY[20820] = (new short[] {
-			35
-		});
-		HZPY[20821] = (new short[] {
-			116
-		});
-		HZPY[20822] = (new short[] {
-			364
-		});
-		HZPY[20823] = (new short[] {
-			151
-		});
-		HZPY[20824] = (new short[] {
-			355
-		});
-		HZPY[20825] = (new short[] {
-			9
-		});
-		HZPY[20826] = (new short[] {
-			385
-		});
-		HZPY[20827] = (new short[] {
-			303
-		});
-		HZPY[20828] = (new short[] {
-			409
-		});
-		HZPY[20829] = (new short[] {
-			37
-		});
-		HZPY[20830] = (new short[] {
-			222
-		});
-		HZPY[20831] = (new short[] {
-			141
-		});
-		HZPY[20832] = (new short[] {
-			331
-		});
-		HZPY[20833] = (new short[] {
-			178
-		});
-		HZPY[20834] = (new short[] {
-			178
-		});
-		HZPY[20835] = (new short[] {
-			40
-		});
-		HZPY[20836] = (new short[] {
-			267
-		});
-		HZPY[20837] = (new short[] {
-			355
-		});
-		HZPY[20838] = (new short[] {
-			371, 151
-		});
-		HZPY[20839] = (new short[] {
-			225
-		});
-		HZPY[20840] = (new short[] {
-			140
-		});
-		HZPY[20841] = (new short[] {
-			225
-		});
-		HZPY[20842] = (new short[] {
-			46
-		});
-		HZPY[20843] = (new short[] {
-			161
-		});
-		HZPY[20844] = (new short[] {
-			376
-		});
-		HZPY[20845] = (new short[] {
-			40
-		});
-		HZPY[20846] = (new short[] {
-			369
-		});
-		HZPY[20847] = (new short[] {
-			221
-		});
-		HZPY[20848] = (new short[] {
-			54
-		});
-		HZPY[20849] = (new short[] {
-			46
-		});
-		HZPY[20850] = (new short[] {
-			266
-		});
-		HZPY[20851] = (new short[] {
-			222
-		});
-		HZPY[20852] = (new short[] {
-			352
-		});
-		HZPY[20853] = (new short[] {
-			376
-		});
-		HZPY[20854] = (new short[] {
-			77
-		});
-		HZPY[20855] = (new short[] {
-			348
-		});
-		HZPY[20856] = (new short[] {
-			369
-		});
-		HZPY[20857] = (new short[] {
-			37
-		});
-		HZPY[20858] = (new short[] {
-			411
-		});
-		HZPY[20859] = (new short[] {
-			65
-		});
-		HZPY[20860] = (new short[] {
-			40
-		});
-		HZPY[20861] = (new short[] {
-			137
-		});
-		HZPY[20862] = (new short[] {
-			364
-		});
-		HZPY[20863] = (new short[] {
-			37
-		});
-		HZPY[20864] = (new short[] {
-			35
-		});
-		HZPY[20865] = (new short[] {
-			116
-		});
-		HZPY[20866] = (new short[] {
-			371
-		});
-		HZPY[20867] = (new short[] {
-			141
-		});
-		HZPY[20868] = (new short[] {
-			178
-		});
-		HZPY[20869] = (new short[] {
-			9
-		});
-		HZPY[20870] = (new short[] {
-			331
-		});
-		HZPY[20871] = (new short[] {
-			409
-		});
-		HZPY[20872] = (new short[] {
-			371, 151
-		});
-		HZPY[20873] = (new short[] {
-			376
-		});
-		HZPY[20874] = (new short[] {
-			46
-		});
-		HZPY[20875] = (new short[] {
-			266
-		});
-		HZPY[20876] = (new short[] {
-			348
-		});
-		HZPY[20877] = (new short[] {
-			181
-		});
-		HZPY[20878] = (new short[] {
-			242
-		});
-		HZPY[20879] = (new short[] {
-			101
-		});
-		HZPY[20880] = (new short[] {
-			242
-		});
-		HZPY[20881] = (new short[] {
-			365
-		});
-		HZPY[20882] = (new short[] {
-			181
-		});
-		HZPY[20883] = (new short[] {
-			181
-		});
-		HZPY[20884] = (new short[] {
-			101
-		});
-		HZPY[20885] = (new short[] {
-			147
-		});
-		HZPY[20886] = (new short[] {
-			321
-		});
-		HZPY[20887] = (new short[] {
-			178
-		});
-		HZPY[20888] = (new short[] {
-			321
-		});
-		HZPY[20889] = (new short[] {
-			181
-		});
-		HZPY[20890] = (new short[] {
-			101
-		});
-		HZPY[20891] = (new short[] {
-			147
-		});
-		HZPY[20892] = (new short[] {
-			108, 144, 265
-		});
-		HZPY[20893] = (new short[] {
-			265
-		});
-		HZPY[20894] = (new short[] {
-			16
-		});
-		HZPY[20895] = (new short[] {
-			108, 144, 265
-		});
-		HZPY[20896] = (new short[] {
-			378
-		});
-		HZPY[20897] = (new short[] {
-			44
-		});
-		HZPY[20898] = (new short[] {
-			116
-		});
-		HZPY[20899] = (new short[] {
-			143
-		});
-		HZPY[20900] = (new short[] {
-			355
-		});
-		HZPY[20901] = (new short[] {
-			378
-		});
-	}
 	public String[][] getPinyinArray(String s)
 	{
 		String as2[][];
@@ -62890,23 +180,22 @@ public class HanziToPinyin{
 					as2[j] = as5;
 				} else
 				{
-					int k = c + -19968;
-					if (k < 0 || k > 20901)
+					if (!mTable.contains(c))
 					{
 						String as3[] = new String[1];
 						as3[0] = Character.toString(s.charAt(j));
 						as2[j] = as3;
 					} else
 					{
-						short HZPY[] = UncodePinYin[k];
-						String as4[] = new String[HZPY.length];
+						String as4[] = new String[mTable.getReadingCount(c)];
 						int l = 0;
-						while (l < HZPY.length) 
+						while (l < as4.length) 
 						{
-							if (HZPY[l] == 229)
+							final int reading = mTable.getReading(c, l);
+							if (reading == 229)
 								as4[l] = Character.toString(s.charAt(j));
 							else
-								as4[l] = pinyin[HZPY[l]];
+								as4[l] = pinyin[reading];
 							l++;
 						}
 						as2[j] = as4;
@@ -62995,65 +284,257 @@ public class HanziToPinyin{
         }
         return result;
     }
+    /**
+     * Receives the pinyin variants of a name.
+     */
+    public interface VariantListener {
+        void onVariant(String variant);
+    }
+
+    /**
+     * Returns every combination of the full pinyin readings of the characters in a string, see
+     * {@link #expandAllFullWords(String, int, VariantListener)}.
+     */
     public String[] getAllFullWordsString(String s){
-		
-		String[][] PinyinArrays=HanziToPinyin.getInstance().getPinyinArray(s);
-		int count1=1;
-		List<String[]> list = new ArrayList<String[]>();
-		for(int i=0;i<PinyinArrays.length;i++){
-			count1*=PinyinArrays[i].length;
-			list.add(PinyinArrays[i]);
-		}
-		AllFullWordsString=new String[count1];
-		index=0;
-		getAll(list,PinyinArrays[0],"");
-		return AllFullWordsString;
-	}
+        final VariantCollector collector = new VariantCollector();
+        expandAllFullWords(s, Integer.MAX_VALUE, collector);
+        return collector.toArray();
+    }
+
+    /**
+     * Returns every distinct combination of the first letters of the pinyin readings of the
+     * characters in a string, see {@link #expandAllFirstPinyin(String, int, VariantListener)}.
+     */
     public String[] getAllFirstPinyin(String s){
-    	String[][] PinyinArrays=HanziToPinyin.getInstance().getPinyinArray(s);
-    	String[][] FirstPinyinArrays=PinyinArrays;
-    	int count1=1;
-		List<String[]> list = new ArrayList<String[]>();
-		for(int i=0;i<FirstPinyinArrays.length;i++){
-			count1*=FirstPinyinArrays[i].length;
-			for(int k=0;k<FirstPinyinArrays[i].length;k++){
-    			FirstPinyinArrays[i][k]=FirstPinyinArrays[i][k].substring(0, 1);
-    		}
-			list.add(FirstPinyinArrays[i]);
-		}
-		AllFullWordsString=new String[count1];
-		index=0;
-		getAll(list,FirstPinyinArrays[0],"");
-		List<String> list1 = new ArrayList<String>();
-		for(int i=0;i<AllFullWordsString.length;i++){
-			if(list1.indexOf(AllFullWordsString[i])==-1){
-				list1.add(AllFullWordsString[i]);
-			}
-		}
-		String[] result=new String[list1.size()];
-		for(int i=0;i<list1.size();i++){
-			result[i]=list1.get(i);
-		}
-		return result;
-		
+        final VariantCollector collector = new VariantCollector();
+        expandAllFirstPinyin(s, Integer.MAX_VALUE, collector);
+        return collector.toArray();
     }
-    public void getAll(List<String[]> list,String[] arr,String str){
-    	for(int i=0;i<list.size();i++){
-    		if(i==list.indexOf(arr)){
-    			for(String st : arr){
-                    st = str + st ;
-                    if(i<list.size()-1){
-                    	getAll(list,list.get(i+1),st);
-            		}else if(i==list.size()-1){
-            			AllFullWordsString[index]=st;
-            			index++;
-            		}else{
-            		     continue;
-            		}
-    			}
-    		}
-    	}
+
+    /**
+     * Passes every combination of the full pinyin readings of the characters in a string to the
+     * listener, without duplicates. Characters without pinyin stand for themselves. Combinations
+     * are produced in order, the readings of the last character varying fastest, so the most
+     * common readings come first.
+     *
+     * @param s String to expand.
+     * @param maxVariants Maximum number of variants to produce. Names with several polyphonic
+     *        characters can otherwise have hundreds of variants.
+     * @param listener Listener the variants are passed to, in order.
+     * @return The number of variants passed to the listener.
+     */
+    public int expandAllFullWords(String s, int maxVariants, VariantListener listener) {
+        return expand(s, false, maxVariants, listener, new ConversionBuffer());
+    }
+
+    /**
+     * Same as {@link #expandAllFullWords(String, int, VariantListener)}, but uses the provided
+     * buffer instead of allocating a new one.
+     */
+    public int expandAllFullWords(String s, int maxVariants, VariantListener listener,
+            ConversionBuffer buffer) {
+        return expand(s, false, maxVariants, listener, buffer);
+    }
+
+    /**
+     * Same as {@link #expandAllFullWords(String, int, VariantListener)}, but only uses the first
+     * letter of each reading.
+     */
+    public int expandAllFirstPinyin(String s, int maxVariants, VariantListener listener) {
+        return expand(s, true, maxVariants, listener, new ConversionBuffer());
+    }
+
+    /**
+     * Same as {@link #expandAllFirstPinyin(String, int, VariantListener)}, but uses the provided
+     * buffer instead of allocating a new one.
+     */
+    public int expandAllFirstPinyin(String s, int maxVariants, VariantListener listener,
+            ConversionBuffer buffer) {
+        return expand(s, true, maxVariants, listener, buffer);
+    }
+
+    /**
+     * Scratch space used while expanding a string into its pinyin variants.
+     *
+     * <p>{@link HanziToPinyin} itself keeps no state between calls, so it can be used from any
+     * number of threads at once. Callers that expand many strings can keep one buffer per thread
+     * and pass it to every call, so that only the variants themselves are allocated. A buffer must
+     * not be used by two threads at the same time.</p>
+     */
+    public static final class ConversionBuffer {
+        /** Readings of all characters, see {@link HanziToPinyin#getReading(int, char)}. */
+        private int[] mReadings = new int[16];
+        /** Readings of character i start at mReadingStart[i] in {@link #mReadings}. */
+        private int[] mReadingStart = new int[8];
+        private int[] mCounts = new int[8];
+        private int[] mPositions = new int[8];
+        /** Position in {@link #mBuilder} at which character i is appended. */
+        private int[] mStarts = new int[8];
+        private final StringBuilder mBuilder = new StringBuilder();
+        private final HashSet<String> mSeen = new HashSet<String>();
+
+        private void ensureCapacity(int length) {
+            if (mCounts.length < length) {
+                final int capacity = Math.max(length, mCounts.length * 2);
+                mReadingStart = new int[capacity];
+                mCounts = new int[capacity];
+                mPositions = new int[capacity];
+                mStarts = new int[capacity];
+            }
+        }
+
+        private void addReading(int index, int reading) {
+            if (index == mReadings.length) {
+                mReadings = Arrays.copyOf(mReadings, index * 2);
+            }
+            mReadings[index] = reading;
+        }
+    }
+
+    /** Reading of a character that has no pinyin and stands for itself. */
+    private static final int READING_SELF = -1;
+
+    private int expand(String s, boolean firstLetters, int maxVariants,
+            VariantListener listener, ConversionBuffer buffer) {
+        if (maxVariants <= 0) {
+            return 0;
+        }
+        if (TextUtils.isEmpty(s)) {
+            listener.onVariant(String.valueOf(s));
+            return 1;
+        }
+        if (!mHasChinaCollator) {
+            // Same as getPinyinArray(), which treats the whole string as a single character
+            listener.onVariant(firstLetters ? s.substring(0, 1) : s);
+            return 1;
+        }
+        final int length = s.length();
+        buffer.ensureCapacity(length);
+        final int[] readingStart = buffer.mReadingStart;
+        final int[] counts = buffer.mCounts;
+        final int[] positions = buffer.mPositions;
+        final int[] starts = buffer.mStarts;
+
+        // Collect the readings of every character, dropping readings that are the same as an
+        // earlier one of the same character, which is common when only first letters are used.
+        int readingCount = 0;
+        long combinations = 1;
+        for (int i = 0; i < length; i++) {
+            final char c = s.charAt(i);
+            readingStart[i] = readingCount;
+            final int available = getReadingCount(c);
+            for (int j = 0; j < available; j++) {
+                final int reading = getReading(c, j);
+                if (!containsReading(buffer.mReadings, readingStart[i], readingCount, reading, c,
+                        firstLetters)) {
+                    buffer.addReading(readingCount++, reading);
+                }
+            }
+            counts[i] = readingCount - readingStart[i];
+            positions[i] = 0;
+            combinations = Math.min(combinations * counts[i], Integer.MAX_VALUE);
+        }
+        final int[] readings = buffer.mReadings;
+
+        // Different full readings can still concatenate to the same string, e.g. "xi" + "an" and
+        // "xia" + "n". With first letters, every character contributes exactly one letter, so
+        // there is nothing left to detect.
+        final HashSet<String> seen = (!firstLetters && combinations > 1) ? buffer.mSeen : null;
+        if (seen != null) {
+            seen.clear();
+        }
+
+        // Enumerate the combinations like an odometer, only rebuilding the part of the string
+        // that follows the character whose reading changed.
+        final StringBuilder builder = buffer.mBuilder;
+        starts[0] = 0;
+        int changed = 0;
+        int produced = 0;
+        while (true) {
+            builder.setLength(starts[changed]);
+            for (int i = changed; i < length; i++) {
+                starts[i] = builder.length();
+                final int reading = readings[readingStart[i] + positions[i]];
+                if (reading == READING_SELF) {
+                    builder.append(s.charAt(i));
+                } else if (firstLetters) {
+                    builder.append(pinyin[reading].charAt(0));
+                } else {
+                    builder.append(pinyin[reading]);
+                }
+            }
+            final String variant = builder.toString();
+            if (seen == null || seen.add(variant)) {
+                listener.onVariant(variant);
+                if (++produced == maxVariants) {
+                    break;
+                }
+            }
+            changed = length - 1;
+            while (changed >= 0 && ++positions[changed] == counts[changed]) {
+                positions[changed] = 0;
+                changed--;
+            }
+            if (changed < 0) {
+                break;
+            }
+        }
+        if (seen != null) {
+            seen.clear();
+        }
+        return produced;
+    }
+
+    /**
+     * Returns the number of readings of a character, as used by {@link #getPinyinArray(String)}.
+     */
+    private int getReadingCount(char c) {
+        if (c == '\u3007' || !mTable.contains(c)) {
+            return 1;
+        }
+        return mTable.getReadingCount(c);
+    }
+
+    /**
+     * Returns a reading of a character, as an index into {@link #pinyin}, or
+     * {@link #READING_SELF} if the character stands for itself.
+     */
+    private int getReading(char c, int index) {
+        if (c == '\u3007') {
+            return 178;
+        }
+        if (!mTable.contains(c)) {
+            return READING_SELF;
+        }
+        final int reading = mTable.getReading(c, index);
+        return (reading == 229) ? READING_SELF : reading;
+    }
+
+    private static boolean containsReading(int[] readings, int start, int end, int reading,
+            char c, boolean firstLetter) {
+        final char letter = firstLetter ? getFirstLetter(reading, c) : 0;
+        for (int i = start; i < end; i++) {
+            if (firstLetter ? getFirstLetter(readings[i], c) == letter : readings[i] == reading) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static char getFirstLetter(int reading, char c) {
+        return (reading == READING_SELF) ? c : pinyin[reading].charAt(0);
+    }
+
+    private static class VariantCollector implements VariantListener {
+        private final ArrayList<String> mVariants = new ArrayList<String>();
+
+        @Override
+        public void onVariant(String variant) {
+            mVariants.add(variant);
+        }
+
+        public String[] toArray() {
+            return mVariants.toArray(new String[mVariants.size()]);
+        }
     }
-    
-  
 }
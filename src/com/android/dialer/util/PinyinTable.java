@@ -0,0 +1,138 @@
+/*
+ * Copyright (C) 2013 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.dialer.util;
+
+import android.content.res.AssetFileDescriptor;
+import android.content.res.Resources;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Pinyin readings of a range of Chinese characters, read from a packed binary table.
+ *
+ * <p>The table is memory mapped rather than loaded into the heap, and the readings of a character
+ * are only looked up when requested, so opening the table is cheap and it never occupies more than
+ * a handful of objects. The file (res/raw/pinyin_table.bin, stored uncompressed so that it can be
+ * mapped) has the following big endian layout:</p>
+ *
+ * <pre>
+ * int    magic              'PYTB'
+ * int    version            {@link #VERSION}
+ * int    firstCharacter     first character of the table, e.g. 0x4E00
+ * int    characterCount
+ * int    readingCount
+ * char   offsets[characterCount + 1]
+ *                           readings of character i are stored at [offsets[i], offsets[i + 1])
+ * short  readings[readingCount]
+ *                           indexes into {@link HanziToPinyin#pinyin}
+ * </pre>
+ *
+ * <p>Instances are immutable and thread safe, since the buffer is only read through absolute
+ * get methods.</p>
+ */
+public final class PinyinTable {
+    private static final int MAGIC = 0x50595442; // "PYTB"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 5 * 4;
+
+    private final ByteBuffer mBuffer;
+    private final int mFirstCharacter;
+    private final int mCharacterCount;
+    private final int mReadingsStart;
+
+    private PinyinTable(ByteBuffer buffer) throws IOException {
+        mBuffer = buffer;
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC
+                || buffer.getInt(4) != VERSION) {
+            throw new IOException("Not a pinyin table");
+        }
+        mFirstCharacter = buffer.getInt(8);
+        mCharacterCount = buffer.getInt(12);
+        final int readingCount = buffer.getInt(16);
+        mReadingsStart = HEADER_SIZE + (mCharacterCount + 1) * 2;
+        if (mCharacterCount < 0 || readingCount < 0
+                || buffer.capacity() != mReadingsStart + readingCount * 2) {
+            throw new IOException("Truncated pinyin table");
+        }
+    }
+
+    /**
+     * Maps a table stored as an uncompressed raw resource.
+     *
+     * @throws IOException If the resource cannot be mapped or is not a valid table.
+     */
+    public static PinyinTable open(Resources resources, int id) throws IOException {
+        final AssetFileDescriptor descriptor;
+        try {
+            descriptor = resources.openRawResourceFd(id);
+        } catch (Resources.NotFoundException e) {
+            // Also thrown for compressed resources, which cannot be mapped
+            throw new IOException("Cannot open pinyin table: " + e.getMessage());
+        }
+        final FileInputStream in = descriptor.createInputStream();
+        try {
+            return wrap(in.getChannel().map(FileChannel.MapMode.READ_ONLY,
+                    descriptor.getStartOffset(), descriptor.getLength()));
+        } finally {
+            // The mapping stays valid after the file is closed
+            in.close();
+        }
+    }
+
+    /**
+     * Reads a table from a buffer holding its entire contents.
+     *
+     * @throws IOException If the buffer does not contain a valid table.
+     */
+    public static PinyinTable wrap(ByteBuffer buffer) throws IOException {
+        return new PinyinTable(buffer);
+    }
+
+    /**
+     * Returns true if the table holds the readings of the given character.
+     */
+    public boolean contains(char c) {
+        final int index = c - mFirstCharacter;
+        return index >= 0 && index < mCharacterCount;
+    }
+
+    /**
+     * Returns the number of readings of a character, which must be in the table.
+     */
+    public int getReadingCount(char c) {
+        final int index = c - mFirstCharacter;
+        return getOffset(index + 1) - getOffset(index);
+    }
+
+    /**
+     * Returns a reading of a character, which must be in the table, as an index into
+     * {@link HanziToPinyin#pinyin}.
+     *
+     * @param reading Index of the reading, from 0 to {@link #getReadingCount(char)} - 1.
+     */
+    public int getReading(char c, int reading) {
+        final int offset = getOffset(c - mFirstCharacter) + reading;
+        return mBuffer.getShort(mReadingsStart + offset * 2);
+    }
+
+    private int getOffset(int index) {
+        return mBuffer.getChar(HEADER_SIZE + index * 2);
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (C) 2013 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.dialer.calllog;
+
+import android.test.AndroidTestCase;
+import android.test.suitebuilder.annotation.MediumTest;
+
+import com.android.dialer.calllog.CallLogAdapterHelper.NumberWithCountryIso;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for the queue of contact info requests of {@link CallLogAdapterHelper}.
+ *
+ * To run this test, use the command:
+ * adb shell am instrument -w -e class com.android.dialer.calllog.CallLogAdapterHelperTest /
+ * com.android.dialer.tests/android.test.InstrumentationTestRunner
+ */
+@MediumTest
+public class CallLogAdapterHelperTest extends AndroidTestCase {
+    private static final String TEST_COUNTRY_ISO = "US";
+    private static final long TIMEOUT_MILLIS = 2000;
+
+    /** The object under test. */
+    private CallLogAdapterHelper mHelper;
+
+    /** The numbers looked up, in order. */
+    private final LinkedBlockingQueue<String> mLookedUp = new LinkedBlockingQueue<String>();
+    /** If not null, lookups wait for it to be counted down. */
+    private volatile CountDownLatch mBlockLookups;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        final ContactInfoHelper fakeContactInfoHelper =
+                new ContactInfoHelper(getContext(), TEST_COUNTRY_ISO) {
+                    @Override
+                    public ContactInfo lookupNumber(String number, String countryIso) {
+                        mLookedUp.add(number);
+                        final CountDownLatch blockLookups = mBlockLookups;
+                        if (blockLookups != null) {
+                            try {
+                                blockLookups.await();
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                        }
+                        final ContactInfo info = new ContactInfo();
+                        info.number = number;
+                        info.formattedNumber = number;
+                        return info;
+                    }
+                };
+        final CallLogAdapterHelper.Callback fakeCallback = new CallLogAdapterHelper.Callback() {
+            @Override
+            public void dataSetChanged() {}
+
+            @Override
+            public void updateContactInfo(String number, String countryIso,
+                    ContactInfo updatedInfo, ContactInfo callLogInfo) {}
+        };
+
+        // Start from an empty memory cache.
+        ContactInfoCache.getInstance(getContext()).clearForTest();
+        mHelper = new CallLogAdapterHelper(getContext(), fakeCallback, fakeContactInfoHelper,
+                new PhoneNumberHelper(getContext().getResources()));
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        if (mBlockLookups != null) {
+            mBlockLookups.countDown();
+        }
+        mHelper.stopRequestProcessing();
+        mHelper = null;
+        super.tearDown();
+    }
+
+    public void testImmediateRequestsFirst() {
+        mHelper.disableRequestProcessingForTest();
+        mHelper.enqueueRequest("5551001", TEST_COUNTRY_ISO, null, false);
+        mHelper.enqueueRequest("5551002", TEST_COUNTRY_ISO, null, true);
+        mHelper.enqueueRequest("5551003", TEST_COUNTRY_ISO, null, false);
+        mHelper.enqueueRequest("5551004", TEST_COUNTRY_ISO, null, true);
+
+        // Immediate requests first, and the latest first within each kind
+        assertEquals(Lists.newArrayList("5551004", "5551002", "5551003", "5551001"),
+                mHelper.getPendingNumbersForTest());
+    }
+
+    public void testRepeatedRequestMovesAhead() {
+        mHelper.disableRequestProcessingForTest();
+        mHelper.enqueueRequest("5551001", TEST_COUNTRY_ISO, null, false);
+        mHelper.enqueueRequest("5551002", TEST_COUNTRY_ISO, null, false);
+        mHelper.enqueueRequest("5551003", TEST_COUNTRY_ISO, null, false);
+        mHelper.enqueueRequest("5551001", TEST_COUNTRY_ISO, null, false);
+
+        // Requested again, so its row is on screen, and not requested twice
+        assertEquals(Lists.newArrayList("5551001", "5551003", "5551002"),
+                mHelper.getPendingNumbersForTest());
+    }
+
+    public void testRepeatedRequestStaysImmediate() {
+        mHelper.disableRequestProcessingForTest();
+        mHelper.enqueueRequest("5551001", TEST_COUNTRY_ISO, null, true);
+        mHelper.enqueueRequest("5551002", TEST_COUNTRY_ISO, null, false);
+        mHelper.enqueueRequest("5551003", TEST_COUNTRY_ISO, null, true);
+        mHelper.enqueueRequest("5551001", TEST_COUNTRY_ISO, null, false);
+
+        assertEquals(Lists.newArrayList("5551001", "5551003", "5551002"),
+                mHelper.getPendingNumbersForTest());
+    }
+
+    public void testOldestRequestDropped() {
+        mHelper.disableRequestProcessingForTest();
+        // Shows the number from the call log, and puts a placeholder in the cache meanwhile
+        mHelper.lookupContact("5550000", TEST_COUNTRY_ISO, new ContactInfo());
+        final NumberWithCountryIso key = new NumberWithCountryIso("5550000", TEST_COUNTRY_ISO);
+        final ContactInfoCache cache = ContactInfoCache.getInstance(getContext());
+        assertSame(ContactInfo.EMPTY, cache.getPossiblyExpired(key));
+
+        for (int i = 1; i <= CallLogAdapterHelper.MAX_PENDING_REQUESTS; i++) {
+            mHelper.enqueueRequest(String.valueOf(5550000 + i), TEST_COUNTRY_ISO, null, true);
+        }
+
+        final List<String> pending = mHelper.getPendingNumbersForTest();
+        assertEquals(CallLogAdapterHelper.MAX_PENDING_REQUESTS, pending.size());
+        assertFalse(pending.contains("5550000"));
+        // The placeholder is removed, so that the number is requested again when shown
+        assertNull(cache.getPossiblyExpired(key));
+    }
+
+    public void testStopProcessingRemovesPlaceholders() {
+        mHelper.disableRequestProcessingForTest();
+        mHelper.lookupContact("5551001", TEST_COUNTRY_ISO, new ContactInfo());
+        final NumberWithCountryIso key = new NumberWithCountryIso("5551001", TEST_COUNTRY_ISO);
+        final ContactInfoCache cache = ContactInfoCache.getInstance(getContext());
+        assertSame(ContactInfo.EMPTY, cache.getPossiblyExpired(key));
+
+        mHelper.stopRequestProcessing();
+
+        // The cache is shared, so other screens showing the number have to look it up
+        assertNull(cache.getPossiblyExpired(key));
+        // The request is kept for when processing restarts
+        assertEquals(Lists.newArrayList("5551001"), mHelper.getPendingNumbersForTest());
+    }
+
+    public void testStaleRequestDroppedBeforeImmediate() {
+        mHelper.disableRequestProcessingForTest();
+        mHelper.enqueueRequest("5551001", TEST_COUNTRY_ISO, null, true);
+        mHelper.enqueueRequest("5551002", TEST_COUNTRY_ISO, null, false);
+        for (int i = 1; i < CallLogAdapterHelper.MAX_PENDING_REQUESTS; i++) {
+            mHelper.enqueueRequest(String.valueOf(5552000 + i), TEST_COUNTRY_ISO, null, true);
+        }
+
+        final List<String> pending = mHelper.getPendingNumbersForTest();
+        assertTrue(pending.contains("5551001"));
+        assertFalse(pending.contains("5551002"));
+    }
+
+    public void testStoppedProcessingKeepsPendingRequests() throws Exception {
+        mBlockLookups = new CountDownLatch(1);
+        // An immediate request starts processing
+        mHelper.enqueueRequest("5551001", TEST_COUNTRY_ISO, null, true);
+        assertEquals("5551001", mLookedUp.poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+
+        // The task blocked in the lookup stops after it, without processing later requests
+        mHelper.stopRequestProcessing();
+        mHelper.enqueueRequest("5551002", TEST_COUNTRY_ISO, null, false);
+        mBlockLookups.countDown();
+        assertNull(mLookedUp.poll(TIMEOUT_MILLIS / 4, TimeUnit.MILLISECONDS));
+        assertEquals(Lists.newArrayList("5551002"), mHelper.getPendingNumbersForTest());
+
+        // Processing restarts with the next immediate request
+        mHelper.enqueueRequest("5551003", TEST_COUNTRY_ISO, null, true);
+        assertEquals(Sets.newHashSet("5551002", "5551003"), Sets.newHashSet(
+                mLookedUp.poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS),
+                mLookedUp.poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)));
+        assertTrue(mHelper.getPendingNumbersForTest().isEmpty());
+    }
+}
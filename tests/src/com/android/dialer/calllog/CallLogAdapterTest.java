@@ -63,6 +63,8 @@ public class CallLogAdapterTest extends AndroidTestCase {
                     }
                 };
 
+        // Start from an empty memory cache.
+        ContactInfoCache.getInstance(getContext()).clearForTest();
         mAdapter = new TestCallLogAdapter(getContext(), fakeCallFetcher, fakeContactInfoHelper);
         // The cursor used in the tests to store the entries to display.
         mCursor = new MatrixCursor(CallLogQuery.EXTENDED_PROJECTION);
@@ -0,0 +1,165 @@
+/*
+ * Copyright (C) 2013 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.dialer.calllog;
+
+import android.content.ContentValues;
+import android.provider.CallLog.Calls;
+import android.test.suitebuilder.annotation.MediumTest;
+
+import com.android.dialer.calllog.CallLogAdapterHelper.NumberWithCountryIso;
+
+import junit.framework.TestCase;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for {@link CallLogCacheWriter}.
+ *
+ * To run this test, use the command:
+ * adb shell am instrument -w -e class com.android.dialer.calllog.CallLogCacheWriterTest /
+ * com.android.dialer.tests/android.test.InstrumentationTestRunner
+ */
+@MediumTest
+public class CallLogCacheWriterTest extends TestCase {
+    /** A writer that records the batches instead of writing them to the call log. */
+    private static final class TestCallLogCacheWriter extends CallLogCacheWriter {
+        public final LinkedBlockingQueue<Map<NumberWithCountryIso, ContentValues>> batches =
+                new LinkedBlockingQueue<Map<NumberWithCountryIso, ContentValues>>();
+
+        public TestCallLogCacheWriter() {
+            super(null);
+        }
+
+        @Override
+        void writeBatch(Map<NumberWithCountryIso, ContentValues> batch) {
+            batches.add(batch);
+        }
+    }
+
+    private TestCallLogCacheWriter mWriter;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        mWriter = new TestCallLogCacheWriter();
+    }
+
+    public void testUpdatesMergedByNumber() throws Exception {
+        mWriter.enqueueUpdate("5551234", "US", createValues(Calls.CACHED_NAME, "Alice"));
+        mWriter.enqueueUpdate("5551234", "US", createValues(Calls.CACHED_NUMBER_LABEL, "Work"));
+        mWriter.enqueueUpdate("5551234", "US", createValues(Calls.CACHED_NAME, "Alice Smith"));
+        mWriter.enqueueUpdate("5551234", null, createValues(Calls.CACHED_NAME, "Bob"));
+        mWriter.flushSoon();
+
+        final Map<NumberWithCountryIso, ContentValues> batch = takeBatch();
+        assertEquals(2, batch.size());
+        final ContentValues merged = batch.get(new NumberWithCountryIso("5551234", "US"));
+        assertEquals("Alice Smith", merged.getAsString(Calls.CACHED_NAME));
+        assertEquals("Work", merged.getAsString(Calls.CACHED_NUMBER_LABEL));
+        assertEquals("Bob", batch.get(new NumberWithCountryIso("5551234", null))
+                .getAsString(Calls.CACHED_NAME));
+        // The flush scheduled by the first update has nothing left to write
+        assertNull(mWriter.batches.poll(CallLogCacheWriter.FLUSH_DELAY_MILLIS * 2,
+                TimeUnit.MILLISECONDS));
+    }
+
+    public void testUpdatesWrittenAfterDelay() throws Exception {
+        mWriter.enqueueUpdate("5551234", "US", createValues(Calls.CACHED_NAME, "Alice"));
+        assertNull(mWriter.batches.poll(CallLogCacheWriter.FLUSH_DELAY_MILLIS / 2,
+                TimeUnit.MILLISECONDS));
+        assertEquals(1, takeBatch().size());
+    }
+
+    public void testFullBatchWrittenRightAway() throws Exception {
+        for (int i = 0; i < CallLogCacheWriter.MAX_BATCH_SIZE - 1; i++) {
+            mWriter.enqueueUpdate(String.valueOf(5550000 + i), "US",
+                    createValues(Calls.CACHED_NAME, "Contact " + i));
+        }
+        // Updating a queued number does not add to the batch
+        mWriter.enqueueUpdate("5550000", "US", createValues(Calls.CACHED_NUMBER_LABEL, "Work"));
+        assertTrue(mWriter.batches.isEmpty());
+
+        mWriter.enqueueUpdate("5559999", "US", createValues(Calls.CACHED_NAME, "Last"));
+        final Map<NumberWithCountryIso, ContentValues> batch = mWriter.batches.poll(
+                CallLogCacheWriter.FLUSH_DELAY_MILLIS / 2, TimeUnit.MILLISECONDS);
+        assertNotNull(batch);
+        assertEquals(CallLogCacheWriter.MAX_BATCH_SIZE, batch.size());
+    }
+
+    public void testChangesDeferredUntilWritten() throws Exception {
+        final AtomicInteger runs = new AtomicInteger();
+        final CountDownLatch latch = new CountDownLatch(1);
+        final Runnable task = new Runnable() {
+            @Override
+            public void run() {
+                runs.incrementAndGet();
+                latch.countDown();
+            }
+        };
+        // Nothing was written yet, so changes are handled right away
+        assertFalse(mWriter.deferIfSelfChange(task));
+
+        mWriter.enqueueUpdate("5551234", "US", createValues(Calls.CACHED_NAME, "Alice"));
+        mWriter.flushSoon();
+        takeBatch();
+        // Each updated row notifies a change, which are all handled once
+        assertTrue(mWriter.deferIfSelfChange(task));
+        assertTrue(mWriter.deferIfSelfChange(task));
+        assertEquals(0, runs.get());
+
+        assertTrue(latch.await(CallLogCacheWriter.SELF_CHANGE_WINDOW_MILLIS * 4,
+                TimeUnit.MILLISECONDS));
+        Thread.sleep(CallLogCacheWriter.SELF_CHANGE_WINDOW_MILLIS);
+        assertEquals(1, runs.get());
+        assertFalse(mWriter.deferIfSelfChange(task));
+    }
+
+    public void testCancelDeferred() throws Exception {
+        final AtomicInteger runs = new AtomicInteger();
+        final Runnable task = new Runnable() {
+            @Override
+            public void run() {
+                runs.incrementAndGet();
+            }
+        };
+        mWriter.enqueueUpdate("5551234", "US", createValues(Calls.CACHED_NAME, "Alice"));
+        mWriter.flushSoon();
+        takeBatch();
+        assertTrue(mWriter.deferIfSelfChange(task));
+        mWriter.cancelDeferred(task);
+
+        Thread.sleep(CallLogCacheWriter.SELF_CHANGE_WINDOW_MILLIS * 2);
+        assertEquals(0, runs.get());
+    }
+
+    private Map<NumberWithCountryIso, ContentValues> takeBatch() throws InterruptedException {
+        final Map<NumberWithCountryIso, ContentValues> batch = mWriter.batches.poll(
+                CallLogCacheWriter.FLUSH_DELAY_MILLIS * 2, TimeUnit.MILLISECONDS);
+        assertNotNull("No batch written", batch);
+        return batch;
+    }
+
+    private static ContentValues createValues(String column, String value) {
+        final ContentValues values = new ContentValues();
+        values.put(column, value);
+        return values;
+    }
+}
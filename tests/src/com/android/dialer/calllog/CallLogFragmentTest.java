@@ -111,6 +111,9 @@ public class CallLogFragmentTest extends ActivityInstrumentationTestCase2<Fragme
         // Needed by the CallLogFragment.
         mActivity.setTheme(R.style.DialtactsTheme);
 
+        // Start from an empty memory cache.
+        ContactInfoCache.getInstance(mActivity).clearForTest();
+
         // Create the fragment and load it into the activity.
         mFragment = new CallLogFragment();
         FragmentManager fragmentManager = mActivity.getFragmentManager();
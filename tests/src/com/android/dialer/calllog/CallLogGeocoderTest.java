@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) 2013 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.dialer.calllog;
+
+import android.test.suitebuilder.annotation.SmallTest;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit tests for {@link CallLogGeocoder}.
+ *
+ * To run this test, use the command:
+ * adb shell am instrument -w -e class com.android.dialer.calllog.CallLogGeocoderTest /
+ * com.android.dialer.tests/android.test.InstrumentationTestRunner
+ */
+@SmallTest
+public class CallLogGeocoderTest extends TestCase {
+    public void testMobileNumbersKeyedBySevenDigits() {
+        assertEquals("1380013", CallLogGeocoder.getPrefixKey("13800138000"));
+        assertEquals("1380013", CallLogGeocoder.getPrefixKey("138 0013 9999"));
+        assertEquals("1380013", CallLogGeocoder.getPrefixKey("+86 138-0013-8000"));
+        assertEquals("1380013", CallLogGeocoder.getPrefixKey("008613800138000"));
+    }
+
+    public void testFixedLineNumbersKeyedByAreaCode() {
+        assertEquals("010", CallLogGeocoder.getPrefixKey("010-12345678"));
+        assertEquals("021", CallLogGeocoder.getPrefixKey("(021) 8765 4321"));
+        assertEquals("0571", CallLogGeocoder.getPrefixKey("0571-88888888"));
+        assertEquals("010", CallLogGeocoder.getPrefixKey("+86 10 1234 5678"));
+        assertEquals("0571", CallLogGeocoder.getPrefixKey("0086 571 8888 8888"));
+    }
+
+    public void testOtherNumbersKeyedByAllDigits() {
+        assertEquals("+16502530000", CallLogGeocoder.getPrefixKey("+1 650-253-0000"));
+        assertEquals("10086", CallLogGeocoder.getPrefixKey("10086"));
+        assertEquals("88888888", CallLogGeocoder.getPrefixKey("8888 8888"));
+    }
+
+    public void testNoDigits() {
+        assertNull(CallLogGeocoder.getPrefixKey(null));
+        assertNull(CallLogGeocoder.getPrefixKey(""));
+        assertNull(CallLogGeocoder.getPrefixKey("**#"));
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2013 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.dialer.calllog;
+
+import android.net.Uri;
+import android.test.suitebuilder.annotation.SmallTest;
+
+import com.android.dialer.calllog.CallLogAdapterHelper.NumberWithCountryIso;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit tests for {@link ContactInfoCache}.
+ *
+ * To run this test, use the command:
+ * adb shell am instrument -w -e class com.android.dialer.calllog.ContactInfoCacheTest /
+ * com.android.dialer.tests/android.test.InstrumentationTestRunner
+ */
+@SmallTest
+public class ContactInfoCacheTest extends TestCase {
+    private static final NumberWithCountryIso KEY_A = new NumberWithCountryIso("1111111", "US");
+    private static final NumberWithCountryIso KEY_B = new NumberWithCountryIso("2222222", "US");
+    private static final NumberWithCountryIso KEY_C = new NumberWithCountryIso("3333333", "US");
+
+    /** The object under test. */
+    private ContactInfoCache mCache;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        mCache = new ContactInfoCache(2);
+    }
+
+    public void testHitsAndMisses() {
+        final ContactInfo info = createContact("Alice");
+        assertNull(mCache.get(KEY_A));
+        mCache.put(KEY_A, info);
+        assertSame(info, mCache.get(KEY_A));
+        assertSame(info, mCache.get(KEY_A));
+
+        final ContactInfoCache.Metrics metrics = mCache.getMetrics();
+        assertEquals(2, metrics.hits);
+        assertEquals(1, metrics.misses);
+        assertEquals(0, metrics.expiredHits);
+        assertEquals(1, metrics.size);
+    }
+
+    public void testExpireAll() {
+        final ContactInfo info = createContact("Alice");
+        mCache.put(KEY_A, info);
+        mCache.expireAll();
+        assertNull(mCache.get(KEY_A));
+        assertTrue(mCache.getCachedValue(KEY_A).isExpired());
+        assertSame(info, mCache.getPossiblyExpired(KEY_A));
+        assertEquals(2, mCache.getMetrics().expiredHits);
+
+        mCache.put(KEY_A, info);
+        assertSame(info, mCache.get(KEY_A));
+    }
+
+    public void testPendingLookupIsNotReturned() {
+        mCache.put(KEY_A, ContactInfo.EMPTY);
+        assertNull(mCache.get(KEY_A));
+        assertSame(ContactInfo.EMPTY, mCache.getCachedValue(KEY_A).getValue());
+        assertEquals(0, mCache.getMetrics().negativeEntries);
+    }
+
+    public void testNegativeEntries() {
+        final ContactInfo unknown = new ContactInfo();
+        unknown.number = "1111111";
+        unknown.formattedNumber = "111-1111";
+        assertTrue(ContactInfoCache.isNegative(unknown));
+        assertFalse(ContactInfoCache.isNegative(createContact("Alice")));
+
+        mCache.put(KEY_A, unknown);
+        assertSame(unknown, mCache.get(KEY_A));
+        assertEquals(1, mCache.getMetrics().negativeEntries);
+
+        // Replacing the entry with a contact no longer counts it as negative
+        mCache.put(KEY_A, createContact("Alice"));
+        assertEquals(0, mCache.getMetrics().negativeEntries);
+        assertEquals(1, mCache.getMetrics().size);
+    }
+
+    public void testEvictions() {
+        mCache.put(KEY_A, createContact("Alice"));
+        mCache.put(KEY_B, new ContactInfo());
+        mCache.put(KEY_C, createContact("Carol"));
+
+        // The least recently used entry was evicted
+        assertNull(mCache.getPossiblyExpired(KEY_A));
+        final ContactInfoCache.Metrics metrics = mCache.getMetrics();
+        assertEquals(1, metrics.evictions);
+        assertEquals(2, metrics.size);
+        assertEquals(1, metrics.negativeEntries);
+
+        mCache.remove(KEY_B);
+        assertEquals(1, mCache.getMetrics().evictions);
+        assertEquals(0, mCache.getMetrics().negativeEntries);
+        assertEquals(1, mCache.getMetrics().size);
+    }
+
+    private static ContactInfo createContact(String name) {
+        final ContactInfo info = new ContactInfo();
+        info.name = name;
+        info.lookupUri = Uri.parse("content://com.android.contacts/contacts/lookup/" + name);
+        return info;
+    }
+}
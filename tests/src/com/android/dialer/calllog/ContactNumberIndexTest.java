@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2013 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.dialer.calllog;
+
+import android.test.suitebuilder.annotation.SmallTest;
+
+import com.google.common.collect.Lists;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit tests for {@link ContactNumberIndex}.
+ *
+ * To run this test, use the command:
+ * adb shell am instrument -w -e class com.android.dialer.calllog.ContactNumberIndexTest /
+ * com.android.dialer.tests/android.test.InstrumentationTestRunner
+ */
+@SmallTest
+public class ContactNumberIndexTest extends TestCase {
+    private ContactNumberIndex mIndex;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        mIndex = new ContactNumberIndex();
+    }
+
+    public void testFindPhoneNumberByE164() {
+        final ContactInfo home = createInfo("Home", "650-555-1234", "+16505551234");
+        final ContactInfo office = createInfo("Office", "408-555-1234", "+14085551234");
+        mIndex.addPhoneNumber(1, office);
+        mIndex.addPhoneNumber(1, home);
+        assertSame(home, mIndex.findPhoneNumber("6505551234", "+16505551234"));
+        assertSame(office, mIndex.findPhoneNumber("(408) 555-1234", "+14085551234"));
+    }
+
+    public void testFindPhoneNumberWithoutE164() {
+        final ContactInfo info = createInfo("Home", "650-555-1234", null);
+        mIndex.addPhoneNumber(1, info);
+        assertSame(info, mIndex.findPhoneNumber("(650) 555-1234", null));
+        assertSame(info, mIndex.findPhoneNumber("6505551234", "+16505551234"));
+    }
+
+    public void testFindPhoneNumberNoMatch() {
+        mIndex.addPhoneNumber(1, createInfo("Home", "650-555-1234", "+16505551234"));
+        assertNull(mIndex.findPhoneNumber("650-555-4321", "+16505554321"));
+        assertNull(mIndex.findPhoneNumber("12345", null));
+    }
+
+    public void testEmptyNumbersIgnored() {
+        mIndex.addPhoneNumber(1, createInfo("Nobody", "", null));
+        mIndex.addSipAddress(1, createInfo("Nobody", null, null));
+        assertNull(mIndex.findPhoneNumber("", null));
+        assertNull(mIndex.findSipAddress(""));
+    }
+
+    public void testFindSipAddress() {
+        final ContactInfo first = createInfo("Alice", "alice@example.com", null);
+        mIndex.addSipAddress(1, first);
+        mIndex.addSipAddress(1, createInfo("Other Alice", "alice@example.com", null));
+        assertSame(first, mIndex.findSipAddress("alice@example.com"));
+        assertNull(mIndex.findSipAddress("bob@example.com"));
+        // SIP addresses are not phone numbers
+        assertNull(mIndex.findPhoneNumber("alice@example.com", null));
+    }
+
+    public void testCopyWithout() {
+        final ContactInfo home = createInfo("Home", "650-555-1234", "+16505551234");
+        final ContactInfo sip = createInfo("Alice", "alice@example.com", null);
+        mIndex.addPhoneNumber(1, home);
+        mIndex.addSipAddress(1, sip);
+        mIndex.addPhoneNumber(2, createInfo("Office", "408-555-1234", "+14085551234"));
+        final ContactNumberIndex copy = mIndex.copyWithout(Lists.newArrayList(2L));
+        assertEquals(3, mIndex.size());
+        assertEquals(2, copy.size());
+        assertSame(home, copy.findPhoneNumber("6505551234", "+16505551234"));
+        assertSame(sip, copy.findSipAddress("alice@example.com"));
+        assertNull(copy.findPhoneNumber("4085551234", "+14085551234"));
+        // The index it was copied from is unchanged
+        assertNotNull(mIndex.findPhoneNumber("4085551234", "+14085551234"));
+    }
+
+    private static ContactInfo createInfo(String name, String number, String normalizedNumber) {
+        final ContactInfo info = new ContactInfo();
+        info.name = name;
+        info.number = number;
+        info.normalizedNumber = normalizedNumber;
+        return info;
+    }
+}
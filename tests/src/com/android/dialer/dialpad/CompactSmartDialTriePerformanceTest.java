@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2013 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.dialer.dialpad;
+
+import static com.android.dialer.dialpad.SmartDialCache.ContactNumber;
+
+import android.test.suitebuilder.annotation.LargeTest;
+import android.util.Log;
+
+import junit.framework.TestCase;
+
+import java.util.Random;
+
+/**
+ * Compares the retained heap and the prefix lookup throughput of {@link SmartDialTrie} and
+ * {@link CompactSmartDialTrie} for address books of different sizes. Results are written to the
+ * log under the {@link #TAG} tag.
+ *
+ * To run this test, use the command:
+ * adb shell am instrument -w -e class com.android.dialer.dialpad.CompactSmartDialTriePerformanceTest /
+ * com.android.dialer.tests/android.test.InstrumentationTestRunner
+ */
+@LargeTest
+public class CompactSmartDialTriePerformanceTest extends TestCase {
+    private static final String TAG = "CompactSmartDialTriePerf";
+
+    private static final String[] FIRST_NAMES = new String[] {"James", "Mary", "John",
+            "Patricia", "Robert", "Jennifer", "Michael", "Linda", "William", "Elizabeth", "David",
+            "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah", "Charles",
+            "Karen", "Zoë", "Renée", "Björn", "Søren"};
+    private static final String[] LAST_NAMES = new String[] {"Smith", "Johnson", "Williams",
+            "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez", "Martinez", "Hernandez",
+            "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas", "Taylor", "Moore", "Jackson",
+            "Martin", "Müller", "Núñez"};
+
+    private static final int QUERIES = 2000;
+
+    public void testCompare1k() {
+        compare(1000);
+    }
+
+    public void testCompare5k() {
+        compare(5000);
+    }
+
+    public void testCompare20k() {
+        compare(20000);
+    }
+
+    private void compare(int contactCount) {
+        final ContactNumber[] contacts = generateContacts(contactCount);
+        final String[] queries = generateQueries(contacts);
+
+        final long beforeTrie = usedMemory();
+        SmartDialTrie trie = new SmartDialTrie(true /* formatNanp */);
+        for (ContactNumber contact : contacts) {
+            trie.put(contact);
+        }
+        final long trieBytes = usedMemory() - beforeTrie;
+        // Run every query set twice and keep the second measurement, so that both tries are
+        // measured with warmed up code
+        timeQueries(trie, null, queries);
+        final long trieNanos = timeQueries(trie, null, queries);
+
+        final long beforeCompact = usedMemory();
+        final CompactSmartDialTrie compact = new CompactSmartDialTrie(trie);
+        final long compactBytes = usedMemory() - beforeCompact;
+        timeQueries(null, compact, queries);
+        final long compactNanos = timeQueries(null, compact, queries);
+
+        assertEquals(trie.numEntries(), compact.numEntries());
+        trie = null;
+
+        Log.i(TAG, contactCount + " contacts: object trie " + trieBytes / 1024 + " KB, "
+                + trieNanos / QUERIES + " ns/query; compact trie " + compactBytes / 1024
+                + " KB, " + compactNanos / QUERIES + " ns/query");
+    }
+
+    private long timeQueries(SmartDialTrie trie, CompactSmartDialTrie compact, String[] queries) {
+        final long start = System.nanoTime();
+        int found = 0;
+        for (String query : queries) {
+            found += (trie != null) ? trie.getAllWithPrefix(query).size()
+                    : compact.getAllWithPrefix(query).size();
+        }
+        assertTrue(found > 0);
+        return System.nanoTime() - start;
+    }
+
+    private ContactNumber[] generateContacts(int count) {
+        final Random random = new Random(count);
+        final ContactNumber[] result = new ContactNumber[count];
+        for (int i = 0; i < count; i++) {
+            final String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                    + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            final String number = String.format("+1-%03d-%03d-%04d", 200 + random.nextInt(800),
+                    random.nextInt(1000), random.nextInt(10000));
+            result[i] = new ContactNumber(i, name, number, String.valueOf(i), i);
+        }
+        return result;
+    }
+
+    private String[] generateQueries(ContactNumber[] contacts) {
+        final Random random = new Random(contacts.length + 1);
+        final String[] result = new String[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            final String number = SmartDialNameMatcher.normalizeNumber(
+                    contacts[random.nextInt(contacts.length)].phoneNumber);
+            // Mostly short queries, since those are the expensive ones
+            result[i] = number.substring(1, 2 + random.nextInt(4));
+        }
+        return result;
+    }
+
+    private static long usedMemory() {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            System.runFinalization();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
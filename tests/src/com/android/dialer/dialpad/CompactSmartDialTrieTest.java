@@ -0,0 +1,277 @@
+/*
+ * Copyright (C) 2013 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.dialer.dialpad;
+
+import static com.android.dialer.dialpad.SmartDialCache.ContactNumber;
+
+import android.test.suitebuilder.annotation.SmallTest;
+
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Random;
+
+/**
+ * To run this test, use the command:
+ * adb shell am instrument -w -e class com.android.dialer.dialpad.CompactSmartDialTrieTest /
+ * com.android.dialer.tests/android.test.InstrumentationTestRunner
+ */
+@SmallTest
+public class CompactSmartDialTrieTest extends TestCase {
+
+    public void testEmptyTrie() {
+        final CompactSmartDialTrie trie = new CompactSmartDialTrie(new SmartDialTrie());
+        assertEquals(0, trie.size());
+        assertEquals(0, trie.numEntries());
+        assertEquals(1, trie.numNodes());
+        assertTrue(trie.getAllWithPrefix("5").isEmpty());
+        assertTrue(trie.getAllWithPrefix("").isEmpty());
+    }
+
+    public void testSameResultsAsSourceTrie() {
+        final SmartDialTrie source = new SmartDialTrie(true /* formatNanp */);
+        source.put(new ContactNumber(0, "Jason Smith", "510-527-2357", "0", 1));
+        source.put(new ContactNumber(1, "Jason Smitt", "+1-415-123-4567", "1", 2));
+        source.put(new ContactNumber(2, "Martin Jr Harry", "+65 9177-6930", "2", 3));
+        source.put(new ContactNumber(3, "abc def ghi jkl mno pqrs tuv wxyz", "12345678", "3", 4));
+        source.put(new ContactNumber(4, "Reenée", "0", "4", 5));
+        final CompactSmartDialTrie trie = new CompactSmartDialTrie(source);
+
+        assertEquals(source.size(), trie.size());
+        assertEquals(source.numEntries(), trie.numEntries());
+
+        final String[] prefixes = new String[] {"5", "52", "527", "5276676484", "5276676488",
+                "654", "6542779", "2389999", "510", "4151234567", "1234567", "91776930", "733633",
+                "7", "0", "9", "99999", "12"};
+        for (String prefix : prefixes) {
+            final ArrayList<ContactNumber> expected = source.getAllWithPrefix(prefix);
+            final ArrayList<ContactNumber> actual = trie.getAllWithPrefix(prefix);
+            assertEquals("Prefix " + prefix, expected.size(), actual.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertSame(expected.get(i), actual.get(i));
+            }
+        }
+    }
+
+    public void testUnknownPrefix() {
+        final SmartDialTrie source = new SmartDialTrie();
+        source.put(new ContactNumber(0, "Mary Jane", "0", "0", 1));
+        final CompactSmartDialTrie trie = new CompactSmartDialTrie(source);
+        assertTrue(trie.getAllWithPrefix("6279").size() == 1);
+        assertTrue(trie.getAllWithPrefix("62799").isEmpty());
+        assertTrue(trie.getAllWithPrefix("3").isEmpty());
+        // Non digit characters never match
+        assertTrue(trie.getAllWithPrefix("6a").isEmpty());
+    }
+
+    public void testContactsAreShared() {
+        final SmartDialTrie source = new SmartDialTrie();
+        final ContactNumber contact = new ContactNumber(0, "Martin Jr Harry", "0", "0", 1);
+        source.put(contact);
+        final CompactSmartDialTrie trie = new CompactSmartDialTrie(source);
+        // Every entry of the same contact points to the same instance
+        assertSame(contact, trie.getAllWithPrefix("654").get(0));
+        assertSame(contact, trie.getAllWithPrefix("627846").get(0));
+        assertEquals(8, trie.numEntries());
+    }
+
+    public void testTopWithPrefix_deduplicatesContacts() {
+        final SmartDialTrie source = new SmartDialTrie();
+        final ContactNumber jasonHome = new ContactNumber(0, "Jason", "510-527-2357", "0", 3);
+        final ContactNumber jasonWork = new ContactNumber(0, "Jason", "510-527-2358", "0", 1);
+        final ContactNumber jane = new ContactNumber(1, "Jane", "510-555-0000", "1", 2);
+        source.put(jasonHome);
+        source.put(jasonWork);
+        source.put(jane);
+        final CompactSmartDialTrie trie = new CompactSmartDialTrie(source);
+
+        final ArrayList<ContactNumber> top = trie.getTopWithPrefix("52", 10);
+        assertEquals(2, top.size());
+        // Sorted by affinity, and only the best number of Jason is kept
+        assertSame(jasonWork, top.get(0));
+        assertSame(jane, top.get(1));
+
+        assertEquals(1, trie.getTopWithPrefix("52", 1).size());
+        assertTrue(trie.getTopWithPrefix("52", 0).isEmpty());
+        assertTrue(trie.getTopWithPrefix("4", 10).isEmpty());
+    }
+
+    public void testTopWithPrefix_sameAsSortingAllMatches() {
+        final Random random = new Random(1);
+        final SmartDialTrie source = new SmartDialTrie(true /* formatNanp */);
+        final String[] names = new String[] {"Jason", "Jane", "Mary", "Martin", "Harry", "Sarah",
+                "Smith", "Smitt", "Williams", "Wilson"};
+        // Enough contacts for the top levels of the trie to be summarized
+        for (int i = 0; i < 2000; i++) {
+            final String name = names[random.nextInt(names.length)] + " "
+                    + names[random.nextInt(names.length)];
+            final String number = String.valueOf(2000000000L + random.nextInt(1000000000));
+            // Some contacts have several numbers
+            final long id = random.nextInt(1500);
+            source.put(new ContactNumber(id, name, number, String.valueOf(id),
+                    random.nextInt(100000)));
+        }
+        final CompactSmartDialTrie trie = new CompactSmartDialTrie(source);
+
+        final String[] prefixes = new String[] {"2", "5", "52", "527", "6", "62", "76484", "9",
+                "945", "3", "21", "2000"};
+        for (String prefix : prefixes) {
+            for (int limit : new int[] {1, 5, 21, CompactSmartDialTrie.SUMMARY_SIZE, 100}) {
+                assertTopMatches(prefix, limit, source, trie);
+            }
+        }
+    }
+
+    public void testWithChanges_sameAsRebuilding() {
+        final Random random = new Random(2);
+        final String[] names = new String[] {"Jason", "Jane", "Mary", "Martin", "Harry", "Sarah",
+                "Smith", "Smitt", "Williams", "Wilson"};
+        final ArrayList<ContactNumber> contacts = new ArrayList<ContactNumber>();
+        for (int i = 0; i < 2000; i++) {
+            final String name = names[random.nextInt(names.length)] + " "
+                    + names[random.nextInt(names.length)];
+            final String number = String.valueOf(2000000000L + random.nextInt(1000000000));
+            contacts.add(new ContactNumber(i / 2, name, number, String.valueOf(i / 2), i * 10));
+        }
+        CompactSmartDialTrie trie = new CompactSmartDialTrie(buildTrie(contacts));
+
+        // Apply several rounds of changes, each of them replacing the previous added trie
+        final SmartDialTrie added = new SmartDialTrie(true /* formatNanp */);
+        final HashSet<Long> allChanged = new HashSet<Long>();
+        for (int round = 0; round < 3; round++) {
+            final HashSet<Long> changed = new HashSet<Long>();
+            for (int i = 0; i < 20; i++) {
+                changed.add((long) random.nextInt(1100));
+            }
+            added.remove(changed);
+            for (int i = contacts.size() - 1; i >= 0; i--) {
+                if (changed.contains(contacts.get(i).id)) {
+                    contacts.remove(i);
+                }
+            }
+            for (long id : changed) {
+                if (id % 3 == 0) {
+                    // Deleted, or never existed
+                    continue;
+                }
+                final ContactNumber contact = new ContactNumber(id, "Renamed " + names[round],
+                        "650555" + id, String.valueOf(id), (int) id * 20 + 5);
+                added.put(contact);
+                contacts.add(contact);
+            }
+            allChanged.addAll(changed);
+            trie = trie.withChanges(changed, new CompactSmartDialTrie(added));
+        }
+
+        final SmartDialTrie expected = buildTrie(contacts);
+        assertEquals(expected.size(), trie.size());
+        assertEquals(expected.numEntries(), trie.numEntries());
+        final String[] prefixes = new String[] {"2", "5", "52", "527", "6", "62", "76484", "9",
+                "945", "3", "21", "2000", "6505", "650555", "736263"};
+        for (String prefix : prefixes) {
+            assertEquals(new HashSet<ContactNumber>(expected.getAllWithPrefix(prefix)),
+                    new HashSet<ContactNumber>(trie.getAllWithPrefix(prefix)));
+            for (int limit : new int[] {1, 5, 21, CompactSmartDialTrie.SUMMARY_SIZE, 100}) {
+                assertTopMatches(prefix, limit, expected, trie);
+            }
+        }
+        // Contacts keep the affinity they had when the tables were built, while contacts that
+        // were added later have the one they were added with
+        for (long id : allChanged) {
+            final int affinity = (id < 1000) ? (int) id * 20 : (id % 3 != 0) ? (int) id * 20 + 5
+                    : -1;
+            assertEquals(affinity, trie.getAffinity(id));
+        }
+        assertEquals(-1, trie.getAffinity(5000));
+    }
+
+    public void testTopContaining() {
+        final SmartDialTrie source = new SmartDialTrie(true /* formatNanp */);
+        final ContactNumber jasonHome = new ContactNumber(0, "Jason", "510-527-2357", "0", 3);
+        final ContactNumber jasonWork = new ContactNumber(0, "Jason", "650-555-2357", "0", 1);
+        final ContactNumber jane = new ContactNumber(1, "Jane", "415-235-7000", "1", 2);
+        final ContactNumber mary = new ContactNumber(2, "Mary", "235-7000", "2", 4);
+        source.put(jasonHome);
+        source.put(jasonWork);
+        source.put(jane);
+        source.put(mary);
+        final CompactSmartDialTrie trie = new CompactSmartDialTrie(source);
+
+        // Sorted by affinity, only the best number of Jason is kept, and Mary's number only
+        // starts with the digits
+        final ArrayList<ContactNumber> top = trie.getTopContaining("2357", 10, null);
+        assertEquals(2, top.size());
+        assertSame(jasonWork, top.get(0));
+        assertSame(jane, top.get(1));
+
+        assertEquals(1, trie.getTopContaining("2357", 1, null).size());
+        assertSame(mary, trie.getTopContaining("7000", 10, null).get(1));
+        assertTrue(trie.getTopContaining("23", 10, null).isEmpty());
+        assertTrue(trie.getTopContaining("2357", 0, null).isEmpty());
+        assertTrue(trie.getTopContaining("9999", 10, null).isEmpty());
+    }
+
+    public void testTopContaining_withChanges() {
+        final SmartDialTrie source = new SmartDialTrie(true /* formatNanp */);
+        source.put(new ContactNumber(0, "Jason", "510-527-2357", "0", 1));
+        source.put(new ContactNumber(1, "Jane", "415-235-7000", "1", 2));
+        final SmartDialTrie added = new SmartDialTrie(true /* formatNanp */);
+        final ContactNumber mary = new ContactNumber(2, "Mary", "650-123-2357", "2", 0);
+        added.put(mary);
+        final CompactSmartDialTrie trie = new CompactSmartDialTrie(source).withChanges(
+                new HashSet<Long>(Arrays.asList(0L)), new CompactSmartDialTrie(added));
+
+        final ArrayList<ContactNumber> top = trie.getTopContaining("2357", 10, null);
+        assertEquals(2, top.size());
+        assertSame(mary, top.get(0));
+        assertEquals(1, top.get(1).id);
+    }
+
+    private static SmartDialTrie buildTrie(ArrayList<ContactNumber> contacts) {
+        final SmartDialTrie trie = new SmartDialTrie(true /* formatNanp */);
+        for (ContactNumber contact : contacts) {
+            trie.put(contact);
+        }
+        return trie;
+    }
+
+    private void assertTopMatches(String prefix, int limit, SmartDialTrie source,
+            CompactSmartDialTrie trie) {
+        final ArrayList<ContactNumber> all = source.getAllWithPrefix(prefix);
+        Collections.sort(all, new SmartDialCache.ContactAffinityComparator());
+        final HashSet<Long> seen = new HashSet<Long>();
+        final ArrayList<ContactNumber> expected = new ArrayList<ContactNumber>();
+        for (ContactNumber contact : all) {
+            if (seen.add(contact.id)) {
+                expected.add(contact);
+                if (expected.size() == limit) {
+                    break;
+                }
+            }
+        }
+        final ArrayList<ContactNumber> actual = trie.getTopWithPrefix(prefix, limit);
+        assertEquals("Prefix " + prefix + " limit " + limit, expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            // Affinities may tie, so compare affinities rather than instances
+            assertEquals("Prefix " + prefix + " limit " + limit, expected.get(i).affinity,
+                    actual.get(i).affinity);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2013 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.dialer.dialpad;
+
+import android.os.Debug;
+
+import java.util.Arrays;
+
+/**
+ * Minimal harness for the smart dial benchmarks: runs an operation for a number of warm up
+ * iterations, then measures the latency of every iteration and, in a separate pass so that
+ * allocation tracking does not distort the timings, the bytes allocated per iteration.
+ */
+public class MicroBenchmark {
+    /** An operation to measure. Implementations should consume their result. */
+    public interface Operation {
+        /**
+         * @param iteration Index of the iteration, e.g. to pick the input of this iteration.
+         */
+        void run(int iteration);
+    }
+
+    /** Latency percentiles and allocations of an operation. */
+    public static class Result {
+        public final String name;
+        public final int iterations;
+        public final long p50Nanos;
+        public final long p90Nanos;
+        public final long p99Nanos;
+        public final long maxNanos;
+        public final long meanNanos;
+        public final long bytesPerIteration;
+
+        Result(String name, long[] sortedNanos, long totalNanos, long bytesPerIteration) {
+            this.name = name;
+            this.iterations = sortedNanos.length;
+            this.p50Nanos = percentile(sortedNanos, 50);
+            this.p90Nanos = percentile(sortedNanos, 90);
+            this.p99Nanos = percentile(sortedNanos, 99);
+            this.maxNanos = sortedNanos[sortedNanos.length - 1];
+            this.meanNanos = totalNanos / sortedNanos.length;
+            this.bytesPerIteration = bytesPerIteration;
+        }
+
+        /**
+         * Returns the allocation rate while running the operation, in bytes per second.
+         */
+        public long getBytesPerSecond() {
+            return (meanNanos == 0) ? 0 : bytesPerIteration * 1000000000L / meanNanos;
+        }
+
+        @Override
+        public String toString() {
+            return name + ": " + iterations + " iterations, p50 " + p50Nanos / 1000 + " us, p90 "
+                    + p90Nanos / 1000 + " us, p99 " + p99Nanos / 1000 + " us, max "
+                    + maxNanos / 1000 + " us, " + bytesPerIteration + " B/op, "
+                    + getBytesPerSecond() / 1024 + " KB/s";
+        }
+    }
+
+    private MicroBenchmark() {
+    }
+
+    /**
+     * Measures an operation.
+     *
+     * @param name Name of the measurement, used in {@link Result#toString()}.
+     * @param warmUpIterations Number of iterations run before measuring, so that the code is
+     *        compiled and caches are populated.
+     * @param iterations Number of measured iterations.
+     */
+    public static Result measure(String name, int warmUpIterations, int iterations,
+            Operation operation) {
+        for (int i = 0; i < warmUpIterations; i++) {
+            operation.run(i);
+        }
+
+        final long[] nanos = new long[iterations];
+        long totalNanos = 0;
+        for (int i = 0; i < iterations; i++) {
+            final long start = System.nanoTime();
+            operation.run(i);
+            nanos[i] = System.nanoTime() - start;
+            totalNanos += nanos[i];
+        }
+        Arrays.sort(nanos);
+
+        Debug.startAllocCounting();
+        Debug.resetThreadAllocSize();
+        for (int i = 0; i < iterations; i++) {
+            operation.run(i);
+        }
+        final long bytes = Debug.getThreadAllocSize();
+        Debug.stopAllocCounting();
+
+        return new Result(name, nanos, totalNanos, bytes / iterations);
+    }
+
+    /**
+     * Returns the heap in use after collecting garbage, to measure the heap retained by a data
+     * structure.
+     */
+    public static long usedMemory() {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            System.runFinalization();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static long percentile(long[] sortedValues, int percentile) {
+        final int index = (sortedValues.length * percentile + 99) / 100 - 1;
+        return sortedValues[Math.max(0, Math.min(sortedValues.length - 1, index))];
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright (C) 2013 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.dialer.dialpad;
+
+import static com.android.dialer.dialpad.SmartDialCache.ContactNumber;
+
+import android.test.suitebuilder.annotation.LargeTest;
+import android.util.Log;
+
+import com.android.dialer.dialpad.SyntheticContacts.NameStyle;
+import com.android.dialer.dialpad.SyntheticContacts.NumberStyle;
+import com.android.dialer.util.HanziToPinyin;
+
+import com.google.common.collect.Lists;
+
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+/**
+ * Benchmarks of the smart dial engine on synthetic address books: trie build time and retained
+ * heap, and the latency percentiles and allocations of prefix lookups, name and number matching
+ * and pinyin conversion. Results are written to the log under the {@link #TAG} tag, one line per
+ * measurement, so that runs on different builds can be compared.
+ *
+ * To run this test, use the command:
+ * adb shell am instrument -w -e class com.android.dialer.dialpad.SmartDialBenchmarkTest /
+ * com.android.dialer.tests/android.test.InstrumentationTestRunner
+ */
+@LargeTest
+public class SmartDialBenchmarkTest extends TestCase {
+    private static final String TAG = "SmartDialBenchmark";
+
+    private static final int CONTACTS = 5000;
+    private static final int QUERIES = 2000;
+    private static final int WARM_UP_ITERATIONS = 500;
+    private static final int BUILD_ROUNDS = 5;
+    private static final long SEED = 42;
+    private static final int RANKED_CALLS = 500;
+    private static final int RANKED_ENTRIES = 21;
+    private static final SmartDialNumberRules US_RULES = SmartDialNumberRules.forRegion("US");
+
+    /** Number of matches, consumed so that the measured calls cannot be optimized away. */
+    private int mMatches;
+
+    public void testTrieBuild() {
+        for (NameStyle nameStyle : NameStyle.values()) {
+            for (NumberStyle numberStyle : NumberStyle.values()) {
+                final ContactNumber[] contacts = SyntheticContacts.generate(CONTACTS, nameStyle,
+                        numberStyle, SEED);
+                final MicroBenchmark.Result result = MicroBenchmark.measure(
+                        "put " + describe(nameStyle, numberStyle), 1, BUILD_ROUNDS,
+                        new MicroBenchmark.Operation() {
+                            @Override
+                            public void run(int iteration) {
+                                mMatches += buildTrie(contacts).size();
+                            }
+                        });
+                Log.i(TAG, result.toString());
+
+                final long before = MicroBenchmark.usedMemory();
+                SmartDialTrie trie = buildTrie(contacts);
+                final long trieBytes = MicroBenchmark.usedMemory() - before;
+                final CompactSmartDialTrie compact = new CompactSmartDialTrie(trie);
+                trie = null;
+                final long compactBytes = MicroBenchmark.usedMemory() - before;
+                mMatches += compact.numEntries();
+                Log.i(TAG, "heap " + describe(nameStyle, numberStyle) + ": trie "
+                        + trieBytes / 1024 + " KB, compact trie " + compactBytes / 1024 + " KB");
+            }
+        }
+        assertTrue(mMatches > 0);
+    }
+
+    public void testPrefixQueries() {
+        for (NameStyle nameStyle : NameStyle.values()) {
+            for (NumberStyle numberStyle : NumberStyle.values()) {
+                final ContactNumber[] contacts = SyntheticContacts.generate(CONTACTS, nameStyle,
+                        numberStyle, SEED);
+                final String[] queries = SyntheticContacts.generateQueries(contacts, QUERIES,
+                        SEED);
+                final SmartDialTrie trie = buildTrie(contacts);
+                final CompactSmartDialTrie compact = new CompactSmartDialTrie(trie);
+
+                Log.i(TAG, MicroBenchmark.measure("getAllWithPrefix "
+                        + describe(nameStyle, numberStyle), WARM_UP_ITERATIONS, QUERIES,
+                        new MicroBenchmark.Operation() {
+                            @Override
+                            public void run(int iteration) {
+                                mMatches += trie.getAllWithPrefix(queries[iteration]).size();
+                            }
+                        }).toString());
+                Log.i(TAG, MicroBenchmark.measure("compact getAllWithPrefix "
+                        + describe(nameStyle, numberStyle), WARM_UP_ITERATIONS, QUERIES,
+                        new MicroBenchmark.Operation() {
+                            @Override
+                            public void run(int iteration) {
+                                mMatches += compact.getAllWithPrefix(queries[iteration]).size();
+                            }
+                        }).toString());
+
+                // The first search builds the index of the digits of the numbers
+                final long before = MicroBenchmark.usedMemory();
+                final long start = System.nanoTime();
+                compact.getNumberIndex();
+                Log.i(TAG, "number index " + describe(nameStyle, numberStyle) + ": "
+                        + (System.nanoTime() - start) / 1000000 + " ms, "
+                        + (MicroBenchmark.usedMemory() - before) / 1024 + " KB");
+                Log.i(TAG, MicroBenchmark.measure("compact getTopContaining "
+                        + describe(nameStyle, numberStyle), WARM_UP_ITERATIONS, QUERIES,
+                        new MicroBenchmark.Operation() {
+                            @Override
+                            public void run(int iteration) {
+                                mMatches += compact.getTopContaining(queries[iteration],
+                                        RANKED_ENTRIES, null).size();
+                            }
+                        }).toString());
+            }
+        }
+        assertTrue(mMatches > 0);
+    }
+
+    public void testNameMatcher() {
+        for (NameStyle nameStyle : new NameStyle[] {NameStyle.LATIN, NameStyle.ACCENTED}) {
+            final ContactNumber[] contacts = SyntheticContacts.generate(QUERIES, nameStyle,
+                    NumberStyle.NANP, SEED);
+            final String[] queries = SyntheticContacts.generateQueries(contacts, QUERIES, SEED);
+            // A matcher is created once per query and matched against every result, so only
+            // measure the matching
+            final SmartDialNameMatcher[] matchers = new SmartDialNameMatcher[QUERIES];
+            for (int i = 0; i < QUERIES; i++) {
+                matchers[i] = new SmartDialNameMatcher(queries[i]);
+            }
+            Log.i(TAG, MicroBenchmark.measure("matchesCombination " + nameStyle,
+                    WARM_UP_ITERATIONS, QUERIES, new MicroBenchmark.Operation() {
+                        @Override
+                        public void run(int iteration) {
+                            // Half of the queries were derived from a different contact
+                            if (matchers[iteration].matches(contacts[iteration].displayName)) {
+                                mMatches++;
+                            }
+                        }
+                    }).toString());
+
+            // The names of indexed contacts are mapped to digits once, while building the trie
+            final byte[][] nameDigits = new byte[contacts.length][];
+            for (int i = 0; i < contacts.length; i++) {
+                nameDigits[i] = SmartDialCharMap.LATIN.toDigits(contacts[i].displayName);
+            }
+            Log.i(TAG, MicroBenchmark.measure("matchesCombination digits " + nameStyle,
+                    WARM_UP_ITERATIONS, QUERIES, new MicroBenchmark.Operation() {
+                        @Override
+                        public void run(int iteration) {
+                            if (matchers[iteration].matches(nameDigits[iteration])) {
+                                mMatches++;
+                            }
+                        }
+                    }).toString());
+        }
+    }
+
+    public void testNumberMatcher() {
+        for (NumberStyle numberStyle : NumberStyle.values()) {
+            final ContactNumber[] contacts = SyntheticContacts.generate(QUERIES, NameStyle.LATIN,
+                    numberStyle, SEED);
+            final String[] queries = SyntheticContacts.generateQueries(contacts, QUERIES, SEED);
+            Log.i(TAG, MicroBenchmark.measure("matchesNumber " + numberStyle,
+                    WARM_UP_ITERATIONS, QUERIES, new MicroBenchmark.Operation() {
+                        @Override
+                        public void run(int iteration) {
+                            if (SmartDialNameMatcher.matchesNumber(contacts[iteration].phoneNumber,
+                                    queries[iteration], US_RULES) != null) {
+                                mMatches++;
+                            }
+                        }
+                    }).toString());
+        }
+    }
+
+    public void testRanker() {
+        final ContactNumber[] contacts = SyntheticContacts.generate(CONTACTS, NameStyle.LATIN,
+                NumberStyle.NANP, SEED);
+        final CompactSmartDialTrie trie = new CompactSmartDialTrie(buildTrie(contacts));
+        final String[] queries = SyntheticContacts.generateQueries(contacts, QUERIES, SEED);
+        final ArrayList<ArrayList<ContactNumber>> candidates = Lists.newArrayList();
+        for (String query : queries) {
+            candidates.add(trie.getTopWithPrefix(query, CompactSmartDialTrie.SUMMARY_SIZE));
+        }
+        // A call log of a few hundred calls over the last weeks
+        final Random random = new Random(SEED);
+        final SmartDialRanker ranker = new SmartDialRanker();
+        final long now = System.currentTimeMillis();
+        final long window = 8 * SmartDialRanker.FREQUENCY_HALF_LIFE_MS;
+        for (int i = 0; i < RANKED_CALLS; i++) {
+            ranker.recordCall(contacts[random.nextInt(CONTACTS)].phoneNumber,
+                    now - (long) (random.nextDouble() * window));
+        }
+        final int[] matchTypes = new int[CompactSmartDialTrie.SUMMARY_SIZE];
+        final int[] order = new int[RANKED_ENTRIES];
+        Log.i(TAG, MicroBenchmark.measure("rank " + CONTACTS, WARM_UP_ITERATIONS, QUERIES,
+                new MicroBenchmark.Operation() {
+                    @Override
+                    public void run(int iteration) {
+                        mMatches += ranker.rank(candidates.get(iteration), matchTypes, now,
+                                order);
+                    }
+                }).toString());
+        assertTrue(mMatches > 0);
+    }
+
+    public void testPinyinArray() {
+        final HanziToPinyin hanziToPinyin = HanziToPinyin.getInstance();
+        final ContactNumber[] contacts = SyntheticContacts.generate(QUERIES, NameStyle.CJK,
+                NumberStyle.NANP, SEED);
+        Log.i(TAG, MicroBenchmark.measure("getPinyinArray CJK", WARM_UP_ITERATIONS, QUERIES,
+                new MicroBenchmark.Operation() {
+                    @Override
+                    public void run(int iteration) {
+                        mMatches += hanziToPinyin.getPinyinArray(
+                                contacts[iteration].displayName).length;
+                    }
+                }).toString());
+        assertTrue(mMatches > 0);
+    }
+
+    private static SmartDialTrie buildTrie(ContactNumber[] contacts) {
+        final SmartDialTrie trie = new SmartDialTrie(true /* formatNanp */);
+        for (ContactNumber contact : contacts) {
+            trie.put(contact);
+        }
+        return trie;
+    }
+
+    private static String describe(NameStyle nameStyle, NumberStyle numberStyle) {
+        return CONTACTS + " " + nameStyle + "/" + numberStyle;
+    }
+}
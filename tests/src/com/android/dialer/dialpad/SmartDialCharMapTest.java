@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2013 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.dialer.dialpad;
+
+import android.test.suitebuilder.annotation.SmallTest;
+
+import junit.framework.TestCase;
+
+import java.util.Locale;
+
+/**
+ * To run this test, use the command:
+ * adb shell am instrument -w -e class com.android.dialer.dialpad.SmartDialCharMapTest /
+ * com.android.dialer.tests/android.test.InstrumentationTestRunner
+ */
+@SmallTest
+public class SmartDialCharMapTest extends TestCase {
+    public void testLatin() {
+        assertDigits(SmartDialCharMap.LATIN, "abcdefghijklmnopqrstuvwxyz",
+                "22233344455566677778889999");
+        assertDigits(SmartDialCharMap.LATIN, "ABCDEFGHIJKLMNOPQRSTUVWXYZ",
+                "22233344455566677778889999");
+        assertDigits(SmartDialCharMap.LATIN, "0123456789", "0123456789");
+        assertDigits(SmartDialCharMap.LATIN, "Zoë Ångström-Łukasz", "963-26478766-585279");
+    }
+
+    public void testSeparators() {
+        // Punctuation, letters that fold into several letters and letters of scripts that are
+        // not in the map are on no key
+        assertDigits(SmartDialCharMap.LATIN, " .'-ßæ\u0418\u03b1\u738b\uffff", "----------");
+    }
+
+    public void testFoldAccents() {
+        assertEquals('a', SmartDialCharMap.foldAccents('À'));
+        assertEquals('u', SmartDialCharMap.foldAccents('Ü'));
+        assertEquals('z', SmartDialCharMap.foldAccents('Ž'));
+        assertEquals('z', SmartDialCharMap.foldAccents('Z'));
+        assertEquals('z', SmartDialCharMap.foldAccents('z'));
+        assertEquals('-', SmartDialCharMap.foldAccents('-'));
+        assertEquals('ß', SmartDialCharMap.foldAccents('ß'));
+        assertEquals('\u738b', SmartDialCharMap.foldAccents('\u738b'));
+        assertEquals('a', SmartDialNameMatcher.remapAccentedChars('Ä'));
+    }
+
+    public void testCyrillic() {
+        // Иван Пётр Ґалина Ivan
+        assertDigits(SmartDialCharMap.LATIN_CYRILLIC, "\u0418\u0432\u0430\u043d "
+                + "\u041f\u0451\u0442\u0440 \u0490\u0430\u043b\u0438\u043d\u0430 Ivan",
+                "4225-5366-224452-4826");
+    }
+
+    public void testGreek() {
+        // Γιώργος Άννα
+        assertDigits(SmartDialCharMap.LATIN_GREEK,
+                "\u0393\u03b9\u03ce\u03c1\u03b3\u03bf\u03c2 \u0386\u03bd\u03bd\u03b1",
+                "2497267-2662");
+        // Cyrillic letters are not on the keys of greek dialpads
+        assertDigits(SmartDialCharMap.LATIN_GREEK, "\u0418", "-");
+    }
+
+    public void testCustomScript() {
+        final SmartDialCharMap map = new SmartDialCharMap(
+                SmartDialNameMatcher.LATIN_LETTERS_TO_DIGITS,
+                new SmartDialCharMap.Script('\u0370', '\u03ff', "", "", "\u03b1\u03b2\u03b3"));
+        assertDigits(map, "\u0391\u03b2\u03b4", "22-");
+    }
+
+    public void testForLocale() {
+        assertSame(SmartDialCharMap.LATIN, SmartDialCharMap.forLocale(Locale.US));
+        assertSame(SmartDialCharMap.LATIN, SmartDialCharMap.forLocale(Locale.CHINA));
+        assertSame(SmartDialCharMap.LATIN_CYRILLIC,
+                SmartDialCharMap.forLocale(new Locale("ru", "RU")));
+        assertSame(SmartDialCharMap.LATIN_CYRILLIC, SmartDialCharMap.forLocale(new Locale("uk")));
+        assertSame(SmartDialCharMap.LATIN_GREEK, SmartDialCharMap.forLocale(new Locale("el")));
+    }
+
+    public void testMatcherWithScript() {
+        // Иван Петров
+        final String name = "\u0418\u0432\u0430\u043d \u041f\u0435\u0442\u0440\u043e\u0432";
+        final SmartDialNameMatcher matcher = new SmartDialNameMatcher("5366",
+                SmartDialCharMap.LATIN_CYRILLIC);
+        assertTrue(matcher.matches(name));
+        assertEquals(5, matcher.getMatchPositions().get(0).start);
+        assertEquals(9, matcher.getMatchPositions().get(0).end);
+        assertTrue(new SmartDialNameMatcher("45", SmartDialCharMap.LATIN_CYRILLIC).matches(name));
+        assertFalse(new SmartDialNameMatcher("5366").matches(name));
+    }
+
+    public void testTrieWithScript() {
+        final SmartDialTrie trie = new SmartDialTrie(SmartDialCharMap.LATIN_CYRILLIC,
+                SmartDialNumberRules.NONE);
+        // Иван Петров
+        trie.put(new SmartDialCache.ContactNumber(0,
+                "\u0418\u0432\u0430\u043d \u041f\u0435\u0442\u0440\u043e\u0432", "0", "0", 1));
+        assertEquals(1, trie.getAllWithPrefix("4225").size());
+        assertEquals(1, trie.getAllWithPrefix("5366").size());
+        assertEquals(1, trie.getAllWithPrefix("45").size());
+        assertEquals(0, trie.getAllWithPrefix("7").size());
+    }
+
+    /**
+     * @param expected Expected digits, with '-' for separators.
+     */
+    private static void assertDigits(SmartDialCharMap map, String chars, String expected) {
+        final byte[] digits = map.toDigits(chars);
+        final StringBuilder actual = new StringBuilder();
+        for (int i = 0; i < digits.length; i++) {
+            assertEquals(digits[i], map.getDigit(chars.charAt(i)));
+            actual.append((digits[i] == SmartDialCharMap.SEPARATOR) ? "-" : digits[i]);
+        }
+        assertEquals(expected, actual.toString());
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (C) 2013 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.dialer.dialpad;
+
+import static com.android.dialer.dialpad.SmartDialController.SLOT_ADDED;
+import static com.android.dialer.dialpad.SmartDialController.SLOT_REBOUND;
+import static com.android.dialer.dialpad.SmartDialController.SLOT_REMOVED;
+import static com.android.dialer.dialpad.SmartDialController.SLOT_REPLACED;
+import static com.android.dialer.dialpad.SmartDialController.SLOT_UNCHANGED;
+
+import android.content.Context;
+import android.net.Uri;
+import android.test.InstrumentationTestCase;
+import android.test.suitebuilder.annotation.MediumTest;
+import android.view.View;
+import android.widget.FrameLayout;
+import android.widget.HorizontalScrollView;
+import android.widget.LinearLayout;
+
+import com.android.dialer.R;
+import com.google.common.collect.Lists;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Unit tests for {@link SmartDialController}. The controller updates views, so each test runs it
+ * on the main thread at once, without frames being drawn in between, and checks the views after.
+ *
+ * To run this test, use the command:
+ * adb shell am instrument -w -e class com.android.dialer.dialpad.SmartDialControllerTest /
+ * com.android.dialer.tests/android.test.InstrumentationTestRunner
+ */
+@MediumTest
+public class SmartDialControllerTest extends InstrumentationTestCase {
+    private static final long FRAME_NANOS = 16L * 1000000;
+    private static final long LATE_FRAME_NANOS = 50L * 1000000;
+
+    private final SmartDialEntry mAlice = createEntry("Alice", 1);
+    private final SmartDialEntry mBob = createEntry("Bob", 2);
+    private final SmartDialEntry mCarol = createEntry("Carol", 3);
+
+    private SmartDialController mController;
+    private LinearLayout mList;
+
+    public void testDiff_Unchanged() {
+        assertDiff(Lists.newArrayList(mAlice, mBob, SmartDialEntry.NULL),
+                Lists.newArrayList(mAlice, mBob, SmartDialEntry.NULL),
+                SLOT_UNCHANGED, SLOT_UNCHANGED, SLOT_UNCHANGED);
+        // The same contacts matched again, with other highlights
+        assertDiff(Lists.newArrayList(mAlice, mBob),
+                Lists.newArrayList(createEntry("Alice", 1), createEntry("Bob", 2)),
+                SLOT_REBOUND, SLOT_REBOUND);
+    }
+
+    public void testDiff_Reordered() {
+        assertDiff(Lists.newArrayList(mAlice, mBob, mCarol),
+                Lists.newArrayList(mBob, mAlice, mCarol),
+                SLOT_REPLACED, SLOT_REPLACED, SLOT_UNCHANGED);
+    }
+
+    public void testDiff_Inserted() {
+        assertDiff(Lists.newArrayList(SmartDialEntry.NULL, mAlice, SmartDialEntry.NULL),
+                Lists.newArrayList(mBob, mAlice, mCarol),
+                SLOT_ADDED, SLOT_UNCHANGED, SLOT_ADDED);
+    }
+
+    public void testDiff_Removed() {
+        assertDiff(Lists.newArrayList(mBob, mAlice, mCarol),
+                Lists.newArrayList(SmartDialEntry.NULL, mAlice, SmartDialEntry.NULL),
+                SLOT_REMOVED, SLOT_UNCHANGED, SLOT_REMOVED);
+    }
+
+    public void testSameContactKeepsView() {
+        final SmartDialEntry alice = createEntry("Alice", 1);
+        final View[] views = new View[2];
+        runOnMainSync(new Runnable() {
+            @Override
+            public void run() {
+                createController();
+                mController.setEntries(Lists.newArrayList(mAlice));
+                views[0] = mList.getChildAt(0);
+                mController.setEntries(Lists.newArrayList(alice));
+                views[1] = mList.getChildAt(0);
+            }
+        });
+        assertEquals(1, mList.getChildCount());
+        assertSame(views[0], views[1]);
+        assertSame(alice, views[1].getTag());
+    }
+
+    public void testScrapViewsReused() {
+        final View[] views = new View[3];
+        runOnMainSync(new Runnable() {
+            @Override
+            public void run() {
+                createController();
+                mController.setEntries(Lists.newArrayList(mAlice));
+                views[0] = mList.getChildAt(0);
+                mController.setEntries(Lists.newArrayList(mBob));
+                views[1] = mList.getChildAt(0);
+                mController.setEntries(Lists.newArrayList(mCarol));
+                views[2] = mList.getChildAt(0);
+            }
+        });
+        // The view of Alice fades out in the overlay, so Bob gets a new view
+        assertNotSame(views[0], views[1]);
+        // Once done fading out, the view of Alice is reused for Carol
+        assertSame(views[0], views[2]);
+        assertSame(mCarol, views[2].getTag());
+        assertEquals(1, mList.getChildCount());
+    }
+
+    public void testNotAnimatedAfterLateFrames() {
+        final View[] views = new View[2];
+        runOnMainSync(new Runnable() {
+            @Override
+            public void run() {
+                createController();
+                mController.setEntries(Lists.newArrayList(mAlice));
+                views[0] = mList.getChildAt(0);
+                long frameTime = System.nanoTime();
+                for (int i = 0; i < 3; i++) {
+                    mController.mFrameMonitor.doFrame(frameTime);
+                    frameTime += LATE_FRAME_NANOS;
+                }
+                mController.setEntries(Lists.newArrayList(mBob));
+                views[1] = mList.getChildAt(0);
+            }
+        });
+        // Without animation, the view of Alice is not faded out, and is reused at once
+        assertSame(views[0], views[1]);
+        assertSame(mBob, views[1].getTag());
+        assertEquals(1, mList.getChildCount());
+    }
+
+    public void testAnimatedAfterTimelyFrames() {
+        final View[] views = new View[2];
+        runOnMainSync(new Runnable() {
+            @Override
+            public void run() {
+                createController();
+                mController.setEntries(Lists.newArrayList(mAlice));
+                views[0] = mList.getChildAt(0);
+                long frameTime = System.nanoTime();
+                for (int i = 0; i < 10; i++) {
+                    mController.mFrameMonitor.doFrame(frameTime);
+                    frameTime += FRAME_NANOS;
+                }
+                // A single late frame is not enough to stop animating
+                mController.mFrameMonitor.doFrame(frameTime + LATE_FRAME_NANOS);
+                mController.setEntries(Lists.newArrayList(mBob));
+                views[1] = mList.getChildAt(0);
+            }
+        });
+        assertNotSame(views[0], views[1]);
+    }
+
+    /** Creates the controller, with the views of the suggestion strip it needs. */
+    private void createController() {
+        final Context context = getInstrumentation().getTargetContext();
+        final FrameLayout parent = new FrameLayout(context);
+        final View background = new View(context);
+        background.setId(R.id.dialpad_smartdial_list_background);
+        parent.addView(background);
+        final HorizontalScrollView scrollView = new HorizontalScrollView(context);
+        mList = new LinearLayout(context);
+        mList.setId(R.id.dialpad_smartdial_list);
+        scrollView.addView(mList);
+        parent.addView(scrollView);
+        mController = new SmartDialController(context, parent, null, null);
+    }
+
+    private void runOnMainSync(Runnable runnable) {
+        getInstrumentation().runOnMainSync(runnable);
+    }
+
+    private static void assertDiff(ArrayList<SmartDialEntry> oldEntries,
+            ArrayList<SmartDialEntry> entries, int... expected) {
+        final int[] changes = new int[expected.length];
+        SmartDialController.diffEntries(oldEntries, entries, changes);
+        assertEquals(Arrays.toString(expected), Arrays.toString(changes));
+    }
+
+    private static SmartDialEntry createEntry(String name, long contactId) {
+        return new SmartDialEntry(name,
+                Uri.parse("content://com.android.contacts/contacts/" + contactId), "555-0100",
+                new ArrayList<SmartDialMatchPosition>(), null);
+    }
+}
@@ -106,6 +106,28 @@ public class SmartDialNameMatcherTest extends TestCase {
         checkMatches("ab zz ef", "23", true, 0, 1, 6, 7);
     }
 
+    public void testMatch_spans() {
+        final SmartDialNameMatcher matcher = new SmartDialNameMatcher("957");
+        assertEquals(3, matcher.getMaxSpans());
+        final int[] spans = new int[matcher.getMaxSpans() * 2];
+        final byte[] name = SmartDialCharMap.LATIN.toDigits("William John Smith");
+        assertEquals(3, matcher.match(name, name.length, spans));
+        assertSpans(spans, 0, 1, 8, 9, 13, 14);
+
+        // The same buffer can be reused for the next name
+        final byte[] otherName = SmartDialCharMap.LATIN.toDigits("Walker Jr");
+        assertEquals(2, matcher.match(otherName, otherName.length, spans));
+        assertSpans(spans, 0, 1, 7, 9);
+        final byte[] noMatch = SmartDialCharMap.LATIN.toDigits("Mary Jane");
+        assertEquals(0, matcher.match(noMatch, noMatch.length, spans));
+
+        // Only the given length of the name is matched
+        assertEquals(0, matcher.match(name, 12, spans));
+        final SmartDialNameMatcher fullMatcher = new SmartDialNameMatcher("5646");
+        assertEquals(1, fullMatcher.match(name, 12, spans));
+        assertSpans(spans, 8, 12);
+    }
+
     public void testMatches_repeatedSeparators() {
         // Simple match for single token
         checkMatches("John,,,,,Doe", "5646", true, 0, 4);
@@ -228,6 +250,29 @@ public class SmartDialNameMatcherTest extends TestCase {
         checkMatchesNumber("(650) 292 2323", "6502922323", true, false, 0, 14);
     }
 
+    public void testMatches_NumberInfix() {
+        // The end of the number is highlighted if it ends with the query
+        checkMatchesNumberInfix("(650) 292-2323", "2323", 10, 14);
+        checkMatchesNumberInfix("+1-510-333-7596", "7596", 11, 15);
+        checkMatchesNumberInfix("+1-510-333-7596", "03337", 5, 12);
+        // Otherwise the first place it contains the query
+        checkMatchesNumberInfix("(650) 292-2323", "292", 6, 9);
+        checkMatchesNumberInfix("(650) 292-2323", "232", 10, 13);
+        // Prefixes are left to matchesNumber
+        assertNull(SmartDialNameMatcher.matchesNumberInfix("(650) 292-2323", "650"));
+        assertNull(SmartDialNameMatcher.matchesNumberInfix("(650) 292-2323", "6502922323"));
+        assertNull(SmartDialNameMatcher.matchesNumberInfix("(650) 292-2323", "2324"));
+        assertNull(SmartDialNameMatcher.matchesNumberInfix("", "2324"));
+    }
+
+    private void checkMatchesNumberInfix(String number, String query, int matchStart,
+            int matchEnd) {
+        final SmartDialMatchPosition position =
+                SmartDialNameMatcher.matchesNumberInfix(number, query);
+        assertNotNull("Expected " + query + " to match " + number, position);
+        assertEquals(matchStart, position.start);
+        assertEquals(matchEnd, position.end);
+    }
 
     private void checkMatchesNumber(String number, String query, boolean expectedMatches,
             int matchStart, int matchEnd) {
@@ -237,7 +282,7 @@ public class SmartDialNameMatcherTest extends TestCase {
     private void checkMatchesNumber(String number, String query, boolean expectedMatches,
             boolean matchNanp, int matchStart, int matchEnd) {
         final SmartDialMatchPosition pos = SmartDialNameMatcher.matchesNumber(number, query,
-                matchNanp);
+                matchNanp ? SmartDialNumberRules.forRegion("US") : SmartDialNumberRules.NONE);
         assertEquals(expectedMatches, pos != null);
         if (expectedMatches) {
             assertEquals("start", matchStart, pos.start);
@@ -245,6 +290,12 @@ public class SmartDialNameMatcherTest extends TestCase {
         }
     }
 
+    private static void assertSpans(int[] spans, int... expected) {
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], spans[i]);
+        }
+    }
+
     private void checkMatches(String displayName, String query, boolean expectedMatches,
             int... expectedMatchPositions) {
         final SmartDialNameMatcher matcher = new SmartDialNameMatcher(query);
@@ -267,6 +318,17 @@ public class SmartDialNameMatcherTest extends TestCase {
                 assertEquals("end", expectedMatchPositions[i * 2 + 1], matchPositions.get(i).end);
             }
         }
+
+        // Names mapped to digits in advance match the same way
+        assertEquals("matches digits", matches,
+                matcher.matches(SmartDialCharMap.LATIN.toDigits(displayName)));
+        final ArrayList<SmartDialMatchPosition> digitsMatchPositions =
+                matcher.getMatchPositions();
+        assertEquals(matches ? matchPositions.size() : 0, digitsMatchPositions.size());
+        for (int i = 0; i < digitsMatchPositions.size(); i++) {
+            assertEquals("start", matchPositions.get(i).start, digitsMatchPositions.get(i).start);
+            assertEquals("end", matchPositions.get(i).end, digitsMatchPositions.get(i).end);
+        }
     }
 
 }
@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2013 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.dialer.dialpad;
+
+import static com.android.dialer.dialpad.SmartDialCache.ContactNumber;
+
+import android.os.CancellationSignal;
+import android.os.OperationCanceledException;
+import android.test.suitebuilder.annotation.SmallTest;
+
+import junit.framework.TestCase;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * To run this test, use the command:
+ * adb shell am instrument -w -e class com.android.dialer.dialpad.SmartDialNumberIndexTest /
+ * com.android.dialer.tests/android.test.InstrumentationTestRunner
+ */
+@SmallTest
+public class SmartDialNumberIndexTest extends TestCase {
+
+    public void testSuffixesAndInfixes() {
+        final SmartDialNumberIndex index = SmartDialNumberIndex.build(new ContactNumber[] {
+                contact("510-527-2357"), contact("(650) 555-2357"), contact("2357"),
+                contact("+44 20 7946 0000"), contact(""), contact("12")});
+        assertNumbers(index, "2357", 0, 1);
+        assertNumbers(index, "357", 0, 1, 2);
+        assertNumbers(index, "7946", 3);
+        assertNumbers(index, "0000", 3);
+        // The start of a number is left to the trie
+        assertNumbers(index, "510");
+        assertNumbers(index, "4420");
+        // Queries that are too short, or are not made of digits, find nothing
+        assertNumbers(index, "57");
+        assertNumbers(index, "5a7");
+        assertNumbers(index, "9999");
+    }
+
+    public void testNumberFoundOncePerPosition() {
+        final SmartDialNumberIndex index = SmartDialNumberIndex.build(new ContactNumber[] {
+                contact("1-212-212-2121")});
+        assertNumbers(index, "212", 0, 0, 0);
+        assertNumbers(index, "2121", 0);
+    }
+
+    public void testSameAsScanning() {
+        final Random random = new Random(3);
+        final ContactNumber[] contacts = new ContactNumber[500];
+        for (int i = 0; i < contacts.length; i++) {
+            final StringBuilder number = new StringBuilder(random.nextBoolean() ? "+" : "");
+            final int length = random.nextInt(18);
+            for (int j = 0; j < length; j++) {
+                // Few distinct digits, so that long queries share their first digits
+                number.append(random.nextInt(3));
+                if (random.nextInt(4) == 0) {
+                    number.append('-');
+                }
+            }
+            contacts[i] = contact(number.toString());
+        }
+        final SmartDialNumberIndex index = SmartDialNumberIndex.build(contacts);
+        for (int i = 0; i < 200; i++) {
+            final String digits = SmartDialNameMatcher.normalizeNumber(
+                    contacts[random.nextInt(contacts.length)].phoneNumber);
+            if (digits.length() < 4) {
+                continue;
+            }
+            final int start = 1 + random.nextInt(digits.length() - 3);
+            final int end = start + 3 + random.nextInt(digits.length() - start - 2);
+            final String query = digits.substring(start, end);
+
+            int expected = 0;
+            for (ContactNumber contact : contacts) {
+                final String number = SmartDialNameMatcher.normalizeNumber(contact.phoneNumber);
+                for (int j = number.indexOf(query, 1); j > 0; j = number.indexOf(query, j + 1)) {
+                    expected++;
+                }
+            }
+            assertEquals("Query " + query, expected,
+                    index.getNumbersContaining(query, null).length);
+        }
+    }
+
+    public void testSuffixCount() {
+        final SmartDialNumberIndex index = SmartDialNumberIndex.build(new ContactNumber[] {
+                contact("5105272357"), contact("123"), contact("1234")});
+        // Suffixes other than the whole number, with at least 3 digits
+        assertEquals(7 + 0 + 1, index.getSuffixCount());
+    }
+
+    public void testCanceled() {
+        final SmartDialNumberIndex index = SmartDialNumberIndex.build(new ContactNumber[] {
+                contact("510-527-2357")});
+        final CancellationSignal signal = new CancellationSignal();
+        signal.cancel();
+        try {
+            index.getNumbersContaining("2357", signal);
+            fail("Expected OperationCanceledException");
+        } catch (OperationCanceledException expected) {
+        }
+    }
+
+    private static ContactNumber contact(String number) {
+        return new ContactNumber(0, "", number, "", 0);
+    }
+
+    private static void assertNumbers(SmartDialNumberIndex index, String query,
+            int... expected) {
+        final int[] actual = index.getNumbersContaining(query, null);
+        Arrays.sort(actual);
+        assertEquals("Query " + query, Arrays.toString(expected), Arrays.toString(actual));
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2013 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.dialer.dialpad;
+
+import android.test.suitebuilder.annotation.SmallTest;
+
+import junit.framework.TestCase;
+
+import java.util.Arrays;
+
+/**
+ * To run this test, use the command:
+ * adb shell am instrument -w -e class com.android.dialer.dialpad.SmartDialNumberRulesTest /
+ * com.android.dialer.tests/android.test.InstrumentationTestRunner
+ */
+@SmallTest
+public class SmartDialNumberRulesTest extends TestCase {
+
+    public void testForRegion() {
+        assertEquals(1, SmartDialNumberRules.forRegion("US").getCountryCode());
+        assertSame(SmartDialNumberRules.forRegion("US"), SmartDialNumberRules.forRegion("ca"));
+        assertEquals(44, SmartDialNumberRules.forRegion("Gb").getCountryCode());
+        assertSame(SmartDialNumberRules.NONE, SmartDialNumberRules.forRegion("XX"));
+        assertSame(SmartDialNumberRules.NONE, SmartDialNumberRules.forRegion(""));
+        assertSame(SmartDialNumberRules.NONE, SmartDialNumberRules.forRegion(null));
+        assertEquals(0, SmartDialNumberRules.NONE.getCountryCode());
+    }
+
+    public void testGetCountryCodeEnd() {
+        assertEquals(2, SmartDialNumberRules.getCountryCodeEnd("+15103337596"));
+        assertEquals(3, SmartDialNumberRules.getCountryCodeEnd("+44 20 7946 0000"));
+        assertEquals(3, SmartDialNumberRules.getCountryCodeEnd("+6591776930"));
+        assertEquals(4, SmartDialNumberRules.getCountryCodeEnd("+852 2222 2222"));
+        assertEquals(4, SmartDialNumberRules.getCountryCodeEnd("+998 90 123 4567"));
+        // Unassigned codes, and prefixes of codes
+        assertEquals(0, SmartDialNumberRules.getCountryCodeEnd("+854 1111 2222"));
+        assertEquals(0, SmartDialNumberRules.getCountryCodeEnd("+8"));
+        assertEquals(0, SmartDialNumberRules.getCountryCodeEnd("+85"));
+        // A country code must be followed by the rest of the number
+        assertEquals(0, SmartDialNumberRules.getCountryCodeEnd("+1"));
+        assertEquals(0, SmartDialNumberRules.getCountryCodeEnd("+ 1 510"));
+        assertEquals(0, SmartDialNumberRules.getCountryCodeEnd("15103337596"));
+        assertEquals(0, SmartDialNumberRules.getCountryCodeEnd(""));
+        assertEquals(0, SmartDialNumberRules.getCountryCodeEnd(null));
+    }
+
+    public void testOffsets_NoRules() {
+        final SmartDialNumberRules rules = SmartDialNumberRules.NONE;
+        assertOffsets(rules, "+44 20 7946 0000", 4);
+        assertOffsets(rules, "020 7946 0000");
+        assertOffsets(rules, "1-510-333-7596");
+    }
+
+    public void testOffsets_Nanp() {
+        final SmartDialNumberRules rules = SmartDialNumberRules.forRegion("US");
+        assertOffsets(rules, "1-510-333-7596", 2, 6);
+        assertOffsets(rules, "(650) 292 2323", 6);
+        assertOffsets(rules, "+1-510-333-7596", 3, 7);
+        assertOffsets(rules, "+1510 3337596", 2, 6);
+        // Numbers of other regions only get their country code stripped
+        assertOffsets(rules, "+44 20 7946 0000", 4);
+        // Numbers that are too short or too long are left alone
+        assertOffsets(rules, "1-510-333-759");
+        assertOffsets(rules, "510-333-759");
+        assertOffsets(rules, "+1-510-333-759", 3);
+    }
+
+    public void testOffsets_UnitedKingdom() {
+        final SmartDialNumberRules rules = SmartDialNumberRules.forRegion("GB");
+        // Trunk prefix, then area code
+        assertOffsets(rules, "020 7946 0000", 1, 4);
+        assertOffsets(rules, "07700 900123", 1, 6);
+        // Area codes of varying length are not split
+        assertOffsets(rules, "0113 496 0000", 1);
+        assertOffsets(rules, "+44 20 7946 0000", 4, 7);
+        // The trunk prefix is often written after the country code
+        assertOffsets(rules, "+44 (0)20 7946 0000", 5, 7, 10);
+        assertOffsets(rules, "+1-510-333-7596", 3);
+        assertOffsets(rules, "0123");
+    }
+
+    public void testOffsets_OtherRegions() {
+        assertOffsets(SmartDialNumberRules.forRegion("DE"), "0151 12345678", 1, 5);
+        assertOffsets(SmartDialNumberRules.forRegion("DE"), "030 1234567", 1);
+        assertOffsets(SmartDialNumberRules.forRegion("FR"), "01 23 45 67 89", 1, 3);
+        assertOffsets(SmartDialNumberRules.forRegion("FR"), "+33 6 12 34 56 78", 4, 6);
+        assertOffsets(SmartDialNumberRules.forRegion("JP"), "03-1234-5678", 1, 3);
+        assertOffsets(SmartDialNumberRules.forRegion("JP"), "090-1234-5678", 1, 4);
+        assertOffsets(SmartDialNumberRules.forRegion("AU"), "(02) 9876 5432", 2, 5);
+        assertOffsets(SmartDialNumberRules.forRegion("RU"), "8 495 123-45-67", 2, 6);
+        assertOffsets(SmartDialNumberRules.forRegion("RU"), "+7 495 123-45-67", 3, 7);
+    }
+
+    public void testOffsets_NothingAfterCountryCode() {
+        for (SmartDialNumberRules rules : new SmartDialNumberRules[] {SmartDialNumberRules.NONE,
+                SmartDialNumberRules.forRegion("US"), SmartDialNumberRules.forRegion("GB")}) {
+            assertOffsets(rules, "+1 ");
+            assertOffsets(rules, "+44-");
+            assertOffsets(rules, "+");
+        }
+    }
+
+    private static void assertOffsets(SmartDialNumberRules rules, String number,
+            int... expected) {
+        final int[] offsets = new int[SmartDialNumberRules.MAX_OFFSETS];
+        final int count = rules.getOffsets(number, offsets);
+        assertEquals("Offsets of " + number, Arrays.toString(expected),
+                Arrays.toString(Arrays.copyOf(offsets, count)));
+    }
+}
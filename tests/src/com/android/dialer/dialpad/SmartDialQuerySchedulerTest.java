@@ -0,0 +1,133 @@
+/*
+ * Copyright (C) 2013 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.dialer.dialpad;
+
+import android.provider.ContactsContract;
+import android.test.InstrumentationTestCase;
+import android.test.suitebuilder.annotation.MediumTest;
+
+import com.android.dialer.util.FakeAsyncTaskExecutor;
+import com.google.common.collect.Lists;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit tests for {@link SmartDialQueryScheduler}. The searches are submitted to a fake executor
+ * and never run: their results are delivered by the test.
+ *
+ * To run this test, use the command:
+ * adb shell am instrument -w -e class com.android.dialer.dialpad.SmartDialQuerySchedulerTest /
+ * com.android.dialer.tests/android.test.InstrumentationTestRunner
+ */
+@MediumTest
+public class SmartDialQuerySchedulerTest extends InstrumentationTestCase {
+    private SmartDialQueryScheduler mScheduler;
+    private final ArrayList<String> mServedQueries = Lists.newArrayList();
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        final SmartDialCache cache = SmartDialCache.getInstance(
+                getInstrumentation().getTargetContext(),
+                ContactsContract.Preferences.DISPLAY_ORDER_PRIMARY);
+        final SmartDialLoaderTask.SmartDialLoaderCallback callback =
+                new SmartDialLoaderTask.SmartDialLoaderCallback() {
+                    @Override
+                    public void setSmartDialAdapterEntries(List<SmartDialEntry> list,
+                            String query) {
+                        mServedQueries.add(query);
+                    }
+                };
+        mScheduler = new SmartDialQueryScheduler(cache, new SmartDialSearchSession(), callback,
+                new FakeAsyncTaskExecutor(getInstrumentation()));
+    }
+
+    public void testFirstQuerySearchedRightAway() {
+        schedule("5");
+        final SmartDialQueryScheduler.Metrics metrics = mScheduler.getMetrics();
+        assertEquals(1, metrics.scheduledQueries);
+        assertEquals(1, metrics.startedSearches);
+
+        deliver("5");
+        assertEquals(Lists.newArrayList("5"), mServedQueries);
+        assertEquals(1, mScheduler.getMetrics().servedQueries);
+    }
+
+    public void testCoalescesFastQueries() throws Exception {
+        getInstrumentation().runOnMainSync(new Runnable() {
+            @Override
+            public void run() {
+                mScheduler.schedule("5");
+                mScheduler.schedule("52");
+                mScheduler.schedule("527");
+            }
+        });
+        SmartDialQueryScheduler.Metrics metrics = mScheduler.getMetrics();
+        assertEquals(3, metrics.scheduledQueries);
+        assertEquals(1, metrics.startedSearches);
+        assertEquals(1, metrics.canceledSearches);
+        assertEquals(1, metrics.droppedQueries);
+
+        // Only the last query is searched once the interval has elapsed
+        Thread.sleep(SmartDialQueryScheduler.MIN_SEARCH_INTERVAL_MS * 4);
+        getInstrumentation().waitForIdleSync();
+        metrics = mScheduler.getMetrics();
+        assertEquals(2, metrics.startedSearches);
+
+        // Results of the canceled search are ignored
+        deliver("5");
+        deliver("527");
+        assertEquals(Lists.newArrayList("527"), mServedQueries);
+        assertEquals(1, mScheduler.getMetrics().servedQueries);
+    }
+
+    public void testCancel() {
+        schedule("5");
+        getInstrumentation().runOnMainSync(new Runnable() {
+            @Override
+            public void run() {
+                mScheduler.cancel();
+            }
+        });
+        final SmartDialQueryScheduler.Metrics metrics = mScheduler.getMetrics();
+        assertEquals(1, metrics.canceledSearches);
+
+        deliver("5");
+        assertTrue(mServedQueries.isEmpty());
+        assertEquals(0, mScheduler.getMetrics().servedQueries);
+    }
+
+    private void schedule(final String query) {
+        getInstrumentation().runOnMainSync(new Runnable() {
+            @Override
+            public void run() {
+                mScheduler.schedule(query);
+            }
+        });
+    }
+
+    /** Delivers the results of the search for a query, as the task would. */
+    private void deliver(final String query) {
+        getInstrumentation().runOnMainSync(new Runnable() {
+            @Override
+            public void run() {
+                mScheduler.setSmartDialAdapterEntries(new ArrayList<SmartDialEntry>(), query);
+            }
+        });
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2013 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.dialer.dialpad;
+
+import static com.android.dialer.dialpad.SmartDialCache.ContactNumber;
+
+import android.test.suitebuilder.annotation.SmallTest;
+
+import com.google.common.collect.Lists;
+
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * To run this test, use the command:
+ * adb shell am instrument -w -e class com.android.dialer.dialpad.SmartDialRankerTest /
+ * com.android.dialer.tests/android.test.InstrumentationTestRunner
+ */
+@SmallTest
+public class SmartDialRankerTest extends TestCase {
+    private static final long NOW = 1380000000000L;
+    private static final long MINUTE_MS = 60L * 1000;
+    private static final long DAY_MS = 24 * 60 * MINUTE_MS;
+
+    private ArrayList<ContactNumber> mCandidates;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        mCandidates = Lists.newArrayList();
+        for (int i = 0; i < 10; i++) {
+            mCandidates.add(new ContactNumber(i, "Contact " + i, "+1 650-555-010" + i,
+                    String.valueOf(i), i));
+        }
+    }
+
+    public void testAffinityOrderWithoutUsage() {
+        final SmartDialRanker ranker = new SmartDialRanker();
+        assertOrder(ranker, allNameWords(), 10, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        // Only the best candidates are returned
+        assertOrder(ranker, allNameWords(), 3, 0, 1, 2);
+    }
+
+    public void testRecentCallMovesUp() {
+        final SmartDialRanker ranker = new SmartDialRanker();
+        ranker.recordCall("(650) 555-0109", NOW - 10 * MINUTE_MS);
+        assertOrder(ranker, allNameWords(), 4, 9, 0, 1, 2);
+    }
+
+    public void testOldCallsDecay() {
+        final SmartDialRanker ranker = new SmartDialRanker();
+        ranker.recordCall("6505550109", NOW - 60 * DAY_MS);
+        assertOrder(ranker, allNameWords(), 10, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+    }
+
+    public void testFrequentCallsMoveUp() {
+        final SmartDialRanker ranker = new SmartDialRanker();
+        for (int i = 0; i < 10; i++) {
+            ranker.recordCall("6505550105", NOW - 2 * DAY_MS);
+        }
+        ranker.recordCall("6505550103", NOW - 2 * DAY_MS);
+        assertOrder(ranker, allNameWords(), 6, 5, 3, 0, 1, 2, 4);
+    }
+
+    public void testMatchTypes() {
+        final SmartDialRanker ranker = new SmartDialRanker();
+        final int[] matchTypes = allNameWords();
+        matchTypes[0] = SmartDialRanker.MATCH_NAME_INITIALS;
+        matchTypes[1] = SmartDialRanker.MATCH_NUMBER;
+        matchTypes[3] = SmartDialRanker.MATCH_OTHER;
+        // Ties keep the affinity order
+        assertOrder(ranker, matchTypes, 10, 2, 1, 0, 4, 5, 6, 7, 8, 9, 3);
+    }
+
+    public void testCallsFarApart() {
+        final SmartDialRanker ranker = new SmartDialRanker();
+        final long start = NOW - 1000 * SmartDialRanker.FREQUENCY_HALF_LIFE_MS;
+        ranker.recordCall("6505550108", start);
+        ranker.recordCall("6505550107", NOW - 10 * MINUTE_MS);
+        assertOrder(ranker, allNameWords(), 3, 7, 0, 1);
+    }
+
+    public void testGetNumberKey() {
+        final long key = SmartDialRanker.getNumberKey("+1 650-253-0000");
+        assertEquals(key, SmartDialRanker.getNumberKey("(650) 253-0000"));
+        assertEquals(key, SmartDialRanker.getNumberKey("2530000"));
+        assertFalse(key == SmartDialRanker.getNumberKey("253-0001"));
+        assertFalse(SmartDialRanker.getNumberKey("0012") == SmartDialRanker.getNumberKey("12"));
+        assertEquals(-1, SmartDialRanker.getNumberKey(""));
+        assertEquals(-1, SmartDialRanker.getNumberKey(null));
+    }
+
+    private int[] allNameWords() {
+        final int[] matchTypes = new int[mCandidates.size()];
+        Arrays.fill(matchTypes, SmartDialRanker.MATCH_NAME_WORD);
+        return matchTypes;
+    }
+
+    private void assertOrder(SmartDialRanker ranker, int[] matchTypes, int limit,
+            int... expected) {
+        final int[] order = new int[limit];
+        assertEquals(expected.length, ranker.rank(mCandidates, matchTypes, NOW, order));
+        assertEquals(Arrays.toString(expected), Arrays.toString(order));
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2013 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.dialer.dialpad;
+
+import static com.android.dialer.dialpad.SmartDialCache.ContactNumber;
+
+import android.os.CancellationSignal;
+import android.os.OperationCanceledException;
+import android.test.suitebuilder.annotation.SmallTest;
+
+import com.google.common.collect.Sets;
+
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+
+@SmallTest
+public class SmartDialSearchSessionTest extends TestCase {
+    private static final int LIMIT = 21;
+
+    private CompactSmartDialTrie mTrie;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        final SmartDialTrie source = new SmartDialTrie();
+        source.put(new ContactNumber(0, "Jason Smith", "510-527-2357", "0", 1));
+        source.put(new ContactNumber(1, "Jason Smitt", "415-123-4567", "1", 2));
+        source.put(new ContactNumber(2, "Mary Jane", "650-333-7596", "2", 3));
+        source.put(new ContactNumber(3, "Sarah Smith", "510-284-9170", "3", 4));
+        mTrie = new CompactSmartDialTrie(source);
+    }
+
+    public void testAppendDigits() {
+        final SmartDialSearchSession session = new SmartDialSearchSession();
+        for (String query : new String[] {"5", "52", "527", "5276", "52766"}) {
+            assertSameContacts(mTrie.getTopWithPrefix(query, LIMIT),
+                    session.search(mTrie, query, LIMIT));
+        }
+    }
+
+    public void testBackspaceReusesPreviousResults() {
+        final SmartDialSearchSession session = new SmartDialSearchSession();
+        final ArrayList<ContactNumber> first = session.search(mTrie, "5", LIMIT);
+        final ArrayList<ContactNumber> second = session.search(mTrie, "52", LIMIT);
+        session.search(mTrie, "527", LIMIT);
+        assertEquals(3, session.getCachedResultCount());
+        assertSame(second, session.search(mTrie, "52", LIMIT));
+        assertSame(first, session.search(mTrie, "5", LIMIT));
+        assertEquals(1, session.getCachedResultCount());
+    }
+
+    public void testReplacedQuery() {
+        final SmartDialSearchSession session = new SmartDialSearchSession();
+        session.search(mTrie, "527", LIMIT);
+        // Pasted or edited queries that only share part of the previous one
+        assertSameContacts(mTrie.getTopWithPrefix("51", LIMIT), session.search(mTrie, "51",
+                LIMIT));
+        assertSameContacts(mTrie.getTopWithPrefix("6279", LIMIT), session.search(mTrie, "6279",
+                LIMIT));
+        assertTrue(session.search(mTrie, "", LIMIT).isEmpty());
+    }
+
+    public void testNoMatches() {
+        final SmartDialSearchSession session = new SmartDialSearchSession();
+        assertTrue(session.search(mTrie, "11", LIMIT).isEmpty());
+        assertTrue(session.search(mTrie, "111", LIMIT).isEmpty());
+        // Going back to a query with matches works again
+        assertSameContacts(mTrie.getTopWithPrefix("4", LIMIT), session.search(mTrie, "4", LIMIT));
+    }
+
+    public void testNewTrieResetsSession() {
+        final SmartDialSearchSession session = new SmartDialSearchSession();
+        session.search(mTrie, "527", LIMIT);
+
+        final SmartDialTrie source = new SmartDialTrie();
+        source.put(new ContactNumber(4, "Jasmine", "0", "4", 1));
+        final CompactSmartDialTrie trie = new CompactSmartDialTrie(source);
+        final ArrayList<ContactNumber> result = session.search(trie, "527", LIMIT);
+        assertEquals(1, result.size());
+        assertEquals(4, result.get(0).id);
+    }
+
+    public void testChangedContacts() {
+        final SmartDialTrie added = new SmartDialTrie();
+        added.put(new ContactNumber(1, "Jasmine Smitt", "415-123-4567", "1", 2));
+        added.put(new ContactNumber(4, "Janet", "0", "4", 5));
+        final CompactSmartDialTrie trie = mTrie.withChanges(Sets.newHashSet(2L),
+                new CompactSmartDialTrie(added));
+        final SmartDialSearchSession session = new SmartDialSearchSession();
+        // Prefixes only found in the tables, only found in the changed contacts, and in both
+        for (String query : new String[] {"5", "52", "527", "5276", "52764", "5276", "527",
+                "52", "526", "5263", "627", "4"}) {
+            assertSameContacts(trie.getTopWithPrefix(query, LIMIT),
+                    session.search(trie, query, LIMIT));
+        }
+        assertTrue(session.search(trie, "6279", LIMIT).isEmpty());
+    }
+
+    public void testCanceledSearch() {
+        final SmartDialSearchSession session = new SmartDialSearchSession();
+        final CancellationSignal signal = new CancellationSignal();
+        signal.cancel();
+        try {
+            session.search(mTrie, "52", LIMIT, signal);
+            fail("Expected OperationCanceledException");
+        } catch (OperationCanceledException expected) {
+        }
+        // The next search is not affected by the canceled one
+        assertSameContacts(mTrie.getTopWithPrefix("52", LIMIT), session.search(mTrie, "52",
+                LIMIT));
+        assertSameContacts(mTrie.getTopWithPrefix("527", LIMIT), session.search(mTrie, "527",
+                LIMIT, new CancellationSignal()));
+    }
+
+    private void assertSameContacts(ArrayList<ContactNumber> expected,
+            ArrayList<ContactNumber> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), actual.get(i));
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (C) 2013 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.dialer.dialpad;
+
+import static com.android.dialer.dialpad.SmartDialCache.ContactNumber;
+
+import android.test.suitebuilder.annotation.SmallTest;
+
+import junit.framework.TestCase;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+@SmallTest
+public class SmartDialSnapshotTest extends TestCase {
+    private static final SmartDialNumberRules US_RULES = SmartDialNumberRules.forRegion("US");
+
+    /** Offset of the trie in a snapshot written with the "en_US" locale. */
+    private static final int TRIE_OFFSET = 4 * 4 + 4 + "en_US".length() + 3 * 8;
+    /** Indexes of the tables of the trie, in the order they are written. */
+    private static final int EDGE_START = 0;
+    private static final int EDGE_TARGETS = 2;
+    private static final int CONTENT_START = 3;
+    private static final int CONTENTS = 5;
+
+    private File mFile;
+    private CompactSmartDialTrie mTrie;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        mFile = File.createTempFile("smartdial", null);
+        final SmartDialTrie source = new SmartDialTrie(true /* formatNanp */);
+        source.put(new ContactNumber(0, "Jason Smith", "510-527-2357", "0", 1));
+        source.put(new ContactNumber(1, "Renée Brontë", "+1-415-123-4567", "1", 2));
+        source.put(new ContactNumber(2, "Mary Jane", "650-333-7596", null, 3));
+        // A Chinese name, indexed by its pinyin and its initials
+        source.put(new ContactNumber(3, "\u738b\u4e50", new String[] {"wangle", "wangyue", "wl",
+                "wy"}, "650-333-7597", "3", 4));
+        mTrie = new CompactSmartDialTrie(source);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        mFile.delete();
+        super.tearDown();
+    }
+
+    public void testRoundTrip() {
+        assertTrue(SmartDialSnapshot.write(mFile, new SmartDialSnapshot(mTrie, 1000, 100, 10), 1,
+                US_RULES, "en_US"));
+        final SmartDialSnapshot snapshot = SmartDialSnapshot.read(mFile, 1, US_RULES, "en_US");
+        assertNotNull(snapshot);
+        assertEquals(1000, snapshot.buildTimestamp);
+        assertEquals(100, snapshot.lastUpdatedTimestamp);
+        assertEquals(10, snapshot.lastDeletedTimestamp);
+        assertEquals(mTrie.size(), snapshot.trie.size());
+        assertEquals(mTrie.numEntries(), snapshot.trie.numEntries());
+
+        for (String prefix : new String[] {"5", "527", "733633", "627", "4151234567", "3337596",
+                "9264", "95"}) {
+            final ArrayList<ContactNumber> expected = mTrie.getTopWithPrefix(prefix, 21);
+            final ArrayList<ContactNumber> actual = snapshot.trie.getTopWithPrefix(prefix, 21);
+            assertEquals(expected.size(), actual.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i).id, actual.get(i).id);
+                assertEquals(expected.get(i).displayName, actual.get(i).displayName);
+                assertEquals(Arrays.asList(expected.get(i).nameVariants),
+                        Arrays.asList(actual.get(i).nameVariants));
+                assertEquals(expected.get(i).phoneNumber, actual.get(i).phoneNumber);
+                assertEquals(expected.get(i).lookupKey, actual.get(i).lookupKey);
+                assertEquals(expected.get(i).affinity, actual.get(i).affinity);
+            }
+        }
+    }
+
+    public void testDisplayNameSharedByVariants() {
+        assertTrue(SmartDialSnapshot.write(mFile, new SmartDialSnapshot(mTrie, 0, 0, 0), 1,
+                US_RULES, "en_US"));
+        final ContactNumber contact = SmartDialSnapshot.read(mFile, 1, US_RULES, "en_US").trie
+                .getTopWithPrefix("5105272357", 1).get(0);
+        assertSame(contact.displayName, contact.nameVariants[0]);
+    }
+
+    public void testDifferentSettings() {
+        assertTrue(SmartDialSnapshot.write(mFile, new SmartDialSnapshot(mTrie, 0, 0, 0), 1,
+                US_RULES, "en_US"));
+        assertNull(SmartDialSnapshot.read(mFile, 2, US_RULES, "en_US"));
+        assertNull(SmartDialSnapshot.read(mFile, 1, SmartDialNumberRules.NONE, "en_US"));
+        assertNull(SmartDialSnapshot.read(mFile, 1, SmartDialNumberRules.forRegion("GB"),
+                "en_US"));
+        assertNull(SmartDialSnapshot.read(mFile, 1, US_RULES, "zh_CN"));
+        assertNotNull(SmartDialSnapshot.read(mFile, 1, US_RULES, "en_US"));
+    }
+
+    public void testMissingFile() {
+        mFile.delete();
+        assertNull(SmartDialSnapshot.read(mFile, 1, US_RULES, "en_US"));
+    }
+
+    public void testTruncatedFile() throws Exception {
+        assertTrue(SmartDialSnapshot.write(mFile, new SmartDialSnapshot(mTrie, 0, 0, 0), 1,
+                US_RULES, "en_US"));
+        final RandomAccessFile file = new RandomAccessFile(mFile, "rw");
+        file.setLength(file.length() - 10);
+        file.close();
+        assertNull(SmartDialSnapshot.read(mFile, 1, US_RULES, "en_US"));
+        // Unusable snapshots are deleted
+        assertFalse(mFile.exists());
+    }
+
+    public void testContactOutOfRange() throws Exception {
+        // setUp adds four contacts
+        assertCorruptTableRejected(CONTENTS, 0, 4);
+    }
+
+    public void testChildOutOfRange() throws Exception {
+        // The first child of the root is node 0, the root itself
+        assertCorruptTableRejected(EDGE_TARGETS, 0, 0);
+    }
+
+    public void testOffsetsNotAscending() throws Exception {
+        assertCorruptTableRejected(CONTENT_START, 1, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Writes a snapshot, overwrites an element of one of the int tables of its trie, and checks
+     * that the snapshot is rejected when read rather than failing later searches.
+     */
+    private void assertCorruptTableRejected(int table, int index, int value) throws Exception {
+        assertTrue(SmartDialSnapshot.write(mFile, new SmartDialSnapshot(mTrie, 0, 0, 0), 1,
+                US_RULES, "en_US"));
+        final RandomAccessFile file = new RandomAccessFile(mFile, "rw");
+        // Skips the size, then the tables before the one to overwrite
+        file.seek(TRIE_OFFSET + 4);
+        for (int i = 0; i < table; i++) {
+            final int length = file.readInt();
+            // The edge digits are the only table of bytes
+            file.seek(file.getFilePointer() + (i == 1 ? length : length * 4));
+        }
+        assertTrue(index < file.readInt());
+        file.seek(file.getFilePointer() + index * 4);
+        file.writeInt(value);
+        file.close();
+
+        assertNull(SmartDialSnapshot.read(mFile, 1, US_RULES, "en_US"));
+        assertFalse(mFile.exists());
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2013 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.dialer.dialpad;
+
+import static com.android.dialer.dialpad.SmartDialCache.ContactNumber;
+
+import android.test.suitebuilder.annotation.LargeTest;
+import android.util.Log;
+
+import junit.framework.TestCase;
+
+/**
+ * Measures how the time {@link SmartDialTrieBuilder} takes to build the trie of a large address
+ * book scales with the number of threads, from 1 to 8. Results are written to the log under the
+ * {@link #TAG} tag, together with the number of available processors.
+ *
+ * To run this test, use the command:
+ * adb shell am instrument -w -e class com.android.dialer.dialpad.SmartDialTrieBuilderPerformanceTest /
+ * com.android.dialer.tests/android.test.InstrumentationTestRunner
+ */
+@LargeTest
+public class SmartDialTrieBuilderPerformanceTest extends TestCase {
+    private static final String TAG = "SmartDialTrieBuilderPerf";
+
+    private static final int CONTACTS = 20000;
+    private static final int MAX_NAME_VARIANTS = 16;
+    private static final int ROUNDS = 3;
+
+    public void testScaling() throws Exception {
+        final ContactNumber[] contacts = SyntheticContacts.generate(CONTACTS,
+                SyntheticContacts.NameStyle.MIXED, SyntheticContacts.NumberStyle.NANP, CONTACTS);
+
+        // Warm up before measuring
+        build(contacts, 1);
+        Log.i(TAG, CONTACTS + " contacts, " + Runtime.getRuntime().availableProcessors()
+                + " processors");
+        long singleThreadNanos = 0;
+        for (int threads = 1; threads <= 8; threads *= 2) {
+            long nanos = Long.MAX_VALUE;
+            for (int i = 0; i < ROUNDS; i++) {
+                nanos = Math.min(nanos, build(contacts, threads));
+            }
+            if (threads == 1) {
+                singleThreadNanos = nanos;
+            }
+            Log.i(TAG, threads + " threads: " + nanos / 1000000 + " ms, speedup "
+                    + String.format("%.2f", (double) singleThreadNanos / nanos));
+        }
+    }
+
+    private static long build(ContactNumber[] contacts, int threads) throws Exception {
+        final long start = System.nanoTime();
+        final SmartDialTrieBuilder builder = new SmartDialTrieBuilder(
+                SmartDialCharMap.LATIN, SmartDialNumberRules.forRegion("US"), MAX_NAME_VARIANTS);
+        for (ContactNumber contact : contacts) {
+            builder.add(contact.id, contact.displayName, contact.phoneNumber, contact.lookupKey);
+        }
+        final SmartDialTrie trie = builder.build(0, threads);
+        final long nanos = System.nanoTime() - start;
+        assertTrue(trie.size() >= contacts.length);
+        return nanos;
+    }
+}
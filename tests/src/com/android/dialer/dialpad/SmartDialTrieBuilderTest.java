@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2013 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.dialer.dialpad;
+
+import static com.android.dialer.dialpad.SmartDialCache.ContactNumber;
+
+import android.test.suitebuilder.annotation.SmallTest;
+
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * To run this test, use the command:
+ * adb shell am instrument -w -e class com.android.dialer.dialpad.SmartDialTrieBuilderTest /
+ * com.android.dialer.tests/android.test.InstrumentationTestRunner
+ */
+@SmallTest
+public class SmartDialTrieBuilderTest extends TestCase {
+    private static final String[] NAMES = new String[] {"Jason Smith", "Mary Jane", "Zoë",
+            "Sarah O'Brien", "John", "Jean-Luc Picard", ""};
+
+    private static final int MAX_NAME_VARIANTS = 16;
+
+    public void testAffinities() throws Exception {
+        final SmartDialTrieBuilder builder = newBuilder();
+        builder.add(0, "Jason", "510-527-2357", "0");
+        builder.add(1, "Jasmine", "415-123-4567", "1", 42);
+        builder.add(2, "Jane", "650-333-7596", "2");
+        final SmartDialTrie trie = builder.build(10, 1);
+        // Every number is inserted once, whatever the number of variants of its name
+        assertAffinities(trie.getAllWithPrefix("5105272357"), 10);
+        assertAffinities(trie.getAllWithPrefix("4151234567"), 42);
+        assertAffinities(trie.getAllWithPrefix("6503337596"), 11);
+    }
+
+    public void testNameVariantsShareDisplayName() throws Exception {
+        final SmartDialTrieBuilder builder = newBuilder();
+        builder.add(0, "Jason Smith", "510-527-2357", "0");
+        final ContactNumber contact = builder.build(0, 1).getAllWithPrefix("5105272357").get(0);
+        assertEquals("Jason Smith", contact.displayName);
+        assertSame(contact.displayName, contact.nameVariants[0]);
+        for (int i = 1; i < contact.nameVariants.length; i++) {
+            assertFalse(contact.nameVariants[i].equals(contact.displayName));
+        }
+    }
+
+    public void testParallelBuildSameAsSequential() throws Exception {
+        final int count = 2000;
+        final SmartDialTrieBuilder sequentialBuilder = newBuilder();
+        final SmartDialTrieBuilder parallelBuilder = newBuilder();
+        final Random random = new Random(1);
+        for (int i = 0; i < count; i++) {
+            final String name = NAMES[random.nextInt(NAMES.length)];
+            final String number = String.format("+1-%03d-%03d-%04d", 200 + random.nextInt(800),
+                    random.nextInt(1000), random.nextInt(10000));
+            // Some contacts keep the affinity they already had
+            final int affinity = (i % 7 == 0) ? i : SmartDialTrieBuilder.NEXT_AFFINITY;
+            sequentialBuilder.add(i, name, number, String.valueOf(i), affinity);
+            parallelBuilder.add(i, name, number, String.valueOf(i), affinity);
+        }
+        final SmartDialTrie sequential = sequentialBuilder.build(0, 1);
+        final SmartDialTrie parallel = parallelBuilder.build(0, 4);
+
+        assertEquals(sequential.size(), parallel.size());
+        assertEquals(sequential.numEntries(), parallel.numEntries());
+        for (String prefix : new String[] {"0", "1", "2", "3", "4", "5", "6", "7", "8", "9",
+                "52", "627", "5276", "4155"}) {
+            assertSameContacts(sequential.getAllWithPrefix(prefix),
+                    parallel.getAllWithPrefix(prefix));
+        }
+    }
+
+    private static SmartDialTrieBuilder newBuilder() {
+        return new SmartDialTrieBuilder(SmartDialCharMap.LATIN,
+                SmartDialNumberRules.forRegion("US"), MAX_NAME_VARIANTS);
+    }
+
+    private static void assertAffinities(ArrayList<ContactNumber> contacts, int... expected) {
+        assertEquals(expected.length, contacts.size());
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], contacts.get(i).affinity);
+        }
+    }
+
+    private static void assertSameContacts(ArrayList<ContactNumber> expected,
+            ArrayList<ContactNumber> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).id, actual.get(i).id);
+            assertEquals(expected.get(i).displayName, actual.get(i).displayName);
+            assertEquals(Arrays.asList(expected.get(i).nameVariants),
+                    Arrays.asList(actual.get(i).nameVariants));
+            assertEquals(expected.get(i).phoneNumber, actual.get(i).phoneNumber);
+            assertEquals(expected.get(i).affinity, actual.get(i).affinity);
+        }
+    }
+}
@@ -23,8 +23,12 @@ import com.android.dialer.dialpad.SmartDialTrie.ParseInfo;
 
 import android.test.suitebuilder.annotation.SmallTest;
 
+import com.google.common.collect.Sets;
+
 import junit.framework.TestCase;
 
+import java.util.ArrayList;
+
 /**
  * To run this test, use the command:
  * adb shell am instrument -w -e class com.android.dialer.dialpad.SmartDialTrieTest /
@@ -292,6 +296,23 @@ public class SmartDialTrieTest extends TestCase{
         trie.put(contactno5);
     }
 
+    // Badly typed numbers with nothing but separators after the country code
+    public void testPutNumbersOnlyCountryCode() {
+        for (String region : new String[] {null, "US", "GB"}) {
+            final SmartDialTrie trie = new SmartDialTrie(SmartDialCharMap.LATIN,
+                    SmartDialNumberRules.forRegion(region));
+            final ContactNumber nanp = new ContactNumber(0, "Alice", "+1 ", "0", 1);
+            final ContactNumber uk = new ContactNumber(1, "Bob", "+44-", "1", 2);
+            final ContactNumber plus = new ContactNumber(2, "Carol", "+", "2", 3);
+            // Shouldn't crash
+            trie.put(nanp);
+            trie.put(uk);
+            trie.put(plus);
+            assertTrue(checkContains(trie, nanp, "1"));
+            assertTrue(checkContains(trie, uk, "44"));
+        }
+    }
+
     // Tests special case handling for NANP numbers
     public void testPutNumbersNANP() {
         final SmartDialTrie trie = new SmartDialTrie(true /* formatNanp */);
@@ -376,6 +397,107 @@ public class SmartDialTrieTest extends TestCase{
         assertFalse(checkContains(trieNonNANP, contactno4, "2849170"));
     }
 
+    // Tests the dialing plans of regions other than North America
+    public void testPutNumbersOtherRegions() {
+        final SmartDialTrie trie = new SmartDialTrie(SmartDialCharMap.LATIN,
+                SmartDialNumberRules.forRegion("GB"));
+        final ContactNumber london = new ContactNumber(0, "Alice", "020 7946 0000", "0", 1);
+        trie.put(london);
+        assertTrue(checkContains(trie, london, "02079460000"));
+        assertTrue(checkContains(trie, london, "2079460000"));
+        assertTrue(checkContains(trie, london, "79460000"));
+        assertFalse(checkContains(trie, london, "9460000"));
+
+        final ContactNumber mobile = new ContactNumber(1, "Bob", "+44 (0)7700 900123", "1", 2);
+        trie.put(mobile);
+        assertTrue(checkContains(trie, mobile, "4407700900123"));
+        assertTrue(checkContains(trie, mobile, "07700900123"));
+        assertTrue(checkContains(trie, mobile, "7700900123"));
+        assertTrue(checkContains(trie, mobile, "900123"));
+
+        final SmartDialTrie trieJapan = new SmartDialTrie(SmartDialCharMap.LATIN,
+                SmartDialNumberRules.forRegion("JP"));
+        final ContactNumber tokyo = new ContactNumber(2, "Carol", "03-1234-5678", "2", 3);
+        trieJapan.put(tokyo);
+        assertTrue(checkContains(trieJapan, tokyo, "312345678"));
+        assertTrue(checkContains(trieJapan, tokyo, "12345678"));
+        // NANP rules do not apply elsewhere
+        final ContactNumber us = new ContactNumber(3, "Dave", "1-510-284-9170", "3", 4);
+        trieJapan.put(us);
+        assertFalse(checkContains(trieJapan, us, "5102849170"));
+    }
+
+    public void testRemove() {
+        final SmartDialTrie trie = new SmartDialTrie(true /* formatNanp */);
+        final ContactNumber jasonHome = new ContactNumber(0, "Jason", "510-527-2357", "0", 1);
+        final ContactNumber jasonWork = new ContactNumber(0, "Jason", "510-527-2358", "0", 2);
+        final ContactNumber jane = new ContactNumber(1, "Jane", "510-555-0000", "1", 3);
+        trie.put(jasonHome);
+        trie.put(jasonWork);
+        trie.put(jane);
+        final SmartDialTrie janeOnly = new SmartDialTrie(true /* formatNanp */);
+        janeOnly.put(jane);
+
+        // All numbers of the contact are removed
+        assertEquals(2, trie.remove(Sets.newHashSet(0L)));
+        assertEquals(1, trie.size());
+        assertEquals(janeOnly.numEntries(), trie.numEntries());
+        assertFalse(checkContains(trie, jasonHome, "5276"));
+        assertFalse(checkContains(trie, jasonWork, "5105272358"));
+        assertTrue(checkContains(trie, jane, "526"));
+        assertTrue(checkContains(trie, jane, "5105550000"));
+        // Nodes that only led to the removed contact are dropped
+        assertNull(trie.mRoot.getChild(5, false).getChild(2, false).getChild(7, false));
+
+        // Unknown contacts are ignored
+        assertEquals(0, trie.remove(Sets.newHashSet(5L)));
+        assertEquals(1, trie.remove(Sets.newHashSet(1L)));
+        assertEquals(0, trie.size());
+        assertNull(trie.mRoot.getChild(5, false));
+    }
+
+    public void testPutNameVariants() {
+        final SmartDialTrie trie = new SmartDialTrie();
+        final ContactNumber wangle = new ContactNumber(0, "\u738b\u4e50",
+                new String[] {"wangle", "wangyue", "wl", "wy"}, "0", "0", 1);
+        trie.put(wangle);
+        // Every variant is indexed, but the Chinese characters of the display name are not
+        assertTrue(checkContains(trie, wangle, "926453"));
+        assertTrue(checkContains(trie, wangle, "9264983"));
+        assertTrue(checkContains(trie, wangle, "95"));
+        assertTrue(checkContains(trie, wangle, "99"));
+        assertFalse(checkContains(trie, wangle, "5"));
+        assertEquals(1, trie.size());
+    }
+
+    public void testPutAll() {
+        final ContactNumber[] contacts = new ContactNumber[] {
+                new ContactNumber(0, "Jason", "510-527-2357", "0", 1),
+                new ContactNumber(1, "Jasmine", "510-527-2358", "1", 2),
+                new ContactNumber(2, "Jane", "650-555-0000", "2", 3),
+                new ContactNumber(3, "Mary Jane", "+1-415-555-0000", "3", 4)};
+        final SmartDialTrie expected = new SmartDialTrie(true /* formatNanp */);
+        final SmartDialTrie first = new SmartDialTrie(true /* formatNanp */);
+        final SmartDialTrie second = new SmartDialTrie(true /* formatNanp */);
+        for (int i = 0; i < contacts.length; i++) {
+            expected.put(contacts[i]);
+            (i < 2 ? first : second).put(contacts[i]);
+        }
+
+        first.putAll(second);
+        assertEquals(expected.size(), first.size());
+        assertEquals(expected.numEntries(), first.numEntries());
+        // Same contents in the same order for shared and for moved nodes
+        for (String prefix : new String[] {"5", "527", "5105", "526", "6", "4155550000"}) {
+            final ArrayList<ContactNumber> expectedContacts = expected.getAllWithPrefix(prefix);
+            final ArrayList<ContactNumber> actualContacts = first.getAllWithPrefix(prefix);
+            assertEquals(expectedContacts.size(), actualContacts.size());
+            for (int i = 0; i < expectedContacts.size(); i++) {
+                assertSame(expectedContacts.get(i), actualContacts.get(i));
+            }
+        }
+    }
+
     public void testNodeConstructor() {
         final Node n = new Node();
         // Node member variables should not be initialized by default at construction to reduce
@@ -0,0 +1,166 @@
+/*
+ * Copyright (C) 2013 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.dialer.dialpad;
+
+import com.android.dialer.dialpad.SmartDialCache.ContactNumber;
+
+import java.util.Random;
+
+/**
+ * Generates reproducible address books and dialpad queries for the smart dial performance tests.
+ * The same seed always produces the same contacts.
+ */
+public class SyntheticContacts {
+    public enum NameStyle {
+        /** Common English names. */
+        LATIN,
+        /** European names, most of them with accented characters. */
+        ACCENTED,
+        /** Chinese names, some of them with polyphonic characters. */
+        CJK,
+        /** An even mix of the other styles. */
+        MIXED
+    }
+
+    public enum NumberStyle {
+        /** Numbers formatted the way North American users store them, some with a +1 prefix. */
+        NANP,
+        /** Numbers with the + prefix and the country code of several countries. */
+        INTERNATIONAL
+    }
+
+    private static final String[] LATIN_FIRST_NAMES = new String[] {"James", "Mary", "John",
+            "Patricia", "Robert", "Jennifer", "Michael", "Linda", "William", "Elizabeth", "David",
+            "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah", "Charles",
+            "Karen"};
+    private static final String[] LATIN_LAST_NAMES = new String[] {"Smith", "Johnson",
+            "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez", "Martinez",
+            "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Taylor", "Moore", "Jackson",
+            "Martin", "O'Brien"};
+
+    private static final String[] ACCENTED_FIRST_NAMES = new String[] {"Zoë", "Renée", "Björn",
+            "Søren", "José", "François", "Jürgen", "Ångström", "Élodie", "Ñuño", "Łukasz",
+            "Dóra"};
+    private static final String[] ACCENTED_LAST_NAMES = new String[] {"Müller", "Núñez",
+            "Gómez", "Château", "Dvořák", "Åberg", "Öztürk", "Lefèvre", "Żak", "Kovács"};
+
+    /** Common Chinese family names, some of them polyphonic. */
+    private static final String[] CJK_LAST_NAMES = new String[] {"\u738b", "\u674e", "\u5f20",
+            "\u5218", "\u9648", "\u6768", "\u9ec4", "\u8d75", "\u66fe", "\u5355", "\u89e3",
+            "\u6b27\u9633"};
+    /** Characters used in given names, some of them polyphonic. */
+    private static final String[] CJK_GIVEN_NAME_CHARACTERS = new String[] {"\u660e", "\u534e",
+            "\u4f1f", "\u82b3", "\u4e3d", "\u5f3a", "\u957f", "\u4e50", "\u884c", "\u91cd",
+            "\u654f", "\u9759"};
+
+    /** Country codes and national number lengths of INTERNATIONAL numbers. */
+    private static final String[] COUNTRY_CODES = new String[] {"44", "49", "33", "86", "852",
+            "81", "91", "61", "7", "1"};
+    private static final int[] NATIONAL_NUMBER_LENGTHS = new int[] {10, 11, 9, 11, 8, 10, 10, 9,
+            10, 10};
+
+    private SyntheticContacts() {
+    }
+
+    /**
+     * Generates an address book. Contacts are ranked in the order they are returned in, so the
+     * affinity of each contact is its index.
+     */
+    public static ContactNumber[] generate(int count, NameStyle nameStyle,
+            NumberStyle numberStyle, long seed) {
+        final Random random = new Random(seed);
+        final ContactNumber[] result = new ContactNumber[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = new ContactNumber(i, generateName(random, nameStyle),
+                    generateNumber(random, numberStyle), String.valueOf(i), i);
+        }
+        return result;
+    }
+
+    /**
+     * Generates dialpad queries for an address book: mostly short prefixes of numbers and of the
+     * digits of names, since those match the most contacts and are the most expensive.
+     */
+    public static String[] generateQueries(ContactNumber[] contacts, int count, long seed) {
+        final Random random = new Random(seed);
+        final String[] result = new String[count];
+        for (int i = 0; i < count; i++) {
+            final ContactNumber contact = contacts[random.nextInt(contacts.length)];
+            final String digits = random.nextBoolean()
+                    ? SmartDialNameMatcher.normalizeNumber(contact.phoneNumber)
+                    : nameToDigits(contact.displayName);
+            if (digits.isEmpty()) {
+                result[i] = String.valueOf(random.nextInt(10));
+            } else {
+                result[i] = digits.substring(0, Math.min(digits.length(),
+                        1 + random.nextInt(5)));
+            }
+        }
+        return result;
+    }
+
+    private static String generateName(Random random, NameStyle style) {
+        switch (style) {
+            case LATIN:
+                return pick(random, LATIN_FIRST_NAMES) + " " + pick(random, LATIN_LAST_NAMES);
+            case ACCENTED:
+                return pick(random, ACCENTED_FIRST_NAMES) + " "
+                        + pick(random, ACCENTED_LAST_NAMES);
+            case CJK:
+                final StringBuilder builder = new StringBuilder(pick(random, CJK_LAST_NAMES));
+                final int givenNameLength = 1 + random.nextInt(2);
+                for (int i = 0; i < givenNameLength; i++) {
+                    builder.append(pick(random, CJK_GIVEN_NAME_CHARACTERS));
+                }
+                return builder.toString();
+            case MIXED:
+            default:
+                return generateName(random, NameStyle.values()[random.nextInt(3)]);
+        }
+    }
+
+    private static String generateNumber(Random random, NumberStyle style) {
+        if (style == NumberStyle.NANP) {
+            final String format = (random.nextInt(4) == 0) ? "+1 %03d-%03d-%04d"
+                    : "(%03d) %03d-%04d";
+            return String.format(format, 200 + random.nextInt(800), random.nextInt(1000),
+                    random.nextInt(10000));
+        }
+        final int country = random.nextInt(COUNTRY_CODES.length);
+        final StringBuilder builder = new StringBuilder("+").append(COUNTRY_CODES[country])
+                .append(' ').append(1 + random.nextInt(9));
+        for (int i = 1; i < NATIONAL_NUMBER_LENGTHS[country]; i++) {
+            builder.append(random.nextInt(10));
+        }
+        return builder.toString();
+    }
+
+    private static String nameToDigits(String name) {
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < name.length(); i++) {
+            final byte digit = SmartDialCharMap.LATIN.getDigit(name.charAt(i));
+            if (digit != SmartDialCharMap.SEPARATOR) {
+                builder.append(digit);
+            }
+        }
+        return builder.toString();
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2013 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.dialer.util;
+
+import android.content.res.Resources;
+import android.test.InstrumentationTestCase;
+import android.test.suitebuilder.annotation.LargeTest;
+import android.util.Log;
+
+import com.android.dialer.R;
+
+/**
+ * Compares the initialization time and the retained heap of the memory mapped pinyin table with
+ * those of the same table decoded into a short[][], which is how {@link HanziToPinyin} used to
+ * hold it, and measures the lookup throughput of {@link HanziToPinyin#getPinyinArray(String)}.
+ * Results are written to the log under the {@link #TAG} tag.
+ *
+ * To run this test, use the command:
+ * adb shell am instrument -w -e class com.android.dialer.util.HanziToPinyinPerformanceTest /
+ * com.android.dialer.tests/android.test.InstrumentationTestRunner
+ */
+@LargeTest
+public class HanziToPinyinPerformanceTest extends InstrumentationTestCase {
+    private static final String TAG = "HanziToPinyinPerf";
+
+    private static final char FIRST = '\u4e00';
+    private static final char LAST = '\u9fa5';
+
+    private static final int LOOKUP_ROUNDS = 5;
+
+    public void testInitialization() throws Exception {
+        final Resources resources = getInstrumentation().getTargetContext().getResources();
+
+        final long beforeMapped = usedMemory();
+        long start = System.nanoTime();
+        final PinyinTable table = PinyinTable.open(resources, R.raw.pinyin_table);
+        final long mappedNanos = System.nanoTime() - start;
+        final long mappedBytes = usedMemory() - beforeMapped;
+
+        final long beforeDecoded = usedMemory();
+        start = System.nanoTime();
+        final short[][] decoded = decode(table);
+        final long decodedNanos = System.nanoTime() - start;
+        final long decodedBytes = usedMemory() - beforeDecoded;
+        assertEquals(LAST - FIRST + 1, decoded.length);
+
+        Log.i(TAG, "mapped table: " + mappedNanos / 1000 + " us, " + mappedBytes / 1024
+                + " KB; decoded table: " + decodedNanos / 1000 + " us, " + decodedBytes / 1024
+                + " KB");
+    }
+
+    public void testLookups() throws Exception {
+        final PinyinTable table = PinyinTable.open(
+                getInstrumentation().getTargetContext().getResources(), R.raw.pinyin_table);
+        final HanziToPinyin hanziToPinyin = new HanziToPinyin(true, table);
+        final StringBuilder builder = new StringBuilder();
+        for (char c = FIRST; c <= LAST; c++) {
+            builder.append(c);
+        }
+        final String all = builder.toString();
+
+        // Warm up before measuring
+        hanziToPinyin.getPinyinArray(all);
+        final long start = System.nanoTime();
+        int readings = 0;
+        for (int i = 0; i < LOOKUP_ROUNDS; i++) {
+            for (String[] characterReadings : hanziToPinyin.getPinyinArray(all)) {
+                readings += characterReadings.length;
+            }
+        }
+        final long nanos = System.nanoTime() - start;
+        assertTrue(readings > 0);
+
+        Log.i(TAG, "lookups: " + nanos / (LOOKUP_ROUNDS * all.length()) + " ns/character");
+    }
+
+    private static short[][] decode(PinyinTable table) {
+        final short[][] result = new short[LAST - FIRST + 1][];
+        for (char c = FIRST; c <= LAST; c++) {
+            final short[] readings = new short[table.getReadingCount(c)];
+            for (int i = 0; i < readings.length; i++) {
+                readings[i] = (short) table.getReading(c, i);
+            }
+            result[c - FIRST] = readings;
+        }
+        return result;
+    }
+
+    private static long usedMemory() {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            System.runFinalization();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (C) 2013 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.dialer.util;
+
+import android.test.InstrumentationTestCase;
+import android.test.suitebuilder.annotation.SmallTest;
+
+import com.android.dialer.R;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Unit tests for the pinyin variants produced by {@link HanziToPinyin}.
+ */
+@SmallTest
+public class HanziToPinyinTest extends InstrumentationTestCase {
+    /** 行中, where 行 has the readings xing, hang and heng. */
+    private static final String XING_ZHONG = "\u884c\u4e2d";
+    /** 伽, with the readings jia, ga, qie and qia. */
+    private static final String JIA = "\u4f3d";
+    /** 亀单厂, each of them with three readings. */
+    private static final String GUI_DAN_CHANG = "\u4e80\u5355\u5382";
+
+    private HanziToPinyin mHanziToPinyin;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        mHanziToPinyin = new HanziToPinyin(true, PinyinTable.open(
+                getInstrumentation().getTargetContext().getResources(), R.raw.pinyin_table));
+    }
+
+    public void testLatinName() {
+        assertVariants(mHanziToPinyin.getAllFullWordsString("John Smith"), "John Smith");
+        assertVariants(mHanziToPinyin.getAllFirstPinyin("John Smith"), "John Smith");
+    }
+
+    public void testPolyphonicName() {
+        assertVariants(mHanziToPinyin.getAllFullWordsString(XING_ZHONG),
+                "xingzhong", "hangzhong", "hengzhong");
+        assertVariants(mHanziToPinyin.getAllFirstPinyin(XING_ZHONG), "xz", "hz");
+    }
+
+    public void testMixedName() {
+        assertVariants(mHanziToPinyin.getAllFullWordsString("A" + XING_ZHONG),
+                "Axingzhong", "Ahangzhong", "Ahengzhong");
+    }
+
+    public void testFirstLettersDeduplicated() {
+        assertVariants(mHanziToPinyin.getAllFirstPinyin(JIA), "j", "g", "q");
+    }
+
+    public void testMaxVariants() {
+        final String[] all = mHanziToPinyin.getAllFullWordsString(GUI_DAN_CHANG);
+        assertEquals(27, all.length);
+
+        final ArrayList<String> variants = new ArrayList<String>();
+        final HanziToPinyin.VariantListener listener = new HanziToPinyin.VariantListener() {
+            @Override
+            public void onVariant(String variant) {
+                variants.add(variant);
+            }
+        };
+        assertEquals(5, mHanziToPinyin.expandAllFullWords(GUI_DAN_CHANG, 5, listener));
+        // The first combinations are produced, in the same order
+        assertEquals(Arrays.asList(all).subList(0, 5), variants);
+
+        variants.clear();
+        assertEquals(0, mHanziToPinyin.expandAllFirstPinyin(GUI_DAN_CHANG, 0, listener));
+        assertTrue(variants.isEmpty());
+    }
+
+    public void testDisabled() {
+        final HanziToPinyin disabled = new HanziToPinyin(false, null);
+        assertVariants(disabled.getAllFullWordsString(XING_ZHONG), XING_ZHONG);
+        assertVariants(disabled.getAllFirstPinyin("John Smith"), "J");
+    }
+
+    public void testReusedBuffer() {
+        final HanziToPinyin.ConversionBuffer buffer = new HanziToPinyin.ConversionBuffer();
+        // Longer strings than the buffer was sized for, then shorter ones again
+        final String[] names = {XING_ZHONG, GUI_DAN_CHANG + GUI_DAN_CHANG + GUI_DAN_CHANG
+                + GUI_DAN_CHANG, JIA, "John Smith", ""};
+        for (String name : names) {
+            assertVariants(expand(name, false, buffer), mHanziToPinyin.getAllFullWordsString(name));
+            assertVariants(expand(name, true, buffer), mHanziToPinyin.getAllFirstPinyin(name));
+        }
+    }
+
+    public void testConcurrentConversions() throws Exception {
+        final String[] names = {XING_ZHONG, JIA, GUI_DAN_CHANG, "A" + XING_ZHONG, "John Smith"};
+        final ArrayList<String> expected = new ArrayList<String>();
+        for (String name : names) {
+            expected.addAll(Arrays.asList(mHanziToPinyin.getAllFullWordsString(name)));
+            expected.addAll(Arrays.asList(mHanziToPinyin.getAllFirstPinyin(name)));
+        }
+
+        final int threadCount = 4;
+        final Thread[] threads = new Thread[threadCount];
+        final Throwable[] failures = new Throwable[threadCount];
+        for (int i = 0; i < threadCount; i++) {
+            final int index = i;
+            threads[i] = new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        // Every thread shares the converter, but owns its buffer
+                        final HanziToPinyin.ConversionBuffer buffer =
+                                new HanziToPinyin.ConversionBuffer();
+                        for (int round = 0; round < 200; round++) {
+                            final ArrayList<String> actual = new ArrayList<String>();
+                            for (String name : names) {
+                                actual.addAll(Arrays.asList(expand(name, false, buffer)));
+                                actual.addAll(Arrays.asList(expand(name, true, buffer)));
+                            }
+                            assertEquals(expected, actual);
+                        }
+                    } catch (Throwable t) {
+                        failures[index] = t;
+                    }
+                }
+            };
+            threads[i].start();
+        }
+        for (int i = 0; i < threadCount; i++) {
+            threads[i].join();
+            if (failures[i] != null) {
+                throw new AssertionError(failures[i]);
+            }
+        }
+    }
+
+    private String[] expand(String name, boolean firstLetters,
+            HanziToPinyin.ConversionBuffer buffer) {
+        final ArrayList<String> variants = new ArrayList<String>();
+        final HanziToPinyin.VariantListener listener = new HanziToPinyin.VariantListener() {
+            @Override
+            public void onVariant(String variant) {
+                variants.add(variant);
+            }
+        };
+        if (firstLetters) {
+            mHanziToPinyin.expandAllFirstPinyin(name, Integer.MAX_VALUE, listener, buffer);
+        } else {
+            mHanziToPinyin.expandAllFullWords(name, Integer.MAX_VALUE, listener, buffer);
+        }
+        return variants.toArray(new String[variants.size()]);
+    }
+
+    private void assertVariants(String[] actual, String... expected) {
+        assertEquals(Arrays.asList(expected), Arrays.asList(actual));
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2013 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.dialer.util;
+
+import android.test.InstrumentationTestCase;
+import android.test.suitebuilder.annotation.SmallTest;
+
+import com.android.dialer.R;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Unit tests for {@link PinyinTable}.
+ */
+@SmallTest
+public class PinyinTableTest extends InstrumentationTestCase {
+    private PinyinTable mTable;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        mTable = PinyinTable.open(getInstrumentation().getTargetContext().getResources(),
+                R.raw.pinyin_table);
+    }
+
+    public void testRange() {
+        assertTrue(mTable.contains('\u4e00'));
+        assertTrue(mTable.contains('\u9fa5'));
+        assertFalse(mTable.contains('\u4dff'));
+        assertFalse(mTable.contains('\u9fa6'));
+        assertFalse(mTable.contains('a'));
+    }
+
+    public void testSingleReading() {
+        assertReadings('\u4e00', "yi"); // 一
+        assertReadings('\u4e2d', "zhong"); // 中
+        assertReadings('\u738b', "wang"); // 王
+    }
+
+    public void testMultipleReadings() {
+        final List<String> readings = getReadings('\u884c'); // 行
+        assertTrue(readings.contains("xing"));
+        assertTrue(readings.contains("hang"));
+    }
+
+    public void testEveryCharacterHasReadings() {
+        for (char c = '\u4e00'; c <= '\u9fa5'; c++) {
+            final int count = mTable.getReadingCount(c);
+            assertTrue(count > 0);
+            for (int i = 0; i < count; i++) {
+                final int reading = mTable.getReading(c, i);
+                assertTrue(reading >= 0 && reading < HanziToPinyin.pinyin.length);
+            }
+        }
+    }
+
+    public void testInvalidTable() {
+        try {
+            PinyinTable.wrap(ByteBuffer.wrap(new byte[] {1, 2, 3}));
+            fail();
+        } catch (IOException e) {
+            // Expected
+        }
+    }
+
+    private void assertReadings(char c, String... expected) {
+        assertEquals(Arrays.asList(expected), getReadings(c));
+    }
+
+    private List<String> getReadings(char c) {
+        final String[] result = new String[mTable.getReadingCount(c)];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = HanziToPinyin.pinyin[mTable.getReading(c, i)];
+        }
+        return Arrays.asList(result);
+    }
+}